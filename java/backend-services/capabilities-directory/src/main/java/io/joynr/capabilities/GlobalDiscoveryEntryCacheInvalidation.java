@@ -0,0 +1,136 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import java.util.Objects;
+
+/**
+ * Describes which part of a GCD lookup cache has become invalid after a modification of the
+ * underlying {@link GlobalDiscoveryEntryStore}. Invalidations are exchanged between GCD instances
+ * sharing the same database via a {@link GlobalDiscoveryEntryCacheInvalidationChannel}.
+ */
+public class GlobalDiscoveryEntryCacheInvalidation {
+
+    public enum Type {
+        /** all cached entries of a participantId (e.g. after add or remove) */
+        PARTICIPANT,
+        /** the cached lookup result of a domain and interface (e.g. after add) */
+        DOMAIN_INTERFACE,
+        /** all cached entries registered by a cluster controller (e.g. after touch or removeStale) */
+        CLUSTER_CONTROLLER,
+        /** the complete cache (e.g. after invalidations might have been missed) */
+        ALL
+    }
+
+    private static final char SEPARATOR = '\u001f';
+
+    private final Type type;
+    private final String first;
+    private final String second;
+
+    private GlobalDiscoveryEntryCacheInvalidation(Type type, String first, String second) {
+        this.type = type;
+        this.first = first;
+        this.second = second;
+    }
+
+    public static GlobalDiscoveryEntryCacheInvalidation forParticipant(String participantId) {
+        return new GlobalDiscoveryEntryCacheInvalidation(Type.PARTICIPANT, participantId, "");
+    }
+
+    public static GlobalDiscoveryEntryCacheInvalidation forDomainInterface(String domain, String interfaceName) {
+        return new GlobalDiscoveryEntryCacheInvalidation(Type.DOMAIN_INTERFACE, domain, interfaceName);
+    }
+
+    public static GlobalDiscoveryEntryCacheInvalidation forClusterController(String clusterControllerId) {
+        return new GlobalDiscoveryEntryCacheInvalidation(Type.CLUSTER_CONTROLLER, clusterControllerId, "");
+    }
+
+    public static GlobalDiscoveryEntryCacheInvalidation forAll() {
+        return new GlobalDiscoveryEntryCacheInvalidation(Type.ALL, "", "");
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getParticipantId() {
+        return first;
+    }
+
+    public String getDomain() {
+        return first;
+    }
+
+    public String getInterfaceName() {
+        return second;
+    }
+
+    public String getClusterControllerId() {
+        return first;
+    }
+
+    /**
+     * @return compact textual representation suitable as notification payload
+     */
+    public String serialize() {
+        return type.name() + SEPARATOR + first + SEPARATOR + second;
+    }
+
+    /**
+     * @param payload textual representation created by {@link #serialize()}
+     * @return the parsed invalidation or null if the payload is malformed
+     */
+    public static GlobalDiscoveryEntryCacheInvalidation deserialize(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        String[] parts = payload.split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new GlobalDiscoveryEntryCacheInvalidation(Type.valueOf(parts[0]), parts[1], parts[2]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, first, second);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        GlobalDiscoveryEntryCacheInvalidation other = (GlobalDiscoveryEntryCacheInvalidation) obj;
+        return type == other.type && Objects.equals(first, other.first) && Objects.equals(second, other.second);
+    }
+
+    @Override
+    public String toString() {
+        return "GlobalDiscoveryEntryCacheInvalidation [type=" + type + ", first=" + first + ", second=" + second + "]";
+    }
+}
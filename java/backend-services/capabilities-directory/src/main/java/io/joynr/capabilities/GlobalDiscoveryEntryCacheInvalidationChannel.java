@@ -0,0 +1,42 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+/**
+ * Distributes cache invalidations between GCD instances which share the same database.
+ */
+public interface GlobalDiscoveryEntryCacheInvalidationChannel {
+
+    public interface Listener {
+        void onInvalidation(GlobalDiscoveryEntryCacheInvalidation invalidation);
+    }
+
+    /**
+     * Forward an invalidation caused by a local modification to all other GCD instances.
+     */
+    public abstract void publish(GlobalDiscoveryEntryCacheInvalidation invalidation);
+
+    /**
+     * Register the listener which is informed about invalidations published by other GCD instances.
+     */
+    public abstract void setListener(Listener listener);
+
+    public abstract void shutdown();
+
+}
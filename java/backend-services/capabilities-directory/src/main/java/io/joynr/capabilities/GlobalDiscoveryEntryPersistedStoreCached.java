@@ -0,0 +1,365 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+/**
+ * Read-through cache in front of {@link GlobalDiscoveryEntryPersistedStorePersisted}.
+ * <p>
+ * Lookup results are cached per domain and interface and per participantId. A cached result is
+ * valid for at most {@link #PROPERTY_CACHE_MAX_AGE_MS} and never longer than the earliest
+ * (future) expiryDateMs of the contained entries. The cache is bounded to
+ * {@link #PROPERTY_CACHE_MAX_ENTRIES} results per key type (least recently used results are
+ * evicted first); a value &lt;= 0 disables caching.
+ * <p>
+ * Every modification (add, remove, touch, removeStale) invalidates the affected results locally
+ * and is published via the {@link GlobalDiscoveryEntryCacheInvalidationChannel} so that other
+ * GCD instances working on the same database drop their copies as well.
+ * <p>
+ * The cache keeps its own copies of the loaded entries and returns new copies on every cache hit,
+ * so callers may modify the returned entries like the ones returned by the persisted store.
+ */
+@Singleton
+public class GlobalDiscoveryEntryPersistedStoreCached
+        implements GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalDiscoveryEntryPersistedStoreCached.class);
+
+    public static final String PROPERTY_CACHE_MAX_ENTRIES = "joynr.gcd.cache.maxentries";
+    public static final String PROPERTY_CACHE_MAX_AGE_MS = "joynr.gcd.cache.maxagems";
+
+    private static final Comparator<GlobalDiscoveryEntryPersisted> PARTICIPANT_ID_ORDER = Comparator.comparing(GlobalDiscoveryEntryPersisted::getParticipantId);
+
+    private static class DomainInterfaceKey {
+        private final String domain;
+        private final String interfaceName;
+
+        DomainInterfaceKey(String domain, String interfaceName) {
+            this.domain = domain;
+            this.interfaceName = interfaceName;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(domain) + Objects.hashCode(interfaceName);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DomainInterfaceKey)) {
+                return false;
+            }
+            DomainInterfaceKey other = (DomainInterfaceKey) obj;
+            return Objects.equals(domain, other.domain) && Objects.equals(interfaceName, other.interfaceName);
+        }
+    }
+
+    private static class CachedResult {
+        private final List<GlobalDiscoveryEntryPersisted> entries;
+        private final long validUntilMs;
+
+        CachedResult(List<GlobalDiscoveryEntryPersisted> entries, long validUntilMs) {
+            this.entries = entries;
+            this.validUntilMs = validUntilMs;
+        }
+
+        boolean contains(Predicate<GlobalDiscoveryEntryPersisted> predicate) {
+            return entries.stream().anyMatch(predicate);
+        }
+    }
+
+    private static <K> Map<K, CachedResult> createLruMap(final int maxEntries) {
+        return new LinkedHashMap<K, CachedResult>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedResult> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private final GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> persistedStore;
+    private final GlobalDiscoveryEntryCacheInvalidationChannel invalidationChannel;
+    private final boolean cacheEnabled;
+    private final long maxAgeMs;
+    private final Map<DomainInterfaceKey, CachedResult> domainInterfaceCache;
+    private final Map<String, CachedResult> participantIdCache;
+    // incremented on every invalidation; results loaded concurrently to an invalidation are not cached
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    @Inject
+    public GlobalDiscoveryEntryPersistedStoreCached(GlobalDiscoveryEntryPersistedStorePersisted persistedStore,
+                                                    GlobalDiscoveryEntryCacheInvalidationChannel invalidationChannel,
+                                                    @Named(PROPERTY_CACHE_MAX_ENTRIES) int maxEntries,
+                                                    @Named(PROPERTY_CACHE_MAX_AGE_MS) long maxAgeMs) {
+        this((GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted>) persistedStore,
+             invalidationChannel,
+             maxEntries,
+             maxAgeMs);
+    }
+
+    GlobalDiscoveryEntryPersistedStoreCached(GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> persistedStore,
+                                             GlobalDiscoveryEntryCacheInvalidationChannel invalidationChannel,
+                                             int maxEntries,
+                                             long maxAgeMs) {
+        this.persistedStore = persistedStore;
+        this.invalidationChannel = invalidationChannel;
+        this.cacheEnabled = maxEntries > 0 && maxAgeMs > 0;
+        this.maxAgeMs = maxAgeMs;
+        this.domainInterfaceCache = createLruMap(maxEntries);
+        this.participantIdCache = createLruMap(maxEntries);
+        if (cacheEnabled) {
+            logger.info("GCD lookup cache enabled: maxEntries={}, maxAgeMs={}", maxEntries, maxAgeMs);
+            invalidationChannel.setListener(this::invalidate);
+        } else {
+            logger.info("GCD lookup cache disabled.");
+        }
+    }
+
+    @Override
+    public void add(GlobalDiscoveryEntryPersisted discoveryEntry, String[] gbids) {
+        try {
+            persistedStore.add(discoveryEntry, gbids);
+        } finally {
+            invalidateAndPublish(GlobalDiscoveryEntryCacheInvalidation.forParticipant(discoveryEntry.getParticipantId()));
+            invalidateAndPublish(GlobalDiscoveryEntryCacheInvalidation.forDomainInterface(discoveryEntry.getDomain(),
+                                                                                          discoveryEntry.getInterfaceName()));
+        }
+    }
+
+    @Override
+    public int remove(String participantId, String[] gbids) {
+        try {
+            return persistedStore.remove(participantId, gbids);
+        } finally {
+            invalidateAndPublish(GlobalDiscoveryEntryCacheInvalidation.forParticipant(participantId));
+        }
+    }
+
+    @Override
+    public Collection<GlobalDiscoveryEntryPersisted> lookup(String[] domains, String interfaceName) {
+        if (!cacheEnabled) {
+            return persistedStore.lookup(domains, interfaceName);
+        }
+        long now = System.currentTimeMillis();
+        long invalidationCountBeforeLoad = invalidationCount.get();
+        List<GlobalDiscoveryEntryPersisted> result = new ArrayList<>();
+        Set<String> missingDomains = new LinkedHashSet<>();
+        synchronized (domainInterfaceCache) {
+            for (String domain : domains) {
+                CachedResult cachedResult = domainInterfaceCache.get(new DomainInterfaceKey(domain, interfaceName));
+                if (cachedResult != null && cachedResult.validUntilMs > now) {
+                    result.addAll(copyOf(cachedResult.entries));
+                } else {
+                    missingDomains.add(domain);
+                }
+            }
+        }
+        if (missingDomains.isEmpty()) {
+            logger.trace("Lookup({}, {}) served from cache", Arrays.toString(domains), interfaceName);
+            result.sort(PARTICIPANT_ID_ORDER);
+            return result;
+        }
+
+        Collection<GlobalDiscoveryEntryPersisted> loaded = persistedStore.lookup(missingDomains.toArray(new String[missingDomains.size()]),
+                                                                                 interfaceName);
+        if (loaded == null) {
+            return null;
+        }
+        result.addAll(loaded);
+        result.sort(PARTICIPANT_ID_ORDER);
+
+        Map<String, List<GlobalDiscoveryEntryPersisted>> loadedByDomain = new HashMap<>();
+        for (String domain : missingDomains) {
+            loadedByDomain.put(domain, new ArrayList<>());
+        }
+        for (GlobalDiscoveryEntryPersisted entry : loaded) {
+            List<GlobalDiscoveryEntryPersisted> entriesOfDomain = loadedByDomain.get(entry.getDomain());
+            if (entriesOfDomain != null) {
+                entriesOfDomain.add(entry);
+            }
+        }
+        synchronized (domainInterfaceCache) {
+            if (invalidationCount.get() == invalidationCountBeforeLoad) {
+                for (Map.Entry<String, List<GlobalDiscoveryEntryPersisted>> entry : loadedByDomain.entrySet()) {
+                    domainInterfaceCache.put(new DomainInterfaceKey(entry.getKey(), interfaceName),
+                                             createCachedResult(entry.getValue(), now));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Collection<GlobalDiscoveryEntryPersisted>> lookup(String participantId) {
+        if (!cacheEnabled) {
+            return persistedStore.lookup(participantId);
+        }
+        long now = System.currentTimeMillis();
+        long invalidationCountBeforeLoad = invalidationCount.get();
+        synchronized (participantIdCache) {
+            CachedResult cachedResult = participantIdCache.get(participantId);
+            if (cachedResult != null && cachedResult.validUntilMs > now) {
+                logger.trace("Lookup({}) served from cache", participantId);
+                return Optional.of(copyOf(cachedResult.entries));
+            }
+        }
+
+        Optional<Collection<GlobalDiscoveryEntryPersisted>> loaded = persistedStore.lookup(participantId);
+        if (loaded.isPresent()) {
+            List<GlobalDiscoveryEntryPersisted> entries = new ArrayList<>(loaded.get());
+            synchronized (participantIdCache) {
+                if (invalidationCount.get() == invalidationCountBeforeLoad) {
+                    participantIdCache.put(participantId, createCachedResult(entries, now));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public void touch(String clusterControllerId) {
+        try {
+            persistedStore.touch(clusterControllerId);
+        } finally {
+            invalidateAndPublish(GlobalDiscoveryEntryCacheInvalidation.forClusterController(clusterControllerId));
+        }
+    }
+
+    @Override
+    public void touch(String clusterControllerId, String[] participantIds) {
+        try {
+            persistedStore.touch(clusterControllerId, participantIds);
+        } finally {
+            invalidateAndPublish(GlobalDiscoveryEntryCacheInvalidation.forClusterController(clusterControllerId));
+        }
+    }
+
+    @Override
+    public int removeStale(String clusterControllerId, Long maxLastSeenDateMs) {
+        try {
+            return persistedStore.removeStale(clusterControllerId, maxLastSeenDateMs);
+        } finally {
+            invalidateAndPublish(GlobalDiscoveryEntryCacheInvalidation.forClusterController(clusterControllerId));
+        }
+    }
+
+    private CachedResult createCachedResult(List<GlobalDiscoveryEntryPersisted> entries, long now) {
+        long validUntilMs = now + maxAgeMs;
+        for (GlobalDiscoveryEntryPersisted entry : entries) {
+            Long expiryDateMs = entry.getExpiryDateMs();
+            // already expired entries only change via add or touch, which invalidate the cache anyway
+            if (expiryDateMs != null && expiryDateMs > now && expiryDateMs < validUntilMs) {
+                validUntilMs = expiryDateMs;
+            }
+        }
+        return new CachedResult(Collections.unmodifiableList(copyOf(entries)), validUntilMs);
+    }
+
+    private static List<GlobalDiscoveryEntryPersisted> copyOf(List<GlobalDiscoveryEntryPersisted> entries) {
+        List<GlobalDiscoveryEntryPersisted> copies = new ArrayList<>(entries.size());
+        for (GlobalDiscoveryEntryPersisted entry : entries) {
+            copies.add(new GlobalDiscoveryEntryPersisted(entry, entry.getClusterControllerId(), entry.getGbid()));
+        }
+        return copies;
+    }
+
+    private void invalidateAndPublish(GlobalDiscoveryEntryCacheInvalidation invalidation) {
+        if (!cacheEnabled) {
+            return;
+        }
+        invalidate(invalidation);
+        invalidationChannel.publish(invalidation);
+    }
+
+    void invalidate(GlobalDiscoveryEntryCacheInvalidation invalidation) {
+        invalidationCount.incrementAndGet();
+        logger.trace("Invalidating {}", invalidation);
+        switch (invalidation.getType()) {
+        case PARTICIPANT:
+            String participantId = invalidation.getParticipantId();
+            synchronized (participantIdCache) {
+                participantIdCache.remove(participantId);
+            }
+            // the participant may have been registered for a different domain or interface before
+            removeMatching(domainInterfaceCache, entry -> participantId.equals(entry.getParticipantId()));
+            break;
+        case DOMAIN_INTERFACE:
+            synchronized (domainInterfaceCache) {
+                domainInterfaceCache.remove(new DomainInterfaceKey(invalidation.getDomain(),
+                                                                   invalidation.getInterfaceName()));
+            }
+            break;
+        case CLUSTER_CONTROLLER:
+            String clusterControllerId = invalidation.getClusterControllerId();
+            Predicate<GlobalDiscoveryEntryPersisted> registeredByClusterController = entry -> clusterControllerId.equals(entry.getClusterControllerId());
+            removeMatching(participantIdCache, registeredByClusterController);
+            removeMatching(domainInterfaceCache, registeredByClusterController);
+            break;
+        case ALL:
+        default:
+            synchronized (participantIdCache) {
+                participantIdCache.clear();
+            }
+            synchronized (domainInterfaceCache) {
+                domainInterfaceCache.clear();
+            }
+            break;
+        }
+    }
+
+    private static <K> void removeMatching(Map<K, CachedResult> cache,
+                                           Predicate<GlobalDiscoveryEntryPersisted> predicate) {
+        synchronized (cache) {
+            Iterator<CachedResult> iterator = cache.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().contains(predicate)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import com.google.inject.Singleton;
+
+/**
+ * Invalidation channel for a single GCD instance: there are no other instances to inform.
+ */
+@Singleton
+public class LocalGlobalDiscoveryEntryCacheInvalidationChannel implements GlobalDiscoveryEntryCacheInvalidationChannel {
+
+    @Override
+    public void publish(GlobalDiscoveryEntryCacheInvalidation invalidation) {
+        // nothing to do
+    }
+
+    @Override
+    public void setListener(Listener listener) {
+        // nothing to do
+    }
+
+    @Override
+    public void shutdown() {
+        // nothing to do
+    }
+
+}
@@ -0,0 +1,260 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+/**
+ * Distributes cache invalidations between GCD instances using PostgreSQL LISTEN/NOTIFY on the
+ * database which is shared by all GCD instances. Dedicated JDBC connections are used for
+ * publishing and listening because notifications are delivered per connection.
+ * <p>
+ * Invalidations are published asynchronously by a dedicated thread. Invalidations published while
+ * the previous batch is still being sent are collected, duplicates are dropped and the whole batch
+ * is sent with a single statement. If too many invalidations are pending, they are replaced by a
+ * single invalidation of the complete cache.
+ */
+@Singleton
+public class PostgresGlobalDiscoveryEntryCacheInvalidationChannel
+        implements GlobalDiscoveryEntryCacheInvalidationChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresGlobalDiscoveryEntryCacheInvalidationChannel.class);
+    static final String NOTIFICATION_CHANNEL = "gcd_cache_invalidation";
+    private static final int POLL_TIMEOUT_MS = 500;
+    static final int MAX_PENDING_INVALIDATIONS = 1000;
+    // sends one notification per payload within a single round trip
+    private static final String PUBLISH_STATEMENT = "SELECT pg_notify(?, payload) FROM unnest(?::text[]) AS payload";
+
+    private final Provider<EntityManager> entityManagerProvider;
+    private Connection publishConnection;
+    private Connection listenConnection;
+    private volatile Listener listener;
+    private volatile boolean shutdown = false;
+    private Thread listenerThread;
+    private final Set<GlobalDiscoveryEntryCacheInvalidation> pendingInvalidations = new LinkedHashSet<>();
+    private Thread publisherThread;
+
+    @Inject
+    public PostgresGlobalDiscoveryEntryCacheInvalidationChannel(Provider<EntityManager> entityManagerProvider) {
+        this.entityManagerProvider = entityManagerProvider;
+    }
+
+    @Override
+    public void publish(GlobalDiscoveryEntryCacheInvalidation invalidation) {
+        synchronized (pendingInvalidations) {
+            if (shutdown) {
+                return;
+            }
+            GlobalDiscoveryEntryCacheInvalidation invalidateAll = GlobalDiscoveryEntryCacheInvalidation.forAll();
+            if (pendingInvalidations.contains(invalidateAll)) {
+                return;
+            }
+            if (pendingInvalidations.size() >= MAX_PENDING_INVALIDATIONS) {
+                logger.debug("{} cache invalidations pending, invalidating the complete cache instead.",
+                             pendingInvalidations.size());
+                pendingInvalidations.clear();
+                pendingInvalidations.add(invalidateAll);
+            } else {
+                pendingInvalidations.add(invalidation);
+            }
+            if (publisherThread == null) {
+                publisherThread = new Thread(this::publishPendingInvalidations,
+                                             "joynr.gcd.cache.invalidation.publisher");
+                publisherThread.setDaemon(true);
+                publisherThread.start();
+            }
+            pendingInvalidations.notifyAll();
+        }
+    }
+
+    @Override
+    public synchronized void setListener(Listener listener) {
+        this.listener = listener;
+        if (listenerThread == null && !shutdown) {
+            listenerThread = new Thread(this::listen, "joynr.gcd.cache.invalidation");
+            listenerThread.setDaemon(true);
+            listenerThread.start();
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        Thread currentPublisherThread;
+        synchronized (pendingInvalidations) {
+            shutdown = true;
+            currentPublisherThread = publisherThread;
+            pendingInvalidations.notifyAll();
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            join(listenerThread);
+            listenerThread = null;
+        }
+        if (currentPublisherThread != null) {
+            // the publisher thread sends the remaining invalidations before it terminates
+            join(currentPublisherThread);
+            currentPublisherThread.interrupt();
+        }
+    }
+
+    private void join(Thread thread) {
+        try {
+            thread.join(POLL_TIMEOUT_MS * 2L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publishPendingInvalidations() {
+        while (true) {
+            List<GlobalDiscoveryEntryCacheInvalidation> invalidations;
+            synchronized (pendingInvalidations) {
+                while (pendingInvalidations.isEmpty() && !shutdown) {
+                    try {
+                        pendingInvalidations.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                if (pendingInvalidations.isEmpty()) {
+                    break;
+                }
+                invalidations = new ArrayList<>(pendingInvalidations);
+                pendingInvalidations.clear();
+            }
+            send(invalidations);
+        }
+        publishConnection = close(publishConnection);
+    }
+
+    private void send(List<GlobalDiscoveryEntryCacheInvalidation> invalidations) {
+        String[] payloads = new String[invalidations.size()];
+        for (int i = 0; i < payloads.length; i++) {
+            payloads[i] = invalidations.get(i).serialize();
+        }
+        try {
+            if (publishConnection == null || publishConnection.isClosed()) {
+                publishConnection = openConnection();
+            }
+            try (PreparedStatement statement = publishConnection.prepareStatement(PUBLISH_STATEMENT)) {
+                statement.setString(1, NOTIFICATION_CHANNEL);
+                statement.setArray(2, publishConnection.createArrayOf("text", payloads));
+                statement.execute();
+            }
+            logger.trace("Published {} cache invalidations.", payloads.length);
+        } catch (SQLException e) {
+            logger.error("Publishing cache invalidations {} failed.", invalidations, e);
+            publishConnection = close(publishConnection);
+        }
+    }
+
+    private void listen() {
+        while (!shutdown) {
+            try {
+                if (listenConnection == null || listenConnection.isClosed()) {
+                    listenConnection = openConnection();
+                    try (Statement statement = listenConnection.createStatement()) {
+                        statement.execute("LISTEN " + NOTIFICATION_CHANNEL);
+                    }
+                    // notifications sent while not listening are lost
+                    notifyListener(GlobalDiscoveryEntryCacheInvalidation.forAll());
+                }
+                PGConnection pgConnection = listenConnection.unwrap(PGConnection.class);
+                PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                if (notifications == null) {
+                    continue;
+                }
+                for (PGNotification notification : notifications) {
+                    handleNotification(notification.getParameter());
+                }
+            } catch (SQLException e) {
+                listenConnection = close(listenConnection);
+                if (shutdown) {
+                    break;
+                }
+                logger.error("Receiving cache invalidations failed, reconnecting.", e);
+                try {
+                    Thread.sleep(POLL_TIMEOUT_MS);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        listenConnection = close(listenConnection);
+    }
+
+    private void handleNotification(String payload) {
+        GlobalDiscoveryEntryCacheInvalidation invalidation = GlobalDiscoveryEntryCacheInvalidation.deserialize(payload);
+        if (invalidation == null) {
+            logger.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        logger.trace("Received cache invalidation {}", invalidation);
+        notifyListener(invalidation);
+    }
+
+    private void notifyListener(GlobalDiscoveryEntryCacheInvalidation invalidation) {
+        Listener currentListener = listener;
+        if (currentListener != null) {
+            currentListener.onInvalidation(invalidation);
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        Map<String, Object> properties = entityManagerProvider.get().getEntityManagerFactory().getProperties();
+        Connection connection = DriverManager.getConnection(String.valueOf(properties.get("javax.persistence.jdbc.url")),
+                                                            String.valueOf(properties.get("javax.persistence.jdbc.user")),
+                                                            String.valueOf(properties.get("javax.persistence.jdbc.password")));
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    private Connection close(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.debug("Closing notification connection failed.", e);
+            }
+        }
+        return null;
+    }
+}
@@ -38,6 +38,7 @@ import io.joynr.capabilities.CapabilityUtils;
 import io.joynr.capabilities.GlobalDiscoveryEntryPersisted;
 import io.joynr.capabilities.GlobalDiscoveryEntryStore;
 import io.joynr.capabilities.directory.util.GcdUtilities;
+import io.joynr.dispatching.subscription.MulticastIdUtil;
 import io.joynr.exceptions.JoynrException;
 import io.joynr.provider.DeferredVoid;
 import io.joynr.provider.Promise;
@@ -47,6 +48,7 @@ import joynr.exceptions.ProviderRuntimeException;
 import joynr.infrastructure.GlobalCapabilitiesDirectoryAbstractProvider;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.MqttAddress;
+import joynr.types.ChangeType;
 import joynr.types.DiscoveryError;
 import joynr.types.GlobalDiscoveryEntry;
 
@@ -59,18 +61,22 @@ public class CapabilitiesDirectoryImpl extends GlobalCapabilitiesDirectoryAbstra
     public static final String PROPERTY_PREFIX = "joynr.gcd.";
     public static final String GCD_GBID = PROPERTY_PREFIX + "gbid";
     public static final String VALID_GBIDS = PROPERTY_PREFIX + "valid.gbids";
+    public static final String PROPERTY_CHANGE_NOTIFICATIONS = PROPERTY_PREFIX + "changenotifications";
 
     private GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> discoveryEntryStore;
     private String gcdGbid;
     private Set<String> validGbids;
+    private boolean changeNotificationsEnabled;
 
     @Inject
     public CapabilitiesDirectoryImpl(GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> discoveryEntryStore,
                                      @Named(GCD_GBID) String gcdGbid,
-                                     @Named(VALID_GBIDS) String validGbidsString) {
+                                     @Named(VALID_GBIDS) String validGbidsString,
+                                     @Named(PROPERTY_CHANGE_NOTIFICATIONS) boolean changeNotificationsEnabled) {
         this.discoveryEntryStore = discoveryEntryStore;
         this.gcdGbid = gcdGbid;
         this.validGbids = GcdUtilities.convertArrayStringToSet(validGbidsString, gcdGbid);
+        this.changeNotificationsEnabled = changeNotificationsEnabled;
     }
 
     @Override
@@ -142,7 +148,11 @@ public class CapabilitiesDirectoryImpl extends GlobalCapabilitiesDirectoryAbstra
                     + globalDiscoveryEntry.getAddress());
         }
 
+        ChangeType typeOfChange = ChangeType.ADD;
         try {
+            if (changeNotificationsEnabled && isRegistered(globalDiscoveryEntry.getParticipantId())) {
+                typeOfChange = ChangeType.UPDATE;
+            }
             // gbid will be set correctly in discoveryEntryStore
             GlobalDiscoveryEntryPersisted gdep = new GlobalDiscoveryEntryPersisted(globalDiscoveryEntry,
                                                                                    clusterControllerId,
@@ -155,6 +165,53 @@ public class CapabilitiesDirectoryImpl extends GlobalCapabilitiesDirectoryAbstra
                          e);
             throw new ApplicationException(DiscoveryError.INTERNAL_ERROR);
         }
+        if (changeNotificationsEnabled) {
+            GlobalDiscoveryEntry changedEntry = new GlobalDiscoveryEntry(globalDiscoveryEntry);
+            if (address instanceof MqttAddress) {
+                ((MqttAddress) address).setBrokerUri(gbids[0]);
+                changedEntry.setAddress(CapabilityUtils.serializeAddress(address));
+            }
+            fireChangeNotification(typeOfChange, changedEntry);
+        }
+    }
+
+    private boolean isRegistered(String participantId) {
+        Optional<Collection<GlobalDiscoveryEntryPersisted>> entries = discoveryEntryStore.lookup(participantId);
+        return entries.isPresent() && !entries.get().isEmpty();
+    }
+
+    private void fireChangeNotification(ChangeType typeOfChange, GlobalDiscoveryEntry globalDiscoveryEntry) {
+        String domainPartition = MulticastIdUtil.sanitizeForPartition(globalDiscoveryEntry.getDomain());
+        String interfacePartition = MulticastIdUtil.sanitizeForPartition(globalDiscoveryEntry.getInterfaceName());
+        if (domainPartition.isEmpty() || interfacePartition.isEmpty()) {
+            logger.debug("Not firing change notification {} for participantId {}: no valid partitions for domain {} and interfaceName {}",
+                         typeOfChange,
+                         globalDiscoveryEntry.getParticipantId(),
+                         globalDiscoveryEntry.getDomain(),
+                         globalDiscoveryEntry.getInterfaceName());
+            return;
+        }
+        try {
+            fireGlobalDiscoveryEntryChanged(typeOfChange, globalDiscoveryEntry, domainPartition, interfacePartition);
+        } catch (Exception e) {
+            logger.error("Error firing change notification {} for participantId {}:",
+                         typeOfChange,
+                         globalDiscoveryEntry.getParticipantId(),
+                         e);
+        }
+    }
+
+    private void fireRemoveNotification(String participantId,
+                                        Collection<GlobalDiscoveryEntryPersisted> entriesBeforeRemove) {
+        Optional<Collection<GlobalDiscoveryEntryPersisted>> remainingEntries = discoveryEntryStore.lookup(participantId);
+        if (remainingEntries.isPresent() && !remainingEntries.get().isEmpty()) {
+            // still registered in other gbids
+            fireChangeNotification(ChangeType.UPDATE,
+                                   GcdUtilities.chooseOneGlobalDiscoveryEntry(remainingEntries.get(), gcdGbid));
+        } else {
+            fireChangeNotification(ChangeType.REMOVE,
+                                   GcdUtilities.chooseOneGlobalDiscoveryEntry(entriesBeforeRemove, gcdGbid));
+        }
     }
 
     @Override
@@ -210,7 +267,15 @@ public class CapabilitiesDirectoryImpl extends GlobalCapabilitiesDirectoryAbstra
                          gcdGbid);
             gbids = new String[]{ gcdGbid };
         }
-        return discoveryEntryStore.remove(participantId, gbids);
+        if (!changeNotificationsEnabled) {
+            return discoveryEntryStore.remove(participantId, gbids);
+        }
+        Optional<Collection<GlobalDiscoveryEntryPersisted>> entriesBeforeRemove = discoveryEntryStore.lookup(participantId);
+        int deletedCount = discoveryEntryStore.remove(participantId, gbids);
+        if (deletedCount > 0 && entriesBeforeRemove.isPresent() && !entriesBeforeRemove.get().isEmpty()) {
+            fireRemoveNotification(participantId, entriesBeforeRemove.get());
+        }
+        return deletedCount;
     }
 
     @Override
@@ -44,6 +44,8 @@ import com.google.inject.persist.PersistService;
 import com.google.inject.persist.jpa.JpaPersistModule;
 import com.google.inject.util.Modules;
 
+import io.joynr.capabilities.GlobalDiscoveryEntryCacheInvalidationChannel;
+import io.joynr.capabilities.GlobalDiscoveryEntryPersistedStoreCached;
 import io.joynr.capabilities.directory.util.GcdUtilities;
 import io.joynr.common.JoynrPropertiesModule;
 import io.joynr.exceptions.JoynrRuntimeException;
@@ -68,6 +70,9 @@ public class CapabilitiesDirectoryLauncher {
     static final String GCD_DB_NAME = CapabilitiesDirectoryImpl.PROPERTY_PREFIX + "test.db.name";
     static final String GCD_JPA_PROPERTIES = CapabilitiesDirectoryImpl.PROPERTY_PREFIX + "test.jpa.properties";
     private static String dbName = "gcd";
+    private static final String DEFAULT_CACHE_MAX_ENTRIES = "1000";
+    private static final String DEFAULT_CACHE_MAX_AGE_MS = "10000";
+    private static final String DEFAULT_CHANGE_NOTIFICATIONS = "false";
     private static AtomicBoolean shutdown = new AtomicBoolean(false);
     private static AtomicBoolean started = new AtomicBoolean(false);
     private static int shutdownPort = Integer.parseInt(System.getProperty("joynr.capabilitiesdirectorylauncher.shutdownport",
@@ -81,6 +86,7 @@ public class CapabilitiesDirectoryLauncher {
     private static CapabilitiesDirectoryImpl capabilitiesDirectory;
 
     private static PersistService persistService;
+    private static GlobalDiscoveryEntryCacheInvalidationChannel cacheInvalidationChannel;
 
     private static String getUserProperty(String key, Properties userProperties, String defaultValue) {
         String value;
@@ -111,6 +117,25 @@ public class CapabilitiesDirectoryLauncher {
         String validGbidsString = getUserProperty(CapabilitiesDirectoryImpl.VALID_GBIDS, userProperties, gcdGbid);
         joynrConfig.put(CapabilitiesDirectoryImpl.VALID_GBIDS, validGbidsString);
 
+        joynrConfig.put(CapabilitiesDirectoryImpl.PROPERTY_CHANGE_NOTIFICATIONS,
+                        getUserProperty(CapabilitiesDirectoryImpl.PROPERTY_CHANGE_NOTIFICATIONS,
+                                        userProperties,
+                                        DEFAULT_CHANGE_NOTIFICATIONS));
+
+        // lookup cache properties
+        joynrConfig.put(GlobalDiscoveryEntryPersistedStoreCached.PROPERTY_CACHE_MAX_ENTRIES,
+                        getUserProperty(GlobalDiscoveryEntryPersistedStoreCached.PROPERTY_CACHE_MAX_ENTRIES,
+                                        userProperties,
+                                        DEFAULT_CACHE_MAX_ENTRIES));
+        joynrConfig.put(GlobalDiscoveryEntryPersistedStoreCached.PROPERTY_CACHE_MAX_AGE_MS,
+                        getUserProperty(GlobalDiscoveryEntryPersistedStoreCached.PROPERTY_CACHE_MAX_AGE_MS,
+                                        userProperties,
+                                        DEFAULT_CACHE_MAX_AGE_MS));
+        joynrConfig.put(CapabilitiesDirectoryModule.PROPERTY_CACHE_INVALIDATION_CHANNEL,
+                        getUserProperty(CapabilitiesDirectoryModule.PROPERTY_CACHE_INVALIDATION_CHANNEL,
+                                        userProperties,
+                                        CapabilitiesDirectoryModule.CACHE_INVALIDATION_CHANNEL_POSTGRES));
+
         // DB properties
         dbHost = getUserProperty(GCD_DB_HOST, userProperties, DEFAULT_DB_HOST);
         dbPort = getUserProperty(GCD_DB_PORT, userProperties, DEFAULT_DB_PORT);
@@ -167,6 +192,7 @@ public class CapabilitiesDirectoryLauncher {
                                                         .with(new CapabilitiesDirectoryModule()));
         runtime = injector.getInstance(JoynrRuntime.class);
         persistService = injector.getInstance(PersistService.class);
+        cacheInvalidationChannel = injector.getInstance(GlobalDiscoveryEntryCacheInvalidationChannel.class);
         capabilitiesDirectory = injector.getInstance(CapabilitiesDirectoryImpl.class);
         String localDomain = injector.getInstance(Key.get(String.class,
                                                           Names.named(AbstractJoynrApplication.PROPERTY_JOYNR_DOMAIN_LOCAL)));
@@ -266,6 +292,9 @@ public class CapabilitiesDirectoryLauncher {
             return;
         }
         ready.set(false);
+        if (cacheInvalidationChannel != null) {
+            cacheInvalidationChannel.shutdown();
+        }
         if (persistService != null) {
             persistService.stop();
         }
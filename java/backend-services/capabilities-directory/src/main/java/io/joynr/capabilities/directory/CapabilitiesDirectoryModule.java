@@ -19,27 +19,47 @@
 package io.joynr.capabilities.directory;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provider;
 import com.google.inject.Provides;
+import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.name.Named;
 
+import io.joynr.capabilities.GlobalDiscoveryEntryCacheInvalidationChannel;
 import io.joynr.capabilities.GlobalDiscoveryEntryPersisted;
-import io.joynr.capabilities.GlobalDiscoveryEntryPersistedStorePersisted;
+import io.joynr.capabilities.GlobalDiscoveryEntryPersistedStoreCached;
 import io.joynr.capabilities.GlobalDiscoveryEntryStore;
+import io.joynr.capabilities.LocalGlobalDiscoveryEntryCacheInvalidationChannel;
+import io.joynr.capabilities.PostgresGlobalDiscoveryEntryCacheInvalidationChannel;
 import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.messaging.MessagingPropertyKeys;
 import io.joynr.runtime.AbstractJoynrApplication;
 import joynr.types.GlobalDiscoveryEntry;
 
 public class CapabilitiesDirectoryModule extends AbstractModule {
+    public static final String PROPERTY_CACHE_INVALIDATION_CHANNEL = CapabilitiesDirectoryImpl.PROPERTY_PREFIX
+            + "cache.invalidationchannel";
+    public static final String CACHE_INVALIDATION_CHANNEL_POSTGRES = "postgres";
+    public static final String CACHE_INVALIDATION_CHANNEL_LOCAL = "local";
 
     @Override
     protected void configure() {
         bind(new TypeLiteral<GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted>>() {
-        }).to(new TypeLiteral<GlobalDiscoveryEntryPersistedStorePersisted>() {
+        }).to(new TypeLiteral<GlobalDiscoveryEntryPersistedStoreCached>() {
         });
     }
 
+    @Provides
+    @Singleton
+    GlobalDiscoveryEntryCacheInvalidationChannel provideCacheInvalidationChannel(@Named(PROPERTY_CACHE_INVALIDATION_CHANNEL) String channelType,
+                                                                                 Provider<PostgresGlobalDiscoveryEntryCacheInvalidationChannel> postgresChannelProvider,
+                                                                                 Provider<LocalGlobalDiscoveryEntryCacheInvalidationChannel> localChannelProvider) {
+        if (CACHE_INVALIDATION_CHANNEL_LOCAL.equalsIgnoreCase(channelType)) {
+            return localChannelProvider.get();
+        }
+        return postgresChannelProvider.get();
+    }
+
     @Provides
     @Named(AbstractJoynrApplication.PROPERTY_JOYNR_DOMAIN_LOCAL)
     String provideCapabilitiesDirectoryDomain(@Named(MessagingPropertyKeys.CAPABILITIES_DIRECTORY_DISCOVERY_ENTRY) GlobalDiscoveryEntry capabilitiesDirectoryEntry) {
@@ -0,0 +1,261 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import joynr.types.ProviderQos;
+import joynr.types.Version;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GlobalDiscoveryEntryPersistedStoreCachedTest {
+
+    private static final String DOMAIN = "domain";
+    private static final String INTERFACE_NAME = "interfaceName";
+    private static final String CLUSTER_CONTROLLER_ID = "clusterControllerId";
+    private static final String[] GBIDS = { "joynrdefaultgbid" };
+    private static final int MAX_ENTRIES = 10;
+    private static final long MAX_AGE_MS = 60000;
+
+    @Mock
+    private GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> persistedStore;
+    @Mock
+    private GlobalDiscoveryEntryCacheInvalidationChannel invalidationChannel;
+
+    private GlobalDiscoveryEntryPersistedStoreCached store;
+
+    @Before
+    public void setUp() {
+        store = new GlobalDiscoveryEntryPersistedStoreCached(persistedStore,
+                                                             invalidationChannel,
+                                                             MAX_ENTRIES,
+                                                             MAX_AGE_MS);
+    }
+
+    private GlobalDiscoveryEntryPersisted createDiscoveryEntry(String domain, String participantId, long expiryDateMs) {
+        return new GlobalDiscoveryEntryPersisted(new Version(47, 11),
+                                                 domain,
+                                                 INTERFACE_NAME,
+                                                 participantId,
+                                                 new ProviderQos(),
+                                                 123L,
+                                                 expiryDateMs,
+                                                 "publicKeyId",
+                                                 "address",
+                                                 CLUSTER_CONTROLLER_ID,
+                                                 GBIDS[0]);
+    }
+
+    private List<GlobalDiscoveryEntryPersisted> listOf(GlobalDiscoveryEntryPersisted... entries) {
+        return new ArrayList<>(Arrays.asList(entries));
+    }
+
+    @Test
+    public void lookupDomainInterface_secondLookupServedFromCache() {
+        GlobalDiscoveryEntryPersisted entry = createDiscoveryEntry(DOMAIN, "participantId", Long.MAX_VALUE);
+        String[] domains = { DOMAIN };
+        doReturn(listOf(entry)).when(persistedStore).lookup(domains, INTERFACE_NAME);
+
+        Collection<GlobalDiscoveryEntryPersisted> firstResult = store.lookup(domains, INTERFACE_NAME);
+        Collection<GlobalDiscoveryEntryPersisted> secondResult = store.lookup(domains, INTERFACE_NAME);
+
+        verify(persistedStore, times(1)).lookup(domains, INTERFACE_NAME);
+        assertEquals(listOf(entry), firstResult);
+        assertEquals(listOf(entry), secondResult);
+    }
+
+    @Test
+    public void lookupDomainInterface_onlyMissingDomainsAreLoaded() {
+        GlobalDiscoveryEntryPersisted entry1 = createDiscoveryEntry("domain1", "participantB", Long.MAX_VALUE);
+        GlobalDiscoveryEntryPersisted entry2 = createDiscoveryEntry("domain2", "participantA", Long.MAX_VALUE);
+        doReturn(listOf(entry1)).when(persistedStore).lookup(new String[]{ "domain1" }, INTERFACE_NAME);
+        doReturn(listOf(entry2)).when(persistedStore).lookup(new String[]{ "domain2" }, INTERFACE_NAME);
+
+        store.lookup(new String[]{ "domain1" }, INTERFACE_NAME);
+        Collection<GlobalDiscoveryEntryPersisted> result = store.lookup(new String[]{ "domain1", "domain2" },
+                                                                        INTERFACE_NAME);
+
+        verify(persistedStore, times(1)).lookup(new String[]{ "domain1" }, INTERFACE_NAME);
+        verify(persistedStore, times(1)).lookup(new String[]{ "domain2" }, INTERFACE_NAME);
+        // ordered by participantId like the result of the persisted store
+        assertEquals(listOf(entry2, entry1), result);
+    }
+
+    @Test
+    public void lookupDomainInterface_expiredEntryIsReloaded() {
+        GlobalDiscoveryEntryPersisted entry = createDiscoveryEntry(DOMAIN,
+                                                                   "participantId",
+                                                                   System.currentTimeMillis() + 1);
+        String[] domains = { DOMAIN };
+        doReturn(listOf(entry)).when(persistedStore).lookup(domains, INTERFACE_NAME);
+
+        store.lookup(domains, INTERFACE_NAME);
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        store.lookup(domains, INTERFACE_NAME);
+
+        verify(persistedStore, times(2)).lookup(domains, INTERFACE_NAME);
+    }
+
+    @Test
+    public void lookupParticipantId_secondLookupServedFromCache() {
+        GlobalDiscoveryEntryPersisted entry = createDiscoveryEntry(DOMAIN, "participantId", Long.MAX_VALUE);
+        doReturn(Optional.of(listOf(entry))).when(persistedStore).lookup("participantId");
+
+        store.lookup("participantId");
+        Optional<Collection<GlobalDiscoveryEntryPersisted>> result = store.lookup("participantId");
+
+        verify(persistedStore, times(1)).lookup("participantId");
+        assertTrue(result.isPresent());
+        assertEquals(listOf(entry), result.get());
+    }
+
+    @Test
+    public void lookup_cacheHitsReturnCopies() {
+        GlobalDiscoveryEntryPersisted entry = createDiscoveryEntry(DOMAIN, "participantId", Long.MAX_VALUE);
+        GlobalDiscoveryEntryPersisted expectedEntry = createDiscoveryEntry(DOMAIN, "participantId", Long.MAX_VALUE);
+        String[] domains = { DOMAIN };
+        doReturn(listOf(entry)).when(persistedStore).lookup(domains, INTERFACE_NAME);
+        doReturn(Optional.of(listOf(entry))).when(persistedStore).lookup("participantId");
+
+        store.lookup(domains, INTERFACE_NAME);
+        store.lookup("participantId");
+        // modifications of returned entries must not be visible in later cache hits
+        entry.setAddress("modifiedAddress");
+        GlobalDiscoveryEntryPersisted firstHit = store.lookup(domains, INTERFACE_NAME).iterator().next();
+        firstHit.setGbid("modifiedGbid");
+        GlobalDiscoveryEntryPersisted secondHit = store.lookup(domains, INTERFACE_NAME).iterator().next();
+        GlobalDiscoveryEntryPersisted participantIdHit = store.lookup("participantId").get().iterator().next();
+
+        verify(persistedStore, times(1)).lookup(domains, INTERFACE_NAME);
+        verify(persistedStore, times(1)).lookup("participantId");
+        assertNotSame(firstHit, secondHit);
+        assertEquals(expectedEntry, secondHit);
+        assertEquals(expectedEntry, participantIdHit);
+    }
+
+    @Test
+    public void add_invalidatesAndPublishes() {
+        GlobalDiscoveryEntryPersisted entry = createDiscoveryEntry(DOMAIN, "participantId", Long.MAX_VALUE);
+        String[] domains = { DOMAIN };
+        doReturn(listOf()).when(persistedStore).lookup(domains, INTERFACE_NAME);
+        doReturn(Optional.of(listOf())).when(persistedStore).lookup("participantId");
+        store.lookup(domains, INTERFACE_NAME);
+        store.lookup("participantId");
+
+        store.add(entry, GBIDS);
+        store.lookup(domains, INTERFACE_NAME);
+        store.lookup("participantId");
+
+        verify(persistedStore).add(entry, GBIDS);
+        verify(persistedStore, times(2)).lookup(domains, INTERFACE_NAME);
+        verify(persistedStore, times(2)).lookup("participantId");
+        verify(invalidationChannel).publish(GlobalDiscoveryEntryCacheInvalidation.forParticipant("participantId"));
+        verify(invalidationChannel).publish(GlobalDiscoveryEntryCacheInvalidation.forDomainInterface(DOMAIN,
+                                                                                                     INTERFACE_NAME));
+    }
+
+    @Test
+    public void remove_invalidatesDomainInterfaceResultsContainingParticipant() {
+        GlobalDiscoveryEntryPersisted entry = createDiscoveryEntry(DOMAIN, "participantId", Long.MAX_VALUE);
+        String[] domains = { DOMAIN };
+        doReturn(listOf(entry)).when(persistedStore).lookup(domains, INTERFACE_NAME);
+        store.lookup(domains, INTERFACE_NAME);
+
+        store.remove("participantId", GBIDS);
+        store.lookup(domains, INTERFACE_NAME);
+
+        verify(persistedStore).remove("participantId", GBIDS);
+        verify(persistedStore, times(2)).lookup(domains, INTERFACE_NAME);
+        verify(invalidationChannel).publish(GlobalDiscoveryEntryCacheInvalidation.forParticipant("participantId"));
+    }
+
+    @Test
+    public void touch_invalidatesEntriesOfClusterController() {
+        GlobalDiscoveryEntryPersisted entry = createDiscoveryEntry(DOMAIN, "participantId", Long.MAX_VALUE);
+        doReturn(Optional.of(listOf(entry))).when(persistedStore).lookup("participantId");
+        store.lookup("participantId");
+
+        store.touch(CLUSTER_CONTROLLER_ID);
+        store.lookup("participantId");
+
+        verify(persistedStore, times(2)).lookup("participantId");
+        verify(invalidationChannel).publish(GlobalDiscoveryEntryCacheInvalidation.forClusterController(CLUSTER_CONTROLLER_ID));
+    }
+
+    @Test
+    public void remoteInvalidation_invalidatesWithoutPublishing() {
+        GlobalDiscoveryEntryPersisted entry = createDiscoveryEntry(DOMAIN, "participantId", Long.MAX_VALUE);
+        doReturn(Optional.of(listOf(entry))).when(persistedStore).lookup("participantId");
+        ArgumentCaptor<GlobalDiscoveryEntryCacheInvalidationChannel.Listener> listenerCaptor = ArgumentCaptor.forClass(GlobalDiscoveryEntryCacheInvalidationChannel.Listener.class);
+        verify(invalidationChannel).setListener(listenerCaptor.capture());
+        store.lookup("participantId");
+
+        listenerCaptor.getValue().onInvalidation(GlobalDiscoveryEntryCacheInvalidation.forParticipant("participantId"));
+        store.lookup("participantId");
+
+        verify(persistedStore, times(2)).lookup("participantId");
+        verify(invalidationChannel, never()).publish(any());
+    }
+
+    @Test
+    public void disabledCache_alwaysUsesPersistedStore() {
+        store = new GlobalDiscoveryEntryPersistedStoreCached(persistedStore, invalidationChannel, 0, MAX_AGE_MS);
+        String[] domains = { DOMAIN };
+        doReturn(listOf()).when(persistedStore).lookup(domains, INTERFACE_NAME);
+
+        store.lookup(domains, INTERFACE_NAME);
+        store.lookup(domains, INTERFACE_NAME);
+        store.touch(CLUSTER_CONTROLLER_ID);
+
+        verify(persistedStore, times(2)).lookup(eq(domains), eq(INTERFACE_NAME));
+        verify(invalidationChannel, never()).publish(any());
+    }
+
+    @Test
+    public void invalidationSerialization_roundTrip() {
+        GlobalDiscoveryEntryCacheInvalidation invalidation = GlobalDiscoveryEntryCacheInvalidation.forDomainInterface(DOMAIN,
+                                                                                                                      INTERFACE_NAME);
+        assertEquals(invalidation, GlobalDiscoveryEntryCacheInvalidation.deserialize(invalidation.serialize()));
+    }
+}
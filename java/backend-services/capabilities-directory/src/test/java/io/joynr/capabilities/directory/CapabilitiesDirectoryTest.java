@@ -30,6 +30,8 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -62,7 +64,9 @@ import joynr.infrastructure.GlobalCapabilitiesDirectoryProvider.Lookup2Deferred;
 import joynr.infrastructure.GlobalCapabilitiesDirectoryProvider.Lookup3Deferred;
 import joynr.infrastructure.GlobalCapabilitiesDirectoryProvider.Lookup4Deferred;
 import joynr.infrastructure.GlobalCapabilitiesDirectoryProvider.Remove1Deferred;
+import joynr.infrastructure.GlobalCapabilitiesDirectorySubscriptionPublisher;
 import joynr.system.RoutingTypes.MqttAddress;
+import joynr.types.ChangeType;
 import joynr.types.DiscoveryError;
 import joynr.types.GlobalDiscoveryEntry;
 import joynr.types.ProviderQos;
@@ -86,9 +90,15 @@ public class CapabilitiesDirectoryTest {
     @Mock
     private GlobalDiscoveryEntryStore<GlobalDiscoveryEntryPersisted> discoveryEntryStoreMock;
 
+    @Mock
+    private GlobalCapabilitiesDirectorySubscriptionPublisher subscriptionPublisherMock;
+
     @Captor
     private ArgumentCaptor<GlobalDiscoveryEntryPersisted> gdepCaptor;
 
+    @Captor
+    private ArgumentCaptor<GlobalDiscoveryEntry> globalDiscoveryEntryCaptor;
+
     @Before
     public void setUp() throws NoSuchFieldException, IllegalAccessException {
         MockitoAnnotations.initMocks(this);
@@ -97,7 +107,7 @@ public class CapabilitiesDirectoryTest {
                            .map(gbid -> gbid.trim())
                            .toArray(String[]::new);
 
-        subject = new CapabilitiesDirectoryImpl(discoveryEntryStoreMock, GCD_GBID, VALID_GBIDS_STRING);
+        subject = new CapabilitiesDirectoryImpl(discoveryEntryStoreMock, GCD_GBID, VALID_GBIDS_STRING, false);
 
         Field field = CapabilityUtils.class.getDeclaredField("objectMapper");
         field.setAccessible(true);
@@ -1013,4 +1023,112 @@ public class CapabilitiesDirectoryTest {
         checkPromiseException(promise, ProviderRuntimeException.class, "RemoveStale failed: " + testException);
     }
 
+    private CapabilitiesDirectoryImpl createSubjectWithChangeNotifications() {
+        CapabilitiesDirectoryImpl capabilitiesDirectory = new CapabilitiesDirectoryImpl(discoveryEntryStoreMock,
+                                                                                        GCD_GBID,
+                                                                                        VALID_GBIDS_STRING,
+                                                                                        true);
+        capabilitiesDirectory.setSubscriptionPublisher(subscriptionPublisherMock);
+        return capabilitiesDirectory;
+    }
+
+    @Test
+    public void add_doesNotFireChangeNotification_ifDisabled() throws InterruptedException {
+        subject.setSubscriptionPublisher(subscriptionPublisherMock);
+
+        Promise<Add1Deferred> promise = subject.add(testGlobalDiscoveryEntry, new String[]{ GCD_GBID });
+        checkPromiseSuccess(promise);
+
+        verifyNoInteractions(subscriptionPublisherMock);
+    }
+
+    @Test
+    public void add_firesAddNotificationWithSanitizedPartitions() throws InterruptedException {
+        subject = createSubjectWithChangeNotifications();
+        final String[] gbids = new String[]{ validGbids[0], validGbids[1] };
+
+        Promise<Add1Deferred> promise = subject.add(testGlobalDiscoveryEntry, gbids);
+        checkPromiseSuccess(promise);
+
+        verify(subscriptionPublisherMock).fireGlobalDiscoveryEntryChanged(eq(ChangeType.ADD),
+                                                                          globalDiscoveryEntryCaptor.capture(),
+                                                                          eq("examplecom"),
+                                                                          eq(INTERFACE_NAME));
+        GlobalDiscoveryEntry firedEntry = globalDiscoveryEntryCaptor.getValue();
+        assertEquals(PARTICIPANT_ID, firedEntry.getParticipantId());
+        MqttAddress firedAddress = (MqttAddress) CapabilityUtils.getAddressFromGlobalDiscoveryEntry(firedEntry);
+        assertEquals(gbids[0], firedAddress.getBrokerUri());
+        assertEquals(TOPIC_NAME, firedAddress.getTopic());
+    }
+
+    @Test
+    public void add_firesUpdateNotification_ifAlreadyRegistered() throws InterruptedException {
+        subject = createSubjectWithChangeNotifications();
+        GlobalDiscoveryEntryPersisted registeredEntry = new GlobalDiscoveryEntryPersisted(testGlobalDiscoveryEntry,
+                                                                                          TOPIC_NAME,
+                                                                                          GCD_GBID);
+        when(discoveryEntryStoreMock.lookup(PARTICIPANT_ID)).thenReturn(Optional.of(Arrays.asList(registeredEntry)));
+
+        Promise<Add1Deferred> promise = subject.add(testGlobalDiscoveryEntry, new String[]{ GCD_GBID });
+        checkPromiseSuccess(promise);
+
+        verify(subscriptionPublisherMock).fireGlobalDiscoveryEntryChanged(eq(ChangeType.UPDATE),
+                                                                          any(GlobalDiscoveryEntry.class),
+                                                                          eq("examplecom"),
+                                                                          eq(INTERFACE_NAME));
+    }
+
+    @Test
+    public void remove_firesRemoveNotification_ifLastEntryRemoved() throws InterruptedException {
+        subject = createSubjectWithChangeNotifications();
+        GlobalDiscoveryEntryPersisted registeredEntry = new GlobalDiscoveryEntryPersisted(testGlobalDiscoveryEntry,
+                                                                                          TOPIC_NAME,
+                                                                                          GCD_GBID);
+        when(discoveryEntryStoreMock.lookup(PARTICIPANT_ID)).thenReturn(Optional.of(Arrays.asList(registeredEntry)))
+                                                            .thenReturn(Optional.empty());
+        when(discoveryEntryStoreMock.remove(PARTICIPANT_ID, new String[]{ GCD_GBID })).thenReturn(1);
+
+        Promise<Remove1Deferred> promise = subject.remove(PARTICIPANT_ID, new String[]{ GCD_GBID });
+        checkPromiseSuccess(promise);
+
+        verify(subscriptionPublisherMock).fireGlobalDiscoveryEntryChanged(eq(ChangeType.REMOVE),
+                                                                          globalDiscoveryEntryCaptor.capture(),
+                                                                          eq("examplecom"),
+                                                                          eq(INTERFACE_NAME));
+        assertEquals(PARTICIPANT_ID, globalDiscoveryEntryCaptor.getValue().getParticipantId());
+    }
+
+    @Test
+    public void remove_firesUpdateNotification_ifStillRegisteredInOtherGbid() throws InterruptedException {
+        subject = createSubjectWithChangeNotifications();
+        GlobalDiscoveryEntryPersisted ownGbidEntry = new GlobalDiscoveryEntryPersisted(testGlobalDiscoveryEntry,
+                                                                                       TOPIC_NAME,
+                                                                                       GCD_GBID);
+        GlobalDiscoveryEntryPersisted otherGbidEntry = new GlobalDiscoveryEntryPersisted(testGlobalDiscoveryEntry,
+                                                                                         TOPIC_NAME,
+                                                                                         validGbids[0]);
+        when(discoveryEntryStoreMock.lookup(PARTICIPANT_ID)).thenReturn(Optional.of(Arrays.asList(ownGbidEntry,
+                                                                                                  otherGbidEntry)))
+                                                            .thenReturn(Optional.of(Arrays.asList(otherGbidEntry)));
+        when(discoveryEntryStoreMock.remove(PARTICIPANT_ID, new String[]{ GCD_GBID })).thenReturn(1);
+
+        Promise<Remove1Deferred> promise = subject.remove(PARTICIPANT_ID, new String[]{ GCD_GBID });
+        checkPromiseSuccess(promise);
+
+        verify(subscriptionPublisherMock).fireGlobalDiscoveryEntryChanged(eq(ChangeType.UPDATE),
+                                                                          any(GlobalDiscoveryEntry.class),
+                                                                          eq("examplecom"),
+                                                                          eq(INTERFACE_NAME));
+    }
+
+    @Test
+    public void remove_doesNotFireNotification_ifNothingRemoved() throws InterruptedException {
+        subject = createSubjectWithChangeNotifications();
+        when(discoveryEntryStoreMock.remove(PARTICIPANT_ID, new String[]{ GCD_GBID })).thenReturn(0);
+
+        subject.remove(PARTICIPANT_ID, new String[]{ GCD_GBID });
+
+        verifyNoInteractions(subscriptionPublisherMock);
+    }
+
 }
@@ -0,0 +1,126 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.joynr.dispatching.subscription.PublicationManager;
+import io.joynr.dispatching.subscription.SubscriptionManager;
+import io.joynr.messaging.MessagingQos;
+import io.joynr.messaging.sender.MessageSender;
+import io.joynr.proxy.StatelessAsyncIdCalculator;
+import io.joynr.util.ObjectMapper;
+import joynr.ImmutableMessage;
+import joynr.MutableMessage;
+import joynr.Reply;
+import joynr.Request;
+import joynr.SubscriptionPublication;
+
+/**
+ * Deserialization of incoming messages in {@link DispatcherImpl#messageArrived(ImmutableMessage)} up to the hand-over
+ * to the request reply manager or subscription manager. The managers are stub-only mocks which do not record
+ * invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatcherImplBenchmark {
+
+    private static final String FROM_PARTICIPANT_ID = "fromParticipantId";
+    private static final String TO_PARTICIPANT_ID = "toParticipantId";
+
+    @Param({ "REQUEST", "REPLY", "PUBLICATION" })
+    public String messageType;
+
+    private DispatcherImpl dispatcher;
+    private byte[] serializedMessage;
+
+    @Setup
+    public void setUp() throws Exception {
+        final SubscriptionManager subscriptionManager = mock(SubscriptionManager.class, withSettings().stubOnly());
+        doReturn(Integer.class).when(subscriptionManager).getAttributeType(anyString());
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final MutableMessageFactory messageFactory = new MutableMessageFactory(objectMapper, new HashSet<>());
+        dispatcher = new DispatcherImpl(mock(RequestReplyManager.class, withSettings().stubOnly()),
+                                        subscriptionManager,
+                                        mock(PublicationManager.class, withSettings().stubOnly()),
+                                        mock(MessageSender.class, withSettings().stubOnly()),
+                                        messageFactory,
+                                        objectMapper,
+                                        false,
+                                        mock(StatelessAsyncIdCalculator.class, withSettings().stubOnly()));
+
+        // the messages must not expire while the benchmark is running
+        final MessagingQos messagingQos = new MessagingQos(TimeUnit.HOURS.toMillis(1));
+        final MutableMessage message;
+        switch (messageType) {
+        case "REQUEST":
+            message = messageFactory.createRequest(FROM_PARTICIPANT_ID,
+                                                   TO_PARTICIPANT_ID,
+                                                   new Request("setTestAttribute",
+                                                               new Object[]{ 42 },
+                                                               new Class<?>[]{ Integer.class }),
+                                                   messagingQos);
+            break;
+        case "REPLY":
+            message = messageFactory.createReply(FROM_PARTICIPANT_ID,
+                                                 TO_PARTICIPANT_ID,
+                                                 new Reply("requestReplyId", 42),
+                                                 messagingQos);
+            break;
+        case "PUBLICATION":
+            message = messageFactory.createPublication(FROM_PARTICIPANT_ID,
+                                                       TO_PARTICIPANT_ID,
+                                                       new SubscriptionPublication(Arrays.asList(42), "subscriptionId"),
+                                                       messagingQos);
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported message type: " + messageType);
+        }
+        serializedMessage = message.getImmutableMessage().getSerializedMessage();
+    }
+
+    @Benchmark
+    public void messageArrived() throws Exception {
+        dispatcher.messageArrived(new ImmutableMessage(serializedMessage));
+    }
+}
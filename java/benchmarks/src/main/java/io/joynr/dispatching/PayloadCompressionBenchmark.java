@@ -0,0 +1,176 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.smrf.EncodingException;
+import io.joynr.smrf.UnsuppportedVersionException;
+import io.joynr.util.ObjectMapper;
+import joynr.ImmutableMessage;
+import joynr.Message;
+import joynr.MutableMessage;
+import joynr.Request;
+import joynr.SubscriptionPublication;
+
+/**
+ * CPU cost of SMRF payload compression for representative joynr payloads. The resulting payload and message sizes,
+ * i.e. the bytes on the wire, are reported as secondary results of {@link #serialize(MessageSize)} and
+ * {@link #deserializeBody(MessageSize)}. Together they show for which payloads {@link AdaptiveCompressionPolicy}
+ * should decide to compress.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadCompressionBenchmark {
+
+    private static final String FROM_PARTICIPANT_ID = "fromParticipantId";
+    private static final String TO_PARTICIPANT_ID = "toParticipantId";
+
+    /**
+     * SMALL_REQUEST: setter request with one integer parameter,
+     * STRUCT_PUBLICATION: attribute publication of a list of 100 structs,
+     * BYTE_ARRAY_PUBLICATION: attribute publication of a 16 KiB byte array (serialized as JSON number array).
+     */
+    @Param({ "SMALL_REQUEST", "STRUCT_PUBLICATION", "BYTE_ARRAY_PUBLICATION" })
+    public String payload;
+
+    @Param({ "false", "true" })
+    public boolean compressed;
+
+    private MutableMessage mutableMessage;
+    private byte[] serializedMessage;
+    private AdaptiveCompressionPolicy compressionPolicy;
+
+    /**
+     * Reports the sizes of the benchmarked message. The values are constant within a trial, so they are set
+     * instead of accumulated.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class MessageSize {
+        public long payloadBytes;
+        public long messageBytes;
+    }
+
+    public static class Struct {
+        public int num32;
+        public long num64;
+        public String str;
+
+        public Struct(int index) {
+            num32 = index;
+            num64 = 42L * index;
+            str = "string value " + index;
+        }
+    }
+
+    @Setup
+    public void setUp() throws EncodingException, UnsuppportedVersionException {
+        final MutableMessageFactory messageFactory = new MutableMessageFactory(new ObjectMapper(), new HashSet<>());
+        final MessagingQos messagingQos = new MessagingQos(TimeUnit.HOURS.toMillis(1));
+        messagingQos.setCompress(compressed);
+        switch (payload) {
+        case "SMALL_REQUEST":
+            mutableMessage = messageFactory.createRequest(FROM_PARTICIPANT_ID,
+                                                          TO_PARTICIPANT_ID,
+                                                          new Request("setTestAttribute",
+                                                                      new Object[]{ 42 },
+                                                                      new Class<?>[]{ Integer.class }),
+                                                          messagingQos);
+            break;
+        case "STRUCT_PUBLICATION":
+            List<Struct> structs = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                structs.add(new Struct(i));
+            }
+            mutableMessage = messageFactory.createPublication(TO_PARTICIPANT_ID,
+                                                              FROM_PARTICIPANT_ID,
+                                                              new SubscriptionPublication(Arrays.asList(structs),
+                                                                                          "subscriptionId"),
+                                                              messagingQos);
+            break;
+        case "BYTE_ARRAY_PUBLICATION":
+            Byte[] bytes = new Byte[16 * 1024];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) i;
+            }
+            mutableMessage = messageFactory.createPublication(TO_PARTICIPANT_ID,
+                                                              FROM_PARTICIPANT_ID,
+                                                              new SubscriptionPublication(Arrays.asList((Object) bytes),
+                                                                                          "subscriptionId"),
+                                                              messagingQos);
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported payload: " + payload);
+        }
+        ImmutableMessage immutableMessage = mutableMessage.getImmutableMessage();
+        serializedMessage = immutableMessage.getSerializedMessage();
+
+        compressionPolicy = new AdaptiveCompressionPolicy(true, 1024, 0.8, 100);
+    }
+
+    private void reportMessageSize(MessageSize messageSize) {
+        messageSize.payloadBytes = mutableMessage.getPayload().length;
+        messageSize.messageBytes = serializedMessage.length;
+    }
+
+    @Benchmark
+    public ImmutableMessage serialize(MessageSize messageSize) throws EncodingException, UnsuppportedVersionException {
+        reportMessageSize(messageSize);
+        return mutableMessage.getImmutableMessage();
+    }
+
+    @Benchmark
+    public byte[] deserializeBody(MessageSize messageSize) throws EncodingException, UnsuppportedVersionException {
+        reportMessageSize(messageSize);
+        return new ImmutableMessage(serializedMessage).getUnencryptedBody();
+    }
+
+    /**
+     * Overhead of the adaptive decision, including the sampled deflate of every 100th eligible payload.
+     */
+    @Benchmark
+    public boolean adaptiveDecision() {
+        return compressionPolicy.shouldCompress(Message.MessageType.VALUE_MESSAGE_TYPE_PUBLICATION,
+                                                TO_PARTICIPANT_ID,
+                                                mutableMessage.getPayload());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching.rpc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.joynr.context.JoynrMessageScope;
+import io.joynr.dispatching.RequestCaller;
+import io.joynr.dispatching.RequestCallerFactory;
+import io.joynr.exceptions.JoynrException;
+import io.joynr.messaging.JoynrMessageCreator;
+import io.joynr.messaging.JoynrMessageMetaInfo;
+import io.joynr.provider.ProviderCallback;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
+import joynr.Reply;
+import joynr.Request;
+import joynr.tests.DefaulttestProvider;
+
+/**
+ * Invocation of provider methods by the {@link RequestInterpreter}, including method lookup, scope handling and the
+ * creation of the reply.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestInterpreterBenchmark {
+
+    @Param({ "getTestAttribute", "setTestAttribute" })
+    public String methodName;
+
+    private RequestInterpreter requestInterpreter;
+    private RequestCaller requestCaller;
+    private Request request;
+    private ProviderCallback<Reply> callback;
+    private Reply reply;
+
+    @Setup
+    public void setUp() {
+        final JoynrMessageCreator joynrMessageCreator = new JoynrMessageCreator();
+        final JoynrMessageMetaInfo joynrMessageMetaInfo = new JoynrMessageMetaInfo();
+        requestInterpreter = new RequestInterpreter(new JoynrMessageScope(),
+                                                    () -> joynrMessageCreator,
+                                                    () -> joynrMessageMetaInfo,
+                                                    new JoynrStatusMetricsAggregator());
+        requestCaller = new RequestCallerFactory().create(new DefaulttestProvider());
+
+        if ("setTestAttribute".equals(methodName)) {
+            request = new Request(methodName, new Object[]{ 42 }, new Class<?>[]{ Integer.class });
+        } else {
+            request = new Request(methodName, new Object[0], new Class<?>[0]);
+        }
+        request.setCreatorUserId("creatorUserId");
+
+        callback = new ProviderCallback<Reply>() {
+            @Override
+            public void onSuccess(final Reply result) {
+                reply = result;
+            }
+
+            @Override
+            public void onFailure(final JoynrException joynrException) {
+                throw new IllegalStateException("Request failed", joynrException);
+            }
+        };
+    }
+
+    @Benchmark
+    public Reply execute() {
+        requestInterpreter.execute(callback, requestCaller, request);
+        return reply;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching.subscription;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.joynr.dispatching.Dispatcher;
+import io.joynr.dispatching.ProviderDirectory;
+import io.joynr.dispatching.RequestCallerFactory;
+import io.joynr.messaging.routing.RoutingTable;
+import io.joynr.provider.ProviderContainerFactory;
+import io.joynr.provider.SubscriptionPublisherFactory;
+import io.joynr.runtime.ShutdownNotifier;
+import joynr.OnChangeSubscriptionQos;
+import joynr.SubscriptionRequest;
+import joynr.tests.DefaulttestProvider;
+
+/**
+ * Fan-out of an attribute change to all on-change subscriptions of a provider, from the provider's change
+ * notification to the hand-over of the publications to the dispatcher. The dispatcher and the routing table are
+ * stub-only mocks which do not record invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublicationManagerImplBenchmark {
+
+    private static final String PROVIDER_PARTICIPANT_ID = "providerParticipantId";
+
+    @Param({ "1", "100", "1000" })
+    public int numberOfSubscriptions;
+
+    private ScheduledThreadPoolExecutor cleanupScheduler;
+    private PublicationManagerImpl publicationManager;
+    private DefaulttestProvider provider;
+    private int attributeValue;
+
+    @Setup
+    public void setUp() {
+        provider = new DefaulttestProvider();
+        final ProviderDirectory providerDirectory = new ProviderDirectory();
+        final ProviderContainerFactory providerContainerFactory = new ProviderContainerFactory(new SubscriptionPublisherFactory(),
+                                                                                               new RequestCallerFactory());
+        providerDirectory.add(PROVIDER_PARTICIPANT_ID, providerContainerFactory.create(provider));
+
+        cleanupScheduler = new ScheduledThreadPoolExecutor(1);
+        publicationManager = new PublicationManagerImpl(new AttributePollInterpreter(),
+                                                        mock(Dispatcher.class, withSettings().stubOnly()),
+                                                        providerDirectory,
+                                                        mock(RoutingTable.class, withSettings().stubOnly()),
+                                                        cleanupScheduler,
+                                                        cleanupScheduler,
+                                                        new ShutdownNotifier());
+
+        for (int i = 0; i < numberOfSubscriptions; i++) {
+            final OnChangeSubscriptionQos qos = new OnChangeSubscriptionQos();
+            qos.setMinIntervalMs(0);
+            qos.setValidityMs(TimeUnit.HOURS.toMillis(1));
+            qos.setPublicationTtlMs(TimeUnit.MINUTES.toMillis(1));
+            final SubscriptionRequest subscriptionRequest = new SubscriptionRequest("subscriptionId-" + i,
+                                                                                    "testAttribute",
+                                                                                    qos);
+            publicationManager.addSubscriptionRequest("proxyParticipantId-" + i,
+                                                      PROVIDER_PARTICIPANT_ID,
+                                                      subscriptionRequest);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        publicationManager.shutdown();
+        cleanupScheduler.shutdownNow();
+    }
+
+    @Benchmark
+    public void attributeChanged() {
+        provider.testAttributeChanged(++attributeValue);
+    }
+}
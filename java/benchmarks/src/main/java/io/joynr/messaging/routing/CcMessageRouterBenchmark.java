@@ -0,0 +1,193 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.joynr.accesscontrol.AccessController;
+import io.joynr.accesscontrol.HasConsumerPermissionCallback;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.MessagingSkeletonFactory;
+import io.joynr.messaging.SuccessAction;
+import io.joynr.messaging.inprocess.InProcessAddress;
+import io.joynr.messaging.inprocess.InProcessMessagingSkeleton;
+import io.joynr.messaging.inprocess.InProcessMessagingStubFactory;
+import io.joynr.messaging.tracking.MessageTrackerForGracefulShutdown;
+import io.joynr.messaging.util.MulticastWildcardRegexFactory;
+import io.joynr.runtime.ShutdownNotifier;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
+import io.joynr.util.ObjectMapper;
+import joynr.ImmutableMessage;
+import joynr.Message;
+import joynr.MutableMessage;
+import joynr.infrastructure.DacTypes.TrustLevel;
+import joynr.system.RoutingTypes.Address;
+
+/**
+ * Routing of request messages through the {@link CcMessageRouter} to an in-process stub, including the hand-over
+ * from the calling thread to the message workers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CcMessageRouterBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_PARALLEL_SENDS = 4;
+    private static final int PRIORITY_WORKERS = 2;
+    private static final String[] GBIDS = { "joynrdefaultgbid" };
+
+    private ScheduledThreadPoolExecutor scheduler;
+    private CcMessageRouter ccMessageRouter;
+    private byte[] serializedRequest;
+    private final Semaphore deliveredMessages = new Semaphore(0);
+
+    @Setup
+    public void setUp() throws Exception {
+        final InProcessMessagingSkeleton skeleton = new InProcessMessagingSkeleton() {
+            @Override
+            public void transmit(ImmutableMessage message, SuccessAction successAction, FailureAction failureAction) {
+                successAction.execute();
+                deliveredMessages.release();
+            }
+
+            @Override
+            public void init() {
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+
+        final RoutingTableImpl routingTable = new RoutingTableImpl(0, GBIDS, new RoutingTableAddressValidator() {
+            @Override
+            public boolean isValidForRoutingTable(final Address address) {
+                return true;
+            }
+
+            @Override
+            public boolean allowUpdate(final RoutingEntry oldEntry, final RoutingEntry newEntry) {
+                return true;
+            }
+        });
+        routingTable.put("providerParticipantId", new InProcessAddress(skeleton), false, Long.MAX_VALUE, true);
+
+        // message workers + routing table cleanup
+        scheduler = new ScheduledThreadPoolExecutor(MAX_PARALLEL_SENDS + 1);
+        final ShutdownNotifier shutdownNotifier = new ShutdownNotifier();
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final MulticastReceiverRegistry multicastReceiverRegistry = new InMemoryMulticastReceiverRegistry(new MulticastWildcardRegexFactory());
+        final AccessController accessController = new AccessController() {
+            @Override
+            public void hasConsumerPermission(ImmutableMessage message, HasConsumerPermissionCallback callback) {
+                callback.hasConsumerPermission(true);
+            }
+
+            @Override
+            public boolean hasProviderPermission(String userId,
+                                                 TrustLevel trustLevel,
+                                                 String domain,
+                                                 String interfaceName,
+                                                 String participantId) {
+                return true;
+            }
+        };
+        ccMessageRouter = new CcMessageRouter(routingTable,
+                                              scheduler,
+                                              MAX_PARALLEL_SENDS,
+                                              PRIORITY_WORKERS,
+                                              Long.MAX_VALUE,
+                                              new MessagingStubFactory(Collections.singletonMap(InProcessAddress.class,
+                                                                                                new InProcessMessagingStubFactory())),
+                                              new MessagingSkeletonFactory(Collections.emptyMap(),
+                                                                           scheduler,
+                                                                           shutdownNotifier),
+                                              new AddressManager(routingTable,
+                                                                 Optional.empty(),
+                                                                 multicastReceiverRegistry),
+                                              multicastReceiverRegistry,
+                                              accessController,
+                                              false,
+                                              new MessageQueue(new DelayQueue<>()),
+                                              shutdownNotifier,
+                                              objectMapper,
+                                              new MessageTrackerForGracefulShutdown(shutdownNotifier, objectMapper),
+                                              new JoynrStatusMetricsAggregator());
+
+        final MutableMessage request = new MutableMessage();
+        request.setType(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST);
+        request.setSender("consumerParticipantId");
+        request.setRecipient("providerParticipantId");
+        request.setTtlAbsolute(true);
+        request.setTtlMs(Long.MAX_VALUE);
+        final String payload = "{\"_typeName\":\"joynr.Request\",\"methodName\":\"noMethod\"}";
+        request.setPayload(payload.getBytes(StandardCharsets.UTF_8));
+        serializedRequest = request.getImmutableMessage().getSerializedMessage();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ccMessageRouter.shutdown();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Latency of a single message from routeOut until it has been transmitted to the stub.
+     */
+    @Benchmark
+    public void routeSingleMessage() throws Exception {
+        ccMessageRouter.routeOut(new ImmutableMessage(serializedRequest));
+        deliveredMessages.acquire();
+    }
+
+    /**
+     * Routes a burst of messages so that several message workers are busy at the same time.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void routeBurst() throws Exception {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ccMessageRouter.routeOut(new ImmutableMessage(serializedRequest));
+        }
+        deliveredMessages.acquire(BATCH_SIZE);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.routing;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import joynr.system.RoutingTypes.Address;
+import joynr.system.RoutingTypes.MqttAddress;
+
+/**
+ * Lookups in the {@link RoutingTableImpl} as done for every routed message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingTableBenchmark {
+
+    private static final String[] GBIDS = { "joynrdefaultgbid", "othergbid" };
+
+    @Param({ "100", "10000" })
+    public int numberOfEntries;
+
+    private RoutingTableImpl routingTable;
+    private String[] participantIds;
+
+    @Setup
+    public void setUp() {
+        routingTable = new RoutingTableImpl(0, GBIDS, new RoutingTableAddressValidator() {
+            @Override
+            public boolean isValidForRoutingTable(final Address address) {
+                return true;
+            }
+
+            @Override
+            public boolean allowUpdate(final RoutingEntry oldEntry, final RoutingEntry newEntry) {
+                return true;
+            }
+        });
+        participantIds = new String[numberOfEntries];
+        for (int i = 0; i < numberOfEntries; i++) {
+            participantIds[i] = "participantId-" + i;
+            final Address address = new MqttAddress(GBIDS[0], "topic-" + i);
+            routingTable.put(participantIds[i], address, true, Long.MAX_VALUE);
+        }
+    }
+
+    private String randomParticipantId() {
+        return participantIds[ThreadLocalRandom.current().nextInt(numberOfEntries)];
+    }
+
+    @Benchmark
+    public Address get() {
+        return routingTable.get(randomParticipantId());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Address getConcurrently() {
+        return routingTable.get(randomParticipantId());
+    }
+
+    @Benchmark
+    public Address getWithGbid() {
+        return routingTable.get(randomParticipantId(), GBIDS[1]);
+    }
+
+    @Benchmark
+    public boolean containsKey() {
+        return routingTable.containsKey(randomParticipantId());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package joynr;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.joynr.smrf.EncodingException;
+import io.joynr.smrf.UnsuppportedVersionException;
+
+/**
+ * Serialization of {@link MutableMessage}s to SMRF and header access on the resulting {@link ImmutableMessage}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImmutableMessageBenchmark {
+
+    @Param({ "64", "1024", "16384" })
+    public int payloadSize;
+
+    private MutableMessage mutableMessage;
+    private byte[] serializedMessage;
+    private ImmutableMessage immutableMessage;
+
+    @Setup
+    public void setUp() throws EncodingException, UnsuppportedVersionException {
+        final byte[] payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'x');
+
+        final Map<String, String> customHeaders = new HashMap<>();
+        customHeaders.put(Message.CUSTOM_HEADER_REQUEST_REPLY_ID, "requestReplyId");
+        customHeaders.put("customKey", "customValue");
+
+        mutableMessage = new MutableMessage();
+        mutableMessage.setType(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST);
+        mutableMessage.setSender("senderParticipantId");
+        mutableMessage.setRecipient("recipientParticipantId");
+        mutableMessage.setTtlAbsolute(true);
+        mutableMessage.setTtlMs(Long.MAX_VALUE);
+        mutableMessage.setReplyTo("replyToAddress");
+        mutableMessage.setCustomHeaders(customHeaders);
+        mutableMessage.setPayload(payload);
+
+        immutableMessage = mutableMessage.getImmutableMessage();
+        serializedMessage = immutableMessage.getSerializedMessage();
+    }
+
+    @Benchmark
+    public ImmutableMessage serialize() throws EncodingException, UnsuppportedVersionException {
+        return mutableMessage.getImmutableMessage();
+    }
+
+    @Benchmark
+    public ImmutableMessage deserialize() throws EncodingException, UnsuppportedVersionException {
+        return new ImmutableMessage(serializedMessage);
+    }
+
+    /**
+     * Header access as done by the message router for every message: type, recipient, TTL and custom headers.
+     */
+    @Benchmark
+    public void readRoutingHeaders(Blackhole blackhole) {
+        blackhole.consume(immutableMessage.getType());
+        blackhole.consume(immutableMessage.getRecipient());
+        blackhole.consume(immutableMessage.getTtlMs());
+        blackhole.consume(immutableMessage.isTtlAbsolute());
+        blackhole.consume(immutableMessage.getCustomHeaders());
+    }
+
+    @Benchmark
+    public Map<String, String> readPrefixedCustomHeaders() {
+        return immutableMessage.getPrefixedCustomHeaders();
+    }
+
+    /**
+     * Header-only forwarding as done by the cluster controller: a header is added as overlay and the messaging
+     * stub reads the serialized message and the custom headers for the transport.
+     */
+    @Benchmark
+    public void forwardWithExtraCustomHeader(Blackhole blackhole) {
+        immutableMessage.putExtraCustomHeader("forwardedBy", "clusterController");
+        blackhole.consume(immutableMessage.getSerializedMessageWithoutCopy());
+        blackhole.consume(immutableMessage.getPrefixedCustomHeadersWithExtraCustomHeaders());
+    }
+
+    @Benchmark
+    public byte[] readBody() throws EncodingException {
+        return immutableMessage.getUnencryptedBody();
+    }
+}
@@ -56,6 +56,18 @@ public interface DiscoveryEntryStore<T extends DiscoveryEntry> {
      */
     public abstract String[] touchDiscoveryEntries(long lastSeenDateMs, long expiryDateMs);
 
+    /**
+     * Update last seen date and expiry date of the discovery entries saved in this store which
+     * expire until maxExpiryDateMs. Entries with a later expiry date are not modified.
+     * @param lastSeenDateMs - last seen date in milliseconds to set
+     * @param expiryDateMs - expiry date in milliseconds to set
+     * @param maxExpiryDateMs - only entries with an expiry date up to this date in milliseconds are updated
+     * @return a list of participant IDs of the updated discovery entries with scope global
+     */
+    public abstract String[] touchExpiringDiscoveryEntries(long lastSeenDateMs,
+                                                           long expiryDateMs,
+                                                           long maxExpiryDateMs);
+
     /**
      * Update last seen date and expiry date of discovery entries with particular participant IDs
      * @param participantIds - list of participant IDs of discovery entries to be updated
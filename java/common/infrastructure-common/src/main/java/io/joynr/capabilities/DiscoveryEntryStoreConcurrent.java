@@ -0,0 +1,431 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.arbitration.DiscoveryQos;
+import io.joynr.exceptions.JoynrCommunicationException;
+import joynr.types.DiscoveryEntry;
+import joynr.types.DiscoveryEntryWithMetaInfo;
+import joynr.types.GlobalDiscoveryEntry;
+import joynr.types.ProviderScope;
+
+/**
+ * Concurrent variant of {@link DiscoveryEntryStoreInMemory}.
+ * <p>
+ * Entries are indexed by participantId and by a case insensitive [domain, interfaceName] composite key
+ * in {@link ConcurrentHashMap}s. Lookups do not take any lock; only modifications (add/remove/touch)
+ * are serialized in order to keep the indexes consistent with each other. Stored entries are never
+ * modified: touching an entry replaces it with a touched copy, so that entries returned by a lookup are
+ * not changed concurrently.
+ * <p>
+ * An additional index orders the entries by expiry date, so that
+ * {@link #touchExpiringDiscoveryEntries(long, long, long)} only visits the entries which are about to
+ * expire instead of scanning the whole store.
+ * <p>
+ * The store can be optionally limited for non-sticky entries, if maximumNumberOfNonStickyEntries is set
+ * to a positive value. In this case, the least recently used (added or looked up) non-sticky entry is
+ * evicted first. Lookups then take a short lock to update the eviction order.
+ * <p>
+ * Unlike {@link DiscoveryEntryStoreInMemory}, which always returns an empty set,
+ * {@link #getAllDiscoveryEntries()} returns all stored entries. Hence, the
+ * {@code ExpiredDiscoveryEntryCacheCleaner} removes expired entries from this store and
+ * {@code listLocalCapabilities} of the local capabilities directory returns the stored entries.
+ */
+public class DiscoveryEntryStoreConcurrent<T extends DiscoveryEntry> implements DiscoveryEntryStore<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiscoveryEntryStoreConcurrent.class);
+
+    /**
+     * Case insensitive [domain, interfaceName] key which does not require any string concatenation or
+     * lower case copies of its parts.
+     */
+    static final class DomainInterfaceKey {
+        private final String domain;
+        private final String interfaceName;
+        private final int hashCode;
+
+        DomainInterfaceKey(String domain, String interfaceName) {
+            this.domain = domain;
+            this.interfaceName = interfaceName;
+            this.hashCode = 31 * caseInsensitiveHashCode(domain) + caseInsensitiveHashCode(interfaceName);
+        }
+
+        private static int caseInsensitiveHashCode(String value) {
+            int hash = 0;
+            for (int i = 0; i < value.length(); i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+            }
+            return hash;
+        }
+
+        boolean matches(String otherDomain, String otherInterfaceName) {
+            return domain.equalsIgnoreCase(otherDomain) && interfaceName.equalsIgnoreCase(otherInterfaceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof DomainInterfaceKey)) {
+                return false;
+            }
+            DomainInterfaceKey other = (DomainInterfaceKey) obj;
+            return hashCode == other.hashCode && matches(other.domain, other.interfaceName);
+        }
+    }
+
+    private static final class StoredEntry<T extends DiscoveryEntry> {
+        private final T discoveryEntry;
+        private final DomainInterfaceKey domainInterfaceKey;
+        private final long registeredTimeMs;
+        // expiry date used as key in the expiry index
+        private final long indexedExpiryDateMs;
+
+        StoredEntry(T discoveryEntry, DomainInterfaceKey domainInterfaceKey, long registeredTimeMs) {
+            this.discoveryEntry = discoveryEntry;
+            this.domainInterfaceKey = domainInterfaceKey;
+            this.registeredTimeMs = registeredTimeMs;
+            this.indexedExpiryDateMs = discoveryEntry.getExpiryDateMs();
+        }
+    }
+
+    private final Map<String, StoredEntry<T>> participantIdToEntry = new ConcurrentHashMap<>();
+    private final Map<DomainInterfaceKey, Map<String, StoredEntry<T>>> domainInterfaceToEntries = new ConcurrentHashMap<>();
+    // all entries, earliest expiry date first; guarded by modificationLock
+    private final NavigableSet<StoredEntry<T>> expiryIndex = new TreeSet<>(Comparator.<StoredEntry<T>> comparingLong(storedEntry -> storedEntry.indexedExpiryDateMs)
+                                                                                     .thenComparing(storedEntry -> storedEntry.discoveryEntry.getParticipantId()));
+    // participantIds of non-sticky entries in access order, least recently used first;
+    // guarded by itself, which may be locked while holding modificationLock but not vice versa
+    private final LinkedHashMap<String, Boolean> nonStickyEvictionQueue = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maximumNumberOfNonStickyEntries;
+
+    private final Object modificationLock = new Object();
+
+    public DiscoveryEntryStoreConcurrent(int maximumNumberOfNonStickyEntries) {
+        logger.info("Creating concurrent CapabilitiesStore, maximumNumberOfNonStickyEntries = {}",
+                    maximumNumberOfNonStickyEntries);
+        this.maximumNumberOfNonStickyEntries = maximumNumberOfNonStickyEntries;
+    }
+
+    private boolean isLimitedNonSticky(DiscoveryEntry discoveryEntry) {
+        // store limit will only be used if enabled, and only for non-sticky entries;
+        // an entry is considered sticky, when its expiryDateMs is equal to Long.MAX_VALUE
+        return maximumNumberOfNonStickyEntries > 0 && discoveryEntry.getExpiryDateMs() != Long.MAX_VALUE;
+    }
+
+    @Override
+    public void add(T discoveryEntry) {
+        if (discoveryEntry == null || discoveryEntry.getDomain() == null || discoveryEntry.getInterfaceName() == null
+                || discoveryEntry.getParticipantId() == null) {
+            String message = format("Entry being registered is null or not complete: %s", discoveryEntry);
+            logger.error(message);
+            throw new JoynrCommunicationException(message);
+        }
+        String participantId = discoveryEntry.getParticipantId();
+        DomainInterfaceKey domainInterfaceKey = new DomainInterfaceKey(discoveryEntry.getDomain(),
+                                                                       discoveryEntry.getInterfaceName());
+        StoredEntry<T> storedEntry = new StoredEntry<>(discoveryEntry, domainInterfaceKey, System.currentTimeMillis());
+        logger.trace("About to add entry for participantId {} to DiscoveryEntryStoreConcurrent.", participantId);
+        synchronized (modificationLock) {
+            // Check whether an entry for this participantId already exists, if so, remove it
+            if (removeDiscoveryEntryFromStore(participantId)) {
+                logger.trace("Removed old entry for participantId {} from DiscoveryEntryStoreConcurrent.",
+                             participantId);
+            }
+
+            if (isLimitedNonSticky(discoveryEntry)) {
+                String leastRecentlyUsedParticipantId = null;
+                synchronized (nonStickyEvictionQueue) {
+                    if (nonStickyEvictionQueue.size() >= maximumNumberOfNonStickyEntries) {
+                        Iterator<String> leastRecentlyUsed = nonStickyEvictionQueue.keySet().iterator();
+                        leastRecentlyUsedParticipantId = leastRecentlyUsed.next();
+                        leastRecentlyUsed.remove();
+                    }
+                    nonStickyEvictionQueue.put(participantId, Boolean.TRUE);
+                }
+                if (leastRecentlyUsedParticipantId == null) {
+                    // store limit not reached
+                } else if (removeDiscoveryEntryFromStore(leastRecentlyUsedParticipantId)) {
+                    logger.debug("Removed least recently used entry for participantId {} from DiscoveryEntryStoreConcurrent.",
+                                 leastRecentlyUsedParticipantId);
+                } else {
+                    logger.error("Could not remove least recently used entry with participantId {} from DiscoveryEntryStoreConcurrent.",
+                                 leastRecentlyUsedParticipantId);
+                }
+            }
+
+            domainInterfaceToEntries.computeIfAbsent(domainInterfaceKey, key -> new ConcurrentHashMap<>())
+                                    .put(participantId, storedEntry);
+            participantIdToEntry.put(participantId, storedEntry);
+            expiryIndex.add(storedEntry);
+        }
+        logger.debug("Added entry for participantId {} to DiscoveryEntryStoreConcurrent.", participantId);
+    }
+
+    @Override
+    public void add(Collection<T> entries) {
+        if (entries != null) {
+            for (T entry : entries) {
+                add(entry);
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(String participantId) {
+        boolean removedSuccessfully;
+        synchronized (modificationLock) {
+            removedSuccessfully = removeDiscoveryEntryFromStore(participantId);
+        }
+        if (!removedSuccessfully) {
+            logger.error("Could not remove discoveryEntry for participantId {} from DiscoveryEntryStoreConcurrent.",
+                         participantId);
+        } else {
+            logger.debug("Removed entry for participantId {} from DiscoveryEntryStoreConcurrent.", participantId);
+        }
+        return removedSuccessfully;
+    }
+
+    // must be called while holding modificationLock
+    private boolean removeDiscoveryEntryFromStore(String participantId) {
+        logger.trace("removeDiscoveryEntryFromStore for participantId {}", participantId);
+        StoredEntry<T> storedEntry = participantIdToEntry.remove(participantId);
+        if (storedEntry == null) {
+            // valid case, if entry is not part of the cache yet
+            return false;
+        }
+        expiryIndex.remove(storedEntry);
+        boolean removedSuccessfully = true;
+
+        Map<String, StoredEntry<T>> entriesOfDomainInterface = domainInterfaceToEntries.get(storedEntry.domainInterfaceKey);
+        if (entriesOfDomainInterface == null || entriesOfDomainInterface.remove(participantId) == null) {
+            logger.error("Could not find participantId {} in domainInterfaceToEntries", participantId);
+            removedSuccessfully = false;
+        } else if (entriesOfDomainInterface.isEmpty()) {
+            domainInterfaceToEntries.remove(storedEntry.domainInterfaceKey);
+        }
+
+        if (maximumNumberOfNonStickyEntries > 0) {
+            synchronized (nonStickyEvictionQueue) {
+                nonStickyEvictionQueue.remove(participantId);
+            }
+        }
+        return removedSuccessfully;
+    }
+
+    @Override
+    public void remove(Collection<String> participantIds) {
+        for (String participantId : participantIds) {
+            remove(participantId);
+        }
+    }
+
+    @Override
+    public Collection<T> lookup(final String[] domains, final String interfaceName) {
+        return lookup(domains, interfaceName, DiscoveryQos.NO_MAX_AGE);
+    }
+
+    @Override
+    public Collection<T> lookup(final String[] domains, final String interfaceName, long cacheMaxAge) {
+        ArrayList<T> capabilitiesList = new ArrayList<T>();
+        long now = System.currentTimeMillis();
+        for (String domain : domains) {
+            Map<String, StoredEntry<T>> matchingEntries = domainInterfaceToEntries.get(new DomainInterfaceKey(domain,
+                                                                                                              interfaceName));
+            if (matchingEntries == null) {
+                continue;
+            }
+            for (StoredEntry<T> storedEntry : matchingEntries.values()) {
+                if (storedEntry.discoveryEntry instanceof GlobalDiscoveryEntry
+                        && !checkAge(storedEntry.registeredTimeMs, now, cacheMaxAge)) {
+                    continue;
+                }
+                capabilitiesList.add(storedEntry.discoveryEntry);
+                markAsRecentlyUsed(storedEntry);
+            }
+        }
+
+        logger.trace("Capabilities found: {}", capabilitiesList);
+        return capabilitiesList;
+    }
+
+    @Override
+    public Optional<T> lookup(String participantId, long cacheMaxAge) {
+        StoredEntry<T> storedEntry = participantIdToEntry.get(participantId);
+        if (storedEntry == null) {
+            return Optional.empty();
+        }
+        logger.trace("Capability for participantId {} found: {}", participantId, storedEntry.discoveryEntry);
+        if (storedEntry.discoveryEntry instanceof GlobalDiscoveryEntry
+                && !checkAge(storedEntry.registeredTimeMs, System.currentTimeMillis(), cacheMaxAge)) {
+            return Optional.empty();
+        }
+        markAsRecentlyUsed(storedEntry);
+        return Optional.of(storedEntry.discoveryEntry);
+    }
+
+    private void markAsRecentlyUsed(StoredEntry<T> storedEntry) {
+        if (isLimitedNonSticky(storedEntry.discoveryEntry)) {
+            synchronized (nonStickyEvictionQueue) {
+                // moves the participantId to the end of the access ordered queue, if it is still stored
+                nonStickyEvictionQueue.get(storedEntry.discoveryEntry.getParticipantId());
+            }
+        }
+    }
+
+    @Override
+    public Collection<T> lookupGlobalEntries(final String[] domains, final String interfaceName) {
+        Collection<T> result = new HashSet<>();
+        for (T cap : lookup(domains, interfaceName)) {
+            if (cap.getQos().getScope().equals(ProviderScope.GLOBAL)) {
+                result.add(cap);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public HashSet<T> getAllDiscoveryEntries() {
+        HashSet<T> allDiscoveryEntries = new HashSet<T>();
+        for (StoredEntry<T> storedEntry : participantIdToEntry.values()) {
+            allDiscoveryEntries.add(storedEntry.discoveryEntry);
+        }
+        return allDiscoveryEntries;
+    }
+
+    @Override
+    public HashSet<T> getAllGlobalEntries() {
+        HashSet<T> allGlobalEntries = new HashSet<T>();
+        for (StoredEntry<T> storedEntry : participantIdToEntry.values()) {
+            if (storedEntry.discoveryEntry.getQos().getScope().equals(ProviderScope.GLOBAL)) {
+                allGlobalEntries.add(storedEntry.discoveryEntry);
+            }
+        }
+        return allGlobalEntries;
+    }
+
+    @Override
+    public boolean hasDiscoveryEntry(DiscoveryEntry discoveryEntry) {
+        StoredEntry<T> storedEntry = participantIdToEntry.get(discoveryEntry.getParticipantId());
+        return storedEntry != null && storedEntry.domainInterfaceKey.matches(discoveryEntry.getDomain(),
+                                                                             discoveryEntry.getInterfaceName());
+    }
+
+    private boolean checkAge(long timeStamp, long now, long maxAcceptedAge) {
+        return (now - timeStamp) <= maxAcceptedAge;
+    }
+
+    @Override
+    public String[] touchDiscoveryEntries(long lastSeenDateMs, long expiryDateMs) {
+        return touchExpiringDiscoveryEntries(lastSeenDateMs, expiryDateMs, Long.MAX_VALUE);
+    }
+
+    @Override
+    public String[] touchExpiringDiscoveryEntries(long lastSeenDateMs, long expiryDateMs, long maxExpiryDateMs) {
+        List<String> participantIds = new ArrayList<>();
+        synchronized (modificationLock) {
+            List<StoredEntry<T>> expiringEntries = new ArrayList<>();
+            for (StoredEntry<T> storedEntry : expiryIndex) {
+                if (storedEntry.indexedExpiryDateMs > maxExpiryDateMs) {
+                    break;
+                }
+                expiringEntries.add(storedEntry);
+            }
+            for (StoredEntry<T> storedEntry : expiringEntries) {
+                T discoveryEntry = storedEntry.discoveryEntry;
+                replaceWithTouchedCopy(storedEntry,
+                                       Math.max(discoveryEntry.getLastSeenDateMs(), lastSeenDateMs),
+                                       Math.max(discoveryEntry.getExpiryDateMs(), expiryDateMs));
+                if (discoveryEntry.getQos().getScope() == ProviderScope.GLOBAL) {
+                    participantIds.add(discoveryEntry.getParticipantId());
+                }
+            }
+        }
+        return participantIds.toArray(new String[participantIds.size()]);
+    }
+
+    @Override
+    public void touchDiscoveryEntries(String[] participantIds, long lastSeenDateMs, long expiryDateMs) {
+        synchronized (modificationLock) {
+            for (String participantId : participantIds) {
+                StoredEntry<T> storedEntry = participantIdToEntry.get(participantId);
+                if (storedEntry == null) {
+                    continue;
+                }
+                replaceWithTouchedCopy(storedEntry, lastSeenDateMs, expiryDateMs);
+            }
+        }
+    }
+
+    // must be called while holding modificationLock
+    private void replaceWithTouchedCopy(StoredEntry<T> storedEntry, long lastSeenDateMs, long expiryDateMs) {
+        T discoveryEntry = storedEntry.discoveryEntry;
+        if (discoveryEntry.getLastSeenDateMs() == lastSeenDateMs && discoveryEntry.getExpiryDateMs() == expiryDateMs) {
+            return;
+        }
+        T touchedEntry = copyOf(discoveryEntry);
+        touchedEntry.setLastSeenDateMs(lastSeenDateMs);
+        touchedEntry.setExpiryDateMs(expiryDateMs);
+        StoredEntry<T> touchedStoredEntry = new StoredEntry<>(touchedEntry,
+                                                              storedEntry.domainInterfaceKey,
+                                                              storedEntry.registeredTimeMs);
+        String participantId = discoveryEntry.getParticipantId();
+        expiryIndex.remove(storedEntry);
+        participantIdToEntry.put(participantId, touchedStoredEntry);
+        Map<String, StoredEntry<T>> entriesOfDomainInterface = domainInterfaceToEntries.get(storedEntry.domainInterfaceKey);
+        if (entriesOfDomainInterface != null) {
+            entriesOfDomainInterface.put(participantId, touchedStoredEntry);
+        }
+        expiryIndex.add(touchedStoredEntry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends DiscoveryEntry> T copyOf(T discoveryEntry) {
+        if (discoveryEntry instanceof GlobalDiscoveryEntry) {
+            return (T) new GlobalDiscoveryEntry((GlobalDiscoveryEntry) discoveryEntry);
+        } else if (discoveryEntry instanceof DiscoveryEntryWithMetaInfo) {
+            return (T) new DiscoveryEntryWithMetaInfo((DiscoveryEntryWithMetaInfo) discoveryEntry);
+        }
+        return (T) new DiscoveryEntry(discoveryEntry);
+    }
+}
@@ -436,6 +436,29 @@ public class DiscoveryEntryStoreInMemory<T extends DiscoveryEntry> implements Di
         return participantIds.toArray(new String[participantIds.size()]);
     }
 
+    @Override
+    public String[] touchExpiringDiscoveryEntries(long lastSeenDateMs, long expiryDateMs, long maxExpiryDateMs) {
+        List<String> participantIds = new ArrayList<>();
+
+        synchronized (storeLock) {
+            for (T discoveryEntry : capabilityKeyToCapabilityMapping.values()) {
+                if (discoveryEntry.getExpiryDateMs() > maxExpiryDateMs) {
+                    continue;
+                }
+                if (discoveryEntry.getLastSeenDateMs() < lastSeenDateMs) {
+                    discoveryEntry.setLastSeenDateMs(lastSeenDateMs);
+                }
+                if (discoveryEntry.getExpiryDateMs() < expiryDateMs) {
+                    discoveryEntry.setExpiryDateMs(expiryDateMs);
+                }
+                if (discoveryEntry.getQos().getScope() == ProviderScope.GLOBAL) {
+                    participantIds.add(discoveryEntry.getParticipantId());
+                }
+            }
+        }
+        return participantIds.toArray(new String[participantIds.size()]);
+    }
+
     @Override
     public void touchDiscoveryEntries(String[] participantIds, long lastSeenDateMs, long expiryDateMs) {
         synchronized (storeLock) {
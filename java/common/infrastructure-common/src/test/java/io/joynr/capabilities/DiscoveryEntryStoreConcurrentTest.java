@@ -0,0 +1,325 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.joynr.exceptions.JoynrCommunicationException;
+import joynr.types.DiscoveryEntry;
+import joynr.types.GlobalDiscoveryEntry;
+import joynr.types.ProviderQos;
+import joynr.types.ProviderScope;
+import joynr.types.Version;
+
+public class DiscoveryEntryStoreConcurrentTest {
+
+    private DiscoveryEntryStoreConcurrent<DiscoveryEntry> discoveryEntryStore;
+
+    private DiscoveryEntry localEntry;
+    private DiscoveryEntry globalEntry;
+
+    private final String localParticipantId = "localId";
+    private final String globalParticipantId = "globalId";
+
+    private final long LAST_SEEN_DATE_MS = System.currentTimeMillis();
+    private final long EXPIRY_DATE_MS = LAST_SEEN_DATE_MS + 10000;
+
+    @Before
+    public void setUp() {
+        discoveryEntryStore = new DiscoveryEntryStoreConcurrent<DiscoveryEntry>(1000);
+
+        ProviderQos localProviderQos = new ProviderQos();
+        localProviderQos.setScope(ProviderScope.LOCAL);
+        ProviderQos globalProviderQos = new ProviderQos();
+        globalProviderQos.setScope(ProviderScope.GLOBAL);
+
+        localEntry = new DiscoveryEntry(new Version(),
+                                        "TEST_DOMAIN",
+                                        "interfaceName",
+                                        localParticipantId,
+                                        localProviderQos,
+                                        LAST_SEEN_DATE_MS,
+                                        EXPIRY_DATE_MS,
+                                        "Public");
+        globalEntry = new DiscoveryEntry(new Version(),
+                                         "TEST_DOMAIN",
+                                         "interfaceName",
+                                         globalParticipantId,
+                                         globalProviderQos,
+                                         LAST_SEEN_DATE_MS,
+                                         EXPIRY_DATE_MS,
+                                         "Public");
+    }
+
+    private DiscoveryEntry createEntry(String participantId, boolean isSticky) {
+        DiscoveryEntry entry = new DiscoveryEntry(globalEntry);
+        entry.setParticipantId(participantId);
+        if (isSticky) {
+            entry.setExpiryDateMs(Long.MAX_VALUE);
+        }
+        return entry;
+    }
+
+    @Test(expected = JoynrCommunicationException.class)
+    public void addWithNullThrows() {
+        discoveryEntryStore.add((DiscoveryEntry) null);
+    }
+
+    @Test
+    public void lookupIsCaseInsensitiveForDomainAndInterface() {
+        discoveryEntryStore.add(localEntry);
+
+        Collection<DiscoveryEntry> result = discoveryEntryStore.lookup(new String[]{ "test_domain" }, "INTERFACENAME");
+
+        assertEquals(1, result.size());
+        assertTrue(result.contains(localEntry));
+        assertTrue(discoveryEntryStore.hasDiscoveryEntry(localEntry));
+    }
+
+    @Test
+    public void addReplacesEntryWithSameParticipantId() {
+        discoveryEntryStore.add(localEntry);
+        DiscoveryEntry movedEntry = new DiscoveryEntry(localEntry);
+        movedEntry.setDomain("OTHER_DOMAIN");
+
+        discoveryEntryStore.add(movedEntry);
+
+        assertTrue(discoveryEntryStore.lookup(new String[]{ "TEST_DOMAIN" }, "interfaceName").isEmpty());
+        assertEquals(1, discoveryEntryStore.lookup(new String[]{ "OTHER_DOMAIN" }, "interfaceName").size());
+        assertFalse(discoveryEntryStore.hasDiscoveryEntry(localEntry));
+        assertTrue(discoveryEntryStore.hasDiscoveryEntry(movedEntry));
+    }
+
+    @Test
+    public void lookupRespectsCacheMaxAgeForGlobalEntries() throws Exception {
+        GlobalDiscoveryEntry entry = new GlobalDiscoveryEntry(new Version(),
+                                                              "TEST_DOMAIN",
+                                                              "interfaceName",
+                                                              globalParticipantId,
+                                                              new ProviderQos(),
+                                                              LAST_SEEN_DATE_MS,
+                                                              EXPIRY_DATE_MS,
+                                                              "Public",
+                                                              "address");
+        DiscoveryEntryStoreConcurrent<GlobalDiscoveryEntry> globalStore = new DiscoveryEntryStoreConcurrent<>(0);
+        globalStore.add(entry);
+        Thread.sleep(10);
+
+        assertFalse(globalStore.lookup(globalParticipantId, 0).isPresent());
+        assertTrue(globalStore.lookup(globalParticipantId, Long.MAX_VALUE).isPresent());
+        assertTrue(globalStore.lookup(new String[]{ "TEST_DOMAIN" }, "interfaceName", 0).isEmpty());
+        assertEquals(1, globalStore.lookup(new String[]{ "TEST_DOMAIN" }, "interfaceName").size());
+    }
+
+    @Test
+    public void touchDiscoveryEntriesReturnsGlobalParticipantIds() {
+        discoveryEntryStore.add(localEntry);
+        discoveryEntryStore.add(globalEntry);
+
+        String[] participantIds = discoveryEntryStore.touchDiscoveryEntries(LAST_SEEN_DATE_MS + 42,
+                                                                            EXPIRY_DATE_MS + 42);
+
+        assertEquals(1, participantIds.length);
+        assertEquals(globalParticipantId, participantIds[0]);
+        Optional<DiscoveryEntry> touchedLocalEntry = discoveryEntryStore.lookup(localParticipantId, Long.MAX_VALUE);
+        assertEquals(Long.valueOf(LAST_SEEN_DATE_MS + 42), touchedLocalEntry.get().getLastSeenDateMs());
+        assertEquals(Long.valueOf(EXPIRY_DATE_MS + 42), touchedLocalEntry.get().getExpiryDateMs());
+    }
+
+    @Test
+    public void touchExpiringDiscoveryEntriesOnlyTouchesEntriesExpiringUntilMaxExpiryDate() {
+        DiscoveryEntry expiringEntry = createEntry("expiringId", false);
+        expiringEntry.setExpiryDateMs(EXPIRY_DATE_MS - 1000);
+        DiscoveryEntry laterExpiringEntry = createEntry("laterExpiringId", false);
+        laterExpiringEntry.setExpiryDateMs(EXPIRY_DATE_MS + 1000);
+        discoveryEntryStore.add(laterExpiringEntry);
+        discoveryEntryStore.add(expiringEntry);
+        discoveryEntryStore.add(createEntry("stickyId", true));
+
+        final long newExpiryDateMs = EXPIRY_DATE_MS + 5000;
+        String[] participantIds = discoveryEntryStore.touchExpiringDiscoveryEntries(LAST_SEEN_DATE_MS + 42,
+                                                                                    newExpiryDateMs,
+                                                                                    EXPIRY_DATE_MS);
+
+        assertEquals(1, participantIds.length);
+        assertEquals("expiringId", participantIds[0]);
+        assertEquals(Long.valueOf(newExpiryDateMs),
+                     discoveryEntryStore.lookup("expiringId", Long.MAX_VALUE).get().getExpiryDateMs());
+        assertEquals(Long.valueOf(EXPIRY_DATE_MS + 1000),
+                     discoveryEntryStore.lookup("laterExpiringId", Long.MAX_VALUE).get().getExpiryDateMs());
+
+        // the touched entry has been moved to the end of the expiry index
+        participantIds = discoveryEntryStore.touchExpiringDiscoveryEntries(LAST_SEEN_DATE_MS + 43,
+                                                                           newExpiryDateMs,
+                                                                           EXPIRY_DATE_MS + 1000);
+        assertEquals(1, participantIds.length);
+        assertEquals("laterExpiringId", participantIds[0]);
+    }
+
+    @Test
+    public void getAllGlobalEntriesAndAllDiscoveryEntries() {
+        discoveryEntryStore.add(localEntry);
+        discoveryEntryStore.add(globalEntry);
+
+        assertEquals(1, discoveryEntryStore.getAllGlobalEntries().size());
+        assertEquals(2, discoveryEntryStore.getAllDiscoveryEntries().size());
+    }
+
+    @Test
+    public void storeIsLimitedToLeastRecentlyUsedNonStickyEntries() {
+        final int storeLimit = 5;
+        final int maxCount = 10;
+        discoveryEntryStore = new DiscoveryEntryStoreConcurrent<DiscoveryEntry>(storeLimit);
+        for (int i = 0; i < maxCount; i++) {
+            discoveryEntryStore.add(createEntry("nonStickyId" + i, false));
+            discoveryEntryStore.add(createEntry("stickyId" + i, true));
+        }
+        // re-adding moves the entry to the end of the eviction queue
+        discoveryEntryStore.add(createEntry("nonStickyId" + storeLimit, false));
+        discoveryEntryStore.add(createEntry("nonStickyId" + maxCount, false));
+
+        for (int i = 0; i <= storeLimit; i++) {
+            if (i == storeLimit) {
+                assertTrue(discoveryEntryStore.remove("nonStickyId" + i));
+            } else {
+                assertFalse(discoveryEntryStore.remove("nonStickyId" + i));
+            }
+        }
+        assertFalse(discoveryEntryStore.remove("nonStickyId" + (storeLimit + 1)));
+        for (int i = storeLimit + 2; i <= maxCount; i++) {
+            assertTrue(discoveryEntryStore.remove("nonStickyId" + i));
+        }
+        for (int i = 0; i < maxCount; i++) {
+            assertTrue(discoveryEntryStore.remove("stickyId" + i));
+        }
+        assertTrue(discoveryEntryStore.getAllDiscoveryEntries().isEmpty());
+    }
+
+    @Test
+    public void lookupMovesEntryToEndOfEvictionQueue() {
+        discoveryEntryStore = new DiscoveryEntryStoreConcurrent<DiscoveryEntry>(2);
+        discoveryEntryStore.add(createEntry("nonStickyId0", false));
+        discoveryEntryStore.add(createEntry("nonStickyId1", false));
+
+        assertTrue(discoveryEntryStore.lookup("nonStickyId0", Long.MAX_VALUE).isPresent());
+        discoveryEntryStore.add(createEntry("nonStickyId2", false));
+
+        assertTrue(discoveryEntryStore.lookup("nonStickyId0", Long.MAX_VALUE).isPresent());
+        assertFalse(discoveryEntryStore.lookup("nonStickyId1", Long.MAX_VALUE).isPresent());
+
+        assertEquals(2, discoveryEntryStore.lookup(new String[]{ "TEST_DOMAIN" }, "interfaceName").size());
+        discoveryEntryStore.lookup("nonStickyId0", Long.MAX_VALUE);
+        discoveryEntryStore.add(createEntry("nonStickyId3", false));
+
+        assertTrue(discoveryEntryStore.lookup("nonStickyId0", Long.MAX_VALUE).isPresent());
+        assertFalse(discoveryEntryStore.lookup("nonStickyId2", Long.MAX_VALUE).isPresent());
+        assertTrue(discoveryEntryStore.lookup("nonStickyId3", Long.MAX_VALUE).isPresent());
+    }
+
+    @Test
+    public void touchDoesNotModifyEntriesReturnedByLookup() {
+        discoveryEntryStore.add(globalEntry);
+        DiscoveryEntry lookedUpEntry = discoveryEntryStore.lookup(globalParticipantId, Long.MAX_VALUE).get();
+
+        discoveryEntryStore.touchDiscoveryEntries(LAST_SEEN_DATE_MS + 42, EXPIRY_DATE_MS + 42);
+        discoveryEntryStore.touchDiscoveryEntries(new String[]{ globalParticipantId },
+                                                  LAST_SEEN_DATE_MS + 43,
+                                                  EXPIRY_DATE_MS + 43);
+
+        assertEquals(Long.valueOf(LAST_SEEN_DATE_MS), lookedUpEntry.getLastSeenDateMs());
+        assertEquals(Long.valueOf(EXPIRY_DATE_MS), lookedUpEntry.getExpiryDateMs());
+        DiscoveryEntry touchedEntry = discoveryEntryStore.lookup(globalParticipantId, Long.MAX_VALUE).get();
+        assertEquals(Long.valueOf(LAST_SEEN_DATE_MS + 43), touchedEntry.getLastSeenDateMs());
+        assertEquals(Long.valueOf(EXPIRY_DATE_MS + 43), touchedEntry.getExpiryDateMs());
+        assertEquals(1, discoveryEntryStore.lookup(new String[]{ "TEST_DOMAIN" }, "interfaceName").size());
+        assertTrue(discoveryEntryStore.getAllDiscoveryEntries().contains(touchedEntry));
+    }
+
+    @Test
+    public void touchKeepsTypeOfStoredEntries() {
+        DiscoveryEntryStoreConcurrent<GlobalDiscoveryEntry> globalStore = new DiscoveryEntryStoreConcurrent<>(0);
+        globalStore.add(new GlobalDiscoveryEntry(new Version(),
+                                                 "TEST_DOMAIN",
+                                                 "interfaceName",
+                                                 globalParticipantId,
+                                                 new ProviderQos(),
+                                                 LAST_SEEN_DATE_MS,
+                                                 EXPIRY_DATE_MS,
+                                                 "Public",
+                                                 "address"));
+
+        globalStore.touchDiscoveryEntries(LAST_SEEN_DATE_MS + 42, EXPIRY_DATE_MS + 42);
+
+        GlobalDiscoveryEntry touchedEntry = globalStore.lookup(globalParticipantId, Long.MAX_VALUE).get();
+        assertEquals("address", touchedEntry.getAddress());
+        assertEquals(Long.valueOf(EXPIRY_DATE_MS + 42), touchedEntry.getExpiryDateMs());
+    }
+
+    @Test
+    public void concurrentAddAndLookupKeepIndexesConsistent() throws Exception {
+        final int numberOfThreads = 4;
+        final int entriesPerThread = 1000;
+        discoveryEntryStore = new DiscoveryEntryStoreConcurrent<DiscoveryEntry>(0);
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < numberOfThreads; t++) {
+            final int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < entriesPerThread; i++) {
+                    discoveryEntryStore.add(createEntry("participant-" + threadIndex + "-" + i, true));
+                }
+                return null;
+            }));
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < entriesPerThread; i++) {
+                    discoveryEntryStore.lookup(new String[]{ "TEST_DOMAIN" }, "interfaceName");
+                    discoveryEntryStore.touchDiscoveryEntries(LAST_SEEN_DATE_MS, EXPIRY_DATE_MS);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(numberOfThreads * entriesPerThread,
+                     discoveryEntryStore.lookup(new String[]{ "TEST_DOMAIN" }, "interfaceName").size());
+        assertEquals(numberOfThreads * entriesPerThread, discoveryEntryStore.getAllDiscoveryEntries().size());
+    }
+}
@@ -83,4 +83,10 @@ public interface ConnectionStatusMetrics {
      *     after a connection loss are not available.
      */
     long getConnectionAttempts();
+
+    /**
+     * @return Returns the histogram of the time between publishing a message and the acknowledgement of the publish
+     * by the broker.
+     */
+    LatencyHistogram getPublishAckLatencyHistogram();
 }
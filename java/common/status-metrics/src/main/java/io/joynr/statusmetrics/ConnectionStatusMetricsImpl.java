@@ -41,6 +41,8 @@ public class ConnectionStatusMetricsImpl implements ConnectionStatusMetrics {
     private AtomicLong connectionDrops = new AtomicLong();
     private AtomicLong connectionAttempts = new AtomicLong();
 
+    private LatencyHistogramImpl publishAckLatencyHistogram = new LatencyHistogramImpl();
+
     public void setGbid(String gbid) {
         this.gbid = Optional.of(gbid);
     }
@@ -75,6 +77,10 @@ public class ConnectionStatusMetricsImpl implements ConnectionStatusMetrics {
         sentMessages.incrementAndGet();
     }
 
+    public void recordPublishAckLatency(long latencyNs) {
+        publishAckLatencyHistogram.recordNanos(latencyNs);
+    }
+
     public void increaseConnectionDrops() {
         connectionDrops.incrementAndGet();
     }
@@ -137,4 +143,9 @@ public class ConnectionStatusMetricsImpl implements ConnectionStatusMetrics {
     public long getConnectionAttempts() {
         return connectionAttempts.get();
     }
+
+    @Override
+    public LatencyHistogram getPublishAckLatencyHistogram() {
+        return publishAckLatencyHistogram;
+    }
 }
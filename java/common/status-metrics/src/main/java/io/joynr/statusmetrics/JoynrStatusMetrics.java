@@ -19,6 +19,7 @@
 package io.joynr.statusmetrics;
 
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * Can be injected to receive status metrics from joynr. These metrics are useful to monitor the state of a service.
@@ -39,4 +40,77 @@ public interface JoynrStatusMetrics {
      * @return Returns the number of request messages which were discarded because the message queue reached its upper limit.
      */
     long getNumDroppedMessages();
+
+    /**
+     * @return Returns the number of proxy arbitrations which succeeded.
+     */
+    long getNumSuccessfulArbitrations();
+
+    /**
+     * @return Returns the number of proxy arbitrations which failed or timed out.
+     */
+    long getNumFailedArbitrations();
+
+    /**
+     * @return Returns the longest duration in milliseconds of a successful proxy arbitration, from the creation of
+     * the arbitrator until a provider was selected.
+     */
+    long getMaxArbitrationDurationMs();
+
+    /**
+     * @return Returns the time in milliseconds between the start of the joynr runtime and the first successful proxy
+     * arbitration, i.e. until the first proxy was ready to be used. Returns -1 if no arbitration has succeeded yet.
+     */
+    long getTimeToFirstSuccessfulArbitrationMs();
+
+    /**
+     * @param stage the message processing stage
+     * @return Returns the latency histogram of the given message processing stage.
+     */
+    LatencyHistogram getLatencyHistogram(LatencyStage stage);
+
+    /**
+     * @return Returns the round-trip latency histograms of RPC calls made by proxies of this runtime, keyed by
+     * "interfaceName.methodName". Only calls for which a reply was received are recorded.
+     */
+    Map<String, LatencyHistogram> getRpcRoundTripLatencyHistograms();
+
+    /**
+     * @return Returns the number of messages currently waiting in the message queue for their first send attempt.
+     */
+    long getNumQueuedMessages();
+
+    /**
+     * @return Returns the number of messages currently waiting in the message queue for another send attempt, i.e.
+     * messages which are delayed because a previous attempt failed.
+     */
+    long getNumQueuedRetryMessages();
+
+    /**
+     * @return Returns the total number of send attempts which have been rescheduled after a failure.
+     */
+    long getNumMessageRetries();
+
+    /**
+     * @return Returns the number of running message worker threads.
+     */
+    long getNumMessageWorkers();
+
+    /**
+     * @return Returns the number of message worker threads which are currently processing a message. The number of
+     * idle workers is the difference to {@link #getNumMessageWorkers()}.
+     */
+    long getNumBusyMessageWorkers();
+
+    /**
+     * @return Returns the number of messages which have been handed to a messaging stub and are not yet acknowledged
+     * as sent or failed, keyed by the simple class name of the destination address type.
+     */
+    Map<String, Long> getNumInFlightSends();
+
+    /**
+     * @return Returns the number of proxies which have been built and not yet been cleaned up after garbage
+     * collection. The cleanup lag is recorded in the {@link LatencyStage#PROXY_CLEANUP} latency histogram.
+     */
+    long getNumLiveProxies();
 }
@@ -20,9 +20,16 @@ package io.joynr.statusmetrics;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.Optional;
 
 import com.google.inject.Singleton;
@@ -33,6 +40,28 @@ public class JoynrStatusMetricsAggregator implements JoynrStatusMetricsReceiver
 
     private AtomicLong droppedMessages = new AtomicLong();
 
+    private AtomicLong successfulArbitrations = new AtomicLong();
+    private AtomicLong failedArbitrations = new AtomicLong();
+    private AtomicLong maxArbitrationDurationMs = new AtomicLong();
+    private AtomicLong timeToFirstSuccessfulArbitrationMs = new AtomicLong(-1);
+
+    private Map<LatencyStage, LatencyHistogramImpl> latencyHistograms = new EnumMap<>(LatencyStage.class);
+    private ConcurrentMap<String, LatencyHistogramImpl> rpcRoundTripLatencyHistograms = new ConcurrentHashMap<>();
+
+    private LongAdder queuedMessages = new LongAdder();
+    private LongAdder queuedRetryMessages = new LongAdder();
+    private LongAdder messageRetries = new LongAdder();
+    private LongAdder messageWorkers = new LongAdder();
+    private LongAdder busyMessageWorkers = new LongAdder();
+    private ConcurrentMap<String, LongAdder> inFlightSends = new ConcurrentHashMap<>();
+    private LongAdder liveProxies = new LongAdder();
+
+    public JoynrStatusMetricsAggregator() {
+        for (LatencyStage stage : LatencyStage.values()) {
+            latencyHistograms.put(stage, new LatencyHistogramImpl());
+        }
+    }
+
     @Override
     public Collection<ConnectionStatusMetrics> getAllConnectionStatusMetrics() {
         List<ConnectionStatusMetrics> returnList = new ArrayList<ConnectionStatusMetrics>(connectionStatusMetricsList);
@@ -63,4 +92,164 @@ public class JoynrStatusMetricsAggregator implements JoynrStatusMetricsReceiver
     public long getNumDroppedMessages() {
         return droppedMessages.get();
     }
+
+    @Override
+    public void notifyArbitrationFinished(boolean successful,
+                                          long arbitrationDurationMs,
+                                          long timeSinceRuntimeStartMs) {
+        if (!successful) {
+            failedArbitrations.incrementAndGet();
+            return;
+        }
+        successfulArbitrations.incrementAndGet();
+        maxArbitrationDurationMs.accumulateAndGet(arbitrationDurationMs, Math::max);
+        timeToFirstSuccessfulArbitrationMs.compareAndSet(-1, timeSinceRuntimeStartMs);
+    }
+
+    @Override
+    public long getNumSuccessfulArbitrations() {
+        return successfulArbitrations.get();
+    }
+
+    @Override
+    public long getNumFailedArbitrations() {
+        return failedArbitrations.get();
+    }
+
+    @Override
+    public long getMaxArbitrationDurationMs() {
+        return maxArbitrationDurationMs.get();
+    }
+
+    @Override
+    public long getTimeToFirstSuccessfulArbitrationMs() {
+        return timeToFirstSuccessfulArbitrationMs.get();
+    }
+
+    @Override
+    public void notifyLatency(LatencyStage stage, long latencyNs) {
+        latencyHistograms.get(stage).recordNanos(latencyNs);
+    }
+
+    @Override
+    public void notifyRpcRoundTripLatency(String interfaceName, String methodName, long latencyNs) {
+        rpcRoundTripLatencyHistograms.computeIfAbsent(interfaceName + "." + methodName,
+                                                      key -> new LatencyHistogramImpl())
+                                     .recordNanos(latencyNs);
+    }
+
+    @Override
+    public LatencyHistogram getLatencyHistogram(LatencyStage stage) {
+        return latencyHistograms.get(stage);
+    }
+
+    @Override
+    public Map<String, LatencyHistogram> getRpcRoundTripLatencyHistograms() {
+        return Collections.unmodifiableMap(rpcRoundTripLatencyHistograms);
+    }
+
+    @Override
+    public void notifyMessageEnqueued(boolean isRetry) {
+        if (isRetry) {
+            messageRetries.increment();
+            queuedRetryMessages.increment();
+        } else {
+            queuedMessages.increment();
+        }
+    }
+
+    @Override
+    public void notifyMessageDequeued(boolean isRetry) {
+        if (isRetry) {
+            queuedRetryMessages.decrement();
+        } else {
+            queuedMessages.decrement();
+        }
+    }
+
+    @Override
+    public void notifyMessageWorkerStarted() {
+        messageWorkers.increment();
+    }
+
+    @Override
+    public void notifyMessageWorkerStopped() {
+        messageWorkers.decrement();
+    }
+
+    @Override
+    public void notifyMessageWorkerBusy() {
+        busyMessageWorkers.increment();
+    }
+
+    @Override
+    public void notifyMessageWorkerIdle() {
+        busyMessageWorkers.decrement();
+    }
+
+    @Override
+    public void notifySendStarted(String addressType) {
+        getInFlightSendsCounter(addressType).increment();
+    }
+
+    @Override
+    public void notifySendFinished(String addressType) {
+        getInFlightSendsCounter(addressType).decrement();
+    }
+
+    @Override
+    public void notifyProxyRegistered() {
+        liveProxies.increment();
+    }
+
+    @Override
+    public void notifyProxyCleanedUp(long cleanupLagNs) {
+        liveProxies.decrement();
+        notifyLatency(LatencyStage.PROXY_CLEANUP, cleanupLagNs);
+    }
+
+    private LongAdder getInFlightSendsCounter(String addressType) {
+        LongAdder counter = inFlightSends.get(addressType);
+        if (counter == null) {
+            counter = inFlightSends.computeIfAbsent(addressType, key -> new LongAdder());
+        }
+        return counter;
+    }
+
+    @Override
+    public long getNumQueuedMessages() {
+        return queuedMessages.sum();
+    }
+
+    @Override
+    public long getNumQueuedRetryMessages() {
+        return queuedRetryMessages.sum();
+    }
+
+    @Override
+    public long getNumMessageRetries() {
+        return messageRetries.sum();
+    }
+
+    @Override
+    public long getNumMessageWorkers() {
+        return messageWorkers.sum();
+    }
+
+    @Override
+    public long getNumBusyMessageWorkers() {
+        return busyMessageWorkers.sum();
+    }
+
+    @Override
+    public Map<String, Long> getNumInFlightSends() {
+        Map<String, Long> result = new HashMap<>();
+        inFlightSends.forEach((addressType, counter) -> result.put(addressType, counter.sum()));
+        return result;
+    }
+
+    @Override
+    public long getNumLiveProxies() {
+        return liveProxies.sum();
+    }
 }
@@ -24,4 +24,66 @@ public interface JoynrStatusMetricsReceiver extends JoynrStatusMetrics {
 
     void notifyMessageDropped();
 
+    /**
+     * @param successful whether a provider was selected
+     * @param arbitrationDurationMs the duration of the arbitration in milliseconds
+     * @param timeSinceRuntimeStartMs the time in milliseconds since the start of the joynr runtime
+     */
+    void notifyArbitrationFinished(boolean successful, long arbitrationDurationMs, long timeSinceRuntimeStartMs);
+
+    /**
+     * @param stage the message processing stage
+     * @param latencyNs the latency in nanoseconds, measured with {@link System#nanoTime()}
+     */
+    void notifyLatency(LatencyStage stage, long latencyNs);
+
+    /**
+     * @param interfaceName the name of the called interface
+     * @param methodName the name of the called method
+     * @param latencyNs the time in nanoseconds between sending the request and receiving the reply
+     */
+    void notifyRpcRoundTripLatency(String interfaceName, String methodName, long latencyNs);
+
+    /**
+     * @param isRetry whether the message is queued again for another send attempt
+     */
+    void notifyMessageEnqueued(boolean isRetry);
+
+    /**
+     * @param isRetry whether the message was queued for another send attempt
+     */
+    void notifyMessageDequeued(boolean isRetry);
+
+    void notifyMessageWorkerStarted();
+
+    void notifyMessageWorkerStopped();
+
+    /**
+     * Called when a message worker took a message from the queue and starts processing it.
+     */
+    void notifyMessageWorkerBusy();
+
+    /**
+     * Called when a message worker finished processing a message and waits for the next one.
+     */
+    void notifyMessageWorkerIdle();
+
+    /**
+     * @param addressType the simple class name of the address the message is sent to, e.g. MqttAddress
+     */
+    void notifySendStarted(String addressType);
+
+    /**
+     * @param addressType the simple class name of the address the message was sent to, e.g. MqttAddress
+     */
+    void notifySendFinished(String addressType);
+
+    void notifyProxyRegistered();
+
+    /**
+     * @param cleanupLagNs the time in nanoseconds from taking the garbage collected proxy from the reference queue
+     * until its routing entries were removed
+     */
+    void notifyProxyCleanedUp(long cleanupLagNs);
+
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.statusmetrics;
+
+/**
+ * Distribution of recorded latencies. All values are given in microseconds.
+ * The reported percentiles have a relative error of at most 1/32 of the actual value.
+ */
+public interface LatencyHistogram {
+
+    /**
+     * @return Returns the number of recorded values.
+     */
+    long getCount();
+
+    /**
+     * @return Returns the largest recorded value, or 0 if no value has been recorded.
+     */
+    long getMaxUs();
+
+    /**
+     * @return Returns the mean of the recorded values, or 0 if no value has been recorded.
+     */
+    double getMeanUs();
+
+    /**
+     * @param percentile the requested percentile, between 0 and 100
+     * @return Returns the value below or at which the given percentage of the recorded values lie, or 0 if no value
+     * has been recorded.
+     */
+    long getValueAtPercentileUs(double percentile);
+}
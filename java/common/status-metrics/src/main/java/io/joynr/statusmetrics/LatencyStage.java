@@ -0,0 +1,44 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.statusmetrics;
+
+/**
+ * Processing stages of joynr messages for which latency histograms are recorded.
+ */
+public enum LatencyStage {
+    /**
+     * Time a message waited in the message queue of the message router after it became due for processing.
+     */
+    MESSAGE_QUEUE,
+    /**
+     * Time from handing a message over to the message router until it is passed to the messaging stub for
+     * transmission, including retries.
+     */
+    ROUTING,
+    /**
+     * Execution time of provider methods, from invoking the provider method until the returned promise is settled,
+     * or until the invocation fails synchronously.
+     */
+    PROVIDER_EXECUTION,
+    /**
+     * Time from taking a garbage collected proxy from the reference queue until its routing entries have been
+     * removed, including the time spent on other proxies collected in the same batch.
+     */
+    PROXY_CLEANUP
+}
@@ -25,6 +25,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -114,4 +115,12 @@ public class ConnectionStatusMetricsImplTest {
         subject.setReplyReceiver(true);
         assertTrue(subject.isReplyReceiver());
     }
+
+    @Test
+    public void testRecordPublishAckLatency() {
+        assertEquals(0, subject.getPublishAckLatencyHistogram().getCount());
+        subject.recordPublishAckLatency(TimeUnit.MILLISECONDS.toNanos(2));
+        assertEquals(1, subject.getPublishAckLatencyHistogram().getCount());
+        assertEquals(2000, subject.getPublishAckLatencyHistogram().getMaxUs());
+    }
 }
@@ -19,6 +19,10 @@
 package io.joynr.statusmetrics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -33,6 +37,111 @@ public class JoynrStatusMetricsAggregatorTest {
         assertEquals(1, subject.getNumDroppedMessages());
     }
 
+    @Test
+    public void testNotifyArbitrationFinished() {
+        assertEquals(-1, subject.getTimeToFirstSuccessfulArbitrationMs());
+
+        subject.notifyArbitrationFinished(false, 500, 600);
+        assertEquals(1, subject.getNumFailedArbitrations());
+        assertEquals(0, subject.getNumSuccessfulArbitrations());
+        assertEquals(-1, subject.getTimeToFirstSuccessfulArbitrationMs());
+
+        subject.notifyArbitrationFinished(true, 100, 700);
+        subject.notifyArbitrationFinished(true, 300, 800);
+        subject.notifyArbitrationFinished(true, 200, 900);
+        assertEquals(1, subject.getNumFailedArbitrations());
+        assertEquals(3, subject.getNumSuccessfulArbitrations());
+        assertEquals(300, subject.getMaxArbitrationDurationMs());
+        assertEquals(700, subject.getTimeToFirstSuccessfulArbitrationMs());
+    }
+
+    @Test
+    public void testNotifyLatency() {
+        for (LatencyStage stage : LatencyStage.values()) {
+            assertEquals(0, subject.getLatencyHistogram(stage).getCount());
+        }
+
+        subject.notifyLatency(LatencyStage.MESSAGE_QUEUE, 5000);
+        subject.notifyLatency(LatencyStage.MESSAGE_QUEUE, 7000);
+        subject.notifyLatency(LatencyStage.ROUTING, 9000);
+
+        assertEquals(2, subject.getLatencyHistogram(LatencyStage.MESSAGE_QUEUE).getCount());
+        assertEquals(7, subject.getLatencyHistogram(LatencyStage.MESSAGE_QUEUE).getMaxUs());
+        assertEquals(1, subject.getLatencyHistogram(LatencyStage.ROUTING).getCount());
+        assertEquals(0, subject.getLatencyHistogram(LatencyStage.PROVIDER_EXECUTION).getCount());
+    }
+
+    @Test
+    public void testNotifyRpcRoundTripLatency() {
+        assertTrue(subject.getRpcRoundTripLatencyHistograms().isEmpty());
+
+        subject.notifyRpcRoundTripLatency("some/interface", "methodA", 1000);
+        subject.notifyRpcRoundTripLatency("some/interface", "methodA", 3000);
+        subject.notifyRpcRoundTripLatency("some/interface", "methodB", 2000);
+
+        Map<String, LatencyHistogram> histograms = subject.getRpcRoundTripLatencyHistograms();
+        assertEquals(2, histograms.size());
+        assertEquals(2, histograms.get("some/interface.methodA").getCount());
+        assertEquals(3, histograms.get("some/interface.methodA").getMaxUs());
+        assertEquals(1, histograms.get("some/interface.methodB").getCount());
+    }
+
+    @Test
+    public void testQueueAndWorkerGauges() {
+        subject.notifyMessageWorkerStarted();
+        subject.notifyMessageWorkerStarted();
+        subject.notifyMessageEnqueued(false);
+        subject.notifyMessageEnqueued(false);
+        subject.notifyMessageEnqueued(true);
+
+        assertEquals(2, subject.getNumMessageWorkers());
+        assertEquals(2, subject.getNumQueuedMessages());
+        assertEquals(1, subject.getNumQueuedRetryMessages());
+        assertEquals(1, subject.getNumMessageRetries());
+
+        subject.notifyMessageDequeued(true);
+        subject.notifyMessageWorkerBusy();
+
+        assertEquals(2, subject.getNumQueuedMessages());
+        assertEquals(0, subject.getNumQueuedRetryMessages());
+        assertEquals(1, subject.getNumMessageRetries());
+        assertEquals(1, subject.getNumBusyMessageWorkers());
+
+        subject.notifyMessageWorkerIdle();
+        subject.notifyMessageWorkerStopped();
+
+        assertEquals(0, subject.getNumBusyMessageWorkers());
+        assertEquals(1, subject.getNumMessageWorkers());
+    }
+
+    @Test
+    public void testInFlightSendsPerAddressType() {
+        assertTrue(subject.getNumInFlightSends().isEmpty());
+
+        subject.notifySendStarted("MqttAddress");
+        subject.notifySendStarted("MqttAddress");
+        subject.notifySendStarted("WebSocketClientAddress");
+        subject.notifySendFinished("MqttAddress");
+
+        Map<String, Long> inFlightSends = subject.getNumInFlightSends();
+        assertEquals(2, inFlightSends.size());
+        assertEquals(Long.valueOf(1), inFlightSends.get("MqttAddress"));
+        assertEquals(Long.valueOf(1), inFlightSends.get("WebSocketClientAddress"));
+    }
+
+    @Test
+    public void testLiveProxiesAndCleanupLag() {
+        assertEquals(0, subject.getNumLiveProxies());
+
+        subject.notifyProxyRegistered();
+        subject.notifyProxyRegistered();
+        subject.notifyProxyCleanedUp(TimeUnit.MILLISECONDS.toNanos(3));
+
+        assertEquals(1, subject.getNumLiveProxies());
+        assertEquals(1, subject.getLatencyHistogram(LatencyStage.PROXY_CLEANUP).getCount());
+        assertEquals(3000, subject.getLatencyHistogram(LatencyStage.PROXY_CLEANUP).getMaxUs());
+    }
+
     @Test
     public void addSingleConnectionStatusMetricsWithGbid() {
         String gbid1 = "gbid1";
@@ -0,0 +1,124 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.statusmetrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogramImpl}.
+ */
+public class LatencyHistogramImplTest {
+    private LatencyHistogramImpl subject = new LatencyHistogramImpl();
+
+    @Test
+    public void testEmptyHistogram() {
+        assertEquals(0, subject.getCount());
+        assertEquals(0, subject.getMaxUs());
+        assertEquals(0, subject.getMeanUs(), 0);
+        assertEquals(0, subject.getValueAtPercentileUs(50));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        for (int value = 1; value <= 10; value++) {
+            subject.recordValue(value);
+        }
+        assertEquals(10, subject.getCount());
+        assertEquals(10, subject.getMaxUs());
+        assertEquals(5.5, subject.getMeanUs(), 0.001);
+        assertEquals(5, subject.getValueAtPercentileUs(50));
+        assertEquals(9, subject.getValueAtPercentileUs(90));
+        assertEquals(10, subject.getValueAtPercentileUs(100));
+        assertEquals(1, subject.getValueAtPercentileUs(0));
+    }
+
+    @Test
+    public void testPercentilesOfLargeValuesAreWithinPrecision() {
+        for (long value = 1; value <= 100000; value++) {
+            subject.recordValue(value);
+        }
+        assertWithinPrecision(50000, subject.getValueAtPercentileUs(50));
+        assertWithinPrecision(99000, subject.getValueAtPercentileUs(99));
+        assertEquals(100000, subject.getValueAtPercentileUs(100));
+        assertEquals(100000, subject.getMaxUs());
+    }
+
+    @Test
+    public void testOutOfRangeValuesAreClamped() {
+        subject.recordValue(-5);
+        subject.recordValue(Long.MAX_VALUE);
+        assertEquals(2, subject.getCount());
+        assertEquals(0, subject.getValueAtPercentileUs(50));
+        assertTrue(subject.getMaxUs() > TimeUnit.HOURS.toMicros(19));
+    }
+
+    @Test
+    public void testRecordNanos() {
+        subject.recordNanos(TimeUnit.MILLISECONDS.toNanos(3));
+        assertEquals(3000, subject.getMaxUs());
+    }
+
+    @Test
+    public void testIndexAndHighestValueAreConsistent() {
+        for (long value = 0; value < 1000000; value += 7) {
+            int index = LatencyHistogramImpl.indexOf(value);
+            assertTrue(LatencyHistogramImpl.highestValueOf(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogramImpl.highestValueOf(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        final int numberOfThreads = 4;
+        final int valuesPerThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < numberOfThreads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 1; i <= valuesPerThread; i++) {
+                    subject.recordValue(i);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(numberOfThreads * valuesPerThread, subject.getCount());
+        assertEquals(valuesPerThread, subject.getMaxUs());
+    }
+
+    private void assertWithinPrecision(long expected, long actual) {
+        assertTrue("expected " + expected + " but was " + actual,
+                   actual >= expected && actual <= expected + expected / 32);
+    }
+}
@@ -38,9 +38,12 @@ import io.joynr.messaging.MessagingPropertyKeys;
 import io.joynr.messaging.MessagingQos;
 import io.joynr.proxy.Callback;
 import io.joynr.proxy.CallbackWithModeledError;
+import io.joynr.proxy.Future;
 import io.joynr.proxy.ProxyBuilder;
 import io.joynr.proxy.ProxyBuilderFactory;
 import joynr.Message;
+import joynr.MulticastSubscriptionQos;
+import joynr.infrastructure.GlobalCapabilitiesDirectoryBroadcastInterface.GlobalDiscoveryEntryChangedBroadcastListener;
 import joynr.infrastructure.GlobalCapabilitiesDirectoryProxy;
 import joynr.types.DiscoveryError;
 import joynr.types.GlobalDiscoveryEntry;
@@ -163,6 +166,27 @@ public class GlobalCapabilitiesDirectoryClient {
         getGcdProxy().touch(callback, localChannelId, participantIds, messagingQos);
     }
 
+    // Touch all providers registered with this cluster controller id
+    public void touch(Callback<Void> callback, String targetGbid) {
+        MessagingQos messagingQos = new MessagingQos(freshnessUpdateIntervalMs);
+        messagingQos.putCustomMessageHeader(Message.CUSTOM_HEADER_GBID_KEY, targetGbid);
+        getGcdProxy().touch(callback, localChannelId, messagingQos);
+    }
+
+    // Subscribe to added, updated and removed global discovery entries of the given multicast partitions
+    public Future<String> subscribeToGlobalDiscoveryEntryChanged(String subscriptionId,
+                                                                 GlobalDiscoveryEntryChangedBroadcastListener listener,
+                                                                 String... partitions) {
+        return getGcdProxy().subscribeToGlobalDiscoveryEntryChangedBroadcast(subscriptionId,
+                                                                             listener,
+                                                                             new MulticastSubscriptionQos(),
+                                                                             partitions);
+    }
+
+    public void unsubscribeFromGlobalDiscoveryEntryChanged(String subscriptionId) {
+        getGcdProxy().unsubscribeFromGlobalDiscoveryEntryChangedBroadcast(subscriptionId);
+    }
+
     // Remove stale providers (registered with the same cluster controller id in a previous lifecycle)
     public void removeStale(Callback<Void> callback, long maxLastSeenDateMs, String gbid) {
         long removeStaleTtl = 60 * 1000L;
@@ -0,0 +1,244 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.CallbackWithModeledError;
+import joynr.types.DiscoveryError;
+import joynr.types.GlobalDiscoveryEntry;
+
+/**
+ * Deduplicates global lookups by domains, interfaceName and GBIDs.
+ * <p>
+ * Only a single lookup per key is sent to the global capabilities directory at a time; lookups for the
+ * same key which are started while it is in flight are completed with its result.
+ * <p>
+ * Negative results (no entries found or {@link DiscoveryError#NO_ENTRY_FOR_SELECTED_BACKENDS}) are
+ * remembered for at most negativeCacheMaxAgeMs. A remembered negative result is only returned if it is
+ * not older than the cacheMaxAge of the lookup, i.e. lookups with cacheMaxAge 0 are always sent to the
+ * global capabilities directory (or joined to an in flight lookup).
+ */
+class GlobalLookupCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalLookupCoalescer.class);
+
+    static final class LookupKey {
+        private final List<String> domains;
+        private final String interfaceName;
+        private final List<String> gbids;
+
+        LookupKey(String[] domains, String interfaceName, String[] gbids) {
+            this.domains = Arrays.asList(domains.clone());
+            this.interfaceName = interfaceName;
+            this.gbids = Arrays.asList(gbids.clone());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * domains.hashCode() + interfaceName.hashCode()) + gbids.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LookupKey)) {
+                return false;
+            }
+            LookupKey other = (LookupKey) obj;
+            return domains.equals(other.domains) && interfaceName.equals(other.interfaceName)
+                    && gbids.equals(other.gbids);
+        }
+
+        @Override
+        public String toString() {
+            return "domains=" + domains + ", interfaceName=" + interfaceName + ", gbids=" + gbids;
+        }
+    }
+
+    private static final class InFlightLookup {
+        private final List<CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError>> callbacks = new ArrayList<>();
+        private final long deadlineMs;
+
+        InFlightLookup(long deadlineMs) {
+            this.deadlineMs = deadlineMs;
+        }
+    }
+
+    private static final class NegativeResult {
+        private final long timestampMs;
+        // null if the lookup succeeded without any entries
+        private final DiscoveryError error;
+
+        NegativeResult(long timestampMs, DiscoveryError error) {
+            this.timestampMs = timestampMs;
+            this.error = error;
+        }
+    }
+
+    private final long negativeCacheMaxAgeMs;
+    private final Map<LookupKey, InFlightLookup> inFlightLookups = new HashMap<>();
+    // oldest negative result first
+    private final LinkedHashMap<LookupKey, NegativeResult> negativeResults = new LinkedHashMap<>();
+
+    GlobalLookupCoalescer(long negativeCacheMaxAgeMs) {
+        this.negativeCacheMaxAgeMs = negativeCacheMaxAgeMs;
+    }
+
+    /**
+     * Look up global discovery entries.
+     *
+     * @param domains the domains of the lookup
+     * @param interfaceName the interface name of the lookup
+     * @param gbids the GBIDs of the lookup
+     * @param cacheMaxAge the maximum age of a remembered negative result which may be returned
+     * @param ttl the time to live of the global lookup in milliseconds
+     * @param callback the callback to be completed with the result of the lookup
+     * @param globalLookup starts the lookup at the global capabilities directory with the provided callback
+     */
+    void lookup(String[] domains,
+                String interfaceName,
+                String[] gbids,
+                long cacheMaxAge,
+                long ttl,
+                CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError> callback,
+                Consumer<CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError>> globalLookup) {
+        final LookupKey key = new LookupKey(domains, interfaceName, gbids);
+        final InFlightLookup inFlightLookup;
+        NegativeResult negativeResult = null;
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            NegativeResult remembered = negativeResults.get(key);
+            if (remembered != null && now - remembered.timestampMs <= Math.min(cacheMaxAge, negativeCacheMaxAgeMs)) {
+                negativeResult = remembered;
+                inFlightLookup = null;
+            } else {
+                InFlightLookup existing = inFlightLookups.get(key);
+                if (existing != null && existing.deadlineMs >= now) {
+                    logger.trace("Global lookup for {} already in flight, waiting for its result.", key);
+                    existing.callbacks.add(callback);
+                    return;
+                }
+                inFlightLookup = new InFlightLookup(now + ttl);
+                inFlightLookup.callbacks.add(callback);
+                inFlightLookups.put(key, inFlightLookup);
+            }
+        }
+
+        if (negativeResult != null) {
+            logger.trace("Returning remembered negative result of global lookup for {}.", key);
+            if (negativeResult.error == null) {
+                callback.onSuccess(Collections.emptyList());
+            } else {
+                callback.onFailure(negativeResult.error);
+            }
+            return;
+        }
+
+        globalLookup.accept(new CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError>() {
+            @Override
+            public void onSuccess(List<GlobalDiscoveryEntry> result) {
+                boolean isNegative = result != null && result.isEmpty();
+                for (CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError> waitingCallback : complete(key,
+                                                                                                                     inFlightLookup,
+                                                                                                                     isNegative,
+                                                                                                                     null)) {
+                    waitingCallback.onSuccess(result);
+                }
+            }
+
+            @Override
+            public void onFailure(DiscoveryError errorEnum) {
+                boolean isNegative = errorEnum == DiscoveryError.NO_ENTRY_FOR_SELECTED_BACKENDS;
+                for (CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError> waitingCallback : complete(key,
+                                                                                                                     inFlightLookup,
+                                                                                                                     isNegative,
+                                                                                                                     errorEnum)) {
+                    waitingCallback.onFailure(errorEnum);
+                }
+            }
+
+            @Override
+            public void onFailure(JoynrRuntimeException runtimeException) {
+                for (CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError> waitingCallback : complete(key,
+                                                                                                                     inFlightLookup,
+                                                                                                                     false,
+                                                                                                                     null)) {
+                    waitingCallback.onFailure(runtimeException);
+                }
+            }
+        });
+    }
+
+    /**
+     * Forgets the remembered negative results of all lookups which include the given domain and
+     * interfaceName, e.g. because a matching entry has been added in the meantime.
+     *
+     * @param domain the domain of the changed entry
+     * @param interfaceName the interface name of the changed entry
+     */
+    synchronized void invalidateNegativeResults(String domain, String interfaceName) {
+        negativeResults.keySet()
+                       .removeIf(key -> key.interfaceName.equals(interfaceName) && key.domains.contains(domain));
+    }
+
+    private synchronized List<CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError>> complete(LookupKey key,
+                                                                                                             InFlightLookup inFlightLookup,
+                                                                                                             boolean isNegative,
+                                                                                                             DiscoveryError error) {
+        // a newer lookup might have replaced this one if it exceeded its deadline
+        inFlightLookups.remove(key, inFlightLookup);
+        if (negativeCacheMaxAgeMs > 0) {
+            long now = System.currentTimeMillis();
+            removeOutdatedNegativeResults(now);
+            negativeResults.remove(key);
+            if (isNegative) {
+                negativeResults.put(key, new NegativeResult(now, error));
+            }
+        }
+        if (inFlightLookup.callbacks.size() > 1) {
+            logger.debug("Global lookup for {} completed {} waiting lookups.", key, inFlightLookup.callbacks.size());
+        }
+        return inFlightLookup.callbacks;
+    }
+
+    private void removeOutdatedNegativeResults(long now) {
+        Iterator<NegativeResult> iterator = negativeResults.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().timestampMs <= negativeCacheMaxAgeMs) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+}
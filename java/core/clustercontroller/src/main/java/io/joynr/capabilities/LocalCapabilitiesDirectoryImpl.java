@@ -18,18 +18,21 @@
  */
 package io.joynr.capabilities;
 
+import static io.joynr.runtime.SystemServicesSettings.PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_COMPACT_TOUCH;
+import static io.joynr.runtime.SystemServicesSettings.PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_EXPIRY_THRESHOLD_MS;
 import static io.joynr.runtime.SystemServicesSettings.PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_INTERVAL_MS;
+import static io.joynr.util.JoynrUtil.createUuidString;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
@@ -48,11 +51,13 @@ import com.google.inject.name.Named;
 
 import io.joynr.accesscontrol.AccessController;
 import io.joynr.capabilities.GcdTask.CallbackCreator;
+import io.joynr.dispatching.subscription.MulticastIdUtil;
 import io.joynr.exceptions.DiscoveryException;
 import io.joynr.exceptions.JoynrException;
 import io.joynr.exceptions.JoynrMessageNotSentException;
 import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.exceptions.JoynrTimeoutException;
+import io.joynr.exceptions.SubscriptionException;
 import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.messaging.MessagingPropertyKeys;
 import io.joynr.messaging.MessagingQos;
@@ -68,10 +73,13 @@ import joynr.ImmutableMessage;
 import joynr.exceptions.ApplicationException;
 import joynr.exceptions.ProviderRuntimeException;
 import joynr.infrastructure.GlobalCapabilitiesDirectory;
+import joynr.infrastructure.GlobalCapabilitiesDirectoryBroadcastInterface.GlobalDiscoveryEntryChangedBroadcastAdapter;
+import joynr.infrastructure.GlobalCapabilitiesDirectoryBroadcastInterface.GlobalDiscoveryEntryChangedBroadcastListener;
 import joynr.infrastructure.DacTypes.TrustLevel;
 import joynr.system.DiscoveryAbstractProvider;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.MqttAddress;
+import joynr.types.ChangeType;
 import joynr.types.DiscoveryEntry;
 import joynr.types.DiscoveryEntryWithMetaInfo;
 import joynr.types.DiscoveryError;
@@ -121,11 +129,23 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
     @Named(MessagingPropertyKeys.GLOBAL_ADDRESS)
     private Address globalAddress = new Address();
 
+    @Inject(optional = true)
+    @Named(PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_COMPACT_TOUCH)
+    private boolean freshnessUpdateCompactTouchEnabled = false;
+
     private final String[] knownGbids;
+    // GBIDs in which the stale providers of the previous lifecycle have already been removed
+    private final Set<String> removeStaleFinishedGbids = ConcurrentHashMap.newKeySet();
 
     // Start up time of the cluster controller
     private final long ccStartUpDateInMs;
     private final long defaultExpiryTimeMs;
+    private final long freshnessUpdateExpiryThresholdMs;
+    private final GlobalLookupCoalescer globalLookupCoalescer;
+    private final boolean globalCacheChangeNotificationsEnabled;
+    // domain and interfaceName pairs for which change notifications of the GCD have been subscribed
+    // domain and interface name -> subscriptionId of the subscription to changes of global discovery entries
+    private final Map<List<String>, String> changeNotificationSubscriptions = new ConcurrentHashMap<>();
     private final long defaultTtlAddAndRemove;
 
     private AccessController accessController;
@@ -173,10 +193,13 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
                                           GlobalCapabilitiesDirectoryClient globalCapabilitiesDirectoryClient,
                                           ExpiredDiscoveryEntryCacheCleaner expiredDiscoveryEntryCacheCleaner,
                                           @Named(PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_INTERVAL_MS) long freshnessUpdateIntervalMs,
+                                          @Named(PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_EXPIRY_THRESHOLD_MS) long freshnessUpdateExpiryThresholdMs,
                                           @Named(JOYNR_SCHEDULER_CAPABILITIES_FRESHNESS) ScheduledExecutorService freshnessUpdateScheduler,
                                           ShutdownNotifier shutdownNotifier,
                                           @Named(MessagingPropertyKeys.GBID_ARRAY) String[] knownGbids,
                                           @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_PROVIDER_DEFAULT_EXPIRY_TIME_MS) long defaultExpiryTimeMs,
+                                          @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_GLOBAL_LOOKUP_NEGATIVE_CACHE_MAX_AGE_MS) long globalLookupNegativeCacheMaxAgeMs,
+                                          @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_GLOBAL_CACHE_CHANGE_NOTIFICATIONS) boolean globalCacheChangeNotificationsEnabled,
                                           AccessController accessController,
                                           @Named(ClusterControllerRuntimeModule.PROPERTY_ACCESSCONTROL_ENABLE) boolean enableAccessControl) {
         // set up current date as the start time of the cluster controller
@@ -191,6 +214,9 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
         this.globalCapabilitiesDirectoryClient = globalCapabilitiesDirectoryClient;
         this.knownGbids = knownGbids.clone();
         this.defaultExpiryTimeMs = defaultExpiryTimeMs;
+        this.freshnessUpdateExpiryThresholdMs = freshnessUpdateExpiryThresholdMs;
+        this.globalLookupCoalescer = new GlobalLookupCoalescer(globalLookupNegativeCacheMaxAgeMs);
+        this.globalCacheChangeNotificationsEnabled = globalCacheChangeNotificationsEnabled;
         this.defaultTtlAddAndRemove = MessagingQos.DEFAULT_TTL;
         Collection<GlobalDiscoveryEntry> provisionedDiscoveryEntries = capabilitiesProvisioning.getDiscoveryEntries();
         this.globalDiscoveryEntryCache.add(provisionedDiscoveryEntries);
@@ -209,6 +235,9 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
                 for (DiscoveryEntry discoveryEntry : expiredDiscoveryEntries) {
                     removeInternal(discoveryEntry.getParticipantId(), discoveryEntry.getQos().getScope());
                 }
+                for (List<String> subscriptionKey : changeNotificationSubscriptions.keySet()) {
+                    unsubscribeFromGlobalDiscoveryEntryChangesIfUnused(subscriptionKey.get(0), subscriptionKey.get(1));
+                }
             }
         }, globalDiscoveryEntryCache, localDiscoveryEntryStore);
         this.scheduler = freshnessUpdateScheduler;
@@ -260,8 +289,17 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
                 long lastSeenDateMs = System.currentTimeMillis();
                 long expiryDateMs = lastSeenDateMs + defaultExpiryTimeMs;
 
-                // Touches all discovery entries, but only returns the participantIds of global ones
-                String[] participantIds = localDiscoveryEntryStore.touchDiscoveryEntries(lastSeenDateMs, expiryDateMs);
+                // Touches the (expiring) discovery entries, but only returns the participantIds of global ones
+                final boolean touchAll = freshnessUpdateExpiryThresholdMs <= 0;
+                String[] participantIds;
+                if (touchAll) {
+                    participantIds = localDiscoveryEntryStore.touchDiscoveryEntries(lastSeenDateMs, expiryDateMs);
+                } else {
+                    participantIds = localDiscoveryEntryStore.touchExpiringDiscoveryEntries(lastSeenDateMs,
+                                                                                            expiryDateMs,
+                                                                                            lastSeenDateMs
+                                                                                                    + freshnessUpdateExpiryThresholdMs);
+                }
                 // update globalDiscoveryEntryCache
                 globalDiscoveryEntryCache.touchDiscoveryEntries(participantIds, lastSeenDateMs, expiryDateMs);
 
@@ -271,9 +309,6 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
                 }
 
                 final Map<String, List<String>> gbidToParticipantIdsListMap = new HashMap<>();
-                for (String gbid : knownGbids) {
-                    gbidToParticipantIdsListMap.put(gbid, Collections.emptyList());
-                }
 
                 synchronized (globalDiscoveryEntryCache) {
                     for (String participantIdToTouch : participantIds) {
@@ -286,28 +321,32 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
                         }
 
                         String gbidToTouch = gbids.get(0);
-                        if (!gbidToParticipantIdsListMap.containsKey(gbidToTouch)) {
+                        if (!Arrays.asList(knownGbids).contains(gbidToTouch)) {
                             logger.error("touch: found GBID {} for particpantId {} is unknown.",
                                          gbidToTouch,
                                          participantIdToTouch);
                             continue;
                         }
-                        List<String> participantIdsToTouch = new ArrayList<>(gbidToParticipantIdsListMap.get(gbidToTouch));
-                        participantIdsToTouch.add(participantIdToTouch);
-                        gbidToParticipantIdsListMap.put(gbidToTouch, participantIdsToTouch);
+                        gbidToParticipantIdsListMap.computeIfAbsent(gbidToTouch, gbid -> new ArrayList<>())
+                                                   .add(participantIdToTouch);
                     }
                 }
 
-                for (Map.Entry<String, List<String>> entry : gbidToParticipantIdsListMap.entrySet()) {
-                    String gbid = entry.getKey();
-                    List<String> participantIdsToTouch = entry.getValue();
+                for (String gbid : knownGbids) {
+                    List<String> participantIdsToTouch = gbidToParticipantIdsListMap.get(gbid);
 
-                    if (participantIdsToTouch.isEmpty()) {
+                    if (participantIdsToTouch == null) {
                         logger.debug("touch(gbid={}) has not been called because there are no providers to touch for it.",
                                      gbid);
                         continue;
                     }
 
+                    if (touchAll && freshnessUpdateCompactTouchEnabled && removeStaleFinishedGbids.contains(gbid)) {
+                        // all providers of this cluster controller are touched: the cluster controller id is sufficient
+                        touchAllInGbid(gbid);
+                        continue;
+                    }
+
                     Callback<Void> callback = new Callback<>() {
                         @Override
                         public void onSuccess(Void result) {
@@ -340,6 +379,21 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
                                                                        TimeUnit.MILLISECONDS);
     }
 
+    private void touchAllInGbid(String gbid) {
+        Callback<Void> callback = new Callback<>() {
+            @Override
+            public void onSuccess(Void result) {
+                logger.debug("touch(gbid={}) succeeded.", gbid);
+            }
+
+            @Override
+            public void onFailure(JoynrRuntimeException error) {
+                logger.error("touch(gbid={}) failed: {}", gbid, error.toString());
+            }
+        };
+        globalCapabilitiesDirectoryClient.touch(callback, gbid);
+    }
+
     /**
      * Adds local capability with awaitGlobalRegistration set to false
      * to local and (depending on SCOPE) the global directory
@@ -1318,8 +1372,31 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
                                             DiscoveryQos discoveryQos,
                                             final String[] gbids,
                                             final CapabilitiesCallback capabilitiesCallback) {
+        // concurrent lookups for the same domains, interface and GBIDs share a single global lookup
+        globalLookupCoalescer.lookup(domains,
+                                     interfaceName,
+                                     gbids,
+                                     discoveryQos.getCacheMaxAge(),
+                                     discoveryQos.getDiscoveryTimeout(),
+                                     createGlobalLookupCallback(domains,
+                                                                interfaceName,
+                                                                discoveryQos,
+                                                                gbids,
+                                                                capabilitiesCallback),
+                                     callback -> globalCapabilitiesDirectoryClient.lookup(callback,
+                                                                                          domains,
+                                                                                          interfaceName,
+                                                                                          discoveryQos.getDiscoveryTimeout(),
+                                                                                          gbids));
+    }
+
+    private CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError> createGlobalLookupCallback(final String[] domains,
+                                                                                                             final String interfaceName,
+                                                                                                             DiscoveryQos discoveryQos,
+                                                                                                             final String[] gbids,
+                                                                                                             final CapabilitiesCallback capabilitiesCallback) {
         boolean isLookupCalledWithEmptyGbid = Arrays.equals(new String[]{ "" }, gbids);
-        globalCapabilitiesDirectoryClient.lookup(new CallbackWithModeledError<>() {
+        return new CallbackWithModeledError<>() {
             @Override
             public void onSuccess(List<GlobalDiscoveryEntry> globalDiscoverEntries) {
                 if (globalDiscoverEntries == null) {
@@ -1377,6 +1454,9 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
                                                                                                                              entry)));
 
                 addLocalDiscoveriesToResult(localDiscoveryEntries, allDiscoveryEntries, addedParticipantIds);
+                if (globalCacheChangeNotificationsEnabled) {
+                    subscribeToGlobalDiscoveryEntryChanges(domains, interfaceName);
+                }
                 capabilitiesCallback.processCapabilitiesReceived(Optional.of(allDiscoveryEntries));
             }
 
@@ -1397,7 +1477,108 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
                              exception);
                 capabilitiesCallback.onError(exception);
             }
-        }, domains, interfaceName, discoveryQos.getDiscoveryTimeout(), gbids);
+        };
+    }
+
+    private void subscribeToGlobalDiscoveryEntryChanges(String[] domains, String interfaceName) {
+        String interfacePartition = MulticastIdUtil.sanitizeForPartition(interfaceName);
+        for (String domain : domains) {
+            String domainPartition = MulticastIdUtil.sanitizeForPartition(domain);
+            if (domainPartition.isEmpty() || interfacePartition.isEmpty()) {
+                // the GCD does not notify changes of entries without valid partitions
+                continue;
+            }
+            final List<String> subscriptionKey = Arrays.asList(domain, interfaceName);
+            final String subscriptionId = createUuidString();
+            if (changeNotificationSubscriptions.putIfAbsent(subscriptionKey, subscriptionId) != null) {
+                continue;
+            }
+            logger.debug("Subscribing to changes of global discovery entries for domain {} and interface {}",
+                         domain,
+                         interfaceName);
+            GlobalDiscoveryEntryChangedBroadcastListener listener = new GlobalDiscoveryEntryChangedBroadcastAdapter() {
+                @Override
+                public void onReceive(ChangeType typeOfChange, GlobalDiscoveryEntry globalDiscoveryEntry) {
+                    handleGlobalDiscoveryEntryChanged(typeOfChange, globalDiscoveryEntry);
+                }
+
+                @Override
+                public void onError(SubscriptionException error) {
+                    logger.warn("Subscription to changes of global discovery entries for domain {} and interface {} failed",
+                                domain,
+                                interfaceName,
+                                error);
+                    // subscribe again with the next successful global lookup
+                    changeNotificationSubscriptions.remove(subscriptionKey, subscriptionId);
+                }
+            };
+            try {
+                globalCapabilitiesDirectoryClient.subscribeToGlobalDiscoveryEntryChanged(subscriptionId,
+                                                                                         listener,
+                                                                                         domainPartition,
+                                                                                         interfacePartition);
+            } catch (Exception e) {
+                logger.warn("Unable to subscribe to changes of global discovery entries for domain {} and interface {}",
+                            domain,
+                            interfaceName,
+                            e);
+                changeNotificationSubscriptions.remove(subscriptionKey, subscriptionId);
+            }
+        }
+    }
+
+    private void unsubscribeFromGlobalDiscoveryEntryChangesIfUnused(String domain, String interfaceName) {
+        final long now = System.currentTimeMillis();
+        synchronized (globalDiscoveryEntryCache) {
+            if (globalDiscoveryEntryCache.lookup(new String[]{ domain }, interfaceName)
+                                         .stream()
+                                         .anyMatch(entry -> entry.getExpiryDateMs() >= now)) {
+                return;
+            }
+        }
+        final String subscriptionId = changeNotificationSubscriptions.remove(Arrays.asList(domain, interfaceName));
+        if (subscriptionId == null) {
+            return;
+        }
+        logger.debug("Unsubscribing from changes of global discovery entries for domain {} and interface {}: no cached entries left",
+                     domain,
+                     interfaceName);
+        try {
+            globalCapabilitiesDirectoryClient.unsubscribeFromGlobalDiscoveryEntryChanged(subscriptionId);
+        } catch (Exception e) {
+            logger.warn("Unable to unsubscribe from changes of global discovery entries for domain {} and interface {}",
+                        domain,
+                        interfaceName,
+                        e);
+        }
+    }
+
+    private void handleGlobalDiscoveryEntryChanged(ChangeType typeOfChange, GlobalDiscoveryEntry globalDiscoveryEntry) {
+        if (globalDiscoveryEntry == null
+                || !changeNotificationSubscriptions.containsKey(Arrays.asList(globalDiscoveryEntry.getDomain(),
+                                                                              globalDiscoveryEntry.getInterfaceName()))) {
+            // partitions are sanitized, i.e. changes of other domains or interfaces might be received as well
+            return;
+        }
+        String participantId = globalDiscoveryEntry.getParticipantId();
+        logger.trace("Received change notification {} for participantId {}", typeOfChange, participantId);
+        synchronized (globalDiscoveryEntryCache) {
+            if (localDiscoveryEntryStore.lookup(participantId, Long.MAX_VALUE).isPresent()) {
+                // own providers are never taken from the global discovery entry cache
+                return;
+            }
+            if (typeOfChange == ChangeType.REMOVE) {
+                globalDiscoveryEntryCache.remove(participantId);
+            } else {
+                globalDiscoveryEntryCache.add(globalDiscoveryEntry);
+            }
+        }
+        globalLookupCoalescer.invalidateNegativeResults(globalDiscoveryEntry.getDomain(),
+                                                        globalDiscoveryEntry.getInterfaceName());
+        if (typeOfChange == ChangeType.REMOVE) {
+            unsubscribeFromGlobalDiscoveryEntryChangesIfUnused(globalDiscoveryEntry.getDomain(),
+                                                               globalDiscoveryEntry.getInterfaceName());
+        }
     }
 
     private void addLocalDiscoveriesToResult(Collection<DiscoveryEntryWithMetaInfo> localDiscoveryEntries,
@@ -1462,6 +1643,7 @@ public class LocalCapabilitiesDirectoryImpl extends DiscoveryAbstractProvider im
             @Override
             public void onSuccess(Void result) {
                 logger.info("RemoveStale in gbid={} (maxLastSeenDateMs={}) succeeded.", gbid, ccStartUpDateInMs);
+                removeStaleFinishedGbids.add(gbid);
             }
 
             @Override
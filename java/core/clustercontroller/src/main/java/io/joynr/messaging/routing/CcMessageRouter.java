@@ -31,6 +31,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +48,7 @@ import com.google.inject.name.Named;
 
 import io.joynr.accesscontrol.AccessController;
 import io.joynr.accesscontrol.HasConsumerPermissionCallback;
+import io.joynr.dispatching.BinaryPayloadEncoding;
 import io.joynr.exceptions.JoynrDelayMessageException;
 import io.joynr.exceptions.JoynrIllegalStateException;
 import io.joynr.exceptions.JoynrMessageExpiredException;
@@ -65,6 +68,9 @@ import io.joynr.messaging.tracking.MessageTrackerForGracefulShutdown;
 import io.joynr.runtime.ClusterControllerRuntimeModule;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
+import io.joynr.statusmetrics.LatencyStage;
+import io.joynr.util.JoynrThreadFactory;
 import io.joynr.util.ObjectMapper;
 import joynr.ImmutableMessage;
 import joynr.Message;
@@ -104,11 +110,16 @@ public class CcMessageRouter
     private List<MessageProcessedListener> messageProcessedListeners;
     private List<CcMessageWorkable> messageWorkers;
     private List<Future<?>> messageWorkerFutures;
+    // dedicated workers for system service messages and replies, see MessageQueue.Lane
+    private List<CcMessageWorkable> priorityMessageWorkers;
+    private List<Future<?>> priorityMessageWorkerFutures;
+    private ExecutorService priorityMessageWorkerExecutor;
 
     private AccessController accessController;
     private boolean enableAccessControl;
     private ObjectMapper objectMapper;
     private MessageTrackerForGracefulShutdown messageTracker;
+    private JoynrStatusMetricsReceiver statusMetrics;
 
     @Inject
     @Singleton
@@ -116,6 +127,7 @@ public class CcMessageRouter
     public CcMessageRouter(RoutingTable routingTable,
                            @Named(SCHEDULEDTHREADPOOL) ScheduledExecutorService scheduler,
                            @Named(ConfigurableMessagingSettings.PROPERTY_MESSAGING_MAXIMUM_PARALLEL_SENDS) int maxParallelSends,
+                           @Named(ConfigurableMessagingSettings.PROPERTY_ROUTING_PRIORITY_WORKERS) int priorityWorkers,
                            @Named(ConfigurableMessagingSettings.PROPERTY_ROUTING_TABLE_CLEANUP_INTERVAL_MS) long routingTableCleanupIntervalMs,
                            MessagingStubFactory messagingStubFactory,
                            MessagingSkeletonFactory messagingSkeletonFactory,
@@ -126,7 +138,8 @@ public class CcMessageRouter
                            MessageQueue messageQueue,
                            ShutdownNotifier shutdownNotifier,
                            ObjectMapper objectMapper,
-                           MessageTrackerForGracefulShutdown messageTracker) {
+                           MessageTrackerForGracefulShutdown messageTracker,
+                           JoynrStatusMetricsReceiver statusMetrics) {
         dateFormatter.setTimeZone(TimeZone.getTimeZone("UTC"));
         this.routingTable = routingTable;
         this.scheduler = scheduler;
@@ -136,9 +149,11 @@ public class CcMessageRouter
         this.addressManager = addressManager;
         this.multicastReceiverRegistry = multicastReceiverRegistry;
         this.messageQueue = messageQueue;
+        this.statusMetrics = statusMetrics;
         shutdownNotifier.registerForShutdown(this);
         messageProcessedListeners = new ArrayList<MessageProcessedListener>();
         startMessageWorkerThreads(maxParallelSends);
+        startPriorityMessageWorkerThreads(priorityWorkers);
         startRoutingTableCleanupThread();
 
         this.accessController = accessController;
@@ -240,10 +255,14 @@ public class CcMessageRouter
 
     @Override
     public void shutdown() {
-        final CountDownLatch countDownLatch = new CountDownLatch(messageWorkers.size());
+        final CountDownLatch countDownLatch = new CountDownLatch(messageWorkers.size()
+                + priorityMessageWorkers.size());
         for (final CcMessageWorkable worker : messageWorkers) {
             worker.stopWorker(countDownLatch);
         }
+        for (final CcMessageWorkable worker : priorityMessageWorkers) {
+            worker.stopWorker(countDownLatch);
+        }
         try {
             if (!countDownLatch.await(1500, TimeUnit.MILLISECONDS)) {
                 logger.error("FAILURE: waiting for message workers to stop timed out");
@@ -252,6 +271,10 @@ public class CcMessageRouter
         } catch (final InterruptedException e) {
             logger.error("Interrupted while waiting for message workers to stop.", e);
             Thread.currentThread().interrupt();
+        } finally {
+            if (priorityMessageWorkerExecutor != null) {
+                priorityMessageWorkerExecutor.shutdownNow();
+            }
         }
     }
 
@@ -288,8 +311,9 @@ public class CcMessageRouter
     protected ImmutableMessage createReplyMessageWithError(ImmutableMessage requestMessage,
                                                            JoynrRuntimeException error) {
         try {
-            String deserializedPayload = new String(requestMessage.getUnencryptedBody(), StandardCharsets.UTF_8);
-            final Request request = objectMapper.readValue(deserializedPayload, Request.class);
+            final Request request = BinaryPayloadEncoding.readPayload(objectMapper,
+                                                                      requestMessage.getUnencryptedBody(),
+                                                                      Request.class);
             String requestReplyId = request.getRequestReplyId();
 
             MutableMessage replyMessage = new MutableMessage();
@@ -333,16 +357,38 @@ public class CcMessageRouter
         messageWorkers = new ArrayList<>(numberOfWorkThreads);
         messageWorkerFutures = new ArrayList<>(numberOfWorkThreads);
         for (int i = 0; i < numberOfWorkThreads; i++) {
-            final MessageWorker messageWorker = new MessageWorker(i);
+            final MessageWorker messageWorker = new MessageWorker(i, false);
             final Future<?> future = scheduler.schedule(messageWorker, 0, TimeUnit.MILLISECONDS);
             messageWorkerFutures.add(future);
             messageWorkers.add(messageWorker);
         }
     }
 
+    /**
+     * Starts workers which only process messages of the prioritized lanes of the {@link MessageQueue}. They run on
+     * dedicated threads so that they are neither blocked by application requests nor by other tasks of the shared
+     * scheduler.
+     */
+    private void startPriorityMessageWorkerThreads(int numberOfWorkThreads) {
+        priorityMessageWorkers = new ArrayList<>(numberOfWorkThreads);
+        priorityMessageWorkerFutures = new ArrayList<>(numberOfWorkThreads);
+        if (numberOfWorkThreads <= 0) {
+            return;
+        }
+        priorityMessageWorkerExecutor = Executors.newFixedThreadPool(numberOfWorkThreads,
+                                                                     new JoynrThreadFactory("PriorityMessageWorker",
+                                                                                            true));
+        for (int i = 0; i < numberOfWorkThreads; i++) {
+            final MessageWorker messageWorker = new MessageWorker(i, true);
+            priorityMessageWorkerFutures.add(priorityMessageWorkerExecutor.submit(messageWorker));
+            priorityMessageWorkers.add(messageWorker);
+        }
+    }
+
     private void cancelMessageWorkerFutures() {
         logger.error("Cancelling all message worker futures");
         messageWorkerFutures.forEach(future -> future.cancel(true));
+        priorityMessageWorkerFutures.forEach(future -> future.cancel(true));
     }
 
     private void startRoutingTableCleanupThread() {
@@ -429,6 +475,7 @@ public class CcMessageRouter
                          maxRetryCount,
                          delayableMessage.getMessage().getTrackingInfo());
         }
+        statusMetrics.notifyMessageEnqueued(retriesCount > 0);
         messageQueue.put(delayableMessage);
     }
 
@@ -502,6 +549,34 @@ public class CcMessageRouter
         };
     }
 
+    private void transmit(final IMessagingStub messagingStub,
+                          final Address address,
+                          final ImmutableMessage message,
+                          final SuccessAction successAction,
+                          final FailureAction failureAction) {
+        // success and failure action may both be called, possibly more than once
+        final String addressType = address.getClass().getSimpleName();
+        final AtomicBoolean sendFinished = new AtomicBoolean(false);
+        final Runnable notifySendFinished = () -> {
+            if (sendFinished.compareAndSet(false, true)) {
+                statusMetrics.notifySendFinished(addressType);
+            }
+        };
+        statusMetrics.notifySendStarted(addressType);
+        try {
+            messagingStub.transmit(message, () -> {
+                notifySendFinished.run();
+                successAction.execute();
+            }, error -> {
+                notifySendFinished.run();
+                failureAction.execute(error);
+            });
+        } catch (RuntimeException e) {
+            notifySendFinished.run();
+            throw e;
+        }
+    }
+
     private SuccessAction createMessageProcessedAction(final ImmutableMessage message) {
         final SuccessAction successAction = new SuccessAction() {
 
@@ -542,11 +617,13 @@ public class CcMessageRouter
     class MessageWorker implements CcMessageWorkable {
         private Logger logger = LoggerFactory.getLogger(MessageWorker.class);
         private int number;
+        private final boolean priorityOnly;
         private CountDownLatch countDownLatch;
         private volatile boolean stopped;
 
-        public MessageWorker(final int number) {
+        public MessageWorker(final int number, final boolean priorityOnly) {
             this.number = number;
+            this.priorityOnly = priorityOnly;
             countDownLatch = null;
             stopped = false;
         }
@@ -559,66 +636,80 @@ public class CcMessageRouter
 
         @Override
         public void run() {
-            Thread.currentThread().setName("joynrMessageWorker-" + number);
+            Thread.currentThread()
+                  .setName((priorityOnly ? "joynrPriorityMessageWorker-" : "joynrMessageWorker-") + number);
+            statusMetrics.notifyMessageWorkerStarted();
+            try {
+                while (!stopped) {
+                    DelayableImmutableMessage delayableMessage = null;
+                    FailureAction failureAction = null;
 
-            while (!stopped) {
-                DelayableImmutableMessage delayableMessage = null;
-                FailureAction failureAction = null;
-
-                try {
-                    delayableMessage = messageQueue.poll(1000, TimeUnit.MILLISECONDS);
+                    try {
+                        delayableMessage = priorityOnly ? messageQueue.pollPriority(1000, TimeUnit.MILLISECONDS)
+                                : messageQueue.poll(1000, TimeUnit.MILLISECONDS);
 
-                    if (delayableMessage == null) {
-                        continue;
-                    }
+                        if (delayableMessage == null) {
+                            continue;
+                        }
+                        statusMetrics.notifyMessageWorkerBusy();
+                        statusMetrics.notifyMessageDequeued(delayableMessage.getRetriesCount() > 0);
+                        statusMetrics.notifyLatency(LatencyStage.MESSAGE_QUEUE, delayableMessage.getQueueLatencyNs());
 
-                    ImmutableMessage message = delayableMessage.getMessage();
-                    logger.trace("Starting processing of message {}", message);
+                        ImmutableMessage message = delayableMessage.getMessage();
+                        logger.trace("Starting processing of message {}", message);
 
-                    MessageRouterUtil.checkExpiry(message);
+                        MessageRouterUtil.checkExpiry(message);
 
-                    Optional<Address> optionalAddress = addressManager.getAddressForDelayableImmutableMessage(delayableMessage);
-                    try {
-                        checkFoundAddress(optionalAddress, message);
-                    } catch (JoynrMessageNotSentException error) {
-                        logger.error("ERROR SENDING: aborting send of message: {}. Error:",
-                                     message.getTrackingInfo(),
-                                     error);
-                        finalizeMessageProcessing(message, false);
-                        continue;
-                    } catch (Exception error) {
-                        logger.debug("ERROR SENDING: retrying send of message. Error:", error);
-                        final long delayMs = MessageRouterUtil.createDelayWithExponentialBackoff(delayableMessage.getRetriesCount()
-                                + 1);
-                        delayableMessage.setDelay(delayMs);
-                        delayableMessage.setRetriesCount(delayableMessage.getRetriesCount() + 1);
-                        scheduleMessage(delayableMessage);
-                        continue;
-                    }
-
-                    SuccessAction messageProcessedAction = createMessageProcessedAction(message);
-                    failureAction = createFailureAction(delayableMessage);
-                    Address address = optionalAddress.get();
-                    logger.trace(">>>>> SEND message {} to address {}", message.getId(), address);
+                        Optional<Address> optionalAddress = addressManager.getAddressForDelayableImmutableMessage(delayableMessage);
+                        try {
+                            checkFoundAddress(optionalAddress, message);
+                        } catch (JoynrMessageNotSentException error) {
+                            logger.error("ERROR SENDING: aborting send of message: {}. Error:",
+                                         message.getTrackingInfo(),
+                                         error);
+                            finalizeMessageProcessing(message, false);
+                            continue;
+                        } catch (Exception error) {
+                            logger.debug("ERROR SENDING: retrying send of message. Error:", error);
+                            final long delayMs = MessageRouterUtil.createDelayWithExponentialBackoff(delayableMessage.getRetriesCount()
+                                    + 1);
+                            delayableMessage.setDelay(delayMs);
+                            delayableMessage.setRetriesCount(delayableMessage.getRetriesCount() + 1);
+                            scheduleMessage(delayableMessage);
+                            continue;
+                        }
 
-                    IMessagingStub messagingStub = messagingStubFactory.create(address);
-                    messagingStub.transmit(message, messageProcessedAction, failureAction);
-                } catch (InterruptedException e) {
-                    logger.trace("Message Worker interrupted. Stopping.");
-                    Thread.currentThread().interrupt();
-                    return;
-                } catch (Exception error) {
-                    if (delayableMessage == null) {
-                        logger.error("Error in scheduled message router thread. delayableMessage == null, continuing. Error:",
-                                     error);
-                        continue;
-                    }
-                    logger.error("Error in scheduled message router thread:", error);
-                    if (failureAction == null) {
+                        SuccessAction messageProcessedAction = createMessageProcessedAction(message);
                         failureAction = createFailureAction(delayableMessage);
+                        Address address = optionalAddress.get();
+                        logger.trace(">>>>> SEND message {} to address {}", message.getId(), address);
+
+                        IMessagingStub messagingStub = messagingStubFactory.create(address);
+                        statusMetrics.notifyLatency(LatencyStage.ROUTING, delayableMessage.getRoutingLatencyNs());
+                        transmit(messagingStub, address, message, messageProcessedAction, failureAction);
+                    } catch (InterruptedException e) {
+                        logger.trace("Message Worker interrupted. Stopping.");
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception error) {
+                        if (delayableMessage == null) {
+                            logger.error("Error in scheduled message router thread. delayableMessage == null, continuing. Error:",
+                                         error);
+                            continue;
+                        }
+                        logger.error("Error in scheduled message router thread:", error);
+                        if (failureAction == null) {
+                            failureAction = createFailureAction(delayableMessage);
+                        }
+                        failureAction.execute(error);
+                    } finally {
+                        if (delayableMessage != null) {
+                            statusMetrics.notifyMessageWorkerIdle();
+                        }
                     }
-                    failureAction.execute(error);
                 }
+            } finally {
+                statusMetrics.notifyMessageWorkerStopped();
             }
             countDownLatch.countDown();
         }
@@ -0,0 +1,282 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.Localisation;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.Localisation.GpsFixEnum;
+import joynr.types.Localisation.GpsPosition;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class GpsPositionExtended extends GpsPosition implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 0;
+	public static final int MINOR_VERSION = 0;
+	@JsonProperty("altitude")
+	private Double altitude;
+	@JsonProperty("gpsFix")
+	private GpsFixEnum gpsFix;
+	@JsonProperty("heading")
+	private Double heading;
+	@JsonProperty("quality")
+	private Double quality;
+
+	/**
+	 * Default Constructor
+	 */
+	public GpsPositionExtended() {
+		this.altitude = 0d;
+		this.gpsFix = GpsFixEnum.MODENOTSEEN;
+		this.heading = 0d;
+		this.quality = 0d;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param gpsPositionExtendedObj reference to the object to be copied
+	 */
+	public GpsPositionExtended(GpsPositionExtended gpsPositionExtendedObj) {
+		super(gpsPositionExtendedObj);
+		this.altitude = gpsPositionExtendedObj.altitude;
+		this.gpsFix = gpsPositionExtendedObj.gpsFix;
+		this.heading = gpsPositionExtendedObj.heading;
+		this.quality = gpsPositionExtendedObj.quality;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param longitude description missing in Franca model.
+	 * @param latitude description missing in Franca model.
+	 * @param altitude description missing in Franca model.
+	 * @param gpsFix description missing in Franca model.
+	 * @param heading description missing in Franca model.
+	 * @param quality defaultValue 0.0
+	 */
+	public GpsPositionExtended(
+		Double longitude,
+		Double latitude,
+		Double altitude,
+		GpsFixEnum gpsFix,
+		Double heading,
+		Double quality
+		) {
+		super(
+				longitude,
+				latitude
+		);
+		this.altitude = altitude;
+		this.gpsFix = gpsFix;
+		this.heading = heading;
+		this.quality = quality;
+	}
+
+	/**
+	 * Gets Altitude
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Double getAltitude() {
+		return altitude;
+	}
+
+	/**
+	 * Sets Altitude
+	 *
+	 * @param altitude description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setAltitude(Double altitude) {
+		if (altitude == null) {
+			throw new IllegalArgumentException("setting altitude to null is not allowed");
+		}
+		this.altitude = altitude;
+	}
+
+	/**
+	 * Gets GpsFix
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public GpsFixEnum getGpsFix() {
+		return gpsFix;
+	}
+
+	/**
+	 * Sets GpsFix
+	 *
+	 * @param gpsFix description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setGpsFix(GpsFixEnum gpsFix) {
+		if (gpsFix == null) {
+			throw new IllegalArgumentException("setting gpsFix to null is not allowed");
+		}
+		this.gpsFix = gpsFix;
+	}
+
+	/**
+	 * Gets Heading
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Double getHeading() {
+		return heading;
+	}
+
+	/**
+	 * Sets Heading
+	 *
+	 * @param heading description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setHeading(Double heading) {
+		if (heading == null) {
+			throw new IllegalArgumentException("setting heading to null is not allowed");
+		}
+		this.heading = heading;
+	}
+
+	/**
+	 * Gets Quality
+	 *
+	 * @return defaultValue 0.0
+	 */
+	@JsonIgnore
+	public Double getQuality() {
+		return quality;
+	}
+
+	/**
+	 * Sets Quality
+	 *
+	 * @param quality defaultValue 0.0
+	 */
+	@JsonIgnore
+	public void setQuality(Double quality) {
+		if (quality == null) {
+			throw new IllegalArgumentException("setting quality to null is not allowed");
+		}
+		this.quality = quality;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "GpsPositionExtended ["
+		+ super.toString() + ", "
+		+ "altitude=" + this.altitude + ", "
+		+ "gpsFix=" + this.gpsFix + ", "
+		+ "heading=" + this.heading + ", "
+		+ "quality=" + this.quality
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		if (!super.equals(obj))
+			return false;
+		GpsPositionExtended other = (GpsPositionExtended) obj;
+		if (this.altitude == null) {
+			if (other.altitude != null) {
+				return false;
+			}
+		} else if (!this.altitude.equals(other.altitude)) {
+			return false;
+		}
+		if (this.gpsFix == null) {
+			if (other.gpsFix != null) {
+				return false;
+			}
+		} else if (!this.gpsFix.equals(other.gpsFix)) {
+			return false;
+		}
+		if (this.heading == null) {
+			if (other.heading != null) {
+				return false;
+			}
+		} else if (!this.heading.equals(other.heading)) {
+			return false;
+		}
+		if (this.quality == null) {
+			if (other.quality != null) {
+				return false;
+			}
+		} else if (!this.quality.equals(other.quality)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = super.hashCode();
+		final int prime = 31;
+		result = prime * result + ((this.altitude == null) ? 0 : this.altitude.hashCode());
+		result = prime * result + ((this.gpsFix == null) ? 0 : this.gpsFix.hashCode());
+		result = prime * result + ((this.heading == null) ? 0 : this.heading.hashCode());
+		result = prime * result + ((this.quality == null) ? 0 : this.quality.hashCode());
+		return result;
+	}
+}
+
+	
@@ -0,0 +1,231 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.provider.Promise;
+import io.joynr.provider.Deferred;
+import io.joynr.provider.DeferredVoid;
+
+import joynr.types.Localisation.Trip;
+
+public class DefaultNavigationProvider extends NavigationAbstractProvider {
+	private static final Logger logger = LoggerFactory.getLogger(DefaultNavigationProvider.class);
+
+	protected Boolean guidanceActive;
+	protected Trip guidedTrip;
+	protected Trip[] trips;
+
+	public DefaultNavigationProvider() {
+	}
+
+
+	@Override
+	public Promise<Deferred<Boolean>> getGuidanceActive() {
+		Deferred<Boolean> deferred = new Deferred<>();
+		deferred.resolve(guidanceActive);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<Trip>> getGuidedTrip() {
+		Deferred<Trip> deferred = new Deferred<>();
+		deferred.resolve(guidedTrip);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<Trip[]>> getTrips() {
+		Deferred<Trip[]> deferred = new Deferred<>();
+		deferred.resolve(trips);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setTrips(Trip[] trips) {
+		DeferredVoid deferred = new DeferredVoid();
+		if (trips != null) {
+			this.trips = trips.clone();
+		} else {
+			this.trips = null;
+		}
+		tripsChanged(trips);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+
+	/*
+	* addTrip
+	*/
+	@Override
+	public Promise<DeferredVoid> addTrip(
+			Trip trip) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.addTrip called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* updateTrip
+	*/
+	@Override
+	public Promise<UpdateTripDeferred> updateTrip(
+			Trip trip) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.updateTrip called");
+		logger.warn("**********************************************");
+		UpdateTripDeferred deferred = new UpdateTripDeferred();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* deleteTrip
+	*/
+	@Override
+	public Promise<DeferredVoid> deleteTrip(
+			String tripId) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.deleteTrip called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* deleteTrip
+	*/
+	@Override
+	public Promise<DeleteTrip1Deferred> deleteTrip(
+			Trip trip) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.deleteTrip called");
+		logger.warn("**********************************************");
+		DeleteTrip1Deferred deferred = new DeleteTrip1Deferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* deleteAll
+	*/
+	@Override
+	public Promise<DeferredVoid> deleteAll(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.deleteAll called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* getSavedTrips
+	*/
+	@Override
+	public Promise<GetSavedTripsDeferred> getSavedTrips(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.getSavedTrips called");
+		logger.warn("**********************************************");
+		GetSavedTripsDeferred deferred = new GetSavedTripsDeferred();
+		Trip[] result = { };
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* getTrip
+	*/
+	@Override
+	public Promise<GetTrip1Deferred> getTrip(
+			String tripId) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.getTrip called");
+		logger.warn("**********************************************");
+		GetTrip1Deferred deferred = new GetTrip1Deferred();
+		Trip result = new Trip();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* getTrip
+	*/
+	@Override
+	public Promise<GetTrip2Deferred> getTrip(
+			String tripIdSearchString,
+			Boolean allowWildcards) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.getTrip called");
+		logger.warn("**********************************************");
+		GetTrip2Deferred deferred = new GetTrip2Deferred();
+		Trip[] result = { };
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* requestGuidance
+	*/
+	@Override
+	public Promise<RequestGuidanceDeferred> requestGuidance(
+			Trip trip) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.requestGuidance called");
+		logger.warn("**********************************************");
+		RequestGuidanceDeferred deferred = new RequestGuidanceDeferred();
+		Boolean result = false;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* stopGuidance
+	*/
+	@Override
+	public Promise<StopGuidanceDeferred> stopGuidance(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultNavigationProvider.stopGuidance called");
+		logger.warn("**********************************************");
+		StopGuidanceDeferred deferred = new StopGuidanceDeferred();
+		Boolean result = false;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+}
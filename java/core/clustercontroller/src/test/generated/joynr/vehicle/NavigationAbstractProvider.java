@@ -0,0 +1,112 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import io.joynr.provider.AbstractJoynrProvider;
+import java.util.Set;
+import java.util.HashSet;
+import io.joynr.pubsub.publication.BroadcastFilterImpl;
+
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+
+public abstract class NavigationAbstractProvider extends AbstractJoynrProvider implements NavigationProvider {
+
+	public NavigationAbstractProvider() {
+		super();
+	}
+
+	private Set<BroadcastFilterImpl> queuedBroadcastFilters = new HashSet<>();
+
+	protected NavigationSubscriptionPublisher navigationSubscriptionPublisher;
+
+	@Override
+	public void setSubscriptionPublisher(NavigationSubscriptionPublisher navigationSubscriptionPublisher) {
+		this.navigationSubscriptionPublisher = navigationSubscriptionPublisher;
+		for (BroadcastFilterImpl filter: queuedBroadcastFilters) {
+			this.navigationSubscriptionPublisher.addBroadcastFilter(filter);
+		}
+		queuedBroadcastFilters.clear();
+	}
+
+	public void addBroadcastFilter(BroadcastFilterImpl filter) {
+		if (this.navigationSubscriptionPublisher != null) {
+			this.navigationSubscriptionPublisher.addBroadcastFilter(filter);
+		} else {
+			queuedBroadcastFilters.add(filter);
+		}
+	}
+	public void addBroadcastFilter(BroadcastFilterImpl... filters) {
+		if (this.navigationSubscriptionPublisher != null) {
+			this.navigationSubscriptionPublisher.addBroadcastFilter(filters);
+		} else {
+			for (BroadcastFilterImpl filter: filters) {
+				queuedBroadcastFilters.add(filter);
+			}
+		}
+	}
+
+	public void guidanceActiveChanged(Boolean guidanceActive) {
+		if (navigationSubscriptionPublisher != null) {
+			navigationSubscriptionPublisher.guidanceActiveChanged(guidanceActive);
+		}
+	}
+	public void guidedTripChanged(Trip guidedTrip) {
+		if (navigationSubscriptionPublisher != null) {
+			navigationSubscriptionPublisher.guidedTripChanged(guidedTrip);
+		}
+	}
+	public void tripsChanged(Trip[] trips) {
+		if (navigationSubscriptionPublisher != null) {
+			navigationSubscriptionPublisher.tripsChanged(trips);
+		}
+	}
+
+	public void fireLocationUpdateSelective(GpsLocation location) {
+		if (navigationSubscriptionPublisher != null) {
+			navigationSubscriptionPublisher.fireLocationUpdateSelective(location);
+		}
+	}
+
+	public void fireLocationUpdateWithSpeedSelective(GpsLocation location, Float currentSpeed) {
+		if (navigationSubscriptionPublisher != null) {
+			navigationSubscriptionPublisher.fireLocationUpdateWithSpeedSelective(location, currentSpeed);
+		}
+	}
+
+	public void fireLocationUpdate(GpsLocation location, String... partitions) {
+		if (navigationSubscriptionPublisher != null) {
+			navigationSubscriptionPublisher.fireLocationUpdate(location, partitions);
+		}
+	}
+
+	public void fireLocationUpdateWithSpeed(GpsLocation location, Float currentSpeed, String... partitions) {
+		if (navigationSubscriptionPublisher != null) {
+			navigationSubscriptionPublisher.fireLocationUpdateWithSpeed(location, currentSpeed, partitions);
+		}
+	}
+
+}
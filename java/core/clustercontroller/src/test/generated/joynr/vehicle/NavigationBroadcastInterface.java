@@ -0,0 +1,222 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import io.joynr.dispatcher.rpc.annotation.JoynrMulticast;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcBroadcast;
+import io.joynr.dispatcher.rpc.JoynrBroadcastSubscriptionInterface;
+import io.joynr.exceptions.SubscriptionException;
+import io.joynr.proxy.Future;
+import io.joynr.pubsub.subscription.BroadcastSubscriptionListener;
+import joynr.OnChangeSubscriptionQos;
+import joynr.BroadcastFilterParameters;
+import joynr.MulticastSubscriptionQos;
+
+import joynr.types.Localisation.GpsLocation;
+
+public interface NavigationBroadcastInterface extends JoynrBroadcastSubscriptionInterface, Navigation {
+
+
+public interface LocationUpdateBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(GpsLocation location);
+}
+
+public class LocationUpdateBroadcastAdapter implements LocationUpdateBroadcastListener {
+	public void onReceive(GpsLocation location) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+@JoynrMulticast(name = "locationUpdate")
+abstract Future<String> subscribeToLocationUpdateBroadcast(
+		LocationUpdateBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+@JoynrMulticast(name = "locationUpdate")
+abstract Future<String> subscribeToLocationUpdateBroadcast(
+		String subscriptionId,
+		LocationUpdateBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+abstract void unsubscribeFromLocationUpdateBroadcast(String subscriptionId);
+
+public interface LocationUpdateWithSpeedBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(GpsLocation location, Float currentSpeed);
+}
+
+public class LocationUpdateWithSpeedBroadcastAdapter implements LocationUpdateWithSpeedBroadcastListener {
+	public void onReceive(GpsLocation location, Float currentSpeed) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+@JoynrMulticast(name = "locationUpdateWithSpeed")
+abstract Future<String> subscribeToLocationUpdateWithSpeedBroadcast(
+		LocationUpdateWithSpeedBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+@JoynrMulticast(name = "locationUpdateWithSpeed")
+abstract Future<String> subscribeToLocationUpdateWithSpeedBroadcast(
+		String subscriptionId,
+		LocationUpdateWithSpeedBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+abstract void unsubscribeFromLocationUpdateWithSpeedBroadcast(String subscriptionId);
+
+public interface LocationUpdateSelectiveBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(GpsLocation location);
+}
+
+public class LocationUpdateSelectiveBroadcastAdapter implements LocationUpdateSelectiveBroadcastListener {
+	public void onReceive(GpsLocation location) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+public class LocationUpdateSelectiveBroadcastFilterParameters extends BroadcastFilterParameters {
+	public LocationUpdateSelectiveBroadcastFilterParameters() { };
+
+	public LocationUpdateSelectiveBroadcastFilterParameters(String country, String startTime, String endTime) {
+		super.setFilterParameter("country", country);
+		super.setFilterParameter("startTime", startTime);
+		super.setFilterParameter("endTime", endTime);
+	}
+	public void setCountry(String country) {
+		super.setFilterParameter("country", country);
+	}
+	public String getCountry() {
+		return super.getFilterParameter("country");
+	}
+	public void setStartTime(String startTime) {
+		super.setFilterParameter("startTime", startTime);
+	}
+	public String getStartTime() {
+		return super.getFilterParameter("startTime");
+	}
+	public void setEndTime(String endTime) {
+		super.setFilterParameter("endTime", endTime);
+	}
+	public String getEndTime() {
+		return super.getFilterParameter("endTime");
+	}
+}
+
+@JoynrRpcBroadcast(broadcastName = "locationUpdateSelective")
+abstract Future<String> subscribeToLocationUpdateSelectiveBroadcast(
+		LocationUpdateSelectiveBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		LocationUpdateSelectiveBroadcastFilterParameters filterParameters);
+
+@JoynrRpcBroadcast(broadcastName = "locationUpdateSelective")
+abstract Future<String> subscribeToLocationUpdateSelectiveBroadcast(
+		String subscriptionId,
+		LocationUpdateSelectiveBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		LocationUpdateSelectiveBroadcastFilterParameters filterParameters);
+
+abstract void unsubscribeFromLocationUpdateSelectiveBroadcast(String subscriptionId);
+
+public interface LocationUpdateWithSpeedSelectiveBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(GpsLocation location, Float currentSpeed);
+}
+
+public class LocationUpdateWithSpeedSelectiveBroadcastAdapter implements LocationUpdateWithSpeedSelectiveBroadcastListener {
+	public void onReceive(GpsLocation location, Float currentSpeed) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+public class LocationUpdateWithSpeedSelectiveBroadcastFilterParameters extends BroadcastFilterParameters {
+	public LocationUpdateWithSpeedSelectiveBroadcastFilterParameters() { };
+
+	public LocationUpdateWithSpeedSelectiveBroadcastFilterParameters(String country, String startTime, String endTime) {
+		super.setFilterParameter("country", country);
+		super.setFilterParameter("startTime", startTime);
+		super.setFilterParameter("endTime", endTime);
+	}
+	public void setCountry(String country) {
+		super.setFilterParameter("country", country);
+	}
+	public String getCountry() {
+		return super.getFilterParameter("country");
+	}
+	public void setStartTime(String startTime) {
+		super.setFilterParameter("startTime", startTime);
+	}
+	public String getStartTime() {
+		return super.getFilterParameter("startTime");
+	}
+	public void setEndTime(String endTime) {
+		super.setFilterParameter("endTime", endTime);
+	}
+	public String getEndTime() {
+		return super.getFilterParameter("endTime");
+	}
+}
+
+@JoynrRpcBroadcast(broadcastName = "locationUpdateWithSpeedSelective")
+abstract Future<String> subscribeToLocationUpdateWithSpeedSelectiveBroadcast(
+		LocationUpdateWithSpeedSelectiveBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		LocationUpdateWithSpeedSelectiveBroadcastFilterParameters filterParameters);
+
+@JoynrRpcBroadcast(broadcastName = "locationUpdateWithSpeedSelective")
+abstract Future<String> subscribeToLocationUpdateWithSpeedSelectiveBroadcast(
+		String subscriptionId,
+		LocationUpdateWithSpeedSelectiveBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		LocationUpdateWithSpeedSelectiveBroadcastFilterParameters filterParameters);
+
+abstract void unsubscribeFromLocationUpdateWithSpeedSelectiveBroadcast(String subscriptionId);
+}
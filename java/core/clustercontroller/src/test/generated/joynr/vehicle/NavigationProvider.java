@@ -0,0 +1,196 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import io.joynr.provider.Promise;
+import io.joynr.provider.Deferred;
+import io.joynr.provider.AbstractDeferred;
+import io.joynr.provider.DeferredVoid;
+import joynr.exceptions.ApplicationException;
+
+import io.joynr.provider.JoynrInterface;
+import io.joynr.JoynrVersion;
+
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+
+import io.joynr.provider.SubscriptionPublisherInjection;
+
+interface NavigationSubscriptionPublisherInjection extends SubscriptionPublisherInjection<NavigationSubscriptionPublisher> { }
+
+@JoynrInterface(provides = Navigation.class, provider = NavigationProvider.class, name = "vehicle/Navigation")
+@JoynrVersion(major = 0, minor = 1)
+public interface NavigationProvider extends NavigationSubscriptionPublisherInjection {
+
+
+	Promise<Deferred<Boolean>> getGuidanceActive();
+
+	Promise<Deferred<Trip>> getGuidedTrip();
+
+	Promise<Deferred<Trip[]>> getTrips();
+	Promise<DeferredVoid> setTrips(Trip[] trips);
+
+	/**
+	 * addTrip
+	 * @param trip the parameter trip
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> addTrip(
+			Trip trip
+	);
+
+	/**
+	 * updateTrip
+	 * @param trip the parameter trip
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<UpdateTripDeferred> updateTrip(
+			Trip trip
+	);
+
+	/**
+	 * deleteTrip
+	 * @param tripId the parameter tripId
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> deleteTrip(
+			String tripId
+	);
+
+	/**
+	 * deleteTrip
+	 * @param trip the parameter trip
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeleteTrip1Deferred> deleteTrip(
+			Trip trip
+	);
+
+	/**
+	 * deleteAll
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> deleteAll(
+	);
+
+	/**
+	 * getSavedTrips
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<GetSavedTripsDeferred> getSavedTrips(
+	);
+
+	/**
+	 * getTrip
+	 * @param tripId the parameter tripId
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<GetTrip1Deferred> getTrip(
+			String tripId
+	);
+
+	/**
+	 * getTrip
+	 * @param tripIdSearchString the parameter tripIdSearchString
+	 * @param allowWildcards the parameter allowWildcards
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<GetTrip2Deferred> getTrip(
+			String tripIdSearchString,
+			Boolean allowWildcards
+	);
+
+	/**
+	 * requestGuidance
+	 * @param trip the parameter trip
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<RequestGuidanceDeferred> requestGuidance(
+			Trip trip
+	);
+
+	/**
+	 * stopGuidance
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<StopGuidanceDeferred> stopGuidance(
+	);
+
+	public class UpdateTripDeferred extends AbstractDeferred {
+		public synchronized boolean resolve() {
+			Object[] values = new Object[] { };
+			return super.resolve(values);
+		}
+		public synchronized boolean reject(joynr.vehicle.Navigation.UpdateTripErrorEnum error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class DeleteTrip1Deferred extends AbstractDeferred {
+		public synchronized boolean resolve(Boolean success) {
+			return super.resolve(success);
+		}
+		public synchronized boolean reject(joynr.vehicle.Navigation.DeleteTrip2ErrorEnum error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class GetSavedTripsDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Trip[] result) {
+			return super.resolve((Object) result);
+		}
+	}
+
+	public class GetTrip1Deferred extends AbstractDeferred {
+		public synchronized boolean resolve(Trip result) {
+			return super.resolve(result);
+		}
+		public synchronized boolean reject(joynr.types.Localisation.GetTripErrors error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class GetTrip2Deferred extends AbstractDeferred {
+		public synchronized boolean resolve(Trip[] result) {
+			return super.resolve((Object) result);
+		}
+		public synchronized boolean reject(joynr.types.Localisation.GetTripErrors error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class RequestGuidanceDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Boolean result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class StopGuidanceDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Boolean result) {
+			return super.resolve(result);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import io.joynr.dispatcher.rpc.JoynrSubscriptionInterface;
+
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcSubscription;
+import io.joynr.proxy.Future;
+import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
+import io.joynr.pubsub.SubscriptionQos;
+
+import joynr.types.Localisation.Trip;
+
+public interface NavigationSubscriptionInterface extends JoynrSubscriptionInterface, Navigation {
+
+
+	@JoynrRpcSubscription(attributeName = "guidanceActive", attributeType = Boolean.class)
+	public Future<String> subscribeToGuidanceActive(AttributeSubscriptionListener<Boolean> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "guidanceActive", attributeType = Boolean.class)
+	public Future<String> subscribeToGuidanceActive(String subscriptionId, AttributeSubscriptionListener<Boolean> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromGuidanceActive(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "guidedTrip", attributeType = Trip.class)
+	public Future<String> subscribeToGuidedTrip(AttributeSubscriptionListener<Trip> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "guidedTrip", attributeType = Trip.class)
+	public Future<String> subscribeToGuidedTrip(String subscriptionId, AttributeSubscriptionListener<Trip> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromGuidedTrip(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "trips", attributeType = Trip[].class)
+	public Future<String> subscribeToTrips(AttributeSubscriptionListener<Trip[]> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "trips", attributeType = Trip[].class)
+	public Future<String> subscribeToTrips(String subscriptionId, AttributeSubscriptionListener<Trip[]> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromTrips(String subscriptionId);
+}
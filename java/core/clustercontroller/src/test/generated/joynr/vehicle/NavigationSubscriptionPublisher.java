@@ -0,0 +1,46 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import io.joynr.dispatcher.rpc.annotation.JoynrMulticast;
+import io.joynr.provider.SubscriptionPublisher;
+
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+
+public interface NavigationSubscriptionPublisher extends SubscriptionPublisher {
+
+	public void guidanceActiveChanged(Boolean guidanceActive);
+	public void guidedTripChanged(Trip guidedTrip);
+	public void tripsChanged(Trip[] trips);
+
+	@JoynrMulticast(name = "locationUpdate")
+	public void fireLocationUpdate(GpsLocation location, String... partitions);
+	@JoynrMulticast(name = "locationUpdateWithSpeed")
+	public void fireLocationUpdateWithSpeed(GpsLocation location, Float currentSpeed, String... partitions);
+	public void fireLocationUpdateSelective(GpsLocation location);
+	public void fireLocationUpdateWithSpeedSelective(GpsLocation location, Float currentSpeed);
+}
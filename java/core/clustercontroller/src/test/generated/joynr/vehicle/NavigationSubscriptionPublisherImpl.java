@@ -0,0 +1,61 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import io.joynr.provider.AbstractSubscriptionPublisher;
+
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+
+public class NavigationSubscriptionPublisherImpl extends AbstractSubscriptionPublisher implements NavigationSubscriptionPublisher {
+
+	public final void guidanceActiveChanged(Boolean guidanceActive) {
+		onAttributeValueChanged("guidanceActive", guidanceActive);
+	}
+	public final void guidedTripChanged(Trip guidedTrip) {
+		onAttributeValueChanged("guidedTrip", guidedTrip);
+	}
+	public final void tripsChanged(Trip[] trips) {
+		onAttributeValueChanged("trips", trips);
+	}
+
+	public void fireLocationUpdateSelective(GpsLocation location) {
+		fireBroadcast("locationUpdateSelective", broadcastFilters.get("locationUpdateSelective"), location);
+	}
+
+	public void fireLocationUpdateWithSpeedSelective(GpsLocation location, Float currentSpeed) {
+		fireBroadcast("locationUpdateWithSpeedSelective", broadcastFilters.get("locationUpdateWithSpeedSelective"), location, currentSpeed);
+	}
+
+	public void fireLocationUpdate(GpsLocation location, String... partitions) {
+		fireMulticast("locationUpdate", partitions, location);
+	}
+
+	public void fireLocationUpdateWithSpeed(GpsLocation location, Float currentSpeed, String... partitions) {
+		fireMulticast("locationUpdateWithSpeed", partitions, location, currentSpeed);
+	}
+
+}
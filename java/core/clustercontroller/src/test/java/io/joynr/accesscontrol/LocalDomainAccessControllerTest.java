@@ -27,6 +27,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -41,6 +42,7 @@ import io.joynr.messaging.MessagingQos;
 import io.joynr.proxy.ProxyBuilderFactoryImpl;
 import io.joynr.proxy.ProxyInvocationHandler;
 import io.joynr.proxy.ProxyInvocationHandlerFactory;
+import io.joynr.proxy.ProxyPool;
 import io.joynr.proxy.StatelessAsyncCallbackDirectory;
 import io.joynr.runtime.ShutdownNotifier;
 import joynr.infrastructure.DacTypes.DomainRoleEntry;
@@ -109,6 +111,8 @@ public class LocalDomainAccessControllerTest {
                                                                                                       proxyInvocationHandlerFactoryMock,
                                                                                                       shutdownNotifier,
                                                                                                       statelessAsyncCallbackDirectoryMock,
+                                                                                                      new ProxyPool(mock(ScheduledExecutorService.class),
+                                                                                                                    0),
                                                                                                       MAX_TTL,
                                                                                                       DEFAULT_DISCOVERY_TIMEOUT_MS,
                                                                                                       DEFAULT_RETRY_INTERVAL_MS,
@@ -18,6 +18,7 @@
  */
 package io.joynr.capabilities;
 
+import static io.joynr.runtime.SystemServicesSettings.PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_EXPIRY_THRESHOLD_MS;
 import static io.joynr.runtime.SystemServicesSettings.PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_INTERVAL_MS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -95,6 +96,7 @@ public abstract class AbstractLocalCapabilitiesDirectoryTest {
     protected static final long ONE_DAY_IN_MS = 24 * 60 * 60 * 1000;
     protected static final String TEST_URL = "mqtt://testUrl:42";
     protected static final long FRESHNESS_UPDATE_INTERVAL_MS = 300;
+    protected static final long GLOBAL_LOOKUP_NEGATIVE_CACHE_MAX_AGE_MS = 0;
     protected static final long DEFAULT_EXPIRY_TIME_MS = 3628800000L;
     protected static final String INTERFACE_NAME = "interfaceName";
     protected static final String TEST_TOPIC = "testTopic";
@@ -274,6 +276,12 @@ public abstract class AbstractLocalCapabilitiesDirectoryTest {
                                     .toInstance(knownGbids);
                 bind(long.class).annotatedWith(Names.named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_PROVIDER_DEFAULT_EXPIRY_TIME_MS))
                                 .toInstance(DEFAULT_EXPIRY_TIME_MS);
+                bind(long.class).annotatedWith(Names.named(PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_EXPIRY_THRESHOLD_MS))
+                                .toInstance(0L);
+                bind(long.class).annotatedWith(Names.named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_GLOBAL_LOOKUP_NEGATIVE_CACHE_MAX_AGE_MS))
+                                .toInstance(GLOBAL_LOOKUP_NEGATIVE_CACHE_MAX_AGE_MS);
+                bind(boolean.class).annotatedWith(Names.named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_GLOBAL_CACHE_CHANGE_NOTIFICATIONS))
+                                   .toInstance(false);
                 bind(AccessController.class).toInstance(accessController);
                 bind(boolean.class).annotatedWith(Names.named(ClusterControllerRuntimeModule.PROPERTY_ACCESSCONTROL_ENABLE))
                                    .toInstance(enableAccessControl);
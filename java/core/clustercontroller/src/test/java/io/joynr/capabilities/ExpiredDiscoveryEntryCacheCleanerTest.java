@@ -44,6 +44,8 @@ import org.mockito.stubbing.Answer;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
 import joynr.types.DiscoveryEntry;
+import joynr.types.ProviderQos;
+import joynr.types.Version;
 
 /**
  * Unit tests for the {@link ExpiredDiscoveryEntryCacheCleaner}.
@@ -114,4 +116,32 @@ public class ExpiredDiscoveryEntryCacheCleanerTest {
         verify(cache).getAllDiscoveryEntries();
         verify(cleanupAction).cleanup(new HashSet<DiscoveryEntry>(Arrays.asList(expiredEntry)));
     }
+
+    @Test
+    public void testExpiredEntriesOfConcurrentStoreCleanedUp() {
+        // unlike DiscoveryEntryStoreInMemory, the concurrent store returns its entries in getAllDiscoveryEntries
+        DiscoveryEntryStoreConcurrent<DiscoveryEntry> concurrentStore = new DiscoveryEntryStoreConcurrent<>(0);
+        DiscoveryEntry liveEntry = new DiscoveryEntry(new Version(),
+                                                      "domain",
+                                                      "interfaceName",
+                                                      "liveParticipantId",
+                                                      new ProviderQos(),
+                                                      System.currentTimeMillis(),
+                                                      System.currentTimeMillis() + 100000L,
+                                                      "publicKeyId");
+        DiscoveryEntry expiredEntry = new DiscoveryEntry(liveEntry);
+        expiredEntry.setParticipantId("expiredParticipantId");
+        expiredEntry.setExpiryDateMs(System.currentTimeMillis() - 1000L);
+        concurrentStore.add(liveEntry);
+        concurrentStore.add(expiredEntry);
+
+        subject.scheduleCleanUpForCaches(cleanupAction, concurrentStore);
+
+        verify(scheduledExecutorService).scheduleAtFixedRate(runnableArgumentCaptor.capture(),
+                                                             eq(1L),
+                                                             eq(1L),
+                                                             eq(TimeUnit.MINUTES));
+        runnableArgumentCaptor.getValue().run();
+        verify(cleanupAction).cleanup(new HashSet<DiscoveryEntry>(Arrays.asList(expiredEntry)));
+    }
 }
@@ -377,4 +377,20 @@ public class GlobalCapabilitiesDirectoryClientTest {
         assertEquals(expectedGbid,
                      messagingQosCaptor.getValue().getCustomMessageHeaders().get(Message.CUSTOM_HEADER_GBID_KEY));
     }
+
+    @Test
+    public void testTouchAllAsync() {
+        final String expectedGbid = "dummyGbid";
+
+        subject.touch(callbackVoidMock, expectedGbid);
+
+        ArgumentCaptor<MessagingQos> messagingQosCaptor = ArgumentCaptor.forClass(MessagingQos.class);
+        verify(globalCapabilitiesDirectoryProxyMock, times(1)).touch(eq(callbackVoidMock),
+                                                                     eq(channelId),
+                                                                     messagingQosCaptor.capture());
+
+        assertEquals(FRESHNESS_UPDATE_INTERVAL_MS, messagingQosCaptor.getValue().getRoundTripTtl_ms());
+        assertEquals(expectedGbid,
+                     messagingQosCaptor.getValue().getCustomMessageHeaders().get(Message.CUSTOM_HEADER_GBID_KEY));
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.exceptions.JoynrTimeoutException;
+import io.joynr.proxy.CallbackWithModeledError;
+import joynr.types.DiscoveryError;
+import joynr.types.GlobalDiscoveryEntry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GlobalLookupCoalescerTest {
+
+    private static final long NEGATIVE_CACHE_MAX_AGE_MS = 60000;
+    private static final long CACHE_MAX_AGE_MS = 30000;
+    private static final long TTL_MS = 60000;
+    private static final String[] DOMAINS = { "domain1", "domain2" };
+    private static final String INTERFACE_NAME = "interfaceName";
+    private static final String[] GBIDS = { "gbid1" };
+
+    @Mock
+    private CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError> callback1;
+    @Mock
+    private CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError> callback2;
+
+    private List<CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError>> globalLookupCallbacks;
+    private Consumer<CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError>> globalLookup;
+    private GlobalLookupCoalescer subject;
+
+    @Before
+    public void setUp() {
+        globalLookupCallbacks = new ArrayList<>();
+        globalLookup = globalLookupCallbacks::add;
+        subject = new GlobalLookupCoalescer(NEGATIVE_CACHE_MAX_AGE_MS);
+    }
+
+    private void lookup(String[] domains,
+                        long cacheMaxAge,
+                        CallbackWithModeledError<List<GlobalDiscoveryEntry>, DiscoveryError> callback) {
+        subject.lookup(domains, INTERFACE_NAME, GBIDS, cacheMaxAge, TTL_MS, callback, globalLookup);
+    }
+
+    @Test
+    public void concurrentLookupsShareSingleGlobalLookup() {
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        lookup(DOMAINS.clone(), 0, callback2);
+        assertEquals(1, globalLookupCallbacks.size());
+
+        List<GlobalDiscoveryEntry> result = List.of(new GlobalDiscoveryEntry());
+        globalLookupCallbacks.get(0).onSuccess(result);
+
+        verify(callback1).onSuccess(result);
+        verify(callback2).onSuccess(result);
+
+        // the next lookup is sent again because the previous one has completed
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        assertEquals(2, globalLookupCallbacks.size());
+    }
+
+    @Test
+    public void lookupsForDifferentDomainsAreNotCoalesced() {
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        lookup(new String[]{ "domain1" }, CACHE_MAX_AGE_MS, callback2);
+        assertEquals(2, globalLookupCallbacks.size());
+    }
+
+    @Test
+    public void failureIsReportedToAllWaitingCallbacksAndNotRemembered() {
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback2);
+        JoynrRuntimeException exception = new JoynrTimeoutException(42);
+        globalLookupCallbacks.get(0).onFailure(exception);
+
+        verify(callback1).onFailure(exception);
+        verify(callback2).onFailure(exception);
+
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        assertEquals(2, globalLookupCallbacks.size());
+    }
+
+    @Test
+    public void emptyResultIsRememberedWithinCacheMaxAge() {
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        globalLookupCallbacks.get(0).onSuccess(Collections.emptyList());
+        verify(callback1).onSuccess(Collections.emptyList());
+
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback2);
+        assertEquals(1, globalLookupCallbacks.size());
+        verify(callback2).onSuccess(Collections.emptyList());
+
+        // a lookup with cacheMaxAge 0 does not accept remembered results
+        lookup(DOMAINS, 0, callback2);
+        assertEquals(2, globalLookupCallbacks.size());
+    }
+
+    @Test
+    public void noEntryForSelectedBackendsIsRemembered() {
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        globalLookupCallbacks.get(0).onFailure(DiscoveryError.NO_ENTRY_FOR_SELECTED_BACKENDS);
+        verify(callback1).onFailure(DiscoveryError.NO_ENTRY_FOR_SELECTED_BACKENDS);
+
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback2);
+        assertEquals(1, globalLookupCallbacks.size());
+        verify(callback2).onFailure(DiscoveryError.NO_ENTRY_FOR_SELECTED_BACKENDS);
+    }
+
+    @Test
+    public void otherDiscoveryErrorsAreNotRemembered() {
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        globalLookupCallbacks.get(0).onFailure(DiscoveryError.INTERNAL_ERROR);
+
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback2);
+        assertEquals(2, globalLookupCallbacks.size());
+        verify(callback2, never()).onFailure(any(DiscoveryError.class));
+    }
+
+    @Test
+    public void nonEmptyResultRemovesRememberedNegativeResult() {
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        globalLookupCallbacks.get(0).onSuccess(Collections.emptyList());
+        lookup(DOMAINS, 0, callback1);
+        globalLookupCallbacks.get(1).onSuccess(List.of(new GlobalDiscoveryEntry()));
+
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback2);
+        assertEquals(3, globalLookupCallbacks.size());
+    }
+
+    @Test
+    public void negativeResultsAreNotRememberedIfDisabled() {
+        subject = new GlobalLookupCoalescer(0);
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback1);
+        globalLookupCallbacks.get(0).onSuccess(Collections.emptyList());
+
+        lookup(DOMAINS, CACHE_MAX_AGE_MS, callback2);
+        assertEquals(2, globalLookupCallbacks.size());
+    }
+
+    @Test
+    public void expiredInFlightLookupIsNotJoined() throws InterruptedException {
+        subject.lookup(DOMAINS, INTERFACE_NAME, GBIDS, CACHE_MAX_AGE_MS, 0, callback1, globalLookup);
+        Thread.sleep(10);
+        subject.lookup(DOMAINS, INTERFACE_NAME, GBIDS, CACHE_MAX_AGE_MS, TTL_MS, callback2, globalLookup);
+        assertEquals(2, globalLookupCallbacks.size());
+
+        List<GlobalDiscoveryEntry> result = List.of(new GlobalDiscoveryEntry());
+        globalLookupCallbacks.get(0).onSuccess(result);
+        verify(callback1, times(1)).onSuccess(result);
+        verify(callback2, never()).onSuccess(any());
+        globalLookupCallbacks.get(1).onSuccess(result);
+        verify(callback2, times(1)).onSuccess(result);
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import static io.joynr.runtime.SystemServicesSettings.PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_INTERVAL_MS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Module;
+import com.google.inject.name.Names;
+import com.google.inject.util.Modules;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.provider.Promise;
+import joynr.infrastructure.GlobalCapabilitiesDirectoryBroadcastInterface.GlobalDiscoveryEntryChangedBroadcastListener;
+import joynr.system.DiscoveryProvider.Lookup2Deferred;
+import joynr.types.ChangeType;
+import joynr.types.DiscoveryEntry;
+import joynr.types.DiscoveryQos;
+import joynr.types.DiscoveryScope;
+import joynr.types.GlobalDiscoveryEntry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LocalCapabilitiesDirectoryChangeNotificationTest extends AbstractLocalCapabilitiesDirectoryTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalCapabilitiesDirectoryChangeNotificationTest.class);
+    private static final String DOMAIN = "io.joynr.domain";
+    private static final String DOMAIN_PARTITION = "iojoynrdomain";
+
+    private LocalCapabilitiesDirectory localCapabilitiesDirectoryWithChangeNotifications;
+    private DiscoveryQos globalOnlyDiscoveryQos;
+    private GlobalDiscoveryEntry changedEntry;
+    private ArgumentCaptor<String> subscriptionIdCaptor = ArgumentCaptor.forClass(String.class);
+
+    @Before
+    public void setUpChangeNotifications() {
+        Module injectionModule = Modules.override(createBaseInjectionModule()).with(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(long.class).annotatedWith(Names.named(PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_INTERVAL_MS))
+                                .toInstance(FRESHNESS_UPDATE_INTERVAL_MS);
+                bind(boolean.class).annotatedWith(Names.named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_GLOBAL_CACHE_CHANGE_NOTIFICATIONS))
+                                   .toInstance(true);
+            }
+        });
+        localCapabilitiesDirectoryWithChangeNotifications = Guice.createInjector(injectionModule)
+                                                                 .getInstance(LocalCapabilitiesDirectory.class);
+
+        globalOnlyDiscoveryQos = new DiscoveryQos(30000L, 500L, DiscoveryScope.GLOBAL_ONLY, false);
+        changedEntry = new GlobalDiscoveryEntry(globalDiscoveryEntry);
+        changedEntry.setDomain(DOMAIN);
+    }
+
+    private void lookup(LocalCapabilitiesDirectory directory) throws InterruptedException {
+        final Promise<Lookup2Deferred> promise = directory.lookup(new String[]{ DOMAIN },
+                                                                  INTERFACE_NAME,
+                                                                  globalOnlyDiscoveryQos,
+                                                                  new String[0]);
+        promiseChecker.checkPromiseSuccess(promise, MSG_LOOKUP_FAILED);
+    }
+
+    private GlobalDiscoveryEntryChangedBroadcastListener subscribeAfterLookup() throws InterruptedException {
+        mockGcdLookup(new ArrayList<>());
+        lookup(localCapabilitiesDirectoryWithChangeNotifications);
+
+        ArgumentCaptor<GlobalDiscoveryEntryChangedBroadcastListener> listenerCaptor = ArgumentCaptor.forClass(GlobalDiscoveryEntryChangedBroadcastListener.class);
+        verify(globalCapabilitiesDirectoryClient).subscribeToGlobalDiscoveryEntryChanged(subscriptionIdCaptor.capture(),
+                                                                                         listenerCaptor.capture(),
+                                                                                         eq(DOMAIN_PARTITION),
+                                                                                         eq(INTERFACE_NAME));
+        return listenerCaptor.getValue();
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void noSubscription_ifChangeNotificationsAreDisabled() throws InterruptedException {
+        mockGcdLookup(new ArrayList<>());
+        lookup(localCapabilitiesDirectory);
+
+        verify(globalCapabilitiesDirectoryClient, never()).subscribeToGlobalDiscoveryEntryChanged(anyString(),
+                                                                                                  any(),
+                                                                                                  anyString(),
+                                                                                                  anyString());
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void subscribesOnlyOnce_perDomainAndInterface() throws InterruptedException {
+        subscribeAfterLookup();
+
+        lookup(localCapabilitiesDirectoryWithChangeNotifications);
+
+        verify(globalCapabilitiesDirectoryClient,
+               times(2)).lookup(any(), any(String[].class), anyString(), anyLong(), any(String[].class));
+        verify(globalCapabilitiesDirectoryClient, times(1)).subscribeToGlobalDiscoveryEntryChanged(anyString(),
+                                                                                                   any(),
+                                                                                                   anyString(),
+                                                                                                   anyString());
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void addedAndUpdatedEntries_areAddedToCache() throws InterruptedException {
+        GlobalDiscoveryEntryChangedBroadcastListener listener = subscribeAfterLookup();
+
+        listener.onReceive(ChangeType.ADD, changedEntry);
+        listener.onReceive(ChangeType.UPDATE, changedEntry);
+
+        verify(globalDiscoveryEntryCacheMock, times(2)).add(changedEntry);
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void removedEntries_areRemovedFromCache() throws InterruptedException {
+        GlobalDiscoveryEntryChangedBroadcastListener listener = subscribeAfterLookup();
+
+        listener.onReceive(ChangeType.REMOVE, changedEntry);
+
+        verify(globalDiscoveryEntryCacheMock).remove(changedEntry.getParticipantId());
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void removeOfLastCachedEntry_unsubscribes() throws InterruptedException {
+        GlobalDiscoveryEntryChangedBroadcastListener listener = subscribeAfterLookup();
+        String subscriptionId = subscriptionIdCaptor.getValue();
+
+        listener.onReceive(ChangeType.REMOVE, changedEntry);
+
+        verify(globalCapabilitiesDirectoryClient).unsubscribeFromGlobalDiscoveryEntryChanged(subscriptionId);
+        // notifications received after the unsubscribe are ignored
+        listener.onReceive(ChangeType.ADD, changedEntry);
+        verify(globalDiscoveryEntryCacheMock, never()).add(any(GlobalDiscoveryEntry.class));
+
+        // the next global lookup subscribes again
+        lookup(localCapabilitiesDirectoryWithChangeNotifications);
+        verify(globalCapabilitiesDirectoryClient, times(2)).subscribeToGlobalDiscoveryEntryChanged(anyString(),
+                                                                                                   any(),
+                                                                                                   eq(DOMAIN_PARTITION),
+                                                                                                   eq(INTERFACE_NAME));
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void removeOfEntry_doesNotUnsubscribe_ifOtherEntriesAreCached() throws InterruptedException {
+        GlobalDiscoveryEntryChangedBroadcastListener listener = subscribeAfterLookup();
+        GlobalDiscoveryEntry otherEntry = new GlobalDiscoveryEntry(changedEntry);
+        otherEntry.setParticipantId("otherParticipantId");
+        otherEntry.setExpiryDateMs(System.currentTimeMillis() + 60000);
+        when(globalDiscoveryEntryCacheMock.lookup(new String[]{ DOMAIN },
+                                                  INTERFACE_NAME)).thenReturn(Arrays.asList(otherEntry));
+
+        listener.onReceive(ChangeType.REMOVE, changedEntry);
+
+        verify(globalCapabilitiesDirectoryClient, never()).unsubscribeFromGlobalDiscoveryEntryChanged(anyString());
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void expiryOfLastCachedEntry_unsubscribes() throws InterruptedException {
+        subscribeAfterLookup();
+        GlobalDiscoveryEntry expiredEntry = new GlobalDiscoveryEntry(changedEntry);
+        expiredEntry.setExpiryDateMs(System.currentTimeMillis() - 1);
+        when(globalDiscoveryEntryCacheMock.lookup(new String[]{ DOMAIN },
+                                                  INTERFACE_NAME)).thenReturn(Arrays.asList(expiredEntry));
+
+        ArgumentCaptor<ExpiredDiscoveryEntryCacheCleaner.CleanupAction> cleanupActionCaptor = ArgumentCaptor.forClass(ExpiredDiscoveryEntryCacheCleaner.CleanupAction.class);
+        verify(expiredDiscoveryEntryCacheCleaner, atLeastOnce()).scheduleCleanUpForCaches(cleanupActionCaptor.capture(),
+                                                                                          any(),
+                                                                                          any());
+        List<ExpiredDiscoveryEntryCacheCleaner.CleanupAction> cleanupActions = cleanupActionCaptor.getAllValues();
+        cleanupActions.get(cleanupActions.size() - 1).cleanup(new HashSet<>(Arrays.asList(expiredEntry)));
+
+        verify(globalCapabilitiesDirectoryClient).unsubscribeFromGlobalDiscoveryEntryChanged(subscriptionIdCaptor.getValue());
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void entriesOfOtherDomains_areIgnored() throws InterruptedException {
+        GlobalDiscoveryEntryChangedBroadcastListener listener = subscribeAfterLookup();
+        // same partition after sanitizing
+        GlobalDiscoveryEntry otherDomainEntry = new GlobalDiscoveryEntry(changedEntry);
+        otherDomainEntry.setDomain(DOMAIN_PARTITION);
+
+        listener.onReceive(ChangeType.ADD, otherDomainEntry);
+
+        verify(globalDiscoveryEntryCacheMock, never()).add(any(GlobalDiscoveryEntry.class));
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void entriesOfLocalProviders_areIgnored() throws InterruptedException {
+        GlobalDiscoveryEntryChangedBroadcastListener listener = subscribeAfterLookup();
+        when(localDiscoveryEntryStoreMock.lookup(changedEntry.getParticipantId(),
+                                                 Long.MAX_VALUE)).thenReturn(Optional.of(new DiscoveryEntry(changedEntry)));
+
+        listener.onReceive(ChangeType.ADD, changedEntry);
+        listener.onReceive(ChangeType.REMOVE, changedEntry);
+
+        verify(globalDiscoveryEntryCacheMock, never()).add(any(GlobalDiscoveryEntry.class));
+        verify(globalDiscoveryEntryCacheMock, never()).remove(anyString());
+    }
+
+    @Override
+    protected Logger getLogger() {
+        return logger;
+    }
+}
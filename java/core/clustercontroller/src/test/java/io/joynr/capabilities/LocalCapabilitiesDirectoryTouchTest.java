@@ -18,12 +18,16 @@
  */
 package io.joynr.capabilities;
 
+import static io.joynr.runtime.SystemServicesSettings.PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_EXPIRY_THRESHOLD_MS;
+import static io.joynr.runtime.SystemServicesSettings.PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_INTERVAL_MS;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +40,12 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Module;
+import com.google.inject.name.Names;
+import com.google.inject.util.Modules;
+
 import io.joynr.provider.DeferredVoid;
 import io.joynr.provider.Promise;
 import joynr.system.DiscoveryProvider.Add1Deferred;
@@ -259,6 +269,118 @@ public class LocalCapabilitiesDirectoryTouchTest extends AbstractLocalCapabiliti
         verify(globalCapabilitiesDirectoryClient, times(1)).touch(any(), eq(expectedParticipantIds2), eq(gbid2));
     }
 
+    @Test
+    public void compactTouchCalled_afterRemoveStaleSucceeded_ifEnabled() throws Exception {
+        setFieldValue(localCapabilitiesDirectory, "freshnessUpdateCompactTouchEnabled", true);
+        runFreshnessUpdateAfterRemoveStaleSucceededInFirstGbid();
+
+        verify(globalCapabilitiesDirectoryClient, times(1)).touch(any(), eq(knownGbids[1]));
+        verify(globalCapabilitiesDirectoryClient, never()).touch(any(), any(), eq(knownGbids[1]));
+        verify(globalCapabilitiesDirectoryClient, never()).touch(any(), eq(knownGbids[2]));
+        verify(globalCapabilitiesDirectoryClient, times(1)).touch(any(),
+                                                                  eq(new String[]{ "participantId2" }),
+                                                                  eq(knownGbids[2]));
+    }
+
+    @Test
+    public void compactTouchNotCalled_afterRemoveStaleSucceeded_byDefault() throws Exception {
+        runFreshnessUpdateAfterRemoveStaleSucceededInFirstGbid();
+
+        verify(globalCapabilitiesDirectoryClient, never()).touch(any(), anyString());
+        verify(globalCapabilitiesDirectoryClient, times(1)).touch(any(),
+                                                                  eq(new String[]{ "participantId1" }),
+                                                                  eq(knownGbids[1]));
+        verify(globalCapabilitiesDirectoryClient, times(1)).touch(any(),
+                                                                  eq(new String[]{ "participantId2" }),
+                                                                  eq(knownGbids[2]));
+    }
+
+    private void runFreshnessUpdateAfterRemoveStaleSucceededInFirstGbid() throws InterruptedException {
+        final String participantId1 = "participantId1";
+        final String participantId2 = "participantId2";
+
+        final String gbid1 = knownGbids[1];
+        final String gbid2 = knownGbids[2];
+        final String[] gbids1 = { gbid1 };
+        final String[] gbids2 = { gbid2 };
+
+        final GlobalDiscoveryEntry entry1 = new GlobalDiscoveryEntry(globalDiscoveryEntry);
+
+        setProviderQos(entry1, ProviderScope.GLOBAL);
+        entry1.setParticipantId(participantId1);
+
+        final GlobalDiscoveryEntry entry2 = new GlobalDiscoveryEntry(entry1);
+        entry2.setParticipantId(participantId2);
+
+        final Promise<Add1Deferred> promiseAdd1 = localCapabilitiesDirectory.add(entry1, true, gbids1);
+        final Promise<Add1Deferred> promiseAdd2 = localCapabilitiesDirectory.add(entry2, true, gbids2);
+        promiseChecker.checkPromiseSuccess(promiseAdd1, MSG_ON_ADD_REJECT);
+        promiseChecker.checkPromiseSuccess(promiseAdd2, MSG_ON_ADD_REJECT);
+
+        // removeStale only succeeds in gbid1
+        doAnswer(answerCreateHelper.createAnswerWithSuccess()).when(globalCapabilitiesDirectoryClient)
+                                                              .removeStale(any(), anyLong(), eq(gbid1));
+        localCapabilitiesDirectory.removeStaleProvidersOfClusterController();
+
+        final String[] participantIdsToTouch = new String[]{ participantId1, participantId2 };
+        when(localDiscoveryEntryStoreMock.touchDiscoveryEntries(anyLong(),
+                                                                anyLong())).thenReturn(participantIdsToTouch);
+
+        verify(capabilitiesFreshnessUpdateExecutor).scheduleAtFixedRate(runnableCaptor.capture(),
+                                                                        eq(FRESHNESS_UPDATE_INTERVAL_MS),
+                                                                        eq(FRESHNESS_UPDATE_INTERVAL_MS),
+                                                                        eq(TimeUnit.MILLISECONDS));
+
+        final CountDownLatch cdl = new CountDownLatch(2);
+        lenient().doAnswer(answerCreateHelper.createAnswerWithSuccess(cdl))
+                 .when(globalCapabilitiesDirectoryClient)
+                 .touch(any(), anyString());
+        doAnswer(answerCreateHelper.createAnswerWithSuccess(cdl)).when(globalCapabilitiesDirectoryClient)
+                                                                 .touch(any(), any(), anyString());
+        final Runnable runnable = runnableCaptor.getValue();
+        runnable.run();
+        assertTrue(cdl.await(DEFAULT_WAIT_TIME_MS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void onlyExpiringEntriesTouched_ifExpiryThresholdIsSet() throws InterruptedException {
+        final long expiryThresholdMs = 1000000L;
+        Module injectionModule = Modules.override(createBaseInjectionModule()).with(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(long.class).annotatedWith(Names.named(PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_INTERVAL_MS))
+                                .toInstance(FRESHNESS_UPDATE_INTERVAL_MS);
+                bind(long.class).annotatedWith(Names.named(PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_EXPIRY_THRESHOLD_MS))
+                                .toInstance(expiryThresholdMs);
+            }
+        });
+        Guice.createInjector(injectionModule).getInstance(LocalCapabilitiesDirectory.class);
+
+        final String[] participantIdsToTouch = new String[]{ "participantId1" };
+        final ArgumentCaptor<Long> lastSeenDateCaptor = ArgumentCaptor.forClass(Long.class);
+        final ArgumentCaptor<Long> maxExpiryDateCaptor = ArgumentCaptor.forClass(Long.class);
+        when(localDiscoveryEntryStoreMock.touchExpiringDiscoveryEntries(anyLong(),
+                                                                        anyLong(),
+                                                                        anyLong())).thenReturn(participantIdsToTouch);
+
+        // the second scheduled runnable belongs to the directory with expiry threshold
+        verify(capabilitiesFreshnessUpdateExecutor, times(2)).scheduleAtFixedRate(runnableCaptor.capture(),
+                                                                                  eq(FRESHNESS_UPDATE_INTERVAL_MS),
+                                                                                  eq(FRESHNESS_UPDATE_INTERVAL_MS),
+                                                                                  eq(TimeUnit.MILLISECONDS));
+        final Runnable runnable = runnableCaptor.getAllValues().get(1);
+        runnable.run();
+
+        verify(localDiscoveryEntryStoreMock, never()).touchDiscoveryEntries(anyLong(), anyLong());
+        verify(localDiscoveryEntryStoreMock, times(1)).touchExpiringDiscoveryEntries(lastSeenDateCaptor.capture(),
+                                                                                     anyLong(),
+                                                                                     maxExpiryDateCaptor.capture());
+        assertTrue(maxExpiryDateCaptor.getValue() - lastSeenDateCaptor.getValue() == expiryThresholdMs);
+        verify(globalDiscoveryEntryCacheMock, times(1)).touchDiscoveryEntries(eq(participantIdsToTouch),
+                                                                              anyLong(),
+                                                                              anyLong());
+    }
+
     @Override
     protected Logger getLogger() {
         return logger;
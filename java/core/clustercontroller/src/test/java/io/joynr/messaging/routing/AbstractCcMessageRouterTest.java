@@ -41,6 +41,8 @@ import io.joynr.messaging.inprocess.InProcessAddress;
 import io.joynr.messaging.util.MulticastWildcardRegexFactory;
 import io.joynr.runtime.ClusterControllerRuntimeModule;
 import io.joynr.runtime.ShutdownNotifier;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
 import io.joynr.util.JoynrThreadFactory;
 import io.joynr.util.ObjectMapper;
 import joynr.MutableMessage;
@@ -82,6 +84,7 @@ public abstract class AbstractCcMessageRouterTest {
     private final String mqttTopic = "MessageSchedulerTest_" + createUuidString();
     protected final MqttAddress mqttAddress = new MqttAddress("mqtt://testUrl:42", mqttTopic);
     private final int maximumParallelSends = 1;
+    protected int priorityWorkers = 0;
     protected final long routingTableGracePeriodMs = 30000;
     protected final long routingTableCleanupIntervalMs = 60000;
 
@@ -110,6 +113,7 @@ public abstract class AbstractCcMessageRouterTest {
     protected MessageQueue messageQueue;
     protected ScheduledExecutorService scheduler;
     protected CcMessageRouter ccMessageRouter;
+    protected JoynrStatusMetricsAggregator statusMetrics = new JoynrStatusMetricsAggregator();
     protected MutableMessage joynrMessage;
     protected String toParticipantId = "toParticipantId";
     protected String fromParticipantId = "fromParticipantId";
@@ -147,6 +151,8 @@ public abstract class AbstractCcMessageRouterTest {
                                 .toInstance(msgRetryIntervalMs);
                 bind(Integer.class).annotatedWith(Names.named(ConfigurableMessagingSettings.PROPERTY_MESSAGING_MAXIMUM_PARALLEL_SENDS))
                                    .toInstance(maximumParallelSends);
+                bind(Integer.class).annotatedWith(Names.named(ConfigurableMessagingSettings.PROPERTY_ROUTING_PRIORITY_WORKERS))
+                                   .toInstance(priorityWorkers);
                 bind(Long.class).annotatedWith(Names.named(ConfigurableMessagingSettings.PROPERTY_ROUTING_TABLE_GRACE_PERIOD_MS))
                                 .toInstance(routingTableGracePeriodMs);
                 bind(Long.class).annotatedWith(Names.named(ConfigurableMessagingSettings.PROPERTY_ROUTING_TABLE_CLEANUP_INTERVAL_MS))
@@ -174,6 +180,7 @@ public abstract class AbstractCcMessageRouterTest {
                 bind(ScheduledExecutorService.class).annotatedWith(Names.named(MessageRouter.SCHEDULEDTHREADPOOL))
                                                     .toInstance(scheduler);
                 bind(MessageQueue.class).toInstance(messageQueue);
+                bind(JoynrStatusMetricsReceiver.class).toInstance(statusMetrics);
             }
         };
 
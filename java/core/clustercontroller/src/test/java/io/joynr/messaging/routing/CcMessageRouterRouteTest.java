@@ -61,6 +61,7 @@ import java.util.function.Supplier;
 
 import static io.joynr.proxy.StatelessAsyncIdCalculator.REQUEST_REPLY_ID_SEPARATOR;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -74,7 +75,7 @@ import static org.mockito.Mockito.when;
 @RunWith(MockitoJUnitRunner.class)
 public class CcMessageRouterRouteTest extends AbstractCcMessageRouterTest {
 
-    private Set<MessageTrackerForGracefulShutdown.MessageToTrack> trackerRegisteredMessages;
+    private MessageTrackerForGracefulShutdown messageTracker;
     private Semaphore semaphore;
     private MessageProcessedListener mockMessageProcessedListener;
 
@@ -219,9 +220,8 @@ public class CcMessageRouterRouteTest extends AbstractCcMessageRouterTest {
                                  final Consumer<InvocationOnMock> invocationConsumer,
                                  final boolean trackable) throws InterruptedException {
         createDefaultMessageRouter();
-        assertEquals(0, trackerRegisteredMessages.size());
+        assertEquals(0, messageTracker.getNumberOfRegisteredMessages());
         final ImmutableMessage immutableMessage = messageSupplier.get();
-        final String requestReplyId = getMessageId(immutableMessage);
         mockAddress(immutableMessage.getRecipient());
         mockMessageProcessed(semaphore, invocationConsumer);
         if (Message.MessageType.VALUE_MESSAGE_TYPE_MULTICAST.equals(immutableMessage.getType())) {
@@ -233,33 +233,16 @@ public class CcMessageRouterRouteTest extends AbstractCcMessageRouterTest {
 
         ccMessageRouter.routeIn(immutableMessage);
         if (trackable) {
-            assertEquals(1, trackerRegisteredMessages.size());
-            final MessageTrackerForGracefulShutdown.MessageToTrack messageToTrack = new MessageTrackerForGracefulShutdown.MessageToTrack(immutableMessage.getId(),
-                                                                                                                                         requestReplyId,
-                                                                                                                                         immutableMessage.getType());
-            assertTrue(trackerRegisteredMessages.contains(messageToTrack));
+            assertEquals(1, messageTracker.getNumberOfRegisteredMessages());
+            assertTrue(immutableMessage.isRegisteredInMessageTracker());
         } else {
-            assertEquals(0, trackerRegisteredMessages.size());
+            assertEquals(0, messageTracker.getNumberOfRegisteredMessages());
         }
 
         assertTrue(semaphore.tryAcquire(100000, TimeUnit.MILLISECONDS));
         verify(mockMessageProcessedListener).messageProcessed(eq(immutableMessage.getId()));
-        assertEquals(0, trackerRegisteredMessages.size());
-    }
-
-    private String getMessageId(final ImmutableMessage message) {
-        if (isRequestOrReply(message.getType())) {
-            final String requestReplyId = message.getCustomHeaders().get(Message.CUSTOM_HEADER_REQUEST_REPLY_ID);
-            if (!requestReplyId.contains(REQUEST_REPLY_ID_SEPARATOR)) {
-                return requestReplyId;
-            }
-        }
-        return message.getId();
-    }
-
-    private boolean isRequestOrReply(final Message.MessageType type) {
-        return Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST.equals(type)
-                || Message.MessageType.VALUE_MESSAGE_TYPE_REPLY.equals(type);
+        assertEquals(0, messageTracker.getNumberOfRegisteredMessages());
+        assertFalse(immutableMessage.isRegisteredInMessageTracker());
     }
 
     private void mockAddress(final String toParticipantId) {
@@ -395,17 +378,13 @@ public class CcMessageRouterRouteTest extends AbstractCcMessageRouterTest {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     protected void createDefaultMessageRouter() {
         super.createDefaultMessageRouter();
 
         try {
             final Field trackerField = CcMessageRouter.class.getDeclaredField("messageTracker");
             trackerField.setAccessible(true);
-            final MessageTrackerForGracefulShutdown tracker = (MessageTrackerForGracefulShutdown) trackerField.get(ccMessageRouter);
-            final Field messageSetField = MessageTrackerForGracefulShutdown.class.getDeclaredField("registeredMessages");
-            messageSetField.setAccessible(true);
-            trackerRegisteredMessages = (Set<MessageTrackerForGracefulShutdown.MessageToTrack>) messageSetField.get(tracker);
+            messageTracker = (MessageTrackerForGracefulShutdown) trackerField.get(ccMessageRouter);
         } catch (final NoSuchFieldException | IllegalAccessException e) {
             fail("Unable to access CcMessageRouter's messageTracker: " + e.getMessage());
         }
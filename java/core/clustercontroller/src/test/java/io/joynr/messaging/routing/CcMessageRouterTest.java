@@ -89,6 +89,7 @@ import io.joynr.messaging.SuccessAction;
 import io.joynr.messaging.inprocess.InProcessAddress;
 import io.joynr.messaging.inprocess.InProcessMessagingSkeleton;
 import io.joynr.runtime.ClusterControllerRuntimeModule;
+import io.joynr.statusmetrics.LatencyStage;
 import joynr.ImmutableMessage;
 import joynr.Message;
 import joynr.Message.MessageType;
@@ -175,6 +176,52 @@ public class CcMessageRouterTest extends AbstractCcMessageRouterTest {
         testScheduleMessageOk(m -> ccMessageRouter.routeOut(m));
     }
 
+    @Test
+    public void routedMessageIsReportedToLatencyHistograms() throws Exception {
+        createDefaultMessageRouter();
+        testScheduleMessageOk(m -> ccMessageRouter.routeOut(m));
+
+        assertEquals(1, statusMetrics.getLatencyHistogram(LatencyStage.MESSAGE_QUEUE).getCount());
+        assertEquals(1, statusMetrics.getLatencyHistogram(LatencyStage.ROUTING).getCount());
+    }
+
+    @Test
+    public void retriedMessageIsReportedToRouterGauges() throws Exception {
+        createDefaultMessageRouter();
+        joynrMessage.setTtlMs(ExpiryDate.fromRelativeTtl(1000000).getValue());
+        joynrMessage.setTtlAbsolute(true);
+        ImmutableMessage immutableMessage = joynrMessage.getImmutableMessage();
+        final CountDownLatch sentLatch = new CountDownLatch(1);
+        final Map<String, Long> inFlightSendsDuringTransmit = new HashMap<>();
+        doAnswer(new Answer<Void>() {
+            private int callCount = 0;
+
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                if (callCount++ == 0) {
+                    FailureAction failureAction = invocation.getArgument(2);
+                    failureAction.execute(new JoynrDelayMessageException(10, "first retry"));
+                } else {
+                    inFlightSendsDuringTransmit.putAll(statusMetrics.getNumInFlightSends());
+                    SuccessAction successAction = invocation.getArgument(1);
+                    successAction.execute();
+                    sentLatch.countDown();
+                }
+                return null;
+            }
+        }).when(messagingStubMock).transmit(eq(immutableMessage), any(SuccessAction.class), any(FailureAction.class));
+
+        ccMessageRouter.routeOut(immutableMessage);
+
+        assertTrue(sentLatch.await(2000, TimeUnit.MILLISECONDS));
+        assertEquals(Long.valueOf(1), inFlightSendsDuringTransmit.get(MqttAddress.class.getSimpleName()));
+        assertEquals(Long.valueOf(0), statusMetrics.getNumInFlightSends().get(MqttAddress.class.getSimpleName()));
+        assertEquals(1, statusMetrics.getNumMessageRetries());
+        assertEquals(0, statusMetrics.getNumQueuedMessages());
+        assertEquals(0, statusMetrics.getNumQueuedRetryMessages());
+        assertEquals(1, statusMetrics.getNumMessageWorkers());
+    }
+
     private void prepareMulticastForMultipleAddresses(final Address receiverAddress1, final Address receiverAddress2) {
         final String multicastId = "multicastId";
         final String receiverParticipantId1 = "receiverParticipantId1";
@@ -1347,6 +1394,54 @@ public class CcMessageRouterTest extends AbstractCcMessageRouterTest {
         futures.forEach(future -> assertFalse(future.isCancelled()));
     }
 
+    @Test(timeout = 10000)
+    public void replyIsRoutedByPriorityWorkerWhileMessageWorkersAreBlocked() throws Exception {
+        priorityWorkers = 1;
+        createDefaultMessageRouter();
+        final CountDownLatch requestTransmitted = new CountDownLatch(1);
+        final CountDownLatch requestReleased = new CountDownLatch(1);
+        final CountDownLatch replyTransmitted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            final ImmutableMessage message = invocation.getArgument(0);
+            if (message.isReply()) {
+                replyTransmitted.countDown();
+            } else {
+                // blocks the only message worker
+                requestTransmitted.countDown();
+                requestReleased.await();
+            }
+            ((SuccessAction) invocation.getArgument(1)).execute();
+            return null;
+        }).when(messagingStubMock)
+          .transmit(any(ImmutableMessage.class), any(SuccessAction.class), any(FailureAction.class));
+
+        joynrMessage.setTtlMs(ExpiryDate.fromRelativeTtl(100000).getValue());
+        joynrMessage.setTtlAbsolute(true);
+        ccMessageRouter.routeOut(joynrMessage.getImmutableMessage());
+        assertTrue(requestTransmitted.await(2000, TimeUnit.MILLISECONDS));
+
+        final MutableMessage replyMessage = messageFactory.createReply(fromParticipantId,
+                                                                       toParticipantId,
+                                                                       new Reply("requestReplyId"),
+                                                                       new MessagingQos());
+        replyMessage.setTtlMs(ExpiryDate.fromRelativeTtl(100000).getValue());
+        replyMessage.setTtlAbsolute(true);
+        try {
+            ccMessageRouter.routeOut(replyMessage.getImmutableMessage());
+            assertTrue(replyTransmitted.await(2000, TimeUnit.MILLISECONDS));
+        } finally {
+            requestReleased.countDown();
+        }
+
+        ccMessageRouter.shutdown();
+
+        // worker futures are only cancelled if waiting for the workers to stop timed out
+        getWorkerFutures().forEach(future -> assertFalse(future.isCancelled()));
+        final List<Future<?>> priorityWorkerFutures = getPriorityWorkerFutures();
+        assertEquals(1, priorityWorkerFutures.size());
+        priorityWorkerFutures.forEach(future -> assertFalse(future.isCancelled()));
+    }
+
     private void replaceWorker(final CcMessageWorkable workable) throws NoSuchFieldException, IllegalAccessException {
         final List<Runnable> workers = getWorkers();
         final List<Future<?>> futures = getWorkerFutures();
@@ -1377,6 +1472,12 @@ public class CcMessageRouterTest extends AbstractCcMessageRouterTest {
         return (List<Future<?>>) field.get(ccMessageRouter);
     }
 
+    private List<Future<?>> getPriorityWorkerFutures() throws NoSuchFieldException, IllegalAccessException {
+        final Field field = CcMessageRouter.class.getDeclaredField("priorityMessageWorkerFutures");
+        field.setAccessible(true);
+        return (List<Future<?>>) field.get(ccMessageRouter);
+    }
+
     class TestMessageWorker implements CcMessageWorkable {
         private Logger logger = LoggerFactory.getLogger(TestMessageWorker.class);
         private CountDownLatch countDownLatch;
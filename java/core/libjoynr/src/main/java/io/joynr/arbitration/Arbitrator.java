@@ -63,6 +63,7 @@ public class Arbitrator {
     // Initialized with 0 to block until the listener is registered
     private Semaphore arbitrationListenerSemaphore = new Semaphore(0);
     private long retryDelay = 0;
+    private final long arbitrationStartTimeMs;
     private long arbitrationDeadline;
     // Allow retry only in case of JoynrRuntimeException
     private boolean shouldRetry;
@@ -94,7 +95,8 @@ public class Arbitrator {
         this.discoveryQos = new DiscoveryQos(discoveryQos);
         this.localDiscoveryAggregator = localDiscoveryAggregator;
         this.arbitrationStrategyFunction = arbitrationStrategyFunction;
-        arbitrationDeadline = System.currentTimeMillis() + discoveryQos.getDiscoveryTimeoutMs();
+        arbitrationStartTimeMs = System.currentTimeMillis();
+        arbitrationDeadline = arbitrationStartTimeMs + discoveryQos.getDiscoveryTimeoutMs();
         shouldRetry = false;
         this.discoveryEntryVersionFilter = discoveryEntryVersionFilter;
         if (gbids == null) {
@@ -205,6 +207,9 @@ public class Arbitrator {
     }
 
     protected void arbitrationFailed(DiscoveryException exception) {
+        if (arbitrationStatus != ArbitrationStatus.ArbitrationCanceledForever) {
+            ArbitratorFactory.notifyArbitrationFinished(false, arbitrationStartTimeMs);
+        }
         arbitrationStatus = ArbitrationStatus.ArbitrationCanceledForever;
         DiscoveryException reason;
         if (arbitrationListenerSemaphore.tryAcquire()) {
@@ -404,6 +409,7 @@ public class Arbitrator {
 
                     arbitrationResult.setDiscoveryEntries(selectedCapabilities);
                     arbitrationResult.setOtherDiscoveryEntries(otherDiscoveryEntries);
+                    ArbitratorFactory.notifyArbitrationFinished(true, arbitrationStartTimeMs);
                     arbitrationFinished(ArbitrationStatus.ArbitrationSuccessful, arbitrationResult);
                 } else {
                     decRemoteRoutingEntryRefCount(discoveryEntries);
@@ -18,8 +18,11 @@
  */
 package io.joynr.arbitration;
 
+import static io.joynr.messaging.ConfigurableMessagingSettings.PROPERTY_DISCOVERY_MAXIMUM_PARALLEL_ARBITRATIONS;
 import static io.joynr.messaging.routing.MessageRouter.SCHEDULEDTHREADPOOL;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -34,6 +37,7 @@ import io.joynr.exceptions.DiscoveryException;
 import io.joynr.messaging.routing.MessageRouter;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
 import joynr.system.DiscoveryAsync;
 import joynr.types.Version;
 
@@ -52,7 +56,15 @@ public final class ArbitratorFactory {
     @Named(SCHEDULEDTHREADPOOL)
     private static ScheduledExecutorService scheduler;
 
-    private static ArbitratorRunnable arbitratorRunnable;
+    @Inject
+    @Named(PROPERTY_DISCOVERY_MAXIMUM_PARALLEL_ARBITRATIONS)
+    private static int maximumParallelArbitrations = 1;
+
+    @Inject
+    private static JoynrStatusMetricsReceiver statusMetrics;
+
+    private static List<ArbitratorRunnable> arbitratorRunnables;
+    private static long startTimeMs;
 
     private ArbitratorFactory() {
 
@@ -117,9 +129,17 @@ public final class ArbitratorFactory {
     }
 
     public static synchronized void start() {
-        if (arbitratorRunnable == null) {
-            arbitratorRunnable = new ArbitratorRunnable();
-            scheduler.execute(arbitratorRunnable);
+        if (arbitratorRunnables == null) {
+            startTimeMs = System.currentTimeMillis();
+            // all runnables take the next due arbitration from the same queue, retries re-enter the queue
+            // with their retry delay
+            int numberOfRunnables = Math.max(1, maximumParallelArbitrations);
+            arbitratorRunnables = new ArrayList<>(numberOfRunnables);
+            for (int i = 0; i < numberOfRunnables; i++) {
+                ArbitratorRunnable arbitratorRunnable = new ArbitratorRunnable(i);
+                arbitratorRunnables.add(arbitratorRunnable);
+                scheduler.execute(arbitratorRunnable);
+            }
             shutdownNotifier.registerForShutdown(new ShutdownListener() {
                 @Override
                 public void shutdown() {
@@ -130,18 +150,27 @@ public final class ArbitratorFactory {
     }
 
     public static synchronized void shutdown() {
-        if (arbitratorRunnable != null) {
-            arbitratorRunnable.stop();
-            arbitratorRunnable = null;
+        if (arbitratorRunnables != null) {
+            arbitratorRunnables.forEach(ArbitratorRunnable::stop);
+            arbitratorRunnables = null;
+        }
+    }
+
+    static void notifyArbitrationFinished(boolean successful, long arbitrationStartTimeMs) {
+        if (statusMetrics != null) {
+            long now = System.currentTimeMillis();
+            statusMetrics.notifyArbitrationFinished(successful, now - arbitrationStartTimeMs, now - startTimeMs);
         }
     }
 
     static class ArbitratorRunnable implements Runnable {
         private Logger logger = LoggerFactory.getLogger(ArbitratorRunnable.class);
         private volatile boolean stopped;
+        private final int index;
 
-        ArbitratorRunnable() {
+        ArbitratorRunnable(int index) {
             stopped = false;
+            this.index = index;
         }
 
         void stop() {
@@ -152,7 +181,7 @@ public final class ArbitratorFactory {
         public void run() {
             DelayableArbitration delayableArbitration = null;
 
-            Thread.currentThread().setName("ArbitratorRunnable");
+            Thread.currentThread().setName("ArbitratorRunnable-" + index);
             logger.trace("Start ArbitratorRunnable");
 
             while (!stopped) {
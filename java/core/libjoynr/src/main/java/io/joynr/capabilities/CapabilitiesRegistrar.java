@@ -18,6 +18,8 @@
  */
 package io.joynr.capabilities;
 
+import java.util.Collection;
+
 import io.joynr.proxy.Future;
 import joynr.types.ProviderQos;
 
@@ -44,6 +46,19 @@ public interface CapabilitiesRegistrar {
                                   String[] gbids,
                                   boolean awaitGlobalRegistration);
 
+    /**
+     * Registers several providers at once, see {@link #registerProvider(String, Object, ProviderQos, String[], boolean)}.
+     * The registrations are processed in parallel: while the routing entry of one provider is added, the
+     * discovery entries of other providers are already being added.
+     *
+     * @param registrations
+     *            The providers to be registered with their registration parameters.
+     * @return registration future which is resolved when all providers have been registered successfully. If a
+     *         registration fails, the future fails with the error of the first failed registration after all
+     *         registrations have been completed.
+     */
+    Future<Void> registerProviders(Collection<ProviderRegistration> registrations);
+
     /**
      * Registers a provider at the capabilities directory for all known backends to make it available at other cluster controllers and the
      * messaging endpoint directory to dispatch incoming requests.
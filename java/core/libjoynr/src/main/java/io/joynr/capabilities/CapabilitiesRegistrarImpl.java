@@ -18,8 +18,17 @@
  */
 package io.joynr.capabilities;
 
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
 import static io.joynr.util.VersionUtil.getVersionFromAnnotation;
 
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
 import javax.inject.Named;
 
 import io.joynr.dispatching.rpc.RequestInterpreter;
@@ -30,6 +39,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import io.joynr.dispatching.ProviderDirectory;
+import io.joynr.exceptions.JoynrException;
 import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.messaging.routing.MessageRouter;
@@ -40,6 +50,7 @@ import io.joynr.proxy.Callback;
 import io.joynr.proxy.CallbackWithModeledError;
 import io.joynr.proxy.Future;
 import io.joynr.runtime.SystemServicesSettings;
+import joynr.exceptions.ApplicationException;
 import joynr.system.DiscoveryAsync;
 import joynr.system.RoutingTypes.Address;
 import joynr.types.DiscoveryEntry;
@@ -60,6 +71,9 @@ public class CapabilitiesRegistrarImpl implements CapabilitiesRegistrar {
     private final ProviderContainerFactory providerContainerFactory;
 
     private final RequestInterpreter requestInterpreter;
+    private final ScheduledExecutorService scheduler;
+    // number of providers registered in parallel by registerProviders
+    private final int maximumParallelRegistrations;
 
     private final long defaultExpiryTimeMs;
 
@@ -72,7 +86,9 @@ public class CapabilitiesRegistrarImpl implements CapabilitiesRegistrar {
                                      final ParticipantIdStorage participantIdStorage,
                                      @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_PROVIDER_DEFAULT_EXPIRY_TIME_MS) final long defaultExpiryTimeMs,
                                      @Named(SystemServicesSettings.PROPERTY_DISPATCHER_ADDRESS) final Address dispatcherAddress,
-                                     final RequestInterpreter requestInterpreter) {
+                                     final RequestInterpreter requestInterpreter,
+                                     @Named(JOYNR_SCHEDULER_CLEANUP) final ScheduledExecutorService scheduler,
+                                     @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_MAXIMUM_PARALLEL_REGISTRATIONS) final int maximumParallelRegistrations) {
         super();
         this.localDiscoveryAggregator = localDiscoveryAggregator;
         this.providerContainerFactory = providerContainerFactory;
@@ -82,6 +98,8 @@ public class CapabilitiesRegistrarImpl implements CapabilitiesRegistrar {
         this.defaultExpiryTimeMs = defaultExpiryTimeMs;
         this.libjoynrMessagingAddress = dispatcherAddress;
         this.requestInterpreter = requestInterpreter;
+        this.scheduler = scheduler;
+        this.maximumParallelRegistrations = Math.max(1, maximumParallelRegistrations);
     }
 
     /*
@@ -104,10 +122,76 @@ public class CapabilitiesRegistrarImpl implements CapabilitiesRegistrar {
             newFuture.onFailure(error);
             return newFuture;
         }
-        final CallbackWithModeledError<Void, DiscoveryError> callback = buildAddCallback(discoveryEntry);
+        final CallbackWithModeledError<Void, DiscoveryError> callback = buildAddCallback(discoveryEntry, null);
         return localDiscoveryAggregator.add(callback, discoveryEntry, awaitGlobalRegistration, gbids);
     }
 
+    @Override
+    public Future<Void> registerProviders(final Collection<ProviderRegistration> registrations) {
+        final Future<Void> aggregatedFuture = new Future<>();
+        if (registrations.isEmpty()) {
+            aggregatedFuture.resolve();
+            return aggregatedFuture;
+        }
+        logger.info("Registering {} providers", registrations.size());
+        final long startMs = System.currentTimeMillis();
+        final AtomicInteger pendingRegistrations = new AtomicInteger(registrations.size());
+        final AtomicReference<JoynrException> firstError = new AtomicReference<>();
+        final Consumer<JoynrException> onRegistrationCompleted = error -> {
+            if (error != null) {
+                firstError.compareAndSet(null, error);
+            }
+            if (pendingRegistrations.decrementAndGet() == 0) {
+                logger.info("Registration of {} providers completed after {}ms",
+                            registrations.size(),
+                            System.currentTimeMillis() - startMs);
+                if (firstError.get() == null) {
+                    aggregatedFuture.resolve();
+                } else {
+                    aggregatedFuture.onFailure(firstError.get());
+                }
+            }
+        };
+
+        // each worker adds the routing entry of a provider and then continues with the next provider while
+        // the discovery entry is added asynchronously
+        final Queue<ProviderRegistration> remainingRegistrations = new ConcurrentLinkedQueue<>(registrations);
+        final Runnable registrationWorker = () -> {
+            ProviderRegistration registration;
+            while ((registration = remainingRegistrations.poll()) != null) {
+                registerProvider(registration, onRegistrationCompleted);
+            }
+        };
+        final int numberOfWorkers = Math.min(maximumParallelRegistrations, registrations.size());
+        for (int i = 0; i < numberOfWorkers; i++) {
+            scheduler.execute(registrationWorker);
+        }
+        return aggregatedFuture;
+    }
+
+    private void registerProvider(final ProviderRegistration registration,
+                                  final Consumer<JoynrException> onRegistrationCompleted) {
+        final DiscoveryEntry discoveryEntry;
+        try {
+            discoveryEntry = buildDiscoveryEntryAndAddProviderContainer(registration.getDomain(),
+                                                                        registration.getProvider(),
+                                                                        registration.getProviderQos());
+            addRoutingEntry(discoveryEntry, registration.getProvider());
+        } catch (final JoynrRuntimeException error) {
+            onRegistrationCompleted.accept(error);
+            return;
+        } catch (final RuntimeException error) {
+            onRegistrationCompleted.accept(new JoynrRuntimeException("Error while registering provider: " + error));
+            return;
+        }
+        final CallbackWithModeledError<Void, DiscoveryError> callback = buildAddCallback(discoveryEntry,
+                                                                                         onRegistrationCompleted);
+        localDiscoveryAggregator.add(callback,
+                                     discoveryEntry,
+                                     registration.isAwaitGlobalRegistration(),
+                                     registration.getGbids());
+    }
+
     @Override
     @Deprecated
     public Future<Void> registerInAllKnownBackends(final String domain,
@@ -122,7 +206,7 @@ public class CapabilitiesRegistrarImpl implements CapabilitiesRegistrar {
             newFuture.onFailure(error);
             return newFuture;
         }
-        final CallbackWithModeledError<Void, DiscoveryError> callback = buildAddCallback(discoveryEntry);
+        final CallbackWithModeledError<Void, DiscoveryError> callback = buildAddCallback(discoveryEntry, null);
         return localDiscoveryAggregator.addToAll(callback, discoveryEntry, awaitGlobalRegistration);
     }
 
@@ -162,7 +246,11 @@ public class CapabilitiesRegistrarImpl implements CapabilitiesRegistrar {
         }
     }
 
-    private CallbackWithModeledError<Void, DiscoveryError> buildAddCallback(final DiscoveryEntry discoveryEntry) {
+    /**
+     * @param onRegistrationCompleted optional listener which is informed about the result of the registration
+     */
+    private CallbackWithModeledError<Void, DiscoveryError> buildAddCallback(final DiscoveryEntry discoveryEntry,
+                                                                            final Consumer<JoynrException> onRegistrationCompleted) {
         return new CallbackWithModeledError<>() {
             @Override
             public void onSuccess(final Void result) {
@@ -172,6 +260,7 @@ public class CapabilitiesRegistrarImpl implements CapabilitiesRegistrar {
                             discoveryEntry.getInterfaceName(),
                             discoveryEntry.getProviderVersion().getMajorVersion(),
                             discoveryEntry.getProviderVersion().getMinorVersion());
+                notifyRegistrationCompleted(null);
             }
 
             @Override
@@ -184,6 +273,7 @@ public class CapabilitiesRegistrarImpl implements CapabilitiesRegistrar {
                              discoveryEntry.getProviderVersion().getMinorVersion(),
                              runtimeException);
                 handleFailedAdd(discoveryEntry);
+                notifyRegistrationCompleted(runtimeException);
             }
 
             @Override
@@ -196,6 +286,13 @@ public class CapabilitiesRegistrarImpl implements CapabilitiesRegistrar {
                              discoveryEntry.getProviderVersion().getMinorVersion(),
                              errorEnum);
                 handleFailedAdd(discoveryEntry);
+                notifyRegistrationCompleted(new ApplicationException(errorEnum));
+            }
+
+            private void notifyRegistrationCompleted(final JoynrException error) {
+                if (onRegistrationCompleted != null) {
+                    onRegistrationCompleted.accept(error);
+                }
             }
 
             private void handleFailedAdd(final DiscoveryEntry discoveryEntry) {
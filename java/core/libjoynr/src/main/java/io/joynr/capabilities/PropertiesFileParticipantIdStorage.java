@@ -20,10 +20,17 @@ package io.joynr.capabilities;
 
 import static io.joynr.util.JoynrUtil.createUuidString;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
 import java.util.Properties;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +43,7 @@ import io.joynr.guice.LowerCaseProperties;
 import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.messaging.MessagingPropertyKeys;
 import io.joynr.provider.ProviderAnnotations;
+import io.joynr.runtime.JoynrInjectionConstants;
 import io.joynr.runtime.PropertyLoader;
 import io.joynr.runtime.SystemServicesSettings;
 import joynr.infrastructure.GlobalCapabilitiesDirectoryProvider;
@@ -43,6 +51,24 @@ import joynr.system.DiscoveryProvider;
 import joynr.system.RoutingProvider;
 import joynr.types.GlobalDiscoveryEntry;
 
+/**
+ * Stores generated provider participantIds in a properties file.
+ * <p>
+ * New participantIds are appended to the end of the file instead of rewriting the whole file, so that
+ * creating N participantIds costs O(N) instead of O(N^2) file I/O and participantIds which have already
+ * been persisted are never at risk of being lost by a truncated rewrite. Since persisted participantIds
+ * are never changed, the file does not contain outdated entries and does not need to be compacted.
+ * <p>
+ * Appended entries are synced to the storage device in batches: the first append after a sync schedules the
+ * next sync after {@link ConfigurableMessagingSettings#PROPERTY_PARTICIPANTIDS_PERSISTENCE_SYNC_DELAY_MS}, so
+ * registering many providers at once does not cost one sync per provider. If no scheduler is available, every
+ * append is synced immediately. A participantId which has been created shortly before a power failure might
+ * therefore be lost; the provider then gets a new participantId. Already synced entries are never at risk.
+ * <p>
+ * Every appended entry is preceded by a comment line with its CRC32 checksum. A last entry without line separator
+ * whose checksum does not match, e.g. after a crash while appending, is removed from the file before it is loaded.
+ * Entries without checksum, e.g. from a hand-edited or pre-provisioned file, are always kept.
+ */
 @Singleton
 public class PropertiesFileParticipantIdStorage implements ParticipantIdStorage {
 
@@ -53,6 +79,20 @@ public class PropertiesFileParticipantIdStorage implements ParticipantIdStorage
     private Properties joynrProperties;
     private String discoveryProviderParticipantId;
     private String routingProviderParticipantId;
+    private boolean lineSeparatorRequired;
+    private static final String CHECKSUM_COMMENT_PREFIX = "#crc32=";
+
+    @Inject(optional = true)
+    @Named(ConfigurableMessagingSettings.PROPERTY_PARTICIPANTIDS_PERSISTENCE_SYNC_DELAY_MS)
+    private long syncDelayMs = 100;
+
+    @Inject(optional = true)
+    @Named(JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP)
+    private ScheduledExecutorService syncScheduler;
+
+    // guarded by persistedParticipantIds
+    private FileOutputStream persistenceFileOutputStream;
+    private boolean syncScheduled;
 
     @Inject
     public PropertiesFileParticipantIdStorage(@Named(MessagingPropertyKeys.JOYNR_PROPERTIES) Properties joynrProperties,
@@ -66,9 +106,76 @@ public class PropertiesFileParticipantIdStorage implements ParticipantIdStorage
         this.discoveryProviderParticipantId = discoveryProviderParticipantId;
         this.routingProviderParticipantId = routingProviderParticipantId;
         File persistenceFile = new File(persistenceFileName);
+        lineSeparatorRequired = !removeIncompleteLastEntry(persistenceFile);
         persistedParticipantIds = new LowerCaseProperties(PropertyLoader.loadProperties(persistenceFile));
     }
 
+    /**
+     * Removes the last line if it is not terminated by a line separator and has not been written completely, i.e.
+     * if it is an incomplete checksum comment or if it does not match the checksum in the preceding comment. The
+     * checksum comment of an incomplete entry is removed as well.
+     *
+     * @return true if the file ends with a line separator (or is empty) afterwards
+     */
+    private static boolean removeIncompleteLastEntry(File file) {
+        if (!file.exists() || file.length() == 0) {
+            return true;
+        }
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            byte[] content = new byte[(int) randomAccessFile.length()];
+            randomAccessFile.readFully(content);
+            int lastLineStart = findLineStart(content, content.length);
+            if (lastLineStart == content.length) {
+                return true;
+            }
+            String lastLine = new String(content, lastLineStart, content.length - lastLineStart, StandardCharsets.ISO_8859_1);
+            int truncatedLength;
+            if (lastLine.startsWith("#")) {
+                truncatedLength = lastLineStart;
+            } else {
+                int previousLineEnd = lastLineStart;
+                while (previousLineEnd > 0
+                        && (content[previousLineEnd - 1] == '\n' || content[previousLineEnd - 1] == '\r')) {
+                    previousLineEnd--;
+                }
+                int previousLineStart = findLineStart(content, previousLineEnd);
+                String previousLine = new String(content,
+                                                 previousLineStart,
+                                                 previousLineEnd - previousLineStart,
+                                                 StandardCharsets.ISO_8859_1);
+                if (!previousLine.startsWith(CHECKSUM_COMMENT_PREFIX)
+                        || previousLine.equals(CHECKSUM_COMMENT_PREFIX + checksum(lastLine))) {
+                    // complete entry which is only missing its line separator
+                    return false;
+                }
+                truncatedLength = previousLineStart;
+            }
+            logger.warn("Removing incomplete last entry ({} bytes) of participantId persistence file {}",
+                        content.length - truncatedLength,
+                        file);
+            randomAccessFile.setLength(truncatedLength);
+            randomAccessFile.getFD().sync();
+            return true;
+        } catch (IOException e) {
+            logger.error("Error removing incomplete last entry of participantId persistence file {}", file, e);
+            return false;
+        }
+    }
+
+    private static int findLineStart(byte[] content, int lineEnd) {
+        int lineStart = lineEnd;
+        while (lineStart > 0 && content[lineStart - 1] != '\n' && content[lineStart - 1] != '\r') {
+            lineStart--;
+        }
+        return lineStart;
+    }
+
+    private static String checksum(String line) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(line.getBytes(StandardCharsets.ISO_8859_1));
+        return Long.toHexString(crc32.getValue());
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -109,22 +216,7 @@ public class PropertiesFileParticipantIdStorage implements ParticipantIdStorage
             participantId = createUuidString();
             Object previousParticipantId = persistedParticipantIds.putIfAbsent(token, participantId);
             if (previousParticipantId == null) {
-                FileOutputStream fileOutputStream = null;
-                try {
-                    fileOutputStream = new FileOutputStream(persistenceFileName);
-                    persistedParticipantIds.store(fileOutputStream, null);
-                } catch (IOException e1) {
-                    logger.error("Error saving properties file for channelId", e1);
-
-                } finally {
-                    if (fileOutputStream != null) {
-                        try {
-                            fileOutputStream.close();
-                        } catch (IOException e) {
-                            logger.debug("Error closing output stream", e);
-                        }
-                    }
-                }
+                appendParticipantId(token, participantId);
             } else {
                 participantId = (String) previousParticipantId;
             }
@@ -132,6 +224,90 @@ public class PropertiesFileParticipantIdStorage implements ParticipantIdStorage
         return participantId;
     }
 
+    private void appendParticipantId(String token, String participantId) {
+        try {
+            if (persistenceFileOutputStream == null) {
+                persistenceFileOutputStream = new FileOutputStream(persistenceFileName, true);
+            }
+            if (lineSeparatorRequired) {
+                // the file might still end with an entry without line separator
+                persistenceFileOutputStream.write(System.lineSeparator().getBytes(StandardCharsets.ISO_8859_1));
+                lineSeparatorRequired = false;
+            }
+            persistenceFileOutputStream.write(toPersistenceRecord(token, participantId));
+            requestSync();
+        } catch (IOException e) {
+            logger.error("Error appending participantId for {} to properties file {}", token, persistenceFileName, e);
+            lineSeparatorRequired = true;
+            closePersistenceFile();
+        }
+    }
+
+    private void requestSync() throws IOException {
+        if (syncScheduler == null) {
+            persistenceFileOutputStream.getFD().sync();
+        } else if (!syncScheduled) {
+            try {
+                syncScheduler.schedule(this::syncPersistenceFile, syncDelayMs, TimeUnit.MILLISECONDS);
+                syncScheduled = true;
+            } catch (RejectedExecutionException e) {
+                // scheduler already shut down
+                persistenceFileOutputStream.getFD().sync();
+            }
+        }
+    }
+
+    private void syncPersistenceFile() {
+        final FileOutputStream outputStream;
+        synchronized (persistedParticipantIds) {
+            syncScheduled = false;
+            outputStream = persistenceFileOutputStream;
+        }
+        if (outputStream == null) {
+            return;
+        }
+        try {
+            // syncing outside of the lock does not block the creation of further participantIds
+            outputStream.getFD().sync();
+        } catch (IOException e) {
+            logger.error("Error syncing participantId persistence file {}", persistenceFileName, e);
+        }
+    }
+
+    private void closePersistenceFile() {
+        if (persistenceFileOutputStream != null) {
+            try {
+                persistenceFileOutputStream.close();
+            } catch (IOException e) {
+                logger.debug("Error closing participantId persistence file {}", persistenceFileName, e);
+            }
+            persistenceFileOutputStream = null;
+        }
+    }
+
+    /**
+     * @return the properties entry preceded by a comment line with its checksum
+     */
+    private static byte[] toPersistenceRecord(String token, String participantId) throws IOException {
+        String entry = toPropertiesEntry(token, participantId);
+        String entryLine = entry.substring(0, entry.length() - System.lineSeparator().length());
+        return (CHECKSUM_COMMENT_PREFIX + checksum(entryLine) + System.lineSeparator()
+                + entry).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Uses {@link Properties#store(java.io.OutputStream, String)} to get the escaping of the properties file
+     * format right and strips the timestamp comment it writes in front of the entry.
+     */
+    private static String toPropertiesEntry(String token, String participantId) throws IOException {
+        Properties entry = new Properties();
+        entry.setProperty(token, participantId);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        entry.store(outputStream, null);
+        String storedEntry = outputStream.toString(StandardCharsets.ISO_8859_1.name());
+        return storedEntry.substring(storedEntry.indexOf('\n') + 1);
+    }
+
     @Override
     public String getProviderParticipantId(String domain, String interfaceName, int majorVersion) {
         String providerParticipantIdKey = ParticipantIdKeyUtil.getProviderParticipantIdKey(domain,
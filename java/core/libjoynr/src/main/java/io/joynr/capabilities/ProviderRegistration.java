@@ -0,0 +1,66 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.capabilities;
+
+import joynr.types.ProviderQos;
+
+/**
+ * Parameters of a single provider registration as passed to
+ * {@link CapabilitiesRegistrar#registerProvider(String, Object, ProviderQos, String[], boolean)}, used to register
+ * several providers at once with {@link CapabilitiesRegistrar#registerProviders(java.util.Collection)}.
+ */
+public class ProviderRegistration {
+    private final String domain;
+    private final Object provider;
+    private final ProviderQos providerQos;
+    private final String[] gbids;
+    private final boolean awaitGlobalRegistration;
+
+    public ProviderRegistration(String domain,
+                                Object provider,
+                                ProviderQos providerQos,
+                                String[] gbids,
+                                boolean awaitGlobalRegistration) {
+        this.domain = domain;
+        this.provider = provider;
+        this.providerQos = providerQos;
+        this.gbids = gbids;
+        this.awaitGlobalRegistration = awaitGlobalRegistration;
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    public Object getProvider() {
+        return provider;
+    }
+
+    public ProviderQos getProviderQos() {
+        return providerQos;
+    }
+
+    public String[] getGbids() {
+        return gbids;
+    }
+
+    public boolean isAwaitGlobalRegistration() {
+        return awaitGlobalRegistration;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import joynr.Message;
+
+/**
+ * Decides whether the payload of an outgoing message is compressed if the application did not request compression
+ * with {@link io.joynr.messaging.MessagingQos#setCompress(boolean)}.
+ * <p>
+ * Payloads smaller than the configured threshold are never compressed. For larger payloads, the compression ratio
+ * is sampled separately per message type and provider participantId (i.e. per provider interface instance) by
+ * deflating every n-th payload. Payloads are compressed as long as the average ratio of the samples does not exceed
+ * the configured maximum ratio.
+ * <p>
+ * The policy is disabled by default, see {@link ConfigurableMessagingSettings#PROPERTY_ADAPTIVE_COMPRESSION}.
+ */
+@Singleton
+public class AdaptiveCompressionPolicy {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveCompressionPolicy.class);
+
+    static final int MAX_STATISTICS_ENTRIES = 10000;
+    private static final double SAMPLE_WEIGHT = 0.2;
+    private static final int DEFLATE_BUFFER_SIZE = 4096;
+
+    @Inject(optional = true)
+    @Named(ConfigurableMessagingSettings.PROPERTY_ADAPTIVE_COMPRESSION)
+    private boolean enabled = false;
+
+    @Inject(optional = true)
+    @Named(ConfigurableMessagingSettings.PROPERTY_ADAPTIVE_COMPRESSION_THRESHOLD_BYTES)
+    private int thresholdBytes = 1024;
+
+    @Inject(optional = true)
+    @Named(ConfigurableMessagingSettings.PROPERTY_ADAPTIVE_COMPRESSION_MAX_RATIO)
+    private double maxRatio = 0.8;
+
+    @Inject(optional = true)
+    @Named(ConfigurableMessagingSettings.PROPERTY_ADAPTIVE_COMPRESSION_SAMPLE_INTERVAL)
+    private int sampleInterval = 100;
+
+    private final ConcurrentMap<String, CompressionStatistics> statistics = new ConcurrentHashMap<>();
+    // used for all keys once the statistics map is full
+    private final CompressionStatistics sharedStatistics = new CompressionStatistics();
+    private final ThreadLocal<Deflater> deflaters = ThreadLocal.withInitial(Deflater::new);
+    private final ThreadLocal<byte[]> deflateBuffers = ThreadLocal.withInitial(() -> new byte[DEFLATE_BUFFER_SIZE]);
+
+    private static class CompressionStatistics {
+        private final AtomicLong eligibleMessages = new AtomicLong();
+        // negative until the first sample has been taken
+        private volatile double averageRatio = -1;
+    }
+
+    public AdaptiveCompressionPolicy() {
+    }
+
+    AdaptiveCompressionPolicy(boolean enabled, int thresholdBytes, double maxRatio, int sampleInterval) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+        this.maxRatio = maxRatio;
+        this.sampleInterval = sampleInterval;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param messageType the type of the message
+     * @param providerParticipantId the participantId of the provider which sends or receives the message
+     * @param payload the serialized payload
+     * @return true if the payload should be compressed
+     */
+    public boolean shouldCompress(Message.MessageType messageType, String providerParticipantId, byte[] payload) {
+        if (!enabled || payload.length < thresholdBytes) {
+            return false;
+        }
+        CompressionStatistics stats = getStatistics(messageType + ":" + providerParticipantId);
+        long eligibleMessages = stats.eligibleMessages.getAndIncrement();
+        if (eligibleMessages % Math.max(1, sampleInterval) == 0) {
+            double ratio = (double) deflatedSize(payload) / payload.length;
+            double previousRatio = stats.averageRatio;
+            // concurrent updates may lose a sample which is acceptable for an estimate
+            stats.averageRatio = previousRatio < 0 ? ratio
+                    : (1 - SAMPLE_WEIGHT) * previousRatio + SAMPLE_WEIGHT * ratio;
+            logger.trace("Compression ratio of {} payload for {}: {}, average: {}",
+                         messageType,
+                         providerParticipantId,
+                         ratio,
+                         stats.averageRatio);
+        }
+        return stats.averageRatio <= maxRatio;
+    }
+
+    private CompressionStatistics getStatistics(String key) {
+        CompressionStatistics stats = statistics.get(key);
+        if (stats == null) {
+            if (statistics.size() >= MAX_STATISTICS_ENTRIES) {
+                return sharedStatistics;
+            }
+            stats = statistics.computeIfAbsent(key, k -> new CompressionStatistics());
+        }
+        return stats;
+    }
+
+    private int deflatedSize(byte[] payload) {
+        Deflater deflater = deflaters.get();
+        byte[] buffer = deflateBuffers.get();
+        int size = 0;
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            while (!deflater.finished()) {
+                size += deflater.deflate(buffer);
+            }
+        } finally {
+            deflater.reset();
+        }
+        return size;
+    }
+
+    int getNumberOfStatistics() {
+        return statistics.size();
+    }
+}
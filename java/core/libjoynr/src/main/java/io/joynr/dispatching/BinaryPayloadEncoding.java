@@ -0,0 +1,141 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.util.ObjectMapper;
+import joynr.Message;
+
+/**
+ * Negotiates the binary <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> encoding of
+ * reply payloads between Java runtimes as alternative to JSON.
+ * <p>
+ * The negotiation is done per message: if enabled, every outgoing request carries the custom header
+ * {@link Message#CUSTOM_HEADER_BINARY_PAYLOAD_ACCEPTED} with the participantId of its sender. Only the reply to
+ * a request which carried this header is encoded with Smile. Since providers copy the custom headers of a
+ * request to the reply, the header is available when the reply is created, so no state about other participants
+ * is kept. Requests from JSON-only runtimes (other languages, older versions or runtimes with disabled binary
+ * encoding) never carry the header and always get a JSON reply.
+ * <p>
+ * All other messages, especially requests, are always sent as JSON, because cluster controllers parse request
+ * payloads, e.g. for access control.
+ * <p>
+ * Incoming payloads are decoded according to their content: Smile payloads start with the Smile header which can
+ * never start a JSON document. Hence, they are decoded regardless of the configuration.
+ * <p>
+ * The binary encoding is disabled by default, see
+ * {@link ConfigurableMessagingSettings#PROPERTY_BINARY_PAYLOAD_ENCODING}.
+ */
+@Singleton
+public class BinaryPayloadEncoding {
+    private static final SmileFactory SMILE_FACTORY = new SmileFactory();
+
+    @Inject(optional = true)
+    @Named(ConfigurableMessagingSettings.PROPERTY_BINARY_PAYLOAD_ENCODING)
+    private boolean enabled = false;
+
+    public BinaryPayloadEncoding() {
+    }
+
+    BinaryPayloadEncoding(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param payload the serialized payload
+     * @return true if the payload is encoded with Smile
+     */
+    public static boolean isBinary(byte[] payload) {
+        return payload.length >= 3 && payload[0] == ':' && payload[1] == ')' && payload[2] == '\n';
+    }
+
+    /**
+     * Deserializes a JSON or Smile payload.
+     *
+     * @param objectMapper the object mapper with the joynr type configuration
+     * @param payload the serialized payload
+     * @param valueType the type of the payload
+     * @return the deserialized payload
+     * @throws IOException if the payload cannot be parsed
+     */
+    public static <T> T readPayload(ObjectMapper objectMapper,
+                                    byte[] payload,
+                                    Class<T> valueType) throws IOException {
+        if (isBinary(payload)) {
+            return objectMapper.readValue(SMILE_FACTORY, payload, valueType);
+        }
+        return objectMapper.readValue(new String(payload, StandardCharsets.UTF_8), valueType);
+    }
+
+    /**
+     * Serializes the payload with Smile.
+     *
+     * @param objectMapper the object mapper with the joynr type configuration
+     * @param payload the payload to be serialized
+     * @return the serialized payload
+     * @throws IOException if the payload cannot be serialized
+     */
+    public static byte[] writeBinaryPayload(ObjectMapper objectMapper, Object payload) throws IOException {
+        return objectMapper.writeValueAsBytes(SMILE_FACTORY, payload);
+    }
+
+    /**
+     * Checks whether the payload of an outgoing message may be encoded with Smile, i.e. whether it is a reply to a
+     * request whose sender announced that it accepts binary payloads.
+     *
+     * @param messageType the type of the outgoing message
+     * @param toParticipantId the participantId of the recipient
+     * @param customHeaders the custom headers of the outgoing message, copied from the request in case of a reply
+     * @return true if the payload may be encoded with Smile
+     */
+    public boolean isBinaryPayloadAccepted(Message.MessageType messageType,
+                                           String toParticipantId,
+                                           Map<String, String> customHeaders) {
+        return enabled && Message.MessageType.VALUE_MESSAGE_TYPE_REPLY.equals(messageType) && customHeaders != null
+                && toParticipantId.equals(customHeaders.get(Message.CUSTOM_HEADER_BINARY_PAYLOAD_ACCEPTED));
+    }
+
+    /**
+     * Adds the header which announces that the sender of a request accepts a binary reply payload.
+     *
+     * @param messageType the type of the outgoing message
+     * @param customHeaders the custom headers of the outgoing message
+     * @param fromParticipantId the participantId of the sender
+     */
+    public void addAcceptHeader(Message.MessageType messageType,
+                                Map<String, String> customHeaders,
+                                String fromParticipantId) {
+        if (enabled && Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST.equals(messageType)) {
+            customHeaders.put(Message.CUSTOM_HEADER_BINARY_PAYLOAD_ACCEPTED, fromParticipantId);
+        }
+    }
+}
@@ -228,10 +228,10 @@ public class DispatcherImpl implements Dispatcher {
             throw new JoynrMessageExpiredException("Reply message " + message + " expired!");
         }
 
-        String payload;
+        byte[] payload;
 
         try {
-            payload = new String(message.getUnencryptedBody(), StandardCharsets.UTF_8);
+            payload = message.getUnencryptedBody();
         } catch (EncodingException e) {
             logger.error("Error reading SMRF message. msgId: {}. from: {} to: {}. Discarding joynr message. Error:",
                          message.getId(),
@@ -244,24 +244,21 @@ public class DispatcherImpl implements Dispatcher {
         Message.MessageType type = message.getType();
         try {
             if (Message.MessageType.VALUE_MESSAGE_TYPE_REPLY.equals(type)) {
-                Reply reply = objectMapper.readValue(payload, Reply.class);
+                Reply reply = readPayload(payload, Reply.class);
                 if (reply.getRequestReplyId().contains(StatelessAsyncIdCalculator.REQUEST_REPLY_ID_SEPARATOR)) {
                     addStatelessCallback(message, reply);
                 }
-                logger.trace("Parsed reply from message payload: {}", payload);
                 handle(reply);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_SUBSCRIPTION_REPLY.equals(type)) {
-                SubscriptionReply subscriptionReply = objectMapper.readValue(payload, SubscriptionReply.class);
-                logger.trace("Parsed subscription reply from message payload: {}", payload);
+                SubscriptionReply subscriptionReply = readPayload(payload, SubscriptionReply.class);
                 handle(subscriptionReply);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST.equals(type)) {
                 final Map<String, String> customHeaders = message.getCustomHeaders();
                 customHeaders.putAll(message.getExtraCustomHeaders());
                 MessagingQosEffort effort = getEffort(message);
-                final Request request = objectMapper.readValue(payload, Request.class);
+                final Request request = readPayload(payload, Request.class);
                 request.setCreatorUserId(message.getCreatorUserId());
                 request.setContext(createMessageContext(message));
-                logger.trace("Parsed request from message payload: {}", payload);
                 handle(request,
                        message.getSender(),
                        message.getRecipient(),
@@ -270,28 +267,23 @@ public class DispatcherImpl implements Dispatcher {
                        effort,
                        message.isCompressed());
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_ONE_WAY.equals(type)) {
-                OneWayRequest oneWayRequest = objectMapper.readValue(payload, OneWayRequest.class);
+                OneWayRequest oneWayRequest = readPayload(payload, OneWayRequest.class);
                 oneWayRequest.setCreatorUserId(message.getCreatorUserId());
                 oneWayRequest.setContext(createMessageContext(message));
-                logger.trace("Parsed one way request from message payload: {}", payload);
                 handle(oneWayRequest, message.getRecipient(), expiryDate);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_SUBSCRIPTION_REQUEST.equals(type)
                     || Message.MessageType.VALUE_MESSAGE_TYPE_BROADCAST_SUBSCRIPTION_REQUEST.equals(type)
                     || Message.MessageType.VALUE_MESSAGE_TYPE_MULTICAST_SUBSCRIPTION_REQUEST.equals(type)) {
-                SubscriptionRequest subscriptionRequest = objectMapper.readValue(payload, SubscriptionRequest.class);
-                logger.trace("Parsed subscription request from message payload: {}", payload);
+                SubscriptionRequest subscriptionRequest = readPayload(payload, SubscriptionRequest.class);
                 handle(subscriptionRequest, message.getSender(), message.getRecipient());
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_SUBSCRIPTION_STOP.equals(type)) {
-                SubscriptionStop subscriptionStop = objectMapper.readValue(payload, SubscriptionStop.class);
-                logger.trace("Parsed subscription stop from message payload: {}", payload);
+                SubscriptionStop subscriptionStop = readPayload(payload, SubscriptionStop.class);
                 handle(subscriptionStop);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_PUBLICATION.equals(type)) {
-                SubscriptionPublication publication = objectMapper.readValue(payload, SubscriptionPublication.class);
-                logger.trace("Parsed publication from message payload: {}", payload);
+                SubscriptionPublication publication = readPayload(payload, SubscriptionPublication.class);
                 handle(publication);
             } else if (Message.MessageType.VALUE_MESSAGE_TYPE_MULTICAST.equals(type)) {
-                MulticastPublication multicastPublication = objectMapper.readValue(payload, MulticastPublication.class);
-                logger.trace("Parsed multicast publication from message payload: {}", payload);
+                MulticastPublication multicastPublication = readPayload(payload, MulticastPublication.class);
                 handle(multicastPublication);
             }
         } catch (IOException e) {
@@ -304,6 +296,16 @@ public class DispatcherImpl implements Dispatcher {
         }
     }
 
+    private <T> T readPayload(byte[] payload, Class<T> valueType) throws IOException {
+        T value = BinaryPayloadEncoding.readPayload(objectMapper, payload, valueType);
+        if (logger.isTraceEnabled() && !BinaryPayloadEncoding.isBinary(payload)) {
+            logger.trace("Parsed {} from message payload: {}",
+                         valueType.getSimpleName(),
+                         new String(payload, StandardCharsets.UTF_8));
+        }
+        return value;
+    }
+
     private Map<String, Serializable> createMessageContext(ImmutableMessage message) {
         Map<String, Serializable> result = new HashMap<>();
         result.putAll(message.getContext());
@@ -57,6 +57,10 @@ public class MutableMessageFactory {
     @Inject(optional = true)
     @Named(ConfigurableMessagingSettings.PROPERTY_TTL_UPLIFT_MS)
     private long ttlUpliftMs = 0;
+    @Inject(optional = true)
+    private AdaptiveCompressionPolicy compressionPolicy;
+    @Inject(optional = true)
+    private BinaryPayloadEncoding binaryPayloadEncoding;
 
     private static final Logger logger = LoggerFactory.getLogger(MutableMessageFactory.class);
 
@@ -99,9 +103,20 @@ public class MutableMessageFactory {
         message.setRecipient(toParticipantId);
         message.setTtlAbsolute(true);
         message.setTtlMs(adjustedExpiryDate.getValue());
-        message.setPayload(serializePayload(payload));
+        final boolean binaryPayload = binaryPayloadEncoding != null
+                && binaryPayloadEncoding.isBinaryPayloadAccepted(joynrMessageType,
+                                                                 toParticipantId,
+                                                                 messagingQos.getCustomMessageHeaders());
+        byte[] serializedPayload = serializePayload(payload, binaryPayload);
+        message.setPayload(serializedPayload);
         message.setCustomHeaders(messagingQos.getCustomMessageHeaders());
-        message.setCompressed(messagingQos.getCompress());
+        if (binaryPayloadEncoding != null) {
+            Map<String, String> acceptHeader = new HashMap<>();
+            binaryPayloadEncoding.addAcceptHeader(joynrMessageType, acceptHeader, fromParticipantId);
+            message.setCustomHeaders(acceptHeader);
+        }
+        message.setCompressed(messagingQos.getCompress()
+                || shouldCompress(joynrMessageType, fromParticipantId, toParticipantId, serializedPayload));
         for (JoynrMessageProcessor processor : messageProcessors) {
             message = processor.processOutgoing(message);
         }
@@ -111,6 +126,30 @@ public class MutableMessageFactory {
         return message;
     }
 
+    private boolean shouldCompress(final Message.MessageType joynrMessageType,
+                                   final String fromParticipantId,
+                                   final String toParticipantId,
+                                   final byte[] serializedPayload) {
+        if (compressionPolicy == null || !compressionPolicy.isEnabled()) {
+            return false;
+        }
+        final String providerParticipantId = isSentByProvider(joynrMessageType) ? fromParticipantId
+                : toParticipantId;
+        return compressionPolicy.shouldCompress(joynrMessageType, providerParticipantId, serializedPayload);
+    }
+
+    private static boolean isSentByProvider(final Message.MessageType joynrMessageType) {
+        switch (joynrMessageType) {
+        case VALUE_MESSAGE_TYPE_REPLY:
+        case VALUE_MESSAGE_TYPE_SUBSCRIPTION_REPLY:
+        case VALUE_MESSAGE_TYPE_PUBLICATION:
+        case VALUE_MESSAGE_TYPE_MULTICAST:
+            return true;
+        default:
+            return false;
+        }
+    }
+
     private ExpiryDate adjustExpiryDate(final ExpiryDate expiryDate, final boolean upliftTtl) {
         if (!upliftTtl) {
             return expiryDate;
@@ -269,7 +308,7 @@ public class MutableMessageFactory {
                              ExpiryDate.fromRelativeTtl(messagingQos.getRoundTripTtl_ms()));
     }
 
-    private byte[] serializePayload(Object payload) {
+    private byte[] serializePayload(Object payload, boolean binaryPayload) {
         // when using javax.annotatoins.NonNull annotation on capabilities parameter it will
         // cause a NoSuchMethodError
         assert (payload != null);
@@ -278,6 +317,8 @@ public class MutableMessageFactory {
         try {
             if (payload.getClass() == String.class) {
                 serializedPayload = (String) payload;
+            } else if (binaryPayload) {
+                return BinaryPayloadEncoding.writeBinaryPayload(objectMapper, payload);
             } else {
                 serializedPayload = objectMapper.writeValueAsString(payload);
                 logger.trace("SerializePayload as: {}", serializedPayload);
@@ -44,6 +44,8 @@ import io.joynr.provider.Promise;
 import io.joynr.provider.PromiseListener;
 import io.joynr.provider.ProviderCallback;
 import io.joynr.proxy.MethodSignature;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
+import io.joynr.statusmetrics.LatencyStage;
 import io.joynr.util.AnnotationUtil;
 import io.joynr.util.ReflectionUtils;
 import joynr.OneWayRequest;
@@ -66,13 +68,17 @@ public class RequestInterpreter {
 
     private final Provider<JoynrMessageMetaInfo> joynrMessageContext;
 
+    private final JoynrStatusMetricsReceiver statusMetrics;
+
     @Inject
     public RequestInterpreter(final JoynrMessageScope joynrMessageScope,
                               final Provider<JoynrMessageCreator> joynrMessageCreatorProvider,
-                              final Provider<JoynrMessageMetaInfo> joynrMessageContext) {
+                              final Provider<JoynrMessageMetaInfo> joynrMessageContext,
+                              final JoynrStatusMetricsReceiver statusMetrics) {
         this.joynrMessageScope = joynrMessageScope;
         this.joynrMessageCreatorProvider = joynrMessageCreatorProvider;
         this.joynrMessageContext = joynrMessageContext;
+        this.statusMetrics = statusMetrics;
     }
 
     // use for caching because creation of MethodMetaInformation is expensive
@@ -109,8 +115,11 @@ public class RequestInterpreter {
                         final Request request) {
         final Promise<? extends AbstractDeferred> promise;
         logger.debug("Execute request on provider: {}", logRequest(request));
+        final long executionStartTimeNs = System.nanoTime();
+        boolean invocationFailed = true;
         try {
             promise = (Promise<?>) invokeMethod(requestCaller, request);
+            invocationFailed = false;
         } catch (final MethodInvocationException | ProviderRuntimeException e) {
             logger.warn("Execute request on provider failed with exception: {}, {}", e, request);
             callback.onFailure(e);
@@ -126,17 +135,24 @@ public class RequestInterpreter {
                         request);
             callback.onFailure(methodInvocationException);
             return;
+        } finally {
+            // otherwise recorded once the returned promise is settled
+            if (invocationFailed) {
+                statusMetrics.notifyLatency(LatencyStage.PROVIDER_EXECUTION, System.nanoTime() - executionStartTimeNs);
+            }
         }
         promise.then(new PromiseListener() {
 
             @Override
             public void onRejection(final JoynrException error) {
+                statusMetrics.notifyLatency(LatencyStage.PROVIDER_EXECUTION, System.nanoTime() - executionStartTimeNs);
                 logger.debug("Execute request on provider onRejection: {}, {}", error, logRequest(request));
                 callback.onFailure(error);
             }
 
             @Override
             public void onFulfillment(final Object... values) {
+                statusMetrics.notifyLatency(LatencyStage.PROVIDER_EXECUTION, System.nanoTime() - executionStartTimeNs);
                 if (logger.isTraceEnabled()) {
                     logger.trace("Execute request on provider onFulfillment: {}, {}", values, request);
                 } else {
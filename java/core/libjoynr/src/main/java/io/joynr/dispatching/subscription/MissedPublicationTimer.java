@@ -18,7 +18,7 @@
  */
 package io.joynr.dispatching.subscription;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,8 +39,9 @@ public class MissedPublicationTimer extends PubSubTimerBase {
                                   long alertAfterInterval_ms,
                                   AttributeSubscriptionListener<?> callback,
                                   PubSubState state,
-                                  String subscrptionId) {
-        super(expiryDate, state);
+                                  String subscrptionId,
+                                  ScheduledExecutorService scheduler) {
+        super(expiryDate, state, scheduler);
         this.expectedInterval_ms = expectedInterval_ms;
         this.alertAfterInterval_ms = alertAfterInterval_ms;
         this.callback = callback;
@@ -48,7 +49,7 @@ public class MissedPublicationTimer extends PubSubTimerBase {
         startTimer();
     }
 
-    class MissedPublicationTask extends TimerTask {
+    class MissedPublicationTask implements Runnable {
 
         @Override
         public void run() {
@@ -77,7 +78,7 @@ public class MissedPublicationTimer extends PubSubTimerBase {
     }
 
     @Override
-    protected TimerTask getTimerTask() {
+    protected Runnable getTimerTask() {
         return new MissedPublicationTask();
     };
 
@@ -0,0 +1,203 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching.subscription;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of multicast subscriptions, keyed by the multicast ID they have been registered for.
+ * <p>
+ * Multicast IDs without wildcards are looked up in a hash map. Multicast IDs containing a single level
+ * wildcard ('+') or a trailing multi level wildcard ('*') are stored in a trie of their '/' separated levels,
+ * so that the subscriptions matching an incoming multicast ID are found without evaluating one regular
+ * expression per registered subscription.
+ * <p>
+ * Lookups are lock free; modifications are synchronized.
+ */
+class MulticastSubscriberIndex {
+
+    private static final String LEVEL_SEPARATOR = "/";
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "*";
+
+    private static class Subscribers {
+        private final Set<String> subscriptionIds = ConcurrentHashMap.newKeySet();
+        private final Class<?>[] outParameterTypes;
+
+        Subscribers(Class<?>[] outParameterTypes) {
+            this.outParameterTypes = outParameterTypes;
+        }
+    }
+
+    private static class Node {
+        private final ConcurrentMap<String, Node> children = new ConcurrentHashMap<>();
+        private volatile Subscribers subscribers;
+
+        boolean isEmpty() {
+            return subscribers == null && children.isEmpty();
+        }
+    }
+
+    private final ConcurrentMap<String, Subscribers> exactSubscribers = new ConcurrentHashMap<>();
+    private final Node wildcardRoot = new Node();
+    private final Map<String, Set<String>> multicastIdsBySubscriptionId = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a subscription for a multicast ID which may contain wildcards. The out parameter types of the
+     * first subscription registered for a multicast ID are kept for all further subscriptions of that ID.
+     */
+    synchronized void addSubscription(String multicastId, String subscriptionId, Class<?>[] outParameterTypes) {
+        Subscribers subscribers;
+        if (hasWildcard(multicastId)) {
+            Node node = wildcardRoot;
+            for (String level : split(multicastId)) {
+                node = node.children.computeIfAbsent(level, key -> new Node());
+            }
+            if (node.subscribers == null) {
+                node.subscribers = new Subscribers(outParameterTypes);
+            }
+            subscribers = node.subscribers;
+        } else {
+            subscribers = exactSubscribers.computeIfAbsent(multicastId, key -> new Subscribers(outParameterTypes));
+        }
+        subscribers.subscriptionIds.add(subscriptionId);
+        multicastIdsBySubscriptionId.computeIfAbsent(subscriptionId, key -> new HashSet<>()).add(multicastId);
+    }
+
+    /**
+     * Removes a subscription from all multicast IDs it has been registered for.
+     */
+    synchronized void removeSubscription(String subscriptionId) {
+        Set<String> multicastIds = multicastIdsBySubscriptionId.remove(subscriptionId);
+        if (multicastIds == null) {
+            return;
+        }
+        for (String multicastId : multicastIds) {
+            if (hasWildcard(multicastId)) {
+                removeFromTrie(wildcardRoot, split(multicastId), 0, subscriptionId);
+            } else {
+                Subscribers subscribers = exactSubscribers.get(multicastId);
+                if (subscribers != null) {
+                    subscribers.subscriptionIds.remove(subscriptionId);
+                    if (subscribers.subscriptionIds.isEmpty()) {
+                        exactSubscribers.remove(multicastId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the ids of all subscriptions whose (possibly wildcarded) multicast ID matches the given multicast ID
+     */
+    Set<String> getSubscriptionIds(String multicastId) {
+        Set<String> subscriptionIds = new HashSet<>();
+        for (Subscribers subscribers : findSubscribers(multicastId)) {
+            subscriptionIds.addAll(subscribers.subscriptionIds);
+        }
+        return subscriptionIds;
+    }
+
+    /**
+     * @return the out parameter types registered for a multicast ID matching the given multicast ID, or null
+     */
+    Class<?>[] getOutParameterTypes(String multicastId) {
+        List<Subscribers> matches = findSubscribers(multicastId);
+        return matches.isEmpty() ? null : matches.get(0).outParameterTypes;
+    }
+
+    private List<Subscribers> findSubscribers(String multicastId) {
+        List<Subscribers> matches = new ArrayList<>();
+        Subscribers exactMatch = exactSubscribers.get(multicastId);
+        if (exactMatch != null) {
+            matches.add(exactMatch);
+        }
+        if (!wildcardRoot.children.isEmpty()) {
+            collectMatches(wildcardRoot, split(multicastId), 0, matches);
+        }
+        return matches;
+    }
+
+    private static void collectMatches(Node node, String[] levels, int index, List<Subscribers> matches) {
+        if (index == levels.length) {
+            addIfPresent(node.subscribers, matches);
+            // "a/b/*" also matches "a/b"
+            Node multiLevelWildcard = node.children.get(MULTI_LEVEL_WILDCARD);
+            if (multiLevelWildcard != null) {
+                addIfPresent(multiLevelWildcard.subscribers, matches);
+            }
+            return;
+        }
+        String level = levels[index];
+        Node literal = node.children.get(level);
+        if (literal != null) {
+            collectMatches(literal, levels, index + 1, matches);
+        }
+        Node singleLevelWildcard = node.children.get(SINGLE_LEVEL_WILDCARD);
+        if (singleLevelWildcard != null && !level.isEmpty()) {
+            collectMatches(singleLevelWildcard, levels, index + 1, matches);
+        }
+        Node multiLevelWildcard = node.children.get(MULTI_LEVEL_WILDCARD);
+        if (multiLevelWildcard != null) {
+            addIfPresent(multiLevelWildcard.subscribers, matches);
+        }
+    }
+
+    private static void addIfPresent(Subscribers subscribers, List<Subscribers> matches) {
+        if (subscribers != null && !matches.contains(subscribers)) {
+            matches.add(subscribers);
+        }
+    }
+
+    private static boolean removeFromTrie(Node node, String[] levels, int index, String subscriptionId) {
+        if (index == levels.length) {
+            Subscribers subscribers = node.subscribers;
+            if (subscribers != null) {
+                subscribers.subscriptionIds.remove(subscriptionId);
+                if (subscribers.subscriptionIds.isEmpty()) {
+                    node.subscribers = null;
+                }
+            }
+        } else {
+            Node child = node.children.get(levels[index]);
+            if (child != null && removeFromTrie(child, levels, index + 1, subscriptionId)) {
+                node.children.remove(levels[index]);
+            }
+        }
+        return node.isEmpty();
+    }
+
+    private static boolean hasWildcard(String multicastId) {
+        return multicastId.equals(MULTI_LEVEL_WILDCARD) || multicastId.endsWith(LEVEL_SEPARATOR + MULTI_LEVEL_WILDCARD)
+                || multicastId.equals(SINGLE_LEVEL_WILDCARD)
+                || multicastId.startsWith(SINGLE_LEVEL_WILDCARD + LEVEL_SEPARATOR)
+                || multicastId.contains(LEVEL_SEPARATOR + SINGLE_LEVEL_WILDCARD + LEVEL_SEPARATOR)
+                || multicastId.endsWith(LEVEL_SEPARATOR + SINGLE_LEVEL_WILDCARD);
+    }
+
+    private static String[] split(String multicastId) {
+        return multicastId.split(LEVEL_SEPARATOR, -1);
+    }
+}
@@ -18,24 +18,31 @@
  */
 package io.joynr.dispatching.subscription;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.joynr.pubsub.SubscriptionQos;
 
+/**
+ * Base class of publication and missed publication timers. The timer tasks of all subscriptions are scheduled on a
+ * shared scheduler, so that the number of threads does not depend on the number of subscriptions.
+ */
 public abstract class PubSubTimerBase {
     protected long expiryDate;
     protected PubSubState state;
-    protected Timer timer = new Timer();
+    private final ScheduledExecutorService scheduler;
+    private final Object timerLock = new Object();
+    private ScheduledFuture<?> scheduledTask;
     private static final Logger logger = LoggerFactory.getLogger(PubSubTimerBase.class);
 
-    public PubSubTimerBase(long expiryDate, PubSubState state) {
+    public PubSubTimerBase(long expiryDate, PubSubState state, ScheduledExecutorService scheduler) {
         this.state = state;
         this.expiryDate = expiryDate;
-
+        this.scheduler = scheduler;
     }
 
     public void startTimer() {
@@ -52,19 +59,21 @@ public abstract class PubSubTimerBase {
     }
 
     public void cancel() {
-        synchronized (timer) {
+        synchronized (timerLock) {
             state.stop();
-            timer.cancel();
+            if (scheduledTask != null) {
+                scheduledTask.cancel(false);
+            }
         }
     }
 
     protected void rescheduleTimer(long delay) {
-        synchronized (timer) {
+        synchronized (timerLock) {
             boolean isExpiredNow = isExpiredInMs(0);
             boolean isExpiredBeforeNextPublication = isExpiredInMs(delay);
             if (!isExpiredNow && !isExpiredBeforeNextPublication && !state.isStopped()) {
                 logger.trace("Rescheduling PubSubTimer with delay {}.", delay);
-                timer.schedule(getTimerTask(), delay);
+                scheduledTask = scheduler.schedule(getTimerTask(), delay, TimeUnit.MILLISECONDS);
             } else {
                 if (logger.isTraceEnabled()) {
                     if (isExpiredNow) {
@@ -81,6 +90,6 @@ public abstract class PubSubTimerBase {
         }
     }
 
-    protected abstract TimerTask getTimerTask();
+    protected abstract Runnable getTimerTask();
 
 }
@@ -19,6 +19,7 @@
 package io.joynr.dispatching.subscription;
 
 import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
@@ -99,6 +100,7 @@ public class PublicationManagerImpl
 
     private AttributePollInterpreter attributePollInterpreter;
     private ScheduledExecutorService cleanupScheduler;
+    private ScheduledExecutorService timerScheduler;
     private Dispatcher dispatcher;
     private ProviderDirectory providerDirectory;
     private RoutingTable routingTable;
@@ -197,6 +199,7 @@ public class PublicationManagerImpl
                                   ProviderDirectory providerDirectory,
                                   RoutingTable routingTable,
                                   @Named(JOYNR_SCHEDULER_CLEANUP) ScheduledExecutorService cleanupScheduler,
+                                  @Named(JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS) ScheduledExecutorService timerScheduler,
                                   ShutdownNotifier shutdownNotifier) {
         super();
         this.dispatcher = dispatcher;
@@ -204,6 +207,7 @@ public class PublicationManagerImpl
         this.routingTable = routingTable;
         this.addRemoveLock = new Object();
         this.cleanupScheduler = cleanupScheduler;
+        this.timerScheduler = timerScheduler;
         this.queuedSubscriptionRequests = new MultiMap<>();
         this.subscriptionId2PublicationInformation = new ConcurrentHashMap<>();
         this.publicationTimers = new ConcurrentHashMap<>();
@@ -239,7 +243,8 @@ public class PublicationManagerImpl
                                                                     method,
                                                                     providerContainer,
                                                                     this,
-                                                                    attributePollInterpreter);
+                                                                    attributePollInterpreter,
+                                                                    timerScheduler);
 
                 timer.startTimer();
                 publicationTimers.put(subscriptionId, timer);
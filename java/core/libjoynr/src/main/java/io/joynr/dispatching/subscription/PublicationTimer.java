@@ -22,7 +22,8 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Optional;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +57,7 @@ public class PublicationTimer extends PubSubTimerBase {
     private final long period;
     private boolean pendingPublication;
     private final PublicationManager publicationManager;
+    private final ScheduledExecutorService scheduler;
 
     /**
      * Constructor for PublicationTimer object, see (@link PublicationTimer)
@@ -64,14 +66,17 @@ public class PublicationTimer extends PubSubTimerBase {
      * @param providerContainer request caller
      * @param publicationManager publication manager to send publication messages
      * @param attributePollInterpreter attribute poll interpreter to execute method
+     * @param scheduler shared scheduler executing the publication tasks of all subscriptions
      */
     public PublicationTimer(PublicationInformation publicationInformation,
                             Method method,
                             ProviderContainer providerContainer,
                             PublicationManager publicationManager,
-                            AttributePollInterpreter attributePollInterpreter) {
-        super(publicationInformation.getQos().getExpiryDateMs(), publicationInformation.getState());
+                            AttributePollInterpreter attributePollInterpreter,
+                            ScheduledExecutorService scheduler) {
+        super(publicationInformation.getQos().getExpiryDateMs(), publicationInformation.getState(), scheduler);
         this.publicationManager = publicationManager;
+        this.scheduler = scheduler;
 
         SubscriptionQos qos = publicationInformation.getQos();
 
@@ -91,7 +96,7 @@ public class PublicationTimer extends PubSubTimerBase {
         this.pendingPublication = false;
     }
 
-    class PublicationTask extends TimerTask {
+    class PublicationTask implements Runnable {
 
         @Override
         public void run() {
@@ -172,10 +177,7 @@ public class PublicationTimer extends PubSubTimerBase {
                 logger.error("SendPublication error.", e);
             }
             synchronized (PublicationTimer.this) {
-                if (pendingPublication) {
-                    pendingPublication = false;
-                    PublicationTimer.this.notifyAll();
-                }
+                pendingPublication = false;
             }
             logger.trace("Sent subscriptionreply @{}", state.getTimeOfLastPublication());
         } else {
@@ -184,23 +186,15 @@ public class PublicationTimer extends PubSubTimerBase {
                     pendingPublication = true;
                     final long timeToWait = minInterval - timeSinceLast;
                     logger.trace("TimeToWait for subscription {}: {}", publication.getSubscriptionId(), timeToWait);
-                    new Thread(new Runnable() {
-                        @Override
-                        public void run() {
-                            synchronized (PublicationTimer.this) {
-                                try {
-                                    PublicationTimer.this.wait(timeToWait);
-                                    if (pendingPublication) {
-                                        sendPublication(publication);
-                                    }
-                                } catch (InterruptedException e) {
-                                    Thread.currentThread().interrupt();
-                                    logger.trace("DelayedPublicationThread interrupted. No publication is sent.");
-                                }
+                    // the delayed publication is dropped if another publication has been sent in the meantime
+                    scheduler.schedule(() -> {
+                        synchronized (PublicationTimer.this) {
+                            if (pendingPublication) {
+                                pendingPublication = false;
+                                sendPublication(publication);
                             }
-
                         }
-                    }).start();
+                    }, timeToWait, TimeUnit.MILLISECONDS);
                 } else {
                     logger.trace("Ignored attribute change. Mininterval {} not yet reached since timeSinceLast: {}",
                                  minInterval,
@@ -211,7 +205,7 @@ public class PublicationTimer extends PubSubTimerBase {
     }
 
     @Override
-    protected TimerTask getTimerTask() {
+    protected Runnable getTimerTask() {
         return new PublicationTask();
     }
 
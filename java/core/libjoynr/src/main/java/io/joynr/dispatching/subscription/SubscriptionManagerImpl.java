@@ -19,14 +19,12 @@
 package io.joynr.dispatching.subscription;
 
 import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS;
 import static io.joynr.util.JoynrUtil.createUuidString;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,7 +32,6 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,7 +44,6 @@ import io.joynr.dispatching.Dispatcher;
 import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.messaging.MessagingQos;
 import io.joynr.messaging.MulticastReceiverRegistrar;
-import io.joynr.messaging.util.MulticastWildcardRegexFactory;
 import io.joynr.proxy.Future;
 import io.joynr.proxy.invocation.AttributeSubscribeInvocation;
 import io.joynr.proxy.invocation.BroadcastSubscribeInvocation;
@@ -70,11 +66,10 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
 
     private ConcurrentMap<String, AttributeSubscriptionListener<?>> subscriptionListenerDirectory;
     private ConcurrentMap<String, BroadcastSubscriptionListener> broadcastSubscriptionListenerDirectory;
-    private ConcurrentMap<Pattern, Set<String>> multicastSubscribersDirectory;
+    private MulticastSubscriberIndex multicastSubscriberIndex;
     private ConcurrentMap<String, Future<String>> subscriptionFutureMap;
     private ConcurrentMap<String, Class<?>> subscriptionTypes;
     private ConcurrentMap<String, Class<?>[]> unicastBroadcastTypes;
-    private ConcurrentMap<Pattern, Class<?>[]> multicastBroadcastTypes;
     private ConcurrentMap<String, SubscriptionState> subscriptionStates;
     private ConcurrentMap<String, MissedPublicationTimer> missedPublicationTimers;
     private ConcurrentMap<String, ScheduledFuture<?>> subscriptionEndFutures; // These futures will be needed if a
@@ -84,31 +79,30 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
 
     private static final Logger logger = LoggerFactory.getLogger(SubscriptionManagerImpl.class);
     private ScheduledExecutorService cleanupScheduler;
+    private ScheduledExecutorService timerScheduler;
     private Dispatcher dispatcher;
 
-    private final MulticastWildcardRegexFactory multicastWildcardRegexFactory;
     private final MulticastReceiverRegistrar multicastReceiverRegistrar;
 
     @Inject
     public SubscriptionManagerImpl(@Named(JOYNR_SCHEDULER_CLEANUP) ScheduledExecutorService cleanupScheduler,
+                                   @Named(JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS) ScheduledExecutorService timerScheduler,
                                    Dispatcher dispatcher,
-                                   MulticastWildcardRegexFactory multicastWildcardRegexFactory,
                                    ShutdownNotifier shutdownNotifier,
                                    MulticastReceiverRegistrar multicastReceiverRegistrar) {
         this.cleanupScheduler = cleanupScheduler;
+        this.timerScheduler = timerScheduler;
         this.dispatcher = dispatcher;
         this.subscriptionListenerDirectory = new ConcurrentHashMap<>();
         this.broadcastSubscriptionListenerDirectory = new ConcurrentHashMap<>();
-        this.multicastSubscribersDirectory = new ConcurrentHashMap<>();
+        this.multicastSubscriberIndex = new MulticastSubscriberIndex();
         this.subscriptionStates = new ConcurrentHashMap<>();
         this.missedPublicationTimers = new ConcurrentHashMap<>();
         this.subscriptionEndFutures = new ConcurrentHashMap<>();
         this.subscriptionTypes = new ConcurrentHashMap<>();
         this.unicastBroadcastTypes = new ConcurrentHashMap<>();
-        this.multicastBroadcastTypes = new ConcurrentHashMap<>();
         this.subscriptionFutureMap = new ConcurrentHashMap<>();
         this.subscriptionIdToMulticastInformationMap = new ConcurrentHashMap<>();
-        this.multicastWildcardRegexFactory = multicastWildcardRegexFactory;
         this.multicastReceiverRegistrar = multicastReceiverRegistrar;
         shutdownNotifier.registerForShutdown(this);
     }
@@ -116,34 +110,32 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
     // CHECKSTYLE IGNORE ParameterNumber FOR NEXT 1 LINES
     SubscriptionManagerImpl(ConcurrentMap<String, AttributeSubscriptionListener<?>> attributeSubscriptionDirectory,
                             ConcurrentMap<String, BroadcastSubscriptionListener> broadcastSubscriptionDirectory,
-                            ConcurrentMap<Pattern, Set<String>> multicastSubscribersDirectory,
+                            MulticastSubscriberIndex multicastSubscriberIndex,
                             ConcurrentMap<String, SubscriptionState> subscriptionStates,
                             ConcurrentMap<String, MissedPublicationTimer> missedPublicationTimers,
                             ConcurrentMap<String, ScheduledFuture<?>> subscriptionEndFutures,
                             ConcurrentMap<String, Class<?>> subscriptionAttributeTypes,
                             ConcurrentMap<String, Class<?>[]> unicastBroadcastTypes,
-                            ConcurrentMap<Pattern, Class<?>[]> multicastBroadcastTypes,
                             ConcurrentMap<String, Future<String>> subscriptionFutureMap,
                             ConcurrentMap<String, List<MulticastInformation>> subscriptionIdToMulticastInformationMap,
                             ScheduledExecutorService cleanupScheduler,
+                            ScheduledExecutorService timerScheduler,
                             Dispatcher dispatcher,
-                            MulticastWildcardRegexFactory multicastWildcardRegexFactory,
                             MulticastReceiverRegistrar multicastReceiverRegistrar) {
         super();
         this.subscriptionListenerDirectory = attributeSubscriptionDirectory;
         this.broadcastSubscriptionListenerDirectory = broadcastSubscriptionDirectory;
-        this.multicastSubscribersDirectory = multicastSubscribersDirectory;
+        this.multicastSubscriberIndex = multicastSubscriberIndex;
         this.subscriptionStates = subscriptionStates;
         this.missedPublicationTimers = missedPublicationTimers;
         this.subscriptionEndFutures = subscriptionEndFutures;
         this.subscriptionTypes = subscriptionAttributeTypes;
         this.unicastBroadcastTypes = unicastBroadcastTypes;
-        this.multicastBroadcastTypes = multicastBroadcastTypes;
         this.cleanupScheduler = cleanupScheduler;
+        this.timerScheduler = timerScheduler;
         this.dispatcher = dispatcher;
         this.subscriptionFutureMap = subscriptionFutureMap;
         this.subscriptionIdToMulticastInformationMap = subscriptionIdToMulticastInformationMap;
-        this.multicastWildcardRegexFactory = multicastWildcardRegexFactory;
         this.multicastReceiverRegistrar = multicastReceiverRegistrar;
     }
 
@@ -208,7 +200,8 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
                                                                                                     heartbeat.getAlertAfterIntervalMs(),
                                                                                                     request.getAttributeSubscriptionListener(),
                                                                                                     subscriptionStates.get(request.getSubscriptionId()),
-                                                                                                    request.getSubscriptionId()));
+                                                                                                    request.getSubscriptionId(),
+                                                                                                    timerScheduler));
                                          }
                                      }
 
@@ -275,14 +268,9 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
                                      public SubscriptionRequest execute() {
                                          String subscriptionId = multicastSubscribeInvocation.getSubscriptionId();
                                          logger.trace("Multicast subscription registered with Id: {}", subscriptionId);
-                                         Pattern multicastIdPattern = multicastWildcardRegexFactory.createIdPattern(multicastId);
-                                         if (!multicastSubscribersDirectory.containsKey(multicastIdPattern)) {
-                                             multicastSubscribersDirectory.putIfAbsent(multicastIdPattern,
-                                                                                       new HashSet<String>());
-                                         }
-                                         multicastSubscribersDirectory.get(multicastIdPattern).add(subscriptionId);
-                                         multicastBroadcastTypes.putIfAbsent(multicastIdPattern,
-                                                                             multicastSubscribeInvocation.getOutParameterTypes());
+                                         multicastSubscriberIndex.addSubscription(multicastId,
+                                                                                  subscriptionId,
+                                                                                  multicastSubscribeInvocation.getOutParameterTypes());
                                          broadcastSubscriptionListenerDirectory.put(subscriptionId,
                                                                                     multicastSubscribeInvocation.getListener());
                                          multicastReceiverRegistrar.addMulticastReceiver(multicastId,
@@ -393,22 +381,18 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
 
     @Override
     public void handleMulticastPublication(String multicastId, Object[] publicizedValues) {
-        for (Map.Entry<Pattern, Set<String>> entry : multicastSubscribersDirectory.entrySet()) {
-            if (entry.getKey().matcher(multicastId).matches()) {
-                for (String subscriptionId : entry.getValue()) {
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("MULTICAST SUBSCRIPTION notify listener: subscriptionId: {}, multicastId: {}, broadcastValue: {}",
-                                     subscriptionId,
-                                     multicastId,
-                                     publicizedValues);
-                    } else {
-                        logger.debug("MULTICAST SUBSCRIPTION notify listener: subscriptionId: {}, multicastId: {}",
-                                     subscriptionId,
-                                     multicastId);
-                    }
-                    handleBroadcastPublication(subscriptionId, publicizedValues);
-                }
+        for (String subscriptionId : multicastSubscriberIndex.getSubscriptionIds(multicastId)) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("MULTICAST SUBSCRIPTION notify listener: subscriptionId: {}, multicastId: {}, broadcastValue: {}",
+                             subscriptionId,
+                             multicastId,
+                             publicizedValues);
+            } else {
+                logger.debug("MULTICAST SUBSCRIPTION notify listener: subscriptionId: {}, multicastId: {}",
+                             subscriptionId,
+                             multicastId);
             }
+            handleBroadcastPublication(subscriptionId, publicizedValues);
         }
     }
 
@@ -532,14 +516,7 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
 
     @Override
     public Class<?>[] getMulticastPublicationOutParameterTypes(String multicastId) {
-        Class<?>[] outParamterTypes = null;
-        for (Map.Entry<Pattern, Class<?>[]> entry : multicastBroadcastTypes.entrySet()) {
-            if (entry.getKey().matcher(multicastId).matches()) {
-                outParamterTypes = entry.getValue();
-                break;
-            }
-        }
-        return outParamterTypes;
+        return multicastSubscriberIndex.getOutParameterTypes(multicastId);
     }
 
     /**
@@ -566,13 +543,7 @@ public class SubscriptionManagerImpl implements SubscriptionManager, ShutdownLis
         subscriptionListenerDirectory.remove(subscriptionId);
         unicastBroadcastTypes.remove(subscriptionId);
         broadcastSubscriptionListenerDirectory.remove(subscriptionId);
-        for (Entry<Pattern, Set<String>> entry : multicastSubscribersDirectory.entrySet()) {
-            Set<String> subscriptionIds = entry.getValue();
-            subscriptionIds.remove(subscriptionId);
-            if (subscriptionIds.isEmpty()) {
-                multicastBroadcastTypes.remove(entry.getKey());
-            }
-        }
+        multicastSubscriberIndex.removeSubscription(subscriptionId);
         subscriptionTypes.remove(subscriptionId);
 
         List<MulticastInformation> multicastInformationList = subscriptionIdToMulticastInformationMap.get(subscriptionId);
@@ -54,11 +54,14 @@ import io.joynr.messaging.tracking.MessageTrackerForGracefulShutdown;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
 import io.joynr.runtime.SystemServicesSettings;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
+import io.joynr.statusmetrics.LatencyStage;
 import joynr.ImmutableMessage;
 import joynr.exceptions.ProviderRuntimeException;
 import joynr.system.RoutingProxy;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.BinderAddress;
+import joynr.system.RoutingTypes.UdsClientAddress;
 import joynr.system.RoutingTypes.WebSocketAddress;
 import joynr.system.RoutingTypes.WebSocketClientAddress;
 
@@ -89,6 +92,7 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
     }
 
     private final IMessagingStub outgoingMessagingStub;
+    private final String outgoingAddressType;
     private RoutingProxy parentRouter;
     private final Address incomingAddress;
     private final Dispatcher dispatcher;
@@ -96,6 +100,7 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
     private final Map<String, QueuedMulticastRegistration> queuedMulticastRegistrations = new HashMap<>();
     private volatile boolean ready = false;
     private final MessageTrackerForGracefulShutdown messageTracker;
+    private final JoynrStatusMetricsReceiver statusMetrics;
 
     @Inject
     // CHECKSTYLE IGNORE ParameterNumber FOR NEXT 1 LINES
@@ -107,11 +112,14 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
                                  final ShutdownNotifier shutdownNotifier,
                                  final Dispatcher dispatcher,
                                  final MessageTrackerForGracefulShutdown messageTracker,
+                                 final JoynrStatusMetricsReceiver statusMetrics,
                                  final @Named(SystemServicesSettings.PROPERTY_CC_MESSAGING_ADDRESS) Address parentRouterMessagingAddress) {
         dateFormatter.setTimeZone(TimeZone.getTimeZone("UTC"));
         this.scheduler = scheduler;
         this.dispatcher = dispatcher;
         this.messageQueue = messageQueue;
+        this.statusMetrics = statusMetrics;
+        this.outgoingAddressType = parentRouterMessagingAddress.getClass().getSimpleName();
         shutdownNotifier.registerForShutdown(this);
         final int threadCount = maxParallelSends < 2 ? 2 : maxParallelSends;
         startMessageWorkerThreads(threadCount);
@@ -184,6 +192,8 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
             parentRouter.addNextHop(participantId, (WebSocketClientAddress) incomingAddress, isGloballyVisible);
         } else if (incomingAddress instanceof BinderAddress) {
             parentRouter.addNextHop(participantId, (BinderAddress) incomingAddress, isGloballyVisible);
+        } else if (incomingAddress instanceof UdsClientAddress) {
+            parentRouter.addNextHop(participantId, (UdsClientAddress) incomingAddress, isGloballyVisible);
         } else {
             throw new ProviderRuntimeException("Failed to add next hop to parent: unknown address type "
                     + incomingAddress.getClass().getSimpleName());
@@ -267,6 +277,7 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
                                                                                          0,
                                                                                          Set.of("incoming"),
                                                                                          0);
+        statusMetrics.notifyMessageEnqueued(false);
         messageQueue.put(delayableMessage);
     }
 
@@ -297,6 +308,7 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
                          maxRetryCount,
                          delayableMessage.getMessage().getTrackingInfo());
         }
+        statusMetrics.notifyMessageEnqueued(retriesCount > 0);
         messageQueue.put(delayableMessage);
     }
 
@@ -353,6 +365,31 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
         };
     }
 
+    private void transmitOutgoingMessage(final ImmutableMessage message,
+                                         final SuccessAction successAction,
+                                         final FailureAction failureAction) {
+        // success and failure action may both be called, possibly more than once
+        final AtomicBoolean sendFinished = new AtomicBoolean(false);
+        final Runnable notifySendFinished = () -> {
+            if (sendFinished.compareAndSet(false, true)) {
+                statusMetrics.notifySendFinished(outgoingAddressType);
+            }
+        };
+        statusMetrics.notifySendStarted(outgoingAddressType);
+        try {
+            outgoingMessagingStub.transmit(message, () -> {
+                notifySendFinished.run();
+                successAction.execute();
+            }, error -> {
+                notifySendFinished.run();
+                failureAction.execute(error);
+            });
+        } catch (final RuntimeException e) {
+            notifySendFinished.run();
+            throw e;
+        }
+    }
+
     private SuccessAction createMessageProcessedAction(final ImmutableMessage message) {
         return () -> messageTracker.unregister(message);
     }
@@ -419,7 +456,8 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
                 failureAction = createFailureAction(delayableMessage);
                 logger.trace(">>>>> SEND message {}", message.getId());
 
-                outgoingMessagingStub.transmit(message, messageProcessedAction, failureAction);
+                statusMetrics.notifyLatency(LatencyStage.ROUTING, delayableMessage.getRoutingLatencyNs());
+                transmitOutgoingMessage(message, messageProcessedAction, failureAction);
                 messageTracker.unregister(message);
             } catch (final Exception error) {
                 logger.error("Error in scheduled MessageWorker thread while processing outgoing message:", error);
@@ -445,32 +483,47 @@ public class LibJoynrMessageRouter implements MessageRouter, MulticastReceiverRe
         @Override
         public void run() {
             Thread.currentThread().setName("joynrMessageWorker-" + number);
+            statusMetrics.notifyMessageWorkerStarted();
+            try {
+                while (!stopped) {
+                    final DelayableImmutableMessage delayableMessage;
 
-            while (!stopped) {
-                DelayableImmutableMessage delayableMessage;
-
-                try {
-                    delayableMessage = messageQueue.poll(1000, TimeUnit.MILLISECONDS);
-                    if (delayableMessage != null) {
-                        // Since there is no longer a MessageRouter in libJoynrRuntime
-                        // all messages are sent to / received from the ClusterController
-                        // (even if consumer and provider are using same libJoynrRuntime)
-                        // which means incoming messages all have the receivedFromGlobal
-                        // flag set since this is the case for everything received from
-                        // cluster controller.
-                        if (delayableMessage.getMessage().isReceivedFromGlobal()) {
-                            handleIncomingMessage(delayableMessage);
-                        } else {
-                            handleOutgoingMessage(delayableMessage);
+                    try {
+                        delayableMessage = messageQueue.poll(1000, TimeUnit.MILLISECONDS);
+                        if (delayableMessage != null) {
+                            handleMessage(delayableMessage);
                         }
+                    } catch (final InterruptedException e) {
+                        logger.trace("MessageWorker interrupted. Stopping.");
+                        Thread.currentThread().interrupt();
+                        return;
                     }
-                } catch (final InterruptedException e) {
-                    logger.trace("MessageWorker interrupted. Stopping.");
-                    Thread.currentThread().interrupt();
-                    return;
                 }
+            } finally {
+                statusMetrics.notifyMessageWorkerStopped();
             }
             countDownLatch.countDown();
         }
+
+        private void handleMessage(final DelayableImmutableMessage delayableMessage) {
+            statusMetrics.notifyMessageWorkerBusy();
+            try {
+                statusMetrics.notifyMessageDequeued(delayableMessage.getRetriesCount() > 0);
+                statusMetrics.notifyLatency(LatencyStage.MESSAGE_QUEUE, delayableMessage.getQueueLatencyNs());
+                // Since there is no longer a MessageRouter in libJoynrRuntime
+                // all messages are sent to / received from the ClusterController
+                // (even if consumer and provider are using same libJoynrRuntime)
+                // which means incoming messages all have the receivedFromGlobal
+                // flag set since this is the case for everything received from
+                // cluster controller.
+                if (delayableMessage.getMessage().isReceivedFromGlobal()) {
+                    handleIncomingMessage(delayableMessage);
+                } else {
+                    handleOutgoingMessage(delayableMessage);
+                }
+            } finally {
+                statusMetrics.notifyMessageWorkerIdle();
+            }
+        }
     }
 }
@@ -20,13 +20,11 @@ package io.joynr.messaging.tracking;
 
 import static io.joynr.proxy.StatelessAsyncIdCalculator.REQUEST_REPLY_ID_SEPARATOR;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +33,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 
+import io.joynr.dispatching.BinaryPayloadEncoding;
 import io.joynr.exceptions.JoynrIllegalStateException;
 import io.joynr.runtime.PrepareForShutdownListener;
 import io.joynr.runtime.ShutdownListener;
@@ -44,6 +43,17 @@ import joynr.ImmutableMessage;
 import joynr.Message;
 import joynr.Request;
 
+/**
+ * Keeps track of the messages which are currently processed by the message router so that
+ * prepareForShutdown can wait until they are processed completely.
+ * <p>
+ * In steady state only a counter is maintained: the registration state is stored in the
+ * {@link ImmutableMessage} itself, so that repeated (un)registrations of the same message are
+ * ignored, and the number of registered messages is kept in a {@link LongAdder}. Once
+ * prepareForShutdown has been called, newly registered messages are additionally stored in a
+ * set, which is used for detailed logging and for unregistering requests whose reply caller
+ * expired.
+ */
 @Singleton
 public class MessageTrackerForGracefulShutdown implements ShutdownListener, PrepareForShutdownListener {
 
@@ -59,7 +69,10 @@ public class MessageTrackerForGracefulShutdown implements ShutdownListener, Prep
     private static final String PROPERTY_PREPARE_FOR_SHUTDOWN_TIMEOUT = "joynr.runtime.prepareforshutdowntimeout";
     private static final String PROPERTY_ENABLE_LOGGING = "joynr.message.tracker.logging.enabled";
 
-    private final Set<MessageToTrack> registeredMessages = ConcurrentHashMap.newKeySet();
+    private final LongAdder numberOfRegisteredMessages = new LongAdder();
+    private final Set<ImmutableMessage> messagesRegisteredWhilePreparingForShutdown = ConcurrentHashMap.newKeySet();
+    private final Object prepareForShutdownLock = new Object();
+    private volatile boolean preparingForShutdown = false;
 
     private final ObjectMapper objectMapper;
 
@@ -83,58 +96,52 @@ public class MessageTrackerForGracefulShutdown implements ShutdownListener, Prep
      * @param immutableMessage message to be registered
      */
     public void register(final ImmutableMessage immutableMessage) {
-        process(immutableMessage, registerAction);
+        if (!isTrackable(immutableMessage)) {
+            return;
+        }
+        if (immutableMessage.registerInMessageTracker()) {
+            numberOfRegisteredMessages.increment();
+            if (preparingForShutdown) {
+                messagesRegisteredWhilePreparingForShutdown.add(immutableMessage);
+            }
+            logIfPossible("Message with following ID: {} has been successfully registered", immutableMessage.getId());
+        } else {
+            logIfPossible("Message with following ID: {} is already registered.", immutableMessage.getId());
+        }
     }
 
-    private final Consumer<MessageToTrack> registerAction = messageToTrack -> {
-        logIfPossible("Trying to register message with following ID: {} and requestReplyId: {}",
-                      messageToTrack.getMessageId(),
-                      messageToTrack.getRequestReplyId());
-        if (registeredMessages.add(messageToTrack)) {
-            logIfPossible("Message with following ID: {} and requestReplyId: {} has been successfully registered",
-                          messageToTrack.getMessageId(),
-                          messageToTrack.getRequestReplyId());
-        } else {
-            logIfPossible("Message with following ID: {} and requestReplyId: {} is already registered.",
-                          messageToTrack.getMessageId(),
-                          messageToTrack.getRequestReplyId());
+    /**
+     * Method to remove a message (or message pair in case of RPC request/reply) from the list of tracked messages
+     * @param immutableMessage message to be unregistered
+     */
+    public void unregister(final ImmutableMessage immutableMessage) {
+        if (!isTrackable(immutableMessage)) {
+            return;
         }
-    };
-
-    private final Consumer<MessageToTrack> unregisterAction = messageToTrack -> {
-        logIfPossible("Trying to unregister message with following ID: {} and requestReplyId: {}",
-                      messageToTrack.getMessageId(),
-                      messageToTrack.getRequestReplyId());
-        if (registeredMessages.remove(messageToTrack)) {
-            synchronized (registeredMessages) {
-                if (registeredMessages.isEmpty()) {
-                    registeredMessages.notify();
-                }
+        if (immutableMessage.unregisterFromMessageTracker()) {
+            numberOfRegisteredMessages.decrement();
+            if (preparingForShutdown) {
+                messagesRegisteredWhilePreparingForShutdown.remove(immutableMessage);
+                notifyIfNoMessagesRegistered();
             }
-            logIfPossible("Message with following ID: {} and requestReplyId: {} has been successfully unregistered",
-                          messageToTrack.getMessageId(),
-                          messageToTrack.getRequestReplyId());
+            logIfPossible("Message with following ID: {} has been successfully unregistered", immutableMessage.getId());
         } else {
-            logIfPossible("Message with following ID {} and requestReplyId: {} has not been unregistered.",
-                          messageToTrack.getMessageId(),
-                          messageToTrack.getRequestReplyId());
+            logIfPossible("Message with following ID {} has not been unregistered.", immutableMessage.getId());
         }
-    };
+    }
 
     /**
-     * Processes an action with immutable message
+     * Checks the preconditions for (un)registering a message
      * @param immutableMessage immutable message instance
-     * @param action           action to invoke (register or unregister)
+     * @return false if the type of the message is not supported, true otherwise
      */
-    private void process(final ImmutableMessage immutableMessage, final Consumer<MessageToTrack> action) {
+    private boolean isTrackable(final ImmutableMessage immutableMessage) {
         checkIfNull(immutableMessage);
         if (isMessageTypeUnsupported(immutableMessage)) {
-            return;
+            return false;
         }
-        final String messageId = getId(immutableMessage);
-        final String requestReplyId = getRequestReplyId(immutableMessage);
-        final MessageToTrack messageToTrack = new MessageToTrack(messageId, requestReplyId, immutableMessage.getType());
-        action.accept(messageToTrack);
+        getId(immutableMessage);
+        return true;
     }
 
     /**
@@ -148,50 +155,39 @@ public class MessageTrackerForGracefulShutdown implements ShutdownListener, Prep
         }
     }
 
-    /**
-     * Logs message as a debug one if logging is enabled
-     * @param message   message to log
-     * @param parameter1 first parameter of message to log
-     * @param parameter2 second parameter of message to log
-     */
-    private void logIfPossible(final String message, final String parameter1, final String parameter2) {
-        if (loggingEnabled) {
-            logger.debug(message, parameter1, parameter2);
-        }
-    }
-
     private void checkIfNull(final ImmutableMessage immutableMessage) {
         if (immutableMessage == null) {
             throw new JoynrIllegalStateException("ImmutableMessage cannot be null");
         }
     }
 
-    /**
-     * Method to remove a message (or message pair in case of RPC request/reply) from the list of tracked messages
-     * @param immutableMessage message to be unregistered
-     */
-    public void unregister(final ImmutableMessage immutableMessage) {
-        process(immutableMessage, unregisterAction);
+    private void notifyIfNoMessagesRegistered() {
+        if (numberOfRegisteredMessages.sum() <= 0) {
+            synchronized (prepareForShutdownLock) {
+                prepareForShutdownLock.notifyAll();
+            }
+        }
     }
 
     /**
-     * Method for unregistering request with requestReplyId after expiry ReplyCaller
+     * Method for unregistering request with requestReplyId after expiry ReplyCaller.
+     * Only requests which have been registered after prepareForShutdown has been called can be found
+     * by their requestReplyId. Before that, expired requests are unregistered by the message router
+     * when it drops them.
      * @param requestReplyId request reply id
      */
     public void unregisterAfterReplyCallerExpired(final String requestReplyId) {
         if (requestReplyId == null || requestReplyId.isEmpty()) {
             throw new JoynrIllegalStateException("The requestReplyId passed for unregistering is null or empty.");
         }
+        if (!preparingForShutdown) {
+            return;
+        }
 
         logIfPossible("Trying to unregister request with requestReplyId: {} after expiry ReplyCaller", requestReplyId);
-        final Optional<MessageToTrack> optional = findRequestByRequestReplyId(requestReplyId);
-        optional.ifPresentOrElse((messageToTrack) -> {
-            registeredMessages.remove(messageToTrack);
-            synchronized (registeredMessages) {
-                if (registeredMessages.isEmpty()) {
-                    registeredMessages.notify();
-                }
-            }
+        final Optional<ImmutableMessage> optional = findRequestByRequestReplyId(requestReplyId);
+        optional.ifPresentOrElse((immutableMessage) -> {
+            unregister(immutableMessage);
             logIfPossible("The request with the following requestReplyId: {} has been successfully unregistered",
                           requestReplyId);
         },
@@ -199,10 +195,11 @@ public class MessageTrackerForGracefulShutdown implements ShutdownListener, Prep
                                                      requestReplyId));
     }
 
-    private Optional<MessageToTrack> findRequestByRequestReplyId(final String requestReplyId) {
-        return registeredMessages.stream()
-                                 .filter(messageToTrack -> messageToTrack.isRequestWithRequestReplyId(requestReplyId))
-                                 .findAny();
+    private Optional<ImmutableMessage> findRequestByRequestReplyId(final String requestReplyId) {
+        return messagesRegisteredWhilePreparingForShutdown.stream()
+                                                          .filter(immutableMessage -> Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST.equals(immutableMessage.getType())
+                                                                  && requestReplyId.equals(getRequestReplyId(immutableMessage)))
+                                                          .findAny();
     }
 
     /**
@@ -210,7 +207,7 @@ public class MessageTrackerForGracefulShutdown implements ShutdownListener, Prep
      * @return - number of registered messages
      */
     public int getNumberOfRegisteredMessages() {
-        return registeredMessages.size();
+        return (int) Math.max(0, numberOfRegisteredMessages.sum());
     }
 
     /**
@@ -245,9 +242,9 @@ public class MessageTrackerForGracefulShutdown implements ShutdownListener, Prep
             String requestReplyId = immutableMessage.getCustomHeaders().get(Message.CUSTOM_HEADER_REQUEST_REPLY_ID);
             if (requestReplyId == null || requestReplyId.isEmpty()) {
                 try {
-                    String deserializedPayload = new String(immutableMessage.getUnencryptedBody(),
-                                                            StandardCharsets.UTF_8);
-                    final Request request = objectMapper.readValue(deserializedPayload, Request.class);
+                    final Request request = BinaryPayloadEncoding.readPayload(objectMapper,
+                                                                              immutableMessage.getUnencryptedBody(),
+                                                                              Request.class);
                     requestReplyId = request.getRequestReplyId();
                 } catch (Exception e) {
                     logger.error("Error while trying to get requestReplyId from the message. msgId: {}. from: {} to: {}. Error:",
@@ -280,13 +277,14 @@ public class MessageTrackerForGracefulShutdown implements ShutdownListener, Prep
 
     @Override
     public void prepareForShutdown() {
+        preparingForShutdown = true;
         logger.info("PrepareForShutdown called. Number of messages: {}", getNumberOfRegisteredMessages());
 
-        synchronized (registeredMessages) {
+        synchronized (prepareForShutdownLock) {
             final long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(prepareForShutdownTimeoutSec);
-            while (!registeredMessages.isEmpty() && System.currentTimeMillis() < timeout) {
+            while (numberOfRegisteredMessages.sum() > 0 && System.currentTimeMillis() < timeout) {
                 try {
-                    registeredMessages.wait(PREPARE_FOR_SHUTDOWN_INNER_WAIT);
+                    prepareForShutdownLock.wait(PREPARE_FOR_SHUTDOWN_INNER_WAIT);
                 } catch (final InterruptedException exception) {
                     logger.error("Interrupted exception inside wait thread: ", exception);
                 }
@@ -299,6 +297,10 @@ public class MessageTrackerForGracefulShutdown implements ShutdownListener, Prep
         } else {
             logger.info("Joynr message tracker still reports the following number of messages after prepareForShutdown: {}.",
                         remainingMessages);
+            if (loggingEnabled) {
+                messagesRegisteredWhilePreparingForShutdown.forEach(immutableMessage -> logger.debug("Message registered after prepareForShutdown still not processed: {}",
+                                                                                                     immutableMessage.getTrackingInfo()));
+            }
         }
     }
 
@@ -306,47 +308,4 @@ public class MessageTrackerForGracefulShutdown implements ShutdownListener, Prep
     public void shutdown() {
         //The method will remain empty
     }
-
-    public static class MessageToTrack {
-        private final String messageId;
-        private final String requestReplyId;
-        private final Message.MessageType messageType;
-
-        public MessageToTrack(final String messageId,
-                              final String requestReplyId,
-                              final Message.MessageType messageType) {
-            this.messageId = messageId;
-            this.requestReplyId = requestReplyId;
-            this.messageType = messageType;
-        }
-
-        public String getMessageId() {
-            return messageId;
-        }
-
-        public String getRequestReplyId() {
-            return requestReplyId;
-        }
-
-        public boolean isRequestWithRequestReplyId(final String requestReplyId) {
-            return messageType.equals(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST)
-                    && this.requestReplyId.equals(requestReplyId);
-        }
-
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o)
-                return true;
-            if (o == null || getClass() != o.getClass())
-                return false;
-            final MessageToTrack that = (MessageToTrack) o;
-            return Objects.equals(messageId, that.messageId) && Objects.equals(requestReplyId, that.requestReplyId)
-                    && messageType == that.messageType;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(messageId, requestReplyId, messageType);
-        }
-    }
 }
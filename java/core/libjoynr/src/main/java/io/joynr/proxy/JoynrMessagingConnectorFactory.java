@@ -32,6 +32,7 @@ import io.joynr.dispatching.RequestReplyManager;
 import io.joynr.dispatching.rpc.ReplyCallerDirectory;
 import io.joynr.dispatching.subscription.SubscriptionManager;
 import io.joynr.messaging.MessagingQos;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
 import joynr.MethodMetaInformation;
 import joynr.types.DiscoveryEntryWithMetaInfo;
 
@@ -50,16 +51,19 @@ public class JoynrMessagingConnectorFactory {
     private SubscriptionManager subscriptionManager;
 
     private ReplyCallerDirectory replyCallerDirectory;
+    private final JoynrStatusMetricsReceiver statusMetrics;
 
     @Inject
     public JoynrMessagingConnectorFactory(RequestReplyManager requestReplyManager,
                                           ReplyCallerDirectory replyCallerDirectory,
                                           SubscriptionManager subscriptionManager,
-                                          StatelessAsyncIdCalculator statelessAsyncIdCalculator) {
+                                          StatelessAsyncIdCalculator statelessAsyncIdCalculator,
+                                          JoynrStatusMetricsReceiver statusMetrics) {
         this.requestReplyManager = requestReplyManager;
         this.replyCallerDirectory = replyCallerDirectory;
         this.subscriptionManager = subscriptionManager;
         this.statelessAsyncIdCalculator = statelessAsyncIdCalculator;
+        this.statusMetrics = statusMetrics;
     }
 
     /**
@@ -89,7 +93,8 @@ public class JoynrMessagingConnectorFactory {
                                                             replyCallerDirectory,
                                                             subscriptionManager,
                                                             statelessAsyncIdCalculator,
-                                                            statelessAsyncParticipantId);
+                                                            statelessAsyncParticipantId,
+                                                            statusMetrics);
     }
 
     public static MethodMetaInformation ensureMethodMetaInformationPresent(Method method) {
@@ -41,6 +41,7 @@ import io.joynr.proxy.invocation.AttributeSubscribeInvocation;
 import io.joynr.proxy.invocation.BroadcastSubscribeInvocation;
 import io.joynr.proxy.invocation.MulticastSubscribeInvocation;
 import io.joynr.proxy.invocation.UnsubscribeInvocation;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
 import joynr.MethodMetaInformation;
 import joynr.OneWayRequest;
 import joynr.Reply;
@@ -65,6 +66,7 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
     private final SubscriptionManager subscriptionManager;
     private final StatelessAsyncIdCalculator statelessAsyncIdCalculator;
     private final String statelessAsyncParticipantId;
+    private final JoynrStatusMetricsReceiver statusMetrics;
 
     // CHECKSTYLE:OFF
     JoynrMessagingConnectorInvocationHandler(final Set<DiscoveryEntryWithMetaInfo> toDiscoveryEntries,
@@ -74,7 +76,8 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
                                              final ReplyCallerDirectory replyCallerDirectory,
                                              final SubscriptionManager subscriptionManager,
                                              final StatelessAsyncIdCalculator statelessAsyncIdCalculator,
-                                             final String statelessAsyncParticipantId) {
+                                             final String statelessAsyncParticipantId,
+                                             final JoynrStatusMetricsReceiver statusMetrics) {
         // CHECKSTYLE:ON
         this.toDiscoveryEntries = toDiscoveryEntries;
         this.fromParticipantId = fromParticipantId;
@@ -87,6 +90,39 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
         this.subscriptionManager = subscriptionManager;
 
         this.statelessAsyncIdCalculator = statelessAsyncIdCalculator;
+        this.statusMetrics = statusMetrics;
+    }
+
+    /**
+     * Async reply caller which reports the time between sending the request and receiving its reply as RPC round trip
+     * latency before handing the reply on to the callback and future.
+     */
+    private class RoundTripTimedReplyCaller<T> extends RpcAsyncRequestReplyCaller<T> {
+        private final String methodName;
+        private final long requestStartTimeNs;
+
+        RoundTripTimedReplyCaller(final Object proxy,
+                                  final String requestReplyId,
+                                  final Optional<ICallback> callback,
+                                  final Future<T> future,
+                                  final Method method,
+                                  final MethodMetaInformation methodMetaInformation) {
+            super(proxy, requestReplyId, callback, future, method, methodMetaInformation);
+            this.methodName = method.getName();
+            this.requestStartTimeNs = System.nanoTime();
+        }
+
+        @Override
+        public void messageCallBack(final Reply payload) {
+            notifyRoundTripLatency(methodName, requestStartTimeNs);
+            super.messageCallBack(payload);
+        }
+    }
+
+    private void notifyRoundTripLatency(final String methodName, final long requestStartTimeNs) {
+        statusMetrics.notifyRpcRoundTripLatency(toDiscoveryEntries.iterator().next().getInterfaceName(),
+                                                methodName,
+                                                System.nanoTime() - requestStartTimeNs);
     }
 
     private static class StrippedArguments {
@@ -140,12 +176,12 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
         final String requestReplyId = request.getRequestReplyId();
 
         @SuppressWarnings("rawtypes")
-        final RpcAsyncRequestReplyCaller<?> callbackWrappingReplyCaller = new RpcAsyncRequestReplyCaller(proxy,
-                                                                                                         requestReplyId,
-                                                                                                         Optional.ofNullable(callback),
-                                                                                                         future,
-                                                                                                         method,
-                                                                                                         methodMetaInformation);
+        final RpcAsyncRequestReplyCaller<?> callbackWrappingReplyCaller = new RoundTripTimedReplyCaller(proxy,
+                                                                                                        requestReplyId,
+                                                                                                        Optional.ofNullable(callback),
+                                                                                                        future,
+                                                                                                        method,
+                                                                                                        methodMetaInformation);
 
         final ExpiryDate expiryDate = ExpiryDate.fromRelativeTtl(strippedArguments.messagingQos.getRoundTripTtl_ms());
 
@@ -213,12 +249,14 @@ final class JoynrMessagingConnectorInvocationHandler implements ConnectorInvocat
                                                                                             request);
         final ExpiryDate expiryDate = ExpiryDate.fromRelativeTtl(strippedArguments.messagingQos.getRoundTripTtl_ms());
         replyCallerDirectory.addReplyCaller(requestReplyId, synchronizedReplyCaller, expiryDate);
+        final long requestStartTimeNs = System.nanoTime();
         final Reply reply = requestReplyManager.sendSyncRequest(fromParticipantId,
                                                                 toDiscoveryEntries.iterator().next(),
                                                                 request,
                                                                 synchronizedReplyCaller,
                                                                 strippedArguments.messagingQos,
                                                                 expiryDate);
+        notifyRoundTripLatency(method.getName(), requestStartTimeNs);
         if (reply.getError() == null) {
             if (method.getReturnType().equals(void.class)) {
                 logger.debug("REQUEST returns successful: requestReplyId: {}, method {}, response: [void]",
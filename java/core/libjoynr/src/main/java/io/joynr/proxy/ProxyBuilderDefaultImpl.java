@@ -57,6 +57,7 @@ public class ProxyBuilderDefaultImpl<T> implements ProxyBuilder<T> {
     private DiscoveryAsync localDiscoveryAggregator;
     private Set<String> domains;
     private String proxyParticipantId;
+    private boolean participantIdSet;
     private boolean buildCalled;
     private Version interfaceVersion;
     private ProxyInvocationHandlerFactory proxyInvocationHandlerFactory;
@@ -64,6 +65,7 @@ public class ProxyBuilderDefaultImpl<T> implements ProxyBuilder<T> {
 
     private String statelessAsyncCallbackUseCase;
     private StatelessAsyncCallbackDirectory statelessAsyncCallbackDirectory;
+    private ProxyPool proxyPool;
     private String[] gbids;
     private T proxy;
 
@@ -74,6 +76,7 @@ public class ProxyBuilderDefaultImpl<T> implements ProxyBuilder<T> {
                             ProxyInvocationHandlerFactory proxyInvocationHandlerFactory,
                             ShutdownNotifier shutdownNotifier,
                             StatelessAsyncCallbackDirectory statelessAsyncCallbackDirectory,
+                            ProxyPool proxyPool,
                             long maxMessagingTtl,
                             long defaultDiscoveryTimeoutMs,
                             long defaultDiscoveryRetryIntervalMs,
@@ -82,6 +85,7 @@ public class ProxyBuilderDefaultImpl<T> implements ProxyBuilder<T> {
         // CHECKSTYLE:ON
         this.proxyInvocationHandlerFactory = proxyInvocationHandlerFactory;
         this.statelessAsyncCallbackDirectory = statelessAsyncCallbackDirectory;
+        this.proxyPool = proxyPool;
         this.maxMessagingTtl = maxMessagingTtl;
         this.defaultDiscoveryTimeoutMs = defaultDiscoveryTimeoutMs;
         this.defaultDiscoveryRetryIntervalMs = defaultDiscoveryRetryIntervalMs;
@@ -125,6 +129,7 @@ public class ProxyBuilderDefaultImpl<T> implements ProxyBuilder<T> {
     @Override
     public void setParticipantId(String participantId) {
         this.proxyParticipantId = participantId;
+        this.participantIdSet = true;
     }
 
     /*
@@ -237,7 +242,42 @@ public class ProxyBuilderDefaultImpl<T> implements ProxyBuilder<T> {
             if (messagingQos == null) {
                 messagingQos = new MessagingQos();
             }
+            if (buildCalled) {
+                throw new JoynrIllegalStateException("Proxy builder was already used to build a proxy. Please create a new proxy builder for each proxy.");
+            }
+
+            // proxies with a custom participantId, a stateless async callback or an injected arbitrator are not pooled
+            if (proxyPool.isEnabled() && arbitrator == null && !participantIdSet
+                    && statelessAsyncCallbackUseCase == null) {
+                proxy = proxyPool.getProxy(myClass,
+                                           domains,
+                                           discoveryQos,
+                                           messagingQos,
+                                           gbids,
+                                           proxyParticipantId,
+                                           this::createProxy,
+                                           callback);
+                buildCalled = true;
+                if (proxy != null) {
+                    proxyParticipantId = ProxyPool.getParticipantId(proxy);
+                }
+                return proxy;
+            }
+            return createProxy(callback);
+        } catch (DiscoveryException e) {
+            logger.debug(ERROR_CREATING_PROXY, interfaceName, domains, interfaceVersion, e);
+            callback.onProxyCreationError(e);
+            return null;
+        } catch (JoynrRuntimeException e) {
+            logger.debug(ERROR_CREATING_PROXY, interfaceName, domains, interfaceVersion, e);
+            callback.onProxyCreationError(e);
+            return null;
+        }
+    }
 
+    // Creates the proxy and schedules its arbitration, errors are reported to the callback
+    private T createProxy(final ProxyCreatedCallback<T> callback) {
+        try {
             // keep possibly existing mocked arbitrator injected via reflection in unit tests
             if (arbitrator == null) {
                 arbitrator = ArbitratorFactory.create(domains,
@@ -309,9 +349,6 @@ public class ProxyBuilderDefaultImpl<T> implements ProxyBuilder<T> {
 
     // Method called by both synchronous and asynchronous build() to create a ProxyInvocationHandler
     private ProxyInvocationHandler createProxyInvocationHandler(final ProxyCreatedCallback<T> callback) {
-        if (buildCalled) {
-            throw new JoynrIllegalStateException("Proxy builder was already used to build a proxy. Please create a new proxy builder for each proxy.");
-        }
         buildCalled = true;
 
         StatelessAsyncCallback statelessAsyncCallback = null;
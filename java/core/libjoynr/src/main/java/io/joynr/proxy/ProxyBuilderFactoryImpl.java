@@ -37,6 +37,7 @@ public class ProxyBuilderFactoryImpl implements ProxyBuilderFactory {
     private final ProxyInvocationHandlerFactory proxyInvocationHandlerFactory;
     private final ShutdownNotifier shutdownNotifier;
     private final StatelessAsyncCallbackDirectory statelessAsyncCallbackDirectory;
+    private final ProxyPool proxyPool;
     private final long maxMessagingTtl;
     private final long defaultDiscoveryTimeoutMs;
     private final long defaultDiscoveryRetryIntervalMs;
@@ -49,6 +50,7 @@ public class ProxyBuilderFactoryImpl implements ProxyBuilderFactory {
                                    ProxyInvocationHandlerFactory proxyInvocationHandlerFactory,
                                    ShutdownNotifier shutdownNotifier,
                                    StatelessAsyncCallbackDirectory statelessAsyncCallbackDirectory,
+                                   ProxyPool proxyPool,
                                    @Named(ConfigurableMessagingSettings.PROPERTY_MESSAGING_MAXIMUM_TTL_MS) long maxMessagingTtl,
                                    @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_DEFAULT_TIMEOUT_MS) long defaultDiscoveryTimeoutMs,
                                    @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_DEFAULT_RETRY_INTERVAL_MS) long defaultDiscoveryRetryIntervalMs,
@@ -60,6 +62,7 @@ public class ProxyBuilderFactoryImpl implements ProxyBuilderFactory {
         this.proxyInvocationHandlerFactory = proxyInvocationHandlerFactory;
         this.shutdownNotifier = shutdownNotifier;
         this.statelessAsyncCallbackDirectory = statelessAsyncCallbackDirectory;
+        this.proxyPool = proxyPool;
         this.maxMessagingTtl = maxMessagingTtl;
         this.defaultDiscoveryTimeoutMs = defaultDiscoveryTimeoutMs;
         this.defaultDiscoveryRetryIntervalMs = defaultDiscoveryRetryIntervalMs;
@@ -80,6 +83,7 @@ public class ProxyBuilderFactoryImpl implements ProxyBuilderFactory {
                                              proxyInvocationHandlerFactory,
                                              shutdownNotifier,
                                              statelessAsyncCallbackDirectory,
+                                             proxyPool,
                                              maxMessagingTtl,
                                              defaultDiscoveryTimeoutMs,
                                              defaultDiscoveryRetryIntervalMs,
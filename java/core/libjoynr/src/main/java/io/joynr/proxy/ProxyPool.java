@@ -0,0 +1,229 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.proxy;
+
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import io.joynr.arbitration.DiscoveryQos;
+import io.joynr.exceptions.DiscoveryException;
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.messaging.MessagingQos;
+import io.joynr.proxy.ProxyBuilder.ProxyCreatedCallback;
+
+/**
+ * Pool of arbitrated proxies shared by identical proxy builds.
+ * <p>
+ * A build with the same interface, domains, DiscoveryQos, MessagingQos and GBIDs as a pooled proxy only gets a
+ * lightweight facade delegating to the pooled proxy, i.e. it neither runs its own arbitration nor adds its own
+ * routing entries. Pooled proxies which have not been handed out for longer than the configured idle timeout are
+ * removed from the pool; they (and their routing entries) stay alive until all of their facades have been garbage
+ * collected. Pooling is disabled if the idle timeout is not greater than 0.
+ */
+@Singleton
+public class ProxyPool {
+    private static final Logger logger = LoggerFactory.getLogger(ProxyPool.class);
+
+    private final long idleTimeoutMs;
+    private final ConcurrentMap<List<Object>, PooledProxy> pooledProxies = new ConcurrentHashMap<>();
+
+    @Inject
+    public ProxyPool(@Named(JOYNR_SCHEDULER_CLEANUP) ScheduledExecutorService cleanupScheduler,
+                     @Named(ConfigurableMessagingSettings.PROPERTY_PROXY_POOL_IDLE_TIMEOUT_MS) long idleTimeoutMs) {
+        this.idleTimeoutMs = idleTimeoutMs;
+        if (idleTimeoutMs > 0) {
+            cleanupScheduler.scheduleWithFixedDelay(this::evictIdleProxies,
+                                                    idleTimeoutMs,
+                                                    idleTimeoutMs,
+                                                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return idleTimeoutMs > 0;
+    }
+
+    /**
+     * Get a facade of the pooled proxy for the given build parameters. If there is no such pooled proxy yet, it is
+     * created with the given proxyCreator.
+     *
+     * @param interfaceClass the interface of the proxy
+     * @param domains the domains of the proxy
+     * @param discoveryQos the DiscoveryQos of the proxy
+     * @param messagingQos the MessagingQos of the proxy
+     * @param gbids the GBIDs of the proxy, may be null
+     * @param participantId the participantId to be used if a new pooled proxy has to be created
+     * @param proxyCreator creates a new pooled proxy and reports the result of its arbitration to the given callback
+     * @param callback informed as soon as the arbitration of the pooled proxy has finished
+     * @return the facade, or null if the pooled proxy could not be created
+     */
+    <T> T getProxy(Class<T> interfaceClass,
+                   Set<String> domains,
+                   DiscoveryQos discoveryQos,
+                   MessagingQos messagingQos,
+                   String[] gbids,
+                   String participantId,
+                   Function<ProxyCreatedCallback<T>, T> proxyCreator,
+                   ProxyCreatedCallback<T> callback) {
+        // the QoS objects are private copies of the proxy builder which are not modified after the build
+        List<Object> key = Arrays.asList(interfaceClass,
+                                         new HashSet<>(domains),
+                                         discoveryQos,
+                                         messagingQos,
+                                         gbids == null ? null : Arrays.asList(gbids));
+        PooledProxy pooledProxy = pooledProxies.computeIfAbsent(key, k -> new PooledProxy(participantId));
+        synchronized (pooledProxy) {
+            if (!pooledProxy.created) {
+                pooledProxy.created = true;
+                try {
+                    pooledProxy.proxy = proxyCreator.apply(new PooledProxyCreatedCallback<T>(key, pooledProxy));
+                } catch (JoynrRuntimeException e) {
+                    removeFailedProxy(key, pooledProxy, e);
+                    throw e;
+                }
+                logger.debug("Created pooled proxy participantId {} for interface: {} domains: {}",
+                             participantId,
+                             interfaceClass.getName(),
+                             domains);
+            }
+        }
+        pooledProxy.lastUsedMs = System.currentTimeMillis();
+
+        final T facade = pooledProxy.proxy == null ? null
+                : interfaceClass.cast(Proxy.newProxyInstance(interfaceClass.getClassLoader(),
+                                                             new Class<?>[]{ interfaceClass },
+                                                             new PooledProxyFacade(pooledProxy)));
+        pooledProxy.arbitrationFinished.whenComplete((result, error) -> {
+            if (error == null) {
+                callback.onProxyCreationFinished(facade);
+            } else if (error instanceof DiscoveryException) {
+                callback.onProxyCreationError((DiscoveryException) error);
+            } else {
+                callback.onProxyCreationError((JoynrRuntimeException) error);
+            }
+        });
+        return facade;
+    }
+
+    /**
+     * @param facade a proxy returned by {@link #getProxy}
+     * @return the participantId of the pooled proxy the facade delegates to
+     */
+    static String getParticipantId(Object facade) {
+        return ((PooledProxyFacade) Proxy.getInvocationHandler(facade)).pooledProxy.participantId;
+    }
+
+    void evictIdleProxies() {
+        final long idleSinceMs = System.currentTimeMillis() - idleTimeoutMs;
+        pooledProxies.entrySet().removeIf(entry -> {
+            PooledProxy pooledProxy = entry.getValue();
+            if (pooledProxy.arbitrationFinished.isDone() && pooledProxy.lastUsedMs < idleSinceMs) {
+                logger.debug("Removing idle pooled proxy participantId {}", pooledProxy.participantId);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void removeFailedProxy(List<Object> key, PooledProxy pooledProxy, JoynrRuntimeException error) {
+        pooledProxies.remove(key, pooledProxy);
+        pooledProxy.arbitrationFinished.completeExceptionally(error);
+    }
+
+    private static class PooledProxy {
+        private final String participantId;
+        private final CompletableFuture<Void> arbitrationFinished = new CompletableFuture<>();
+        private volatile long lastUsedMs;
+        // guarded by the PooledProxy instance
+        private boolean created;
+        private volatile Object proxy;
+
+        PooledProxy(String participantId) {
+            this.participantId = participantId;
+        }
+    }
+
+    private class PooledProxyCreatedCallback<T> implements ProxyCreatedCallback<T> {
+        private final List<Object> key;
+        private final PooledProxy pooledProxy;
+
+        PooledProxyCreatedCallback(List<Object> key, PooledProxy pooledProxy) {
+            this.key = key;
+            this.pooledProxy = pooledProxy;
+        }
+
+        @Override
+        public void onProxyCreationFinished(T result) {
+            pooledProxy.arbitrationFinished.complete(null);
+        }
+
+        @Override
+        public void onProxyCreationError(JoynrRuntimeException error) {
+            removeFailedProxy(key, pooledProxy, error);
+        }
+
+        @Override
+        public void onProxyCreationError(DiscoveryException error) {
+            removeFailedProxy(key, pooledProxy, error);
+        }
+    }
+
+    /**
+     * Invocation handler of the facades; it holds a strong reference to the pooled proxy so that the pooled proxy is
+     * not garbage collected (and its routing entries are not removed) while a facade is in use.
+     */
+    private static class PooledProxyFacade implements InvocationHandler {
+        private final PooledProxy pooledProxy;
+
+        PooledProxyFacade(PooledProxy pooledProxy) {
+            this.pooledProxy = pooledProxy;
+        }
+
+        @Override
+        public Object invoke(Object facade, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(pooledProxy.proxy, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package io.joynr.runtime;
 
 import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP;
+import static io.joynr.runtime.JoynrInjectionConstants.JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS;
 
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -85,6 +86,7 @@ import io.joynr.proxy.StatelessAsyncIdCalculator;
 import io.joynr.statusmetrics.JoynrStatusMetrics;
 import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
 import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
+import io.joynr.util.JoynrUtil;
 import joynr.system.DiscoveryAsync;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.RoutingTypesUtil;
@@ -102,7 +104,8 @@ abstract class AbstractRuntimeModule extends AbstractModule {
                                RoutingTypesUtil.class,
                                ArbitratorFactory.class,
                                JoynrDelayMessageException.class,
-                               MessageRouterUtil.class);
+                               MessageRouterUtil.class,
+                               JoynrUtil.class);
 
         install(new JsonMessageSerializerModule());
         install(new FactoryModuleBuilder().implement(ProxyInvocationHandler.class, ProxyInvocationHandlerImpl.class)
@@ -145,6 +148,8 @@ abstract class AbstractRuntimeModule extends AbstractModule {
 
         bind(ScheduledExecutorService.class).annotatedWith(Names.named(JOYNR_SCHEDULER_CLEANUP))
                                             .toProvider(DefaultScheduledExecutorServiceProvider.class);
+        bind(ScheduledExecutorService.class).annotatedWith(Names.named(JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS))
+                                            .toProvider(SubscriptionTimerScheduledExecutorServiceProvider.class);
         Multibinder.newSetBinder(binder(), new TypeLiteral<JoynrMessageProcessor>() {
         });
     }
@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import java.util.List;
+
+import io.joynr.dispatcher.rpc.RequestStatus;
+import io.joynr.dispatcher.rpc.RequestStatusCode;
+import io.joynr.exceptions.JoynrException;
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.exceptions.JoynrWaitExpiredException;
+import io.joynr.proxy.Future;
+import joynr.exceptions.ApplicationException;
+
+/**
+ * Future which is resolved when all of the given futures are resolved. The given futures are only checked when the
+ * status or result of this future is requested, i.e. no additional thread is required.
+ * <p>
+ * If one of the given futures fails, this future fails with the error of the first failed future in the order of
+ * the given list after all futures have been completed.
+ */
+class CombinedFuture extends Future<Void> {
+    private final List<Future<Void>> futures;
+
+    CombinedFuture(List<Future<Void>> futures) {
+        this.futures = futures;
+    }
+
+    @Override
+    public Void get(long timeoutMs) throws InterruptedException, JoynrWaitExpiredException, ApplicationException,
+                                    JoynrRuntimeException {
+        final long startMs = System.currentTimeMillis();
+        JoynrException firstError = null;
+        for (Future<Void> future : futures) {
+            final long remainingMs = Math.max(0, timeoutMs - (System.currentTimeMillis() - startMs));
+            try {
+                future.get(remainingMs);
+            } catch (JoynrWaitExpiredException e) {
+                throw e;
+            } catch (ApplicationException | JoynrRuntimeException e) {
+                if (firstError == null) {
+                    firstError = e;
+                }
+            }
+        }
+        if (firstError instanceof ApplicationException) {
+            throw (ApplicationException) firstError;
+        } else if (firstError != null) {
+            throw (JoynrRuntimeException) firstError;
+        }
+        return null;
+    }
+
+    @Override
+    public RequestStatus getStatus() {
+        RequestStatusCode code = RequestStatusCode.OK;
+        for (Future<Void> future : futures) {
+            RequestStatusCode futureCode = future.getStatus().getCode();
+            if (futureCode == RequestStatusCode.IN_PROGRESS) {
+                return new RequestStatus(RequestStatusCode.IN_PROGRESS);
+            } else if (futureCode == RequestStatusCode.ERROR) {
+                code = RequestStatusCode.ERROR;
+            }
+        }
+        return new RequestStatus(code);
+    }
+}
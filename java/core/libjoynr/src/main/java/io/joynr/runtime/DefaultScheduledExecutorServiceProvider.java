@@ -40,11 +40,14 @@ public class DefaultScheduledExecutorServiceProvider implements Provider<Schedul
     private static final Logger logger = LoggerFactory.getLogger(DefaultScheduledExecutorServiceProvider.class);
     private static final int MQTT_THREADS = 4;
     private static final int MAX_SKELETON_THREADS = 5;
+    private static final int GARBAGE_COLLECTION_HANDLER_THREADS = 1;
     private static final long TERMINATION_TIMEOUT = 5000;
     private ScheduledThreadPoolExecutor scheduler;
 
     @Inject
     public DefaultScheduledExecutorServiceProvider(@Named(ConfigurableMessagingSettings.PROPERTY_MESSAGING_MAXIMUM_PARALLEL_SENDS) int maximumParallelSends,
+                                                   @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_MAXIMUM_PARALLEL_ARBITRATIONS) int maximumParallelArbitrations,
+                                                   @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_MAXIMUM_PARALLEL_REGISTRATIONS) int maximumParallelRegistrations,
                                                    ShutdownNotifier shutdownNotifier) {
         ThreadFactory schedulerNamedThreadFactory = new JoynrThreadFactory("ScheduledExecutorService", true);
 
@@ -53,17 +56,23 @@ public class DefaultScheduledExecutorServiceProvider implements Provider<Schedul
          *
          * MessageRouter: #maximumParallelSends (default: 20) messageWorkers
          *                (1) routingTableCleanup
-         * ArbitratorFactory: 1 arbitratorRunnable
+         *                (CcMessageRouter: #routingPriorityWorkers run on dedicated threads, not in this pool)
+         * GarbageCollectionHandler: 1 waiting for garbage collected proxies
+         * ArbitratorFactory: #maximumParallelArbitrations (default: 4) arbitratorRunnables
          * MessagingSkeletonFactory: 1 per skeleton (transport), only required during startup, can be executed one after the other
          * HivemqMqttClientFactory: 4 per Mqtt connection?
          * ExpiredDiscoveryEntryCacheCleaner: (1) cleanupAction
          * RequestReplyManagerImpl: (1) cleanupScheduler for queued requests
          * PublicationManagerImpl: (1) cleanupScheduler for subscriptions
          * SubscriptionManagerImpl: (1) cleanupScheduler for subscriptions
+         * ProxyPool: (1) eviction of idle proxies
+         * CapabilitiesRegistrarImpl: #maximumParallelRegistrations (default: 4) registration workers, only while registering several providers at once
          * ReplyCallerDirectory: (1) cleanupScheduler for ReplyCallers
+         * PropertiesFileParticipantIdStorage: (1) batched sync of the participantId persistence file
         */
-        scheduler = new ScheduledThreadPoolExecutor(maximumParallelSends + MAX_SKELETON_THREADS + MQTT_THREADS,
-                                                    schedulerNamedThreadFactory);
+        int numberOfThreads = maximumParallelSends + maximumParallelArbitrations + maximumParallelRegistrations
+                + MAX_SKELETON_THREADS + MQTT_THREADS + GARBAGE_COLLECTION_HANDLER_THREADS;
+        scheduler = new ScheduledThreadPoolExecutor(numberOfThreads, schedulerNamedThreadFactory);
         scheduler.setKeepAliveTime(100, TimeUnit.SECONDS);
         scheduler.allowCoreThreadTimeOut(true);
 
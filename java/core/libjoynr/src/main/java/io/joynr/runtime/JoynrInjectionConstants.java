@@ -20,4 +20,5 @@ package io.joynr.runtime;
 
 public interface JoynrInjectionConstants {
     static final String JOYNR_SCHEDULER_CLEANUP = "joynr.scheduler.cleanup";
+    static final String JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS = "joynr.scheduler.subscriptiontimers";
 }
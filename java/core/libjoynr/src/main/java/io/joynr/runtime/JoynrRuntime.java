@@ -18,7 +18,9 @@
  */
 package io.joynr.runtime;
 
+import java.util.Collection;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import io.joynr.provider.JoynrProvider;
 import io.joynr.proxy.Future;
@@ -131,6 +133,25 @@ public interface JoynrRuntime {
      */
     public ProviderRegistrar getProviderRegistrar(String domain, JoynrProvider provider);
 
+    /**
+     * Registers several providers at once.
+     *
+     * The default implementation calls {@link ProviderRegistrar#register()} for each provider. Runtimes may process
+     * the registrations in parallel, which is considerably faster if many providers are registered.
+     *
+     * @param providerRegistrars
+     *            ProviderRegistrars retrieved via {@link #getProviderRegistrar(String, JoynrProvider)} and configured
+     *            with the registration parameters of the respective provider.
+     * @return Returns a Future which is resolved when all providers have been registered successfully. If a
+     *            registration fails, the future fails with the error of the first failed registration after all
+     *            registrations have been completed.
+     */
+    default Future<Void> registerProviders(Collection<ProviderRegistrar> providerRegistrars) {
+        return new CombinedFuture(providerRegistrars.stream()
+                                                    .map(ProviderRegistrar::register)
+                                                    .collect(Collectors.toList()));
+    }
+
     /**
      * Trigger the unregistration of a provider from the joynr communication framework so that it can
      * no longer be used or discovered.
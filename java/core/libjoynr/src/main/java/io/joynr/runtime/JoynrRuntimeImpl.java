@@ -20,10 +20,12 @@ package io.joynr.runtime;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +36,7 @@ import io.joynr.UsedBy;
 import io.joynr.arbitration.ArbitratorFactory;
 import io.joynr.arbitration.VersionCompatibilityChecker;
 import io.joynr.capabilities.CapabilitiesRegistrar;
+import io.joynr.capabilities.ProviderRegistration;
 import io.joynr.discovery.LocalDiscoveryAggregator;
 import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.messaging.MessagingSkeletonFactory;
@@ -265,6 +268,13 @@ abstract public class JoynrRuntimeImpl implements JoynrRuntime {
         return new ProviderRegistrar(capabilitiesRegistrar, domain, provider);
     }
 
+    @Override
+    public Future<Void> registerProviders(Collection<ProviderRegistrar> providerRegistrars) {
+        return capabilitiesRegistrar.registerProviders(providerRegistrars.stream()
+                                                                         .map(ProviderRegistrar::toProviderRegistration)
+                                                                         .collect(Collectors.toList()));
+    }
+
     public GuidedProxyBuilder getGuidedProxyBuilder(final Set<String> domains, final Class<?> interfaceClass) {
         GuidedProxyBuilder guidedProxyBuilder = new GuidedProxyBuilder(discoverySettingsStorage,
                                                                        domains,
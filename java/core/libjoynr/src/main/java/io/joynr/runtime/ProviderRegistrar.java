@@ -21,6 +21,7 @@ package io.joynr.runtime;
 import java.util.Arrays;
 
 import io.joynr.capabilities.CapabilitiesRegistrar;
+import io.joynr.capabilities.ProviderRegistration;
 import io.joynr.provider.JoynrProvider;
 import io.joynr.proxy.Future;
 import joynr.types.ProviderQos;
@@ -150,6 +151,10 @@ public class ProviderRegistrar {
         return capabilitiesRegistrar.registerInAllKnownBackends(domain, provider, providerQos, awaitGlobalRegistration);
     }
 
+    ProviderRegistration toProviderRegistration() {
+        return new ProviderRegistration(domain, provider, providerQos, gbids, awaitGlobalRegistration);
+    }
+
     public String toString() {
         StringBuffer buffer = new StringBuffer();
         buffer.append("ProviderRegistrar:[ domain:\"" + domain + "\", provider:\"" + provider.toString()
@@ -0,0 +1,87 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Named;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.util.JoynrThreadFactory;
+
+/**
+ * Provides the scheduler for the PublicationTimer and MissedPublicationTimer tasks of all subscriptions.
+ * <p>
+ * Publication timers call attribute getters of providers which might block. They therefore get their own bounded
+ * scheduler, see {@link ConfigurableMessagingSettings#PROPERTY_SUBSCRIPTION_TIMER_THREADS}, so that blocking getters
+ * can neither delay the cleanup tasks of the runtime nor the timers of other subscriptions indefinitely.
+ */
+@Singleton
+public class SubscriptionTimerScheduledExecutorServiceProvider implements Provider<ScheduledExecutorService>,
+        ShutdownListener {
+    private static final Logger logger = LoggerFactory.getLogger(SubscriptionTimerScheduledExecutorServiceProvider.class);
+    private static final long TERMINATION_TIMEOUT = 5000;
+    private ScheduledThreadPoolExecutor scheduler;
+
+    @Inject
+    public SubscriptionTimerScheduledExecutorServiceProvider(@Named(ConfigurableMessagingSettings.PROPERTY_SUBSCRIPTION_TIMER_THREADS) int subscriptionTimerThreads,
+                                                             ShutdownNotifier shutdownNotifier) {
+        scheduler = new ScheduledThreadPoolExecutor(Math.max(1, subscriptionTimerThreads),
+                                                    new JoynrThreadFactory("SubscriptionTimer", true));
+        scheduler.setKeepAliveTime(100, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        // cancelled timer tasks must not stay in the queue until their delay has elapsed
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        shutdownNotifier.registerToBeShutdownAsLast(this);
+    }
+
+    @Override
+    public ScheduledExecutorService get() {
+        return scheduler;
+    }
+
+    @Override
+    public void shutdown() {
+        logger.debug("shutdown invoked");
+        scheduler.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                logger.error("Subscription timer scheduler did not shut down in time. Timed out waiting for executor service to shutdown after {}ms.",
+                             TERMINATION_TIMEOUT);
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Subscription timer scheduler shutdown interrupted:", e);
+        }
+        logger.debug("shutdown finished");
+    }
+}
@@ -18,7 +18,7 @@
  */
 package joynr;
 
-import static io.joynr.util.JoynrUtil.createUuidString;
+import static io.joynr.util.JoynrUtil.createUniqueId;
 
 import java.util.Arrays;
 
@@ -44,7 +44,7 @@ public class Request extends OneWayRequest implements JoynrMessageType {
                    String statelessAsyncCallbackMethodId) {
         super(methodName, params, paramDatatypes == null ? null : paramDatatypes.clone());
         if (requestReplyId == null) {
-            this.requestReplyId = createUuidString();
+            this.requestReplyId = createUniqueId();
         } else {
             this.requestReplyId = requestReplyId;
         }
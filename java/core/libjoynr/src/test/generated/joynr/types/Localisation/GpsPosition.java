@@ -0,0 +1,190 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.Localisation;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class GpsPosition implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 0;
+	public static final int MINOR_VERSION = 0;
+	@JsonProperty("longitude")
+	private Double longitude;
+	@JsonProperty("latitude")
+	private Double latitude;
+
+	/**
+	 * Default Constructor
+	 */
+	public GpsPosition() {
+		this.longitude = 0d;
+		this.latitude = 0d;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param gpsPositionObj reference to the object to be copied
+	 */
+	public GpsPosition(GpsPosition gpsPositionObj) {
+		this.longitude = gpsPositionObj.longitude;
+		this.latitude = gpsPositionObj.latitude;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param longitude description missing in Franca model.
+	 * @param latitude description missing in Franca model.
+	 */
+	public GpsPosition(
+		Double longitude,
+		Double latitude
+		) {
+		this.longitude = longitude;
+		this.latitude = latitude;
+	}
+
+	/**
+	 * Gets Longitude
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Double getLongitude() {
+		return longitude;
+	}
+
+	/**
+	 * Sets Longitude
+	 *
+	 * @param longitude description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setLongitude(Double longitude) {
+		if (longitude == null) {
+			throw new IllegalArgumentException("setting longitude to null is not allowed");
+		}
+		this.longitude = longitude;
+	}
+
+	/**
+	 * Gets Latitude
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Double getLatitude() {
+		return latitude;
+	}
+
+	/**
+	 * Sets Latitude
+	 *
+	 * @param latitude description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setLatitude(Double latitude) {
+		if (latitude == null) {
+			throw new IllegalArgumentException("setting latitude to null is not allowed");
+		}
+		this.latitude = latitude;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "GpsPosition ["
+		+ "longitude=" + this.longitude + ", "
+		+ "latitude=" + this.latitude
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		GpsPosition other = (GpsPosition) obj;
+		if (this.longitude == null) {
+			if (other.longitude != null) {
+				return false;
+			}
+		} else if (!this.longitude.equals(other.longitude)) {
+			return false;
+		}
+		if (this.latitude == null) {
+			if (other.latitude != null) {
+				return false;
+			}
+		} else if (!this.latitude.equals(other.latitude)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.longitude == null) ? 0 : this.longitude.hashCode());
+		result = prime * result + ((this.latitude == null) ? 0 : this.latitude.hashCode());
+		return result;
+	}
+}
+
+	
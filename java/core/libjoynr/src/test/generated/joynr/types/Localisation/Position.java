@@ -0,0 +1,190 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.Localisation;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class Position implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 0;
+	public static final int MINOR_VERSION = 0;
+	@JsonProperty("x")
+	private Integer x;
+	@JsonProperty("y")
+	private Integer y;
+
+	/**
+	 * Default Constructor
+	 */
+	public Position() {
+		this.x = 0;
+		this.y = 0;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param positionObj reference to the object to be copied
+	 */
+	public Position(Position positionObj) {
+		this.x = positionObj.x;
+		this.y = positionObj.y;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param x description missing in Franca model.
+	 * @param y description missing in Franca model.
+	 */
+	public Position(
+		Integer x,
+		Integer y
+		) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Gets X
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Integer getX() {
+		return x;
+	}
+
+	/**
+	 * Sets X
+	 *
+	 * @param x description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setX(Integer x) {
+		if (x == null) {
+			throw new IllegalArgumentException("setting x to null is not allowed");
+		}
+		this.x = x;
+	}
+
+	/**
+	 * Gets Y
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Integer getY() {
+		return y;
+	}
+
+	/**
+	 * Sets Y
+	 *
+	 * @param y description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setY(Integer y) {
+		if (y == null) {
+			throw new IllegalArgumentException("setting y to null is not allowed");
+		}
+		this.y = y;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "Position ["
+		+ "x=" + this.x + ", "
+		+ "y=" + this.y
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		Position other = (Position) obj;
+		if (this.x == null) {
+			if (other.x != null) {
+				return false;
+			}
+		} else if (!this.x.equals(other.x)) {
+			return false;
+		}
+		if (this.y == null) {
+			if (other.y != null) {
+				return false;
+			}
+		} else if (!this.y.equals(other.y)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.x == null) ? 0 : this.x.hashCode());
+		result = prime * result + ((this.y == null) ? 0 : this.y.hashCode());
+		return result;
+	}
+}
+
+	
@@ -0,0 +1,307 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.Localisation;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class PositionDetailedInfo implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 0;
+	public static final int MINOR_VERSION = 0;
+	@JsonProperty("street")
+	private String street;
+	@JsonProperty("houseNumber")
+	private String houseNumber;
+	@JsonProperty("crossStreet")
+	private String crossStreet;
+	@JsonProperty("city")
+	private String city;
+	@JsonProperty("country")
+	private String country;
+
+	/**
+	 * Default Constructor
+	 */
+	public PositionDetailedInfo() {
+		this.street = "";
+		this.houseNumber = "";
+		this.crossStreet = "";
+		this.city = "";
+		this.country = "";
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param positionDetailedInfoObj reference to the object to be copied
+	 */
+	public PositionDetailedInfo(PositionDetailedInfo positionDetailedInfoObj) {
+		this.street = positionDetailedInfoObj.street;
+		this.houseNumber = positionDetailedInfoObj.houseNumber;
+		this.crossStreet = positionDetailedInfoObj.crossStreet;
+		this.city = positionDetailedInfoObj.city;
+		this.country = positionDetailedInfoObj.country;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param street description missing in Franca model.
+	 * @param houseNumber description missing in Franca model.
+	 * @param crossStreet description missing in Franca model.
+	 * @param city description missing in Franca model.
+	 * @param country description missing in Franca model.
+	 */
+	public PositionDetailedInfo(
+		String street,
+		String houseNumber,
+		String crossStreet,
+		String city,
+		String country
+		) {
+		this.street = street;
+		this.houseNumber = houseNumber;
+		this.crossStreet = crossStreet;
+		this.city = city;
+		this.country = country;
+	}
+
+	/**
+	 * Gets Street
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getStreet() {
+		return street;
+	}
+
+	/**
+	 * Sets Street
+	 *
+	 * @param street description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setStreet(String street) {
+		if (street == null) {
+			throw new IllegalArgumentException("setting street to null is not allowed");
+		}
+		this.street = street;
+	}
+
+	/**
+	 * Gets HouseNumber
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getHouseNumber() {
+		return houseNumber;
+	}
+
+	/**
+	 * Sets HouseNumber
+	 *
+	 * @param houseNumber description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setHouseNumber(String houseNumber) {
+		if (houseNumber == null) {
+			throw new IllegalArgumentException("setting houseNumber to null is not allowed");
+		}
+		this.houseNumber = houseNumber;
+	}
+
+	/**
+	 * Gets CrossStreet
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getCrossStreet() {
+		return crossStreet;
+	}
+
+	/**
+	 * Sets CrossStreet
+	 *
+	 * @param crossStreet description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setCrossStreet(String crossStreet) {
+		if (crossStreet == null) {
+			throw new IllegalArgumentException("setting crossStreet to null is not allowed");
+		}
+		this.crossStreet = crossStreet;
+	}
+
+	/**
+	 * Gets City
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getCity() {
+		return city;
+	}
+
+	/**
+	 * Sets City
+	 *
+	 * @param city description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setCity(String city) {
+		if (city == null) {
+			throw new IllegalArgumentException("setting city to null is not allowed");
+		}
+		this.city = city;
+	}
+
+	/**
+	 * Gets Country
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getCountry() {
+		return country;
+	}
+
+	/**
+	 * Sets Country
+	 *
+	 * @param country description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setCountry(String country) {
+		if (country == null) {
+			throw new IllegalArgumentException("setting country to null is not allowed");
+		}
+		this.country = country;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "PositionDetailedInfo ["
+		+ "street=" + this.street + ", "
+		+ "houseNumber=" + this.houseNumber + ", "
+		+ "crossStreet=" + this.crossStreet + ", "
+		+ "city=" + this.city + ", "
+		+ "country=" + this.country
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		PositionDetailedInfo other = (PositionDetailedInfo) obj;
+		if (this.street == null) {
+			if (other.street != null) {
+				return false;
+			}
+		} else if (!this.street.equals(other.street)) {
+			return false;
+		}
+		if (this.houseNumber == null) {
+			if (other.houseNumber != null) {
+				return false;
+			}
+		} else if (!this.houseNumber.equals(other.houseNumber)) {
+			return false;
+		}
+		if (this.crossStreet == null) {
+			if (other.crossStreet != null) {
+				return false;
+			}
+		} else if (!this.crossStreet.equals(other.crossStreet)) {
+			return false;
+		}
+		if (this.city == null) {
+			if (other.city != null) {
+				return false;
+			}
+		} else if (!this.city.equals(other.city)) {
+			return false;
+		}
+		if (this.country == null) {
+			if (other.country != null) {
+				return false;
+			}
+		} else if (!this.country.equals(other.country)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.street == null) ? 0 : this.street.hashCode());
+		result = prime * result + ((this.houseNumber == null) ? 0 : this.houseNumber.hashCode());
+		result = prime * result + ((this.crossStreet == null) ? 0 : this.crossStreet.hashCode());
+		result = prime * result + ((this.city == null) ? 0 : this.city.hashCode());
+		result = prime * result + ((this.country == null) ? 0 : this.country.hashCode());
+		return result;
+	}
+}
+
+	
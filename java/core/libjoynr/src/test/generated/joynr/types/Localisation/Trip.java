@@ -0,0 +1,196 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.Localisation;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.Localisation.GpsLocation;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class Trip implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 0;
+	public static final int MINOR_VERSION = 0;
+	@JsonProperty("locations")
+	private GpsLocation[] locations = { };
+	@JsonProperty("tripTitle")
+	private String tripTitle;
+
+	/**
+	 * Default Constructor
+	 */
+	public Trip() {
+		this.tripTitle = "";
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param tripObj reference to the object to be copied
+	 */
+	public Trip(Trip tripObj) {
+		this.locations = tripObj.locations;
+		this.tripTitle = tripObj.tripTitle;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param locations description missing in Franca model.
+	 * @param tripTitle description missing in Franca model.
+	 */
+	public Trip(
+		GpsLocation[] locations,
+		String tripTitle
+		) {
+		if (locations != null) {
+			this.locations = locations.clone();
+		}
+		this.tripTitle = tripTitle;
+	}
+
+	/**
+	 * Gets Locations
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public GpsLocation[] getLocations() {
+		if (locations != null) {
+			return locations.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets Locations
+	 *
+	 * @param locations description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setLocations(GpsLocation[] locations) {
+		if (locations == null) {
+			throw new IllegalArgumentException("setting locations to null is not allowed");
+		}
+		this.locations = locations.clone();
+	}
+
+	/**
+	 * Gets TripTitle
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getTripTitle() {
+		return tripTitle;
+	}
+
+	/**
+	 * Sets TripTitle
+	 *
+	 * @param tripTitle description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTripTitle(String tripTitle) {
+		if (tripTitle == null) {
+			throw new IllegalArgumentException("setting tripTitle to null is not allowed");
+		}
+		this.tripTitle = tripTitle;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "Trip ["
+		+ "locations=" + java.util.Arrays.toString(this.locations) + ", "
+		+ "tripTitle=" + this.tripTitle
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		Trip other = (Trip) obj;
+		if (this.locations == null) {
+			if (other.locations != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.locations, other.locations)) {
+			return false;
+		}
+		if (this.tripTitle == null) {
+			if (other.tripTitle != null) {
+				return false;
+			}
+		} else if (!this.tripTitle.equals(other.tripTitle)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.locations == null) ? 0 : java.util.Arrays.hashCode(this.locations));
+		result = prime * result + ((this.tripTitle == null) ? 0 : this.tripTitle.hashCode());
+		return result;
+	}
+}
+
+	
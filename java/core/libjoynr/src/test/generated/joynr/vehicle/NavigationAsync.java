@@ -0,0 +1,253 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.proxy.Callback;
+import io.joynr.proxy.ICallbackWithModeledError;
+import io.joynr.proxy.CallbackWithModeledError;
+import io.joynr.proxy.Future;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcCallback;
+import io.joynr.Async;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+import io.joynr.exceptions.DiscoveryException;
+
+import joynr.types.Localisation.Trip;
+
+
+@Async
+@ProvidedBy(NavigationProvider.class)
+@UsedBy(NavigationProxy.class)
+public interface NavigationAsync extends Navigation {
+
+	public Future<Boolean> getGuidanceActive(@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback);
+	default public Future<Boolean> getGuidanceActive(@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback, MessagingQos messagingQos) {
+		return getGuidanceActive(callback);
+	}
+	public Future<Trip> getGuidedTrip(@JoynrRpcCallback(deserializationType = Trip.class) Callback<Trip> callback);
+	default public Future<Trip> getGuidedTrip(@JoynrRpcCallback(deserializationType = Trip.class) Callback<Trip> callback, MessagingQos messagingQos) {
+		return getGuidedTrip(callback);
+	}
+	public Future<Trip[]> getTrips(@JoynrRpcCallback(deserializationType = Trip[][].class) Callback<Trip[]> callback);
+	default public Future<Trip[]> getTrips(@JoynrRpcCallback(deserializationType = Trip[][].class) Callback<Trip[]> callback, MessagingQos messagingQos) {
+		return getTrips(callback);
+	}
+	Future<Void> setTrips(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Trip[] trips) throws DiscoveryException;
+	default Future<Void> setTrips(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Trip[] trips, MessagingQos messagingQos) throws DiscoveryException {
+		return setTrips(callback, trips);
+	}
+
+
+
+
+	/*
+	* addTrip
+	*/
+	public Future<Void> addTrip(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			Trip trip
+	);
+	default public Future<Void> addTrip(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			Trip trip,
+			MessagingQos messagingQos
+	) {
+		return addTrip(
+			callback,
+			trip
+		);
+	}
+
+
+	/*
+	* updateTrip
+	*/
+	public Future<Void> updateTrip(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.vehicle.Navigation.UpdateTripErrorEnum> callback,
+			Trip trip
+	);
+	default public Future<Void> updateTrip(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.vehicle.Navigation.UpdateTripErrorEnum> callback,
+			Trip trip,
+			MessagingQos messagingQos
+	) {
+		return updateTrip(
+			callback,
+			trip
+		);
+	}
+
+
+	/*
+	* deleteTrip
+	*/
+	public Future<Void> deleteTrip(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String tripId
+	);
+	default public Future<Void> deleteTrip(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String tripId,
+			MessagingQos messagingQos
+	) {
+		return deleteTrip(
+			callback,
+			tripId
+		);
+	}
+
+
+	/*
+	* deleteTrip
+	*/
+	public Future<Boolean> deleteTrip(
+			@JoynrRpcCallback(deserializationType = Boolean.class) CallbackWithModeledError<Boolean,joynr.vehicle.Navigation.DeleteTrip2ErrorEnum> callback,
+			Trip trip
+	);
+	default public Future<Boolean> deleteTrip(
+			@JoynrRpcCallback(deserializationType = Boolean.class) CallbackWithModeledError<Boolean,joynr.vehicle.Navigation.DeleteTrip2ErrorEnum> callback,
+			Trip trip,
+			MessagingQos messagingQos
+	) {
+		return deleteTrip(
+			callback,
+			trip
+		);
+	}
+
+
+	/*
+	* deleteAll
+	*/
+	public Future<Void> deleteAll(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback
+	);
+	default public Future<Void> deleteAll(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return deleteAll(
+			callback
+		);
+	}
+
+
+	/*
+	* getSavedTrips
+	*/
+	public Future<Trip[]> getSavedTrips(
+			@JoynrRpcCallback(deserializationType = Trip[].class) Callback<Trip[]> callback
+	);
+	default public Future<Trip[]> getSavedTrips(
+			@JoynrRpcCallback(deserializationType = Trip[].class) Callback<Trip[]> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return getSavedTrips(
+			callback
+		);
+	}
+
+
+	/*
+	* getTrip
+	*/
+	public Future<Trip> getTrip(
+			@JoynrRpcCallback(deserializationType = Trip.class) CallbackWithModeledError<Trip,joynr.types.Localisation.GetTripErrors> callback,
+			String tripId
+	);
+	default public Future<Trip> getTrip(
+			@JoynrRpcCallback(deserializationType = Trip.class) CallbackWithModeledError<Trip,joynr.types.Localisation.GetTripErrors> callback,
+			String tripId,
+			MessagingQos messagingQos
+	) {
+		return getTrip(
+			callback,
+			tripId
+		);
+	}
+
+
+	/*
+	* getTrip
+	*/
+	public Future<Trip[]> getTrip(
+			@JoynrRpcCallback(deserializationType = Trip[].class) CallbackWithModeledError<Trip[],joynr.types.Localisation.GetTripErrors> callback,
+			String tripIdSearchString,
+			Boolean allowWildcards
+	);
+	default public Future<Trip[]> getTrip(
+			@JoynrRpcCallback(deserializationType = Trip[].class) CallbackWithModeledError<Trip[],joynr.types.Localisation.GetTripErrors> callback,
+			String tripIdSearchString,
+			Boolean allowWildcards,
+			MessagingQos messagingQos
+	) {
+		return getTrip(
+			callback,
+			tripIdSearchString,
+			allowWildcards
+		);
+	}
+
+
+	/*
+	* requestGuidance
+	*/
+	public Future<Boolean> requestGuidance(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			Trip trip
+	);
+	default public Future<Boolean> requestGuidance(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			Trip trip,
+			MessagingQos messagingQos
+	) {
+		return requestGuidance(
+			callback,
+			trip
+		);
+	}
+
+
+	/*
+	* stopGuidance
+	*/
+	public Future<Boolean> stopGuidance(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback
+	);
+	default public Future<Boolean> stopGuidance(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return stopGuidance(
+			callback
+		);
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.vehicle;
+
+import io.joynr.StatelessAsync;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.proxy.MessageIdCallback;
+import io.joynr.UsedBy;
+
+import joynr.types.Localisation.Trip;
+
+@StatelessAsync
+@UsedBy(NavigationProxy.class)
+public interface NavigationStatelessAsync extends Navigation {
+
+	/*
+	* guidanceActive getter
+	*/
+	@StatelessCallbackCorrelation("-425574028")
+	void getGuidanceActive(MessageIdCallback messageIdCallback);
+
+	/*
+	* guidedTrip getter
+	*/
+	@StatelessCallbackCorrelation("-228519645")
+	void getGuidedTrip(MessageIdCallback messageIdCallback);
+
+	/*
+	* trips getter
+	*/
+	@StatelessCallbackCorrelation("1966454584")
+	void getTrips(MessageIdCallback messageIdCallback);
+	/*
+	* trips setter
+	*/
+	@StatelessCallbackCorrelation("1405342124")
+	void setTrips(Trip[] trips, MessageIdCallback messageIdCallback);
+
+	/*
+	* addTrip
+	*/
+	@StatelessCallbackCorrelation("-1148573594")
+	void addTrip(
+			Trip trip,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* updateTrip
+	*/
+	@StatelessCallbackCorrelation("-295922546")
+	void updateTrip(
+			Trip trip,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* deleteTrip
+	*/
+	@StatelessCallbackCorrelation("1764597872")
+	void deleteTrip(
+			String tripId,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* deleteTrip
+	*/
+	@StatelessCallbackCorrelation("-1598737611")
+	void deleteTrip(
+			Trip trip,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* deleteAll
+	*/
+	@StatelessCallbackCorrelation("-358737930")
+	void deleteAll(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* getSavedTrips
+	*/
+	@StatelessCallbackCorrelation("-1530350307")
+	void getSavedTrips(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* getTrip
+	*/
+	@StatelessCallbackCorrelation("504843485")
+	void getTrip(
+			String tripId,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* getTrip
+	*/
+	@StatelessCallbackCorrelation("1812649627")
+	void getTrip(
+			String tripIdSearchString,
+			Boolean allowWildcards,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* requestGuidance
+	*/
+	@StatelessCallbackCorrelation("-1601396348")
+	void requestGuidance(
+			Trip trip,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* stopGuidance
+	*/
+	@StatelessCallbackCorrelation("1852277233")
+	void stopGuidance(
+			MessageIdCallback messageIdCallback
+	);
+}
@@ -0,0 +1,219 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.vehicle;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+import joynr.types.Localisation.GetTripErrors;
+import joynr.types.Localisation.Trip;
+import joynr.vehicle.Navigation.DeleteTrip2ErrorEnum;
+import joynr.vehicle.Navigation.UpdateTripErrorEnum;
+
+@UsedBy(NavigationProxy.class)
+public interface NavigationStatelessAsyncCallback extends StatelessAsyncCallback {
+
+	/*
+	* guidanceActive getter
+	*/
+	@StatelessCallbackCorrelation("-425574028")
+	default void getGuidanceActiveSuccess(Boolean guidanceActive, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getGuidanceActiveSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-425574028")
+	default void getGuidanceActiveFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getGuidanceActiveFailed not implemented for callback instance"); }
+
+	/*
+	* guidedTrip getter
+	*/
+	@StatelessCallbackCorrelation("-228519645")
+	default void getGuidedTripSuccess(Trip guidedTrip, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getGuidedTripSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-228519645")
+	default void getGuidedTripFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getGuidedTripFailed not implemented for callback instance"); }
+
+	/*
+	* trips getter
+	*/
+	@StatelessCallbackCorrelation("1966454584")
+	default void getTripsSuccess(Trip[] trips, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getTripsSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1966454584")
+	default void getTripsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTripsFailed not implemented for callback instance"); }
+	/*
+	* trips setter
+	*/
+	@StatelessCallbackCorrelation("1405342124")
+	default void setTripsSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setTripsSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1405342124")
+	default void setTripsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setTripsFailed not implemented for callback instance"); }
+
+	/*
+	* addTrip
+	*/
+	@StatelessCallbackCorrelation("-1148573594")
+	default void addTripSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addTripSuccess not implemented for callback instance"); }
+	default void addTripFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addTripFailed with exception not implemented for callback instance"); }
+
+	/*
+	* updateTrip
+	*/
+	@StatelessCallbackCorrelation("-295922546")
+	default void updateTripSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateTripSuccess not implemented for callback instance"); }
+	default void updateTripFailed(
+			joynr.vehicle.Navigation.UpdateTripErrorEnum error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateTripFailed with error not implemented for callback instance"); }
+	default void updateTripFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateTripFailed with exception not implemented for callback instance"); }
+
+	/*
+	* deleteTrip
+	*/
+	@StatelessCallbackCorrelation("1764597872")
+	default void deleteTripSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("deleteTripSuccess not implemented for callback instance"); }
+	default void deleteTripFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("deleteTripFailed with exception not implemented for callback instance"); }
+
+	/*
+	* deleteTrip
+	*/
+	@StatelessCallbackCorrelation("-1598737611")
+	default void deleteTripSuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("deleteTripSuccess not implemented for callback instance"); }
+	default void deleteTripFailed(
+			joynr.vehicle.Navigation.DeleteTrip2ErrorEnum error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("deleteTripFailed with error not implemented for callback instance"); }
+
+	/*
+	* deleteAll
+	*/
+	@StatelessCallbackCorrelation("-358737930")
+	default void deleteAllSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("deleteAllSuccess not implemented for callback instance"); }
+	default void deleteAllFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("deleteAllFailed with exception not implemented for callback instance"); }
+
+	/*
+	* getSavedTrips
+	*/
+	@StatelessCallbackCorrelation("-1530350307")
+	default void getSavedTripsSuccess(
+			Trip[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getSavedTripsSuccess not implemented for callback instance"); }
+	default void getSavedTripsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getSavedTripsFailed with exception not implemented for callback instance"); }
+
+	/*
+	* getTrip
+	*/
+	@StatelessCallbackCorrelation("504843485")
+	default void getTripSuccess(
+			Trip result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTripSuccess not implemented for callback instance"); }
+	default void getTripFailed(
+			joynr.types.Localisation.GetTripErrors error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTripFailed with error not implemented for callback instance"); }
+	default void getTripFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTripFailed with exception not implemented for callback instance"); }
+
+	/*
+	* getTrip
+	*/
+	@StatelessCallbackCorrelation("1812649627")
+	default void getTripSuccess(
+			Trip[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTripSuccess not implemented for callback instance"); }
+
+	/*
+	* requestGuidance
+	*/
+	@StatelessCallbackCorrelation("-1601396348")
+	default void requestGuidanceSuccess(
+			Boolean result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("requestGuidanceSuccess not implemented for callback instance"); }
+	default void requestGuidanceFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("requestGuidanceFailed with exception not implemented for callback instance"); }
+
+	/*
+	* stopGuidance
+	*/
+	@StatelessCallbackCorrelation("1852277233")
+	default void stopGuidanceSuccess(
+			Boolean result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("stopGuidanceSuccess not implemented for callback instance"); }
+	default void stopGuidanceFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("stopGuidanceFailed with exception not implemented for callback instance"); }
+}
@@ -0,0 +1,197 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.vehicle;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.Sync;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+import joynr.exceptions.ApplicationException;
+
+import joynr.types.Localisation.Trip;
+
+@Sync
+@ProvidedBy(NavigationProvider.class)
+@UsedBy(NavigationProxy.class)
+public interface NavigationSync extends Navigation {
+
+	public Boolean getGuidanceActive();
+	default public Boolean getGuidanceActive(MessagingQos messagingQos) {
+		return getGuidanceActive();
+	}
+
+	public Trip getGuidedTrip();
+	default public Trip getGuidedTrip(MessagingQos messagingQos) {
+		return getGuidedTrip();
+	}
+
+	public Trip[] getTrips();
+	default public Trip[] getTrips(MessagingQos messagingQos) {
+		return getTrips();
+	}
+	void setTrips(Trip[] trips);
+	default void setTrips(Trip[] trips, MessagingQos messagingQos) {
+	}
+
+
+	/*
+	* addTrip
+	*/
+	public void addTrip(
+			Trip trip
+	);
+	default public void addTrip(
+			Trip trip,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* updateTrip
+	*/
+	public void updateTrip(
+			Trip trip
+	) throws ApplicationException;
+	default public void updateTrip(
+			Trip trip,
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return;
+	}
+
+	/*
+	* deleteTrip
+	*/
+	public void deleteTrip(
+			String tripId
+	);
+	default public void deleteTrip(
+			String tripId,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* deleteTrip
+	*/
+	public Boolean deleteTrip(
+			Trip trip
+	) throws ApplicationException;
+	default public Boolean deleteTrip(
+			Trip trip,
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return deleteTrip(
+			trip
+		);
+	}
+
+	/*
+	* deleteAll
+	*/
+	public void deleteAll(
+	);
+	default public void deleteAll(
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* getSavedTrips
+	*/
+	public Trip[] getSavedTrips(
+	);
+	default public Trip[] getSavedTrips(
+			MessagingQos messagingQos
+	) {
+		return getSavedTrips(
+		);
+	}
+
+	/*
+	* getTrip
+	*/
+	public Trip getTrip(
+			String tripId
+	) throws ApplicationException;
+	default public Trip getTrip(
+			String tripId,
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return getTrip(
+			tripId
+		);
+	}
+
+	/*
+	* getTrip
+	*/
+	public Trip[] getTrip(
+			String tripIdSearchString,
+			Boolean allowWildcards
+	) throws ApplicationException;
+	default public Trip[] getTrip(
+			String tripIdSearchString,
+			Boolean allowWildcards,
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return getTrip(
+			tripIdSearchString,
+			allowWildcards
+		);
+	}
+
+	/*
+	* requestGuidance
+	*/
+	public Boolean requestGuidance(
+			Trip trip
+	);
+	default public Boolean requestGuidance(
+			Trip trip,
+			MessagingQos messagingQos
+	) {
+		return requestGuidance(
+			trip
+		);
+	}
+
+	/*
+	* stopGuidance
+	*/
+	public Boolean stopGuidance(
+	);
+	default public Boolean stopGuidance(
+			MessagingQos messagingQos
+	) {
+		return stopGuidance(
+		);
+	}
+}
@@ -24,12 +24,14 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,6 +47,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
@@ -75,6 +78,7 @@ import io.joynr.proxy.CallbackWithModeledError;
 import io.joynr.proxy.Future;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
 import io.joynr.util.JoynrThreadFactory;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.MqttAddress;
@@ -88,6 +92,7 @@ import joynr.types.Version;
 public class ArbitrationTest {
 
     private static final long ARBITRATION_TIMEOUT = 1000;
+    private static final int MAXIMUM_PARALLEL_ARBITRATIONS = 2;
     private static final Long NO_EXPIRY = Long.MAX_VALUE;
     private static final MqttAddress testAddress = new MqttAddress("mqtt://testUrl", "testTopic");
     private static String interfaceName = "testInterface";
@@ -122,6 +127,8 @@ public class ArbitrationTest {
     private ArgumentCaptor<joynr.types.DiscoveryQos> discoveryQosCaptor;
     @Mock
     private MessageRouter messageRouter;
+    @Mock
+    private JoynrStatusMetricsReceiver statusMetrics;
 
     public interface TestInterface {
         public static final String INTERFACE_NAME = interfaceName;
@@ -171,9 +178,13 @@ public class ArbitrationTest {
         schedulerField.setAccessible(true);
         String name = "TEST.joynr.scheduler.arbitration.arbitratorRunnable";
         ThreadFactory joynrThreadFactory = new JoynrThreadFactory(name, true);
-        scheduler = Executors.newSingleThreadScheduledExecutor(joynrThreadFactory);
+        scheduler = Executors.newScheduledThreadPool(MAXIMUM_PARALLEL_ARBITRATIONS, joynrThreadFactory);
         schedulerField.set(ArbitratorFactory.class, scheduler);
 
+        Field maximumParallelArbitrationsField = ArbitratorFactory.class.getDeclaredField("maximumParallelArbitrations");
+        maximumParallelArbitrationsField.setAccessible(true);
+        maximumParallelArbitrationsField.set(ArbitratorFactory.class, MAXIMUM_PARALLEL_ARBITRATIONS);
+
         Field shutdownNotifierField = ArbitratorFactory.class.getDeclaredField("shutdownNotifier");
         shutdownNotifierField.setAccessible(true);
         shutdownNotifierField.set(ArbitratorFactory.class, shutdownNotifier);
@@ -182,6 +193,10 @@ public class ArbitrationTest {
         messageRouterField.setAccessible(true);
         messageRouterField.set(ArbitratorFactory.class, messageRouter);
 
+        Field statusMetricsField = ArbitratorFactory.class.getDeclaredField("statusMetrics");
+        statusMetricsField.setAccessible(true);
+        statusMetricsField.set(ArbitratorFactory.class, statusMetrics);
+
         ArbitratorFactory.start();
         verify(shutdownNotifier).registerForShutdown(any(ShutdownListener.class));
     }
@@ -1563,4 +1578,77 @@ public class ArbitrationTest {
         assertEquals(expectedArbitrationResult, capturedArbitrationResult);
     }
 
+    @Test
+    public void arbitrationsAreProcessedInParallel() throws Exception {
+        final String blockingDomain = "blockingDomain";
+        final CountDownLatch lookupsStarted = new CountDownLatch(MAXIMUM_PARALLEL_ARBITRATIONS);
+        doAnswer(invocation -> {
+            // blocks the arbitrator runnable until all lookups have been started
+            lookupsStarted.countDown();
+            lookupsStarted.await(ARBITRATION_TIMEOUT, TimeUnit.MILLISECONDS);
+            localDiscoveryAggregatorSemaphore.release();
+            return null;
+        }).when(localDiscoveryAggregator)
+          .lookup(Mockito.<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> any(),
+                  eq(new String[]{ blockingDomain }),
+                  eq(interfaceName),
+                  any(joynr.types.DiscoveryQos.class),
+                  Mockito.<String[]> any());
+
+        for (int i = 0; i < MAXIMUM_PARALLEL_ARBITRATIONS; i++) {
+            Arbitrator arbitrator = ArbitratorFactory.create(new HashSet<String>(Arrays.asList(blockingDomain)),
+                                                             interfaceName,
+                                                             interfaceVersion,
+                                                             new DiscoveryQos(),
+                                                             localDiscoveryAggregator,
+                                                             new String[]{});
+            arbitrator.setArbitrationListener(arbitrationCallback);
+            arbitrator.scheduleArbitration(true);
+        }
+
+        assertTrue(lookupsStarted.await(ARBITRATION_TIMEOUT, TimeUnit.MILLISECONDS));
+        assertTrue(localDiscoveryAggregatorSemaphore.tryAcquire(MAXIMUM_PARALLEL_ARBITRATIONS,
+                                                                ARBITRATION_TIMEOUT,
+                                                                TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void successfulArbitrationIsReportedToStatusMetrics() throws InterruptedException {
+        capabilitiesList.add(new DiscoveryEntryWithMetaInfo(new Version(),
+                                                            domain,
+                                                            interfaceName,
+                                                            expectedParticipantId,
+                                                            new ProviderQos(),
+                                                            System.currentTimeMillis(),
+                                                            NO_EXPIRY,
+                                                            publicKeyId,
+                                                            true));
+        DiscoveryQos discoveryQos = new DiscoveryQos(ARBITRATION_TIMEOUT,
+                                                     ArbitrationStrategy.HighestPriority,
+                                                     Long.MAX_VALUE);
+
+        createArbitratorWithCallbackAndAwaitArbitration(discoveryQos);
+
+        verify(arbitrationCallback, timeout(ARBITRATION_TIMEOUT)).onSuccess(any(ArbitrationResult.class));
+        verify(statusMetrics).notifyArbitrationFinished(eq(true), anyLong(), anyLong());
+        verify(statusMetrics, never()).notifyArbitrationFinished(eq(false), anyLong(), anyLong());
+    }
+
+    @Test
+    public void failedArbitrationIsReportedToStatusMetrics() throws InterruptedException {
+        when(localDiscoveryAggregator.lookup(Mockito.<CallbackWithModeledError<DiscoveryEntryWithMetaInfo[], DiscoveryError>> any(),
+                                             any(String[].class),
+                                             any(String.class),
+                                             any(joynr.types.DiscoveryQos.class),
+                                             any(String[].class))).thenAnswer(createAnswerWithDiscoveryError(DiscoveryError.INTERNAL_ERROR));
+        DiscoveryQos discoveryQos = new DiscoveryQos(ARBITRATION_TIMEOUT,
+                                                     ArbitrationStrategy.HighestPriority,
+                                                     Long.MAX_VALUE);
+
+        createArbitratorWithCallbackAndAwaitArbitration(discoveryQos);
+
+        verify(arbitrationCallback, timeout(ARBITRATION_TIMEOUT)).onError(any(DiscoveryException.class));
+        verify(statusMetrics).notifyArbitrationFinished(eq(false), anyLong(), anyLong());
+        verify(statusMetrics, never()).notifyArbitrationFinished(eq(true), anyLong(), anyLong());
+    }
 }
@@ -18,6 +18,12 @@
  */
 package io.joynr.capabilities;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import io.joynr.JoynrVersion;
 import io.joynr.discovery.LocalDiscoveryAggregator;
 import io.joynr.dispatching.Dispatcher;
@@ -36,25 +42,31 @@ import io.joynr.provider.ProviderContainerFactory;
 import io.joynr.proxy.Callback;
 import io.joynr.proxy.CallbackWithModeledError;
 import io.joynr.proxy.Future;
+import joynr.exceptions.ApplicationException;
 import joynr.system.RoutingTypes.Address;
 import joynr.types.DiscoveryEntry;
 import joynr.types.DiscoveryError;
 import joynr.types.ProviderQos;
 import joynr.types.Version;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
@@ -68,8 +80,10 @@ import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CapabilitiesRegistrarTest {
+    private static final Logger logger = LoggerFactory.getLogger(CapabilitiesRegistrarTest.class);
 
     private static final long ONE_DAY_IN_MS = 24 * 60 * 60 * 1000;
+    private static final int MAXIMUM_PARALLEL_REGISTRATIONS = 4;
     private final long expiryDateMs = System.currentTimeMillis() + ONE_DAY_IN_MS;
     private CapabilitiesRegistrar registrar;
     @Mock
@@ -105,6 +119,7 @@ public class CapabilitiesRegistrarTest {
     private final ProviderQos providerQos = new ProviderQos();
     private Version testVersion;
     private ArgumentCaptor<DiscoveryEntry> discoveryEntryCaptor;
+    private ScheduledExecutorService scheduler;
 
     @JoynrInterface(provider = TestProvider.class, provides = TestProvider.class, name = TestProvider.INTERFACE_NAME)
     @JoynrVersion(major = 1337, minor = 42)
@@ -116,14 +131,8 @@ public class CapabilitiesRegistrarTest {
     @Before
     public void setUp() {
         dispatcherAddress = new InProcessAddress(new InProcessLibjoynrMessagingSkeleton(dispatcher));
-        registrar = new CapabilitiesRegistrarImpl(localDiscoveryAggregator,
-                                                  providerContainerFactory,
-                                                  messageRouter,
-                                                  providerDirectory,
-                                                  participantIdStorage,
-                                                  ONE_DAY_IN_MS,
-                                                  dispatcherAddress,
-                                                  requestInterpreter);
+        scheduler = Executors.newScheduledThreadPool(MAXIMUM_PARALLEL_REGISTRATIONS);
+        registrar = createRegistrar(MAXIMUM_PARALLEL_REGISTRATIONS);
         final JoynrVersion currentJoynrVersion = TestProvider.class.getAnnotation(JoynrVersion.class);
         testVersion = new Version(currentJoynrVersion.major(), currentJoynrVersion.minor());
 
@@ -131,9 +140,10 @@ public class CapabilitiesRegistrarTest {
         final RequestCaller requestCallerMock = mock(RequestCaller.class);
         lenient().when(providerContainer.getRequestCaller()).thenReturn(requestCallerMock);
         lenient().when(providerContainer.getSubscriptionPublisher()).thenReturn(subscriptionPublisher);
-        when(participantIdStorage.getProviderParticipantId(eq(domain),
-                                                           eq(TestProvider.INTERFACE_NAME),
-                                                           anyInt())).thenReturn(participantId);
+        lenient().when(participantIdStorage.getProviderParticipantId(eq(domain),
+                                                                     eq(TestProvider.INTERFACE_NAME),
+                                                                     anyInt()))
+                 .thenReturn(participantId);
         when(providerContainerFactory.create(testProvider)).thenReturn(providerContainer);
 
         discoveryEntryCaptor = ArgumentCaptor.forClass(DiscoveryEntry.class);
@@ -149,6 +159,24 @@ public class CapabilitiesRegistrarTest {
           .add(any(CallbackWithModeledError.class), any(DiscoveryEntry.class), any(Boolean.class), any(String[].class));
     }
 
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private CapabilitiesRegistrar createRegistrar(final int maximumParallelRegistrations) {
+        return new CapabilitiesRegistrarImpl(localDiscoveryAggregator,
+                                             providerContainerFactory,
+                                             messageRouter,
+                                             providerDirectory,
+                                             participantIdStorage,
+                                             ONE_DAY_IN_MS,
+                                             dispatcherAddress,
+                                             requestInterpreter,
+                                             scheduler,
+                                             maximumParallelRegistrations);
+    }
+
     @SuppressWarnings("unchecked")
     private void verifyRegisterProviderResults(final boolean awaitGlobalRegistration, final String[] gbids) {
         verify(localDiscoveryAggregator).add(any(CallbackWithModeledError.class),
@@ -196,6 +224,123 @@ public class CapabilitiesRegistrarTest {
         verifyRegisterProviderResults(awaitGlobalRegistration, new String[]{});
     }
 
+    private List<ProviderRegistration> createProviderRegistrations(final int numberOfProviders) {
+        final List<ProviderRegistration> registrations = new ArrayList<>();
+        for (int i = 0; i < numberOfProviders; i++) {
+            registrations.add(new ProviderRegistration(domain, testProvider, providerQos, new String[]{}, false));
+        }
+        return registrations;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test(timeout = 30000)
+    public void registerProvidersRegistersAllProvidersAndResolvesAggregatedFuture() throws Exception {
+        final int numberOfProviders = 3000;
+        registrar.registerProviders(createProviderRegistrations(numberOfProviders)).get(20000);
+
+        verify(providerDirectory, times(numberOfProviders)).add(eq(participantId), eq(providerContainer));
+        verify(messageRouter, times(numberOfProviders)).addNextHop(eq(participantId), eq(dispatcherAddress), eq(true));
+        verify(localDiscoveryAggregator, times(numberOfProviders)).add(any(CallbackWithModeledError.class),
+                                                                       any(DiscoveryEntry.class),
+                                                                       eq(false),
+                                                                       eq(new String[]{}));
+    }
+
+    private List<ProviderRegistration> createProviderRegistrationsWithDistinctIds(final int numberOfProviders) {
+        lenient().when(participantIdStorage.getProviderParticipantId(anyString(),
+                                                                     eq(TestProvider.INTERFACE_NAME),
+                                                                     anyInt()))
+                 .thenAnswer(invocation -> "participantId-" + invocation.getArgument(0));
+        final List<ProviderRegistration> registrations = new ArrayList<>();
+        for (int i = 0; i < numberOfProviders; i++) {
+            registrations.add(new ProviderRegistration("domain-" + i,
+                                                       testProvider,
+                                                       providerQos,
+                                                       new String[]{},
+                                                       false));
+        }
+        return registrations;
+    }
+
+    private long registerProvidersAndMeasure(final CapabilitiesRegistrar registrar,
+                                             final int numberOfProviders,
+                                             final AtomicInteger maxConcurrentRegistrations) throws Exception {
+        final AtomicInteger concurrentRegistrations = new AtomicInteger();
+        maxConcurrentRegistrations.set(0);
+        // simulate the round trip of adding the routing entry to the cluster controller
+        doAnswer(invocation -> {
+            maxConcurrentRegistrations.accumulateAndGet(concurrentRegistrations.incrementAndGet(), Math::max);
+            Thread.sleep(2);
+            concurrentRegistrations.decrementAndGet();
+            return null;
+        }).when(messageRouter).addNextHop(anyString(), eq(dispatcherAddress), eq(true));
+
+        final long startMs = System.currentTimeMillis();
+        registrar.registerProviders(createProviderRegistrationsWithDistinctIds(numberOfProviders))
+                 .get(20000);
+        return System.currentTimeMillis() - startMs;
+    }
+
+    @Test(timeout = 30000)
+    public void registerProvidersInParallelIsFasterThanSequentialRegistration() throws Exception {
+        final int numberOfProviders = 200;
+        final AtomicInteger maxConcurrentRegistrations = new AtomicInteger();
+
+        final long sequentialMs = registerProvidersAndMeasure(createRegistrar(1),
+                                                              numberOfProviders,
+                                                              maxConcurrentRegistrations);
+        assertEquals(1, maxConcurrentRegistrations.get());
+
+        final long parallelMs = registerProvidersAndMeasure(createRegistrar(MAXIMUM_PARALLEL_REGISTRATIONS),
+                                                            numberOfProviders,
+                                                            maxConcurrentRegistrations);
+        assertTrue(maxConcurrentRegistrations.get() > 1);
+        logger.info("Registration of {} providers took {}ms sequentially and {}ms with {} parallel registrations",
+                    numberOfProviders,
+                    sequentialMs,
+                    parallelMs,
+                    MAXIMUM_PARALLEL_REGISTRATIONS);
+        assertTrue(parallelMs < sequentialMs);
+        // every provider is registered once per run with its own participantId
+        verify(messageRouter, times(2)).addNextHop(eq("participantId-domain-0"), eq(dispatcherAddress), eq(true));
+        verify(messageRouter, times(2 * numberOfProviders)).addNextHop(anyString(),
+                                                                       eq(dispatcherAddress),
+                                                                       eq(true));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test(timeout = 10000)
+    public void registerProvidersFailsAggregatedFutureIfOneRegistrationFails() throws Exception {
+        doAnswer(new Answer<Future<Void>>() {
+            private int call = 0;
+
+            @Override
+            public synchronized Future<Void> answer(InvocationOnMock invocation) throws Throwable {
+                final CallbackWithModeledError<Void, DiscoveryError> callback = invocation.getArgument(0);
+                if (++call == 2) {
+                    callback.onFailure(DiscoveryError.INTERNAL_ERROR);
+                } else {
+                    callback.onSuccess(null);
+                }
+                return null;
+            }
+        }).when(localDiscoveryAggregator)
+          .add(any(CallbackWithModeledError.class), any(DiscoveryEntry.class), any(Boolean.class), any(String[].class));
+
+        final Future<Void> future = registrar.registerProviders(createProviderRegistrations(3));
+        try {
+            future.get(5000);
+            fail("expected ApplicationException");
+        } catch (final ApplicationException e) {
+            assertEquals(DiscoveryError.INTERNAL_ERROR, e.getError());
+        }
+        verify(localDiscoveryAggregator, times(3)).add(any(CallbackWithModeledError.class),
+                                                       any(DiscoveryEntry.class),
+                                                       any(Boolean.class),
+                                                       any(String[].class));
+        verify(messageRouter).removeNextHop(eq(participantId));
+    }
+
     @SuppressWarnings("unchecked")
     private void testRegistrationWithErrorFromAdd() {
         registrar.registerProvider(domain, testProvider, providerQos, new String[]{}, true);
@@ -18,17 +18,29 @@
  */
 package io.joynr.capabilities;
 
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -41,6 +53,8 @@ import com.google.inject.name.Names;
 import io.joynr.common.JoynrPropertiesModule;
 import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.messaging.MessagingPropertyKeys;
+import io.joynr.runtime.JoynrInjectionConstants;
+import io.joynr.runtime.PropertyLoader;
 import joynr.tests.test;
 import joynr.types.GlobalDiscoveryEntry;
 
@@ -55,6 +69,7 @@ public class ParticipantIdStorageTest {
     private Properties testProperties;
 
     private ParticipantIdStorage storage;
+    private File persistenceFile;
 
     @Mock
     private GlobalDiscoveryEntry capabilitiesDirectoryEntry;
@@ -62,6 +77,9 @@ public class ParticipantIdStorageTest {
     @Mock
     private GlobalDiscoveryEntry domainAccessControllerEntry;
 
+    @Mock
+    private ScheduledExecutorService syncScheduler;
+
     @Before
     public void setUp() throws IOException {
         testProperties = new Properties();
@@ -77,9 +95,9 @@ public class ParticipantIdStorageTest {
                 bind(ParticipantIdStorage.class).to(PropertiesFileParticipantIdStorage.class);
             }
         }, new JoynrPropertiesModule(testProperties));
-        String persistenceFile = injector.getInstance(Key.get(String.class,
-                                                              Names.named(ConfigurableMessagingSettings.PROPERTY_PARTICIPANTIDS_PERSISTENCE_FILE)));
-        Files.deleteIfExists(new File(persistenceFile).toPath());
+        persistenceFile = new File(injector.getInstance(Key.get(String.class,
+                                                                Names.named(ConfigurableMessagingSettings.PROPERTY_PARTICIPANTIDS_PERSISTENCE_FILE))));
+        Files.deleteIfExists(persistenceFile.toPath());
         storage = injector.getInstance(ParticipantIdStorage.class);
     }
 
@@ -133,4 +151,125 @@ public class ParticipantIdStorageTest {
                                                                majorVersion);
         assertEquals(participantId1, participant2);
     }
+
+    @Test
+    public void testGeneratedParticipantIdsAreAppendedToPersistenceFile() throws IOException {
+        String participantId1 = storage.getProviderParticipantId("domain1", test.INTERFACE_NAME, majorVersion, null);
+        byte[] persistedAfterFirstParticipantId = Files.readAllBytes(persistenceFile.toPath());
+        String participantId2 = storage.getProviderParticipantId("domain2", test.INTERFACE_NAME, majorVersion, null);
+
+        String persisted = new String(Files.readAllBytes(persistenceFile.toPath()), StandardCharsets.ISO_8859_1);
+        assertTrue(persisted.startsWith(new String(persistedAfterFirstParticipantId, StandardCharsets.ISO_8859_1)));
+
+        Properties reloaded = PropertyLoader.loadProperties(persistenceFile);
+        assertEquals(2, reloaded.size());
+        assertEquals(participantId1,
+                     reloaded.getProperty(ParticipantIdKeyUtil.getProviderParticipantIdKey("domain1",
+                                                                                           test.INTERFACE_NAME,
+                                                                                           majorVersion)));
+        assertEquals(participantId2,
+                     reloaded.getProperty(ParticipantIdKeyUtil.getProviderParticipantIdKey("domain2",
+                                                                                           test.INTERFACE_NAME,
+                                                                                           majorVersion)));
+    }
+
+    @Test
+    public void testIncompleteLastEntryIsRemovedFromPersistenceFile() throws IOException {
+        String participantId1 = storage.getProviderParticipantId("domain1", test.INTERFACE_NAME, majorVersion, null);
+        byte[] persistedAfterFirstParticipantId = Files.readAllBytes(persistenceFile.toPath());
+        String participantId2 = storage.getProviderParticipantId("domain2", test.INTERFACE_NAME, majorVersion, null);
+        byte[] persisted = Files.readAllBytes(persistenceFile.toPath());
+        // simulate a crash while appending the second entry
+        Files.write(persistenceFile.toPath(),
+                    Arrays.copyOf(persisted, persisted.length - System.lineSeparator().length() - 5));
+
+        storage = createStorage();
+
+        assertArrayEquals(persistedAfterFirstParticipantId, Files.readAllBytes(persistenceFile.toPath()));
+        assertEquals(participantId1,
+                     storage.getProviderParticipantId("domain1", test.INTERFACE_NAME, majorVersion, null));
+        String newParticipantId2 = storage.getProviderParticipantId("domain2", test.INTERFACE_NAME, majorVersion, null);
+        assertNotEquals(participantId2, newParticipantId2);
+
+        Properties reloaded = PropertyLoader.loadProperties(persistenceFile);
+        assertEquals(2, reloaded.size());
+        assertEquals(newParticipantId2,
+                     reloaded.getProperty(ParticipantIdKeyUtil.getProviderParticipantIdKey("domain2",
+                                                                                           test.INTERFACE_NAME,
+                                                                                           majorVersion)));
+    }
+
+    @Test
+    public void testIncompleteChecksumCommentIsRemovedFromPersistenceFile() throws IOException {
+        storage.getProviderParticipantId("domain1", test.INTERFACE_NAME, majorVersion, null);
+        byte[] persistedAfterFirstParticipantId = Files.readAllBytes(persistenceFile.toPath());
+        Files.write(persistenceFile.toPath(), "#crc32=1a2".getBytes(StandardCharsets.ISO_8859_1), APPEND);
+
+        storage = createStorage();
+
+        assertArrayEquals(persistedAfterFirstParticipantId, Files.readAllBytes(persistenceFile.toPath()));
+    }
+
+    @Test
+    public void testLastEntryWithoutLineSeparatorIsKept() throws IOException {
+        String existingKey = ParticipantIdKeyUtil.getProviderParticipantIdKey("domain1",
+                                                                              test.INTERFACE_NAME,
+                                                                              majorVersion);
+        String lastKey = ParticipantIdKeyUtil.getProviderParticipantIdKey("domain2", test.INTERFACE_NAME, majorVersion);
+        String content = existingKey + "=existingParticipantId" + System.lineSeparator() + lastKey
+                + "=lastParticipantId";
+        Files.write(persistenceFile.toPath(), content.getBytes(StandardCharsets.ISO_8859_1));
+
+        storage = createStorage();
+
+        assertEquals(content, new String(Files.readAllBytes(persistenceFile.toPath()), StandardCharsets.ISO_8859_1));
+        assertEquals("existingParticipantId",
+                     storage.getProviderParticipantId("domain1", test.INTERFACE_NAME, majorVersion, null));
+        assertEquals("lastParticipantId",
+                     storage.getProviderParticipantId("domain2", test.INTERFACE_NAME, majorVersion, null));
+        String participantId3 = storage.getProviderParticipantId("domain3", test.INTERFACE_NAME, majorVersion, null);
+
+        Properties reloaded = PropertyLoader.loadProperties(persistenceFile);
+        assertEquals(3, reloaded.size());
+        assertEquals("existingParticipantId", reloaded.getProperty(existingKey));
+        assertEquals("lastParticipantId", reloaded.getProperty(lastKey));
+        assertEquals(participantId3,
+                     reloaded.getProperty(ParticipantIdKeyUtil.getProviderParticipantIdKey("domain3",
+                                                                                           test.INTERFACE_NAME,
+                                                                                           majorVersion)));
+    }
+
+    @Test
+    public void testSyncsOfAppendedParticipantIdsAreBatched() {
+        Injector injector = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(GlobalDiscoveryEntry.class).annotatedWith(Names.named(MessagingPropertyKeys.CAPABILITIES_DIRECTORY_DISCOVERY_ENTRY))
+                                                .toInstance(capabilitiesDirectoryEntry);
+                bind(ScheduledExecutorService.class).annotatedWith(Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP))
+                                                    .toInstance(syncScheduler);
+                bind(ParticipantIdStorage.class).to(PropertiesFileParticipantIdStorage.class);
+            }
+        }, new JoynrPropertiesModule(testProperties));
+        storage = injector.getInstance(ParticipantIdStorage.class);
+
+        for (int i = 0; i < 10; i++) {
+            storage.getProviderParticipantId("domain" + i, test.INTERFACE_NAME, majorVersion, null);
+        }
+        ArgumentCaptor<Runnable> syncCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(syncScheduler).schedule(syncCaptor.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+
+        syncCaptor.getValue().run();
+        storage.getProviderParticipantId("domain10", test.INTERFACE_NAME, majorVersion, null);
+        verify(syncScheduler, times(2)).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+        assertEquals(11, PropertyLoader.loadProperties(persistenceFile).size());
+    }
+
+    private PropertiesFileParticipantIdStorage createStorage() {
+        return new PropertiesFileParticipantIdStorage(testProperties,
+                                                      persistenceFile.getPath(),
+                                                      "discoveryProviderParticipantId",
+                                                      "routingProviderParticipantId",
+                                                      capabilitiesDirectoryEntry);
+    }
 }
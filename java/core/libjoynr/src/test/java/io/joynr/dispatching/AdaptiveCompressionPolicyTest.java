@@ -0,0 +1,121 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+import io.joynr.common.JoynrPropertiesModule;
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import joynr.Message;
+
+public class AdaptiveCompressionPolicyTest {
+    private static final Message.MessageType PUBLICATION = Message.MessageType.VALUE_MESSAGE_TYPE_PUBLICATION;
+    private static final int THRESHOLD_BYTES = 1024;
+
+    private static byte[] createJsonPayload(int length) {
+        StringBuilder payload = new StringBuilder("[");
+        while (payload.length() < length) {
+            payload.append("{\"_typeName\":\"joynr.tests.Struct\",\"name\":\"value\",\"number\":42},");
+        }
+        payload.append("{}]");
+        return payload.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] createRandomPayload(int length) {
+        byte[] payload = new byte[length];
+        new Random(42).nextBytes(payload);
+        return payload;
+    }
+
+    @Test
+    public void disabledByDefault() {
+        AdaptiveCompressionPolicy policy = Guice.createInjector(new JoynrPropertiesModule(new Properties()))
+                                                .getInstance(AdaptiveCompressionPolicy.class);
+        assertFalse(policy.isEnabled());
+        assertFalse(policy.shouldCompress(PUBLICATION, "provider", createJsonPayload(10 * THRESHOLD_BYTES)));
+    }
+
+    @Test
+    public void configuredByProperties() {
+        Properties properties = new Properties();
+        properties.setProperty(ConfigurableMessagingSettings.PROPERTY_ADAPTIVE_COMPRESSION, "true");
+        properties.setProperty(ConfigurableMessagingSettings.PROPERTY_ADAPTIVE_COMPRESSION_THRESHOLD_BYTES, "100");
+        properties.setProperty(ConfigurableMessagingSettings.PROPERTY_ADAPTIVE_COMPRESSION_MAX_RATIO, "0.5");
+        AdaptiveCompressionPolicy policy = Guice.createInjector(new JoynrPropertiesModule(properties))
+                                                .getInstance(AdaptiveCompressionPolicy.class);
+        assertTrue(policy.isEnabled());
+        assertTrue(policy.shouldCompress(PUBLICATION, "provider", createJsonPayload(200)));
+    }
+
+    @Test
+    public void smallPayloadsAreNotCompressed() {
+        AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(true, THRESHOLD_BYTES, 0.8, 1);
+        assertFalse(policy.shouldCompress(PUBLICATION, "provider", createJsonPayload(THRESHOLD_BYTES - 100)));
+        assertEquals(0, policy.getNumberOfStatistics());
+    }
+
+    @Test
+    public void compressiblePayloadsAreCompressed() {
+        AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(true, THRESHOLD_BYTES, 0.8, 1);
+        assertTrue(policy.shouldCompress(PUBLICATION, "provider", createJsonPayload(10 * THRESHOLD_BYTES)));
+    }
+
+    @Test
+    public void incompressiblePayloadsAreNotCompressed() {
+        AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(true, THRESHOLD_BYTES, 0.8, 1);
+        assertFalse(policy.shouldCompress(PUBLICATION, "provider", createRandomPayload(10 * THRESHOLD_BYTES)));
+    }
+
+    @Test
+    public void statisticsAreKeptPerMessageTypeAndProvider() {
+        AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(true, THRESHOLD_BYTES, 0.8, 1000);
+        byte[] compressiblePayload = createJsonPayload(10 * THRESHOLD_BYTES);
+        byte[] incompressiblePayload = createRandomPayload(10 * THRESHOLD_BYTES);
+
+        assertFalse(policy.shouldCompress(PUBLICATION, "provider1", incompressiblePayload));
+        assertTrue(policy.shouldCompress(PUBLICATION, "provider2", compressiblePayload));
+        assertTrue(policy.shouldCompress(Message.MessageType.VALUE_MESSAGE_TYPE_REPLY,
+                                         "provider1",
+                                         compressiblePayload));
+
+        // no new sample before the sample interval has passed
+        assertFalse(policy.shouldCompress(PUBLICATION, "provider1", compressiblePayload));
+        assertEquals(3, policy.getNumberOfStatistics());
+    }
+
+    @Test
+    public void numberOfStatisticsIsLimited() {
+        AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(true, THRESHOLD_BYTES, 0.8, 1);
+        byte[] compressiblePayload = createJsonPayload(2 * THRESHOLD_BYTES);
+        for (int i = 0; i < AdaptiveCompressionPolicy.MAX_STATISTICS_ENTRIES + 10; i++) {
+            assertTrue(policy.shouldCompress(PUBLICATION, "provider" + i, compressiblePayload));
+        }
+        assertEquals(AdaptiveCompressionPolicy.MAX_STATISTICS_ENTRIES, policy.getNumberOfStatistics());
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.multibindings.Multibinder;
+
+import io.joynr.common.JoynrPropertiesModule;
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.messaging.JoynrMessageProcessor;
+import io.joynr.messaging.JsonMessageSerializerModule;
+import io.joynr.messaging.MessagingQos;
+import io.joynr.util.ObjectMapper;
+import joynr.Message;
+import joynr.MulticastPublication;
+import joynr.MutableMessage;
+import joynr.Reply;
+import joynr.Request;
+import joynr.SubscriptionPublication;
+
+public class BinaryPayloadEncodingTest {
+    private static final String CONSUMER = "consumer";
+    private static final String PROVIDER = "provider";
+
+    private ObjectMapper objectMapper;
+    private MutableMessageFactory messageFactory;
+    private Request request;
+
+    private static Injector createInjector(boolean binaryPayloadEncodingEnabled) {
+        Properties properties = new Properties();
+        properties.setProperty(ConfigurableMessagingSettings.PROPERTY_BINARY_PAYLOAD_ENCODING,
+                               String.valueOf(binaryPayloadEncodingEnabled));
+        return Guice.createInjector(new JoynrPropertiesModule(properties),
+                                    new JsonMessageSerializerModule(),
+                                    new AbstractModule() {
+                                        @Override
+                                        protected void configure() {
+                                            requestStaticInjection(Request.class);
+                                            Multibinder.newSetBinder(binder(), JoynrMessageProcessor.class);
+                                        }
+                                    });
+    }
+
+    @Before
+    public void setUp() {
+        Injector injector = createInjector(true);
+        objectMapper = injector.getInstance(ObjectMapper.class);
+        messageFactory = injector.getInstance(MutableMessageFactory.class);
+        request = new Request("methodWithStrings", new Object[]{ "value" }, new Class<?>[]{ String.class });
+    }
+
+    private MutableMessage createReplyFromProvider(MutableMessageFactory providerMessageFactory,
+                                                   MutableMessage requestMessage) throws Exception {
+        // providers copy the custom headers of the request to the reply
+        MessagingQos messagingQos = new MessagingQos();
+        for (Map.Entry<String, String> header : requestMessage.getCustomHeaders().entrySet()) {
+            messagingQos.putCustomMessageHeader(header.getKey(), header.getValue());
+        }
+        return providerMessageFactory.createReply(PROVIDER,
+                                                  CONSUMER,
+                                                  new Reply(request.getRequestReplyId(), "result"),
+                                                  messagingQos);
+    }
+
+    @Test
+    public void disabledByDefault() throws Exception {
+        Injector injector = Guice.createInjector(new JoynrPropertiesModule(new Properties()),
+                                                 new JsonMessageSerializerModule(),
+                                                 new AbstractModule() {
+                                                     @Override
+                                                     protected void configure() {
+                                                         Multibinder.newSetBinder(binder(),
+                                                                                  JoynrMessageProcessor.class);
+                                                     }
+                                                 });
+        assertFalse(injector.getInstance(BinaryPayloadEncoding.class).isEnabled());
+
+        MutableMessage message = injector.getInstance(MutableMessageFactory.class)
+                                         .createRequest(CONSUMER, PROVIDER, request, new MessagingQos());
+        assertFalse(BinaryPayloadEncoding.isBinary(message.getPayload()));
+        assertNull(message.getCustomHeaders().get(Message.CUSTOM_HEADER_BINARY_PAYLOAD_ACCEPTED));
+    }
+
+    @Test
+    public void requestIsSentAsJsonWithAcceptHeader() throws Exception {
+        MutableMessage message = messageFactory.createRequest(CONSUMER, PROVIDER, request, new MessagingQos());
+
+        assertFalse(BinaryPayloadEncoding.isBinary(message.getPayload()));
+        assertEquals(CONSUMER, message.getCustomHeaders().get(Message.CUSTOM_HEADER_BINARY_PAYLOAD_ACCEPTED));
+    }
+
+    @Test
+    public void replyIsBinaryIfRequestCarriedAcceptHeader() throws Exception {
+        MutableMessage requestMessage = messageFactory.createRequest(CONSUMER, PROVIDER, request, new MessagingQos());
+        MutableMessageFactory providerMessageFactory = createInjector(true).getInstance(MutableMessageFactory.class);
+
+        MutableMessage replyMessage = createReplyFromProvider(providerMessageFactory, requestMessage);
+
+        assertTrue(BinaryPayloadEncoding.isBinary(replyMessage.getPayload()));
+        assertEquals(new Reply(request.getRequestReplyId(), "result"),
+                     BinaryPayloadEncoding.readPayload(objectMapper, replyMessage.getPayload(), Reply.class));
+    }
+
+    @Test
+    public void replyIsJsonIfRequestCarriedNoAcceptHeader() throws Exception {
+        MutableMessageFactory consumerMessageFactory = createInjector(false).getInstance(MutableMessageFactory.class);
+        MutableMessage requestMessage = consumerMessageFactory.createRequest(CONSUMER,
+                                                                             PROVIDER,
+                                                                             request,
+                                                                             new MessagingQos());
+
+        MutableMessage replyMessage = createReplyFromProvider(messageFactory, requestMessage);
+
+        assertFalse(BinaryPayloadEncoding.isBinary(replyMessage.getPayload()));
+    }
+
+    @Test
+    public void replyIsJsonIfProviderDisabledBinaryPayloadEncoding() throws Exception {
+        MutableMessage requestMessage = messageFactory.createRequest(CONSUMER, PROVIDER, request, new MessagingQos());
+        MutableMessageFactory providerMessageFactory = createInjector(false).getInstance(MutableMessageFactory.class);
+
+        MutableMessage replyMessage = createReplyFromProvider(providerMessageFactory, requestMessage);
+
+        assertFalse(BinaryPayloadEncoding.isBinary(replyMessage.getPayload()));
+    }
+
+    @Test
+    public void replyIsJsonIfAcceptHeaderDoesNotMatchRecipient() throws Exception {
+        MutableMessage requestMessage = messageFactory.createRequest("otherConsumer",
+                                                                     PROVIDER,
+                                                                     request,
+                                                                     new MessagingQos());
+
+        MutableMessage replyMessage = createReplyFromProvider(messageFactory, requestMessage);
+
+        assertFalse(BinaryPayloadEncoding.isBinary(replyMessage.getPayload()));
+    }
+
+    @Test
+    public void multicastsAreAlwaysSentAsJson() throws Exception {
+        MutableMessage message = messageFactory.createMulticast(PROVIDER,
+                                                                new MulticastPublication(Arrays.asList("value"),
+                                                                                         "multicastReceiver"),
+                                                                new MessagingQos());
+
+        assertFalse(BinaryPayloadEncoding.isBinary(message.getPayload()));
+        assertNull(message.getCustomHeaders().get(Message.CUSTOM_HEADER_BINARY_PAYLOAD_ACCEPTED));
+    }
+
+    @Test
+    public void readPayloadDecodesJsonAndSmile() throws Exception {
+        SubscriptionPublication publication = new SubscriptionPublication(Arrays.asList("value"), "subscriptionId");
+
+        byte[] jsonPayload = objectMapper.writeValueAsString(publication).getBytes(StandardCharsets.UTF_8);
+        byte[] smilePayload = BinaryPayloadEncoding.writeBinaryPayload(objectMapper, publication);
+
+        assertFalse(BinaryPayloadEncoding.isBinary(jsonPayload));
+        assertTrue(BinaryPayloadEncoding.isBinary(smilePayload));
+        assertEquals(publication,
+                     BinaryPayloadEncoding.readPayload(objectMapper, jsonPayload, SubscriptionPublication.class));
+        assertEquals(publication,
+                     BinaryPayloadEncoding.readPayload(objectMapper, smilePayload, SubscriptionPublication.class));
+    }
+}
@@ -316,4 +316,35 @@ public class MutableMessageFactoryTest {
         message = mutableMessageFactory.createRequest("from", "to", request, messagingQos);
         assertEquals(false, message.getCompressed());
     }
+
+    @Test
+    public void testCompressedFlagIsSetByAdaptiveCompressionPolicy() {
+        Properties properties = new Properties();
+        properties.setProperty(ConfigurableMessagingSettings.PROPERTY_ADAPTIVE_COMPRESSION, "true");
+        properties.setProperty(ConfigurableMessagingSettings.PROPERTY_ADAPTIVE_COMPRESSION_THRESHOLD_BYTES, "1024");
+        MutableMessageFactory adaptiveMessageFactory = Guice.createInjector(new JoynrPropertiesModule(properties),
+                                                                            new JsonMessageSerializerModule(),
+                                                                            new AbstractModule() {
+                                                                                @Override
+                                                                                protected void configure() {
+                                                                                    Multibinder.newSetBinder(binder(),
+                                                                                                             JoynrMessageProcessor.class);
+                                                                                }
+                                                                            })
+                                                            .getInstance(MutableMessageFactory.class);
+        MessagingQos messagingQos = new MessagingQos();
+
+        MutableMessage message = adaptiveMessageFactory.createPublication("provider",
+                                                                          "consumer",
+                                                                          publication,
+                                                                          messagingQos);
+        assertEquals(false, message.getCompressed());
+
+        char[] largeResponse = new char[4096];
+        Arrays.fill(largeResponse, 'x');
+        SubscriptionPublication largePublication = new SubscriptionPublication(Arrays.asList(new String(largeResponse)),
+                                                                               "subscription");
+        message = adaptiveMessageFactory.createPublication("provider", "consumer", largePublication, messagingQos);
+        assertEquals(true, message.getCompressed());
+    }
 }
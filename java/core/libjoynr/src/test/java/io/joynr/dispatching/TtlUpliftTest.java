@@ -171,6 +171,8 @@ public class TtlUpliftTest {
                                               bind(RoutingTable.class).toInstance(Mockito.mock(RoutingTable.class));
                                               bind(ScheduledExecutorService.class).annotatedWith(Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP))
                                                                                   .toInstance(cleanupSchedulerSpy);
+                                              bind(ScheduledExecutorService.class).annotatedWith(Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS))
+                                                                                  .toInstance(cleanupScheduler);
                                           }
 
                                       });
@@ -20,7 +20,10 @@ package io.joynr.dispatching.rpc;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.spy;
 
@@ -46,7 +49,13 @@ import io.joynr.dispatching.RequestCallerFactory;
 import io.joynr.messaging.JoynrMessageCreator;
 import io.joynr.messaging.JoynrMessageMetaInfo;
 import io.joynr.provider.CallContext;
+import io.joynr.provider.ProviderCallback;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
+import io.joynr.statusmetrics.LatencyStage;
 import joynr.OneWayRequest;
+import joynr.exceptions.ProviderRuntimeException;
+import joynr.Reply;
+import joynr.Request;
 import joynr.tests.DefaulttestProvider;
 
 /**
@@ -70,6 +79,8 @@ public class RequestInterpreterTest {
     @Mock
     private JoynrMessageMetaInfo joynrMessageContext;
 
+    private JoynrStatusMetricsAggregator statusMetrics = new JoynrStatusMetricsAggregator();
+
     private RequestInterpreter subject;
 
     private RequestCaller requestCaller;
@@ -82,7 +93,10 @@ public class RequestInterpreterTest {
     public void setup() {
         final RequestCallerFactory requestCallerFactory = new RequestCallerFactory();
         requestCaller = requestCallerFactory.create(new DefaulttestProvider());
-        subject = new RequestInterpreter(joynrMessageScope, joynrMessageCreatorProvider, joynrMessageContextProvider);
+        subject = new RequestInterpreter(joynrMessageScope,
+                                         joynrMessageCreatorProvider,
+                                         joynrMessageContextProvider,
+                                         statusMetrics);
         request = new OneWayRequest("getTestAttribute", new Object[0], new Class[0]);
         request.setCreatorUserId(creatorUserId);
         Mockito.when(joynrMessageCreatorProvider.get()).thenReturn(joynrMessageCreator);
@@ -129,6 +143,32 @@ public class RequestInterpreterTest {
         assertTrue(map.isEmpty());
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testProviderExecutionTimeIsReported() {
+        final ProviderCallback<Reply> callback = mock(ProviderCallback.class);
+        final Request request = new Request("getTestAttribute", new Object[0], new Class[0]);
+
+        subject.execute(callback, requestCaller, request);
+
+        verify(callback).onSuccess(any(Reply.class));
+        assertEquals(1, statusMetrics.getLatencyHistogram(LatencyStage.PROVIDER_EXECUTION).getCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testProviderExecutionTimeIsReportedIfProviderThrows() throws Exception {
+        final ProviderCallback<Reply> callback = mock(ProviderCallback.class);
+        final Request request = new Request("getTestAttribute", new Object[0], new Class[0]);
+        final RequestCaller requestCallerSpy = spy(requestCaller);
+        doThrow(new ProviderRuntimeException("synchronous failure")).when(requestCallerSpy).invoke(any(), any());
+
+        subject.execute(callback, requestCallerSpy, request);
+
+        verify(callback).onFailure(any(ProviderRuntimeException.class));
+        assertEquals(1, statusMetrics.getLatencyHistogram(LatencyStage.PROVIDER_EXECUTION).getCount());
+    }
+
     @SuppressWarnings("unchecked")
     private Map<MethodSignature, Method> getSubjectMap() throws NoSuchFieldException, IllegalAccessException {
         final var field = RequestInterpreter.class.getDeclaredField("methodSignatureToMethodMap");
@@ -0,0 +1,171 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.dispatching.subscription;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class MulticastSubscriberIndexTest {
+    private static final Logger logger = LoggerFactory.getLogger(MulticastSubscriberIndexTest.class);
+
+    private static final Class<?>[] STRING_TYPES = new Class<?>[]{ String.class };
+    private static final Class<?>[] INTEGER_TYPES = new Class<?>[]{ Integer.class };
+
+    private MulticastSubscriberIndex subject;
+
+    @Before
+    public void setUp() {
+        subject = new MulticastSubscriberIndex();
+    }
+
+    private static Set<String> setOf(String... subscriptionIds) {
+        return new HashSet<>(Arrays.asList(subscriptionIds));
+    }
+
+    @Test
+    public void exactMulticastIdMatchesOnlyItself() {
+        subject.addSubscription("provider/multicast/one", "subscription1", STRING_TYPES);
+        subject.addSubscription("provider/multicast/one", "subscription2", STRING_TYPES);
+
+        assertEquals(setOf("subscription1", "subscription2"), subject.getSubscriptionIds("provider/multicast/one"));
+        assertTrue(subject.getSubscriptionIds("provider/multicast/two").isEmpty());
+        assertTrue(subject.getSubscriptionIds("provider/multicast").isEmpty());
+        assertTrue(subject.getSubscriptionIds("provider/multicast/one/two").isEmpty());
+    }
+
+    @Test
+    public void singleLevelWildcardMatchesExactlyOneLevel() {
+        subject.addSubscription("provider/multicast/+/three", "subscription", STRING_TYPES);
+
+        assertEquals(setOf("subscription"), subject.getSubscriptionIds("provider/multicast/two/three"));
+        assertTrue(subject.getSubscriptionIds("provider/multicast/three").isEmpty());
+        assertTrue(subject.getSubscriptionIds("provider/multicast//three").isEmpty());
+        assertTrue(subject.getSubscriptionIds("provider/multicast/two/four/three").isEmpty());
+    }
+
+    @Test
+    public void consecutiveSingleLevelWildcards() {
+        subject.addSubscription("provider/multicast/+/+", "subscription", STRING_TYPES);
+
+        assertEquals(setOf("subscription"), subject.getSubscriptionIds("provider/multicast/one/two"));
+        assertTrue(subject.getSubscriptionIds("provider/multicast/one").isEmpty());
+        assertTrue(subject.getSubscriptionIds("provider/multicast/one/two/three").isEmpty());
+    }
+
+    @Test
+    public void multiLevelWildcardMatchesZeroOrMoreLevels() {
+        subject.addSubscription("provider/multicast/one/*", "subscription", STRING_TYPES);
+
+        assertEquals(setOf("subscription"), subject.getSubscriptionIds("provider/multicast/one"));
+        assertEquals(setOf("subscription"), subject.getSubscriptionIds("provider/multicast/one/two"));
+        assertEquals(setOf("subscription"), subject.getSubscriptionIds("provider/multicast/one/two/three"));
+        assertTrue(subject.getSubscriptionIds("provider/multicast/onetwo").isEmpty());
+        assertTrue(subject.getSubscriptionIds("provider/multicast").isEmpty());
+    }
+
+    @Test
+    public void onlyMultiLevelWildcardMatchesEverything() {
+        subject.addSubscription("*", "subscription", STRING_TYPES);
+
+        assertEquals(setOf("subscription"), subject.getSubscriptionIds("provider"));
+        assertEquals(setOf("subscription"), subject.getSubscriptionIds("provider/multicast/one"));
+    }
+
+    @Test
+    public void exactAndWildcardSubscriptionsAreCombined() {
+        subject.addSubscription("provider/multicast/one/two", "exact", STRING_TYPES);
+        subject.addSubscription("provider/multicast/+/two", "singleLevel", STRING_TYPES);
+        subject.addSubscription("provider/multicast/*", "multiLevel", STRING_TYPES);
+        subject.addSubscription("provider/other/*", "other", STRING_TYPES);
+
+        assertEquals(setOf("exact", "singleLevel", "multiLevel"),
+                     subject.getSubscriptionIds("provider/multicast/one/two"));
+        assertEquals(setOf("singleLevel", "multiLevel"), subject.getSubscriptionIds("provider/multicast/three/two"));
+    }
+
+    @Test
+    public void outParameterTypesOfFirstMatchingRegistrationAreReturned() {
+        subject.addSubscription("provider/multicast/+", "wildcard", INTEGER_TYPES);
+        subject.addSubscription("provider/multicast/one", "exact1", STRING_TYPES);
+        subject.addSubscription("provider/multicast/one", "exact2", INTEGER_TYPES);
+
+        assertArrayEquals(STRING_TYPES, subject.getOutParameterTypes("provider/multicast/one"));
+        assertArrayEquals(INTEGER_TYPES, subject.getOutParameterTypes("provider/multicast/two"));
+        assertNull(subject.getOutParameterTypes("provider/other/one"));
+    }
+
+    @Test
+    public void removeSubscriptionRemovesAllRegistrationsOfTheSubscription() {
+        subject.addSubscription("provider1/multicast/one", "subscription", STRING_TYPES);
+        subject.addSubscription("provider2/multicast/+", "subscription", STRING_TYPES);
+        subject.addSubscription("provider2/multicast/+", "otherSubscription", STRING_TYPES);
+
+        subject.removeSubscription("subscription");
+
+        assertTrue(subject.getSubscriptionIds("provider1/multicast/one").isEmpty());
+        assertNull(subject.getOutParameterTypes("provider1/multicast/one"));
+        assertEquals(setOf("otherSubscription"), subject.getSubscriptionIds("provider2/multicast/one"));
+
+        subject.removeSubscription("otherSubscription");
+
+        assertTrue(subject.getSubscriptionIds("provider2/multicast/one").isEmpty());
+        assertNull(subject.getOutParameterTypes("provider2/multicast/one"));
+    }
+
+    @Test(timeout = 30000)
+    public void lookupWithTenThousandPartitionedSubscriptions() {
+        final int numberOfSubscriptions = 10000;
+        final int numberOfPublications = 100000;
+        for (int i = 0; i < numberOfSubscriptions; i++) {
+            String partition = "partition" + i;
+            subject.addSubscription(MulticastIdUtil.createMulticastId("provider", "multicast", partition, "+"),
+                                    "wildcard" + i,
+                                    STRING_TYPES);
+            subject.addSubscription(MulticastIdUtil.createMulticastId("provider", "multicast", partition, "exact"),
+                                    "exact" + i,
+                                    STRING_TYPES);
+        }
+
+        long startNs = System.nanoTime();
+        for (int i = 0; i < numberOfPublications; i++) {
+            int index = i % numberOfSubscriptions;
+            String multicastId = MulticastIdUtil.createMulticastId("provider",
+                                                                   "multicast",
+                                                                   "partition" + index,
+                                                                   "exact");
+            assertEquals(setOf("wildcard" + index, "exact" + index), subject.getSubscriptionIds(multicastId));
+        }
+        long durationNs = System.nanoTime() - startNs;
+        logger.info("{} lookups with {} multicast subscriptions took {} ms",
+                    numberOfPublications,
+                    2 * numberOfSubscriptions,
+                    durationNs / 1000000);
+    }
+}
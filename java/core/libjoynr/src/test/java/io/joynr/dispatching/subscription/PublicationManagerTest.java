@@ -143,6 +143,7 @@ public class PublicationManagerTest {
                                                         providerDirectory,
                                                         routingTable,
                                                         cleanupScheduler,
+                                                        cleanupScheduler,
                                                         shutdownNotifier);
 
         requestCaller = new RequestCallerFactory().create(provider);
@@ -180,6 +181,7 @@ public class PublicationManagerTest {
                                                                            requestCallerDirectory,
                                                                            routingTable,
                                                                            cleanupScheduler,
+                                                                           cleanupScheduler,
                                                                            shutdownNotifier);
 
         when(requestCallerDirectory.get(eq(providerId))).thenReturn(providerContainer);
@@ -235,6 +237,7 @@ public class PublicationManagerTest {
                                                                            providerDirectory,
                                                                            routingTable,
                                                                            cleanupScheduler,
+                                                                           cleanupScheduler,
                                                                            shutdownNotifier);
 
         verifyNoMoreInteractions(routingTable);
@@ -290,6 +293,7 @@ public class PublicationManagerTest {
                                                                            providerDirectory,
                                                                            routingTable,
                                                                            cleanupScheduler,
+                                                                           cleanupScheduler,
                                                                            shutdownNotifier);
 
         verifyNoMoreInteractions(routingTable);
@@ -809,6 +813,7 @@ public class PublicationManagerTest {
                                                         providerDirectory,
                                                         routingTable,
                                                         cleanupScheduler,
+                                                        cleanupScheduler,
                                                         shutdownNotifier);
 
         long minInterval_ms = 0;
@@ -859,6 +864,7 @@ public class PublicationManagerTest {
                                                         providerDirectory,
                                                         routingTable,
                                                         cleanupScheduler,
+                                                        cleanupScheduler,
                                                         shutdownNotifier);
 
         long minInterval_ms = 0;
@@ -918,6 +924,7 @@ public class PublicationManagerTest {
                                                         providerDirectory,
                                                         routingTable,
                                                         cleanupScheduler,
+                                                        cleanupScheduler,
                                                         shutdownNotifier);
 
         long minInterval_ms = 0;
@@ -970,6 +977,7 @@ public class PublicationManagerTest {
                                                         providerDirectory,
                                                         routingTable,
                                                         cleanupScheduler,
+                                                        cleanupScheduler,
                                                         shutdownNotifier);
 
         long minInterval_ms = 0;
@@ -1018,6 +1026,7 @@ public class PublicationManagerTest {
                                                         providerDirectory,
                                                         routingTable,
                                                         cleanupScheduler,
+                                                        cleanupScheduler,
                                                         shutdownNotifier);
         int period = 200;
         final int toleranceMs = period - 50;
@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -30,6 +31,7 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -85,6 +87,7 @@ public class PublicationTimersTest {
     private AttributePollInterpreter attributePollInterpreter;
 
     private ScheduledExecutorService cleanupScheduler = Executors.newSingleThreadScheduledExecutor();
+    private ScheduledExecutorService timerScheduler = Executors.newSingleThreadScheduledExecutor();
 
     @Mock
     private SubscriptionTestsProviderImpl provider;
@@ -101,9 +104,9 @@ public class PublicationTimersTest {
         Deferred<String> testAttributeDeferred = new Deferred<String>();
         testAttributeDeferred.resolve("testAttributeValue");
         Promise<Deferred<String>> testAttributePromise = new Promise<Deferred<String>>(testAttributeDeferred);
-        Mockito.doReturn(Optional.of(testAttributePromise))
-               .when(attributePollInterpreter)
-               .execute(any(ProviderContainer.class), any(Method.class));
+        lenient().doReturn(Optional.of(testAttributePromise))
+                 .when(attributePollInterpreter)
+                 .execute(any(ProviderContainer.class), any(Method.class));
     }
 
     @SuppressWarnings("unchecked")
@@ -127,6 +130,7 @@ public class PublicationTimersTest {
                                                                            providerDirectory,
                                                                            Mockito.mock(RoutingTable.class),
                                                                            cleanupScheduler,
+                                                                           timerScheduler,
                                                                            shutdownNotifier);
 
         when(providerDirectory.get(eq(providerId))).thenReturn(providerContainer);
@@ -150,4 +154,49 @@ public class PublicationTimersTest {
         verifyNoMoreInteractions(dispatcher);
     }
 
+    @Test(timeout = 4000)
+    public void blockingGetterDoesNotDelayCleanupTasks() throws InterruptedException {
+        int period = 100;
+        int subscriptionLength = 500;
+        PeriodicSubscriptionQos qos = new PeriodicSubscriptionQos();
+        qos.setPeriodMs(period).setValidityMs(subscriptionLength).setPublicationTtlMs(1000);
+        String proxyId = "proxyId";
+        String providerId = "providerId";
+
+        // the initial publication is triggered by the subscribing thread, only the timer's getter calls block
+        final Thread subscribingThread = Thread.currentThread();
+        final CountDownLatch getterReleased = new CountDownLatch(1);
+        Deferred<String> testAttributeDeferred = new Deferred<String>();
+        testAttributeDeferred.resolve("testAttributeValue");
+        Promise<Deferred<String>> testAttributePromise = new Promise<Deferred<String>>(testAttributeDeferred);
+        Mockito.doAnswer(invocation -> {
+            if (Thread.currentThread() != subscribingThread) {
+                getterReleased.await();
+            }
+            return Optional.of(testAttributePromise);
+        }).when(attributePollInterpreter).execute(any(ProviderContainer.class), any(Method.class));
+
+        ProviderDirectory providerDirectory = Mockito.mock(ProviderDirectory.class);
+        RoutingTable routingTable = Mockito.mock(RoutingTable.class);
+        PublicationManager publicationManager = new PublicationManagerImpl(attributePollInterpreter,
+                                                                           dispatcher,
+                                                                           providerDirectory,
+                                                                           routingTable,
+                                                                           cleanupScheduler,
+                                                                           timerScheduler,
+                                                                           shutdownNotifier);
+        when(providerDirectory.get(eq(providerId))).thenReturn(providerContainer);
+
+        try {
+            publicationManager.addSubscriptionRequest(proxyId,
+                                                      providerId,
+                                                      new SubscriptionRequest("subscriptionId", attributeName, qos));
+
+            // the subscription end runnable removes the expired subscription while the getter is still blocked
+            verify(routingTable, timeout(subscriptionLength + 1000)).remove(proxyId);
+            verify(attributePollInterpreter, times(2)).execute(any(ProviderContainer.class), any(Method.class));
+        } finally {
+            getterReleased.countDown();
+        }
+    }
 }
@@ -111,6 +111,7 @@ public class PushingPublicationTest {
                                                         providerDirectory,
                                                         Mockito.mock(RoutingTable.class),
                                                         cleanupScheduler,
+                                                        cleanupScheduler,
                                                         shutdownNotifier);
         subscriptionId = "subscriptionId";
         proxyId = "proxyId";
@@ -23,7 +23,6 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -49,7 +48,6 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -74,7 +72,6 @@ import io.joynr.exceptions.JoynrSendBufferFullException;
 import io.joynr.exceptions.SubscriptionException;
 import io.joynr.messaging.MessagingQos;
 import io.joynr.messaging.MulticastReceiverRegistrar;
-import io.joynr.messaging.util.MulticastWildcardRegexFactory;
 import io.joynr.proxy.Future;
 import io.joynr.proxy.invocation.AttributeSubscribeInvocation;
 import io.joynr.proxy.invocation.BroadcastSubscribeInvocation;
@@ -109,11 +106,10 @@ public class SubscriptionManagerTest {
 
     private ConcurrentMap<String, AttributeSubscriptionListener<?>> attributeSubscriptionDirectory = spy(new ConcurrentHashMap<String, AttributeSubscriptionListener<?>>());
     private ConcurrentMap<String, BroadcastSubscriptionListener> broadcastSubscriptionDirectory = spy(new ConcurrentHashMap<String, BroadcastSubscriptionListener>());
-    private ConcurrentMap<Pattern, Set<String>> multicastSubscribersDirectory = spy(new ConcurrentHashMap<Pattern, Set<String>>());
+    private MulticastSubscriberIndex multicastSubscriberIndex = spy(new MulticastSubscriberIndex());
     private ConcurrentMap<String, SubscriptionState> subscriptionStates = spy(new ConcurrentHashMap<String, SubscriptionState>());
     private ConcurrentMap<String, MissedPublicationTimer> missedPublicationTimers = spy(new ConcurrentHashMap<String, MissedPublicationTimer>());
     private ConcurrentMap<String, Class<?>[]> unicastBroadcastTypes = spy(new ConcurrentHashMap<String, Class<?>[]>());
-    private ConcurrentMap<Pattern, Class<?>[]> multicastBroadcastTypes = spy(new ConcurrentHashMap<Pattern, Class<?>[]>());
     private ConcurrentMap<String, Future<String>> subscriptionFutureMap = spy(new ConcurrentHashMap<String, Future<String>>());
     private ConcurrentMap<String, List<MulticastInformation>> subscriptionIdToMulticastInformationMap = spy(new ConcurrentHashMap<String, List<MulticastInformation>>());
 
@@ -138,30 +134,27 @@ public class SubscriptionManagerTest {
     @Mock
     private Dispatcher dispatcher;
 
-    @Mock
-    private MulticastWildcardRegexFactory multicastWildcardRegexFactory;
-
     @Mock
     private MulticastReceiverRegistrar mockMulticastReceiverRegistrar;
 
     private ArgumentMatcher<SubscriptionState> matchesSubscriptionStateContainingProxy;
+    private final ArgumentMatcher<Runnable> isSubscriptionEndRunnable = runnable -> !(runnable instanceof MissedPublicationTimer.MissedPublicationTask);
 
     @Before
     public void setUp() {
         subscriptionManager = new SubscriptionManagerImpl(attributeSubscriptionDirectory,
                                                           broadcastSubscriptionDirectory,
-                                                          multicastSubscribersDirectory,
+                                                          multicastSubscriberIndex,
                                                           subscriptionStates,
                                                           missedPublicationTimers,
                                                           subscriptionEndFutures,
                                                           subscriptionAttributeTypes,
                                                           unicastBroadcastTypes,
-                                                          multicastBroadcastTypes,
                                                           subscriptionFutureMap,
                                                           subscriptionIdToMulticastInformationMap,
                                                           cleanupScheduler,
+                                                          cleanupScheduler,
                                                           dispatcher,
-                                                          multicastWildcardRegexFactory,
                                                           mockMulticastReceiverRegistrar);
         subscriptionId = "testSubscription";
 
@@ -194,7 +187,8 @@ public class SubscriptionManagerTest {
                                                             alertInterval_ms,
                                                             attributeSubscriptionCallback,
                                                             subscriptionState,
-                                                            subscriptionId);
+                                                            subscriptionId,
+                                                            mock(ScheduledExecutorService.class));
 
         qosSettings = new MessagingQos();
         fromParticipantId = "fromParticipantId";
@@ -252,12 +246,16 @@ public class SubscriptionManagerTest {
 
         ArgumentCaptor<Long> capturedExpiryInterval = ArgumentCaptor.forClass(Long.class);
         long remainingExpiryDateMs = onChangeQos.getExpiryDateMs() - System.currentTimeMillis();
-        verify(cleanupScheduler).schedule(Mockito.any(Runnable.class),
+        verify(cleanupScheduler).schedule(argThat(isSubscriptionEndRunnable),
                                           capturedExpiryInterval.capture(),
                                           Mockito.eq(TimeUnit.MILLISECONDS));
         assertTrue(capturedExpiryInterval.getValue() >= remainingExpiryDateMs
                 && capturedExpiryInterval.getValue() <= remainingExpiryDateMs + 100);
         verify(subscriptionEndFutures, Mockito.times(1)).put(Mockito.eq(subscriptionId), any());
+        // the missed publication timer shares the scheduler
+        verify(cleanupScheduler).schedule(Mockito.any(MissedPublicationTimer.MissedPublicationTask.class),
+                                          Mockito.eq(0L),
+                                          Mockito.eq(TimeUnit.MILLISECONDS));
 
         verify(dispatcher).sendSubscriptionRequest(eq(fromParticipantId),
                                                    eq(new HashSet<DiscoveryEntryWithMetaInfo>(Arrays.asList(toDiscoveryEntry))),
@@ -290,9 +288,18 @@ public class SubscriptionManagerTest {
 
         ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
         verify(subscriptionEndFutures, Mockito.times(1)).put(Mockito.eq(subscriptionId), any());
-        verify(cleanupScheduler).schedule(runnableCaptor.capture(), anyLong(), Mockito.eq(TimeUnit.MILLISECONDS));
-
-        Runnable r = runnableCaptor.getValue();
+        verify(cleanupScheduler).schedule(argThat(isSubscriptionEndRunnable),
+                                          anyLong(),
+                                          Mockito.eq(TimeUnit.MILLISECONDS));
+        verify(cleanupScheduler, times(2)).schedule(runnableCaptor.capture(),
+                                                    anyLong(),
+                                                    Mockito.eq(TimeUnit.MILLISECONDS));
+
+        Runnable r = runnableCaptor.getAllValues()
+                                   .stream()
+                                   .filter(isSubscriptionEndRunnable::matches)
+                                   .findFirst()
+                                   .get();
         r.run();
         verify(subscriptionEndFutures, times(2)).remove(eq(subscriptionId));
         verify(future, times(0)).cancel(anyBoolean());
@@ -352,7 +359,7 @@ public class SubscriptionManagerTest {
         verify(attributeSubscriptionDirectory).put(Mockito.anyString(), Mockito.eq(attributeSubscriptionCallback));
         verify(subscriptionStates).put(Mockito.anyString(), argThat(matchesSubscriptionStateContainingProxy));
 
-        verify(cleanupScheduler, never()).schedule(Mockito.any(Runnable.class),
+        verify(cleanupScheduler, never()).schedule(argThat(isSubscriptionEndRunnable),
                                                    Mockito.anyLong(),
                                                    Mockito.any(TimeUnit.class));
         verify(subscriptionEndFutures, never()).put(Mockito.anyString(), Mockito.any(ScheduledFuture.class));
@@ -406,10 +413,6 @@ public class SubscriptionManagerTest {
             args = new Object[]{ subscriptionId, listener, subscriptionQos, partitions };
         }
         String multicastId = MulticastIdUtil.createMulticastId(toParticipantId, "myMulticast", partitions);
-        Set<String> subscriptionIdSet = new HashSet<>();
-        Pattern multicastIdPattern = Pattern.compile(multicastId);
-        multicastSubscribersDirectory.put(multicastIdPattern, subscriptionIdSet);
-        when(multicastWildcardRegexFactory.createIdPattern(multicastId)).thenReturn(multicastIdPattern);
 
         MulticastSubscribeInvocation invocation = new MulticastSubscribeInvocation(method, args, future, proxy);
 
@@ -421,7 +424,8 @@ public class SubscriptionManagerTest {
 
         verify(subscriptionStates).put(eq(invocation.getSubscriptionId()),
                                        argThat(matchesSubscriptionStateContainingProxy));
-        verify(multicastSubscribersDirectory).put(any(Pattern.class), anySet());
+        verify(multicastSubscriberIndex).addSubscription(eq(multicastId), eq(invocation.getSubscriptionId()), any());
+        Set<String> subscriptionIdSet = multicastSubscriberIndex.getSubscriptionIds(multicastId);
         assertEquals(1, subscriptionIdSet.size());
         if (subscriptionId != null) {
             assertEquals(subscriptionId, subscriptionIdSet.iterator().next());
@@ -628,23 +632,18 @@ public class SubscriptionManagerTest {
 
     @Test
     public void testHandleMulticastSubscriptionWithWildcardSubscribers() {
-        Pattern subscriberOnePattern = Pattern.compile("one/[^/]+/three");
+        @SuppressWarnings("rawtypes")
+        Class[] types = new Class[]{ String.class };
+
         String subscriberOneId = "one";
-        multicastSubscribersDirectory.putIfAbsent(subscriberOnePattern,
-                                                  new HashSet<String>(Arrays.asList(subscriberOneId)));
+        multicastSubscriberIndex.addSubscription("one/+/three", subscriberOneId, types);
 
-        Pattern subscriberTwoPattern = Pattern.compile("one/two/three");
         String subscriberTwoId = "two";
-        multicastSubscribersDirectory.putIfAbsent(subscriberTwoPattern,
-                                                  new HashSet<String>(Arrays.asList(subscriberTwoId)));
+        multicastSubscriberIndex.addSubscription("one/two/three", subscriberTwoId, types);
 
-        Pattern subscriberThreePattern = Pattern.compile("four/five/six");
         String subscriberThreeId = "three";
-        multicastSubscribersDirectory.putIfAbsent(subscriberThreePattern,
-                                                  new HashSet<String>(Arrays.asList(subscriberThreeId)));
+        multicastSubscriberIndex.addSubscription("four/five/six", subscriberThreeId, types);
 
-        @SuppressWarnings("rawtypes")
-        Class[] types = new Class[]{ String.class };
         unicastBroadcastTypes.putIfAbsent(subscriberOneId, types);
         unicastBroadcastTypes.putIfAbsent(subscriberTwoId, types);
         unicastBroadcastTypes.putIfAbsent(subscriberThreeId, types);
@@ -18,6 +18,8 @@
  */
 package io.joynr.dispatching.subscription;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.spy;
@@ -27,13 +29,15 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import java.util.regex.Pattern;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -54,7 +58,6 @@ import io.joynr.exceptions.JoynrMessageNotSentException;
 import io.joynr.exceptions.JoynrSendBufferFullException;
 import io.joynr.exceptions.SubscriptionException;
 import io.joynr.messaging.MulticastReceiverRegistrar;
-import io.joynr.messaging.util.MulticastWildcardRegexFactory;
 import io.joynr.proxy.Future;
 import io.joynr.proxy.invocation.AttributeSubscribeInvocation;
 import io.joynr.proxy.invocation.MulticastSubscribeInvocation;
@@ -92,9 +95,6 @@ public class SubscriptionTimersTest {
     @Mock
     private ShutdownNotifier shutdownNotifier;
 
-    @Mock
-    private MulticastWildcardRegexFactory multicastWildcardRegexFactory;
-
     @Mock
     private MulticastReceiverRegistrar mockMulticastReceiverRegistrar;
 
@@ -118,8 +118,8 @@ public class SubscriptionTimersTest {
     public void setUp() {
         subscriptionEndScheduler = Executors.newScheduledThreadPool(10);
         subscriptionManager = new SubscriptionManagerImpl(subscriptionEndScheduler,
+                                                          subscriptionEndScheduler,
                                                           dispatcher,
-                                                          multicastWildcardRegexFactory,
                                                           shutdownNotifier,
                                                           mockMulticastReceiverRegistrar);
         attributeName = "testAttribute";
@@ -192,8 +192,6 @@ public class SubscriptionTimersTest {
                                                                                                      args,
                                                                                                      future,
                                                                                                      proxy);
-        Mockito.when(multicastWildcardRegexFactory.createIdPattern(Mockito.anyString()))
-               .thenReturn(Pattern.compile("."));
         subscriptionManager.registerMulticastSubscription(fromParticipantId,
                                                           new HashSet<DiscoveryEntryWithMetaInfo>(Arrays.asList(toDiscoveryEntry)),
                                                           multicastSubscribeInvocation);
@@ -282,4 +280,37 @@ public class SubscriptionTimersTest {
         verifyNoMoreInteractions(attributeSubscriptionCallback);
         logger.trace("finishing test.");
     }
+
+    @Test(timeout = 60000)
+    public void missedPublicationTimersShareSchedulerThreads() throws InterruptedException {
+        final int numberOfSubscriptions = 100000;
+        final int numberOfSchedulerThreads = 2;
+        ScheduledThreadPoolExecutor timerScheduler = new ScheduledThreadPoolExecutor(numberOfSchedulerThreads);
+        timerScheduler.setRemoveOnCancelPolicy(true);
+        int threadCountBefore = Thread.activeCount();
+
+        List<MissedPublicationTimer> timers = new ArrayList<>(numberOfSubscriptions);
+        for (int i = 0; i < numberOfSubscriptions; i++) {
+            timers.add(new MissedPublicationTimer(System.currentTimeMillis() + 60000,
+                                                  30000,
+                                                  30000,
+                                                  attributeSubscriptionCallback,
+                                                  new PubSubState(false, false, System.currentTimeMillis()),
+                                                  "subscriptionId" + i,
+                                                  timerScheduler));
+        }
+        // wait until every timer has run once and rescheduled itself
+        while (timerScheduler.getCompletedTaskCount() < numberOfSubscriptions) {
+            Thread.sleep(10);
+        }
+        assertTrue(Thread.activeCount() - threadCountBefore <= numberOfSchedulerThreads);
+        assertEquals(numberOfSubscriptions, timerScheduler.getQueue().size());
+
+        for (MissedPublicationTimer timer : timers) {
+            timer.cancel();
+        }
+        assertEquals(0, timerScheduler.getQueue().size());
+        timerScheduler.shutdown();
+        verifyNoMoreInteractions(attributeSubscriptionCallback);
+    }
 }
@@ -23,15 +23,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -69,12 +66,13 @@ import io.joynr.messaging.routing.MessageQueue;
 import io.joynr.messaging.routing.MessagingStubFactory;
 import io.joynr.messaging.tracking.MessageTrackerForGracefulShutdown;
 import io.joynr.runtime.ShutdownNotifier;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
+import io.joynr.statusmetrics.LatencyStage;
 import io.joynr.util.JoynrThreadFactory;
 import io.joynr.util.ObjectMapper;
 import joynr.ImmutableMessage;
 import joynr.MutableMessage;
 import joynr.Request;
-import joynr.exceptions.ProviderRuntimeException;
 import joynr.system.RoutingProxy;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.BinderAddress;
@@ -123,6 +121,8 @@ public class LibJoynrMessageRouterTest {
     private MessageQueue messageQueue;
     @Mock
     private MessageTrackerForGracefulShutdown messageTrackerMock;
+
+    private JoynrStatusMetricsAggregator statusMetrics = new JoynrStatusMetricsAggregator();
     private LibJoynrMessageRouter messageRouter;
     private LibJoynrMessageRouter messageRouterForUdsAddresses;
     private MutableMessage joynrMessage;
@@ -144,6 +144,7 @@ public class LibJoynrMessageRouterTest {
                                                   shutdownNotifier,
                                                   dispatcherMock,
                                                   messageTrackerMock,
+                                                  statusMetrics,
                                                   parentAddress);
         messageRouterForUdsAddresses = new LibJoynrMessageRouter(incomingUdsClientAddress,
                                                                  provideMessageSchedulerThreadPoolExecutor(),
@@ -153,6 +154,7 @@ public class LibJoynrMessageRouterTest {
                                                                  shutdownNotifier,
                                                                  dispatcherMock,
                                                                  messageTrackerMock,
+                                                                 statusMetrics,
                                                                  parentAddress);
         messageRouter.setParentRouter(messageRouterParent, "proxyParticipantId");
         ObjectMapper objectMapper = new ObjectMapper();
@@ -164,10 +166,12 @@ public class LibJoynrMessageRouterTest {
                                                     new MessagingQos());
     }
 
-    @Test(expected = ProviderRuntimeException.class)
-    public void setParentRouter_UdsClientAddress_throws() {
-        // throws because UdsClientAddress is not supported in Java
+    @Test
+    public void setParentRouter_UdsClientAddress_addsNextHopToParent() {
         messageRouterForUdsAddresses.setParentRouter(messageRouterParentUdsAddress, "anotherProxyParticipantId");
+        verify(messageRouterParentUdsAddress).addNextHop(eq("anotherProxyParticipantId"),
+                                                         eq(incomingUdsClientAddress),
+                                                         eq(false));
     }
 
     @Test
@@ -183,6 +187,7 @@ public class LibJoynrMessageRouterTest {
                                                                              shutdownNotifier,
                                                                              dispatcherMock,
                                                                              messageTrackerMock,
+                                                                             statusMetrics,
                                                                              parentAddress);
         Field messageWorkerField = LibJoynrMessageRouter.class.getDeclaredField("messageWorkers");
         messageWorkerField.setAccessible(true);
@@ -198,12 +203,12 @@ public class LibJoynrMessageRouterTest {
 
     @Test
     public void passesAddNextHopToParent_UdsClientAddress() {
-        // parent router is not called because UdsClientAddress is not supported
         final boolean isGloballyVisible = true;
+        messageRouterForUdsAddresses.setParentRouter(messageRouterParentUdsAddress, "anotherProxyParticipantId");
         messageRouterForUdsAddresses.addNextHop(UNKNOWN_PARTICIPANT_ID, nextHopAddress, isGloballyVisible);
-        verify(messageRouterParentUdsAddress, times(0)).addNextHop(anyString(),
-                                                                   any(UdsClientAddress.class),
-                                                                   anyBoolean());
+        verify(messageRouterParentUdsAddress).addNextHop(eq(UNKNOWN_PARTICIPANT_ID),
+                                                         eq(incomingUdsClientAddress),
+                                                         eq(isGloballyVisible));
     }
 
     ScheduledExecutorService provideMessageSchedulerThreadPoolExecutor() {
@@ -271,6 +276,25 @@ public class LibJoynrMessageRouterTest {
         verify(messagingStubFactory, timeout(1000)).create(parentAddress);
         verify(messagingStub, timeout(1000)).transmit(eq(immutableMessage), any(), any());
         verify(dispatcherMock, never()).messageArrived(any());
+        assertEquals(1, statusMetrics.getLatencyHistogram(LatencyStage.MESSAGE_QUEUE).getCount());
+        assertEquals(1, statusMetrics.getLatencyHistogram(LatencyStage.ROUTING).getCount());
+    }
+
+    @Test
+    public void routeOutIsReportedToRouterGauges() throws Exception {
+        ImmutableMessage immutableMessage = joynrMessage.getImmutableMessage();
+        immutableMessage.setReceivedFromGlobal(false);
+        messageRouter.routeOut(immutableMessage);
+
+        ArgumentCaptor<SuccessAction> successActionCaptor = ArgumentCaptor.forClass(SuccessAction.class);
+        verify(messagingStub, timeout(1000)).transmit(eq(immutableMessage), successActionCaptor.capture(), any());
+        final String addressType = MqttAddress.class.getSimpleName();
+        assertEquals(Long.valueOf(1), statusMetrics.getNumInFlightSends().get(addressType));
+        assertEquals(0, statusMetrics.getNumQueuedMessages());
+
+        successActionCaptor.getValue().execute();
+        successActionCaptor.getValue().execute();
+        assertEquals(Long.valueOf(0), statusMetrics.getNumInFlightSends().get(addressType));
     }
 
     @Test
@@ -283,6 +307,7 @@ public class LibJoynrMessageRouterTest {
                                                                                 shutdownNotifier,
                                                                                 dispatcherMock,
                                                                                 messageTrackerMock,
+                                                                                statusMetrics,
                                                                                 parentAddress);
         String routingProxyParticipantId = "proxyParticipantId";
         String[] participantIdsAdd = new String[]{ "participant0", "participant1", "participant2", "participant3" };
@@ -324,6 +349,7 @@ public class LibJoynrMessageRouterTest {
                                                                                 shutdownNotifier,
                                                                                 dispatcherMock,
                                                                                 messageTrackerMock,
+                                                                                statusMetrics,
                                                                                 parentAddress);
         String[] multicastIds = new String[]{ "multicastId1", "multicastId2", "multicastId3" };
         String[] subscriberParticipantIds = new String[]{ "subscriberParticipantId1", "subscriberParticipantId2",
@@ -19,6 +19,7 @@
 package io.joynr.messaging.tracking;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doAnswer;
@@ -66,6 +67,7 @@ public class MessageTrackerForGracefulShutdownTest {
         messageTracker = getMessageTracker();
         when(immutableMessage.getType()).thenReturn(oneWayRequestType);
         when(immutableMessage.getId()).thenReturn(messageId);
+        mockMessageTrackerRegistration(immutableMessage);
     }
 
     @Test(expected = JoynrIllegalStateException.class)
@@ -128,19 +130,35 @@ public class MessageTrackerForGracefulShutdownTest {
     }
 
     @Test
-    public void testUnregisterAfterExpiredReplyCaller() {
+    public void testUnregisterAfterExpiredReplyCaller() throws Exception {
         final String requestReplyId = "requestReplyId";
         final Map<String, String> customHeader = new HashMap<>();
         customHeader.put(Message.CUSTOM_HEADER_REQUEST_REPLY_ID, requestReplyId);
+        setMessageTrackerPrepareForShutdownTimeout(2);
 
         when(immutableMessage.getType()).thenReturn(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST);
         when(immutableMessage.getCustomHeaders()).thenReturn(customHeader);
+        final Thread prepareForShutdownThread = new Thread(messageTracker::prepareForShutdown);
+        prepareForShutdownThread.start();
+        Thread.sleep(100);
         messageTracker.register(immutableMessage);
         final int registerNumber = messageTracker.getNumberOfRegisteredMessages();
         messageTracker.unregisterAfterReplyCallerExpired(requestReplyId);
         final int afterUnregisterNumber = messageTracker.getNumberOfRegisteredMessages();
         assertEquals(1, registerNumber);
         assertEquals(0, afterUnregisterNumber);
+        prepareForShutdownThread.join(1000);
+        assertFalse(prepareForShutdownThread.isAlive());
+    }
+
+    @Test
+    public void testUnregisterAfterExpiredReplyCallerIsIgnoredBeforePrepareForShutdown() {
+        final String requestReplyId = "requestReplyId";
+
+        when(immutableMessage.getType()).thenReturn(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST);
+        messageTracker.register(immutableMessage);
+        messageTracker.unregisterAfterReplyCallerExpired(requestReplyId);
+        assertEquals(1, messageTracker.getNumberOfRegisteredMessages());
     }
 
     @Test
@@ -158,12 +176,23 @@ public class MessageTrackerForGracefulShutdownTest {
         assertEquals(0, registerNumber);
     }
 
+    @Test
+    public void testUnregisterMessageTwice() {
+        final ImmutableMessage otherMessage = createMessage(messageId + "-other");
+        messageTracker.register(immutableMessage);
+        messageTracker.register(otherMessage);
+        messageTracker.unregister(immutableMessage);
+        messageTracker.unregister(immutableMessage);
+        assertEquals(1, messageTracker.getNumberOfRegisteredMessages());
+        messageTracker.unregister(otherMessage);
+        assertEquals(0, messageTracker.getNumberOfRegisteredMessages());
+    }
+
     @Test
     public void testGetNumberOfRegisteredMessages() {
         final int numberOfMessages = 3;
         for (int i = 1; i <= numberOfMessages; i++) {
-            when(immutableMessage.getId()).thenReturn(messageId + "-" + i);
-            messageTracker.register(immutableMessage);
+            messageTracker.register(createMessage(messageId + "-" + i));
         }
         assertEquals(numberOfMessages, messageTracker.getNumberOfRegisteredMessages());
     }
@@ -288,21 +317,16 @@ public class MessageTrackerForGracefulShutdownTest {
     public void testRequestReplyRegistration() {
         final String requestMessageId = "requestMessageId";
         final String replyMessageId = "replyMessageId";
-        final String requestReplyId = "requestReplyId";
 
         final ImmutableMessage request = mock(ImmutableMessage.class);
-        final Map<String, String> requestHeaders = new HashMap<>();
-        requestHeaders.put(Message.CUSTOM_HEADER_REQUEST_REPLY_ID, requestReplyId);
         when(request.getType()).thenReturn(Message.MessageType.VALUE_MESSAGE_TYPE_REQUEST);
         when(request.getId()).thenReturn(requestMessageId);
-        when(request.getCustomHeaders()).thenReturn(requestHeaders);
+        mockMessageTrackerRegistration(request);
 
         final ImmutableMessage reply = mock(ImmutableMessage.class);
-        final Map<String, String> replyHeaders = new HashMap<>();
-        replyHeaders.put(Message.CUSTOM_HEADER_REQUEST_REPLY_ID, requestReplyId);
         when(reply.getType()).thenReturn(Message.MessageType.VALUE_MESSAGE_TYPE_REPLY);
         when(reply.getId()).thenReturn(replyMessageId);
-        when(reply.getCustomHeaders()).thenReturn(replyHeaders);
+        mockMessageTrackerRegistration(reply);
 
         assertEquals(0, messageTracker.getNumberOfRegisteredMessages());
         messageTracker.register(request);
@@ -326,6 +350,19 @@ public class MessageTrackerForGracefulShutdownTest {
         }).start();
     }
 
+    private ImmutableMessage createMessage(final String id) {
+        final ImmutableMessage message = mock(ImmutableMessage.class);
+        when(message.getType()).thenReturn(oneWayRequestType);
+        when(message.getId()).thenReturn(id);
+        mockMessageTrackerRegistration(message);
+        return message;
+    }
+
+    private void mockMessageTrackerRegistration(final ImmutableMessage message) {
+        when(message.registerInMessageTracker()).thenCallRealMethod();
+        when(message.unregisterFromMessageTracker()).thenCallRealMethod();
+    }
+
     private long invokePrepareForShutdown() {
         final long before = System.currentTimeMillis();
         messageTracker.prepareForShutdown();
@@ -22,6 +22,7 @@ import io.joynr.dispatching.RequestReplyManager;
 import io.joynr.dispatching.rpc.ReplyCallerDirectory;
 import io.joynr.dispatching.subscription.SubscriptionManager;
 import io.joynr.messaging.MessagingQos;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
 import joynr.types.DiscoveryEntryWithMetaInfo;
 import org.junit.Before;
 import org.mockito.Mock;
@@ -38,6 +39,7 @@ public abstract class AbstractJoynrMessagingConnectorInvocationHandlerTest {
     protected static final String TO_PARTICIPANT_ID = UUID.randomUUID().toString();
     protected static final String FROM_PARTICIPANT_ID = UUID.randomUUID().toString();
     protected static final String STATELESS_ASYNC_PARTICIPANT_ID = UUID.randomUUID().toString();
+    protected static final String INTERFACE_NAME = "test/interface";
 
     protected Method method;
     protected Object[] parameters;
@@ -56,6 +58,7 @@ public abstract class AbstractJoynrMessagingConnectorInvocationHandlerTest {
     protected SubscriptionManager subscriptionManager;
     @Mock
     protected StatelessAsyncIdCalculator statelessAsyncIdCalculator;
+    protected JoynrStatusMetricsAggregator statusMetrics;
 
     @Before
     public void setUp() {
@@ -63,9 +66,11 @@ public abstract class AbstractJoynrMessagingConnectorInvocationHandlerTest {
 
         toDiscoveryEntry = new DiscoveryEntryWithMetaInfo();
         toDiscoveryEntry.setParticipantId(TO_PARTICIPANT_ID);
+        toDiscoveryEntry.setInterfaceName(INTERFACE_NAME);
         toDiscoveryEntries = new HashSet<>();
         toDiscoveryEntries.add(toDiscoveryEntry);
 
+        statusMetrics = new JoynrStatusMetricsAggregator();
         handler = createHandler(toDiscoveryEntries);
     }
 
@@ -77,7 +82,8 @@ public abstract class AbstractJoynrMessagingConnectorInvocationHandlerTest {
                                                             replyCallerDirectory,
                                                             subscriptionManager,
                                                             statelessAsyncIdCalculator,
-                                                            STATELESS_ASYNC_PARTICIPANT_ID);
+                                                            STATELESS_ASYNC_PARTICIPANT_ID,
+                                                            statusMetrics);
     }
 
     protected void addNewDiscoveryEntry() {
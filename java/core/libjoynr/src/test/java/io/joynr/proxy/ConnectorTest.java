@@ -36,6 +36,7 @@ import io.joynr.proxy.invocation.UnsubscribeInvocation;
 import io.joynr.pubsub.SubscriptionQos;
 import io.joynr.pubsub.subscription.AttributeSubscriptionAdapter;
 import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
 import joynr.BroadcastFilterParameters;
 import joynr.MulticastSubscriptionQos;
 import joynr.OnChangeSubscriptionQos;
@@ -364,7 +365,8 @@ public class ConnectorTest {
         final var joynrMessagingConnectorFactory = new JoynrMessagingConnectorFactory(requestReplyManager,
                                                                                       replyCallerDirectory,
                                                                                       subscriptionManager,
-                                                                                      statelessAsyncIdCalculator);
+                                                                                      statelessAsyncIdCalculator,
+                                                                                      new JoynrStatusMetricsAggregator());
         return new ConnectorFactory(joynrMessagingConnectorFactory, messageRouter, libJoynrMessagingAddress);
     }
 
@@ -24,6 +24,7 @@ import io.joynr.dispatching.rpc.RpcAsyncRequestReplyCaller;
 import io.joynr.exceptions.JoynrIllegalStateException;
 import io.joynr.exceptions.JoynrRuntimeException;
 import io.joynr.messaging.MessagingQos;
+import joynr.Reply;
 import joynr.Request;
 import joynr.types.DiscoveryEntryWithMetaInfo;
 import org.junit.Test;
@@ -34,6 +35,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Method;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -146,6 +148,25 @@ public class JoynrMessagingConnectorInvocationHandlerAsyncTest
         assertEquals(replyCallerExpiryDate, requestReplyManagerExpiryDate);
     }
 
+    @Test
+    public void testReceivedReplyIsReportedAsRoundTripLatency() throws NoSuchMethodException {
+        method = getAsyncMethod("someMethodWithAnnotation", Integer.class, String.class, Callback.class);
+        parameters = new Object[]{ 1, "test", null };
+        handler.executeAsyncMethod(proxy, method, parameters, future);
+
+        final ArgumentCaptor<String> requestReplyIdCaptor = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<ReplyCaller> replyCallerCaptor = ArgumentCaptor.forClass(ReplyCaller.class);
+        verify(replyCallerDirectory).addReplyCaller(requestReplyIdCaptor.capture(),
+                                                    replyCallerCaptor.capture(),
+                                                    any(ExpiryDate.class));
+        final String histogramKey = INTERFACE_NAME + "." + method.getName();
+        assertFalse(statusMetrics.getRpcRoundTripLatencyHistograms().containsKey(histogramKey));
+
+        replyCallerCaptor.getValue().messageCallBack(new Reply(requestReplyIdCaptor.getValue()));
+
+        assertEquals(1, statusMetrics.getRpcRoundTripLatencyHistograms().get(histogramKey).getCount());
+    }
+
     private Method getAsyncMethod(final String methodName,
                                   final Class<?>... parameterTypes) throws NoSuchMethodException {
         return getMethod(TestAsyncInterface.class, methodName, parameterTypes);
@@ -42,6 +42,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
@@ -134,6 +135,7 @@ public class ProxyBuilderDefaultImplTest {
                                                              proxyInvocationHandlerFactory,
                                                              shutdownNotifier,
                                                              statelessAsyncCallbackDirectory,
+                                                             new ProxyPool(mock(ScheduledExecutorService.class), 0),
                                                              MAX_MESSAGE_TTL,
                                                              DEFAULT_DISCOVERY_TIMEOUT_MS,
                                                              DEFAULT_RETRY_INTERVAL_MS,
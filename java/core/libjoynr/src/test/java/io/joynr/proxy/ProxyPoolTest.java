@@ -0,0 +1,159 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.joynr.arbitration.DiscoveryQos;
+import io.joynr.exceptions.DiscoveryException;
+import io.joynr.messaging.MessagingQos;
+import io.joynr.proxy.ProxyBuilder.ProxyCreatedCallback;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProxyPoolTest {
+    private static final long IDLE_TIMEOUT_MS = 60000;
+
+    private interface PooledInterface {
+        String getName();
+    }
+
+    @Mock
+    private ScheduledExecutorService cleanupScheduler;
+    @Mock
+    private ProxyCreatedCallback<PooledInterface> callback;
+
+    private ProxyPool subject;
+    private Set<String> domains;
+    private List<ProxyCreatedCallback<PooledInterface>> creatorCallbacks;
+
+    @Before
+    public void setUp() {
+        subject = new ProxyPool(cleanupScheduler, IDLE_TIMEOUT_MS);
+        domains = new HashSet<>();
+        domains.add("domain");
+        creatorCallbacks = new ArrayList<>();
+    }
+
+    private PooledInterface getProxy(MessagingQos messagingQos, String participantId) {
+        return subject.getProxy(PooledInterface.class,
+                                domains,
+                                new DiscoveryQos(),
+                                messagingQos,
+                                null,
+                                participantId,
+                                creatorCallback -> {
+                                    creatorCallbacks.add(creatorCallback);
+                                    return () -> participantId;
+                                },
+                                callback);
+    }
+
+    @Test
+    public void poolIsDisabledWithoutIdleTimeout() {
+        ProxyPool disabledPool = new ProxyPool(cleanupScheduler, 0);
+
+        assertFalse(disabledPool.isEnabled());
+        assertTrue(subject.isEnabled());
+        verify(cleanupScheduler).scheduleWithFixedDelay(any(Runnable.class),
+                                                        eq(IDLE_TIMEOUT_MS),
+                                                        eq(IDLE_TIMEOUT_MS),
+                                                        eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void identicalBuildsShareOnePooledProxy() {
+        PooledInterface firstFacade = getProxy(new MessagingQos(), "firstParticipantId");
+        PooledInterface secondFacade = getProxy(new MessagingQos(), "secondParticipantId");
+
+        assertEquals(1, creatorCallbacks.size());
+        assertNotSame(firstFacade, secondFacade);
+        assertEquals("firstParticipantId", secondFacade.getName());
+        assertEquals("firstParticipantId", ProxyPool.getParticipantId(secondFacade));
+        verify(callback, never()).onProxyCreationFinished(any());
+
+        creatorCallbacks.get(0).onProxyCreationFinished(null);
+        verify(callback).onProxyCreationFinished(firstFacade);
+        verify(callback).onProxyCreationFinished(secondFacade);
+
+        PooledInterface thirdFacade = getProxy(new MessagingQos(), "thirdParticipantId");
+        verify(callback).onProxyCreationFinished(thirdFacade);
+        assertEquals(1, creatorCallbacks.size());
+    }
+
+    @Test
+    public void buildsWithDifferentMessagingQosAreNotShared() {
+        getProxy(new MessagingQos(), "firstParticipantId");
+        MessagingQos messagingQos = new MessagingQos();
+        messagingQos.putCustomMessageHeader("key", "value");
+        PooledInterface facade = getProxy(messagingQos, "secondParticipantId");
+
+        assertEquals(2, creatorCallbacks.size());
+        assertEquals("secondParticipantId", facade.getName());
+    }
+
+    @Test
+    public void failedPooledProxyIsRemovedFromPool() {
+        PooledInterface facade = getProxy(new MessagingQos(), "firstParticipantId");
+        DiscoveryException error = new DiscoveryException("test");
+        creatorCallbacks.get(0).onProxyCreationError(error);
+        verify(callback).onProxyCreationError(error);
+
+        facade = getProxy(new MessagingQos(), "secondParticipantId");
+        assertEquals(2, creatorCallbacks.size());
+        assertEquals("secondParticipantId", facade.getName());
+    }
+
+    @Test
+    public void idlePooledProxiesAreEvictedAfterArbitration() throws Exception {
+        subject = new ProxyPool(cleanupScheduler, 1);
+        getProxy(new MessagingQos(), "firstParticipantId");
+        Thread.sleep(10);
+        subject.evictIdleProxies();
+        // arbitration is still pending
+        getProxy(new MessagingQos(), "secondParticipantId");
+        assertEquals(1, creatorCallbacks.size());
+
+        creatorCallbacks.get(0).onProxyCreationFinished(null);
+        Thread.sleep(10);
+        subject.evictIdleProxies();
+        PooledInterface facade = getProxy(new MessagingQos(), "thirdParticipantId");
+        assertEquals(2, creatorCallbacks.size());
+        assertEquals("thirdParticipantId", facade.getName());
+    }
+}
@@ -103,6 +103,8 @@ import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
 import io.joynr.runtime.SystemServicesSettings;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
 import io.joynr.util.JoynrThreadFactory;
 import joynr.MulticastSubscriptionQos;
 import joynr.OnChangeSubscriptionQos;
@@ -140,6 +142,7 @@ public class ProxyTest {
     private MessagingQos messagingQos;
 
     private String domain;
+    private Injector injector;
     private String fromParticipantId;
     private String toParticipantId;
     private String asyncReplyText = "replyText";
@@ -270,7 +273,7 @@ public class ProxyTest {
         toDiscoveryEntries.add(toDiscoveryEntry);
 
         MockitoAnnotations.initMocks(this);
-        Injector injector = Guice.createInjector(new AbstractModule() {
+        injector = Guice.createInjector(new AbstractModule() {
 
             @Override
             protected void configure() {
@@ -283,6 +286,7 @@ public class ProxyTest {
                 bind(RoutingTable.class).toInstance(routingTable);
                 bind(StatelessAsyncCallbackDirectory.class).toInstance(statelessAsyncCallbackDirectory);
                 bind(StatelessAsyncIdCalculator.class).toInstance(new DefaultStatelessAsyncIdCalculatorImpl("channel"));
+                bind(JoynrStatusMetricsReceiver.class).to(JoynrStatusMetricsAggregator.class);
                 install(new FactoryModuleBuilder().implement(ProxyInvocationHandler.class,
                                                              ProxyInvocationHandlerImpl.class)
                                                   .build(ProxyInvocationHandlerFactory.class));
@@ -302,6 +306,7 @@ public class ProxyTest {
                                                           injector.getInstance(ProxyInvocationHandlerFactory.class),
                                                           shutdownNotifier,
                                                           injector.getInstance(StatelessAsyncCallbackDirectory.class),
+                                                          new ProxyPool(mock(ScheduledExecutorService.class), 0),
                                                           MAX_TTL_MS,
                                                           DEFAULT_DISCOVERY_TIMEOUT_MS,
                                                           DEFAULT_RETRY_INTERVAL_MS,
@@ -523,6 +528,48 @@ public class ProxyTest {
         createProxyAndCallSyncMethodSuccess(privateMessagingQos);
     }
 
+    @Test
+    public void identicalBuildsShareArbitratedProxyIfPoolIsEnabled() throws Exception {
+        proxyBuilderFactory = new ProxyBuilderFactoryImpl(localDiscoveryAggregator,
+                                                          injector.getInstance(ProxyInvocationHandlerFactory.class),
+                                                          shutdownNotifier,
+                                                          injector.getInstance(StatelessAsyncCallbackDirectory.class),
+                                                          new ProxyPool(mock(ScheduledExecutorService.class), 60000),
+                                                          MAX_TTL_MS,
+                                                          DEFAULT_DISCOVERY_TIMEOUT_MS,
+                                                          DEFAULT_RETRY_INTERVAL_MS,
+                                                          ARBITRATION_MINIMUMRETRYDELAY,
+                                                          false);
+        Mockito.when(requestReplyManager.sendSyncRequest(Mockito.<String> any(),
+                                                         Mockito.<DiscoveryEntryWithMetaInfo> any(),
+                                                         Mockito.<Request> any(),
+                                                         Mockito.<SynchronizedReplyCaller> any(),
+                                                         Mockito.<MessagingQos> any(),
+                                                         Mockito.<ExpiryDate> any()))
+               .thenReturn(new Reply("requestReplyId", "Answer"));
+
+        ProxyBuilder<TestInterface> firstProxyBuilder = getProxyBuilder(TestInterface.class);
+        firstProxyBuilder.setMessagingQos(messagingQos).setDiscoveryQos(discoveryQos).build();
+        ProxyBuilder<TestInterface> secondProxyBuilder = getProxyBuilder(TestInterface.class);
+        TestInterface secondProxy = secondProxyBuilder.setMessagingQos(messagingQos)
+                                                      .setDiscoveryQos(discoveryQos)
+                                                      .build();
+
+        assertEquals(firstProxyBuilder.getParticipantId(), secondProxyBuilder.getParticipantId());
+        assertEquals("Answer", secondProxy.method1());
+        verify(localDiscoveryAggregator, times(1)).lookup(Mockito.<CallbackWithModeledError> any(),
+                                                          Mockito.<String[]> any(),
+                                                          Mockito.<String> any(),
+                                                          Mockito.<joynr.types.DiscoveryQos> any(),
+                                                          Mockito.<String[]> any());
+        verify(requestReplyManager).sendSyncRequest(eq(firstProxyBuilder.getParticipantId()),
+                                                    Mockito.<DiscoveryEntryWithMetaInfo> any(),
+                                                    Mockito.<Request> any(),
+                                                    Mockito.<SynchronizedReplyCaller> any(),
+                                                    Mockito.<MessagingQos> any(),
+                                                    Mockito.<ExpiryDate> any());
+    }
+
     @Test
     public void createProxyAndCallSyncMethodFailWithApplicationError() throws Exception {
         String requestReplyId = "createProxyAndCallSyncMethod_requestReplyId";
@@ -81,6 +81,8 @@ import io.joynr.provider.JoynrProvider;
 import io.joynr.provider.Promise;
 import io.joynr.provider.ProviderCallback;
 import io.joynr.runtime.PropertyLoader;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
 import joynr.Reply;
 import joynr.Request;
 import joynr.exceptions.ApplicationException;
@@ -188,6 +190,7 @@ public class RpcStubbingTest {
                                             protected void configure() {
                                                 requestStaticInjection(RpcUtils.class);
                                                 install(new JoynrMessageScopeModule());
+                                                bind(JoynrStatusMetricsReceiver.class).to(JoynrStatusMetricsAggregator.class);
                                                 MapBinder<Class<? extends Address>, AbstractMiddlewareMessagingStubFactory<? extends IMessagingStub, ? extends Address>> messagingStubFactory;
                                                 messagingStubFactory = MapBinder.newMapBinder(binder(),
                                                                                               new TypeLiteral<Class<? extends Address>>() {
@@ -242,7 +245,8 @@ public class RpcStubbingTest {
         JoynrMessagingConnectorFactory joynrMessagingConnectorFactory = new JoynrMessagingConnectorFactory(requestReplyManager,
                                                                                                            replyCallerDirectory,
                                                                                                            subscriptionManager,
-                                                                                                           statelessAsyncIdCalculator);
+                                                                                                           statelessAsyncIdCalculator,
+                                                                                                           new JoynrStatusMetricsAggregator());
         connector = joynrMessagingConnectorFactory.create(fromParticipantId,
                                                           new HashSet<DiscoveryEntryWithMetaInfo>(Arrays.asList(toDiscoveryEntry)),
                                                           messagingQos,
@@ -0,0 +1,107 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.joynr.dispatcher.rpc.RequestStatusCode;
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.exceptions.JoynrWaitExpiredException;
+import io.joynr.proxy.Future;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JoynrRuntimeTest {
+    @Mock
+    private ProviderRegistrar providerRegistrar1;
+    @Mock
+    private ProviderRegistrar providerRegistrar2;
+
+    private JoynrRuntime runtime;
+    private Future<Void> future1;
+    private Future<Void> future2;
+
+    @Before
+    public void setUp() {
+        runtime = mock(JoynrRuntime.class, CALLS_REAL_METHODS);
+        future1 = new Future<>();
+        future2 = new Future<>();
+        when(providerRegistrar1.register()).thenReturn(future1);
+        when(providerRegistrar2.register()).thenReturn(future2);
+    }
+
+    @Test
+    public void registerProvidersRegistersEachProvider() throws Exception {
+        Future<Void> future = runtime.registerProviders(Arrays.asList(providerRegistrar1, providerRegistrar2));
+
+        verify(providerRegistrar1).register();
+        verify(providerRegistrar2).register();
+        assertEquals(RequestStatusCode.IN_PROGRESS, future.getStatus().getCode());
+
+        future1.resolve();
+        assertEquals(RequestStatusCode.IN_PROGRESS, future.getStatus().getCode());
+
+        future2.resolve();
+        future.get(1000);
+        assertEquals(RequestStatusCode.OK, future.getStatus().getCode());
+    }
+
+    @Test
+    public void registerProvidersWaitsForAllRegistrations() throws Exception {
+        Future<Void> future = runtime.registerProviders(Arrays.asList(providerRegistrar1, providerRegistrar2));
+        future1.resolve();
+
+        try {
+            future.get(10);
+            fail("expected JoynrWaitExpiredException");
+        } catch (JoynrWaitExpiredException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void registerProvidersFailsAfterAllRegistrationsHaveCompleted() throws Exception {
+        JoynrRuntimeException error = new JoynrRuntimeException("test");
+        Future<Void> future = runtime.registerProviders(Arrays.asList(providerRegistrar1, providerRegistrar2));
+
+        future1.onFailure(error);
+        assertEquals(RequestStatusCode.IN_PROGRESS, future.getStatus().getCode());
+
+        future2.resolve();
+        assertEquals(RequestStatusCode.ERROR, future.getStatus().getCode());
+        try {
+            future.get(1000);
+            fail("expected JoynrRuntimeException");
+        } catch (JoynrRuntimeException e) {
+            assertEquals(error, e);
+        }
+    }
+}
@@ -113,6 +113,7 @@ import io.joynr.proxy.ProxyBuilderFactory;
 import io.joynr.proxy.ProxyBuilderFactoryImpl;
 import io.joynr.proxy.ProxyInvocationHandlerFactory;
 import io.joynr.proxy.StatelessAsyncCallbackDirectory;
+import io.joynr.proxy.ProxyPool;
 import io.joynr.runtime.CCWebSocketRuntimeModule;
 import io.joynr.runtime.JoynrRuntime;
 import io.joynr.runtime.PrepareForShutdownListener;
@@ -224,6 +225,7 @@ public class AbstractRoutingTableCleanupTest {
                                        ProxyInvocationHandlerFactory proxyInvocationHandlerFactory,
                                        ShutdownNotifier shutdownNotifier,
                                        StatelessAsyncCallbackDirectory statelessAsyncCallbackDirectory,
+                                       ProxyPool proxyPool,
                                        @Named(ConfigurableMessagingSettings.PROPERTY_MESSAGING_MAXIMUM_TTL_MS) long maxMessagingTtl,
                                        @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_DEFAULT_TIMEOUT_MS) long defaultDiscoveryTimeoutMs,
                                        @Named(ConfigurableMessagingSettings.PROPERTY_DISCOVERY_DEFAULT_RETRY_INTERVAL_MS) long defaultDiscoveryRetryIntervalMs,
@@ -235,6 +237,7 @@ public class AbstractRoutingTableCleanupTest {
                   proxyInvocationHandlerFactory,
                   shutdownNotifier,
                   statelessAsyncCallbackDirectory,
+                  proxyPool,
                   maxMessagingTtl,
                   defaultDiscoveryTimeoutMs,
                   defaultDiscoveryRetryIntervalMs,
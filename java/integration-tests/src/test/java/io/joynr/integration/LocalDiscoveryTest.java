@@ -240,10 +240,13 @@ public class LocalDiscoveryTest {
                                                                                                              globalCapabilitiesDirectoryClientMock,
                                                                                                              expiredDiscoveryEntryCacheCleanerMock,
                                                                                                              3600000,
+                                                                                                             0,
                                                                                                              capabilitiesFreshnessUpdateExecutorMock,
                                                                                                              shutdownNotifier,
                                                                                                              defaultGbids,
                                                                                                              defaultExpiryTime,
+                                                                                                             0,
+                                                                                                             false,
                                                                                                              accessController,
                                                                                                              enableAccessControl);
 
@@ -72,6 +72,8 @@ public class WebSocketTest {
     private static Logger logger = LoggerFactory.getLogger(WebSocketTest.class);
     @Rule
     public JoynrTestLoggingRule joynrTestRule = new JoynrTestLoggingRule(logger);
+    private static final int MAX_OUTSTANDING_WRITES = 64;
+    private static final int MAX_QUEUED_WRITES = 1000;
 
     private WebSocketMessagingStub webSocketMessagingStub;
     private WebSocketMessagingSkeleton ccWebSocketMessagingSkeleton;
@@ -110,6 +112,8 @@ public class WebSocketTest {
         ObjectMapper objectMapper = new ObjectMapper();
         WebSocketEndpointFactory webSocketJettyServerFactory = new WebSocketJettyServerFactory(maxMessageSize,
                                                                                                websocketIdleTimeout,
+                                                                                               MAX_OUTSTANDING_WRITES,
+                                                                                               MAX_QUEUED_WRITES,
                                                                                                objectMapper);
         ccWebSocketMessagingSkeleton = new WebSocketMessagingSkeleton(serverAddress,
                                                                       webSocketJettyServerFactory,
@@ -122,6 +126,8 @@ public class WebSocketTest {
                                                                       maxMessageSize,
                                                                       reconnectDelay,
                                                                       websocketIdleTimeout,
+                                                                      MAX_OUTSTANDING_WRITES,
+                                                                      MAX_QUEUED_WRITES,
                                                                       objectMapper);
         webSocketMessagingStub = new WebSocketMessagingStub(serverAddress,
                                                             webSocketJettyClientFactory.create(serverAddress));
@@ -0,0 +1,323 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.infrastructure;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.proxy.Callback;
+import io.joynr.proxy.Future;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcCallback;
+import io.joynr.Async;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+
+import joynr.infrastructure.DacTypes.MasterAccessControlEntry;
+import joynr.infrastructure.DacTypes.MasterRegistrationControlEntry;
+import joynr.infrastructure.DacTypes.OwnerAccessControlEntry;
+import joynr.infrastructure.DacTypes.OwnerRegistrationControlEntry;
+
+
+@Async
+@ProvidedBy(AccessControlListEditorProvider.class)
+@UsedBy(AccessControlListEditorProxy.class)
+public interface AccessControlListEditorAsync extends AccessControlListEditor {
+
+
+
+
+
+	/*
+	* updateMasterAccessControlEntry
+	*/
+	public Future<Boolean> updateMasterAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			MasterAccessControlEntry updatedMasterAce
+	);
+	default public Future<Boolean> updateMasterAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			MasterAccessControlEntry updatedMasterAce,
+			MessagingQos messagingQos
+	) {
+		return updateMasterAccessControlEntry(
+			callback,
+			updatedMasterAce
+		);
+	}
+
+
+	/*
+	* removeMasterAccessControlEntry
+	*/
+	public Future<Boolean> removeMasterAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation
+	);
+	default public Future<Boolean> removeMasterAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation,
+			MessagingQos messagingQos
+	) {
+		return removeMasterAccessControlEntry(
+			callback,
+			uid,
+			domain,
+			interfaceName,
+			operation
+		);
+	}
+
+
+	/*
+	* updateMediatorAccessControlEntry
+	*/
+	public Future<Boolean> updateMediatorAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			MasterAccessControlEntry updatedMediatorAce
+	);
+	default public Future<Boolean> updateMediatorAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			MasterAccessControlEntry updatedMediatorAce,
+			MessagingQos messagingQos
+	) {
+		return updateMediatorAccessControlEntry(
+			callback,
+			updatedMediatorAce
+		);
+	}
+
+
+	/*
+	* removeMediatorAccessControlEntry
+	*/
+	public Future<Boolean> removeMediatorAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation
+	);
+	default public Future<Boolean> removeMediatorAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation,
+			MessagingQos messagingQos
+	) {
+		return removeMediatorAccessControlEntry(
+			callback,
+			uid,
+			domain,
+			interfaceName,
+			operation
+		);
+	}
+
+
+	/*
+	* updateOwnerAccessControlEntry
+	*/
+	public Future<Boolean> updateOwnerAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			OwnerAccessControlEntry updatedOwnerAce
+	);
+	default public Future<Boolean> updateOwnerAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			OwnerAccessControlEntry updatedOwnerAce,
+			MessagingQos messagingQos
+	) {
+		return updateOwnerAccessControlEntry(
+			callback,
+			updatedOwnerAce
+		);
+	}
+
+
+	/*
+	* removeOwnerAccessControlEntry
+	*/
+	public Future<Boolean> removeOwnerAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation
+	);
+	default public Future<Boolean> removeOwnerAccessControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation,
+			MessagingQos messagingQos
+	) {
+		return removeOwnerAccessControlEntry(
+			callback,
+			uid,
+			domain,
+			interfaceName,
+			operation
+		);
+	}
+
+
+	/*
+	* updateMasterRegistrationControlEntry
+	*/
+	public Future<Boolean> updateMasterRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			MasterRegistrationControlEntry updatedMasterRce
+	);
+	default public Future<Boolean> updateMasterRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			MasterRegistrationControlEntry updatedMasterRce,
+			MessagingQos messagingQos
+	) {
+		return updateMasterRegistrationControlEntry(
+			callback,
+			updatedMasterRce
+		);
+	}
+
+
+	/*
+	* removeMasterRegistrationControlEntry
+	*/
+	public Future<Boolean> removeMasterRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName
+	);
+	default public Future<Boolean> removeMasterRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName,
+			MessagingQos messagingQos
+	) {
+		return removeMasterRegistrationControlEntry(
+			callback,
+			uid,
+			domain,
+			interfaceName
+		);
+	}
+
+
+	/*
+	* updateMediatorRegistrationControlEntry
+	*/
+	public Future<Boolean> updateMediatorRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			MasterRegistrationControlEntry updatedMediatorRce
+	);
+	default public Future<Boolean> updateMediatorRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			MasterRegistrationControlEntry updatedMediatorRce,
+			MessagingQos messagingQos
+	) {
+		return updateMediatorRegistrationControlEntry(
+			callback,
+			updatedMediatorRce
+		);
+	}
+
+
+	/*
+	* removeMediatorRegistrationControlEntry
+	*/
+	public Future<Boolean> removeMediatorRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName
+	);
+	default public Future<Boolean> removeMediatorRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName,
+			MessagingQos messagingQos
+	) {
+		return removeMediatorRegistrationControlEntry(
+			callback,
+			uid,
+			domain,
+			interfaceName
+		);
+	}
+
+
+	/*
+	* updateOwnerRegistrationControlEntry
+	*/
+	public Future<Boolean> updateOwnerRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			OwnerRegistrationControlEntry updatedOwnerRce
+	);
+	default public Future<Boolean> updateOwnerRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			OwnerRegistrationControlEntry updatedOwnerRce,
+			MessagingQos messagingQos
+	) {
+		return updateOwnerRegistrationControlEntry(
+			callback,
+			updatedOwnerRce
+		);
+	}
+
+
+	/*
+	* removeOwnerRegistrationControlEntry
+	*/
+	public Future<Boolean> removeOwnerRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName
+	);
+	default public Future<Boolean> removeOwnerRegistrationControlEntry(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			String uid,
+			String domain,
+			String interfaceName,
+			MessagingQos messagingQos
+	) {
+		return removeOwnerRegistrationControlEntry(
+			callback,
+			uid,
+			domain,
+			interfaceName
+		);
+	}
+
+}
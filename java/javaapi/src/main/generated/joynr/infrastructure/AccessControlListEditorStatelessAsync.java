@@ -0,0 +1,166 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.infrastructure;
+
+import io.joynr.StatelessAsync;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.proxy.MessageIdCallback;
+import io.joynr.UsedBy;
+
+import joynr.infrastructure.DacTypes.MasterAccessControlEntry;
+import joynr.infrastructure.DacTypes.MasterRegistrationControlEntry;
+import joynr.infrastructure.DacTypes.OwnerAccessControlEntry;
+import joynr.infrastructure.DacTypes.OwnerRegistrationControlEntry;
+
+@StatelessAsync
+@UsedBy(AccessControlListEditorProxy.class)
+public interface AccessControlListEditorStatelessAsync extends AccessControlListEditor {
+
+
+	/*
+	* updateMasterAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("798891081")
+	void updateMasterAccessControlEntry(
+			MasterAccessControlEntry updatedMasterAce,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* removeMasterAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("-1365887036")
+	void removeMasterAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* updateMediatorAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("784932506")
+	void updateMediatorAccessControlEntry(
+			MasterAccessControlEntry updatedMediatorAce,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* removeMediatorAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("-802666667")
+	void removeMediatorAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* updateOwnerAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("136833832")
+	void updateOwnerAccessControlEntry(
+			OwnerAccessControlEntry updatedOwnerAce,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* removeOwnerAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("1313928269")
+	void removeOwnerAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* updateMasterRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("107197214")
+	void updateMasterRegistrationControlEntry(
+			MasterRegistrationControlEntry updatedMasterRce,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* removeMasterRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("507119193")
+	void removeMasterRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* updateMediatorRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("1117648047")
+	void updateMediatorRegistrationControlEntry(
+			MasterRegistrationControlEntry updatedMediatorRce,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* removeMediatorRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("-1104386774")
+	void removeMediatorRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* updateOwnerRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("-328687939")
+	void updateOwnerRegistrationControlEntry(
+			OwnerRegistrationControlEntry updatedOwnerRce,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* removeOwnerRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("-315787230")
+	void removeOwnerRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			MessageIdCallback messageIdCallback
+	);
+}
@@ -0,0 +1,195 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.infrastructure;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+
+@UsedBy(AccessControlListEditorProxy.class)
+public interface AccessControlListEditorStatelessAsyncCallback extends StatelessAsyncCallback {
+
+
+	/*
+	* updateMasterAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("798891081")
+	default void updateMasterAccessControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateMasterAccessControlEntrySuccess not implemented for callback instance"); }
+	default void updateMasterAccessControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateMasterAccessControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* removeMasterAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("-1365887036")
+	default void removeMasterAccessControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMasterAccessControlEntrySuccess not implemented for callback instance"); }
+	default void removeMasterAccessControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMasterAccessControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* updateMediatorAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("784932506")
+	default void updateMediatorAccessControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateMediatorAccessControlEntrySuccess not implemented for callback instance"); }
+	default void updateMediatorAccessControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateMediatorAccessControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* removeMediatorAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("-802666667")
+	default void removeMediatorAccessControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMediatorAccessControlEntrySuccess not implemented for callback instance"); }
+	default void removeMediatorAccessControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMediatorAccessControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* updateOwnerAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("136833832")
+	default void updateOwnerAccessControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateOwnerAccessControlEntrySuccess not implemented for callback instance"); }
+	default void updateOwnerAccessControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateOwnerAccessControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* removeOwnerAccessControlEntry
+	*/
+	@StatelessCallbackCorrelation("1313928269")
+	default void removeOwnerAccessControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeOwnerAccessControlEntrySuccess not implemented for callback instance"); }
+	default void removeOwnerAccessControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeOwnerAccessControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* updateMasterRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("107197214")
+	default void updateMasterRegistrationControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateMasterRegistrationControlEntrySuccess not implemented for callback instance"); }
+	default void updateMasterRegistrationControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateMasterRegistrationControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* removeMasterRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("507119193")
+	default void removeMasterRegistrationControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMasterRegistrationControlEntrySuccess not implemented for callback instance"); }
+	default void removeMasterRegistrationControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMasterRegistrationControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* updateMediatorRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("1117648047")
+	default void updateMediatorRegistrationControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateMediatorRegistrationControlEntrySuccess not implemented for callback instance"); }
+	default void updateMediatorRegistrationControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateMediatorRegistrationControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* removeMediatorRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("-1104386774")
+	default void removeMediatorRegistrationControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMediatorRegistrationControlEntrySuccess not implemented for callback instance"); }
+	default void removeMediatorRegistrationControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMediatorRegistrationControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* updateOwnerRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("-328687939")
+	default void updateOwnerRegistrationControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateOwnerRegistrationControlEntrySuccess not implemented for callback instance"); }
+	default void updateOwnerRegistrationControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("updateOwnerRegistrationControlEntryFailed with exception not implemented for callback instance"); }
+
+	/*
+	* removeOwnerRegistrationControlEntry
+	*/
+	@StatelessCallbackCorrelation("-315787230")
+	default void removeOwnerRegistrationControlEntrySuccess(
+			Boolean success,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeOwnerRegistrationControlEntrySuccess not implemented for callback instance"); }
+	default void removeOwnerRegistrationControlEntryFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeOwnerRegistrationControlEntryFailed with exception not implemented for callback instance"); }
+}
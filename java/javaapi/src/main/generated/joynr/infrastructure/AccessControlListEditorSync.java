@@ -0,0 +1,270 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.infrastructure;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.Sync;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+
+import joynr.infrastructure.DacTypes.MasterAccessControlEntry;
+import joynr.infrastructure.DacTypes.MasterRegistrationControlEntry;
+import joynr.infrastructure.DacTypes.OwnerAccessControlEntry;
+import joynr.infrastructure.DacTypes.OwnerRegistrationControlEntry;
+
+@Sync
+@ProvidedBy(AccessControlListEditorProvider.class)
+@UsedBy(AccessControlListEditorProxy.class)
+public interface AccessControlListEditorSync extends AccessControlListEditor {
+
+
+
+	/*
+	* updateMasterAccessControlEntry
+	*/
+	public Boolean updateMasterAccessControlEntry(
+			MasterAccessControlEntry updatedMasterAce
+	);
+	default public Boolean updateMasterAccessControlEntry(
+			MasterAccessControlEntry updatedMasterAce,
+			MessagingQos messagingQos
+	) {
+		return updateMasterAccessControlEntry(
+			updatedMasterAce
+		);
+	}
+
+	/*
+	* removeMasterAccessControlEntry
+	*/
+	public Boolean removeMasterAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation
+	);
+	default public Boolean removeMasterAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation,
+			MessagingQos messagingQos
+	) {
+		return removeMasterAccessControlEntry(
+			uid,
+			domain,
+			interfaceName,
+			operation
+		);
+	}
+
+	/*
+	* updateMediatorAccessControlEntry
+	*/
+	public Boolean updateMediatorAccessControlEntry(
+			MasterAccessControlEntry updatedMediatorAce
+	);
+	default public Boolean updateMediatorAccessControlEntry(
+			MasterAccessControlEntry updatedMediatorAce,
+			MessagingQos messagingQos
+	) {
+		return updateMediatorAccessControlEntry(
+			updatedMediatorAce
+		);
+	}
+
+	/*
+	* removeMediatorAccessControlEntry
+	*/
+	public Boolean removeMediatorAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation
+	);
+	default public Boolean removeMediatorAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation,
+			MessagingQos messagingQos
+	) {
+		return removeMediatorAccessControlEntry(
+			uid,
+			domain,
+			interfaceName,
+			operation
+		);
+	}
+
+	/*
+	* updateOwnerAccessControlEntry
+	*/
+	public Boolean updateOwnerAccessControlEntry(
+			OwnerAccessControlEntry updatedOwnerAce
+	);
+	default public Boolean updateOwnerAccessControlEntry(
+			OwnerAccessControlEntry updatedOwnerAce,
+			MessagingQos messagingQos
+	) {
+		return updateOwnerAccessControlEntry(
+			updatedOwnerAce
+		);
+	}
+
+	/*
+	* removeOwnerAccessControlEntry
+	*/
+	public Boolean removeOwnerAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation
+	);
+	default public Boolean removeOwnerAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation,
+			MessagingQos messagingQos
+	) {
+		return removeOwnerAccessControlEntry(
+			uid,
+			domain,
+			interfaceName,
+			operation
+		);
+	}
+
+	/*
+	* updateMasterRegistrationControlEntry
+	*/
+	public Boolean updateMasterRegistrationControlEntry(
+			MasterRegistrationControlEntry updatedMasterRce
+	);
+	default public Boolean updateMasterRegistrationControlEntry(
+			MasterRegistrationControlEntry updatedMasterRce,
+			MessagingQos messagingQos
+	) {
+		return updateMasterRegistrationControlEntry(
+			updatedMasterRce
+		);
+	}
+
+	/*
+	* removeMasterRegistrationControlEntry
+	*/
+	public Boolean removeMasterRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName
+	);
+	default public Boolean removeMasterRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			MessagingQos messagingQos
+	) {
+		return removeMasterRegistrationControlEntry(
+			uid,
+			domain,
+			interfaceName
+		);
+	}
+
+	/*
+	* updateMediatorRegistrationControlEntry
+	*/
+	public Boolean updateMediatorRegistrationControlEntry(
+			MasterRegistrationControlEntry updatedMediatorRce
+	);
+	default public Boolean updateMediatorRegistrationControlEntry(
+			MasterRegistrationControlEntry updatedMediatorRce,
+			MessagingQos messagingQos
+	) {
+		return updateMediatorRegistrationControlEntry(
+			updatedMediatorRce
+		);
+	}
+
+	/*
+	* removeMediatorRegistrationControlEntry
+	*/
+	public Boolean removeMediatorRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName
+	);
+	default public Boolean removeMediatorRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			MessagingQos messagingQos
+	) {
+		return removeMediatorRegistrationControlEntry(
+			uid,
+			domain,
+			interfaceName
+		);
+	}
+
+	/*
+	* updateOwnerRegistrationControlEntry
+	*/
+	public Boolean updateOwnerRegistrationControlEntry(
+			OwnerRegistrationControlEntry updatedOwnerRce
+	);
+	default public Boolean updateOwnerRegistrationControlEntry(
+			OwnerRegistrationControlEntry updatedOwnerRce,
+			MessagingQos messagingQos
+	) {
+		return updateOwnerRegistrationControlEntry(
+			updatedOwnerRce
+		);
+	}
+
+	/*
+	* removeOwnerRegistrationControlEntry
+	*/
+	public Boolean removeOwnerRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName
+	);
+	default public Boolean removeOwnerRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			MessagingQos messagingQos
+	) {
+		return removeOwnerRegistrationControlEntry(
+			uid,
+			domain,
+			interfaceName
+		);
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.infrastructure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.provider.Promise;
+
+import joynr.infrastructure.DacTypes.MasterAccessControlEntry;
+import joynr.infrastructure.DacTypes.MasterRegistrationControlEntry;
+import joynr.infrastructure.DacTypes.OwnerAccessControlEntry;
+import joynr.infrastructure.DacTypes.OwnerRegistrationControlEntry;
+
+public class DefaultAccessControlListEditorProvider extends AccessControlListEditorAbstractProvider {
+	private static final Logger logger = LoggerFactory.getLogger(DefaultAccessControlListEditorProvider.class);
+
+
+	public DefaultAccessControlListEditorProvider() {
+	}
+
+
+
+	/*
+	* updateMasterAccessControlEntry
+	*/
+	@Override
+	public Promise<UpdateMasterAccessControlEntryDeferred> updateMasterAccessControlEntry(
+			MasterAccessControlEntry updatedMasterAce) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.updateMasterAccessControlEntry called");
+		logger.warn("**********************************************");
+		UpdateMasterAccessControlEntryDeferred deferred = new UpdateMasterAccessControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* removeMasterAccessControlEntry
+	*/
+	@Override
+	public Promise<RemoveMasterAccessControlEntryDeferred> removeMasterAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.removeMasterAccessControlEntry called");
+		logger.warn("**********************************************");
+		RemoveMasterAccessControlEntryDeferred deferred = new RemoveMasterAccessControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* updateMediatorAccessControlEntry
+	*/
+	@Override
+	public Promise<UpdateMediatorAccessControlEntryDeferred> updateMediatorAccessControlEntry(
+			MasterAccessControlEntry updatedMediatorAce) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.updateMediatorAccessControlEntry called");
+		logger.warn("**********************************************");
+		UpdateMediatorAccessControlEntryDeferred deferred = new UpdateMediatorAccessControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* removeMediatorAccessControlEntry
+	*/
+	@Override
+	public Promise<RemoveMediatorAccessControlEntryDeferred> removeMediatorAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.removeMediatorAccessControlEntry called");
+		logger.warn("**********************************************");
+		RemoveMediatorAccessControlEntryDeferred deferred = new RemoveMediatorAccessControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* updateOwnerAccessControlEntry
+	*/
+	@Override
+	public Promise<UpdateOwnerAccessControlEntryDeferred> updateOwnerAccessControlEntry(
+			OwnerAccessControlEntry updatedOwnerAce) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.updateOwnerAccessControlEntry called");
+		logger.warn("**********************************************");
+		UpdateOwnerAccessControlEntryDeferred deferred = new UpdateOwnerAccessControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* removeOwnerAccessControlEntry
+	*/
+	@Override
+	public Promise<RemoveOwnerAccessControlEntryDeferred> removeOwnerAccessControlEntry(
+			String uid,
+			String domain,
+			String interfaceName,
+			String operation) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.removeOwnerAccessControlEntry called");
+		logger.warn("**********************************************");
+		RemoveOwnerAccessControlEntryDeferred deferred = new RemoveOwnerAccessControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* updateMasterRegistrationControlEntry
+	*/
+	@Override
+	public Promise<UpdateMasterRegistrationControlEntryDeferred> updateMasterRegistrationControlEntry(
+			MasterRegistrationControlEntry updatedMasterRce) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.updateMasterRegistrationControlEntry called");
+		logger.warn("**********************************************");
+		UpdateMasterRegistrationControlEntryDeferred deferred = new UpdateMasterRegistrationControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* removeMasterRegistrationControlEntry
+	*/
+	@Override
+	public Promise<RemoveMasterRegistrationControlEntryDeferred> removeMasterRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.removeMasterRegistrationControlEntry called");
+		logger.warn("**********************************************");
+		RemoveMasterRegistrationControlEntryDeferred deferred = new RemoveMasterRegistrationControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* updateMediatorRegistrationControlEntry
+	*/
+	@Override
+	public Promise<UpdateMediatorRegistrationControlEntryDeferred> updateMediatorRegistrationControlEntry(
+			MasterRegistrationControlEntry updatedMediatorRce) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.updateMediatorRegistrationControlEntry called");
+		logger.warn("**********************************************");
+		UpdateMediatorRegistrationControlEntryDeferred deferred = new UpdateMediatorRegistrationControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* removeMediatorRegistrationControlEntry
+	*/
+	@Override
+	public Promise<RemoveMediatorRegistrationControlEntryDeferred> removeMediatorRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.removeMediatorRegistrationControlEntry called");
+		logger.warn("**********************************************");
+		RemoveMediatorRegistrationControlEntryDeferred deferred = new RemoveMediatorRegistrationControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* updateOwnerRegistrationControlEntry
+	*/
+	@Override
+	public Promise<UpdateOwnerRegistrationControlEntryDeferred> updateOwnerRegistrationControlEntry(
+			OwnerRegistrationControlEntry updatedOwnerRce) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.updateOwnerRegistrationControlEntry called");
+		logger.warn("**********************************************");
+		UpdateOwnerRegistrationControlEntryDeferred deferred = new UpdateOwnerRegistrationControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* removeOwnerRegistrationControlEntry
+	*/
+	@Override
+	public Promise<RemoveOwnerRegistrationControlEntryDeferred> removeOwnerRegistrationControlEntry(
+			String uid,
+			String domain,
+			String interfaceName) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultAccessControlListEditorProvider.removeOwnerRegistrationControlEntry called");
+		logger.warn("**********************************************");
+		RemoveOwnerRegistrationControlEntryDeferred deferred = new RemoveOwnerRegistrationControlEntryDeferred();
+		Boolean success = false;
+		deferred.resolve(success);
+		return new Promise<>(deferred);
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.infrastructure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.provider.Promise;
+import io.joynr.provider.DeferredVoid;
+
+import joynr.types.GlobalDiscoveryEntry;
+
+public class DefaultGlobalCapabilitiesDirectoryProvider extends GlobalCapabilitiesDirectoryAbstractProvider {
+	private static final Logger logger = LoggerFactory.getLogger(DefaultGlobalCapabilitiesDirectoryProvider.class);
+
+
+	public DefaultGlobalCapabilitiesDirectoryProvider() {
+	}
+
+
+
+	/*
+	* add
+	*/
+	@Override
+	public Promise<DeferredVoid> add(
+			GlobalDiscoveryEntry[] globalDiscoveryEntries) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.add called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* add
+	*/
+	@Override
+	public Promise<DeferredVoid> add(
+			GlobalDiscoveryEntry globalDiscoveryEntry) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.add called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* add
+	*/
+	@Override
+	public Promise<Add1Deferred> add(
+			GlobalDiscoveryEntry globalDiscoveryEntry,
+			String[] gbids) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.add called");
+		logger.warn("**********************************************");
+		Add1Deferred deferred = new Add1Deferred();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* lookup
+	*/
+	@Override
+	public Promise<Lookup1Deferred> lookup(
+			String[] domains,
+			String interfaceName) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.lookup called");
+		logger.warn("**********************************************");
+		Lookup1Deferred deferred = new Lookup1Deferred();
+		GlobalDiscoveryEntry[] result = { };
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* lookup
+	*/
+	@Override
+	public Promise<Lookup2Deferred> lookup(
+			String[] domains,
+			String interfaceName,
+			String[] gbids) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.lookup called");
+		logger.warn("**********************************************");
+		Lookup2Deferred deferred = new Lookup2Deferred();
+		GlobalDiscoveryEntry[] result = { };
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* lookup
+	*/
+	@Override
+	public Promise<Lookup3Deferred> lookup(
+			String participantId) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.lookup called");
+		logger.warn("**********************************************");
+		Lookup3Deferred deferred = new Lookup3Deferred();
+		GlobalDiscoveryEntry result = new GlobalDiscoveryEntry();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* lookup
+	*/
+	@Override
+	public Promise<Lookup4Deferred> lookup(
+			String participantId,
+			String[] gbids) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.lookup called");
+		logger.warn("**********************************************");
+		Lookup4Deferred deferred = new Lookup4Deferred();
+		GlobalDiscoveryEntry result = new GlobalDiscoveryEntry();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* remove
+	*/
+	@Override
+	public Promise<DeferredVoid> remove(
+			String[] participantIds) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.remove called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* remove
+	*/
+	@Override
+	public Promise<DeferredVoid> remove(
+			String participantId) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.remove called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* remove
+	*/
+	@Override
+	public Promise<Remove1Deferred> remove(
+			String participantId,
+			String[] gbids) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.remove called");
+		logger.warn("**********************************************");
+		Remove1Deferred deferred = new Remove1Deferred();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* removeStale
+	*/
+	@Override
+	public Promise<DeferredVoid> removeStale(
+			String clusterControllerId,
+			Long maxLastSeenDateMs) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.removeStale called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* touch
+	*/
+	@Override
+	public Promise<DeferredVoid> touch(
+			String clusterControllerId) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.touch called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* touch
+	*/
+	@Override
+	public Promise<DeferredVoid> touch(
+			String clusterControllerId,
+			String[] participantIds) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultGlobalCapabilitiesDirectoryProvider.touch called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+}
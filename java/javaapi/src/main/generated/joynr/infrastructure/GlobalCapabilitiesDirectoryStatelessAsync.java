@@ -0,0 +1,165 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.infrastructure;
+
+import io.joynr.StatelessAsync;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.proxy.MessageIdCallback;
+import io.joynr.UsedBy;
+
+import joynr.types.GlobalDiscoveryEntry;
+
+@StatelessAsync
+@UsedBy(GlobalCapabilitiesDirectoryProxy.class)
+public interface GlobalCapabilitiesDirectoryStatelessAsync extends GlobalCapabilitiesDirectory {
+
+
+	/*
+	* add
+	*/
+	@StatelessCallbackCorrelation("96417")
+	void add(
+			GlobalDiscoveryEntry[] globalDiscoveryEntries,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* add
+	*/
+	@StatelessCallbackCorrelation("96417")
+	void add(
+			GlobalDiscoveryEntry globalDiscoveryEntry,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* add
+	*/
+	@StatelessCallbackCorrelation("96417")
+	void add(
+			GlobalDiscoveryEntry globalDiscoveryEntry,
+			String[] gbids,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("252234298")
+	void lookup(
+			String[] domains,
+			String interfaceName,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("252234298")
+	void lookup(
+			String[] domains,
+			String interfaceName,
+			String[] gbids,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("-2075024388")
+	void lookup(
+			String participantId,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("-2075024388")
+	void lookup(
+			String participantId,
+			String[] gbids,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* remove
+	*/
+	@StatelessCallbackCorrelation("-934610812")
+	void remove(
+			String[] participantIds,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* remove
+	*/
+	@StatelessCallbackCorrelation("-934610812")
+	void remove(
+			String participantId,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* remove
+	*/
+	@StatelessCallbackCorrelation("-934610812")
+	void remove(
+			String participantId,
+			String[] gbids,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* removeStale
+	*/
+	@StatelessCallbackCorrelation("-304640651")
+	void removeStale(
+			String clusterControllerId,
+			Long maxLastSeenDateMs,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* touch
+	*/
+	@StatelessCallbackCorrelation("110550847")
+	void touch(
+			String clusterControllerId,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* touch
+	*/
+	@StatelessCallbackCorrelation("110550847")
+	void touch(
+			String clusterControllerId,
+			String[] participantIds,
+			MessageIdCallback messageIdCallback
+	);
+}
@@ -0,0 +1,130 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.infrastructure;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+import joynr.types.DiscoveryError;
+import joynr.types.GlobalDiscoveryEntry;
+
+@UsedBy(GlobalCapabilitiesDirectoryProxy.class)
+public interface GlobalCapabilitiesDirectoryStatelessAsyncCallback extends StatelessAsyncCallback {
+
+
+	/*
+	* add
+	*/
+	@StatelessCallbackCorrelation("96417")
+	default void addSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addSuccess not implemented for callback instance"); }
+	default void addFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addFailed with exception not implemented for callback instance"); }
+
+
+	default void addFailed(
+			joynr.types.DiscoveryError error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addFailed with error not implemented for callback instance"); }
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("252234298")
+	default void lookupSuccess(
+			GlobalDiscoveryEntry[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("lookupSuccess not implemented for callback instance"); }
+	default void lookupFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("lookupFailed with exception not implemented for callback instance"); }
+
+	default void lookupFailed(
+			joynr.types.DiscoveryError error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("lookupFailed with error not implemented for callback instance"); }
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("-2075024388")
+	default void lookupSuccess(
+			GlobalDiscoveryEntry result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("lookupSuccess not implemented for callback instance"); }
+
+
+	/*
+	* remove
+	*/
+	@StatelessCallbackCorrelation("-934610812")
+	default void removeSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeSuccess not implemented for callback instance"); }
+	default void removeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeFailed with exception not implemented for callback instance"); }
+
+
+	default void removeFailed(
+			joynr.types.DiscoveryError error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeFailed with error not implemented for callback instance"); }
+
+	/*
+	* removeStale
+	*/
+	@StatelessCallbackCorrelation("-304640651")
+	default void removeStaleSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeStaleSuccess not implemented for callback instance"); }
+	default void removeStaleFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeStaleFailed with exception not implemented for callback instance"); }
+
+	/*
+	* touch
+	*/
+	@StatelessCallbackCorrelation("110550847")
+	default void touchSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("touchSuccess not implemented for callback instance"); }
+	default void touchFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("touchFailed with exception not implemented for callback instance"); }
+
+}
@@ -0,0 +1,255 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.system;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.proxy.Callback;
+import io.joynr.proxy.ICallbackWithModeledError;
+import io.joynr.proxy.CallbackWithModeledError;
+import io.joynr.proxy.Future;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcCallback;
+import io.joynr.Async;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+
+import joynr.types.DiscoveryEntry;
+import joynr.types.DiscoveryEntryWithMetaInfo;
+import joynr.types.DiscoveryQos;
+
+
+@Async
+@ProvidedBy(DiscoveryProvider.class)
+@UsedBy(DiscoveryProxy.class)
+public interface DiscoveryAsync extends Discovery {
+
+
+
+
+
+	/*
+	* add
+	*/
+	public Future<Void> add(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			DiscoveryEntry discoveryEntry
+	);
+	default public Future<Void> add(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			DiscoveryEntry discoveryEntry,
+			MessagingQos messagingQos
+	) {
+		return add(
+			callback,
+			discoveryEntry
+		);
+	}
+
+
+	/*
+	* add
+	*/
+	public Future<Void> add(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration
+	);
+	default public Future<Void> add(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			MessagingQos messagingQos
+	) {
+		return add(
+			callback,
+			discoveryEntry,
+			awaitGlobalRegistration
+		);
+	}
+
+
+	/*
+	* add
+	*/
+	public Future<Void> add(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.types.DiscoveryError> callback,
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			String[] gbids
+	);
+	default public Future<Void> add(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.types.DiscoveryError> callback,
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			String[] gbids,
+			MessagingQos messagingQos
+	) {
+		return add(
+			callback,
+			discoveryEntry,
+			awaitGlobalRegistration,
+			gbids
+		);
+	}
+
+
+	/*
+	* addToAll
+	*/
+	public Future<Void> addToAll(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.types.DiscoveryError> callback,
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration
+	);
+	default public Future<Void> addToAll(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.types.DiscoveryError> callback,
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			MessagingQos messagingQos
+	) {
+		return addToAll(
+			callback,
+			discoveryEntry,
+			awaitGlobalRegistration
+		);
+	}
+
+
+	/*
+	* lookup
+	*/
+	public Future<DiscoveryEntryWithMetaInfo[]> lookup(
+			@JoynrRpcCallback(deserializationType = DiscoveryEntryWithMetaInfo[].class) Callback<DiscoveryEntryWithMetaInfo[]> callback,
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos
+	);
+	default public Future<DiscoveryEntryWithMetaInfo[]> lookup(
+			@JoynrRpcCallback(deserializationType = DiscoveryEntryWithMetaInfo[].class) Callback<DiscoveryEntryWithMetaInfo[]> callback,
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos,
+			MessagingQos messagingQos
+	) {
+		return lookup(
+			callback,
+			domains,
+			interfaceName,
+			discoveryQos
+		);
+	}
+
+
+	/*
+	* lookup
+	*/
+	public Future<DiscoveryEntryWithMetaInfo[]> lookup(
+			@JoynrRpcCallback(deserializationType = DiscoveryEntryWithMetaInfo[].class) CallbackWithModeledError<DiscoveryEntryWithMetaInfo[],joynr.types.DiscoveryError> callback,
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos,
+			String[] gbids
+	);
+	default public Future<DiscoveryEntryWithMetaInfo[]> lookup(
+			@JoynrRpcCallback(deserializationType = DiscoveryEntryWithMetaInfo[].class) CallbackWithModeledError<DiscoveryEntryWithMetaInfo[],joynr.types.DiscoveryError> callback,
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos,
+			String[] gbids,
+			MessagingQos messagingQos
+	) {
+		return lookup(
+			callback,
+			domains,
+			interfaceName,
+			discoveryQos,
+			gbids
+		);
+	}
+
+
+	/*
+	* lookup
+	*/
+	public Future<DiscoveryEntryWithMetaInfo> lookup(
+			@JoynrRpcCallback(deserializationType = DiscoveryEntryWithMetaInfo.class) Callback<DiscoveryEntryWithMetaInfo> callback,
+			String participantId
+	);
+	default public Future<DiscoveryEntryWithMetaInfo> lookup(
+			@JoynrRpcCallback(deserializationType = DiscoveryEntryWithMetaInfo.class) Callback<DiscoveryEntryWithMetaInfo> callback,
+			String participantId,
+			MessagingQos messagingQos
+	) {
+		return lookup(
+			callback,
+			participantId
+		);
+	}
+
+
+	/*
+	* lookup
+	*/
+	public Future<DiscoveryEntryWithMetaInfo> lookup(
+			@JoynrRpcCallback(deserializationType = DiscoveryEntryWithMetaInfo.class) CallbackWithModeledError<DiscoveryEntryWithMetaInfo,joynr.types.DiscoveryError> callback,
+			String participantId,
+			DiscoveryQos discoveryQos,
+			String[] gbids
+	);
+	default public Future<DiscoveryEntryWithMetaInfo> lookup(
+			@JoynrRpcCallback(deserializationType = DiscoveryEntryWithMetaInfo.class) CallbackWithModeledError<DiscoveryEntryWithMetaInfo,joynr.types.DiscoveryError> callback,
+			String participantId,
+			DiscoveryQos discoveryQos,
+			String[] gbids,
+			MessagingQos messagingQos
+	) {
+		return lookup(
+			callback,
+			participantId,
+			discoveryQos,
+			gbids
+		);
+	}
+
+
+	/*
+	* remove
+	*/
+	public Future<Void> remove(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String participantId
+	);
+	default public Future<Void> remove(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String participantId,
+			MessagingQos messagingQos
+	) {
+		return remove(
+			callback,
+			participantId
+		);
+	}
+
+}
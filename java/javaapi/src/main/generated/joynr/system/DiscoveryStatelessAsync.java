@@ -0,0 +1,133 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.system;
+
+import io.joynr.StatelessAsync;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.proxy.MessageIdCallback;
+import io.joynr.UsedBy;
+
+import joynr.types.DiscoveryEntry;
+import joynr.types.DiscoveryQos;
+
+@StatelessAsync
+@UsedBy(DiscoveryProxy.class)
+public interface DiscoveryStatelessAsync extends Discovery {
+
+
+	/*
+	* add
+	*/
+	@StatelessCallbackCorrelation("96417")
+	void add(
+			DiscoveryEntry discoveryEntry,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* add
+	*/
+	@StatelessCallbackCorrelation("96417")
+	void add(
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* add
+	*/
+	@StatelessCallbackCorrelation("96417")
+	void add(
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			String[] gbids,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addToAll
+	*/
+	@StatelessCallbackCorrelation("-1246170875")
+	void addToAll(
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("-818088880")
+	void lookup(
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("-818088880")
+	void lookup(
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos,
+			String[] gbids,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("1832383634")
+	void lookup(
+			String participantId,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("1832383634")
+	void lookup(
+			String participantId,
+			DiscoveryQos discoveryQos,
+			String[] gbids,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* remove
+	*/
+	@StatelessCallbackCorrelation("-934610812")
+	void remove(
+			String participantId,
+			MessageIdCallback messageIdCallback
+	);
+}
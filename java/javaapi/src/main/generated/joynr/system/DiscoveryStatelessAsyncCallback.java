@@ -0,0 +1,115 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.system;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+import joynr.types.DiscoveryEntryWithMetaInfo;
+import joynr.types.DiscoveryError;
+
+@UsedBy(DiscoveryProxy.class)
+public interface DiscoveryStatelessAsyncCallback extends StatelessAsyncCallback {
+
+
+	/*
+	* add
+	*/
+	@StatelessCallbackCorrelation("96417")
+	default void addSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addSuccess not implemented for callback instance"); }
+	default void addFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addFailed with exception not implemented for callback instance"); }
+
+
+	default void addFailed(
+			joynr.types.DiscoveryError error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addFailed with error not implemented for callback instance"); }
+
+	/*
+	* addToAll
+	*/
+	@StatelessCallbackCorrelation("-1246170875")
+	default void addToAllSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addToAllSuccess not implemented for callback instance"); }
+	default void addToAllFailed(
+			joynr.types.DiscoveryError error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addToAllFailed with error not implemented for callback instance"); }
+	default void addToAllFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addToAllFailed with exception not implemented for callback instance"); }
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("-818088880")
+	default void lookupSuccess(
+			DiscoveryEntryWithMetaInfo[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("lookupSuccess not implemented for callback instance"); }
+	default void lookupFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("lookupFailed with exception not implemented for callback instance"); }
+
+	default void lookupFailed(
+			joynr.types.DiscoveryError error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("lookupFailed with error not implemented for callback instance"); }
+
+	/*
+	* lookup
+	*/
+	@StatelessCallbackCorrelation("1832383634")
+	default void lookupSuccess(
+			DiscoveryEntryWithMetaInfo result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("lookupSuccess not implemented for callback instance"); }
+
+
+	/*
+	* remove
+	*/
+	@StatelessCallbackCorrelation("-934610812")
+	default void removeSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeSuccess not implemented for callback instance"); }
+	default void removeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeFailed with exception not implemented for callback instance"); }
+}
@@ -0,0 +1,199 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.system;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.Sync;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+import joynr.exceptions.ApplicationException;
+
+import joynr.types.DiscoveryEntry;
+import joynr.types.DiscoveryEntryWithMetaInfo;
+import joynr.types.DiscoveryQos;
+
+@Sync
+@ProvidedBy(DiscoveryProvider.class)
+@UsedBy(DiscoveryProxy.class)
+public interface DiscoverySync extends Discovery {
+
+
+
+	/*
+	* add
+	*/
+	public void add(
+			DiscoveryEntry discoveryEntry
+	);
+	default public void add(
+			DiscoveryEntry discoveryEntry,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* add
+	*/
+	public void add(
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration
+	);
+	default public void add(
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* add
+	*/
+	public void add(
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			String[] gbids
+	) throws ApplicationException;
+	default public void add(
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			String[] gbids,
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return;
+	}
+
+	/*
+	* addToAll
+	*/
+	public void addToAll(
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration
+	) throws ApplicationException;
+	default public void addToAll(
+			DiscoveryEntry discoveryEntry,
+			Boolean awaitGlobalRegistration,
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return;
+	}
+
+	/*
+	* lookup
+	*/
+	public DiscoveryEntryWithMetaInfo[] lookup(
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos
+	);
+	default public DiscoveryEntryWithMetaInfo[] lookup(
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos,
+			MessagingQos messagingQos
+	) {
+		return lookup(
+			domains,
+			interfaceName,
+			discoveryQos
+		);
+	}
+
+	/*
+	* lookup
+	*/
+	public DiscoveryEntryWithMetaInfo[] lookup(
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos,
+			String[] gbids
+	) throws ApplicationException;
+	default public DiscoveryEntryWithMetaInfo[] lookup(
+			String[] domains,
+			String interfaceName,
+			DiscoveryQos discoveryQos,
+			String[] gbids,
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return lookup(
+			domains,
+			interfaceName,
+			discoveryQos,
+			gbids
+		);
+	}
+
+	/*
+	* lookup
+	*/
+	public DiscoveryEntryWithMetaInfo lookup(
+			String participantId
+	);
+	default public DiscoveryEntryWithMetaInfo lookup(
+			String participantId,
+			MessagingQos messagingQos
+	) {
+		return lookup(
+			participantId
+		);
+	}
+
+	/*
+	* lookup
+	*/
+	public DiscoveryEntryWithMetaInfo lookup(
+			String participantId,
+			DiscoveryQos discoveryQos,
+			String[] gbids
+	) throws ApplicationException;
+	default public DiscoveryEntryWithMetaInfo lookup(
+			String participantId,
+			DiscoveryQos discoveryQos,
+			String[] gbids,
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return lookup(
+			participantId,
+			discoveryQos,
+			gbids
+		);
+	}
+
+	/*
+	* remove
+	*/
+	public void remove(
+			String participantId
+	);
+	default public void remove(
+			String participantId,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+}
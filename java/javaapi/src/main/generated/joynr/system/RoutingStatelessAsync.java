@@ -0,0 +1,186 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.system;
+
+import io.joynr.StatelessAsync;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.proxy.MessageIdCallback;
+import io.joynr.UsedBy;
+
+import joynr.system.RoutingTypes.BinderAddress;
+import joynr.system.RoutingTypes.BrowserAddress;
+import joynr.system.RoutingTypes.ChannelAddress;
+import joynr.system.RoutingTypes.MqttAddress;
+import joynr.system.RoutingTypes.UdsAddress;
+import joynr.system.RoutingTypes.UdsClientAddress;
+import joynr.system.RoutingTypes.WebSocketAddress;
+import joynr.system.RoutingTypes.WebSocketClientAddress;
+
+@StatelessAsync
+@UsedBy(RoutingProxy.class)
+public interface RoutingStatelessAsync extends Routing {
+
+	/*
+	* globalAddress getter
+	*/
+	@StatelessCallbackCorrelation("638394139")
+	void getGlobalAddress(MessageIdCallback messageIdCallback);
+
+	/*
+	* replyToAddress getter
+	*/
+	@StatelessCallbackCorrelation("299791909")
+	void getReplyToAddress(MessageIdCallback messageIdCallback);
+
+	/*
+	* addNextHop
+	*/
+	@StatelessCallbackCorrelation("-539680651")
+	void addNextHop(
+			String participantId,
+			ChannelAddress channelAddress,
+			Boolean isGloballyVisible,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addNextHop
+	*/
+	@StatelessCallbackCorrelation("-539680651")
+	void addNextHop(
+			String participantId,
+			MqttAddress mqttAddress,
+			Boolean isGloballyVisible,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addNextHop
+	*/
+	@StatelessCallbackCorrelation("-539680651")
+	void addNextHop(
+			String participantId,
+			BrowserAddress browserAddress,
+			Boolean isGloballyVisible,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addNextHop
+	*/
+	@StatelessCallbackCorrelation("-539680651")
+	void addNextHop(
+			String participantId,
+			WebSocketAddress webSocketAddress,
+			Boolean isGloballyVisible,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addNextHop
+	*/
+	@StatelessCallbackCorrelation("-539680651")
+	void addNextHop(
+			String participantId,
+			UdsAddress udsAddress,
+			Boolean isGloballyVisible,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addNextHop
+	*/
+	@StatelessCallbackCorrelation("-539680651")
+	void addNextHop(
+			String participantId,
+			BinderAddress binderAddress,
+			Boolean isGloballyVisible,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addNextHop
+	*/
+	@StatelessCallbackCorrelation("-539680651")
+	void addNextHop(
+			String participantId,
+			WebSocketClientAddress webSocketClientAddress,
+			Boolean isGloballyVisible,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addNextHop
+	*/
+	@StatelessCallbackCorrelation("-539680651")
+	void addNextHop(
+			String participantId,
+			UdsClientAddress udsClientAddress,
+			Boolean isGloballyVisible,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* removeNextHop
+	*/
+	@StatelessCallbackCorrelation("-1252422862")
+	void removeNextHop(
+			String participantId,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* resolveNextHop
+	*/
+	@StatelessCallbackCorrelation("403541734")
+	void resolveNextHop(
+			String participantId,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addMulticastReceiver
+	*/
+	@StatelessCallbackCorrelation("2003689318")
+	void addMulticastReceiver(
+			String multicastId,
+			String subscriberParticipantId,
+			String providerParticipantId,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* removeMulticastReceiver
+	*/
+	@StatelessCallbackCorrelation("-691158557")
+	void removeMulticastReceiver(
+			String multicastId,
+			String subscriberParticipantId,
+			String providerParticipantId,
+			MessageIdCallback messageIdCallback
+	);
+}
@@ -0,0 +1,130 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.system;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+
+@UsedBy(RoutingProxy.class)
+public interface RoutingStatelessAsyncCallback extends StatelessAsyncCallback {
+
+	/*
+	* globalAddress getter
+	*/
+	@StatelessCallbackCorrelation("638394139")
+	default void getGlobalAddressSuccess(String globalAddress, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getGlobalAddressSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("638394139")
+	default void getGlobalAddressFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getGlobalAddressFailed not implemented for callback instance"); }
+
+	/*
+	* replyToAddress getter
+	*/
+	@StatelessCallbackCorrelation("299791909")
+	default void getReplyToAddressSuccess(String replyToAddress, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getReplyToAddressSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("299791909")
+	default void getReplyToAddressFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getReplyToAddressFailed not implemented for callback instance"); }
+
+	/*
+	* addNextHop
+	*/
+	@StatelessCallbackCorrelation("-539680651")
+	default void addNextHopSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addNextHopSuccess not implemented for callback instance"); }
+	default void addNextHopFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addNextHopFailed with exception not implemented for callback instance"); }
+
+
+
+
+
+
+
+
+	/*
+	* removeNextHop
+	*/
+	@StatelessCallbackCorrelation("-1252422862")
+	default void removeNextHopSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeNextHopSuccess not implemented for callback instance"); }
+	default void removeNextHopFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeNextHopFailed with exception not implemented for callback instance"); }
+
+	/*
+	* resolveNextHop
+	*/
+	@StatelessCallbackCorrelation("403541734")
+	default void resolveNextHopSuccess(
+			Boolean resolved,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("resolveNextHopSuccess not implemented for callback instance"); }
+	default void resolveNextHopFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("resolveNextHopFailed with exception not implemented for callback instance"); }
+
+	/*
+	* addMulticastReceiver
+	*/
+	@StatelessCallbackCorrelation("2003689318")
+	default void addMulticastReceiverSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addMulticastReceiverSuccess not implemented for callback instance"); }
+	default void addMulticastReceiverFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addMulticastReceiverFailed with exception not implemented for callback instance"); }
+
+	/*
+	* removeMulticastReceiver
+	*/
+	@StatelessCallbackCorrelation("-691158557")
+	default void removeMulticastReceiverSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMulticastReceiverSuccess not implemented for callback instance"); }
+	default void removeMulticastReceiverFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("removeMulticastReceiverFailed with exception not implemented for callback instance"); }
+}
@@ -22,9 +22,20 @@ import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.UUID;
 
+import com.google.inject.Inject;
+
 public class JoynrUtil {
     private static final Base64.Encoder base64Encoder = Base64.getUrlEncoder().withoutPadding();
 
+    @Inject(optional = true)
+    private static volatile UniqueIdGenerator uniqueIdGenerator = new PrefixedCounterIdGenerator();
+
+    /**
+     * Creates a random UUID. Use this for identifiers which are persisted or which must not be predictable,
+     * e.g. participant IDs. Frequently created identifiers like message IDs should use {@link #createUniqueId()}.
+     *
+     * @return the base64 (URL safe, without padding) encoded random UUID
+     */
     public static String createUuidString() {
         UUID uuid = UUID.randomUUID();
         ByteBuffer uuidBytes = ByteBuffer.wrap(new byte[16]);
@@ -32,4 +43,15 @@ public class JoynrUtil {
         uuidBytes.putLong(uuid.getLeastSignificantBits());
         return base64Encoder.encodeToString(uuidBytes.array());
     }
+
+    /**
+     * Creates an identifier which is unique across all joynr runtimes, but not necessarily unpredictable.
+     * This is considerably cheaper than {@link #createUuidString()} and intended for message IDs and request reply
+     * IDs which are created for every message.
+     *
+     * @return a new unique identifier
+     */
+    public static String createUniqueId() {
+        return uniqueIdGenerator.createUniqueId();
+    }
 }
@@ -18,6 +18,7 @@
  */
 package io.joynr.util;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -28,6 +29,8 @@ import java.util.Set;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -282,6 +285,45 @@ public class ObjectMapper {
         }
     }
 
+    /**
+     * Deserializes the content with a parser of the given factory, e.g. of a binary data format.
+     *
+     * @param factory the factory creating the parser for the format of the content
+     * @param src the serialized content
+     * @param valueType the type of the deserialized value
+     * @return the deserialized value
+     * @throws IOException if the content cannot be parsed
+     */
+    public <T> T readValue(JsonFactory factory, byte[] src, Class<T> valueType) throws IOException {
+        lock.readLock().lock();
+        try (JsonParser parser = factory.createParser(src)) {
+            parser.setCodec(realObjectMapper);
+            return realObjectMapper.readValue(parser, valueType);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Serializes the value with a generator of the given factory, e.g. of a binary data format.
+     *
+     * @param factory the factory creating the generator for the target format
+     * @param value the value to be serialized
+     * @return the serialized value
+     * @throws IOException if the value cannot be serialized
+     */
+    public byte[] writeValueAsBytes(JsonFactory factory, Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        lock.readLock().lock();
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.setCodec(realObjectMapper);
+            realObjectMapper.writeValue(generator, value);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return out.toByteArray();
+    }
+
     public JsonNode readTree(InputStream in) throws IOException {
         lock.readLock().lock();
         try {
@@ -0,0 +1,63 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.util;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates unique identifiers consisting of a random prefix, which is chosen once per generator, followed by a
+ * counter.
+ * <p>
+ * The prefix has 96 random bits, so identifiers of different joynr runtimes do not collide. Each thread reserves
+ * blocks of counter values from a shared counter, so that threads do not contend with each other when creating
+ * identifiers. Identifiers are therefore unique, but not ordered across threads.
+ */
+public class PrefixedCounterIdGenerator implements UniqueIdGenerator {
+    private static final int PREFIX_BYTES = 12;
+    private static final int COUNTER_BLOCK_SIZE = 1024;
+
+    private final String prefix;
+    private final AtomicLong nextCounterBlock = new AtomicLong();
+    // [next counter value, end of the reserved block (exclusive)]
+    private final ThreadLocal<long[]> reservedCounters = ThreadLocal.withInitial(() -> new long[2]);
+
+    public PrefixedCounterIdGenerator() {
+        this(new SecureRandom());
+    }
+
+    PrefixedCounterIdGenerator(Random random) {
+        byte[] prefixBytes = new byte[PREFIX_BYTES];
+        random.nextBytes(prefixBytes);
+        // 12 bytes are encoded to 16 characters without padding, which keeps the prefix length fixed
+        prefix = Base64.getUrlEncoder().withoutPadding().encodeToString(prefixBytes);
+    }
+
+    @Override
+    public String createUniqueId() {
+        long[] counters = reservedCounters.get();
+        if (counters[0] == counters[1]) {
+            counters[0] = nextCounterBlock.getAndIncrement() * COUNTER_BLOCK_SIZE;
+            counters[1] = counters[0] + COUNTER_BLOCK_SIZE;
+        }
+        return prefix.concat(Long.toString(counters[0]++, Character.MAX_RADIX));
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.util;
+
+/**
+ * Creates identifiers which are unique across all joynr runtimes, e.g. message IDs and request reply IDs.
+ * The identifiers only need to be unique, not unpredictable, and must therefore not be used as secrets.
+ * They must not contain the special MQTT characters '/', '+', '$' and '#'.
+ * <p>
+ * A custom implementation can be bound in the joynr runtime module; it replaces the default
+ * {@link PrefixedCounterIdGenerator} used by {@link JoynrUtil#createUniqueId()}.
+ */
+public interface UniqueIdGenerator {
+
+    /**
+     * @return a new unique identifier
+     */
+    String createUniqueId();
+}
@@ -0,0 +1,76 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.FrancaNameTestPackage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.provider.Promise;
+import io.joynr.provider.Deferred;
+import io.joynr.provider.DeferredVoid;
+
+
+public class DefaultfrancaNameTestInterfaceProvider extends francaNameTestInterfaceAbstractProvider {
+	private static final Logger logger = LoggerFactory.getLogger(DefaultfrancaNameTestInterfaceProvider.class);
+
+	protected Integer FrancaNameTestAttribute;
+
+	public DefaultfrancaNameTestInterfaceProvider() {
+	}
+
+
+	@Override
+	public Promise<Deferred<Integer>> getFrancaNameTestAttribute() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(FrancaNameTestAttribute);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setFrancaNameTestAttribute(Integer FrancaNameTestAttribute) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.FrancaNameTestAttribute = FrancaNameTestAttribute;
+		FrancaNameTestAttributeChanged(FrancaNameTestAttribute);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+
+	/*
+	* FrancaNameTestMethod
+	*/
+	@Override
+	public Promise<FrancaNameTestMethodDeferred> FrancaNameTestMethod(
+			Integer FrancaNameTestInParam) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultfrancaNameTestInterfaceProvider.FrancaNameTestMethod called");
+		logger.warn("**********************************************");
+		FrancaNameTestMethodDeferred deferred = new FrancaNameTestMethodDeferred();
+		Integer FrancaNameTestOutParam = 0;
+		deferred.resolve(FrancaNameTestOutParam);
+		return new Promise<>(deferred);
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.FrancaNameTestPackage;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.proxy.Callback;
+import io.joynr.proxy.Future;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcCallback;
+import io.joynr.Async;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+import io.joynr.exceptions.DiscoveryException;
+
+
+
+@Async
+@ProvidedBy(francaNameTestInterfaceProvider.class)
+@UsedBy(francaNameTestInterfaceProxy.class)
+public interface francaNameTestInterfaceAsync extends francaNameTestInterface {
+
+	public Future<Integer> getFrancaNameTestAttribute(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getFrancaNameTestAttribute(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getFrancaNameTestAttribute(callback);
+	}
+	Future<Void> setFrancaNameTestAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer FrancaNameTestAttribute) throws DiscoveryException;
+	default Future<Void> setFrancaNameTestAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer FrancaNameTestAttribute, MessagingQos messagingQos) throws DiscoveryException {
+		return setFrancaNameTestAttribute(callback, FrancaNameTestAttribute);
+	}
+
+
+
+
+	/*
+	* FrancaNameTestMethod
+	*/
+	public Future<Integer> FrancaNameTestMethod(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer FrancaNameTestInParam
+	);
+	default public Future<Integer> FrancaNameTestMethod(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer FrancaNameTestInParam,
+			MessagingQos messagingQos
+	) {
+		return FrancaNameTestMethod(
+			callback,
+			FrancaNameTestInParam
+		);
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.FrancaNameTestPackage;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+
+@UsedBy(francaNameTestInterfaceProxy.class)
+public interface francaNameTestInterfaceStatelessAsyncCallback extends StatelessAsyncCallback {
+
+	/*
+	* FrancaNameTestAttribute getter
+	*/
+	@StatelessCallbackCorrelation("1547659730")
+	default void getFrancaNameTestAttributeSuccess(Integer FrancaNameTestAttribute, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getFrancaNameTestAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1547659730")
+	default void getFrancaNameTestAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getFrancaNameTestAttributeFailed not implemented for callback instance"); }
+	/*
+	* FrancaNameTestAttribute setter
+	*/
+	@StatelessCallbackCorrelation("1919897414")
+	default void setFrancaNameTestAttributeSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setFrancaNameTestAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1919897414")
+	default void setFrancaNameTestAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setFrancaNameTestAttributeFailed not implemented for callback instance"); }
+
+	/*
+	* FrancaNameTestMethod
+	*/
+	@StatelessCallbackCorrelation("1324428214")
+	default void FrancaNameTestMethodSuccess(
+			Integer FrancaNameTestOutParam,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("FrancaNameTestMethodSuccess not implemented for callback instance"); }
+	default void FrancaNameTestMethodFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("FrancaNameTestMethodFailed with exception not implemented for callback instance"); }
+}
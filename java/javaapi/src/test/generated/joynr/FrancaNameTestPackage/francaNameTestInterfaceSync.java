@@ -0,0 +1,63 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.FrancaNameTestPackage;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.Sync;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+
+
+@Sync
+@ProvidedBy(francaNameTestInterfaceProvider.class)
+@UsedBy(francaNameTestInterfaceProxy.class)
+public interface francaNameTestInterfaceSync extends francaNameTestInterface {
+
+	public Integer getFrancaNameTestAttribute();
+	default public Integer getFrancaNameTestAttribute(MessagingQos messagingQos) {
+		return getFrancaNameTestAttribute();
+	}
+	void setFrancaNameTestAttribute(Integer FrancaNameTestAttribute);
+	default void setFrancaNameTestAttribute(Integer FrancaNameTestAttribute, MessagingQos messagingQos) {
+	}
+
+
+	/*
+	* FrancaNameTestMethod
+	*/
+	public Integer FrancaNameTestMethod(
+			Integer FrancaNameTestInParam
+	);
+	default public Integer FrancaNameTestMethod(
+			Integer FrancaNameTestInParam,
+			MessagingQos messagingQos
+	) {
+		return FrancaNameTestMethod(
+			FrancaNameTestInParam
+		);
+	}
+}
@@ -0,0 +1,1320 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.provider.Promise;
+import io.joynr.provider.Deferred;
+import io.joynr.provider.DeferredVoid;
+
+import joynr.tests.testTypes.AnotherDerivedStruct;
+import joynr.tests.testTypes.BaseStruct;
+import joynr.tests.testTypes.ComplexTestType;
+import joynr.tests.testTypes.ComplexTestType2;
+import joynr.tests.testTypes.DerivedStruct;
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.tests.testTypes.TestEnumWithoutValues;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+import joynr.types.TestTypes.Vowel;
+
+public class DefaulttestProvider extends testAbstractProvider {
+	private static final Logger logger = LoggerFactory.getLogger(DefaulttestProvider.class);
+
+	protected TestEnum enumAttribute;
+	protected TestEnum enumAttributeReadOnly;
+	protected TestEnum[] listOfEnumsAttribute;
+	protected GpsLocation location;
+	protected Trip mytrip;
+	protected GpsLocation yourLocation;
+	protected Integer firstPrime;
+	protected Integer[] listOfInts;
+	protected GpsLocation[] listOfLocations;
+	protected String[] listOfStrings;
+	protected Integer testAttribute;
+	protected GpsLocation complexTestAttribute;
+	protected Integer readWriteAttribute;
+	protected Integer readOnlyAttribute;
+	protected Integer writeOnly;
+	protected Integer notifyWriteOnly;
+	protected Integer notifyReadOnly;
+	protected Integer notifyReadWrite;
+	protected Integer notify;
+	protected Integer ATTRIBUTEWITHCAPITALLETTERS;
+	protected Integer attributeWithProviderRuntimeException;
+	protected Integer attributeWithThrownException;
+	protected TEverythingMap EverythingMap;
+	protected HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs;
+	protected Byte[] byteBufferAttribute;
+	// type resolved from modeled Franca typedef TypeDefForTStruct as TStruct
+	protected TStruct typeDefForTStruct;
+	// type resolved from modeled Franca typedef TypeDefForTStruct as TStruct
+	protected TStruct[] typeDefForTStructArray;
+	// type resolved from modeled Franca typedef TypeDefForPrimitive as Integer
+	protected Integer typeDefForPrimitive;
+	// type resolved from modeled Franca typedef TypeDefForPrimitive as Integer
+	protected Integer[] typeDefForPrimitiveArray;
+
+	public DefaulttestProvider() {
+	}
+
+
+	@Override
+	public Promise<Deferred<TestEnum>> getEnumAttribute() {
+		Deferred<TestEnum> deferred = new Deferred<>();
+		deferred.resolve(enumAttribute);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setEnumAttribute(TestEnum enumAttribute) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.enumAttribute = enumAttribute;
+		enumAttributeChanged(enumAttribute);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<TestEnum>> getEnumAttributeReadOnly() {
+		Deferred<TestEnum> deferred = new Deferred<>();
+		deferred.resolve(enumAttributeReadOnly);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<TestEnum[]>> getListOfEnumsAttribute() {
+		Deferred<TestEnum[]> deferred = new Deferred<>();
+		deferred.resolve(listOfEnumsAttribute);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setListOfEnumsAttribute(TestEnum[] listOfEnumsAttribute) {
+		DeferredVoid deferred = new DeferredVoid();
+		if (listOfEnumsAttribute != null) {
+			this.listOfEnumsAttribute = listOfEnumsAttribute.clone();
+		} else {
+			this.listOfEnumsAttribute = null;
+		}
+		listOfEnumsAttributeChanged(listOfEnumsAttribute);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<GpsLocation>> getLocation() {
+		Deferred<GpsLocation> deferred = new Deferred<>();
+		deferred.resolve(location);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setLocation(GpsLocation location) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.location = new GpsLocation(location);
+		locationChanged(location);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Trip>> getMytrip() {
+		Deferred<Trip> deferred = new Deferred<>();
+		deferred.resolve(mytrip);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<GpsLocation>> getYourLocation() {
+		Deferred<GpsLocation> deferred = new Deferred<>();
+		deferred.resolve(yourLocation);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<Integer>> getFirstPrime() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(firstPrime);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setFirstPrime(Integer firstPrime) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.firstPrime = firstPrime;
+		firstPrimeChanged(firstPrime);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer[]>> getListOfInts() {
+		Deferred<Integer[]> deferred = new Deferred<>();
+		deferred.resolve(listOfInts);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setListOfInts(Integer[] listOfInts) {
+		DeferredVoid deferred = new DeferredVoid();
+		if (listOfInts != null) {
+			this.listOfInts = listOfInts.clone();
+		} else {
+			this.listOfInts = null;
+		}
+		listOfIntsChanged(listOfInts);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<GpsLocation[]>> getListOfLocations() {
+		Deferred<GpsLocation[]> deferred = new Deferred<>();
+		deferred.resolve(listOfLocations);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<String[]>> getListOfStrings() {
+		Deferred<String[]> deferred = new Deferred<>();
+		deferred.resolve(listOfStrings);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setListOfStrings(String[] listOfStrings) {
+		DeferredVoid deferred = new DeferredVoid();
+		if (listOfStrings != null) {
+			this.listOfStrings = listOfStrings.clone();
+		} else {
+			this.listOfStrings = null;
+		}
+		listOfStringsChanged(listOfStrings);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getTestAttribute() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(testAttribute);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setTestAttribute(Integer testAttribute) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.testAttribute = testAttribute;
+		testAttributeChanged(testAttribute);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<GpsLocation>> getComplexTestAttribute() {
+		Deferred<GpsLocation> deferred = new Deferred<>();
+		deferred.resolve(complexTestAttribute);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setComplexTestAttribute(GpsLocation complexTestAttribute) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.complexTestAttribute = new GpsLocation(complexTestAttribute);
+		complexTestAttributeChanged(complexTestAttribute);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getReadWriteAttribute() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(readWriteAttribute);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setReadWriteAttribute(Integer readWriteAttribute) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.readWriteAttribute = readWriteAttribute;
+		readWriteAttributeChanged(readWriteAttribute);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getReadOnlyAttribute() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(readOnlyAttribute);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<Integer>> getWriteOnly() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(writeOnly);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setWriteOnly(Integer writeOnly) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.writeOnly = writeOnly;
+		writeOnlyChanged(writeOnly);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getNotifyWriteOnly() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(notifyWriteOnly);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setNotifyWriteOnly(Integer notifyWriteOnly) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.notifyWriteOnly = notifyWriteOnly;
+		notifyWriteOnlyChanged(notifyWriteOnly);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getNotifyReadOnly() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(notifyReadOnly);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<Integer>> getNotifyReadWrite() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(notifyReadWrite);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setNotifyReadWrite(Integer notifyReadWrite) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.notifyReadWrite = notifyReadWrite;
+		notifyReadWriteChanged(notifyReadWrite);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getNotify() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(notify);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setNotify(Integer notify) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.notify = notify;
+		notifyChanged(notify);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getATTRIBUTEWITHCAPITALLETTERS() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(ATTRIBUTEWITHCAPITALLETTERS);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setATTRIBUTEWITHCAPITALLETTERS(Integer ATTRIBUTEWITHCAPITALLETTERS) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.ATTRIBUTEWITHCAPITALLETTERS = ATTRIBUTEWITHCAPITALLETTERS;
+		ATTRIBUTEWITHCAPITALLETTERSChanged(ATTRIBUTEWITHCAPITALLETTERS);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getAttributeWithProviderRuntimeException() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(attributeWithProviderRuntimeException);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setAttributeWithProviderRuntimeException(Integer attributeWithProviderRuntimeException) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.attributeWithProviderRuntimeException = attributeWithProviderRuntimeException;
+		attributeWithProviderRuntimeExceptionChanged(attributeWithProviderRuntimeException);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getAttributeWithThrownException() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(attributeWithThrownException);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setAttributeWithThrownException(Integer attributeWithThrownException) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.attributeWithThrownException = attributeWithThrownException;
+		attributeWithThrownExceptionChanged(attributeWithThrownException);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<TEverythingMap>> getEverythingMap() {
+		Deferred<TEverythingMap> deferred = new Deferred<>();
+		deferred.resolve(EverythingMap);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setEverythingMap(TEverythingMap EverythingMap) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.EverythingMap = new TEverythingMap(EverythingMap);
+		EverythingMapChanged(EverythingMap);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<HavingComplexArrayMemberStruct[]>> getAttributeArrayOfNestedStructs() {
+		Deferred<HavingComplexArrayMemberStruct[]> deferred = new Deferred<>();
+		deferred.resolve(attributeArrayOfNestedStructs);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setAttributeArrayOfNestedStructs(HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs) {
+		DeferredVoid deferred = new DeferredVoid();
+		if (attributeArrayOfNestedStructs != null) {
+			this.attributeArrayOfNestedStructs = attributeArrayOfNestedStructs.clone();
+		} else {
+			this.attributeArrayOfNestedStructs = null;
+		}
+		attributeArrayOfNestedStructsChanged(attributeArrayOfNestedStructs);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Byte[]>> getByteBufferAttribute() {
+		Deferred<Byte[]> deferred = new Deferred<>();
+		deferred.resolve(byteBufferAttribute);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setByteBufferAttribute(Byte[] byteBufferAttribute) {
+		DeferredVoid deferred = new DeferredVoid();
+		if (byteBufferAttribute != null) {
+			this.byteBufferAttribute = byteBufferAttribute.clone();
+		} else {
+			this.byteBufferAttribute = null;
+		}
+		byteBufferAttributeChanged(byteBufferAttribute);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<TStruct>> getTypeDefForTStruct() {
+		Deferred<TStruct> deferred = new Deferred<>();
+		deferred.resolve(typeDefForTStruct);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setTypeDefForTStruct(TStruct typeDefForTStruct) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.typeDefForTStruct = new TStruct(typeDefForTStruct);
+		typeDefForTStructChanged(typeDefForTStruct);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<TStruct[]>> getTypeDefForTStructArray() {
+		Deferred<TStruct[]> deferred = new Deferred<>();
+		deferred.resolve(typeDefForTStructArray);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setTypeDefForTStructArray(TStruct[] typeDefForTStructArray) {
+		DeferredVoid deferred = new DeferredVoid();
+		if (typeDefForTStructArray != null) {
+			this.typeDefForTStructArray = typeDefForTStructArray.clone();
+		} else {
+			this.typeDefForTStructArray = null;
+		}
+		typeDefForTStructArrayChanged(typeDefForTStructArray);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer>> getTypeDefForPrimitive() {
+		Deferred<Integer> deferred = new Deferred<>();
+		deferred.resolve(typeDefForPrimitive);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setTypeDefForPrimitive(Integer typeDefForPrimitive) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.typeDefForPrimitive = typeDefForPrimitive;
+		typeDefForPrimitiveChanged(typeDefForPrimitive);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Integer[]>> getTypeDefForPrimitiveArray() {
+		Deferred<Integer[]> deferred = new Deferred<>();
+		deferred.resolve(typeDefForPrimitiveArray);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setTypeDefForPrimitiveArray(Integer[] typeDefForPrimitiveArray) {
+		DeferredVoid deferred = new DeferredVoid();
+		if (typeDefForPrimitiveArray != null) {
+			this.typeDefForPrimitiveArray = typeDefForPrimitiveArray.clone();
+		} else {
+			this.typeDefForPrimitiveArray = null;
+		}
+		typeDefForPrimitiveArrayChanged(typeDefForPrimitiveArray);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+
+	/*
+	* echoCallingPrincipal
+	*/
+	@Override
+	public Promise<EchoCallingPrincipalDeferred> echoCallingPrincipal(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.echoCallingPrincipal called");
+		logger.warn("**********************************************");
+		EchoCallingPrincipalDeferred deferred = new EchoCallingPrincipalDeferred();
+		String callingPrincipal = "";
+		deferred.resolve(callingPrincipal);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* fireAndForgetMethod
+	*/
+	@Override
+	public void fireAndForgetMethod(
+			String input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.fireAndForgetMethod called");
+		logger.warn("**********************************************");
+	}
+
+	/*
+	* addNumbers
+	*/
+	@Override
+	public Promise<AddNumbersDeferred> addNumbers(
+			Integer first,
+			Integer second,
+			Integer third) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.addNumbers called");
+		logger.warn("**********************************************");
+		AddNumbersDeferred deferred = new AddNumbersDeferred();
+		Integer result = 0;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* sumInts
+	*/
+	@Override
+	public Promise<SumIntsDeferred> sumInts(
+			Integer[] ints) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.sumInts called");
+		logger.warn("**********************************************");
+		SumIntsDeferred deferred = new SumIntsDeferred();
+		Integer result = 0;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* sumIntsDelayed
+	*/
+	@Override
+	public Promise<SumIntsDelayedDeferred> sumIntsDelayed(
+			Integer[] ints) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.sumIntsDelayed called");
+		logger.warn("**********************************************");
+		SumIntsDelayedDeferred deferred = new SumIntsDelayedDeferred();
+		Integer result = 0;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithNoInputParameters
+	*/
+	@Override
+	public Promise<MethodWithNoInputParametersDeferred> methodWithNoInputParameters(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithNoInputParameters called");
+		logger.warn("**********************************************");
+		MethodWithNoInputParametersDeferred deferred = new MethodWithNoInputParametersDeferred();
+		Integer result = 0;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithStrings
+	*/
+	@Override
+	public Promise<MethodWithStringsDeferred> methodWithStrings(
+			String input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithStrings called");
+		logger.warn("**********************************************");
+		MethodWithStringsDeferred deferred = new MethodWithStringsDeferred();
+		String result = "";
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithEnumParameter
+	*/
+	@Override
+	public Promise<MethodWithEnumParameterDeferred> methodWithEnumParameter(
+			TestEnum input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithEnumParameter called");
+		logger.warn("**********************************************");
+		MethodWithEnumParameterDeferred deferred = new MethodWithEnumParameterDeferred();
+		Integer result = 0;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithByteBuffer
+	*/
+	@Override
+	public Promise<MethodWithByteBufferDeferred> methodWithByteBuffer(
+			Byte[] input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithByteBuffer called");
+		logger.warn("**********************************************");
+		MethodWithByteBufferDeferred deferred = new MethodWithByteBufferDeferred();
+		Byte[] result = new Byte[0];
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithEnumListParameter
+	*/
+	@Override
+	public Promise<MethodWithEnumListParameterDeferred> methodWithEnumListParameter(
+			TestEnum[] input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithEnumListParameter called");
+		logger.warn("**********************************************");
+		MethodWithEnumListParameterDeferred deferred = new MethodWithEnumListParameterDeferred();
+		Integer result = 0;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodFireAndForgetWithoutParams
+	*/
+	@Override
+	public void methodFireAndForgetWithoutParams(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodFireAndForgetWithoutParams called");
+		logger.warn("**********************************************");
+	}
+
+	/*
+	* methodFireAndForget
+	*/
+	@Override
+	public void methodFireAndForget(
+			Integer intIn,
+			String stringIn,
+			ComplexTestType complexTestTypeIn) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodFireAndForget called");
+		logger.warn("**********************************************");
+	}
+
+	/*
+	* methodFireAndForgetWithEnumWithValues
+	*/
+	@Override
+	public void methodFireAndForgetWithEnumWithValues(
+			TestEnum enumIn) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodFireAndForgetWithEnumWithValues called");
+		logger.warn("**********************************************");
+	}
+
+	/*
+	* methodFireAndForgetWithEnumWithoutValues
+	*/
+	@Override
+	public void methodFireAndForgetWithEnumWithoutValues(
+			TestEnumWithoutValues enumIn) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodFireAndForgetWithEnumWithoutValues called");
+		logger.warn("**********************************************");
+	}
+
+	/*
+	* methodWithEnumWithoutValues
+	*/
+	@Override
+	public Promise<MethodWithEnumWithoutValuesDeferred> methodWithEnumWithoutValues(
+			TestEnumWithoutValues enumIn) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithEnumWithoutValues called");
+		logger.warn("**********************************************");
+		MethodWithEnumWithoutValuesDeferred deferred = new MethodWithEnumWithoutValuesDeferred();
+		TestEnumWithoutValues enumOut = TestEnumWithoutValues.ALPHA;
+		deferred.resolve(enumOut);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithEnumReturn
+	*/
+	@Override
+	public Promise<MethodWithEnumReturnDeferred> methodWithEnumReturn(
+			Integer input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithEnumReturn called");
+		logger.warn("**********************************************");
+		MethodWithEnumReturnDeferred deferred = new MethodWithEnumReturnDeferred();
+		TestEnum result = TestEnum.ZERO;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithEnumListReturn
+	*/
+	@Override
+	public Promise<MethodWithEnumListReturnDeferred> methodWithEnumListReturn(
+			Integer input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithEnumListReturn called");
+		logger.warn("**********************************************");
+		MethodWithEnumListReturnDeferred deferred = new MethodWithEnumListReturnDeferred();
+		TestEnum[] result = { };
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithByteArray
+	*/
+	@Override
+	public Promise<MethodWithByteArrayDeferred> methodWithByteArray(
+			Byte[] input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithByteArray called");
+		logger.warn("**********************************************");
+		MethodWithByteArrayDeferred deferred = new MethodWithByteArrayDeferred();
+		Byte[] result = { };
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithPrimitiveTypeDef
+	*/
+	@Override
+	public Promise<MethodWithPrimitiveTypeDefDeferred> methodWithPrimitiveTypeDef(
+			Integer input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithPrimitiveTypeDef called");
+		logger.warn("**********************************************");
+		MethodWithPrimitiveTypeDefDeferred deferred = new MethodWithPrimitiveTypeDefDeferred();
+		Integer result = 0;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithCompoundTypeDef
+	*/
+	@Override
+	public Promise<MethodWithCompoundTypeDefDeferred> methodWithCompoundTypeDef(
+			TStruct input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithCompoundTypeDef called");
+		logger.warn("**********************************************");
+		MethodWithCompoundTypeDefDeferred deferred = new MethodWithCompoundTypeDefDeferred();
+		TStruct result = new TStruct();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodEnumDoubleParameters
+	*/
+	@Override
+	public Promise<DeferredVoid> methodEnumDoubleParameters(
+			TestEnum enumParam,
+			Double doubleParam) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodEnumDoubleParameters called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodStringDoubleParameters
+	*/
+	@Override
+	public Promise<DeferredVoid> methodStringDoubleParameters(
+			String stringParam,
+			Double doubleParam) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodStringDoubleParameters called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodCustomCustomParameters
+	*/
+	@Override
+	public Promise<DeferredVoid> methodCustomCustomParameters(
+			ComplexTestType customParam1,
+			ComplexTestType2 customParam2) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodCustomCustomParameters called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodStringDoubleListParameters
+	*/
+	@Override
+	public Promise<DeferredVoid> methodStringDoubleListParameters(
+			String stringParam,
+			Double[] doubleListParam) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodStringDoubleListParameters called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodCustomCustomListParameters
+	*/
+	@Override
+	public Promise<DeferredVoid> methodCustomCustomListParameters(
+			ComplexTestType customParam,
+			ComplexTestType2[] customListParam) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodCustomCustomListParameters called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* customTypeAndListParameter
+	*/
+	@Override
+	public Promise<DeferredVoid> customTypeAndListParameter(
+			ComplexTestType complexTestType,
+			BaseStruct[] complexArray) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.customTypeAndListParameter called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* voidOperation
+	*/
+	@Override
+	public Promise<DeferredVoid> voidOperation(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.voidOperation called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* stringAndBoolParameters
+	*/
+	@Override
+	public Promise<DeferredVoid> stringAndBoolParameters(
+			String stringParam,
+			Boolean boolParam) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.stringAndBoolParameters called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* mapParameters
+	*/
+	@Override
+	public Promise<MapParametersDeferred> mapParameters(
+			TStringKeyMap tStringMapIn) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.mapParameters called");
+		logger.warn("**********************************************");
+		MapParametersDeferred deferred = new MapParametersDeferred();
+		TStringKeyMap tStringMapOut = new TStringKeyMap();
+		deferred.resolve(tStringMapOut);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* returnPrimeNumbers
+	*/
+	@Override
+	public Promise<ReturnPrimeNumbersDeferred> returnPrimeNumbers(
+			Integer upperBound) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.returnPrimeNumbers called");
+		logger.warn("**********************************************");
+		ReturnPrimeNumbersDeferred deferred = new ReturnPrimeNumbersDeferred();
+		Integer[] result = { };
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* optimizeTrip
+	*/
+	@Override
+	public Promise<OptimizeTripDeferred> optimizeTrip(
+			Trip input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.optimizeTrip called");
+		logger.warn("**********************************************");
+		OptimizeTripDeferred deferred = new OptimizeTripDeferred();
+		Trip result = new Trip();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* overloadedOperation
+	*/
+	@Override
+	public Promise<OverloadedOperation1Deferred> overloadedOperation(
+			DerivedStruct input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.overloadedOperation called");
+		logger.warn("**********************************************");
+		OverloadedOperation1Deferred deferred = new OverloadedOperation1Deferred();
+		String result = "";
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* overloadedOperation
+	*/
+	@Override
+	public Promise<OverloadedOperation1Deferred> overloadedOperation(
+			AnotherDerivedStruct input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.overloadedOperation called");
+		logger.warn("**********************************************");
+		OverloadedOperation1Deferred deferred = new OverloadedOperation1Deferred();
+		String result = "";
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* overloadedOperation
+	*/
+	@Override
+	public Promise<OverloadedOperation2Deferred> overloadedOperation(
+			String input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.overloadedOperation called");
+		logger.warn("**********************************************");
+		OverloadedOperation2Deferred deferred = new OverloadedOperation2Deferred();
+		ComplexTestType result = new ComplexTestType();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* overloadedOperation
+	*/
+	@Override
+	public Promise<OverloadedOperation3Deferred> overloadedOperation(
+			String input1,
+			String input2) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.overloadedOperation called");
+		logger.warn("**********************************************");
+		OverloadedOperation3Deferred deferred = new OverloadedOperation3Deferred();
+		ComplexTestType2 result = new ComplexTestType2();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* optimizeLocations
+	*/
+	@Override
+	public Promise<OptimizeLocationsDeferred> optimizeLocations(
+			GpsLocation[] input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.optimizeLocations called");
+		logger.warn("**********************************************");
+		OptimizeLocationsDeferred deferred = new OptimizeLocationsDeferred();
+		GpsLocation[] result = { };
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* toLowerCase
+	*/
+	@Override
+	public Promise<ToLowerCaseDeferred> toLowerCase(
+			String inputString) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.toLowerCase called");
+		logger.warn("**********************************************");
+		ToLowerCaseDeferred deferred = new ToLowerCaseDeferred();
+		String result = "";
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* waitTooLong
+	*/
+	@Override
+	public Promise<WaitTooLongDeferred> waitTooLong(
+			Long ttl_ms) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.waitTooLong called");
+		logger.warn("**********************************************");
+		WaitTooLongDeferred deferred = new WaitTooLongDeferred();
+		String result = "";
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* sayHello
+	*/
+	@Override
+	public Promise<SayHelloDeferred> sayHello(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.sayHello called");
+		logger.warn("**********************************************");
+		SayHelloDeferred deferred = new SayHelloDeferred();
+		String result = "";
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithEnumReturnValue
+	*/
+	@Override
+	public Promise<MethodWithEnumReturnValueDeferred> methodWithEnumReturnValue(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithEnumReturnValue called");
+		logger.warn("**********************************************");
+		MethodWithEnumReturnValueDeferred deferred = new MethodWithEnumReturnValueDeferred();
+		TestEnum result = TestEnum.ZERO;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* checkVowel
+	*/
+	@Override
+	public Promise<CheckVowelDeferred> checkVowel(
+			Vowel inputVowel) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.checkVowel called");
+		logger.warn("**********************************************");
+		CheckVowelDeferred deferred = new CheckVowelDeferred();
+		Boolean result = false;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* optimizeLocationList
+	*/
+	@Override
+	public Promise<OptimizeLocationListDeferred> optimizeLocationList(
+			GpsLocation[] inputList) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.optimizeLocationList called");
+		logger.warn("**********************************************");
+		OptimizeLocationListDeferred deferred = new OptimizeLocationListDeferred();
+		GpsLocation[] result = { };
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithErrorEnum
+	*/
+	@Override
+	public Promise<MethodWithErrorEnumDeferred> methodWithErrorEnum(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithErrorEnum called");
+		logger.warn("**********************************************");
+		MethodWithErrorEnumDeferred deferred = new MethodWithErrorEnumDeferred();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithMultipleOutAndErrorEnum
+	*/
+	@Override
+	public Promise<MethodWithMultipleOutAndErrorEnumDeferred> methodWithMultipleOutAndErrorEnum(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithMultipleOutAndErrorEnum called");
+		logger.warn("**********************************************");
+		MethodWithMultipleOutAndErrorEnumDeferred deferred = new MethodWithMultipleOutAndErrorEnumDeferred();
+		String out1 = "";
+		String out2 = "";
+		deferred.resolve(out1, out2);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithErrorEnumExtended
+	*/
+	@Override
+	public Promise<MethodWithErrorEnumExtendedDeferred> methodWithErrorEnumExtended(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithErrorEnumExtended called");
+		logger.warn("**********************************************");
+		MethodWithErrorEnumExtendedDeferred deferred = new MethodWithErrorEnumExtendedDeferred();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithInterfaceErrorEnum
+	*/
+	@Override
+	public Promise<MethodWithInterfaceErrorEnumDeferred> methodWithInterfaceErrorEnum(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithInterfaceErrorEnum called");
+		logger.warn("**********************************************");
+		MethodWithInterfaceErrorEnumDeferred deferred = new MethodWithInterfaceErrorEnumDeferred();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithInterfaceErrorEnumExtended
+	*/
+	@Override
+	public Promise<MethodWithInterfaceErrorEnumExtendedDeferred> methodWithInterfaceErrorEnumExtended(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithInterfaceErrorEnumExtended called");
+		logger.warn("**********************************************");
+		MethodWithInterfaceErrorEnumExtendedDeferred deferred = new MethodWithInterfaceErrorEnumExtendedDeferred();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithImplicitErrorEnum
+	*/
+	@Override
+	public Promise<MethodWithImplicitErrorEnumDeferred> methodWithImplicitErrorEnum(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithImplicitErrorEnum called");
+		logger.warn("**********************************************");
+		MethodWithImplicitErrorEnumDeferred deferred = new MethodWithImplicitErrorEnumDeferred();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithProviderRuntimeException
+	*/
+	@Override
+	public Promise<DeferredVoid> methodWithProviderRuntimeException(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithProviderRuntimeException called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithThrownException
+	*/
+	@Override
+	public Promise<DeferredVoid> methodWithThrownException(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithThrownException called");
+		logger.warn("**********************************************");
+		DeferredVoid deferred = new DeferredVoid();
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithMultipleOutputParameters
+	*/
+	@Override
+	public Promise<MethodWithMultipleOutputParametersDeferred> methodWithMultipleOutputParameters(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithMultipleOutputParameters called");
+		logger.warn("**********************************************");
+		MethodWithMultipleOutputParametersDeferred deferred = new MethodWithMultipleOutputParametersDeferred();
+		String aString = "";
+		Integer aNumber = 0;
+		GpsLocation aComplexDataType = new GpsLocation();
+		TestEnum anEnumResult = TestEnum.ZERO;
+		deferred.resolve(aString, aNumber, aComplexDataType, anEnumResult);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* methodWithAllPossiblePrimitiveParameters
+	*/
+	@Override
+	public Promise<MethodWithAllPossiblePrimitiveParametersDeferred> methodWithAllPossiblePrimitiveParameters(
+			Boolean booleanArg,
+			Double doubleArg,
+			Float floatArg,
+			Short int16Arg,
+			Integer int32Arg,
+			Long int64Arg,
+			Byte int8Arg,
+			String stringArg,
+			Short uInt16Arg,
+			Integer uInt32Arg,
+			Long uInt64Arg,
+			Byte uInt8Arg) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaulttestProvider.methodWithAllPossiblePrimitiveParameters called");
+		logger.warn("**********************************************");
+		MethodWithAllPossiblePrimitiveParametersDeferred deferred = new MethodWithAllPossiblePrimitiveParametersDeferred();
+		Boolean booleanOut = false;
+		Double doubleOut = 0d;
+		Float floatOut = 0f;
+		Short int16Out = 0;
+		Integer int32Out = 0;
+		Long int64Out = 0L;
+		Byte int8Out = 0;
+		String stringOut = "";
+		Short uInt16Out = 0;
+		Integer uInt32Out = 0;
+		Long uInt64Out = 0l;
+		Byte uInt8Out = 0;
+		deferred.resolve(booleanOut, doubleOut, floatOut, int16Out, int32Out, int64Out, int8Out, stringOut, uInt16Out, uInt32Out, uInt64Out, uInt8Out);
+		return new Promise<>(deferred);
+	}
+}
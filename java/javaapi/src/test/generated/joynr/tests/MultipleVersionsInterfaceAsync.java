@@ -0,0 +1,140 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.proxy.Callback;
+import io.joynr.proxy.Future;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcCallback;
+import io.joynr.Async;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+import io.joynr.exceptions.DiscoveryException;
+
+import joynr.tests.AnonymousVersionedStruct;
+import joynr.tests.InterfaceVersionedStruct;
+import joynr.tests.MultipleVersionsTypeCollection.VersionedStruct;
+
+
+@Async
+@ProvidedBy(MultipleVersionsInterfaceProvider.class)
+@UsedBy(MultipleVersionsInterfaceProxy.class)
+public interface MultipleVersionsInterfaceAsync extends MultipleVersionsInterface {
+
+	public Future<Byte> getUInt8Attribute1(@JoynrRpcCallback(deserializationType = Byte.class) Callback<Byte> callback);
+	default public Future<Byte> getUInt8Attribute1(@JoynrRpcCallback(deserializationType = Byte.class) Callback<Byte> callback, MessagingQos messagingQos) {
+		return getUInt8Attribute1(callback);
+	}
+	Future<Void> setUInt8Attribute1(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Byte uInt8Attribute1) throws DiscoveryException;
+	default Future<Void> setUInt8Attribute1(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Byte uInt8Attribute1, MessagingQos messagingQos) throws DiscoveryException {
+		return setUInt8Attribute1(callback, uInt8Attribute1);
+	}
+	public Future<Byte> getUInt8Attribute2(@JoynrRpcCallback(deserializationType = Byte.class) Callback<Byte> callback);
+	default public Future<Byte> getUInt8Attribute2(@JoynrRpcCallback(deserializationType = Byte.class) Callback<Byte> callback, MessagingQos messagingQos) {
+		return getUInt8Attribute2(callback);
+	}
+	Future<Void> setUInt8Attribute2(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Byte uInt8Attribute2) throws DiscoveryException;
+	default Future<Void> setUInt8Attribute2(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Byte uInt8Attribute2, MessagingQos messagingQos) throws DiscoveryException {
+		return setUInt8Attribute2(callback, uInt8Attribute2);
+	}
+
+
+
+
+	/*
+	* getTrue
+	*/
+	public Future<Boolean> getTrue(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback
+	);
+	default public Future<Boolean> getTrue(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return getTrue(
+			callback
+		);
+	}
+
+
+	/*
+	* getVersionedStruct
+	*/
+	public Future<VersionedStruct> getVersionedStruct(
+			@JoynrRpcCallback(deserializationType = VersionedStruct.class) Callback<VersionedStruct> callback,
+			VersionedStruct input
+	);
+	default public Future<VersionedStruct> getVersionedStruct(
+			@JoynrRpcCallback(deserializationType = VersionedStruct.class) Callback<VersionedStruct> callback,
+			VersionedStruct input,
+			MessagingQos messagingQos
+	) {
+		return getVersionedStruct(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* getAnonymousVersionedStruct
+	*/
+	public Future<AnonymousVersionedStruct> getAnonymousVersionedStruct(
+			@JoynrRpcCallback(deserializationType = AnonymousVersionedStruct.class) Callback<AnonymousVersionedStruct> callback,
+			AnonymousVersionedStruct input
+	);
+	default public Future<AnonymousVersionedStruct> getAnonymousVersionedStruct(
+			@JoynrRpcCallback(deserializationType = AnonymousVersionedStruct.class) Callback<AnonymousVersionedStruct> callback,
+			AnonymousVersionedStruct input,
+			MessagingQos messagingQos
+	) {
+		return getAnonymousVersionedStruct(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* getInterfaceVersionedStruct
+	*/
+	public Future<InterfaceVersionedStruct> getInterfaceVersionedStruct(
+			@JoynrRpcCallback(deserializationType = InterfaceVersionedStruct.class) Callback<InterfaceVersionedStruct> callback,
+			InterfaceVersionedStruct input
+	);
+	default public Future<InterfaceVersionedStruct> getInterfaceVersionedStruct(
+			@JoynrRpcCallback(deserializationType = InterfaceVersionedStruct.class) Callback<InterfaceVersionedStruct> callback,
+			InterfaceVersionedStruct input,
+			MessagingQos messagingQos
+	) {
+		return getInterfaceVersionedStruct(
+			callback,
+			input
+		);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.provider.Promise;
+import io.joynr.provider.Deferred;
+import io.joynr.provider.AbstractDeferred;
+import io.joynr.provider.DeferredVoid;
+
+import io.joynr.provider.JoynrInterface;
+import io.joynr.JoynrVersion;
+
+import joynr.tests.AnonymousVersionedStruct;
+import joynr.tests.InterfaceVersionedStruct;
+import joynr.tests.MultipleVersionsTypeCollection.VersionedStruct;
+
+import io.joynr.provider.SubscriptionPublisherInjection;
+
+interface MultipleVersionsInterfaceSubscriptionPublisherInjection extends SubscriptionPublisherInjection<MultipleVersionsInterfaceSubscriptionPublisher> { }
+
+@JoynrInterface(provides = MultipleVersionsInterface.class, provider = MultipleVersionsInterfaceProvider.class, name = "tests/MultipleVersionsInterface")
+@JoynrVersion(major = 2, minor = 0)
+public interface MultipleVersionsInterfaceProvider extends MultipleVersionsInterfaceSubscriptionPublisherInjection {
+
+
+	Promise<Deferred<Byte>> getUInt8Attribute1();
+	Promise<DeferredVoid> setUInt8Attribute1(Byte uInt8Attribute1);
+
+	Promise<Deferred<Byte>> getUInt8Attribute2();
+	Promise<DeferredVoid> setUInt8Attribute2(Byte uInt8Attribute2);
+
+	/**
+	 * getTrue
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<GetTrueDeferred> getTrue(
+	);
+
+	/**
+	 * getVersionedStruct
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<GetVersionedStructDeferred> getVersionedStruct(
+			VersionedStruct input
+	);
+
+	/**
+	 * getAnonymousVersionedStruct
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<GetAnonymousVersionedStructDeferred> getAnonymousVersionedStruct(
+			AnonymousVersionedStruct input
+	);
+
+	/**
+	 * getInterfaceVersionedStruct
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<GetInterfaceVersionedStructDeferred> getInterfaceVersionedStruct(
+			InterfaceVersionedStruct input
+	);
+
+	public class GetTrueDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Boolean result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class GetVersionedStructDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(VersionedStruct result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class GetAnonymousVersionedStructDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(AnonymousVersionedStruct result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class GetInterfaceVersionedStructDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(InterfaceVersionedStruct result) {
+			return super.resolve(result);
+		}
+	}
+}
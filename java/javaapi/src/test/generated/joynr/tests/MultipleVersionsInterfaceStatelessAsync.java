@@ -0,0 +1,98 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.tests;
+
+import io.joynr.StatelessAsync;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.proxy.MessageIdCallback;
+import io.joynr.UsedBy;
+
+import joynr.tests.AnonymousVersionedStruct;
+import joynr.tests.InterfaceVersionedStruct;
+import joynr.tests.MultipleVersionsTypeCollection.VersionedStruct;
+
+@StatelessAsync
+@UsedBy(MultipleVersionsInterfaceProxy.class)
+public interface MultipleVersionsInterfaceStatelessAsync extends MultipleVersionsInterface {
+
+	/*
+	* uInt8Attribute1 getter
+	*/
+	@StatelessCallbackCorrelation("2008693181")
+	void getUInt8Attribute1(MessageIdCallback messageIdCallback);
+	/*
+	* uInt8Attribute1 setter
+	*/
+	@StatelessCallbackCorrelation("-1366240463")
+	void setUInt8Attribute1(Byte uInt8Attribute1, MessageIdCallback messageIdCallback);
+
+	/*
+	* uInt8Attribute2 getter
+	*/
+	@StatelessCallbackCorrelation("2008693182")
+	void getUInt8Attribute2(MessageIdCallback messageIdCallback);
+	/*
+	* uInt8Attribute2 setter
+	*/
+	@StatelessCallbackCorrelation("-1366240462")
+	void setUInt8Attribute2(Byte uInt8Attribute2, MessageIdCallback messageIdCallback);
+
+	/*
+	* getTrue
+	*/
+	@StatelessCallbackCorrelation("2118158759")
+	void getTrue(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* getVersionedStruct
+	*/
+	@StatelessCallbackCorrelation("115951097")
+	void getVersionedStruct(
+			VersionedStruct input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* getAnonymousVersionedStruct
+	*/
+	@StatelessCallbackCorrelation("2140974097")
+	void getAnonymousVersionedStruct(
+			AnonymousVersionedStruct input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* getInterfaceVersionedStruct
+	*/
+	@StatelessCallbackCorrelation("92300409")
+	void getInterfaceVersionedStruct(
+			InterfaceVersionedStruct input,
+			MessageIdCallback messageIdCallback
+	);
+}
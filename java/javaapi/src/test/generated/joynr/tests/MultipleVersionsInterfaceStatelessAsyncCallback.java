@@ -0,0 +1,139 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.tests;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+import joynr.tests.AnonymousVersionedStruct;
+import joynr.tests.InterfaceVersionedStruct;
+import joynr.tests.MultipleVersionsTypeCollection.VersionedStruct;
+
+@UsedBy(MultipleVersionsInterfaceProxy.class)
+public interface MultipleVersionsInterfaceStatelessAsyncCallback extends StatelessAsyncCallback {
+
+	/*
+	* uInt8Attribute1 getter
+	*/
+	@StatelessCallbackCorrelation("2008693181")
+	default void getUInt8Attribute1Success(Byte uInt8Attribute1, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getUInt8Attribute1Success not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("2008693181")
+	default void getUInt8Attribute1Failed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getUInt8Attribute1Failed not implemented for callback instance"); }
+	/*
+	* uInt8Attribute1 setter
+	*/
+	@StatelessCallbackCorrelation("-1366240463")
+	default void setUInt8Attribute1Success(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setUInt8Attribute1Success not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1366240463")
+	default void setUInt8Attribute1Failed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setUInt8Attribute1Failed not implemented for callback instance"); }
+
+	/*
+	* uInt8Attribute2 getter
+	*/
+	@StatelessCallbackCorrelation("2008693182")
+	default void getUInt8Attribute2Success(Byte uInt8Attribute2, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getUInt8Attribute2Success not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("2008693182")
+	default void getUInt8Attribute2Failed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getUInt8Attribute2Failed not implemented for callback instance"); }
+	/*
+	* uInt8Attribute2 setter
+	*/
+	@StatelessCallbackCorrelation("-1366240462")
+	default void setUInt8Attribute2Success(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setUInt8Attribute2Success not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1366240462")
+	default void setUInt8Attribute2Failed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setUInt8Attribute2Failed not implemented for callback instance"); }
+
+	/*
+	* getTrue
+	*/
+	@StatelessCallbackCorrelation("2118158759")
+	default void getTrueSuccess(
+			Boolean result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTrueSuccess not implemented for callback instance"); }
+	default void getTrueFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTrueFailed with exception not implemented for callback instance"); }
+
+	/*
+	* getVersionedStruct
+	*/
+	@StatelessCallbackCorrelation("115951097")
+	default void getVersionedStructSuccess(
+			VersionedStruct result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getVersionedStructSuccess not implemented for callback instance"); }
+	default void getVersionedStructFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getVersionedStructFailed with exception not implemented for callback instance"); }
+
+	/*
+	* getAnonymousVersionedStruct
+	*/
+	@StatelessCallbackCorrelation("2140974097")
+	default void getAnonymousVersionedStructSuccess(
+			AnonymousVersionedStruct result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getAnonymousVersionedStructSuccess not implemented for callback instance"); }
+	default void getAnonymousVersionedStructFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getAnonymousVersionedStructFailed with exception not implemented for callback instance"); }
+
+	/*
+	* getInterfaceVersionedStruct
+	*/
+	@StatelessCallbackCorrelation("92300409")
+	default void getInterfaceVersionedStructSuccess(
+			InterfaceVersionedStruct result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getInterfaceVersionedStructSuccess not implemented for callback instance"); }
+	default void getInterfaceVersionedStructFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getInterfaceVersionedStructFailed with exception not implemented for callback instance"); }
+}
@@ -0,0 +1,40 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.provider.AbstractSubscriptionPublisher;
+
+
+public class MultipleVersionsInterfaceSubscriptionPublisherImpl extends AbstractSubscriptionPublisher implements MultipleVersionsInterfaceSubscriptionPublisher {
+
+	public final void uInt8Attribute1Changed(Byte uInt8Attribute1) {
+		onAttributeValueChanged("uInt8Attribute1", uInt8Attribute1);
+	}
+	public final void uInt8Attribute2Changed(Byte uInt8Attribute2) {
+		onAttributeValueChanged("uInt8Attribute2", uInt8Attribute2);
+	}
+
+}
@@ -0,0 +1,151 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.tests;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class StructInsideInterface implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 47;
+	public static final int MINOR_VERSION = 11;
+	@JsonProperty("a")
+	private Short a;
+
+	/**
+	 * Default Constructor
+	 */
+	public StructInsideInterface() {
+		this.a = 0;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param structInsideInterfaceObj reference to the object to be copied
+	 */
+	public StructInsideInterface(StructInsideInterface structInsideInterfaceObj) {
+		this.a = structInsideInterfaceObj.a;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param a description missing in Franca model.
+	 */
+	public StructInsideInterface(
+		Short a
+		) {
+		this.a = a;
+	}
+
+	/**
+	 * Gets A
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Short getA() {
+		return a;
+	}
+
+	/**
+	 * Sets A
+	 *
+	 * @param a description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setA(Short a) {
+		if (a == null) {
+			throw new IllegalArgumentException("setting a to null is not allowed");
+		}
+		this.a = a;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "StructInsideInterface ["
+		+ "a=" + this.a
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		StructInsideInterface other = (StructInsideInterface) obj;
+		if (this.a == null) {
+			if (other.a != null) {
+				return false;
+			}
+		} else if (!this.a.equals(other.a)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.a == null) ? 0 : this.a.hashCode());
+		return result;
+	}
+}
+
+	
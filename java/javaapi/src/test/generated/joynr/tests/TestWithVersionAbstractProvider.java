@@ -0,0 +1,77 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.provider.AbstractJoynrProvider;
+import java.util.Set;
+import java.util.HashSet;
+import io.joynr.pubsub.publication.BroadcastFilterImpl;
+
+
+public abstract class TestWithVersionAbstractProvider extends AbstractJoynrProvider implements TestWithVersionProvider {
+
+	public TestWithVersionAbstractProvider() {
+		super();
+	}
+
+	private Set<BroadcastFilterImpl> queuedBroadcastFilters = new HashSet<>();
+
+	protected TestWithVersionSubscriptionPublisher testWithVersionSubscriptionPublisher;
+
+	@Override
+	public void setSubscriptionPublisher(TestWithVersionSubscriptionPublisher testWithVersionSubscriptionPublisher) {
+		this.testWithVersionSubscriptionPublisher = testWithVersionSubscriptionPublisher;
+		for (BroadcastFilterImpl filter: queuedBroadcastFilters) {
+			this.testWithVersionSubscriptionPublisher.addBroadcastFilter(filter);
+		}
+		queuedBroadcastFilters.clear();
+	}
+
+	public void addBroadcastFilter(BroadcastFilterImpl filter) {
+		if (this.testWithVersionSubscriptionPublisher != null) {
+			this.testWithVersionSubscriptionPublisher.addBroadcastFilter(filter);
+		} else {
+			queuedBroadcastFilters.add(filter);
+		}
+	}
+	public void addBroadcastFilter(BroadcastFilterImpl... filters) {
+		if (this.testWithVersionSubscriptionPublisher != null) {
+			this.testWithVersionSubscriptionPublisher.addBroadcastFilter(filters);
+		} else {
+			for (BroadcastFilterImpl filter: filters) {
+				queuedBroadcastFilters.add(filter);
+			}
+		}
+	}
+
+
+	public void fireEmptyBroadcast(String... partitions) {
+		if (testWithVersionSubscriptionPublisher != null) {
+			testWithVersionSubscriptionPublisher.fireEmptyBroadcast(partitions);
+		}
+	}
+
+}
@@ -0,0 +1,262 @@
+
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+package joynr.tests;
+
+import java.util.List;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import io.joynr.subtypes.JoynrType;
+import io.joynr.JoynrVersion;
+import joynr.tests.testTypes.AnotherDerivedStruct;
+import joynr.tests.testTypes.BaseStruct;
+import joynr.tests.testTypes.ComplexTestType;
+import joynr.tests.testTypes.ComplexTestType2;
+import joynr.tests.testTypes.DerivedStruct;
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.tests.testTypes.TestEnumWithoutValues;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TEverythingStruct;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+import joynr.types.TestTypes.Vowel;
+
+//The current generator is not able to check wether some of the imports are acutally necessary for this specific interface.
+//Therefore some imports migth be unused in this version of the interface.
+//To prevent warnings @SuppressWarnings("unused") is being used.
+//To prevent warnings about an unnecessary SuppressWarnings we have to import something that is not used. (e.g. TreeSet)
+import java.util.TreeSet;
+@SuppressWarnings("unused")
+@JoynrVersion(major = 47, minor = 11)
+public interface test {
+	public static String INTERFACE_NAME = "tests/test";
+
+
+	public static Set<Class<?>> getDataTypes() {
+		Set<Class<?>> set = new HashSet<>();
+		if (JoynrType.class.isAssignableFrom(joynr.tests.testTypes.AnotherDerivedStruct.class)) {
+			set.add(joynr.tests.testTypes.AnotherDerivedStruct.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.tests.testTypes.BaseStruct.class)) {
+			set.add(joynr.tests.testTypes.BaseStruct.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.tests.testTypes.ComplexTestType.class)) {
+			set.add(joynr.tests.testTypes.ComplexTestType.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.tests.testTypes.ComplexTestType2.class)) {
+			set.add(joynr.tests.testTypes.ComplexTestType2.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.tests.testTypes.DerivedStruct.class)) {
+			set.add(joynr.tests.testTypes.DerivedStruct.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.tests.testTypes.HavingComplexArrayMemberStruct.class)) {
+			set.add(joynr.tests.testTypes.HavingComplexArrayMemberStruct.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.tests.testTypes.TestEnum.class)) {
+			set.add(joynr.tests.testTypes.TestEnum.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.tests.testTypes.TestEnumWithoutValues.class)) {
+			set.add(joynr.tests.testTypes.TestEnumWithoutValues.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.Localisation.GpsLocation.class)) {
+			set.add(joynr.types.Localisation.GpsLocation.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.Localisation.Trip.class)) {
+			set.add(joynr.types.Localisation.Trip.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.TestTypes.TEnum.class)) {
+			set.add(joynr.types.TestTypes.TEnum.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.TestTypes.TEverythingExtendedStruct.class)) {
+			set.add(joynr.types.TestTypes.TEverythingExtendedStruct.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.TestTypes.TEverythingMap.class)) {
+			set.add(joynr.types.TestTypes.TEverythingMap.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.TestTypes.TEverythingStruct.class)) {
+			set.add(joynr.types.TestTypes.TEverythingStruct.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.TestTypes.TStringKeyMap.class)) {
+			set.add(joynr.types.TestTypes.TStringKeyMap.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.TestTypes.TStruct.class)) {
+			set.add(joynr.types.TestTypes.TStruct.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.TestTypes.Vowel.class)) {
+			set.add(joynr.types.TestTypes.Vowel.class);
+		}
+		return set;
+	}
+
+	/**
+	 */
+	public enum MethodWithErrorEnumExtendedErrorEnum {
+		/**
+		 * description missing in Franca model.
+		 */
+		BASE_ERROR_TYPECOLLECTION,
+			/**
+		 * description missing in Franca model.
+		 */
+		IMPLICIT_ERROR_TYPECOLLECTION
+		;
+	
+		public static final int MAJOR_VERSION = 0;
+		public static final int MINOR_VERSION = 0;
+		static final Map<Integer, MethodWithErrorEnumExtendedErrorEnum> ordinalToEnumValues = new HashMap<>();
+	
+		static {
+			ordinalToEnumValues.put(0, BASE_ERROR_TYPECOLLECTION);
+			ordinalToEnumValues.put(1, IMPLICIT_ERROR_TYPECOLLECTION);
+		}
+	
+		/**
+		 * Get the matching enum for an ordinal number
+		 * @param ordinal The ordinal number
+		 * @return The matching enum for the given ordinal number
+		 */
+		public static MethodWithErrorEnumExtendedErrorEnum getEnumValue(Integer ordinal) {
+			return ordinalToEnumValues.get(ordinal);
+		}
+	
+		/**
+		 * Get the matching ordinal number for this enum
+		 * @return The ordinal number representing this enum
+		 */
+		public Integer getOrdinal() {
+			// TODO should we use a bidirectional map from a third-party library?
+			Integer ordinal = null;
+			for (Entry<Integer, MethodWithErrorEnumExtendedErrorEnum> entry : ordinalToEnumValues.entrySet()) {
+				if (this == entry.getValue()) {
+					ordinal = entry.getKey();
+					break;
+				}
+			}
+			return ordinal;
+		}
+	}
+
+	/**
+	 */
+	public enum MethodWithInterfaceErrorEnumExtendedErrorEnum {
+		/**
+		 * description missing in Franca model.
+		 */
+		BASE_ERROR_INTERFACE,
+			/**
+		 * description missing in Franca model.
+		 */
+		IMPLICIT_ERROR_INTERFACE
+		;
+	
+		public static final int MAJOR_VERSION = 0;
+		public static final int MINOR_VERSION = 0;
+		static final Map<Integer, MethodWithInterfaceErrorEnumExtendedErrorEnum> ordinalToEnumValues = new HashMap<>();
+	
+		static {
+			ordinalToEnumValues.put(0, BASE_ERROR_INTERFACE);
+			ordinalToEnumValues.put(1, IMPLICIT_ERROR_INTERFACE);
+		}
+	
+		/**
+		 * Get the matching enum for an ordinal number
+		 * @param ordinal The ordinal number
+		 * @return The matching enum for the given ordinal number
+		 */
+		public static MethodWithInterfaceErrorEnumExtendedErrorEnum getEnumValue(Integer ordinal) {
+			return ordinalToEnumValues.get(ordinal);
+		}
+	
+		/**
+		 * Get the matching ordinal number for this enum
+		 * @return The ordinal number representing this enum
+		 */
+		public Integer getOrdinal() {
+			// TODO should we use a bidirectional map from a third-party library?
+			Integer ordinal = null;
+			for (Entry<Integer, MethodWithInterfaceErrorEnumExtendedErrorEnum> entry : ordinalToEnumValues.entrySet()) {
+				if (this == entry.getValue()) {
+					ordinal = entry.getKey();
+					break;
+				}
+			}
+			return ordinal;
+		}
+	}
+
+	/**
+	 */
+	public enum MethodWithImplicitErrorEnumErrorEnum {
+		/**
+		 * description missing in Franca model.
+		 */
+		IMPLICIT_ERROR
+		;
+	
+		public static final int MAJOR_VERSION = 0;
+		public static final int MINOR_VERSION = 0;
+		static final Map<Integer, MethodWithImplicitErrorEnumErrorEnum> ordinalToEnumValues = new HashMap<>();
+	
+		static {
+			ordinalToEnumValues.put(0, IMPLICIT_ERROR);
+		}
+	
+		/**
+		 * Get the matching enum for an ordinal number
+		 * @param ordinal The ordinal number
+		 * @return The matching enum for the given ordinal number
+		 */
+		public static MethodWithImplicitErrorEnumErrorEnum getEnumValue(Integer ordinal) {
+			return ordinalToEnumValues.get(ordinal);
+		}
+	
+		/**
+		 * Get the matching ordinal number for this enum
+		 * @return The ordinal number representing this enum
+		 */
+		public Integer getOrdinal() {
+			// TODO should we use a bidirectional map from a third-party library?
+			Integer ordinal = null;
+			for (Entry<Integer, MethodWithImplicitErrorEnumErrorEnum> entry : ordinalToEnumValues.entrySet()) {
+				if (this == entry.getValue()) {
+					ordinal = entry.getKey();
+					break;
+				}
+			}
+			return ordinal;
+		}
+	}
+
+}
+
@@ -0,0 +1,310 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.provider.AbstractJoynrProvider;
+import java.util.Set;
+import java.util.HashSet;
+import io.joynr.pubsub.publication.BroadcastFilterImpl;
+
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TEverythingStruct;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+
+public abstract class testAbstractProvider extends AbstractJoynrProvider implements testProvider {
+
+	public testAbstractProvider() {
+		super();
+	}
+
+	private Set<BroadcastFilterImpl> queuedBroadcastFilters = new HashSet<>();
+
+	protected testSubscriptionPublisher testSubscriptionPublisher;
+
+	@Override
+	public void setSubscriptionPublisher(testSubscriptionPublisher testSubscriptionPublisher) {
+		this.testSubscriptionPublisher = testSubscriptionPublisher;
+		for (BroadcastFilterImpl filter: queuedBroadcastFilters) {
+			this.testSubscriptionPublisher.addBroadcastFilter(filter);
+		}
+		queuedBroadcastFilters.clear();
+	}
+
+	public void addBroadcastFilter(BroadcastFilterImpl filter) {
+		if (this.testSubscriptionPublisher != null) {
+			this.testSubscriptionPublisher.addBroadcastFilter(filter);
+		} else {
+			queuedBroadcastFilters.add(filter);
+		}
+	}
+	public void addBroadcastFilter(BroadcastFilterImpl... filters) {
+		if (this.testSubscriptionPublisher != null) {
+			this.testSubscriptionPublisher.addBroadcastFilter(filters);
+		} else {
+			for (BroadcastFilterImpl filter: filters) {
+				queuedBroadcastFilters.add(filter);
+			}
+		}
+	}
+
+	public void enumAttributeChanged(TestEnum enumAttribute) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.enumAttributeChanged(enumAttribute);
+		}
+	}
+	public void enumAttributeReadOnlyChanged(TestEnum enumAttributeReadOnly) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.enumAttributeReadOnlyChanged(enumAttributeReadOnly);
+		}
+	}
+	public void listOfEnumsAttributeChanged(TestEnum[] listOfEnumsAttribute) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.listOfEnumsAttributeChanged(listOfEnumsAttribute);
+		}
+	}
+	public void locationChanged(GpsLocation location) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.locationChanged(location);
+		}
+	}
+	public void mytripChanged(Trip mytrip) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.mytripChanged(mytrip);
+		}
+	}
+	public void yourLocationChanged(GpsLocation yourLocation) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.yourLocationChanged(yourLocation);
+		}
+	}
+	public void firstPrimeChanged(Integer firstPrime) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.firstPrimeChanged(firstPrime);
+		}
+	}
+	public void listOfIntsChanged(Integer[] listOfInts) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.listOfIntsChanged(listOfInts);
+		}
+	}
+	public void listOfLocationsChanged(GpsLocation[] listOfLocations) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.listOfLocationsChanged(listOfLocations);
+		}
+	}
+	public void listOfStringsChanged(String[] listOfStrings) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.listOfStringsChanged(listOfStrings);
+		}
+	}
+	public void testAttributeChanged(Integer testAttribute) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.testAttributeChanged(testAttribute);
+		}
+	}
+	public void complexTestAttributeChanged(GpsLocation complexTestAttribute) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.complexTestAttributeChanged(complexTestAttribute);
+		}
+	}
+	public void readWriteAttributeChanged(Integer readWriteAttribute) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.readWriteAttributeChanged(readWriteAttribute);
+		}
+	}
+	public void readOnlyAttributeChanged(Integer readOnlyAttribute) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.readOnlyAttributeChanged(readOnlyAttribute);
+		}
+	}
+	public void writeOnlyChanged(Integer writeOnly) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.writeOnlyChanged(writeOnly);
+		}
+	}
+	public void notifyWriteOnlyChanged(Integer notifyWriteOnly) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.notifyWriteOnlyChanged(notifyWriteOnly);
+		}
+	}
+	public void notifyReadOnlyChanged(Integer notifyReadOnly) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.notifyReadOnlyChanged(notifyReadOnly);
+		}
+	}
+	public void notifyReadWriteChanged(Integer notifyReadWrite) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.notifyReadWriteChanged(notifyReadWrite);
+		}
+	}
+	public void notifyChanged(Integer notify) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.notifyChanged(notify);
+		}
+	}
+	public void ATTRIBUTEWITHCAPITALLETTERSChanged(Integer ATTRIBUTEWITHCAPITALLETTERS) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.ATTRIBUTEWITHCAPITALLETTERSChanged(ATTRIBUTEWITHCAPITALLETTERS);
+		}
+	}
+	public void attributeWithProviderRuntimeExceptionChanged(Integer attributeWithProviderRuntimeException) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.attributeWithProviderRuntimeExceptionChanged(attributeWithProviderRuntimeException);
+		}
+	}
+	public void attributeWithThrownExceptionChanged(Integer attributeWithThrownException) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.attributeWithThrownExceptionChanged(attributeWithThrownException);
+		}
+	}
+	public void EverythingMapChanged(TEverythingMap EverythingMap) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.EverythingMapChanged(EverythingMap);
+		}
+	}
+	public void attributeArrayOfNestedStructsChanged(HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.attributeArrayOfNestedStructsChanged(attributeArrayOfNestedStructs);
+		}
+	}
+	public void byteBufferAttributeChanged(Byte[] byteBufferAttribute) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.byteBufferAttributeChanged(byteBufferAttribute);
+		}
+	}
+	public void typeDefForTStructChanged(TStruct typeDefForTStruct) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.typeDefForTStructChanged(typeDefForTStruct);
+		}
+	}
+	public void typeDefForTStructArrayChanged(TStruct[] typeDefForTStructArray) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.typeDefForTStructArrayChanged(typeDefForTStructArray);
+		}
+	}
+	public void typeDefForPrimitiveChanged(Integer typeDefForPrimitive) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.typeDefForPrimitiveChanged(typeDefForPrimitive);
+		}
+	}
+	public void typeDefForPrimitiveArrayChanged(Integer[] typeDefForPrimitiveArray) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.typeDefForPrimitiveArrayChanged(typeDefForPrimitiveArray);
+		}
+	}
+
+	public void fireLocationUpdateSelective(GpsLocation location) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireLocationUpdateSelective(location);
+		}
+	}
+
+	public void fireLocationUpdateWithSpeedSelective(GpsLocation location, Float currentSpeed) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireLocationUpdateWithSpeedSelective(location, currentSpeed);
+		}
+	}
+
+	public void fireBooleanBroadcast(Boolean b) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireBooleanBroadcast(b);
+		}
+	}
+
+	public void fireDoubleBroadcast(Double d) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireDoubleBroadcast(d);
+		}
+	}
+
+	public void fireIntBroadcast(Integer i32) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireIntBroadcast(i32);
+		}
+	}
+
+	public void fireStringBroadcast(String s) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireStringBroadcast(s);
+		}
+	}
+
+	public void fireBroadcastWithFiltering(String stringOut, String[] stringArrayOut, TestEnum[] enumerationArrayOut, TEverythingStruct structWithStringArrayOut, TEverythingStruct[] structWithStringArrayArrayOut) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireBroadcastWithFiltering(stringOut, stringArrayOut, enumerationArrayOut, structWithStringArrayOut, structWithStringArrayArrayOut);
+		}
+	}
+
+	public void fireBroadcastWithEnumOutput(TestEnum testEnum, String... partitions) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireBroadcastWithEnumOutput(testEnum, partitions);
+		}
+	}
+
+	public void fireLocationUpdate(GpsLocation location, String... partitions) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireLocationUpdate(location, partitions);
+		}
+	}
+
+	public void fireLocationUpdateWithSpeed(GpsLocation location, Float currentSpeed, String... partitions) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireLocationUpdateWithSpeed(location, currentSpeed, partitions);
+		}
+	}
+
+	public void fireBroadcastWithSingleArrayParameter(String[] singleParam, String... partitions) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireBroadcastWithSingleArrayParameter(singleParam, partitions);
+		}
+	}
+
+	public void fireBroadcastWithByteBufferParameter(Byte[] byteBufferParameter, String... partitions) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireBroadcastWithByteBufferParameter(byteBufferParameter, partitions);
+		}
+	}
+
+	public void fireBroadcastWithMapParameters(TStringKeyMap mapParam, String... partitions) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireBroadcastWithMapParameters(mapParam, partitions);
+		}
+	}
+
+	public void fireEmptyBroadcast(String... partitions) {
+		if (testSubscriptionPublisher != null) {
+			testSubscriptionPublisher.fireEmptyBroadcast(partitions);
+		}
+	}
+
+}
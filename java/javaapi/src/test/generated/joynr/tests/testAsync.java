@@ -0,0 +1,1298 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.proxy.Callback;
+import io.joynr.proxy.ICallbackWithModeledError;
+import io.joynr.proxy.CallbackWithModeledError;
+import io.joynr.proxy.Future;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcCallback;
+import io.joynr.proxy.ICallback;
+import io.joynr.Async;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+import io.joynr.exceptions.DiscoveryException;
+
+import joynr.tests.testTypes.AnotherDerivedStruct;
+import joynr.tests.testTypes.BaseStruct;
+import joynr.tests.testTypes.ComplexTestType;
+import joynr.tests.testTypes.ComplexTestType2;
+import joynr.tests.testTypes.DerivedStruct;
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.tests.testTypes.TestEnumWithoutValues;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+import joynr.types.TestTypes.Vowel;
+
+	import joynr.tests.testSync.MethodWithMultipleOutAndErrorEnumReturned;
+	import joynr.tests.testSync.MethodWithMultipleOutputParametersReturned;
+	import joynr.tests.testSync.MethodWithAllPossiblePrimitiveParametersReturned;
+
+@Async
+@ProvidedBy(testProvider.class)
+@UsedBy(testProxy.class)
+public interface testAsync extends test, testFireAndForget {
+
+	public Future<TestEnum> getEnumAttribute(@JoynrRpcCallback(deserializationType = TestEnum.class) Callback<TestEnum> callback);
+	default public Future<TestEnum> getEnumAttribute(@JoynrRpcCallback(deserializationType = TestEnum.class) Callback<TestEnum> callback, MessagingQos messagingQos) {
+		return getEnumAttribute(callback);
+	}
+	Future<Void> setEnumAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TestEnum enumAttribute) throws DiscoveryException;
+	default Future<Void> setEnumAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TestEnum enumAttribute, MessagingQos messagingQos) throws DiscoveryException {
+		return setEnumAttribute(callback, enumAttribute);
+	}
+	public Future<TestEnum> getEnumAttributeReadOnly(@JoynrRpcCallback(deserializationType = TestEnum.class) Callback<TestEnum> callback);
+	default public Future<TestEnum> getEnumAttributeReadOnly(@JoynrRpcCallback(deserializationType = TestEnum.class) Callback<TestEnum> callback, MessagingQos messagingQos) {
+		return getEnumAttributeReadOnly(callback);
+	}
+	public Future<TestEnum[]> getListOfEnumsAttribute(@JoynrRpcCallback(deserializationType = TestEnum[][].class) Callback<TestEnum[]> callback);
+	default public Future<TestEnum[]> getListOfEnumsAttribute(@JoynrRpcCallback(deserializationType = TestEnum[][].class) Callback<TestEnum[]> callback, MessagingQos messagingQos) {
+		return getListOfEnumsAttribute(callback);
+	}
+	Future<Void> setListOfEnumsAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TestEnum[] listOfEnumsAttribute) throws DiscoveryException;
+	default Future<Void> setListOfEnumsAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TestEnum[] listOfEnumsAttribute, MessagingQos messagingQos) throws DiscoveryException {
+		return setListOfEnumsAttribute(callback, listOfEnumsAttribute);
+	}
+	public Future<GpsLocation> getLocation(@JoynrRpcCallback(deserializationType = GpsLocation.class) Callback<GpsLocation> callback);
+	default public Future<GpsLocation> getLocation(@JoynrRpcCallback(deserializationType = GpsLocation.class) Callback<GpsLocation> callback, MessagingQos messagingQos) {
+		return getLocation(callback);
+	}
+	Future<Void> setLocation(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, GpsLocation location) throws DiscoveryException;
+	default Future<Void> setLocation(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, GpsLocation location, MessagingQos messagingQos) throws DiscoveryException {
+		return setLocation(callback, location);
+	}
+	public Future<Trip> getMytrip(@JoynrRpcCallback(deserializationType = Trip.class) Callback<Trip> callback);
+	default public Future<Trip> getMytrip(@JoynrRpcCallback(deserializationType = Trip.class) Callback<Trip> callback, MessagingQos messagingQos) {
+		return getMytrip(callback);
+	}
+	public Future<GpsLocation> getYourLocation(@JoynrRpcCallback(deserializationType = GpsLocation.class) Callback<GpsLocation> callback);
+	default public Future<GpsLocation> getYourLocation(@JoynrRpcCallback(deserializationType = GpsLocation.class) Callback<GpsLocation> callback, MessagingQos messagingQos) {
+		return getYourLocation(callback);
+	}
+	public Future<Integer> getFirstPrime(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getFirstPrime(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getFirstPrime(callback);
+	}
+	Future<Void> setFirstPrime(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer firstPrime) throws DiscoveryException;
+	default Future<Void> setFirstPrime(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer firstPrime, MessagingQos messagingQos) throws DiscoveryException {
+		return setFirstPrime(callback, firstPrime);
+	}
+	public Future<Integer[]> getListOfInts(@JoynrRpcCallback(deserializationType = Integer[][].class) Callback<Integer[]> callback);
+	default public Future<Integer[]> getListOfInts(@JoynrRpcCallback(deserializationType = Integer[][].class) Callback<Integer[]> callback, MessagingQos messagingQos) {
+		return getListOfInts(callback);
+	}
+	Future<Void> setListOfInts(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer[] listOfInts) throws DiscoveryException;
+	default Future<Void> setListOfInts(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer[] listOfInts, MessagingQos messagingQos) throws DiscoveryException {
+		return setListOfInts(callback, listOfInts);
+	}
+	public Future<GpsLocation[]> getListOfLocations(@JoynrRpcCallback(deserializationType = GpsLocation[][].class) Callback<GpsLocation[]> callback);
+	default public Future<GpsLocation[]> getListOfLocations(@JoynrRpcCallback(deserializationType = GpsLocation[][].class) Callback<GpsLocation[]> callback, MessagingQos messagingQos) {
+		return getListOfLocations(callback);
+	}
+	public Future<String[]> getListOfStrings(@JoynrRpcCallback(deserializationType = String[][].class) Callback<String[]> callback);
+	default public Future<String[]> getListOfStrings(@JoynrRpcCallback(deserializationType = String[][].class) Callback<String[]> callback, MessagingQos messagingQos) {
+		return getListOfStrings(callback);
+	}
+	Future<Void> setListOfStrings(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, String[] listOfStrings) throws DiscoveryException;
+	default Future<Void> setListOfStrings(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, String[] listOfStrings, MessagingQos messagingQos) throws DiscoveryException {
+		return setListOfStrings(callback, listOfStrings);
+	}
+	public Future<Integer> getTestAttribute(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getTestAttribute(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getTestAttribute(callback);
+	}
+	Future<Void> setTestAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer testAttribute) throws DiscoveryException;
+	default Future<Void> setTestAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer testAttribute, MessagingQos messagingQos) throws DiscoveryException {
+		return setTestAttribute(callback, testAttribute);
+	}
+	public Future<GpsLocation> getComplexTestAttribute(@JoynrRpcCallback(deserializationType = GpsLocation.class) Callback<GpsLocation> callback);
+	default public Future<GpsLocation> getComplexTestAttribute(@JoynrRpcCallback(deserializationType = GpsLocation.class) Callback<GpsLocation> callback, MessagingQos messagingQos) {
+		return getComplexTestAttribute(callback);
+	}
+	Future<Void> setComplexTestAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, GpsLocation complexTestAttribute) throws DiscoveryException;
+	default Future<Void> setComplexTestAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, GpsLocation complexTestAttribute, MessagingQos messagingQos) throws DiscoveryException {
+		return setComplexTestAttribute(callback, complexTestAttribute);
+	}
+	public Future<Integer> getReadWriteAttribute(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getReadWriteAttribute(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getReadWriteAttribute(callback);
+	}
+	Future<Void> setReadWriteAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer readWriteAttribute) throws DiscoveryException;
+	default Future<Void> setReadWriteAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer readWriteAttribute, MessagingQos messagingQos) throws DiscoveryException {
+		return setReadWriteAttribute(callback, readWriteAttribute);
+	}
+	public Future<Integer> getReadOnlyAttribute(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getReadOnlyAttribute(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getReadOnlyAttribute(callback);
+	}
+	public Future<Integer> getWriteOnly(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getWriteOnly(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getWriteOnly(callback);
+	}
+	Future<Void> setWriteOnly(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer writeOnly) throws DiscoveryException;
+	default Future<Void> setWriteOnly(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer writeOnly, MessagingQos messagingQos) throws DiscoveryException {
+		return setWriteOnly(callback, writeOnly);
+	}
+	public Future<Integer> getNotifyWriteOnly(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getNotifyWriteOnly(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getNotifyWriteOnly(callback);
+	}
+	Future<Void> setNotifyWriteOnly(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer notifyWriteOnly) throws DiscoveryException;
+	default Future<Void> setNotifyWriteOnly(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer notifyWriteOnly, MessagingQos messagingQos) throws DiscoveryException {
+		return setNotifyWriteOnly(callback, notifyWriteOnly);
+	}
+	public Future<Integer> getNotifyReadOnly(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getNotifyReadOnly(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getNotifyReadOnly(callback);
+	}
+	public Future<Integer> getNotifyReadWrite(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getNotifyReadWrite(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getNotifyReadWrite(callback);
+	}
+	Future<Void> setNotifyReadWrite(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer notifyReadWrite) throws DiscoveryException;
+	default Future<Void> setNotifyReadWrite(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer notifyReadWrite, MessagingQos messagingQos) throws DiscoveryException {
+		return setNotifyReadWrite(callback, notifyReadWrite);
+	}
+	public Future<Integer> getNotify(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getNotify(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getNotify(callback);
+	}
+	Future<Void> setNotify(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer notify) throws DiscoveryException;
+	default Future<Void> setNotify(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer notify, MessagingQos messagingQos) throws DiscoveryException {
+		return setNotify(callback, notify);
+	}
+	public Future<Integer> getATTRIBUTEWITHCAPITALLETTERS(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getATTRIBUTEWITHCAPITALLETTERS(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getATTRIBUTEWITHCAPITALLETTERS(callback);
+	}
+	Future<Void> setATTRIBUTEWITHCAPITALLETTERS(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer ATTRIBUTEWITHCAPITALLETTERS) throws DiscoveryException;
+	default Future<Void> setATTRIBUTEWITHCAPITALLETTERS(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer ATTRIBUTEWITHCAPITALLETTERS, MessagingQos messagingQos) throws DiscoveryException {
+		return setATTRIBUTEWITHCAPITALLETTERS(callback, ATTRIBUTEWITHCAPITALLETTERS);
+	}
+	public Future<Integer> getAttributeWithProviderRuntimeException(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getAttributeWithProviderRuntimeException(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getAttributeWithProviderRuntimeException(callback);
+	}
+	Future<Void> setAttributeWithProviderRuntimeException(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer attributeWithProviderRuntimeException) throws DiscoveryException;
+	default Future<Void> setAttributeWithProviderRuntimeException(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer attributeWithProviderRuntimeException, MessagingQos messagingQos) throws DiscoveryException {
+		return setAttributeWithProviderRuntimeException(callback, attributeWithProviderRuntimeException);
+	}
+	public Future<Integer> getAttributeWithThrownException(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getAttributeWithThrownException(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getAttributeWithThrownException(callback);
+	}
+	Future<Void> setAttributeWithThrownException(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer attributeWithThrownException) throws DiscoveryException;
+	default Future<Void> setAttributeWithThrownException(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer attributeWithThrownException, MessagingQos messagingQos) throws DiscoveryException {
+		return setAttributeWithThrownException(callback, attributeWithThrownException);
+	}
+	public Future<TEverythingMap> getEverythingMap(@JoynrRpcCallback(deserializationType = TEverythingMap.class) Callback<TEverythingMap> callback);
+	default public Future<TEverythingMap> getEverythingMap(@JoynrRpcCallback(deserializationType = TEverythingMap.class) Callback<TEverythingMap> callback, MessagingQos messagingQos) {
+		return getEverythingMap(callback);
+	}
+	Future<Void> setEverythingMap(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TEverythingMap EverythingMap) throws DiscoveryException;
+	default Future<Void> setEverythingMap(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TEverythingMap EverythingMap, MessagingQos messagingQos) throws DiscoveryException {
+		return setEverythingMap(callback, EverythingMap);
+	}
+	public Future<HavingComplexArrayMemberStruct[]> getAttributeArrayOfNestedStructs(@JoynrRpcCallback(deserializationType = HavingComplexArrayMemberStruct[][].class) Callback<HavingComplexArrayMemberStruct[]> callback);
+	default public Future<HavingComplexArrayMemberStruct[]> getAttributeArrayOfNestedStructs(@JoynrRpcCallback(deserializationType = HavingComplexArrayMemberStruct[][].class) Callback<HavingComplexArrayMemberStruct[]> callback, MessagingQos messagingQos) {
+		return getAttributeArrayOfNestedStructs(callback);
+	}
+	Future<Void> setAttributeArrayOfNestedStructs(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs) throws DiscoveryException;
+	default Future<Void> setAttributeArrayOfNestedStructs(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs, MessagingQos messagingQos) throws DiscoveryException {
+		return setAttributeArrayOfNestedStructs(callback, attributeArrayOfNestedStructs);
+	}
+	public Future<Byte[]> getByteBufferAttribute(@JoynrRpcCallback(deserializationType = Byte[].class) Callback<Byte[]> callback);
+	default public Future<Byte[]> getByteBufferAttribute(@JoynrRpcCallback(deserializationType = Byte[].class) Callback<Byte[]> callback, MessagingQos messagingQos) {
+		return getByteBufferAttribute(callback);
+	}
+	Future<Void> setByteBufferAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Byte[] byteBufferAttribute) throws DiscoveryException;
+	default Future<Void> setByteBufferAttribute(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Byte[] byteBufferAttribute, MessagingQos messagingQos) throws DiscoveryException {
+		return setByteBufferAttribute(callback, byteBufferAttribute);
+	}
+	public Future<TStruct> getTypeDefForTStruct(@JoynrRpcCallback(deserializationType = TStruct.class) Callback<TStruct> callback);
+	default public Future<TStruct> getTypeDefForTStruct(@JoynrRpcCallback(deserializationType = TStruct.class) Callback<TStruct> callback, MessagingQos messagingQos) {
+		return getTypeDefForTStruct(callback);
+	}
+	Future<Void> setTypeDefForTStruct(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TStruct typeDefForTStruct) throws DiscoveryException;
+	default Future<Void> setTypeDefForTStruct(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TStruct typeDefForTStruct, MessagingQos messagingQos) throws DiscoveryException {
+		return setTypeDefForTStruct(callback, typeDefForTStruct);
+	}
+	public Future<TStruct[]> getTypeDefForTStructArray(@JoynrRpcCallback(deserializationType = TStruct[][].class) Callback<TStruct[]> callback);
+	default public Future<TStruct[]> getTypeDefForTStructArray(@JoynrRpcCallback(deserializationType = TStruct[][].class) Callback<TStruct[]> callback, MessagingQos messagingQos) {
+		return getTypeDefForTStructArray(callback);
+	}
+	Future<Void> setTypeDefForTStructArray(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TStruct[] typeDefForTStructArray) throws DiscoveryException;
+	default Future<Void> setTypeDefForTStructArray(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, TStruct[] typeDefForTStructArray, MessagingQos messagingQos) throws DiscoveryException {
+		return setTypeDefForTStructArray(callback, typeDefForTStructArray);
+	}
+	public Future<Integer> getTypeDefForPrimitive(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback);
+	default public Future<Integer> getTypeDefForPrimitive(@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback, MessagingQos messagingQos) {
+		return getTypeDefForPrimitive(callback);
+	}
+	Future<Void> setTypeDefForPrimitive(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer typeDefForPrimitive) throws DiscoveryException;
+	default Future<Void> setTypeDefForPrimitive(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer typeDefForPrimitive, MessagingQos messagingQos) throws DiscoveryException {
+		return setTypeDefForPrimitive(callback, typeDefForPrimitive);
+	}
+	public Future<Integer[]> getTypeDefForPrimitiveArray(@JoynrRpcCallback(deserializationType = Integer[][].class) Callback<Integer[]> callback);
+	default public Future<Integer[]> getTypeDefForPrimitiveArray(@JoynrRpcCallback(deserializationType = Integer[][].class) Callback<Integer[]> callback, MessagingQos messagingQos) {
+		return getTypeDefForPrimitiveArray(callback);
+	}
+	Future<Void> setTypeDefForPrimitiveArray(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer[] typeDefForPrimitiveArray) throws DiscoveryException;
+	default Future<Void> setTypeDefForPrimitiveArray(@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback, Integer[] typeDefForPrimitiveArray, MessagingQos messagingQos) throws DiscoveryException {
+		return setTypeDefForPrimitiveArray(callback, typeDefForPrimitiveArray);
+	}
+
+	public static class MethodWithMultipleOutAndErrorEnumFuture extends Future<MethodWithMultipleOutAndErrorEnumReturned> {
+		public void resolve(Object... outParameters) {
+			if (outParameters.length == 0) {
+				onSuccess(null);
+			} else {
+				onSuccess(new MethodWithMultipleOutAndErrorEnumReturned(outParameters));
+			}
+		}
+
+		public static Class<?>[] getDatatypes() {
+			return MethodWithMultipleOutAndErrorEnumReturned.getDatatypes();
+		}
+	}
+	public static class MethodWithMultipleOutputParametersFuture extends Future<MethodWithMultipleOutputParametersReturned> {
+		public void resolve(Object... outParameters) {
+			if (outParameters.length == 0) {
+				onSuccess(null);
+			} else {
+				onSuccess(new MethodWithMultipleOutputParametersReturned(outParameters));
+			}
+		}
+
+		public static Class<?>[] getDatatypes() {
+			return MethodWithMultipleOutputParametersReturned.getDatatypes();
+		}
+	}
+	public static class MethodWithAllPossiblePrimitiveParametersFuture extends Future<MethodWithAllPossiblePrimitiveParametersReturned> {
+		public void resolve(Object... outParameters) {
+			if (outParameters.length == 0) {
+				onSuccess(null);
+			} else {
+				onSuccess(new MethodWithAllPossiblePrimitiveParametersReturned(outParameters));
+			}
+		}
+
+		public static Class<?>[] getDatatypes() {
+			return MethodWithAllPossiblePrimitiveParametersReturned.getDatatypes();
+		}
+	}
+
+	public abstract class MethodWithMultipleOutAndErrorEnumCallback implements ICallback, ICallbackWithModeledError<joynr.tests.testTypes.ErrorEnumBase> {
+		public abstract void onSuccess(String out1, String out2);
+
+		public void resolve(Object... outParameters) {
+			if (outParameters.length < 2) {
+				onSuccess(null, null);
+			} else {
+					onSuccess(
+						(String) outParameters[0],
+						(String) outParameters[1]
+				);
+			}
+		}
+	}
+	public abstract class MethodWithMultipleOutputParametersCallback implements ICallback {
+		public abstract void onSuccess(String aString, Integer aNumber, GpsLocation aComplexDataType, TestEnum anEnumResult);
+
+		public void resolve(Object... outParameters) {
+			if (outParameters.length < 4) {
+				onSuccess(null, null, null, null);
+			} else {
+					onSuccess(
+						(String) outParameters[0],
+						(Integer) outParameters[1],
+						(GpsLocation) outParameters[2],
+						(TestEnum) outParameters[3]
+				);
+			}
+		}
+	}
+	public abstract class MethodWithAllPossiblePrimitiveParametersCallback implements ICallback {
+		public abstract void onSuccess(Boolean booleanOut, Double doubleOut, Float floatOut, Short int16Out, Integer int32Out, Long int64Out, Byte int8Out, String stringOut, Short uInt16Out, Integer uInt32Out, Long uInt64Out, Byte uInt8Out);
+
+		public void resolve(Object... outParameters) {
+			if (outParameters.length < 12) {
+				onSuccess(null, null, null, null, null, null, null, null, null, null, null, null);
+			} else {
+					onSuccess(
+						(Boolean) outParameters[0],
+						(Double) outParameters[1],
+						(Float) outParameters[2],
+						(Short) outParameters[3],
+						(Integer) outParameters[4],
+						(Long) outParameters[5],
+						(Byte) outParameters[6],
+						(String) outParameters[7],
+						(Short) outParameters[8],
+						(Integer) outParameters[9],
+						(Long) outParameters[10],
+						(Byte) outParameters[11]
+				);
+			}
+		}
+	}
+
+
+	/*
+	* echoCallingPrincipal
+	*/
+	public Future<String> echoCallingPrincipal(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback
+	);
+	default public Future<String> echoCallingPrincipal(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return echoCallingPrincipal(
+			callback
+		);
+	}
+
+
+	/*
+	* addNumbers
+	*/
+	public Future<Integer> addNumbers(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer first,
+			Integer second,
+			Integer third
+	);
+	default public Future<Integer> addNumbers(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer first,
+			Integer second,
+			Integer third,
+			MessagingQos messagingQos
+	) {
+		return addNumbers(
+			callback,
+			first,
+			second,
+			third
+		);
+	}
+
+
+	/*
+	* sumInts
+	*/
+	public Future<Integer> sumInts(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer[] ints
+	);
+	default public Future<Integer> sumInts(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer[] ints,
+			MessagingQos messagingQos
+	) {
+		return sumInts(
+			callback,
+			ints
+		);
+	}
+
+
+	/*
+	* sumIntsDelayed
+	*/
+	public Future<Integer> sumIntsDelayed(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer[] ints
+	);
+	default public Future<Integer> sumIntsDelayed(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer[] ints,
+			MessagingQos messagingQos
+	) {
+		return sumIntsDelayed(
+			callback,
+			ints
+		);
+	}
+
+
+	/*
+	* methodWithNoInputParameters
+	*/
+	public Future<Integer> methodWithNoInputParameters(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback
+	);
+	default public Future<Integer> methodWithNoInputParameters(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithNoInputParameters(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithStrings
+	*/
+	public Future<String> methodWithStrings(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			String input
+	);
+	default public Future<String> methodWithStrings(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			String input,
+			MessagingQos messagingQos
+	) {
+		return methodWithStrings(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* methodWithEnumParameter
+	*/
+	public Future<Integer> methodWithEnumParameter(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			TestEnum input
+	);
+	default public Future<Integer> methodWithEnumParameter(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			TestEnum input,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumParameter(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* methodWithByteBuffer
+	*/
+	public Future<Byte[]> methodWithByteBuffer(
+			@JoynrRpcCallback(deserializationType = Byte[].class) Callback<Byte[]> callback,
+			Byte[] input
+	);
+	default public Future<Byte[]> methodWithByteBuffer(
+			@JoynrRpcCallback(deserializationType = Byte[].class) Callback<Byte[]> callback,
+			Byte[] input,
+			MessagingQos messagingQos
+	) {
+		return methodWithByteBuffer(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* methodWithEnumListParameter
+	*/
+	public Future<Integer> methodWithEnumListParameter(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			TestEnum[] input
+	);
+	default public Future<Integer> methodWithEnumListParameter(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			TestEnum[] input,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumListParameter(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* methodWithEnumWithoutValues
+	*/
+	public Future<TestEnumWithoutValues> methodWithEnumWithoutValues(
+			@JoynrRpcCallback(deserializationType = TestEnumWithoutValues.class) Callback<TestEnumWithoutValues> callback,
+			TestEnumWithoutValues enumIn
+	);
+	default public Future<TestEnumWithoutValues> methodWithEnumWithoutValues(
+			@JoynrRpcCallback(deserializationType = TestEnumWithoutValues.class) Callback<TestEnumWithoutValues> callback,
+			TestEnumWithoutValues enumIn,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumWithoutValues(
+			callback,
+			enumIn
+		);
+	}
+
+
+	/*
+	* methodWithEnumReturn
+	*/
+	public Future<TestEnum> methodWithEnumReturn(
+			@JoynrRpcCallback(deserializationType = TestEnum.class) Callback<TestEnum> callback,
+			Integer input
+	);
+	default public Future<TestEnum> methodWithEnumReturn(
+			@JoynrRpcCallback(deserializationType = TestEnum.class) Callback<TestEnum> callback,
+			Integer input,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumReturn(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* methodWithEnumListReturn
+	*/
+	public Future<TestEnum[]> methodWithEnumListReturn(
+			@JoynrRpcCallback(deserializationType = TestEnum[].class) Callback<TestEnum[]> callback,
+			Integer input
+	);
+	default public Future<TestEnum[]> methodWithEnumListReturn(
+			@JoynrRpcCallback(deserializationType = TestEnum[].class) Callback<TestEnum[]> callback,
+			Integer input,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumListReturn(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* methodWithByteArray
+	*/
+	public Future<Byte[]> methodWithByteArray(
+			@JoynrRpcCallback(deserializationType = Byte[].class) Callback<Byte[]> callback,
+			Byte[] input
+	);
+	default public Future<Byte[]> methodWithByteArray(
+			@JoynrRpcCallback(deserializationType = Byte[].class) Callback<Byte[]> callback,
+			Byte[] input,
+			MessagingQos messagingQos
+	) {
+		return methodWithByteArray(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* methodWithPrimitiveTypeDef
+	*/
+	public Future<Integer> methodWithPrimitiveTypeDef(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer input
+	);
+	default public Future<Integer> methodWithPrimitiveTypeDef(
+			@JoynrRpcCallback(deserializationType = Integer.class) Callback<Integer> callback,
+			Integer input,
+			MessagingQos messagingQos
+	) {
+		return methodWithPrimitiveTypeDef(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* methodWithCompoundTypeDef
+	*/
+	public Future<TStruct> methodWithCompoundTypeDef(
+			@JoynrRpcCallback(deserializationType = TStruct.class) Callback<TStruct> callback,
+			TStruct input
+	);
+	default public Future<TStruct> methodWithCompoundTypeDef(
+			@JoynrRpcCallback(deserializationType = TStruct.class) Callback<TStruct> callback,
+			TStruct input,
+			MessagingQos messagingQos
+	) {
+		return methodWithCompoundTypeDef(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* methodEnumDoubleParameters
+	*/
+	public Future<Void> methodEnumDoubleParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			TestEnum enumParam,
+			Double doubleParam
+	);
+	default public Future<Void> methodEnumDoubleParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			TestEnum enumParam,
+			Double doubleParam,
+			MessagingQos messagingQos
+	) {
+		return methodEnumDoubleParameters(
+			callback,
+			enumParam,
+			doubleParam
+		);
+	}
+
+
+	/*
+	* methodStringDoubleParameters
+	*/
+	public Future<Void> methodStringDoubleParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String stringParam,
+			Double doubleParam
+	);
+	default public Future<Void> methodStringDoubleParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String stringParam,
+			Double doubleParam,
+			MessagingQos messagingQos
+	) {
+		return methodStringDoubleParameters(
+			callback,
+			stringParam,
+			doubleParam
+		);
+	}
+
+
+	/*
+	* methodCustomCustomParameters
+	*/
+	public Future<Void> methodCustomCustomParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			ComplexTestType customParam1,
+			ComplexTestType2 customParam2
+	);
+	default public Future<Void> methodCustomCustomParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			ComplexTestType customParam1,
+			ComplexTestType2 customParam2,
+			MessagingQos messagingQos
+	) {
+		return methodCustomCustomParameters(
+			callback,
+			customParam1,
+			customParam2
+		);
+	}
+
+
+	/*
+	* methodStringDoubleListParameters
+	*/
+	public Future<Void> methodStringDoubleListParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String stringParam,
+			Double[] doubleListParam
+	);
+	default public Future<Void> methodStringDoubleListParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String stringParam,
+			Double[] doubleListParam,
+			MessagingQos messagingQos
+	) {
+		return methodStringDoubleListParameters(
+			callback,
+			stringParam,
+			doubleListParam
+		);
+	}
+
+
+	/*
+	* methodCustomCustomListParameters
+	*/
+	public Future<Void> methodCustomCustomListParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			ComplexTestType customParam,
+			ComplexTestType2[] customListParam
+	);
+	default public Future<Void> methodCustomCustomListParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			ComplexTestType customParam,
+			ComplexTestType2[] customListParam,
+			MessagingQos messagingQos
+	) {
+		return methodCustomCustomListParameters(
+			callback,
+			customParam,
+			customListParam
+		);
+	}
+
+
+	/*
+	* customTypeAndListParameter
+	*/
+	public Future<Void> customTypeAndListParameter(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			ComplexTestType complexTestType,
+			BaseStruct[] complexArray
+	);
+	default public Future<Void> customTypeAndListParameter(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			ComplexTestType complexTestType,
+			BaseStruct[] complexArray,
+			MessagingQos messagingQos
+	) {
+		return customTypeAndListParameter(
+			callback,
+			complexTestType,
+			complexArray
+		);
+	}
+
+
+	/*
+	* voidOperation
+	*/
+	public Future<Void> voidOperation(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback
+	);
+	default public Future<Void> voidOperation(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return voidOperation(
+			callback
+		);
+	}
+
+
+	/*
+	* stringAndBoolParameters
+	*/
+	public Future<Void> stringAndBoolParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String stringParam,
+			Boolean boolParam
+	);
+	default public Future<Void> stringAndBoolParameters(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback,
+			String stringParam,
+			Boolean boolParam,
+			MessagingQos messagingQos
+	) {
+		return stringAndBoolParameters(
+			callback,
+			stringParam,
+			boolParam
+		);
+	}
+
+
+	/*
+	* mapParameters
+	*/
+	public Future<TStringKeyMap> mapParameters(
+			@JoynrRpcCallback(deserializationType = TStringKeyMap.class) Callback<TStringKeyMap> callback,
+			TStringKeyMap tStringMapIn
+	);
+	default public Future<TStringKeyMap> mapParameters(
+			@JoynrRpcCallback(deserializationType = TStringKeyMap.class) Callback<TStringKeyMap> callback,
+			TStringKeyMap tStringMapIn,
+			MessagingQos messagingQos
+	) {
+		return mapParameters(
+			callback,
+			tStringMapIn
+		);
+	}
+
+
+	/*
+	* returnPrimeNumbers
+	*/
+	public Future<Integer[]> returnPrimeNumbers(
+			@JoynrRpcCallback(deserializationType = Integer[].class) Callback<Integer[]> callback,
+			Integer upperBound
+	);
+	default public Future<Integer[]> returnPrimeNumbers(
+			@JoynrRpcCallback(deserializationType = Integer[].class) Callback<Integer[]> callback,
+			Integer upperBound,
+			MessagingQos messagingQos
+	) {
+		return returnPrimeNumbers(
+			callback,
+			upperBound
+		);
+	}
+
+
+	/*
+	* optimizeTrip
+	*/
+	public Future<Trip> optimizeTrip(
+			@JoynrRpcCallback(deserializationType = Trip.class) Callback<Trip> callback,
+			Trip input
+	);
+	default public Future<Trip> optimizeTrip(
+			@JoynrRpcCallback(deserializationType = Trip.class) Callback<Trip> callback,
+			Trip input,
+			MessagingQos messagingQos
+	) {
+		return optimizeTrip(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* overloadedOperation
+	*/
+	public Future<String> overloadedOperation(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			DerivedStruct input
+	);
+	default public Future<String> overloadedOperation(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			DerivedStruct input,
+			MessagingQos messagingQos
+	) {
+		return overloadedOperation(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* overloadedOperation
+	*/
+	public Future<String> overloadedOperation(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			AnotherDerivedStruct input
+	);
+	default public Future<String> overloadedOperation(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			AnotherDerivedStruct input,
+			MessagingQos messagingQos
+	) {
+		return overloadedOperation(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* overloadedOperation
+	*/
+	public Future<ComplexTestType> overloadedOperation(
+			@JoynrRpcCallback(deserializationType = ComplexTestType.class) Callback<ComplexTestType> callback,
+			String input
+	);
+	default public Future<ComplexTestType> overloadedOperation(
+			@JoynrRpcCallback(deserializationType = ComplexTestType.class) Callback<ComplexTestType> callback,
+			String input,
+			MessagingQos messagingQos
+	) {
+		return overloadedOperation(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* overloadedOperation
+	*/
+	public Future<ComplexTestType2> overloadedOperation(
+			@JoynrRpcCallback(deserializationType = ComplexTestType2.class) Callback<ComplexTestType2> callback,
+			String input1,
+			String input2
+	);
+	default public Future<ComplexTestType2> overloadedOperation(
+			@JoynrRpcCallback(deserializationType = ComplexTestType2.class) Callback<ComplexTestType2> callback,
+			String input1,
+			String input2,
+			MessagingQos messagingQos
+	) {
+		return overloadedOperation(
+			callback,
+			input1,
+			input2
+		);
+	}
+
+
+	/*
+	* optimizeLocations
+	*/
+	public Future<GpsLocation[]> optimizeLocations(
+			@JoynrRpcCallback(deserializationType = GpsLocation[].class) Callback<GpsLocation[]> callback,
+			GpsLocation[] input
+	);
+	default public Future<GpsLocation[]> optimizeLocations(
+			@JoynrRpcCallback(deserializationType = GpsLocation[].class) Callback<GpsLocation[]> callback,
+			GpsLocation[] input,
+			MessagingQos messagingQos
+	) {
+		return optimizeLocations(
+			callback,
+			input
+		);
+	}
+
+
+	/*
+	* toLowerCase
+	*/
+	public Future<String> toLowerCase(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			String inputString
+	);
+	default public Future<String> toLowerCase(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			String inputString,
+			MessagingQos messagingQos
+	) {
+		return toLowerCase(
+			callback,
+			inputString
+		);
+	}
+
+
+	/*
+	* waitTooLong
+	*/
+	public Future<String> waitTooLong(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			Long ttl_ms
+	);
+	default public Future<String> waitTooLong(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback,
+			Long ttl_ms,
+			MessagingQos messagingQos
+	) {
+		return waitTooLong(
+			callback,
+			ttl_ms
+		);
+	}
+
+
+	/*
+	* sayHello
+	*/
+	public Future<String> sayHello(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback
+	);
+	default public Future<String> sayHello(
+			@JoynrRpcCallback(deserializationType = String.class) Callback<String> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return sayHello(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithEnumReturnValue
+	*/
+	public Future<TestEnum> methodWithEnumReturnValue(
+			@JoynrRpcCallback(deserializationType = TestEnum.class) Callback<TestEnum> callback
+	);
+	default public Future<TestEnum> methodWithEnumReturnValue(
+			@JoynrRpcCallback(deserializationType = TestEnum.class) Callback<TestEnum> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumReturnValue(
+			callback
+		);
+	}
+
+
+	/*
+	* checkVowel
+	*/
+	public Future<Boolean> checkVowel(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			Vowel inputVowel
+	);
+	default public Future<Boolean> checkVowel(
+			@JoynrRpcCallback(deserializationType = Boolean.class) Callback<Boolean> callback,
+			Vowel inputVowel,
+			MessagingQos messagingQos
+	) {
+		return checkVowel(
+			callback,
+			inputVowel
+		);
+	}
+
+
+	/*
+	* optimizeLocationList
+	*/
+	public Future<GpsLocation[]> optimizeLocationList(
+			@JoynrRpcCallback(deserializationType = GpsLocation[].class) Callback<GpsLocation[]> callback,
+			GpsLocation[] inputList
+	);
+	default public Future<GpsLocation[]> optimizeLocationList(
+			@JoynrRpcCallback(deserializationType = GpsLocation[].class) Callback<GpsLocation[]> callback,
+			GpsLocation[] inputList,
+			MessagingQos messagingQos
+	) {
+		return optimizeLocationList(
+			callback,
+			inputList
+		);
+	}
+
+
+	/*
+	* methodWithErrorEnum
+	*/
+	public Future<Void> methodWithErrorEnum(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.testTypes.ErrorEnumBase> callback
+	);
+	default public Future<Void> methodWithErrorEnum(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.testTypes.ErrorEnumBase> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithErrorEnum(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithMultipleOutAndErrorEnum
+	*/
+	public MethodWithMultipleOutAndErrorEnumFuture methodWithMultipleOutAndErrorEnum(
+			@JoynrRpcCallback MethodWithMultipleOutAndErrorEnumCallback callback
+	);
+	default public MethodWithMultipleOutAndErrorEnumFuture methodWithMultipleOutAndErrorEnum(
+			@JoynrRpcCallback MethodWithMultipleOutAndErrorEnumCallback callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithMultipleOutAndErrorEnum(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithErrorEnumExtended
+	*/
+	public Future<Void> methodWithErrorEnumExtended(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.test.MethodWithErrorEnumExtendedErrorEnum> callback
+	);
+	default public Future<Void> methodWithErrorEnumExtended(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.test.MethodWithErrorEnumExtendedErrorEnum> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithErrorEnumExtended(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithInterfaceErrorEnum
+	*/
+	public Future<Void> methodWithInterfaceErrorEnum(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.ErrorEnumInterface> callback
+	);
+	default public Future<Void> methodWithInterfaceErrorEnum(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.ErrorEnumInterface> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithInterfaceErrorEnum(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithInterfaceErrorEnumExtended
+	*/
+	public Future<Void> methodWithInterfaceErrorEnumExtended(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.test.MethodWithInterfaceErrorEnumExtendedErrorEnum> callback
+	);
+	default public Future<Void> methodWithInterfaceErrorEnumExtended(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.test.MethodWithInterfaceErrorEnumExtendedErrorEnum> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithInterfaceErrorEnumExtended(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithImplicitErrorEnum
+	*/
+	public Future<Void> methodWithImplicitErrorEnum(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.test.MethodWithImplicitErrorEnumErrorEnum> callback
+	);
+	default public Future<Void> methodWithImplicitErrorEnum(
+			@JoynrRpcCallback(deserializationType = Void.class) CallbackWithModeledError<Void,joynr.tests.test.MethodWithImplicitErrorEnumErrorEnum> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithImplicitErrorEnum(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithProviderRuntimeException
+	*/
+	public Future<Void> methodWithProviderRuntimeException(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback
+	);
+	default public Future<Void> methodWithProviderRuntimeException(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithProviderRuntimeException(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithThrownException
+	*/
+	public Future<Void> methodWithThrownException(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback
+	);
+	default public Future<Void> methodWithThrownException(
+			@JoynrRpcCallback(deserializationType = Void.class) Callback<Void> callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithThrownException(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithMultipleOutputParameters
+	*/
+	public MethodWithMultipleOutputParametersFuture methodWithMultipleOutputParameters(
+			@JoynrRpcCallback MethodWithMultipleOutputParametersCallback callback
+	);
+	default public MethodWithMultipleOutputParametersFuture methodWithMultipleOutputParameters(
+			@JoynrRpcCallback MethodWithMultipleOutputParametersCallback callback
+			,
+			MessagingQos messagingQos
+	) {
+		return methodWithMultipleOutputParameters(
+			callback
+		);
+	}
+
+
+	/*
+	* methodWithAllPossiblePrimitiveParameters
+	*/
+	public MethodWithAllPossiblePrimitiveParametersFuture methodWithAllPossiblePrimitiveParameters(
+			@JoynrRpcCallback MethodWithAllPossiblePrimitiveParametersCallback callback,
+			Boolean booleanArg,
+			Double doubleArg,
+			Float floatArg,
+			Short int16Arg,
+			Integer int32Arg,
+			Long int64Arg,
+			Byte int8Arg,
+			String stringArg,
+			Short uInt16Arg,
+			Integer uInt32Arg,
+			Long uInt64Arg,
+			Byte uInt8Arg
+	);
+	default public MethodWithAllPossiblePrimitiveParametersFuture methodWithAllPossiblePrimitiveParameters(
+			@JoynrRpcCallback MethodWithAllPossiblePrimitiveParametersCallback callback,
+			Boolean booleanArg,
+			Double doubleArg,
+			Float floatArg,
+			Short int16Arg,
+			Integer int32Arg,
+			Long int64Arg,
+			Byte int8Arg,
+			String stringArg,
+			Short uInt16Arg,
+			Integer uInt32Arg,
+			Long uInt64Arg,
+			Byte uInt8Arg,
+			MessagingQos messagingQos
+	) {
+		return methodWithAllPossiblePrimitiveParameters(
+			callback,
+			booleanArg,
+			doubleArg,
+			floatArg,
+			int16Arg,
+			int32Arg,
+			int64Arg,
+			int8Arg,
+			stringArg,
+			uInt16Arg,
+			uInt32Arg,
+			uInt64Arg,
+			uInt8Arg
+		);
+	}
+
+}
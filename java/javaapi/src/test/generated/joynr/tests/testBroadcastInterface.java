@@ -0,0 +1,560 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.dispatcher.rpc.annotation.JoynrMulticast;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcBroadcast;
+import io.joynr.dispatcher.rpc.JoynrBroadcastSubscriptionInterface;
+import io.joynr.exceptions.SubscriptionException;
+import io.joynr.proxy.Future;
+import io.joynr.pubsub.subscription.BroadcastSubscriptionListener;
+import joynr.OnChangeSubscriptionQos;
+import joynr.BroadcastFilterParameters;
+import joynr.MulticastSubscriptionQos;
+
+import joynr.tests.testTypes.TestEnum;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.TestTypes.TEverythingStruct;
+import joynr.types.TestTypes.TStringKeyMap;
+
+public interface testBroadcastInterface extends JoynrBroadcastSubscriptionInterface, test {
+
+
+public interface BroadcastWithEnumOutputBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(TestEnum testEnum);
+}
+
+public class BroadcastWithEnumOutputBroadcastAdapter implements BroadcastWithEnumOutputBroadcastListener {
+	public void onReceive(TestEnum testEnum) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+@JoynrMulticast(name = "broadcastWithEnumOutput")
+abstract Future<String> subscribeToBroadcastWithEnumOutputBroadcast(
+		BroadcastWithEnumOutputBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+@JoynrMulticast(name = "broadcastWithEnumOutput")
+abstract Future<String> subscribeToBroadcastWithEnumOutputBroadcast(
+		String subscriptionId,
+		BroadcastWithEnumOutputBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+abstract void unsubscribeFromBroadcastWithEnumOutputBroadcast(String subscriptionId);
+
+public interface LocationUpdateBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(GpsLocation location);
+}
+
+public class LocationUpdateBroadcastAdapter implements LocationUpdateBroadcastListener {
+	public void onReceive(GpsLocation location) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+@JoynrMulticast(name = "locationUpdate")
+abstract Future<String> subscribeToLocationUpdateBroadcast(
+		LocationUpdateBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+@JoynrMulticast(name = "locationUpdate")
+abstract Future<String> subscribeToLocationUpdateBroadcast(
+		String subscriptionId,
+		LocationUpdateBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+abstract void unsubscribeFromLocationUpdateBroadcast(String subscriptionId);
+
+public interface LocationUpdateWithSpeedBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(GpsLocation location, Float currentSpeed);
+}
+
+public class LocationUpdateWithSpeedBroadcastAdapter implements LocationUpdateWithSpeedBroadcastListener {
+	public void onReceive(GpsLocation location, Float currentSpeed) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+@JoynrMulticast(name = "locationUpdateWithSpeed")
+abstract Future<String> subscribeToLocationUpdateWithSpeedBroadcast(
+		LocationUpdateWithSpeedBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+@JoynrMulticast(name = "locationUpdateWithSpeed")
+abstract Future<String> subscribeToLocationUpdateWithSpeedBroadcast(
+		String subscriptionId,
+		LocationUpdateWithSpeedBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+abstract void unsubscribeFromLocationUpdateWithSpeedBroadcast(String subscriptionId);
+
+public interface LocationUpdateSelectiveBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(GpsLocation location);
+}
+
+public class LocationUpdateSelectiveBroadcastAdapter implements LocationUpdateSelectiveBroadcastListener {
+	public void onReceive(GpsLocation location) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+public class LocationUpdateSelectiveBroadcastFilterParameters extends BroadcastFilterParameters {
+	public LocationUpdateSelectiveBroadcastFilterParameters() { };
+
+	public LocationUpdateSelectiveBroadcastFilterParameters(String country, String startTime, String endTime) {
+		super.setFilterParameter("country", country);
+		super.setFilterParameter("startTime", startTime);
+		super.setFilterParameter("endTime", endTime);
+	}
+	public void setCountry(String country) {
+		super.setFilterParameter("country", country);
+	}
+	public String getCountry() {
+		return super.getFilterParameter("country");
+	}
+	public void setStartTime(String startTime) {
+		super.setFilterParameter("startTime", startTime);
+	}
+	public String getStartTime() {
+		return super.getFilterParameter("startTime");
+	}
+	public void setEndTime(String endTime) {
+		super.setFilterParameter("endTime", endTime);
+	}
+	public String getEndTime() {
+		return super.getFilterParameter("endTime");
+	}
+}
+
+@JoynrRpcBroadcast(broadcastName = "locationUpdateSelective")
+abstract Future<String> subscribeToLocationUpdateSelectiveBroadcast(
+		LocationUpdateSelectiveBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		LocationUpdateSelectiveBroadcastFilterParameters filterParameters);
+
+@JoynrRpcBroadcast(broadcastName = "locationUpdateSelective")
+abstract Future<String> subscribeToLocationUpdateSelectiveBroadcast(
+		String subscriptionId,
+		LocationUpdateSelectiveBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		LocationUpdateSelectiveBroadcastFilterParameters filterParameters);
+
+abstract void unsubscribeFromLocationUpdateSelectiveBroadcast(String subscriptionId);
+
+public interface LocationUpdateWithSpeedSelectiveBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(GpsLocation location, Float currentSpeed);
+}
+
+public class LocationUpdateWithSpeedSelectiveBroadcastAdapter implements LocationUpdateWithSpeedSelectiveBroadcastListener {
+	public void onReceive(GpsLocation location, Float currentSpeed) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+public class LocationUpdateWithSpeedSelectiveBroadcastFilterParameters extends BroadcastFilterParameters {
+	public LocationUpdateWithSpeedSelectiveBroadcastFilterParameters() { };
+
+	public LocationUpdateWithSpeedSelectiveBroadcastFilterParameters(String country, String startTime, String endTime) {
+		super.setFilterParameter("country", country);
+		super.setFilterParameter("startTime", startTime);
+		super.setFilterParameter("endTime", endTime);
+	}
+	public void setCountry(String country) {
+		super.setFilterParameter("country", country);
+	}
+	public String getCountry() {
+		return super.getFilterParameter("country");
+	}
+	public void setStartTime(String startTime) {
+		super.setFilterParameter("startTime", startTime);
+	}
+	public String getStartTime() {
+		return super.getFilterParameter("startTime");
+	}
+	public void setEndTime(String endTime) {
+		super.setFilterParameter("endTime", endTime);
+	}
+	public String getEndTime() {
+		return super.getFilterParameter("endTime");
+	}
+}
+
+@JoynrRpcBroadcast(broadcastName = "locationUpdateWithSpeedSelective")
+abstract Future<String> subscribeToLocationUpdateWithSpeedSelectiveBroadcast(
+		LocationUpdateWithSpeedSelectiveBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		LocationUpdateWithSpeedSelectiveBroadcastFilterParameters filterParameters);
+
+@JoynrRpcBroadcast(broadcastName = "locationUpdateWithSpeedSelective")
+abstract Future<String> subscribeToLocationUpdateWithSpeedSelectiveBroadcast(
+		String subscriptionId,
+		LocationUpdateWithSpeedSelectiveBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		LocationUpdateWithSpeedSelectiveBroadcastFilterParameters filterParameters);
+
+abstract void unsubscribeFromLocationUpdateWithSpeedSelectiveBroadcast(String subscriptionId);
+
+public interface BroadcastWithSingleArrayParameterBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(String[] singleParam);
+}
+
+public class BroadcastWithSingleArrayParameterBroadcastAdapter implements BroadcastWithSingleArrayParameterBroadcastListener {
+	public void onReceive(String[] singleParam) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+@JoynrMulticast(name = "broadcastWithSingleArrayParameter")
+abstract Future<String> subscribeToBroadcastWithSingleArrayParameterBroadcast(
+		BroadcastWithSingleArrayParameterBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+@JoynrMulticast(name = "broadcastWithSingleArrayParameter")
+abstract Future<String> subscribeToBroadcastWithSingleArrayParameterBroadcast(
+		String subscriptionId,
+		BroadcastWithSingleArrayParameterBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+abstract void unsubscribeFromBroadcastWithSingleArrayParameterBroadcast(String subscriptionId);
+
+public interface BroadcastWithByteBufferParameterBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(Byte[] byteBufferParameter);
+}
+
+public class BroadcastWithByteBufferParameterBroadcastAdapter implements BroadcastWithByteBufferParameterBroadcastListener {
+	public void onReceive(Byte[] byteBufferParameter) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+@JoynrMulticast(name = "broadcastWithByteBufferParameter")
+abstract Future<String> subscribeToBroadcastWithByteBufferParameterBroadcast(
+		BroadcastWithByteBufferParameterBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+@JoynrMulticast(name = "broadcastWithByteBufferParameter")
+abstract Future<String> subscribeToBroadcastWithByteBufferParameterBroadcast(
+		String subscriptionId,
+		BroadcastWithByteBufferParameterBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+abstract void unsubscribeFromBroadcastWithByteBufferParameterBroadcast(String subscriptionId);
+
+public interface BroadcastWithMapParametersBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(TStringKeyMap mapParam);
+}
+
+public class BroadcastWithMapParametersBroadcastAdapter implements BroadcastWithMapParametersBroadcastListener {
+	public void onReceive(TStringKeyMap mapParam) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+@JoynrMulticast(name = "broadcastWithMapParameters")
+abstract Future<String> subscribeToBroadcastWithMapParametersBroadcast(
+		BroadcastWithMapParametersBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+@JoynrMulticast(name = "broadcastWithMapParameters")
+abstract Future<String> subscribeToBroadcastWithMapParametersBroadcast(
+		String subscriptionId,
+		BroadcastWithMapParametersBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+abstract void unsubscribeFromBroadcastWithMapParametersBroadcast(String subscriptionId);
+
+public interface BooleanBroadcastBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(Boolean b);
+}
+
+public class BooleanBroadcastBroadcastAdapter implements BooleanBroadcastBroadcastListener {
+	public void onReceive(Boolean b) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+public class BooleanBroadcastBroadcastFilterParameters extends BroadcastFilterParameters {
+	public BooleanBroadcastBroadcastFilterParameters() { };
+
+}
+
+@JoynrRpcBroadcast(broadcastName = "booleanBroadcast")
+abstract Future<String> subscribeToBooleanBroadcastBroadcast(
+		BooleanBroadcastBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		BooleanBroadcastBroadcastFilterParameters filterParameters);
+
+@JoynrRpcBroadcast(broadcastName = "booleanBroadcast")
+abstract Future<String> subscribeToBooleanBroadcastBroadcast(
+		String subscriptionId,
+		BooleanBroadcastBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		BooleanBroadcastBroadcastFilterParameters filterParameters);
+
+abstract void unsubscribeFromBooleanBroadcastBroadcast(String subscriptionId);
+
+public interface DoubleBroadcastBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(Double d);
+}
+
+public class DoubleBroadcastBroadcastAdapter implements DoubleBroadcastBroadcastListener {
+	public void onReceive(Double d) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+public class DoubleBroadcastBroadcastFilterParameters extends BroadcastFilterParameters {
+	public DoubleBroadcastBroadcastFilterParameters() { };
+
+}
+
+@JoynrRpcBroadcast(broadcastName = "doubleBroadcast")
+abstract Future<String> subscribeToDoubleBroadcastBroadcast(
+		DoubleBroadcastBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		DoubleBroadcastBroadcastFilterParameters filterParameters);
+
+@JoynrRpcBroadcast(broadcastName = "doubleBroadcast")
+abstract Future<String> subscribeToDoubleBroadcastBroadcast(
+		String subscriptionId,
+		DoubleBroadcastBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		DoubleBroadcastBroadcastFilterParameters filterParameters);
+
+abstract void unsubscribeFromDoubleBroadcastBroadcast(String subscriptionId);
+
+public interface IntBroadcastBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(Integer i32);
+}
+
+public class IntBroadcastBroadcastAdapter implements IntBroadcastBroadcastListener {
+	public void onReceive(Integer i32) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+public class IntBroadcastBroadcastFilterParameters extends BroadcastFilterParameters {
+	public IntBroadcastBroadcastFilterParameters() { };
+
+}
+
+@JoynrRpcBroadcast(broadcastName = "intBroadcast")
+abstract Future<String> subscribeToIntBroadcastBroadcast(
+		IntBroadcastBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		IntBroadcastBroadcastFilterParameters filterParameters);
+
+@JoynrRpcBroadcast(broadcastName = "intBroadcast")
+abstract Future<String> subscribeToIntBroadcastBroadcast(
+		String subscriptionId,
+		IntBroadcastBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		IntBroadcastBroadcastFilterParameters filterParameters);
+
+abstract void unsubscribeFromIntBroadcastBroadcast(String subscriptionId);
+
+public interface StringBroadcastBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(String s);
+}
+
+public class StringBroadcastBroadcastAdapter implements StringBroadcastBroadcastListener {
+	public void onReceive(String s) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+public class StringBroadcastBroadcastFilterParameters extends BroadcastFilterParameters {
+	public StringBroadcastBroadcastFilterParameters() { };
+
+}
+
+@JoynrRpcBroadcast(broadcastName = "stringBroadcast")
+abstract Future<String> subscribeToStringBroadcastBroadcast(
+		StringBroadcastBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		StringBroadcastBroadcastFilterParameters filterParameters);
+
+@JoynrRpcBroadcast(broadcastName = "stringBroadcast")
+abstract Future<String> subscribeToStringBroadcastBroadcast(
+		String subscriptionId,
+		StringBroadcastBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		StringBroadcastBroadcastFilterParameters filterParameters);
+
+abstract void unsubscribeFromStringBroadcastBroadcast(String subscriptionId);
+
+public interface BroadcastWithFilteringBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive(String stringOut, String[] stringArrayOut, TestEnum[] enumerationArrayOut, TEverythingStruct structWithStringArrayOut, TEverythingStruct[] structWithStringArrayArrayOut);
+}
+
+public class BroadcastWithFilteringBroadcastAdapter implements BroadcastWithFilteringBroadcastListener {
+	public void onReceive(String stringOut, String[] stringArrayOut, TestEnum[] enumerationArrayOut, TEverythingStruct structWithStringArrayOut, TEverythingStruct[] structWithStringArrayArrayOut) {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+public class BroadcastWithFilteringBroadcastFilterParameters extends BroadcastFilterParameters {
+	public BroadcastWithFilteringBroadcastFilterParameters() { };
+
+}
+
+@JoynrRpcBroadcast(broadcastName = "broadcastWithFiltering")
+abstract Future<String> subscribeToBroadcastWithFilteringBroadcast(
+		BroadcastWithFilteringBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		BroadcastWithFilteringBroadcastFilterParameters filterParameters);
+
+@JoynrRpcBroadcast(broadcastName = "broadcastWithFiltering")
+abstract Future<String> subscribeToBroadcastWithFilteringBroadcast(
+		String subscriptionId,
+		BroadcastWithFilteringBroadcastListener broadcastListener,
+		OnChangeSubscriptionQos subscriptionQos,
+		BroadcastWithFilteringBroadcastFilterParameters filterParameters);
+
+abstract void unsubscribeFromBroadcastWithFilteringBroadcast(String subscriptionId);
+
+public interface EmptyBroadcastBroadcastListener extends BroadcastSubscriptionListener {
+	public void onReceive();
+}
+
+public class EmptyBroadcastBroadcastAdapter implements EmptyBroadcastBroadcastListener {
+	public void onReceive() {
+		// empty implementation
+	}
+	public void onError(SubscriptionException error) {
+		// empty implementation
+	}
+	public void onSubscribed(String subscriptionId) {
+		// empty implementation
+	}
+}
+
+@JoynrMulticast(name = "emptyBroadcast")
+abstract Future<String> subscribeToEmptyBroadcastBroadcast(
+		EmptyBroadcastBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+@JoynrMulticast(name = "emptyBroadcast")
+abstract Future<String> subscribeToEmptyBroadcastBroadcast(
+		String subscriptionId,
+		EmptyBroadcastBroadcastListener subscriptionListener,
+		MulticastSubscriptionQos subscriptionQos,
+		String... partitions);
+
+abstract void unsubscribeFromEmptyBroadcastBroadcast(String subscriptionId);
+}
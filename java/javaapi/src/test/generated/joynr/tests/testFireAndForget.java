@@ -0,0 +1,99 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.tests;
+
+import io.joynr.messaging.MessagingQos;
+
+import joynr.tests.testTypes.ComplexTestType;
+import joynr.tests.testTypes.TestEnum;
+import joynr.tests.testTypes.TestEnumWithoutValues;
+
+@io.joynr.dispatcher.rpc.annotation.FireAndForget
+public interface testFireAndForget {
+
+/*
+ * fireAndForgetMethod
+ */
+void fireAndForgetMethod(
+		String input
+);
+default void fireAndForgetMethod(
+		String input,
+		MessagingQos messagingQos
+) {
+};
+
+/*
+ * methodFireAndForgetWithoutParams
+ */
+void methodFireAndForgetWithoutParams(
+);
+default void methodFireAndForgetWithoutParams(
+		MessagingQos messagingQos
+) {
+};
+
+/*
+ * methodFireAndForget
+ */
+void methodFireAndForget(
+		Integer intIn,
+		String stringIn,
+		ComplexTestType complexTestTypeIn
+);
+default void methodFireAndForget(
+		Integer intIn,
+		String stringIn,
+		ComplexTestType complexTestTypeIn,
+		MessagingQos messagingQos
+) {
+};
+
+/*
+ * methodFireAndForgetWithEnumWithValues
+ */
+void methodFireAndForgetWithEnumWithValues(
+		TestEnum enumIn
+);
+default void methodFireAndForgetWithEnumWithValues(
+		TestEnum enumIn,
+		MessagingQos messagingQos
+) {
+};
+
+/*
+ * methodFireAndForgetWithEnumWithoutValues
+ */
+void methodFireAndForgetWithEnumWithoutValues(
+		TestEnumWithoutValues enumIn
+);
+default void methodFireAndForgetWithEnumWithoutValues(
+		TestEnumWithoutValues enumIn,
+		MessagingQos messagingQos
+) {
+};
+}
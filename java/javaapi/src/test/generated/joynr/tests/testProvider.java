@@ -0,0 +1,862 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.provider.Promise;
+import io.joynr.provider.Deferred;
+import io.joynr.provider.AbstractDeferred;
+import io.joynr.provider.DeferredVoid;
+import joynr.exceptions.ApplicationException;
+
+import io.joynr.provider.JoynrInterface;
+import io.joynr.JoynrVersion;
+
+import joynr.tests.testTypes.AnotherDerivedStruct;
+import joynr.tests.testTypes.BaseStruct;
+import joynr.tests.testTypes.ComplexTestType;
+import joynr.tests.testTypes.ComplexTestType2;
+import joynr.tests.testTypes.DerivedStruct;
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.tests.testTypes.TestEnumWithoutValues;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TEverythingStruct;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+import joynr.types.TestTypes.Vowel;
+
+import io.joynr.provider.SubscriptionPublisherInjection;
+
+interface testSubscriptionPublisherInjection extends SubscriptionPublisherInjection<testSubscriptionPublisher> { }
+
+@JoynrInterface(provides = test.class, provider = testProvider.class, name = "tests/test")
+@JoynrVersion(major = 47, minor = 11)
+public interface testProvider extends testSubscriptionPublisherInjection {
+
+
+	Promise<Deferred<TestEnum>> getEnumAttribute();
+	Promise<DeferredVoid> setEnumAttribute(TestEnum enumAttribute);
+
+	Promise<Deferred<TestEnum>> getEnumAttributeReadOnly();
+
+	Promise<Deferred<TestEnum[]>> getListOfEnumsAttribute();
+	Promise<DeferredVoid> setListOfEnumsAttribute(TestEnum[] listOfEnumsAttribute);
+
+	Promise<Deferred<GpsLocation>> getLocation();
+	Promise<DeferredVoid> setLocation(GpsLocation location);
+
+	Promise<Deferred<Trip>> getMytrip();
+
+	Promise<Deferred<GpsLocation>> getYourLocation();
+
+	Promise<Deferred<Integer>> getFirstPrime();
+	Promise<DeferredVoid> setFirstPrime(Integer firstPrime);
+
+	Promise<Deferred<Integer[]>> getListOfInts();
+	Promise<DeferredVoid> setListOfInts(Integer[] listOfInts);
+
+	Promise<Deferred<GpsLocation[]>> getListOfLocations();
+
+	Promise<Deferred<String[]>> getListOfStrings();
+	Promise<DeferredVoid> setListOfStrings(String[] listOfStrings);
+
+	Promise<Deferred<Integer>> getTestAttribute();
+	Promise<DeferredVoid> setTestAttribute(Integer testAttribute);
+
+	Promise<Deferred<GpsLocation>> getComplexTestAttribute();
+	Promise<DeferredVoid> setComplexTestAttribute(GpsLocation complexTestAttribute);
+
+	Promise<Deferred<Integer>> getReadWriteAttribute();
+	Promise<DeferredVoid> setReadWriteAttribute(Integer readWriteAttribute);
+
+	Promise<Deferred<Integer>> getReadOnlyAttribute();
+
+	Promise<Deferred<Integer>> getWriteOnly();
+	Promise<DeferredVoid> setWriteOnly(Integer writeOnly);
+
+	Promise<Deferred<Integer>> getNotifyWriteOnly();
+	Promise<DeferredVoid> setNotifyWriteOnly(Integer notifyWriteOnly);
+
+	Promise<Deferred<Integer>> getNotifyReadOnly();
+
+	Promise<Deferred<Integer>> getNotifyReadWrite();
+	Promise<DeferredVoid> setNotifyReadWrite(Integer notifyReadWrite);
+
+	Promise<Deferred<Integer>> getNotify();
+	Promise<DeferredVoid> setNotify(Integer notify);
+
+	Promise<Deferred<Integer>> getATTRIBUTEWITHCAPITALLETTERS();
+	Promise<DeferredVoid> setATTRIBUTEWITHCAPITALLETTERS(Integer ATTRIBUTEWITHCAPITALLETTERS);
+
+	Promise<Deferred<Integer>> getAttributeWithProviderRuntimeException();
+	Promise<DeferredVoid> setAttributeWithProviderRuntimeException(Integer attributeWithProviderRuntimeException);
+
+	Promise<Deferred<Integer>> getAttributeWithThrownException();
+	Promise<DeferredVoid> setAttributeWithThrownException(Integer attributeWithThrownException);
+
+	Promise<Deferred<TEverythingMap>> getEverythingMap();
+	Promise<DeferredVoid> setEverythingMap(TEverythingMap EverythingMap);
+
+	Promise<Deferred<HavingComplexArrayMemberStruct[]>> getAttributeArrayOfNestedStructs();
+	Promise<DeferredVoid> setAttributeArrayOfNestedStructs(HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs);
+
+	Promise<Deferred<Byte[]>> getByteBufferAttribute();
+	Promise<DeferredVoid> setByteBufferAttribute(Byte[] byteBufferAttribute);
+
+	Promise<Deferred<TStruct>> getTypeDefForTStruct();
+	Promise<DeferredVoid> setTypeDefForTStruct(TStruct typeDefForTStruct);
+
+	Promise<Deferred<TStruct[]>> getTypeDefForTStructArray();
+	Promise<DeferredVoid> setTypeDefForTStructArray(TStruct[] typeDefForTStructArray);
+
+	Promise<Deferred<Integer>> getTypeDefForPrimitive();
+	Promise<DeferredVoid> setTypeDefForPrimitive(Integer typeDefForPrimitive);
+
+	Promise<Deferred<Integer[]>> getTypeDefForPrimitiveArray();
+	Promise<DeferredVoid> setTypeDefForPrimitiveArray(Integer[] typeDefForPrimitiveArray);
+
+	/**
+	 * echoCallingPrincipal
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<EchoCallingPrincipalDeferred> echoCallingPrincipal(
+	);
+
+	/**
+	 * fireAndForgetMethod
+	 * @param input the parameter input
+	 */
+	public void fireAndForgetMethod(
+			String input
+	);
+
+	/**
+	 * addNumbers
+	 * @param first the parameter first
+	 * @param second the parameter second
+	 * @param third the parameter third
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<AddNumbersDeferred> addNumbers(
+			Integer first,
+			Integer second,
+			Integer third
+	);
+
+	/**
+	 * sumInts
+	 * @param ints the parameter ints
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<SumIntsDeferred> sumInts(
+			Integer[] ints
+	);
+
+	/**
+	 * sumIntsDelayed
+	 * @param ints the parameter ints
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<SumIntsDelayedDeferred> sumIntsDelayed(
+			Integer[] ints
+	);
+
+	/**
+	 * methodWithNoInputParameters
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithNoInputParametersDeferred> methodWithNoInputParameters(
+	);
+
+	/**
+	 * methodWithStrings
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithStringsDeferred> methodWithStrings(
+			String input
+	);
+
+	/**
+	 * methodWithEnumParameter
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithEnumParameterDeferred> methodWithEnumParameter(
+			TestEnum input
+	);
+
+	/**
+	 * methodWithByteBuffer
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithByteBufferDeferred> methodWithByteBuffer(
+			Byte[] input
+	);
+
+	/**
+	 * methodWithEnumListParameter
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithEnumListParameterDeferred> methodWithEnumListParameter(
+			TestEnum[] input
+	);
+
+	/**
+	 * methodFireAndForgetWithoutParams
+	 */
+	public void methodFireAndForgetWithoutParams(
+	);
+
+	/**
+	 * methodFireAndForget
+	 * @param intIn the parameter intIn
+	 * @param stringIn the parameter stringIn
+	 * @param complexTestTypeIn the parameter complexTestTypeIn
+	 */
+	public void methodFireAndForget(
+			Integer intIn,
+			String stringIn,
+			ComplexTestType complexTestTypeIn
+	);
+
+	/**
+	 * methodFireAndForgetWithEnumWithValues
+	 * @param enumIn the parameter enumIn
+	 */
+	public void methodFireAndForgetWithEnumWithValues(
+			TestEnum enumIn
+	);
+
+	/**
+	 * methodFireAndForgetWithEnumWithoutValues
+	 * @param enumIn the parameter enumIn
+	 */
+	public void methodFireAndForgetWithEnumWithoutValues(
+			TestEnumWithoutValues enumIn
+	);
+
+	/**
+	 * methodWithEnumWithoutValues
+	 * @param enumIn the parameter enumIn
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithEnumWithoutValuesDeferred> methodWithEnumWithoutValues(
+			TestEnumWithoutValues enumIn
+	);
+
+	/**
+	 * methodWithEnumReturn
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithEnumReturnDeferred> methodWithEnumReturn(
+			Integer input
+	);
+
+	/**
+	 * methodWithEnumListReturn
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithEnumListReturnDeferred> methodWithEnumListReturn(
+			Integer input
+	);
+
+	/**
+	 * methodWithByteArray
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithByteArrayDeferred> methodWithByteArray(
+			Byte[] input
+	);
+
+	/**
+	 * methodWithPrimitiveTypeDef
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithPrimitiveTypeDefDeferred> methodWithPrimitiveTypeDef(
+			Integer input
+	);
+
+	/**
+	 * methodWithCompoundTypeDef
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithCompoundTypeDefDeferred> methodWithCompoundTypeDef(
+			TStruct input
+	);
+
+	/**
+	 * methodEnumDoubleParameters
+	 * @param enumParam the parameter enumParam
+	 * @param doubleParam the parameter doubleParam
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> methodEnumDoubleParameters(
+			TestEnum enumParam,
+			Double doubleParam
+	);
+
+	/**
+	 * methodStringDoubleParameters
+	 * @param stringParam the parameter stringParam
+	 * @param doubleParam the parameter doubleParam
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> methodStringDoubleParameters(
+			String stringParam,
+			Double doubleParam
+	);
+
+	/**
+	 * methodCustomCustomParameters
+	 * @param customParam1 the parameter customParam1
+	 * @param customParam2 the parameter customParam2
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> methodCustomCustomParameters(
+			ComplexTestType customParam1,
+			ComplexTestType2 customParam2
+	);
+
+	/**
+	 * methodStringDoubleListParameters
+	 * @param stringParam the parameter stringParam
+	 * @param doubleListParam the parameter doubleListParam
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> methodStringDoubleListParameters(
+			String stringParam,
+			Double[] doubleListParam
+	);
+
+	/**
+	 * methodCustomCustomListParameters
+	 * @param customParam the parameter customParam
+	 * @param customListParam the parameter customListParam
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> methodCustomCustomListParameters(
+			ComplexTestType customParam,
+			ComplexTestType2[] customListParam
+	);
+
+	/**
+	 * customTypeAndListParameter
+	 * @param complexTestType the parameter complexTestType
+	 * @param complexArray the parameter complexArray
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> customTypeAndListParameter(
+			ComplexTestType complexTestType,
+			BaseStruct[] complexArray
+	);
+
+	/**
+	 * voidOperation
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> voidOperation(
+	);
+
+	/**
+	 * stringAndBoolParameters
+	 * @param stringParam the parameter stringParam
+	 * @param boolParam the parameter boolParam
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> stringAndBoolParameters(
+			String stringParam,
+			Boolean boolParam
+	);
+
+	/**
+	 * mapParameters
+	 * @param tStringMapIn the parameter tStringMapIn
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MapParametersDeferred> mapParameters(
+			TStringKeyMap tStringMapIn
+	);
+
+	/**
+	 * returnPrimeNumbers
+	 * @param upperBound the parameter upperBound
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<ReturnPrimeNumbersDeferred> returnPrimeNumbers(
+			Integer upperBound
+	);
+
+	/**
+	 * optimizeTrip
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<OptimizeTripDeferred> optimizeTrip(
+			Trip input
+	);
+
+	/**
+	 * overloadedOperation
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<OverloadedOperation1Deferred> overloadedOperation(
+			DerivedStruct input
+	);
+
+	/**
+	 * overloadedOperation
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<OverloadedOperation1Deferred> overloadedOperation(
+			AnotherDerivedStruct input
+	);
+
+	/**
+	 * overloadedOperation
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<OverloadedOperation2Deferred> overloadedOperation(
+			String input
+	);
+
+	/**
+	 * overloadedOperation
+	 * @param input1 the parameter input1
+	 * @param input2 the parameter input2
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<OverloadedOperation3Deferred> overloadedOperation(
+			String input1,
+			String input2
+	);
+
+	/**
+	 * optimizeLocations
+	 * @param input the parameter input
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<OptimizeLocationsDeferred> optimizeLocations(
+			GpsLocation[] input
+	);
+
+	/**
+	 * toLowerCase
+	 * @param inputString the parameter inputString
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<ToLowerCaseDeferred> toLowerCase(
+			String inputString
+	);
+
+	/**
+	 * waitTooLong
+	 * @param ttl_ms the parameter ttl_ms
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<WaitTooLongDeferred> waitTooLong(
+			Long ttl_ms
+	);
+
+	/**
+	 * sayHello
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<SayHelloDeferred> sayHello(
+	);
+
+	/**
+	 * methodWithEnumReturnValue
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithEnumReturnValueDeferred> methodWithEnumReturnValue(
+	);
+
+	/**
+	 * checkVowel
+	 * @param inputVowel the parameter inputVowel
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<CheckVowelDeferred> checkVowel(
+			Vowel inputVowel
+	);
+
+	/**
+	 * optimizeLocationList
+	 * @param inputList the parameter inputList
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<OptimizeLocationListDeferred> optimizeLocationList(
+			GpsLocation[] inputList
+	);
+
+	/**
+	 * methodWithErrorEnum
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithErrorEnumDeferred> methodWithErrorEnum(
+	);
+
+	/**
+	 * methodWithMultipleOutAndErrorEnum
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithMultipleOutAndErrorEnumDeferred> methodWithMultipleOutAndErrorEnum(
+	);
+
+	/**
+	 * methodWithErrorEnumExtended
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithErrorEnumExtendedDeferred> methodWithErrorEnumExtended(
+	);
+
+	/**
+	 * methodWithInterfaceErrorEnum
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithInterfaceErrorEnumDeferred> methodWithInterfaceErrorEnum(
+	);
+
+	/**
+	 * methodWithInterfaceErrorEnumExtended
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithInterfaceErrorEnumExtendedDeferred> methodWithInterfaceErrorEnumExtended(
+	);
+
+	/**
+	 * methodWithImplicitErrorEnum
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithImplicitErrorEnumDeferred> methodWithImplicitErrorEnum(
+	);
+
+	/**
+	 * methodWithProviderRuntimeException
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> methodWithProviderRuntimeException(
+	);
+
+	/**
+	 * methodWithThrownException
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<DeferredVoid> methodWithThrownException(
+	);
+
+	/**
+	 * methodWithMultipleOutputParameters
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithMultipleOutputParametersDeferred> methodWithMultipleOutputParameters(
+	);
+
+	/**
+	 * methodWithAllPossiblePrimitiveParameters
+	 * @param booleanArg the parameter booleanArg
+	 * @param doubleArg the parameter doubleArg
+	 * @param floatArg the parameter floatArg
+	 * @param int16Arg the parameter int16Arg
+	 * @param int32Arg the parameter int32Arg
+	 * @param int64Arg the parameter int64Arg
+	 * @param int8Arg the parameter int8Arg
+	 * @param stringArg the parameter stringArg
+	 * @param uInt16Arg the parameter uInt16Arg
+	 * @param uInt32Arg the parameter uInt32Arg
+	 * @param uInt64Arg the parameter uInt64Arg
+	 * @param uInt8Arg the parameter uInt8Arg
+	 * @return promise for asynchronous handling
+	 */
+	public Promise<MethodWithAllPossiblePrimitiveParametersDeferred> methodWithAllPossiblePrimitiveParameters(
+			Boolean booleanArg,
+			Double doubleArg,
+			Float floatArg,
+			Short int16Arg,
+			Integer int32Arg,
+			Long int64Arg,
+			Byte int8Arg,
+			String stringArg,
+			Short uInt16Arg,
+			Integer uInt32Arg,
+			Long uInt64Arg,
+			Byte uInt8Arg
+	);
+
+	public class EchoCallingPrincipalDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(String callingPrincipal) {
+			return super.resolve(callingPrincipal);
+		}
+	}
+
+	public class AddNumbersDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Integer result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class SumIntsDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Integer result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class SumIntsDelayedDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Integer result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class MethodWithNoInputParametersDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Integer result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class MethodWithStringsDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(String result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class MethodWithEnumParameterDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Integer result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class MethodWithByteBufferDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Byte[] result) {
+			return super.resolve((Object) result);
+		}
+	}
+
+	public class MethodWithEnumListParameterDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Integer result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class MethodWithEnumWithoutValuesDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(TestEnumWithoutValues enumOut) {
+			return super.resolve(enumOut);
+		}
+	}
+
+	public class MethodWithEnumReturnDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(TestEnum result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class MethodWithEnumListReturnDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(TestEnum[] result) {
+			return super.resolve((Object) result);
+		}
+	}
+
+	public class MethodWithByteArrayDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Byte[] result) {
+			return super.resolve((Object) result);
+		}
+	}
+
+	public class MethodWithPrimitiveTypeDefDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Integer result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class MethodWithCompoundTypeDefDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(TStruct result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class MapParametersDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(TStringKeyMap tStringMapOut) {
+			return super.resolve(tStringMapOut);
+		}
+	}
+
+	public class ReturnPrimeNumbersDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Integer[] result) {
+			return super.resolve((Object) result);
+		}
+	}
+
+	public class OptimizeTripDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Trip result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class OverloadedOperation1Deferred extends AbstractDeferred {
+		public synchronized boolean resolve(String result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class OverloadedOperation2Deferred extends AbstractDeferred {
+		public synchronized boolean resolve(ComplexTestType result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class OverloadedOperation3Deferred extends AbstractDeferred {
+		public synchronized boolean resolve(ComplexTestType2 result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class OptimizeLocationsDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(GpsLocation[] result) {
+			return super.resolve((Object) result);
+		}
+	}
+
+	public class ToLowerCaseDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(String result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class WaitTooLongDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(String result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class SayHelloDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(String result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class MethodWithEnumReturnValueDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(TestEnum result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class CheckVowelDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Boolean result) {
+			return super.resolve(result);
+		}
+	}
+
+	public class OptimizeLocationListDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(GpsLocation[] result) {
+			return super.resolve((Object) result);
+		}
+	}
+
+	public class MethodWithErrorEnumDeferred extends AbstractDeferred {
+		public synchronized boolean resolve() {
+			Object[] values = new Object[] { };
+			return super.resolve(values);
+		}
+		public synchronized boolean reject(joynr.tests.testTypes.ErrorEnumBase error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class MethodWithMultipleOutAndErrorEnumDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(String out1, String out2) {
+			return super.resolve(out1, out2);
+		}
+		public synchronized boolean reject(joynr.tests.testTypes.ErrorEnumBase error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class MethodWithErrorEnumExtendedDeferred extends AbstractDeferred {
+		public synchronized boolean resolve() {
+			Object[] values = new Object[] { };
+			return super.resolve(values);
+		}
+		public synchronized boolean reject(joynr.tests.test.MethodWithErrorEnumExtendedErrorEnum error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class MethodWithInterfaceErrorEnumDeferred extends AbstractDeferred {
+		public synchronized boolean resolve() {
+			Object[] values = new Object[] { };
+			return super.resolve(values);
+		}
+		public synchronized boolean reject(joynr.tests.ErrorEnumInterface error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class MethodWithInterfaceErrorEnumExtendedDeferred extends AbstractDeferred {
+		public synchronized boolean resolve() {
+			Object[] values = new Object[] { };
+			return super.resolve(values);
+		}
+		public synchronized boolean reject(joynr.tests.test.MethodWithInterfaceErrorEnumExtendedErrorEnum error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class MethodWithImplicitErrorEnumDeferred extends AbstractDeferred {
+		public synchronized boolean resolve() {
+			Object[] values = new Object[] { };
+			return super.resolve(values);
+		}
+		public synchronized boolean reject(joynr.tests.test.MethodWithImplicitErrorEnumErrorEnum error) {
+			return super.reject(new ApplicationException(error));
+		}
+	}
+
+	public class MethodWithMultipleOutputParametersDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(String aString, Integer aNumber, GpsLocation aComplexDataType, TestEnum anEnumResult) {
+			return super.resolve(aString, aNumber, aComplexDataType, anEnumResult);
+		}
+	}
+
+	public class MethodWithAllPossiblePrimitiveParametersDeferred extends AbstractDeferred {
+		public synchronized boolean resolve(Boolean booleanOut, Double doubleOut, Float floatOut, Short int16Out, Integer int32Out, Long int64Out, Byte int8Out, String stringOut, Short uInt16Out, Integer uInt32Out, Long uInt64Out, Byte uInt8Out) {
+			return super.resolve(booleanOut, doubleOut, floatOut, int16Out, int32Out, int64Out, int8Out, stringOut, uInt16Out, uInt32Out, uInt64Out, uInt8Out);
+		}
+	}
+}
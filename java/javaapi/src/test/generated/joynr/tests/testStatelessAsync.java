@@ -0,0 +1,773 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.tests;
+
+import io.joynr.StatelessAsync;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.proxy.MessageIdCallback;
+import io.joynr.UsedBy;
+
+import joynr.tests.testTypes.AnotherDerivedStruct;
+import joynr.tests.testTypes.BaseStruct;
+import joynr.tests.testTypes.ComplexTestType;
+import joynr.tests.testTypes.ComplexTestType2;
+import joynr.tests.testTypes.DerivedStruct;
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.tests.testTypes.TestEnumWithoutValues;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+import joynr.types.TestTypes.Vowel;
+
+@StatelessAsync
+@UsedBy(testProxy.class)
+public interface testStatelessAsync extends test, testFireAndForget {
+
+	/*
+	* enumAttribute getter
+	*/
+	@StatelessCallbackCorrelation("-1385495835")
+	void getEnumAttribute(MessageIdCallback messageIdCallback);
+	/*
+	* enumAttribute setter
+	*/
+	@StatelessCallbackCorrelation("1078028633")
+	void setEnumAttribute(TestEnum enumAttribute, MessageIdCallback messageIdCallback);
+
+	/*
+	* enumAttributeReadOnly getter
+	*/
+	@StatelessCallbackCorrelation("212001895")
+	void getEnumAttributeReadOnly(MessageIdCallback messageIdCallback);
+
+	/*
+	* listOfEnumsAttribute getter
+	*/
+	@StatelessCallbackCorrelation("-2134790635")
+	void getListOfEnumsAttribute(MessageIdCallback messageIdCallback);
+	/*
+	* listOfEnumsAttribute setter
+	*/
+	@StatelessCallbackCorrelation("-82518751")
+	void setListOfEnumsAttribute(TestEnum[] listOfEnumsAttribute, MessageIdCallback messageIdCallback);
+
+	/*
+	* location getter
+	*/
+	@StatelessCallbackCorrelation("-316023509")
+	void getLocation(MessageIdCallback messageIdCallback);
+	/*
+	* location setter
+	*/
+	@StatelessCallbackCorrelation("-404603337")
+	void setLocation(GpsLocation location, MessageIdCallback messageIdCallback);
+
+	/*
+	* mytrip getter
+	*/
+	@StatelessCallbackCorrelation("636939975")
+	void getMytrip(MessageIdCallback messageIdCallback);
+
+	/*
+	* yourLocation getter
+	*/
+	@StatelessCallbackCorrelation("-1270389890")
+	void getYourLocation(MessageIdCallback messageIdCallback);
+
+	/*
+	* firstPrime getter
+	*/
+	@StatelessCallbackCorrelation("-472459867")
+	void getFirstPrime(MessageIdCallback messageIdCallback);
+	/*
+	* firstPrime setter
+	*/
+	@StatelessCallbackCorrelation("301671345")
+	void setFirstPrime(Integer firstPrime, MessageIdCallback messageIdCallback);
+
+	/*
+	* listOfInts getter
+	*/
+	@StatelessCallbackCorrelation("-61404401")
+	void getListOfInts(MessageIdCallback messageIdCallback);
+	/*
+	* listOfInts setter
+	*/
+	@StatelessCallbackCorrelation("712726811")
+	void setListOfInts(Integer[] listOfInts, MessageIdCallback messageIdCallback);
+
+	/*
+	* listOfLocations getter
+	*/
+	@StatelessCallbackCorrelation("-1976441453")
+	void getListOfLocations(MessageIdCallback messageIdCallback);
+
+	/*
+	* listOfStrings getter
+	*/
+	@StatelessCallbackCorrelation("812399095")
+	void getListOfStrings(MessageIdCallback messageIdCallback);
+	/*
+	* listOfStrings setter
+	*/
+	@StatelessCallbackCorrelation("-1019043733")
+	void setListOfStrings(String[] listOfStrings, MessageIdCallback messageIdCallback);
+
+	/*
+	* testAttribute getter
+	*/
+	@StatelessCallbackCorrelation("-435009932")
+	void getTestAttribute(MessageIdCallback messageIdCallback);
+	/*
+	* testAttribute setter
+	*/
+	@StatelessCallbackCorrelation("2028514536")
+	void setTestAttribute(Integer testAttribute, MessageIdCallback messageIdCallback);
+
+	/*
+	* complexTestAttribute getter
+	*/
+	@StatelessCallbackCorrelation("1074999248")
+	void getComplexTestAttribute(MessageIdCallback messageIdCallback);
+	/*
+	* complexTestAttribute setter
+	*/
+	@StatelessCallbackCorrelation("-1167696164")
+	void setComplexTestAttribute(GpsLocation complexTestAttribute, MessageIdCallback messageIdCallback);
+
+	/*
+	* readWriteAttribute getter
+	*/
+	@StatelessCallbackCorrelation("1924916905")
+	void getReadWriteAttribute(MessageIdCallback messageIdCallback);
+	/*
+	* readWriteAttribute setter
+	*/
+	@StatelessCallbackCorrelation("166160565")
+	void setReadWriteAttribute(Integer readWriteAttribute, MessageIdCallback messageIdCallback);
+
+	/*
+	* readOnlyAttribute getter
+	*/
+	@StatelessCallbackCorrelation("744205732")
+	void getReadOnlyAttribute(MessageIdCallback messageIdCallback);
+
+	/*
+	* writeOnly getter
+	*/
+	@StatelessCallbackCorrelation("-1416080011")
+	void getWriteOnly(MessageIdCallback messageIdCallback);
+	/*
+	* writeOnly setter
+	*/
+	@StatelessCallbackCorrelation("132912617")
+	void setWriteOnly(Integer writeOnly, MessageIdCallback messageIdCallback);
+
+	/*
+	* notifyWriteOnly getter
+	*/
+	@StatelessCallbackCorrelation("-1736286036")
+	void getNotifyWriteOnly(MessageIdCallback messageIdCallback);
+	/*
+	* notifyWriteOnly setter
+	*/
+	@StatelessCallbackCorrelation("-816252384")
+	void setNotifyWriteOnly(Integer notifyWriteOnly, MessageIdCallback messageIdCallback);
+
+	/*
+	* notifyReadOnly getter
+	*/
+	@StatelessCallbackCorrelation("784245185")
+	void getNotifyReadOnly(MessageIdCallback messageIdCallback);
+
+	/*
+	* notifyReadWrite getter
+	*/
+	@StatelessCallbackCorrelation("-1450698646")
+	void getNotifyReadWrite(MessageIdCallback messageIdCallback);
+	/*
+	* notifyReadWrite setter
+	*/
+	@StatelessCallbackCorrelation("-530664994")
+	void setNotifyReadWrite(Integer notifyReadWrite, MessageIdCallback messageIdCallback);
+
+	/*
+	* notify getter
+	*/
+	@StatelessCallbackCorrelation("656325183")
+	void getNotify(MessageIdCallback messageIdCallback);
+	/*
+	* notify setter
+	*/
+	@StatelessCallbackCorrelation("441708107")
+	void setNotify(Integer notify, MessageIdCallback messageIdCallback);
+
+	/*
+	* ATTRIBUTEWITHCAPITALLETTERS getter
+	*/
+	@StatelessCallbackCorrelation("-617245871")
+	void getATTRIBUTEWITHCAPITALLETTERS(MessageIdCallback messageIdCallback);
+	/*
+	* ATTRIBUTEWITHCAPITALLETTERS setter
+	*/
+	@StatelessCallbackCorrelation("-481452347")
+	void setATTRIBUTEWITHCAPITALLETTERS(Integer ATTRIBUTEWITHCAPITALLETTERS, MessageIdCallback messageIdCallback);
+
+	/*
+	* attributeWithProviderRuntimeException getter
+	*/
+	@StatelessCallbackCorrelation("-1412490924")
+	void getAttributeWithProviderRuntimeException(MessageIdCallback messageIdCallback);
+	/*
+	* attributeWithProviderRuntimeException setter
+	*/
+	@StatelessCallbackCorrelation("-1053400120")
+	void setAttributeWithProviderRuntimeException(Integer attributeWithProviderRuntimeException, MessageIdCallback messageIdCallback);
+
+	/*
+	* attributeWithThrownException getter
+	*/
+	@StatelessCallbackCorrelation("196957051")
+	void getAttributeWithThrownException(MessageIdCallback messageIdCallback);
+	/*
+	* attributeWithThrownException setter
+	*/
+	@StatelessCallbackCorrelation("111588999")
+	void setAttributeWithThrownException(Integer attributeWithThrownException, MessageIdCallback messageIdCallback);
+
+	/*
+	* EverythingMap getter
+	*/
+	@StatelessCallbackCorrelation("1194737139")
+	void getEverythingMap(MessageIdCallback messageIdCallback);
+	/*
+	* EverythingMap setter
+	*/
+	@StatelessCallbackCorrelation("-636705689")
+	void setEverythingMap(TEverythingMap EverythingMap, MessageIdCallback messageIdCallback);
+
+	/*
+	* attributeArrayOfNestedStructs getter
+	*/
+	@StatelessCallbackCorrelation("1818661661")
+	void getAttributeArrayOfNestedStructs(MessageIdCallback messageIdCallback);
+	/*
+	* attributeArrayOfNestedStructs setter
+	*/
+	@StatelessCallbackCorrelation("-827747951")
+	void setAttributeArrayOfNestedStructs(HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs, MessageIdCallback messageIdCallback);
+
+	/*
+	* byteBufferAttribute getter
+	*/
+	@StatelessCallbackCorrelation("83230942")
+	void getByteBufferAttribute(MessageIdCallback messageIdCallback);
+	/*
+	* byteBufferAttribute setter
+	*/
+	@StatelessCallbackCorrelation("1396359250")
+	void setByteBufferAttribute(Byte[] byteBufferAttribute, MessageIdCallback messageIdCallback);
+
+	/*
+	* typeDefForTStruct getter
+	*/
+	@StatelessCallbackCorrelation("-378655627")
+	void getTypeDefForTStruct(MessageIdCallback messageIdCallback);
+	/*
+	* typeDefForTStruct setter
+	*/
+	@StatelessCallbackCorrelation("-989579031")
+	void setTypeDefForTStruct(TStruct typeDefForTStruct, MessageIdCallback messageIdCallback);
+
+	/*
+	* typeDefForTStructArray getter
+	*/
+	@StatelessCallbackCorrelation("-1409427740")
+	void getTypeDefForTStructArray(MessageIdCallback messageIdCallback);
+	/*
+	* typeDefForTStructArray setter
+	*/
+	@StatelessCallbackCorrelation("-566136080")
+	void setTypeDefForTStructArray(TStruct[] typeDefForTStructArray, MessageIdCallback messageIdCallback);
+
+	/*
+	* typeDefForPrimitive getter
+	*/
+	@StatelessCallbackCorrelation("985224435")
+	void getTypeDefForPrimitive(MessageIdCallback messageIdCallback);
+	/*
+	* typeDefForPrimitive setter
+	*/
+	@StatelessCallbackCorrelation("-1996614553")
+	void setTypeDefForPrimitive(Integer typeDefForPrimitive, MessageIdCallback messageIdCallback);
+
+	/*
+	* typeDefForPrimitiveArray getter
+	*/
+	@StatelessCallbackCorrelation("-1972482778")
+	void getTypeDefForPrimitiveArray(MessageIdCallback messageIdCallback);
+	/*
+	* typeDefForPrimitiveArray setter
+	*/
+	@StatelessCallbackCorrelation("976950834")
+	void setTypeDefForPrimitiveArray(Integer[] typeDefForPrimitiveArray, MessageIdCallback messageIdCallback);
+
+	/*
+	* echoCallingPrincipal
+	*/
+	@StatelessCallbackCorrelation("561733482")
+	void echoCallingPrincipal(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* addNumbers
+	*/
+	@StatelessCallbackCorrelation("-1590812040")
+	void addNumbers(
+			Integer first,
+			Integer second,
+			Integer third,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* sumInts
+	*/
+	@StatelessCallbackCorrelation("1208693586")
+	void sumInts(
+			Integer[] ints,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* sumIntsDelayed
+	*/
+	@StatelessCallbackCorrelation("517137934")
+	void sumIntsDelayed(
+			Integer[] ints,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithNoInputParameters
+	*/
+	@StatelessCallbackCorrelation("-1764296971")
+	void methodWithNoInputParameters(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithStrings
+	*/
+	@StatelessCallbackCorrelation("771001705")
+	void methodWithStrings(
+			String input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithEnumParameter
+	*/
+	@StatelessCallbackCorrelation("-709650880")
+	void methodWithEnumParameter(
+			TestEnum input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithByteBuffer
+	*/
+	@StatelessCallbackCorrelation("-1894436202")
+	void methodWithByteBuffer(
+			Byte[] input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithEnumListParameter
+	*/
+	@StatelessCallbackCorrelation("-1189886850")
+	void methodWithEnumListParameter(
+			TestEnum[] input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithEnumWithoutValues
+	*/
+	@StatelessCallbackCorrelation("-1893933908")
+	void methodWithEnumWithoutValues(
+			TestEnumWithoutValues enumIn,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithEnumReturn
+	*/
+	@StatelessCallbackCorrelation("521208904")
+	void methodWithEnumReturn(
+			Integer input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithEnumListReturn
+	*/
+	@StatelessCallbackCorrelation("1143758660")
+	void methodWithEnumListReturn(
+			Integer input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithByteArray
+	*/
+	@StatelessCallbackCorrelation("-2145636754")
+	void methodWithByteArray(
+			Byte[] input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithPrimitiveTypeDef
+	*/
+	@StatelessCallbackCorrelation("42973217")
+	void methodWithPrimitiveTypeDef(
+			Integer input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithCompoundTypeDef
+	*/
+	@StatelessCallbackCorrelation("-573979563")
+	void methodWithCompoundTypeDef(
+			TStruct input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodEnumDoubleParameters
+	*/
+	@StatelessCallbackCorrelation("2059389501")
+	void methodEnumDoubleParameters(
+			TestEnum enumParam,
+			Double doubleParam,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodStringDoubleParameters
+	*/
+	@StatelessCallbackCorrelation("-1484465907")
+	void methodStringDoubleParameters(
+			String stringParam,
+			Double doubleParam,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodCustomCustomParameters
+	*/
+	@StatelessCallbackCorrelation("-1416934387")
+	void methodCustomCustomParameters(
+			ComplexTestType customParam1,
+			ComplexTestType2 customParam2,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodStringDoubleListParameters
+	*/
+	@StatelessCallbackCorrelation("-1885507893")
+	void methodStringDoubleListParameters(
+			String stringParam,
+			Double[] doubleListParam,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodCustomCustomListParameters
+	*/
+	@StatelessCallbackCorrelation("1966236107")
+	void methodCustomCustomListParameters(
+			ComplexTestType customParam,
+			ComplexTestType2[] customListParam,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* customTypeAndListParameter
+	*/
+	@StatelessCallbackCorrelation("1116494975")
+	void customTypeAndListParameter(
+			ComplexTestType complexTestType,
+			BaseStruct[] complexArray,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* voidOperation
+	*/
+	@StatelessCallbackCorrelation("-1619645901")
+	void voidOperation(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* stringAndBoolParameters
+	*/
+	@StatelessCallbackCorrelation("1014260250")
+	void stringAndBoolParameters(
+			String stringParam,
+			Boolean boolParam,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* mapParameters
+	*/
+	@StatelessCallbackCorrelation("2059843697")
+	void mapParameters(
+			TStringKeyMap tStringMapIn,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* returnPrimeNumbers
+	*/
+	@StatelessCallbackCorrelation("392820568")
+	void returnPrimeNumbers(
+			Integer upperBound,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* optimizeTrip
+	*/
+	@StatelessCallbackCorrelation("-708650972")
+	void optimizeTrip(
+			Trip input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* overloadedOperation
+	*/
+	@StatelessCallbackCorrelation("1196700988")
+	void overloadedOperation(
+			DerivedStruct input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* overloadedOperation
+	*/
+	@StatelessCallbackCorrelation("1196700988")
+	void overloadedOperation(
+			AnotherDerivedStruct input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* overloadedOperation
+	*/
+	@StatelessCallbackCorrelation("-532245775")
+	void overloadedOperation(
+			String input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* overloadedOperation
+	*/
+	@StatelessCallbackCorrelation("680250209")
+	void overloadedOperation(
+			String input1,
+			String input2,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* optimizeLocations
+	*/
+	@StatelessCallbackCorrelation("472744611")
+	void optimizeLocations(
+			GpsLocation[] input,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* toLowerCase
+	*/
+	@StatelessCallbackCorrelation("-318354620")
+	void toLowerCase(
+			String inputString,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* waitTooLong
+	*/
+	@StatelessCallbackCorrelation("1292073193")
+	void waitTooLong(
+			Long ttl_ms,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* sayHello
+	*/
+	@StatelessCallbackCorrelation("1147995093")
+	void sayHello(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithEnumReturnValue
+	*/
+	@StatelessCallbackCorrelation("-1525817751")
+	void methodWithEnumReturnValue(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* checkVowel
+	*/
+	@StatelessCallbackCorrelation("1905756782")
+	void checkVowel(
+			Vowel inputVowel,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* optimizeLocationList
+	*/
+	@StatelessCallbackCorrelation("479155604")
+	void optimizeLocationList(
+			GpsLocation[] inputList,
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithErrorEnum
+	*/
+	@StatelessCallbackCorrelation("-150660702")
+	void methodWithErrorEnum(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithMultipleOutAndErrorEnum
+	*/
+	@StatelessCallbackCorrelation("1115557170")
+	void methodWithMultipleOutAndErrorEnum(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithErrorEnumExtended
+	*/
+	@StatelessCallbackCorrelation("997992699")
+	void methodWithErrorEnumExtended(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithInterfaceErrorEnum
+	*/
+	@StatelessCallbackCorrelation("-1126150249")
+	void methodWithInterfaceErrorEnum(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithInterfaceErrorEnumExtended
+	*/
+	@StatelessCallbackCorrelation("114334192")
+	void methodWithInterfaceErrorEnumExtended(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithImplicitErrorEnum
+	*/
+	@StatelessCallbackCorrelation("923399229")
+	void methodWithImplicitErrorEnum(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithProviderRuntimeException
+	*/
+	@StatelessCallbackCorrelation("559863759")
+	void methodWithProviderRuntimeException(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithThrownException
+	*/
+	@StatelessCallbackCorrelation("1754615456")
+	void methodWithThrownException(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithMultipleOutputParameters
+	*/
+	@StatelessCallbackCorrelation("-858818155")
+	void methodWithMultipleOutputParameters(
+			MessageIdCallback messageIdCallback
+	);
+
+	/*
+	* methodWithAllPossiblePrimitiveParameters
+	*/
+	@StatelessCallbackCorrelation("-714403870")
+	void methodWithAllPossiblePrimitiveParameters(
+			Boolean booleanArg,
+			Double doubleArg,
+			Float floatArg,
+			Short int16Arg,
+			Integer int32Arg,
+			Long int64Arg,
+			Byte int8Arg,
+			String stringArg,
+			Short uInt16Arg,
+			Integer uInt32Arg,
+			Long uInt64Arg,
+			Byte uInt8Arg,
+			MessageIdCallback messageIdCallback
+	);
+}
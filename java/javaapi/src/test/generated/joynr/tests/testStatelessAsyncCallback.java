@@ -0,0 +1,1271 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.tests;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+import joynr.tests.ErrorEnumInterface;
+import joynr.tests.test.MethodWithErrorEnumExtendedErrorEnum;
+import joynr.tests.test.MethodWithImplicitErrorEnumErrorEnum;
+import joynr.tests.test.MethodWithInterfaceErrorEnumExtendedErrorEnum;
+import joynr.tests.testTypes.ComplexTestType;
+import joynr.tests.testTypes.ComplexTestType2;
+import joynr.tests.testTypes.ErrorEnumBase;
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.tests.testTypes.TestEnumWithoutValues;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+
+@UsedBy(testProxy.class)
+public interface testStatelessAsyncCallback extends StatelessAsyncCallback {
+
+	/*
+	* enumAttribute getter
+	*/
+	@StatelessCallbackCorrelation("-1385495835")
+	default void getEnumAttributeSuccess(TestEnum enumAttribute, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getEnumAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1385495835")
+	default void getEnumAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getEnumAttributeFailed not implemented for callback instance"); }
+	/*
+	* enumAttribute setter
+	*/
+	@StatelessCallbackCorrelation("1078028633")
+	default void setEnumAttributeSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setEnumAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1078028633")
+	default void setEnumAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setEnumAttributeFailed not implemented for callback instance"); }
+
+	/*
+	* enumAttributeReadOnly getter
+	*/
+	@StatelessCallbackCorrelation("212001895")
+	default void getEnumAttributeReadOnlySuccess(TestEnum enumAttributeReadOnly, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getEnumAttributeReadOnlySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("212001895")
+	default void getEnumAttributeReadOnlyFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getEnumAttributeReadOnlyFailed not implemented for callback instance"); }
+
+	/*
+	* listOfEnumsAttribute getter
+	*/
+	@StatelessCallbackCorrelation("-2134790635")
+	default void getListOfEnumsAttributeSuccess(TestEnum[] listOfEnumsAttribute, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getListOfEnumsAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-2134790635")
+	default void getListOfEnumsAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getListOfEnumsAttributeFailed not implemented for callback instance"); }
+	/*
+	* listOfEnumsAttribute setter
+	*/
+	@StatelessCallbackCorrelation("-82518751")
+	default void setListOfEnumsAttributeSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setListOfEnumsAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-82518751")
+	default void setListOfEnumsAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setListOfEnumsAttributeFailed not implemented for callback instance"); }
+
+	/*
+	* location getter
+	*/
+	@StatelessCallbackCorrelation("-316023509")
+	default void getLocationSuccess(GpsLocation location, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getLocationSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-316023509")
+	default void getLocationFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getLocationFailed not implemented for callback instance"); }
+	/*
+	* location setter
+	*/
+	@StatelessCallbackCorrelation("-404603337")
+	default void setLocationSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setLocationSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-404603337")
+	default void setLocationFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setLocationFailed not implemented for callback instance"); }
+
+	/*
+	* mytrip getter
+	*/
+	@StatelessCallbackCorrelation("636939975")
+	default void getMytripSuccess(Trip mytrip, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getMytripSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("636939975")
+	default void getMytripFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getMytripFailed not implemented for callback instance"); }
+
+	/*
+	* yourLocation getter
+	*/
+	@StatelessCallbackCorrelation("-1270389890")
+	default void getYourLocationSuccess(GpsLocation yourLocation, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getYourLocationSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1270389890")
+	default void getYourLocationFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getYourLocationFailed not implemented for callback instance"); }
+
+	/*
+	* firstPrime getter
+	*/
+	@StatelessCallbackCorrelation("-472459867")
+	default void getFirstPrimeSuccess(Integer firstPrime, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getFirstPrimeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-472459867")
+	default void getFirstPrimeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getFirstPrimeFailed not implemented for callback instance"); }
+	/*
+	* firstPrime setter
+	*/
+	@StatelessCallbackCorrelation("301671345")
+	default void setFirstPrimeSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setFirstPrimeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("301671345")
+	default void setFirstPrimeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setFirstPrimeFailed not implemented for callback instance"); }
+
+	/*
+	* listOfInts getter
+	*/
+	@StatelessCallbackCorrelation("-61404401")
+	default void getListOfIntsSuccess(Integer[] listOfInts, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getListOfIntsSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-61404401")
+	default void getListOfIntsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getListOfIntsFailed not implemented for callback instance"); }
+	/*
+	* listOfInts setter
+	*/
+	@StatelessCallbackCorrelation("712726811")
+	default void setListOfIntsSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setListOfIntsSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("712726811")
+	default void setListOfIntsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setListOfIntsFailed not implemented for callback instance"); }
+
+	/*
+	* listOfLocations getter
+	*/
+	@StatelessCallbackCorrelation("-1976441453")
+	default void getListOfLocationsSuccess(GpsLocation[] listOfLocations, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getListOfLocationsSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1976441453")
+	default void getListOfLocationsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getListOfLocationsFailed not implemented for callback instance"); }
+
+	/*
+	* listOfStrings getter
+	*/
+	@StatelessCallbackCorrelation("812399095")
+	default void getListOfStringsSuccess(String[] listOfStrings, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getListOfStringsSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("812399095")
+	default void getListOfStringsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getListOfStringsFailed not implemented for callback instance"); }
+	/*
+	* listOfStrings setter
+	*/
+	@StatelessCallbackCorrelation("-1019043733")
+	default void setListOfStringsSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setListOfStringsSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1019043733")
+	default void setListOfStringsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setListOfStringsFailed not implemented for callback instance"); }
+
+	/*
+	* testAttribute getter
+	*/
+	@StatelessCallbackCorrelation("-435009932")
+	default void getTestAttributeSuccess(Integer testAttribute, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getTestAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-435009932")
+	default void getTestAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTestAttributeFailed not implemented for callback instance"); }
+	/*
+	* testAttribute setter
+	*/
+	@StatelessCallbackCorrelation("2028514536")
+	default void setTestAttributeSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setTestAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("2028514536")
+	default void setTestAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setTestAttributeFailed not implemented for callback instance"); }
+
+	/*
+	* complexTestAttribute getter
+	*/
+	@StatelessCallbackCorrelation("1074999248")
+	default void getComplexTestAttributeSuccess(GpsLocation complexTestAttribute, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getComplexTestAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1074999248")
+	default void getComplexTestAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getComplexTestAttributeFailed not implemented for callback instance"); }
+	/*
+	* complexTestAttribute setter
+	*/
+	@StatelessCallbackCorrelation("-1167696164")
+	default void setComplexTestAttributeSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setComplexTestAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1167696164")
+	default void setComplexTestAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setComplexTestAttributeFailed not implemented for callback instance"); }
+
+	/*
+	* readWriteAttribute getter
+	*/
+	@StatelessCallbackCorrelation("1924916905")
+	default void getReadWriteAttributeSuccess(Integer readWriteAttribute, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getReadWriteAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1924916905")
+	default void getReadWriteAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getReadWriteAttributeFailed not implemented for callback instance"); }
+	/*
+	* readWriteAttribute setter
+	*/
+	@StatelessCallbackCorrelation("166160565")
+	default void setReadWriteAttributeSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setReadWriteAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("166160565")
+	default void setReadWriteAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setReadWriteAttributeFailed not implemented for callback instance"); }
+
+	/*
+	* readOnlyAttribute getter
+	*/
+	@StatelessCallbackCorrelation("744205732")
+	default void getReadOnlyAttributeSuccess(Integer readOnlyAttribute, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getReadOnlyAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("744205732")
+	default void getReadOnlyAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getReadOnlyAttributeFailed not implemented for callback instance"); }
+
+	/*
+	* writeOnly getter
+	*/
+	@StatelessCallbackCorrelation("-1416080011")
+	default void getWriteOnlySuccess(Integer writeOnly, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getWriteOnlySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1416080011")
+	default void getWriteOnlyFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getWriteOnlyFailed not implemented for callback instance"); }
+	/*
+	* writeOnly setter
+	*/
+	@StatelessCallbackCorrelation("132912617")
+	default void setWriteOnlySuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setWriteOnlySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("132912617")
+	default void setWriteOnlyFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setWriteOnlyFailed not implemented for callback instance"); }
+
+	/*
+	* notifyWriteOnly getter
+	*/
+	@StatelessCallbackCorrelation("-1736286036")
+	default void getNotifyWriteOnlySuccess(Integer notifyWriteOnly, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getNotifyWriteOnlySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1736286036")
+	default void getNotifyWriteOnlyFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getNotifyWriteOnlyFailed not implemented for callback instance"); }
+	/*
+	* notifyWriteOnly setter
+	*/
+	@StatelessCallbackCorrelation("-816252384")
+	default void setNotifyWriteOnlySuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setNotifyWriteOnlySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-816252384")
+	default void setNotifyWriteOnlyFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setNotifyWriteOnlyFailed not implemented for callback instance"); }
+
+	/*
+	* notifyReadOnly getter
+	*/
+	@StatelessCallbackCorrelation("784245185")
+	default void getNotifyReadOnlySuccess(Integer notifyReadOnly, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getNotifyReadOnlySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("784245185")
+	default void getNotifyReadOnlyFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getNotifyReadOnlyFailed not implemented for callback instance"); }
+
+	/*
+	* notifyReadWrite getter
+	*/
+	@StatelessCallbackCorrelation("-1450698646")
+	default void getNotifyReadWriteSuccess(Integer notifyReadWrite, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getNotifyReadWriteSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1450698646")
+	default void getNotifyReadWriteFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getNotifyReadWriteFailed not implemented for callback instance"); }
+	/*
+	* notifyReadWrite setter
+	*/
+	@StatelessCallbackCorrelation("-530664994")
+	default void setNotifyReadWriteSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setNotifyReadWriteSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-530664994")
+	default void setNotifyReadWriteFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setNotifyReadWriteFailed not implemented for callback instance"); }
+
+	/*
+	* notify getter
+	*/
+	@StatelessCallbackCorrelation("656325183")
+	default void getNotifySuccess(Integer notify, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getNotifySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("656325183")
+	default void getNotifyFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getNotifyFailed not implemented for callback instance"); }
+	/*
+	* notify setter
+	*/
+	@StatelessCallbackCorrelation("441708107")
+	default void setNotifySuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setNotifySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("441708107")
+	default void setNotifyFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setNotifyFailed not implemented for callback instance"); }
+
+	/*
+	* ATTRIBUTEWITHCAPITALLETTERS getter
+	*/
+	@StatelessCallbackCorrelation("-617245871")
+	default void getATTRIBUTEWITHCAPITALLETTERSSuccess(Integer ATTRIBUTEWITHCAPITALLETTERS, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getATTRIBUTEWITHCAPITALLETTERSSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-617245871")
+	default void getATTRIBUTEWITHCAPITALLETTERSFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getATTRIBUTEWITHCAPITALLETTERSFailed not implemented for callback instance"); }
+	/*
+	* ATTRIBUTEWITHCAPITALLETTERS setter
+	*/
+	@StatelessCallbackCorrelation("-481452347")
+	default void setATTRIBUTEWITHCAPITALLETTERSSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setATTRIBUTEWITHCAPITALLETTERSSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-481452347")
+	default void setATTRIBUTEWITHCAPITALLETTERSFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setATTRIBUTEWITHCAPITALLETTERSFailed not implemented for callback instance"); }
+
+	/*
+	* attributeWithProviderRuntimeException getter
+	*/
+	@StatelessCallbackCorrelation("-1412490924")
+	default void getAttributeWithProviderRuntimeExceptionSuccess(Integer attributeWithProviderRuntimeException, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getAttributeWithProviderRuntimeExceptionSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1412490924")
+	default void getAttributeWithProviderRuntimeExceptionFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getAttributeWithProviderRuntimeExceptionFailed not implemented for callback instance"); }
+	/*
+	* attributeWithProviderRuntimeException setter
+	*/
+	@StatelessCallbackCorrelation("-1053400120")
+	default void setAttributeWithProviderRuntimeExceptionSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setAttributeWithProviderRuntimeExceptionSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1053400120")
+	default void setAttributeWithProviderRuntimeExceptionFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setAttributeWithProviderRuntimeExceptionFailed not implemented for callback instance"); }
+
+	/*
+	* attributeWithThrownException getter
+	*/
+	@StatelessCallbackCorrelation("196957051")
+	default void getAttributeWithThrownExceptionSuccess(Integer attributeWithThrownException, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getAttributeWithThrownExceptionSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("196957051")
+	default void getAttributeWithThrownExceptionFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getAttributeWithThrownExceptionFailed not implemented for callback instance"); }
+	/*
+	* attributeWithThrownException setter
+	*/
+	@StatelessCallbackCorrelation("111588999")
+	default void setAttributeWithThrownExceptionSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setAttributeWithThrownExceptionSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("111588999")
+	default void setAttributeWithThrownExceptionFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setAttributeWithThrownExceptionFailed not implemented for callback instance"); }
+
+	/*
+	* EverythingMap getter
+	*/
+	@StatelessCallbackCorrelation("1194737139")
+	default void getEverythingMapSuccess(TEverythingMap EverythingMap, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getEverythingMapSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1194737139")
+	default void getEverythingMapFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getEverythingMapFailed not implemented for callback instance"); }
+	/*
+	* EverythingMap setter
+	*/
+	@StatelessCallbackCorrelation("-636705689")
+	default void setEverythingMapSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setEverythingMapSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-636705689")
+	default void setEverythingMapFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setEverythingMapFailed not implemented for callback instance"); }
+
+	/*
+	* attributeArrayOfNestedStructs getter
+	*/
+	@StatelessCallbackCorrelation("1818661661")
+	default void getAttributeArrayOfNestedStructsSuccess(HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getAttributeArrayOfNestedStructsSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1818661661")
+	default void getAttributeArrayOfNestedStructsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getAttributeArrayOfNestedStructsFailed not implemented for callback instance"); }
+	/*
+	* attributeArrayOfNestedStructs setter
+	*/
+	@StatelessCallbackCorrelation("-827747951")
+	default void setAttributeArrayOfNestedStructsSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setAttributeArrayOfNestedStructsSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-827747951")
+	default void setAttributeArrayOfNestedStructsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setAttributeArrayOfNestedStructsFailed not implemented for callback instance"); }
+
+	/*
+	* byteBufferAttribute getter
+	*/
+	@StatelessCallbackCorrelation("83230942")
+	default void getByteBufferAttributeSuccess(Byte[] byteBufferAttribute, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getByteBufferAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("83230942")
+	default void getByteBufferAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getByteBufferAttributeFailed not implemented for callback instance"); }
+	/*
+	* byteBufferAttribute setter
+	*/
+	@StatelessCallbackCorrelation("1396359250")
+	default void setByteBufferAttributeSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setByteBufferAttributeSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1396359250")
+	default void setByteBufferAttributeFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setByteBufferAttributeFailed not implemented for callback instance"); }
+
+	/*
+	* typeDefForTStruct getter
+	*/
+	@StatelessCallbackCorrelation("-378655627")
+	default void getTypeDefForTStructSuccess(TStruct typeDefForTStruct, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getTypeDefForTStructSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-378655627")
+	default void getTypeDefForTStructFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTypeDefForTStructFailed not implemented for callback instance"); }
+	/*
+	* typeDefForTStruct setter
+	*/
+	@StatelessCallbackCorrelation("-989579031")
+	default void setTypeDefForTStructSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setTypeDefForTStructSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-989579031")
+	default void setTypeDefForTStructFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setTypeDefForTStructFailed not implemented for callback instance"); }
+
+	/*
+	* typeDefForTStructArray getter
+	*/
+	@StatelessCallbackCorrelation("-1409427740")
+	default void getTypeDefForTStructArraySuccess(TStruct[] typeDefForTStructArray, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getTypeDefForTStructArraySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1409427740")
+	default void getTypeDefForTStructArrayFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTypeDefForTStructArrayFailed not implemented for callback instance"); }
+	/*
+	* typeDefForTStructArray setter
+	*/
+	@StatelessCallbackCorrelation("-566136080")
+	default void setTypeDefForTStructArraySuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setTypeDefForTStructArraySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-566136080")
+	default void setTypeDefForTStructArrayFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setTypeDefForTStructArrayFailed not implemented for callback instance"); }
+
+	/*
+	* typeDefForPrimitive getter
+	*/
+	@StatelessCallbackCorrelation("985224435")
+	default void getTypeDefForPrimitiveSuccess(Integer typeDefForPrimitive, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getTypeDefForPrimitiveSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("985224435")
+	default void getTypeDefForPrimitiveFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTypeDefForPrimitiveFailed not implemented for callback instance"); }
+	/*
+	* typeDefForPrimitive setter
+	*/
+	@StatelessCallbackCorrelation("-1996614553")
+	default void setTypeDefForPrimitiveSuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setTypeDefForPrimitiveSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1996614553")
+	default void setTypeDefForPrimitiveFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setTypeDefForPrimitiveFailed not implemented for callback instance"); }
+
+	/*
+	* typeDefForPrimitiveArray getter
+	*/
+	@StatelessCallbackCorrelation("-1972482778")
+	default void getTypeDefForPrimitiveArraySuccess(Integer[] typeDefForPrimitiveArray, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getTypeDefForPrimitiveArraySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-1972482778")
+	default void getTypeDefForPrimitiveArrayFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getTypeDefForPrimitiveArrayFailed not implemented for callback instance"); }
+	/*
+	* typeDefForPrimitiveArray setter
+	*/
+	@StatelessCallbackCorrelation("976950834")
+	default void setTypeDefForPrimitiveArraySuccess(ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("setTypeDefForPrimitiveArraySuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("976950834")
+	default void setTypeDefForPrimitiveArrayFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("setTypeDefForPrimitiveArrayFailed not implemented for callback instance"); }
+
+	/*
+	* echoCallingPrincipal
+	*/
+	@StatelessCallbackCorrelation("561733482")
+	default void echoCallingPrincipalSuccess(
+			String callingPrincipal,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("echoCallingPrincipalSuccess not implemented for callback instance"); }
+	default void echoCallingPrincipalFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("echoCallingPrincipalFailed with exception not implemented for callback instance"); }
+
+	/*
+	* addNumbers
+	*/
+	@StatelessCallbackCorrelation("-1590812040")
+	default void addNumbersSuccess(
+			Integer result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addNumbersSuccess not implemented for callback instance"); }
+	default void addNumbersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("addNumbersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* sumInts
+	*/
+	@StatelessCallbackCorrelation("1208693586")
+	default void sumIntsSuccess(
+			Integer result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("sumIntsSuccess not implemented for callback instance"); }
+	default void sumIntsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("sumIntsFailed with exception not implemented for callback instance"); }
+
+	/*
+	* sumIntsDelayed
+	*/
+	@StatelessCallbackCorrelation("517137934")
+	default void sumIntsDelayedSuccess(
+			Integer result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("sumIntsDelayedSuccess not implemented for callback instance"); }
+	default void sumIntsDelayedFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("sumIntsDelayedFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithNoInputParameters
+	*/
+	@StatelessCallbackCorrelation("-1764296971")
+	default void methodWithNoInputParametersSuccess(
+			Integer result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithNoInputParametersSuccess not implemented for callback instance"); }
+	default void methodWithNoInputParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithNoInputParametersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithStrings
+	*/
+	@StatelessCallbackCorrelation("771001705")
+	default void methodWithStringsSuccess(
+			String result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithStringsSuccess not implemented for callback instance"); }
+	default void methodWithStringsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithStringsFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithEnumParameter
+	*/
+	@StatelessCallbackCorrelation("-709650880")
+	default void methodWithEnumParameterSuccess(
+			Integer result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumParameterSuccess not implemented for callback instance"); }
+	default void methodWithEnumParameterFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumParameterFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithByteBuffer
+	*/
+	@StatelessCallbackCorrelation("-1894436202")
+	default void methodWithByteBufferSuccess(
+			Byte[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithByteBufferSuccess not implemented for callback instance"); }
+	default void methodWithByteBufferFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithByteBufferFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithEnumListParameter
+	*/
+	@StatelessCallbackCorrelation("-1189886850")
+	default void methodWithEnumListParameterSuccess(
+			Integer result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumListParameterSuccess not implemented for callback instance"); }
+	default void methodWithEnumListParameterFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumListParameterFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithEnumWithoutValues
+	*/
+	@StatelessCallbackCorrelation("-1893933908")
+	default void methodWithEnumWithoutValuesSuccess(
+			TestEnumWithoutValues enumOut,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumWithoutValuesSuccess not implemented for callback instance"); }
+	default void methodWithEnumWithoutValuesFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumWithoutValuesFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithEnumReturn
+	*/
+	@StatelessCallbackCorrelation("521208904")
+	default void methodWithEnumReturnSuccess(
+			TestEnum result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumReturnSuccess not implemented for callback instance"); }
+	default void methodWithEnumReturnFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumReturnFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithEnumListReturn
+	*/
+	@StatelessCallbackCorrelation("1143758660")
+	default void methodWithEnumListReturnSuccess(
+			TestEnum[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumListReturnSuccess not implemented for callback instance"); }
+	default void methodWithEnumListReturnFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumListReturnFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithByteArray
+	*/
+	@StatelessCallbackCorrelation("-2145636754")
+	default void methodWithByteArraySuccess(
+			Byte[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithByteArraySuccess not implemented for callback instance"); }
+	default void methodWithByteArrayFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithByteArrayFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithPrimitiveTypeDef
+	*/
+	@StatelessCallbackCorrelation("42973217")
+	default void methodWithPrimitiveTypeDefSuccess(
+			Integer result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithPrimitiveTypeDefSuccess not implemented for callback instance"); }
+	default void methodWithPrimitiveTypeDefFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithPrimitiveTypeDefFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithCompoundTypeDef
+	*/
+	@StatelessCallbackCorrelation("-573979563")
+	default void methodWithCompoundTypeDefSuccess(
+			TStruct result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithCompoundTypeDefSuccess not implemented for callback instance"); }
+	default void methodWithCompoundTypeDefFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithCompoundTypeDefFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodEnumDoubleParameters
+	*/
+	@StatelessCallbackCorrelation("2059389501")
+	default void methodEnumDoubleParametersSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodEnumDoubleParametersSuccess not implemented for callback instance"); }
+	default void methodEnumDoubleParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodEnumDoubleParametersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodStringDoubleParameters
+	*/
+	@StatelessCallbackCorrelation("-1484465907")
+	default void methodStringDoubleParametersSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodStringDoubleParametersSuccess not implemented for callback instance"); }
+	default void methodStringDoubleParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodStringDoubleParametersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodCustomCustomParameters
+	*/
+	@StatelessCallbackCorrelation("-1416934387")
+	default void methodCustomCustomParametersSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodCustomCustomParametersSuccess not implemented for callback instance"); }
+	default void methodCustomCustomParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodCustomCustomParametersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodStringDoubleListParameters
+	*/
+	@StatelessCallbackCorrelation("-1885507893")
+	default void methodStringDoubleListParametersSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodStringDoubleListParametersSuccess not implemented for callback instance"); }
+	default void methodStringDoubleListParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodStringDoubleListParametersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodCustomCustomListParameters
+	*/
+	@StatelessCallbackCorrelation("1966236107")
+	default void methodCustomCustomListParametersSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodCustomCustomListParametersSuccess not implemented for callback instance"); }
+	default void methodCustomCustomListParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodCustomCustomListParametersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* customTypeAndListParameter
+	*/
+	@StatelessCallbackCorrelation("1116494975")
+	default void customTypeAndListParameterSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("customTypeAndListParameterSuccess not implemented for callback instance"); }
+	default void customTypeAndListParameterFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("customTypeAndListParameterFailed with exception not implemented for callback instance"); }
+
+	/*
+	* voidOperation
+	*/
+	@StatelessCallbackCorrelation("-1619645901")
+	default void voidOperationSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("voidOperationSuccess not implemented for callback instance"); }
+	default void voidOperationFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("voidOperationFailed with exception not implemented for callback instance"); }
+
+	/*
+	* stringAndBoolParameters
+	*/
+	@StatelessCallbackCorrelation("1014260250")
+	default void stringAndBoolParametersSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("stringAndBoolParametersSuccess not implemented for callback instance"); }
+	default void stringAndBoolParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("stringAndBoolParametersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* mapParameters
+	*/
+	@StatelessCallbackCorrelation("2059843697")
+	default void mapParametersSuccess(
+			TStringKeyMap tStringMapOut,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("mapParametersSuccess not implemented for callback instance"); }
+	default void mapParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("mapParametersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* returnPrimeNumbers
+	*/
+	@StatelessCallbackCorrelation("392820568")
+	default void returnPrimeNumbersSuccess(
+			Integer[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("returnPrimeNumbersSuccess not implemented for callback instance"); }
+	default void returnPrimeNumbersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("returnPrimeNumbersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* optimizeTrip
+	*/
+	@StatelessCallbackCorrelation("-708650972")
+	default void optimizeTripSuccess(
+			Trip result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("optimizeTripSuccess not implemented for callback instance"); }
+	default void optimizeTripFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("optimizeTripFailed with exception not implemented for callback instance"); }
+
+	/*
+	* overloadedOperation
+	*/
+	@StatelessCallbackCorrelation("1196700988")
+	default void overloadedOperationSuccess(
+			String result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("overloadedOperationSuccess not implemented for callback instance"); }
+	default void overloadedOperationFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("overloadedOperationFailed with exception not implemented for callback instance"); }
+
+
+	/*
+	* overloadedOperation
+	*/
+	@StatelessCallbackCorrelation("-532245775")
+	default void overloadedOperationSuccess(
+			ComplexTestType result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("overloadedOperationSuccess not implemented for callback instance"); }
+
+	/*
+	* overloadedOperation
+	*/
+	@StatelessCallbackCorrelation("680250209")
+	default void overloadedOperationSuccess(
+			ComplexTestType2 result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("overloadedOperationSuccess not implemented for callback instance"); }
+
+	/*
+	* optimizeLocations
+	*/
+	@StatelessCallbackCorrelation("472744611")
+	default void optimizeLocationsSuccess(
+			GpsLocation[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("optimizeLocationsSuccess not implemented for callback instance"); }
+	default void optimizeLocationsFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("optimizeLocationsFailed with exception not implemented for callback instance"); }
+
+	/*
+	* toLowerCase
+	*/
+	@StatelessCallbackCorrelation("-318354620")
+	default void toLowerCaseSuccess(
+			String result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("toLowerCaseSuccess not implemented for callback instance"); }
+	default void toLowerCaseFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("toLowerCaseFailed with exception not implemented for callback instance"); }
+
+	/*
+	* waitTooLong
+	*/
+	@StatelessCallbackCorrelation("1292073193")
+	default void waitTooLongSuccess(
+			String result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("waitTooLongSuccess not implemented for callback instance"); }
+	default void waitTooLongFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("waitTooLongFailed with exception not implemented for callback instance"); }
+
+	/*
+	* sayHello
+	*/
+	@StatelessCallbackCorrelation("1147995093")
+	default void sayHelloSuccess(
+			String result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("sayHelloSuccess not implemented for callback instance"); }
+	default void sayHelloFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("sayHelloFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithEnumReturnValue
+	*/
+	@StatelessCallbackCorrelation("-1525817751")
+	default void methodWithEnumReturnValueSuccess(
+			TestEnum result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumReturnValueSuccess not implemented for callback instance"); }
+	default void methodWithEnumReturnValueFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithEnumReturnValueFailed with exception not implemented for callback instance"); }
+
+	/*
+	* checkVowel
+	*/
+	@StatelessCallbackCorrelation("1905756782")
+	default void checkVowelSuccess(
+			Boolean result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("checkVowelSuccess not implemented for callback instance"); }
+	default void checkVowelFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("checkVowelFailed with exception not implemented for callback instance"); }
+
+	/*
+	* optimizeLocationList
+	*/
+	@StatelessCallbackCorrelation("479155604")
+	default void optimizeLocationListSuccess(
+			GpsLocation[] result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("optimizeLocationListSuccess not implemented for callback instance"); }
+	default void optimizeLocationListFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("optimizeLocationListFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithErrorEnum
+	*/
+	@StatelessCallbackCorrelation("-150660702")
+	default void methodWithErrorEnumSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithErrorEnumSuccess not implemented for callback instance"); }
+	default void methodWithErrorEnumFailed(
+			joynr.tests.testTypes.ErrorEnumBase error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithErrorEnumFailed with error not implemented for callback instance"); }
+	default void methodWithErrorEnumFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithErrorEnumFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithMultipleOutAndErrorEnum
+	*/
+	@StatelessCallbackCorrelation("1115557170")
+	default void methodWithMultipleOutAndErrorEnumSuccess(
+			String out1,
+			String out2,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithMultipleOutAndErrorEnumSuccess not implemented for callback instance"); }
+	default void methodWithMultipleOutAndErrorEnumFailed(
+			joynr.tests.testTypes.ErrorEnumBase error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithMultipleOutAndErrorEnumFailed with error not implemented for callback instance"); }
+	default void methodWithMultipleOutAndErrorEnumFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithMultipleOutAndErrorEnumFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithErrorEnumExtended
+	*/
+	@StatelessCallbackCorrelation("997992699")
+	default void methodWithErrorEnumExtendedSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithErrorEnumExtendedSuccess not implemented for callback instance"); }
+	default void methodWithErrorEnumExtendedFailed(
+			joynr.tests.test.MethodWithErrorEnumExtendedErrorEnum error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithErrorEnumExtendedFailed with error not implemented for callback instance"); }
+	default void methodWithErrorEnumExtendedFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithErrorEnumExtendedFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithInterfaceErrorEnum
+	*/
+	@StatelessCallbackCorrelation("-1126150249")
+	default void methodWithInterfaceErrorEnumSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithInterfaceErrorEnumSuccess not implemented for callback instance"); }
+	default void methodWithInterfaceErrorEnumFailed(
+			joynr.tests.ErrorEnumInterface error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithInterfaceErrorEnumFailed with error not implemented for callback instance"); }
+	default void methodWithInterfaceErrorEnumFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithInterfaceErrorEnumFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithInterfaceErrorEnumExtended
+	*/
+	@StatelessCallbackCorrelation("114334192")
+	default void methodWithInterfaceErrorEnumExtendedSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithInterfaceErrorEnumExtendedSuccess not implemented for callback instance"); }
+	default void methodWithInterfaceErrorEnumExtendedFailed(
+			joynr.tests.test.MethodWithInterfaceErrorEnumExtendedErrorEnum error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithInterfaceErrorEnumExtendedFailed with error not implemented for callback instance"); }
+	default void methodWithInterfaceErrorEnumExtendedFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithInterfaceErrorEnumExtendedFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithImplicitErrorEnum
+	*/
+	@StatelessCallbackCorrelation("923399229")
+	default void methodWithImplicitErrorEnumSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithImplicitErrorEnumSuccess not implemented for callback instance"); }
+	default void methodWithImplicitErrorEnumFailed(
+			joynr.tests.test.MethodWithImplicitErrorEnumErrorEnum error,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithImplicitErrorEnumFailed with error not implemented for callback instance"); }
+	default void methodWithImplicitErrorEnumFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithImplicitErrorEnumFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithProviderRuntimeException
+	*/
+	@StatelessCallbackCorrelation("559863759")
+	default void methodWithProviderRuntimeExceptionSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithProviderRuntimeExceptionSuccess not implemented for callback instance"); }
+	default void methodWithProviderRuntimeExceptionFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithProviderRuntimeExceptionFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithThrownException
+	*/
+	@StatelessCallbackCorrelation("1754615456")
+	default void methodWithThrownExceptionSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithThrownExceptionSuccess not implemented for callback instance"); }
+	default void methodWithThrownExceptionFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithThrownExceptionFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithMultipleOutputParameters
+	*/
+	@StatelessCallbackCorrelation("-858818155")
+	default void methodWithMultipleOutputParametersSuccess(
+			String aString,
+			Integer aNumber,
+			GpsLocation aComplexDataType,
+			TestEnum anEnumResult,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithMultipleOutputParametersSuccess not implemented for callback instance"); }
+	default void methodWithMultipleOutputParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithMultipleOutputParametersFailed with exception not implemented for callback instance"); }
+
+	/*
+	* methodWithAllPossiblePrimitiveParameters
+	*/
+	@StatelessCallbackCorrelation("-714403870")
+	default void methodWithAllPossiblePrimitiveParametersSuccess(
+			Boolean booleanOut,
+			Double doubleOut,
+			Float floatOut,
+			Short int16Out,
+			Integer int32Out,
+			Long int64Out,
+			Byte int8Out,
+			String stringOut,
+			Short uInt16Out,
+			Integer uInt32Out,
+			Long uInt64Out,
+			Byte uInt8Out,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithAllPossiblePrimitiveParametersSuccess not implemented for callback instance"); }
+	default void methodWithAllPossiblePrimitiveParametersFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("methodWithAllPossiblePrimitiveParametersFailed with exception not implemented for callback instance"); }
+}
@@ -0,0 +1,278 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.dispatcher.rpc.JoynrSubscriptionInterface;
+
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcSubscription;
+import io.joynr.proxy.Future;
+import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
+import io.joynr.pubsub.SubscriptionQos;
+
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TStruct;
+
+public interface testSubscriptionInterface extends JoynrSubscriptionInterface, test {
+
+
+	@JoynrRpcSubscription(attributeName = "enumAttribute", attributeType = TestEnum.class)
+	public Future<String> subscribeToEnumAttribute(AttributeSubscriptionListener<TestEnum> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "enumAttribute", attributeType = TestEnum.class)
+	public Future<String> subscribeToEnumAttribute(String subscriptionId, AttributeSubscriptionListener<TestEnum> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromEnumAttribute(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "enumAttributeReadOnly", attributeType = TestEnum.class)
+	public Future<String> subscribeToEnumAttributeReadOnly(AttributeSubscriptionListener<TestEnum> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "enumAttributeReadOnly", attributeType = TestEnum.class)
+	public Future<String> subscribeToEnumAttributeReadOnly(String subscriptionId, AttributeSubscriptionListener<TestEnum> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromEnumAttributeReadOnly(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "listOfEnumsAttribute", attributeType = TestEnum[].class)
+	public Future<String> subscribeToListOfEnumsAttribute(AttributeSubscriptionListener<TestEnum[]> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "listOfEnumsAttribute", attributeType = TestEnum[].class)
+	public Future<String> subscribeToListOfEnumsAttribute(String subscriptionId, AttributeSubscriptionListener<TestEnum[]> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromListOfEnumsAttribute(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "location", attributeType = GpsLocation.class)
+	public Future<String> subscribeToLocation(AttributeSubscriptionListener<GpsLocation> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "location", attributeType = GpsLocation.class)
+	public Future<String> subscribeToLocation(String subscriptionId, AttributeSubscriptionListener<GpsLocation> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromLocation(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "mytrip", attributeType = Trip.class)
+	public Future<String> subscribeToMytrip(AttributeSubscriptionListener<Trip> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "mytrip", attributeType = Trip.class)
+	public Future<String> subscribeToMytrip(String subscriptionId, AttributeSubscriptionListener<Trip> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromMytrip(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "yourLocation", attributeType = GpsLocation.class)
+	public Future<String> subscribeToYourLocation(AttributeSubscriptionListener<GpsLocation> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "yourLocation", attributeType = GpsLocation.class)
+	public Future<String> subscribeToYourLocation(String subscriptionId, AttributeSubscriptionListener<GpsLocation> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromYourLocation(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "firstPrime", attributeType = Integer.class)
+	public Future<String> subscribeToFirstPrime(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "firstPrime", attributeType = Integer.class)
+	public Future<String> subscribeToFirstPrime(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromFirstPrime(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "listOfInts", attributeType = Integer[].class)
+	public Future<String> subscribeToListOfInts(AttributeSubscriptionListener<Integer[]> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "listOfInts", attributeType = Integer[].class)
+	public Future<String> subscribeToListOfInts(String subscriptionId, AttributeSubscriptionListener<Integer[]> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromListOfInts(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "listOfLocations", attributeType = GpsLocation[].class)
+	public Future<String> subscribeToListOfLocations(AttributeSubscriptionListener<GpsLocation[]> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "listOfLocations", attributeType = GpsLocation[].class)
+	public Future<String> subscribeToListOfLocations(String subscriptionId, AttributeSubscriptionListener<GpsLocation[]> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromListOfLocations(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "listOfStrings", attributeType = String[].class)
+	public Future<String> subscribeToListOfStrings(AttributeSubscriptionListener<String[]> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "listOfStrings", attributeType = String[].class)
+	public Future<String> subscribeToListOfStrings(String subscriptionId, AttributeSubscriptionListener<String[]> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromListOfStrings(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "testAttribute", attributeType = Integer.class)
+	public Future<String> subscribeToTestAttribute(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "testAttribute", attributeType = Integer.class)
+	public Future<String> subscribeToTestAttribute(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromTestAttribute(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "complexTestAttribute", attributeType = GpsLocation.class)
+	public Future<String> subscribeToComplexTestAttribute(AttributeSubscriptionListener<GpsLocation> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "complexTestAttribute", attributeType = GpsLocation.class)
+	public Future<String> subscribeToComplexTestAttribute(String subscriptionId, AttributeSubscriptionListener<GpsLocation> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromComplexTestAttribute(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "readWriteAttribute", attributeType = Integer.class)
+	public Future<String> subscribeToReadWriteAttribute(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "readWriteAttribute", attributeType = Integer.class)
+	public Future<String> subscribeToReadWriteAttribute(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromReadWriteAttribute(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "readOnlyAttribute", attributeType = Integer.class)
+	public Future<String> subscribeToReadOnlyAttribute(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "readOnlyAttribute", attributeType = Integer.class)
+	public Future<String> subscribeToReadOnlyAttribute(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromReadOnlyAttribute(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "writeOnly", attributeType = Integer.class)
+	public Future<String> subscribeToWriteOnly(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "writeOnly", attributeType = Integer.class)
+	public Future<String> subscribeToWriteOnly(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromWriteOnly(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "notifyWriteOnly", attributeType = Integer.class)
+	public Future<String> subscribeToNotifyWriteOnly(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "notifyWriteOnly", attributeType = Integer.class)
+	public Future<String> subscribeToNotifyWriteOnly(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromNotifyWriteOnly(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "notifyReadOnly", attributeType = Integer.class)
+	public Future<String> subscribeToNotifyReadOnly(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "notifyReadOnly", attributeType = Integer.class)
+	public Future<String> subscribeToNotifyReadOnly(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromNotifyReadOnly(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "notifyReadWrite", attributeType = Integer.class)
+	public Future<String> subscribeToNotifyReadWrite(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "notifyReadWrite", attributeType = Integer.class)
+	public Future<String> subscribeToNotifyReadWrite(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromNotifyReadWrite(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "notify", attributeType = Integer.class)
+	public Future<String> subscribeToNotify(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "notify", attributeType = Integer.class)
+	public Future<String> subscribeToNotify(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromNotify(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "ATTRIBUTEWITHCAPITALLETTERS", attributeType = Integer.class)
+	public Future<String> subscribeToATTRIBUTEWITHCAPITALLETTERS(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "ATTRIBUTEWITHCAPITALLETTERS", attributeType = Integer.class)
+	public Future<String> subscribeToATTRIBUTEWITHCAPITALLETTERS(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromATTRIBUTEWITHCAPITALLETTERS(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "attributeWithProviderRuntimeException", attributeType = Integer.class)
+	public Future<String> subscribeToAttributeWithProviderRuntimeException(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "attributeWithProviderRuntimeException", attributeType = Integer.class)
+	public Future<String> subscribeToAttributeWithProviderRuntimeException(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromAttributeWithProviderRuntimeException(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "attributeWithThrownException", attributeType = Integer.class)
+	public Future<String> subscribeToAttributeWithThrownException(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "attributeWithThrownException", attributeType = Integer.class)
+	public Future<String> subscribeToAttributeWithThrownException(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromAttributeWithThrownException(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "EverythingMap", attributeType = TEverythingMap.class)
+	public Future<String> subscribeToEverythingMap(AttributeSubscriptionListener<TEverythingMap> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "EverythingMap", attributeType = TEverythingMap.class)
+	public Future<String> subscribeToEverythingMap(String subscriptionId, AttributeSubscriptionListener<TEverythingMap> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromEverythingMap(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "attributeArrayOfNestedStructs", attributeType = HavingComplexArrayMemberStruct[].class)
+	public Future<String> subscribeToAttributeArrayOfNestedStructs(AttributeSubscriptionListener<HavingComplexArrayMemberStruct[]> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "attributeArrayOfNestedStructs", attributeType = HavingComplexArrayMemberStruct[].class)
+	public Future<String> subscribeToAttributeArrayOfNestedStructs(String subscriptionId, AttributeSubscriptionListener<HavingComplexArrayMemberStruct[]> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromAttributeArrayOfNestedStructs(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "byteBufferAttribute", attributeType = Byte[].class)
+	public Future<String> subscribeToByteBufferAttribute(AttributeSubscriptionListener<Byte[]> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "byteBufferAttribute", attributeType = Byte[].class)
+	public Future<String> subscribeToByteBufferAttribute(String subscriptionId, AttributeSubscriptionListener<Byte[]> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromByteBufferAttribute(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "typeDefForTStruct", attributeType = TStruct.class)
+	public Future<String> subscribeToTypeDefForTStruct(AttributeSubscriptionListener<TStruct> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "typeDefForTStruct", attributeType = TStruct.class)
+	public Future<String> subscribeToTypeDefForTStruct(String subscriptionId, AttributeSubscriptionListener<TStruct> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromTypeDefForTStruct(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "typeDefForTStructArray", attributeType = TStruct[].class)
+	public Future<String> subscribeToTypeDefForTStructArray(AttributeSubscriptionListener<TStruct[]> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "typeDefForTStructArray", attributeType = TStruct[].class)
+	public Future<String> subscribeToTypeDefForTStructArray(String subscriptionId, AttributeSubscriptionListener<TStruct[]> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromTypeDefForTStructArray(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "typeDefForPrimitive", attributeType = Integer.class)
+	public Future<String> subscribeToTypeDefForPrimitive(AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "typeDefForPrimitive", attributeType = Integer.class)
+	public Future<String> subscribeToTypeDefForPrimitive(String subscriptionId, AttributeSubscriptionListener<Integer> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromTypeDefForPrimitive(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "typeDefForPrimitiveArray", attributeType = Integer[].class)
+	public Future<String> subscribeToTypeDefForPrimitiveArray(AttributeSubscriptionListener<Integer[]> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "typeDefForPrimitiveArray", attributeType = Integer[].class)
+	public Future<String> subscribeToTypeDefForPrimitiveArray(String subscriptionId, AttributeSubscriptionListener<Integer[]> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromTypeDefForPrimitiveArray(String subscriptionId);
+}
@@ -0,0 +1,95 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.dispatcher.rpc.annotation.JoynrMulticast;
+import io.joynr.provider.SubscriptionPublisher;
+
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TEverythingStruct;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+
+public interface testSubscriptionPublisher extends SubscriptionPublisher {
+
+	public void enumAttributeChanged(TestEnum enumAttribute);
+	public void enumAttributeReadOnlyChanged(TestEnum enumAttributeReadOnly);
+	public void listOfEnumsAttributeChanged(TestEnum[] listOfEnumsAttribute);
+	public void locationChanged(GpsLocation location);
+	public void mytripChanged(Trip mytrip);
+	public void yourLocationChanged(GpsLocation yourLocation);
+	public void firstPrimeChanged(Integer firstPrime);
+	public void listOfIntsChanged(Integer[] listOfInts);
+	public void listOfLocationsChanged(GpsLocation[] listOfLocations);
+	public void listOfStringsChanged(String[] listOfStrings);
+	public void testAttributeChanged(Integer testAttribute);
+	public void complexTestAttributeChanged(GpsLocation complexTestAttribute);
+	public void readWriteAttributeChanged(Integer readWriteAttribute);
+	public void readOnlyAttributeChanged(Integer readOnlyAttribute);
+	public void writeOnlyChanged(Integer writeOnly);
+	public void notifyWriteOnlyChanged(Integer notifyWriteOnly);
+	public void notifyReadOnlyChanged(Integer notifyReadOnly);
+	public void notifyReadWriteChanged(Integer notifyReadWrite);
+	public void notifyChanged(Integer notify);
+	public void ATTRIBUTEWITHCAPITALLETTERSChanged(Integer ATTRIBUTEWITHCAPITALLETTERS);
+	public void attributeWithProviderRuntimeExceptionChanged(Integer attributeWithProviderRuntimeException);
+	public void attributeWithThrownExceptionChanged(Integer attributeWithThrownException);
+	public void EverythingMapChanged(TEverythingMap EverythingMap);
+	public void attributeArrayOfNestedStructsChanged(HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs);
+	public void byteBufferAttributeChanged(Byte[] byteBufferAttribute);
+	public void typeDefForTStructChanged(TStruct typeDefForTStruct);
+	public void typeDefForTStructArrayChanged(TStruct[] typeDefForTStructArray);
+	public void typeDefForPrimitiveChanged(Integer typeDefForPrimitive);
+	public void typeDefForPrimitiveArrayChanged(Integer[] typeDefForPrimitiveArray);
+
+	@JoynrMulticast(name = "broadcastWithEnumOutput")
+	public void fireBroadcastWithEnumOutput(TestEnum testEnum, String... partitions);
+	@JoynrMulticast(name = "locationUpdate")
+	public void fireLocationUpdate(GpsLocation location, String... partitions);
+	@JoynrMulticast(name = "locationUpdateWithSpeed")
+	public void fireLocationUpdateWithSpeed(GpsLocation location, Float currentSpeed, String... partitions);
+	public void fireLocationUpdateSelective(GpsLocation location);
+	public void fireLocationUpdateWithSpeedSelective(GpsLocation location, Float currentSpeed);
+	@JoynrMulticast(name = "broadcastWithSingleArrayParameter")
+	public void fireBroadcastWithSingleArrayParameter(String[] singleParam, String... partitions);
+	@JoynrMulticast(name = "broadcastWithByteBufferParameter")
+	public void fireBroadcastWithByteBufferParameter(Byte[] byteBufferParameter, String... partitions);
+	@JoynrMulticast(name = "broadcastWithMapParameters")
+	public void fireBroadcastWithMapParameters(TStringKeyMap mapParam, String... partitions);
+	public void fireBooleanBroadcast(Boolean b);
+	public void fireDoubleBroadcast(Double d);
+	public void fireIntBroadcast(Integer i32);
+	public void fireStringBroadcast(String s);
+	public void fireBroadcastWithFiltering(String stringOut, String[] stringArrayOut, TestEnum[] enumerationArrayOut, TEverythingStruct structWithStringArrayOut, TEverythingStruct[] structWithStringArrayArrayOut);
+	@JoynrMulticast(name = "emptyBroadcast")
+	public void fireEmptyBroadcast(String... partitions);
+}
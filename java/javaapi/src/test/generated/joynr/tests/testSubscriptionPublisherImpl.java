@@ -0,0 +1,191 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests;
+
+import io.joynr.provider.AbstractSubscriptionPublisher;
+
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TEverythingStruct;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+
+public class testSubscriptionPublisherImpl extends AbstractSubscriptionPublisher implements testSubscriptionPublisher {
+
+	public final void enumAttributeChanged(TestEnum enumAttribute) {
+		onAttributeValueChanged("enumAttribute", enumAttribute);
+	}
+	public final void enumAttributeReadOnlyChanged(TestEnum enumAttributeReadOnly) {
+		onAttributeValueChanged("enumAttributeReadOnly", enumAttributeReadOnly);
+	}
+	public final void listOfEnumsAttributeChanged(TestEnum[] listOfEnumsAttribute) {
+		onAttributeValueChanged("listOfEnumsAttribute", listOfEnumsAttribute);
+	}
+	public final void locationChanged(GpsLocation location) {
+		onAttributeValueChanged("location", location);
+	}
+	public final void mytripChanged(Trip mytrip) {
+		onAttributeValueChanged("mytrip", mytrip);
+	}
+	public final void yourLocationChanged(GpsLocation yourLocation) {
+		onAttributeValueChanged("yourLocation", yourLocation);
+	}
+	public final void firstPrimeChanged(Integer firstPrime) {
+		onAttributeValueChanged("firstPrime", firstPrime);
+	}
+	public final void listOfIntsChanged(Integer[] listOfInts) {
+		onAttributeValueChanged("listOfInts", listOfInts);
+	}
+	public final void listOfLocationsChanged(GpsLocation[] listOfLocations) {
+		onAttributeValueChanged("listOfLocations", listOfLocations);
+	}
+	public final void listOfStringsChanged(String[] listOfStrings) {
+		onAttributeValueChanged("listOfStrings", listOfStrings);
+	}
+	public final void testAttributeChanged(Integer testAttribute) {
+		onAttributeValueChanged("testAttribute", testAttribute);
+	}
+	public final void complexTestAttributeChanged(GpsLocation complexTestAttribute) {
+		onAttributeValueChanged("complexTestAttribute", complexTestAttribute);
+	}
+	public final void readWriteAttributeChanged(Integer readWriteAttribute) {
+		onAttributeValueChanged("readWriteAttribute", readWriteAttribute);
+	}
+	public final void readOnlyAttributeChanged(Integer readOnlyAttribute) {
+		onAttributeValueChanged("readOnlyAttribute", readOnlyAttribute);
+	}
+	public final void writeOnlyChanged(Integer writeOnly) {
+		onAttributeValueChanged("writeOnly", writeOnly);
+	}
+	public final void notifyWriteOnlyChanged(Integer notifyWriteOnly) {
+		onAttributeValueChanged("notifyWriteOnly", notifyWriteOnly);
+	}
+	public final void notifyReadOnlyChanged(Integer notifyReadOnly) {
+		onAttributeValueChanged("notifyReadOnly", notifyReadOnly);
+	}
+	public final void notifyReadWriteChanged(Integer notifyReadWrite) {
+		onAttributeValueChanged("notifyReadWrite", notifyReadWrite);
+	}
+	public final void notifyChanged(Integer notify) {
+		onAttributeValueChanged("notify", notify);
+	}
+	public final void ATTRIBUTEWITHCAPITALLETTERSChanged(Integer ATTRIBUTEWITHCAPITALLETTERS) {
+		onAttributeValueChanged("ATTRIBUTEWITHCAPITALLETTERS", ATTRIBUTEWITHCAPITALLETTERS);
+	}
+	public final void attributeWithProviderRuntimeExceptionChanged(Integer attributeWithProviderRuntimeException) {
+		onAttributeValueChanged("attributeWithProviderRuntimeException", attributeWithProviderRuntimeException);
+	}
+	public final void attributeWithThrownExceptionChanged(Integer attributeWithThrownException) {
+		onAttributeValueChanged("attributeWithThrownException", attributeWithThrownException);
+	}
+	public final void EverythingMapChanged(TEverythingMap EverythingMap) {
+		onAttributeValueChanged("EverythingMap", EverythingMap);
+	}
+	public final void attributeArrayOfNestedStructsChanged(HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs) {
+		onAttributeValueChanged("attributeArrayOfNestedStructs", attributeArrayOfNestedStructs);
+	}
+	public final void byteBufferAttributeChanged(Byte[] byteBufferAttribute) {
+		onAttributeValueChanged("byteBufferAttribute", byteBufferAttribute);
+	}
+	public final void typeDefForTStructChanged(TStruct typeDefForTStruct) {
+		onAttributeValueChanged("typeDefForTStruct", typeDefForTStruct);
+	}
+	public final void typeDefForTStructArrayChanged(TStruct[] typeDefForTStructArray) {
+		onAttributeValueChanged("typeDefForTStructArray", typeDefForTStructArray);
+	}
+	public final void typeDefForPrimitiveChanged(Integer typeDefForPrimitive) {
+		onAttributeValueChanged("typeDefForPrimitive", typeDefForPrimitive);
+	}
+	public final void typeDefForPrimitiveArrayChanged(Integer[] typeDefForPrimitiveArray) {
+		onAttributeValueChanged("typeDefForPrimitiveArray", typeDefForPrimitiveArray);
+	}
+
+	public void fireLocationUpdateSelective(GpsLocation location) {
+		fireBroadcast("locationUpdateSelective", broadcastFilters.get("locationUpdateSelective"), location);
+	}
+
+	public void fireLocationUpdateWithSpeedSelective(GpsLocation location, Float currentSpeed) {
+		fireBroadcast("locationUpdateWithSpeedSelective", broadcastFilters.get("locationUpdateWithSpeedSelective"), location, currentSpeed);
+	}
+
+	public void fireBooleanBroadcast(Boolean b) {
+		fireBroadcast("booleanBroadcast", broadcastFilters.get("booleanBroadcast"), b);
+	}
+
+	public void fireDoubleBroadcast(Double d) {
+		fireBroadcast("doubleBroadcast", broadcastFilters.get("doubleBroadcast"), d);
+	}
+
+	public void fireIntBroadcast(Integer i32) {
+		fireBroadcast("intBroadcast", broadcastFilters.get("intBroadcast"), i32);
+	}
+
+	public void fireStringBroadcast(String s) {
+		fireBroadcast("stringBroadcast", broadcastFilters.get("stringBroadcast"), s);
+	}
+
+	public void fireBroadcastWithFiltering(String stringOut, String[] stringArrayOut, TestEnum[] enumerationArrayOut, TEverythingStruct structWithStringArrayOut, TEverythingStruct[] structWithStringArrayArrayOut) {
+		fireBroadcast("broadcastWithFiltering", broadcastFilters.get("broadcastWithFiltering"), stringOut, stringArrayOut, enumerationArrayOut, structWithStringArrayOut, structWithStringArrayArrayOut);
+	}
+
+	public void fireBroadcastWithEnumOutput(TestEnum testEnum, String... partitions) {
+		fireMulticast("broadcastWithEnumOutput", partitions, testEnum);
+	}
+
+	public void fireLocationUpdate(GpsLocation location, String... partitions) {
+		fireMulticast("locationUpdate", partitions, location);
+	}
+
+	public void fireLocationUpdateWithSpeed(GpsLocation location, Float currentSpeed, String... partitions) {
+		fireMulticast("locationUpdateWithSpeed", partitions, location, currentSpeed);
+	}
+
+	public void fireBroadcastWithSingleArrayParameter(String[] singleParam, String... partitions) {
+		// passing array to varargs will cause array elements to be understood as multiple parameters.
+		// Cast to Object prevents this.
+		fireMulticast("broadcastWithSingleArrayParameter", partitions, (Object) singleParam);
+	}
+
+	public void fireBroadcastWithByteBufferParameter(Byte[] byteBufferParameter, String... partitions) {
+		// passing array to varargs will cause array elements to be understood as multiple parameters.
+		// Cast to Object prevents this.
+		fireMulticast("broadcastWithByteBufferParameter", partitions, (Object) byteBufferParameter);
+	}
+
+	public void fireBroadcastWithMapParameters(TStringKeyMap mapParam, String... partitions) {
+		fireMulticast("broadcastWithMapParameters", partitions, mapParam);
+	}
+
+	public void fireEmptyBroadcast(String... partitions) {
+		fireMulticast("emptyBroadcast", partitions);
+	}
+
+}
@@ -0,0 +1,1061 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.tests;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.Sync;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+import joynr.exceptions.ApplicationException;
+
+import joynr.tests.testTypes.AnotherDerivedStruct;
+import joynr.tests.testTypes.BaseStruct;
+import joynr.tests.testTypes.ComplexTestType;
+import joynr.tests.testTypes.ComplexTestType2;
+import joynr.tests.testTypes.DerivedStruct;
+import joynr.tests.testTypes.HavingComplexArrayMemberStruct;
+import joynr.tests.testTypes.TestEnum;
+import joynr.tests.testTypes.TestEnumWithoutValues;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TEverythingExtendedStruct;
+import joynr.types.TestTypes.TEverythingMap;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+import joynr.types.TestTypes.Vowel;
+
+@Sync
+@ProvidedBy(testProvider.class)
+@UsedBy(testProxy.class)
+public interface testSync extends test, testFireAndForget {
+
+	public TestEnum getEnumAttribute();
+	default public TestEnum getEnumAttribute(MessagingQos messagingQos) {
+		return getEnumAttribute();
+	}
+	void setEnumAttribute(TestEnum enumAttribute);
+	default void setEnumAttribute(TestEnum enumAttribute, MessagingQos messagingQos) {
+	}
+
+	public TestEnum getEnumAttributeReadOnly();
+	default public TestEnum getEnumAttributeReadOnly(MessagingQos messagingQos) {
+		return getEnumAttributeReadOnly();
+	}
+
+	public TestEnum[] getListOfEnumsAttribute();
+	default public TestEnum[] getListOfEnumsAttribute(MessagingQos messagingQos) {
+		return getListOfEnumsAttribute();
+	}
+	void setListOfEnumsAttribute(TestEnum[] listOfEnumsAttribute);
+	default void setListOfEnumsAttribute(TestEnum[] listOfEnumsAttribute, MessagingQos messagingQos) {
+	}
+
+	public GpsLocation getLocation();
+	default public GpsLocation getLocation(MessagingQos messagingQos) {
+		return getLocation();
+	}
+	void setLocation(GpsLocation location);
+	default void setLocation(GpsLocation location, MessagingQos messagingQos) {
+	}
+
+	public Trip getMytrip();
+	default public Trip getMytrip(MessagingQos messagingQos) {
+		return getMytrip();
+	}
+
+	public GpsLocation getYourLocation();
+	default public GpsLocation getYourLocation(MessagingQos messagingQos) {
+		return getYourLocation();
+	}
+
+	public Integer getFirstPrime();
+	default public Integer getFirstPrime(MessagingQos messagingQos) {
+		return getFirstPrime();
+	}
+	void setFirstPrime(Integer firstPrime);
+	default void setFirstPrime(Integer firstPrime, MessagingQos messagingQos) {
+	}
+
+	public Integer[] getListOfInts();
+	default public Integer[] getListOfInts(MessagingQos messagingQos) {
+		return getListOfInts();
+	}
+	void setListOfInts(Integer[] listOfInts);
+	default void setListOfInts(Integer[] listOfInts, MessagingQos messagingQos) {
+	}
+
+	public GpsLocation[] getListOfLocations();
+	default public GpsLocation[] getListOfLocations(MessagingQos messagingQos) {
+		return getListOfLocations();
+	}
+
+	public String[] getListOfStrings();
+	default public String[] getListOfStrings(MessagingQos messagingQos) {
+		return getListOfStrings();
+	}
+	void setListOfStrings(String[] listOfStrings);
+	default void setListOfStrings(String[] listOfStrings, MessagingQos messagingQos) {
+	}
+
+	public Integer getTestAttribute();
+	default public Integer getTestAttribute(MessagingQos messagingQos) {
+		return getTestAttribute();
+	}
+	void setTestAttribute(Integer testAttribute);
+	default void setTestAttribute(Integer testAttribute, MessagingQos messagingQos) {
+	}
+
+	public GpsLocation getComplexTestAttribute();
+	default public GpsLocation getComplexTestAttribute(MessagingQos messagingQos) {
+		return getComplexTestAttribute();
+	}
+	void setComplexTestAttribute(GpsLocation complexTestAttribute);
+	default void setComplexTestAttribute(GpsLocation complexTestAttribute, MessagingQos messagingQos) {
+	}
+
+	public Integer getReadWriteAttribute();
+	default public Integer getReadWriteAttribute(MessagingQos messagingQos) {
+		return getReadWriteAttribute();
+	}
+	void setReadWriteAttribute(Integer readWriteAttribute);
+	default void setReadWriteAttribute(Integer readWriteAttribute, MessagingQos messagingQos) {
+	}
+
+	public Integer getReadOnlyAttribute();
+	default public Integer getReadOnlyAttribute(MessagingQos messagingQos) {
+		return getReadOnlyAttribute();
+	}
+
+	public Integer getWriteOnly();
+	default public Integer getWriteOnly(MessagingQos messagingQos) {
+		return getWriteOnly();
+	}
+	void setWriteOnly(Integer writeOnly);
+	default void setWriteOnly(Integer writeOnly, MessagingQos messagingQos) {
+	}
+
+	public Integer getNotifyWriteOnly();
+	default public Integer getNotifyWriteOnly(MessagingQos messagingQos) {
+		return getNotifyWriteOnly();
+	}
+	void setNotifyWriteOnly(Integer notifyWriteOnly);
+	default void setNotifyWriteOnly(Integer notifyWriteOnly, MessagingQos messagingQos) {
+	}
+
+	public Integer getNotifyReadOnly();
+	default public Integer getNotifyReadOnly(MessagingQos messagingQos) {
+		return getNotifyReadOnly();
+	}
+
+	public Integer getNotifyReadWrite();
+	default public Integer getNotifyReadWrite(MessagingQos messagingQos) {
+		return getNotifyReadWrite();
+	}
+	void setNotifyReadWrite(Integer notifyReadWrite);
+	default void setNotifyReadWrite(Integer notifyReadWrite, MessagingQos messagingQos) {
+	}
+
+	public Integer getNotify();
+	default public Integer getNotify(MessagingQos messagingQos) {
+		return getNotify();
+	}
+	void setNotify(Integer notify);
+	default void setNotify(Integer notify, MessagingQos messagingQos) {
+	}
+
+	public Integer getATTRIBUTEWITHCAPITALLETTERS();
+	default public Integer getATTRIBUTEWITHCAPITALLETTERS(MessagingQos messagingQos) {
+		return getATTRIBUTEWITHCAPITALLETTERS();
+	}
+	void setATTRIBUTEWITHCAPITALLETTERS(Integer ATTRIBUTEWITHCAPITALLETTERS);
+	default void setATTRIBUTEWITHCAPITALLETTERS(Integer ATTRIBUTEWITHCAPITALLETTERS, MessagingQos messagingQos) {
+	}
+
+	public Integer getAttributeWithProviderRuntimeException();
+	default public Integer getAttributeWithProviderRuntimeException(MessagingQos messagingQos) {
+		return getAttributeWithProviderRuntimeException();
+	}
+	void setAttributeWithProviderRuntimeException(Integer attributeWithProviderRuntimeException);
+	default void setAttributeWithProviderRuntimeException(Integer attributeWithProviderRuntimeException, MessagingQos messagingQos) {
+	}
+
+	public Integer getAttributeWithThrownException();
+	default public Integer getAttributeWithThrownException(MessagingQos messagingQos) {
+		return getAttributeWithThrownException();
+	}
+	void setAttributeWithThrownException(Integer attributeWithThrownException);
+	default void setAttributeWithThrownException(Integer attributeWithThrownException, MessagingQos messagingQos) {
+	}
+
+	public TEverythingMap getEverythingMap();
+	default public TEverythingMap getEverythingMap(MessagingQos messagingQos) {
+		return getEverythingMap();
+	}
+	void setEverythingMap(TEverythingMap EverythingMap);
+	default void setEverythingMap(TEverythingMap EverythingMap, MessagingQos messagingQos) {
+	}
+
+	public HavingComplexArrayMemberStruct[] getAttributeArrayOfNestedStructs();
+	default public HavingComplexArrayMemberStruct[] getAttributeArrayOfNestedStructs(MessagingQos messagingQos) {
+		return getAttributeArrayOfNestedStructs();
+	}
+	void setAttributeArrayOfNestedStructs(HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs);
+	default void setAttributeArrayOfNestedStructs(HavingComplexArrayMemberStruct[] attributeArrayOfNestedStructs, MessagingQos messagingQos) {
+	}
+
+	public Byte[] getByteBufferAttribute();
+	default public Byte[] getByteBufferAttribute(MessagingQos messagingQos) {
+		return getByteBufferAttribute();
+	}
+	void setByteBufferAttribute(Byte[] byteBufferAttribute);
+	default void setByteBufferAttribute(Byte[] byteBufferAttribute, MessagingQos messagingQos) {
+	}
+
+	public TStruct getTypeDefForTStruct();
+	default public TStruct getTypeDefForTStruct(MessagingQos messagingQos) {
+		return getTypeDefForTStruct();
+	}
+	void setTypeDefForTStruct(TStruct typeDefForTStruct);
+	default void setTypeDefForTStruct(TStruct typeDefForTStruct, MessagingQos messagingQos) {
+	}
+
+	public TStruct[] getTypeDefForTStructArray();
+	default public TStruct[] getTypeDefForTStructArray(MessagingQos messagingQos) {
+		return getTypeDefForTStructArray();
+	}
+	void setTypeDefForTStructArray(TStruct[] typeDefForTStructArray);
+	default void setTypeDefForTStructArray(TStruct[] typeDefForTStructArray, MessagingQos messagingQos) {
+	}
+
+	public Integer getTypeDefForPrimitive();
+	default public Integer getTypeDefForPrimitive(MessagingQos messagingQos) {
+		return getTypeDefForPrimitive();
+	}
+	void setTypeDefForPrimitive(Integer typeDefForPrimitive);
+	default void setTypeDefForPrimitive(Integer typeDefForPrimitive, MessagingQos messagingQos) {
+	}
+
+	public Integer[] getTypeDefForPrimitiveArray();
+	default public Integer[] getTypeDefForPrimitiveArray(MessagingQos messagingQos) {
+		return getTypeDefForPrimitiveArray();
+	}
+	void setTypeDefForPrimitiveArray(Integer[] typeDefForPrimitiveArray);
+	default void setTypeDefForPrimitiveArray(Integer[] typeDefForPrimitiveArray, MessagingQos messagingQos) {
+	}
+
+	public class MethodWithMultipleOutAndErrorEnumReturned implements io.joynr.dispatcher.rpc.MultiReturnValuesContainer {
+		public final String out1;
+		public final String out2;
+		public MethodWithMultipleOutAndErrorEnumReturned(Object... outParameters) {
+			this.out1 = (String) outParameters[0];
+			this.out2 = (String) outParameters[1];
+		}
+
+		public static Class<?>[] getDatatypes() {
+			return new Class<?>[] {String.class, String.class};
+		}
+
+		public Object[] getValues() {
+		    return new Object[] {
+		        out1,
+		        out2
+		    };
+		}
+	}
+	public class MethodWithMultipleOutputParametersReturned implements io.joynr.dispatcher.rpc.MultiReturnValuesContainer {
+		public final String aString;
+		public final Integer aNumber;
+		public final GpsLocation aComplexDataType;
+		public final TestEnum anEnumResult;
+		public MethodWithMultipleOutputParametersReturned(Object... outParameters) {
+			this.aString = (String) outParameters[0];
+			this.aNumber = (Integer) outParameters[1];
+			this.aComplexDataType = (GpsLocation) outParameters[2];
+			this.anEnumResult = (TestEnum) outParameters[3];
+		}
+
+		public static Class<?>[] getDatatypes() {
+			return new Class<?>[] {String.class, Integer.class, GpsLocation.class, TestEnum.class};
+		}
+
+		public Object[] getValues() {
+		    return new Object[] {
+		        aString,
+		        aNumber,
+		        aComplexDataType,
+		        anEnumResult
+		    };
+		}
+	}
+	public class MethodWithAllPossiblePrimitiveParametersReturned implements io.joynr.dispatcher.rpc.MultiReturnValuesContainer {
+		public final Boolean booleanOut;
+		public final Double doubleOut;
+		public final Float floatOut;
+		public final Short int16Out;
+		public final Integer int32Out;
+		public final Long int64Out;
+		public final Byte int8Out;
+		public final String stringOut;
+		public final Short uInt16Out;
+		public final Integer uInt32Out;
+		public final Long uInt64Out;
+		public final Byte uInt8Out;
+		public MethodWithAllPossiblePrimitiveParametersReturned(Object... outParameters) {
+			this.booleanOut = (Boolean) outParameters[0];
+			this.doubleOut = (Double) outParameters[1];
+			this.floatOut = (Float) outParameters[2];
+			this.int16Out = (Short) outParameters[3];
+			this.int32Out = (Integer) outParameters[4];
+			this.int64Out = (Long) outParameters[5];
+			this.int8Out = (Byte) outParameters[6];
+			this.stringOut = (String) outParameters[7];
+			this.uInt16Out = (Short) outParameters[8];
+			this.uInt32Out = (Integer) outParameters[9];
+			this.uInt64Out = (Long) outParameters[10];
+			this.uInt8Out = (Byte) outParameters[11];
+		}
+
+		public static Class<?>[] getDatatypes() {
+			return new Class<?>[] {Boolean.class, Double.class, Float.class, Short.class, Integer.class, Long.class, Byte.class, String.class, Short.class, Integer.class, Long.class, Byte.class};
+		}
+
+		public Object[] getValues() {
+		    return new Object[] {
+		        booleanOut,
+		        doubleOut,
+		        floatOut,
+		        int16Out,
+		        int32Out,
+		        int64Out,
+		        int8Out,
+		        stringOut,
+		        uInt16Out,
+		        uInt32Out,
+		        uInt64Out,
+		        uInt8Out
+		    };
+		}
+	}
+
+	/*
+	* echoCallingPrincipal
+	*/
+	public String echoCallingPrincipal(
+	);
+	default public String echoCallingPrincipal(
+			MessagingQos messagingQos
+	) {
+		return echoCallingPrincipal(
+		);
+	}
+
+	/*
+	* addNumbers
+	*/
+	public Integer addNumbers(
+			Integer first,
+			Integer second,
+			Integer third
+	);
+	default public Integer addNumbers(
+			Integer first,
+			Integer second,
+			Integer third,
+			MessagingQos messagingQos
+	) {
+		return addNumbers(
+			first,
+			second,
+			third
+		);
+	}
+
+	/*
+	* sumInts
+	*/
+	public Integer sumInts(
+			Integer[] ints
+	);
+	default public Integer sumInts(
+			Integer[] ints,
+			MessagingQos messagingQos
+	) {
+		return sumInts(
+			ints
+		);
+	}
+
+	/*
+	* sumIntsDelayed
+	*/
+	public Integer sumIntsDelayed(
+			Integer[] ints
+	);
+	default public Integer sumIntsDelayed(
+			Integer[] ints,
+			MessagingQos messagingQos
+	) {
+		return sumIntsDelayed(
+			ints
+		);
+	}
+
+	/*
+	* methodWithNoInputParameters
+	*/
+	public Integer methodWithNoInputParameters(
+	);
+	default public Integer methodWithNoInputParameters(
+			MessagingQos messagingQos
+	) {
+		return methodWithNoInputParameters(
+		);
+	}
+
+	/*
+	* methodWithStrings
+	*/
+	public String methodWithStrings(
+			String input
+	);
+	default public String methodWithStrings(
+			String input,
+			MessagingQos messagingQos
+	) {
+		return methodWithStrings(
+			input
+		);
+	}
+
+	/*
+	* methodWithEnumParameter
+	*/
+	public Integer methodWithEnumParameter(
+			TestEnum input
+	);
+	default public Integer methodWithEnumParameter(
+			TestEnum input,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumParameter(
+			input
+		);
+	}
+
+	/*
+	* methodWithByteBuffer
+	*/
+	public Byte[] methodWithByteBuffer(
+			Byte[] input
+	);
+	default public Byte[] methodWithByteBuffer(
+			Byte[] input,
+			MessagingQos messagingQos
+	) {
+		return methodWithByteBuffer(
+			input
+		);
+	}
+
+	/*
+	* methodWithEnumListParameter
+	*/
+	public Integer methodWithEnumListParameter(
+			TestEnum[] input
+	);
+	default public Integer methodWithEnumListParameter(
+			TestEnum[] input,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumListParameter(
+			input
+		);
+	}
+
+	/*
+	* methodWithEnumWithoutValues
+	*/
+	public TestEnumWithoutValues methodWithEnumWithoutValues(
+			TestEnumWithoutValues enumIn
+	);
+	default public TestEnumWithoutValues methodWithEnumWithoutValues(
+			TestEnumWithoutValues enumIn,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumWithoutValues(
+			enumIn
+		);
+	}
+
+	/*
+	* methodWithEnumReturn
+	*/
+	public TestEnum methodWithEnumReturn(
+			Integer input
+	);
+	default public TestEnum methodWithEnumReturn(
+			Integer input,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumReturn(
+			input
+		);
+	}
+
+	/*
+	* methodWithEnumListReturn
+	*/
+	public TestEnum[] methodWithEnumListReturn(
+			Integer input
+	);
+	default public TestEnum[] methodWithEnumListReturn(
+			Integer input,
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumListReturn(
+			input
+		);
+	}
+
+	/*
+	* methodWithByteArray
+	*/
+	public Byte[] methodWithByteArray(
+			Byte[] input
+	);
+	default public Byte[] methodWithByteArray(
+			Byte[] input,
+			MessagingQos messagingQos
+	) {
+		return methodWithByteArray(
+			input
+		);
+	}
+
+	/*
+	* methodWithPrimitiveTypeDef
+	*/
+	public Integer methodWithPrimitiveTypeDef(
+			Integer input
+	);
+	default public Integer methodWithPrimitiveTypeDef(
+			Integer input,
+			MessagingQos messagingQos
+	) {
+		return methodWithPrimitiveTypeDef(
+			input
+		);
+	}
+
+	/*
+	* methodWithCompoundTypeDef
+	*/
+	public TStruct methodWithCompoundTypeDef(
+			TStruct input
+	);
+	default public TStruct methodWithCompoundTypeDef(
+			TStruct input,
+			MessagingQos messagingQos
+	) {
+		return methodWithCompoundTypeDef(
+			input
+		);
+	}
+
+	/*
+	* methodEnumDoubleParameters
+	*/
+	public void methodEnumDoubleParameters(
+			TestEnum enumParam,
+			Double doubleParam
+	);
+	default public void methodEnumDoubleParameters(
+			TestEnum enumParam,
+			Double doubleParam,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* methodStringDoubleParameters
+	*/
+	public void methodStringDoubleParameters(
+			String stringParam,
+			Double doubleParam
+	);
+	default public void methodStringDoubleParameters(
+			String stringParam,
+			Double doubleParam,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* methodCustomCustomParameters
+	*/
+	public void methodCustomCustomParameters(
+			ComplexTestType customParam1,
+			ComplexTestType2 customParam2
+	);
+	default public void methodCustomCustomParameters(
+			ComplexTestType customParam1,
+			ComplexTestType2 customParam2,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* methodStringDoubleListParameters
+	*/
+	public void methodStringDoubleListParameters(
+			String stringParam,
+			Double[] doubleListParam
+	);
+	default public void methodStringDoubleListParameters(
+			String stringParam,
+			Double[] doubleListParam,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* methodCustomCustomListParameters
+	*/
+	public void methodCustomCustomListParameters(
+			ComplexTestType customParam,
+			ComplexTestType2[] customListParam
+	);
+	default public void methodCustomCustomListParameters(
+			ComplexTestType customParam,
+			ComplexTestType2[] customListParam,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* customTypeAndListParameter
+	*/
+	public void customTypeAndListParameter(
+			ComplexTestType complexTestType,
+			BaseStruct[] complexArray
+	);
+	default public void customTypeAndListParameter(
+			ComplexTestType complexTestType,
+			BaseStruct[] complexArray,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* voidOperation
+	*/
+	public void voidOperation(
+	);
+	default public void voidOperation(
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* stringAndBoolParameters
+	*/
+	public void stringAndBoolParameters(
+			String stringParam,
+			Boolean boolParam
+	);
+	default public void stringAndBoolParameters(
+			String stringParam,
+			Boolean boolParam,
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* mapParameters
+	*/
+	public TStringKeyMap mapParameters(
+			TStringKeyMap tStringMapIn
+	);
+	default public TStringKeyMap mapParameters(
+			TStringKeyMap tStringMapIn,
+			MessagingQos messagingQos
+	) {
+		return mapParameters(
+			tStringMapIn
+		);
+	}
+
+	/*
+	* returnPrimeNumbers
+	*/
+	public Integer[] returnPrimeNumbers(
+			Integer upperBound
+	);
+	default public Integer[] returnPrimeNumbers(
+			Integer upperBound,
+			MessagingQos messagingQos
+	) {
+		return returnPrimeNumbers(
+			upperBound
+		);
+	}
+
+	/*
+	* optimizeTrip
+	*/
+	public Trip optimizeTrip(
+			Trip input
+	);
+	default public Trip optimizeTrip(
+			Trip input,
+			MessagingQos messagingQos
+	) {
+		return optimizeTrip(
+			input
+		);
+	}
+
+	/*
+	* overloadedOperation
+	*/
+	public String overloadedOperation(
+			DerivedStruct input
+	);
+	default public String overloadedOperation(
+			DerivedStruct input,
+			MessagingQos messagingQos
+	) {
+		return overloadedOperation(
+			input
+		);
+	}
+
+	/*
+	* overloadedOperation
+	*/
+	public String overloadedOperation(
+			AnotherDerivedStruct input
+	);
+	default public String overloadedOperation(
+			AnotherDerivedStruct input,
+			MessagingQos messagingQos
+	) {
+		return overloadedOperation(
+			input
+		);
+	}
+
+	/*
+	* overloadedOperation
+	*/
+	public ComplexTestType overloadedOperation(
+			String input
+	);
+	default public ComplexTestType overloadedOperation(
+			String input,
+			MessagingQos messagingQos
+	) {
+		return overloadedOperation(
+			input
+		);
+	}
+
+	/*
+	* overloadedOperation
+	*/
+	public ComplexTestType2 overloadedOperation(
+			String input1,
+			String input2
+	);
+	default public ComplexTestType2 overloadedOperation(
+			String input1,
+			String input2,
+			MessagingQos messagingQos
+	) {
+		return overloadedOperation(
+			input1,
+			input2
+		);
+	}
+
+	/*
+	* optimizeLocations
+	*/
+	public GpsLocation[] optimizeLocations(
+			GpsLocation[] input
+	);
+	default public GpsLocation[] optimizeLocations(
+			GpsLocation[] input,
+			MessagingQos messagingQos
+	) {
+		return optimizeLocations(
+			input
+		);
+	}
+
+	/*
+	* toLowerCase
+	*/
+	public String toLowerCase(
+			String inputString
+	);
+	default public String toLowerCase(
+			String inputString,
+			MessagingQos messagingQos
+	) {
+		return toLowerCase(
+			inputString
+		);
+	}
+
+	/*
+	* waitTooLong
+	*/
+	public String waitTooLong(
+			Long ttl_ms
+	);
+	default public String waitTooLong(
+			Long ttl_ms,
+			MessagingQos messagingQos
+	) {
+		return waitTooLong(
+			ttl_ms
+		);
+	}
+
+	/*
+	* sayHello
+	*/
+	public String sayHello(
+	);
+	default public String sayHello(
+			MessagingQos messagingQos
+	) {
+		return sayHello(
+		);
+	}
+
+	/*
+	* methodWithEnumReturnValue
+	*/
+	public TestEnum methodWithEnumReturnValue(
+	);
+	default public TestEnum methodWithEnumReturnValue(
+			MessagingQos messagingQos
+	) {
+		return methodWithEnumReturnValue(
+		);
+	}
+
+	/*
+	* checkVowel
+	*/
+	public Boolean checkVowel(
+			Vowel inputVowel
+	);
+	default public Boolean checkVowel(
+			Vowel inputVowel,
+			MessagingQos messagingQos
+	) {
+		return checkVowel(
+			inputVowel
+		);
+	}
+
+	/*
+	* optimizeLocationList
+	*/
+	public GpsLocation[] optimizeLocationList(
+			GpsLocation[] inputList
+	);
+	default public GpsLocation[] optimizeLocationList(
+			GpsLocation[] inputList,
+			MessagingQos messagingQos
+	) {
+		return optimizeLocationList(
+			inputList
+		);
+	}
+
+	/*
+	* methodWithErrorEnum
+	*/
+	public void methodWithErrorEnum(
+	) throws ApplicationException;
+	default public void methodWithErrorEnum(
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return;
+	}
+
+	/*
+	* methodWithMultipleOutAndErrorEnum
+	*/
+	public MethodWithMultipleOutAndErrorEnumReturned methodWithMultipleOutAndErrorEnum(
+	) throws ApplicationException;
+	default public MethodWithMultipleOutAndErrorEnumReturned methodWithMultipleOutAndErrorEnum(
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return methodWithMultipleOutAndErrorEnum(
+		);
+	}
+
+	/*
+	* methodWithErrorEnumExtended
+	*/
+	public void methodWithErrorEnumExtended(
+	) throws ApplicationException;
+	default public void methodWithErrorEnumExtended(
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return;
+	}
+
+	/*
+	* methodWithInterfaceErrorEnum
+	*/
+	public void methodWithInterfaceErrorEnum(
+	) throws ApplicationException;
+	default public void methodWithInterfaceErrorEnum(
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return;
+	}
+
+	/*
+	* methodWithInterfaceErrorEnumExtended
+	*/
+	public void methodWithInterfaceErrorEnumExtended(
+	) throws ApplicationException;
+	default public void methodWithInterfaceErrorEnumExtended(
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return;
+	}
+
+	/*
+	* methodWithImplicitErrorEnum
+	*/
+	public void methodWithImplicitErrorEnum(
+	) throws ApplicationException;
+	default public void methodWithImplicitErrorEnum(
+			MessagingQos messagingQos
+	) throws ApplicationException {
+		return;
+	}
+
+	/*
+	* methodWithProviderRuntimeException
+	*/
+	public void methodWithProviderRuntimeException(
+	);
+	default public void methodWithProviderRuntimeException(
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* methodWithThrownException
+	*/
+	public void methodWithThrownException(
+	);
+	default public void methodWithThrownException(
+			MessagingQos messagingQos
+	) {
+		return;
+	}
+
+	/*
+	* methodWithMultipleOutputParameters
+	*/
+	public MethodWithMultipleOutputParametersReturned methodWithMultipleOutputParameters(
+	);
+	default public MethodWithMultipleOutputParametersReturned methodWithMultipleOutputParameters(
+			MessagingQos messagingQos
+	) {
+		return methodWithMultipleOutputParameters(
+		);
+	}
+
+	/*
+	* methodWithAllPossiblePrimitiveParameters
+	*/
+	public MethodWithAllPossiblePrimitiveParametersReturned methodWithAllPossiblePrimitiveParameters(
+			Boolean booleanArg,
+			Double doubleArg,
+			Float floatArg,
+			Short int16Arg,
+			Integer int32Arg,
+			Long int64Arg,
+			Byte int8Arg,
+			String stringArg,
+			Short uInt16Arg,
+			Integer uInt32Arg,
+			Long uInt64Arg,
+			Byte uInt8Arg
+	);
+	default public MethodWithAllPossiblePrimitiveParametersReturned methodWithAllPossiblePrimitiveParameters(
+			Boolean booleanArg,
+			Double doubleArg,
+			Float floatArg,
+			Short int16Arg,
+			Integer int32Arg,
+			Long int64Arg,
+			Byte int8Arg,
+			String stringArg,
+			Short uInt16Arg,
+			Integer uInt32Arg,
+			Long uInt64Arg,
+			Byte uInt8Arg,
+			MessagingQos messagingQos
+	) {
+		return methodWithAllPossiblePrimitiveParameters(
+			booleanArg,
+			doubleArg,
+			floatArg,
+			int16Arg,
+			int32Arg,
+			int64Arg,
+			int8Arg,
+			stringArg,
+			uInt16Arg,
+			uInt32Arg,
+			uInt64Arg,
+			uInt8Arg
+		);
+	}
+}
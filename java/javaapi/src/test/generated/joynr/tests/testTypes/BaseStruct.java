@@ -0,0 +1,231 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.tests.testTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.tests.testTypes.ComplexTestType;
+import joynr.types.Localisation.GpsLocation;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class BaseStruct implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 48;
+	public static final int MINOR_VERSION = 12;
+	@JsonProperty("c")
+	private ComplexTestType c;
+	@JsonProperty("a")
+	private String a;
+	@JsonProperty("l")
+	private GpsLocation l;
+
+	/**
+	 * Default Constructor
+	 */
+	public BaseStruct() {
+		this.c = new ComplexTestType();
+		this.a = "";
+		this.l = new GpsLocation();
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param baseStructObj reference to the object to be copied
+	 */
+	public BaseStruct(BaseStruct baseStructObj) {
+		this.c = new ComplexTestType(baseStructObj.c);
+		this.a = baseStructObj.a;
+		this.l = new GpsLocation(baseStructObj.l);
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param c description missing in Franca model.
+	 * @param a description missing in Franca model.
+	 * @param l description missing in Franca model.
+	 */
+	public BaseStruct(
+		ComplexTestType c,
+		String a,
+		GpsLocation l
+		) {
+		this.c = new ComplexTestType(c);
+		this.a = a;
+		this.l = new GpsLocation(l);
+	}
+
+	/**
+	 * Gets C
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public ComplexTestType getC() {
+		return new ComplexTestType(c);
+	}
+
+	/**
+	 * Sets C
+	 *
+	 * @param c description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setC(ComplexTestType c) {
+		if (c == null) {
+			throw new IllegalArgumentException("setting c to null is not allowed");
+		}
+		this.c = new ComplexTestType(c);
+	}
+
+	/**
+	 * Gets A
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getA() {
+		return a;
+	}
+
+	/**
+	 * Sets A
+	 *
+	 * @param a description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setA(String a) {
+		if (a == null) {
+			throw new IllegalArgumentException("setting a to null is not allowed");
+		}
+		this.a = a;
+	}
+
+	/**
+	 * Gets L
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public GpsLocation getL() {
+		return new GpsLocation(l);
+	}
+
+	/**
+	 * Sets L
+	 *
+	 * @param l description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setL(GpsLocation l) {
+		if (l == null) {
+			throw new IllegalArgumentException("setting l to null is not allowed");
+		}
+		this.l = new GpsLocation(l);
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "BaseStruct ["
+		+ "c=" + this.c + ", "
+		+ "a=" + this.a + ", "
+		+ "l=" + this.l
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		BaseStruct other = (BaseStruct) obj;
+		if (this.c == null) {
+			if (other.c != null) {
+				return false;
+			}
+		} else if (!this.c.equals(other.c)) {
+			return false;
+		}
+		if (this.a == null) {
+			if (other.a != null) {
+				return false;
+			}
+		} else if (!this.a.equals(other.a)) {
+			return false;
+		}
+		if (this.l == null) {
+			if (other.l != null) {
+				return false;
+			}
+		} else if (!this.l.equals(other.l)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.c == null) ? 0 : this.c.hashCode());
+		result = prime * result + ((this.a == null) ? 0 : this.a.hashCode());
+		result = prime * result + ((this.l == null) ? 0 : this.l.hashCode());
+		return result;
+	}
+}
+
+	
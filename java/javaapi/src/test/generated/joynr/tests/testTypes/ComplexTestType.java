@@ -0,0 +1,190 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.tests.testTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class ComplexTestType implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 48;
+	public static final int MINOR_VERSION = 12;
+	@JsonProperty("a")
+	private Integer a;
+	@JsonProperty("b")
+	private Integer b;
+
+	/**
+	 * Default Constructor
+	 */
+	public ComplexTestType() {
+		this.a = 0;
+		this.b = 0;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param complexTestTypeObj reference to the object to be copied
+	 */
+	public ComplexTestType(ComplexTestType complexTestTypeObj) {
+		this.a = complexTestTypeObj.a;
+		this.b = complexTestTypeObj.b;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param a description missing in Franca model.
+	 * @param b description missing in Franca model.
+	 */
+	public ComplexTestType(
+		Integer a,
+		Integer b
+		) {
+		this.a = a;
+		this.b = b;
+	}
+
+	/**
+	 * Gets A
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Integer getA() {
+		return a;
+	}
+
+	/**
+	 * Sets A
+	 *
+	 * @param a description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setA(Integer a) {
+		if (a == null) {
+			throw new IllegalArgumentException("setting a to null is not allowed");
+		}
+		this.a = a;
+	}
+
+	/**
+	 * Gets B
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Integer getB() {
+		return b;
+	}
+
+	/**
+	 * Sets B
+	 *
+	 * @param b description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setB(Integer b) {
+		if (b == null) {
+			throw new IllegalArgumentException("setting b to null is not allowed");
+		}
+		this.b = b;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "ComplexTestType ["
+		+ "a=" + this.a + ", "
+		+ "b=" + this.b
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ComplexTestType other = (ComplexTestType) obj;
+		if (this.a == null) {
+			if (other.a != null) {
+				return false;
+			}
+		} else if (!this.a.equals(other.a)) {
+			return false;
+		}
+		if (this.b == null) {
+			if (other.b != null) {
+				return false;
+			}
+		} else if (!this.b.equals(other.b)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.a == null) ? 0 : this.a.hashCode());
+		result = prime * result + ((this.b == null) ? 0 : this.b.hashCode());
+		return result;
+	}
+}
+
+	
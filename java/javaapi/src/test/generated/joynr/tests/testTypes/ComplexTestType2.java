@@ -0,0 +1,190 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.tests.testTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class ComplexTestType2 implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 48;
+	public static final int MINOR_VERSION = 12;
+	@JsonProperty("c")
+	private Integer c;
+	@JsonProperty("d")
+	private Integer d;
+
+	/**
+	 * Default Constructor
+	 */
+	public ComplexTestType2() {
+		this.c = 0;
+		this.d = 0;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param complexTestType2Obj reference to the object to be copied
+	 */
+	public ComplexTestType2(ComplexTestType2 complexTestType2Obj) {
+		this.c = complexTestType2Obj.c;
+		this.d = complexTestType2Obj.d;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param c description missing in Franca model.
+	 * @param d description missing in Franca model.
+	 */
+	public ComplexTestType2(
+		Integer c,
+		Integer d
+		) {
+		this.c = c;
+		this.d = d;
+	}
+
+	/**
+	 * Gets C
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Integer getC() {
+		return c;
+	}
+
+	/**
+	 * Sets C
+	 *
+	 * @param c description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setC(Integer c) {
+		if (c == null) {
+			throw new IllegalArgumentException("setting c to null is not allowed");
+		}
+		this.c = c;
+	}
+
+	/**
+	 * Gets D
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Integer getD() {
+		return d;
+	}
+
+	/**
+	 * Sets D
+	 *
+	 * @param d description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setD(Integer d) {
+		if (d == null) {
+			throw new IllegalArgumentException("setting d to null is not allowed");
+		}
+		this.d = d;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "ComplexTestType2 ["
+		+ "c=" + this.c + ", "
+		+ "d=" + this.d
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ComplexTestType2 other = (ComplexTestType2) obj;
+		if (this.c == null) {
+			if (other.c != null) {
+				return false;
+			}
+		} else if (!this.c.equals(other.c)) {
+			return false;
+		}
+		if (this.d == null) {
+			if (other.d != null) {
+				return false;
+			}
+		} else if (!this.d.equals(other.d)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.c == null) ? 0 : this.c.hashCode());
+		result = prime * result + ((this.d == null) ? 0 : this.d.hashCode());
+		return result;
+	}
+}
+
+	
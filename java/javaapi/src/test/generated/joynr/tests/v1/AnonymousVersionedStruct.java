@@ -0,0 +1,151 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.tests.v1;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class AnonymousVersionedStruct implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 1;
+	public static final int MINOR_VERSION = 0;
+	@JsonProperty("flag1")
+	private Boolean flag1;
+
+	/**
+	 * Default Constructor
+	 */
+	public AnonymousVersionedStruct() {
+		this.flag1 = false;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param anonymousVersionedStructObj reference to the object to be copied
+	 */
+	public AnonymousVersionedStruct(AnonymousVersionedStruct anonymousVersionedStructObj) {
+		this.flag1 = anonymousVersionedStructObj.flag1;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param flag1 description missing in Franca model.
+	 */
+	public AnonymousVersionedStruct(
+		Boolean flag1
+		) {
+		this.flag1 = flag1;
+	}
+
+	/**
+	 * Gets Flag1
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Boolean getFlag1() {
+		return flag1;
+	}
+
+	/**
+	 * Sets Flag1
+	 *
+	 * @param flag1 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setFlag1(Boolean flag1) {
+		if (flag1 == null) {
+			throw new IllegalArgumentException("setting flag1 to null is not allowed");
+		}
+		this.flag1 = flag1;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "AnonymousVersionedStruct ["
+		+ "flag1=" + this.flag1
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		AnonymousVersionedStruct other = (AnonymousVersionedStruct) obj;
+		if (this.flag1 == null) {
+			if (other.flag1 != null) {
+				return false;
+			}
+		} else if (!this.flag1.equals(other.flag1)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.flag1 == null) ? 0 : this.flag1.hashCode());
+		return result;
+	}
+}
+
+	
@@ -0,0 +1,151 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.tests.v1;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class InterfaceVersionedStruct implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 1;
+	public static final int MINOR_VERSION = 0;
+	@JsonProperty("flag")
+	private Boolean flag;
+
+	/**
+	 * Default Constructor
+	 */
+	public InterfaceVersionedStruct() {
+		this.flag = false;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param interfaceVersionedStructObj reference to the object to be copied
+	 */
+	public InterfaceVersionedStruct(InterfaceVersionedStruct interfaceVersionedStructObj) {
+		this.flag = interfaceVersionedStructObj.flag;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param flag description missing in Franca model.
+	 */
+	public InterfaceVersionedStruct(
+		Boolean flag
+		) {
+		this.flag = flag;
+	}
+
+	/**
+	 * Gets Flag
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Boolean getFlag() {
+		return flag;
+	}
+
+	/**
+	 * Sets Flag
+	 *
+	 * @param flag description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setFlag(Boolean flag) {
+		if (flag == null) {
+			throw new IllegalArgumentException("setting flag to null is not allowed");
+		}
+		this.flag = flag;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "InterfaceVersionedStruct ["
+		+ "flag=" + this.flag
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		InterfaceVersionedStruct other = (InterfaceVersionedStruct) obj;
+		if (this.flag == null) {
+			if (other.flag != null) {
+				return false;
+			}
+		} else if (!this.flag.equals(other.flag)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.flag == null) ? 0 : this.flag.hashCode());
+		return result;
+	}
+}
+
+	
@@ -0,0 +1,108 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.tests.v1;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.Sync;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+
+import joynr.tests.v1.AnonymousVersionedStruct;
+import joynr.tests.v1.InterfaceVersionedStruct;
+import joynr.tests.v1.MultipleVersionsTypeCollection.VersionedStruct;
+
+@Sync
+@ProvidedBy(MultipleVersionsInterfaceProvider.class)
+@UsedBy(MultipleVersionsInterfaceProxy.class)
+public interface MultipleVersionsInterfaceSync extends MultipleVersionsInterface {
+
+	public Byte getUInt8Attribute1();
+	default public Byte getUInt8Attribute1(MessagingQos messagingQos) {
+		return getUInt8Attribute1();
+	}
+	void setUInt8Attribute1(Byte uInt8Attribute1);
+	default void setUInt8Attribute1(Byte uInt8Attribute1, MessagingQos messagingQos) {
+	}
+
+
+	/*
+	* getTrue
+	*/
+	public Boolean getTrue(
+	);
+	default public Boolean getTrue(
+			MessagingQos messagingQos
+	) {
+		return getTrue(
+		);
+	}
+
+	/*
+	* getVersionedStruct
+	*/
+	public VersionedStruct getVersionedStruct(
+			VersionedStruct input
+	);
+	default public VersionedStruct getVersionedStruct(
+			VersionedStruct input,
+			MessagingQos messagingQos
+	) {
+		return getVersionedStruct(
+			input
+		);
+	}
+
+	/*
+	* getAnonymousVersionedStruct
+	*/
+	public AnonymousVersionedStruct getAnonymousVersionedStruct(
+			AnonymousVersionedStruct input
+	);
+	default public AnonymousVersionedStruct getAnonymousVersionedStruct(
+			AnonymousVersionedStruct input,
+			MessagingQos messagingQos
+	) {
+		return getAnonymousVersionedStruct(
+			input
+		);
+	}
+
+	/*
+	* getInterfaceVersionedStruct
+	*/
+	public InterfaceVersionedStruct getInterfaceVersionedStruct(
+			InterfaceVersionedStruct input
+	);
+	default public InterfaceVersionedStruct getInterfaceVersionedStruct(
+			InterfaceVersionedStruct input,
+			MessagingQos messagingQos
+	) {
+		return getInterfaceVersionedStruct(
+			input
+		);
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.tests.v2;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.provider.Promise;
+import io.joynr.provider.Deferred;
+import io.joynr.provider.DeferredVoid;
+
+import joynr.tests.v2.AnonymousVersionedStruct;
+import joynr.tests.v2.InterfaceVersionedStruct;
+import joynr.tests.v2.MultipleVersionsTypeCollection.VersionedStruct;
+
+public class DefaultMultipleVersionsInterfaceProvider extends MultipleVersionsInterfaceAbstractProvider {
+	private static final Logger logger = LoggerFactory.getLogger(DefaultMultipleVersionsInterfaceProvider.class);
+
+	protected Byte uInt8Attribute1;
+	protected Byte uInt8Attribute2;
+
+	public DefaultMultipleVersionsInterfaceProvider() {
+	}
+
+
+	@Override
+	public Promise<Deferred<Byte>> getUInt8Attribute1() {
+		Deferred<Byte> deferred = new Deferred<>();
+		deferred.resolve(uInt8Attribute1);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setUInt8Attribute1(Byte uInt8Attribute1) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.uInt8Attribute1 = uInt8Attribute1;
+		uInt8Attribute1Changed(uInt8Attribute1);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<Deferred<Byte>> getUInt8Attribute2() {
+		Deferred<Byte> deferred = new Deferred<>();
+		deferred.resolve(uInt8Attribute2);
+		return new Promise<>(deferred);
+	}
+
+	@Override
+	public Promise<DeferredVoid> setUInt8Attribute2(Byte uInt8Attribute2) {
+		DeferredVoid deferred = new DeferredVoid();
+		this.uInt8Attribute2 = uInt8Attribute2;
+		uInt8Attribute2Changed(uInt8Attribute2);
+		deferred.resolve();
+		return new Promise<>(deferred);
+	}
+
+
+	/*
+	* getTrue
+	*/
+	@Override
+	public Promise<GetTrueDeferred> getTrue(
+			) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultMultipleVersionsInterfaceProvider.getTrue called");
+		logger.warn("**********************************************");
+		GetTrueDeferred deferred = new GetTrueDeferred();
+		Boolean result = false;
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* getVersionedStruct
+	*/
+	@Override
+	public Promise<GetVersionedStructDeferred> getVersionedStruct(
+			VersionedStruct input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultMultipleVersionsInterfaceProvider.getVersionedStruct called");
+		logger.warn("**********************************************");
+		GetVersionedStructDeferred deferred = new GetVersionedStructDeferred();
+		VersionedStruct result = new VersionedStruct();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* getAnonymousVersionedStruct
+	*/
+	@Override
+	public Promise<GetAnonymousVersionedStructDeferred> getAnonymousVersionedStruct(
+			AnonymousVersionedStruct input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultMultipleVersionsInterfaceProvider.getAnonymousVersionedStruct called");
+		logger.warn("**********************************************");
+		GetAnonymousVersionedStructDeferred deferred = new GetAnonymousVersionedStructDeferred();
+		AnonymousVersionedStruct result = new AnonymousVersionedStruct();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+
+	/*
+	* getInterfaceVersionedStruct
+	*/
+	@Override
+	public Promise<GetInterfaceVersionedStructDeferred> getInterfaceVersionedStruct(
+			InterfaceVersionedStruct input) {
+		logger.warn("**********************************************");
+		logger.warn("* DefaultMultipleVersionsInterfaceProvider.getInterfaceVersionedStruct called");
+		logger.warn("**********************************************");
+		GetInterfaceVersionedStructDeferred deferred = new GetInterfaceVersionedStructDeferred();
+		InterfaceVersionedStruct result = new InterfaceVersionedStruct();
+		deferred.resolve(result);
+		return new Promise<>(deferred);
+	}
+}
@@ -0,0 +1,152 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.tests.v48.testTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.tests.v48.testTypes.DerivedStruct;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class ComplexStructUsingDerivedStruct implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 48;
+	public static final int MINOR_VERSION = 12;
+	@JsonProperty("d")
+	private DerivedStruct d;
+
+	/**
+	 * Default Constructor
+	 */
+	public ComplexStructUsingDerivedStruct() {
+		this.d = new DerivedStruct();
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param complexStructUsingDerivedStructObj reference to the object to be copied
+	 */
+	public ComplexStructUsingDerivedStruct(ComplexStructUsingDerivedStruct complexStructUsingDerivedStructObj) {
+		this.d = new DerivedStruct(complexStructUsingDerivedStructObj.d);
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param d description missing in Franca model.
+	 */
+	public ComplexStructUsingDerivedStruct(
+		DerivedStruct d
+		) {
+		this.d = new DerivedStruct(d);
+	}
+
+	/**
+	 * Gets D
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public DerivedStruct getD() {
+		return new DerivedStruct(d);
+	}
+
+	/**
+	 * Sets D
+	 *
+	 * @param d description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setD(DerivedStruct d) {
+		if (d == null) {
+			throw new IllegalArgumentException("setting d to null is not allowed");
+		}
+		this.d = new DerivedStruct(d);
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "ComplexStructUsingDerivedStruct ["
+		+ "d=" + this.d
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ComplexStructUsingDerivedStruct other = (ComplexStructUsingDerivedStruct) obj;
+		if (this.d == null) {
+			if (other.d != null) {
+				return false;
+			}
+		} else if (!this.d.equals(other.d)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.d == null) ? 0 : this.d.hashCode());
+		return result;
+	}
+}
+
+	
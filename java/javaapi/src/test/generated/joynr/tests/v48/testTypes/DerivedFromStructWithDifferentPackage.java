@@ -0,0 +1,167 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.tests.v48.testTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.v49.TestTypes.TStruct;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class DerivedFromStructWithDifferentPackage extends TStruct implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 48;
+	public static final int MINOR_VERSION = 12;
+	@JsonProperty("someString")
+	private String someString;
+
+	/**
+	 * Default Constructor
+	 */
+	public DerivedFromStructWithDifferentPackage() {
+		this.someString = "";
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param derivedFromStructWithDifferentPackageObj reference to the object to be copied
+	 */
+	public DerivedFromStructWithDifferentPackage(DerivedFromStructWithDifferentPackage derivedFromStructWithDifferentPackageObj) {
+		super(derivedFromStructWithDifferentPackageObj);
+		this.someString = derivedFromStructWithDifferentPackageObj.someString;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param tDouble description missing in Franca model.
+	 * @param tInt64 description missing in Franca model.
+	 * @param tString description missing in Franca model.
+	 * @param someString description missing in Franca model.
+	 */
+	public DerivedFromStructWithDifferentPackage(
+		Double tDouble,
+		Long tInt64,
+		String tString,
+		String someString
+		) {
+		super(
+				tDouble,
+				tInt64,
+				tString
+		);
+		this.someString = someString;
+	}
+
+	/**
+	 * Gets SomeString
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getSomeString() {
+		return someString;
+	}
+
+	/**
+	 * Sets SomeString
+	 *
+	 * @param someString description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setSomeString(String someString) {
+		if (someString == null) {
+			throw new IllegalArgumentException("setting someString to null is not allowed");
+		}
+		this.someString = someString;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "DerivedFromStructWithDifferentPackage ["
+		+ super.toString() + ", "
+		+ "someString=" + this.someString
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		if (!super.equals(obj))
+			return false;
+		DerivedFromStructWithDifferentPackage other = (DerivedFromStructWithDifferentPackage) obj;
+		if (this.someString == null) {
+			if (other.someString != null) {
+				return false;
+			}
+		} else if (!this.someString.equals(other.someString)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = super.hashCode();
+		final int prime = 31;
+		result = prime * result + ((this.someString == null) ? 0 : this.someString.hashCode());
+		return result;
+	}
+}
+
+	
@@ -0,0 +1,333 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.Localisation;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.Localisation.GpsFixEnum;
+import joynr.types.Localisation.GpsPositionExtended;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class GpsLocation extends GpsPositionExtended implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 0;
+	public static final int MINOR_VERSION = 0;
+	@JsonProperty("elevation")
+	private Double elevation;
+	@JsonProperty("bearing")
+	private Double bearing;
+	@JsonProperty("gpsTime")
+	private Long gpsTime;
+	@JsonProperty("deviceTime")
+	private Long deviceTime;
+	@JsonProperty("time")
+	private Integer time;
+
+	/**
+	 * Default Constructor
+	 */
+	public GpsLocation() {
+		this.elevation = 0d;
+		this.bearing = 0d;
+		this.gpsTime = 0L;
+		this.deviceTime = 0L;
+		this.time = 0;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param gpsLocationObj reference to the object to be copied
+	 */
+	public GpsLocation(GpsLocation gpsLocationObj) {
+		super(gpsLocationObj);
+		this.elevation = gpsLocationObj.elevation;
+		this.bearing = gpsLocationObj.bearing;
+		this.gpsTime = gpsLocationObj.gpsTime;
+		this.deviceTime = gpsLocationObj.deviceTime;
+		this.time = gpsLocationObj.time;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param longitude description missing in Franca model.
+	 * @param latitude description missing in Franca model.
+	 * @param altitude description missing in Franca model.
+	 * @param gpsFix description missing in Franca model.
+	 * @param heading description missing in Franca model.
+	 * @param quality defaultValue 0.0
+	 * @param elevation defaultValue 0.0
+	 * @param bearing defaultValue 0.0
+	 * @param gpsTime defaultValue 0
+	 * @param deviceTime defaultValue 0
+	 * @param time might be temporary, as we use timestamps on gpslocations for debugging purpose
+	 */
+	public GpsLocation(
+		Double longitude,
+		Double latitude,
+		Double altitude,
+		GpsFixEnum gpsFix,
+		Double heading,
+		Double quality,
+		Double elevation,
+		Double bearing,
+		Long gpsTime,
+		Long deviceTime,
+		Integer time
+		) {
+		super(
+				longitude,
+				latitude,
+				altitude,
+				gpsFix,
+				heading,
+				quality
+		);
+		this.elevation = elevation;
+		this.bearing = bearing;
+		this.gpsTime = gpsTime;
+		this.deviceTime = deviceTime;
+		this.time = time;
+	}
+
+	/**
+	 * Gets Elevation
+	 *
+	 * @return defaultValue 0.0
+	 */
+	@JsonIgnore
+	public Double getElevation() {
+		return elevation;
+	}
+
+	/**
+	 * Sets Elevation
+	 *
+	 * @param elevation defaultValue 0.0
+	 */
+	@JsonIgnore
+	public void setElevation(Double elevation) {
+		if (elevation == null) {
+			throw new IllegalArgumentException("setting elevation to null is not allowed");
+		}
+		this.elevation = elevation;
+	}
+
+	/**
+	 * Gets Bearing
+	 *
+	 * @return defaultValue 0.0
+	 */
+	@JsonIgnore
+	public Double getBearing() {
+		return bearing;
+	}
+
+	/**
+	 * Sets Bearing
+	 *
+	 * @param bearing defaultValue 0.0
+	 */
+	@JsonIgnore
+	public void setBearing(Double bearing) {
+		if (bearing == null) {
+			throw new IllegalArgumentException("setting bearing to null is not allowed");
+		}
+		this.bearing = bearing;
+	}
+
+	/**
+	 * Gets GpsTime
+	 *
+	 * @return defaultValue 0
+	 */
+	@JsonIgnore
+	public Long getGpsTime() {
+		return gpsTime;
+	}
+
+	/**
+	 * Sets GpsTime
+	 *
+	 * @param gpsTime defaultValue 0
+	 */
+	@JsonIgnore
+	public void setGpsTime(Long gpsTime) {
+		if (gpsTime == null) {
+			throw new IllegalArgumentException("setting gpsTime to null is not allowed");
+		}
+		this.gpsTime = gpsTime;
+	}
+
+	/**
+	 * Gets DeviceTime
+	 *
+	 * @return defaultValue 0
+	 */
+	@JsonIgnore
+	public Long getDeviceTime() {
+		return deviceTime;
+	}
+
+	/**
+	 * Sets DeviceTime
+	 *
+	 * @param deviceTime defaultValue 0
+	 */
+	@JsonIgnore
+	public void setDeviceTime(Long deviceTime) {
+		if (deviceTime == null) {
+			throw new IllegalArgumentException("setting deviceTime to null is not allowed");
+		}
+		this.deviceTime = deviceTime;
+	}
+
+	/**
+	 * Gets Time
+	 *
+	 * @return might be temporary, as we use timestamps on gpslocations for debugging purpose
+	 */
+	@JsonIgnore
+	public Integer getTime() {
+		return time;
+	}
+
+	/**
+	 * Sets Time
+	 *
+	 * @param time might be temporary, as we use timestamps on gpslocations for debugging purpose
+	 */
+	@JsonIgnore
+	public void setTime(Integer time) {
+		if (time == null) {
+			throw new IllegalArgumentException("setting time to null is not allowed");
+		}
+		this.time = time;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "GpsLocation ["
+		+ super.toString() + ", "
+		+ "elevation=" + this.elevation + ", "
+		+ "bearing=" + this.bearing + ", "
+		+ "gpsTime=" + this.gpsTime + ", "
+		+ "deviceTime=" + this.deviceTime + ", "
+		+ "time=" + this.time
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		if (!super.equals(obj))
+			return false;
+		GpsLocation other = (GpsLocation) obj;
+		if (this.elevation == null) {
+			if (other.elevation != null) {
+				return false;
+			}
+		} else if (!this.elevation.equals(other.elevation)) {
+			return false;
+		}
+		if (this.bearing == null) {
+			if (other.bearing != null) {
+				return false;
+			}
+		} else if (!this.bearing.equals(other.bearing)) {
+			return false;
+		}
+		if (this.gpsTime == null) {
+			if (other.gpsTime != null) {
+				return false;
+			}
+		} else if (!this.gpsTime.equals(other.gpsTime)) {
+			return false;
+		}
+		if (this.deviceTime == null) {
+			if (other.deviceTime != null) {
+				return false;
+			}
+		} else if (!this.deviceTime.equals(other.deviceTime)) {
+			return false;
+		}
+		if (this.time == null) {
+			if (other.time != null) {
+				return false;
+			}
+		} else if (!this.time.equals(other.time)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = super.hashCode();
+		final int prime = 31;
+		result = prime * result + ((this.elevation == null) ? 0 : this.elevation.hashCode());
+		result = prime * result + ((this.bearing == null) ? 0 : this.bearing.hashCode());
+		result = prime * result + ((this.gpsTime == null) ? 0 : this.gpsTime.hashCode());
+		result = prime * result + ((this.deviceTime == null) ? 0 : this.deviceTime.hashCode());
+		result = prime * result + ((this.time == null) ? 0 : this.time.hashCode());
+		return result;
+	}
+}
+
+	
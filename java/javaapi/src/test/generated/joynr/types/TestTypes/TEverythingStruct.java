@@ -0,0 +1,958 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.TestTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+import joynr.types.TestTypes.Word;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class TEverythingStruct implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 49;
+	public static final int MINOR_VERSION = 13;
+	@JsonProperty("tInt8")
+	private Byte tInt8;
+	@JsonProperty("tUInt8")
+	private Byte tUInt8;
+	@JsonProperty("tInt16")
+	private Short tInt16;
+	@JsonProperty("tUInt16")
+	private Short tUInt16;
+	@JsonProperty("tInt32")
+	private Integer tInt32;
+	@JsonProperty("tUInt32")
+	private Integer tUInt32;
+	@JsonProperty("tInt64")
+	private Long tInt64;
+	@JsonProperty("tUInt64")
+	private Long tUInt64;
+	@JsonProperty("tDouble")
+	private Double tDouble;
+	@JsonProperty("tFloat")
+	private Float tFloat;
+	@JsonProperty("tString")
+	private String tString;
+	@JsonProperty("tBoolean")
+	private Boolean tBoolean;
+	@JsonProperty("tByteBuffer")
+	private Byte[] tByteBuffer;
+	@JsonProperty("tUInt8Array")
+	private Byte[] tUInt8Array = { };
+	@JsonProperty("tEnum")
+	private TEnum tEnum;
+	@JsonProperty("tEnumArray")
+	private TEnum[] tEnumArray = { };
+	@JsonProperty("tStringArray")
+	private String[] tStringArray = { };
+	@JsonProperty("word")
+	private Word word;
+	@JsonProperty("wordArray")
+	private Word[] wordArray = { };
+	@JsonProperty("stringMap")
+	private TStringKeyMap stringMap;
+	@JsonProperty("typeDefForTStruct")
+	private TStruct typeDefForTStruct;
+
+	/**
+	 * Default Constructor
+	 */
+	public TEverythingStruct() {
+		this.tInt8 = 0;
+		this.tUInt8 = 0;
+		this.tInt16 = 0;
+		this.tUInt16 = 0;
+		this.tInt32 = 0;
+		this.tUInt32 = 0;
+		this.tInt64 = 0L;
+		this.tUInt64 = 0l;
+		this.tDouble = 0d;
+		this.tFloat = 0f;
+		this.tString = "";
+		this.tBoolean = false;
+		this.tByteBuffer = new Byte[0];
+		this.tEnum = TEnum.TLITERALA;
+		this.word = new Word();
+		this.stringMap = new TStringKeyMap();
+		this.typeDefForTStruct = new TStruct();
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param tEverythingStructObj reference to the object to be copied
+	 */
+	public TEverythingStruct(TEverythingStruct tEverythingStructObj) {
+		this.tInt8 = tEverythingStructObj.tInt8;
+		this.tUInt8 = tEverythingStructObj.tUInt8;
+		this.tInt16 = tEverythingStructObj.tInt16;
+		this.tUInt16 = tEverythingStructObj.tUInt16;
+		this.tInt32 = tEverythingStructObj.tInt32;
+		this.tUInt32 = tEverythingStructObj.tUInt32;
+		this.tInt64 = tEverythingStructObj.tInt64;
+		this.tUInt64 = tEverythingStructObj.tUInt64;
+		this.tDouble = tEverythingStructObj.tDouble;
+		this.tFloat = tEverythingStructObj.tFloat;
+		this.tString = tEverythingStructObj.tString;
+		this.tBoolean = tEverythingStructObj.tBoolean;
+		this.tByteBuffer = tEverythingStructObj.tByteBuffer;
+		this.tUInt8Array = tEverythingStructObj.tUInt8Array;
+		this.tEnum = tEverythingStructObj.tEnum;
+		this.tEnumArray = tEverythingStructObj.tEnumArray;
+		this.tStringArray = tEverythingStructObj.tStringArray;
+		this.word = new Word(tEverythingStructObj.word);
+		this.wordArray = tEverythingStructObj.wordArray;
+		this.stringMap = new TStringKeyMap(tEverythingStructObj.stringMap);
+		this.typeDefForTStruct = new TStruct(tEverythingStructObj.typeDefForTStruct);
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param tInt8 description missing in Franca model.
+	 * @param tUInt8 description missing in Franca model.
+	 * @param tInt16 description missing in Franca model.
+	 * @param tUInt16 description missing in Franca model.
+	 * @param tInt32 description missing in Franca model.
+	 * @param tUInt32 description missing in Franca model.
+	 * @param tInt64 description missing in Franca model.
+	 * @param tUInt64 description missing in Franca model.
+	 * @param tDouble description missing in Franca model.
+	 * @param tFloat description missing in Franca model.
+	 * @param tString description missing in Franca model.
+	 * @param tBoolean description missing in Franca model.
+	 * @param tByteBuffer description missing in Franca model.
+	 * @param tUInt8Array description missing in Franca model.
+	 * @param tEnum description missing in Franca model.
+	 * @param tEnumArray description missing in Franca model.
+	 * @param tStringArray description missing in Franca model.
+	 * @param word description missing in Franca model.
+	 * @param wordArray description missing in Franca model.
+	 * @param stringMap description missing in Franca model.
+	 * @param typeDefForTStruct description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 */
+	public TEverythingStruct(
+		Byte tInt8,
+		Byte tUInt8,
+		Short tInt16,
+		Short tUInt16,
+		Integer tInt32,
+		Integer tUInt32,
+		Long tInt64,
+		Long tUInt64,
+		Double tDouble,
+		Float tFloat,
+		String tString,
+		Boolean tBoolean,
+		Byte[] tByteBuffer,
+		Byte[] tUInt8Array,
+		TEnum tEnum,
+		TEnum[] tEnumArray,
+		String[] tStringArray,
+		Word word,
+		Word[] wordArray,
+		TStringKeyMap stringMap,
+		TStruct typeDefForTStruct
+		) {
+		this.tInt8 = tInt8;
+		this.tUInt8 = tUInt8;
+		this.tInt16 = tInt16;
+		this.tUInt16 = tUInt16;
+		this.tInt32 = tInt32;
+		this.tUInt32 = tUInt32;
+		this.tInt64 = tInt64;
+		this.tUInt64 = tUInt64;
+		this.tDouble = tDouble;
+		this.tFloat = tFloat;
+		this.tString = tString;
+		this.tBoolean = tBoolean;
+		this.tByteBuffer = tByteBuffer;
+		if (tUInt8Array != null) {
+			this.tUInt8Array = tUInt8Array.clone();
+		}
+		this.tEnum = tEnum;
+		if (tEnumArray != null) {
+			this.tEnumArray = tEnumArray.clone();
+		}
+		if (tStringArray != null) {
+			this.tStringArray = tStringArray.clone();
+		}
+		this.word = new Word(word);
+		if (wordArray != null) {
+			this.wordArray = wordArray.clone();
+		}
+		this.stringMap = new TStringKeyMap(stringMap);
+		this.typeDefForTStruct = new TStruct(typeDefForTStruct);
+	}
+
+	/**
+	 * Gets TInt8
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Byte getTInt8() {
+		return tInt8;
+	}
+
+	/**
+	 * Sets TInt8
+	 *
+	 * @param tInt8 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTInt8(Byte tInt8) {
+		if (tInt8 == null) {
+			throw new IllegalArgumentException("setting tInt8 to null is not allowed");
+		}
+		this.tInt8 = tInt8;
+	}
+
+	/**
+	 * Gets TUInt8
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Byte getTUInt8() {
+		return tUInt8;
+	}
+
+	/**
+	 * Sets TUInt8
+	 *
+	 * @param tUInt8 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTUInt8(Byte tUInt8) {
+		if (tUInt8 == null) {
+			throw new IllegalArgumentException("setting tUInt8 to null is not allowed");
+		}
+		this.tUInt8 = tUInt8;
+	}
+
+	/**
+	 * Gets TInt16
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Short getTInt16() {
+		return tInt16;
+	}
+
+	/**
+	 * Sets TInt16
+	 *
+	 * @param tInt16 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTInt16(Short tInt16) {
+		if (tInt16 == null) {
+			throw new IllegalArgumentException("setting tInt16 to null is not allowed");
+		}
+		this.tInt16 = tInt16;
+	}
+
+	/**
+	 * Gets TUInt16
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Short getTUInt16() {
+		return tUInt16;
+	}
+
+	/**
+	 * Sets TUInt16
+	 *
+	 * @param tUInt16 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTUInt16(Short tUInt16) {
+		if (tUInt16 == null) {
+			throw new IllegalArgumentException("setting tUInt16 to null is not allowed");
+		}
+		this.tUInt16 = tUInt16;
+	}
+
+	/**
+	 * Gets TInt32
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Integer getTInt32() {
+		return tInt32;
+	}
+
+	/**
+	 * Sets TInt32
+	 *
+	 * @param tInt32 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTInt32(Integer tInt32) {
+		if (tInt32 == null) {
+			throw new IllegalArgumentException("setting tInt32 to null is not allowed");
+		}
+		this.tInt32 = tInt32;
+	}
+
+	/**
+	 * Gets TUInt32
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Integer getTUInt32() {
+		return tUInt32;
+	}
+
+	/**
+	 * Sets TUInt32
+	 *
+	 * @param tUInt32 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTUInt32(Integer tUInt32) {
+		if (tUInt32 == null) {
+			throw new IllegalArgumentException("setting tUInt32 to null is not allowed");
+		}
+		this.tUInt32 = tUInt32;
+	}
+
+	/**
+	 * Gets TInt64
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Long getTInt64() {
+		return tInt64;
+	}
+
+	/**
+	 * Sets TInt64
+	 *
+	 * @param tInt64 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTInt64(Long tInt64) {
+		if (tInt64 == null) {
+			throw new IllegalArgumentException("setting tInt64 to null is not allowed");
+		}
+		this.tInt64 = tInt64;
+	}
+
+	/**
+	 * Gets TUInt64
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Long getTUInt64() {
+		return tUInt64;
+	}
+
+	/**
+	 * Sets TUInt64
+	 *
+	 * @param tUInt64 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTUInt64(Long tUInt64) {
+		if (tUInt64 == null) {
+			throw new IllegalArgumentException("setting tUInt64 to null is not allowed");
+		}
+		this.tUInt64 = tUInt64;
+	}
+
+	/**
+	 * Gets TDouble
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Double getTDouble() {
+		return tDouble;
+	}
+
+	/**
+	 * Sets TDouble
+	 *
+	 * @param tDouble description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTDouble(Double tDouble) {
+		if (tDouble == null) {
+			throw new IllegalArgumentException("setting tDouble to null is not allowed");
+		}
+		this.tDouble = tDouble;
+	}
+
+	/**
+	 * Gets TFloat
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Float getTFloat() {
+		return tFloat;
+	}
+
+	/**
+	 * Sets TFloat
+	 *
+	 * @param tFloat description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTFloat(Float tFloat) {
+		if (tFloat == null) {
+			throw new IllegalArgumentException("setting tFloat to null is not allowed");
+		}
+		this.tFloat = tFloat;
+	}
+
+	/**
+	 * Gets TString
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getTString() {
+		return tString;
+	}
+
+	/**
+	 * Sets TString
+	 *
+	 * @param tString description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTString(String tString) {
+		if (tString == null) {
+			throw new IllegalArgumentException("setting tString to null is not allowed");
+		}
+		this.tString = tString;
+	}
+
+	/**
+	 * Gets TBoolean
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Boolean getTBoolean() {
+		return tBoolean;
+	}
+
+	/**
+	 * Sets TBoolean
+	 *
+	 * @param tBoolean description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTBoolean(Boolean tBoolean) {
+		if (tBoolean == null) {
+			throw new IllegalArgumentException("setting tBoolean to null is not allowed");
+		}
+		this.tBoolean = tBoolean;
+	}
+
+	/**
+	 * Gets TByteBuffer
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Byte[] getTByteBuffer() {
+		return tByteBuffer;
+	}
+
+	/**
+	 * Sets TByteBuffer
+	 *
+	 * @param tByteBuffer description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTByteBuffer(Byte[] tByteBuffer) {
+		if (tByteBuffer == null) {
+			throw new IllegalArgumentException("setting tByteBuffer to null is not allowed");
+		}
+		this.tByteBuffer = tByteBuffer;
+	}
+
+	/**
+	 * Gets TUInt8Array
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Byte[] getTUInt8Array() {
+		if (tUInt8Array != null) {
+			return tUInt8Array.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets TUInt8Array
+	 *
+	 * @param tUInt8Array description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTUInt8Array(Byte[] tUInt8Array) {
+		if (tUInt8Array == null) {
+			throw new IllegalArgumentException("setting tUInt8Array to null is not allowed");
+		}
+		this.tUInt8Array = tUInt8Array.clone();
+	}
+
+	/**
+	 * Gets TEnum
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public TEnum getTEnum() {
+		return tEnum;
+	}
+
+	/**
+	 * Sets TEnum
+	 *
+	 * @param tEnum description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTEnum(TEnum tEnum) {
+		if (tEnum == null) {
+			throw new IllegalArgumentException("setting tEnum to null is not allowed");
+		}
+		this.tEnum = tEnum;
+	}
+
+	/**
+	 * Gets TEnumArray
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public TEnum[] getTEnumArray() {
+		if (tEnumArray != null) {
+			return tEnumArray.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets TEnumArray
+	 *
+	 * @param tEnumArray description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTEnumArray(TEnum[] tEnumArray) {
+		if (tEnumArray == null) {
+			throw new IllegalArgumentException("setting tEnumArray to null is not allowed");
+		}
+		this.tEnumArray = tEnumArray.clone();
+	}
+
+	/**
+	 * Gets TStringArray
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String[] getTStringArray() {
+		if (tStringArray != null) {
+			return tStringArray.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets TStringArray
+	 *
+	 * @param tStringArray description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTStringArray(String[] tStringArray) {
+		if (tStringArray == null) {
+			throw new IllegalArgumentException("setting tStringArray to null is not allowed");
+		}
+		this.tStringArray = tStringArray.clone();
+	}
+
+	/**
+	 * Gets Word
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Word getWord() {
+		return new Word(word);
+	}
+
+	/**
+	 * Sets Word
+	 *
+	 * @param word description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setWord(Word word) {
+		if (word == null) {
+			throw new IllegalArgumentException("setting word to null is not allowed");
+		}
+		this.word = new Word(word);
+	}
+
+	/**
+	 * Gets WordArray
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Word[] getWordArray() {
+		if (wordArray != null) {
+			return wordArray.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets WordArray
+	 *
+	 * @param wordArray description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setWordArray(Word[] wordArray) {
+		if (wordArray == null) {
+			throw new IllegalArgumentException("setting wordArray to null is not allowed");
+		}
+		this.wordArray = wordArray.clone();
+	}
+
+	/**
+	 * Gets StringMap
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public TStringKeyMap getStringMap() {
+		return new TStringKeyMap(stringMap);
+	}
+
+	/**
+	 * Sets StringMap
+	 *
+	 * @param stringMap description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setStringMap(TStringKeyMap stringMap) {
+		if (stringMap == null) {
+			throw new IllegalArgumentException("setting stringMap to null is not allowed");
+		}
+		this.stringMap = new TStringKeyMap(stringMap);
+	}
+
+	/**
+	 * Gets TypeDefForTStruct
+	 *
+	 * @return description missing in Franca model.
+	  (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 */
+	@JsonIgnore
+	public TStruct getTypeDefForTStruct() {
+		return new TStruct(typeDefForTStruct);
+	}
+
+	/**
+	 * Sets TypeDefForTStruct
+	 *
+	 * @param typeDefForTStruct description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 */
+	@JsonIgnore
+	public void setTypeDefForTStruct(TStruct typeDefForTStruct) {
+		if (typeDefForTStruct == null) {
+			throw new IllegalArgumentException("setting typeDefForTStruct to null is not allowed");
+		}
+		this.typeDefForTStruct = new TStruct(typeDefForTStruct);
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "TEverythingStruct ["
+		+ "tInt8=" + this.tInt8 + ", "
+		+ "tUInt8=" + this.tUInt8 + ", "
+		+ "tInt16=" + this.tInt16 + ", "
+		+ "tUInt16=" + this.tUInt16 + ", "
+		+ "tInt32=" + this.tInt32 + ", "
+		+ "tUInt32=" + this.tUInt32 + ", "
+		+ "tInt64=" + this.tInt64 + ", "
+		+ "tUInt64=" + this.tUInt64 + ", "
+		+ "tDouble=" + this.tDouble + ", "
+		+ "tFloat=" + this.tFloat + ", "
+		+ "tString=" + this.tString + ", "
+		+ "tBoolean=" + this.tBoolean + ", "
+		+ "tByteBuffer=" + this.tByteBuffer + ", "
+		+ "tUInt8Array=" + java.util.Arrays.toString(this.tUInt8Array) + ", "
+		+ "tEnum=" + this.tEnum + ", "
+		+ "tEnumArray=" + java.util.Arrays.toString(this.tEnumArray) + ", "
+		+ "tStringArray=" + java.util.Arrays.toString(this.tStringArray) + ", "
+		+ "word=" + this.word + ", "
+		+ "wordArray=" + java.util.Arrays.toString(this.wordArray) + ", "
+		+ "stringMap=" + this.stringMap + ", "
+		+ "typeDefForTStruct=" + this.typeDefForTStruct
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		TEverythingStruct other = (TEverythingStruct) obj;
+		if (this.tInt8 == null) {
+			if (other.tInt8 != null) {
+				return false;
+			}
+		} else if (!this.tInt8.equals(other.tInt8)) {
+			return false;
+		}
+		if (this.tUInt8 == null) {
+			if (other.tUInt8 != null) {
+				return false;
+			}
+		} else if (!this.tUInt8.equals(other.tUInt8)) {
+			return false;
+		}
+		if (this.tInt16 == null) {
+			if (other.tInt16 != null) {
+				return false;
+			}
+		} else if (!this.tInt16.equals(other.tInt16)) {
+			return false;
+		}
+		if (this.tUInt16 == null) {
+			if (other.tUInt16 != null) {
+				return false;
+			}
+		} else if (!this.tUInt16.equals(other.tUInt16)) {
+			return false;
+		}
+		if (this.tInt32 == null) {
+			if (other.tInt32 != null) {
+				return false;
+			}
+		} else if (!this.tInt32.equals(other.tInt32)) {
+			return false;
+		}
+		if (this.tUInt32 == null) {
+			if (other.tUInt32 != null) {
+				return false;
+			}
+		} else if (!this.tUInt32.equals(other.tUInt32)) {
+			return false;
+		}
+		if (this.tInt64 == null) {
+			if (other.tInt64 != null) {
+				return false;
+			}
+		} else if (!this.tInt64.equals(other.tInt64)) {
+			return false;
+		}
+		if (this.tUInt64 == null) {
+			if (other.tUInt64 != null) {
+				return false;
+			}
+		} else if (!this.tUInt64.equals(other.tUInt64)) {
+			return false;
+		}
+		if (this.tDouble == null) {
+			if (other.tDouble != null) {
+				return false;
+			}
+		} else if (!this.tDouble.equals(other.tDouble)) {
+			return false;
+		}
+		if (this.tFloat == null) {
+			if (other.tFloat != null) {
+				return false;
+			}
+		} else if (!this.tFloat.equals(other.tFloat)) {
+			return false;
+		}
+		if (this.tString == null) {
+			if (other.tString != null) {
+				return false;
+			}
+		} else if (!this.tString.equals(other.tString)) {
+			return false;
+		}
+		if (this.tBoolean == null) {
+			if (other.tBoolean != null) {
+				return false;
+			}
+		} else if (!this.tBoolean.equals(other.tBoolean)) {
+			return false;
+		}
+		if (this.tByteBuffer == null) {
+			if (other.tByteBuffer != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.equals(this.tByteBuffer, other.tByteBuffer)) {
+			return false;
+		}
+		if (this.tUInt8Array == null) {
+			if (other.tUInt8Array != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.tUInt8Array, other.tUInt8Array)) {
+			return false;
+		}
+		if (this.tEnum == null) {
+			if (other.tEnum != null) {
+				return false;
+			}
+		} else if (!this.tEnum.equals(other.tEnum)) {
+			return false;
+		}
+		if (this.tEnumArray == null) {
+			if (other.tEnumArray != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.tEnumArray, other.tEnumArray)) {
+			return false;
+		}
+		if (this.tStringArray == null) {
+			if (other.tStringArray != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.tStringArray, other.tStringArray)) {
+			return false;
+		}
+		if (this.word == null) {
+			if (other.word != null) {
+				return false;
+			}
+		} else if (!this.word.equals(other.word)) {
+			return false;
+		}
+		if (this.wordArray == null) {
+			if (other.wordArray != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.wordArray, other.wordArray)) {
+			return false;
+		}
+		if (this.stringMap == null) {
+			if (other.stringMap != null) {
+				return false;
+			}
+		} else if (!this.stringMap.equals(other.stringMap)) {
+			return false;
+		}
+		if (this.typeDefForTStruct == null) {
+			if (other.typeDefForTStruct != null) {
+				return false;
+			}
+		} else if (!this.typeDefForTStruct.equals(other.typeDefForTStruct)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.tInt8 == null) ? 0 : this.tInt8.hashCode());
+		result = prime * result + ((this.tUInt8 == null) ? 0 : this.tUInt8.hashCode());
+		result = prime * result + ((this.tInt16 == null) ? 0 : this.tInt16.hashCode());
+		result = prime * result + ((this.tUInt16 == null) ? 0 : this.tUInt16.hashCode());
+		result = prime * result + ((this.tInt32 == null) ? 0 : this.tInt32.hashCode());
+		result = prime * result + ((this.tUInt32 == null) ? 0 : this.tUInt32.hashCode());
+		result = prime * result + ((this.tInt64 == null) ? 0 : this.tInt64.hashCode());
+		result = prime * result + ((this.tUInt64 == null) ? 0 : this.tUInt64.hashCode());
+		result = prime * result + ((this.tDouble == null) ? 0 : this.tDouble.hashCode());
+		result = prime * result + ((this.tFloat == null) ? 0 : this.tFloat.hashCode());
+		result = prime * result + ((this.tString == null) ? 0 : this.tString.hashCode());
+		result = prime * result + ((this.tBoolean == null) ? 0 : this.tBoolean.hashCode());
+		result = prime * result + ((this.tByteBuffer == null) ? 0 : java.util.Arrays.hashCode(this.tByteBuffer));
+		result = prime * result + ((this.tUInt8Array == null) ? 0 : java.util.Arrays.hashCode(this.tUInt8Array));
+		result = prime * result + ((this.tEnum == null) ? 0 : this.tEnum.hashCode());
+		result = prime * result + ((this.tEnumArray == null) ? 0 : java.util.Arrays.hashCode(this.tEnumArray));
+		result = prime * result + ((this.tStringArray == null) ? 0 : java.util.Arrays.hashCode(this.tStringArray));
+		result = prime * result + ((this.word == null) ? 0 : this.word.hashCode());
+		result = prime * result + ((this.wordArray == null) ? 0 : java.util.Arrays.hashCode(this.wordArray));
+		result = prime * result + ((this.stringMap == null) ? 0 : this.stringMap.hashCode());
+		result = prime * result + ((this.typeDefForTStruct == null) ? 0 : this.typeDefForTStruct.hashCode());
+		return result;
+	}
+}
+
+	
@@ -0,0 +1,152 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.TestTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types2.TestTypes2.TEnum2;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class TStruct2 implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 49;
+	public static final int MINOR_VERSION = 13;
+	@JsonProperty("tEnum2")
+	private TEnum2 tEnum2;
+
+	/**
+	 * Default Constructor
+	 */
+	public TStruct2() {
+		this.tEnum2 = TEnum2.TLITERAL2A;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param tStruct2Obj reference to the object to be copied
+	 */
+	public TStruct2(TStruct2 tStruct2Obj) {
+		this.tEnum2 = tStruct2Obj.tEnum2;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param tEnum2 description missing in Franca model.
+	 */
+	public TStruct2(
+		TEnum2 tEnum2
+		) {
+		this.tEnum2 = tEnum2;
+	}
+
+	/**
+	 * Gets TEnum2
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public TEnum2 getTEnum2() {
+		return tEnum2;
+	}
+
+	/**
+	 * Sets TEnum2
+	 *
+	 * @param tEnum2 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTEnum2(TEnum2 tEnum2) {
+		if (tEnum2 == null) {
+			throw new IllegalArgumentException("setting tEnum2 to null is not allowed");
+		}
+		this.tEnum2 = tEnum2;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "TStruct2 ["
+		+ "tEnum2=" + this.tEnum2
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		TStruct2 other = (TStruct2) obj;
+		if (this.tEnum2 == null) {
+			if (other.tEnum2 != null) {
+				return false;
+			}
+		} else if (!this.tEnum2.equals(other.tEnum2)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.tEnum2 == null) ? 0 : this.tEnum2.hashCode());
+		return result;
+	}
+}
+
+	
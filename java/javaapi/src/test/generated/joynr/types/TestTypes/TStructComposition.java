@@ -0,0 +1,157 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.TestTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.TestTypes.TStructExtended;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class TStructComposition implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 49;
+	public static final int MINOR_VERSION = 13;
+	@JsonProperty("tStructExtendeds")
+	private TStructExtended[] tStructExtendeds = { };
+
+	/**
+	 * Default Constructor
+	 */
+	public TStructComposition() {
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param tStructCompositionObj reference to the object to be copied
+	 */
+	public TStructComposition(TStructComposition tStructCompositionObj) {
+		this.tStructExtendeds = tStructCompositionObj.tStructExtendeds;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param tStructExtendeds description missing in Franca model.
+	 */
+	public TStructComposition(
+		TStructExtended[] tStructExtendeds
+		) {
+		if (tStructExtendeds != null) {
+			this.tStructExtendeds = tStructExtendeds.clone();
+		}
+	}
+
+	/**
+	 * Gets TStructExtendeds
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public TStructExtended[] getTStructExtendeds() {
+		if (tStructExtendeds != null) {
+			return tStructExtendeds.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets TStructExtendeds
+	 *
+	 * @param tStructExtendeds description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTStructExtendeds(TStructExtended[] tStructExtendeds) {
+		if (tStructExtendeds == null) {
+			throw new IllegalArgumentException("setting tStructExtendeds to null is not allowed");
+		}
+		this.tStructExtendeds = tStructExtendeds.clone();
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "TStructComposition ["
+		+ "tStructExtendeds=" + java.util.Arrays.toString(this.tStructExtendeds)
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		TStructComposition other = (TStructComposition) obj;
+		if (this.tStructExtendeds == null) {
+			if (other.tStructExtendeds != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.tStructExtendeds, other.tStructExtendeds)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.tStructExtendeds == null) ? 0 : java.util.Arrays.hashCode(this.tStructExtendeds));
+		return result;
+	}
+}
+
+	
@@ -0,0 +1,471 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.TestTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.TestTypes.TEnum;
+import joynr.types.TestTypes.TStringKeyMap;
+import joynr.types.TestTypes.TStruct;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class TStructWithTypedefMembers implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 49;
+	public static final int MINOR_VERSION = 13;
+	@JsonProperty("typeDefForPrimitive")
+	private Integer typeDefForPrimitive;
+	@JsonProperty("typeDefForTStruct")
+	private TStruct typeDefForTStruct;
+	@JsonProperty("typeDefForTStringKeyMap")
+	private TStringKeyMap typeDefForTStringKeyMap;
+	@JsonProperty("typeDefForTEnum")
+	private TEnum typeDefForTEnum;
+	@JsonProperty("arrayOfTypeDefForPrimitive")
+	private Integer[] arrayOfTypeDefForPrimitive = { };
+	@JsonProperty("arrayOfTypeDefForTStruct")
+	private TStruct[] arrayOfTypeDefForTStruct = { };
+	@JsonProperty("arrayOfTypeDefForTStringKeyMap")
+	private TStringKeyMap[] arrayOfTypeDefForTStringKeyMap = { };
+	@JsonProperty("arrayOfTypeDefForTEnum")
+	private TEnum[] arrayOfTypeDefForTEnum = { };
+
+	/**
+	 * Default Constructor
+	 */
+	public TStructWithTypedefMembers() {
+		this.typeDefForPrimitive = 0;
+		this.typeDefForTStruct = new TStruct();
+		this.typeDefForTStringKeyMap = new TStringKeyMap();
+		this.typeDefForTEnum = TEnum.TLITERALA;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param tStructWithTypedefMembersObj reference to the object to be copied
+	 */
+	public TStructWithTypedefMembers(TStructWithTypedefMembers tStructWithTypedefMembersObj) {
+		this.typeDefForPrimitive = tStructWithTypedefMembersObj.typeDefForPrimitive;
+		this.typeDefForTStruct = new TStruct(tStructWithTypedefMembersObj.typeDefForTStruct);
+		this.typeDefForTStringKeyMap = new TStringKeyMap(tStructWithTypedefMembersObj.typeDefForTStringKeyMap);
+		this.typeDefForTEnum = tStructWithTypedefMembersObj.typeDefForTEnum;
+		this.arrayOfTypeDefForPrimitive = tStructWithTypedefMembersObj.arrayOfTypeDefForPrimitive;
+		this.arrayOfTypeDefForTStruct = tStructWithTypedefMembersObj.arrayOfTypeDefForTStruct;
+		this.arrayOfTypeDefForTStringKeyMap = tStructWithTypedefMembersObj.arrayOfTypeDefForTStringKeyMap;
+		this.arrayOfTypeDefForTEnum = tStructWithTypedefMembersObj.arrayOfTypeDefForTEnum;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param typeDefForPrimitive description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForPrimitive as Integer)
+	 * @param typeDefForTStruct description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 * @param typeDefForTStringKeyMap description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStringKeyMap as TStringKeyMap)
+	 * @param typeDefForTEnum description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTEnum as TEnum)
+	 * @param arrayOfTypeDefForPrimitive description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForPrimitive as Integer)
+	 * @param arrayOfTypeDefForTStruct description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 * @param arrayOfTypeDefForTStringKeyMap description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStringKeyMap as TStringKeyMap)
+	 * @param arrayOfTypeDefForTEnum description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTEnum as TEnum)
+	 */
+	public TStructWithTypedefMembers(
+		Integer typeDefForPrimitive,
+		TStruct typeDefForTStruct,
+		TStringKeyMap typeDefForTStringKeyMap,
+		TEnum typeDefForTEnum,
+		Integer[] arrayOfTypeDefForPrimitive,
+		TStruct[] arrayOfTypeDefForTStruct,
+		TStringKeyMap[] arrayOfTypeDefForTStringKeyMap,
+		TEnum[] arrayOfTypeDefForTEnum
+		) {
+		this.typeDefForPrimitive = typeDefForPrimitive;
+		this.typeDefForTStruct = new TStruct(typeDefForTStruct);
+		this.typeDefForTStringKeyMap = new TStringKeyMap(typeDefForTStringKeyMap);
+		this.typeDefForTEnum = typeDefForTEnum;
+		if (arrayOfTypeDefForPrimitive != null) {
+			this.arrayOfTypeDefForPrimitive = arrayOfTypeDefForPrimitive.clone();
+		}
+		if (arrayOfTypeDefForTStruct != null) {
+			this.arrayOfTypeDefForTStruct = arrayOfTypeDefForTStruct.clone();
+		}
+		if (arrayOfTypeDefForTStringKeyMap != null) {
+			this.arrayOfTypeDefForTStringKeyMap = arrayOfTypeDefForTStringKeyMap.clone();
+		}
+		if (arrayOfTypeDefForTEnum != null) {
+			this.arrayOfTypeDefForTEnum = arrayOfTypeDefForTEnum.clone();
+		}
+	}
+
+	/**
+	 * Gets TypeDefForPrimitive
+	 *
+	 * @return description missing in Franca model.
+	  (type resolved from modeled Franca typedef TypeDefForPrimitive as Integer)
+	 */
+	@JsonIgnore
+	public Integer getTypeDefForPrimitive() {
+		return typeDefForPrimitive;
+	}
+
+	/**
+	 * Sets TypeDefForPrimitive
+	 *
+	 * @param typeDefForPrimitive description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForPrimitive as Integer)
+	 */
+	@JsonIgnore
+	public void setTypeDefForPrimitive(Integer typeDefForPrimitive) {
+		if (typeDefForPrimitive == null) {
+			throw new IllegalArgumentException("setting typeDefForPrimitive to null is not allowed");
+		}
+		this.typeDefForPrimitive = typeDefForPrimitive;
+	}
+
+	/**
+	 * Gets TypeDefForTStruct
+	 *
+	 * @return description missing in Franca model.
+	  (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 */
+	@JsonIgnore
+	public TStruct getTypeDefForTStruct() {
+		return new TStruct(typeDefForTStruct);
+	}
+
+	/**
+	 * Sets TypeDefForTStruct
+	 *
+	 * @param typeDefForTStruct description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 */
+	@JsonIgnore
+	public void setTypeDefForTStruct(TStruct typeDefForTStruct) {
+		if (typeDefForTStruct == null) {
+			throw new IllegalArgumentException("setting typeDefForTStruct to null is not allowed");
+		}
+		this.typeDefForTStruct = new TStruct(typeDefForTStruct);
+	}
+
+	/**
+	 * Gets TypeDefForTStringKeyMap
+	 *
+	 * @return description missing in Franca model.
+	  (type resolved from modeled Franca typedef TypeDefForTStringKeyMap as TStringKeyMap)
+	 */
+	@JsonIgnore
+	public TStringKeyMap getTypeDefForTStringKeyMap() {
+		return new TStringKeyMap(typeDefForTStringKeyMap);
+	}
+
+	/**
+	 * Sets TypeDefForTStringKeyMap
+	 *
+	 * @param typeDefForTStringKeyMap description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStringKeyMap as TStringKeyMap)
+	 */
+	@JsonIgnore
+	public void setTypeDefForTStringKeyMap(TStringKeyMap typeDefForTStringKeyMap) {
+		if (typeDefForTStringKeyMap == null) {
+			throw new IllegalArgumentException("setting typeDefForTStringKeyMap to null is not allowed");
+		}
+		this.typeDefForTStringKeyMap = new TStringKeyMap(typeDefForTStringKeyMap);
+	}
+
+	/**
+	 * Gets TypeDefForTEnum
+	 *
+	 * @return description missing in Franca model.
+	  (type resolved from modeled Franca typedef TypeDefForTEnum as TEnum)
+	 */
+	@JsonIgnore
+	public TEnum getTypeDefForTEnum() {
+		return typeDefForTEnum;
+	}
+
+	/**
+	 * Sets TypeDefForTEnum
+	 *
+	 * @param typeDefForTEnum description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTEnum as TEnum)
+	 */
+	@JsonIgnore
+	public void setTypeDefForTEnum(TEnum typeDefForTEnum) {
+		if (typeDefForTEnum == null) {
+			throw new IllegalArgumentException("setting typeDefForTEnum to null is not allowed");
+		}
+		this.typeDefForTEnum = typeDefForTEnum;
+	}
+
+	/**
+	 * Gets ArrayOfTypeDefForPrimitive
+	 *
+	 * @return description missing in Franca model.
+	  (type resolved from modeled Franca typedef TypeDefForPrimitive as Integer)
+	 */
+	@JsonIgnore
+	public Integer[] getArrayOfTypeDefForPrimitive() {
+		if (arrayOfTypeDefForPrimitive != null) {
+			return arrayOfTypeDefForPrimitive.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets ArrayOfTypeDefForPrimitive
+	 *
+	 * @param arrayOfTypeDefForPrimitive description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForPrimitive as Integer)
+	 */
+	@JsonIgnore
+	public void setArrayOfTypeDefForPrimitive(Integer[] arrayOfTypeDefForPrimitive) {
+		if (arrayOfTypeDefForPrimitive == null) {
+			throw new IllegalArgumentException("setting arrayOfTypeDefForPrimitive to null is not allowed");
+		}
+		this.arrayOfTypeDefForPrimitive = arrayOfTypeDefForPrimitive.clone();
+	}
+
+	/**
+	 * Gets ArrayOfTypeDefForTStruct
+	 *
+	 * @return description missing in Franca model.
+	  (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 */
+	@JsonIgnore
+	public TStruct[] getArrayOfTypeDefForTStruct() {
+		if (arrayOfTypeDefForTStruct != null) {
+			return arrayOfTypeDefForTStruct.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets ArrayOfTypeDefForTStruct
+	 *
+	 * @param arrayOfTypeDefForTStruct description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 */
+	@JsonIgnore
+	public void setArrayOfTypeDefForTStruct(TStruct[] arrayOfTypeDefForTStruct) {
+		if (arrayOfTypeDefForTStruct == null) {
+			throw new IllegalArgumentException("setting arrayOfTypeDefForTStruct to null is not allowed");
+		}
+		this.arrayOfTypeDefForTStruct = arrayOfTypeDefForTStruct.clone();
+	}
+
+	/**
+	 * Gets ArrayOfTypeDefForTStringKeyMap
+	 *
+	 * @return description missing in Franca model.
+	  (type resolved from modeled Franca typedef TypeDefForTStringKeyMap as TStringKeyMap)
+	 */
+	@JsonIgnore
+	public TStringKeyMap[] getArrayOfTypeDefForTStringKeyMap() {
+		if (arrayOfTypeDefForTStringKeyMap != null) {
+			return arrayOfTypeDefForTStringKeyMap.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets ArrayOfTypeDefForTStringKeyMap
+	 *
+	 * @param arrayOfTypeDefForTStringKeyMap description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStringKeyMap as TStringKeyMap)
+	 */
+	@JsonIgnore
+	public void setArrayOfTypeDefForTStringKeyMap(TStringKeyMap[] arrayOfTypeDefForTStringKeyMap) {
+		if (arrayOfTypeDefForTStringKeyMap == null) {
+			throw new IllegalArgumentException("setting arrayOfTypeDefForTStringKeyMap to null is not allowed");
+		}
+		this.arrayOfTypeDefForTStringKeyMap = arrayOfTypeDefForTStringKeyMap.clone();
+	}
+
+	/**
+	 * Gets ArrayOfTypeDefForTEnum
+	 *
+	 * @return description missing in Franca model.
+	  (type resolved from modeled Franca typedef TypeDefForTEnum as TEnum)
+	 */
+	@JsonIgnore
+	public TEnum[] getArrayOfTypeDefForTEnum() {
+		if (arrayOfTypeDefForTEnum != null) {
+			return arrayOfTypeDefForTEnum.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets ArrayOfTypeDefForTEnum
+	 *
+	 * @param arrayOfTypeDefForTEnum description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTEnum as TEnum)
+	 */
+	@JsonIgnore
+	public void setArrayOfTypeDefForTEnum(TEnum[] arrayOfTypeDefForTEnum) {
+		if (arrayOfTypeDefForTEnum == null) {
+			throw new IllegalArgumentException("setting arrayOfTypeDefForTEnum to null is not allowed");
+		}
+		this.arrayOfTypeDefForTEnum = arrayOfTypeDefForTEnum.clone();
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "TStructWithTypedefMembers ["
+		+ "typeDefForPrimitive=" + this.typeDefForPrimitive + ", "
+		+ "typeDefForTStruct=" + this.typeDefForTStruct + ", "
+		+ "typeDefForTStringKeyMap=" + this.typeDefForTStringKeyMap + ", "
+		+ "typeDefForTEnum=" + this.typeDefForTEnum + ", "
+		+ "arrayOfTypeDefForPrimitive=" + java.util.Arrays.toString(this.arrayOfTypeDefForPrimitive) + ", "
+		+ "arrayOfTypeDefForTStruct=" + java.util.Arrays.toString(this.arrayOfTypeDefForTStruct) + ", "
+		+ "arrayOfTypeDefForTStringKeyMap=" + java.util.Arrays.toString(this.arrayOfTypeDefForTStringKeyMap) + ", "
+		+ "arrayOfTypeDefForTEnum=" + java.util.Arrays.toString(this.arrayOfTypeDefForTEnum)
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		TStructWithTypedefMembers other = (TStructWithTypedefMembers) obj;
+		if (this.typeDefForPrimitive == null) {
+			if (other.typeDefForPrimitive != null) {
+				return false;
+			}
+		} else if (!this.typeDefForPrimitive.equals(other.typeDefForPrimitive)) {
+			return false;
+		}
+		if (this.typeDefForTStruct == null) {
+			if (other.typeDefForTStruct != null) {
+				return false;
+			}
+		} else if (!this.typeDefForTStruct.equals(other.typeDefForTStruct)) {
+			return false;
+		}
+		if (this.typeDefForTStringKeyMap == null) {
+			if (other.typeDefForTStringKeyMap != null) {
+				return false;
+			}
+		} else if (!this.typeDefForTStringKeyMap.equals(other.typeDefForTStringKeyMap)) {
+			return false;
+		}
+		if (this.typeDefForTEnum == null) {
+			if (other.typeDefForTEnum != null) {
+				return false;
+			}
+		} else if (!this.typeDefForTEnum.equals(other.typeDefForTEnum)) {
+			return false;
+		}
+		if (this.arrayOfTypeDefForPrimitive == null) {
+			if (other.arrayOfTypeDefForPrimitive != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.arrayOfTypeDefForPrimitive, other.arrayOfTypeDefForPrimitive)) {
+			return false;
+		}
+		if (this.arrayOfTypeDefForTStruct == null) {
+			if (other.arrayOfTypeDefForTStruct != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.arrayOfTypeDefForTStruct, other.arrayOfTypeDefForTStruct)) {
+			return false;
+		}
+		if (this.arrayOfTypeDefForTStringKeyMap == null) {
+			if (other.arrayOfTypeDefForTStringKeyMap != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.arrayOfTypeDefForTStringKeyMap, other.arrayOfTypeDefForTStringKeyMap)) {
+			return false;
+		}
+		if (this.arrayOfTypeDefForTEnum == null) {
+			if (other.arrayOfTypeDefForTEnum != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.arrayOfTypeDefForTEnum, other.arrayOfTypeDefForTEnum)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.typeDefForPrimitive == null) ? 0 : this.typeDefForPrimitive.hashCode());
+		result = prime * result + ((this.typeDefForTStruct == null) ? 0 : this.typeDefForTStruct.hashCode());
+		result = prime * result + ((this.typeDefForTStringKeyMap == null) ? 0 : this.typeDefForTStringKeyMap.hashCode());
+		result = prime * result + ((this.typeDefForTEnum == null) ? 0 : this.typeDefForTEnum.hashCode());
+		result = prime * result + ((this.arrayOfTypeDefForPrimitive == null) ? 0 : java.util.Arrays.hashCode(this.arrayOfTypeDefForPrimitive));
+		result = prime * result + ((this.arrayOfTypeDefForTStruct == null) ? 0 : java.util.Arrays.hashCode(this.arrayOfTypeDefForTStruct));
+		result = prime * result + ((this.arrayOfTypeDefForTStringKeyMap == null) ? 0 : java.util.Arrays.hashCode(this.arrayOfTypeDefForTStringKeyMap));
+		result = prime * result + ((this.arrayOfTypeDefForTEnum == null) ? 0 : java.util.Arrays.hashCode(this.arrayOfTypeDefForTEnum));
+		return result;
+	}
+}
+
+	
@@ -0,0 +1,157 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.TestTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.TestTypes.Vowel;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class Word implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 49;
+	public static final int MINOR_VERSION = 13;
+	@JsonProperty("vowels")
+	private Vowel[] vowels = { };
+
+	/**
+	 * Default Constructor
+	 */
+	public Word() {
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param wordObj reference to the object to be copied
+	 */
+	public Word(Word wordObj) {
+		this.vowels = wordObj.vowels;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param vowels description missing in Franca model.
+	 */
+	public Word(
+		Vowel[] vowels
+		) {
+		if (vowels != null) {
+			this.vowels = vowels.clone();
+		}
+	}
+
+	/**
+	 * Gets Vowels
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Vowel[] getVowels() {
+		if (vowels != null) {
+			return vowels.clone();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets Vowels
+	 *
+	 * @param vowels description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setVowels(Vowel[] vowels) {
+		if (vowels == null) {
+			throw new IllegalArgumentException("setting vowels to null is not allowed");
+		}
+		this.vowels = vowels.clone();
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "Word ["
+		+ "vowels=" + java.util.Arrays.toString(this.vowels)
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		Word other = (Word) obj;
+		if (this.vowels == null) {
+			if (other.vowels != null) {
+				return false;
+			}
+		} else if (!java.util.Arrays.deepEquals(this.vowels, other.vowels)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.vowels == null) ? 0 : java.util.Arrays.hashCode(this.vowels));
+		return result;
+	}
+}
+
+	
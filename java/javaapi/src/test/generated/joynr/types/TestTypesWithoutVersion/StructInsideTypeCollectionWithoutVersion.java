@@ -0,0 +1,229 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.TestTypesWithoutVersion;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class StructInsideTypeCollectionWithoutVersion implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 0;
+	public static final int MINOR_VERSION = 0;
+	@JsonProperty("tDouble")
+	private Double tDouble;
+	@JsonProperty("tInt64")
+	private Long tInt64;
+	@JsonProperty("tString")
+	private String tString;
+
+	/**
+	 * Default Constructor
+	 */
+	public StructInsideTypeCollectionWithoutVersion() {
+		this.tDouble = 0d;
+		this.tInt64 = 0L;
+		this.tString = "";
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param structInsideTypeCollectionWithoutVersionObj reference to the object to be copied
+	 */
+	public StructInsideTypeCollectionWithoutVersion(StructInsideTypeCollectionWithoutVersion structInsideTypeCollectionWithoutVersionObj) {
+		this.tDouble = structInsideTypeCollectionWithoutVersionObj.tDouble;
+		this.tInt64 = structInsideTypeCollectionWithoutVersionObj.tInt64;
+		this.tString = structInsideTypeCollectionWithoutVersionObj.tString;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param tDouble description missing in Franca model.
+	 * @param tInt64 description missing in Franca model.
+	 * @param tString description missing in Franca model.
+	 */
+	public StructInsideTypeCollectionWithoutVersion(
+		Double tDouble,
+		Long tInt64,
+		String tString
+		) {
+		this.tDouble = tDouble;
+		this.tInt64 = tInt64;
+		this.tString = tString;
+	}
+
+	/**
+	 * Gets TDouble
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Double getTDouble() {
+		return tDouble;
+	}
+
+	/**
+	 * Sets TDouble
+	 *
+	 * @param tDouble description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTDouble(Double tDouble) {
+		if (tDouble == null) {
+			throw new IllegalArgumentException("setting tDouble to null is not allowed");
+		}
+		this.tDouble = tDouble;
+	}
+
+	/**
+	 * Gets TInt64
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Long getTInt64() {
+		return tInt64;
+	}
+
+	/**
+	 * Sets TInt64
+	 *
+	 * @param tInt64 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTInt64(Long tInt64) {
+		if (tInt64 == null) {
+			throw new IllegalArgumentException("setting tInt64 to null is not allowed");
+		}
+		this.tInt64 = tInt64;
+	}
+
+	/**
+	 * Gets TString
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getTString() {
+		return tString;
+	}
+
+	/**
+	 * Sets TString
+	 *
+	 * @param tString description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTString(String tString) {
+		if (tString == null) {
+			throw new IllegalArgumentException("setting tString to null is not allowed");
+		}
+		this.tString = tString;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "StructInsideTypeCollectionWithoutVersion ["
+		+ "tDouble=" + this.tDouble + ", "
+		+ "tInt64=" + this.tInt64 + ", "
+		+ "tString=" + this.tString
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		StructInsideTypeCollectionWithoutVersion other = (StructInsideTypeCollectionWithoutVersion) obj;
+		if (this.tDouble == null) {
+			if (other.tDouble != null) {
+				return false;
+			}
+		} else if (!this.tDouble.equals(other.tDouble)) {
+			return false;
+		}
+		if (this.tInt64 == null) {
+			if (other.tInt64 != null) {
+				return false;
+			}
+		} else if (!this.tInt64.equals(other.tInt64)) {
+			return false;
+		}
+		if (this.tString == null) {
+			if (other.tString != null) {
+				return false;
+			}
+		} else if (!this.tString.equals(other.tString)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		final int prime = 31;
+		result = prime * result + ((this.tDouble == null) ? 0 : this.tDouble.hashCode());
+		result = prime * result + ((this.tInt64 == null) ? 0 : this.tInt64.hashCode());
+		result = prime * result + ((this.tString == null) ? 0 : this.tString.hashCode());
+		return result;
+	}
+}
+
+	
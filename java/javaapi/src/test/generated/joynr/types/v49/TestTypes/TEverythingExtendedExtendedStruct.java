@@ -0,0 +1,232 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.v49.TestTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.v49.TestTypes.TEnum;
+import joynr.types.v49.TestTypes.TEverythingExtendedStruct;
+import joynr.types.v49.TestTypes.TStringKeyMap;
+import joynr.types.v49.TestTypes.TStruct;
+import joynr.types.v49.TestTypes.Word;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class TEverythingExtendedExtendedStruct extends TEverythingExtendedStruct implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 49;
+	public static final int MINOR_VERSION = 13;
+	@JsonProperty("tStringExtendedExtended")
+	private String tStringExtendedExtended;
+
+	/**
+	 * Default Constructor
+	 */
+	public TEverythingExtendedExtendedStruct() {
+		this.tStringExtendedExtended = "";
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param tEverythingExtendedExtendedStructObj reference to the object to be copied
+	 */
+	public TEverythingExtendedExtendedStruct(TEverythingExtendedExtendedStruct tEverythingExtendedExtendedStructObj) {
+		super(tEverythingExtendedExtendedStructObj);
+		this.tStringExtendedExtended = tEverythingExtendedExtendedStructObj.tStringExtendedExtended;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param tInt8 description missing in Franca model.
+	 * @param tUInt8 description missing in Franca model.
+	 * @param tInt16 description missing in Franca model.
+	 * @param tUInt16 description missing in Franca model.
+	 * @param tInt32 description missing in Franca model.
+	 * @param tUInt32 description missing in Franca model.
+	 * @param tInt64 description missing in Franca model.
+	 * @param tUInt64 description missing in Franca model.
+	 * @param tDouble description missing in Franca model.
+	 * @param tFloat description missing in Franca model.
+	 * @param tString description missing in Franca model.
+	 * @param tBoolean description missing in Franca model.
+	 * @param tByteBuffer description missing in Franca model.
+	 * @param tUInt8Array description missing in Franca model.
+	 * @param tEnum description missing in Franca model.
+	 * @param tEnumArray description missing in Franca model.
+	 * @param tStringArray description missing in Franca model.
+	 * @param word description missing in Franca model.
+	 * @param wordArray description missing in Franca model.
+	 * @param stringMap description missing in Franca model.
+	 * @param typeDefForTStruct description missing in Franca model.
+	 * (type resolved from modeled Franca typedef TypeDefForTStruct as TStruct)
+	 * @param tBooleanExtended description missing in Franca model.
+	 * @param tStringExtended description missing in Franca model.
+	 * @param tStringExtendedExtended description missing in Franca model.
+	 */
+	public TEverythingExtendedExtendedStruct(
+		Byte tInt8,
+		Byte tUInt8,
+		Short tInt16,
+		Short tUInt16,
+		Integer tInt32,
+		Integer tUInt32,
+		Long tInt64,
+		Long tUInt64,
+		Double tDouble,
+		Float tFloat,
+		String tString,
+		Boolean tBoolean,
+		Byte[] tByteBuffer,
+		Byte[] tUInt8Array,
+		TEnum tEnum,
+		TEnum[] tEnumArray,
+		String[] tStringArray,
+		Word word,
+		Word[] wordArray,
+		TStringKeyMap stringMap,
+		TStruct typeDefForTStruct,
+		Boolean tBooleanExtended,
+		String tStringExtended,
+		String tStringExtendedExtended
+		) {
+		super(
+				tInt8,
+				tUInt8,
+				tInt16,
+				tUInt16,
+				tInt32,
+				tUInt32,
+				tInt64,
+				tUInt64,
+				tDouble,
+				tFloat,
+				tString,
+				tBoolean,
+				tByteBuffer,
+				tUInt8Array,
+				tEnum,
+				tEnumArray,
+				tStringArray,
+				word,
+				wordArray,
+				stringMap,
+				typeDefForTStruct,
+				tBooleanExtended,
+				tStringExtended
+		);
+		this.tStringExtendedExtended = tStringExtendedExtended;
+	}
+
+	/**
+	 * Gets TStringExtendedExtended
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public String getTStringExtendedExtended() {
+		return tStringExtendedExtended;
+	}
+
+	/**
+	 * Sets TStringExtendedExtended
+	 *
+	 * @param tStringExtendedExtended description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTStringExtendedExtended(String tStringExtendedExtended) {
+		if (tStringExtendedExtended == null) {
+			throw new IllegalArgumentException("setting tStringExtendedExtended to null is not allowed");
+		}
+		this.tStringExtendedExtended = tStringExtendedExtended;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "TEverythingExtendedExtendedStruct ["
+		+ super.toString() + ", "
+		+ "tStringExtendedExtended=" + this.tStringExtendedExtended
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		if (!super.equals(obj))
+			return false;
+		TEverythingExtendedExtendedStruct other = (TEverythingExtendedExtendedStruct) obj;
+		if (this.tStringExtendedExtended == null) {
+			if (other.tStringExtendedExtended != null) {
+				return false;
+			}
+		} else if (!this.tStringExtendedExtended.equals(other.tStringExtendedExtended)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = super.hashCode();
+		final int prime = 31;
+		result = prime * result + ((this.tStringExtendedExtended == null) ? 0 : this.tStringExtendedExtended.hashCode());
+		return result;
+	}
+}
+
+	
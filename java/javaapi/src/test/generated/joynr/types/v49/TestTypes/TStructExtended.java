@@ -0,0 +1,207 @@
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+
+package joynr.types.v49.TestTypes;
+import java.io.Serializable;
+
+import io.joynr.subtypes.JoynrType;
+
+import joynr.types.v49.TestTypes.TEnum;
+import joynr.types.v49.TestTypes.TStruct;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// NOTE: serialVersionUID is not defined since we don't support Franca versions right now.
+//       The compiler will generate a serialVersionUID based on the class and its members
+//       (cf. http://docs.oracle.com/javase/6/docs/platform/serialization/spec/class.html#4100),
+//       which is probably more restrictive than what we want.
+
+/**
+ */
+@SuppressWarnings("serial")
+public class TStructExtended extends TStruct implements Serializable, JoynrType {
+	public static final int MAJOR_VERSION = 49;
+	public static final int MINOR_VERSION = 13;
+	@JsonProperty("tEnum")
+	private TEnum tEnum;
+	@JsonProperty("tInt32")
+	private Integer tInt32;
+
+	/**
+	 * Default Constructor
+	 */
+	public TStructExtended() {
+		this.tEnum = TEnum.TLITERALA;
+		this.tInt32 = 0;
+	}
+
+	/**
+	 * Copy constructor
+	 *
+	 * @param tStructExtendedObj reference to the object to be copied
+	 */
+	public TStructExtended(TStructExtended tStructExtendedObj) {
+		super(tStructExtendedObj);
+		this.tEnum = tStructExtendedObj.tEnum;
+		this.tInt32 = tStructExtendedObj.tInt32;
+	}
+
+	/**
+	 * Parameterized constructor
+	 *
+	 * @param tDouble description missing in Franca model.
+	 * @param tInt64 description missing in Franca model.
+	 * @param tString description missing in Franca model.
+	 * @param tEnum description missing in Franca model.
+	 * @param tInt32 description missing in Franca model.
+	 */
+	public TStructExtended(
+		Double tDouble,
+		Long tInt64,
+		String tString,
+		TEnum tEnum,
+		Integer tInt32
+		) {
+		super(
+				tDouble,
+				tInt64,
+				tString
+		);
+		this.tEnum = tEnum;
+		this.tInt32 = tInt32;
+	}
+
+	/**
+	 * Gets TEnum
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public TEnum getTEnum() {
+		return tEnum;
+	}
+
+	/**
+	 * Sets TEnum
+	 *
+	 * @param tEnum description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTEnum(TEnum tEnum) {
+		if (tEnum == null) {
+			throw new IllegalArgumentException("setting tEnum to null is not allowed");
+		}
+		this.tEnum = tEnum;
+	}
+
+	/**
+	 * Gets TInt32
+	 *
+	 * @return description missing in Franca model.
+	 */
+	@JsonIgnore
+	public Integer getTInt32() {
+		return tInt32;
+	}
+
+	/**
+	 * Sets TInt32
+	 *
+	 * @param tInt32 description missing in Franca model.
+	 */
+	@JsonIgnore
+	public void setTInt32(Integer tInt32) {
+		if (tInt32 == null) {
+			throw new IllegalArgumentException("setting tInt32 to null is not allowed");
+		}
+		this.tInt32 = tInt32;
+	}
+
+
+	/**
+	 * Stringifies the class
+	 *
+	 * @return stringified class content
+	 */
+	@Override
+	public String toString() {
+		return "TStructExtended ["
+		+ super.toString() + ", "
+		+ "tEnum=" + this.tEnum + ", "
+		+ "tInt32=" + this.tInt32
+		+ "]";
+	}
+
+	/**
+	 * Check for equality
+	 *
+	 * @param obj Reference to the object to compare to
+	 * @return true, if objects are equal, false otherwise
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		if (!super.equals(obj))
+			return false;
+		TStructExtended other = (TStructExtended) obj;
+		if (this.tEnum == null) {
+			if (other.tEnum != null) {
+				return false;
+			}
+		} else if (!this.tEnum.equals(other.tEnum)) {
+			return false;
+		}
+		if (this.tInt32 == null) {
+			if (other.tInt32 != null) {
+				return false;
+			}
+		} else if (!this.tInt32.equals(other.tInt32)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate code for hashing based on member contents
+	 *
+	 * @return The calculated hash code
+	 */
+	@Override
+	public int hashCode() {
+		int result = super.hashCode();
+		final int prime = 31;
+		result = prime * result + ((this.tEnum == null) ? 0 : this.tEnum.hashCode());
+		result = prime * result + ((this.tInt32 == null) ? 0 : this.tInt32.hashCode());
+		return result;
+	}
+}
+
+	
@@ -0,0 +1,73 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.provider.Promise;
+import io.joynr.provider.Deferred;
+
+import joynr.types.Localisation.GpsPosition;
+import joynr.types.Localisation.GpsPositionExtended;
+import joynr.types.Localisation.PositionDetailedInfo;
+
+public class DefaultLocalisationProvider extends LocalisationAbstractProvider {
+	private static final Logger logger = LoggerFactory.getLogger(DefaultLocalisationProvider.class);
+
+	protected GpsPosition gPSPosition;
+	protected GpsPositionExtended gPSExtendedInfo;
+	protected PositionDetailedInfo currentPositionDetailedInfo;
+
+	public DefaultLocalisationProvider() {
+	}
+
+
+	@Override
+	public Promise<Deferred<GpsPosition>> getGPSPosition() {
+		Deferred<GpsPosition> deferred = new Deferred<>();
+		deferred.resolve(gPSPosition);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<GpsPositionExtended>> getGPSExtendedInfo() {
+		Deferred<GpsPositionExtended> deferred = new Deferred<>();
+		deferred.resolve(gPSExtendedInfo);
+		return new Promise<>(deferred);
+	}
+
+
+	@Override
+	public Promise<Deferred<PositionDetailedInfo>> getCurrentPositionDetailedInfo() {
+		Deferred<PositionDetailedInfo> deferred = new Deferred<>();
+		deferred.resolve(currentPositionDetailedInfo);
+		return new Promise<>(deferred);
+	}
+
+
+}
@@ -0,0 +1,76 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.vehicle;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+import joynr.types.Localisation.GpsLocation;
+
+@UsedBy(GpsProxy.class)
+public interface GpsStatelessAsyncCallback extends StatelessAsyncCallback {
+
+	/*
+	* location getter
+	*/
+	@StatelessCallbackCorrelation("-316023509")
+	default void getLocationSuccess(GpsLocation location, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getLocationSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("-316023509")
+	default void getLocationFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getLocationFailed not implemented for callback instance"); }
+
+	/*
+	* restartWithRetries
+	*/
+	@StatelessCallbackCorrelation("-2100002799")
+	default void restartWithRetriesSuccess(
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("restartWithRetriesSuccess not implemented for callback instance"); }
+	default void restartWithRetriesFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("restartWithRetriesFailed with exception not implemented for callback instance"); }
+
+	/*
+	* calculateAvailableSatellites
+	*/
+	@StatelessCallbackCorrelation("1073207590")
+	default void calculateAvailableSatellitesSuccess(
+			Integer result,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("calculateAvailableSatellitesSuccess not implemented for callback instance"); }
+	default void calculateAvailableSatellitesFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("calculateAvailableSatellitesFailed with exception not implemented for callback instance"); }
+}
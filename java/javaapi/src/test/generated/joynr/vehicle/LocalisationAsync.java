@@ -0,0 +1,61 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import io.joynr.messaging.MessagingQos;
+import io.joynr.proxy.Callback;
+import io.joynr.proxy.Future;
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcCallback;
+import io.joynr.Async;
+import io.joynr.ProvidedBy;
+import io.joynr.UsedBy;
+
+import joynr.types.Localisation.GpsPosition;
+import joynr.types.Localisation.GpsPositionExtended;
+import joynr.types.Localisation.PositionDetailedInfo;
+
+
+@Async
+@ProvidedBy(LocalisationProvider.class)
+@UsedBy(LocalisationProxy.class)
+public interface LocalisationAsync extends Localisation {
+
+	public Future<GpsPosition> getGPSPosition(@JoynrRpcCallback(deserializationType = GpsPosition.class) Callback<GpsPosition> callback);
+	default public Future<GpsPosition> getGPSPosition(@JoynrRpcCallback(deserializationType = GpsPosition.class) Callback<GpsPosition> callback, MessagingQos messagingQos) {
+		return getGPSPosition(callback);
+	}
+	public Future<GpsPositionExtended> getGPSExtendedInfo(@JoynrRpcCallback(deserializationType = GpsPositionExtended.class) Callback<GpsPositionExtended> callback);
+	default public Future<GpsPositionExtended> getGPSExtendedInfo(@JoynrRpcCallback(deserializationType = GpsPositionExtended.class) Callback<GpsPositionExtended> callback, MessagingQos messagingQos) {
+		return getGPSExtendedInfo(callback);
+	}
+	public Future<PositionDetailedInfo> getCurrentPositionDetailedInfo(@JoynrRpcCallback(deserializationType = PositionDetailedInfo.class) Callback<PositionDetailedInfo> callback);
+	default public Future<PositionDetailedInfo> getCurrentPositionDetailedInfo(@JoynrRpcCallback(deserializationType = PositionDetailedInfo.class) Callback<PositionDetailedInfo> callback, MessagingQos messagingQos) {
+		return getCurrentPositionDetailedInfo(callback);
+	}
+
+
+
+}
@@ -0,0 +1,60 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.vehicle;
+
+import io.joynr.StatelessAsync;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.proxy.MessageIdCallback;
+import io.joynr.UsedBy;
+
+import joynr.types.Localisation.GpsPosition;
+import joynr.types.Localisation.GpsPositionExtended;
+import joynr.types.Localisation.PositionDetailedInfo;
+
+@StatelessAsync
+@UsedBy(LocalisationProxy.class)
+public interface LocalisationStatelessAsync extends Localisation {
+
+	/*
+	* gPSPosition getter
+	*/
+	@StatelessCallbackCorrelation("1533707965")
+	void getGPSPosition(MessageIdCallback messageIdCallback);
+
+	/*
+	* gPSExtendedInfo getter
+	*/
+	@StatelessCallbackCorrelation("41813275")
+	void getGPSExtendedInfo(MessageIdCallback messageIdCallback);
+
+	/*
+	* currentPositionDetailedInfo getter
+	*/
+	@StatelessCallbackCorrelation("505068330")
+	void getCurrentPositionDetailedInfo(MessageIdCallback messageIdCallback);
+
+}
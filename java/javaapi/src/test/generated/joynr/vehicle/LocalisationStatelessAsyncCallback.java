@@ -0,0 +1,78 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+package joynr.vehicle;
+
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.proxy.ReplyContext;
+import io.joynr.proxy.StatelessAsyncCallback;
+import io.joynr.dispatcher.rpc.annotation.StatelessCallbackCorrelation;
+import io.joynr.UsedBy;
+
+import joynr.types.Localisation.GpsPosition;
+import joynr.types.Localisation.GpsPositionExtended;
+import joynr.types.Localisation.PositionDetailedInfo;
+
+@UsedBy(LocalisationProxy.class)
+public interface LocalisationStatelessAsyncCallback extends StatelessAsyncCallback {
+
+	/*
+	* gPSPosition getter
+	*/
+	@StatelessCallbackCorrelation("1533707965")
+	default void getGPSPositionSuccess(GpsPosition gPSPosition, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getGPSPositionSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("1533707965")
+	default void getGPSPositionFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getGPSPositionFailed not implemented for callback instance"); }
+
+	/*
+	* gPSExtendedInfo getter
+	*/
+	@StatelessCallbackCorrelation("41813275")
+	default void getGPSExtendedInfoSuccess(GpsPositionExtended gPSExtendedInfo, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getGPSExtendedInfoSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("41813275")
+	default void getGPSExtendedInfoFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getGPSExtendedInfoFailed not implemented for callback instance"); }
+
+	/*
+	* currentPositionDetailedInfo getter
+	*/
+	@StatelessCallbackCorrelation("505068330")
+	default void getCurrentPositionDetailedInfoSuccess(PositionDetailedInfo currentPositionDetailedInfo, ReplyContext replyContext)
+	{ throw new UnsupportedOperationException("getCurrentPositionDetailedInfoSuccess not implemented for callback instance"); }
+	@StatelessCallbackCorrelation("505068330")
+	default void getCurrentPositionDetailedInfoFailed(
+			JoynrRuntimeException runtimeException,
+			ReplyContext replyContext
+	) { throw new UnsupportedOperationException("getCurrentPositionDetailedInfoFailed not implemented for callback instance"); }
+
+}
@@ -0,0 +1,65 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+package joynr.vehicle;
+
+import io.joynr.dispatcher.rpc.JoynrSubscriptionInterface;
+
+import io.joynr.dispatcher.rpc.annotation.JoynrRpcSubscription;
+import io.joynr.proxy.Future;
+import io.joynr.pubsub.subscription.AttributeSubscriptionListener;
+import io.joynr.pubsub.SubscriptionQos;
+
+import joynr.types.Localisation.GpsPosition;
+import joynr.types.Localisation.GpsPositionExtended;
+import joynr.types.Localisation.PositionDetailedInfo;
+
+public interface LocalisationSubscriptionInterface extends JoynrSubscriptionInterface, Localisation {
+
+
+	@JoynrRpcSubscription(attributeName = "gPSPosition", attributeType = GpsPosition.class)
+	public Future<String> subscribeToGPSPosition(AttributeSubscriptionListener<GpsPosition> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "gPSPosition", attributeType = GpsPosition.class)
+	public Future<String> subscribeToGPSPosition(String subscriptionId, AttributeSubscriptionListener<GpsPosition> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromGPSPosition(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "gPSExtendedInfo", attributeType = GpsPositionExtended.class)
+	public Future<String> subscribeToGPSExtendedInfo(AttributeSubscriptionListener<GpsPositionExtended> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "gPSExtendedInfo", attributeType = GpsPositionExtended.class)
+	public Future<String> subscribeToGPSExtendedInfo(String subscriptionId, AttributeSubscriptionListener<GpsPositionExtended> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromGPSExtendedInfo(String subscriptionId);
+
+	@JoynrRpcSubscription(attributeName = "currentPositionDetailedInfo", attributeType = PositionDetailedInfo.class)
+	public Future<String> subscribeToCurrentPositionDetailedInfo(AttributeSubscriptionListener<PositionDetailedInfo> listener, SubscriptionQos subscriptionQos);
+
+	@JoynrRpcSubscription(attributeName = "currentPositionDetailedInfo", attributeType = PositionDetailedInfo.class)
+	public Future<String> subscribeToCurrentPositionDetailedInfo(String subscriptionId, AttributeSubscriptionListener<PositionDetailedInfo> listener, SubscriptionQos subscriptionQos);
+
+	public void unsubscribeFromCurrentPositionDetailedInfo(String subscriptionId);
+}
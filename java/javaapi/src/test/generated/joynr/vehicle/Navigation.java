@@ -0,0 +1,149 @@
+
+		/*
+		 *
+		 * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+		 *
+		 * Licensed under the Apache License, Version 2.0 (the "License");
+		 * you may not use this file except in compliance with the License.
+		 * You may obtain a copy of the License at
+		 *
+		 *      http://www.apache.org/licenses/LICENSE-2.0
+		 *
+		 * Unless required by applicable law or agreed to in writing, software
+		 * distributed under the License is distributed on an "AS IS" BASIS,
+		 * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+		 * See the License for the specific language governing permissions and
+		 * limitations under the License.
+		 */
+		
+		// #####################################################
+		//#######################################################
+		//###                                                 ###
+		//##    WARNING: This file is generated. DO NOT EDIT   ##
+		//##             All changes will be lost!             ##
+		//###                                                 ###
+		//#######################################################
+		// #####################################################
+package joynr.vehicle;
+
+import java.util.List;
+import java.util.Set;
+import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import io.joynr.subtypes.JoynrType;
+import io.joynr.JoynrVersion;
+import joynr.types.Localisation.GpsLocation;
+import joynr.types.Localisation.Trip;
+
+//The current generator is not able to check wether some of the imports are acutally necessary for this specific interface.
+//Therefore some imports migth be unused in this version of the interface.
+//To prevent warnings @SuppressWarnings("unused") is being used.
+//To prevent warnings about an unnecessary SuppressWarnings we have to import something that is not used. (e.g. TreeSet)
+import java.util.TreeSet;
+@SuppressWarnings("unused")
+@JoynrVersion(major = 0, minor = 1)
+public interface Navigation {
+	public static String INTERFACE_NAME = "vehicle/Navigation";
+
+
+	public static Set<Class<?>> getDataTypes() {
+		Set<Class<?>> set = new HashSet<>();
+		if (JoynrType.class.isAssignableFrom(joynr.types.Localisation.GpsLocation.class)) {
+			set.add(joynr.types.Localisation.GpsLocation.class);
+		}
+		if (JoynrType.class.isAssignableFrom(joynr.types.Localisation.Trip.class)) {
+			set.add(joynr.types.Localisation.Trip.class);
+		}
+		return set;
+	}
+
+	/**
+	 */
+	public enum UpdateTripErrorEnum {
+		/**
+		 * description missing in Franca model.
+		 */
+		UNKNOWN_TRIP
+		;
+	
+		public static final int MAJOR_VERSION = 0;
+		public static final int MINOR_VERSION = 0;
+		static final Map<Integer, UpdateTripErrorEnum> ordinalToEnumValues = new HashMap<>();
+	
+		static {
+			ordinalToEnumValues.put(0, UNKNOWN_TRIP);
+		}
+	
+		/**
+		 * Get the matching enum for an ordinal number
+		 * @param ordinal The ordinal number
+		 * @return The matching enum for the given ordinal number
+		 */
+		public static UpdateTripErrorEnum getEnumValue(Integer ordinal) {
+			return ordinalToEnumValues.get(ordinal);
+		}
+	
+		/**
+		 * Get the matching ordinal number for this enum
+		 * @return The ordinal number representing this enum
+		 */
+		public Integer getOrdinal() {
+			// TODO should we use a bidirectional map from a third-party library?
+			Integer ordinal = null;
+			for (Entry<Integer, UpdateTripErrorEnum> entry : ordinalToEnumValues.entrySet()) {
+				if (this == entry.getValue()) {
+					ordinal = entry.getKey();
+					break;
+				}
+			}
+			return ordinal;
+		}
+	}
+
+	/**
+	 */
+	public enum DeleteTrip2ErrorEnum {
+		/**
+		 * description missing in Franca model.
+		 */
+		UNKNOWN_TRIP
+		;
+	
+		public static final int MAJOR_VERSION = 0;
+		public static final int MINOR_VERSION = 0;
+		static final Map<Integer, DeleteTrip2ErrorEnum> ordinalToEnumValues = new HashMap<>();
+	
+		static {
+			ordinalToEnumValues.put(0, UNKNOWN_TRIP);
+		}
+	
+		/**
+		 * Get the matching enum for an ordinal number
+		 * @param ordinal The ordinal number
+		 * @return The matching enum for the given ordinal number
+		 */
+		public static DeleteTrip2ErrorEnum getEnumValue(Integer ordinal) {
+			return ordinalToEnumValues.get(ordinal);
+		}
+	
+		/**
+		 * Get the matching ordinal number for this enum
+		 * @return The ordinal number representing this enum
+		 */
+		public Integer getOrdinal() {
+			// TODO should we use a bidirectional map from a third-party library?
+			Integer ordinal = null;
+			for (Entry<Integer, DeleteTrip2ErrorEnum> entry : ordinalToEnumValues.entrySet()) {
+				if (this == entry.getValue()) {
+					ordinal = entry.getKey();
+					break;
+				}
+			}
+			return ordinal;
+		}
+	}
+
+}
+
@@ -18,12 +18,17 @@
  */
 package io.joynr.util;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.stream.IntStream;
 
 import org.junit.Test;
 
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+
 public class JoynrUtilTest {
 
     @Test
@@ -37,4 +42,48 @@ public class JoynrUtilTest {
         }
     }
 
+    @Test
+    public void testUniqueIdDoesNotContainSpecialMqttCharacters() {
+        String[] specialMqttCharacters = { "/", "+", "$", "#" };
+
+        for (String special : specialMqttCharacters) {
+            assertTrue(IntStream.range(0, 100000)
+                                .mapToObj(i -> JoynrUtil.createUniqueId())
+                                .noneMatch(uniqueId -> uniqueId.contains(special)));
+        }
+    }
+
+    @Test
+    public void testUniqueIdGeneratorCanBeReplacedByStaticInjection() {
+        UniqueIdGenerator defaultGenerator = new PrefixedCounterIdGenerator();
+        try {
+            Guice.createInjector(new AbstractModule() {
+                @Override
+                protected void configure() {
+                    bind(UniqueIdGenerator.class).toInstance(() -> "customId");
+                    requestStaticInjection(JoynrUtil.class);
+                }
+            });
+            assertEquals("customId", JoynrUtil.createUniqueId());
+        } finally {
+            Guice.createInjector(new AbstractModule() {
+                @Override
+                protected void configure() {
+                    bind(UniqueIdGenerator.class).toInstance(defaultGenerator);
+                    requestStaticInjection(JoynrUtil.class);
+                }
+            });
+        }
+    }
+
+    @Test
+    public void testDefaultUniqueIdGeneratorIsKeptWithoutBinding() {
+        Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                requestStaticInjection(JoynrUtil.class);
+            }
+        });
+        assertNotEquals(JoynrUtil.createUniqueId(), JoynrUtil.createUniqueId());
+    }
 }
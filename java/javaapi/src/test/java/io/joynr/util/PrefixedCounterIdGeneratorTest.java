@@ -0,0 +1,82 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class PrefixedCounterIdGeneratorTest {
+
+    private static final int PREFIX_LENGTH = 16;
+
+    @Test
+    public void idsOfOneGeneratorShareThePrefix() {
+        PrefixedCounterIdGenerator generator = new PrefixedCounterIdGenerator();
+        String first = generator.createUniqueId();
+        String second = generator.createUniqueId();
+
+        assertNotEquals(first, second);
+        assertEquals(first.substring(0, PREFIX_LENGTH), second.substring(0, PREFIX_LENGTH));
+    }
+
+    @Test
+    public void idsOfDifferentGeneratorsDiffer() {
+        String first = new PrefixedCounterIdGenerator(new Random(1)).createUniqueId();
+        String second = new PrefixedCounterIdGenerator(new Random(2)).createUniqueId();
+
+        assertNotEquals(first.substring(0, PREFIX_LENGTH), second.substring(0, PREFIX_LENGTH));
+    }
+
+    @Test
+    public void idsAreUniqueAcrossThreads() throws Exception {
+        final int numberOfThreads = 8;
+        // more than one counter block per thread
+        final int idsPerThread = 5000;
+        PrefixedCounterIdGenerator generator = new PrefixedCounterIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < numberOfThreads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < idsPerThread; i++) {
+                    assertTrue(ids.add(generator.createUniqueId()));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(numberOfThreads * idsPerThread, ids.size());
+    }
+}
@@ -102,6 +102,9 @@ public class JeeIntegrationBeanTest {
         assertEquals(scheduledExecutorService,
                      joynrInjector.getInstance(Key.get(ScheduledExecutorService.class,
                                                        Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP))));
+        assertEquals(scheduledExecutorService,
+                     joynrInjector.getInstance(Key.get(ScheduledExecutorService.class,
+                                                       Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS))));
         assertEquals(scheduledExecutorService,
                      joynrInjector.getInstance(Key.get(ScheduledExecutorService.class,
                                                        Names.named(MessageRouter.SCHEDULEDTHREADPOOL))));
@@ -20,6 +20,7 @@ package io.joynr.jeeintegration;
 
 import static com.google.inject.util.Modules.override;
 import static java.lang.String.format;
+import static io.joynr.messaging.ConfigurableMessagingSettings.PROPERTY_ROUTING_PRIORITY_WORKERS;
 import static io.joynr.messaging.mqtt.MqttModule.PROPERTY_KEY_MQTT_ENABLE_SHARED_SUBSCRIPTIONS;
 import static io.joynr.runtime.ClusterControllerRuntimeModule.PROPERTY_ACCESSCONTROL_ENABLE;
 
@@ -285,6 +286,11 @@ public class DefaultJoynrRuntimeFactory implements JoynrRuntimeFactory {
             logger.info("Shared Subscriptions Option is specified in properties: {}.",
                         defaultJoynrProperties.getProperty(PROPERTY_KEY_MQTT_ENABLE_SHARED_SUBSCRIPTIONS));
         }
+        if (!defaultJoynrProperties.containsKey(PROPERTY_ROUTING_PRIORITY_WORKERS)) {
+            // priority workers would run on unmanaged threads
+            logger.info("Routing priority workers are disabled.");
+            defaultJoynrProperties.setProperty(PROPERTY_ROUTING_PRIORITY_WORKERS, "0");
+        }
 
         return defaultJoynrProperties;
     }
@@ -69,6 +69,8 @@ public class JeeJoynrIntegrationModule extends AbstractModule {
                                             .toInstance(scheduledExecutorService);
         bind(ScheduledExecutorService.class).annotatedWith(Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_CLEANUP))
                                             .toInstance(scheduledExecutorService);
+        bind(ScheduledExecutorService.class).annotatedWith(Names.named(JoynrInjectionConstants.JOYNR_SCHEDULER_SUBSCRIPTION_TIMERS))
+                                            .toInstance(scheduledExecutorService);
         bind(ScheduledExecutorService.class).annotatedWith(Names.named(LocalCapabilitiesDirectory.JOYNR_SCHEDULER_CAPABILITIES_FRESHNESS))
                                             .toInstance(scheduledExecutorService);
         bind(ExecutorService.class).toInstance(scheduledExecutorService);
@@ -66,6 +66,7 @@ import static io.joynr.jeeintegration.DefaultJoynrRuntimeFactory.ERROR_MULTIPLE_
 import static io.joynr.jeeintegration.DefaultJoynrRuntimeFactory.ERROR_MULTIPLE_PREPROCESSORS;
 import static io.joynr.jeeintegration.DefaultJoynrRuntimeFactory.ERROR_MULTIPLE_PROPERTIES;
 import static io.joynr.jeeintegration.DefaultJoynrRuntimeFactory.ERROR_NO_LOCAL_DOMAIN;
+import static io.joynr.messaging.ConfigurableMessagingSettings.PROPERTY_ROUTING_PRIORITY_WORKERS;
 import static io.joynr.messaging.mqtt.MqttModule.PROPERTY_KEY_MQTT_ENABLE_SHARED_SUBSCRIPTIONS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -438,6 +439,22 @@ public class DefaultJoynrRuntimeFactoryTest {
         assertTrue(sharedSubscriptionValue);
     }
 
+    @Test
+    public void testRoutingPriorityWorkersAreDisabledByDefault() throws Exception {
+        createFixture();
+
+        assertEquals("0", extractProperties().getProperty(PROPERTY_ROUTING_PRIORITY_WORKERS));
+    }
+
+    @Test
+    public void testRoutingPriorityWorkersAreTakenFromProperties() throws Exception {
+        final Properties properties = new Properties();
+        properties.setProperty(PROPERTY_ROUTING_PRIORITY_WORKERS, "2");
+        createFixture(properties);
+
+        assertEquals("2", extractProperties().getProperty(PROPERTY_ROUTING_PRIORITY_WORKERS));
+    }
+
     private boolean getSharedSubscriptionOption() throws NoSuchFieldException, IllegalAccessException {
         final Properties joynrProperties = extractProperties();
         return Boolean.parseBoolean((String) joynrProperties.get(PROPERTY_KEY_MQTT_ENABLE_SHARED_SUBSCRIPTIONS));
@@ -20,6 +20,7 @@ package io.joynr.arbitration;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Storage class to pass all settings to an arbitrator defining the strategy and conditions for provider arbitration.
@@ -419,4 +420,45 @@ public class DiscoveryQos {
                 + ", " + "providerMustSupportOnChange=" + this.providerMustSupportOnChange + ", " + "retryIntervalMs="
                 + this.retryIntervalMs + "]";
     }
+
+    /**
+     * Calculate code for hashing based on member contents. The arbitrationStrategyFunction is compared by
+     * reference.
+     *
+     * @return The calculated hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(arbitrationStrategy,
+                            arbitrationStrategyFunction,
+                            cacheMaxAgeMs,
+                            customParameters,
+                            discoveryScope,
+                            discoveryTimeoutMs,
+                            providerMustSupportOnChange,
+                            retryIntervalMs);
+    }
+
+    /**
+     * Check for equality. The arbitrationStrategyFunction is compared by reference.
+     *
+     * @param obj Reference to the object to compare to
+     * @return true, if objects are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        DiscoveryQos other = (DiscoveryQos) obj;
+        return arbitrationStrategy == other.arbitrationStrategy
+                && arbitrationStrategyFunction == other.arbitrationStrategyFunction
+                && cacheMaxAgeMs == other.cacheMaxAgeMs && customParameters.equals(other.customParameters)
+                && discoveryScope == other.discoveryScope && discoveryTimeoutMs == other.discoveryTimeoutMs
+                && providerMustSupportOnChange == other.providerMustSupportOnChange
+                && retryIntervalMs == other.retryIntervalMs;
+    }
 }
@@ -35,21 +35,36 @@ public class ConfigurableMessagingSettings {
     public static final String PROPERTY_DISCOVERY_DEFAULT_RETRY_INTERVAL_MS = "joynr.discovery.defaultretryintervalms";
     public static final String PROPERTY_DISCOVERY_MINIMUM_RETRY_INTERVAL_MS = "joynr.discovery.minimumretryintervalms";
     public static final String PROPERTY_DISCOVERY_PROVIDER_DEFAULT_EXPIRY_TIME_MS = "joynr.discovery.provider.defaultexpirytimems";
+    public static final String PROPERTY_DISCOVERY_GLOBAL_LOOKUP_NEGATIVE_CACHE_MAX_AGE_MS = "joynr.discovery.globallookupnegativecachemaxagems";
+    public static final String PROPERTY_DISCOVERY_GLOBAL_CACHE_CHANGE_NOTIFICATIONS = "joynr.discovery.globalcachechangenotifications";
+    public static final String PROPERTY_DISCOVERY_MAXIMUM_PARALLEL_ARBITRATIONS = "joynr.discovery.maximumparallelarbitrations";
+    public static final String PROPERTY_DISCOVERY_MAXIMUM_PARALLEL_REGISTRATIONS = "joynr.discovery.maximumparallelregistrations";
+
+    public static final String PROPERTY_PROXY_POOL_IDLE_TIMEOUT_MS = "joynr.proxy.poolidletimeoutms";
 
     public static final String PROPERTY_SEND_MSG_RETRY_INTERVAL_MS = "joynr.messaging.sendmsgretryintervalms";
     public static final String PROPERTY_PARTICIPANTIDS_PERSISTENCE_FILE = "joynr.discovery.participantids_persistence_file";
+    public static final String PROPERTY_PARTICIPANTIDS_PERSISTENCE_SYNC_DELAY_MS = "joynr.discovery.participantids_persistence_sync_delay_ms";
 
     public static final String PROPERTY_MESSAGING_MAXIMUM_PARALLEL_SENDS = "joynr.messaging.maximumparallelsends";
+    public static final String PROPERTY_SUBSCRIPTION_TIMER_THREADS = "joynr.messaging.subscriptiontimerthreads";
 
     public static final String PROPERTY_MAX_MESSAGE_SIZE = "joynr.messaging.maxmessagesize";
 
     public static final String PROPERTY_MESSAGING_MAXIMUM_TTL_MS = "joynr.messaging.maxttlms";
     public static final String PROPERTY_TTL_UPLIFT_MS = "joynr.messaging.ttlupliftms";
+
+    public static final String PROPERTY_ADAPTIVE_COMPRESSION = "joynr.messaging.adaptivecompression";
+    public static final String PROPERTY_ADAPTIVE_COMPRESSION_THRESHOLD_BYTES = "joynr.messaging.adaptivecompression.thresholdbytes";
+    public static final String PROPERTY_ADAPTIVE_COMPRESSION_MAX_RATIO = "joynr.messaging.adaptivecompression.maxratio";
+    public static final String PROPERTY_ADAPTIVE_COMPRESSION_SAMPLE_INTERVAL = "joynr.messaging.adaptivecompression.sampleinterval";
+    public static final String PROPERTY_BINARY_PAYLOAD_ENCODING = "joynr.messaging.binarypayloadencoding";
     public static final String PROPERTY_ROUTING_TABLE_GRACE_PERIOD_MS = "joynr.messaging.routingtablegraceperiodms";
     public static final String PROPERTY_ROUTING_TABLE_CLEANUP_INTERVAL_MS = "joynr.messaging.routingtablecleanupintervalms";
 
     public static final String PROPERTY_ROUTING_MAX_RETRY_COUNT = "joynr.messaging.routingmaxretrycount";
     public static final long DEFAULT_ROUTING_MAX_RETRY_COUNT = -1;
+    public static final String PROPERTY_ROUTING_PRIORITY_WORKERS = "joynr.messaging.routingpriorityworkers";
     public static final String PROPERTY_MAX_DELAY_WITH_EXPONENTIAL_BACKOFF_MS = "joynr.messaging.maxDelayWithExponentialBackoffMs";
     public static final long DEFAULT_MAX_DELAY_WITH_EXPONENTIAL_BACKOFF = -1;
 
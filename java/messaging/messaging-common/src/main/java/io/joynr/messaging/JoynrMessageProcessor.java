@@ -42,6 +42,10 @@ public interface JoynrMessageProcessor {
      * This method is passed in a joynr message which was received by the messaging layer. It can then
      * process, e.g. add or change headers, encrypt the payload, etc., and then returns a new message
      * which is then used for further processing.
+     * <p>
+     * Headers which are only added or changed should be set with
+     * {@link ImmutableMessage#putExtraCustomHeader(String, String)} on the passed in message instead of creating
+     * a new message. This avoids re-serializing the message and keeps a signature of the message valid.
      *
      * @param joynrMessage the message to process.
      * @return the message which should be used.
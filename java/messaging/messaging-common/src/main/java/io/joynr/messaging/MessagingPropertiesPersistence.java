@@ -40,10 +40,13 @@ public class MessagingPropertiesPersistence {
         makeDirectories(persistenceFile);
         storage = PropertyLoader.loadProperties(persistenceFile);
 
-        generateIfAbsent(MessagingPropertyKeys.CHANNELID);
-        generateIfAbsent(MessagingPropertyKeys.RECEIVERID);
+        boolean channelIdGenerated = generateIfAbsent(MessagingPropertyKeys.CHANNELID);
+        boolean receiverIdGenerated = generateIfAbsent(MessagingPropertyKeys.RECEIVERID);
 
-        persistProperties();
+        // rewriting an unchanged file would only put the persisted ids at risk
+        if (channelIdGenerated || receiverIdGenerated) {
+            persistProperties();
+        }
     }
 
     public Properties getPersistedProperties() {
@@ -94,10 +97,12 @@ public class MessagingPropertiesPersistence {
         }
     }
 
-    private void generateIfAbsent(String propertyName) {
+    private boolean generateIfAbsent(String propertyName) {
         if (!storage.containsKey(propertyName)) {
             String propertyValue = createUuidString();
             storage.put(propertyName, propertyValue);
+            return true;
         }
+        return false;
     }
 }
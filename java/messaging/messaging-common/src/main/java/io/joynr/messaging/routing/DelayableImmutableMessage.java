@@ -20,6 +20,7 @@ package io.joynr.messaging.routing;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import joynr.ImmutableMessage;
 
@@ -27,12 +28,15 @@ public class DelayableImmutableMessage extends TimedDelayed {
     private final ImmutableMessage message;
     private Set<String> recipients;
     private int retriesCount = 0;
+    private final long routingStartTimeNs;
+    private long dueTimeNs;
 
     DelayableImmutableMessage(ImmutableMessage message, long delayForMs, Set<String> recipients) {
         super(delayForMs);
         this.message = message;
         this.recipients = recipients;
-
+        this.routingStartTimeNs = System.nanoTime();
+        this.dueTimeNs = routingStartTimeNs;
     }
 
     public DelayableImmutableMessage(ImmutableMessage message, long delayMs, Set<String> recipients, int retriesCount) {
@@ -56,6 +60,29 @@ public class DelayableImmutableMessage extends TimedDelayed {
         this.retriesCount = retriesCount;
     }
 
+    /**
+     * Remembers when the message becomes due for processing. Called whenever the message is put into the
+     * {@link MessageQueue}.
+     */
+    void markEnqueued() {
+        dueTimeNs = System.nanoTime() + Math.max(0, getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * @return the time in nanoseconds the message has been waiting in the {@link MessageQueue} since it became due
+     * for processing
+     */
+    public long getQueueLatencyNs() {
+        return Math.max(0, System.nanoTime() - dueTimeNs);
+    }
+
+    /**
+     * @return the time in nanoseconds since the message has been handed over to the message router
+     */
+    public long getRoutingLatencyNs() {
+        return System.nanoTime() - routingStartTimeNs;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -23,34 +23,44 @@ import static io.joynr.messaging.routing.MessageRouter.SCHEDULEDTHREADPOOL;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.inject.Inject;
-import com.google.inject.name.Named;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
 import io.joynr.exceptions.JoynrIllegalStateException;
-import io.joynr.messaging.ConfigurableMessagingSettings;
 import io.joynr.runtime.PrepareForShutdownListener;
 import io.joynr.runtime.ShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
+import io.joynr.statusmetrics.JoynrStatusMetricsReceiver;
 
+/**
+ * Removes the routing entries of proxies once they have been garbage collected. A long running task on the joynr
+ * scheduler waits for collected proxies on a reference queue, so that routing entries are removed right after
+ * garbage collection. Proxies collected at the same time are handled as one batch.
+ */
 @Singleton
 public class GarbageCollectionHandler implements ShutdownListener {
     private static final Logger logger = LoggerFactory.getLogger(GarbageCollectionHandler.class);
+    private static final long REFERENCE_QUEUE_TIMEOUT_MS = 1000;
 
     static class ProxyInformation {
         public String participantId;
         public PrepareForShutdownListener prepareForShutdownListener;
         public final Set<String> providerParticipantIds;
+        // keeps the weak reference itself reachable until the proxy has been cleaned up
+        ProxyReference proxyReference;
 
         public ProxyInformation(String participantId, PrepareForShutdownListener prepareForShutdownListener) {
             this.participantId = participantId;
@@ -59,75 +69,104 @@ public class GarbageCollectionHandler implements ShutdownListener {
         }
     }
 
-    // Map weak reference to proxy object -> {proxyParticipantId, shutdownListener}
-    private final ConcurrentHashMap<WeakReference<Object>, ProxyInformation> proxyMap;
+    static class ProxyReference extends WeakReference<Object> {
+        final ProxyInformation proxyInformation;
+
+        ProxyReference(Object proxy, ReferenceQueue<Object> queue, ProxyInformation proxyInformation) {
+            super(proxy, queue);
+            this.proxyInformation = proxyInformation;
+        }
+    }
+
     private final ConcurrentHashMap<String, ProxyInformation> proxyParticipantIdToProxyInformationMap;
     private final ReferenceQueue<Object> garbageCollectedProxiesQueue;
 
     private MessageRouter messageRouter;
-    private ScheduledFuture<?> cleanupScheduledFuture;
     private ShutdownNotifier shutdownNotifier;
+    private JoynrStatusMetricsReceiver statusMetrics;
+    private final Future<?> cleanupFuture;
+    private volatile boolean shutdown = false;
 
     @Inject
     public GarbageCollectionHandler(MessageRouter messageRouter,
                                     ShutdownNotifier shutdownNotifier,
-                                    @Named(SCHEDULEDTHREADPOOL) ScheduledExecutorService scheduler,
-                                    @Named(ConfigurableMessagingSettings.PROPERTY_ROUTING_TABLE_CLEANUP_INTERVAL_MS) long routingTableCleanupIntervalMs) {
-        this.proxyMap = new ConcurrentHashMap<WeakReference<Object>, ProxyInformation>();
+                                    JoynrStatusMetricsReceiver statusMetrics,
+                                    @Named(SCHEDULEDTHREADPOOL) ScheduledExecutorService scheduler) {
         this.proxyParticipantIdToProxyInformationMap = new ConcurrentHashMap<String, ProxyInformation>();
         this.garbageCollectedProxiesQueue = new ReferenceQueue<Object>();
         this.messageRouter = messageRouter;
         this.shutdownNotifier = shutdownNotifier;
-        startCleanupThread(scheduler, routingTableCleanupIntervalMs);
+        this.statusMetrics = statusMetrics;
+        // the scheduler is managed by the application server in JEE environments
+        cleanupFuture = scheduler.schedule(this::processGarbageCollectedProxies, 0, TimeUnit.MILLISECONDS);
         shutdownNotifier.registerForShutdown(this);
     }
 
-    private void startCleanupThread(ScheduledExecutorService scheduler, long cleanupIntervalMs) {
-        cleanupScheduledFuture = scheduler.scheduleWithFixedDelay(new Runnable() {
-            @Override
-            public void run() {
-                // remove Routing table entries for proxies which have been garbage collected
-                Reference<? extends Object> r;
-                synchronized (garbageCollectedProxiesQueue) {
-                    r = garbageCollectedProxiesQueue.poll();
+    private void processGarbageCollectedProxies() {
+        while (!shutdown) {
+            try {
+                Reference<? extends Object> r = garbageCollectedProxiesQueue.remove(REFERENCE_QUEUE_TIMEOUT_MS);
+                if (r == null) {
+                    continue;
                 }
+                final long batchStartNs = System.nanoTime();
+                List<ProxyInformation> batch = new ArrayList<>();
                 while (r != null) {
-                    ProxyInformation proxyInformation = proxyMap.get(r);
-                    logger.debug("Removing garbage collected proxy participantId {}", proxyInformation.participantId);
-                    messageRouter.removeNextHop(proxyInformation.participantId);
-                    for (String providerParticipantId : proxyInformation.providerParticipantIds) {
-                        messageRouter.removeNextHop(providerParticipantId);
-                    }
-                    shutdownNotifier.unregister(proxyInformation.prepareForShutdownListener);
-                    proxyMap.remove(r);
-                    proxyParticipantIdToProxyInformationMap.remove(proxyInformation.participantId);
-                    synchronized (garbageCollectedProxiesQueue) {
-                        r = garbageCollectedProxiesQueue.poll();
-                    }
+                    batch.add(((ProxyReference) r).proxyInformation);
+                    r = garbageCollectedProxiesQueue.poll();
                 }
+                removeGarbageCollectedProxies(batch, batchStartNs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Error removing garbage collected proxies:", e);
             }
-        }, cleanupIntervalMs, cleanupIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void removeGarbageCollectedProxies(List<ProxyInformation> batch, long batchStartNs) {
+        // remove Routing table entries for proxies which have been garbage collected
+        List<String> participantIdsToRemove = new ArrayList<>();
+        for (ProxyInformation proxyInformation : batch) {
+            logger.debug("Removing garbage collected proxy participantId {}", proxyInformation.participantId);
+            proxyParticipantIdToProxyInformationMap.remove(proxyInformation.participantId);
+            participantIdsToRemove.add(proxyInformation.participantId);
+            participantIdsToRemove.addAll(proxyInformation.providerParticipantIds);
+            shutdownNotifier.unregister(proxyInformation.prepareForShutdownListener);
+        }
+        for (String participantId : participantIdsToRemove) {
+            try {
+                messageRouter.removeNextHop(participantId);
+            } catch (Exception e) {
+                logger.error("Failed to remove routing entry of garbage collected proxy for participantId {}",
+                             participantId,
+                             e);
+            }
+        }
+        final long cleanupLagNs = System.nanoTime() - batchStartNs;
+        for (int i = 0; i < batch.size(); i++) {
+            statusMetrics.notifyProxyCleanedUp(cleanupLagNs);
+        }
     }
 
     @Override
     public void shutdown() {
-        if (cleanupScheduledFuture != null) {
-            cleanupScheduledFuture.cancel(false);
-        }
+        shutdown = true;
+        cleanupFuture.cancel(true);
     }
 
     public void registerProxy(Object proxy,
                               String proxyParticipantId,
                               PrepareForShutdownListener prepareForShutdownListener) {
-        synchronized (garbageCollectedProxiesQueue) {
-            ProxyInformation proxyInformation = new ProxyInformation(proxyParticipantId, prepareForShutdownListener);
-            if (proxyParticipantIdToProxyInformationMap.putIfAbsent(proxyParticipantId, proxyInformation) == null) {
-                logger.debug("registerProxy called for {}", proxyParticipantId);
-                proxyMap.put(new WeakReference<Object>(proxy, garbageCollectedProxiesQueue), proxyInformation);
-            } else {
-                throw new JoynrIllegalStateException("The proxy with " + proxyParticipantId
-                        + " has already been registered.");
-            }
+        ProxyInformation proxyInformation = new ProxyInformation(proxyParticipantId, prepareForShutdownListener);
+        if (proxyParticipantIdToProxyInformationMap.putIfAbsent(proxyParticipantId, proxyInformation) == null) {
+            logger.debug("registerProxy called for {}", proxyParticipantId);
+            proxyInformation.proxyReference = new ProxyReference(proxy, garbageCollectedProxiesQueue, proxyInformation);
+            statusMetrics.notifyProxyRegistered();
+        } else {
+            throw new JoynrIllegalStateException("The proxy with " + proxyParticipantId
+                    + " has already been registered.");
         }
     }
 
@@ -19,24 +19,73 @@
 package io.joynr.messaging.routing;
 
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.runtime.SystemServicesSettings;
+import joynr.ImmutableMessage;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This class holds the queued messages which are to be processed in the {@link MessageRouter}.
+ * <p>
+ * Messages are queued in separate {@link Lane lanes} so that control plane traffic and replies are not starved by
+ * floods of application requests: {@link #poll(long, TimeUnit)} always returns a due message of the lane with the
+ * highest priority, {@link #pollPriority(long, TimeUnit)} is meant for dedicated workers which only process the
+ * prioritized lanes.
  */
 public class MessageQueue {
 
     private static final Logger logger = LoggerFactory.getLogger(MessageQueue.class);
 
-    private final DelayQueue<DelayableImmutableMessage> delayableImmutableMessages;
+    /**
+     * Lanes of the message queue in the order of their priority.
+     */
+    public enum Lane {
+        /** messages from or to the system services: discovery and routing provider, global capabilities directory */
+        SYSTEM,
+        /** replies and subscription replies */
+        REPLY,
+        /** all other messages */
+        APPLICATION
+    }
+
+    private static final Set<Lane> PRIORITY_LANES = EnumSet.of(Lane.SYSTEM, Lane.REPLY);
+    private static final Set<Lane> ALL_LANES = EnumSet.allOf(Lane.class);
+
+    private final Map<Lane, DelayQueue<DelayableImmutableMessage>> lanes = new EnumMap<>(Lane.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageAvailable = lock.newCondition();
+    private final Condition priorityMessageAvailable = lock.newCondition();
+
+    @Inject(optional = true)
+    @Named(SystemServicesSettings.PROPERTY_CC_DISCOVERY_PROVIDER_PARTICIPANT_ID)
+    private String discoveryProviderParticipantId = null;
+
+    @Inject(optional = true)
+    @Named(SystemServicesSettings.PROPERTY_CC_ROUTING_PROVIDER_PARTICIPANT_ID)
+    private String routingProviderParticipantId = null;
+
+    @Inject(optional = true)
+    @Named(ConfigurableMessagingSettings.PROPERTY_CAPABILITIES_DIRECTORY_PARTICIPANT_ID)
+    private String capabilitiesDirectoryParticipantId = null;
 
     @Inject
     public MessageQueue(DelayQueue<DelayableImmutableMessage> delayableImmutableMessages) {
-        this.delayableImmutableMessages = new DelayQueue<>(delayableImmutableMessages);
+        lanes.put(Lane.SYSTEM, new DelayQueue<>());
+        lanes.put(Lane.REPLY, new DelayQueue<>());
+        lanes.put(Lane.APPLICATION, new DelayQueue<>(delayableImmutableMessages));
     }
 
     /**
@@ -45,11 +94,23 @@ public class MessageQueue {
      * @param delayableImmutableMessage the message to add.
      */
     public void put(DelayableImmutableMessage delayableImmutableMessage) {
-        delayableImmutableMessages.put(delayableImmutableMessage);
+        delayableImmutableMessage.markEnqueued();
+        final Lane lane = getLane(delayableImmutableMessage.getMessage());
+        lanes.get(lane).put(delayableImmutableMessage);
+        lock.lock();
+        try {
+            if (PRIORITY_LANES.contains(lane)) {
+                priorityMessageAvailable.signal();
+            }
+            messageAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
-     * Polls the message queue for a period no longer than the timeout specified for a new message.
+     * Polls the message queue for a period no longer than the timeout specified for a new message. Messages of the
+     * prioritized lanes are returned first.
      *
      * @param timeout the maximum time to wait for a message to become available.
      * @param unit the time unit of measurement for <code>timeout</code>
@@ -57,6 +118,77 @@ public class MessageQueue {
      * @throws InterruptedException if the thread was interrupted while waiting for a message to become available.
      */
     public DelayableImmutableMessage poll(long timeout, TimeUnit unit) throws InterruptedException {
-        return delayableImmutableMessages.poll(timeout, unit);
+        return poll(ALL_LANES, messageAvailable, unit.toNanos(timeout));
+    }
+
+    /**
+     * Polls only the prioritized lanes, i.e. messages of the system services and replies, for a period no longer than
+     * the timeout specified for a new message.
+     *
+     * @param timeout the maximum time to wait for a message to become available.
+     * @param unit the time unit of measurement for <code>timeout</code>
+     * @return a new message if one is available, or <code>null</code> if none became available within the specified time limit.
+     * @throws InterruptedException if the thread was interrupted while waiting for a message to become available.
+     */
+    public DelayableImmutableMessage pollPriority(long timeout, TimeUnit unit) throws InterruptedException {
+        return poll(PRIORITY_LANES, priorityMessageAvailable, unit.toNanos(timeout));
+    }
+
+    private DelayableImmutableMessage poll(Set<Lane> polledLanes,
+                                           Condition condition,
+                                           long timeoutNs) throws InterruptedException {
+        final long deadlineNs = System.nanoTime() + timeoutNs;
+        long remainingNs = timeoutNs;
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long waitNs = remainingNs;
+                for (Lane lane : polledLanes) {
+                    DelayQueue<DelayableImmutableMessage> queue = lanes.get(lane);
+                    DelayableImmutableMessage delayableImmutableMessage = queue.poll();
+                    if (delayableImmutableMessage != null) {
+                        return delayableImmutableMessage;
+                    }
+                    DelayableImmutableMessage delayedMessage = queue.peek();
+                    if (delayedMessage != null) {
+                        waitNs = Math.min(waitNs, delayedMessage.getDelay(TimeUnit.NANOSECONDS));
+                    }
+                }
+                if (remainingNs <= 0) {
+                    return null;
+                }
+                condition.awaitNanos(Math.max(1, waitNs));
+                remainingNs = deadlineNs - System.nanoTime();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Lane getLane(ImmutableMessage message) {
+        if (message == null) {
+            return Lane.APPLICATION;
+        }
+        if (isSystemServiceParticipantId(message.getRecipient()) || isSystemServiceParticipantId(message.getSender())) {
+            return Lane.SYSTEM;
+        }
+        if (message.isReply()) {
+            return Lane.REPLY;
+        }
+        return Lane.APPLICATION;
+    }
+
+    private boolean isSystemServiceParticipantId(String participantId) {
+        return participantId != null && (participantId.equals(discoveryProviderParticipantId)
+                || participantId.equals(routingProviderParticipantId)
+                || participantId.equals(capabilitiesDirectoryParticipantId));
+    }
+
+    /**
+     * @param lane the lane of the message queue
+     * @return the number of messages in the lane including messages which are not yet due
+     */
+    public int size(Lane lane) {
+        return lanes.get(lane).size();
     }
 }
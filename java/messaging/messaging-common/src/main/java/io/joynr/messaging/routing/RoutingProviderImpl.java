@@ -140,11 +140,9 @@ public class RoutingProviderImpl extends RoutingAbstractProvider {
 
     @Override
     public Promise<DeferredVoid> addNextHop(String participantId, UdsClientAddress address, Boolean isGloballyVisible) {
-        final DeferredVoid deferred = new DeferredVoid();
-        final String msg = "UdsClientAddress is not supported in Java";
-        logger.error(msg);
-        deferred.reject(new ProviderRuntimeException(msg));
-        return new Promise<>(deferred);
+        // If it throws, the error will be forwarded to the calling proxy
+        messageRouter.addNextHop(participantId, address, isGloballyVisible);
+        return resolvedDeferred();
     }
 
     @Override
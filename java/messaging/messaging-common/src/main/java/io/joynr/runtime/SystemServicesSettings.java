@@ -34,4 +34,6 @@ public class SystemServicesSettings {
     public static final String LIBJOYNR_MESSAGING_ADDRESS = "libjoynr_messaging_address";
 
     public static final String PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_INTERVAL_MS = "joynr.capabilities.freshnessupdateintervalms";
+    public static final String PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_EXPIRY_THRESHOLD_MS = "joynr.capabilities.freshnessupdateexpirythresholdms";
+    public static final String PROPERTY_CAPABILITIES_FRESHNESS_UPDATE_COMPACT_TOUCH = "joynr.capabilities.freshnessupdatecompacttouch";
 }
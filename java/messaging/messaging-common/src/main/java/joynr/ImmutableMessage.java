@@ -21,8 +21,10 @@ package joynr;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,7 +54,10 @@ public class ImmutableMessage extends Message {
 
     private static final Logger logger = LoggerFactory.getLogger(ImmutableMessage.class);
     private transient boolean receivedFromGlobal;
+    private static final AtomicIntegerFieldUpdater<ImmutableMessage> REGISTERED_IN_MESSAGE_TRACKER_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ImmutableMessage.class,
+                                                                                                                                                  "registeredInMessageTracker");
     private transient boolean isMessageProcessed = false;
+    private transient volatile int registeredInMessageTracker = 0;
     private final MessageDeserializer messageDeserializer;
     private final byte[] serializedMessage;
     private transient Map<String, Serializable> context = new HashMap<String, Serializable>();
@@ -68,15 +73,38 @@ public class ImmutableMessage extends Message {
 
     public void setExtraCustomHeaders(Map<String, String> customHeaders) {
         for (Map.Entry<String, String> entry : customHeaders.entrySet()) {
-            if (entry.getKey().startsWith(Message.CUSTOM_HEADER_PREFIX)) {
-                logger.error("Extra custom header must not be prefixed: {} {}!", entry.getKey(), entry.getValue());
-                throw new JoynrIllegalStateException("Extra custom header must not be prefixed: " + entry.getKey() + " "
-                        + entry.getValue() + " !");
-            }
+            checkExtraCustomHeaderKey(entry.getKey(), entry.getValue());
         }
         this.extraCustomHeaders = new HashMap<>(customHeaders);
     }
 
+    /**
+     * Adds or replaces a single extra custom header. Extra custom headers are an overlay on top of the custom
+     * headers of the serialized message: they are passed to the dispatcher and transports which support
+     * headers outside of the SMRF message (e.g. MQTT user properties) emit them together with the custom
+     * headers of the message, see {@link #getPrefixedCustomHeadersWithExtraCustomHeaders()}. The serialized
+     * (and possibly signed) message is neither modified nor copied, so a {@link io.joynr.messaging.JoynrMessageProcessor} can use
+     * this instead of re-creating the message from a {@link MutableMessage}.
+     *
+     * @param key the custom header key without {@link Message#CUSTOM_HEADER_PREFIX}
+     * @param value the custom header value
+     */
+    public void putExtraCustomHeader(String key, String value) {
+        checkExtraCustomHeaderKey(key, value);
+        if (extraCustomHeaders == null) {
+            extraCustomHeaders = new HashMap<>();
+        }
+        extraCustomHeaders.put(key, value);
+    }
+
+    private void checkExtraCustomHeaderKey(String key, String value) {
+        if (key.startsWith(Message.CUSTOM_HEADER_PREFIX)) {
+            logger.error("Extra custom header must not be prefixed: {} {}!", key, value);
+            throw new JoynrIllegalStateException("Extra custom header must not be prefixed: " + key + " " + value
+                    + " !");
+        }
+    }
+
     public Map<String, String> getExtraCustomHeaders() {
         return (extraCustomHeaders != null) ? new HashMap<>(extraCustomHeaders) : null;
     }
@@ -86,11 +114,38 @@ public class ImmutableMessage extends Message {
         messageDeserializer = new MessageDeserializerImpl(this.serializedMessage);
     }
 
+    /**
+     * Creates the message from a slice of a larger buffer, e.g. a received transport frame.
+     * Only the slice is copied.
+     *
+     * @param buffer buffer containing the serialized message
+     * @param offset start of the serialized message in the buffer
+     * @param length length of the serialized message
+     * @throws EncodingException if the slice does not contain a valid SMRF message
+     * @throws UnsuppportedVersionException if the SMRF version of the message is not supported
+     */
+    public ImmutableMessage(byte[] buffer, int offset, int length) throws EncodingException,
+                                                                   UnsuppportedVersionException {
+        this.serializedMessage = Arrays.copyOfRange(buffer, offset, offset + length);
+        messageDeserializer = new MessageDeserializerImpl(this.serializedMessage);
+    }
+
     @JsonIgnore
     public byte[] getSerializedMessage() {
         return serializedMessage.clone();
     }
 
+    /**
+     * Returns the serialized message without copying it. Used by the messaging stubs which only write the
+     * serialized message to the transport. The returned array must not be modified.
+     *
+     * @return the internal buffer of the serialized message
+     */
+    @JsonIgnore
+    public byte[] getSerializedMessageWithoutCopy() {
+        return serializedMessage;
+    }
+
     public long getTtlMs() {
         return messageDeserializer.getTtlMs();
     }
@@ -160,6 +215,20 @@ public class ImmutableMessage extends Message {
         return prefixedCustomHeaders;
     }
 
+    /**
+     * @return the prefixed custom headers of the serialized message, overlaid with the prefixed extra custom
+     *         headers. Extra custom headers replace custom headers of the serialized message with the same key.
+     */
+    public Map<String, String> getPrefixedCustomHeadersWithExtraCustomHeaders() {
+        Map<String, String> prefixedCustomHeaders = getPrefixedCustomHeaders();
+        if (extraCustomHeaders != null) {
+            for (Map.Entry<String, String> entry : extraCustomHeaders.entrySet()) {
+                prefixedCustomHeaders.put(Message.CUSTOM_HEADER_PREFIX + entry.getKey(), entry.getValue());
+            }
+        }
+        return prefixedCustomHeaders;
+    }
+
     public void setContext(HashMap<String, Serializable> context) {
         this.context = (context != null) ? new HashMap<>(context) : null;
     }
@@ -184,6 +253,26 @@ public class ImmutableMessage extends Message {
         return isMessageProcessed;
     }
 
+    /**
+     * Marks this message as registered in the message tracker used for graceful shutdown.
+     * @return true if the message was not registered before, false otherwise
+     */
+    public boolean registerInMessageTracker() {
+        return REGISTERED_IN_MESSAGE_TRACKER_UPDATER.compareAndSet(this, 0, 1);
+    }
+
+    /**
+     * Removes the message tracker registration mark from this message.
+     * @return true if the message was registered before, false otherwise
+     */
+    public boolean unregisterFromMessageTracker() {
+        return REGISTERED_IN_MESSAGE_TRACKER_UPDATER.compareAndSet(this, 1, 0);
+    }
+
+    public boolean isRegisteredInMessageTracker() {
+        return registeredInMessageTracker == 1;
+    }
+
     public String getId() {
         return messageDeserializer.getHeader(Message.HEADER_ID);
     }
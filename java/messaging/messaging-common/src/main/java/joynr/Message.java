@@ -57,6 +57,8 @@ public abstract class Message {
 
     public static final String CUSTOM_HEADER_REQUEST_REPLY_ID = "z4";
     public static final String CUSTOM_HEADER_GBID_KEY = "gb";
+    // value is the participantId of the sender of a request which accepts a binary (Smile) reply payload
+    public static final String CUSTOM_HEADER_BINARY_PAYLOAD_ACCEPTED = "bp";
 
     private transient boolean localMessage;
 
@@ -18,7 +18,7 @@
  */
 package joynr;
 
-import static io.joynr.util.JoynrUtil.createUuidString;
+import static io.joynr.util.JoynrUtil.createUniqueId;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -50,7 +50,7 @@ public class MutableMessage extends Message {
     private transient boolean statelessAsync;
 
     public MutableMessage() {
-        id = createUuidString();
+        id = createUniqueId();
     }
 
     public ImmutableMessage getImmutableMessage() throws SecurityException, EncodingException,
@@ -19,6 +19,7 @@
 package io.joynr.arbitration;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -129,6 +130,20 @@ public class DiscoveryQosTest {
         assertEquals(expectedRetryIntervalMs, discoveryQos.getRetryIntervalMs());
     }
 
+    @Test
+    public void testEqualsAndHashCode() {
+        DiscoveryQos otherDiscoveryQos = new DiscoveryQos(discoveryQos);
+        assertEquals(discoveryQos, otherDiscoveryQos);
+        assertEquals(discoveryQos.hashCode(), otherDiscoveryQos.hashCode());
+
+        otherDiscoveryQos.addCustomParameter("key", "value");
+        assertNotEquals(discoveryQos, otherDiscoveryQos);
+
+        otherDiscoveryQos = new DiscoveryQos(discoveryQos);
+        otherDiscoveryQos.setDiscoveryTimeoutMs(1000L);
+        assertNotEquals(discoveryQos, otherDiscoveryQos);
+    }
+
     @Test
     public void testToString() {
         String expectedToStringResult = "DiscoveryQos [arbitrationStrategy=LastSeen, cacheMaxAgeMs=0, "
@@ -24,33 +24,36 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentHashMap.KeySetView;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import io.joynr.exceptions.JoynrIllegalStateException;
 import io.joynr.messaging.routing.GarbageCollectionHandler.ProxyInformation;
 import io.joynr.runtime.PrepareForShutdownListener;
 import io.joynr.runtime.ShutdownNotifier;
+import io.joynr.statusmetrics.JoynrStatusMetricsAggregator;
+import io.joynr.statusmetrics.LatencyStage;
 
 @RunWith(MockitoJUnitRunner.class)
 public class GarbageCollectionHandlerTest {
@@ -64,18 +67,22 @@ public class GarbageCollectionHandlerTest {
     @Mock
     private Object mockObject;
 
-    private final ScheduledExecutorService scheduler = Mockito.spy(new ScheduledThreadPoolExecutor(42));
-
-    private final long routingTableCleanupIntervalMs = 1000;
+    private JoynrStatusMetricsAggregator statusMetrics;
+    private ScheduledExecutorService scheduler;
 
     private GarbageCollectionHandler subject;
 
     @Before
     public void setup() {
-        subject = new GarbageCollectionHandler(mockMessageRouter,
-                                               mockShutdownNotifier,
-                                               scheduler,
-                                               routingTableCleanupIntervalMs);
+        statusMetrics = new JoynrStatusMetricsAggregator();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        subject = new GarbageCollectionHandler(mockMessageRouter, mockShutdownNotifier, statusMetrics, scheduler);
+    }
+
+    @After
+    public void tearDown() {
+        subject.shutdown();
+        scheduler.shutdownNow();
     }
 
     private Field getPrivateField(Class<?> runtimeClass, String fieldName) {
@@ -237,9 +244,7 @@ public class GarbageCollectionHandlerTest {
 
     @SuppressWarnings("unchecked")
     @Test
-    public void cleanupJobRemovesProxyParticipantIdAndAssociatedProviderParticipantIds() throws IllegalAccessException,
-                                                                                         IllegalArgumentException,
-                                                                                         InvocationTargetException {
+    public void cleanupThreadRemovesProxyParticipantIdAndAssociatedProviderParticipantIds() {
         Field proxyParticipantIdToProxyInformationMapField = getPrivateField(subject.getClass(),
                                                                              "proxyParticipantIdToProxyInformationMap");
         assertNotNull(proxyParticipantIdToProxyInformationMapField);
@@ -252,21 +257,9 @@ public class GarbageCollectionHandlerTest {
             fail(exception.getMessage());
         }
 
-        Field proxyMapField = getPrivateField(subject.getClass(), "proxyMap");
-        assertNotNull(proxyMapField);
-        proxyMapField.setAccessible(true);
-
-        ConcurrentHashMap<WeakReference<Object>, ProxyInformation> proxyMap = null;
-        try {
-            proxyMap = (ConcurrentHashMap<WeakReference<Object>, ProxyInformation>) proxyMapField.get(subject);
-        } catch (Exception exception) {
-            fail(exception.getMessage());
-        }
-
         String proxyParticipantId = "participantId";
         String expectedProxyParticipantId = proxyParticipantId;
 
-        assertTrue(proxyMap.isEmpty());
         assertTrue(proxyParticipantIdToProxyInformationMap.isEmpty());
 
         // register proxy first. This call will add an entry to this map: proxyParticipantIdToProxyInformationMap
@@ -285,31 +278,75 @@ public class GarbageCollectionHandlerTest {
 
         subject.registerProxyProviderParticipantIds(proxyParticipantId, providerParticipantIds);
 
-        KeySetView<WeakReference<Object>, ProxyInformation> keySet = proxyMap.keySet();
-
-        assertEquals(1, keySet.size());
+        assertEquals(1, statusMetrics.getNumLiveProxies());
 
         // Simulate garbage collection. Enqueue the weak ref in garbage collected proxy queue
-        keySet.forEach(r -> r.enqueue());
+        ProxyInformation proxyInformation = (ProxyInformation) proxyParticipantIdToProxyInformationMap.get(proxyParticipantId);
+        proxyInformation.proxyReference.enqueue();
 
-        // Capture Runnable when cleanup job is invoked
-        ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
-        verify(scheduler, times(1)).scheduleWithFixedDelay(runnableCaptor.capture(),
-                                                           eq(routingTableCleanupIntervalMs),
-                                                           eq(routingTableCleanupIntervalMs),
-                                                           eq(TimeUnit.MILLISECONDS));
-
-        runnableCaptor.getValue().run();
-
-        verify(mockShutdownNotifier).unregister(mockPrepareForShutdownListener);
+        // the cleanup thread is woken up by the reference queue
+        verify(mockShutdownNotifier, timeout(1000)).unregister(mockPrepareForShutdownListener);
 
         // verify that removeNextHop is called for proxyInformation.proxyParticipantId and for providerParticipantIds
-        verify(mockMessageRouter).removeNextHop(eq(expectedProxyParticipantId));
-        verify(mockMessageRouter).removeNextHop(eq(expectedProviderParticipantId1));
-        verify(mockMessageRouter).removeNextHop(eq(expectedProviderParticipantId2));
+        verify(mockMessageRouter, timeout(1000)).removeNextHop(eq(expectedProxyParticipantId));
+        verify(mockMessageRouter, timeout(1000)).removeNextHop(eq(expectedProviderParticipantId1));
+        verify(mockMessageRouter, timeout(1000)).removeNextHop(eq(expectedProviderParticipantId2));
 
-        assertTrue(proxyMap.isEmpty());
         assertTrue(proxyParticipantIdToProxyInformationMap.isEmpty());
+        assertEquals(0, statusMetrics.getNumLiveProxies());
+        assertEquals(1, statusMetrics.getLatencyHistogram(LatencyStage.PROXY_CLEANUP).getCount());
+    }
+
+    @Test
+    public void garbageCollectedProxiesAreRemovedInOneBatch() {
+        subject.registerProxy(mockObject, "participantId1", mockPrepareForShutdownListener);
+        subject.registerProxy(mockObject, "participantId2", mockPrepareForShutdownListener);
+        subject.registerProxyProviderParticipantIds("participantId2",
+                                                    new HashSet<String>(Arrays.asList("providerParticipantId")));
+        doThrow(new RuntimeException("test")).when(mockMessageRouter).removeNextHop("participantId1");
+
+        List<ProxyInformation> batch = new ArrayList<>();
+        batch.add(new ProxyInformation("participantId1", mockPrepareForShutdownListener));
+        ProxyInformation proxyInformation2 = new ProxyInformation("participantId2", mockPrepareForShutdownListener);
+        proxyInformation2.providerParticipantIds.add("providerParticipantId");
+        batch.add(proxyInformation2);
+        subject.removeGarbageCollectedProxies(batch, System.nanoTime());
+
+        // a failing removal does not prevent the removal of the other routing entries
+        verify(mockMessageRouter).removeNextHop("participantId1");
+        verify(mockMessageRouter).removeNextHop("participantId2");
+        verify(mockMessageRouter).removeNextHop("providerParticipantId");
+        verify(mockShutdownNotifier, times(2)).unregister(mockPrepareForShutdownListener);
+        assertEquals(0, statusMetrics.getNumLiveProxies());
+        assertEquals(2, statusMetrics.getLatencyHistogram(LatencyStage.PROXY_CLEANUP).getCount());
+    }
+
+    @Test
+    public void failingBatchDoesNotStopCleanup() {
+        PrepareForShutdownListener failingPrepareForShutdownListener = mock(PrepareForShutdownListener.class);
+        doThrow(new RuntimeException("test")).when(mockShutdownNotifier).unregister(failingPrepareForShutdownListener);
+        subject.registerProxy(mockObject, "participantId1", failingPrepareForShutdownListener);
+        subject.registerProxy(mockObject, "participantId2", mockPrepareForShutdownListener);
+
+        getProxyReference("participantId1").enqueue();
+        verify(mockShutdownNotifier, timeout(1000)).unregister(failingPrepareForShutdownListener);
+
+        getProxyReference("participantId2").enqueue();
+        verify(mockShutdownNotifier, timeout(1000)).unregister(mockPrepareForShutdownListener);
+        verify(mockMessageRouter, timeout(1000)).removeNextHop("participantId2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private GarbageCollectionHandler.ProxyReference getProxyReference(String proxyParticipantId) {
+        try {
+            Field field = getPrivateField(subject.getClass(), "proxyParticipantIdToProxyInformationMap");
+            field.setAccessible(true);
+            Map<String, ProxyInformation> proxyInformationMap = (Map<String, ProxyInformation>) field.get(subject);
+            return proxyInformationMap.get(proxyParticipantId).proxyReference;
+        } catch (Exception exception) {
+            fail(exception.getMessage());
+            return null;
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -18,7 +18,13 @@
  */
 package io.joynr.messaging.routing;
 
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+import io.joynr.runtime.SystemServicesSettings;
 import io.joynr.util.ObjectMapper;
+import joynr.ImmutableMessage;
 import joynr.system.RoutingTypes.MqttAddress;
 import joynr.system.RoutingTypes.RoutingTypesUtil;
 import org.junit.Before;
@@ -30,16 +36,20 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.DelayQueue;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MessageQueueTest {
@@ -119,4 +129,99 @@ public class MessageQueueTest {
         // The in-memory queue is polled once for the message above
         verify(subject, times(1)).poll(timeOut, timeUnit);
     }
+
+    @Test
+    public void testQueueLatencyExcludesDelay() throws Exception {
+        final long delayMs = 50;
+        DelayableImmutableMessage delayableMessage = new DelayableImmutableMessage(mock(ImmutableMessage.class),
+                                                                                   delayMs,
+                                                                                   Set.of(),
+                                                                                   0);
+        subject.put(delayableMessage);
+        Thread.sleep(3 * delayMs);
+
+        assertEquals(delayableMessage, subject.poll(0, TimeUnit.MILLISECONDS));
+        final long queueLatencyMs = TimeUnit.NANOSECONDS.toMillis(delayableMessage.getQueueLatencyNs());
+        final long routingLatencyMs = TimeUnit.NANOSECONDS.toMillis(delayableMessage.getRoutingLatencyNs());
+        assertTrue("queue latency: " + queueLatencyMs, queueLatencyMs >= 2 * delayMs - 10);
+        assertTrue("queue latency: " + queueLatencyMs + ", routing latency: " + routingLatencyMs,
+                   routingLatencyMs - queueLatencyMs >= delayMs - 5);
+    }
+
+    private DelayableImmutableMessage createDelayableMessage(boolean isReply, String recipient) {
+        ImmutableMessage message = mock(ImmutableMessage.class);
+        if (recipient != null) {
+            when(message.getRecipient()).thenReturn(recipient);
+        } else {
+            when(message.isReply()).thenReturn(isReply);
+        }
+        return new DelayableImmutableMessage(message, 0, Set.of(), 0);
+    }
+
+    @Test
+    public void testRepliesArePolledBeforeApplicationMessages() throws Exception {
+        DelayableImmutableMessage request = createDelayableMessage(false, null);
+        DelayableImmutableMessage reply = createDelayableMessage(true, null);
+
+        subject.put(request);
+        subject.put(reply);
+
+        assertEquals(1, subject.size(MessageQueue.Lane.REPLY));
+        assertEquals(reply, subject.poll(0, TimeUnit.MILLISECONDS));
+        assertEquals(request, subject.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testSystemServiceMessagesArePolledFirst() throws Exception {
+        final String discoveryProviderParticipantId = "discoveryProviderParticipantId";
+        MessageQueue messageQueue = Guice.createInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(new TypeLiteral<DelayQueue<DelayableImmutableMessage>>() {
+                }).toInstance(new DelayQueue<>());
+                bindConstant().annotatedWith(Names.named(SystemServicesSettings.PROPERTY_CC_DISCOVERY_PROVIDER_PARTICIPANT_ID))
+                              .to(discoveryProviderParticipantId);
+            }
+        }).getInstance(MessageQueue.class);
+        DelayableImmutableMessage reply = createDelayableMessage(true, null);
+        DelayableImmutableMessage discoveryRequest = createDelayableMessage(false, discoveryProviderParticipantId);
+
+        messageQueue.put(reply);
+        messageQueue.put(discoveryRequest);
+
+        assertEquals(discoveryRequest, messageQueue.poll(0, TimeUnit.MILLISECONDS));
+        assertEquals(reply, messageQueue.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testPollPriorityIgnoresApplicationMessages() throws Exception {
+        DelayableImmutableMessage request = createDelayableMessage(false, null);
+        subject.put(request);
+
+        assertNull(subject.pollPriority(10, TimeUnit.MILLISECONDS));
+        assertEquals(request, subject.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testPollPriorityAndDelayedPutOfReply() throws Exception {
+        DelayableImmutableMessage reply = createDelayableMessage(true, null);
+        Collection<DelayableImmutableMessage> resultContainer = new HashSet<>();
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        new Thread(() -> {
+            try {
+                resultContainer.add(subject.pollPriority(1, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                // Ignore
+            } finally {
+                countDownLatch.countDown();
+            }
+        }).start();
+        Thread.sleep(5);
+        subject.put(createDelayableMessage(false, null));
+        subject.put(reply);
+        assertTrue("pollPriority did not return within 1 second", countDownLatch.await(1, TimeUnit.SECONDS));
+
+        assertEquals(1, resultContainer.size());
+        assertEquals(reply, resultContainer.iterator().next());
+    }
 }
@@ -121,27 +121,13 @@ public class RoutingProviderImplTest {
     }
 
     @Test
-    public void addNextHop_udsClientAddress() throws InterruptedException {
+    public void addNextHop_udsClientAddress() {
         final String participantId = "testParticipantId";
-        final boolean isGloballyVisible = true;
-        final UdsClientAddress address = new UdsClientAddress();
+        final boolean isGloballyVisible = false;
+        final UdsClientAddress address = new UdsClientAddress("udsClientId");
         Promise<DeferredVoid> addNextHopPromise = routingProvider.addNextHop(participantId, address, isGloballyVisible);
-        assertTrue(addNextHopPromise.isRejected());
-        CountDownLatch cdl = new CountDownLatch(1);
-        addNextHopPromise.then(new PromiseListener() {
-            @Override
-            public void onRejection(JoynrException error) {
-                assertTrue(error instanceof ProviderRuntimeException);
-                assertTrue(((ProviderRuntimeException) error).getMessage().contains("not supported"));
-                cdl.countDown();
-            }
-
-            @Override
-            public void onFulfillment(Object... values) {
-                fail("addNextHop succeeded");
-            }
-        });
-        assertTrue(cdl.await(1, TimeUnit.SECONDS));
+        assertTrue(addNextHopPromise.isFulfilled());
+        verify(mockMessageRouter).addNextHop(participantId, address, isGloballyVisible);
     }
 
     @Test
@@ -19,8 +19,11 @@
 package joynr;
 
 import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -154,4 +157,48 @@ public class ImmutableMessageTest {
         immutableMessage.setExtraCustomHeaders(expectedCustomHeaders);
     }
 
+    @Test
+    public void testPrefixedCustomHeadersWithExtraCustomHeaders() throws Exception {
+        Map<String, String> customHeaders = new HashMap<>();
+        customHeaders.put("header1", "value1");
+        customHeaders.put("header2", "value2");
+        testMessage.setCustomHeaders(customHeaders);
+        ImmutableMessage immutableMessage = testMessage.getImmutableMessage();
+        byte[] serializedMessage = immutableMessage.getSerializedMessage();
+
+        immutableMessage.putExtraCustomHeader("header2", "overlaidValue2");
+        immutableMessage.putExtraCustomHeader("vin", "1N6SD16Y8PC417372");
+
+        Map<String, String> expectedPrefixedCustomHeaders = new HashMap<>();
+        expectedPrefixedCustomHeaders.put("c-header1", "value1");
+        expectedPrefixedCustomHeaders.put("c-header2", "overlaidValue2");
+        expectedPrefixedCustomHeaders.put("c-vin", "1N6SD16Y8PC417372");
+        assertEquals(expectedPrefixedCustomHeaders, immutableMessage.getPrefixedCustomHeadersWithExtraCustomHeaders());
+
+        // the serialized message is left untouched
+        assertEquals(customHeaders, immutableMessage.getCustomHeaders());
+        assertArrayEquals(serializedMessage, immutableMessage.getSerializedMessageWithoutCopy());
+    }
+
+    @Test(expected = JoynrIllegalStateException.class)
+    public void testPutExtraCustomHeader_throws_on_prefixed_header() throws Exception {
+        ImmutableMessage immutableMessage = testMessage.getImmutableMessage();
+        immutableMessage.putExtraCustomHeader("c-anykey", "anyvalue");
+    }
+
+    @Test
+    public void testMessageTrackerRegistrationIsOnlyChangedOnce() throws Exception {
+        ImmutableMessage immutableMessage = testMessage.getImmutableMessage();
+        assertFalse(immutableMessage.isRegisteredInMessageTracker());
+        assertFalse(immutableMessage.unregisterFromMessageTracker());
+
+        assertTrue(immutableMessage.registerInMessageTracker());
+        assertFalse(immutableMessage.registerInMessageTracker());
+        assertTrue(immutableMessage.isRegisteredInMessageTracker());
+
+        assertTrue(immutableMessage.unregisterFromMessageTracker());
+        assertFalse(immutableMessage.unregisterFromMessageTracker());
+        assertFalse(immutableMessage.isRegisteredInMessageTracker());
+    }
+
 }
@@ -351,6 +351,7 @@ public class HivemqMqttClient implements JoynrMqttClient {
                      topic,
                      serializedMessage.length,
                      qosLevel);
+        final long publishStartTimeNs = System.nanoTime();
         client.toAsync().publish(mqtt5Publish).whenComplete((publishResult, throwable) -> {
             if (throwable != null) {
                 logger.error("{}: Publishing to topic: {}, size: {}, qos: {} failed with exception.",
@@ -377,6 +378,7 @@ public class HivemqMqttClient implements JoynrMqttClient {
                         + publishResult.getError().get().toString()));
             } else {
                 connectionStatusMetrics.increaseSentMessages();
+                connectionStatusMetrics.recordPublishAckLatency(System.nanoTime() - publishStartTimeNs);
                 if (logger.isTraceEnabled()) {
                     logger.trace("{}: Publishing to topic: {}, size: {}, qos: {} succeeded: {}",
                                  clientInformation,
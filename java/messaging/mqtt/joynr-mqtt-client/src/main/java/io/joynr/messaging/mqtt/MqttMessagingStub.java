@@ -66,7 +66,7 @@ public class MqttMessagingStub implements IMessagingStub {
         if (msgTtlSec > MESSAGE_EXPIRY_MAX_INTERVAL || msgTtlSec < 0) {
             msgTtlSec = MESSAGE_EXPIRY_MAX_INTERVAL;
         }
-        byte[] serializedMessage = message.getSerializedMessage();
+        byte[] serializedMessage = message.getSerializedMessageWithoutCopy();
         if (logger.isTraceEnabled()) {
             logger.trace(">>> OUTGOING TO {} >>> {}", address.getBrokerUri(), message);
         } else {
@@ -74,7 +74,7 @@ public class MqttMessagingStub implements IMessagingStub {
         }
         mqttClient.publishMessage(topic,
                                   serializedMessage,
-                                  message.getPrefixedCustomHeaders(),
+                                  message.getPrefixedCustomHeadersWithExtraCustomHeaders(),
                                   qosLevel,
                                   msgTtlSec,
                                   successAction,
@@ -27,6 +27,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.same;
@@ -50,7 +51,9 @@ import io.joynr.messaging.FailureAction;
 import io.joynr.messaging.MessagingQosEffort;
 import io.joynr.messaging.SuccessAction;
 import joynr.ImmutableMessage;
+import joynr.Message;
 import joynr.Message.MessageType;
+import joynr.MutableMessage;
 import joynr.system.RoutingTypes.MqttAddress;
 
 /**
@@ -77,7 +80,8 @@ public class MqttMessagingStubTest {
 
     @Before
     public void setup() {
-        doReturn(new byte[0]).when(joynrMessage).getSerializedMessage();
+        doReturn(new byte[0]).when(joynrMessage).getSerializedMessageWithoutCopy();
+        doCallRealMethod().when(joynrMessage).getPrefixedCustomHeadersWithExtraCustomHeaders();
         subject = new MqttMessagingStub(mqttAddress, mqttClient);
     }
 
@@ -283,4 +287,39 @@ public class MqttMessagingStubTest {
                                           any(SuccessAction.class),
                                           any(FailureAction.class));
     }
+
+    @Test
+    public void testMessagePublishedWithExtraCustomHeadersWithoutCopyingSerializedMessage() throws Exception {
+        MutableMessage mutableMessage = new MutableMessage();
+        mutableMessage.setType(MessageType.VALUE_MESSAGE_TYPE_REQUEST);
+        mutableMessage.setSender("sender");
+        mutableMessage.setRecipient("recipient");
+        mutableMessage.setTtlAbsolute(true);
+        mutableMessage.setTtlMs(System.currentTimeMillis() + 60000);
+        mutableMessage.setPayload(new byte[]{ 0, 1, 2 });
+        Map<String, String> customHeaders = new HashMap<String, String>();
+        customHeaders.put("header1", "value1");
+        customHeaders.put("header2", "value2");
+        mutableMessage.setCustomHeaders(customHeaders);
+        ImmutableMessage message = mutableMessage.getImmutableMessage();
+
+        message.putExtraCustomHeader("header2", "overlaidValue2");
+        message.putExtraCustomHeader("header3", "value3");
+
+        subject.transmit(message, successAction, failureAction);
+
+        Map<String, String> expectedHeaders = new HashMap<String, String>();
+        expectedHeaders.put(Message.CUSTOM_HEADER_PREFIX + "header1", "value1");
+        expectedHeaders.put(Message.CUSTOM_HEADER_PREFIX + "header2", "overlaidValue2");
+        expectedHeaders.put(Message.CUSTOM_HEADER_PREFIX + "header3", "value3");
+        verify(mqttClient).publishMessage(anyString(),
+                                          same(message.getSerializedMessageWithoutCopy()),
+                                          eq(expectedHeaders),
+                                          eq(MqttMessagingStub.DEFAULT_QOS_LEVEL),
+                                          anyLong(),
+                                          any(SuccessAction.class),
+                                          any(FailureAction.class));
+        // the custom headers of the serialized message are not changed
+        assertEquals(customHeaders, message.getCustomHeaders());
+    }
 }
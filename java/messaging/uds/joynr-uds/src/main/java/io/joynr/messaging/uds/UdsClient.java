@@ -0,0 +1,172 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.uds;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import io.joynr.exceptions.JoynrDelayMessageException;
+import io.joynr.exceptions.JoynrIllegalStateException;
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.SuccessAction;
+import io.joynr.util.ObjectMapper;
+import joynr.system.RoutingTypes.Address;
+import joynr.system.RoutingTypes.UdsAddress;
+import joynr.system.RoutingTypes.UdsClientAddress;
+
+/**
+ * Unix domain socket client of a libjoynr runtime. Connects to the cluster controller, sends the
+ * initialization frame and reads incoming messages in its own thread. Lost connections are
+ * re-established after the configured reconnect delay.
+ */
+@Singleton
+public class UdsClient implements UdsEndpoint {
+    private static final Logger logger = LoggerFactory.getLogger(UdsClient.class);
+
+    private final UdsAddress serverAddress;
+    private final UdsClientAddress ownAddress;
+    private final long reconnectDelayMs;
+    private final int maxMessageSize;
+    private final ObjectMapper objectMapper;
+
+    private UdsMessagingSkeleton messageListener;
+    private Thread connectionThread;
+    private volatile UdsConnection connection;
+    private volatile boolean shutdown = false;
+
+    @Inject
+    public UdsClient(@Named(UdsModule.UDS_SERVER_ADDRESS) UdsAddress serverAddress,
+                     @Named(UdsModule.UDS_CLIENT_ADDRESS) UdsClientAddress ownAddress,
+                     @Named(UdsModule.PROPERTY_UDS_RECONNECT_DELAY) long reconnectDelayMs,
+                     @Named(ConfigurableMessagingSettings.PROPERTY_MAX_MESSAGE_SIZE) int maxMessageSize,
+                     ObjectMapper objectMapper) {
+        this.serverAddress = new UdsAddress(serverAddress);
+        this.ownAddress = new UdsClientAddress(ownAddress);
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.maxMessageSize = maxMessageSize;
+        this.objectMapper = new ObjectMapper(objectMapper);
+    }
+
+    @Override
+    public void setMessageListener(UdsMessagingSkeleton messageListener) {
+        this.messageListener = messageListener;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (connectionThread != null) {
+            return;
+        }
+        connectionThread = new Thread(this::run, "joynr.UdsClient");
+        connectionThread.setDaemon(true);
+        connectionThread.start();
+    }
+
+    private void run() {
+        byte[] initBody;
+        try {
+            initBody = objectMapper.writeValueAsString(ownAddress).getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.error("Unable to serialize UdsClientAddress {}: ", ownAddress, e);
+            return;
+        }
+        while (!shutdown) {
+            try {
+                logger.debug("Connecting to UDS server {} ...", serverAddress.getPath());
+                SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+                UdsConnection newConnection = new UdsConnection(channel, maxMessageSize);
+                try {
+                    channel.connect(UnixDomainSocketAddress.of(serverAddress.getPath()));
+                    newConnection.writeInitFrame(initBody);
+                    connection = newConnection;
+                    logger.debug("UDS client connected");
+                    newConnection.readFrames((isInitFrame, buffer, offset, length) -> {
+                        if (isInitFrame) {
+                            throw new IOException("UDS client received unexpected initialization frame");
+                        }
+                        messageListener.transmit(buffer, offset, length, error -> {
+                            logger.error("UDS message not processed: ", error);
+                        });
+                    });
+                } finally {
+                    connection = null;
+                    newConnection.close();
+                }
+            } catch (IOException e) {
+                if (shutdown) {
+                    return;
+                }
+                logger.debug("UDS connection to {} failed. Will retry: {}", serverAddress.getPath(), e.getMessage());
+            }
+            try {
+                Thread.sleep(reconnectDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void writeBytes(Address toAddress,
+                           byte[] message,
+                           final SuccessAction successAction,
+                           final FailureAction failureAction) {
+        if (messageListener == null) {
+            throw new JoynrDelayMessageException(20, "UDS write failed: receiver has not been set yet");
+        }
+        UdsConnection currentConnection = connection;
+        if (currentConnection == null) {
+            throw new JoynrDelayMessageException(reconnectDelayMs, "UDS client not connected. Will try later");
+        }
+        try {
+            currentConnection.writeMessageFrame(message);
+        } catch (IOException e) {
+            // the reader thread notices the closed connection and reconnects
+            currentConnection.close();
+            failureAction.execute(new JoynrDelayMessageException(reconnectDelayMs,
+                                                                 "UDS write failed: " + e.getMessage()));
+            return;
+        }
+        successAction.execute();
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        UdsConnection currentConnection = connection;
+        if (currentConnection != null) {
+            currentConnection.close();
+        }
+        if (connectionThread != null) {
+            connectionThread.interrupt();
+        }
+    }
+}
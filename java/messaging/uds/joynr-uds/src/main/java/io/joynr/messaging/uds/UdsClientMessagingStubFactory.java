@@ -0,0 +1,45 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.uds;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.joynr.messaging.AbstractMiddlewareMessagingStubFactory;
+import joynr.system.RoutingTypes.UdsClientAddress;
+
+/**
+ * Creates the stubs with which the cluster controller sends messages to connected libjoynr runtimes.
+ */
+@Singleton
+public class UdsClientMessagingStubFactory
+        extends AbstractMiddlewareMessagingStubFactory<UdsMessagingStub, UdsClientAddress> {
+
+    private UdsEndpoint udsEndpoint;
+
+    @Inject
+    public UdsClientMessagingStubFactory(UdsEndpoint udsEndpoint) {
+        this.udsEndpoint = udsEndpoint;
+    }
+
+    @Override
+    protected UdsMessagingStub createInternal(UdsClientAddress clientAddress) {
+        return new UdsMessagingStub(clientAddress, udsEndpoint);
+    }
+}
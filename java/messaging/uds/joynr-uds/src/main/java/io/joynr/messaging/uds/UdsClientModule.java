@@ -0,0 +1,83 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.uds;
+
+import static io.joynr.util.JoynrUtil.createUuidString;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.TypeLiteral;
+import com.google.inject.multibindings.MapBinder;
+import com.google.inject.multibindings.OptionalBinder;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+
+import io.joynr.messaging.AbstractMiddlewareMessagingStubFactory;
+import io.joynr.messaging.IMessagingSkeletonFactory;
+import io.joynr.messaging.IMessagingStub;
+import io.joynr.messaging.MessagingSkeletonFactory;
+import io.joynr.messaging.routing.MessagingStubFactory;
+import io.joynr.messaging.routing.MulticastAddressCalculator;
+import io.joynr.runtime.SystemServicesSettings;
+import joynr.system.RoutingTypes.Address;
+import joynr.system.RoutingTypes.UdsAddress;
+import joynr.system.RoutingTypes.UdsClientAddress;
+
+/**
+ * Connects a libjoynr runtime to its cluster controller via Unix domain socket.
+ */
+public class UdsClientModule extends AbstractModule {
+
+    String messagingUUID = createUuidString().replace("-", "");
+
+    @Override
+    protected void configure() {
+        install(new UdsModule());
+        bind(UdsEndpoint.class).to(UdsClient.class);
+        bindConstant().annotatedWith(Names.named(UdsModule.UDS_IS_MAIN_TRANSPORT)).to(true);
+
+        MapBinder<Class<? extends Address>, AbstractMiddlewareMessagingStubFactory<? extends IMessagingStub, ? extends Address>> messagingStubFactory;
+        messagingStubFactory = MapBinder.newMapBinder(binder(), new TypeLiteral<Class<? extends Address>>() {
+        }, new TypeLiteral<AbstractMiddlewareMessagingStubFactory<? extends IMessagingStub, ? extends Address>>() {
+        }, Names.named(MessagingStubFactory.MIDDLEWARE_MESSAGING_STUB_FACTORIES));
+        messagingStubFactory.addBinding(UdsAddress.class).to(UdsMessagingStubFactory.class);
+
+        MapBinder<Class<? extends Address>, IMessagingSkeletonFactory> messagingSkeletonFactory;
+        messagingSkeletonFactory = MapBinder.newMapBinder(binder(), new TypeLiteral<Class<? extends Address>>() {
+        }, new TypeLiteral<IMessagingSkeletonFactory>() {
+        }, Names.named(MessagingSkeletonFactory.MIDDLEWARE_MESSAGING_SKELETON_FACTORIES));
+        messagingSkeletonFactory.addBinding(UdsAddress.class).to(UdsMessagingSkeletonFactory.class);
+
+        OptionalBinder.newOptionalBinder(binder(), MulticastAddressCalculator.class)
+                      .setBinding()
+                      .to(UdsMulticastAddressCalculator.class);
+    }
+
+    @Provides
+    @Named(UdsModule.UDS_CLIENT_ADDRESS)
+    UdsClientAddress getUdsClientAddress() {
+        return new UdsClientAddress("libjoynr.messaging.participantid_" + messagingUUID);
+    }
+
+    @Provides
+    @Named(SystemServicesSettings.LIBJOYNR_MESSAGING_ADDRESS)
+    Address getLibjoynrMessagingAddress() {
+        return getUdsClientAddress();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.uds;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * A Unix domain socket connection exchanging frames of the UDS frame format version 1 which is also
+ * used by the C++ cluster controller.
+ * <p>
+ * Every frame consists of a four byte magic cookie ("MJI1" for the initialization frame carrying the
+ * serialized UdsClientAddress, "MJM1" for frames carrying a SMRF message), the body length as unsigned
+ * 32 bit integer in network byte order, and the body.
+ * <p>
+ * Received frames are parsed in place from a reusable receive buffer which is compacted after every
+ * read; their bodies are handed to the {@link FrameHandler} as slice of that buffer without copying.
+ * Writes are gathering writes of the frame header and the unmodified message.
+ */
+class UdsConnection {
+
+    static final byte[] INIT_MAGIC_COOKIE = { 'M', 'J', 'I', '1' };
+    static final byte[] MESSAGE_MAGIC_COOKIE = { 'M', 'J', 'M', '1' };
+    static final int HEADER_SIZE = 8;
+
+    private static final int INITIAL_RECEIVE_BUFFER_SIZE = 64 * 1024;
+
+    interface FrameHandler {
+        /**
+         * Called for every received frame. The body is only valid until the method returns.
+         */
+        void onFrame(boolean isInitFrame, byte[] buffer, int offset, int length) throws IOException;
+    }
+
+    private final SocketChannel channel;
+    private final int maxMessageSize;
+    private final Object writeLock = new Object();
+    private ByteBuffer receiveBuffer;
+
+    UdsConnection(SocketChannel channel, int maxMessageSize) {
+        this.channel = channel;
+        this.maxMessageSize = maxMessageSize;
+        this.receiveBuffer = ByteBuffer.allocate(Math.min(INITIAL_RECEIVE_BUFFER_SIZE, maxMessageSize + HEADER_SIZE));
+    }
+
+    void writeInitFrame(byte[] body) throws IOException {
+        writeFrame(INIT_MAGIC_COOKIE, body);
+    }
+
+    void writeMessageFrame(byte[] body) throws IOException {
+        writeFrame(MESSAGE_MAGIC_COOKIE, body);
+    }
+
+    private void writeFrame(byte[] magicCookie, byte[] body) throws IOException {
+        if (body.length > maxMessageSize) {
+            throw new IOException("UDS message size " + body.length + " exceeds maximum message size "
+                    + maxMessageSize);
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.put(magicCookie);
+        header.putInt(body.length);
+        header.flip();
+        ByteBuffer[] frame = { header, ByteBuffer.wrap(body) };
+        synchronized (writeLock) {
+            while (frame[0].hasRemaining() || frame[1].hasRemaining()) {
+                channel.write(frame);
+            }
+        }
+    }
+
+    /**
+     * Reads frames until the connection is closed.
+     *
+     * @throws IOException if the connection fails, is closed by the peer or receives an invalid frame
+     */
+    void readFrames(FrameHandler frameHandler) throws IOException {
+        while (true) {
+            if (channel.read(receiveBuffer) < 0) {
+                throw new EOFException("UDS connection closed by peer");
+            }
+            receiveBuffer.flip();
+            while (receiveBuffer.remaining() >= HEADER_SIZE) {
+                int frameStart = receiveBuffer.position();
+                boolean isInitFrame = checkMagicCookie(frameStart);
+                long bodyLength = Integer.toUnsignedLong(receiveBuffer.getInt(frameStart + 4));
+                if (bodyLength > maxMessageSize) {
+                    throw new IOException("UDS frame body length " + bodyLength + " exceeds maximum message size "
+                            + maxMessageSize);
+                }
+                if (receiveBuffer.remaining() < HEADER_SIZE + bodyLength) {
+                    break;
+                }
+                receiveBuffer.position(frameStart + HEADER_SIZE + (int) bodyLength);
+                frameHandler.onFrame(isInitFrame,
+                                     receiveBuffer.array(),
+                                     receiveBuffer.arrayOffset() + frameStart + HEADER_SIZE,
+                                     (int) bodyLength);
+            }
+            receiveBuffer.compact();
+            ensureCapacityForPendingFrame();
+        }
+    }
+
+    private boolean checkMagicCookie(int frameStart) throws IOException {
+        byte[] buffer = receiveBuffer.array();
+        int cookieStart = receiveBuffer.arrayOffset() + frameStart;
+        boolean isInitFrame = buffer[cookieStart + 2] == INIT_MAGIC_COOKIE[2];
+        byte[] expectedCookie = isInitFrame ? INIT_MAGIC_COOKIE : MESSAGE_MAGIC_COOKIE;
+        for (int i = 0; i < expectedCookie.length; i++) {
+            if (buffer[cookieStart + i] != expectedCookie[i]) {
+                throw new IOException("UDS frame header does not start with a known magic cookie");
+            }
+        }
+        return isInitFrame;
+    }
+
+    /**
+     * Grows the receive buffer if the frame at its beginning does not fit. Called with the buffer in
+     * write mode after compacting.
+     */
+    private void ensureCapacityForPendingFrame() {
+        if (receiveBuffer.position() < HEADER_SIZE) {
+            return;
+        }
+        int frameSize = HEADER_SIZE + receiveBuffer.getInt(4);
+        if (frameSize > receiveBuffer.capacity()) {
+            ByteBuffer largerBuffer = ByteBuffer.allocate(frameSize);
+            receiveBuffer.flip();
+            largerBuffer.put(receiveBuffer);
+            receiveBuffer = largerBuffer;
+        }
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // connection is discarded anyway
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.uds;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.IMessagingSkeleton;
+import io.joynr.messaging.JoynrMessageProcessor;
+import io.joynr.messaging.routing.MessageRouter;
+import joynr.ImmutableMessage;
+
+public class UdsMessagingSkeleton implements IMessagingSkeleton {
+    private static final Logger logger = LoggerFactory.getLogger(UdsMessagingSkeleton.class);
+
+    private final UdsEndpoint udsEndpoint;
+    private final MessageRouter messageRouter;
+    private final boolean mainTransport;
+    private final Set<JoynrMessageProcessor> messageProcessors;
+
+    public UdsMessagingSkeleton(UdsEndpoint udsEndpoint,
+                                MessageRouter messageRouter,
+                                boolean mainTransport,
+                                Set<JoynrMessageProcessor> messageProcessors) {
+        this.udsEndpoint = udsEndpoint;
+        this.messageRouter = messageRouter;
+        this.mainTransport = mainTransport;
+        this.messageProcessors = (messageProcessors != null) ? new HashSet<>(messageProcessors) : null;
+    }
+
+    @Override
+    public void init() {
+        logger.debug("Initializing UDS skeleton ...");
+        udsEndpoint.setMessageListener(this);
+        udsEndpoint.start();
+        logger.debug("UdsEndpoint started");
+    }
+
+    /**
+     * Transmits a message which is contained in a slice of a receive buffer.
+     */
+    public void transmit(byte[] buffer, int offset, int length, FailureAction failureAction) {
+        try {
+            ImmutableMessage message = new ImmutableMessage(buffer, offset, length);
+
+            if (logger.isTraceEnabled()) {
+                logger.trace("<<< INCOMING <<< {}", message);
+            } else {
+                logger.debug("<<< INCOMING <<< {}", message.getTrackingInfo());
+            }
+
+            if (messageProcessors != null) {
+                for (JoynrMessageProcessor processor : messageProcessors) {
+                    message = processor.processIncoming(message);
+                }
+            }
+
+            if (mainTransport) {
+                /*
+                 * On LibJoynr side, prevent message loops by marking the messages as
+                 * received from global. The LibJoynrMessageRouter prevents sending
+                 * back the message to the CC.
+                 */
+                message.setReceivedFromGlobal(true);
+            }
+
+            messageRouter.routeIn(message);
+        } catch (Exception error) {
+            failureAction.execute(error);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        udsEndpoint.shutdown();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.uds;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.name.Named;
+
+import joynr.system.RoutingTypes.UdsAddress;
+
+public class UdsModule extends AbstractModule {
+
+    public static final String PROPERTY_UDS_SOCKET_PATH = "joynr.messaging.uds.socketpath";
+    public static final String PROPERTY_UDS_RECONNECT_DELAY = "joynr.messaging.uds.reconnectdelay";
+
+    public static final String UDS_CLIENT_ADDRESS = "uds_client_address";
+    public static final String UDS_SERVER_ADDRESS = "uds_server_address";
+    public static final String UDS_IS_MAIN_TRANSPORT = "io.joynr.uds.is.main.transport";
+
+    @Override
+    protected void configure() {
+    }
+
+    @Provides
+    @Named(UDS_SERVER_ADDRESS)
+    public UdsAddress provideUdsServerAddress(@Named(PROPERTY_UDS_SOCKET_PATH) String socketPath) {
+        return new UdsAddress(socketPath);
+    }
+}
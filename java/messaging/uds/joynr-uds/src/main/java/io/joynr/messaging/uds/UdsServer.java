@@ -0,0 +1,205 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.uds;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import io.joynr.exceptions.JoynrDelayMessageException;
+import io.joynr.exceptions.JoynrIllegalStateException;
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.SuccessAction;
+import io.joynr.util.ObjectMapper;
+import joynr.system.RoutingTypes.Address;
+import joynr.system.RoutingTypes.UdsAddress;
+import joynr.system.RoutingTypes.UdsClientAddress;
+
+/**
+ * Unix domain socket server of the cluster controller. Every connected libjoynr runtime identifies
+ * itself with an initialization frame containing its UdsClientAddress; afterwards, both sides exchange
+ * SMRF messages. Every connection is served by its own reader thread.
+ */
+@Singleton
+public class UdsServer implements UdsEndpoint {
+    private static final Logger logger = LoggerFactory.getLogger(UdsServer.class);
+
+    private final Path socketPath;
+    private final int maxMessageSize;
+    private final ObjectMapper objectMapper;
+    private final Map<String, UdsConnection> clientConnections = new ConcurrentHashMap<>();
+    private final Set<UdsConnection> openConnections = ConcurrentHashMap.newKeySet();
+
+    private UdsMessagingSkeleton messageListener;
+    private ServerSocketChannel serverChannel;
+    private volatile boolean shutdown = false;
+
+    @Inject
+    public UdsServer(@Named(UdsModule.UDS_SERVER_ADDRESS) UdsAddress serverAddress,
+                     @Named(ConfigurableMessagingSettings.PROPERTY_MAX_MESSAGE_SIZE) int maxMessageSize,
+                     ObjectMapper objectMapper) {
+        this.socketPath = Path.of(serverAddress.getPath());
+        this.maxMessageSize = maxMessageSize;
+        this.objectMapper = new ObjectMapper(objectMapper);
+    }
+
+    @Override
+    public void setMessageListener(UdsMessagingSkeleton messageListener) {
+        this.messageListener = messageListener;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (serverChannel != null) {
+            return;
+        }
+        try {
+            logger.info("Starting UDS server on {} ...", socketPath);
+            // remove the socket file left behind by a previous cluster controller instance
+            Files.deleteIfExists(socketPath);
+            serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            serverChannel.bind(UnixDomainSocketAddress.of(socketPath));
+        } catch (IOException e) {
+            throw new JoynrIllegalStateException("Unable to start UDS server on " + socketPath + ": " + e.getMessage(),
+                                                 e);
+        }
+        Thread acceptThread = new Thread(this::acceptConnections, "joynr.UdsServer-accept");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        logger.info("UDS server started");
+    }
+
+    private void acceptConnections() {
+        while (!shutdown) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                UdsConnection connection = new UdsConnection(channel, maxMessageSize);
+                openConnections.add(connection);
+                Thread connectionThread = new Thread(() -> serveConnection(connection), "joynr.UdsServer-connection");
+                connectionThread.setDaemon(true);
+                connectionThread.start();
+            } catch (IOException e) {
+                if (!shutdown) {
+                    logger.error("Error accepting UDS connection: ", e);
+                }
+            }
+        }
+    }
+
+    private void serveConnection(UdsConnection connection) {
+        String[] clientId = new String[1];
+        try {
+            connection.readFrames((isInitFrame, buffer, offset, length) -> {
+                if (isInitFrame) {
+                    UdsClientAddress clientAddress = objectMapper.readValue(new String(buffer,
+                                                                                       offset,
+                                                                                       length,
+                                                                                       StandardCharsets.UTF_8),
+                                                                            UdsClientAddress.class);
+                    logger.debug("Registering UdsClientAddress: {}", clientAddress);
+                    clientId[0] = clientAddress.getId();
+                    UdsConnection previousConnection = clientConnections.put(clientId[0], connection);
+                    if (previousConnection != null && previousConnection != connection) {
+                        previousConnection.close();
+                    }
+                } else if (clientId[0] == null) {
+                    throw new IOException("UDS client sent message before initialization");
+                } else {
+                    messageListener.transmit(buffer, offset, length, new FailureAction() {
+                        @Override
+                        public void execute(Throwable error) {
+                            logger.error("Unable to process message: {}", error.getMessage());
+                        }
+                    });
+                }
+            });
+        } catch (IOException e) {
+            if (!shutdown) {
+                logger.debug("UDS connection of client {} closed: {}", clientId[0], e.getMessage());
+            }
+        } finally {
+            if (clientId[0] != null) {
+                clientConnections.remove(clientId[0], connection);
+            }
+            openConnections.remove(connection);
+            connection.close();
+        }
+    }
+
+    @Override
+    public void writeBytes(Address toAddress,
+                           byte[] message,
+                           final SuccessAction successAction,
+                           final FailureAction failureAction) {
+        if (!(toAddress instanceof UdsClientAddress)) {
+            throw new JoynrIllegalStateException("UDS server can only send to UdsClientAddresses");
+        }
+
+        String clientId = ((UdsClientAddress) toAddress).getId();
+        UdsConnection connection = clientConnections.get(clientId);
+        if (connection == null) {
+            throw new JoynrDelayMessageException("no active connection for UdsClientAddress: " + clientId);
+        }
+        try {
+            connection.writeMessageFrame(message);
+        } catch (IOException e) {
+            if (shutdown) {
+                return;
+            }
+            // the client must reconnect, the message is retried in the mean time
+            clientConnections.remove(clientId, connection);
+            connection.close();
+            failureAction.execute(new JoynrDelayMessageException("UDS write failed: " + e.getMessage(), e));
+            return;
+        }
+        successAction.execute();
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            logger.error("Error stopping UDS server: ", e);
+        }
+        for (UdsConnection connection : openConnections) {
+            connection.close();
+        }
+    }
+}
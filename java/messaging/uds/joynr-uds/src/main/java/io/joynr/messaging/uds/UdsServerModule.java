@@ -0,0 +1,60 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.uds;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.TypeLiteral;
+import com.google.inject.multibindings.MapBinder;
+import com.google.inject.name.Names;
+
+import io.joynr.messaging.AbstractMiddlewareMessagingStubFactory;
+import io.joynr.messaging.IMessagingSkeletonFactory;
+import io.joynr.messaging.IMessagingStub;
+import io.joynr.messaging.MessagingSkeletonFactory;
+import io.joynr.messaging.routing.MessagingStubFactory;
+import joynr.system.RoutingTypes.Address;
+import joynr.system.RoutingTypes.UdsClientAddress;
+
+/**
+ * Adds the Unix domain socket transport to a cluster controller. Can be combined with the modules
+ * of other local transports, e.g.
+ * {@code Modules.combine(new CCWebSocketRuntimeModule(), new UdsServerModule())}, so that co-located
+ * applications connect via Unix domain socket while others keep using WebSockets.
+ */
+public class UdsServerModule extends AbstractModule {
+
+    @Override
+    protected void configure() {
+        install(new UdsModule());
+        bind(UdsEndpoint.class).to(UdsServer.class);
+        bindConstant().annotatedWith(Names.named(UdsModule.UDS_IS_MAIN_TRANSPORT)).to(false);
+
+        MapBinder<Class<? extends Address>, AbstractMiddlewareMessagingStubFactory<? extends IMessagingStub, ? extends Address>> messagingStubFactory;
+        messagingStubFactory = MapBinder.newMapBinder(binder(), new TypeLiteral<Class<? extends Address>>() {
+        }, new TypeLiteral<AbstractMiddlewareMessagingStubFactory<? extends IMessagingStub, ? extends Address>>() {
+        }, Names.named(MessagingStubFactory.MIDDLEWARE_MESSAGING_STUB_FACTORIES));
+        messagingStubFactory.addBinding(UdsClientAddress.class).to(UdsClientMessagingStubFactory.class);
+
+        MapBinder<Class<? extends Address>, IMessagingSkeletonFactory> messagingSkeletonFactory;
+        messagingSkeletonFactory = MapBinder.newMapBinder(binder(), new TypeLiteral<Class<? extends Address>>() {
+        }, new TypeLiteral<IMessagingSkeletonFactory>() {
+        }, Names.named(MessagingSkeletonFactory.MIDDLEWARE_MESSAGING_SKELETON_FACTORIES));
+        messagingSkeletonFactory.addBinding(UdsClientAddress.class).to(UdsMessagingSkeletonFactory.class);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.uds;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.joynr.exceptions.JoynrDelayMessageException;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.SuccessAction;
+import io.joynr.messaging.routing.MessageRouter;
+import io.joynr.util.ObjectMapper;
+import joynr.ImmutableMessage;
+import joynr.Message.MessageType;
+import joynr.MutableMessage;
+import joynr.system.RoutingTypes.UdsAddress;
+import joynr.system.RoutingTypes.UdsClientAddress;
+
+@RunWith(MockitoJUnitRunner.class)
+public class UdsTransportTest {
+    private static final int MAX_MESSAGE_SIZE = 4000000;
+    private static final long RECONNECT_DELAY_MS = 50;
+    private static final long TIMEOUT_MS = 5000;
+
+    private static final SuccessAction NO_SUCCESS_EXPECTED = () -> fail("Unexpected SuccessAction call");
+    private static final FailureAction NO_FAILURE_EXPECTED = error -> fail("Unexpected FailureAction call: " + error);
+
+    @Mock
+    private MessageRouter ccMessageRouter;
+    @Mock
+    private MessageRouter libjoynrMessageRouter;
+    @Mock
+    private SuccessAction successAction;
+
+    private Path socketDirectory;
+    private UdsClientAddress clientAddress;
+    private UdsServer server;
+    private UdsClient client;
+    private UdsMessagingSkeleton serverSkeleton;
+    private UdsMessagingSkeleton clientSkeleton;
+
+    @Before
+    public void setUp() throws Exception {
+        socketDirectory = Files.createTempDirectory("joynr-uds");
+        UdsAddress serverAddress = new UdsAddress(socketDirectory.resolve("cc.sock").toString());
+        clientAddress = new UdsClientAddress("libjoynr.messaging.participantid_test");
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        server = new UdsServer(serverAddress, MAX_MESSAGE_SIZE, objectMapper);
+        serverSkeleton = new UdsMessagingSkeleton(server, ccMessageRouter, false, Collections.emptySet());
+        serverSkeleton.init();
+
+        client = new UdsClient(serverAddress, clientAddress, RECONNECT_DELAY_MS, MAX_MESSAGE_SIZE, objectMapper);
+        clientSkeleton = new UdsMessagingSkeleton(client, libjoynrMessageRouter, true, Collections.emptySet());
+        clientSkeleton.init();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        clientSkeleton.shutdown();
+        serverSkeleton.shutdown();
+        Files.deleteIfExists(socketDirectory.resolve("cc.sock"));
+        Files.deleteIfExists(socketDirectory);
+    }
+
+    private static byte[] createMessage(int payloadSize) throws Exception {
+        MutableMessage mutableMessage = new MutableMessage();
+        mutableMessage.setPayload(new byte[payloadSize]);
+        mutableMessage.setRecipient("recipientId");
+        mutableMessage.setSender("senderId");
+        mutableMessage.setType(MessageType.VALUE_MESSAGE_TYPE_REQUEST);
+        return mutableMessage.getImmutableMessage().getSerializedMessage();
+    }
+
+    private void writeWhenConnected(UdsEndpoint endpoint, byte[] message) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (true) {
+            try {
+                endpoint.writeBytes(clientAddress, message, successAction, NO_FAILURE_EXPECTED);
+                return;
+            } catch (JoynrDelayMessageException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    @Test
+    public void messageFromClientIsRoutedInClusterController() throws Exception {
+        byte[] serializedMessage = createMessage(100);
+
+        writeWhenConnected(client, serializedMessage);
+
+        ArgumentCaptor<ImmutableMessage> messageCaptor = ArgumentCaptor.forClass(ImmutableMessage.class);
+        verify(ccMessageRouter, timeout(TIMEOUT_MS)).routeIn(messageCaptor.capture());
+        assertArrayEquals(serializedMessage, messageCaptor.getValue().getSerializedMessage());
+        assertFalse(messageCaptor.getValue().isReceivedFromGlobal());
+        verify(successAction).execute();
+    }
+
+    @Test
+    public void messageFromServerIsRoutedInLibjoynr() throws Exception {
+        byte[] serializedMessage = createMessage(100);
+
+        // the server knows the client as soon as it has received its initialization frame
+        writeWhenConnected(server, serializedMessage);
+
+        ArgumentCaptor<ImmutableMessage> messageCaptor = ArgumentCaptor.forClass(ImmutableMessage.class);
+        verify(libjoynrMessageRouter, timeout(TIMEOUT_MS)).routeIn(messageCaptor.capture());
+        assertArrayEquals(serializedMessage, messageCaptor.getValue().getSerializedMessage());
+        assertTrue(messageCaptor.getValue().isReceivedFromGlobal());
+    }
+
+    @Test
+    public void manySmallAndLargeMessagesArriveInOrder() throws Exception {
+        final int numberOfMessages = 100;
+        writeWhenConnected(client, createMessage(0));
+        for (int i = 1; i < numberOfMessages; i++) {
+            // every tenth message exceeds the initial receive buffer
+            client.writeBytes(clientAddress,
+                              createMessage(i % 10 == 0 ? 200000 + i : i),
+                              successAction,
+                              NO_FAILURE_EXPECTED);
+        }
+
+        ArgumentCaptor<ImmutableMessage> messageCaptor = ArgumentCaptor.forClass(ImmutableMessage.class);
+        verify(ccMessageRouter, timeout(TIMEOUT_MS).times(numberOfMessages)).routeIn(messageCaptor.capture());
+        List<ImmutableMessage> messages = messageCaptor.getAllValues();
+        for (int i = 1; i < numberOfMessages; i++) {
+            assertEquals(i % 10 == 0 ? 200000 + i : i, messages.get(i).getUnencryptedBody().length);
+        }
+    }
+
+    @Test(expected = JoynrDelayMessageException.class)
+    public void writeToUnknownClientThrowsDelayException() {
+        server.writeBytes(new UdsClientAddress("unknownClient"), new byte[0], NO_SUCCESS_EXPECTED, NO_FAILURE_EXPECTED);
+    }
+}
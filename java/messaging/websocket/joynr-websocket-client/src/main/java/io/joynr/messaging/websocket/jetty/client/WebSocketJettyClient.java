@@ -30,7 +30,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import io.joynr.messaging.websocket.MessageHelper;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WebSocketAdapter;
 import org.eclipse.jetty.websocket.api.WriteCallback;
@@ -50,6 +49,7 @@ import io.joynr.messaging.FailureAction;
 import io.joynr.messaging.SuccessAction;
 import io.joynr.messaging.websocket.IWebSocketMessagingSkeleton;
 import io.joynr.messaging.websocket.JoynrWebSocketEndpoint;
+import io.joynr.messaging.websocket.WebSocketWriteQueue;
 import io.joynr.util.ObjectMapper;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.WebSocketAddress;
@@ -65,25 +65,35 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
     private WebSocketClient jettyClient;
     private int maxMessageSize;
     private long websocketIdleTimeout;
-    CompletableFuture<Session> sessionFuture;
+    private int maxOutstandingWrites;
+    private int maxQueuedWrites;
+    volatile CompletableFuture<Session> sessionFuture;
     private WebSocketAddress serverAddress;
     private IWebSocketMessagingSkeleton messageListener;
     private ObjectMapper objectMapper;
     private WebSocketClientAddress ownAddress;
 
-    private boolean shutdown = false;
+    private final Object writeQueueLock = new Object();
+    private Session writeQueueSession;
+    private WebSocketWriteQueue writeQueue;
+
+    private volatile boolean shutdown = false;
 
     public WebSocketJettyClient(WebSocketAddress serverAddress,
                                 WebSocketClientAddress ownAddress,
                                 int maxMessageSize,
                                 long reconnectDelay,
                                 long websocketIdleTimeout,
+                                int maxOutstandingWrites,
+                                int maxQueuedWrites,
                                 ObjectMapper objectMapper) {
         this.serverAddress = (serverAddress != null) ? new WebSocketAddress(serverAddress) : null;
         this.ownAddress = (ownAddress != null) ? new WebSocketClientAddress(ownAddress) : null;
         this.maxMessageSize = maxMessageSize;
         this.reconnectDelay = reconnectDelay;
         this.websocketIdleTimeout = websocketIdleTimeout;
+        this.maxOutstandingWrites = maxOutstandingWrites;
+        this.maxQueuedWrites = maxQueuedWrites;
         this.objectMapper = new ObjectMapper(objectMapper);
     }
 
@@ -220,11 +230,10 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
 
     @Override
     public void onWebSocketBinary(byte[] payload, int offset, int len) {
-        final byte[] message = MessageHelper.extractMessage(payload, offset, len);
         if (logger.isTraceEnabled()) {
-            logger.trace("Received message: {}", new String(message, CHARSET));
+            logger.trace("Received message: {}", new String(payload, offset, len, CHARSET));
         }
-        messageListener.transmit(message, error -> {
+        messageListener.transmit(payload, offset, len, error -> {
             if (error instanceof JoynrMessageExpiredException) {
                 logger.warn("WebSocket message not processed: ", error);
             } else {
@@ -234,44 +243,33 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
     }
 
     @Override
-    public synchronized void writeBytes(Address to,
-                                        byte[] message,
-                                        long timeout,
-                                        TimeUnit unit,
-                                        final SuccessAction successAction,
-                                        final FailureAction failureAction) {
+    public void writeBytes(Address to,
+                           byte[] message,
+                           long timeout,
+                           TimeUnit unit,
+                           final SuccessAction successAction,
+                           final FailureAction failureAction) {
         if (messageListener == null) {
             throw new JoynrDelayMessageException(20, "WebSocket write failed: receiver has not been set yet");
         }
 
-        if (sessionFuture == null) {
+        CompletableFuture<Session> currentSessionFuture = sessionFuture;
+        if (currentSessionFuture == null) {
             try {
                 reconnect();
             } catch (Exception e) {
                 throw new JoynrDelayMessageException(10, "WebSocket reconnect failed. Will try later", e);
             }
+            currentSessionFuture = sessionFuture;
+            if (currentSessionFuture == null) {
+                throw new JoynrDelayMessageException(10, "WebSocket reconnect failed. Will try later");
+            }
         }
 
         try {
-            Session session = sessionFuture.get(timeout, unit);
-            session.getRemote().sendBytes(ByteBuffer.wrap(message), new WriteCallback() {
-
-                @Override
-                public void writeSuccess() {
-                    successAction.execute();
-                }
-
-                @Override
-                public void writeFailed(Throwable error) {
-                    if (error instanceof WebSocketException) {
-                        reconnect();
-                        failureAction.execute(new JoynrDelayMessageException(reconnectDelay, error.getMessage()));
-                    } else {
-                        failureAction.execute(error);
-                    }
-                }
-            });
-        } catch (WebSocketException | ExecutionException e) {
+            Session session = currentSessionFuture.get(timeout, unit);
+            getWriteQueue(session).write(message, successAction, failureAction);
+        } catch (ExecutionException e) {
             reconnect();
             throw new JoynrDelayMessageException(10, "WebSocket write failed", e);
         } catch (TimeoutException e) {
@@ -281,6 +279,43 @@ public class WebSocketJettyClient extends WebSocketAdapter implements JoynrWebSo
         }
     }
 
+    private WebSocketWriteQueue getWriteQueue(final Session session) {
+        synchronized (writeQueueLock) {
+            if (writeQueueSession != session) {
+                if (writeQueue != null) {
+                    writeQueue.close();
+                }
+                writeQueueSession = session;
+                writeQueue = new WebSocketWriteQueue((message, onSuccess, onFailure) -> {
+                    try {
+                        session.getRemote().sendBytes(message, new WriteCallback() {
+
+                            @Override
+                            public void writeSuccess() {
+                                onSuccess.run();
+                            }
+
+                            @Override
+                            public void writeFailed(Throwable error) {
+                                if (error instanceof WebSocketException) {
+                                    reconnect();
+                                    onFailure.accept(new JoynrDelayMessageException(reconnectDelay,
+                                                                                    error.getMessage()));
+                                } else {
+                                    onFailure.accept(error);
+                                }
+                            }
+                        });
+                    } catch (WebSocketException e) {
+                        reconnect();
+                        throw new JoynrDelayMessageException(10, "WebSocket write failed", e);
+                    }
+                }, maxOutstandingWrites, maxQueuedWrites);
+            }
+            return writeQueue;
+        }
+    }
+
     @Override
     public void onWebSocketClose(int statusCode, String reason) {
         super.onWebSocketClose(statusCode, reason);
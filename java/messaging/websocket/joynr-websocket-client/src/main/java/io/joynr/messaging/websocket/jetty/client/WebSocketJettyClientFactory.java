@@ -40,6 +40,8 @@ public class WebSocketJettyClientFactory implements WebSocketEndpointFactory {
     private int maxMessageSize;
     private long reconnectDelay;
     private long websocketIdleTimeout;
+    private int maxOutstandingWrites;
+    private int maxQueuedWrites;
     private Map<WebSocketAddress, JoynrWebSocketEndpoint> jettyClientsMap = new HashMap<WebSocketAddress, JoynrWebSocketEndpoint>();
     private ObjectMapper objectMapper;
 
@@ -48,11 +50,15 @@ public class WebSocketJettyClientFactory implements WebSocketEndpointFactory {
                                        @Named(ConfigurableMessagingSettings.PROPERTY_MAX_MESSAGE_SIZE) int maxMessageSize,
                                        @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_RECONNECT_DELAY) long reconnectDelay,
                                        @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_IDLE_TIMEOUT) long websocketIdleTimeout,
+                                       @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_MAX_OUTSTANDING_WRITES) int maxOutstandingWrites,
+                                       @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_MAX_QUEUED_WRITES) int maxQueuedWrites,
                                        ObjectMapper objectMapper) {
         this.ownAddress = (ownAddress != null) ? new WebSocketClientAddress(ownAddress) : null;
         this.maxMessageSize = maxMessageSize;
         this.reconnectDelay = reconnectDelay;
         this.websocketIdleTimeout = websocketIdleTimeout;
+        this.maxOutstandingWrites = maxOutstandingWrites;
+        this.maxQueuedWrites = maxQueuedWrites;
         this.objectMapper = new ObjectMapper(objectMapper);
     }
 
@@ -64,6 +70,8 @@ public class WebSocketJettyClientFactory implements WebSocketEndpointFactory {
                                                                           maxMessageSize,
                                                                           reconnectDelay,
                                                                           websocketIdleTimeout,
+                                                                          maxOutstandingWrites,
+                                                                          maxQueuedWrites,
                                                                           objectMapper);
             jettyClientsMap.put(serverAddress, jettyClient);
         }
@@ -24,4 +24,11 @@ import io.joynr.messaging.IMessagingSkeleton;
 public interface IWebSocketMessagingSkeleton extends IMessagingSkeleton {
 
     void transmit(byte[] serializedMessage, FailureAction failureAction);
+
+    /**
+     * Transmits a message which is contained in a slice of a received frame.
+     */
+    default void transmit(byte[] payload, int offset, int length, FailureAction failureAction) {
+        transmit(MessageHelper.extractMessage(payload, offset, length), failureAction);
+    }
 }
@@ -22,6 +22,7 @@ import io.joynr.exceptions.JoynrRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 public class MessageHelper {
@@ -30,6 +31,29 @@ public class MessageHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(MessageHelper.class);
 
+    private static final byte[] INITIALIZATION_MESSAGE_PREFIX = "{\"_typeName\":\"joynr.system.RoutingTypes.WebSocketClientAddress\"".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Checks if a received frame contains the serialized WebSocketClientAddress with which a libjoynr
+     * runtime initializes its connection, without decoding the frame.
+     * <p>
+     * The first byte serves as marker: initialization messages are JSON objects and start with '{',
+     * whereas SMRF messages start with the most significant byte of the SMRF version which is 0.
+     * Only frames starting with '{' are compared against the complete prefix.
+     */
+    public static boolean isInitializationMessage(final byte[] payload, final int offset, final int length) {
+        if (payload == null || length < INITIALIZATION_MESSAGE_PREFIX.length
+                || payload[offset] != INITIALIZATION_MESSAGE_PREFIX[0]) {
+            return false;
+        }
+        return Arrays.equals(payload,
+                             offset,
+                             offset + INITIALIZATION_MESSAGE_PREFIX.length,
+                             INITIALIZATION_MESSAGE_PREFIX,
+                             0,
+                             INITIALIZATION_MESSAGE_PREFIX.length);
+    }
+
     public static byte[] extractMessage(final byte[] payload, final int offset, final int length) {
         if (payload == null) {
             Exception exception = new NullPointerException("payload must not be null");
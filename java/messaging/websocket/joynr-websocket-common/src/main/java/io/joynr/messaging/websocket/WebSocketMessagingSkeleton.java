@@ -95,33 +95,45 @@ public class WebSocketMessagingSkeleton implements IWebSocketMessagingSkeleton {
     @Override
     public void transmit(byte[] serializedMessage, FailureAction failureAction) {
         try {
-            ImmutableMessage message = new ImmutableMessage(serializedMessage);
+            routeIn(new ImmutableMessage(serializedMessage));
+        } catch (Exception error) {
+            failureAction.execute(error);
+        }
+    }
 
-            if (logger.isTraceEnabled()) {
-                logger.trace("<<< INCOMING <<< {}", message);
-            } else {
-                logger.debug("<<< INCOMING <<< {}", message.getTrackingInfo());
-            }
+    @Override
+    public void transmit(byte[] payload, int offset, int length, FailureAction failureAction) {
+        try {
+            // the message copies its slice of the frame, no intermediate copy needed
+            routeIn(new ImmutableMessage(payload, offset, length));
+        } catch (Exception error) {
+            failureAction.execute(error);
+        }
+    }
 
-            if (messageProcessors != null) {
-                for (JoynrMessageProcessor processor : messageProcessors) {
-                    message = processor.processIncoming(message);
-                }
-            }
+    private void routeIn(ImmutableMessage message) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("<<< INCOMING <<< {}", message);
+        } else {
+            logger.debug("<<< INCOMING <<< {}", message.getTrackingInfo());
+        }
 
-            if (this.isMainTransport()) {
-                /*
-                 * On LibJoynr side, prevent message loops by marking the messages as
-                 * received from global. The LibJoynrMessageRouter prevents sending
-                 * back the message to the CC.
-                 */
-                message.setReceivedFromGlobal(true);
+        if (messageProcessors != null) {
+            for (JoynrMessageProcessor processor : messageProcessors) {
+                message = processor.processIncoming(message);
             }
+        }
 
-            messageRouter.routeIn(message);
-        } catch (Exception error) {
-            failureAction.execute(error);
+        if (this.isMainTransport()) {
+            /*
+             * On LibJoynr side, prevent message loops by marking the messages as
+             * received from global. The LibJoynrMessageRouter prevents sending
+             * back the message to the CC.
+             */
+            message.setReceivedFromGlobal(true);
         }
+
+        messageRouter.routeIn(message);
     }
 
     @Override
@@ -55,7 +55,7 @@ public class WebSocketMessagingStub implements IMessagingStub {
         }
 
         long timeout = message.getTtlMs() - System.currentTimeMillis();
-        byte[] serializedMessage = message.getSerializedMessage();
+        byte[] serializedMessage = message.getSerializedMessageWithoutCopy();
 
         webSocketEndpoint.writeBytes(toAddress,
                                      serializedMessage,
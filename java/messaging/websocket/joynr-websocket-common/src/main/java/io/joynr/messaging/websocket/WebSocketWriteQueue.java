@@ -0,0 +1,177 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.websocket;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.joynr.exceptions.JoynrDelayMessageException;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.SuccessAction;
+
+/**
+ * Ordered, non-blocking write queue of a single WebSocket session.
+ * <p>
+ * Writes are handed to the session in the order in which they have been queued. At most
+ * maxOutstandingWrites writes are handed to the session at a time, further writes wait in the queue.
+ * If maxQueuedWrites writes are already waiting, new writes are rejected with a
+ * {@link JoynrDelayMessageException} passed to their {@link FailureAction} so that the message router
+ * retries them later.
+ * <p>
+ * Writes are sent by the thread which finds the queue idle; other threads only enqueue their write and
+ * return immediately. Success and failure actions are never called while holding the lock of the queue.
+ */
+public class WebSocketWriteQueue {
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketWriteQueue.class);
+
+    static final long QUEUE_FULL_RETRY_DELAY_MS = 100;
+
+    /**
+     * Asynchronously sends a message over the WebSocket session, calling exactly one of the
+     * callbacks when the write has completed.
+     */
+    public interface AsyncSender {
+        void sendBytes(ByteBuffer message, Runnable onSuccess, Consumer<Throwable> onFailure);
+    }
+
+    private static class PendingWrite {
+        private final byte[] message;
+        private final SuccessAction successAction;
+        private final FailureAction failureAction;
+
+        PendingWrite(byte[] message, SuccessAction successAction, FailureAction failureAction) {
+            this.message = message;
+            this.successAction = successAction;
+            this.failureAction = failureAction;
+        }
+    }
+
+    private final AsyncSender sender;
+    private final int maxOutstandingWrites;
+    private final int maxQueuedWrites;
+    private final Queue<PendingWrite> queuedWrites = new ArrayDeque<>();
+    private int outstandingWrites = 0;
+    private boolean sending = false;
+    private boolean closed = false;
+
+    public WebSocketWriteQueue(AsyncSender sender, int maxOutstandingWrites, int maxQueuedWrites) {
+        if (maxOutstandingWrites < 1 || maxQueuedWrites < 1) {
+            throw new IllegalArgumentException("maxOutstandingWrites and maxQueuedWrites must be at least 1");
+        }
+        this.sender = sender;
+        this.maxOutstandingWrites = maxOutstandingWrites;
+        this.maxQueuedWrites = maxQueuedWrites;
+    }
+
+    public void write(byte[] message, SuccessAction successAction, FailureAction failureAction) {
+        PendingWrite pendingWrite = new PendingWrite(message, successAction, failureAction);
+        String rejectReason = null;
+        synchronized (this) {
+            if (closed) {
+                rejectReason = "WebSocket session closed";
+            } else if (queuedWrites.size() >= maxQueuedWrites) {
+                rejectReason = "WebSocket write queue full";
+            } else {
+                queuedWrites.add(pendingWrite);
+                if (sending) {
+                    return;
+                }
+                sending = true;
+            }
+        }
+        if (rejectReason != null) {
+            logger.debug("Rejecting WebSocket write: {}", rejectReason);
+            failureAction.execute(new JoynrDelayMessageException(QUEUE_FULL_RETRY_DELAY_MS, rejectReason));
+            return;
+        }
+        sendQueuedWrites();
+    }
+
+    /**
+     * Rejects all queued writes. Writes which have already been handed to the session are completed by
+     * the session.
+     */
+    public void close() {
+        List<PendingWrite> rejectedWrites;
+        synchronized (this) {
+            closed = true;
+            rejectedWrites = new ArrayList<>(queuedWrites);
+            queuedWrites.clear();
+        }
+        for (PendingWrite pendingWrite : rejectedWrites) {
+            pendingWrite.failureAction.execute(new JoynrDelayMessageException(QUEUE_FULL_RETRY_DELAY_MS,
+                                                                              "WebSocket session closed"));
+        }
+    }
+
+    synchronized int getQueuedWritesCount() {
+        return queuedWrites.size();
+    }
+
+    synchronized int getOutstandingWritesCount() {
+        return outstandingWrites;
+    }
+
+    private void sendQueuedWrites() {
+        while (true) {
+            PendingWrite next;
+            synchronized (this) {
+                if (outstandingWrites >= maxOutstandingWrites || queuedWrites.isEmpty()) {
+                    sending = false;
+                    return;
+                }
+                next = queuedWrites.poll();
+                outstandingWrites++;
+            }
+            try {
+                sender.sendBytes(ByteBuffer.wrap(next.message),
+                                 () -> writeCompleted(next, null),
+                                 error -> writeCompleted(next, error));
+            } catch (RuntimeException e) {
+                writeCompleted(next, e);
+            }
+        }
+    }
+
+    private void writeCompleted(PendingWrite pendingWrite, Throwable error) {
+        boolean resumeSending = false;
+        synchronized (this) {
+            outstandingWrites--;
+            if (!sending && !queuedWrites.isEmpty()) {
+                sending = true;
+                resumeSending = true;
+            }
+        }
+        if (error == null) {
+            pendingWrite.successAction.execute();
+        } else {
+            pendingWrite.failureAction.execute(error);
+        }
+        if (resumeSending) {
+            sendQueuedWrites();
+        }
+    }
+}
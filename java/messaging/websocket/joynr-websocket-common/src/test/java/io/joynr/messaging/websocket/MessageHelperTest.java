@@ -20,6 +20,10 @@ package io.joynr.messaging.websocket;
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
 
 import io.joynr.exceptions.JoynrRuntimeException;
 import org.junit.Test;
@@ -53,4 +57,25 @@ public class MessageHelperTest {
         assertArrayEquals(message, new byte[]{ 0, 1 });
     }
 
+    @Test
+    public void testInitializationMessageIsDetectedInSlice() {
+        final byte[] initializationMessage = "{\"_typeName\":\"joynr.system.RoutingTypes.WebSocketClientAddress\",\"id\":\"clientId\"}".getBytes(StandardCharsets.UTF_8);
+        final byte[] frame = new byte[initializationMessage.length + 2];
+        System.arraycopy(initializationMessage, 0, frame, 1, initializationMessage.length);
+
+        assertTrue(MessageHelper.isInitializationMessage(initializationMessage, 0, initializationMessage.length));
+        assertTrue(MessageHelper.isInitializationMessage(frame, 1, initializationMessage.length));
+        assertFalse(MessageHelper.isInitializationMessage(frame, 0, frame.length));
+        assertFalse(MessageHelper.isInitializationMessage(initializationMessage, 0, 10));
+    }
+
+    @Test
+    public void testOtherMessagesAreNoInitializationMessages() {
+        final byte[] otherJson = "{\"_typeName\":\"joynr.system.RoutingTypes.WebSocketAddress\",\"host\":\"localhost\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertFalse(MessageHelper.isInitializationMessage(otherJson, 0, otherJson.length));
+        assertFalse(MessageHelper.isInitializationMessage(PAYLOAD, 0, PAYLOAD.length));
+        assertFalse(MessageHelper.isInitializationMessage(null, 0, 0));
+    }
+
 }
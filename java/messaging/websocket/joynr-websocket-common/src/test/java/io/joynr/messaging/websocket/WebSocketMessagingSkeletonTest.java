@@ -18,6 +18,7 @@
  */
 package io.joynr.messaging.websocket;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.reset;
@@ -93,6 +94,20 @@ public class WebSocketMessagingSkeletonTest {
         }
     }
 
+    @Test
+    public void transmitMessageFromSliceOfFrame() throws Exception {
+        byte[] serializedMessage = createMessage(MessageType.VALUE_MESSAGE_TYPE_REQUEST);
+        byte[] frame = new byte[serializedMessage.length + 3];
+        System.arraycopy(serializedMessage, 0, frame, 2, serializedMessage.length);
+
+        subject.transmit(frame, 2, serializedMessage.length, NO_FAILURE_EXPECTED);
+
+        ArgumentCaptor<ImmutableMessage> messageCaptor = ArgumentCaptor.forClass(ImmutableMessage.class);
+        verify(messageRouter).routeIn(messageCaptor.capture());
+        assertArrayEquals(serializedMessage, messageCaptor.getValue().getSerializedMessage());
+        assertEquals(RECIPIENT_ID, messageCaptor.getValue().getRecipient());
+    }
+
     @Test
     public void doNotSetReceivedFromGlobalInCC() throws Exception {
         verifyReceivedFromGlobal(false);
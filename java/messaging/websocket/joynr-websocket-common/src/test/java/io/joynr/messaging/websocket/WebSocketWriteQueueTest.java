@@ -0,0 +1,169 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.websocket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.joynr.exceptions.JoynrDelayMessageException;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.SuccessAction;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WebSocketWriteQueueTest {
+
+    private static final int MAX_OUTSTANDING_WRITES = 2;
+    private static final int MAX_QUEUED_WRITES = 3;
+
+    private static class SentMessage {
+        private final byte[] message;
+        private final Runnable onSuccess;
+        private final Consumer<Throwable> onFailure;
+
+        SentMessage(ByteBuffer message, Runnable onSuccess, Consumer<Throwable> onFailure) {
+            this.message = new byte[message.remaining()];
+            message.get(this.message);
+            this.onSuccess = onSuccess;
+            this.onFailure = onFailure;
+        }
+    }
+
+    @Mock
+    private SuccessAction successAction;
+    @Mock
+    private FailureAction failureAction;
+
+    private List<SentMessage> sentMessages;
+    private WebSocketWriteQueue writeQueue;
+
+    @Before
+    public void setUp() {
+        sentMessages = new ArrayList<>();
+        writeQueue = new WebSocketWriteQueue((message,
+                                              onSuccess,
+                                              onFailure) -> sentMessages.add(new SentMessage(message,
+                                                                                             onSuccess,
+                                                                                             onFailure)),
+                                             MAX_OUTSTANDING_WRITES,
+                                             MAX_QUEUED_WRITES);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorRejectsInvalidLimits() {
+        new WebSocketWriteQueue((message, onSuccess, onFailure) -> {
+        }, 0, MAX_QUEUED_WRITES);
+    }
+
+    @Test
+    public void writesAreSentInOrderAndLimitedToMaxOutstandingWrites() {
+        for (byte i = 0; i < 4; i++) {
+            writeQueue.write(new byte[]{ i }, successAction, failureAction);
+        }
+
+        assertEquals(MAX_OUTSTANDING_WRITES, sentMessages.size());
+        assertEquals(MAX_OUTSTANDING_WRITES, writeQueue.getOutstandingWritesCount());
+        assertEquals(2, writeQueue.getQueuedWritesCount());
+
+        sentMessages.get(0).onSuccess.run();
+        sentMessages.get(1).onSuccess.run();
+
+        assertEquals(4, sentMessages.size());
+        for (byte i = 0; i < 4; i++) {
+            assertArrayEquals(new byte[]{ i }, sentMessages.get(i).message);
+        }
+        assertEquals(0, writeQueue.getQueuedWritesCount());
+        verify(successAction, times(2)).execute();
+    }
+
+    @Test
+    public void writeIsRejectedWhenQueueIsFull() {
+        for (int i = 0; i < MAX_OUTSTANDING_WRITES + MAX_QUEUED_WRITES; i++) {
+            writeQueue.write(new byte[0], successAction, failureAction);
+        }
+        verify(failureAction, never()).execute(any());
+
+        writeQueue.write(new byte[0], successAction, failureAction);
+
+        ArgumentCaptor<Throwable> errorCaptor = ArgumentCaptor.forClass(Throwable.class);
+        verify(failureAction).execute(errorCaptor.capture());
+        assertTrue(errorCaptor.getValue() instanceof JoynrDelayMessageException);
+        assertEquals(MAX_QUEUED_WRITES, writeQueue.getQueuedWritesCount());
+    }
+
+    @Test
+    public void failedWriteIsReportedAndQueueContinues() {
+        writeQueue.write(new byte[0], successAction, failureAction);
+        writeQueue.write(new byte[0], successAction, failureAction);
+        writeQueue.write(new byte[0], successAction, failureAction);
+        RuntimeException error = new RuntimeException("write failed");
+
+        sentMessages.get(0).onFailure.accept(error);
+
+        verify(failureAction).execute(error);
+        assertEquals(3, sentMessages.size());
+        assertEquals(MAX_OUTSTANDING_WRITES, writeQueue.getOutstandingWritesCount());
+    }
+
+    @Test
+    public void exceptionThrownBySenderIsReportedToFailureAction() {
+        JoynrDelayMessageException error = new JoynrDelayMessageException("session gone");
+        writeQueue = new WebSocketWriteQueue((message, onSuccess, onFailure) -> {
+            throw error;
+        }, MAX_OUTSTANDING_WRITES, MAX_QUEUED_WRITES);
+
+        writeQueue.write(new byte[0], successAction, failureAction);
+
+        verify(failureAction).execute(error);
+        assertEquals(0, writeQueue.getOutstandingWritesCount());
+    }
+
+    @Test
+    public void closeRejectsQueuedAndNewWrites() {
+        for (int i = 0; i < MAX_OUTSTANDING_WRITES + 1; i++) {
+            writeQueue.write(new byte[0], successAction, failureAction);
+        }
+
+        writeQueue.close();
+        verify(failureAction, times(1)).execute(any(JoynrDelayMessageException.class));
+
+        writeQueue.write(new byte[0], successAction, failureAction);
+        verify(failureAction, times(2)).execute(any(JoynrDelayMessageException.class));
+
+        sentMessages.get(0).onSuccess.run();
+        assertEquals(MAX_OUTSTANDING_WRITES, sentMessages.size());
+        verify(successAction).execute();
+    }
+}
@@ -19,13 +19,11 @@
 package io.joynr.messaging.websocket.server;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import io.joynr.messaging.websocket.MessageHelper;
@@ -51,6 +49,7 @@ import io.joynr.messaging.FailureAction;
 import io.joynr.messaging.SuccessAction;
 import io.joynr.messaging.websocket.IWebSocketMessagingSkeleton;
 import io.joynr.messaging.websocket.JoynrWebSocketEndpoint;
+import io.joynr.messaging.websocket.WebSocketWriteQueue;
 import io.joynr.util.ObjectMapper;
 import joynr.system.RoutingTypes.Address;
 import joynr.system.RoutingTypes.WebSocketAddress;
@@ -64,28 +63,70 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
     private WebSocketAddress address;
     private int maxMessageSize;
     private long websocketIdleTimeout;
-    private Map<String, Session> sessionMap = new HashMap<>();
-    private List<CCWebSocketMessagingSkeletonSocket> openSockets = new ArrayList<>();
+    private int maxOutstandingWrites;
+    private int maxQueuedWrites;
+    private Map<String, ClientSession> sessionMap = new ConcurrentHashMap<>();
+    private Set<CCWebSocketMessagingSkeletonSocket> openSockets = ConcurrentHashMap.newKeySet();
 
     public ObjectMapper objectMapper;
 
     private IWebSocketMessagingSkeleton messageListener;
 
-    private boolean shutdown = false;
+    private volatile boolean shutdown = false;
+
+    /**
+     * Session of a connected libjoynr runtime together with its write queue
+     */
+    private class ClientSession {
+        private final Session session;
+        private final WebSocketWriteQueue writeQueue;
+
+        ClientSession(String clientId, Session session) {
+            this.session = session;
+            this.writeQueue = new WebSocketWriteQueue((message, onSuccess, onFailure) -> {
+                try {
+                    session.getRemote().sendBytes(message, new WriteCallback() {
+                        @Override
+                        public void writeSuccess() {
+                            onSuccess.run();
+                        }
+
+                        @Override
+                        public void writeFailed(Throwable error) {
+                            if (shutdown) {
+                                return;
+                            }
+                            onFailure.accept(error);
+                        }
+                    });
+                } catch (WebSocketException e) {
+                    // Jetty throws WebSocketException when expecting [OPEN or CONNECTED] but found a different state
+                    // The client must reconnect, but the message can be queued in the mean time.
+                    removeClientSession(clientId, this);
+                    //TODO We need a delay with invalidation of the stub
+                    throw new JoynrDelayMessageException(e.getMessage(), e);
+                }
+            }, maxOutstandingWrites, maxQueuedWrites);
+        }
+    }
 
     public WebSocketJettyServer(WebSocketAddress address,
                                 ObjectMapper objectMapper,
                                 int maxMessageSize,
-                                long websocketIdleTimeout) {
+                                long websocketIdleTimeout,
+                                int maxOutstandingWrites,
+                                int maxQueuedWrites) {
         this.address = (address != null) ? new WebSocketAddress(address) : null;
         this.objectMapper = new ObjectMapper(objectMapper);
         this.maxMessageSize = maxMessageSize;
         this.websocketIdleTimeout = websocketIdleTimeout;
+        this.maxOutstandingWrites = maxOutstandingWrites;
+        this.maxQueuedWrites = maxQueuedWrites;
     }
 
     @Override
-    public void messageArrived(byte[] message) {
-        messageListener.transmit(message, new FailureAction() {
+    public void messageArrived(byte[] payload, int offset, int length) {
+        messageListener.transmit(payload, offset, length, new FailureAction() {
             @Override
             public void execute(Throwable error) {
                 logger.error("Unable to process message: {}", error.getMessage());
@@ -149,9 +190,9 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
     @Override
     public void shutdown() {
         shutdown = true;
-        for (Entry<String, Session> session : sessionMap.entrySet()) {
+        for (Entry<String, ClientSession> session : sessionMap.entrySet()) {
             try {
-                session.getValue().disconnect();
+                session.getValue().session.disconnect();
             } catch (Exception e) {
                 logger.error("Error closing session: {}", session.getKey(), e);
             }
@@ -164,44 +205,37 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
     }
 
     @Override
-    public synchronized void writeBytes(Address toAddress,
-                                        byte[] message,
-                                        long timeout,
-                                        TimeUnit unit,
-                                        final SuccessAction successAction,
-                                        final FailureAction failureAction) {
+    public void writeBytes(Address toAddress,
+                           byte[] message,
+                           long timeout,
+                           TimeUnit unit,
+                           final SuccessAction successAction,
+                           final FailureAction failureAction) {
         if (!(toAddress instanceof WebSocketClientAddress)) {
             throw new JoynrIllegalStateException("Web Socket Server can only send to WebSocketClientAddresses");
         }
 
         WebSocketClientAddress toClientAddress = (WebSocketClientAddress) toAddress;
-        Session session = sessionMap.get(toClientAddress.getId());
-        if (session == null) {
+        ClientSession clientSession = sessionMap.get(toClientAddress.getId());
+        if (clientSession == null) {
             //TODO We need a delay with invalidation of the stub
             throw new JoynrDelayMessageException("no active session for WebSocketClientAddress: "
                     + toClientAddress.getId());
         }
-        try {
-            session.getRemote().sendBytes(ByteBuffer.wrap(message), new WriteCallback() {
-                @Override
-                public void writeSuccess() {
-                    successAction.execute();
-                }
+        // writes to different sessions do not block each other
+        clientSession.writeQueue.write(message, successAction, failureAction);
+    }
 
-                @Override
-                public void writeFailed(Throwable error) {
-                    if (shutdown) {
-                        return;
-                    }
-                    failureAction.execute(error);
-                }
-            });
-        } catch (WebSocketException e) {
-            // Jetty throws WebSocketException when expecting [OPEN or CONNECTED] but found a different state
-            // The client must reconnect, but the message can be queued in the mean time.
-            sessionMap.remove(toClientAddress.getId());
-            //TODO We need a delay with invalidation of the stub
-            throw new JoynrDelayMessageException(e.getMessage(), e);
+    private void registerClientSession(String clientId, Session session) {
+        ClientSession previousSession = sessionMap.put(clientId, new ClientSession(clientId, session));
+        if (previousSession != null && previousSession.session != session) {
+            previousSession.writeQueue.close();
+        }
+    }
+
+    private void removeClientSession(String clientId, ClientSession clientSession) {
+        if (sessionMap.remove(clientId, clientSession)) {
+            clientSession.writeQueue.close();
         }
     }
 
@@ -228,19 +262,21 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
 
         @Override
         public void onWebSocketBinary(byte[] payload, int offset, int len) {
-            String serializedMessage = new String(payload, offset, len, CHARSET);
-            logger.trace("Received message: {}", serializedMessage);
-            if (isInitializationMessage(serializedMessage)) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("Received message: {}", new String(payload, offset, len, CHARSET));
+            }
+            if (MessageHelper.isInitializationMessage(payload, offset, len)) {
+                String serializedMessage = new String(payload, offset, len, CHARSET);
                 try {
                     WebSocketClientAddress webSocketClientAddress = objectMapper.readValue(serializedMessage,
                                                                                            WebSocketClientAddress.class);
                     logger.debug("Registering WebSocketClientAddress: {}", webSocketClientAddress);
-                    sessionMap.put(webSocketClientAddress.getId(), getSession());
+                    registerClientSession(webSocketClientAddress.getId(), getSession());
                 } catch (IOException e) {
                     logger.error("Error parsing WebSocketClientAddress: ", e);
                 }
             } else {
-                messageArrivedListener.messageArrived(MessageHelper.extractMessage(payload, offset, len));
+                messageArrivedListener.messageArrived(payload, offset, len);
             }
         }
 
@@ -248,15 +284,12 @@ public class WebSocketJettyServer implements JoynrWebSocketEndpoint, WebSocketMe
         public void onWebSocketClose(int statusCode, String reason) {
             super.onWebSocketClose(statusCode, reason);
             openSockets.remove(CCWebSocketMessagingSkeletonSocket.this);
+            for (Entry<String, ClientSession> clientSession : sessionMap.entrySet()) {
+                if (clientSession.getValue().session == getSession()) {
+                    removeClientSession(clientSession.getKey(), clientSession.getValue());
+                }
+            }
             // TODO remove address from routing table???
         }
     }
-
-    /*
-     * Checks if the message contains a WebSockeClientAddress of a libjoynr instance.
-     * @return true if the json object's _typeName field contains joynr.system.WebSocketClientAddress
-     */
-    private boolean isInitializationMessage(String json) {
-        return json.startsWith("{\"_typeName\":\"joynr.system.RoutingTypes.WebSocketClientAddress\"");
-    }
 }
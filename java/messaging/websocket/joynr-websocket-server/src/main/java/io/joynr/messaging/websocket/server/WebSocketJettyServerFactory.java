@@ -35,15 +35,21 @@ public class WebSocketJettyServerFactory implements WebSocketEndpointFactory {
 
     private int maxMessageSize;
     private long websocketIdleTimeout;
+    private int maxOutstandingWrites;
+    private int maxQueuedWrites;
     private ObjectMapper objectMapper;
     private WebSocketJettyServer jettyServer;
 
     @Inject
     public WebSocketJettyServerFactory(@Named(ConfigurableMessagingSettings.PROPERTY_MAX_MESSAGE_SIZE) int maxMessageSize,
                                        @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_IDLE_TIMEOUT) long websocketIdleTimeout,
+                                       @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_MAX_OUTSTANDING_WRITES) int maxOutstandingWrites,
+                                       @Named(WebsocketModule.PROPERTY_WEBSOCKET_MESSAGING_MAX_QUEUED_WRITES) int maxQueuedWrites,
                                        ObjectMapper objectMapper) {
         this.maxMessageSize = maxMessageSize;
         this.websocketIdleTimeout = websocketIdleTimeout;
+        this.maxOutstandingWrites = maxOutstandingWrites;
+        this.maxQueuedWrites = maxQueuedWrites;
         this.objectMapper = new ObjectMapper(objectMapper);
     }
 
@@ -53,7 +59,9 @@ public class WebSocketJettyServerFactory implements WebSocketEndpointFactory {
             jettyServer = new WebSocketJettyServer((WebSocketAddress) serverAddress,
                                                    objectMapper,
                                                    maxMessageSize,
-                                                   websocketIdleTimeout);
+                                                   websocketIdleTimeout,
+                                                   maxOutstandingWrites,
+                                                   maxQueuedWrites);
         }
         return jettyServer;
     }
@@ -20,6 +20,6 @@ package io.joynr.messaging.websocket.server;
 
 public interface WebSocketMessageArrivedListener {
 
-    void messageArrived(byte[] message);
+    void messageArrived(byte[] payload, int offset, int length);
 
 }
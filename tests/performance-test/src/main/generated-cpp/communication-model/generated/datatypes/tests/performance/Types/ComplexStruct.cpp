@@ -0,0 +1,101 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#include <sstream>
+#include <string>
+
+#include <boost/functional/hash.hpp>
+#include "joynr/HashUtil.h"
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+
+namespace joynr { namespace tests { namespace performance { namespace Types { 
+
+const std::int32_t ComplexStruct::MAJOR_VERSION = 0;
+const std::int32_t ComplexStruct::MINOR_VERSION = 1;
+
+ComplexStruct::ComplexStruct():
+	num32(-1),
+	num64(-1),
+	data(),
+	str("")
+{
+}
+
+ComplexStruct::ComplexStruct(
+		const std::int32_t& _num32,
+		const std::int64_t& _num64,
+		const std::vector<std::int8_t> & _data,
+		const std::string& _str
+	):
+		num32(_num32),
+		num64(_num64),
+		data(_data),
+		str(_str)
+{
+}
+
+
+std::size_t ComplexStruct::hashCode() const {
+	std::size_t seed = 0;
+
+	boost::hash_combine(seed, getNum32());
+	boost::hash_combine(seed, getNum64());
+	boost::hash_combine(seed, getData());
+	boost::hash_combine(seed, getStr());
+
+	return seed;
+}
+
+std::string ComplexStruct::toString() const {
+	std::ostringstream typeAsString;
+	typeAsString << "ComplexStruct{";
+	typeAsString << "num32:" + std::to_string(getNum32());
+	typeAsString << ", ";
+	typeAsString << "num64:" + std::to_string(getNum64());
+	typeAsString << ", ";
+	typeAsString << " unprinted List data  ";
+	typeAsString << ", ";
+	typeAsString << "str:" + getStr();
+	typeAsString << "}";
+	return typeAsString.str();
+}
+
+// printing ComplexStruct with google-test and google-mock
+void PrintTo(const ComplexStruct& complexStruct, ::std::ostream* os) {
+	*os << "ComplexStruct::" << complexStruct.toString();
+}
+
+std::size_t hash_value(const ComplexStruct& complexStructValue)
+{
+	return complexStructValue.hashCode();
+}
+
+
+
+} // namespace Types
+} // namespace performance
+} // namespace tests
+} // namespace joynr
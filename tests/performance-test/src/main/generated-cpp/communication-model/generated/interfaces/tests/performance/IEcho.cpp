@@ -0,0 +1,48 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#include "joynr/tests/performance/IEcho.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+namespace joynr { namespace tests { namespace performance { 
+
+const std::string& IEchoBase::INTERFACE_NAME()
+{
+	static const std::string INTERFACE_NAME("tests/performance/Echo");
+	return INTERFACE_NAME;
+}
+
+const std::int32_t IEchoBase::MAJOR_VERSION = 0;
+const std::int32_t IEchoBase::MINOR_VERSION = 1;
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
@@ -0,0 +1,101 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_DEFAULTECHOPROVIDER_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_DEFAULTECHOPROVIDER_H
+
+#include <functional>
+
+#include "joynr/tests/performance/IEcho.h"
+#include "joynr/Logger.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+#include "joynr/tests/performance/EchoAbstractProvider.h"
+
+namespace joynr { namespace tests { namespace performance { 
+
+class DefaultEchoProvider : public joynr::tests::performance::EchoAbstractProvider {
+
+public:
+	DefaultEchoProvider();
+
+	~DefaultEchoProvider() override;
+
+	// attributes
+	void getSimpleAttribute(
+			std::function<void(
+					const std::string&
+			)> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) override;
+	void setSimpleAttribute(
+			const std::string& _simpleAttribute,
+			std::function<void()> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) override;
+
+	// methods
+	void echoString(
+			const std::string& data,
+			std::function<void(
+					const std::string& responseData
+			)> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) override;
+
+	void echoByteArray(
+			const std::vector<std::int8_t> & data,
+			std::function<void(
+					const std::vector<std::int8_t> & responseData
+			)> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) override;
+
+	void echoComplexStruct(
+			const joynr::tests::performance::Types::ComplexStruct& data,
+			std::function<void(
+					const joynr::tests::performance::Types::ComplexStruct& responseData
+			)> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) override;
+
+protected:
+	std::string simpleAttribute;
+
+private:
+	ADD_LOGGER(DefaultEchoProvider)
+
+};
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_DEFAULTECHOPROVIDER_H
@@ -0,0 +1,100 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOABSTRACTPROVIDER_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOABSTRACTPROVIDER_H
+
+#include <string>
+#include <vector>
+#include <memory>
+
+#include "joynr/PrivateCopyAssign.h"
+#include "joynr/AbstractJoynrProvider.h"
+#include "joynr/tests/performance/EchoProvider.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+
+namespace joynr { namespace tests { namespace performance { 
+
+
+/** @brief Abstract provider class for interface Echo */
+class EchoAbstractProvider :
+		public joynr::tests::performance::EchoProvider,
+		public joynr::AbstractJoynrProvider
+{
+
+public:
+	/** @brief Default constructor */
+	EchoAbstractProvider();
+
+	/** @brief Destructor */
+	~EchoAbstractProvider() override;
+
+	/**
+	 * @brief Get the interface name
+	 * @return The name of the interface
+	 */
+	const std::string& getInterfaceName() const override;
+
+
+protected:
+
+	// attributes
+	/**
+	 * @brief simpleAttributeChanged must be called by a concrete provider to signal attribute
+	 * modifications. It is used to implement onchange subscriptions.
+	 * @param simpleAttribute the new attribute value
+	 */
+	void simpleAttributeChanged(
+			const std::string& simpleAttribute
+	) override;
+
+	// broadcasts
+	/**
+	 * @brief fireBroadcastWithSinglePrimitiveParameter must be called by a concrete provider to signal an occured
+	 * event. It is used to implement broadcast publications.
+	 * @param stringOut the value for the broadcast output parameter stringOut
+	 * @param partitions optional list of partitions for this broadcast. Broadcast notifications
+	 * are only sent to subscribers for these partitions.
+	 */
+	void fireBroadcastWithSinglePrimitiveParameter(
+			const std::string& stringOut,
+			const std::vector<std::string>& partitions = std::vector<std::string>()
+	) override;
+
+private:
+	DISALLOW_COPY_AND_ASSIGN(EchoAbstractProvider);
+
+};
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOABSTRACTPROVIDER_H
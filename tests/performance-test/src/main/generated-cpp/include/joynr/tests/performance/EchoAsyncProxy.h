@@ -0,0 +1,183 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOASYNCPROXY_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOASYNCPROXY_H
+
+#include "joynr/PrivateCopyAssign.h"
+#include "joynr/tests/performance/EchoProxyBase.h"
+
+namespace joynr
+{
+	template <class ... Ts> class Future;
+
+namespace exceptions
+{
+	class JoynrException;
+	class JoynrRuntimeException;
+} // namespace exceptions
+} // namespace joynr
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+#include <memory>
+
+namespace joynr { namespace tests { namespace performance { 
+/** @brief proxy class for asynchronous calls of interface Echo
+ *
+ * @version 0.1
+ */
+class EchoAsyncProxy :
+		virtual public EchoProxyBase,
+		virtual public IEchoAsync
+{
+public:
+
+	/**
+	 * @brief Parameterized constructor
+	 * @param connectorFactory The connector factory
+	 * @param domain The provider domain
+	 * @param qosSettings The quality of service settings
+	 */
+	EchoAsyncProxy(
+			std::weak_ptr<joynr::JoynrRuntimeImpl> runtime,
+			std::shared_ptr<joynr::JoynrMessagingConnectorFactory> connectorFactory,
+			const std::string& domain,
+			const joynr::MessagingQos& qosSettings
+	);
+
+	
+	/**
+	* @brief Asynchronous getter for the simpleAttribute attribute.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<std::string> > getSimpleAttributeAsync(
+				std::function<void(const std::string& simpleAttribute)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none)
+				noexcept
+	override;
+	
+	/**
+	* @brief Asynchronous setter for the simpleAttribute attribute.
+	*
+	* @param simpleAttribute The value to set.
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<void> > setSimpleAttributeAsync(
+				std::string simpleAttribute,
+				std::function<void(void)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none)
+				noexcept
+	override;
+	/**
+	* @brief Asynchronous operation echoString.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<std::string>>  echoStringAsync(
+				const std::string& data,
+				std::function<void(const std::string& responseData)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	) noexcept
+	override;
+	/**
+	* @brief Asynchronous operation echoByteArray.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<std::vector<std::int8_t> >>  echoByteArrayAsync(
+				const std::vector<std::int8_t> & data,
+				std::function<void(const std::vector<std::int8_t> & responseData)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	) noexcept
+	override;
+	/**
+	* @brief Asynchronous operation echoComplexStruct.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<joynr::tests::performance::Types::ComplexStruct>>  echoComplexStructAsync(
+				const joynr::tests::performance::Types::ComplexStruct& data,
+				std::function<void(const joynr::tests::performance::Types::ComplexStruct& responseData)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	) noexcept
+	override;
+
+	friend class EchoProxy;
+
+private:
+	DISALLOW_COPY_AND_ASSIGN(EchoAsyncProxy);
+};
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOASYNCPROXY_H
+
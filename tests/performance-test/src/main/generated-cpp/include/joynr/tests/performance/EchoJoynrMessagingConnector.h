@@ -0,0 +1,382 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOJOYNRMESSAGINGCONNECTOR_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOJOYNRMESSAGINGCONNECTOR_H
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+#include <memory>
+#include <functional>
+#include "joynr/tests/performance/IEchoConnector.h"
+#include "joynr/AbstractJoynrMessagingConnector.h"
+#include "joynr/JoynrMessagingConnectorFactory.h"
+#include "joynr/SubscriptionQos.h"
+#include "joynr/OnChangeSubscriptionQos.h"
+#include "joynr/MulticastSubscriptionQos.h"
+
+namespace joynr {
+	class MessagingQos;
+	class IMessageSender;
+	class ISubscriptionManager;
+	class SubscriptionRequest;
+	class MulticastSubscriptionRequest;
+	template <class ... Ts> class Future;
+	template <typename T, typename... Ts> class ISubscriptionListener;
+
+namespace types
+{
+	class DiscoveryEntryWithMetaInfo;
+} // namespace types
+
+namespace exceptions
+{
+	class JoynrException;
+	class JoynrRuntimeException;
+} // namespace exceptions
+}
+
+namespace joynr { namespace tests { namespace performance { 
+
+
+/** @brief JoynrMessagingConnector for interface Echo */
+class EchoJoynrMessagingConnector : public IEchoConnector, virtual public joynr::AbstractJoynrMessagingConnector {
+private:
+	/**
+	 * @brief creates a new subscription or updates an existing subscription to attribute 
+	 * SimpleAttribute
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @param subscriptionRequest The subscription request
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 			 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 			 * when the subscription is successfully registered at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToSimpleAttribute(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+			std::shared_ptr<joynr::SubscriptionQos> subscriptionQos,
+			SubscriptionRequest& subscriptionRequest);
+	/**
+	 * @brief subscribes to broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @param subscriptionRequest The subscription request
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 			 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 			 * when the subscription is successfully registered at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string > > subscriptionListener,
+			std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+			std::shared_ptr<MulticastSubscriptionRequest> subscriptionRequest,
+			const std::vector<std::string>& partitions);
+public:
+	/**
+	 * @brief Parameterized constructor
+	 * @param messageSender The message sender
+	 * @param subscriptionManager Pointer to subscription manager instance
+	 * @param domain the provider domain
+	 * @param proxyParticipantId The participant id of the proxy
+	 * @param providerParticipantId The participant id of the provider
+	 * @param qosSettings The quality of service settings
+	 */
+	EchoJoynrMessagingConnector(
+		std::weak_ptr<joynr::IMessageSender> messageSender,
+		std::weak_ptr<joynr::ISubscriptionManager> subscriptionManager,
+		const std::string& domain,
+		const std::string& proxyParticipantId,
+		const joynr::MessagingQos &qosSettings,
+		const joynr::types::DiscoveryEntryWithMetaInfo& providerDiscoveryInfo);
+
+	/** @brief Destructor */
+	~EchoJoynrMessagingConnector() override = default;
+
+	
+	/**
+	* @brief Synchronous getter for the simpleAttribute attribute.
+	*
+	* @param result The result that will be returned to the caller.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void getSimpleAttribute(std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos = boost::none)
+	override;
+	
+	
+	/**
+	* @brief Asynchronous getter for the simpleAttribute attribute.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<std::string> > getSimpleAttributeAsync(
+				std::function<void(const std::string& simpleAttribute)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none)
+				noexcept
+	override;
+	
+	/**
+	* @brief Synchronous setter for the simpleAttribute attribute.
+	*
+	* @param simpleAttribute The value to set.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void setSimpleAttribute(const std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos = boost::none)
+	override;
+	
+	/**
+	* @brief Asynchronous setter for the simpleAttribute attribute.
+	*
+	* @param simpleAttribute The value to set.
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<void> > setSimpleAttributeAsync(
+				std::string simpleAttribute,
+				std::function<void(void)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none)
+				noexcept
+	override;
+
+	/**
+	* @brief Synchronous operation echoString.
+	*
+	* @param std::string responseData this is an output parameter
+	*        and will be set within function echoString
+	* @param std::string data
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void echoString(
+				std::string& responseData,
+				const std::string& data,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	)
+	override;
+	/**
+	* @brief Synchronous operation echoByteArray.
+	*
+	* @param std::vector<std::int8_t>  responseData this is an output parameter
+	*        and will be set within function echoByteArray
+	* @param std::vector<std::int8_t>  data
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void echoByteArray(
+				std::vector<std::int8_t> & responseData,
+				const std::vector<std::int8_t> & data,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	)
+	override;
+	/**
+	* @brief Synchronous operation echoComplexStruct.
+	*
+	* @param joynr::tests::performance::Types::ComplexStruct responseData this is an output parameter
+	*        and will be set within function echoComplexStruct
+	* @param joynr::tests::performance::Types::ComplexStruct data
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void echoComplexStruct(
+				joynr::tests::performance::Types::ComplexStruct& responseData,
+				const joynr::tests::performance::Types::ComplexStruct& data,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	)
+	override;
+	/**
+	* @brief Asynchronous operation echoString.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<std::string>>  echoStringAsync(
+				const std::string& data,
+				std::function<void(const std::string& responseData)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	) noexcept
+	override;
+	/**
+	* @brief Asynchronous operation echoByteArray.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<std::vector<std::int8_t> >>  echoByteArrayAsync(
+				const std::vector<std::int8_t> & data,
+				std::function<void(const std::vector<std::int8_t> & responseData)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	) noexcept
+	override;
+	/**
+	* @brief Asynchronous operation echoComplexStruct.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	std::shared_ptr<joynr::Future<joynr::tests::performance::Types::ComplexStruct>>  echoComplexStructAsync(
+				const joynr::tests::performance::Types::ComplexStruct& data,
+				std::function<void(const joynr::tests::performance::Types::ComplexStruct& responseData)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	) noexcept
+	override;
+
+	/**
+	 * @brief creates a new subscription to attribute SimpleAttribute
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully registered at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToSimpleAttribute(
+				std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+				std::shared_ptr<joynr::SubscriptionQos> subscriptionQos)
+	 override;
+	
+	/**
+	 * @brief updates an existing subscription to attribute SimpleAttribute
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully registered at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToSimpleAttribute(
+				std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+				std::shared_ptr<joynr::SubscriptionQos> subscriptionQos,
+				const std::string& subscriptionId)
+	 override;
+	
+	/**
+	 * @brief unsubscribes from attribute SimpleAttribute
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 */
+	void unsubscribeFromSimpleAttribute(const std::string& subscriptionId)
+	 override;
+	
+	/**
+	 * @brief subscribes to broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully registered at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+				std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+				std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+				const std::vector<std::string>& partitions = std::vector<std::string>()
+	)
+	 override;
+	
+	/**
+	 * @brief updates an existing subscription to broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully updated at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+				const std::string& subscriptionId,
+				std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+				std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+				const std::vector<std::string>& partitions = std::vector<std::string>()
+	)
+	 override;
+	
+	/**
+	 * @brief unsubscribes from broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 */
+	void unsubscribeFromBroadcastWithSinglePrimitiveParameterBroadcast(const std::string& subscriptionId)
+	 override;
+	
+};
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+
+
+namespace joynr {
+
+// specialization of traits class JoynrMessagingTraits
+// this links IEchoConnector with EchoJoynrMessagingConnector
+template <>
+struct JoynrMessagingTraits<joynr::tests::performance::IEchoConnector>
+{
+	using Connector = joynr::tests::performance::EchoJoynrMessagingConnector;
+};
+
+} // namespace joynr
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOJOYNRMESSAGINGCONNECTOR_H
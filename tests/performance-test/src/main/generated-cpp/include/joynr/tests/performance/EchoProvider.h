@@ -0,0 +1,235 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOPROVIDER_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOPROVIDER_H
+
+#include <string>
+
+#include "joynr/PrivateCopyAssign.h"
+
+#include "joynr/IJoynrProvider.h"
+#include "joynr/tests/performance/IEcho.h"
+#include "joynr/RequestCallerFactory.h"
+#include "joynr/tests/performance/EchoRequestCaller.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+#include <memory>
+
+namespace joynr { namespace tests { namespace performance { 
+
+/**
+ * @brief Provider class for interface Echo
+ *
+ * @version 0.1
+ */
+class EchoProvider : public virtual IJoynrProvider
+{
+
+public:
+	/** @brief Default constructor */
+	EchoProvider();
+
+	//for each Attribute the provider needs setters, sync and async getters.
+	//They have default implementation for pushing Providers and can be overwritten by pulling Providers.
+
+	/** @brief Destructor */
+	~EchoProvider() override;
+
+	static const std::string& INTERFACE_NAME();
+	/**
+	 * @brief MAJOR_VERSION The major version of this provider interface as specified in the
+	 * Franca model.
+	 */
+	static const std::int32_t MAJOR_VERSION;
+	/**
+	 * @brief MINOR_VERSION The minor version of this provider interface as specified in the
+	 * Franca model.
+	 */
+	static const std::int32_t MINOR_VERSION;
+
+	// attributes
+	/**
+	 * @brief Gets SimpleAttribute
+	 *
+	 * This method is called by a joynr middleware thread. The provider implementation
+	 * must not block this thread; it must be released immediately after the method is
+	 * called. Computations or further blocking calls must be performed asynchronously.
+	 * Return the result of these computations by calling the onSuccess or onError
+	 * callbacks asynchronously. N.B. Internal joynr data structures of joynr messages are
+	 * captured in the callbacks and will be first released after the callback onSuccess
+	 * or onError is called.
+	 *
+	 * @param onSuccess A callback function to be called with the attribute value once the asynchronous computation has
+	 * finished with success. It expects a request status object as parameter.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It expects an exception.
+	 */
+	virtual void getSimpleAttribute(
+			std::function<void(
+					const std::string&
+			)> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) = 0;
+	/**
+	 * @brief Sets SimpleAttribute
+	 *
+	 * This method is called by a joynr middleware thread. The provider implementation
+	 * must not block this thread; it must be released immediately after the method is
+	 * called. Computations or further blocking calls must be performed asynchronously.
+	 * Return the result of these computations by calling the onSuccess or onError
+	 * callbacks asynchronously. N.B. Internal joynr data structures of joynr messages are
+	 * captured in the callbacks and will be first released after the callback onSuccess
+	 * or onError is called.
+	 *
+	 * @param simpleAttribute the new value of the attribute
+	 * @param onSuccess A callback function to be called  once the asynchronous computation has
+	 * finished with success. It expects a request status object as parameter.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It expects an exception.
+	 */
+	virtual void setSimpleAttribute(
+			const std::string& simpleAttribute,
+			std::function<void()> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) = 0;
+	/**
+	 * @brief simpleAttributeChanged must be called by a concrete provider
+	 * to signal attribute modifications. It is used to implement onchange
+	 * subscriptions.
+	 * @param simpleAttribute the new attribute value
+	 */
+	virtual void simpleAttributeChanged(
+			const std::string& simpleAttribute
+	) = 0;
+
+	// methods
+	/**
+	 * @brief Implementation of the Franca method echoString
+	 *
+	 * This method is called by a joynr middleware thread. The provider implementation
+	 * must not block this thread; it must be released immediately after the method is
+	 * called. Computations or further blocking calls must be performed asynchronously.
+	 * Return the result of these computations by calling the onSuccess or onError
+	 * callbacks asynchronously. N.B. Internal joynr data structures of joynr messages are
+	 * captured in the callbacks and will be first released after the callback onSuccess
+	 * or onError is called.
+	 *
+	 * @param onSuccess A callback function to be called  once the asynchronous computation has
+	 * finished with success. It expects a request status object as parameter.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It expects an exception.
+	 */
+	virtual void echoString(
+			const std::string& data,
+			std::function<void(
+					const std::string& responseData
+			)> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) = 0;
+
+	/**
+	 * @brief Implementation of the Franca method echoByteArray
+	 *
+	 * This method is called by a joynr middleware thread. The provider implementation
+	 * must not block this thread; it must be released immediately after the method is
+	 * called. Computations or further blocking calls must be performed asynchronously.
+	 * Return the result of these computations by calling the onSuccess or onError
+	 * callbacks asynchronously. N.B. Internal joynr data structures of joynr messages are
+	 * captured in the callbacks and will be first released after the callback onSuccess
+	 * or onError is called.
+	 *
+	 * @param onSuccess A callback function to be called  once the asynchronous computation has
+	 * finished with success. It expects a request status object as parameter.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It expects an exception.
+	 */
+	virtual void echoByteArray(
+			const std::vector<std::int8_t> & data,
+			std::function<void(
+					const std::vector<std::int8_t> & responseData
+			)> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) = 0;
+
+	/**
+	 * @brief Implementation of the Franca method echoComplexStruct
+	 *
+	 * This method is called by a joynr middleware thread. The provider implementation
+	 * must not block this thread; it must be released immediately after the method is
+	 * called. Computations or further blocking calls must be performed asynchronously.
+	 * Return the result of these computations by calling the onSuccess or onError
+	 * callbacks asynchronously. N.B. Internal joynr data structures of joynr messages are
+	 * captured in the callbacks and will be first released after the callback onSuccess
+	 * or onError is called.
+	 *
+	 * @param onSuccess A callback function to be called  once the asynchronous computation has
+	 * finished with success. It expects a request status object as parameter.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It expects an exception.
+	 */
+	virtual void echoComplexStruct(
+			const joynr::tests::performance::Types::ComplexStruct& data,
+			std::function<void(
+					const joynr::tests::performance::Types::ComplexStruct& responseData
+			)> onSuccess,
+			std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+	) = 0;
+
+	// broadcasts
+	/**
+	 * @brief fireBroadcastWithSinglePrimitiveParameter must be called by a concrete
+	 * provider to signal an occured event. It is used to implement broadcast
+	 * publications.
+	 * @param stringOut the value for the broadcast output parameter stringOut
+	 * @param partitions optional list of partitions for this broadcast. Broadcast notifications
+	 * are only sent to subscribers for these partitions.
+	 */
+	virtual void fireBroadcastWithSinglePrimitiveParameter(
+			const std::string& stringOut,
+			const std::vector<std::string>& partitions = std::vector<std::string>()
+	) = 0;
+
+private:
+	DISALLOW_COPY_AND_ASSIGN(EchoProvider);
+};
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+
+
+namespace joynr {
+
+// specialization of traits class RequestCallerTraits
+// this links EchoProvider with EchoRequestCaller
+template <>
+struct RequestCallerTraits<joynr::tests::performance::EchoProvider>
+{
+	using RequestCaller = joynr::tests::performance::EchoRequestCaller;
+};
+
+} // namespace joynr
+
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOPROVIDER_H
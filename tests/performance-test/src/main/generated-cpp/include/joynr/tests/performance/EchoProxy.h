@@ -0,0 +1,192 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOPROXY_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOPROXY_H
+
+#include "joynr/PrivateCopyAssign.h"
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+#include <memory>
+
+#include "joynr/tests/performance/EchoSyncProxy.h"
+#include "joynr/tests/performance/EchoAsyncProxy.h"
+#include "joynr/tests/performance/IEcho.h"
+
+#ifdef _MSC_VER
+	// Visual C++ gives a warning which is caused by diamond inheritance, but this is
+	// not relevant when using pure virtual methods:
+	// http://msdn.microsoft.com/en-us/library/6b3sy7ae(v=vs.80).aspx
+	#pragma warning( disable : 4250 )
+#endif
+
+namespace joynr { namespace tests { namespace performance { 
+/**
+ * @brief Proxy class for interface Echo
+ *
+ * @version 0.1
+ */
+class EchoProxy : virtual public IEcho, virtual public EchoSyncProxy, virtual public EchoAsyncProxy {
+public:
+	/**
+	 * @brief Parameterized constructor
+	 * @param connectorFactory The connector factory
+	 * @param domain The provider domain
+	 * @param qosSettings The quality of service settings
+	 */
+	EchoProxy(
+			std::weak_ptr<joynr::JoynrRuntimeImpl> runtime,
+			std::shared_ptr<joynr::JoynrMessagingConnectorFactory> connectorFactory,
+			const std::string& domain,
+			const joynr::MessagingQos& qosSettings
+	);
+
+	/**
+	 * @brief unsubscribes from attribute SimpleAttribute
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 */
+	void unsubscribeFromSimpleAttribute(const std::string &subscriptionId) override {
+		EchoProxyBase::unsubscribeFromSimpleAttribute(subscriptionId);
+	}
+
+	/**
+	 * @brief creates a new subscription to attribute SimpleAttribute
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully registered at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToSimpleAttribute(
+				std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+				std::shared_ptr<joynr::SubscriptionQos> subscriptionQos)
+	 override {
+		return EchoProxyBase::subscribeToSimpleAttribute(
+					subscriptionListener,
+					subscriptionQos);
+	}
+
+	/**
+	 * @brief updates an existing subscription to attribute SimpleAttribute
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully registered at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToSimpleAttribute(
+				std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+				std::shared_ptr<joynr::SubscriptionQos> subscriptionQos,
+				const std::string& subscriptionId)
+	 override{
+		return EchoProxyBase::subscribeToSimpleAttribute(
+					subscriptionListener,
+					subscriptionQos,
+					subscriptionId);
+	}
+
+
+	/**
+	 * @brief unsubscribes from broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 */
+	void unsubscribeFromBroadcastWithSinglePrimitiveParameterBroadcast(const std::string &subscriptionId) override {
+		EchoProxyBase::unsubscribeFromBroadcastWithSinglePrimitiveParameterBroadcast(subscriptionId);
+	}
+
+	/**
+	 * @brief subscribes to broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully registered at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+				std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+				std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+				const std::vector<std::string>& partitions = std::vector<std::string>()
+	)
+	 override {
+		return EchoProxyBase::subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+					subscriptionListener,
+					subscriptionQos,
+					partitions
+		);
+	}
+
+	/**
+	 * @brief updates an existing subscription to broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully updated at the provider.
+	 */
+	std::shared_ptr<joynr::Future<std::string>> subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+				const std::string& subscriptionId,
+				std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+				std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+				const std::vector<std::string>& partitions = std::vector<std::string>()
+	)
+	 override {
+		return EchoProxyBase::subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+					subscriptionId,
+					subscriptionListener,
+					subscriptionQos,
+					partitions
+		);
+	}
+
+	/** @brief Destructor */
+	~EchoProxy() override = default;
+
+	// attributes
+	using EchoAsyncProxy::getSimpleAttributeAsync;
+	using EchoSyncProxy::getSimpleAttribute;
+	using EchoAsyncProxy::setSimpleAttributeAsync;
+	using EchoSyncProxy::setSimpleAttribute;
+
+	using IEchoSync::echoByteArray;
+	using IEchoAsync::echoByteArrayAsync;
+	using IEchoSync::echoComplexStruct;
+	using IEchoAsync::echoComplexStructAsync;
+	using IEchoSync::echoString;
+	using IEchoAsync::echoStringAsync;
+private:
+	DISALLOW_COPY_AND_ASSIGN(EchoProxy);
+};
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOPROXY_H
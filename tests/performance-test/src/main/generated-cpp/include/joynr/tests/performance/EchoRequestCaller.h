@@ -0,0 +1,162 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOREQUESTCALLER_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOREQUESTCALLER_H
+
+#include <functional>
+#include <memory>
+
+#include "joynr/PrivateCopyAssign.h"
+#include "joynr/RequestCaller.h"
+#include "joynr/exceptions/JoynrException.h"
+#include "joynr/types/Version.h"
+#include "joynr/tests/performance/IEcho.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+#include "joynr/Logger.h"
+
+namespace joynr
+{
+class UnicastBroadcastListener;
+class SubscriptionAttributeListener;
+} // namespace joynr
+
+namespace joynr { namespace tests { namespace performance { 
+
+class EchoProvider;
+
+/** @brief RequestCaller for interface Echo */
+class EchoRequestCaller : public joynr::RequestCaller {
+public:
+	/**
+	 * @brief parameterized constructor
+	 * @param provider The provider instance
+	 */
+	explicit EchoRequestCaller(std::shared_ptr<EchoProvider> _provider);
+
+	/** @brief Destructor */
+	~EchoRequestCaller() override = default;
+
+	// attributes
+	/**
+	 * @brief Gets the value of the Franca attribute SimpleAttribute
+	 * @param onSuccess A callback function to be called once the asynchronous computation has
+	 * finished with success. It must expect a request status object as well as the return value.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It must expect the exception.
+	 */
+	virtual void getSimpleAttribute(
+			std::function<void(
+					const std::string&
+			)>&& onSuccess,
+			std::function<void(
+					const std::shared_ptr<exceptions::ProviderRuntimeException>&
+			)> onError
+	);
+	/**
+	 * @brief Sets the value of the Franca attribute SimpleAttribute
+	 * @param simpleAttribute The new value of the attribute
+	 * @param onSuccess A callback function to be called once the asynchronous computation has
+	 * finished with success. It must expect a request status object.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It must expect the exception.
+	 */
+	virtual void setSimpleAttribute(
+			const std::string& simpleAttribute,
+			std::function<void()>&& onSuccess,
+			std::function<void(
+					const std::shared_ptr<exceptions::ProviderRuntimeException>&
+			)> onError
+	);
+
+	// methods
+	/**
+	 * @brief Implementation of Franca method echoString
+	 * @param data Method input parameter data
+	 * @param onSuccess A callback function to be called once the asynchronous computation has
+	 * finished with success. It must expect the output parameter list, if parameters are present.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It must expect the exception.
+	 */
+	virtual void echoString(
+			const std::string& data,
+			std::function<void(
+					const std::string& responseData
+			)>&& onSuccess,
+			std::function<void(
+					const std::shared_ptr<exceptions::JoynrException>&
+			)> onError
+	);
+
+	/**
+	 * @brief Implementation of Franca method echoByteArray
+	 * @param data Method input parameter data
+	 * @param onSuccess A callback function to be called once the asynchronous computation has
+	 * finished with success. It must expect the output parameter list, if parameters are present.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It must expect the exception.
+	 */
+	virtual void echoByteArray(
+			const std::vector<std::int8_t> & data,
+			std::function<void(
+					const std::vector<std::int8_t> & responseData
+			)>&& onSuccess,
+			std::function<void(
+					const std::shared_ptr<exceptions::JoynrException>&
+			)> onError
+	);
+
+	/**
+	 * @brief Implementation of Franca method echoComplexStruct
+	 * @param data Method input parameter data
+	 * @param onSuccess A callback function to be called once the asynchronous computation has
+	 * finished with success. It must expect the output parameter list, if parameters are present.
+	 * @param onError A callback function to be called once the asynchronous computation fails. It must expect the exception.
+	 */
+	virtual void echoComplexStruct(
+			const joynr::tests::performance::Types::ComplexStruct& data,
+			std::function<void(
+					const joynr::tests::performance::Types::ComplexStruct& responseData
+			)>&& onSuccess,
+			std::function<void(
+					const std::shared_ptr<exceptions::JoynrException>&
+			)> onError
+	);
+
+
+protected:
+	std::shared_ptr<IJoynrProvider> getProvider() override;
+
+private:
+	DISALLOW_COPY_AND_ASSIGN(EchoRequestCaller);
+	std::shared_ptr<joynr::tests::performance::EchoProvider> provider;
+	ADD_LOGGER(EchoRequestCaller)
+};
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOREQUESTCALLER_H
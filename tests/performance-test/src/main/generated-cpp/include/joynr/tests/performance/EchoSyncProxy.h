@@ -0,0 +1,145 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOSYNCPROXY_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOSYNCPROXY_H
+
+#include "joynr/PrivateCopyAssign.h"
+#include "joynr/tests/performance/EchoProxyBase.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+#include <memory>
+
+namespace joynr { namespace tests { namespace performance { 
+/**
+ * @brief Synchronous proxy for interface Echo
+ *
+ * @version 0.1
+ */
+class EchoSyncProxy :
+		virtual public EchoProxyBase,
+		virtual public IEchoSync
+{
+public:
+	/**
+	 * @brief Parameterized constructor
+	 * @param connectorFactory The connector factory
+	 * @param domain The provider domain
+	 * @param qosSettings The quality of service settings
+	 */
+	EchoSyncProxy(
+			std::weak_ptr<joynr::JoynrRuntimeImpl> runtime,
+			std::shared_ptr<joynr::JoynrMessagingConnectorFactory> connectorFactory,
+			const std::string& domain,
+			const joynr::MessagingQos& qosSettings
+	);
+
+	
+	/**
+	* @brief Synchronous getter for the simpleAttribute attribute.
+	*
+	* @param result The result that will be returned to the caller.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void getSimpleAttribute(std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos = boost::none)
+	override;
+	
+	
+	/**
+	* @brief Synchronous setter for the simpleAttribute attribute.
+	*
+	* @param simpleAttribute The value to set.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void setSimpleAttribute(const std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos = boost::none)
+	override;
+	/**
+	* @brief Synchronous operation echoString.
+	*
+	* @param std::string responseData this is an output parameter
+	*        and will be set within function echoString
+	* @param std::string data
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void echoString(
+				std::string& responseData,
+				const std::string& data,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	)
+	override;
+	/**
+	* @brief Synchronous operation echoByteArray.
+	*
+	* @param std::vector<std::int8_t>  responseData this is an output parameter
+	*        and will be set within function echoByteArray
+	* @param std::vector<std::int8_t>  data
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void echoByteArray(
+				std::vector<std::int8_t> & responseData,
+				const std::vector<std::int8_t> & data,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	)
+	override;
+	/**
+	* @brief Synchronous operation echoComplexStruct.
+	*
+	* @param joynr::tests::performance::Types::ComplexStruct responseData this is an output parameter
+	*        and will be set within function echoComplexStruct
+	* @param joynr::tests::performance::Types::ComplexStruct data
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	void echoComplexStruct(
+				joynr::tests::performance::Types::ComplexStruct& responseData,
+				const joynr::tests::performance::Types::ComplexStruct& data,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	)
+	override;
+
+	friend class EchoProxy;
+
+private:
+	DISALLOW_COPY_AND_ASSIGN(EchoSyncProxy);
+};
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_ECHOSYNCPROXY_H
@@ -0,0 +1,315 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_IECHO_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_IECHO_H
+
+namespace joynr { namespace tests { namespace performance { namespace Types { 
+class ComplexStruct;
+
+} // namespace Types
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+
+#include <cstdint>
+#include <vector>
+#include <string>
+
+
+#include <memory>
+#include <functional>
+
+#include <boost/none.hpp>
+#include <boost/optional.hpp>
+
+#include "joynr/MessagingQos.h"
+
+namespace joynr
+{
+	template <class ... Ts> class Future;
+
+namespace exceptions
+{
+	class JoynrException;
+	class JoynrRuntimeException;
+} // namespace exceptions
+
+} // namespace joynr
+
+namespace joynr { namespace tests { namespace performance { 
+
+/**
+ * @brief Base interface.
+ *
+ * @version 0.1
+ */
+class IEchoBase {
+public:
+	IEchoBase() = default;
+	virtual ~IEchoBase() = default;
+
+	static const std::string& INTERFACE_NAME();
+	/**
+	 * @brief MAJOR_VERSION The major version of this provider interface as specified in the
+	 * Franca model.
+	 */
+	static const std::int32_t MAJOR_VERSION;
+	/**
+	 * @brief MINOR_VERSION The minor version of this provider interface as specified in the
+	 * Franca model.
+	 */
+	static const std::int32_t MINOR_VERSION;
+};
+
+
+/**
+ * @brief This is the Echo synchronous interface.
+ *
+ * @version 0.1
+ */
+class IEchoSync :
+		virtual public IEchoBase
+{
+public:
+	~IEchoSync() override = default;
+	
+	/**
+	* @brief Synchronous getter for the simpleAttribute attribute.
+	*
+	* @param result The result that will be returned to the caller.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	virtual 
+	void getSimpleAttribute(std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos = boost::none)
+	= 0;
+	
+	
+	/**
+	* @brief Synchronous setter for the simpleAttribute attribute.
+	*
+	* @param simpleAttribute The value to set.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	virtual 
+	void setSimpleAttribute(const std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos = boost::none)
+	= 0;
+	/**
+	* @brief Synchronous operation echoString.
+	*
+	* @param std::string responseData this is an output parameter
+	*        and will be set within function echoString
+	* @param std::string data
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	virtual 
+	void echoString(
+				std::string& responseData,
+				const std::string& data,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	)
+	= 0;
+	/**
+	* @brief Synchronous operation echoByteArray.
+	*
+	* @param std::vector<std::int8_t>  responseData this is an output parameter
+	*        and will be set within function echoByteArray
+	* @param std::vector<std::int8_t>  data
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	virtual 
+	void echoByteArray(
+				std::vector<std::int8_t> & responseData,
+				const std::vector<std::int8_t> & data,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	)
+	= 0;
+	/**
+	* @brief Synchronous operation echoComplexStruct.
+	*
+	* @param joynr::tests::performance::Types::ComplexStruct responseData this is an output parameter
+	*        and will be set within function echoComplexStruct
+	* @param joynr::tests::performance::Types::ComplexStruct data
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @throws JoynrException if the request is not successful
+	*/
+	virtual 
+	void echoComplexStruct(
+				joynr::tests::performance::Types::ComplexStruct& responseData,
+				const joynr::tests::performance::Types::ComplexStruct& data,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	)
+	= 0;
+};
+
+/**
+ * @brief This is the Echo asynchronous interface.
+ *
+ * @version 0.1
+ */
+class IEchoAsync :
+		virtual public IEchoBase
+{
+public:
+	~IEchoAsync() override = default;
+	
+	/**
+	* @brief Asynchronous getter for the simpleAttribute attribute.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	virtual 
+	std::shared_ptr<joynr::Future<std::string> > getSimpleAttributeAsync(
+				std::function<void(const std::string& simpleAttribute)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none)
+				noexcept
+	= 0;
+	
+	/**
+	* @brief Asynchronous setter for the simpleAttribute attribute.
+	*
+	* @param simpleAttribute The value to set.
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	virtual 
+	std::shared_ptr<joynr::Future<void> > setSimpleAttributeAsync(
+				std::string simpleAttribute,
+				std::function<void(void)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none)
+				noexcept
+	= 0;
+	/**
+	* @brief Asynchronous operation echoString.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	virtual 
+	std::shared_ptr<joynr::Future<std::string>>  echoStringAsync(
+				const std::string& data,
+				std::function<void(const std::string& responseData)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	) noexcept
+	= 0;
+	/**
+	* @brief Asynchronous operation echoByteArray.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	virtual 
+	std::shared_ptr<joynr::Future<std::vector<std::int8_t> >>  echoByteArrayAsync(
+				const std::vector<std::int8_t> & data,
+				std::function<void(const std::vector<std::int8_t> & responseData)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	) noexcept
+	= 0;
+	/**
+	* @brief Asynchronous operation echoComplexStruct.
+	*
+	* @param onSuccess A callback function to be called once the asynchronous computation has
+	* finished successfully. It must expect the method out parameters.
+	* @param onRuntimeError A callback function to be called once the asynchronous computation has
+	* failed with an unexpected non-modeled exception. It must expect a JoynrRuntimeException object.
+	* @param qos optional MessagingQos parameter; if specified, this will overwrite the MessagingQos that
+	* was specified when building the proxy.
+	* @returns A future representing the result of the asynchronous method call. It provides methods
+	* to wait for completion, to get the result or the request status object.
+	*/
+	virtual 
+	std::shared_ptr<joynr::Future<joynr::tests::performance::Types::ComplexStruct>>  echoComplexStructAsync(
+				const joynr::tests::performance::Types::ComplexStruct& data,
+				std::function<void(const joynr::tests::performance::Types::ComplexStruct& responseData)> onSuccess = nullptr,
+				std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError = nullptr,
+				boost::optional<joynr::MessagingQos> qos = boost::none
+	) noexcept
+	= 0;
+};
+
+/**
+ * @brief This is the Echo interface.
+ *
+ * @version 0.1
+ */
+class IEcho : virtual public IEchoSync, virtual public IEchoAsync {
+public:
+	~IEcho() override = default;
+	using IEchoSync::getSimpleAttribute;
+	using IEchoAsync::getSimpleAttributeAsync;
+	using IEchoSync::setSimpleAttribute;
+	using IEchoAsync::setSimpleAttributeAsync;
+	using IEchoSync::echoByteArray;
+	using IEchoAsync::echoByteArrayAsync;
+	using IEchoSync::echoComplexStruct;
+	using IEchoAsync::echoComplexStructAsync;
+	using IEchoSync::echoString;
+	using IEchoAsync::echoStringAsync;
+};
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_IECHO_H
@@ -0,0 +1,146 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#ifndef GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_IECHOCONNECTOR_H
+#define GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_IECHOCONNECTOR_H
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+#include "joynr/tests/performance/IEcho.h"
+#include "joynr/ISubscriptionListener.h"
+#include "joynr/SubscriptionCallback.h"
+#include <memory>
+
+namespace joynr {
+	template <class T, class ... Ts> class ISubscriptionListener;
+	class ISubscriptionCallback;
+	class SubscriptionQos;
+	class OnChangeSubscriptionQos;
+	class MulticastSubscriptionQos;
+} // namespace joynr
+
+namespace joynr { namespace tests { namespace performance { 
+
+
+class IEchoSubscription{
+	/**
+	  * in  - subscriptionListener      std::shared_ptr to a SubscriptionListener which will receive the updates.
+	  * in  - subscriptionQos           SubscriptionQos parameters like interval and end date.
+	  * out - assignedSubscriptionId    Buffer for the assigned subscriptionId.
+	  */
+public:
+	virtual ~IEchoSubscription() = default;
+
+	/**
+	 * @brief creates a new subscription to attribute SimpleAttribute
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully registered at the provider.
+	 */
+	virtual std::shared_ptr<joynr::Future<std::string>> subscribeToSimpleAttribute(
+				std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+				std::shared_ptr<joynr::SubscriptionQos> subscriptionQos)
+	 = 0;
+	
+	/**
+	 * @brief updates an existing subscription to attribute SimpleAttribute
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully registered at the provider.
+	 */
+	virtual std::shared_ptr<joynr::Future<std::string>> subscribeToSimpleAttribute(
+				std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+				std::shared_ptr<joynr::SubscriptionQos> subscriptionQos,
+				const std::string& subscriptionId)
+	 = 0;
+	
+	/**
+	 * @brief unsubscribes from attribute SimpleAttribute
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 */
+	virtual void unsubscribeFromSimpleAttribute(const std::string& subscriptionId)
+	 = 0;
+	
+	/**
+	 * @brief subscribes to broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully registered at the provider.
+	 */
+	virtual std::shared_ptr<joynr::Future<std::string>> subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+				std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+				std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+				const std::vector<std::string>& partitions
+	)
+	 = 0;
+	
+	/**
+	 * @brief updates an existing subscription to broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionListener The listener callback providing methods to call on publication and failure
+	 * @param subscriptionQos The subscription quality of service settings
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 * @return a future representing the result (subscription id) as string. It provides methods to wait for
+	 * completion, to get the subscription id or the request status object. The subscription id will be available
+	 * when the subscription is successfully updated at the provider.
+	 */
+	virtual std::shared_ptr<joynr::Future<std::string>> subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+				const std::string& subscriptionId,
+				std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+				std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+				const std::vector<std::string>& partitions
+	)
+	 = 0;
+	
+	/**
+	 * @brief unsubscribes from broadcast BroadcastWithSinglePrimitiveParameter
+	 * @param subscriptionId The subscription id returned earlier on creation of the subscription
+	 */
+	virtual void unsubscribeFromBroadcastWithSinglePrimitiveParameterBroadcast(const std::string& subscriptionId)
+	 = 0;
+	
+};
+
+class IEchoConnector: virtual public IEcho, virtual public IEchoSubscription{
+
+public:
+	~IEchoConnector() override = default;
+};
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+#endif // GENERATED_INTERFACE_JOYNR_TESTS_PERFORMANCE_IECHOCONNECTOR_H
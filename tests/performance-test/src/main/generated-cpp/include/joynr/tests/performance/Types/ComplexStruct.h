@@ -0,0 +1,264 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#ifndef GENERATED_TYPE_JOYNR_TESTS_PERFORMANCE_TYPES_COMPLEXSTRUCT_H
+#define GENERATED_TYPE_JOYNR_TESTS_PERFORMANCE_TYPES_COMPLEXSTRUCT_H
+
+
+#include <cstddef>
+#include <memory>
+#include <string>
+#include <vector>
+#include <typeinfo>
+
+#include "joynr/Util.h"
+#include "joynr/ByteBuffer.h"
+
+// include complex Datatype headers.
+
+#include "joynr/serializer/Serializer.h"
+
+namespace joynr { namespace tests { namespace performance { namespace Types { 
+
+/**
+ * @version 0.1
+ */
+class ComplexStruct {
+
+public:
+	/**
+	 * @brief MAJOR_VERSION The major version of this struct as specified in the
+	 * type collection or interface in the Franca model.
+	 */
+	static const std::int32_t MAJOR_VERSION;
+	/**
+	 * @brief MINOR_VERSION The minor version of this struct as specified in the
+	 * type collection or interface in the Franca model.
+	 */
+	static const std::int32_t MINOR_VERSION;
+
+	// general methods
+
+	// default constructor
+	/** @brief Constructor */
+	ComplexStruct();
+
+	// constructor setting all fields
+	/**
+	 * @brief Parameterized constructor
+	 */
+	explicit ComplexStruct(
+			const std::int32_t& _num32,
+			const std::int64_t& _num64,
+			const std::vector<std::int8_t> & _data,
+			const std::string& _str
+	);
+
+	/** @brief Copy constructor */
+	ComplexStruct(const ComplexStruct&) = default;
+
+	/** @brief Move constructor */
+	ComplexStruct(ComplexStruct&&) = default;
+
+	/** @brief Destructor */
+	~ComplexStruct() = default;
+
+	/**
+	 * @brief Stringifies the class
+	 * @return stringified class content
+	 */
+	std::string toString() const;
+
+	/**
+	 * @brief Returns a hash code value for this object
+	 * @return a hash code value for this object.
+	 */
+	std::size_t hashCode() const;
+
+	/**
+	 * @brief assigns an object
+	 * @return reference to the object assigned to
+	 */
+	ComplexStruct& operator=(const ComplexStruct&) = default;
+
+	/**
+	 * @brief move assigns an object
+	 * @return reference to the object assigned to
+	 */
+	ComplexStruct& operator=(ComplexStruct&&) = default;
+
+	/**
+	 * @brief "equal to" operator
+	 * @param other reference to the object to compare to
+	 * @return true if objects are equal, false otherwise
+	 */
+	bool operator==(const ComplexStruct& other) const
+	{
+		return this->equals(other, joynr::util::MAX_ULPS);
+	}
+
+	/**
+	 * @brief "not equal to" operator
+	 * @param other reference to the object to compare to
+	 * @return true if objects are not equal, false otherwise
+	 */
+	bool operator!=(const ComplexStruct& other) const
+	{
+		return !(*this == other);
+	}
+
+
+	// getters
+	/**
+	 * @brief Gets Num32
+	 * @return 
+	 */
+	inline const std::int32_t& getNum32() const { return num32; }
+	/**
+	 * @brief Gets Num64
+	 * @return 
+	 */
+	inline const std::int64_t& getNum64() const { return num64; }
+	/**
+	 * @brief Gets Data
+	 * @return 
+	 */
+	inline const std::vector<std::int8_t> & getData() const { return data; }
+	/**
+	 * @brief Gets Str
+	 * @return 
+	 */
+	inline const std::string& getStr() const { return str; }
+
+	// setters
+	/**
+	 * @brief Sets Num32
+	 */
+	inline void setNum32(const std::int32_t& _num32) { this->num32 = _num32; }
+	/**
+	 * @brief Sets Num64
+	 */
+	inline void setNum64(const std::int64_t& _num64) { this->num64 = _num64; }
+	/**
+	 * @brief Sets Data
+	 */
+	inline void setData(const std::vector<std::int8_t> & _data) { this->data = _data; }
+	/**
+	 * @brief Sets Str
+	 */
+	inline void setStr(const std::string& _str) { this->str = _str; }
+
+	/**
+	 * @brief equals method
+	 * @param other reference to the object to compare to
+	 * @param maxUlps maximum number of ULPs (Units in the Last Place) that are tolerated when comparing to floating point values
+	 * @return true if objects are equal, false otherwise
+	 */
+	bool equals(const ComplexStruct& other, std::size_t maxUlps) const
+	{
+		return this->equalsInternal(other, maxUlps);
+	}
+protected:
+	// printing ComplexStruct with google-test and google-mock
+	/**
+	 * @brief Print values of a ComplexStruct object
+	 * @param complexStruct The current object instance
+	 * @param os The output stream to send the output to
+	 */
+	friend void PrintTo(const ComplexStruct& complexStruct, ::std::ostream* os);
+
+	/**
+	 * @brief equals method
+	 * @param other reference to the object to compare to
+	 * @return true if objects are equal, false otherwise
+	 */
+	bool equalsInternal(const ComplexStruct& other, std::size_t maxUlps) const
+	{
+		return
+		joynr::util::compareValues(this->num32, other.num32, maxUlps) &&
+		joynr::util::compareValues(this->num64, other.num64, maxUlps) &&
+		joynr::util::compareValues(this->data, other.data, maxUlps) &&
+		joynr::util::compareValues(this->str, other.str, maxUlps)
+		;
+	}
+
+
+private:
+	// serialize ComplexStruct with muesli
+	template <typename Archive>
+	friend void serialize(Archive& archive, ComplexStruct& complexstructObj);
+
+	// members
+	std::int32_t num32;
+	std::int64_t num64;
+	std::vector<std::int8_t>  data;
+	std::string str;
+};
+
+std::size_t hash_value(const ComplexStruct& complexStructValue);
+
+// serialize ComplexStruct with muesli
+template <typename Archive>
+void serialize(Archive& archive, ComplexStruct& complexstructObj)
+{
+archive(
+		muesli::make_nvp("num32", complexstructObj.num32),
+		muesli::make_nvp("num64", complexstructObj.num64),
+		muesli::make_nvp("data", complexstructObj.data),
+		muesli::make_nvp("str", complexstructObj.str)
+);
+}
+
+
+} // namespace Types
+} // namespace performance
+} // namespace tests
+} // namespace joynr
+
+namespace std {
+
+/**
+ * @brief Function object that implements a hash function for joynr::tests::performance::Types::ComplexStruct.
+ *
+ * Used by the unordered associative containers std::unordered_set, std::unordered_multiset,
+ * std::unordered_map, std::unordered_multimap as default hash function.
+ */
+template<>
+struct hash<joynr::tests::performance::Types::ComplexStruct> {
+
+	/**
+	 * @brief method overriding default implementation of operator ()
+	 * @param complexStructValue the operators argument
+	 * @return the ordinal number representing the enum value
+	 */
+	std::size_t operator()(const joynr::tests::performance::Types::ComplexStruct& complexStructValue) const {
+		return joynr::tests::performance::Types::hash_value(complexStructValue);
+	}
+};
+} // namespace std
+
+MUESLI_REGISTER_TYPE(joynr::tests::performance::Types::ComplexStruct, "joynr.tests.performance.Types.ComplexStruct")
+
+#endif // GENERATED_TYPE_JOYNR_TESTS_PERFORMANCE_TYPES_COMPLEXSTRUCT_H
@@ -0,0 +1,737 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#include "joynr/tests/performance/EchoJoynrMessagingConnector.h"
+#include "joynr/serializer/Serializer.h"
+#include "joynr/ReplyCaller.h"
+#include "joynr/IMessageSender.h"
+#include "joynr/UnicastSubscriptionCallback.h"
+#include "joynr/MulticastSubscriptionCallback.h"
+#include "joynr/Util.h"
+#include "joynr/SubscriptionStop.h"
+#include "joynr/Future.h"
+#include <cstdint>
+#include "joynr/SubscriptionUtil.h"
+#include "joynr/exceptions/JoynrException.h"
+#include "joynr/exceptions/MethodInvocationException.h"
+#include "joynr/Request.h"
+#include "joynr/OneWayRequest.h"
+#include "joynr/SubscriptionRequest.h"
+#include "joynr/MulticastSubscriptionQos.h"
+#include "joynr/MulticastSubscriptionRequest.h"
+
+
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+
+
+using joynr::util::safeInvokeCallback;
+
+namespace joynr { namespace tests { namespace performance { 
+EchoJoynrMessagingConnector::EchoJoynrMessagingConnector(
+		std::weak_ptr<joynr::IMessageSender> messageSender,
+		std::weak_ptr<joynr::ISubscriptionManager> subscriptionManager,
+		const std::string& domain,
+		const std::string& proxyParticipantId,
+		const joynr::MessagingQos &qosSettings,
+		const joynr::types::DiscoveryEntryWithMetaInfo& providerDiscoveryEntry)
+	: joynr::AbstractJoynrMessagingConnector(messageSender, subscriptionManager, domain, INTERFACE_NAME(), proxyParticipantId, qosSettings, providerDiscoveryEntry)
+{
+}
+
+void EchoJoynrMessagingConnector::getSimpleAttribute(std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos)
+{
+	auto future = getSimpleAttributeAsync(nullptr, nullptr, std::move(qos));
+	future->get(simpleAttribute);
+}
+
+std::shared_ptr<joynr::Future<std::string> > EchoJoynrMessagingConnector::getSimpleAttributeAsync(
+			std::function<void(const std::string& simpleAttribute)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError,
+			boost::optional<joynr::MessagingQos> qos)
+			noexcept
+{
+	joynr::Request request;
+	// explicitly set to no parameters
+	request.setParams();
+	request.setMethodName("getSimpleAttribute");
+	auto future = std::make_shared<joynr::Future<std::string>>();
+
+	std::function<void(const std::string&)> onSuccessWrapper = [
+			future,
+			onSuccess = std::move(onSuccess),
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName(),
+			thisSharedPtr = shared_from_this()
+	] (const std::string& simpleAttribute) {
+		JOYNR_LOG_DEBUG(logger(),
+				"REQUEST returns successful: requestReplyId: {}, method: {}, response: {}",
+				requestReplyId,
+				methodName,
+				joynr::serializer::serializeToJson(simpleAttribute)
+		);
+		safeInvokeCallback(logger(), onSuccess, simpleAttribute);
+		future->onSuccess(simpleAttribute);
+	};
+
+	std::function<void(const std::shared_ptr<exceptions::JoynrException>& error)> onErrorWrapper = [
+			future,
+			onError = onError,
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName()
+	] (const std::shared_ptr<exceptions::JoynrException>& error) {
+		assert(error);
+		if (!error) {
+			JOYNR_LOG_FATAL(logger(),
+				"REQUEST returns error: requestReplyId: {}, method: {}, error not set, aborting",
+				requestReplyId,
+				methodName
+			);
+			return;
+		}
+		JOYNR_LOG_DEBUG(logger(),
+				"REQUEST returns error: requestReplyId: {}, method: {}, response: {}",
+				requestReplyId,
+				methodName,
+				error->what()
+		);
+		safeInvokeCallback(logger(), onError, static_cast<const exceptions::JoynrRuntimeException&>(*error));
+		future->onError(error);
+	};
+
+	try {
+		JOYNR_LOG_DEBUG(logger(),
+				"REQUEST call proxy: requestReplyId: {}, method: {}",
+				request.getRequestReplyId(),
+				request.getMethodName());
+		auto replyCaller = std::make_shared<joynr::ReplyCaller<std::string>>(std::move(onSuccessWrapper), std::move(onErrorWrapper));
+		operationRequest(std::move(replyCaller), std::move(request), std::move(qos));
+	} catch (const std::invalid_argument& exception) {
+		auto joynrException = std::make_shared<joynr::exceptions::MethodInvocationException>(exception.what());
+		safeInvokeCallback(logger(), onError, *joynrException);
+		future->onError(joynrException);
+	} catch (const joynr::exceptions::JoynrRuntimeException& exception) {
+		std::shared_ptr<joynr::exceptions::JoynrRuntimeException> exceptionPtr;
+		exceptionPtr.reset(exception.clone());
+		safeInvokeCallback(logger(), onError, exception);
+		future->onError(exceptionPtr);
+	}
+	return future;
+}
+
+std::shared_ptr<joynr::Future<void> > EchoJoynrMessagingConnector::setSimpleAttributeAsync(
+			std::string simpleAttribute,
+			std::function<void(void)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError,
+			boost::optional<joynr::MessagingQos> qos)
+			noexcept
+{
+	joynr::Request request;
+	request.setMethodName("setSimpleAttribute");
+	request.setParamDatatypes({"String"});
+	request.setParams(simpleAttribute);
+
+	auto future = std::make_shared<joynr::Future<void>>();
+
+	std::function<void()> onSuccessWrapper = [
+			future,
+			onSuccess = std::move(onSuccess),
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName(),
+			thisSharedPtr = shared_from_this()
+	] () {
+		JOYNR_LOG_DEBUG(logger(),
+				"REQUEST returns successful: requestReplyId: {}, method: {}",
+				requestReplyId,
+				methodName
+		);
+		safeInvokeCallback(logger(), onSuccess);
+		future->onSuccess();
+	};
+
+	std::function<void(const std::shared_ptr<exceptions::JoynrException>& error)> onErrorWrapper = [
+			future,
+			onError = onError,
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName()
+	] (const std::shared_ptr<exceptions::JoynrException>& error) {
+		assert(error);
+		if (!error) {
+			JOYNR_LOG_FATAL(logger(),
+				"REQUEST returns error: requestReplyId: {}, method: {}, error not set, aborting",
+				requestReplyId,
+				methodName
+			);
+			return;
+		}
+		JOYNR_LOG_DEBUG(logger(),
+			"REQUEST returns error: requestReplyId: {}, method: {}, response: {}",
+			requestReplyId,
+			methodName,
+			error->what()
+		);
+		safeInvokeCallback(logger(), onError, static_cast<const exceptions::JoynrRuntimeException&>(*error));
+		future->onError(error);
+	};
+
+	try {
+		JOYNR_LOG_DEBUG(logger(),
+				"REQUEST call proxy: requestReplyId: {}, method: {}, params: {}",
+				request.getRequestReplyId(),
+				request.getMethodName(),
+				joynr::serializer::serializeToJson(simpleAttribute));
+		auto replyCaller = std::make_shared<joynr::ReplyCaller<void>>(std::move(onSuccessWrapper), std::move(onErrorWrapper));
+		operationRequest(std::move(replyCaller), std::move(request), std::move(qos));
+	} catch (const std::invalid_argument& exception) {
+		auto joynrException = std::make_shared<joynr::exceptions::MethodInvocationException>(exception.what());
+		safeInvokeCallback(logger(), onError, *joynrException);
+		future->onError(joynrException);
+	} catch (const joynr::exceptions::JoynrRuntimeException& exception) {
+		std::shared_ptr<joynr::exceptions::JoynrRuntimeException> exceptionPtr;
+		exceptionPtr.reset(exception.clone());
+		safeInvokeCallback(logger(), onError, exception);
+		future->onError(exceptionPtr);
+	}
+	return future;
+}
+
+void EchoJoynrMessagingConnector::setSimpleAttribute(const std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos)
+{
+	auto future = setSimpleAttributeAsync(simpleAttribute, nullptr, nullptr, std::move(qos));
+	future->get();
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoJoynrMessagingConnector::subscribeToSimpleAttribute(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+			std::shared_ptr<joynr::SubscriptionQos> subscriptionQos)
+ {
+	joynr::SubscriptionRequest subscriptionRequest;
+	return subscribeToSimpleAttribute(subscriptionListener, subscriptionQos, subscriptionRequest);
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoJoynrMessagingConnector::subscribeToSimpleAttribute(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+			std::shared_ptr<joynr::SubscriptionQos> subscriptionQos,
+			const std::string& subscriptionId)
+ {
+
+	joynr::SubscriptionRequest subscriptionRequest;
+	subscriptionRequest.setSubscriptionId(subscriptionId);
+	return subscribeToSimpleAttribute(subscriptionListener, subscriptionQos, subscriptionRequest);
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoJoynrMessagingConnector::subscribeToSimpleAttribute(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+			std::shared_ptr<joynr::SubscriptionQos> subscriptionQos,
+			SubscriptionRequest& subscriptionRequest
+) {
+	JOYNR_LOG_TRACE(logger(), "Subscribing to simpleAttribute.");
+	std::string attributeName("simpleAttribute");
+	joynr::MessagingQos clonedMessagingQos(_qosSettings);
+	clonedMessagingQos.setTtl(static_cast<std::uint64_t>(ISubscriptionManager::convertExpiryDateIntoTtlMs(*subscriptionQos)));
+
+	auto future = std::make_shared<Future<std::string>>();
+	std::shared_ptr<joynr::AbstractJoynrMessagingConnector> messagingConnector = shared_from_this();
+	auto subscriptionCallback = std::make_shared<joynr::UnicastSubscriptionCallback<std::string>
+	>(subscriptionRequest.getSubscriptionId(), future, _subscriptionManager, messagingConnector);
+	if (auto ptr = _subscriptionManager.lock()) {
+		ptr->registerSubscription(
+				attributeName,
+				subscriptionCallback,
+				subscriptionListener,
+				subscriptionQos,
+				subscriptionRequest);
+	}
+	JOYNR_LOG_DEBUG(logger(),
+			"SUBSCRIPTION call proxy: subscriptionId: {}, attribute: {}, qos: {}",
+			subscriptionRequest.getSubscriptionId(),
+			attributeName,
+			joynr::serializer::serializeToJson(*subscriptionQos));
+
+	if (auto ptr = _messageSender.lock()) {
+		ptr->sendSubscriptionRequest(
+				_proxyParticipantId,
+				_providerParticipantId,
+				clonedMessagingQos,
+				subscriptionRequest,
+				_providerDiscoveryEntry.getIsLocal()
+				);
+	}
+	return future;
+}
+
+void EchoJoynrMessagingConnector::unsubscribeFromSimpleAttribute(const std::string& subscriptionId)
+ {
+	joynr::SubscriptionStop subscriptionStop;
+	subscriptionStop.setSubscriptionId(subscriptionId);
+
+	if (auto ptr = _subscriptionManager.lock()) {
+		ptr->unregisterSubscription(subscriptionId);
+	}
+	if (auto ptr = _messageSender.lock()) {
+		ptr->sendSubscriptionStop(
+				_proxyParticipantId,
+				_providerParticipantId,
+				_qosSettings,
+				subscriptionStop
+				);
+	}
+}
+
+
+
+void EchoJoynrMessagingConnector::echoString(
+			std::string& responseData,
+			const std::string& data,
+			boost::optional<joynr::MessagingQos> qos
+)
+{
+	auto future = echoStringAsync(data, nullptr, nullptr, std::move(qos));
+	future->get(responseData);
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoJoynrMessagingConnector:: echoStringAsync(
+			const std::string& data,
+			std::function<void(const std::string& responseData)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError,
+			boost::optional<joynr::MessagingQos> qos
+) noexcept
+{
+	joynr::Request request;
+	
+	request.setMethodName("echoString");
+	request.setParamDatatypes({
+		"String"
+		});
+	request.setParams(
+		data
+	);
+
+	auto future = std::make_shared<joynr::Future<std::string>>();
+
+	std::function<void(const std::string& responseData)> onSuccessWrapper = [
+			future,
+			onSuccess = std::move(onSuccess),
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName(),
+			thisSharedPtr = shared_from_this()
+	] (const std::string& responseData)
+	{
+		JOYNR_LOG_DEBUG(logger(),
+			"REQUEST returns successful: requestReplyId: {}, method: {}, response: {}",
+			requestReplyId,
+			methodName,
+			joynr::serializer::serializeToJson(responseData)
+		);
+		safeInvokeCallback(logger(), onSuccess, responseData);
+		future->onSuccess(responseData);
+	};
+
+	std::function<void(const std::shared_ptr<exceptions::JoynrException>& error)> onErrorWrapper = [
+			future,
+			onRuntimeError = onRuntimeError,
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName()
+	] (const std::shared_ptr<exceptions::JoynrException>& error)
+	{
+		assert(error);
+		if (!error) {
+			JOYNR_LOG_FATAL(logger(),
+				"REQUEST returns error: requestReplyId: {}, method: {}, error not set, aborting",
+				requestReplyId,
+				methodName
+			);
+			return;
+		}
+		JOYNR_LOG_DEBUG(logger(),
+			"REQUEST returns error: requestReplyId: {}, method: {}, response: {}",
+			requestReplyId,
+			methodName,
+			error->what()
+		);
+		if (const exceptions::ApplicationException* applicationError = dynamic_cast<const exceptions::ApplicationException*>(error.get())) {
+			const std::string& enumName = applicationError->getName();
+			const std::string errorMessage = "An ApplicationException was received, but none was expected." \
+					" Is the provider version incompatible with the consumer?" \
+					" Error " + enumName + ", message: " + applicationError->getMessage();
+			JOYNR_LOG_ERROR(logger(), errorMessage);
+			std::shared_ptr<exceptions::JoynrRuntimeException> wrappedException = std::make_shared<exceptions::JoynrRuntimeException>(errorMessage);
+			safeInvokeCallback(logger(), onRuntimeError, static_cast<const exceptions::JoynrRuntimeException&>(*wrappedException));
+			future->onError(wrappedException);
+		}
+		else {
+			safeInvokeCallback(logger(), onRuntimeError, static_cast<const exceptions::JoynrRuntimeException&>(*error));
+			future->onError(error);
+		}
+	};
+
+	try {
+		JOYNR_LOG_DEBUG(logger(),
+				"REQUEST call proxy: requestReplyId: {}, method: {}, params: {}",
+				request.getRequestReplyId(),
+				request.getMethodName()
+				,
+				joynr::serializer::serializeToJson(data)
+				);
+
+		auto replyCaller = std::make_shared<joynr::ReplyCaller<std::string>>(std::move(onSuccessWrapper), std::move(onErrorWrapper));
+		operationRequest(std::move(replyCaller), std::move(request), std::move(qos));
+	} catch (const std::invalid_argument& exception) {
+		auto joynrException = std::make_shared<joynr::exceptions::MethodInvocationException>(exception.what());
+		safeInvokeCallback(logger(), onRuntimeError, *joynrException);
+		future->onError(joynrException);
+	} catch (const joynr::exceptions::JoynrRuntimeException& exception) {
+		std::shared_ptr<joynr::exceptions::JoynrRuntimeException> exceptionPtr;
+		exceptionPtr.reset(exception.clone());
+		safeInvokeCallback(logger(), onRuntimeError, exception);
+		future->onError(exceptionPtr);
+	}
+	return future;
+}
+
+void EchoJoynrMessagingConnector::echoByteArray(
+			std::vector<std::int8_t> & responseData,
+			const std::vector<std::int8_t> & data,
+			boost::optional<joynr::MessagingQos> qos
+)
+{
+	auto future = echoByteArrayAsync(data, nullptr, nullptr, std::move(qos));
+	future->get(responseData);
+}
+
+std::shared_ptr<joynr::Future<std::vector<std::int8_t> >> EchoJoynrMessagingConnector:: echoByteArrayAsync(
+			const std::vector<std::int8_t> & data,
+			std::function<void(const std::vector<std::int8_t> & responseData)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError,
+			boost::optional<joynr::MessagingQos> qos
+) noexcept
+{
+	joynr::Request request;
+	
+	request.setMethodName("echoByteArray");
+	request.setParamDatatypes({
+		"Byte[]"
+		});
+	request.setParams(
+		data
+	);
+
+	auto future = std::make_shared<joynr::Future<std::vector<std::int8_t> >>();
+
+	std::function<void(const std::vector<std::int8_t> & responseData)> onSuccessWrapper = [
+			future,
+			onSuccess = std::move(onSuccess),
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName(),
+			thisSharedPtr = shared_from_this()
+	] (const std::vector<std::int8_t> & responseData)
+	{
+		JOYNR_LOG_DEBUG(logger(),
+			"REQUEST returns successful: requestReplyId: {}, method: {}, response: {}",
+			requestReplyId,
+			methodName,
+			joynr::serializer::serializeToJson(responseData)
+		);
+		safeInvokeCallback(logger(), onSuccess, responseData);
+		future->onSuccess(responseData);
+	};
+
+	std::function<void(const std::shared_ptr<exceptions::JoynrException>& error)> onErrorWrapper = [
+			future,
+			onRuntimeError = onRuntimeError,
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName()
+	] (const std::shared_ptr<exceptions::JoynrException>& error)
+	{
+		assert(error);
+		if (!error) {
+			JOYNR_LOG_FATAL(logger(),
+				"REQUEST returns error: requestReplyId: {}, method: {}, error not set, aborting",
+				requestReplyId,
+				methodName
+			);
+			return;
+		}
+		JOYNR_LOG_DEBUG(logger(),
+			"REQUEST returns error: requestReplyId: {}, method: {}, response: {}",
+			requestReplyId,
+			methodName,
+			error->what()
+		);
+		if (const exceptions::ApplicationException* applicationError = dynamic_cast<const exceptions::ApplicationException*>(error.get())) {
+			const std::string& enumName = applicationError->getName();
+			const std::string errorMessage = "An ApplicationException was received, but none was expected." \
+					" Is the provider version incompatible with the consumer?" \
+					" Error " + enumName + ", message: " + applicationError->getMessage();
+			JOYNR_LOG_ERROR(logger(), errorMessage);
+			std::shared_ptr<exceptions::JoynrRuntimeException> wrappedException = std::make_shared<exceptions::JoynrRuntimeException>(errorMessage);
+			safeInvokeCallback(logger(), onRuntimeError, static_cast<const exceptions::JoynrRuntimeException&>(*wrappedException));
+			future->onError(wrappedException);
+		}
+		else {
+			safeInvokeCallback(logger(), onRuntimeError, static_cast<const exceptions::JoynrRuntimeException&>(*error));
+			future->onError(error);
+		}
+	};
+
+	try {
+		JOYNR_LOG_DEBUG(logger(),
+				"REQUEST call proxy: requestReplyId: {}, method: {}, params: {}",
+				request.getRequestReplyId(),
+				request.getMethodName()
+				,
+				joynr::serializer::serializeToJson(data)
+				);
+
+		auto replyCaller = std::make_shared<joynr::ReplyCaller<std::vector<std::int8_t> >>(std::move(onSuccessWrapper), std::move(onErrorWrapper));
+		operationRequest(std::move(replyCaller), std::move(request), std::move(qos));
+	} catch (const std::invalid_argument& exception) {
+		auto joynrException = std::make_shared<joynr::exceptions::MethodInvocationException>(exception.what());
+		safeInvokeCallback(logger(), onRuntimeError, *joynrException);
+		future->onError(joynrException);
+	} catch (const joynr::exceptions::JoynrRuntimeException& exception) {
+		std::shared_ptr<joynr::exceptions::JoynrRuntimeException> exceptionPtr;
+		exceptionPtr.reset(exception.clone());
+		safeInvokeCallback(logger(), onRuntimeError, exception);
+		future->onError(exceptionPtr);
+	}
+	return future;
+}
+
+void EchoJoynrMessagingConnector::echoComplexStruct(
+			joynr::tests::performance::Types::ComplexStruct& responseData,
+			const joynr::tests::performance::Types::ComplexStruct& data,
+			boost::optional<joynr::MessagingQos> qos
+)
+{
+	auto future = echoComplexStructAsync(data, nullptr, nullptr, std::move(qos));
+	future->get(responseData);
+}
+
+std::shared_ptr<joynr::Future<joynr::tests::performance::Types::ComplexStruct>> EchoJoynrMessagingConnector:: echoComplexStructAsync(
+			const joynr::tests::performance::Types::ComplexStruct& data,
+			std::function<void(const joynr::tests::performance::Types::ComplexStruct& responseData)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError,
+			boost::optional<joynr::MessagingQos> qos
+) noexcept
+{
+	joynr::Request request;
+	
+	request.setMethodName("echoComplexStruct");
+	request.setParamDatatypes({
+		"joynr.tests.performance.Types.ComplexStruct"
+		});
+	request.setParams(
+		data
+	);
+
+	auto future = std::make_shared<joynr::Future<joynr::tests::performance::Types::ComplexStruct>>();
+
+	std::function<void(const joynr::tests::performance::Types::ComplexStruct& responseData)> onSuccessWrapper = [
+			future,
+			onSuccess = std::move(onSuccess),
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName(),
+			thisSharedPtr = shared_from_this()
+	] (const joynr::tests::performance::Types::ComplexStruct& responseData)
+	{
+		JOYNR_LOG_DEBUG(logger(),
+			"REQUEST returns successful: requestReplyId: {}, method: {}, response: {}",
+			requestReplyId,
+			methodName,
+			joynr::serializer::serializeToJson(responseData)
+		);
+		safeInvokeCallback(logger(), onSuccess, responseData);
+		future->onSuccess(responseData);
+	};
+
+	std::function<void(const std::shared_ptr<exceptions::JoynrException>& error)> onErrorWrapper = [
+			future,
+			onRuntimeError = onRuntimeError,
+			requestReplyId = request.getRequestReplyId(),
+			methodName = request.getMethodName()
+	] (const std::shared_ptr<exceptions::JoynrException>& error)
+	{
+		assert(error);
+		if (!error) {
+			JOYNR_LOG_FATAL(logger(),
+				"REQUEST returns error: requestReplyId: {}, method: {}, error not set, aborting",
+				requestReplyId,
+				methodName
+			);
+			return;
+		}
+		JOYNR_LOG_DEBUG(logger(),
+			"REQUEST returns error: requestReplyId: {}, method: {}, response: {}",
+			requestReplyId,
+			methodName,
+			error->what()
+		);
+		if (const exceptions::ApplicationException* applicationError = dynamic_cast<const exceptions::ApplicationException*>(error.get())) {
+			const std::string& enumName = applicationError->getName();
+			const std::string errorMessage = "An ApplicationException was received, but none was expected." \
+					" Is the provider version incompatible with the consumer?" \
+					" Error " + enumName + ", message: " + applicationError->getMessage();
+			JOYNR_LOG_ERROR(logger(), errorMessage);
+			std::shared_ptr<exceptions::JoynrRuntimeException> wrappedException = std::make_shared<exceptions::JoynrRuntimeException>(errorMessage);
+			safeInvokeCallback(logger(), onRuntimeError, static_cast<const exceptions::JoynrRuntimeException&>(*wrappedException));
+			future->onError(wrappedException);
+		}
+		else {
+			safeInvokeCallback(logger(), onRuntimeError, static_cast<const exceptions::JoynrRuntimeException&>(*error));
+			future->onError(error);
+		}
+	};
+
+	try {
+		JOYNR_LOG_DEBUG(logger(),
+				"REQUEST call proxy: requestReplyId: {}, method: {}, params: {}",
+				request.getRequestReplyId(),
+				request.getMethodName()
+				,
+				joynr::serializer::serializeToJson(data)
+				);
+
+		auto replyCaller = std::make_shared<joynr::ReplyCaller<joynr::tests::performance::Types::ComplexStruct>>(std::move(onSuccessWrapper), std::move(onErrorWrapper));
+		operationRequest(std::move(replyCaller), std::move(request), std::move(qos));
+	} catch (const std::invalid_argument& exception) {
+		auto joynrException = std::make_shared<joynr::exceptions::MethodInvocationException>(exception.what());
+		safeInvokeCallback(logger(), onRuntimeError, *joynrException);
+		future->onError(joynrException);
+	} catch (const joynr::exceptions::JoynrRuntimeException& exception) {
+		std::shared_ptr<joynr::exceptions::JoynrRuntimeException> exceptionPtr;
+		exceptionPtr.reset(exception.clone());
+		safeInvokeCallback(logger(), onRuntimeError, exception);
+		future->onError(exceptionPtr);
+	}
+	return future;
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoJoynrMessagingConnector::subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+			std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+			const std::vector<std::string>& partitions
+)
+ {
+	auto subscriptionRequest = std::make_shared<joynr::MulticastSubscriptionRequest>();
+	return subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+				std::move(subscriptionListener),
+				std::move(subscriptionQos),
+				subscriptionRequest,
+				partitions);
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoJoynrMessagingConnector::subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+			const std::string& subscriptionId,
+			std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+			std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+			const std::vector<std::string>& partitions
+)
+ {
+	auto subscriptionRequest = std::make_shared<joynr::MulticastSubscriptionRequest>();
+	subscriptionRequest->setSubscriptionId(subscriptionId);
+	return subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+				std::move(subscriptionListener),
+				std::move(subscriptionQos),
+				subscriptionRequest,
+				partitions);
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoJoynrMessagingConnector::subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string > > subscriptionListener,
+			std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+			std::shared_ptr<MulticastSubscriptionRequest> subscriptionRequest,
+			const std::vector<std::string>& partitions
+) {
+	JOYNR_LOG_TRACE(logger(), "Subscribing to broadcastWithSinglePrimitiveParameter multicast.");
+	std::string broadcastName("broadcastWithSinglePrimitiveParameter");
+	joynr::MessagingQos clonedMessagingQos(_qosSettings);
+	clonedMessagingQos.setTtl(static_cast<std::uint64_t>(ISubscriptionManager::convertExpiryDateIntoTtlMs(*subscriptionQos)));
+
+	auto future = std::make_shared<Future<std::string>>();
+	std::shared_ptr<joynr::AbstractJoynrMessagingConnector> messagingConnector = shared_from_this();
+	auto subscriptionCallback = std::make_shared<joynr::MulticastSubscriptionCallback<std::string>
+	>(subscriptionRequest->getSubscriptionId(), future, _subscriptionManager, messagingConnector);
+	std::string subscriptionId = subscriptionRequest->getSubscriptionId();
+	std::function<void()> onSuccess =
+			[messageSender = _messageSender,
+			proxyParticipantId = _proxyParticipantId,
+			providerParticipantId = _providerParticipantId,
+			clonedMessagingQos, subscriptionId] () {
+				if (auto ptr = messageSender.lock())
+				{
+                            SubscriptionReply subscriptionReply;
+                            subscriptionReply.setSubscriptionId(subscriptionId);
+					ptr->sendSubscriptionReply(
+								providerParticipantId,
+								proxyParticipantId,
+								clonedMessagingQos,
+								subscriptionReply
+					);
+				}
+			};
+
+	std::function<void(const exceptions::ProviderRuntimeException& error)> onError =
+			[subscriptionListener,
+			subscriptionManager = _subscriptionManager,
+			subscriptionId] (const exceptions::ProviderRuntimeException& error) {
+				std::string message = "Could not register subscription to broadcastWithSinglePrimitiveParameter. Error from subscription manager: "
+							+ error.getMessage();
+				JOYNR_LOG_ERROR(logger(), message);
+				exceptions::SubscriptionException subscriptionException(message, subscriptionId);
+				subscriptionListener->onError(subscriptionException);
+				if (auto ptr = subscriptionManager.lock())
+				{
+					ptr->unregisterSubscription(subscriptionId);
+				}
+		};
+
+	if (auto ptr = _subscriptionManager.lock()) {
+		ptr->registerSubscription(
+				broadcastName,
+				_proxyParticipantId,
+				_providerParticipantId,
+				partitions,
+				subscriptionCallback,
+				subscriptionListener,
+				subscriptionQos,
+				*subscriptionRequest,
+				std::move(onSuccess),
+				std::move(onError));
+	}
+	return future;
+}
+
+void EchoJoynrMessagingConnector::unsubscribeFromBroadcastWithSinglePrimitiveParameterBroadcast(const std::string& subscriptionId)
+ {
+	if (auto ptr = _subscriptionManager.lock()) {
+		ptr->unregisterSubscription(subscriptionId);
+	}
+}
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
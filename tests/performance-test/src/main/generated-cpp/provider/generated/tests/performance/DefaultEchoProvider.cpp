@@ -0,0 +1,124 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#include "joynr/tests/performance/DefaultEchoProvider.h"
+
+#include <chrono>
+#include <cstdint>
+#include <tuple>
+
+
+namespace joynr { namespace tests { namespace performance { 
+
+DefaultEchoProvider::DefaultEchoProvider() :
+		EchoAbstractProvider()
+		,
+		simpleAttribute()
+{
+}
+
+DefaultEchoProvider::~DefaultEchoProvider() = default;
+
+// attributes
+void DefaultEchoProvider::getSimpleAttribute(
+		std::function<void(
+				const std::string&
+		)> onSuccess,
+		std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+) {
+	std::ignore = onError;
+	onSuccess(simpleAttribute);
+}
+
+void DefaultEchoProvider::setSimpleAttribute(
+		const std::string& _simpleAttribute,
+		std::function<void()> onSuccess,
+		std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+) {
+	std::ignore = onError;
+	this->simpleAttribute = _simpleAttribute;
+	simpleAttributeChanged(_simpleAttribute);
+	onSuccess();
+}
+
+// methods
+void DefaultEchoProvider::echoString(
+		const std::string& data,
+		std::function<void(
+				const std::string& responseData
+		)> onSuccess,
+		std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+) {
+	std::ignore = onError;
+	std::ignore = data;
+	std::string responseData = "Hello World";
+	JOYNR_LOG_WARN(logger(), "**********************************************");
+	JOYNR_LOG_WARN(logger(), "* DefaultEchoProvider::echoString called");
+	JOYNR_LOG_WARN(logger(), "**********************************************");
+	onSuccess(
+			responseData
+	);
+}
+
+void DefaultEchoProvider::echoByteArray(
+		const std::vector<std::int8_t> & data,
+		std::function<void(
+				const std::vector<std::int8_t> & responseData
+		)> onSuccess,
+		std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+) {
+	std::ignore = onError;
+	std::ignore = data;
+	std::vector<std::int8_t>  responseData;
+	JOYNR_LOG_WARN(logger(), "**********************************************");
+	JOYNR_LOG_WARN(logger(), "* DefaultEchoProvider::echoByteArray called");
+	JOYNR_LOG_WARN(logger(), "**********************************************");
+	onSuccess(
+			responseData
+	);
+}
+
+void DefaultEchoProvider::echoComplexStruct(
+		const joynr::tests::performance::Types::ComplexStruct& data,
+		std::function<void(
+				const joynr::tests::performance::Types::ComplexStruct& responseData
+		)> onSuccess,
+		std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError
+) {
+	std::ignore = onError;
+	std::ignore = data;
+	joynr::tests::performance::Types::ComplexStruct responseData;
+	JOYNR_LOG_WARN(logger(), "**********************************************");
+	JOYNR_LOG_WARN(logger(), "* DefaultEchoProvider::echoComplexStruct called");
+	JOYNR_LOG_WARN(logger(), "**********************************************");
+	onSuccess(
+			responseData
+	);
+}
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
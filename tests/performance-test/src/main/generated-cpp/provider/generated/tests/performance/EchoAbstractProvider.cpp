@@ -0,0 +1,69 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#include "joynr/tests/performance/EchoAbstractProvider.h"
+#include "joynr/InterfaceRegistrar.h"
+#include "joynr/tests/performance/EchoRequestInterpreter.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+
+namespace joynr { namespace tests { namespace performance { 
+EchoAbstractProvider::EchoAbstractProvider()
+{
+}
+
+EchoAbstractProvider::~EchoAbstractProvider()
+{
+}
+
+const std::string& EchoAbstractProvider::getInterfaceName() const {
+	return IEchoBase::INTERFACE_NAME();
+}
+
+void EchoAbstractProvider::simpleAttributeChanged(
+		const std::string& simpleAttribute
+) {
+	onAttributeValueChanged("simpleAttribute",simpleAttribute);
+}
+
+void EchoAbstractProvider::fireBroadcastWithSinglePrimitiveParameter(
+		const std::string& stringOut,
+		const std::vector<std::string>& partitions
+) {
+	fireBroadcast(
+			"broadcastWithSinglePrimitiveParameter",
+			partitions,
+			stringOut
+	);
+}
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
@@ -0,0 +1,62 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#include "joynr/tests/performance/EchoProvider.h"
+#include "joynr/InterfaceRegistrar.h"
+
+#include "joynr/tests/performance/EchoRequestInterpreter.h"
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+namespace joynr { namespace tests { namespace performance { 
+EchoProvider::EchoProvider()
+{
+	// Register a request interpreter to interpret requests to this interface
+	joynr::InterfaceRegistrar::instance().registerRequestInterpreter<EchoRequestInterpreter>(INTERFACE_NAME() + std::to_string(MAJOR_VERSION));
+}
+
+EchoProvider::~EchoProvider()
+{
+	// Unregister the request interpreter
+	joynr::InterfaceRegistrar::instance().unregisterRequestInterpreter(
+			INTERFACE_NAME() + std::to_string(MAJOR_VERSION)
+	);
+}
+
+const std::string& EchoProvider::INTERFACE_NAME()
+{
+	static const std::string INTERFACE_NAME("tests/performance/Echo");
+	return INTERFACE_NAME;
+}
+
+const std::int32_t EchoProvider::MAJOR_VERSION = 0;
+const std::int32_t EchoProvider::MINOR_VERSION = 1;
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
@@ -0,0 +1,195 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#include <functional>
+
+#include "joynr/tests/performance/EchoRequestCaller.h"
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+#include "joynr/tests/performance/EchoProvider.h"
+
+namespace joynr { namespace tests { namespace performance { 
+EchoRequestCaller::EchoRequestCaller(std::shared_ptr<joynr::tests::performance::EchoProvider> _provider)
+	: joynr::RequestCaller(EchoProvider::INTERFACE_NAME(), joynr::types::Version(_provider ? _provider->MAJOR_VERSION : 0, _provider ? _provider->MINOR_VERSION : 0)),
+	  provider(std::move(_provider))
+{
+}
+
+// attributes
+void EchoRequestCaller::getSimpleAttribute(
+		std::function<void(
+				const std::string& simpleAttribute
+		)>&& onSuccess,
+		std::function<void(
+				const std::shared_ptr<exceptions::ProviderRuntimeException>&
+		)> onError
+) {
+	std::function<void(const exceptions::ProviderRuntimeException&)> onErrorWrapper =
+	[onError] (const exceptions::ProviderRuntimeException& error) {
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(error));
+	};
+	try {
+		provider->getSimpleAttribute(std::move(onSuccess), std::move(onErrorWrapper));
+	} catch (const exceptions::ProviderRuntimeException& e) {
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(e));
+	} catch (const exceptions::JoynrException& e) {
+		std::string message = "Could not perform EchoRequestCaller::getSimpleAttribute, caught exception: " +
+							e.getTypeName() + ":" + e.getMessage();
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(message));
+	}
+}
+void EchoRequestCaller::setSimpleAttribute(
+		const std::string& simpleAttribute,
+		std::function<void()>&& onSuccess,
+		std::function<void(
+				const std::shared_ptr<exceptions::ProviderRuntimeException>&
+		)> onError
+) {
+	std::function<void(const exceptions::ProviderRuntimeException&)> onErrorWrapper =
+	[onError] (const exceptions::ProviderRuntimeException& error) {
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(error));
+	};
+	try {
+		provider->setSimpleAttribute(simpleAttribute, std::move(onSuccess), std::move(onErrorWrapper));
+	} catch (const exceptions::ProviderRuntimeException& e) {
+		std::string message = "Could not perform EchoRequestCaller::setSimpleAttribute, caught exception: " +
+							e.getTypeName() + ":" + e.getMessage();
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(e));
+	} catch (const exceptions::JoynrException& e) {
+		std::string message = "Could not perform EchoRequestCaller::setSimpleAttribute, caught exception: " +
+							e.getTypeName() + ":" + e.getMessage();
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(message));
+	}
+}
+
+// methods
+void EchoRequestCaller::echoString(
+		const std::string& data,
+		std::function<void(
+				const std::string& responseData
+		)>&& onSuccess,
+		std::function<void(
+				const std::shared_ptr<exceptions::JoynrException>&
+		)> onError
+) {
+	std::function<void(const joynr::exceptions::ProviderRuntimeException&)> onErrorWrapper =
+			[onError] (const joynr::exceptions::ProviderRuntimeException& error) {
+				onError(std::make_shared<exceptions::ProviderRuntimeException>(error));
+			};
+	try {
+		provider->echoString(
+				data,
+				std::move(onSuccess),
+				std::move(onErrorWrapper)
+		);
+	// ApplicationExceptions should not be created by the application itself to ensure
+	// serializability. They are treated as JoynrExceptions. They can only be handled correctly
+	// if the constructor is used properly (with the appropriate literal of the reported error
+	// enumeration).
+	} catch (const exceptions::ProviderRuntimeException& e) {
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(e));
+	} catch (const exceptions::JoynrException& e) {
+		std::string message = "Could not perform EchoRequestCaller::EchoString, caught exception: " +
+							e.getTypeName() + ":" + e.getMessage();
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(message));
+	}
+}
+
+void EchoRequestCaller::echoByteArray(
+		const std::vector<std::int8_t> & data,
+		std::function<void(
+				const std::vector<std::int8_t> & responseData
+		)>&& onSuccess,
+		std::function<void(
+				const std::shared_ptr<exceptions::JoynrException>&
+		)> onError
+) {
+	std::function<void(const joynr::exceptions::ProviderRuntimeException&)> onErrorWrapper =
+			[onError] (const joynr::exceptions::ProviderRuntimeException& error) {
+				onError(std::make_shared<exceptions::ProviderRuntimeException>(error));
+			};
+	try {
+		provider->echoByteArray(
+				data,
+				std::move(onSuccess),
+				std::move(onErrorWrapper)
+		);
+	// ApplicationExceptions should not be created by the application itself to ensure
+	// serializability. They are treated as JoynrExceptions. They can only be handled correctly
+	// if the constructor is used properly (with the appropriate literal of the reported error
+	// enumeration).
+	} catch (const exceptions::ProviderRuntimeException& e) {
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(e));
+	} catch (const exceptions::JoynrException& e) {
+		std::string message = "Could not perform EchoRequestCaller::EchoByteArray, caught exception: " +
+							e.getTypeName() + ":" + e.getMessage();
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(message));
+	}
+}
+
+void EchoRequestCaller::echoComplexStruct(
+		const joynr::tests::performance::Types::ComplexStruct& data,
+		std::function<void(
+				const joynr::tests::performance::Types::ComplexStruct& responseData
+		)>&& onSuccess,
+		std::function<void(
+				const std::shared_ptr<exceptions::JoynrException>&
+		)> onError
+) {
+	std::function<void(const joynr::exceptions::ProviderRuntimeException&)> onErrorWrapper =
+			[onError] (const joynr::exceptions::ProviderRuntimeException& error) {
+				onError(std::make_shared<exceptions::ProviderRuntimeException>(error));
+			};
+	try {
+		provider->echoComplexStruct(
+				data,
+				std::move(onSuccess),
+				std::move(onErrorWrapper)
+		);
+	// ApplicationExceptions should not be created by the application itself to ensure
+	// serializability. They are treated as JoynrExceptions. They can only be handled correctly
+	// if the constructor is used properly (with the appropriate literal of the reported error
+	// enumeration).
+	} catch (const exceptions::ProviderRuntimeException& e) {
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(e));
+	} catch (const exceptions::JoynrException& e) {
+		std::string message = "Could not perform EchoRequestCaller::EchoComplexStruct, caught exception: " +
+							e.getTypeName() + ":" + e.getMessage();
+		onError(std::make_shared<exceptions::ProviderRuntimeException>(message));
+	}
+}
+
+
+std::shared_ptr<IJoynrProvider> EchoRequestCaller::getProvider()
+{
+	return provider;
+}
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
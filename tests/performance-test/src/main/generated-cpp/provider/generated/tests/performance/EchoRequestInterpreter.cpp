@@ -0,0 +1,219 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+#include <functional>
+#include <tuple>
+
+#include "joynr/tests/performance/EchoRequestInterpreter.h"
+#include "joynr/tests/performance/EchoRequestCaller.h"
+#include "joynr/Util.h"
+#include "joynr/Request.h"
+#include "joynr/OneWayRequest.h"
+#include "joynr/BaseReply.h"
+#include "joynr/exceptions/JoynrException.h"
+#include "joynr/exceptions/MethodInvocationException.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+namespace joynr { namespace tests { namespace performance { 
+
+void EchoRequestInterpreter::execute(
+		std::shared_ptr<joynr::RequestCaller> requestCaller,
+		Request& request,
+		std::function<void (BaseReply&& reply)>&& onSuccess,
+		std::function<void (const std::shared_ptr<exceptions::JoynrException>& exception)>&& onError
+) {
+	assert(requestCaller);
+	if (!requestCaller) {
+		JOYNR_LOG_FATAL(logger(), "{}: requestCaller is nullptr, aborting", "EchoRequestInterpreter::execute(...)");
+		return;
+	}
+	assert(onSuccess);
+	if (!onSuccess) {
+		JOYNR_LOG_FATAL(logger(), "{}: onSuccess is nullptr, aborting", "EchoRequestInterpreter::execute(...)");
+		return;
+	}
+	assert(onError);
+	if (!onError) {
+		JOYNR_LOG_FATAL(logger(), "{}: onError is nullptr, aborting", "EchoRequestInterpreter::execute(...)");
+		return;
+	}
+	// cast generic RequestCaller to EchoRequestcaller
+	std::shared_ptr<EchoRequestCaller> echoRequestCallerVar =
+			std::dynamic_pointer_cast<EchoRequestCaller>(requestCaller);
+
+	const std::vector<std::string>& paramTypes = request.getParamDatatypes();
+	const std::string& methodName = request.getMethodName();
+
+	// execute operation
+		if (methodName == "getSimpleAttribute" && paramTypes.size() == 0){
+			try {
+				auto requestCallerOnSuccess =
+						[onSuccess = std::move(onSuccess)](std::string simpleAttribute){
+							BaseReply reply;
+							reply.setResponse(std::move(simpleAttribute));
+							onSuccess(std::move(reply));
+						};
+				echoRequestCallerVar->getSimpleAttribute(
+																	std::move(requestCallerOnSuccess),
+																	onError);
+			} catch (const std::exception& exception) {
+				const std::string errorMessage = "Unexpected exception occurred in attribute getter getSimpleAttribute (): " + std::string(exception.what());
+				JOYNR_LOG_ERROR(logger(), errorMessage);
+				onError(
+					std::make_shared<exceptions::MethodInvocationException>(
+						errorMessage,
+						requestCaller->getProviderVersion()));
+			}
+			return;
+		}
+	if (methodName == "setSimpleAttribute" && paramTypes.size() == 1){
+		try {
+			std::string typedInputSimpleAttribute;
+			request.getParams(typedInputSimpleAttribute);
+			auto requestCallerOnSuccess =
+					[onSuccess = std::move(onSuccess)] () {
+						BaseReply reply;
+						reply.setResponse();
+						onSuccess(std::move(reply));
+					};
+			echoRequestCallerVar->setSimpleAttribute(
+																typedInputSimpleAttribute,
+																std::move(requestCallerOnSuccess),
+																onError);
+		} catch (const std::exception& exception) {
+			const std::string errorMessage = "Unexpected exception occurred in attribute setter setSimpleAttribute (String): " + std::string(exception.what());
+			JOYNR_LOG_ERROR(logger(), errorMessage);
+			onError(
+				std::make_shared<exceptions::MethodInvocationException>(
+					errorMessage,
+					requestCaller->getProviderVersion()));
+		}
+		return;
+	}
+	if (methodName == "echoString" && paramTypes.size() == 1
+		&& paramTypes.at(0) == "String"
+	) {
+		auto requestCallerOnSuccess =
+				[onSuccess = std::move(onSuccess)](const std::string& responseData){
+					BaseReply reply;
+					reply.setResponse(
+					responseData
+					);
+					onSuccess(std::move(reply));
+				};
+
+		std::string data;
+		try {
+			request.getParams(data);
+			echoRequestCallerVar->echoString(
+					data,
+					std::move(requestCallerOnSuccess),
+					onError);
+		} catch (const std::exception& exception) {
+			const std::string errorMessage = "Unexpected exception occurred in method echoString (...): " + std::string(exception.what());
+			JOYNR_LOG_ERROR(logger(), errorMessage);
+			onError(std::make_shared<exceptions::MethodInvocationException>(errorMessage, requestCaller->getProviderVersion()));
+		}
+
+		return;
+	}
+	if (methodName == "echoByteArray" && paramTypes.size() == 1
+		&& paramTypes.at(0) == "Byte[]"
+	) {
+		auto requestCallerOnSuccess =
+				[onSuccess = std::move(onSuccess)](const std::vector<std::int8_t> & responseData){
+					BaseReply reply;
+					reply.setResponse(
+					responseData
+					);
+					onSuccess(std::move(reply));
+				};
+
+		std::vector<std::int8_t> data;
+		try {
+			request.getParams(data);
+			echoRequestCallerVar->echoByteArray(
+					data,
+					std::move(requestCallerOnSuccess),
+					onError);
+		} catch (const std::exception& exception) {
+			const std::string errorMessage = "Unexpected exception occurred in method echoByteArray (...): " + std::string(exception.what());
+			JOYNR_LOG_ERROR(logger(), errorMessage);
+			onError(std::make_shared<exceptions::MethodInvocationException>(errorMessage, requestCaller->getProviderVersion()));
+		}
+
+		return;
+	}
+	if (methodName == "echoComplexStruct" && paramTypes.size() == 1
+		&& paramTypes.at(0) == "joynr.tests.performance.Types.ComplexStruct"
+	) {
+		auto requestCallerOnSuccess =
+				[onSuccess = std::move(onSuccess)](const joynr::tests::performance::Types::ComplexStruct& responseData){
+					BaseReply reply;
+					reply.setResponse(
+					responseData
+					);
+					onSuccess(std::move(reply));
+				};
+
+		joynr::tests::performance::Types::ComplexStruct data;
+		try {
+			request.getParams(data);
+			echoRequestCallerVar->echoComplexStruct(
+					data,
+					std::move(requestCallerOnSuccess),
+					onError);
+		} catch (const std::exception& exception) {
+			const std::string errorMessage = "Unexpected exception occurred in method echoComplexStruct (...): " + std::string(exception.what());
+			JOYNR_LOG_ERROR(logger(), errorMessage);
+			onError(std::make_shared<exceptions::MethodInvocationException>(errorMessage, requestCaller->getProviderVersion()));
+		}
+
+		return;
+	}
+
+	JOYNR_LOG_WARN(logger(), "unknown method name for interface Echo: {}", request.getMethodName());
+	onError(
+		std::make_shared<exceptions::MethodInvocationException>(
+			"unknown method name for interface Echo: " + request.getMethodName(),
+			requestCaller->getProviderVersion()));
+}
+
+void EchoRequestInterpreter::execute(
+		std::shared_ptr<joynr::RequestCaller> requestCaller,
+		OneWayRequest& request
+) {
+	std::ignore = requestCaller;
+
+	JOYNR_LOG_WARN(logger(), "unknown method name for interface Echo: {}", request.getMethodName());
+}
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
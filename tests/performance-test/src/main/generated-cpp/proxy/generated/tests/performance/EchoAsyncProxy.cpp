@@ -0,0 +1,214 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#include "joynr/tests/performance/EchoAsyncProxy.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+#include "joynr/Future.h"
+#include "joynr/exceptions/JoynrException.h"
+
+namespace joynr { namespace tests { namespace performance { 
+EchoAsyncProxy::EchoAsyncProxy(
+		std::weak_ptr<joynr::JoynrRuntimeImpl> runtime,
+		std::shared_ptr<joynr::JoynrMessagingConnectorFactory> connectorFactory,
+		const std::string &domain,
+		const joynr::MessagingQos &qosSettings
+) :
+	joynr::ProxyBase(runtime, connectorFactory, domain, qosSettings),
+	EchoProxyBase(runtime, connectorFactory, domain, qosSettings)
+{
+}
+
+/*
+ * getSimpleAttribute
+ */
+
+std::shared_ptr<joynr::Future<std::string> > EchoAsyncProxy::getSimpleAttributeAsync(
+			std::function<void(const std::string& simpleAttribute)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError,
+			boost::optional<joynr::MessagingQos> qos)
+			noexcept
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorText;
+		if (!runtimeSharedPtr) {
+			errorText = "proxy cannot invoke getSimpleAttribute because the required runtime has been already destroyed.";
+		}
+		else {
+			errorText = "proxy cannot invoke getSimpleAttribute, because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorText);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorText);
+		if (onError) {
+			onError(*error);
+		}
+		auto future = std::make_shared<joynr::Future<std::string>>();
+		future->onError(error);
+		return future;
+	}
+	else{
+		return connector->getSimpleAttributeAsync(std::move(onSuccess), std::move(onError), std::move(qos));
+	}
+}
+
+/*
+ * setSimpleAttribute
+ */
+std::shared_ptr<joynr::Future<void> > EchoAsyncProxy::setSimpleAttributeAsync(
+			std::string simpleAttribute,
+			std::function<void(void)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onError,
+			boost::optional<joynr::MessagingQos> qos)
+			noexcept
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorText;
+		if (!runtimeSharedPtr) {
+			errorText = "proxy cannot invoke setSimpleAttribute because the required runtime has been already destroyed.";
+		}
+		else {
+			errorText = "proxy cannot invoke setSimpleAttribute, because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorText);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorText);
+		if (onError) {
+			onError(*error);
+		}
+		auto future = std::make_shared<joynr::Future<void>>();
+		future->onError(error);
+		return future;
+	}
+	else {
+		return connector->setSimpleAttributeAsync(simpleAttribute, std::move(onSuccess), std::move(onError), std::move(qos));
+	}
+}
+
+/*
+ * echoString
+ */
+std::shared_ptr<joynr::Future<std::string>> EchoAsyncProxy:: echoStringAsync(
+			const std::string& data,
+			std::function<void(const std::string& responseData)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError,
+			boost::optional<joynr::MessagingQos> qos
+) noexcept
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorText;
+		if (!runtimeSharedPtr) {
+			errorText = "proxy cannot invoke echoString because the required runtime has been already destroyed.";
+		}
+		else {
+			errorText = "proxy cannot invoke echoString, because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorText);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorText);
+		if (onRuntimeError) {
+			onRuntimeError(*error);
+		}
+		auto future = std::make_shared<joynr::Future<std::string>>();
+		future->onError(error);
+		return future;
+	}
+	else{
+		return connector->echoStringAsync(data, std::move(onSuccess), std::move(onRuntimeError), std::move(qos));
+	}
+}
+/*
+ * echoByteArray
+ */
+std::shared_ptr<joynr::Future<std::vector<std::int8_t> >> EchoAsyncProxy:: echoByteArrayAsync(
+			const std::vector<std::int8_t> & data,
+			std::function<void(const std::vector<std::int8_t> & responseData)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError,
+			boost::optional<joynr::MessagingQos> qos
+) noexcept
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorText;
+		if (!runtimeSharedPtr) {
+			errorText = "proxy cannot invoke echoByteArray because the required runtime has been already destroyed.";
+		}
+		else {
+			errorText = "proxy cannot invoke echoByteArray, because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorText);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorText);
+		if (onRuntimeError) {
+			onRuntimeError(*error);
+		}
+		auto future = std::make_shared<joynr::Future<std::vector<std::int8_t> >>();
+		future->onError(error);
+		return future;
+	}
+	else{
+		return connector->echoByteArrayAsync(data, std::move(onSuccess), std::move(onRuntimeError), std::move(qos));
+	}
+}
+/*
+ * echoComplexStruct
+ */
+std::shared_ptr<joynr::Future<joynr::tests::performance::Types::ComplexStruct>> EchoAsyncProxy:: echoComplexStructAsync(
+			const joynr::tests::performance::Types::ComplexStruct& data,
+			std::function<void(const joynr::tests::performance::Types::ComplexStruct& responseData)> onSuccess,
+			std::function<void(const joynr::exceptions::JoynrRuntimeException& error)> onRuntimeError,
+			boost::optional<joynr::MessagingQos> qos
+) noexcept
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorText;
+		if (!runtimeSharedPtr) {
+			errorText = "proxy cannot invoke echoComplexStruct because the required runtime has been already destroyed.";
+		}
+		else {
+			errorText = "proxy cannot invoke echoComplexStruct, because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorText);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorText);
+		if (onRuntimeError) {
+			onRuntimeError(*error);
+		}
+		auto future = std::make_shared<joynr::Future<joynr::tests::performance::Types::ComplexStruct>>();
+		future->onError(error);
+		return future;
+	}
+	else{
+		return connector->echoComplexStructAsync(data, std::move(onSuccess), std::move(onRuntimeError), std::move(qos));
+	}
+}
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
@@ -0,0 +1,238 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#include "joynr/tests/performance/EchoProxyBase.h"
+#include "joynr/ISubscriptionListener.h"
+#include "joynr/types/DiscoveryEntryWithMetaInfo.h"
+#include "joynr/JoynrMessagingConnectorFactory.h"
+#include "joynr/tests/performance/EchoJoynrMessagingConnector.h"
+
+namespace joynr { namespace tests { namespace performance { 
+EchoProxyBase::EchoProxyBase(
+		std::weak_ptr<joynr::JoynrRuntimeImpl> runtime,
+		std::shared_ptr<joynr::JoynrMessagingConnectorFactory> connectorFactory,
+		const std::string &domain,
+		const joynr::MessagingQos &qosSettings
+) :
+		joynr::ProxyBase(std::move(runtime), std::move(connectorFactory), domain, qosSettings),
+		connector()
+{
+}
+
+void EchoProxyBase::handleArbitrationFinished(
+		const joynr::types::DiscoveryEntryWithMetaInfo& providerDiscoveryEntry
+) {
+	connector = _connectorFactory->create<joynr::tests::performance::IEchoConnector>(
+				_domain,
+				_proxyParticipantId,
+				_qosSettings,
+				providerDiscoveryEntry
+	);
+
+	joynr::ProxyBase::handleArbitrationFinished(providerDiscoveryEntry);
+}
+
+void EchoProxyBase::unsubscribeFromSimpleAttribute(const std::string& subscriptionId)
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || !connector) {
+		if (!runtimeSharedPtr) {
+			JOYNR_LOG_WARN(logger(), "proxy cannot unsubscribe from EchoProxyBase.simpleAttribute, "
+					 "because the required runtime has been already destroyed.");
+			return;
+		} else {
+			JOYNR_LOG_WARN(logger(), "proxy cannot unsubscribe from EchoProxyBase.simpleAttribute, "
+					 "because the communication end partner is not (yet) known");
+			return;
+		}
+	}
+	connector->unsubscribeFromSimpleAttribute(subscriptionId);
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoProxyBase::subscribeToSimpleAttribute(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+			std::shared_ptr<joynr::SubscriptionQos> subscriptionQos,
+			const std::string& subscriptionId)
+ {
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || !connector) {
+		std::string errorMsg;
+		if (!runtimeSharedPtr) {
+			errorMsg = "proxy cannot subscribe to EchoProxyBase.simpleAttribute, "
+					"because the required runtime has been already destroyed.";
+		} else {
+			errorMsg = "proxy cannot subscribe to EchoProxyBase.simpleAttribute, "
+					"because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorMsg);
+		auto future = std::make_shared<Future<std::string>>();
+		future->onError(error);
+		subscriptionListener->onError(*error);
+		return future;
+	}
+	return connector->subscribeToSimpleAttribute(
+				subscriptionListener,
+				subscriptionQos,
+				subscriptionId);
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoProxyBase::subscribeToSimpleAttribute(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string> > subscriptionListener,
+			std::shared_ptr<joynr::SubscriptionQos> subscriptionQos)
+ {
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || !connector) {
+		std::string errorMsg;
+		if (!runtimeSharedPtr) {
+			errorMsg = "proxy cannot subscribe to EchoProxyBase.simpleAttribute, "
+					 "because the required runtime has been already destroyed.";
+		} else {
+			errorMsg = "proxy cannot subscribe to EchoProxyBase.simpleAttribute, "
+					 "because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorMsg);
+		auto future = std::make_shared<Future<std::string>>();
+		future->onError(error);
+		subscriptionListener->onError(*error);
+		return future;
+	}
+	return connector->subscribeToSimpleAttribute(
+				subscriptionListener,
+				subscriptionQos);
+}
+
+
+void EchoProxyBase::unsubscribeFromBroadcastWithSinglePrimitiveParameterBroadcast(const std::string& subscriptionId)
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr) {
+		JOYNR_LOG_WARN(logger(), "proxy cannot unsubscribe from EchoProxyBase.broadcastWithSinglePrimitiveParameter broadcast, "
+				 "because the required runtime has been already destroyed.");
+		return;
+	}
+	if (!connector){
+		JOYNR_LOG_WARN(logger(), "proxy cannot unsubscribe from EchoProxyBase.broadcastWithSinglePrimitiveParameter broadcast, "
+				 "because the communication end partner is not (yet) known");
+		return;
+	}
+	connector->unsubscribeFromBroadcastWithSinglePrimitiveParameterBroadcast(subscriptionId);
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoProxyBase::subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+			std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+			std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+			const std::vector<std::string>& partitions
+)
+ {
+	std::string errorMsg;
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr) {
+		errorMsg = "proxy cannot subscribe to EchoProxyBase.broadcastWithSinglePrimitiveParameter broadcast, "
+				 "because the required runtime has been already destroyed.";
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorMsg);
+		auto future = std::make_shared<Future<std::string>>();
+		future->onError(error);
+		subscriptionListener->onError(*error);
+		return future;
+	}
+	if (!connector){
+		errorMsg = "proxy cannot subscribe to EchoProxyBase.broadcastWithSinglePrimitiveParameter broadcast, "
+			"because the communication end partner is not (yet) known";
+	}
+
+	try {
+		util::validatePartitions(partitions, true);
+	} catch (const std::invalid_argument& exception) {
+		errorMsg = "invalid argument:\n" + std::string(exception.what());
+	}
+
+	if (!errorMsg.empty()) {
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorMsg);
+		auto future = std::make_shared<Future<std::string>>();
+		future->onError(error);
+		subscriptionListener->onError(*error);
+		return future;
+	}
+
+	return connector->subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+			subscriptionListener,
+			subscriptionQos,
+			partitions);
+}
+
+std::shared_ptr<joynr::Future<std::string>> EchoProxyBase::subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+			const std::string& subscriptionId,
+			std::shared_ptr<joynr::ISubscriptionListener<std::string>> subscriptionListener,
+			std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,
+			const std::vector<std::string>& partitions
+)
+ {
+	std::string errorMsg;
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr) {
+		errorMsg = "proxy cannot subscribe to EchoProxyBase.broadcastWithSinglePrimitiveParameter broadcast, "
+				 "because the required runtime has been already destroyed.";
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorMsg);
+		auto future = std::make_shared<Future<std::string>>();
+		future->onError(error);
+		subscriptionListener->onError(*error);
+		return future;
+	}
+	if (!connector){
+		errorMsg = "proxy cannot subscribe to EchoProxyBase.broadcastWithSinglePrimitiveParameter broadcast, "
+			"because the communication end partner is not (yet) known";
+	}
+
+	try {
+		util::validatePartitions(partitions, true);
+	} catch (const std::invalid_argument& exception) {
+		errorMsg = "invalid argument:\n" + std::string(exception.what());
+	}
+	if (!errorMsg.empty()) {
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		auto error = std::make_shared<exceptions::JoynrRuntimeException>(errorMsg);
+		auto future = std::make_shared<Future<std::string>>();
+		future->onError(error);
+		subscriptionListener->onError(*error);
+		return future;
+	}
+
+	return connector->subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(
+				subscriptionId,
+				subscriptionListener,
+				subscriptionQos,
+				partitions);
+}
+
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
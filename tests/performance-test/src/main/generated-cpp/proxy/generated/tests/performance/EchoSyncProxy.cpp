@@ -0,0 +1,169 @@
+/*
+ *
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+// #####################################################
+//#######################################################
+//###                                                 ###
+//##    WARNING: This file is generated. DO NOT EDIT   ##
+//##             All changes will be lost!             ##
+//###                                                 ###
+//#######################################################
+// #####################################################
+
+#include "joynr/tests/performance/EchoSyncProxy.h"
+
+#include <cstdint>
+#include <vector>
+#include "joynr/tests/performance/Types/ComplexStruct.h"
+#include <string>
+
+namespace joynr { namespace tests { namespace performance { 
+// The proxies will contain all arbitration checks
+// the connectors will contain the JSON related code
+
+EchoSyncProxy::EchoSyncProxy(
+		std::weak_ptr<joynr::JoynrRuntimeImpl> runtime,
+		std::shared_ptr<joynr::JoynrMessagingConnectorFactory> connectorFactory,
+		const std::string &domain,
+		const joynr::MessagingQos &qosSettings
+) :
+		joynr::ProxyBase(runtime, connectorFactory, domain, qosSettings),
+		EchoProxyBase(runtime, connectorFactory, domain, qosSettings)
+{
+}
+
+void EchoSyncProxy::getSimpleAttribute(std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos)
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorMsg;
+		if (!runtimeSharedPtr) {
+			errorMsg = "proxy cannot invoke getSimpleAttribute because the required runtime has been already destroyed.";
+		}
+		else {
+			errorMsg = "proxy cannot invoke getSimpleAttribute because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		exceptions::JoynrRuntimeException error(errorMsg);
+		throw error;
+	}
+	else{
+		return connector->getSimpleAttribute(simpleAttribute, std::move(qos));
+	}
+}
+void EchoSyncProxy::setSimpleAttribute(const std::string& simpleAttribute, boost::optional<joynr::MessagingQos> qos)
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorMsg;
+		if (!runtimeSharedPtr) {
+			errorMsg = "proxy cannot invoke setSimpleAttribute because the required runtime has been already destroyed.";
+		}
+		else {
+			errorMsg = "proxy cannot invoke setSimpleAttribute because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		exceptions::JoynrRuntimeException error(errorMsg);
+		throw error;
+	}
+	else{
+		return connector->setSimpleAttribute(simpleAttribute, std::move(qos));
+	}
+}
+
+/*
+ * echoString
+ */
+void EchoSyncProxy::echoString(
+			std::string& responseData,
+			const std::string& data,
+			boost::optional<joynr::MessagingQos> qos
+)
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorMsg;
+		if (!runtimeSharedPtr) {
+			errorMsg = "proxy cannot invoke echoString because the required runtime has been already destroyed.";
+		}
+		if (connector==nullptr){
+			errorMsg = "proxy cannot invoke echoString because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		exceptions::JoynrRuntimeException error(errorMsg);
+		throw error;
+	}
+	else{
+		return connector->echoString(responseData, data, std::move(qos));
+	}
+}
+/*
+ * echoByteArray
+ */
+void EchoSyncProxy::echoByteArray(
+			std::vector<std::int8_t> & responseData,
+			const std::vector<std::int8_t> & data,
+			boost::optional<joynr::MessagingQos> qos
+)
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorMsg;
+		if (!runtimeSharedPtr) {
+			errorMsg = "proxy cannot invoke echoByteArray because the required runtime has been already destroyed.";
+		}
+		if (connector==nullptr){
+			errorMsg = "proxy cannot invoke echoByteArray because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		exceptions::JoynrRuntimeException error(errorMsg);
+		throw error;
+	}
+	else{
+		return connector->echoByteArray(responseData, data, std::move(qos));
+	}
+}
+/*
+ * echoComplexStruct
+ */
+void EchoSyncProxy::echoComplexStruct(
+			joynr::tests::performance::Types::ComplexStruct& responseData,
+			const joynr::tests::performance::Types::ComplexStruct& data,
+			boost::optional<joynr::MessagingQos> qos
+)
+{
+	auto runtimeSharedPtr = _runtime.lock();
+	if (!runtimeSharedPtr || (connector==nullptr)) {
+		std::string errorMsg;
+		if (!runtimeSharedPtr) {
+			errorMsg = "proxy cannot invoke echoComplexStruct because the required runtime has been already destroyed.";
+		}
+		if (connector==nullptr){
+			errorMsg = "proxy cannot invoke echoComplexStruct because the communication end partner is not (yet) known";
+		}
+		JOYNR_LOG_WARN(logger(), errorMsg);
+		exceptions::JoynrRuntimeException error(errorMsg);
+		throw error;
+	}
+	else{
+		return connector->echoComplexStruct(responseData, data, std::move(qos));
+	}
+}
+
+} // namespace performance
+} // namespace tests
+} // namespace joynr
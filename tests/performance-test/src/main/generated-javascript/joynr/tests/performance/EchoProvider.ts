@@ -0,0 +1,195 @@
+import ComplexStruct = require("../../../joynr/tests/performance/Types/ComplexStruct");
+import {ProviderReadWriteNotifyAttribute } from "joynr/joynr/provider/ProviderAttribute";
+import ProviderOperation = require("joynr/joynr/provider/ProviderOperation");
+import ProviderEvent = require("joynr/joynr/provider/ProviderEvent");
+import {ProviderReadWriteNotifyAttributeImpl, JoynrProvider } from "joynr/joynr/types/JoynrProvider";
+
+namespace EchoProvider {
+	export interface EchoProviderImplementation {
+		simpleAttribute: ProviderReadWriteNotifyAttributeImpl<string>;
+		echoByteArray: EchoByteArraySignature;
+		echoComplexStruct: EchoComplexStructSignature;
+		echoString: EchoStringSignature;
+		/** Broadcast.fire methods will be added to implementation during provider registration **/
+		broadcastWithSinglePrimitiveParameter?: ProviderEvent
+	}
+
+	export interface EchoByteArrayArgs1 {data: number[]; }
+	export interface EchoByteArrayReturns1 {responseData: number[]; }
+	export type EchoByteArraySignature = ((settings: EchoByteArrayArgs1) => EchoByteArrayReturns1 | Promise<EchoByteArrayReturns1>)
+	export interface EchoComplexStructArgs1 {data: ComplexStruct; }
+	export interface EchoComplexStructReturns1 {responseData: ComplexStruct; }
+	export type EchoComplexStructSignature = ((settings: EchoComplexStructArgs1) => EchoComplexStructReturns1 | Promise<EchoComplexStructReturns1>)
+	export interface EchoStringArgs1 {data: string; }
+	export interface EchoStringReturns1 {responseData: string; }
+	export type EchoStringSignature = ((settings: EchoStringArgs1) => EchoStringReturns1 | Promise<EchoStringReturns1>)
+}
+
+/**
+ * PLEASE NOTE. THIS IS A GENERATED FILE!
+ * <br/>Generation date: Sun Oct 18 21:36:26 UTC 2026
+ * <br/><br/>#noVersionGeneration
+ */
+class EchoProvider extends JoynrProvider {
+
+	public interfaceName = "tests/performance/Echo";
+	/**
+	 * @name EchoProvider#simpleAttribute
+	 * @summary The simpleAttribute attribute is GENERATED FROM THE INTERFACE DESCRIPTION
+	 */
+	public simpleAttribute: ProviderReadWriteNotifyAttribute<string>;
+
+	/**
+	 * @function EchoProvider#echoByteArray
+	 * @summary The echoByteArray operation is GENERATED FROM THE INTERFACE DESCRIPTION
+	 *
+	 * @param {Object} settings the arguments object for this function call
+	 * @param {Array.<Number>} settings.data -
+	 * @returns {EchoProvider#EchoByteArrayReturned}
+	 * 	{Array.<Number>} responseData
+	 */
+	/**
+	 * @typedef {Object} EchoProvider#EchoByteArrayReturned
+	 * @property {Array.<Number>} responseData
+	 */
+	public echoByteArray: ProviderOperation;
+	/**
+	 * @function EchoProvider#echoComplexStruct
+	 * @summary The echoComplexStruct operation is GENERATED FROM THE INTERFACE DESCRIPTION
+	 *
+	 * @param {Object} settings the arguments object for this function call
+	 * @param {ComplexStruct} settings.data -
+	 * @returns {EchoProvider#EchoComplexStructReturned}
+	 * 	{ComplexStruct} responseData
+	 */
+	/**
+	 * @typedef {Object} EchoProvider#EchoComplexStructReturned
+	 * @property {ComplexStruct} responseData
+	 */
+	public echoComplexStruct: ProviderOperation;
+	/**
+	 * @function EchoProvider#echoString
+	 * @summary The echoString operation is GENERATED FROM THE INTERFACE DESCRIPTION
+	 *
+	 * @param {Object} settings the arguments object for this function call
+	 * @param {String} settings.data -
+	 * @returns {EchoProvider#EchoStringReturned}
+	 * 	{String} responseData
+	 */
+	/**
+	 * @typedef {Object} EchoProvider#EchoStringReturned
+	 * @property {String} responseData
+	 */
+	public echoString: ProviderOperation;
+
+	/**
+	 * @name EchoProvider#broadcastWithSinglePrimitiveParameter
+	 * @summary The broadcastWithSinglePrimitiveParameter event is GENERATED FROM THE INTERFACE DESCRIPTION
+	 */
+	public broadcastWithSinglePrimitiveParameter: ProviderEvent;
+
+	/**
+	 * @param [implementation] the implementation of the provider
+	 * @param [implementation.ATTRIBUTENAME] the definition of attribute implementation
+	 * @param [implementation.ATTRIBUTENAME.set] the getter function that stores the given attribute value
+	 * @param [implementation.ATTRIBUTENAME.get] the getter function that returns the current attribute value
+	 * @param [implementation.OPERATIONNAME] the operation function
+	 * @param [implementation.EVENTNAME] the definition of the event implementation
+	 */
+	public constructor(implementation: EchoProvider.EchoProviderImplementation) {
+		super();
+		// defining provider members
+		this.simpleAttribute = new ProviderReadWriteNotifyAttribute<string>(this, implementation.simpleAttribute, "simpleAttribute", "String");
+
+		this.echoByteArray = new ProviderOperation(implementation.echoByteArray, "echoByteArray", [
+			{
+				inputParameter: [
+					{
+						name : "data",
+						type : "Byte[]"
+					}
+				],
+				error: {
+					type: "no error enumeration given"
+				},
+				outputParameter: [
+					{
+						name : "responseData",
+						type : "Byte[]"
+					}
+				]
+			}
+		]);
+		this.echoComplexStruct = new ProviderOperation(implementation.echoComplexStruct, "echoComplexStruct", [
+			{
+				inputParameter: [
+					{
+						name : "data",
+						type : "joynr.tests.performance.Types.ComplexStruct"
+					}
+				],
+				error: {
+					type: "no error enumeration given"
+				},
+				outputParameter: [
+					{
+						name : "responseData",
+						type : "joynr.tests.performance.Types.ComplexStruct"
+					}
+				]
+			}
+		]);
+		this.echoString = new ProviderOperation(implementation.echoString, "echoString", [
+			{
+				inputParameter: [
+					{
+						name : "data",
+						type : "String"
+					}
+				],
+				error: {
+					type: "no error enumeration given"
+				},
+				outputParameter: [
+					{
+						name : "responseData",
+						type : "String"
+					}
+				]
+			}
+		]);
+
+		this.broadcastWithSinglePrimitiveParameter = new ProviderEvent({
+			eventName : "broadcastWithSinglePrimitiveParameter",
+			outputParameterProperties : [
+				{
+					name : "stringOut",
+					type : "String"
+				}
+			],
+			selective : false,
+			filterSettings : {
+			}
+		});
+		implementation.broadcastWithSinglePrimitiveParameter = this.broadcastWithSinglePrimitiveParameter;
+	}
+
+	/**
+	 * The MAJOR_VERSION of the provider is GENERATED FROM THE INTERFACE DESCRIPTION
+	 */
+	public static MAJOR_VERSION = 0;
+
+	/**
+	 * The MINOR_VERSION of the provider is GENERATED FROM THE INTERFACE DESCRIPTION
+	 */
+	public static MINOR_VERSION = 1;
+
+	public static getUsedJoynrtypes(): any[] {
+		return [
+			ComplexStruct
+		];
+	}
+}
+
+export = EchoProvider;
+
@@ -0,0 +1,64 @@
+import * as EchoProvider from "./EchoProvider"
+
+/**
+ * PLEASE NOTE. THIS IS A GENERATED FILE!
+ * <br/>Generation date: Sun Oct 18 21:36:26 UTC 2026
+ *
+ * This is a class to create a very basic provider implementation for the interface
+ * EchoProviderImplementation that can be used for testing.
+ * It implements every function (methods as well as attribute getters and setters) to return
+ * either void, or an empty object depending on the specification.
+ * The return values are set as attributes <functionName>ReturnValue in the created implementation.
+ * This allows overwriting the return values (if not void) to change the behavior of the provider.
+ *
+ * NOTE:
+ * The generated code does not fully support interfaces with overloaded methods.
+ * Different return types cannot be distinguished. All overloads of a method will return the same value.
+ */
+class EchoProviderImplementationCreator {
+	// attributes
+	public simpleAttributeReturnValue = {} as string;
+	public simpleAttribute: any = {
+		get(): string {
+			console.log(`Get called for attribute Echo.simpleAttribute. Response: ${JSON.stringify(this.simpleAttributeReturnValue)}`);
+			return this.simpleAttributeReturnValue;
+		},
+		set(value: string): void {
+			console.log(`Set called for attribute Echo.simpleAttribute. Setting: ${JSON.stringify(value)}`);
+			this.simpleAttributeReturnValue = value;
+		}
+	}
+
+	// methods
+	public echoByteArrayReturnValue = {} as EchoProvider.EchoByteArrayReturns1;
+	public _echoByteArray(_: EchoProvider.EchoByteArrayArgs1): EchoProvider.EchoByteArrayReturns1 {
+		console.log(`Method Echo.echoByteArray called. Response: ${JSON.stringify(this.echoByteArrayReturnValue)}`)
+		return this.echoByteArrayReturnValue;
+	}
+
+	public echoComplexStructReturnValue = {} as EchoProvider.EchoComplexStructReturns1;
+	public _echoComplexStruct(_: EchoProvider.EchoComplexStructArgs1): EchoProvider.EchoComplexStructReturns1 {
+		console.log(`Method Echo.echoComplexStruct called. Response: ${JSON.stringify(this.echoComplexStructReturnValue)}`)
+		return this.echoComplexStructReturnValue;
+	}
+
+	public echoStringReturnValue = {} as EchoProvider.EchoStringReturns1;
+	public _echoString(_: EchoProvider.EchoStringArgs1): EchoProvider.EchoStringReturns1 {
+		console.log(`Method Echo.echoString called. Response: ${JSON.stringify(this.echoStringReturnValue)}`)
+		return this.echoStringReturnValue;
+	}
+
+	public getProviderImplementation(): EchoProvider.EchoProviderImplementation {
+		this.simpleAttribute.get = this.simpleAttribute.get.bind(this);
+		this.simpleAttribute.set = this.simpleAttribute.set.bind(this);
+
+		return {
+			echoByteArray: this._echoByteArray.bind(this),
+			echoComplexStruct: this._echoComplexStruct.bind(this),
+			echoString: this._echoString.bind(this),
+			simpleAttribute: this.simpleAttribute
+		}
+	}
+}
+
+export = EchoProviderImplementationCreator;
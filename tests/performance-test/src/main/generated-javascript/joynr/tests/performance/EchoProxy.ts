@@ -0,0 +1,217 @@
+
+import {ProxyReadWriteNotifyAttribute } from "joynr/joynr/proxy/ProxyAttribute";
+import ProxyOperation = require("joynr/joynr/proxy/ProxyOperation");
+import ProxyEvent = require("joynr/joynr/proxy/ProxyEvent");
+
+import MessagingQos = require("joynr/joynr/messaging/MessagingQos");
+import JoynrDiscoveryQos = require("joynr/joynr/proxy/DiscoveryQos");
+
+import ComplexStruct = require("../../../joynr/tests/performance/Types/ComplexStruct");
+
+namespace EchoProxy {
+	export interface ProxySettings {
+		domain: string;
+		joynrName: string;
+		discoveryQos: JoynrDiscoveryQos;
+		messagingQos: MessagingQos | MessagingQos.Settings;
+		dependencies: any;
+		proxyParticipantId: string;
+	}
+
+	export interface EchoByteArrayArgs1 {data: number[]; }
+	export interface EchoByteArrayReturns1 {responseData: number[]; }
+	export type EchoByteArraySignature = ((settings: EchoByteArrayArgs1) => Promise<EchoByteArrayReturns1>)
+	export interface EchoComplexStructArgs1 {data: ComplexStruct; }
+	export interface EchoComplexStructReturns1 {responseData: ComplexStruct; }
+	export type EchoComplexStructSignature = ((settings: EchoComplexStructArgs1) => Promise<EchoComplexStructReturns1>)
+	export interface EchoStringArgs1 {data: string; }
+	export interface EchoStringReturns1 {responseData: string; }
+	export type EchoStringSignature = ((settings: EchoStringArgs1) => Promise<EchoStringReturns1>)
+}
+
+/**
+ * @classdesc
+ * <br/>Generation date: Sun Oct 18 21:36:26 UTC 2026
+ * <br/><br/>
+ * EchoProxy, generated from the corresponding interface description.
+ * <br/><br/>#noVersionGeneration
+ */
+class EchoProxy {
+
+	public interfaceName: string = "tests/performance/Echo";
+	public settings: EchoProxy.ProxySettings;
+	public domain: string;
+	public messagingQos: MessagingQos;
+
+	/** set by ProxyBuilder after Arbitration **/
+	public providerDiscoveryEntry!: { participantId: string };
+	public proxyParticipantId: string;
+
+	/**
+	 * @name EchoProxy#simpleAttribute
+	 * @summary The simpleAttribute attribute is GENERATED FROM THE INTERFACE DESCRIPTION
+	 */
+	public simpleAttribute: ProxyReadWriteNotifyAttribute<string>;
+
+/**
+ * @function EchoProxy#echoByteArray
+ * @summary The echoByteArray operation is GENERATED FROM THE INTERFACE DESCRIPTION
+ *
+ * @param {Object} settings the arguments object for this function call
+ * @param {Array.<Number>} settings.data -
+ * @returns {EchoProxy#EchoByteArrayReturned}
+ * 	{Array.<Number>} responseData
+ */
+/**
+ * @typedef {Object} EchoProxy#EchoByteArrayReturned
+ * @property {Array.<Number>} responseData
+ */
+public echoByteArray: EchoProxy.EchoByteArraySignature;
+/**
+ * @function EchoProxy#echoComplexStruct
+ * @summary The echoComplexStruct operation is GENERATED FROM THE INTERFACE DESCRIPTION
+ *
+ * @param {Object} settings the arguments object for this function call
+ * @param {ComplexStruct} settings.data -
+ * @returns {EchoProxy#EchoComplexStructReturned}
+ * 	{ComplexStruct} responseData
+ */
+/**
+ * @typedef {Object} EchoProxy#EchoComplexStructReturned
+ * @property {ComplexStruct} responseData
+ */
+public echoComplexStruct: EchoProxy.EchoComplexStructSignature;
+/**
+ * @function EchoProxy#echoString
+ * @summary The echoString operation is GENERATED FROM THE INTERFACE DESCRIPTION
+ *
+ * @param {Object} settings the arguments object for this function call
+ * @param {String} settings.data -
+ * @returns {EchoProxy#EchoStringReturned}
+ * 	{String} responseData
+ */
+/**
+ * @typedef {Object} EchoProxy#EchoStringReturned
+ * @property {String} responseData
+ */
+public echoString: EchoProxy.EchoStringSignature;
+
+/**
+ * @name EchoProxy#broadcastWithSinglePrimitiveParameter
+ * @summary The broadcastWithSinglePrimitiveParameter event is GENERATED FROM THE INTERFACE DESCRIPTION
+ */
+public broadcastWithSinglePrimitiveParameter: ProxyEvent;
+
+	/**
+	 * @param settings the settings object for this function call
+	 * @param settings.domain the domain name
+	 * @param settings.joynrName the interface name //TODO: check do we need this?
+	 *
+	 * @param settings.discoveryQos the Quality of Service parameters for arbitration
+	 * @param settings.discoveryQos.discoveryTimeoutMs for rpc calls to wait for arbitration to finish.
+	 * @param settings.discoveryQos.arbitrationStrategy Strategy for choosing the appropriate provider from the list returned by the capabilities directory
+	 * @param settings.discoveryQos.cacheMaxAgeMs Maximum age of entries in the localCapabilitiesDirectory. If this value filters out all entries of the local capabilities directory a lookup in the global capabilitiesDirectory will take place.
+	 * @param settings.discoveryQos.discoveryScope If localOnly is set to true, only local providers will be considered.
+	 * @param settings.discoveryQos.additionalParameters a map holding additional parameters in the form of key value pairs in the javascript object, e.g.: {"myKey": "myValue", "myKey2": 5}
+	 *
+	 * @param settings.messagingQos the Quality of Service parameters for messaging
+	 * @param settings.messagingQos.ttl Roundtrip timeout for rpc requests.
+	 * @param settings.dependencies instances of the internal objects needed by the proxy to interface with joynr
+	 * @param settings.proxyParticipantId unique identifier of the proxy
+	 */
+	public constructor(settings: EchoProxy.ProxySettings){
+		this.domain = settings.domain;
+		this.messagingQos = new MessagingQos(settings.messagingQos);
+		this.proxyParticipantId = settings.proxyParticipantId;
+		this.settings = settings;
+		this.simpleAttribute = new ProxyReadWriteNotifyAttribute<string>(this, "simpleAttribute", "String");
+		this.echoByteArray = new ProxyOperation(this, "echoByteArray", [
+			{
+				inputParameter: [
+				{
+					name : "data",
+					type : "Byte[]"
+				}
+				],
+				outputParameter: [
+					{
+						name : "responseData",
+						type : "Byte[]"
+					}
+				],
+				fireAndForget: false
+			}
+		]).buildFunction() as any;
+		this.echoComplexStruct = new ProxyOperation(this, "echoComplexStruct", [
+			{
+				inputParameter: [
+				{
+					name : "data",
+					type : "joynr.tests.performance.Types.ComplexStruct"
+				}
+				],
+				outputParameter: [
+					{
+						name : "responseData",
+						type : "joynr.tests.performance.Types.ComplexStruct"
+					}
+				],
+				fireAndForget: false
+			}
+		]).buildFunction() as any;
+		this.echoString = new ProxyOperation(this, "echoString", [
+			{
+				inputParameter: [
+				{
+					name : "data",
+					type : "String"
+				}
+				],
+				outputParameter: [
+					{
+						name : "responseData",
+						type : "String"
+					}
+				],
+				fireAndForget: false
+			}
+		]).buildFunction() as any;
+
+		/**
+		 * @name EchoProxy#broadcastWithSinglePrimitiveParameter
+		 * @summary The broadcastWithSinglePrimitiveParameter event is GENERATED FROM THE INTERFACE DESCRIPTION
+		 */
+		this.broadcastWithSinglePrimitiveParameter = new ProxyEvent(this, {
+			broadcastName : "broadcastWithSinglePrimitiveParameter",
+			broadcastParameter : [
+				{
+					name : "stringOut",
+					type : "String"
+				}
+			],
+			messagingQos : this.messagingQos,
+			discoveryQos : settings.discoveryQos,
+			dependencies: {
+				subscriptionManager: settings.dependencies.subscriptionManager
+			}
+		});
+	}
+
+	/**
+	 * The MAJOR_VERSION of the proxy is GENERATED FROM THE INTERFACE DESCRIPTION
+	 */
+	public static MAJOR_VERSION = 0;
+
+	/**
+	 * The MINOR_VERSION of the proxy is GENERATED FROM THE INTERFACE DESCRIPTION
+	 */
+	public static MINOR_VERSION = 1;
+
+	public static getUsedJoynrtypes(): any[] {
+		return [
+			ComplexStruct
+		];
+	}
+}
+
+export = EchoProxy;
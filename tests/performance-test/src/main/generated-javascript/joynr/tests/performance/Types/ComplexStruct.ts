@@ -0,0 +1,71 @@
+import JoynrCompound = require("joynr/joynr/types/JoynrCompound");
+
+namespace ComplexStruct {
+	export interface ComplexStructMembers {
+		num32: number;
+		num64: number;
+		data: number[];
+		str: string;
+	}
+}
+/**
+ * This is the generated struct type ComplexStruct: DOCS GENERATED FROM INTERFACE DESCRIPTION
+ * <br/>Generation date: Sun Oct 18 21:36:26 UTC 2026
+ */
+class ComplexStruct extends JoynrCompound {
+	public static _typeName: string = "joynr.tests.performance.Types.ComplexStruct";
+	public _typeName: string = "joynr.tests.performance.Types.ComplexStruct";
+
+	public num32!: number;
+	public num64!: number;
+	public data!: number[];
+	public str!: string;
+
+	/**
+	 * @param members - an object containing the individual member elements
+	 * @param members.num32 - 
+	 * @param members.num64 - 
+	 * @param members.data - 
+	 * @param members.str - 
+	 */
+	public constructor(members: ComplexStruct.ComplexStructMembers) {
+		super();
+		if (members) {
+		this.num32 = members.num32;
+		this.num64 = members.num64;
+		this.data = members.data;
+		this.str = members.str;
+		}
+	}
+
+	public static checkMembers(_instance: ComplexStruct, _check: Function): void {
+		_check(_instance.num32, "Number", "members.num32");
+		_check(_instance.num64, "Number", "members.num64");
+		_check(_instance.data, "Array", "members.data");
+		_check(_instance.str, "String", "members.str");
+	}
+
+	/**
+	 * The MAJOR_VERSION of the struct type ComplexStruct is GENERATED FROM THE INTERFACE DESCRIPTION
+	 */
+	public static MAJOR_VERSION = 0;
+
+	/**
+	 * The MINOR_VERSION of the struct type ComplexStruct is GENERATED FROM THE INTERFACE DESCRIPTION
+	 */
+	public static MINOR_VERSION = 1;
+
+	public static readonly _memberTypes: Record<string, string> = {
+		num32: "Integer",
+		num64: "Long",
+		data: "Byte[]",
+		str: "String"
+	};
+
+	public static getMemberType(memberName: string): string | undefined {
+		if (ComplexStruct._memberTypes[memberName] !== undefined) {
+			return ComplexStruct._memberTypes[memberName];
+		}
+	}
+}
+export = ComplexStruct;
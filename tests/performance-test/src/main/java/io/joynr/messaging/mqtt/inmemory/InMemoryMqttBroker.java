@@ -0,0 +1,216 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.mqtt.inmemory;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+
+/**
+ * Minimal stand-in for an MQTT 5 broker which connects the {@link InMemoryMqttClient}s of all joynr runtimes living
+ * in the same JVM.
+ * <p>
+ * Only the subset of MQTT which is used by joynr is supported:
+ * <ul>
+ * <li>topic filters with the single level (+) and multi level (#) wildcards</li>
+ * <li>shared subscriptions ($share/&lt;group&gt;/&lt;filter&gt;), the publications are distributed round robin to
+ * the connected members of a group</li>
+ * <li>QoS 0 publications are dropped for clients which are not connected, QoS 1 and 2 publications are queued in the
+ * session of the client (the broker does not distinguish between QoS 1 and 2 because there is no network which could
+ * lose or duplicate a packet)</li>
+ * <li>the message expiry interval of the publications</li>
+ * </ul>
+ * The receive maximum is enforced by the clients, see {@link InMemoryMqttClient}.
+ */
+public class InMemoryMqttBroker {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryMqttBroker.class);
+
+    private static final String SHARED_SUBSCRIPTION_PREFIX = "$share/";
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    // group + "/" + topic filter to shared subscription
+    private final ConcurrentMap<String, SharedSubscription> sharedSubscriptions = new ConcurrentHashMap<>();
+
+    private final AtomicLong receivedPublications = new AtomicLong();
+    private final AtomicLong droppedPublications = new AtomicLong();
+
+    private static class Subscription {
+        private final InMemoryMqttClient client;
+        private final String topicFilter;
+
+        Subscription(InMemoryMqttClient client, String topicFilter) {
+            this.client = client;
+            this.topicFilter = topicFilter;
+        }
+    }
+
+    private static class SharedSubscription {
+        private final String topicFilter;
+        private final CopyOnWriteArrayList<InMemoryMqttClient> members = new CopyOnWriteArrayList<>();
+        private final AtomicInteger nextMember = new AtomicInteger();
+
+        SharedSubscription(String topicFilter) {
+            this.topicFilter = topicFilter;
+        }
+
+        InMemoryMqttClient selectMember() {
+            Object[] currentMembers = members.toArray();
+            if (currentMembers.length == 0) {
+                return null;
+            }
+            int start = Math.floorMod(nextMember.getAndIncrement(), currentMembers.length);
+            for (int i = 0; i < currentMembers.length; i++) {
+                InMemoryMqttClient member = (InMemoryMqttClient) currentMembers[(start + i) % currentMembers.length];
+                if (member.isConnected()) {
+                    return member;
+                }
+            }
+            // nobody is connected: keep the publication in the session of one of the members
+            return (InMemoryMqttClient) currentMembers[start];
+        }
+    }
+
+    public synchronized void subscribe(InMemoryMqttClient client, String topicFilter) {
+        if (topicFilter.startsWith(SHARED_SUBSCRIPTION_PREFIX)) {
+            String groupAndFilter = topicFilter.substring(SHARED_SUBSCRIPTION_PREFIX.length());
+            int separatorIndex = groupAndFilter.indexOf('/');
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("Invalid shared subscription: " + topicFilter);
+            }
+            String sharedTopicFilter = groupAndFilter.substring(separatorIndex + 1);
+            SharedSubscription sharedSubscription = sharedSubscriptions.computeIfAbsent(groupAndFilter,
+                                                                                        k -> new SharedSubscription(sharedTopicFilter));
+            sharedSubscription.members.addIfAbsent(client);
+        } else if (!isSubscribed(client, topicFilter)) {
+            subscriptions.add(new Subscription(client, topicFilter));
+        }
+        logger.debug("{} subscribed to {}", client, topicFilter);
+    }
+
+    public synchronized void unsubscribe(InMemoryMqttClient client, String topicFilter) {
+        if (topicFilter.startsWith(SHARED_SUBSCRIPTION_PREFIX)) {
+            SharedSubscription sharedSubscription = sharedSubscriptions.get(topicFilter.substring(SHARED_SUBSCRIPTION_PREFIX.length()));
+            if (sharedSubscription != null) {
+                sharedSubscription.members.remove(client);
+            }
+        } else {
+            subscriptions.removeIf(subscription -> subscription.client == client
+                    && subscription.topicFilter.equals(topicFilter));
+        }
+        logger.debug("{} unsubscribed from {}", client, topicFilter);
+    }
+
+    public synchronized void unsubscribeAll(InMemoryMqttClient client) {
+        subscriptions.removeIf(subscription -> subscription.client == client);
+        for (SharedSubscription sharedSubscription : sharedSubscriptions.values()) {
+            sharedSubscription.members.remove(client);
+        }
+    }
+
+    private boolean isSubscribed(InMemoryMqttClient client, String topicFilter) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.client == client && subscription.topicFilter.equals(topicFilter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Forwards the publication to all matching subscribers. A client receives a publication only once even if
+     * several of its subscriptions match the topic.
+     *
+     * @param publish the publication
+     */
+    public void publish(Mqtt5Publish publish) {
+        receivedPublications.incrementAndGet();
+        String topic = publish.getTopic().toString();
+        long expiryDateMs = publish.getMessageExpiryInterval().isPresent()
+                ? System.currentTimeMillis() + publish.getMessageExpiryInterval().getAsLong() * 1000
+                : Long.MAX_VALUE;
+
+        Set<InMemoryMqttClient> receivers = new LinkedHashSet<>();
+        for (Subscription subscription : subscriptions) {
+            if (matches(subscription.topicFilter, topic)) {
+                receivers.add(subscription.client);
+            }
+        }
+        for (SharedSubscription sharedSubscription : sharedSubscriptions.values()) {
+            if (matches(sharedSubscription.topicFilter, topic)) {
+                InMemoryMqttClient member = sharedSubscription.selectMember();
+                if (member != null) {
+                    receivers.add(member);
+                }
+            }
+        }
+
+        if (receivers.isEmpty()) {
+            logger.trace("No subscriber for topic {}", topic);
+            droppedPublications.incrementAndGet();
+            return;
+        }
+        for (InMemoryMqttClient receiver : receivers) {
+            if (publish.getQos() == MqttQos.AT_MOST_ONCE && !receiver.isConnected()) {
+                droppedPublications.incrementAndGet();
+                continue;
+            }
+            receiver.enqueue(publish, expiryDateMs);
+        }
+    }
+
+    static boolean matches(String topicFilter, String topic) {
+        String[] filterLevels = topicFilter.split("/", -1);
+        String[] topicLevels = topic.split("/", -1);
+        for (int i = 0; i < filterLevels.length; i++) {
+            if ("#".equals(filterLevels[i])) {
+                // '#' also matches the parent level
+                return true;
+            }
+            if (i >= topicLevels.length) {
+                return false;
+            }
+            if (!"+".equals(filterLevels[i]) && !filterLevels[i].equals(topicLevels[i])) {
+                return false;
+            }
+        }
+        return filterLevels.length == topicLevels.length;
+    }
+
+    public long getReceivedPublications() {
+        return receivedPublications.get();
+    }
+
+    /**
+     * @return number of publications without subscriber and QoS 0 publications for disconnected clients
+     */
+    public long getDroppedPublications() {
+        return droppedPublications.get();
+    }
+}
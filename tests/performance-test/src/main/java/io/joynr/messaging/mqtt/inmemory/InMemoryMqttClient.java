@@ -0,0 +1,374 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.mqtt.inmemory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.hivemq.client.internal.checkpoint.Confirmable;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.datatypes.Mqtt5UserProperties;
+import com.hivemq.client.mqtt.mqtt5.datatypes.Mqtt5UserPropertiesBuilder;
+import com.hivemq.client.mqtt.mqtt5.datatypes.Mqtt5UserProperty;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+
+import io.joynr.exceptions.JoynrDelayMessageException;
+import io.joynr.exceptions.JoynrMessageExpiredException;
+import io.joynr.exceptions.JoynrMessageNotSentException;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.SuccessAction;
+import io.joynr.messaging.mqtt.IMqttMessagingSkeleton;
+import io.joynr.messaging.mqtt.JoynrMqttClient;
+import joynr.Message;
+
+/**
+ * {@link JoynrMqttClient} which is connected to an {@link InMemoryMqttBroker} instead of a real broker.
+ * <p>
+ * Incoming publications are handed over to the messaging skeleton by a dedicated delivery thread in the order in
+ * which they have been received, like the HiveMQ MQTT client does with manual acknowledgement. At most
+ * receiveMaximum QoS 1 and 2 publications can be in flight, i.e. handed over to the skeleton but not yet
+ * acknowledged; further publications stay queued until the skeleton acknowledges one of them. This way the
+ * backpressure mechanism of the MQTT skeleton, which delays the acknowledgement of requests, behaves as with a
+ * real broker.
+ */
+public class InMemoryMqttClient implements JoynrMqttClient {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryMqttClient.class);
+    private static final long NOT_CONNECTED_RETRY_INTERVAL_MS = 1000;
+
+    private final InMemoryMqttBroker broker;
+    private final String clientId;
+    private final boolean cleanSession;
+    private final int maxMsgSizeBytes;
+    private final boolean isReceiver;
+    private final boolean isSender;
+    private final boolean retain;
+    private final String clientInformation;
+
+    private final BlockingQueue<QueuedPublish> inbox = new LinkedBlockingQueue<>();
+    private final Semaphore inFlightPermits;
+    private final AtomicLong nextConfirmableId = new AtomicLong();
+
+    private final AtomicBoolean shuttingDown = new AtomicBoolean(true);
+    private volatile boolean connected = false;
+    private IMqttMessagingSkeleton messagingSkeleton;
+    private Thread deliveryThread;
+
+    private static class QueuedPublish {
+        private final Mqtt5Publish publish;
+        private final long expiryDateMs;
+
+        QueuedPublish(Mqtt5Publish publish, long expiryDateMs) {
+            this.publish = publish;
+            this.expiryDateMs = expiryDateMs;
+        }
+    }
+
+    private class InFlightConfirmable implements Confirmable {
+        private final long id = nextConfirmableId.incrementAndGet();
+        private final boolean holdsPermit;
+        private final AtomicBoolean confirmed = new AtomicBoolean(false);
+
+        InFlightConfirmable(boolean holdsPermit) {
+            this.holdsPermit = holdsPermit;
+        }
+
+        @Override
+        public long id() {
+            return id;
+        }
+
+        @Override
+        public boolean confirm() {
+            if (!confirmed.compareAndSet(false, true)) {
+                return false;
+            }
+            if (holdsPermit) {
+                inFlightPermits.release();
+            }
+            return true;
+        }
+    }
+
+    // CHECKSTYLE IGNORE ParameterNumber FOR NEXT 1 LINES
+    public InMemoryMqttClient(InMemoryMqttBroker broker,
+                              String clientId,
+                              boolean cleanSession,
+                              int receiveMaximum,
+                              int maxMsgSizeBytes,
+                              boolean isReceiver,
+                              boolean isSender,
+                              boolean retain,
+                              String gbid) {
+        this.broker = broker;
+        this.clientId = clientId;
+        this.cleanSession = cleanSession;
+        this.inFlightPermits = new Semaphore(receiveMaximum);
+        this.maxMsgSizeBytes = maxMsgSizeBytes;
+        this.isReceiver = isReceiver;
+        this.isSender = isSender;
+        this.retain = retain;
+        this.clientInformation = "InMemoryMqttClient(" + clientId + ", gbid=" + gbid + ", "
+                + (isReceiver ? "receiver" : "") + (isReceiver && isSender ? "+" : "") + (isSender ? "sender" : "")
+                + ")";
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!shuttingDown.getAndSet(false)) {
+            logger.warn("{}: Client already started.", clientInformation);
+            return;
+        }
+        logger.info("{}: Starting.", clientInformation);
+        if (isReceiver) {
+            deliveryThread = new Thread(this::deliverPublications, "InMemoryMqtt-" + clientId);
+            deliveryThread.setDaemon(true);
+            deliveryThread.start();
+        }
+    }
+
+    @Override
+    public synchronized void connect() {
+        if (shuttingDown.get()) {
+            logger.error("{}: Client not started.", clientInformation);
+            return;
+        }
+        if (connected) {
+            logger.info("{}: MQTT client already connected - skipping.", clientInformation);
+            return;
+        }
+        if (cleanSession) {
+            broker.unsubscribeAll(this);
+            inbox.clear();
+        }
+        connected = true;
+        notifyAll();
+        logger.info("{}: Connected, clean session={}.", clientInformation, cleanSession);
+    }
+
+    @Override
+    public synchronized void disconnect() {
+        if (!connected) {
+            return;
+        }
+        connected = false;
+        logger.info("{}: Disconnected.", clientInformation);
+    }
+
+    @Override
+    public void shutdown() {
+        Thread threadToStop;
+        synchronized (this) {
+            if (shuttingDown.getAndSet(true)) {
+                logger.warn("{}: Client already shutdown.", clientInformation);
+                return;
+            }
+            disconnect();
+            broker.unsubscribeAll(this);
+            inbox.clear();
+            threadToStop = deliveryThread;
+            deliveryThread = null;
+            notifyAll();
+        }
+        if (threadToStop != null) {
+            threadToStop.interrupt();
+        }
+        logger.debug("{}: Shutdown.", clientInformation);
+    }
+
+    @Override
+    public void setMessageListener(IMqttMessagingSkeleton rawMessaging) {
+        if (isReceiver && messagingSkeleton == null) { // only add if skeleton is not already present
+            this.messagingSkeleton = rawMessaging;
+        }
+    }
+
+    @Override
+    public void publishMessage(String topic,
+                               byte[] serializedMessage,
+                               Map<String, String> prefixedCustomHeaders,
+                               int qosLevel,
+                               long messageExpiryIntervalSec,
+                               SuccessAction successAction,
+                               FailureAction failureAction) {
+        assert (isSender);
+
+        if (prefixedCustomHeaders == null) {
+            throw new JoynrMessageNotSentException("prefixedCustomHeaders must not be null");
+        }
+
+        if (maxMsgSizeBytes != 0 && serializedMessage.length > maxMsgSizeBytes) {
+            throw new JoynrMessageNotSentException("Publish failed: maximum allowed message size of " + maxMsgSizeBytes
+                    + " bytes exceeded, actual size is " + serializedMessage.length + " bytes");
+        }
+
+        if (!connected) {
+            failureAction.execute(new JoynrDelayMessageException(NOT_CONNECTED_RETRY_INTERVAL_MS,
+                                                                 "Publish failed: Mqtt client not connected."));
+            return;
+        }
+
+        Mqtt5UserPropertiesBuilder mqtt5UserPropertiesBuilder = Mqtt5UserProperties.builder();
+        for (Map.Entry<String, String> entry : prefixedCustomHeaders.entrySet()) {
+            // skip entries with empty key or value like the HiveMQ MQTT client based implementation
+            if (!entry.getKey().isEmpty() && !entry.getValue().isEmpty()) {
+                mqtt5UserPropertiesBuilder.add(entry.getKey(), entry.getValue());
+            }
+        }
+        MqttQos qos = MqttQos.fromCode(qosLevel);
+        Mqtt5Publish mqtt5Publish = Mqtt5Publish.builder()
+                                                .topic(topic)
+                                                .qos(qos == null ? MqttQos.AT_LEAST_ONCE : qos)
+                                                .payload(serializedMessage)
+                                                .messageExpiryInterval(messageExpiryIntervalSec)
+                                                .retain(retain)
+                                                .userProperties(mqtt5UserPropertiesBuilder.build())
+                                                .build();
+        logger.debug("{}: Publishing to topic: {}, size: {}, qos: {}",
+                     clientInformation,
+                     topic,
+                     serializedMessage.length,
+                     qosLevel);
+        broker.publish(mqtt5Publish);
+        successAction.execute();
+    }
+
+    @Override
+    public void subscribe(String topic) {
+        assert (isReceiver);
+        logger.info("{}: Subscribing to topic: {}", clientInformation, topic);
+        if (!shuttingDown.get()) {
+            broker.subscribe(this, topic);
+        }
+    }
+
+    @Override
+    public void unsubscribe(String topic) {
+        assert (isReceiver);
+        logger.info("{}: Unsubscribing from topic: {}", clientInformation, topic);
+        broker.unsubscribe(this, topic);
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shuttingDown.get();
+    }
+
+    boolean isConnected() {
+        return connected;
+    }
+
+    void enqueue(Mqtt5Publish publish, long expiryDateMs) {
+        if (!shuttingDown.get()) {
+            inbox.add(new QueuedPublish(publish, expiryDateMs));
+        }
+    }
+
+    private void deliverPublications() {
+        try {
+            while (!shuttingDown.get()) {
+                QueuedPublish queuedPublish = inbox.take();
+                boolean holdsPermit = queuedPublish.publish.getQos() != MqttQos.AT_MOST_ONCE;
+                if (holdsPermit) {
+                    inFlightPermits.acquire();
+                }
+                waitUntilConnected();
+                if (shuttingDown.get()) {
+                    break;
+                }
+                if (queuedPublish.expiryDateMs < System.currentTimeMillis()) {
+                    logger.debug("{}: Dropping expired publication for topic {}",
+                                 clientInformation,
+                                 queuedPublish.publish.getTopic());
+                    if (holdsPermit) {
+                        inFlightPermits.release();
+                    }
+                    continue;
+                }
+                deliver(queuedPublish.publish, holdsPermit);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.debug("{}: Delivery thread stopped.", clientInformation);
+    }
+
+    private synchronized void waitUntilConnected() throws InterruptedException {
+        while (!connected && !shuttingDown.get()) {
+            wait();
+        }
+    }
+
+    private void deliver(Mqtt5Publish publish, boolean holdsPermit) {
+        Map<String, String> prefixedCustomHeaders = new HashMap<String, String>();
+        for (Mqtt5UserProperty entry : publish.getUserProperties().asList()) {
+            if (entry.getName().toString().startsWith(Message.CUSTOM_HEADER_PREFIX)) {
+                prefixedCustomHeaders.put(entry.getName().toString(), entry.getValue().toString());
+            }
+        }
+        // every receiver gets its own copy which is acknowledged independently
+        Mqtt5Publish incomingPublish = withConfirmable(publish, new InFlightConfirmable(holdsPermit));
+        try {
+            messagingSkeleton.transmit(incomingPublish, prefixedCustomHeaders, throwable -> {
+                if (throwable instanceof JoynrMessageExpiredException) {
+                    logger.warn("{}: Unable to handle incoming {}", clientInformation, publish, throwable);
+                } else {
+                    logger.error("{}: Unable to handle incoming {}", clientInformation, publish, throwable);
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.error("{}: Unexpected exception while handling incoming {}", clientInformation, publish, e);
+        }
+    }
+
+    /**
+     * Attaches the callback which is invoked by {@link Mqtt5Publish#acknowledge()}.
+     * <p>
+     * The public API of the HiveMQ MQTT client offers no way to do this, so this relies on internals of the client:
+     * {@link Mqtt5Publish#builder()} always creates instances of {@link MqttPublish}, whose acknowledge() confirms the
+     * attached {@link Confirmable}. This is the only use of internal HiveMQ classes and has to be checked when the
+     * version of the HiveMQ MQTT client is changed; InMemoryMqttBrokerTest covers the acknowledgement.
+     */
+    static Mqtt5Publish withConfirmable(Mqtt5Publish publish, Confirmable confirmable) {
+        if (!(publish instanceof MqttPublish)) {
+            throw new IllegalStateException("Unsupported publish implementation: " + publish.getClass().getName());
+        }
+        return ((MqttPublish) publish).withConfirmable(confirmable);
+    }
+
+    /**
+     * @return number of received publications which have not yet been handed over to the messaging skeleton
+     */
+    public int getQueuedPublications() {
+        return inbox.size();
+    }
+
+    @Override
+    public String toString() {
+        return clientInformation;
+    }
+}
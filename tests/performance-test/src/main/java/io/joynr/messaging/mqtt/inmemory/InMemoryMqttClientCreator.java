@@ -0,0 +1,84 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.mqtt.inmemory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import io.joynr.messaging.mqtt.JoynrMqttClient;
+import io.joynr.messaging.mqtt.JoynrMqttClientCreator;
+import io.joynr.messaging.mqtt.MqttModule;
+
+/**
+ * Creates {@link InMemoryMqttClient}s which are connected to the {@link InMemoryMqttBroker} shared by all joynr
+ * runtimes of the JVM. The broker URIs configured for the GBIDs are ignored.
+ */
+public class InMemoryMqttClientCreator implements JoynrMqttClientCreator {
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryMqttClientCreator.class);
+
+    /**
+     * Maximum size of a publication in bytes, 0 means no limit.
+     */
+    public static final String PROPERTY_KEY_IN_MEMORY_MQTT_MAX_MSG_SIZE_BYTES = "joynr.messaging.mqtt.inmemory.maxmsgsizebytes";
+
+    private final InMemoryMqttBroker broker;
+    private final boolean cleanSession;
+
+    @Inject
+    @Named(MqttModule.PROPERTY_KEY_MQTT_RECEIVE_MAXIMUM)
+    private int receiveMaximum;
+
+    @Inject(optional = true)
+    @Named(MqttModule.PROPERTY_KEY_MQTT_RETAIN)
+    private Boolean retain = false;
+
+    @Inject(optional = true)
+    @Named(PROPERTY_KEY_IN_MEMORY_MQTT_MAX_MSG_SIZE_BYTES)
+    private int maxMsgSizeBytes = 0;
+
+    @Inject
+    public InMemoryMqttClientCreator(InMemoryMqttBroker broker,
+                                     @Named(MqttModule.PROPERTY_MQTT_CLEAN_SESSION) boolean cleanSession) {
+        this.broker = broker;
+        this.cleanSession = cleanSession;
+    }
+
+    @Override
+    public JoynrMqttClient createClient(String gbid,
+                                        String clientId,
+                                        boolean isReceiver,
+                                        boolean isSender,
+                                        boolean isReplyReceiver) {
+        assert (!isReplyReceiver || isReceiver);
+        InMemoryMqttClient result = new InMemoryMqttClient(broker,
+                                                           clientId,
+                                                           cleanSession,
+                                                           receiveMaximum,
+                                                           maxMsgSizeBytes,
+                                                           isReceiver,
+                                                           isSender,
+                                                           retain,
+                                                           gbid);
+        logger.info("Created in-memory MQTT client for gbid {}, clientId {}: {}", gbid, clientId, result);
+        return result;
+    }
+}
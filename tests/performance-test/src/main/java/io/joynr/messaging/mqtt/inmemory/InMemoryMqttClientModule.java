@@ -0,0 +1,53 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.mqtt.inmemory;
+
+import com.google.inject.AbstractModule;
+
+import io.joynr.messaging.mqtt.JoynrMqttClientCreator;
+import io.joynr.messaging.mqtt.MqttClientFactory;
+import io.joynr.messaging.mqtt.MqttClientSignalService;
+import io.joynr.messaging.mqtt.MqttModule;
+import io.joynr.messaging.mqtt.hivemq.client.HivemqMqttClientFactory;
+
+/**
+ * Use this module instead of the HivemqMqttClientModule to connect a joynr runtime to an {@link InMemoryMqttBroker}.
+ * Pass the same broker instance to the modules of all runtimes which shall communicate with each other.
+ * <p>
+ * The client factory of the HiveMQ MQTT client module is reused so that the runtimes create the same set of
+ * connections (separate connections, separate reply receiver, shared subscriptions) as in production.
+ */
+public class InMemoryMqttClientModule extends AbstractModule {
+
+    private final InMemoryMqttBroker broker;
+
+    public InMemoryMqttClientModule(InMemoryMqttBroker broker) {
+        this.broker = broker;
+    }
+
+    @Override
+    protected void configure() {
+        install(new MqttModule());
+        bind(InMemoryMqttBroker.class).toInstance(broker);
+        bind(MqttClientFactory.class).to(HivemqMqttClientFactory.class);
+        bind(JoynrMqttClientCreator.class).to(InMemoryMqttClientCreator.class);
+        bind(MqttClientSignalService.class).to(HivemqMqttClientFactory.class);
+    }
+
+}
@@ -0,0 +1,426 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.Provides;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import com.google.inject.util.Modules;
+
+import io.joynr.arbitration.ArbitrationStrategy;
+import io.joynr.arbitration.DiscoveryQos;
+import io.joynr.arbitration.DiscoveryScope;
+import io.joynr.capabilities.ParticipantIdKeyUtil;
+import io.joynr.common.JoynrPropertiesModule;
+import io.joynr.exceptions.JoynrRuntimeException;
+import io.joynr.messaging.ConfigurableMessagingSettings;
+import io.joynr.messaging.MessagingPropertyKeys;
+import io.joynr.messaging.MessagingQos;
+import io.joynr.messaging.mqtt.MqttModule;
+import io.joynr.messaging.mqtt.inmemory.InMemoryMqttBroker;
+import io.joynr.messaging.mqtt.inmemory.InMemoryMqttClientModule;
+import io.joynr.messaging.mqtt.settings.LimitAndBackpressureSettings;
+import io.joynr.performance.BrokerFreeLoadTestInvocationParameters.TESTCASE;
+import io.joynr.proxy.Callback;
+import io.joynr.proxy.Future;
+import io.joynr.pubsub.subscription.AttributeSubscriptionAdapter;
+import io.joynr.runtime.CCInProcessRuntimeModule;
+import io.joynr.runtime.JoynrRuntime;
+import joynr.MulticastSubscriptionQos;
+import joynr.OnChangeSubscriptionQos;
+import joynr.tests.performance.EchoBroadcastInterface.BroadcastWithSinglePrimitiveParameterBroadcastAdapter;
+import joynr.tests.performance.EchoProvider;
+import joynr.tests.performance.EchoProxy;
+import joynr.types.GlobalDiscoveryEntry;
+
+/**
+ * End-to-end load test of the Java cluster controller without an external MQTT broker and without a
+ * capabilities directory backend.
+ * <p>
+ * All joynr runtimes (one global capabilities directory, the provider runtimes and the consumer runtimes) run in
+ * this JVM and are connected to one {@link InMemoryMqttBroker}. Everything else, i.e. serialization, routing,
+ * the MQTT messaging skeletons and stubs, backpressure and the subscription handling, is the production code.
+ * This makes the measured throughput and latencies reproducible on a developer machine or in CI.
+ * <p>
+ * If more than one provider runtime is started, the providers share one participantId and one channelId and
+ * receive the requests via MQTT shared subscriptions.
+ */
+public class BrokerFreeLoadTestApplication {
+    private static final Logger logger = LoggerFactory.getLogger(BrokerFreeLoadTestApplication.class);
+
+    private static final String DOMAIN = "io.joynr.performance.brokerfree";
+    private static final String PROVIDER_PARTICIPANT_ID = "brokerfree-echo-provider";
+    private static final String PROVIDER_CHANNEL_ID = "brokerfree-echo-provider-channel";
+    private static final long MESSAGING_TTL_MS = 60000;
+    private static final long SUBSCRIPTION_VALIDITY_MS = 24 * 60 * 60 * 1000;
+
+    private final BrokerFreeLoadTestInvocationParameters invocationParameters;
+    private final InMemoryMqttBroker broker = new InMemoryMqttBroker();
+    private final List<JoynrRuntime> runtimes = new ArrayList<>();
+    private final List<EchoProviderImpl> providers = new ArrayList<>();
+    private final List<EchoProxy> proxies = new ArrayList<>();
+    private final String inputString;
+    private File persistenceDirectory;
+
+    public static void main(String[] args) {
+        int exitCode = 1;
+        BrokerFreeLoadTestApplication application = null;
+        try {
+            application = new BrokerFreeLoadTestApplication(new BrokerFreeLoadTestInvocationParameters(args));
+            application.start();
+            exitCode = application.run();
+        } catch (Exception exception) {
+            logger.error("Unexpected exception: ", exception);
+        } finally {
+            if (application != null) {
+                application.shutdown();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    public BrokerFreeLoadTestApplication(BrokerFreeLoadTestInvocationParameters invocationParameters) {
+        this.invocationParameters = invocationParameters;
+        char[] input = new char[invocationParameters.getStringDataLength()];
+        Arrays.fill(input, 'x');
+        this.inputString = new String(input);
+    }
+
+    private void start() throws Exception {
+        persistenceDirectory = Files.createTempDirectory("joynr-brokerfree").toFile();
+
+        startGlobalCapabilitiesDirectory();
+
+        for (int i = 0; i < invocationParameters.getNumberOfProviders(); i++) {
+            startProvider(i);
+        }
+        for (int i = 0; i < invocationParameters.getNumberOfConsumers(); i++) {
+            startConsumer(i);
+        }
+    }
+
+    private int run() throws Exception {
+        int numberOfFailures = 0;
+        System.err.format("broker-free load test: %d consumers, %d providers, %d runs, %d warmup runs%n",
+                          invocationParameters.getNumberOfConsumers(),
+                          invocationParameters.getNumberOfProviders(),
+                          invocationParameters.getNumberOfRuns(),
+                          invocationParameters.getNumberOfWarmupRuns());
+        for (TESTCASE testCase : invocationParameters.getTestCases()) {
+            switch (testCase) {
+            case RPC:
+                runRpcTest(invocationParameters.getNumberOfWarmupRuns());
+                numberOfFailures += report(runRpcTest(invocationParameters.getNumberOfRuns()));
+                break;
+            case BROADCAST:
+                numberOfFailures += report(runBroadcastTest());
+                break;
+            case ATTRIBUTE_SUBSCRIPTION:
+                numberOfFailures += report(runAttributeSubscriptionTest());
+                break;
+            default:
+                logger.error("Unknown test case {}", testCase);
+                return 1;
+            }
+        }
+        System.err.format("in-memory broker: %d publications received, %d dropped%n",
+                          broker.getReceivedPublications(),
+                          broker.getDroppedPublications());
+        return numberOfFailures == 0 ? 0 : 1;
+    }
+
+    private int report(LatencyRecorder recorder) {
+        recorder.printResult(System.err);
+        return recorder.isCompleted() ? recorder.getNumberOfFailures() : recorder.getNumberOfFailures() + 1;
+    }
+
+    private LatencyRecorder runRpcTest(int runs) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder("RPC", runs * proxies.size());
+        List<Thread> senders = new ArrayList<>();
+        recorder.start();
+        for (EchoProxy proxy : proxies) {
+            Thread sender = new Thread(() -> sendRequests(proxy, runs, recorder), "BrokerFreeLoadTest-RpcSender");
+            sender.start();
+            senders.add(sender);
+        }
+        if (!recorder.awaitCompletion(invocationParameters.getTimeoutMs())) {
+            logger.error("RPC test timed out");
+        }
+        for (Thread sender : senders) {
+            sender.interrupt();
+            sender.join();
+        }
+        return recorder;
+    }
+
+    private void sendRequests(EchoProxy proxy, int runs, LatencyRecorder recorder) {
+        Semaphore pendingRequests = new Semaphore(invocationParameters.getNumberOfPendingRequests());
+        try {
+            for (int i = 0; i < runs; i++) {
+                pendingRequests.acquire();
+                final long sendTimeNs = System.nanoTime();
+                proxy.echoString(new Callback<String>() {
+                    @Override
+                    public void onSuccess(String result) {
+                        recorder.recordLatency(System.nanoTime() - sendTimeNs);
+                        pendingRequests.release();
+                    }
+
+                    @Override
+                    public void onFailure(JoynrRuntimeException runtimeException) {
+                        logger.debug("Request failed: ", runtimeException);
+                        recorder.recordFailure();
+                        pendingRequests.release();
+                    }
+                }, inputString);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private LatencyRecorder runBroadcastTest() throws Exception {
+        AtomicReference<LatencyRecorder> currentRecorder = new AtomicReference<>();
+        MulticastSubscriptionQos subscriptionQos = new MulticastSubscriptionQos();
+        subscriptionQos.setValidityMs(SUBSCRIPTION_VALIDITY_MS);
+        BroadcastWithSinglePrimitiveParameterBroadcastAdapter listener = new BroadcastWithSinglePrimitiveParameterBroadcastAdapter() {
+            @Override
+            public void onReceive(String stringOut) {
+                recordTimestamp(currentRecorder.get(), stringOut);
+            }
+        };
+        List<Future<String>> subscriptions = new ArrayList<>();
+        for (EchoProxy proxy : proxies) {
+            subscriptions.add(proxy.subscribeToBroadcastWithSinglePrimitiveParameterBroadcast(listener,
+                                                                                              subscriptionQos));
+        }
+        List<String> subscriptionIds = awaitSubscriptions(subscriptions);
+
+        // the providers share one participantId, each of them publishes the multicasts to all consumers
+        EchoProviderImpl provider = providers.get(0);
+        Runnable fireBroadcast = () -> {
+            provider.fireBroadcastWithSinglePrimitiveParameter(String.valueOf(System.nanoTime()));
+        };
+        runPublications("BROADCAST warmup",
+                        invocationParameters.getNumberOfWarmupRuns(),
+                        currentRecorder,
+                        fireBroadcast);
+        LatencyRecorder recorder = runPublications("BROADCAST",
+                                                   invocationParameters.getNumberOfRuns(),
+                                                   currentRecorder,
+                                                   fireBroadcast);
+
+        for (int i = 0; i < proxies.size(); i++) {
+            proxies.get(i).unsubscribeFromBroadcastWithSinglePrimitiveParameterBroadcast(subscriptionIds.get(i));
+        }
+        return recorder;
+    }
+
+    private LatencyRecorder runAttributeSubscriptionTest() throws Exception {
+        AtomicReference<LatencyRecorder> currentRecorder = new AtomicReference<>();
+        OnChangeSubscriptionQos subscriptionQos = new OnChangeSubscriptionQos().setMinIntervalMs(0)
+                                                                               .setValidityMs(SUBSCRIPTION_VALIDITY_MS);
+        List<Future<String>> subscriptions = new ArrayList<>();
+        for (EchoProxy proxy : proxies) {
+            subscriptions.add(proxy.subscribeToSimpleAttribute(new AttributeSubscriptionAdapter<String>() {
+                @Override
+                public void onReceive(String value) {
+                    recordTimestamp(currentRecorder.get(), value);
+                }
+            }, subscriptionQos));
+        }
+        List<String> subscriptionIds = awaitSubscriptions(subscriptions);
+
+        // with shared subscriptions, each subscription request is handled by exactly one of the providers
+        Runnable changeAttribute = () -> {
+            String value = String.valueOf(System.nanoTime());
+            for (EchoProviderImpl provider : providers) {
+                provider.setSimpleAttribute(value);
+            }
+        };
+        runPublications("ATTRIBUTE_SUBSCRIPTION warmup",
+                        invocationParameters.getNumberOfWarmupRuns(),
+                        currentRecorder,
+                        changeAttribute);
+        LatencyRecorder recorder = runPublications("ATTRIBUTE_SUBSCRIPTION",
+                                                   invocationParameters.getNumberOfRuns(),
+                                                   currentRecorder,
+                                                   changeAttribute);
+
+        for (int i = 0; i < proxies.size(); i++) {
+            proxies.get(i).unsubscribeFromSimpleAttribute(subscriptionIds.get(i));
+        }
+        return recorder;
+    }
+
+    private LatencyRecorder runPublications(String name,
+                                            int runs,
+                                            AtomicReference<LatencyRecorder> currentRecorder,
+                                            Runnable publish) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder(name, runs * proxies.size());
+        recorder.start();
+        currentRecorder.set(recorder);
+        for (int i = 0; i < runs; i++) {
+            publish.run();
+        }
+        if (!recorder.awaitCompletion(invocationParameters.getTimeoutMs())) {
+            logger.error("{} test timed out", name);
+        }
+        currentRecorder.set(null);
+        return recorder;
+    }
+
+    private static void recordTimestamp(LatencyRecorder recorder, String sendTimeNs) {
+        // initial publications of attribute subscriptions and late publications of a previous phase are ignored
+        if (recorder == null || sendTimeNs == null || sendTimeNs.isEmpty()) {
+            return;
+        }
+        long sendTime = Long.parseLong(sendTimeNs);
+        if (sendTime >= recorder.getStartTimeNs()) {
+            recorder.recordLatency(System.nanoTime() - sendTime);
+        }
+    }
+
+    private List<String> awaitSubscriptions(List<Future<String>> subscriptions) throws Exception {
+        List<String> subscriptionIds = new ArrayList<>();
+        for (Future<String> subscription : subscriptions) {
+            subscriptionIds.add(subscription.get(invocationParameters.getTimeoutMs()));
+        }
+        return subscriptionIds;
+    }
+
+    private void startGlobalCapabilitiesDirectory() throws Exception {
+        Injector injector = createRuntime("gcd", new Properties(), new GlobalCapabilitiesDirectoryModule());
+        GlobalDiscoveryEntry gcdEntry = injector.getInstance(Key.get(GlobalDiscoveryEntry.class,
+                                                                     Names.named(MessagingPropertyKeys.CAPABILITIES_DIRECTORY_DISCOVERY_ENTRY)));
+        injector.getInstance(JoynrRuntime.class)
+                .getProviderRegistrar(gcdEntry.getDomain(), new InMemoryGlobalCapabilitiesDirectory())
+                .awaitGlobalRegistration()
+                .register()
+                .get(invocationParameters.getTimeoutMs());
+    }
+
+    private void startProvider(int index) throws Exception {
+        Properties providerConfig = new Properties();
+        providerConfig.setProperty(LimitAndBackpressureSettings.PROPERTY_MAX_INCOMING_MQTT_REQUESTS,
+                                   String.valueOf(invocationParameters.getMaxIncomingMqttRequests()));
+        if (invocationParameters.getNumberOfProviders() > 1) {
+            providerConfig.setProperty(MqttModule.PROPERTY_KEY_MQTT_ENABLE_SHARED_SUBSCRIPTIONS, "true");
+            providerConfig.setProperty(MessagingPropertyKeys.CHANNELID, PROVIDER_CHANNEL_ID);
+            providerConfig.setProperty(ParticipantIdKeyUtil.getProviderParticipantIdKey(DOMAIN, EchoProvider.class),
+                                       PROVIDER_PARTICIPANT_ID);
+        }
+        Injector injector = createRuntime("provider" + index, providerConfig);
+        EchoProviderImpl provider = new EchoProviderImpl();
+        injector.getInstance(JoynrRuntime.class)
+                .getProviderRegistrar(DOMAIN, provider)
+                .awaitGlobalRegistration()
+                .register()
+                .get(invocationParameters.getTimeoutMs());
+        providers.add(provider);
+    }
+
+    private void startConsumer(int index) throws Exception {
+        Injector injector = createRuntime("consumer" + index, new Properties());
+
+        DiscoveryQos discoveryQos = new DiscoveryQos();
+        discoveryQos.setDiscoveryTimeoutMs(invocationParameters.getTimeoutMs());
+        discoveryQos.setCacheMaxAgeMs(Long.MAX_VALUE);
+        discoveryQos.setArbitrationStrategy(ArbitrationStrategy.HighestPriority);
+        discoveryQos.setDiscoveryScope(DiscoveryScope.GLOBAL_ONLY);
+
+        proxies.add(injector.getInstance(JoynrRuntime.class)
+                            .getProxyBuilder(DOMAIN, EchoProxy.class)
+                            .setMessagingQos(new MessagingQos(MESSAGING_TTL_MS))
+                            .setDiscoveryQos(discoveryQos)
+                            .build());
+    }
+
+    private Injector createRuntime(String name, Properties joynrConfig, Module... overrides) {
+        joynrConfig.setProperty(MessagingPropertyKeys.PERSISTENCE_FILE,
+                                new File(persistenceDirectory, name + "-joynr.properties").getPath());
+        joynrConfig.setProperty(ConfigurableMessagingSettings.PROPERTY_PARTICIPANTIDS_PERSISTENCE_FILE,
+                                new File(persistenceDirectory, name + "-participantIds.properties").getPath());
+        joynrConfig.setProperty(MqttModule.PROPERTY_KEY_MQTT_RECEIVE_MAXIMUM,
+                                String.valueOf(invocationParameters.getReceiveMaximum()));
+
+        Module runtimeModule = Modules.override(new CCInProcessRuntimeModule())
+                                      .with(new InMemoryMqttClientModule(broker),
+                                            new JoynrPropertiesModule(joynrConfig));
+        Injector injector = Guice.createInjector(Modules.override(runtimeModule).with(overrides));
+        runtimes.add(injector.getInstance(JoynrRuntime.class));
+        logger.info("Started runtime {}", name);
+        return injector;
+    }
+
+    private void shutdown() {
+        List<JoynrRuntime> reversedRuntimes = new ArrayList<>(runtimes);
+        Collections.reverse(reversedRuntimes);
+        for (JoynrRuntime runtime : reversedRuntimes) {
+            try {
+                runtime.shutdown(true);
+            } catch (Exception e) {
+                logger.error("Failed to shut down runtime: ", e);
+            }
+        }
+        if (persistenceDirectory != null) {
+            File[] files = persistenceDirectory.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    file.delete();
+                }
+            }
+            persistenceDirectory.delete();
+        }
+    }
+
+    /**
+     * Makes the runtime of the global capabilities directory use the channelId of the provisioned global
+     * capabilities directory entry, see CapabilitiesDirectoryModule of the capabilities-directory backend service.
+     */
+    private static class GlobalCapabilitiesDirectoryModule extends AbstractModule {
+        @Override
+        protected void configure() {
+        }
+
+        @Provides
+        @Named(MessagingPropertyKeys.CHANNELID)
+        String provideCapabilitiesDirectoryChannelId(@Named(ConfigurableMessagingSettings.PROPERTY_CAPABILITIES_DIRECTORY_CHANNEL_ID) String capabilitiesDirectoryChannelId) {
+            return capabilitiesDirectoryChannelId;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+public class BrokerFreeLoadTestInvocationParameters {
+
+    public enum TESTCASE {
+        RPC, BROADCAST, ATTRIBUTE_SUBSCRIPTION
+    }
+
+    private static final String CMDLINE_OPTIONNAME_TESTCASES = "testcases";
+    private static final String CMDLINE_OPTIONNAME_CONSUMERS = "consumers";
+    private static final String CMDLINE_OPTIONNAME_PROVIDERS = "providers";
+    private static final String CMDLINE_OPTIONNAME_RUNS = "runs";
+    private static final String CMDLINE_OPTIONNAME_WARMUPRUNS = "warmupruns";
+    private static final String CMDLINE_OPTIONNAME_PENDINGREQUESTS = "pendingrequests";
+    private static final String CMDLINE_OPTIONNAME_STRINGLENGTH = "stringlength";
+    private static final String CMDLINE_OPTIONNAME_RECEIVEMAXIMUM = "receivemaximum";
+    private static final String CMDLINE_OPTIONNAME_MAXINCOMINGREQUESTS = "maxincomingrequests";
+    private static final String CMDLINE_OPTIONNAME_TIMEOUT = "timeout";
+
+    private Set<TESTCASE> testCases = EnumSet.allOf(TESTCASE.class);
+    private int numberOfConsumers = 2;
+    private int numberOfProviders = 1;
+    private int numberOfRuns = 10000;
+    private int numberOfWarmupRuns = 1000;
+    private int numberOfPendingRequests = 100;
+    private int stringDataLength = 10;
+    private int receiveMaximum = 65535;
+    private int maxIncomingMqttRequests = 0;
+    private long timeoutMs = 300000;
+
+    public BrokerFreeLoadTestInvocationParameters(String[] args) throws Exception {
+        CommandLine cmdLine = parseCommandLineArgs(args);
+
+        if (cmdLine.hasOption(CMDLINE_OPTIONNAME_TESTCASES)) {
+            testCases = EnumSet.noneOf(TESTCASE.class);
+            for (String testCase : cmdLine.getOptionValue(CMDLINE_OPTIONNAME_TESTCASES).split(",")) {
+                testCases.add(TESTCASE.valueOf(testCase.trim()));
+            }
+        }
+        numberOfConsumers = getIntOption(cmdLine, CMDLINE_OPTIONNAME_CONSUMERS, numberOfConsumers);
+        numberOfProviders = getIntOption(cmdLine, CMDLINE_OPTIONNAME_PROVIDERS, numberOfProviders);
+        numberOfRuns = getIntOption(cmdLine, CMDLINE_OPTIONNAME_RUNS, numberOfRuns);
+        numberOfWarmupRuns = getIntOption(cmdLine, CMDLINE_OPTIONNAME_WARMUPRUNS, numberOfWarmupRuns);
+        numberOfPendingRequests = getIntOption(cmdLine, CMDLINE_OPTIONNAME_PENDINGREQUESTS, numberOfPendingRequests);
+        stringDataLength = getIntOption(cmdLine, CMDLINE_OPTIONNAME_STRINGLENGTH, stringDataLength);
+        receiveMaximum = getIntOption(cmdLine, CMDLINE_OPTIONNAME_RECEIVEMAXIMUM, receiveMaximum);
+        maxIncomingMqttRequests = getIntOption(cmdLine, CMDLINE_OPTIONNAME_MAXINCOMINGREQUESTS, maxIncomingMqttRequests);
+        if (cmdLine.hasOption(CMDLINE_OPTIONNAME_TIMEOUT)) {
+            timeoutMs = Long.parseLong(cmdLine.getOptionValue(CMDLINE_OPTIONNAME_TIMEOUT));
+        }
+
+        if (numberOfConsumers < 1 || numberOfProviders < 1) {
+            throw new ParseException("At least one consumer and one provider runtime are required");
+        }
+    }
+
+    private static int getIntOption(CommandLine cmdLine, String optionName, int defaultValue) {
+        if (cmdLine.hasOption(optionName)) {
+            return Integer.parseInt(cmdLine.getOptionValue(optionName));
+        }
+        return defaultValue;
+    }
+
+    private CommandLine parseCommandLineArgs(String[] args) throws ParseException {
+        Options options = new Options();
+
+        options.addOption(Option.builder("t")
+                                .longOpt(CMDLINE_OPTIONNAME_TESTCASES)
+                                .required(false)
+                                .hasArg()
+                                .argName("testcases")
+                                .type(String.class)
+                                .desc("Comma separated list of test cases: RPC, BROADCAST, ATTRIBUTE_SUBSCRIPTION. "
+                                        + "Default is all test cases")
+                                .build());
+
+        options.addOption(Option.builder("c")
+                                .longOpt(CMDLINE_OPTIONNAME_CONSUMERS)
+                                .required(false)
+                                .hasArg()
+                                .argName("consumers")
+                                .type(Integer.class)
+                                .desc("Number of consumer cluster controllers. Default is " + numberOfConsumers)
+                                .build());
+
+        options.addOption(Option.builder("p")
+                                .longOpt(CMDLINE_OPTIONNAME_PROVIDERS)
+                                .required(false)
+                                .hasArg()
+                                .argName("providers")
+                                .type(Integer.class)
+                                .desc("Number of provider cluster controllers. If greater than 1, the providers are "
+                                        + "clustered with shared subscriptions. Default is " + numberOfProviders)
+                                .build());
+
+        options.addOption(Option.builder("r")
+                                .longOpt(CMDLINE_OPTIONNAME_RUNS)
+                                .required(false)
+                                .hasArg()
+                                .argName("runs")
+                                .type(Integer.class)
+                                .desc("Number of requests, broadcasts or attribute changes per consumer. Default is "
+                                        + numberOfRuns)
+                                .build());
+
+        options.addOption(Option.builder("w")
+                                .longOpt(CMDLINE_OPTIONNAME_WARMUPRUNS)
+                                .required(false)
+                                .hasArg()
+                                .argName("warmupruns")
+                                .type(Integer.class)
+                                .desc("Number of runs before the measurement starts. Default is " + numberOfWarmupRuns)
+                                .build());
+
+        options.addOption(Option.builder("pr")
+                                .longOpt(CMDLINE_OPTIONNAME_PENDINGREQUESTS)
+                                .required(false)
+                                .hasArg()
+                                .argName("pending")
+                                .type(Integer.class)
+                                .desc("Maximum number of pending requests per consumer. Default is "
+                                        + numberOfPendingRequests)
+                                .build());
+
+        options.addOption(Option.builder("s")
+                                .longOpt(CMDLINE_OPTIONNAME_STRINGLENGTH)
+                                .required(false)
+                                .hasArg()
+                                .argName("length")
+                                .type(Integer.class)
+                                .desc("Length of the string sent with each request. Default is " + stringDataLength)
+                                .build());
+
+        options.addOption(Option.builder("rm")
+                                .longOpt(CMDLINE_OPTIONNAME_RECEIVEMAXIMUM)
+                                .required(false)
+                                .hasArg()
+                                .argName("max")
+                                .type(Integer.class)
+                                .desc("MQTT receive maximum of all clients. Default is " + receiveMaximum)
+                                .build());
+
+        options.addOption(Option.builder("mir")
+                                .longOpt(CMDLINE_OPTIONNAME_MAXINCOMINGREQUESTS)
+                                .required(false)
+                                .hasArg()
+                                .argName("max")
+                                .type(Integer.class)
+                                .desc("Maximum number of incoming MQTT requests in process before the provider "
+                                        + "cluster controllers apply backpressure, 0 disables backpressure. Default is "
+                                        + maxIncomingMqttRequests)
+                                .build());
+
+        options.addOption(Option.builder("to")
+                                .longOpt(CMDLINE_OPTIONNAME_TIMEOUT)
+                                .required(false)
+                                .hasArg()
+                                .argName("ms")
+                                .type(Long.class)
+                                .desc("Maximum duration of a single test case in milliseconds. Default is " + timeoutMs)
+                                .build());
+
+        CommandLineParser parser = new DefaultParser();
+
+        try {
+            return parser.parse(options, args);
+        } catch (ParseException exception) {
+            HelpFormatter formatter = new HelpFormatter();
+            formatter.printHelp("BrokerFreeLoadTestApplication", "", options, "", true);
+            throw exception;
+        }
+    }
+
+    public Set<TESTCASE> getTestCases() {
+        return testCases;
+    }
+
+    public int getNumberOfConsumers() {
+        return numberOfConsumers;
+    }
+
+    public int getNumberOfProviders() {
+        return numberOfProviders;
+    }
+
+    public int getNumberOfRuns() {
+        return numberOfRuns;
+    }
+
+    public int getNumberOfWarmupRuns() {
+        return numberOfWarmupRuns;
+    }
+
+    public int getNumberOfPendingRequests() {
+        return numberOfPendingRequests;
+    }
+
+    public int getStringDataLength() {
+        return stringDataLength;
+    }
+
+    public int getReceiveMaximum() {
+        return receiveMaximum;
+    }
+
+    public int getMaxIncomingMqttRequests() {
+        return maxIncomingMqttRequests;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+}
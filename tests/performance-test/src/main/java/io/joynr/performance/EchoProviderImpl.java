@@ -26,6 +26,8 @@ import joynr.tests.performance.Types.ComplexStruct;
 
 public class EchoProviderImpl extends EchoAbstractProvider {
 
+    private volatile String simpleAttribute;
+
     @Override
     public Promise<EchoStringDeferred> echoString(String data) {
         EchoStringDeferred deferred = new EchoStringDeferred();
@@ -49,13 +51,17 @@ public class EchoProviderImpl extends EchoAbstractProvider {
 
     @Override
     public Promise<Deferred<String>> getSimpleAttribute() {
-        // TODO Auto-generated method stub
-        return null;
+        Deferred<String> deferred = new Deferred<>();
+        deferred.resolve(simpleAttribute);
+        return new Promise<Deferred<String>>(deferred);
     }
 
     @Override
     public Promise<DeferredVoid> setSimpleAttribute(String simpleAttribute) {
-        // TODO Auto-generated method stub
-        return null;
+        this.simpleAttribute = simpleAttribute;
+        simpleAttributeChanged(simpleAttribute);
+        DeferredVoid deferred = new DeferredVoid();
+        deferred.resolve();
+        return new Promise<DeferredVoid>(deferred);
     }
 }
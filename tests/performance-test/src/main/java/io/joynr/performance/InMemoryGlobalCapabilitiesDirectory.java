@@ -0,0 +1,158 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.joynr.provider.DeferredVoid;
+import io.joynr.provider.Promise;
+import joynr.exceptions.ProviderRuntimeException;
+import joynr.infrastructure.GlobalCapabilitiesDirectoryAbstractProvider;
+import joynr.types.DiscoveryError;
+import joynr.types.GlobalDiscoveryEntry;
+
+/**
+ * Global capabilities directory without persistence for the {@link BrokerFreeLoadTestApplication}. It keeps one
+ * entry per participantId and ignores the GBIDs because all runtimes are connected to the same in-memory broker.
+ */
+public class InMemoryGlobalCapabilitiesDirectory extends GlobalCapabilitiesDirectoryAbstractProvider {
+
+    private final ConcurrentMap<String, GlobalDiscoveryEntry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public Promise<DeferredVoid> add(GlobalDiscoveryEntry[] globalDiscoveryEntries) {
+        for (GlobalDiscoveryEntry globalDiscoveryEntry : globalDiscoveryEntries) {
+            entries.put(globalDiscoveryEntry.getParticipantId(), globalDiscoveryEntry);
+        }
+        return resolved();
+    }
+
+    @Override
+    public Promise<DeferredVoid> add(GlobalDiscoveryEntry globalDiscoveryEntry) {
+        entries.put(globalDiscoveryEntry.getParticipantId(), globalDiscoveryEntry);
+        return resolved();
+    }
+
+    @Override
+    public Promise<Add1Deferred> add(GlobalDiscoveryEntry globalDiscoveryEntry, String[] gbids) {
+        entries.put(globalDiscoveryEntry.getParticipantId(), globalDiscoveryEntry);
+        Add1Deferred deferred = new Add1Deferred();
+        deferred.resolve();
+        return new Promise<Add1Deferred>(deferred);
+    }
+
+    @Override
+    public Promise<Lookup1Deferred> lookup(String[] domains, String interfaceName) {
+        Lookup1Deferred deferred = new Lookup1Deferred();
+        deferred.resolve(lookupEntries(domains, interfaceName));
+        return new Promise<Lookup1Deferred>(deferred);
+    }
+
+    @Override
+    public Promise<Lookup2Deferred> lookup(String[] domains, String interfaceName, String[] gbids) {
+        Lookup2Deferred deferred = new Lookup2Deferred();
+        deferred.resolve(lookupEntries(domains, interfaceName));
+        return new Promise<Lookup2Deferred>(deferred);
+    }
+
+    @Override
+    public Promise<Lookup3Deferred> lookup(String participantId) {
+        Lookup3Deferred deferred = new Lookup3Deferred();
+        GlobalDiscoveryEntry entry = entries.get(participantId);
+        if (entry == null) {
+            deferred.reject(new ProviderRuntimeException("Error on lookup: "
+                    + DiscoveryError.NO_ENTRY_FOR_PARTICIPANT));
+        } else {
+            deferred.resolve(entry);
+        }
+        return new Promise<Lookup3Deferred>(deferred);
+    }
+
+    @Override
+    public Promise<Lookup4Deferred> lookup(String participantId, String[] gbids) {
+        Lookup4Deferred deferred = new Lookup4Deferred();
+        GlobalDiscoveryEntry entry = entries.get(participantId);
+        if (entry == null) {
+            deferred.reject(DiscoveryError.NO_ENTRY_FOR_PARTICIPANT);
+        } else {
+            deferred.resolve(entry);
+        }
+        return new Promise<Lookup4Deferred>(deferred);
+    }
+
+    @Override
+    public Promise<DeferredVoid> remove(String[] participantIds) {
+        for (String participantId : participantIds) {
+            entries.remove(participantId);
+        }
+        return resolved();
+    }
+
+    @Override
+    public Promise<DeferredVoid> remove(String participantId) {
+        entries.remove(participantId);
+        return resolved();
+    }
+
+    @Override
+    public Promise<Remove1Deferred> remove(String participantId, String[] gbids) {
+        Remove1Deferred deferred = new Remove1Deferred();
+        if (entries.remove(participantId) == null) {
+            deferred.reject(DiscoveryError.NO_ENTRY_FOR_PARTICIPANT);
+        } else {
+            deferred.resolve();
+        }
+        return new Promise<Remove1Deferred>(deferred);
+    }
+
+    @Override
+    public Promise<DeferredVoid> removeStale(String clusterControllerId, Long maxLastSeenDateMs) {
+        // the entries live only as long as the load test, nothing becomes stale
+        return resolved();
+    }
+
+    @Override
+    public Promise<DeferredVoid> touch(String clusterControllerId) {
+        return resolved();
+    }
+
+    @Override
+    public Promise<DeferredVoid> touch(String clusterControllerId, String[] participantIds) {
+        return resolved();
+    }
+
+    private GlobalDiscoveryEntry[] lookupEntries(String[] domains, String interfaceName) {
+        Set<String> domainSet = new HashSet<>(Arrays.asList(domains));
+        return entries.values()
+                      .stream()
+                      .filter(entry -> domainSet.contains(entry.getDomain())
+                              && interfaceName.equals(entry.getInterfaceName()))
+                      .toArray(GlobalDiscoveryEntry[]::new);
+    }
+
+    private Promise<DeferredVoid> resolved() {
+        DeferredVoid deferred = new DeferredVoid();
+        deferred.resolve();
+        return new Promise<DeferredVoid>(deferred);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the latencies of the messages of one test case and prints the throughput together with the latency
+ * percentiles. Failures are counted as completed messages without latency.
+ */
+public class LatencyRecorder {
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final String name;
+    private final int expectedMessages;
+    private final long[] latenciesNs;
+    private final AtomicInteger numberOfLatencies = new AtomicInteger();
+    private final AtomicInteger numberOfFailures = new AtomicInteger();
+    private final Semaphore completedMessages = new Semaphore(0);
+    private volatile long startTimeNs;
+    private long endTimeNs;
+    private boolean completed;
+
+    public LatencyRecorder(String name, int expectedMessages) {
+        this.name = name;
+        this.expectedMessages = expectedMessages;
+        this.latenciesNs = new long[expectedMessages];
+    }
+
+    public void start() {
+        startTimeNs = System.nanoTime();
+    }
+
+    public void recordLatency(long latencyNs) {
+        int index = numberOfLatencies.getAndIncrement();
+        if (index < latenciesNs.length) {
+            latenciesNs[index] = latencyNs;
+        }
+        completedMessages.release();
+    }
+
+    public void recordFailure() {
+        numberOfFailures.incrementAndGet();
+        completedMessages.release();
+    }
+
+    /**
+     * Waits until all expected messages are completed.
+     *
+     * @param timeoutMs maximum time to wait
+     * @return true if all messages have been completed in time
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public boolean awaitCompletion(long timeoutMs) throws InterruptedException {
+        completed = completedMessages.tryAcquire(expectedMessages, timeoutMs, TimeUnit.MILLISECONDS);
+        endTimeNs = System.nanoTime();
+        return completed;
+    }
+
+    public long getStartTimeNs() {
+        return startTimeNs;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public int getNumberOfFailures() {
+        return numberOfFailures.get();
+    }
+
+    public void printResult(PrintStream out) {
+        int recorded = Math.min(numberOfLatencies.get(), latenciesNs.length);
+        long[] sortedLatenciesNs = Arrays.copyOf(latenciesNs, recorded);
+        Arrays.sort(sortedLatenciesNs);
+        double durationMs = (endTimeNs - startTimeNs) / 1e6;
+
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("%s: %d of %d messages in %.0f ms, %.2f Msgs/s, %d failures%n",
+                                    name,
+                                    recorded,
+                                    expectedMessages,
+                                    durationMs,
+                                    recorded / (durationMs / 1000.0d),
+                                    numberOfFailures.get()));
+        if (recorded > 0) {
+            result.append("  latency ms:");
+            for (double percentile : PERCENTILES) {
+                result.append(String.format(" p%s=%.3f",
+                                            formatPercentile(percentile),
+                                            getPercentile(sortedLatenciesNs, percentile) / 1e6));
+            }
+            result.append(String.format(" max=%.3f%n", sortedLatenciesNs[recorded - 1] / 1e6));
+        }
+        out.print(result);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static long getPercentile(long[] sortedValues, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0d * sortedValues.length) - 1;
+        return sortedValues[Math.max(0, Math.min(index, sortedValues.length - 1))];
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.messaging.mqtt.inmemory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+
+public class InMemoryMqttBrokerTest {
+    private static final long RECEIVE_TIMEOUT_MS = 1000;
+    private static final long NOT_RECEIVED_TIMEOUT_MS = 200;
+
+    private InMemoryMqttBroker broker;
+    private List<InMemoryMqttClient> clients;
+
+    @Before
+    public void setUp() {
+        broker = new InMemoryMqttBroker();
+        clients = new ArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        for (InMemoryMqttClient client : clients) {
+            client.shutdown();
+        }
+    }
+
+    private InMemoryMqttClient createClient(String clientId,
+                                            int receiveMaximum,
+                                            BlockingQueue<Mqtt5Publish> receivedPublications) {
+        InMemoryMqttClient client = new InMemoryMqttClient(broker,
+                                                           clientId,
+                                                           false,
+                                                           receiveMaximum,
+                                                           0,
+                                                           true,
+                                                           true,
+                                                           false,
+                                                           "gbid");
+        client.setMessageListener((publish, prefixedCustomHeaders, failureAction) -> receivedPublications.add(publish));
+        client.start();
+        client.connect();
+        clients.add(client);
+        return client;
+    }
+
+    private void publish(String topic, MqttQos qos, String payload) {
+        broker.publish(Mqtt5Publish.builder()
+                                   .topic(topic)
+                                   .qos(qos)
+                                   .payload(payload.getBytes(StandardCharsets.UTF_8))
+                                   .build());
+    }
+
+    private static String getPayload(Mqtt5Publish publish) {
+        return new String(publish.getPayloadAsBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void matchesTopicWithoutWildcards() {
+        assertTrue(InMemoryMqttBroker.matches("a/b/c", "a/b/c"));
+        assertFalse(InMemoryMqttBroker.matches("a/b/c", "a/b"));
+        assertFalse(InMemoryMqttBroker.matches("a/b", "a/b/c"));
+        assertFalse(InMemoryMqttBroker.matches("a/b/c", "a/b/d"));
+    }
+
+    @Test
+    public void matchesSingleLevelWildcard() {
+        assertTrue(InMemoryMqttBroker.matches("a/+/c", "a/b/c"));
+        assertTrue(InMemoryMqttBroker.matches("a/+", "a/b"));
+        assertTrue(InMemoryMqttBroker.matches("a/+", "a/"));
+        assertTrue(InMemoryMqttBroker.matches("+/+", "a/b"));
+        assertFalse(InMemoryMqttBroker.matches("a/+/c", "a/b/x/c"));
+        assertFalse(InMemoryMqttBroker.matches("a/+/c", "a/c"));
+        assertFalse(InMemoryMqttBroker.matches("a/+", "a/b/c"));
+        assertFalse(InMemoryMqttBroker.matches("a/+", "a"));
+    }
+
+    @Test
+    public void matchesMultiLevelWildcard() {
+        assertTrue(InMemoryMqttBroker.matches("#", "a"));
+        assertTrue(InMemoryMqttBroker.matches("#", "a/b/c"));
+        assertTrue(InMemoryMqttBroker.matches("a/#", "a/b"));
+        assertTrue(InMemoryMqttBroker.matches("a/#", "a/b/c"));
+        assertTrue(InMemoryMqttBroker.matches("a/#", "a"));
+        assertTrue(InMemoryMqttBroker.matches("a/+/#", "a/b/c/d"));
+        assertFalse(InMemoryMqttBroker.matches("a/#", "b/a"));
+        assertFalse(InMemoryMqttBroker.matches("a/b/#", "a"));
+    }
+
+    @Test
+    public void publicationIsDeliveredOnceToClientWithSeveralMatchingSubscriptions() throws Exception {
+        BlockingQueue<Mqtt5Publish> received = new LinkedBlockingQueue<>();
+        InMemoryMqttClient client = createClient("client", 10, received);
+        client.subscribe("a/#");
+        client.subscribe("a/+");
+
+        publish("a/b", MqttQos.AT_LEAST_ONCE, "1");
+
+        assertNotNull(received.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertNull(received.poll(NOT_RECEIVED_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void sharedSubscriptionDistributesPublicationsRoundRobin() throws Exception {
+        BlockingQueue<Mqtt5Publish> received1 = new LinkedBlockingQueue<>();
+        BlockingQueue<Mqtt5Publish> received2 = new LinkedBlockingQueue<>();
+        BlockingQueue<Mqtt5Publish> receivedNonShared = new LinkedBlockingQueue<>();
+        createClient("member1", 10, received1).subscribe("$share/group/a/+");
+        createClient("member2", 10, received2).subscribe("$share/group/a/+");
+        createClient("nonShared", 10, receivedNonShared).subscribe("a/+");
+
+        for (int i = 0; i < 4; i++) {
+            publish("a/b", MqttQos.AT_LEAST_ONCE, String.valueOf(i));
+        }
+
+        for (int i = 0; i < 2; i++) {
+            assertNotNull(received1.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            assertNotNull(received2.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        }
+        for (int i = 0; i < 4; i++) {
+            assertEquals(String.valueOf(i),
+                         getPayload(receivedNonShared.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS)));
+        }
+        assertNull(received1.poll(NOT_RECEIVED_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertNull(received2.poll(NOT_RECEIVED_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void sharedSubscriptionSkipsDisconnectedMembers() throws Exception {
+        BlockingQueue<Mqtt5Publish> received1 = new LinkedBlockingQueue<>();
+        BlockingQueue<Mqtt5Publish> received2 = new LinkedBlockingQueue<>();
+        createClient("member1", 10, received1).subscribe("$share/group/a/#");
+        InMemoryMqttClient member2 = createClient("member2", 10, received2);
+        member2.subscribe("$share/group/a/#");
+        member2.disconnect();
+
+        publish("a/b", MqttQos.AT_LEAST_ONCE, "1");
+        publish("a/b", MqttQos.AT_LEAST_ONCE, "2");
+
+        assertNotNull(received1.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertNotNull(received1.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(0, member2.getQueuedPublications());
+        assertTrue(received2.isEmpty());
+    }
+
+    @Test
+    public void atMostOncePublicationsAreDroppedForDisconnectedClients() throws Exception {
+        BlockingQueue<Mqtt5Publish> received = new LinkedBlockingQueue<>();
+        InMemoryMqttClient client = createClient("client", 10, received);
+        client.subscribe("a");
+        client.disconnect();
+
+        publish("a", MqttQos.AT_MOST_ONCE, "dropped");
+        publish("a", MqttQos.AT_LEAST_ONCE, "queued");
+        client.connect();
+
+        assertEquals("queued", getPayload(received.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS)));
+        assertEquals(1, broker.getDroppedPublications());
+    }
+
+    @Test
+    public void publicationsExceedingReceiveMaximumAreDeliveredAfterAcknowledgement() throws Exception {
+        BlockingQueue<Mqtt5Publish> received = new LinkedBlockingQueue<>();
+        createClient("client", 2, received).subscribe("a");
+
+        publish("a", MqttQos.AT_LEAST_ONCE, "1");
+        publish("a", MqttQos.AT_LEAST_ONCE, "2");
+        publish("a", MqttQos.AT_LEAST_ONCE, "3");
+
+        Mqtt5Publish first = received.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        Mqtt5Publish second = received.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertEquals("1", getPayload(first));
+        assertEquals("2", getPayload(second));
+        // receive maximum reached: the third publication is held back until one is acknowledged
+        assertNull(received.poll(NOT_RECEIVED_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+        second.acknowledge();
+        assertEquals("3", getPayload(received.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS)));
+    }
+
+    @Test
+    public void atMostOncePublicationsAreNotLimitedByReceiveMaximum() throws Exception {
+        BlockingQueue<Mqtt5Publish> received = new LinkedBlockingQueue<>();
+        createClient("client", 1, received).subscribe("a");
+
+        publish("a", MqttQos.AT_LEAST_ONCE, "1");
+        publish("a", MqttQos.AT_MOST_ONCE, "2");
+        publish("a", MqttQos.AT_LEAST_ONCE, "3");
+
+        assertEquals("1", getPayload(received.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS)));
+        // QoS 0 publications are not acknowledged and do not count towards the receive maximum
+        assertEquals("2", getPayload(received.poll(RECEIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS)));
+        assertNull(received.poll(NOT_RECEIVED_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import io.joynr.capabilities.DiscoveryEntryStore;
+import io.joynr.capabilities.DiscoveryEntryStoreConcurrent;
+import io.joynr.capabilities.DiscoveryEntryStoreInMemory;
+import joynr.types.DiscoveryEntry;
+import joynr.types.ProviderQos;
+import joynr.types.ProviderScope;
+import joynr.types.Version;
+
+/**
+ * Compares the DiscoveryEntryStore implementations with 100k entries: single threaded add and
+ * lookup as well as lookups running concurrently to full store touches (periodic freshness update).
+ */
+@RunWith(Parameterized.class)
+public class DiscoveryEntryStorePerformanceTest {
+
+    private final static int NUM_ENTRIES = 100000;
+    private final static int NUM_INTERFACES = 1000;
+    private final static int NUM_LOOKUP_THREADS = 4;
+    private final static int NUM_LOOKUPS_PER_THREAD = 10000;
+
+    private final String storeName;
+    private final Supplier<DiscoveryEntryStore<DiscoveryEntry>> storeFactory;
+
+    public DiscoveryEntryStorePerformanceTest(String storeName,
+                                              Supplier<DiscoveryEntryStore<DiscoveryEntry>> storeFactory) {
+        this.storeName = storeName;
+        this.storeFactory = storeFactory;
+    }
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        Supplier<DiscoveryEntryStore<DiscoveryEntry>> inMemory = () -> new DiscoveryEntryStoreInMemory<DiscoveryEntry>(0);
+        Supplier<DiscoveryEntryStore<DiscoveryEntry>> concurrent = () -> new DiscoveryEntryStoreConcurrent<DiscoveryEntry>(0);
+        return Arrays.asList(new Object[][]{ { "DiscoveryEntryStoreInMemory", inMemory },
+                { "DiscoveryEntryStoreConcurrent", concurrent } });
+    }
+
+    private static DiscoveryEntry createEntry(int index) {
+        ProviderQos providerQos = new ProviderQos();
+        providerQos.setScope(ProviderScope.GLOBAL);
+        long now = System.currentTimeMillis();
+        return new DiscoveryEntry(new Version(1, 0),
+                                  "domain" + (index % 10),
+                                  "interface" + (index % NUM_INTERFACES),
+                                  "participantId" + index,
+                                  providerQos,
+                                  now,
+                                  now + 60000,
+                                  "publicKeyId");
+    }
+
+    private DiscoveryEntryStore<DiscoveryEntry> createFilledStore() {
+        DiscoveryEntryStore<DiscoveryEntry> store = storeFactory.get();
+        for (int i = 0; i < NUM_ENTRIES; i++) {
+            store.add(createEntry(i));
+        }
+        return store;
+    }
+
+    @Test
+    public void addAndLookup() {
+        long start = System.nanoTime();
+        DiscoveryEntryStore<DiscoveryEntry> store = createFilledStore();
+        long afterAdd = System.nanoTime();
+        for (int i = 0; i < NUM_ENTRIES; i++) {
+            store.lookup(new String[]{ "domain" + (i % 10) }, "interface" + (i % NUM_INTERFACES));
+        }
+        long afterLookup = System.nanoTime();
+
+        System.out.println(String.format("%s: add %d entries %.3f ms, %d lookups %.3f ms",
+                                         storeName,
+                                         NUM_ENTRIES,
+                                         (afterAdd - start) / 1000000.0,
+                                         NUM_ENTRIES,
+                                         (afterLookup - afterAdd) / 1000000.0));
+    }
+
+    @Test
+    public void lookupDuringTouch() throws Exception {
+        final DiscoveryEntryStore<DiscoveryEntry> store = createFilledStore();
+        final AtomicBoolean lookupsDone = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_LOOKUP_THREADS + 1);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> lookupFutures = new ArrayList<>();
+        for (int t = 0; t < NUM_LOOKUP_THREADS; t++) {
+            final int threadIndex = t;
+            lookupFutures.add(executor.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < NUM_LOOKUPS_PER_THREAD; i++) {
+                    int index = i + threadIndex;
+                    store.lookup(new String[]{ "domain" + (index % 10) }, "interface" + (index % NUM_INTERFACES));
+                }
+                return null;
+            }));
+        }
+        Future<Integer> touchFuture = executor.submit(() -> {
+            startLatch.await();
+            int touches = 0;
+            while (!lookupsDone.get()) {
+                long now = System.currentTimeMillis();
+                store.touchDiscoveryEntries(now, now + 60000);
+                touches++;
+            }
+            return touches;
+        });
+
+        long start = System.nanoTime();
+        startLatch.countDown();
+        for (Future<?> future : lookupFutures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long end = System.nanoTime();
+        lookupsDone.set(true);
+        int touches = touchFuture.get(1, TimeUnit.MINUTES);
+        executor.shutdown();
+
+        double deltaMs = (end - start) / 1000000.0;
+        System.out.println(String.format("%s: %d threads x %d lookups during %d full touches: total %.3f ms, %.0f lookups/s",
+                                         storeName,
+                                         NUM_LOOKUP_THREADS,
+                                         NUM_LOOKUPS_PER_THREAD,
+                                         touches,
+                                         deltaMs,
+                                         NUM_LOOKUP_THREADS * NUM_LOOKUPS_PER_THREAD / (deltaMs / 1000.0)));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import io.joynr.util.JoynrUtil;
+
+/**
+ * Compares the rate at which several threads create random UUID strings, as previously used for every message ID
+ * and request reply ID, with the rate of the unique IDs which are used for them now.
+ */
+public class UniqueIdGenerationPerformanceTest {
+
+    private final static int NUM_THREADS = 8;
+    private final static int NUM_WARMUP_IDS_PER_THREAD = 100000;
+    private final static int NUM_IDS_PER_THREAD = 500000;
+
+    private long createIds(Supplier<String> idSupplier, int idsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < NUM_THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int length = 0;
+                for (int i = 0; i < idsPerThread; i++) {
+                    length += idSupplier.get().length();
+                }
+                return length;
+            }));
+        }
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Future<Integer> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long durationNs = System.nanoTime() - startTime;
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        return durationNs;
+    }
+
+    private void runBenchmark(String name, Supplier<String> idSupplier) throws Exception {
+        createIds(idSupplier, NUM_WARMUP_IDS_PER_THREAD);
+        long durationNs = createIds(idSupplier, NUM_IDS_PER_THREAD);
+        long numIds = (long) NUM_THREADS * NUM_IDS_PER_THREAD;
+        System.out.printf("%s with %d threads: %d IDs in %d ms, %.0f IDs/s%n",
+                          name,
+                          NUM_THREADS,
+                          numIds,
+                          TimeUnit.NANOSECONDS.toMillis(durationNs),
+                          numIds * 1e9 / durationNs);
+    }
+
+    @Test
+    public void createUuidString() throws Exception {
+        runBenchmark("JoynrUtil.createUuidString", JoynrUtil::createUuidString);
+    }
+
+    @Test
+    public void createUniqueId() throws Exception {
+        runBenchmark("JoynrUtil.createUniqueId", JoynrUtil::createUniqueId);
+    }
+}
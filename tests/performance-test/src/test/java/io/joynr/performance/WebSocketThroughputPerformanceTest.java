@@ -0,0 +1,203 @@
+/*
+ * #%L
+ * %%
+ * Copyright (C) 2024 BMW Car IT GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package io.joynr.performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.joynr.exceptions.JoynrDelayMessageException;
+import io.joynr.messaging.FailureAction;
+import io.joynr.messaging.websocket.IWebSocketMessagingSkeleton;
+import io.joynr.messaging.websocket.jetty.client.WebSocketJettyClient;
+import io.joynr.messaging.websocket.server.WebSocketJettyServer;
+import io.joynr.util.ObjectMapper;
+import joynr.system.RoutingTypes.WebSocketAddress;
+import joynr.system.RoutingTypes.WebSocketClientAddress;
+import joynr.system.RoutingTypes.WebSocketProtocol;
+
+/**
+ * Measures the throughput of a WebSocketJettyServer sending messages to many connected
+ * WebSocketJettyClients from several threads at once, as a cluster controller does when
+ * delivering messages to its local libjoynr runtimes.
+ */
+public class WebSocketThroughputPerformanceTest {
+
+    private final static int NUM_CLIENTS = 40;
+    private final static int NUM_SENDER_THREADS = 8;
+    private final static int NUM_MESSAGES_PER_CLIENT = 2500;
+    private final static int MESSAGE_SIZE = 256;
+    private final static int MAX_MESSAGE_SIZE = 4000000;
+    private final static long IDLE_TIMEOUT_MS = 60000;
+    private final static long RECONNECT_DELAY_MS = 100;
+    private final static int MAX_OUTSTANDING_WRITES = 64;
+    private final static int MAX_QUEUED_WRITES = 1000;
+    private final static int MAX_IN_FLIGHT_MESSAGES_PER_CLIENT = 512;
+
+    private WebSocketJettyServer server;
+    private final List<WebSocketJettyClient> clients = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (WebSocketJettyClient client : clients) {
+            client.shutdown();
+        }
+        if (server != null) {
+            server.shutdown();
+        }
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Test
+    public void sendToManyClientsConcurrently() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        WebSocketAddress serverAddress = new WebSocketAddress(WebSocketProtocol.WS,
+                                                              "localhost",
+                                                              findFreePort(),
+                                                              "/throughput");
+        server = new WebSocketJettyServer(serverAddress,
+                                          objectMapper,
+                                          MAX_MESSAGE_SIZE,
+                                          IDLE_TIMEOUT_MS,
+                                          MAX_OUTSTANDING_WRITES,
+                                          MAX_QUEUED_WRITES);
+        server.setMessageListener(new NoOpSkeleton());
+        server.start();
+
+        final int totalMessages = NUM_CLIENTS * NUM_MESSAGES_PER_CLIENT;
+        final CountDownLatch received = new CountDownLatch(totalMessages + NUM_CLIENTS);
+        final List<WebSocketClientAddress> clientAddresses = new ArrayList<>();
+        for (int i = 0; i < NUM_CLIENTS; i++) {
+            WebSocketClientAddress clientAddress = new WebSocketClientAddress("client-" + i);
+            WebSocketJettyClient client = new WebSocketJettyClient(serverAddress,
+                                                                   clientAddress,
+                                                                   MAX_MESSAGE_SIZE,
+                                                                   RECONNECT_DELAY_MS,
+                                                                   IDLE_TIMEOUT_MS,
+                                                                   MAX_OUTSTANDING_WRITES,
+                                                                   MAX_QUEUED_WRITES,
+                                                                   objectMapper);
+            client.setMessageListener(new NoOpSkeleton() {
+                @Override
+                public void transmit(byte[] serializedMessage, FailureAction failureAction) {
+                    received.countDown();
+                }
+            });
+            client.start();
+            clients.add(client);
+            clientAddresses.add(clientAddress);
+        }
+
+        // the server knows a client as soon as it has processed its initialization message
+        final byte[] message = new byte[MESSAGE_SIZE];
+        for (WebSocketClientAddress clientAddress : clientAddresses) {
+            boolean registered = false;
+            while (!registered) {
+                try {
+                    server.writeBytes(clientAddress, message, 10, TimeUnit.SECONDS, () -> {
+                    }, error -> {
+                    });
+                    registered = true;
+                } catch (JoynrDelayMessageException e) {
+                    Thread.sleep(10);
+                }
+            }
+        }
+
+        final AtomicInteger failures = new AtomicInteger();
+        final List<Semaphore> inFlightPermits = new ArrayList<>();
+        for (int i = 0; i < NUM_CLIENTS; i++) {
+            inFlightPermits.add(new Semaphore(MAX_IN_FLIGHT_MESSAGES_PER_CLIENT));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_SENDER_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < NUM_SENDER_THREADS; t++) {
+            final int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = threadIndex; i < totalMessages; i += NUM_SENDER_THREADS) {
+                    final int clientIndex = i % NUM_CLIENTS;
+                    final Semaphore permits = inFlightPermits.get(clientIndex);
+                    permits.acquire();
+                    server.writeBytes(clientAddresses.get(clientIndex),
+                                      message,
+                                      10,
+                                      TimeUnit.SECONDS,
+                                      permits::release,
+                                      error -> {
+                                          failures.incrementAndGet();
+                                          permits.release();
+                                      });
+                }
+                return null;
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        assertTrue(received.await(120, TimeUnit.SECONDS));
+        long durationNs = System.nanoTime() - startTime;
+        executor.shutdown();
+
+        assertEquals(0, failures.get());
+        System.out.printf("WebSocket throughput with %d clients and %d sender threads: %d messages in %d ms, %.0f msgs/s%n",
+                          NUM_CLIENTS,
+                          NUM_SENDER_THREADS,
+                          totalMessages,
+                          TimeUnit.NANOSECONDS.toMillis(durationNs),
+                          totalMessages / (durationNs / 1e9));
+    }
+
+    private static class NoOpSkeleton implements IWebSocketMessagingSkeleton {
+        @Override
+        public void transmit(byte[] serializedMessage, FailureAction failureAction) {
+        }
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package io.joynr.generator.cpp.communicationmodel;
+
+import com.google.common.base.Objects;
+import com.google.inject.Inject;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.CppTemplateFactory;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import java.io.File;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FMapType;
+import org.franca.core.franca.FModel;
+import org.franca.core.franca.FTypeDef;
+
+@SuppressWarnings("all")
+public class CommunicationModelGenerator {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  private TypeDefHTemplate typeDefH;
+
+  @Inject
+  private CppTemplateFactory templateFactory;
+
+  public void doGenerate(final FModel fModel, final IFileSystemAccess sourceFileSystem, final IFileSystemAccess headerFileSystem, final String sourceContainerPath, final String headerContainerPath, final boolean generateVersioning) {
+    final String dataTypePath = ((sourceContainerPath + "datatypes") + File.separator);
+    String _xifexpression = null;
+    boolean _equals = Objects.equal(sourceFileSystem, headerFileSystem);
+    if (_equals) {
+      _xifexpression = ((headerContainerPath + "datatypes") + File.separator);
+    } else {
+      _xifexpression = headerContainerPath;
+    }
+    final String headerDataTypePath = _xifexpression;
+    Iterable<FCompoundType> _compoundDataTypes = this._joynrCppGeneratorExtensions.getCompoundDataTypes(fModel);
+    for (final FCompoundType type : _compoundDataTypes) {
+      {
+        String _packageSourceDirectory = this._joynrCppGeneratorExtensions.getPackageSourceDirectory(type, generateVersioning);
+        String _plus = (dataTypePath + _packageSourceDirectory);
+        String sourcepath = (_plus + File.separator);
+        String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(type, File.separator, generateVersioning);
+        String _plus_1 = (headerDataTypePath + _packagePathWithJoynrPrefix);
+        String headerpath = (_plus_1 + File.separator);
+        boolean _isPartOfNamedTypeCollection = this._cppStdTypeUtil.isPartOfNamedTypeCollection(type);
+        if (_isPartOfNamedTypeCollection) {
+          String _headerpath = headerpath;
+          String _typeCollectionName = this._cppStdTypeUtil.getTypeCollectionName(type);
+          String _plus_2 = (_typeCollectionName + File.separator);
+          headerpath = (_headerpath + _plus_2);
+          String _sourcepath = sourcepath;
+          String _typeCollectionName_1 = this._cppStdTypeUtil.getTypeCollectionName(type);
+          String _plus_3 = (_typeCollectionName_1 + File.separator);
+          sourcepath = (_sourcepath + _plus_3);
+        }
+        TypeHTemplate typeHTemplate = this.templateFactory.createTypeHTemplate(type);
+        String _generationTypeName = this._cppStdTypeUtil.getGenerationTypeName(type);
+        String _plus_4 = (headerpath + _generationTypeName);
+        String _plus_5 = (_plus_4 + ".h");
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, _plus_5, typeHTemplate, generateVersioning);
+        TypeCppTemplate typeCppTemplate = this.templateFactory.createTypeCppTemplate(type);
+        String _generationTypeName_1 = this._cppStdTypeUtil.getGenerationTypeName(type);
+        String _plus_6 = (sourcepath + _generationTypeName_1);
+        String _plus_7 = (_plus_6 + ".cpp");
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, _plus_7, typeCppTemplate, generateVersioning);
+      }
+    }
+    Iterable<FEnumerationType> _enumDataTypes = this._joynrCppGeneratorExtensions.getEnumDataTypes(fModel);
+    for (final FEnumerationType type_1 : _enumDataTypes) {
+      {
+        String _packageSourceDirectory = this._joynrCppGeneratorExtensions.getPackageSourceDirectory(type_1, generateVersioning);
+        String _plus = (dataTypePath + _packageSourceDirectory);
+        String sourcepath = (_plus + File.separator);
+        String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(type_1, File.separator, generateVersioning);
+        String _plus_1 = (headerDataTypePath + _packagePathWithJoynrPrefix);
+        String headerpath = (_plus_1 + File.separator);
+        boolean _isPartOfNamedTypeCollection = this._cppStdTypeUtil.isPartOfNamedTypeCollection(type_1);
+        if (_isPartOfNamedTypeCollection) {
+          String _headerpath = headerpath;
+          String _typeCollectionName = this._cppStdTypeUtil.getTypeCollectionName(type_1);
+          String _plus_2 = (_typeCollectionName + File.separator);
+          headerpath = (_headerpath + _plus_2);
+          String _sourcepath = sourcepath;
+          String _typeCollectionName_1 = this._cppStdTypeUtil.getTypeCollectionName(type_1);
+          String _plus_3 = (_typeCollectionName_1 + File.separator);
+          sourcepath = (_sourcepath + _plus_3);
+        }
+        String _generationTypeName = this._cppStdTypeUtil.getGenerationTypeName(type_1);
+        String _plus_4 = (headerpath + _generationTypeName);
+        String _generationTypeName_1 = this._cppStdTypeUtil.getGenerationTypeName(type_1);
+        String _plus_5 = (sourcepath + _generationTypeName_1);
+        this.generateEnum(headerFileSystem, sourceFileSystem, type_1, _plus_4, _plus_5, generateVersioning);
+      }
+    }
+    Iterable<FMapType> _mapDataTypes = this._joynrCppGeneratorExtensions.getMapDataTypes(fModel);
+    for (final FMapType type_2 : _mapDataTypes) {
+      {
+        String _packageSourceDirectory = this._joynrCppGeneratorExtensions.getPackageSourceDirectory(type_2, generateVersioning);
+        String _plus = (dataTypePath + _packageSourceDirectory);
+        String sourcepath = (_plus + File.separator);
+        String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(type_2, File.separator, generateVersioning);
+        String _plus_1 = (headerDataTypePath + _packagePathWithJoynrPrefix);
+        String headerpath = (_plus_1 + File.separator);
+        boolean _isPartOfNamedTypeCollection = this._cppStdTypeUtil.isPartOfNamedTypeCollection(type_2);
+        if (_isPartOfNamedTypeCollection) {
+          String _headerpath = headerpath;
+          String _typeCollectionName = this._cppStdTypeUtil.getTypeCollectionName(type_2);
+          String _plus_2 = (_typeCollectionName + File.separator);
+          headerpath = (_headerpath + _plus_2);
+          String _sourcepath = sourcepath;
+          String _typeCollectionName_1 = this._cppStdTypeUtil.getTypeCollectionName(type_2);
+          String _plus_3 = (_typeCollectionName_1 + File.separator);
+          sourcepath = (_sourcepath + _plus_3);
+        }
+        String _generationTypeName = this._cppStdTypeUtil.getGenerationTypeName(type_2);
+        final String headerFilename = (headerpath + _generationTypeName);
+        String _generationTypeName_1 = this._cppStdTypeUtil.getGenerationTypeName(type_2);
+        final String sourceFilename = (sourcepath + _generationTypeName_1);
+        MapHTemplate mapHTemplate = this.templateFactory.createMapHTemplate(type_2);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          (headerFilename + ".h"), mapHTemplate, generateVersioning);
+        MapCppTemplate mapCppTemplate = this.templateFactory.createMapCppTemplate(type_2);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          (sourceFilename + ".cpp"), mapCppTemplate, generateVersioning);
+      }
+    }
+    Iterable<FTypeDef> _typeDefDataTypes = this._joynrCppGeneratorExtensions.getTypeDefDataTypes(fModel);
+    for (final FTypeDef type_3 : _typeDefDataTypes) {
+      {
+        String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(type_3, File.separator, generateVersioning);
+        String _plus = (headerDataTypePath + _packagePathWithJoynrPrefix);
+        String headerpath = (_plus + File.separator);
+        boolean _isPartOfNamedTypeCollection = this._cppStdTypeUtil.isPartOfNamedTypeCollection(type_3);
+        if (_isPartOfNamedTypeCollection) {
+          String _headerpath = headerpath;
+          String _typeCollectionName = this._cppStdTypeUtil.getTypeCollectionName(type_3);
+          String _plus_1 = (_typeCollectionName + File.separator);
+          headerpath = (_headerpath + _plus_1);
+        }
+        String _generationTypeName = this._cppStdTypeUtil.getGenerationTypeName(type_3);
+        final String headerFilename = (headerpath + _generationTypeName);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          (headerFilename + ".h"), 
+          this.typeDefH, type_3, generateVersioning);
+      }
+    }
+  }
+
+  public void generateEnum(final IFileSystemAccess headerFileSystem, final IFileSystemAccess sourceFileSystem, final FEnumerationType enumType, final String headerFilename, final String sourceFilename, final boolean generateVersioning) {
+    EnumHTemplate enumHTemplate = this.templateFactory.createEnumHTemplate(enumType);
+    this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+      (headerFilename + ".h"), enumHTemplate, generateVersioning);
+    EnumCppTemplate enumCppTemplate = this.templateFactory.createEnumCppTemplate(enumType);
+    this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+      (sourceFilename + ".cpp"), enumCppTemplate, generateVersioning);
+  }
+}
@@ -0,0 +1,506 @@
+package io.joynr.generator.cpp.communicationmodel;
+
+import com.google.inject.Inject;
+import com.google.inject.assistedinject.Assisted;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.CompoundTypeTemplate;
+import io.joynr.generator.templates.util.NamingUtil;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FField;
+import org.franca.core.franca.FTypeRef;
+
+@SuppressWarnings("all")
+public class TypeCppTemplate extends CompoundTypeTemplate {
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  public TypeCppTemplate(@Assisted final FCompoundType type) {
+    super(type);
+  }
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String typeName = this._namingUtil.joynrName(this.type);
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#include <sstream>");
+    _builder.newLine();
+    _builder.append("#include <string>");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      if ((this._cppStdTypeUtil.hasExtendsDeclaration(this.type) || (this._cppStdTypeUtil.getMembers(this.type).size() > 0))) {
+        _builder.append("#include <boost/functional/hash.hpp>");
+        _builder.newLine();
+      }
+    }
+    _builder.append("#include \"joynr/HashUtil.h\"");
+    _builder.newLine();
+    _builder.append("#include ");
+    String _includeOf = this._cppStdTypeUtil.getIncludeOf(this.type, generateVersion);
+    _builder.append(_includeOf);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(this.type, true, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("const std::int32_t ");
+    _builder.append(typeName);
+    _builder.append("::MAJOR_VERSION = ");
+    _builder.append(this.majorVersion);
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.append("const std::int32_t ");
+    _builder.append(typeName);
+    _builder.append("::MINOR_VERSION = ");
+    _builder.append(this.minorVersion);
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append(typeName);
+    _builder.append("::");
+    _builder.append(typeName);
+    _builder.append("()");
+    {
+      if (((!IterableExtensions.isEmpty(this._cppStdTypeUtil.getMembersRecursive(this.type))) || this._cppStdTypeUtil.hasExtendsDeclaration(this.type))) {
+        _builder.append(":");
+      }
+    }
+    _builder.newLineIfNotEmpty();
+    {
+      boolean _hasExtendsDeclaration = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+      if (_hasExtendsDeclaration) {
+        _builder.append("\t");
+        String _typeName = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getExtendedType(this.type), generateVersion);
+        _builder.append(_typeName, "\t");
+        _builder.append("()");
+        {
+          boolean _isEmpty = this._cppStdTypeUtil.getMembers(this.type).isEmpty();
+          boolean _not = (!_isEmpty);
+          if (_not) {
+            _builder.append(",");
+          }
+        }
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    {
+      EList<FField> _members = this._cppStdTypeUtil.getMembers(this.type);
+      boolean _hasElements = false;
+      for(final FField member : _members) {
+        if (!_hasElements) {
+          _hasElements = true;
+        } else {
+          _builder.appendImmediate(",", "\t");
+        }
+        _builder.append("\t");
+        String _joynrName = this._namingUtil.joynrName(member);
+        _builder.append(_joynrName, "\t");
+        _builder.append("(");
+        String _defaultValue = this._cppStdTypeUtil.getDefaultValue(member, generateVersion);
+        _builder.append(_defaultValue, "\t");
+        _builder.append(")");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      boolean _isEmpty_1 = IterableExtensions.isEmpty(this._cppStdTypeUtil.getMembersRecursive(this.type));
+      boolean _not_1 = (!_isEmpty_1);
+      if (_not_1) {
+        _builder.append(typeName);
+        _builder.append("::");
+        _builder.append(typeName);
+        _builder.append("(");
+        _builder.newLineIfNotEmpty();
+        {
+          Iterable<FField> _membersRecursive = this._cppStdTypeUtil.getMembersRecursive(this.type);
+          boolean _hasElements_1 = false;
+          for(final FField member_1 : _membersRecursive) {
+            if (!_hasElements_1) {
+              _hasElements_1 = true;
+            } else {
+              _builder.appendImmediate(",", "\t\t");
+            }
+            _builder.append("\t\t");
+            _builder.append("const ");
+            String _typeName_1 = this._cppStdTypeUtil.getTypeName(member_1, generateVersion);
+            _builder.append(_typeName_1, "\t\t");
+            _builder.append("& _");
+            String _joynrName_1 = this._namingUtil.joynrName(member_1);
+            _builder.append(_joynrName_1, "\t\t");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        _builder.append("\t");
+        _builder.append("):");
+        _builder.newLine();
+        {
+          boolean _hasExtendsDeclaration_1 = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+          if (_hasExtendsDeclaration_1) {
+            _builder.append("\t\t");
+            final FCompoundType extendedType = this._cppStdTypeUtil.getExtendedType(this.type);
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            String _typeName_2 = this._cppStdTypeUtil.getTypeName(extendedType, generateVersion);
+            _builder.append(_typeName_2, "\t\t");
+            _builder.append("(");
+            _builder.newLineIfNotEmpty();
+            {
+              Iterable<FField> _membersRecursive_1 = this._cppStdTypeUtil.getMembersRecursive(extendedType);
+              boolean _hasElements_2 = false;
+              for(final FField member_2 : _membersRecursive_1) {
+                if (!_hasElements_2) {
+                  _hasElements_2 = true;
+                } else {
+                  _builder.appendImmediate(",", "\t\t");
+                }
+                _builder.append("\t\t");
+                _builder.append("_");
+                String _joynrName_2 = this._namingUtil.joynrName(member_2);
+                _builder.append(_joynrName_2, "\t\t");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+            _builder.append("\t\t");
+            _builder.append(")");
+            _builder.newLine();
+            {
+              boolean _isEmpty_2 = this._cppStdTypeUtil.getMembers(this.type).isEmpty();
+              boolean _not_2 = (!_isEmpty_2);
+              if (_not_2) {
+                _builder.append("\t\t");
+                _builder.append(",");
+                _builder.newLine();
+              }
+            }
+          }
+        }
+        {
+          EList<FField> _members_1 = this._cppStdTypeUtil.getMembers(this.type);
+          boolean _hasElements_3 = false;
+          for(final FField member_3 : _members_1) {
+            if (!_hasElements_3) {
+              _hasElements_3 = true;
+            } else {
+              _builder.appendImmediate(",", "\t\t");
+            }
+            _builder.append("\t\t");
+            String _joynrName_3 = this._namingUtil.joynrName(member_3);
+            _builder.append(_joynrName_3, "\t\t");
+            _builder.append("(_");
+            String _joynrName_4 = this._namingUtil.joynrName(member_3);
+            _builder.append(_joynrName_4, "\t\t");
+            _builder.append(")");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        _builder.append("{");
+        _builder.newLine();
+        _builder.append("}");
+        _builder.newLine();
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    _builder.append("std::size_t ");
+    _builder.append(typeName);
+    _builder.append("::hashCode() const {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("std::size_t seed = 0;");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      EList<FField> _members_2 = this._cppStdTypeUtil.getMembers(this.type);
+      for(final FField member_4 : _members_2) {
+        _builder.append("\t");
+        final String joynrName = this._namingUtil.joynrName(member_4);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("boost::hash_combine(seed, get");
+        String _firstUpper = StringExtensions.toFirstUpper(joynrName);
+        _builder.append(_firstUpper, "\t");
+        _builder.append("());");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    {
+      boolean _hasExtendsDeclaration_2 = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+      if (_hasExtendsDeclaration_2) {
+        _builder.append("\t");
+        _builder.append("boost::hash_combine(seed, ");
+        String _joynrName_5 = this._namingUtil.joynrName(this._cppStdTypeUtil.getExtendedType(this.type));
+        _builder.append(_joynrName_5, "\t");
+        _builder.append("::hashCode());");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t");
+    _builder.append("return seed;");
+    _builder.newLine();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      EList<FField> _members_3 = this._cppStdTypeUtil.getMembers(this.type);
+      for(final FField member_5 : _members_3) {
+        final String joynrName_1 = this._namingUtil.joynrName(member_5);
+        _builder.newLineIfNotEmpty();
+        {
+          if ((this._cppStdTypeUtil.isEnum(member_5.getType()) && (!this._cppStdTypeUtil.isArray(member_5)))) {
+            _builder.append("std::string ");
+            _builder.append(typeName);
+            _builder.append("::get");
+            String _firstUpper_1 = StringExtensions.toFirstUpper(joynrName_1);
+            _builder.append(_firstUpper_1);
+            _builder.append("Internal() const {");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("return ");
+            String _typeName_3 = this._cppStdTypeUtil.getTypeName(member_5, generateVersion);
+            int _length = this._cppStdTypeUtil.getTypeName(member_5, generateVersion).length();
+            int _minus = (_length - 6);
+            String _substring = _typeName_3.substring(0, _minus);
+            _builder.append(_substring, "\t");
+            _builder.append("::getLiteral(this->");
+            _builder.append(joynrName_1, "\t");
+            _builder.append(");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+          }
+        }
+      }
+    }
+    _builder.append("std::string ");
+    _builder.append(typeName);
+    _builder.append("::toString() const {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("std::ostringstream typeAsString;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("typeAsString << \"");
+    _builder.append(typeName, "\t");
+    _builder.append("{\";");
+    _builder.newLineIfNotEmpty();
+    {
+      boolean _hasExtendsDeclaration_3 = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+      if (_hasExtendsDeclaration_3) {
+        _builder.append("\t");
+        _builder.append("typeAsString << ");
+        String _typeName_4 = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getExtendedType(this.type), generateVersion);
+        _builder.append(_typeName_4, "\t");
+        _builder.append("::toString();");
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isEmpty_3 = this._cppStdTypeUtil.getMembers(this.type).isEmpty();
+          boolean _not_3 = (!_isEmpty_3);
+          if (_not_3) {
+            _builder.append("\t");
+            _builder.append("typeAsString << \", \";");
+            _builder.newLine();
+          }
+        }
+      }
+    }
+    {
+      EList<FField> _members_4 = this._cppStdTypeUtil.getMembers(this.type);
+      boolean _hasElements_4 = false;
+      for(final FField member_6 : _members_4) {
+        if (!_hasElements_4) {
+          _hasElements_4 = true;
+        } else {
+          _builder.appendImmediate("\ntypeAsString << \", \";", "\t");
+        }
+        _builder.append("\t");
+        final String memberName = this._namingUtil.joynrName(member_6);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        final FTypeRef memberType = this._cppStdTypeUtil.resolveTypeDef(member_6.getType());
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isArray = member_6.isArray();
+          if (_isArray) {
+            _builder.append("\t");
+            _builder.append("typeAsString << \" unprinted List ");
+            _builder.append(memberName, "\t");
+            _builder.append("  \";");
+            _builder.newLineIfNotEmpty();
+          } else {
+            boolean _isByteBuffer = this._cppStdTypeUtil.isByteBuffer(memberType);
+            if (_isByteBuffer) {
+              _builder.append("\t");
+              _builder.append("typeAsString << \" unprinted ByteBuffer ");
+              _builder.append(memberName, "\t");
+              _builder.append("  \";");
+              _builder.newLineIfNotEmpty();
+            } else {
+              boolean _isString = this._cppStdTypeUtil.isString(memberType);
+              if (_isString) {
+                _builder.append("\t");
+                _builder.append("typeAsString << \"");
+                _builder.append(memberName, "\t");
+                _builder.append(":\" + get");
+                String _firstUpper_2 = StringExtensions.toFirstUpper(memberName);
+                _builder.append(_firstUpper_2, "\t");
+                _builder.append("();");
+                _builder.newLineIfNotEmpty();
+              } else {
+                boolean _isEnum = this._cppStdTypeUtil.isEnum(memberType);
+                if (_isEnum) {
+                  _builder.append("\t");
+                  _builder.append("typeAsString << \"");
+                  _builder.append(memberName, "\t");
+                  _builder.append(":\" + get");
+                  String _firstUpper_3 = StringExtensions.toFirstUpper(memberName);
+                  _builder.append(_firstUpper_3, "\t");
+                  _builder.append("Internal();");
+                  _builder.newLineIfNotEmpty();
+                } else {
+                  boolean _isCompound = this._cppStdTypeUtil.isCompound(memberType);
+                  if (_isCompound) {
+                    _builder.append("\t");
+                    _builder.append("typeAsString << \"");
+                    _builder.append(memberName, "\t");
+                    _builder.append(":\" + get");
+                    String _firstUpper_4 = StringExtensions.toFirstUpper(memberName);
+                    _builder.append(_firstUpper_4, "\t");
+                    _builder.append("().toString();");
+                    _builder.newLineIfNotEmpty();
+                  } else {
+                    boolean _isMap = this._cppStdTypeUtil.isMap(memberType);
+                    if (_isMap) {
+                      _builder.append("\t");
+                      _builder.append("typeAsString << \" unprinted Map ");
+                      _builder.append(memberName, "\t");
+                      _builder.append("  \";");
+                      _builder.newLineIfNotEmpty();
+                    } else {
+                      _builder.append("\t");
+                      _builder.append("typeAsString << \"");
+                      _builder.append(memberName, "\t");
+                      _builder.append(":\" + std::to_string(get");
+                      String _firstUpper_5 = StringExtensions.toFirstUpper(memberName);
+                      _builder.append(_firstUpper_5, "\t");
+                      _builder.append("());");
+                      _builder.newLineIfNotEmpty();
+                    }
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+    _builder.append("\t");
+    _builder.append("typeAsString << \"}\";");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("return typeAsString.str();");
+    _builder.newLine();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("// printing ");
+    _builder.append(typeName);
+    _builder.append(" with google-test and google-mock");
+    _builder.newLineIfNotEmpty();
+    _builder.append("void PrintTo(const ");
+    _builder.append(typeName);
+    _builder.append("& ");
+    String _firstLower = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower);
+    _builder.append(", ::std::ostream* os) {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("*os << \"");
+    _builder.append(typeName, "\t");
+    _builder.append("::\" << ");
+    String _firstLower_1 = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower_1, "\t");
+    _builder.append(".toString();");
+    _builder.newLineIfNotEmpty();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("std::size_t hash_value(const ");
+    _builder.append(typeName);
+    _builder.append("& ");
+    String _firstLower_2 = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower_2);
+    _builder.append("Value)");
+    _builder.newLineIfNotEmpty();
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("return ");
+    String _firstLower_3 = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower_3, "\t");
+    _builder.append("Value.hashCode();");
+    _builder.newLineIfNotEmpty();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      boolean _isPolymorphic = this._cppStdTypeUtil.isPolymorphic(this.type);
+      if (_isPolymorphic) {
+        _builder.append("std::unique_ptr<");
+        String _typeName_5 = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getRootType(this.type), generateVersion);
+        _builder.append(_typeName_5);
+        _builder.append("> ");
+        _builder.append(typeName);
+        _builder.append("::clone() const {");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("return std::make_unique<");
+        _builder.append(typeName, "\t");
+        _builder.append(">(const_cast<");
+        _builder.append(typeName, "\t");
+        _builder.append("&>(*this));");
+        _builder.newLineIfNotEmpty();
+        _builder.append("}");
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(this.type, true, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
@@ -0,0 +1,126 @@
+package io.joynr.generator.cpp.communicationmodel;
+
+import com.google.common.collect.Iterables;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.TypeDefTemplate;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Set;
+import javax.inject.Inject;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeDef;
+
+@SuppressWarnings("all")
+public class TypeDefHTemplate implements TypeDefTemplate {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Override
+  public CharSequence generate(final FTypeDef type, final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String typeName = this._namingUtil.joynrName(type);
+    _builder.newLineIfNotEmpty();
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(type, "_", true, generateVersion);
+    String _plus = ("GENERATED_TYPE_" + _packagePathWithJoynrPrefix);
+    String _plus_1 = (_plus + "_");
+    String _plus_2 = (_plus_1 + typeName);
+    final String headerGuard = (_plus_2 + "_H").toUpperCase();
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#ifndef ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#define ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("// include required datatype headers.");
+    _builder.newLine();
+    final Iterable<?> typeDependencies = this._cppStdTypeUtil.getTypeDependencies(type);
+    _builder.newLineIfNotEmpty();
+    {
+      Set<String> _includesFor = this._cppStdTypeUtil.getIncludesFor(Iterables.<FBasicTypeId>filter(typeDependencies, FBasicTypeId.class));
+      for(final String member : _includesFor) {
+        _builder.append("#include ");
+        _builder.append(member);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    {
+      Iterable<FType> _filter = Iterables.<FType>filter(typeDependencies, FType.class);
+      for(final FType member_1 : _filter) {
+        _builder.append("#include ");
+        String _includeOf = this._cppStdTypeUtil.getIncludeOf(member_1, generateVersion);
+        _builder.append(_includeOf);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(type, true, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    CharSequence _typeDefinition = this.getTypeDefinition(type, generateVersion);
+    _builder.append(_typeDefinition);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(type, true, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#endif // ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+
+  private CharSequence getTypeDefinition(final FTypeDef type, final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    {
+      boolean _isEnum = this._cppStdTypeUtil.isEnum(type);
+      if (_isEnum) {
+        _builder.append("typedef ");
+        String _typeName = this._cppStdTypeUtil.getTypeName(type.getActualType(), generateVersion);
+        int _length = this._cppStdTypeUtil.getTypeName(type.getActualType(), generateVersion).length();
+        int _minus = (_length - 6);
+        String _substring = _typeName.substring(0, _minus);
+        _builder.append(_substring);
+        _builder.append(" ");
+        String _joynrName = this._namingUtil.joynrName(type);
+        _builder.append(_joynrName);
+        _builder.append(";");
+        _builder.newLineIfNotEmpty();
+      } else {
+        _builder.append("typedef ");
+        String _typeName_1 = this._cppStdTypeUtil.getTypeName(type.getActualType(), generateVersion);
+        _builder.append(_typeName_1);
+        _builder.append(" ");
+        String _joynrName_1 = this._namingUtil.joynrName(type);
+        _builder.append(_joynrName_1);
+        _builder.append(";");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    return _builder;
+  }
+}
@@ -0,0 +1,1110 @@
+package io.joynr.generator.cpp.communicationmodel;
+
+import com.google.inject.assistedinject.Assisted;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.CompoundTypeTemplate;
+import io.joynr.generator.templates.util.NamingUtil;
+import javax.inject.Inject;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FField;
+import org.franca.core.franca.FType;
+
+@SuppressWarnings("all")
+public class TypeHTemplate extends CompoundTypeTemplate {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  public TypeHTemplate(@Assisted final FCompoundType type) {
+    super(type);
+  }
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String typeName = this._namingUtil.joynrName(this.type);
+    _builder.newLineIfNotEmpty();
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.type, "_", true, generateVersion);
+    String _plus = ("GENERATED_TYPE_" + _packagePathWithJoynrPrefix);
+    String _plus_1 = (_plus + "_");
+    String _plus_2 = (_plus_1 + typeName);
+    final String headerGuard = (_plus_2 + "_H").toUpperCase();
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#ifndef ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#define ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("#include <cstddef>");
+    _builder.newLine();
+    _builder.append("#include <memory>");
+    _builder.newLine();
+    _builder.append("#include <string>");
+    _builder.newLine();
+    _builder.append("#include <vector>");
+    _builder.newLine();
+    _builder.append("#include <typeinfo>");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("#include \"joynr/Util.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/ByteBuffer.h\"");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("// include complex Datatype headers.");
+    _builder.newLine();
+    {
+      Iterable<FType> _typeDependencies = this._cppStdTypeUtil.getTypeDependencies(this.type);
+      for(final FType member : _typeDependencies) {
+        _builder.append("#include ");
+        String _includeOf = this._cppStdTypeUtil.getIncludeOf(member, generateVersion);
+        _builder.append(_includeOf);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("#include \"joynr/serializer/Serializer.h\"");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(this.type, true, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("/**");
+    _builder.newLine();
+    CharSequence _appendDoxygenSummaryAndWriteSeeAndDescription = this._joynrCppGeneratorExtensions.appendDoxygenSummaryAndWriteSeeAndDescription(this.type, " *");
+    _builder.append(_appendDoxygenSummaryAndWriteSeeAndDescription);
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("* @version ");
+    _builder.append(this.majorVersion, " ");
+    _builder.append(".");
+    _builder.append(this.minorVersion, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("class ");
+    _builder.append(typeName);
+    _builder.append(" ");
+    {
+      boolean _hasExtendsDeclaration = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+      if (_hasExtendsDeclaration) {
+        _builder.append(": public ");
+        String _typeName = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getExtendedType(this.type), generateVersion);
+        _builder.append(_typeName);
+      }
+    }
+    _builder.append("{");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("public:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief MAJOR_VERSION The major version of this struct as specified in the");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* type collection or interface in the Franca model.");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("static const std::int32_t MAJOR_VERSION;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief MINOR_VERSION The minor version of this struct as specified in the");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* type collection or interface in the Franca model.");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("static const std::int32_t MINOR_VERSION;");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("// general methods");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("// default constructor");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/** @brief Constructor */");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append(typeName, "\t");
+    _builder.append("();");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("// constructor setting all fields");
+    _builder.newLine();
+    {
+      boolean _isEmpty = IterableExtensions.isEmpty(this._cppStdTypeUtil.getMembersRecursive(this.type));
+      boolean _not = (!_isEmpty);
+      if (_not) {
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @brief Parameterized constructor");
+        _builder.newLine();
+        {
+          Iterable<FField> _membersRecursive = this._cppStdTypeUtil.getMembersRecursive(this.type);
+          for(final FField member_1 : _membersRecursive) {
+            _builder.append("\t");
+            _builder.append(" ");
+            CharSequence _appendDoxygenParameter = this._joynrCppGeneratorExtensions.appendDoxygenParameter(member_1, "*");
+            _builder.append(_appendDoxygenParameter, "\t ");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("explicit ");
+        _builder.append(typeName, "\t");
+        _builder.append("(");
+        _builder.newLineIfNotEmpty();
+        {
+          Iterable<FField> _membersRecursive_1 = this._cppStdTypeUtil.getMembersRecursive(this.type);
+          boolean _hasElements = false;
+          for(final FField member_2 : _membersRecursive_1) {
+            if (!_hasElements) {
+              _hasElements = true;
+            } else {
+              _builder.appendImmediate(",", "\t\t\t");
+            }
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("const ");
+            String _typeName_1 = this._cppStdTypeUtil.getTypeName(member_2, generateVersion);
+            _builder.append(_typeName_1, "\t\t\t");
+            _builder.append("& _");
+            String _joynrName = this._namingUtil.joynrName(member_2);
+            _builder.append(_joynrName, "\t\t\t");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        _builder.append("\t");
+        _builder.append(");");
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/** @brief Copy constructor */");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append(typeName, "\t");
+    _builder.append("(const ");
+    _builder.append(typeName, "\t");
+    _builder.append("&) = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/** @brief Move constructor */");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append(typeName, "\t");
+    _builder.append("(");
+    _builder.append(typeName, "\t");
+    _builder.append("&&) = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/** @brief Destructor */");
+    _builder.newLine();
+    {
+      boolean _isPolymorphic = this._cppStdTypeUtil.isPolymorphic(this.type);
+      if (_isPolymorphic) {
+        {
+          boolean _hasExtendsDeclaration_1 = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+          boolean _not_1 = (!_hasExtendsDeclaration_1);
+          if (_not_1) {
+            _builder.append("\t");
+            _builder.append("virtual ~");
+            _builder.append(typeName, "\t");
+            _builder.append("() = default;");
+            _builder.newLineIfNotEmpty();
+          } else {
+            _builder.append("\t");
+            _builder.append("~");
+            _builder.append(typeName, "\t");
+            _builder.append("() override = default;");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+      } else {
+        _builder.append("\t");
+        _builder.append("~");
+        _builder.append(typeName, "\t");
+        _builder.append("() = default;");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief Stringifies the class");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @return stringified class content");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    {
+      boolean _isPolymorphic_1 = this._cppStdTypeUtil.isPolymorphic(this.type);
+      if (_isPolymorphic_1) {
+        {
+          boolean _hasExtendsDeclaration_2 = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+          boolean _not_2 = (!_hasExtendsDeclaration_2);
+          if (_not_2) {
+            _builder.append("\t");
+            _builder.append("virtual std::string toString() const;");
+            _builder.newLine();
+          } else {
+            _builder.append("\t");
+            _builder.append("std::string toString() const override;");
+            _builder.newLine();
+          }
+        }
+      } else {
+        _builder.append("\t");
+        _builder.append("std::string toString() const;");
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief Returns a hash code value for this object");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @return a hash code value for this object.");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    {
+      boolean _isPolymorphic_2 = this._cppStdTypeUtil.isPolymorphic(this.type);
+      if (_isPolymorphic_2) {
+        {
+          boolean _hasExtendsDeclaration_3 = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+          boolean _not_3 = (!_hasExtendsDeclaration_3);
+          if (_not_3) {
+            _builder.append("\t");
+            _builder.append("virtual std::size_t hashCode() const;");
+            _builder.newLine();
+          } else {
+            _builder.append("\t");
+            _builder.append("std::size_t hashCode() const override;");
+            _builder.newLine();
+          }
+        }
+      } else {
+        _builder.append("\t");
+        _builder.append("std::size_t hashCode() const;");
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief assigns an object");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @return reference to the object assigned to");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append(typeName, "\t");
+    _builder.append("& operator=(const ");
+    _builder.append(typeName, "\t");
+    _builder.append("&) = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief move assigns an object");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @return reference to the object assigned to");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append(typeName, "\t");
+    _builder.append("& operator=(");
+    _builder.append(typeName, "\t");
+    _builder.append("&&) = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      if (((!this._cppStdTypeUtil.hasExtendsDeclaration(this.type)) || (!this._cppStdTypeUtil.isPolymorphic(this.type)))) {
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @brief \"equal to\" operator");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @param other reference to the object to compare to");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @return true if objects are equal, false otherwise");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("bool operator==(const ");
+        _builder.append(typeName, "\t");
+        _builder.append("& other) const");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("{");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("\t");
+        _builder.append("return this->equals(other, joynr::util::MAX_ULPS);");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @brief \"not equal to\" operator");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @param other reference to the object to compare to");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @return true if objects are not equal, false otherwise");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("bool operator!=(const ");
+        _builder.append(typeName, "\t");
+        _builder.append("& other) const");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("{");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("\t");
+        _builder.append("return !(*this == other);");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    {
+      boolean _isPolymorphic_3 = this._cppStdTypeUtil.isPolymorphic(this.type);
+      if (_isPolymorphic_3) {
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @return a copy of this object");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        {
+          boolean _hasExtendsDeclaration_4 = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+          boolean _not_4 = (!_hasExtendsDeclaration_4);
+          if (_not_4) {
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("std::unique_ptr<");
+            String _typeName_2 = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getRootType(this.type), generateVersion);
+            _builder.append(_typeName_2, "\t ");
+            _builder.append("> virtual clone() const;");
+            _builder.newLineIfNotEmpty();
+          } else {
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("std::unique_ptr<");
+            String _typeName_3 = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getRootType(this.type), generateVersion);
+            _builder.append(_typeName_3, "\t ");
+            _builder.append("> clone() const override;");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+      }
+    }
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("// getters");
+    _builder.newLine();
+    {
+      EList<FField> _members = this._cppStdTypeUtil.getMembers(this.type);
+      for(final FField member_3 : _members) {
+        _builder.append("\t");
+        final String joynrName = this._namingUtil.joynrName(member_3);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @brief Gets ");
+        String _firstUpper = StringExtensions.toFirstUpper(joynrName);
+        _builder.append(_firstUpper, "\t ");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @return ");
+        CharSequence _appendDoxygenComment = this._joynrCppGeneratorExtensions.appendDoxygenComment(member_3, "* ");
+        _builder.append(_appendDoxygenComment, "\t ");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("inline const ");
+        String _typeName_4 = this._cppStdTypeUtil.getTypeName(member_3, generateVersion);
+        _builder.append(_typeName_4, "\t");
+        _builder.append("& get");
+        String _firstUpper_1 = StringExtensions.toFirstUpper(joynrName);
+        _builder.append(_firstUpper_1, "\t");
+        _builder.append("() const { return ");
+        _builder.append(joynrName, "\t");
+        _builder.append("; }");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("// setters");
+    _builder.newLine();
+    {
+      EList<FField> _members_1 = this._cppStdTypeUtil.getMembers(this.type);
+      for(final FField member_4 : _members_1) {
+        _builder.append("\t");
+        final String joynrName_1 = this._namingUtil.joynrName(member_4);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @brief Sets ");
+        String _firstUpper_2 = StringExtensions.toFirstUpper(joynrName_1);
+        _builder.append(_firstUpper_2, "\t ");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        CharSequence _appendDoxygenParameter_1 = this._joynrCppGeneratorExtensions.appendDoxygenParameter(member_4, "*");
+        _builder.append(_appendDoxygenParameter_1, "\t ");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("inline void set");
+        String _firstUpper_3 = StringExtensions.toFirstUpper(joynrName_1);
+        _builder.append(_firstUpper_3, "\t");
+        _builder.append("(const ");
+        String _typeName_5 = this._cppStdTypeUtil.getTypeName(member_4, generateVersion);
+        _builder.append(_typeName_5, "\t");
+        _builder.append("& _");
+        _builder.append(joynrName_1, "\t");
+        _builder.append(") { this->");
+        _builder.append(joynrName_1, "\t");
+        _builder.append(" = _");
+        _builder.append(joynrName_1, "\t");
+        _builder.append("; }");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief equals method");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param other reference to the object to compare to");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param maxUlps maximum number of ULPs (Units in the Last Place) that are tolerated when comparing to floating point values");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @return true if objects are equal, false otherwise");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    {
+      if ((this._cppStdTypeUtil.isPolymorphic(this.type) && (!this._cppStdTypeUtil.hasExtendsDeclaration(this.type)))) {
+        _builder.append("virtual ");
+      }
+    }
+    _builder.append("bool equals(const ");
+    {
+      boolean _isPolymorphic_4 = this._cppStdTypeUtil.isPolymorphic(this.type);
+      if (_isPolymorphic_4) {
+        String _typeName_6 = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getRootType(this.type), generateVersion);
+        _builder.append(_typeName_6, "\t");
+      } else {
+        _builder.append(typeName, "\t");
+      }
+    }
+    _builder.append("& other, std::size_t maxUlps) const");
+    {
+      if ((this._cppStdTypeUtil.isPolymorphic(this.type) && this._cppStdTypeUtil.hasExtendsDeclaration(this.type))) {
+        _builder.append(" override");
+      }
+    }
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("{");
+    _builder.newLine();
+    {
+      boolean _isPolymorphic_5 = this._cppStdTypeUtil.isPolymorphic(this.type);
+      if (_isPolymorphic_5) {
+        _builder.append("\t");
+        _builder.append("if (typeid(*this) != typeid(other)) {");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("\t");
+        _builder.append("return false;");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+      }
+    }
+    _builder.append("\t\t");
+    _builder.append("return this->equalsInternal(other, maxUlps);");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("protected:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("// printing ");
+    _builder.append(typeName, "\t");
+    _builder.append(" with google-test and google-mock");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief Print values of a ");
+    _builder.append(typeName, "\t ");
+    _builder.append(" object");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t ");
+    _builder.append("* @param ");
+    String _firstLower = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower, "\t ");
+    _builder.append(" The current object instance");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t ");
+    _builder.append("* @param os The output stream to send the output to");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("friend void PrintTo(const ");
+    _builder.append(typeName, "\t");
+    _builder.append("& ");
+    String _firstLower_1 = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower_1, "\t");
+    _builder.append(", ::std::ostream* os);");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief equals method");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param other reference to the object to compare to");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @return true if objects are equal, false otherwise");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    {
+      boolean _hasExtendsDeclaration_5 = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+      if (_hasExtendsDeclaration_5) {
+        _builder.append("\t");
+        _builder.append("bool equalsInternal(const ");
+        {
+          boolean _isPolymorphic_6 = this._cppStdTypeUtil.isPolymorphic(this.type);
+          if (_isPolymorphic_6) {
+            String _typeName_7 = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getRootType(this.type), generateVersion);
+            _builder.append(_typeName_7, "\t");
+            _builder.append("& otherBase");
+          } else {
+            _builder.append(typeName, "\t");
+            _builder.append("& other");
+          }
+        }
+        _builder.append(", std::size_t maxUlps) const");
+        {
+          boolean _isPolymorphic_7 = this._cppStdTypeUtil.isPolymorphic(this.type);
+          if (_isPolymorphic_7) {
+            _builder.append(" override");
+          }
+        }
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("{");
+        _builder.newLine();
+        {
+          boolean _isPolymorphic_8 = this._cppStdTypeUtil.isPolymorphic(this.type);
+          if (_isPolymorphic_8) {
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("const ");
+            _builder.append(typeName, "\t\t");
+            _builder.append("& other = static_cast<const ");
+            _builder.append(typeName, "\t\t");
+            _builder.append("&>(otherBase);");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        {
+          int _size = this._cppStdTypeUtil.getMembers(this.type).size();
+          boolean _greaterThan = (_size > 0);
+          if (_greaterThan) {
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("return");
+            _builder.newLine();
+            {
+              EList<FField> _members_2 = this._cppStdTypeUtil.getMembers(this.type);
+              boolean _hasElements_1 = false;
+              for(final FField member_5 : _members_2) {
+                if (!_hasElements_1) {
+                  _hasElements_1 = true;
+                } else {
+                  _builder.appendImmediate("&&", "\t\t");
+                }
+                _builder.append("\t");
+                _builder.append("\t");
+                _builder.append("joynr::util::compareValues(this->");
+                String _joynrName_1 = this._namingUtil.joynrName(member_5);
+                _builder.append(_joynrName_1, "\t\t");
+                _builder.append(", other.");
+                String _joynrName_2 = this._namingUtil.joynrName(member_5);
+                _builder.append(_joynrName_2, "\t\t");
+                _builder.append(", maxUlps)");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("&& ");
+            String _joynrName_3 = this._namingUtil.joynrName(this._cppStdTypeUtil.getExtendedType(this.type));
+            _builder.append(_joynrName_3, "\t\t");
+            _builder.append("::equalsInternal(other, maxUlps);");
+            _builder.newLineIfNotEmpty();
+          } else {
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("return ");
+            String _joynrName_4 = this._namingUtil.joynrName(this._cppStdTypeUtil.getExtendedType(this.type));
+            _builder.append(_joynrName_4, "\t\t");
+            _builder.append("::equalsInternal(other, maxUlps);");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+      } else {
+        _builder.append("\t");
+        {
+          boolean _isPolymorphic_9 = this._cppStdTypeUtil.isPolymorphic(this.type);
+          if (_isPolymorphic_9) {
+            _builder.append("virtual ");
+          }
+        }
+        _builder.append("bool equalsInternal(const ");
+        _builder.append(typeName, "\t");
+        _builder.append("& other, std::size_t maxUlps) const");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("{");
+        _builder.newLine();
+        {
+          int _size_1 = this._cppStdTypeUtil.getMembers(this.type).size();
+          boolean _greaterThan_1 = (_size_1 > 0);
+          if (_greaterThan_1) {
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("return");
+            _builder.newLine();
+            {
+              EList<FField> _members_3 = this._cppStdTypeUtil.getMembers(this.type);
+              boolean _hasElements_2 = false;
+              for(final FField member_6 : _members_3) {
+                if (!_hasElements_2) {
+                  _hasElements_2 = true;
+                } else {
+                  _builder.appendImmediate(" &&", "\t\t");
+                }
+                _builder.append("\t");
+                _builder.append("\t");
+                _builder.append("joynr::util::compareValues(this->");
+                String _joynrName_5 = this._namingUtil.joynrName(member_6);
+                _builder.append(_joynrName_5, "\t\t");
+                _builder.append(", other.");
+                String _joynrName_6 = this._namingUtil.joynrName(member_6);
+                _builder.append(_joynrName_6, "\t\t");
+                _builder.append(", maxUlps)");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append(";");
+            _builder.newLine();
+          } else {
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("std::ignore = other;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("std::ignore = maxUlps;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("return true;");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    _builder.newLine();
+    String _lowerCase = typeName.toLowerCase();
+    final String serializeObjName = (_lowerCase + "Obj");
+    _builder.newLineIfNotEmpty();
+    _builder.append("private:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("// serialize ");
+    _builder.append(typeName, "\t");
+    _builder.append(" with muesli");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("template <typename Archive>");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("friend void serialize(Archive& archive, ");
+    _builder.append(typeName, "\t");
+    _builder.append("& ");
+    _builder.append(serializeObjName, "\t");
+    _builder.append(");");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("// members");
+    _builder.newLine();
+    {
+      EList<FField> _members_4 = this._cppStdTypeUtil.getMembers(this.type);
+      for(final FField member_7 : _members_4) {
+        _builder.append("\t");
+        String _typeName_8 = this._cppStdTypeUtil.getTypeName(member_7, generateVersion);
+        _builder.append(_typeName_8, "\t");
+        _builder.append(" ");
+        String _joynrName_7 = this._namingUtil.joynrName(member_7);
+        _builder.append(_joynrName_7, "\t");
+        _builder.append(";");
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isEnum = this._cppStdTypeUtil.isEnum(member_7.getType());
+          if (_isEnum) {
+            _builder.append("\t");
+            _builder.append("std::string get");
+            String _firstUpper_4 = StringExtensions.toFirstUpper(this._namingUtil.joynrName(member_7));
+            _builder.append(_firstUpper_4, "\t");
+            _builder.append("Internal() const;");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+      }
+    }
+    _builder.append("};");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("std::size_t hash_value(const ");
+    _builder.append(typeName);
+    _builder.append("& ");
+    String _firstLower_2 = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower_2);
+    _builder.append("Value);");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("// serialize ");
+    _builder.append(typeName);
+    _builder.append(" with muesli");
+    _builder.newLineIfNotEmpty();
+    _builder.append("template <typename Archive>");
+    _builder.newLine();
+    _builder.append("void serialize(Archive& archive, ");
+    _builder.append(typeName);
+    _builder.append("& ");
+    _builder.append(serializeObjName);
+    _builder.append(")");
+    _builder.newLineIfNotEmpty();
+    _builder.append("{");
+    _builder.newLine();
+    {
+      if (((this._cppStdTypeUtil.getMembers(this.type).size() > 0) || this._cppStdTypeUtil.hasExtendsDeclaration(this.type))) {
+        _builder.append("archive(");
+        _builder.newLine();
+        {
+          boolean _hasExtendsDeclaration_6 = this._cppStdTypeUtil.hasExtendsDeclaration(this.type);
+          if (_hasExtendsDeclaration_6) {
+            _builder.append("\t\t");
+            _builder.append("muesli::BaseClass<");
+            String _typeName_9 = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getExtendedType(this.type), generateVersion);
+            _builder.append(_typeName_9, "\t\t");
+            _builder.append(">(&");
+            _builder.append(serializeObjName, "\t\t");
+            _builder.append(")");
+            {
+              int _size_2 = this._cppStdTypeUtil.getMembers(this.type).size();
+              boolean _greaterThan_2 = (_size_2 > 0);
+              if (_greaterThan_2) {
+                _builder.append(",");
+              }
+            }
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        {
+          EList<FField> _members_5 = this._cppStdTypeUtil.getMembers(this.type);
+          boolean _hasElements_3 = false;
+          for(final FField member_8 : _members_5) {
+            if (!_hasElements_3) {
+              _hasElements_3 = true;
+            } else {
+              _builder.appendImmediate(",", "\t\t");
+            }
+            _builder.append("\t\t");
+            _builder.append("muesli::make_nvp(\"");
+            String _joynrName_8 = this._namingUtil.joynrName(member_8);
+            _builder.append(_joynrName_8, "\t\t");
+            _builder.append("\", ");
+            _builder.append(serializeObjName, "\t\t");
+            _builder.append(".");
+            String _joynrName_9 = this._namingUtil.joynrName(member_8);
+            _builder.append(_joynrName_9, "\t\t");
+            _builder.append(")");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        _builder.append(");");
+        _builder.newLine();
+      } else {
+        _builder.append("std::ignore = archive;");
+        _builder.newLine();
+        _builder.append("std::ignore = ");
+        _builder.append(serializeObjName);
+        _builder.append(";");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(this.type, true, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("namespace std {");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* @brief Function object that implements a hash function for ");
+    String _typeName_10 = this._cppStdTypeUtil.getTypeName(this.type, generateVersion);
+    _builder.append(_typeName_10, " ");
+    _builder.append(".");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("*");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* Used by the unordered associative containers std::unordered_set, std::unordered_multiset,");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* std::unordered_map, std::unordered_multimap as default hash function.");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("template<>");
+    _builder.newLine();
+    _builder.append("struct hash<");
+    String _typeName_11 = this._cppStdTypeUtil.getTypeName(this.type, generateVersion);
+    _builder.append(_typeName_11);
+    _builder.append("> {");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief method overriding default implementation of operator ()");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param ");
+    String _firstLower_3 = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower_3, "\t ");
+    _builder.append("Value the operators argument");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t ");
+    _builder.append("* @return the ordinal number representing the enum value");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("std::size_t operator()(const ");
+    String _typeName_12 = this._cppStdTypeUtil.getTypeName(this.type, generateVersion);
+    _builder.append(_typeName_12, "\t");
+    _builder.append("& ");
+    String _firstLower_4 = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower_4, "\t");
+    _builder.append("Value) const {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("return ");
+    String _buildPackagePath = this._joynrCppGeneratorExtensions.buildPackagePath(this.type, "::", true, generateVersion);
+    _builder.append(_buildPackagePath, "\t\t");
+    _builder.append("::hash_value(");
+    String _firstLower_5 = StringExtensions.toFirstLower(typeName);
+    _builder.append(_firstLower_5, "\t\t");
+    _builder.append("Value);");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("};");
+    _builder.newLine();
+    _builder.append("} // namespace std");
+    _builder.newLine();
+    _builder.newLine();
+    final String typeNameString = this._cppStdTypeUtil.getTypeName(this.type, generateVersion).replace("::", ".");
+    _builder.newLineIfNotEmpty();
+    {
+      if ((this._cppStdTypeUtil.hasExtendsDeclaration(this.type) && this._cppStdTypeUtil.isPolymorphic(this.type))) {
+        _builder.append("MUESLI_REGISTER_POLYMORPHIC_TYPE(");
+        String _typeName_13 = this._cppStdTypeUtil.getTypeName(this.type, generateVersion);
+        _builder.append(_typeName_13);
+        _builder.append(", ");
+        String _typeName_14 = this._cppStdTypeUtil.getTypeName(this._cppStdTypeUtil.getExtendedType(this.type), generateVersion);
+        _builder.append(_typeName_14);
+        _builder.append(", \"");
+        _builder.append(typeNameString);
+        _builder.append("\")");
+        _builder.newLineIfNotEmpty();
+      } else {
+        _builder.append("MUESLI_REGISTER_TYPE(");
+        String _typeName_15 = this._cppStdTypeUtil.getTypeName(this.type, generateVersion);
+        _builder.append(_typeName_15);
+        _builder.append(", \"");
+        _builder.append(typeNameString);
+        _builder.append("\")");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("#endif // ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
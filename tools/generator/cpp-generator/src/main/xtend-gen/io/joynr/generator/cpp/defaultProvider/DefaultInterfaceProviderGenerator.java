@@ -0,0 +1,64 @@
+package io.joynr.generator.cpp.defaultProvider;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.joynr.generator.cpp.util.CppTemplateFactory;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.io.File;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FModel;
+
+@SuppressWarnings("all")
+public class DefaultInterfaceProviderGenerator {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  private CppTemplateFactory templateFactory;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_NOVERSIONGENERATION_COMMENT)
+  public boolean versioningComment;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_PACKAGEWITHVERSION)
+  public boolean packageWithVersion;
+
+  public void doGenerate(final FModel fModel, final IFileSystemAccess sourceFileSystem, final IFileSystemAccess headerFileSystem, final String sourceContainerPath, final String headerContainerPath) {
+    EList<FInterface> _interfaces = fModel.getInterfaces();
+    for (final FInterface serviceInterface : _interfaces) {
+      {
+        boolean _xifexpression = false;
+        if (this.versioningComment) {
+          boolean _commentContainsNoVersionGeneration = this._joynrCppGeneratorExtensions.commentContainsNoVersionGeneration(serviceInterface);
+          _xifexpression = (!_commentContainsNoVersionGeneration);
+        } else {
+          _xifexpression = this.packageWithVersion;
+        }
+        final boolean generateVersioning = _xifexpression;
+        String _packageSourceDirectory = this._joynrCppGeneratorExtensions.getPackageSourceDirectory(serviceInterface, generateVersioning);
+        String _plus = (sourceContainerPath + _packageSourceDirectory);
+        final String sourcepath = (_plus + File.separator);
+        String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(serviceInterface, File.separator, generateVersioning);
+        String _plus_1 = (headerContainerPath + _packagePathWithJoynrPrefix);
+        final String headerpath = (_plus_1 + File.separator);
+        final String serviceName = this._namingUtil.joynrName(serviceInterface);
+        DefaultInterfaceProviderHTemplate defaultInterfaceProviderHTemplate = this.templateFactory.createDefaultInterfaceProviderHTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          (((headerpath + "Default") + serviceName) + "Provider.h"), defaultInterfaceProviderHTemplate, generateVersioning);
+        DefaultInterfaceProviderCppTemplate defaultInterfaceProviderCppTemplate = this.templateFactory.createDefaultInterfaceProviderCppTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          (((sourcepath + "Default") + serviceName) + "Provider.cpp"), defaultInterfaceProviderCppTemplate, generateVersioning);
+      }
+    }
+  }
+}
@@ -0,0 +1,370 @@
+package io.joynr.generator.cpp.defaultProvider;
+
+import com.google.inject.Inject;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.InterfaceTemplate;
+import io.joynr.generator.templates.util.AttributeUtil;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.MethodUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.HashMap;
+import java.util.Set;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FMethod;
+
+@SuppressWarnings("all")
+public class DefaultInterfaceProviderHTemplate extends InterfaceTemplate {
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private AttributeUtil _attributeUtil;
+
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  @Inject
+  @Extension
+  private InterfaceUtil _interfaceUtil;
+
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String interfaceName = this._namingUtil.joynrName(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "_", generateVersion);
+    String _plus = ("GENERATED_INTERFACE_" + _packagePathWithJoynrPrefix);
+    String _plus_1 = (_plus + 
+      "_Default");
+    String _plus_2 = (_plus_1 + interfaceName);
+    final String headerGuard = (_plus_2 + "Provider_h").toUpperCase();
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#ifndef ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#define ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#include <functional>");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("#include \"");
+    String _packagePathWithJoynrPrefix_1 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "/", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix_1);
+    _builder.append("/I");
+    _builder.append(interfaceName);
+    _builder.append(".h\"");
+    _builder.newLineIfNotEmpty();
+    _builder.append("#include \"joynr/Logger.h\"");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      Set<String> _dataTypeIncludesFor = this._cppStdTypeUtil.getDataTypeIncludesFor(this.francaIntf, generateVersion);
+      for(final String parameterType : _dataTypeIncludesFor) {
+        _builder.append("#include ");
+        _builder.append(parameterType);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("#include \"");
+    String _packagePathWithJoynrPrefix_2 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "/", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix_2);
+    _builder.append("/");
+    _builder.append(interfaceName);
+    _builder.append("AbstractProvider.h\"");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(this.francaIntf, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("class Default");
+    _builder.append(interfaceName);
+    _builder.append("Provider : public ");
+    String _packagePathWithJoynrPrefix_3 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "::", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix_3);
+    _builder.append("::");
+    _builder.append(interfaceName);
+    _builder.append("AbstractProvider {");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("public:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("Default");
+    _builder.append(interfaceName, "\t");
+    _builder.append("Provider();");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("~Default");
+    _builder.append(interfaceName, "\t");
+    _builder.append("Provider() override;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      boolean _isEmpty = this.francaIntf.getAttributes().isEmpty();
+      boolean _not = (!_isEmpty);
+      if (_not) {
+        _builder.append("\t");
+        _builder.append("// attributes");
+        _builder.newLine();
+      }
+    }
+    {
+      EList<FAttribute> _attributes = this.francaIntf.getAttributes();
+      for(final FAttribute attribute : _attributes) {
+        _builder.append("\t");
+        String attributeName = this._namingUtil.joynrName(attribute);
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isReadable = this._attributeUtil.isReadable(attribute);
+          if (_isReadable) {
+            _builder.append("\t");
+            _builder.append("void get");
+            String _firstUpper = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper, "\t");
+            _builder.append("(");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::function<void(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t");
+            _builder.append("const ");
+            String _typeName = this._cppStdTypeUtil.getTypeName(attribute, generateVersion);
+            _builder.append(_typeName, "\t\t\t\t\t");
+            _builder.append("&");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append(")> onSuccess,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(") override;");
+            _builder.newLine();
+          }
+        }
+        {
+          boolean _isWritable = this._attributeUtil.isWritable(attribute);
+          if (_isWritable) {
+            _builder.append("\t");
+            _builder.append("void set");
+            String _firstUpper_1 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_1, "\t");
+            _builder.append("(");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("const ");
+            String _typeName_1 = this._cppStdTypeUtil.getTypeName(attribute, generateVersion);
+            _builder.append(_typeName_1, "\t\t\t");
+            _builder.append("& _");
+            _builder.append(attributeName, "\t\t\t");
+            _builder.append(",");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::function<void()> onSuccess,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(") override;");
+            _builder.newLine();
+          }
+        }
+        _builder.newLine();
+      }
+    }
+    _builder.append("\t");
+    final HashMap<FMethod, String> methodToErrorEnumName = this._interfaceUtil.methodToErrorEnumName(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    {
+      boolean _isEmpty_1 = this.francaIntf.getMethods().isEmpty();
+      boolean _not_1 = (!_isEmpty_1);
+      if (_not_1) {
+        _builder.append("\t");
+        _builder.append("// methods");
+        _builder.newLine();
+      }
+    }
+    {
+      EList<FMethod> _methods = this.francaIntf.getMethods();
+      for(final FMethod method : _methods) {
+        _builder.append("\t");
+        final String outputTypedParamList = this._cppStdTypeUtil.getCommaSeperatedTypedConstOutputParameterList(method, generateVersion);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        final String inputTypedParamList = this._cppStdTypeUtil.getCommaSeperatedTypedConstInputParameterList(method, generateVersion);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("void ");
+        String _joynrName = this._namingUtil.joynrName(method);
+        _builder.append(_joynrName, "\t");
+        _builder.append("(");
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isEmpty_2 = IterableExtensions.isEmpty(this._methodUtil.getInputParameters(method));
+          boolean _not_2 = (!_isEmpty_2);
+          if (_not_2) {
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append(inputTypedParamList, "\t\t\t");
+            {
+              boolean _isFireAndForget = method.isFireAndForget();
+              boolean _not_3 = (!_isFireAndForget);
+              if (_not_3) {
+                _builder.append(",");
+              }
+            }
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        {
+          boolean _isFireAndForget_1 = method.isFireAndForget();
+          boolean _not_4 = (!_isFireAndForget_1);
+          if (_not_4) {
+            {
+              boolean _isEmpty_3 = IterableExtensions.isEmpty(this._methodUtil.getOutputParameters(method));
+              if (_isEmpty_3) {
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("std::function<void()> onSuccess,");
+                _builder.newLine();
+              } else {
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("std::function<void(");
+                _builder.newLine();
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("\t\t");
+                _builder.append(outputTypedParamList, "\t\t\t\t\t");
+                _builder.newLineIfNotEmpty();
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append(")> onSuccess,");
+                _builder.newLine();
+              }
+            }
+            {
+              boolean _hasErrorEnum = this._methodUtil.hasErrorEnum(method);
+              if (_hasErrorEnum) {
+                {
+                  FEnumerationType _errors = method.getErrors();
+                  boolean _tripleNotEquals = (_errors != null);
+                  if (_tripleNotEquals) {
+                    _builder.append("\t");
+                    _builder.append("\t\t");
+                    final String packagePath = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(method.getErrors(), "::", generateVersion);
+                    _builder.newLineIfNotEmpty();
+                    _builder.append("\t");
+                    _builder.append("\t\t");
+                    _builder.append("std::function<void (const ");
+                    _builder.append(packagePath, "\t\t\t");
+                    _builder.append("::");
+                    String _get = methodToErrorEnumName.get(method);
+                    _builder.append(_get, "\t\t\t");
+                    _builder.append("::");
+                    String _nestedEnumName = this._joynrCppGeneratorExtensions.getNestedEnumName();
+                    _builder.append(_nestedEnumName, "\t\t\t");
+                    _builder.append("& errorEnum)> onError");
+                    _builder.newLineIfNotEmpty();
+                  } else {
+                    _builder.append("\t");
+                    _builder.append("\t\t");
+                    _builder.append("std::function<void (const ");
+                    String _typeName_2 = this._cppStdTypeUtil.getTypeName(method.getErrorEnum(), generateVersion);
+                    _builder.append(_typeName_2, "\t\t\t");
+                    _builder.append("& errorEnum)> onError");
+                    _builder.newLineIfNotEmpty();
+                  }
+                }
+              } else {
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("std::function<void (const joynr::exceptions::ProviderRuntimeException&)> onError");
+                _builder.newLine();
+              }
+            }
+          }
+        }
+        _builder.append("\t");
+        _builder.append(") override;");
+        _builder.newLine();
+        _builder.newLine();
+      }
+    }
+    _builder.append("protected:");
+    _builder.newLine();
+    {
+      EList<FAttribute> _attributes_1 = this._interfaceUtil.getAttributes(this.francaIntf);
+      for(final FAttribute attribute_1 : _attributes_1) {
+        _builder.append("\t");
+        String _typeName_3 = this._cppStdTypeUtil.getTypeName(attribute_1, generateVersion);
+        _builder.append(_typeName_3, "\t");
+        _builder.append(" ");
+        String _joynrName_1 = this._namingUtil.joynrName(attribute_1);
+        _builder.append(_joynrName_1, "\t");
+        _builder.append(";");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("private:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("ADD_LOGGER(Default");
+    _builder.append(interfaceName, "\t");
+    _builder.append("Provider)");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("};");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(this.francaIntf, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#endif // ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
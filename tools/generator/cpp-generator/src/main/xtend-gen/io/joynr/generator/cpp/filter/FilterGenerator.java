@@ -0,0 +1,87 @@
+package io.joynr.generator.cpp.filter;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.io.File;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FModel;
+
+@SuppressWarnings("all")
+public class FilterGenerator {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_NOVERSIONGENERATION_COMMENT)
+  public boolean versioningComment;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_PACKAGEWITHVERSION)
+  public boolean packageWithVersion;
+
+  @Inject
+  private FilterParameterTemplate filterParameterTemplate;
+
+  @Inject
+  private FilterTemplate filterTemplate;
+
+  public void doGenerate(final FModel model, final IFileSystemAccess sourceFileSystem, final IFileSystemAccess headerFileSystem, final String sourceContainerPath, final String headerContainerPath) {
+    EList<FInterface> _interfaces = model.getInterfaces();
+    for (final FInterface fInterface : _interfaces) {
+      {
+        boolean _xifexpression = false;
+        if (this.versioningComment) {
+          boolean _commentContainsNoVersionGeneration = this._joynrCppGeneratorExtensions.commentContainsNoVersionGeneration(fInterface);
+          _xifexpression = (!_commentContainsNoVersionGeneration);
+        } else {
+          _xifexpression = this.packageWithVersion;
+        }
+        final boolean generateVersioning = _xifexpression;
+        String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(fInterface, File.separator, generateVersioning);
+        String _plus = (headerContainerPath + _packagePathWithJoynrPrefix);
+        final String headerPath = (_plus + File.separator);
+        String serviceName = this._namingUtil.joynrName(fInterface);
+        EList<FBroadcast> _broadcasts = fInterface.getBroadcasts();
+        for (final FBroadcast broadcast : _broadcasts) {
+          boolean _isSelective = broadcast.isSelective();
+          if (_isSelective) {
+            final String filterParameterLocation = this.getFilterParameterLocation(headerPath, serviceName, broadcast);
+            this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, filterParameterLocation, 
+              this.filterParameterTemplate, fInterface, broadcast, generateVersioning);
+            final String filterLocation = this.getFilterLocation(headerPath, serviceName, broadcast);
+            this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, filterLocation, 
+              this.filterTemplate, fInterface, broadcast, generateVersioning);
+          }
+        }
+      }
+    }
+  }
+
+  public String getFilterLocation(final String headerPath, final String serviceName, final FBroadcast broadcast) {
+    String _firstUpper = StringExtensions.toFirstUpper(serviceName);
+    String _plus = (headerPath + _firstUpper);
+    String _firstUpper_1 = StringExtensions.toFirstUpper(broadcast.getName());
+    String _plus_1 = (_plus + _firstUpper_1);
+    return (_plus_1 + "BroadcastFilter.h");
+  }
+
+  public String getFilterParameterLocation(final String headerPath, final String serviceName, final FBroadcast broadcast) {
+    String _firstUpper = StringExtensions.toFirstUpper(serviceName);
+    String _plus = (headerPath + _firstUpper);
+    String _firstUpper_1 = StringExtensions.toFirstUpper(broadcast.getName());
+    String _plus_1 = (_plus + _firstUpper_1);
+    return (_plus_1 + "BroadcastFilterParameters.h");
+  }
+}
@@ -0,0 +1,243 @@
+package io.joynr.generator.cpp.filter;
+
+import com.google.inject.Inject;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.BroadcastTemplate;
+import io.joynr.generator.templates.util.BroadcastUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.ArrayList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FInterface;
+
+@SuppressWarnings("all")
+public class FilterParameterTemplate implements BroadcastTemplate {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private BroadcastUtil _broadcastUtil;
+
+  @Override
+  public CharSequence generate(final FInterface serviceInterface, final FBroadcast broadcast, final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String broadcastName = this._namingUtil.joynrName(broadcast);
+    _builder.newLineIfNotEmpty();
+    String _firstUpper = StringExtensions.toFirstUpper(this._namingUtil.joynrName(serviceInterface));
+    String _firstUpper_1 = StringExtensions.toFirstUpper(broadcastName);
+    String _plus = (_firstUpper + _firstUpper_1);
+    final String className = (_plus + "BroadcastFilterParameters");
+    _builder.newLineIfNotEmpty();
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(broadcast, "_", generateVersion);
+    String _plus_1 = ("GENERATED_FILTER_PARAMETERS_" + _packagePathWithJoynrPrefix);
+    String _plus_2 = (_plus_1 + "_");
+    String _plus_3 = (_plus_2 + broadcastName);
+    final String headerGuard = (_plus_3 + "_H").toUpperCase();
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#ifndef ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#define ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#include \"joynr/BroadcastFilterParameters.h\"");
+    _builder.newLine();
+    _builder.append("#include <string>");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(serviceInterface, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* @brief BroadcastFilterParameter class for interface ");
+    String _firstUpper_2 = StringExtensions.toFirstUpper(this._namingUtil.joynrName(serviceInterface));
+    _builder.append(_firstUpper_2, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("* broadcast ");
+    _builder.append(broadcastName, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("class ");
+    _builder.append(className);
+    _builder.append(" : public BroadcastFilterParameters {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("public:");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("using BroadcastFilterParameters::BroadcastFilterParameters;");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      boolean _isEmpty = this._broadcastUtil.getFilterParameters(broadcast).isEmpty();
+      if (_isEmpty) {
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @brief Sets value for given key");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @param key The key");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @param value The new value");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("void set(std::string key, std::string value) {");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("\t");
+        _builder.append("setFilterParameter(key, value);");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @brief Gets value for given key");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @param key The key for which value should be retrieved");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @return The current value");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("std::string get(std::string key) const {");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("\t");
+        _builder.append("return getFilterParameter(key);");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+      } else {
+        {
+          ArrayList<String> _filterParameters = this._broadcastUtil.getFilterParameters(broadcast);
+          for(final String parameter : _filterParameters) {
+            _builder.append("\t");
+            _builder.append("/**");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @brief Sets ");
+            String _firstUpper_3 = StringExtensions.toFirstUpper(parameter);
+            _builder.append(_firstUpper_3, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param value The new value");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("*/");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("void set");
+            String _firstUpper_4 = StringExtensions.toFirstUpper(parameter);
+            _builder.append(_firstUpper_4, "\t");
+            _builder.append("(std::string value) {");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("setFilterParameter(\"");
+            _builder.append(parameter, "\t\t");
+            _builder.append("\", value);");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("/**");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @brief Gets ");
+            String _firstUpper_5 = StringExtensions.toFirstUpper(parameter);
+            _builder.append(_firstUpper_5, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @return The current value of ");
+            String _firstUpper_6 = StringExtensions.toFirstUpper(parameter);
+            _builder.append(_firstUpper_6, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("*/");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::string get");
+            String _firstUpper_7 = StringExtensions.toFirstUpper(parameter);
+            _builder.append(_firstUpper_7, "\t");
+            _builder.append("() const {");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("return getFilterParameter(\"");
+            _builder.append(parameter, "\t\t");
+            _builder.append("\");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+          }
+        }
+      }
+    }
+    _builder.append("};");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(serviceInterface, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#endif // ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
@@ -0,0 +1,279 @@
+package io.joynr.generator.cpp.filter;
+
+import com.google.inject.Inject;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.BroadcastTemplate;
+import io.joynr.generator.templates.util.BroadcastUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Set;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FInterface;
+
+@SuppressWarnings("all")
+public class FilterTemplate implements BroadcastTemplate {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private BroadcastUtil _broadcastUtil;
+
+  @Override
+  public CharSequence generate(final FInterface serviceInterface, final FBroadcast broadcast, final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String broadcastName = this._namingUtil.joynrName(broadcast);
+    _builder.newLineIfNotEmpty();
+    String _firstUpper = StringExtensions.toFirstUpper(this._namingUtil.joynrName(serviceInterface));
+    String _firstUpper_1 = StringExtensions.toFirstUpper(broadcastName);
+    String _plus = (_firstUpper + _firstUpper_1);
+    final String className = (_plus + "BroadcastFilter");
+    _builder.newLineIfNotEmpty();
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(broadcast, "_", generateVersion);
+    String _plus_1 = ("GENERATED_BROADCAST_FILTER_" + _packagePathWithJoynrPrefix);
+    String _plus_2 = (_plus_1 + 
+      "_");
+    String _plus_3 = (_plus_2 + broadcastName);
+    final String headerGuard = (_plus_3 + "_H").toUpperCase();
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#ifndef ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#define ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#include \"joynr/PrivateCopyAssign.h\"");
+    _builder.newLine();
+    {
+      Set<String> _dataTypeIncludesFor = this._cppStdTypeUtil.getDataTypeIncludesFor(serviceInterface, generateVersion);
+      for(final String parameterType : _dataTypeIncludesFor) {
+        _builder.append("#include ");
+        _builder.append(parameterType);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("#include \"");
+    String _packagePathWithJoynrPrefix_1 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(serviceInterface, "/", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix_1);
+    _builder.append("/I");
+    String _name = serviceInterface.getName();
+    _builder.append(_name);
+    _builder.append(".h\"");
+    _builder.newLineIfNotEmpty();
+    _builder.append("#include \"");
+    String _packagePathWithJoynrPrefix_2 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(serviceInterface, "/", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix_2);
+    _builder.append("/");
+    _builder.append(className);
+    _builder.append("Parameters.h\"");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(serviceInterface, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* @brief Broadcast filter class for interface ");
+    String _firstUpper_2 = StringExtensions.toFirstUpper(this._namingUtil.joynrName(serviceInterface));
+    _builder.append(_firstUpper_2, " ");
+    _builder.append(",");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("* broadcast ");
+    _builder.append(broadcastName, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("class ");
+    _builder.append(className);
+    _builder.append(" {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("public:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/** @brief Default constructor */");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append(className, "\t");
+    _builder.append("() = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("static std::string getName()");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("return \"");
+    _builder.append(broadcastName, "\t\t");
+    _builder.append("\";");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/** @brief Destructor */");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("virtual ~");
+    _builder.append(className, "\t");
+    _builder.append("() = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief Filter method to decide whether a broadcast should be delivered.");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* This method must be overriden to provider a filter logic implementation.");
+    _builder.newLine();
+    {
+      Iterable<FArgument> _outputParameters = this._broadcastUtil.getOutputParameters(broadcast);
+      for(final FArgument oparam : _outputParameters) {
+        _builder.append("\t ");
+        _builder.append("* @param ");
+        String _joynrName = this._namingUtil.joynrName(oparam);
+        _builder.append(_joynrName, "\t ");
+        _builder.append(" Broadcast output parameter ");
+        String _joynrName_1 = this._namingUtil.joynrName(oparam);
+        _builder.append(_joynrName_1, "\t ");
+        _builder.append(" to be used for filtering");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t ");
+    _builder.append("* @param filterParameters The filter parameters");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @return true, if this broadcast should be published, false otherwise");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("virtual bool filter(");
+    _builder.newLine();
+    {
+      boolean _isEmpty = IterableExtensions.isEmpty(this._broadcastUtil.getOutputParameters(broadcast));
+      boolean _not = (!_isEmpty);
+      if (_not) {
+        _builder.append("\t\t\t");
+        String _commaSeperatedTypedConstOutputParameterList = this._cppStdTypeUtil.getCommaSeperatedTypedConstOutputParameterList(broadcast, generateVersion);
+        _builder.append(_commaSeperatedTypedConstOutputParameterList, "\t\t\t");
+        _builder.append(",");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t\t\t");
+    _builder.append("const ");
+    String _firstUpper_3 = StringExtensions.toFirstUpper(this._namingUtil.joynrName(serviceInterface));
+    String _firstUpper_4 = StringExtensions.toFirstUpper(broadcastName);
+    String _plus_4 = (_firstUpper_3 + _firstUpper_4);
+    _builder.append(_plus_4, "\t\t\t");
+    _builder.append("BroadcastFilterParameters& filterParameters");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append(") = 0;");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("bool filterForward(");
+    _builder.newLine();
+    {
+      boolean _isEmpty_1 = IterableExtensions.isEmpty(this._broadcastUtil.getOutputParameters(broadcast));
+      boolean _not_1 = (!_isEmpty_1);
+      if (_not_1) {
+        _builder.append("\t\t\t");
+        String _commaSeperatedTypedConstOutputParameterList_1 = this._cppStdTypeUtil.getCommaSeperatedTypedConstOutputParameterList(broadcast, generateVersion);
+        _builder.append(_commaSeperatedTypedConstOutputParameterList_1, "\t\t\t");
+        _builder.append(",");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t\t\t");
+    _builder.append("const BroadcastFilterParameters& filterParameters");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append(")");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("return filter(");
+    _builder.newLine();
+    {
+      Iterable<FArgument> _outputParameters_1 = this._broadcastUtil.getOutputParameters(broadcast);
+      for(final FArgument parameter : _outputParameters_1) {
+        _builder.append("\t\t");
+        String _joynrName_2 = this._namingUtil.joynrName(parameter);
+        _builder.append(_joynrName_2, "\t\t");
+        _builder.append(",");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t\t\t");
+    _builder.append("static_cast<const ");
+    String _firstUpper_5 = StringExtensions.toFirstUpper(this._namingUtil.joynrName(serviceInterface));
+    String _firstUpper_6 = StringExtensions.toFirstUpper(broadcastName);
+    String _plus_5 = (_firstUpper_5 + _firstUpper_6);
+    _builder.append(_plus_5, "\t\t\t");
+    _builder.append("BroadcastFilterParameters&>(filterParameters)");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append(");");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("private:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("DISALLOW_COPY_AND_ASSIGN(");
+    _builder.append(className, "\t");
+    _builder.append(");");
+    _builder.newLineIfNotEmpty();
+    _builder.append("};");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(serviceInterface, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#endif // ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
@@ -0,0 +1,127 @@
+package io.joynr.generator.cpp.interfaces;
+
+import com.google.common.base.Objects;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.joynr.generator.cpp.communicationmodel.EnumCppTemplate;
+import io.joynr.generator.cpp.communicationmodel.EnumHTemplate;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.CppTemplateFactory;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.io.File;
+import java.util.HashMap;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FModel;
+
+@SuppressWarnings("all")
+public class InterfaceGenerator {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private InterfaceUtil _interfaceUtil;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_NOVERSIONGENERATION_COMMENT)
+  public boolean versioningComment;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_PACKAGEWITHVERSION)
+  public boolean packageWithVersion;
+
+  @Inject
+  private CppTemplateFactory templateFactory;
+
+  public void doGenerate(final FModel fModel, final IFileSystemAccess sourceFileSystem, final IFileSystemAccess headerFileSystem, final String sourceContainerPath, final String headerContainerPath) {
+    final String dataTypePath = ((sourceContainerPath + "datatypes") + File.separator);
+    final String interfacePath = ((sourceContainerPath + "interfaces") + File.separator);
+    String _xifexpression = null;
+    boolean _equals = Objects.equal(sourceFileSystem, headerFileSystem);
+    if (_equals) {
+      _xifexpression = ((headerContainerPath + "interfaces") + File.separator);
+    } else {
+      _xifexpression = headerContainerPath;
+    }
+    final String headerInterfacePath = _xifexpression;
+    EList<FInterface> _interfaces = fModel.getInterfaces();
+    for (final FInterface serviceInterface : _interfaces) {
+      {
+        boolean _xifexpression_1 = false;
+        if (this.versioningComment) {
+          boolean _commentContainsNoVersionGeneration = this._joynrCppGeneratorExtensions.commentContainsNoVersionGeneration(serviceInterface);
+          _xifexpression_1 = (!_commentContainsNoVersionGeneration);
+        } else {
+          _xifexpression_1 = this.packageWithVersion;
+        }
+        final boolean generateVersioning = _xifexpression_1;
+        String _packageSourceDirectory = this._joynrCppGeneratorExtensions.getPackageSourceDirectory(serviceInterface, generateVersioning);
+        String _plus = (interfacePath + _packageSourceDirectory);
+        final String sourcepath = (_plus + File.separator);
+        String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(serviceInterface, File.separator, generateVersioning);
+        String _plus_1 = (headerInterfacePath + _packagePathWithJoynrPrefix);
+        final String headerpath = (_plus_1 + File.separator);
+        InterfaceHTemplate interfaceHTemplate = this.templateFactory.createInterfaceHTemplate(serviceInterface);
+        String _joynrName = this._namingUtil.joynrName(serviceInterface);
+        String _plus_2 = ((headerpath + "I") + _joynrName);
+        String _plus_3 = (_plus_2 + ".h");
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, _plus_3, interfaceHTemplate, generateVersioning);
+        InterfaceCppTemplate interfaceCppTemplate = this.templateFactory.createInterfaceCppTemplate(serviceInterface);
+        String _joynrName_1 = this._namingUtil.joynrName(serviceInterface);
+        String _plus_4 = ((sourcepath + "I") + _joynrName_1);
+        String _plus_5 = (_plus_4 + ".cpp");
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, _plus_5, interfaceCppTemplate, generateVersioning);
+        this.generateErrorEnumTypes(headerFileSystem, sourceFileSystem, dataTypePath, serviceInterface, generateVersioning);
+      }
+    }
+  }
+
+  public void generateErrorEnumTypes(final IFileSystemAccess headerFileSystem, final IFileSystemAccess sourceFileSystem, final String dataTypePath, final FInterface fInterface, final boolean generateVersioning) {
+    HashMap<FMethod, String> methodToErrorEnumName = this._interfaceUtil.methodToErrorEnumName(fInterface);
+    EList<FMethod> _methods = this._interfaceUtil.getMethods(fInterface);
+    for (final FMethod method : _methods) {
+      {
+        FEnumerationType enumType = method.getErrors();
+        if ((enumType != null)) {
+          enumType.setName(methodToErrorEnumName.get(method));
+          final String path = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(enumType, File.separator, generateVersioning);
+          String _generationTypeName = this._cppStdTypeUtil.getGenerationTypeName(enumType);
+          final String headerFilename = ((path + File.separator) + _generationTypeName);
+          String _packageSourceDirectory = this._joynrCppGeneratorExtensions.getPackageSourceDirectory(fInterface, generateVersioning);
+          String _plus = (dataTypePath + _packageSourceDirectory);
+          String _plus_1 = (_plus + File.separator);
+          String _joynrName = this._namingUtil.joynrName(fInterface);
+          final String sourceFilepath = (_plus_1 + _joynrName);
+          String _generationTypeName_1 = this._cppStdTypeUtil.getGenerationTypeName(enumType);
+          final String sourceFilename = ((sourceFilepath + File.separator) + _generationTypeName_1);
+          this.generateEnum(headerFileSystem, sourceFileSystem, enumType, headerFilename, sourceFilename, generateVersioning);
+        }
+      }
+    }
+  }
+
+  public void generateEnum(final IFileSystemAccess headerFileSystem, final IFileSystemAccess sourceFileSystem, final FEnumerationType enumType, final String headerFilename, final String sourceFilename, final boolean generateVersioning) {
+    EnumHTemplate enumHTemplate = this.templateFactory.createEnumHTemplate(enumType);
+    this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+      (headerFilename + ".h"), enumHTemplate, generateVersioning);
+    EnumCppTemplate enumCppTemplate = this.templateFactory.createEnumCppTemplate(enumType);
+    this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+      (sourceFilename + ".cpp"), enumCppTemplate, generateVersioning);
+  }
+}
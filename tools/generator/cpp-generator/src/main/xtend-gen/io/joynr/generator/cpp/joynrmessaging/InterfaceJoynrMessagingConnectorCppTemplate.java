@@ -0,0 +1,1951 @@
+package io.joynr.generator.cpp.joynrmessaging;
+
+import com.google.inject.Inject;
+import io.joynr.generator.cpp.util.CppInterfaceUtil;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.InterfaceSubscriptionUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.InterfaceTemplate;
+import io.joynr.generator.templates.util.AttributeUtil;
+import io.joynr.generator.templates.util.MethodUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Set;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FType;
+
+@SuppressWarnings("all")
+public class InterfaceJoynrMessagingConnectorCppTemplate extends InterfaceTemplate {
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private AttributeUtil _attributeUtil;
+
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  @Inject
+  @Extension
+  private CppInterfaceUtil _cppInterfaceUtil;
+
+  @Inject
+  @Extension
+  private InterfaceSubscriptionUtil _interfaceSubscriptionUtil;
+
+  public CharSequence produceParameterSetters(final FMethod method, final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    {
+      boolean _isFireAndForget = method.isFireAndForget();
+      boolean _not = (!_isFireAndForget);
+      if (_not) {
+        _builder.append("joynr::Request request;");
+        _builder.newLine();
+      } else {
+        _builder.append("joynr::OneWayRequest request;");
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    _builder.append("request.setMethodName(\"");
+    String _joynrName = this._namingUtil.joynrName(method);
+    _builder.append(_joynrName);
+    _builder.append("\");");
+    _builder.newLineIfNotEmpty();
+    _builder.append("request.setParamDatatypes({");
+    _builder.newLine();
+    {
+      Iterable<FArgument> _inputParameters = this._methodUtil.getInputParameters(method);
+      boolean _hasElements = false;
+      for(final FArgument param : _inputParameters) {
+        if (!_hasElements) {
+          _hasElements = true;
+        } else {
+          _builder.appendImmediate(",", "\t");
+        }
+        _builder.append("\t");
+        _builder.append("\"");
+        String _joynrTypeName = this._joynrCppGeneratorExtensions.getJoynrTypeName(param, generateVersion);
+        _builder.append(_joynrTypeName, "\t");
+        _builder.append("\"");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t");
+    _builder.append("});");
+    _builder.newLine();
+    _builder.append("request.setParams(");
+    _builder.newLine();
+    {
+      Iterable<FArgument> _inputParameters_1 = this._methodUtil.getInputParameters(method);
+      boolean _hasElements_1 = false;
+      for(final FArgument param_1 : _inputParameters_1) {
+        if (!_hasElements_1) {
+          _hasElements_1 = true;
+        } else {
+          _builder.appendImmediate(",", "\t");
+        }
+        _builder.append("\t");
+        String _name = param_1.getName();
+        _builder.append(_name, "\t");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append(");");
+    _builder.newLine();
+    return _builder;
+  }
+
+  public String getParamsPlaceholders(final int numberOfParams) {
+    String placeholders = "";
+    for (int i = 0; (i < numberOfParams); i++) {
+      {
+        if ((i != 0)) {
+          String _placeholders = placeholders;
+          placeholders = (_placeholders + ", ");
+        }
+        String _placeholders_1 = placeholders;
+        placeholders = (_placeholders_1 + "{}");
+      }
+    }
+    return placeholders;
+  }
+
+  public CharSequence logMethodCall(final FMethod method) {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append("JOYNR_LOG_DEBUG(logger(),");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("\"");
+    {
+      boolean _isFireAndForget = method.isFireAndForget();
+      if (_isFireAndForget) {
+        _builder.append("ONEWAY");
+      }
+    }
+    _builder.append("REQUEST call proxy: ");
+    {
+      boolean _isFireAndForget_1 = method.isFireAndForget();
+      boolean _not = (!_isFireAndForget_1);
+      if (_not) {
+        _builder.append("requestReplyId: {}, ");
+      }
+    }
+    _builder.append("method: {}, params: ");
+    String _paramsPlaceholders = this.getParamsPlaceholders(IterableExtensions.size(this._methodUtil.getInputParameters(method)));
+    _builder.append(_paramsPlaceholders, "\t\t");
+    _builder.append("\",");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    {
+      boolean _isFireAndForget_2 = method.isFireAndForget();
+      boolean _not_1 = (!_isFireAndForget_2);
+      if (_not_1) {
+        _builder.append("request.getRequestReplyId(),");
+      }
+    }
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("request.getMethodName()");
+    _builder.newLine();
+    _builder.append("\t\t");
+    {
+      int _size = IterableExtensions.size(this._methodUtil.getInputParameters(method));
+      boolean _greaterThan = (_size > 0);
+      if (_greaterThan) {
+        _builder.append(",");
+      }
+    }
+    _builder.newLineIfNotEmpty();
+    {
+      Iterable<FArgument> _inputParameters = this._methodUtil.getInputParameters(method);
+      boolean _hasElements = false;
+      for(final FArgument inputParam : _inputParameters) {
+        if (!_hasElements) {
+          _hasElements = true;
+        } else {
+          _builder.appendImmediate(",", "\t\t");
+        }
+        _builder.append("\t\t");
+        _builder.append("joynr::serializer::serializeToJson(");
+        String _joynrName = this._namingUtil.joynrName(inputParam);
+        _builder.append(_joynrName, "\t\t");
+        _builder.append(")");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t\t");
+    _builder.append(");");
+    _builder.newLine();
+    return _builder;
+  }
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String interfaceName = this._namingUtil.joynrName(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    final HashMap<FMethod, String> methodToErrorEnumName = this._cppInterfaceUtil.methodToErrorEnumName(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#include \"");
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "/", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix);
+    _builder.append("/");
+    _builder.append(interfaceName);
+    _builder.append("JoynrMessagingConnector.h\"");
+    _builder.newLineIfNotEmpty();
+    _builder.append("#include \"joynr/serializer/Serializer.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/ReplyCaller.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/IMessageSender.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/UnicastSubscriptionCallback.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/MulticastSubscriptionCallback.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/Util.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/SubscriptionStop.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/Future.h\"");
+    _builder.newLine();
+    _builder.append("#include <cstdint>");
+    _builder.newLine();
+    _builder.append("#include \"joynr/SubscriptionUtil.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/exceptions/JoynrException.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/exceptions/MethodInvocationException.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/Request.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/OneWayRequest.h\"");
+    _builder.newLine();
+    {
+      boolean _isEmpty = this.francaIntf.getAttributes().isEmpty();
+      boolean _not = (!_isEmpty);
+      if (_not) {
+        _builder.append("#include \"joynr/SubscriptionRequest.h\"");
+        _builder.newLine();
+      }
+    }
+    {
+      final Function1<FBroadcast, Boolean> _function = new Function1<FBroadcast, Boolean>() {
+        @Override
+        public Boolean apply(final FBroadcast it) {
+          return Boolean.valueOf(it.isSelective());
+        }
+      };
+      boolean _isEmpty_1 = IterableExtensions.isEmpty(IterableExtensions.<FBroadcast>filter(this.francaIntf.getBroadcasts(), _function));
+      boolean _not_1 = (!_isEmpty_1);
+      if (_not_1) {
+        _builder.append("#include \"joynr/BroadcastSubscriptionRequest.h\"");
+        _builder.newLine();
+      }
+    }
+    {
+      final Function1<FBroadcast, Boolean> _function_1 = new Function1<FBroadcast, Boolean>() {
+        @Override
+        public Boolean apply(final FBroadcast it) {
+          boolean _isSelective = it.isSelective();
+          return Boolean.valueOf((!_isSelective));
+        }
+      };
+      boolean _isEmpty_2 = IterableExtensions.isEmpty(IterableExtensions.<FBroadcast>filter(this.francaIntf.getBroadcasts(), _function_1));
+      boolean _not_2 = (!_isEmpty_2);
+      if (_not_2) {
+        _builder.append("#include \"joynr/MulticastSubscriptionQos.h\"");
+        _builder.newLine();
+        _builder.append("#include \"joynr/MulticastSubscriptionRequest.h\"");
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    {
+      EList<FMethod> _methods = this._cppInterfaceUtil.getMethods(this.francaIntf);
+      for(final FMethod method : _methods) {
+        {
+          boolean _hasErrorEnum = this._methodUtil.hasErrorEnum(method);
+          if (_hasErrorEnum) {
+            FEnumerationType enumType = method.getErrors();
+            _builder.newLineIfNotEmpty();
+            {
+              if ((enumType != null)) {
+                enumType.setName(methodToErrorEnumName.get(method));
+                _builder.newLineIfNotEmpty();
+              } else {
+                String _xblockexpression = null;
+                {
+                  enumType = method.getErrorEnum();
+                  _xblockexpression = "";
+                }
+                _builder.append(_xblockexpression);
+                _builder.newLineIfNotEmpty();
+              }
+            }
+            _builder.append("#include \"");
+            String _packagePathWithJoynrPrefix_1 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(enumType, File.separator, true, generateVersion);
+            String _plus = (_packagePathWithJoynrPrefix_1 + File.separator);
+            String _joynrName = this._namingUtil.joynrName(enumType);
+            String _plus_1 = (_plus + _joynrName);
+            _builder.append(_plus_1);
+            _builder.append(".h\"");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+      }
+    }
+    _builder.newLine();
+    {
+      Iterable<FType> _allComplexTypes = this._cppInterfaceUtil.getAllComplexTypes(this.francaIntf);
+      for(final FType datatype : _allComplexTypes) {
+        {
+          if ((this._cppStdTypeUtil.isCompound(datatype) || this._cppStdTypeUtil.isMap(datatype))) {
+            _builder.append("#include ");
+            String _includeOf = this._cppStdTypeUtil.getIncludeOf(datatype, generateVersion);
+            _builder.append(_includeOf);
+            _builder.newLineIfNotEmpty();
+          }
+        }
+      }
+    }
+    _builder.newLine();
+    {
+      Set<String> _broadcastFilterParametersIncludes = this._cppStdTypeUtil.getBroadcastFilterParametersIncludes(this.francaIntf, generateVersion);
+      for(final String broadcastFilterParameters : _broadcastFilterParametersIncludes) {
+        _builder.append("#include ");
+        _builder.append(broadcastFilterParameters);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("using joynr::util::safeInvokeCallback;");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(this.francaIntf, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    final String className = (interfaceName + "JoynrMessagingConnector");
+    _builder.newLineIfNotEmpty();
+    _builder.append(className);
+    _builder.append("::");
+    _builder.append(className);
+    _builder.append("(");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("std::weak_ptr<joynr::IMessageSender> messageSender,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("std::weak_ptr<joynr::ISubscriptionManager> subscriptionManager,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const std::string& domain,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const std::string& proxyParticipantId,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const joynr::MessagingQos &qosSettings,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const joynr::types::DiscoveryEntryWithMetaInfo& providerDiscoveryEntry)");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append(": joynr::AbstractJoynrMessagingConnector(messageSender, subscriptionManager, domain, INTERFACE_NAME(), proxyParticipantId, qosSettings, providerDiscoveryEntry)");
+    _builder.newLine();
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      EList<FAttribute> _attributes = this._cppInterfaceUtil.getAttributes(this.francaIntf);
+      for(final FAttribute attribute : _attributes) {
+        final String returnType = this._cppStdTypeUtil.getTypeName(attribute, generateVersion);
+        _builder.newLineIfNotEmpty();
+        final String attributeName = this._namingUtil.joynrName(attribute);
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isReadable = this._attributeUtil.isReadable(attribute);
+          if (_isReadable) {
+            CharSequence _produceSyncGetterSignature = this._cppInterfaceUtil.produceSyncGetterSignature(attribute, className, generateVersion);
+            _builder.append(_produceSyncGetterSignature);
+            _builder.newLineIfNotEmpty();
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("auto future = get");
+            String _firstUpper = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper, "\t");
+            _builder.append("Async(nullptr, nullptr, std::move(qos));");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("future->get(");
+            _builder.append(attributeName, "\t");
+            _builder.append(");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+            CharSequence _produceAsyncGetterSignature = this._cppInterfaceUtil.produceAsyncGetterSignature(attribute, className, generateVersion);
+            _builder.append(_produceAsyncGetterSignature);
+            _builder.newLineIfNotEmpty();
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("joynr::Request request;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("// explicitly set to no parameters");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("request.setParams();");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("request.setMethodName(\"get");
+            String _firstUpper_1 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_1, "\t");
+            _builder.append("\");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("auto future = std::make_shared<joynr::Future<");
+            _builder.append(returnType, "\t");
+            _builder.append(">>();");
+            _builder.newLineIfNotEmpty();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::function<void(const ");
+            _builder.append(returnType, "\t");
+            _builder.append("&)> onSuccessWrapper = [");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t\t");
+            _builder.append("future,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("onSuccess = std::move(onSuccess),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("requestReplyId = request.getRequestReplyId(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("methodName = request.getMethodName(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("thisSharedPtr = shared_from_this()");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("] (const ");
+            _builder.append(returnType, "\t");
+            _builder.append("& ");
+            _builder.append(attributeName, "\t");
+            _builder.append(") {");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("\"REQUEST returns successful: requestReplyId: {}, method: {}, response: {}\",");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("requestReplyId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("methodName,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("joynr::serializer::serializeToJson(");
+            _builder.append(attributeName, "\t\t\t\t");
+            _builder.append(")");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onSuccess, ");
+            _builder.append(attributeName, "\t\t");
+            _builder.append(");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append("future->onSuccess(");
+            _builder.append(attributeName, "\t\t");
+            _builder.append(");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("};");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::function<void(const std::shared_ptr<exceptions::JoynrException>& error)> onErrorWrapper = [");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("future,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("onError = onError,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("requestReplyId = request.getRequestReplyId(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("methodName = request.getMethodName()");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("] (const std::shared_ptr<exceptions::JoynrException>& error) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("assert(error);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("if (!error) {");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("JOYNR_LOG_FATAL(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("\"REQUEST returns error: requestReplyId: {}, method: {}, error not set, aborting\",");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("requestReplyId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("methodName");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("return;");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("\"REQUEST returns error: requestReplyId: {}, method: {}, response: {}\",");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("requestReplyId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("methodName,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("error->what()");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onError, static_cast<const exceptions::JoynrRuntimeException&>(*error));");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("future->onError(error);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("};");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("try {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("\"REQUEST call proxy: requestReplyId: {}, method: {}\",");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("request.getRequestReplyId(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("request.getMethodName());");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("auto replyCaller = std::make_shared<joynr::ReplyCaller<");
+            _builder.append(returnType, "\t\t");
+            _builder.append(">>(std::move(onSuccessWrapper), std::move(onErrorWrapper));");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append("operationRequest(std::move(replyCaller), std::move(request), std::move(qos));");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("} catch (const std::invalid_argument& exception) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("auto joynrException = std::make_shared<joynr::exceptions::MethodInvocationException>(exception.what());");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onError, *joynrException);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("future->onError(joynrException);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("} catch (const joynr::exceptions::JoynrRuntimeException& exception) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("std::shared_ptr<joynr::exceptions::JoynrRuntimeException> exceptionPtr;");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("exceptionPtr.reset(exception.clone());");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onError, exception);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("future->onError(exceptionPtr);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("return future;");
+            _builder.newLine();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+          }
+        }
+        {
+          boolean _isWritable = this._attributeUtil.isWritable(attribute);
+          if (_isWritable) {
+            CharSequence _produceAsyncSetterSignature = this._cppInterfaceUtil.produceAsyncSetterSignature(attribute, className, generateVersion);
+            _builder.append(_produceAsyncSetterSignature);
+            _builder.newLineIfNotEmpty();
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("joynr::Request request;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("request.setMethodName(\"set");
+            String _firstUpper_2 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_2, "\t");
+            _builder.append("\");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("request.setParamDatatypes({\"");
+            String _joynrTypeName = this._joynrCppGeneratorExtensions.getJoynrTypeName(attribute, generateVersion);
+            _builder.append(_joynrTypeName, "\t");
+            _builder.append("\"});");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("request.setParams(");
+            _builder.append(attributeName, "\t");
+            _builder.append(");");
+            _builder.newLineIfNotEmpty();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("auto future = std::make_shared<joynr::Future<void>>();");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::function<void()> onSuccessWrapper = [");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("future,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("onSuccess = std::move(onSuccess),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("requestReplyId = request.getRequestReplyId(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("methodName = request.getMethodName(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("thisSharedPtr = shared_from_this()");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("] () {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("\"REQUEST returns successful: requestReplyId: {}, method: {}\",");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("requestReplyId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("methodName");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onSuccess);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("future->onSuccess();");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("};");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::function<void(const std::shared_ptr<exceptions::JoynrException>& error)> onErrorWrapper = [");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("future,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("onError = onError,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("requestReplyId = request.getRequestReplyId(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("methodName = request.getMethodName()");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("] (const std::shared_ptr<exceptions::JoynrException>& error) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("assert(error);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("if (!error) {");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("JOYNR_LOG_FATAL(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("\"REQUEST returns error: requestReplyId: {}, method: {}, error not set, aborting\",");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("requestReplyId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("methodName");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("return;");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("\"REQUEST returns error: requestReplyId: {}, method: {}, response: {}\",");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("requestReplyId,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("methodName,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("error->what()");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onError, static_cast<const exceptions::JoynrRuntimeException&>(*error));");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("future->onError(error);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("};");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("try {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("\"REQUEST call proxy: requestReplyId: {}, method: {}, params: {}\",");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("request.getRequestReplyId(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("request.getMethodName(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("joynr::serializer::serializeToJson(");
+            _builder.append(attributeName, "\t\t\t\t");
+            _builder.append("));");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append("auto replyCaller = std::make_shared<joynr::ReplyCaller<void>>(std::move(onSuccessWrapper), std::move(onErrorWrapper));");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("operationRequest(std::move(replyCaller), std::move(request), std::move(qos));");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("} catch (const std::invalid_argument& exception) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("auto joynrException = std::make_shared<joynr::exceptions::MethodInvocationException>(exception.what());");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onError, *joynrException);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("future->onError(joynrException);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("} catch (const joynr::exceptions::JoynrRuntimeException& exception) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("std::shared_ptr<joynr::exceptions::JoynrRuntimeException> exceptionPtr;");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("exceptionPtr.reset(exception.clone());");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onError, exception);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("future->onError(exceptionPtr);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("return future;");
+            _builder.newLine();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+            CharSequence _produceSyncSetterSignature = this._cppInterfaceUtil.produceSyncSetterSignature(attribute, className, generateVersion);
+            _builder.append(_produceSyncSetterSignature);
+            _builder.newLineIfNotEmpty();
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("auto future = set");
+            String _firstUpper_3 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_3, "\t");
+            _builder.append("Async(");
+            _builder.append(attributeName, "\t");
+            _builder.append(", nullptr, nullptr, std::move(qos));");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("future->get();");
+            _builder.newLine();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+          }
+        }
+        {
+          boolean _isNotifiable = this._attributeUtil.isNotifiable(attribute);
+          if (_isNotifiable) {
+            CharSequence _produceSubscribeToAttributeSignature = this._interfaceSubscriptionUtil.produceSubscribeToAttributeSignature(attribute, className, generateVersion);
+            _builder.append(_produceSubscribeToAttributeSignature);
+            _builder.append(" {");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("joynr::SubscriptionRequest subscriptionRequest;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("return subscribeTo");
+            String _firstUpper_4 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_4, "\t");
+            _builder.append("(subscriptionListener, subscriptionQos, subscriptionRequest);");
+            _builder.newLineIfNotEmpty();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+            CharSequence _produceUpdateAttributeSubscriptionSignature = this._interfaceSubscriptionUtil.produceUpdateAttributeSubscriptionSignature(attribute, className, generateVersion);
+            _builder.append(_produceUpdateAttributeSubscriptionSignature);
+            _builder.append(" {");
+            _builder.newLineIfNotEmpty();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("joynr::SubscriptionRequest subscriptionRequest;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("subscriptionRequest.setSubscriptionId(subscriptionId);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("return subscribeTo");
+            String _firstUpper_5 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_5, "\t");
+            _builder.append("(subscriptionListener, subscriptionQos, subscriptionRequest);");
+            _builder.newLineIfNotEmpty();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("std::shared_ptr<joynr::Future<std::string>> ");
+            _builder.append(className);
+            _builder.append("::subscribeTo");
+            String _firstUpper_6 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_6);
+            _builder.append("(");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t\t");
+            _builder.append("std::shared_ptr<joynr::ISubscriptionListener<");
+            _builder.append(returnType, "\t\t\t");
+            _builder.append("> > subscriptionListener,");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t\t");
+            _builder.append("std::shared_ptr<joynr::SubscriptionQos> subscriptionQos,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("SubscriptionRequest& subscriptionRequest");
+            _builder.newLine();
+            _builder.append(") {");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("JOYNR_LOG_TRACE(logger(), \"Subscribing to ");
+            _builder.append(attributeName, "\t");
+            _builder.append(".\");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("std::string attributeName(\"");
+            _builder.append(attributeName, "\t");
+            _builder.append("\");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("joynr::MessagingQos clonedMessagingQos(_qosSettings);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("clonedMessagingQos.setTtl(static_cast<std::uint64_t>(ISubscriptionManager::convertExpiryDateIntoTtlMs(*subscriptionQos)));");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("auto future = std::make_shared<Future<std::string>>();");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::shared_ptr<joynr::AbstractJoynrMessagingConnector> messagingConnector = shared_from_this();");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("auto subscriptionCallback = std::make_shared<joynr::UnicastSubscriptionCallback<");
+            _builder.append(returnType, "\t");
+            _builder.append(">");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(">(subscriptionRequest.getSubscriptionId(), future, _subscriptionManager, messagingConnector);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("if (auto ptr = _subscriptionManager.lock()) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("ptr->registerSubscription(");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("attributeName,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("subscriptionCallback,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("subscriptionListener,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("subscriptionQos,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("subscriptionRequest);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("\"SUBSCRIPTION call proxy: subscriptionId: {}, attribute: {}, qos: {}\",");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionRequest.getSubscriptionId(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("attributeName,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("joynr::serializer::serializeToJson(*subscriptionQos));");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("if (auto ptr = _messageSender.lock()) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("ptr->sendSubscriptionRequest(");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("_proxyParticipantId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("_providerParticipantId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("clonedMessagingQos,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("subscriptionRequest,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("_providerDiscoveryEntry.getIsLocal()");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("return future;");
+            _builder.newLine();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+            CharSequence _produceUnsubscribeFromAttributeSignature = this._interfaceSubscriptionUtil.produceUnsubscribeFromAttributeSignature(attribute, className);
+            _builder.append(_produceUnsubscribeFromAttributeSignature);
+            _builder.append(" {");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("joynr::SubscriptionStop subscriptionStop;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("subscriptionStop.setSubscriptionId(subscriptionId);");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("if (auto ptr = _subscriptionManager.lock()) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("ptr->unregisterSubscription(subscriptionId);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("if (auto ptr = _messageSender.lock()) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("ptr->sendSubscriptionStop(");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("_proxyParticipantId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("_providerParticipantId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("_qosSettings,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("subscriptionStop");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+          }
+        }
+      }
+    }
+    _builder.newLine();
+    {
+      EList<FMethod> _methods_1 = this._cppInterfaceUtil.getMethods(this.francaIntf);
+      for(final FMethod method_1 : _methods_1) {
+        String outputTypedConstParamList = this._cppStdTypeUtil.getCommaSeperatedTypedConstOutputParameterList(method_1, generateVersion);
+        _builder.newLineIfNotEmpty();
+        final String outputParameters = this._cppStdTypeUtil.getCommaSeparatedOutputParameterTypes(method_1, generateVersion);
+        _builder.newLineIfNotEmpty();
+        String outputUntypedParamList = this._cppStdTypeUtil.getCommaSeperatedUntypedOutputParameterList(method_1);
+        _builder.newLineIfNotEmpty();
+        _builder.newLine();
+        {
+          boolean _isFireAndForget = method_1.isFireAndForget();
+          boolean _not_3 = (!_isFireAndForget);
+          if (_not_3) {
+            CharSequence _produceSyncMethodSignature = this._cppInterfaceUtil.produceSyncMethodSignature(method_1, className, generateVersion);
+            _builder.append(_produceSyncMethodSignature);
+            _builder.newLineIfNotEmpty();
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("auto future = ");
+            String _joynrName_1 = this._namingUtil.joynrName(method_1);
+            _builder.append(_joynrName_1, "\t");
+            _builder.append("Async(");
+            String _commaSeperatedUntypedInputParameterList = this._cppStdTypeUtil.getCommaSeperatedUntypedInputParameterList(method_1);
+            _builder.append(_commaSeperatedUntypedInputParameterList, "\t");
+            {
+              boolean _isEmpty_3 = IterableExtensions.isEmpty(this._methodUtil.getInputParameters(method_1));
+              boolean _not_4 = (!_isEmpty_3);
+              if (_not_4) {
+                _builder.append(", ");
+              }
+            }
+            {
+              boolean _hasErrorEnum_1 = this._methodUtil.hasErrorEnum(method_1);
+              if (_hasErrorEnum_1) {
+                _builder.append("nullptr,");
+              }
+            }
+            _builder.append("nullptr, nullptr, std::move(qos));");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("future->get(");
+            String _commaSeperatedUntypedOutputParameterList = this._cppStdTypeUtil.getCommaSeperatedUntypedOutputParameterList(method_1);
+            _builder.append(_commaSeperatedUntypedOutputParameterList, "\t");
+            _builder.append(");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+            CharSequence _produceAsyncMethodSignature = this._cppInterfaceUtil.produceAsyncMethodSignature(this.francaIntf, method_1, className, generateVersion);
+            _builder.append(_produceAsyncMethodSignature);
+            _builder.newLineIfNotEmpty();
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t");
+            CharSequence _produceParameterSetters = this.produceParameterSetters(method_1, generateVersion);
+            _builder.append(_produceParameterSetters, "\t");
+            _builder.newLineIfNotEmpty();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("auto future = std::make_shared<joynr::Future<");
+            _builder.append(outputParameters, "\t");
+            _builder.append(">>();");
+            _builder.newLineIfNotEmpty();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::function<void(");
+            _builder.append(outputTypedConstParamList, "\t");
+            _builder.append(")> onSuccessWrapper = [");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t\t");
+            _builder.append("future,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("onSuccess = std::move(onSuccess),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("requestReplyId = request.getRequestReplyId(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("methodName = request.getMethodName(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("thisSharedPtr = shared_from_this()");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("] (");
+            _builder.append(outputTypedConstParamList, "\t");
+            _builder.append(")");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("\"REQUEST returns successful: requestReplyId: {}, method: {}, response: ");
+            String _paramsPlaceholders = this.getParamsPlaceholders(IterableExtensions.size(this._methodUtil.getOutputParameters(method_1)));
+            _builder.append(_paramsPlaceholders, "\t\t\t");
+            _builder.append("\",");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t\t");
+            _builder.append("requestReplyId,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("methodName");
+            {
+              boolean _isEmpty_4 = IterableExtensions.isEmpty(this._methodUtil.getOutputParameters(method_1));
+              boolean _not_5 = (!_isEmpty_4);
+              if (_not_5) {
+                _builder.append(",");
+              }
+            }
+            _builder.newLineIfNotEmpty();
+            {
+              Iterable<FArgument> _outputParameters = this._methodUtil.getOutputParameters(method_1);
+              boolean _hasElements = false;
+              for(final FArgument outParam : _outputParameters) {
+                if (!_hasElements) {
+                  _hasElements = true;
+                } else {
+                  _builder.appendImmediate(", ", "\t\t\t");
+                }
+                _builder.append("\t\t\t");
+                _builder.append("joynr::serializer::serializeToJson(");
+                String _joynrName_2 = this._namingUtil.joynrName(outParam);
+                _builder.append(_joynrName_2, "\t\t\t");
+                _builder.append(")");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+            _builder.append("\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            {
+              int _length = outputUntypedParamList.length();
+              boolean _greaterThan = (_length > 0);
+              if (_greaterThan) {
+                _builder.append("\t\t");
+                _builder.append("safeInvokeCallback(logger(), onSuccess, ");
+                _builder.append(outputUntypedParamList, "\t\t");
+                _builder.append(");");
+                _builder.newLineIfNotEmpty();
+              } else {
+                _builder.append("\t\t");
+                _builder.append("safeInvokeCallback(logger(), onSuccess);");
+                _builder.newLine();
+              }
+            }
+            _builder.append("\t\t");
+            _builder.append("future->onSuccess(");
+            _builder.append(outputUntypedParamList, "\t\t");
+            _builder.append(");");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("};");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::function<void(const std::shared_ptr<exceptions::JoynrException>& error)> onErrorWrapper = [");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("future,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("onRuntimeError = onRuntimeError,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            {
+              boolean _hasErrorEnum_2 = this._methodUtil.hasErrorEnum(method_1);
+              if (_hasErrorEnum_2) {
+                _builder.append("onApplicationError = std::move(onApplicationError),");
+              }
+            }
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t\t");
+            _builder.append("requestReplyId = request.getRequestReplyId(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("methodName = request.getMethodName()");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("] (const std::shared_ptr<exceptions::JoynrException>& error)");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("assert(error);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("if (!error) {");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("JOYNR_LOG_FATAL(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("\"REQUEST returns error: requestReplyId: {}, method: {}, error not set, aborting\",");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("requestReplyId,");
+            _builder.newLine();
+            _builder.append("\t\t\t\t");
+            _builder.append("methodName");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("return;");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("\"REQUEST returns error: requestReplyId: {}, method: {}, response: {}\",");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("requestReplyId,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("methodName,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("error->what()");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t\t");
+            CharSequence _produceApplicationRuntimeErrorSplitForOnErrorWrapper = this._cppInterfaceUtil.produceApplicationRuntimeErrorSplitForOnErrorWrapper(this.francaIntf, method_1, generateVersion);
+            _builder.append(_produceApplicationRuntimeErrorSplitForOnErrorWrapper, "\t\t");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("};");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("try {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            CharSequence _logMethodCall = this.logMethodCall(method_1);
+            _builder.append(_logMethodCall, "\t\t");
+            _builder.newLineIfNotEmpty();
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("auto replyCaller = std::make_shared<joynr::ReplyCaller<");
+            _builder.append(outputParameters, "\t\t");
+            _builder.append(">>(std::move(onSuccessWrapper), std::move(onErrorWrapper));");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append("operationRequest(std::move(replyCaller), std::move(request), std::move(qos));");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("} catch (const std::invalid_argument& exception) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("auto joynrException = std::make_shared<joynr::exceptions::MethodInvocationException>(exception.what());");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onRuntimeError, *joynrException);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("future->onError(joynrException);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("} catch (const joynr::exceptions::JoynrRuntimeException& exception) {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("std::shared_ptr<joynr::exceptions::JoynrRuntimeException> exceptionPtr;");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("exceptionPtr.reset(exception.clone());");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("safeInvokeCallback(logger(), onRuntimeError, exception);");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("future->onError(exceptionPtr);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("return future;");
+            _builder.newLine();
+            _builder.append("}");
+            _builder.newLine();
+          } else {
+            CharSequence _produceFireAndForgetMethodSignature = this._cppInterfaceUtil.produceFireAndForgetMethodSignature(method_1, className, generateVersion);
+            _builder.append(_produceFireAndForgetMethodSignature);
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t\t");
+            CharSequence _produceParameterSetters_1 = this.produceParameterSetters(method_1, generateVersion);
+            _builder.append(_produceParameterSetters_1, "\t\t");
+            _builder.newLineIfNotEmpty();
+            _builder.newLine();
+            _builder.append("\t\t");
+            CharSequence _logMethodCall_1 = this.logMethodCall(method_1);
+            _builder.append(_logMethodCall_1, "\t\t");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append("operationOneWayRequest(std::move(request), std::move(qos));");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+          }
+        }
+      }
+    }
+    _builder.newLine();
+    {
+      EList<FBroadcast> _broadcasts = this.francaIntf.getBroadcasts();
+      for(final FBroadcast broadcast : _broadcasts) {
+        final String returnTypes = this._cppStdTypeUtil.getCommaSeparatedOutputParameterTypes(broadcast, generateVersion);
+        _builder.newLineIfNotEmpty();
+        final String broadcastName = this._namingUtil.joynrName(broadcast);
+        _builder.newLineIfNotEmpty();
+        CharSequence _produceSubscribeToBroadcastSignature = this._interfaceSubscriptionUtil.produceSubscribeToBroadcastSignature(broadcast, this.francaIntf, className, generateVersion);
+        _builder.append(_produceSubscribeToBroadcastSignature);
+        _builder.append(" {");
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isSelective = broadcast.isSelective();
+          if (_isSelective) {
+            _builder.append("\t");
+            _builder.append("joynr::BroadcastSubscriptionRequest subscriptionRequest;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("subscriptionRequest.setFilterParameters(filterParameters);");
+            _builder.newLine();
+          } else {
+            _builder.append("\t");
+            _builder.append("auto subscriptionRequest = std::make_shared<joynr::MulticastSubscriptionRequest>();");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t");
+        _builder.append("return subscribeTo");
+        String _firstUpper_7 = StringExtensions.toFirstUpper(broadcastName);
+        _builder.append(_firstUpper_7, "\t");
+        _builder.append("Broadcast(");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t\t\t");
+        _builder.append("std::move(subscriptionListener),");
+        _builder.newLine();
+        _builder.append("\t\t\t\t");
+        _builder.append("std::move(subscriptionQos),");
+        _builder.newLine();
+        _builder.append("\t\t\t\t");
+        _builder.append("subscriptionRequest");
+        {
+          boolean _isSelective_1 = broadcast.isSelective();
+          boolean _not_6 = (!_isSelective_1);
+          if (_not_6) {
+            _builder.append(",");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t\t\t");
+            _builder.append("partitions");
+          }
+        }
+        _builder.append(");");
+        _builder.newLineIfNotEmpty();
+        _builder.append("}");
+        _builder.newLine();
+        _builder.newLine();
+        CharSequence _produceUpdateBroadcastSubscriptionSignature = this._interfaceSubscriptionUtil.produceUpdateBroadcastSubscriptionSignature(broadcast, this.francaIntf, className, generateVersion);
+        _builder.append(_produceUpdateBroadcastSubscriptionSignature);
+        _builder.append(" {");
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isSelective_2 = broadcast.isSelective();
+          if (_isSelective_2) {
+            _builder.append("\t");
+            _builder.append("joynr::BroadcastSubscriptionRequest subscriptionRequest;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("subscriptionRequest.setFilterParameters(filterParameters);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("subscriptionRequest.setSubscriptionId(subscriptionId);");
+            _builder.newLine();
+          } else {
+            _builder.append("\t");
+            _builder.append("auto subscriptionRequest = std::make_shared<joynr::MulticastSubscriptionRequest>();");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("subscriptionRequest->setSubscriptionId(subscriptionId);");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t");
+        _builder.append("return subscribeTo");
+        String _firstUpper_8 = StringExtensions.toFirstUpper(broadcastName);
+        _builder.append(_firstUpper_8, "\t");
+        _builder.append("Broadcast(");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t\t\t");
+        _builder.append("std::move(subscriptionListener),");
+        _builder.newLine();
+        _builder.append("\t\t\t\t");
+        _builder.append("std::move(subscriptionQos),");
+        _builder.newLine();
+        _builder.append("\t\t\t\t");
+        _builder.append("subscriptionRequest");
+        {
+          boolean _isSelective_3 = broadcast.isSelective();
+          boolean _not_7 = (!_isSelective_3);
+          if (_not_7) {
+            _builder.append(",");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t\t\t");
+            _builder.append("partitions");
+          }
+        }
+        _builder.append(");");
+        _builder.newLineIfNotEmpty();
+        _builder.append("}");
+        _builder.newLine();
+        _builder.newLine();
+        _builder.append("std::shared_ptr<joynr::Future<std::string>> ");
+        _builder.append(className);
+        _builder.append("::subscribeTo");
+        String _firstUpper_9 = StringExtensions.toFirstUpper(broadcastName);
+        _builder.append(_firstUpper_9);
+        _builder.append("Broadcast(");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t\t");
+        _builder.append("std::shared_ptr<joynr::ISubscriptionListener<");
+        _builder.append(returnTypes, "\t\t\t");
+        _builder.append(" > > subscriptionListener,");
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isSelective_4 = broadcast.isSelective();
+          if (_isSelective_4) {
+            _builder.append("\t\t\t");
+            _builder.append("std::shared_ptr<joynr::OnChangeSubscriptionQos> subscriptionQos,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("BroadcastSubscriptionRequest& subscriptionRequest");
+            _builder.newLine();
+          } else {
+            _builder.append("\t\t\t");
+            _builder.append("std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("std::shared_ptr<MulticastSubscriptionRequest> subscriptionRequest,");
+            _builder.newLine();
+            _builder.append("\t\t\t");
+            _builder.append("const std::vector<std::string>& partitions");
+            _builder.newLine();
+          }
+        }
+        _builder.append(") {");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("JOYNR_LOG_TRACE(logger(), \"Subscribing to ");
+        _builder.append(broadcastName, "\t");
+        _builder.append(" ");
+        {
+          boolean _isSelective_5 = broadcast.isSelective();
+          if (_isSelective_5) {
+            _builder.append("broadcast");
+          } else {
+            _builder.append("multicast");
+          }
+        }
+        _builder.append(".\");");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("std::string broadcastName(\"");
+        _builder.append(broadcastName, "\t");
+        _builder.append("\");");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("joynr::MessagingQos clonedMessagingQos(_qosSettings);");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("clonedMessagingQos.setTtl(static_cast<std::uint64_t>(ISubscriptionManager::convertExpiryDateIntoTtlMs(*subscriptionQos)));");
+        _builder.newLine();
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("auto future = std::make_shared<Future<std::string>>();");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("std::shared_ptr<joynr::AbstractJoynrMessagingConnector> messagingConnector = shared_from_this();");
+        _builder.newLine();
+        {
+          boolean _isSelective_6 = broadcast.isSelective();
+          if (_isSelective_6) {
+            _builder.append("\t");
+            _builder.append("auto subscriptionCallback = std::make_shared<joynr::UnicastSubscriptionCallback<");
+            _builder.append(returnTypes, "\t");
+            _builder.append(">");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(">(subscriptionRequest.getSubscriptionId(), future, _subscriptionManager, messagingConnector);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("if (auto ptr = _subscriptionManager.lock()) {");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("ptr->registerSubscription(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("broadcastName,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionCallback,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionListener,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionQos,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionRequest);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("JOYNR_LOG_DEBUG(logger(),");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("\"SUBSCRIPTION call proxy: subscriptionId: {}, broadcast: {}, qos: {}\",");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("subscriptionRequest.getSubscriptionId(),");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("broadcastName,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("joynr::serializer::serializeToJson(*subscriptionQos));");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("if (auto ptr = _messageSender.lock()) {");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("ptr->sendBroadcastSubscriptionRequest(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("_proxyParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("_providerParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("clonedMessagingQos,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionRequest,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("_providerDiscoveryEntry.getIsLocal()");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+          } else {
+            _builder.append("\t");
+            _builder.append("auto subscriptionCallback = std::make_shared<joynr::MulticastSubscriptionCallback<");
+            _builder.append(returnTypes, "\t");
+            _builder.append(">");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(">(subscriptionRequest->getSubscriptionId(), future, _subscriptionManager, messagingConnector);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::string subscriptionId = subscriptionRequest");
+            {
+              boolean _isSelective_7 = broadcast.isSelective();
+              if (_isSelective_7) {
+                _builder.append(".");
+              } else {
+                _builder.append("->");
+              }
+            }
+            _builder.append("getSubscriptionId();");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("std::function<void()> onSuccess =");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("[messageSender = _messageSender,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("proxyParticipantId = _proxyParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("providerParticipantId = _providerParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("clonedMessagingQos, subscriptionId] () {");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("if (auto ptr = messageSender.lock())");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("                            ");
+            _builder.append("SubscriptionReply subscriptionReply;");
+            _builder.newLine();
+            _builder.append("                            ");
+            _builder.append("subscriptionReply.setSubscriptionId(subscriptionId);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t");
+            _builder.append("ptr->sendSubscriptionReply(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t\t\t\t");
+            _builder.append("providerParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t\t\t\t");
+            _builder.append("proxyParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t\t\t\t");
+            _builder.append("clonedMessagingQos,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t\t\t\t");
+            _builder.append("subscriptionReply");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("};");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::function<void(const exceptions::ProviderRuntimeException& error)> onError =");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("[subscriptionListener,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("subscriptionManager = _subscriptionManager,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("subscriptionId] (const exceptions::ProviderRuntimeException& error) {");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("std::string message = \"Could not register subscription to ");
+            _builder.append(broadcastName, "\t\t\t\t");
+            _builder.append(". Error from subscription manager: \"");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t\t\t");
+            _builder.append("+ error.getMessage();");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("JOYNR_LOG_ERROR(logger(), message);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("exceptions::SubscriptionException subscriptionException(message, subscriptionId);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionListener->onError(subscriptionException);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("if (auto ptr = subscriptionManager.lock())");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t");
+            _builder.append("ptr->unregisterSubscription(subscriptionId);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("}");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("};");
+            _builder.newLine();
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("if (auto ptr = _subscriptionManager.lock()) {");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("ptr->registerSubscription(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("broadcastName,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("_proxyParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("_providerParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("partitions,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionCallback,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionListener,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionQos,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("*subscriptionRequest,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("std::move(onSuccess),");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("std::move(onError));");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t");
+        _builder.append("return future;");
+        _builder.newLine();
+        _builder.append("}");
+        _builder.newLine();
+        _builder.newLine();
+        CharSequence _produceUnsubscribeFromBroadcastSignature = this._interfaceSubscriptionUtil.produceUnsubscribeFromBroadcastSignature(broadcast, className);
+        _builder.append(_produceUnsubscribeFromBroadcastSignature);
+        _builder.append(" {");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("if (auto ptr = _subscriptionManager.lock()) {");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("ptr->unregisterSubscription(subscriptionId);");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+        {
+          boolean _isSelective_8 = broadcast.isSelective();
+          if (_isSelective_8) {
+            _builder.append("\t");
+            _builder.append("joynr::SubscriptionStop subscriptionStop;");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("subscriptionStop.setSubscriptionId(subscriptionId);");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("if (auto msgSenderPtr = _messageSender.lock()) {");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("msgSenderPtr->sendSubscriptionStop(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("_proxyParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("_providerParticipantId,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("_qosSettings,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append("subscriptionStop");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t");
+            _builder.append(");");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+          }
+        }
+        _builder.append("}");
+        _builder.newLine();
+        _builder.newLine();
+      }
+    }
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(this.francaIntf, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
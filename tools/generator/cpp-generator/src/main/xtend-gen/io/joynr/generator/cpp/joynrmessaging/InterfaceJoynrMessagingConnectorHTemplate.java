@@ -0,0 +1,511 @@
+package io.joynr.generator.cpp.joynrmessaging;
+
+import com.google.inject.Inject;
+import io.joynr.generator.cpp.util.CppInterfaceUtil;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.InterfaceSubscriptionUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.InterfaceTemplate;
+import io.joynr.generator.templates.util.AttributeUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Set;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FBroadcast;
+
+@SuppressWarnings("all")
+public class InterfaceJoynrMessagingConnectorHTemplate extends InterfaceTemplate {
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private AttributeUtil _attributeUtil;
+
+  @Inject
+  @Extension
+  private CppInterfaceUtil _cppInterfaceUtil;
+
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private InterfaceSubscriptionUtil _interfaceSubscriptionUtil;
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String interfaceName = this._namingUtil.joynrName(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "_", generateVersion);
+    String _plus = ("GENERATED_INTERFACE_" + _packagePathWithJoynrPrefix);
+    String _plus_1 = (_plus + 
+      "_");
+    String _plus_2 = (_plus_1 + interfaceName);
+    final String headerGuard = (_plus_2 + "JoynrMessagingConnector_h").toUpperCase();
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#ifndef ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#define ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      Set<String> _addElements = this._cppStdTypeUtil.<String>addElements(this._cppStdTypeUtil.getDataTypeIncludesFor(this.francaIntf, generateVersion), this._cppStdTypeUtil.getIncludeForString());
+      for(final String parameterType : _addElements) {
+        _builder.append("#include ");
+        _builder.append(parameterType);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("#include <memory>");
+    _builder.newLine();
+    _builder.append("#include <functional>");
+    _builder.newLine();
+    _builder.append("#include \"");
+    String _packagePathWithJoynrPrefix_1 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "/", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix_1);
+    _builder.append("/I");
+    _builder.append(interfaceName);
+    _builder.append("Connector.h\"");
+    _builder.newLineIfNotEmpty();
+    _builder.append("#include \"joynr/AbstractJoynrMessagingConnector.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/JoynrMessagingConnectorFactory.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/SubscriptionQos.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/OnChangeSubscriptionQos.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/MulticastSubscriptionQos.h\"");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("namespace joynr {");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class MessagingQos;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class IMessageSender;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class ISubscriptionManager;");
+    _builder.newLine();
+    {
+      boolean _isEmpty = this.francaIntf.getAttributes().isEmpty();
+      boolean _not = (!_isEmpty);
+      if (_not) {
+        _builder.append("\t");
+        _builder.append("class SubscriptionRequest;");
+        _builder.newLine();
+      }
+    }
+    {
+      final Function1<FBroadcast, Boolean> _function = new Function1<FBroadcast, Boolean>() {
+        @Override
+        public Boolean apply(final FBroadcast it) {
+          return Boolean.valueOf(it.isSelective());
+        }
+      };
+      boolean _isEmpty_1 = IterableExtensions.isEmpty(IterableExtensions.<FBroadcast>filter(this.francaIntf.getBroadcasts(), _function));
+      boolean _not_1 = (!_isEmpty_1);
+      if (_not_1) {
+        _builder.append("\t");
+        _builder.append("class BroadcastSubscriptionRequest;");
+        _builder.newLine();
+      }
+    }
+    {
+      final Function1<FBroadcast, Boolean> _function_1 = new Function1<FBroadcast, Boolean>() {
+        @Override
+        public Boolean apply(final FBroadcast it) {
+          boolean _isSelective = it.isSelective();
+          return Boolean.valueOf((!_isSelective));
+        }
+      };
+      boolean _isEmpty_2 = IterableExtensions.isEmpty(IterableExtensions.<FBroadcast>filter(this.francaIntf.getBroadcasts(), _function_1));
+      boolean _not_2 = (!_isEmpty_2);
+      if (_not_2) {
+        _builder.append("\t");
+        _builder.append("class MulticastSubscriptionRequest;");
+        _builder.newLine();
+      }
+    }
+    _builder.append("\t");
+    _builder.append("template <class ... Ts> class Future;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("template <typename T, typename... Ts> class ISubscriptionListener;");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("namespace types");
+    _builder.newLine();
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class DiscoveryEntryWithMetaInfo;");
+    _builder.newLine();
+    _builder.append("} // namespace types");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("namespace exceptions");
+    _builder.newLine();
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class JoynrException;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class JoynrRuntimeException;");
+    _builder.newLine();
+    _builder.append("} // namespace exceptions");
+    _builder.newLine();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(this.francaIntf, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("/** @brief JoynrMessagingConnector for interface ");
+    _builder.append(interfaceName);
+    _builder.append(" */");
+    _builder.newLineIfNotEmpty();
+    _builder.append("class ");
+    _builder.append(interfaceName);
+    _builder.append("JoynrMessagingConnector : public I");
+    _builder.append(interfaceName);
+    _builder.append("Connector, virtual public joynr::AbstractJoynrMessagingConnector {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("private:");
+    _builder.newLine();
+    {
+      EList<FAttribute> _attributes = this._cppInterfaceUtil.getAttributes(this.francaIntf);
+      for(final FAttribute attribute : _attributes) {
+        _builder.append("\t");
+        final String returnType = this._cppStdTypeUtil.getTypeName(attribute, generateVersion);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        final String attributeName = this._namingUtil.joynrName(attribute);
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isNotifiable = this._attributeUtil.isNotifiable(attribute);
+          if (_isNotifiable) {
+            _builder.append("\t");
+            _builder.append("/**");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @brief creates a new subscription or updates an existing subscription to attribute ");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* ");
+            String _firstUpper = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param subscriptionListener The listener callback providing methods to call on publication and failure");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param subscriptionQos The subscription quality of service settings");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param subscriptionRequest The subscription request");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @return a future representing the result (subscription id) as string. It provides methods to wait for");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" \t\t\t ");
+            _builder.append("* completion, to get the subscription id or the request status object. The subscription id will be available");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" \t\t\t ");
+            _builder.append("* when the subscription is successfully registered at the provider.");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("*/");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("std::shared_ptr<joynr::Future<std::string>> subscribeTo");
+            String _firstUpper_1 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_1, "\t");
+            _builder.append("(");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::shared_ptr<joynr::ISubscriptionListener<");
+            _builder.append(returnType, "\t\t\t");
+            _builder.append("> > subscriptionListener,");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::shared_ptr<joynr::SubscriptionQos> subscriptionQos,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("SubscriptionRequest& subscriptionRequest);");
+            _builder.newLine();
+          }
+        }
+      }
+    }
+    {
+      EList<FBroadcast> _broadcasts = this.francaIntf.getBroadcasts();
+      for(final FBroadcast broadcast : _broadcasts) {
+        _builder.append("\t");
+        final String returnTypes = this._cppStdTypeUtil.getCommaSeparatedOutputParameterTypes(broadcast, generateVersion);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        final String broadcastName = this._namingUtil.joynrName(broadcast);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @brief subscribes to broadcast ");
+        String _firstUpper_2 = StringExtensions.toFirstUpper(broadcastName);
+        _builder.append(_firstUpper_2, "\t ");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @param subscriptionListener The listener callback providing methods to call on publication and failure");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @param subscriptionQos The subscription quality of service settings");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @param subscriptionRequest The subscription request");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @return a future representing the result (subscription id) as string. It provides methods to wait for");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" \t\t\t ");
+        _builder.append("* completion, to get the subscription id or the request status object. The subscription id will be available");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" \t\t\t ");
+        _builder.append("* when the subscription is successfully registered at the provider.");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("std::shared_ptr<joynr::Future<std::string>> subscribeTo");
+        String _firstUpper_3 = StringExtensions.toFirstUpper(broadcastName);
+        _builder.append(_firstUpper_3, "\t");
+        _builder.append("Broadcast(");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("\t\t");
+        _builder.append("std::shared_ptr<joynr::ISubscriptionListener<");
+        _builder.append(returnTypes, "\t\t\t");
+        _builder.append(" > > subscriptionListener,");
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isSelective = broadcast.isSelective();
+          if (_isSelective) {
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::shared_ptr<joynr::OnChangeSubscriptionQos> subscriptionQos,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("BroadcastSubscriptionRequest& subscriptionRequest);");
+            _builder.newLine();
+          } else {
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::shared_ptr<joynr::MulticastSubscriptionQos> subscriptionQos,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::shared_ptr<MulticastSubscriptionRequest> subscriptionRequest,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("const std::vector<std::string>& partitions);");
+            _builder.newLine();
+          }
+        }
+      }
+    }
+    _builder.append("public:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief Parameterized constructor");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param messageSender The message sender");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param subscriptionManager Pointer to subscription manager instance");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param domain the provider domain");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param proxyParticipantId The participant id of the proxy");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param providerParticipantId The participant id of the provider");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param qosSettings The quality of service settings");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append(interfaceName, "\t");
+    _builder.append("JoynrMessagingConnector(");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("std::weak_ptr<joynr::IMessageSender> messageSender,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("std::weak_ptr<joynr::ISubscriptionManager> subscriptionManager,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const std::string& domain,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const std::string& proxyParticipantId,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const joynr::MessagingQos &qosSettings,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const joynr::types::DiscoveryEntryWithMetaInfo& providerDiscoveryInfo);");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/** @brief Destructor */");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("~");
+    _builder.append(interfaceName, "\t");
+    _builder.append("JoynrMessagingConnector() override = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    CharSequence _produceSyncGetterDeclarations = this._cppInterfaceUtil.produceSyncGetterDeclarations(this.francaIntf, false, generateVersion);
+    _builder.append(_produceSyncGetterDeclarations, "\t");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    CharSequence _produceAsyncGetterDeclarations = this._cppInterfaceUtil.produceAsyncGetterDeclarations(this.francaIntf, false, generateVersion);
+    _builder.append(_produceAsyncGetterDeclarations, "\t");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    CharSequence _produceSyncSetterDeclarations = this._cppInterfaceUtil.produceSyncSetterDeclarations(this.francaIntf, false, generateVersion);
+    _builder.append(_produceSyncSetterDeclarations, "\t");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    CharSequence _produceAsyncSetterDeclarations = this._cppInterfaceUtil.produceAsyncSetterDeclarations(this.francaIntf, false, generateVersion);
+    _builder.append(_produceAsyncSetterDeclarations, "\t");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    CharSequence _produceSyncMethodDeclarations = this._cppInterfaceUtil.produceSyncMethodDeclarations(this.francaIntf, false, generateVersion);
+    _builder.append(_produceSyncMethodDeclarations, "\t");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    CharSequence _produceAsyncMethodDeclarations = this._cppInterfaceUtil.produceAsyncMethodDeclarations(this.francaIntf, false, true, generateVersion);
+    _builder.append(_produceAsyncMethodDeclarations, "\t");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    CharSequence _produceFireAndForgetMethodDeclarations = this._cppInterfaceUtil.produceFireAndForgetMethodDeclarations(this.francaIntf, false, generateVersion);
+    _builder.append(_produceFireAndForgetMethodDeclarations, "\t");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    CharSequence _produceSubscribeUnsubscribeMethodDeclarations = this._interfaceSubscriptionUtil.produceSubscribeUnsubscribeMethodDeclarations(this.francaIntf, false, true, generateVersion);
+    _builder.append(_produceSubscribeUnsubscribeMethodDeclarations, "\t");
+    _builder.newLineIfNotEmpty();
+    _builder.append("};");
+    _builder.newLine();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(this.francaIntf, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    String packagePrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "::", generateVersion);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("namespace joynr {");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("// specialization of traits class JoynrMessagingTraits");
+    _builder.newLine();
+    _builder.append("// this links I");
+    _builder.append(interfaceName);
+    _builder.append("Connector with ");
+    _builder.append(interfaceName);
+    _builder.append("JoynrMessagingConnector");
+    _builder.newLineIfNotEmpty();
+    _builder.append("template <>");
+    _builder.newLine();
+    _builder.append("struct JoynrMessagingTraits<");
+    _builder.append(packagePrefix);
+    _builder.append("::I");
+    _builder.append(interfaceName);
+    _builder.append("Connector>");
+    _builder.newLineIfNotEmpty();
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("using Connector = ");
+    _builder.append(packagePrefix, "\t");
+    _builder.append("::");
+    _builder.append(interfaceName, "\t");
+    _builder.append("JoynrMessagingConnector;");
+    _builder.newLineIfNotEmpty();
+    _builder.append("};");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("} // namespace joynr");
+    _builder.newLine();
+    _builder.append("#endif // ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
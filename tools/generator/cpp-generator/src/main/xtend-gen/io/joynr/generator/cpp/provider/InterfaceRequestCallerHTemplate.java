@@ -0,0 +1,492 @@
+package io.joynr.generator.cpp.provider;
+
+import com.google.inject.Inject;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.InterfaceTemplate;
+import io.joynr.generator.templates.util.AttributeUtil;
+import io.joynr.generator.templates.util.MethodUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Set;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FMethod;
+
+@SuppressWarnings("all")
+public class InterfaceRequestCallerHTemplate extends InterfaceTemplate {
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private AttributeUtil _attributeUtil;
+
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String interfaceName = this._namingUtil.joynrName(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "_", generateVersion);
+    String _plus = ("GENERATED_INTERFACE_" + _packagePathWithJoynrPrefix);
+    String _plus_1 = (_plus + 
+      "_");
+    String _plus_2 = (_plus_1 + interfaceName);
+    final String headerGuard = (_plus_2 + "RequestCaller_h").toUpperCase();
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#ifndef ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#define ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#include <functional>");
+    _builder.newLine();
+    _builder.append("#include <memory>");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("#include \"joynr/PrivateCopyAssign.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/RequestCaller.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/exceptions/JoynrException.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/types/Version.h\"");
+    _builder.newLine();
+    _builder.append("#include \"");
+    String _packagePathWithJoynrPrefix_1 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "/", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix_1);
+    _builder.append("/I");
+    _builder.append(interfaceName);
+    _builder.append(".h\"");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      Set<String> _addElements = this._cppStdTypeUtil.<String>addElements(this._cppStdTypeUtil.getDataTypeIncludesFor(this.francaIntf, generateVersion), this._cppStdTypeUtil.getIncludeForString());
+      for(final String parameterType : _addElements) {
+        _builder.append("#include ");
+        _builder.append(parameterType);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("#include \"joynr/Logger.h\"");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("namespace joynr");
+    _builder.newLine();
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("class UnicastBroadcastListener;");
+    _builder.newLine();
+    _builder.append("class SubscriptionAttributeListener;");
+    _builder.newLine();
+    _builder.append("} // namespace joynr");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(this.francaIntf, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("class ");
+    _builder.append(interfaceName);
+    _builder.append("Provider;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("/** @brief RequestCaller for interface ");
+    _builder.append(interfaceName);
+    _builder.append(" */");
+    _builder.newLineIfNotEmpty();
+    _builder.append("class ");
+    _builder.append(interfaceName);
+    _builder.append("RequestCaller : public joynr::RequestCaller {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("public:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @brief parameterized constructor");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param provider The provider instance");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("explicit ");
+    _builder.append(interfaceName, "\t");
+    _builder.append("RequestCaller(std::shared_ptr<");
+    _builder.append(interfaceName, "\t");
+    _builder.append("Provider> _provider);");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/** @brief Destructor */");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("~");
+    _builder.append(interfaceName, "\t");
+    _builder.append("RequestCaller() override = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      boolean _isEmpty = this.francaIntf.getAttributes().isEmpty();
+      boolean _not = (!_isEmpty);
+      if (_not) {
+        _builder.append("\t");
+        _builder.append("// attributes");
+        _builder.newLine();
+      }
+    }
+    {
+      EList<FAttribute> _attributes = this.francaIntf.getAttributes();
+      for(final FAttribute attribute : _attributes) {
+        _builder.append("\t");
+        String attributeName = this._namingUtil.joynrName(attribute);
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isReadable = this._attributeUtil.isReadable(attribute);
+          if (_isReadable) {
+            _builder.append("\t");
+            _builder.append("/**");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @brief Gets the value of the Franca attribute ");
+            String _firstUpper = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param onSuccess A callback function to be called once the asynchronous computation has");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* finished with success. It must expect a request status object as well as the return value.");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param onError A callback function to be called once the asynchronous computation fails. It must expect the exception.");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("*/");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("virtual void get");
+            String _firstUpper_1 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_1, "\t");
+            _builder.append("(");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::function<void(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t");
+            _builder.append("const ");
+            String _typeName = this._cppStdTypeUtil.getTypeName(attribute, generateVersion);
+            _builder.append(_typeName, "\t\t\t\t\t");
+            _builder.append("&");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append(")>&& onSuccess,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::function<void(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t");
+            _builder.append("const std::shared_ptr<exceptions::ProviderRuntimeException>&");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append(")> onError");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(");");
+            _builder.newLine();
+          }
+        }
+        {
+          boolean _isWritable = this._attributeUtil.isWritable(attribute);
+          if (_isWritable) {
+            _builder.append("\t");
+            _builder.append("/**");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @brief Sets the value of the Franca attribute ");
+            String _firstUpper_2 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_2, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param ");
+            _builder.append(attributeName, "\t ");
+            _builder.append(" The new value of the attribute");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param onSuccess A callback function to be called once the asynchronous computation has");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* finished with success. It must expect a request status object.");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param onError A callback function to be called once the asynchronous computation fails. It must expect the exception.");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("*/");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("virtual void set");
+            String _firstUpper_3 = StringExtensions.toFirstUpper(attributeName);
+            _builder.append(_firstUpper_3, "\t");
+            _builder.append("(");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("const ");
+            String _typeName_1 = this._cppStdTypeUtil.getTypeName(attribute, generateVersion);
+            _builder.append(_typeName_1, "\t\t\t");
+            _builder.append("& ");
+            _builder.append(attributeName, "\t\t\t");
+            _builder.append(",");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::function<void()>&& onSuccess,");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::function<void(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t\t\t");
+            _builder.append("const std::shared_ptr<exceptions::ProviderRuntimeException>&");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append(")> onError");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(");");
+            _builder.newLine();
+          }
+        }
+        _builder.newLine();
+      }
+    }
+    {
+      boolean _isEmpty_1 = this.francaIntf.getMethods().isEmpty();
+      boolean _not_1 = (!_isEmpty_1);
+      if (_not_1) {
+        _builder.append("\t");
+        _builder.append("// methods");
+        _builder.newLine();
+      }
+    }
+    {
+      EList<FMethod> _methods = this.francaIntf.getMethods();
+      for(final FMethod method : _methods) {
+        _builder.append("\t");
+        final String outputTypedParamList = this._cppStdTypeUtil.getCommaSeperatedTypedConstOutputParameterList(method, generateVersion);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        final String inputTypedParamList = this._cppStdTypeUtil.getCommaSeperatedTypedConstInputParameterList(method, generateVersion);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @brief Implementation of Franca method ");
+        String _joynrName = this._namingUtil.joynrName(method);
+        _builder.append(_joynrName, "\t ");
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isEmpty_2 = IterableExtensions.isEmpty(this._methodUtil.getInputParameters(method));
+          boolean _not_2 = (!_isEmpty_2);
+          if (_not_2) {
+            {
+              Iterable<FArgument> _inputParameters = this._methodUtil.getInputParameters(method);
+              for(final FArgument iparam : _inputParameters) {
+                _builder.append("\t");
+                _builder.append(" ");
+                _builder.append("* @param ");
+                String _joynrName_1 = this._namingUtil.joynrName(iparam);
+                _builder.append(_joynrName_1, "\t ");
+                _builder.append(" Method input parameter ");
+                String _joynrName_2 = this._namingUtil.joynrName(iparam);
+                _builder.append(_joynrName_2, "\t ");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+        {
+          boolean _isFireAndForget = method.isFireAndForget();
+          boolean _not_3 = (!_isFireAndForget);
+          if (_not_3) {
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param onSuccess A callback function to be called once the asynchronous computation has");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* finished with success. It must expect the output parameter list, if parameters are present.");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @param onError A callback function to be called once the asynchronous computation fails. It must expect the exception.");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("virtual void ");
+        String _joynrName_3 = this._namingUtil.joynrName(method);
+        _builder.append(_joynrName_3, "\t");
+        _builder.append("(");
+        _builder.newLineIfNotEmpty();
+        {
+          boolean _isEmpty_3 = IterableExtensions.isEmpty(this._methodUtil.getInputParameters(method));
+          boolean _not_4 = (!_isEmpty_3);
+          if (_not_4) {
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append(inputTypedParamList, "\t\t\t");
+            {
+              boolean _isFireAndForget_1 = method.isFireAndForget();
+              boolean _not_5 = (!_isFireAndForget_1);
+              if (_not_5) {
+                _builder.append(",");
+              }
+            }
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        {
+          boolean _isFireAndForget_2 = method.isFireAndForget();
+          boolean _not_6 = (!_isFireAndForget_2);
+          if (_not_6) {
+            {
+              boolean _isEmpty_4 = IterableExtensions.isEmpty(this._methodUtil.getOutputParameters(method));
+              if (_isEmpty_4) {
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("std::function<void()>&& onSuccess,");
+                _builder.newLine();
+              } else {
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("std::function<void(");
+                _builder.newLine();
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("\t\t");
+                _builder.append(outputTypedParamList, "\t\t\t\t\t");
+                _builder.newLineIfNotEmpty();
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append(")>&& onSuccess,");
+                _builder.newLine();
+              }
+            }
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("std::function<void(");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("\t\t");
+            _builder.append("const std::shared_ptr<exceptions::JoynrException>&");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append(")> onError");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t");
+        _builder.append(");");
+        _builder.newLine();
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    _builder.append("protected:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("std::shared_ptr<IJoynrProvider> getProvider() override;");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("private:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("DISALLOW_COPY_AND_ASSIGN(");
+    _builder.append(interfaceName, "\t");
+    _builder.append("RequestCaller);");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("std::shared_ptr<");
+    String _packagePathWithJoynrPrefix_2 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "::", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix_2, "\t");
+    _builder.append("::");
+    _builder.append(interfaceName, "\t");
+    _builder.append("Provider> provider;");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("ADD_LOGGER(");
+    _builder.append(interfaceName, "\t");
+    _builder.append("RequestCaller)");
+    _builder.newLineIfNotEmpty();
+    _builder.append("};");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(this.francaIntf, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#endif // ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
@@ -0,0 +1,82 @@
+package io.joynr.generator.cpp.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.joynr.generator.cpp.util.CppTemplateFactory;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.io.File;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FModel;
+
+@SuppressWarnings("all")
+public class ProviderGenerator {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  private CppTemplateFactory templateFactory;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_NOVERSIONGENERATION_COMMENT)
+  public boolean versioningComment;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_PACKAGEWITHVERSION)
+  public boolean packageWithVersion;
+
+  public void doGenerate(final FModel model, final IFileSystemAccess sourceFileSystem, final IFileSystemAccess headerFileSystem, final String sourceContainerPath, final String headerContainerPath) {
+    EList<FInterface> _interfaces = model.getInterfaces();
+    for (final FInterface serviceInterface : _interfaces) {
+      {
+        boolean _xifexpression = false;
+        if (this.versioningComment) {
+          boolean _commentContainsNoVersionGeneration = this._joynrCppGeneratorExtensions.commentContainsNoVersionGeneration(serviceInterface);
+          _xifexpression = (!_commentContainsNoVersionGeneration);
+        } else {
+          _xifexpression = this.packageWithVersion;
+        }
+        final boolean generateVersioning = _xifexpression;
+        String _packageSourceDirectory = this._joynrCppGeneratorExtensions.getPackageSourceDirectory(serviceInterface, generateVersioning);
+        String _plus = (sourceContainerPath + _packageSourceDirectory);
+        final String sourcePath = (_plus + File.separator);
+        String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(serviceInterface, File.separator, generateVersioning);
+        String _plus_1 = (headerContainerPath + _packagePathWithJoynrPrefix);
+        final String headerPath = (_plus_1 + File.separator);
+        String serviceName = this._namingUtil.joynrName(serviceInterface);
+        InterfaceRequestInterpreterHTemplate interfaceRequestInterpreterHTemplate = this.templateFactory.createInterfaceRequestInterpreterHTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          ((headerPath + serviceName) + "RequestInterpreter.h"), interfaceRequestInterpreterHTemplate, generateVersioning);
+        InterfaceRequestInterpreterCppTemplate interfaceRequestInterpreterCppTemplate = this.templateFactory.createInterfaceRequestInterpreterCppTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          ((sourcePath + serviceName) + "RequestInterpreter.cpp"), interfaceRequestInterpreterCppTemplate, generateVersioning);
+        InterfaceRequestCallerHTemplate interfaceRequestCallerHTemplate = this.templateFactory.createInterfaceRequestCallerHTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          ((headerPath + serviceName) + "RequestCaller.h"), interfaceRequestCallerHTemplate, generateVersioning);
+        InterfaceRequestCallerCppTemplate interfaceRequestCallerCppTemplate = this.templateFactory.createInterfaceRequestCallerCppTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          ((sourcePath + serviceName) + "RequestCaller.cpp"), interfaceRequestCallerCppTemplate, generateVersioning);
+        InterfaceProviderCppTemplate interfaceProviderCppTemplate = this.templateFactory.createInterfaceProviderCppTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          ((sourcePath + serviceName) + "Provider.cpp"), interfaceProviderCppTemplate, generateVersioning);
+        InterfaceProviderHTemplate interfaceProviderHTemplate = this.templateFactory.createInterfaceProviderHTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          ((headerPath + serviceName) + "Provider.h"), interfaceProviderHTemplate, generateVersioning);
+        InterfaceAbstractProviderCppTemplate interfaceAbstractProviderCppTemplate = this.templateFactory.createInterfaceAbstractProviderCppTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          ((sourcePath + serviceName) + "AbstractProvider.cpp"), interfaceAbstractProviderCppTemplate, generateVersioning);
+        InterfaceAbstractProviderHTemplate interfaceAbstractProviderHTemplate = this.templateFactory.createInterfaceAbstractProviderHTemplate(serviceInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          ((headerPath + serviceName) + "AbstractProvider.h"), interfaceAbstractProviderHTemplate, generateVersioning);
+      }
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package io.joynr.generator.cpp.proxy;
+
+import com.google.inject.Inject;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.InterfaceSubscriptionUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.InterfaceTemplate;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Set;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+
+@SuppressWarnings("all")
+public class IInterfaceConnectorHTemplate extends InterfaceTemplate {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  private CppStdTypeUtil cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private InterfaceSubscriptionUtil _interfaceSubscriptionUtil;
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String interfaceName = this._namingUtil.joynrName(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "_", generateVersion);
+    String _plus = ("GENERATED_INTERFACE_" + _packagePathWithJoynrPrefix);
+    String _plus_1 = (_plus + 
+      "_I");
+    String _plus_2 = (_plus_1 + interfaceName);
+    final String headerGuard = (_plus_2 + "Connector_h").toUpperCase();
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#ifndef ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#define ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      Set<String> _dataTypeIncludesFor = this.cppStdTypeUtil.getDataTypeIncludesFor(this.francaIntf, generateVersion);
+      for(final String parameterType : _dataTypeIncludesFor) {
+        _builder.append("#include ");
+        _builder.append(parameterType);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("#include \"");
+    String _packagePathWithJoynrPrefix_1 = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "/", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix_1);
+    _builder.append("/I");
+    _builder.append(interfaceName);
+    _builder.append(".h\"");
+    _builder.newLineIfNotEmpty();
+    _builder.append("#include \"joynr/ISubscriptionListener.h\"");
+    _builder.newLine();
+    _builder.append("#include \"joynr/SubscriptionCallback.h\"");
+    _builder.newLine();
+    _builder.append("#include <memory>");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("namespace joynr {");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("template <class T, class ... Ts> class ISubscriptionListener;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class ISubscriptionCallback;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class SubscriptionQos;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class OnChangeSubscriptionQos;");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("class MulticastSubscriptionQos;");
+    _builder.newLine();
+    _builder.append("} // namespace joynr");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(this.francaIntf, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      Set<String> _broadcastFilterParametersClassNames = this.cppStdTypeUtil.getBroadcastFilterParametersClassNames(this.francaIntf);
+      for(final String forwardDecl : _broadcastFilterParametersClassNames) {
+        _builder.append("class ");
+        _builder.append(forwardDecl);
+        _builder.append(";");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("class I");
+    _builder.append(interfaceName);
+    _builder.append("Subscription{");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t  ");
+    _builder.append("* in  - subscriptionListener      std::shared_ptr to a SubscriptionListener which will receive the updates.");
+    _builder.newLine();
+    _builder.append("\t  ");
+    _builder.append("* in  - subscriptionQos           SubscriptionQos parameters like interval and end date.");
+    _builder.newLine();
+    _builder.append("\t  ");
+    _builder.append("* out - assignedSubscriptionId    Buffer for the assigned subscriptionId.");
+    _builder.newLine();
+    _builder.append("\t  ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("public:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("virtual ~I");
+    _builder.append(interfaceName, "\t");
+    _builder.append("Subscription() = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    CharSequence _produceSubscribeUnsubscribeMethodDeclarations = this._interfaceSubscriptionUtil.produceSubscribeUnsubscribeMethodDeclarations(this.francaIntf, true, generateVersion);
+    _builder.append(_produceSubscribeUnsubscribeMethodDeclarations, "\t");
+    _builder.newLineIfNotEmpty();
+    _builder.append("};");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("class I");
+    _builder.append(interfaceName);
+    _builder.append("Connector: virtual public I");
+    _builder.append(interfaceName);
+    _builder.append(", virtual public I");
+    _builder.append(interfaceName);
+    _builder.append("Subscription{");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("public:");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("~I");
+    _builder.append(interfaceName, "\t");
+    _builder.append("Connector() override = default;");
+    _builder.newLineIfNotEmpty();
+    _builder.append("};");
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(this.francaIntf, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    _builder.append("#endif // ");
+    _builder.append(headerGuard);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
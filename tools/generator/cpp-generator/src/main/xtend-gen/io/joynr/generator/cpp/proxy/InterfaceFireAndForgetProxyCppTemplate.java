@@ -0,0 +1,214 @@
+package io.joynr.generator.cpp.proxy;
+
+import com.google.inject.Inject;
+import io.joynr.generator.cpp.util.CppInterfaceUtil;
+import io.joynr.generator.cpp.util.CppStdTypeUtil;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.cpp.util.TemplateBase;
+import io.joynr.generator.templates.InterfaceTemplate;
+import io.joynr.generator.templates.util.MethodUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Set;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.franca.core.franca.FMethod;
+
+@SuppressWarnings("all")
+public class InterfaceFireAndForgetProxyCppTemplate extends InterfaceTemplate {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Inject
+  @Extension
+  private CppStdTypeUtil _cppStdTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  @Inject
+  @Extension
+  private CppInterfaceUtil _cppInterfaceUtil;
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String interfaceName = this._namingUtil.joynrName(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    final String className = (interfaceName + "Proxy");
+    _builder.newLineIfNotEmpty();
+    final String fireAndForgetClassName = (interfaceName + "FireAndForgetProxy");
+    _builder.newLineIfNotEmpty();
+    CharSequence _warning = this._templateBase.warning();
+    _builder.append(_warning);
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("#include \"");
+    String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "/", generateVersion);
+    _builder.append(_packagePathWithJoynrPrefix);
+    _builder.append("/");
+    _builder.append(fireAndForgetClassName);
+    _builder.append(".h\"");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      Set<String> _dataTypeIncludesFor = this._cppStdTypeUtil.getDataTypeIncludesFor(this.francaIntf, generateVersion);
+      for(final String datatype : _dataTypeIncludesFor) {
+        _builder.append("#include ");
+        _builder.append(datatype);
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.newLine();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(this.francaIntf, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.append(fireAndForgetClassName);
+    _builder.append("::");
+    _builder.append(fireAndForgetClassName);
+    _builder.append("(");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("std::weak_ptr<joynr::JoynrRuntimeImpl> runtime,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("std::shared_ptr<joynr::JoynrMessagingConnectorFactory> connectorFactory,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const std::string &domain,");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("const joynr::MessagingQos &qosSettings");
+    _builder.newLine();
+    _builder.append(") :");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("joynr::ProxyBase(runtime, connectorFactory, domain, qosSettings),");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append(className, "\t\t");
+    _builder.append("Base(runtime, connectorFactory, domain, qosSettings)");
+    _builder.newLineIfNotEmpty();
+    _builder.append("{");
+    _builder.newLine();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      final Function1<FMethod, Boolean> _function = new Function1<FMethod, Boolean>() {
+        @Override
+        public Boolean apply(final FMethod it) {
+          return Boolean.valueOf(it.isFireAndForget());
+        }
+      };
+      Iterable<FMethod> _filter = IterableExtensions.<FMethod>filter(this._cppInterfaceUtil.getMethods(this.francaIntf), _function);
+      for(final FMethod method : _filter) {
+        String methodName = method.getName();
+        _builder.newLineIfNotEmpty();
+        String params = this._cppStdTypeUtil.getCommaSeperatedUntypedInputParameterList(method);
+        _builder.newLineIfNotEmpty();
+        _builder.append("/*");
+        _builder.newLine();
+        _builder.append(" ");
+        _builder.append("* ");
+        _builder.append(methodName, " ");
+        _builder.newLineIfNotEmpty();
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        CharSequence _produceFireAndForgetMethodSignature = this._cppInterfaceUtil.produceFireAndForgetMethodSignature(method, fireAndForgetClassName, generateVersion);
+        _builder.append(_produceFireAndForgetMethodSignature);
+        _builder.newLineIfNotEmpty();
+        _builder.append("{");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("auto runtimeSharedPtr = _runtime.lock();");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("if (!runtimeSharedPtr || (connector==nullptr)) {");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("std::string errorMsg;");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("if (!runtimeSharedPtr) {");
+        _builder.newLine();
+        _builder.append("\t\t\t");
+        final String errorMsgRuntime = (("proxy cannot invoke " + methodName) + " because the required runtime has been already destroyed.");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t\t");
+        _builder.append("errorMsg = \"");
+        _builder.append(errorMsgRuntime, "\t\t\t");
+        _builder.append("\";");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t");
+        _builder.append("}");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("else {");
+        _builder.newLine();
+        _builder.append("\t\t\t");
+        final String errorMsgCommunication = (("proxy cannot invoke " + methodName) + " because the communication end partner is not (yet) known");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t\t");
+        _builder.append("errorMsg = \"");
+        _builder.append(errorMsgCommunication, "\t\t\t");
+        _builder.append("\";");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t");
+        _builder.append("}");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("JOYNR_LOG_WARN(logger(), errorMsg);");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("exceptions::JoynrRuntimeException error(errorMsg);");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("throw error;");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("else{");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("return connector->");
+        _builder.append(methodName, "\t\t");
+        _builder.append("(");
+        _builder.append(params, "\t\t");
+        {
+          int _size = IterableExtensions.size(this._methodUtil.getInputParameters(method));
+          boolean _greaterThan = (_size > 0);
+          if (_greaterThan) {
+            _builder.append(",");
+          }
+        }
+        _builder.append(" std::move(qos));");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+        _builder.append("}");
+        _builder.newLine();
+      }
+    }
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(this.francaIntf, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
@@ -0,0 +1,99 @@
+package io.joynr.generator.cpp.proxy;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.joynr.generator.cpp.util.CppTemplateFactory;
+import io.joynr.generator.cpp.util.JoynrCppGeneratorExtensions;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.io.File;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FModel;
+
+@SuppressWarnings("all")
+public class ProxyGenerator {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  private CppTemplateFactory templateFactory;
+
+  @Inject
+  @Extension
+  private InterfaceUtil _interfaceUtil;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_NOVERSIONGENERATION_COMMENT)
+  public boolean versioningComment;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_PACKAGEWITHVERSION)
+  public boolean packageWithVersion;
+
+  public void doGenerate(final FModel model, final IFileSystemAccess sourceFileSystem, final IFileSystemAccess headerFileSystem, final String sourceContainerPath, final String headerContainerPath) {
+    EList<FInterface> _interfaces = model.getInterfaces();
+    for (final FInterface fInterface : _interfaces) {
+      {
+        boolean _xifexpression = false;
+        if (this.versioningComment) {
+          boolean _commentContainsNoVersionGeneration = this._joynrCppGeneratorExtensions.commentContainsNoVersionGeneration(fInterface);
+          _xifexpression = (!_commentContainsNoVersionGeneration);
+        } else {
+          _xifexpression = this.packageWithVersion;
+        }
+        final boolean generateVersioning = _xifexpression;
+        String _packageSourceDirectory = this._joynrCppGeneratorExtensions.getPackageSourceDirectory(fInterface, generateVersioning);
+        String _plus = (sourceContainerPath + _packageSourceDirectory);
+        final String sourcePath = (_plus + File.separator);
+        String _packagePathWithJoynrPrefix = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(fInterface, File.separator, generateVersioning);
+        String _plus_1 = (headerContainerPath + _packagePathWithJoynrPrefix);
+        final String headerPath = (_plus_1 + File.separator);
+        String serviceName = this._namingUtil.joynrName(fInterface);
+        IInterfaceConnectorHTemplate iInterfaceConnectorHTemplate = this.templateFactory.createIInterfaceConnectorHTemplate(fInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          (((headerPath + "I") + serviceName) + "Connector.h"), iInterfaceConnectorHTemplate, generateVersioning);
+        InterfaceProxyBaseHTemplate interfaceProxyBaseHTemplate = this.templateFactory.createInterfaceProxyBaseHTemplate(fInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          ((headerPath + serviceName) + "ProxyBase.h"), interfaceProxyBaseHTemplate, generateVersioning);
+        InterfaceProxyBaseCppTemplate interfaceProxyBaseCppTemplate = this.templateFactory.createInterfaceProxyBaseCppTemplate(fInterface);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          ((sourcePath + serviceName) + "ProxyBase.cpp"), interfaceProxyBaseCppTemplate, generateVersioning);
+        InterfaceProxyHTemplate interfaceProxyHTemplate = this.templateFactory.createInterfaceProxyHTemplate(fInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          ((headerPath + serviceName) + "Proxy.h"), interfaceProxyHTemplate, generateVersioning);
+        InterfaceProxyCppTemplate interfaceProxyCppTemplate = this.templateFactory.createInterfaceProxyCppTemplate(fInterface);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          ((sourcePath + serviceName) + "Proxy.cpp"), interfaceProxyCppTemplate, generateVersioning);
+        InterfaceSyncProxyHTemplate interfaceSyncProxyHTemplate = this.templateFactory.createInterfaceSyncProxyHTemplate(fInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          ((headerPath + serviceName) + "SyncProxy.h"), interfaceSyncProxyHTemplate, generateVersioning);
+        InterfaceSyncProxyCppTemplate interfaceSyncProxyCppTemplate = this.templateFactory.createInterfaceSyncProxyCppTemplate(fInterface);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          ((sourcePath + serviceName) + "SyncProxy.cpp"), interfaceSyncProxyCppTemplate, generateVersioning);
+        InterfaceAsyncProxyHTemplate interfaceAsyncProxyHTemplate = this.templateFactory.createInterfaceAsyncProxyHTemplate(fInterface);
+        this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+          ((headerPath + serviceName) + "AsyncProxy.h"), interfaceAsyncProxyHTemplate, generateVersioning);
+        InterfaceAsyncProxyCppTemplate interfaceAsyncProxyCppTemplate = this.templateFactory.createInterfaceAsyncProxyCppTemplate(fInterface);
+        this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+          ((sourcePath + serviceName) + "AsyncProxy.cpp"), interfaceAsyncProxyCppTemplate, generateVersioning);
+        boolean _hasFireAndForgetMethods = this._interfaceUtil.hasFireAndForgetMethods(fInterface);
+        if (_hasFireAndForgetMethods) {
+          InterfaceFireAndForgetProxyHTemplate interfaceFireAndForgetProxyHTemplate = this.templateFactory.createInterfaceFireAndForgetProxyHTemplate(fInterface);
+          this._joynrCppGeneratorExtensions.generateFile(headerFileSystem, 
+            ((headerPath + serviceName) + "FireAndForgetProxy.h"), interfaceFireAndForgetProxyHTemplate, generateVersioning);
+          InterfaceFireAndForgetProxyCppTemplate interfaceFireAndForgetProxyCppTemplate = this.templateFactory.createInterfaceFireAndForgetProxyCppTemplate(fInterface);
+          this._joynrCppGeneratorExtensions.generateFile(sourceFileSystem, 
+            ((sourcePath + serviceName) + "FireAndForgetProxy.cpp"), interfaceFireAndForgetProxyCppTemplate, generateVersioning);
+        }
+      }
+    }
+  }
+}
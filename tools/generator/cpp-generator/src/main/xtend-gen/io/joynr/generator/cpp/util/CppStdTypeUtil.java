@@ -0,0 +1,270 @@
+package io.joynr.generator.cpp.util;
+
+import com.google.common.base.Objects;
+import com.google.inject.Inject;
+import java.util.HashSet;
+import java.util.Set;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FStructType;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypedElement;
+import org.franca.core.franca.FUnionType;
+
+@SuppressWarnings("all")
+public class CppStdTypeUtil extends CppTypeUtil {
+  @Inject
+  @Extension
+  private JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  @Override
+  public String getTypeName(final FBasicTypeId datatype) {
+    String _switchResult = null;
+    if (datatype != null) {
+      switch (datatype) {
+        case BOOLEAN:
+          _switchResult = "bool";
+          break;
+        case INT8:
+          _switchResult = "std::int8_t";
+          break;
+        case UINT8:
+          _switchResult = "std::uint8_t";
+          break;
+        case INT16:
+          _switchResult = "std::int16_t";
+          break;
+        case UINT16:
+          _switchResult = "std::uint16_t";
+          break;
+        case INT32:
+          _switchResult = "std::int32_t";
+          break;
+        case UINT32:
+          _switchResult = "std::uint32_t";
+          break;
+        case INT64:
+          _switchResult = "std::int64_t";
+          break;
+        case UINT64:
+          _switchResult = "std::uint64_t";
+          break;
+        case FLOAT:
+          _switchResult = "float";
+          break;
+        case DOUBLE:
+          _switchResult = "double";
+          break;
+        case STRING:
+          _switchResult = "std::string";
+          break;
+        case BYTE_BUFFER:
+          _switchResult = "joynr::ByteBuffer";
+          break;
+        default:
+          String _name = datatype.getName();
+          String _plus = ("Unsupported basic type: " + _name);
+          throw new IllegalArgumentException(_plus);
+      }
+    } else {
+      String _name = datatype.getName();
+      String _plus = ("Unsupported basic type: " + _name);
+      throw new IllegalArgumentException(_plus);
+    }
+    return _switchResult;
+  }
+
+  public String getByteBufferElementType() {
+    return this.getTypeName(FBasicTypeId.UINT8);
+  }
+
+  @Override
+  public String getTypeNameForList(final FType datatype) {
+    throw new IllegalArgumentException("Unsupported method called for C++!");
+  }
+
+  @Override
+  public String getTypeNameForList(final FType datatype, final boolean generateVersion) {
+    String _typeName = this.getTypeName(datatype, generateVersion);
+    String _plus = ("std::vector<" + _typeName);
+    return (_plus + "> ");
+  }
+
+  @Override
+  public String getTypeNameForList(final FBasicTypeId datatype) {
+    String _typeName = this.getTypeName(datatype);
+    String _plus = ("std::vector<" + _typeName);
+    return (_plus + "> ");
+  }
+
+  @Override
+  public String getGenerationTypeName(final FType datatype) {
+    return this._namingUtil.joynrName(datatype);
+  }
+
+  @Override
+  public String getTypeName(final FType datatype, final boolean generateVersion) {
+    String _buildPackagePath = this._joynrCppGeneratorExtensions.buildPackagePath(datatype, "::", true, generateVersion);
+    String _plus = (_buildPackagePath + "::");
+    String _joynrName = this._namingUtil.joynrName(datatype);
+    String typeName = (_plus + _joynrName);
+    boolean _isEnum = this.isEnum(datatype);
+    if (_isEnum) {
+      String _typeName = typeName;
+      String _nestedEnumName = this._joynrCppGeneratorExtensions.getNestedEnumName();
+      String _plus_1 = ("::" + _nestedEnumName);
+      typeName = (_typeName + _plus_1);
+    }
+    return typeName;
+  }
+
+  @Override
+  public String getTypeName(final FType datatype) {
+    throw new IllegalArgumentException("Unsupported method called for C++!");
+  }
+
+  @Override
+  public String getIncludeForArray() {
+    return "<vector>";
+  }
+
+  @Override
+  public String getIncludeForString() {
+    return "<string>";
+  }
+
+  public String getIncludeForInteger() {
+    return "<cstdint>";
+  }
+
+  public String getIncludeForByteBuffer() {
+    return "\"joynr/ByteBuffer.h\"";
+  }
+
+  @Override
+  public Set<String> getIncludesFor(final Iterable<FBasicTypeId> datatypes) {
+    HashSet<String> includes = new HashSet<String>();
+    final Function1<FBasicTypeId, Boolean> _function = new Function1<FBasicTypeId, Boolean>() {
+      @Override
+      public Boolean apply(final FBasicTypeId type) {
+        return Boolean.valueOf(Objects.equal(type, FBasicTypeId.STRING));
+      }
+    };
+    boolean _exists = IterableExtensions.<FBasicTypeId>exists(datatypes, _function);
+    if (_exists) {
+      includes.add(this.getIncludeForString());
+    }
+    final Function1<FBasicTypeId, Boolean> _function_1 = new Function1<FBasicTypeId, Boolean>() {
+      @Override
+      public Boolean apply(final FBasicTypeId type) {
+        return Boolean.valueOf(Objects.equal(type, FBasicTypeId.BYTE_BUFFER));
+      }
+    };
+    boolean _exists_1 = IterableExtensions.<FBasicTypeId>exists(datatypes, _function_1);
+    if (_exists_1) {
+      includes.add(this.getIncludeForByteBuffer());
+    }
+    final Function1<FBasicTypeId, Boolean> _function_2 = new Function1<FBasicTypeId, Boolean>() {
+      @Override
+      public Boolean apply(final FBasicTypeId type) {
+        return Boolean.valueOf((((((((Objects.equal(type, FBasicTypeId.INT8) || 
+          Objects.equal(type, FBasicTypeId.UINT8)) || 
+          Objects.equal(type, FBasicTypeId.INT16)) || 
+          Objects.equal(type, FBasicTypeId.UINT16)) || 
+          Objects.equal(type, FBasicTypeId.INT32)) || 
+          Objects.equal(type, FBasicTypeId.UINT32)) || 
+          Objects.equal(type, FBasicTypeId.INT64)) || 
+          Objects.equal(type, FBasicTypeId.UINT64)));
+      }
+    };
+    boolean _exists_2 = IterableExtensions.<FBasicTypeId>exists(datatypes, _function_2);
+    if (_exists_2) {
+      includes.add(this.getIncludeForInteger());
+    }
+    return includes;
+  }
+
+  @Override
+  public String getIncludeOf(final FType dataType, final boolean generateVersioning) {
+    return this.getIncludeOf(dataType, "", generateVersioning);
+  }
+
+  private String getIncludeOf(final FType dataType, final String nameSuffix, final boolean generateVersioning) {
+    String path = this._joynrCppGeneratorExtensions.getPackagePathWithJoynrPrefix(dataType, "/", generateVersioning);
+    boolean _isPartOfNamedTypeCollection = this.isPartOfNamedTypeCollection(dataType);
+    if (_isPartOfNamedTypeCollection) {
+      String _path = path;
+      String _typeCollectionName = this.getTypeCollectionName(dataType);
+      String _plus = ("/" + _typeCollectionName);
+      path = (_path + _plus);
+    }
+    String _joynrName = this._namingUtil.joynrName(dataType);
+    String _plus_1 = ((("\"" + path) + "/") + _joynrName);
+    String _plus_2 = (_plus_1 + nameSuffix);
+    return (_plus_2 + ".h\"");
+  }
+
+  @Override
+  public String getDefaultValue(final FTypedElement element, final boolean generateVersioning) {
+    String _xifexpression = null;
+    FBasicTypeId _predefined = element.getType().getPredefined();
+    boolean _equals = Objects.equal(_predefined, FBasicTypeId.BYTE_BUFFER);
+    if (_equals) {
+      return "";
+    } else {
+      _xifexpression = super.getDefaultValue(element, generateVersioning);
+    }
+    return _xifexpression;
+  }
+
+  public FStructType getRootType(final FStructType datatype) {
+    FStructType _base = datatype.getBase();
+    boolean _tripleNotEquals = (_base != null);
+    if (_tripleNotEquals) {
+      return this.getRootType(datatype.getBase());
+    }
+    return datatype;
+  }
+
+  public FUnionType getRootType(final FUnionType datatype) {
+    FUnionType _base = datatype.getBase();
+    boolean _tripleNotEquals = (_base != null);
+    if (_tripleNotEquals) {
+      return this.getRootType(datatype.getBase());
+    }
+    return datatype;
+  }
+
+  public FCompoundType getRootType(final FCompoundType datatype) {
+    if ((datatype instanceof FStructType)) {
+      return this.getRootType(((FStructType)datatype));
+    } else {
+      if ((datatype instanceof FUnionType)) {
+        return this.getRootType(((FUnionType)datatype));
+      }
+    }
+    String _simpleName = datatype.getClass().getSimpleName();
+    String _plus = ("CppStdTypeUtil.getRootType: unknown type " + _simpleName);
+    throw new IllegalStateException(_plus);
+  }
+
+  public CharSequence getForwardDeclaration(final FType datatype, final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    String _namespaceStarter = this._joynrCppGeneratorExtensions.getNamespaceStarter(datatype, true, generateVersion);
+    _builder.append(_namespaceStarter);
+    _builder.newLineIfNotEmpty();
+    _builder.append("class ");
+    String _joynrName = this._namingUtil.joynrName(datatype);
+    _builder.append(_joynrName);
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    String _namespaceEnder = this._joynrCppGeneratorExtensions.getNamespaceEnder(datatype, true, generateVersion);
+    _builder.append(_namespaceEnder);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
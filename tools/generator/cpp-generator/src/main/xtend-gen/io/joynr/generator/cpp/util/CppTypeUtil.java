@@ -0,0 +1,335 @@
+package io.joynr.generator.cpp.util;
+
+import com.google.inject.Inject;
+import io.joynr.generator.templates.util.AbstractTypeUtil;
+import io.joynr.generator.templates.util.BroadcastUtil;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.MethodUtil;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.xbase.lib.CollectionExtensions;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FField;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FMapType;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeDef;
+import org.franca.core.franca.FTypedElement;
+
+@SuppressWarnings("all")
+public abstract class CppTypeUtil extends AbstractTypeUtil {
+  @Inject
+  @Extension
+  private InterfaceUtil _interfaceUtil;
+
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  @Inject
+  @Extension
+  private BroadcastUtil _broadcastUtil;
+
+  @Inject
+  @Extension
+  protected JoynrCppGeneratorExtensions _joynrCppGeneratorExtensions;
+
+  private Map<FBasicTypeId, String> primitiveDataTypeDefaultMap;
+
+  public CppTypeUtil() {
+    final Map<FBasicTypeId, String> bMap = new HashMap<FBasicTypeId, String>();
+    bMap.put(FBasicTypeId.BOOLEAN, "false");
+    bMap.put(FBasicTypeId.INT8, "-1");
+    bMap.put(FBasicTypeId.UINT8, "0");
+    bMap.put(FBasicTypeId.INT16, "-1");
+    bMap.put(FBasicTypeId.UINT16, "0");
+    bMap.put(FBasicTypeId.INT32, "-1");
+    bMap.put(FBasicTypeId.UINT32, "0");
+    bMap.put(FBasicTypeId.INT64, "-1");
+    bMap.put(FBasicTypeId.UINT64, "0");
+    bMap.put(FBasicTypeId.FLOAT, "-1");
+    bMap.put(FBasicTypeId.DOUBLE, "-1");
+    bMap.put(FBasicTypeId.STRING, "\"\"");
+    bMap.put(FBasicTypeId.BYTE_BUFFER, "\"\"");
+    bMap.put(FBasicTypeId.UNDEFINED, "");
+    this.primitiveDataTypeDefaultMap = Collections.<FBasicTypeId, String>unmodifiableMap(bMap);
+  }
+
+  public String getCommaSeperatedUntypedInputParameterList(final FMethod method) {
+    return this.getCommaSeperatedUntypedParameterList(this._methodUtil.getInputParameters(method));
+  }
+
+  public String getCommaSeperatedUntypedOutputParameterList(final FMethod method) {
+    return this.getCommaSeperatedUntypedParameterList(this._methodUtil.getOutputParameters(method));
+  }
+
+  public String getCommaSeperatedUntypedParameterList(final Iterable<FArgument> arguments) {
+    final StringBuilder returnStringBuilder = new StringBuilder();
+    for (final FArgument argument : arguments) {
+      {
+        returnStringBuilder.append(this._namingUtil.joynrName(argument));
+        returnStringBuilder.append(", ");
+      }
+    }
+    final String returnString = returnStringBuilder.toString();
+    int _length = returnString.length();
+    boolean _equals = (_length == 0);
+    if (_equals) {
+      return "";
+    }
+    int _length_1 = returnString.length();
+    int _minus = (_length_1 - 2);
+    return returnString.substring(0, _minus);
+  }
+
+  public String getCommaSeparatedOutputParameterTypes(final FMethod method, final boolean generateVersion) {
+    return this.getCommaSeparatedParameterTypes(this._methodUtil.getOutputParameters(method), generateVersion);
+  }
+
+  public String getCommaSeparatedOutputParameterTypes(final FBroadcast broadcast, final boolean generateVersion) {
+    return this.getCommaSeparatedParameterTypes(this._broadcastUtil.getOutputParameters(broadcast), generateVersion);
+  }
+
+  private String getCommaSeparatedParameterTypes(final Iterable<FArgument> arguments, final boolean generateVersion) {
+    final StringBuilder commaSeparatedParams = new StringBuilder();
+    Iterable<String> _mapParametersToTypeName = this.mapParametersToTypeName(arguments, generateVersion);
+    for (final String parameter : _mapParametersToTypeName) {
+      {
+        commaSeparatedParams.append(parameter);
+        commaSeparatedParams.append(", ");
+      }
+    }
+    final String returnString = commaSeparatedParams.toString();
+    int _length = returnString.length();
+    boolean _equals = (_length == 0);
+    if (_equals) {
+      return "";
+    } else {
+      int _length_1 = returnString.length();
+      int _minus = (_length_1 - 2);
+      return returnString.substring(0, _minus);
+    }
+  }
+
+  private String getCommaSeperatedTypedParameterList(final Iterable<FArgument> arguments, final boolean constParameters, final boolean parameterAsReference, final boolean generateVersion) {
+    final StringBuilder returnStringBuilder = new StringBuilder();
+    boolean firstElement = true;
+    for (final FArgument argument : arguments) {
+      {
+        if (firstElement) {
+          firstElement = false;
+        } else {
+          returnStringBuilder.append("\n");
+        }
+        if (constParameters) {
+          returnStringBuilder.append("const ");
+        }
+        returnStringBuilder.append(this.getTypeName(argument, generateVersion));
+        if (parameterAsReference) {
+          returnStringBuilder.append("&");
+        }
+        returnStringBuilder.append(" ");
+        returnStringBuilder.append(this._namingUtil.joynrName(argument));
+        returnStringBuilder.append(",");
+      }
+    }
+    final String returnString = returnStringBuilder.toString();
+    int _length = returnString.length();
+    boolean _equals = (_length == 0);
+    if (_equals) {
+      return "";
+    } else {
+      int _length_1 = returnString.length();
+      int _minus = (_length_1 - 1);
+      return returnString.substring(0, _minus);
+    }
+  }
+
+  public String getCommaSeperatedTypedOutputParameterList(final FMethod method, final boolean generateVersion) {
+    return this.getCommaSeperatedTypedParameterList(this._methodUtil.getOutputParameters(method), false, true, generateVersion);
+  }
+
+  public String getCommaSeperatedTypedConstOutputParameterList(final FMethod method, final boolean generateVersion) {
+    return this.getCommaSeperatedTypedParameterList(this._methodUtil.getOutputParameters(method), true, true, generateVersion);
+  }
+
+  public String getCommaSeperatedTypedOutputParameterList(final FBroadcast broadcast, final boolean generateVersion) {
+    return this.getCommaSeperatedTypedParameterList(this._broadcastUtil.getOutputParameters(broadcast), false, true, generateVersion);
+  }
+
+  public String getCommaSeperatedTypedConstOutputParameterList(final FBroadcast broadcast, final boolean generateVersion) {
+    return this.getCommaSeperatedTypedParameterList(this._broadcastUtil.getOutputParameters(broadcast), true, true, generateVersion);
+  }
+
+  public String getCommaSeperatedTypedConstInputParameterList(final FMethod method, final boolean generateVersion) {
+    return this.getCommaSeperatedTypedParameterList(this._methodUtil.getInputParameters(method), true, true, generateVersion);
+  }
+
+  public String getDefaultValue(final FTypedElement element, final boolean generateVersion) {
+    if ((this.isCompound(element.getType()) || this.isMap(element.getType()))) {
+      return "";
+    } else {
+      boolean _isArray = this.isArray(element);
+      if (_isArray) {
+        return "";
+      } else {
+        boolean _isEnum = this.isEnum(element.getType());
+        if (_isEnum) {
+          String _buildPackagePath = this._joynrCppGeneratorExtensions.buildPackagePath(this.getEnumType(element.getType()), "::", true, generateVersion);
+          String _plus = (_buildPackagePath + "::");
+          String _joynrName = this._namingUtil.joynrName(this.getEnumType(element.getType()));
+          final String path = (_plus + _joynrName);
+          String _joynrName_1 = this._namingUtil.joynrName(this.getEnumType(element.getType()).getEnumerators().get(0));
+          return ((path + "::") + _joynrName_1);
+        } else {
+          boolean _containsKey = this.primitiveDataTypeDefaultMap.containsKey(element.getType().getPredefined());
+          boolean _not = (!_containsKey);
+          if (_not) {
+            return "NaN";
+          } else {
+            return this.primitiveDataTypeDefaultMap.get(element.getType().getPredefined());
+          }
+        }
+      }
+    }
+  }
+
+  public Iterable<FType> getTypeDependencies(final FCompoundType datatype) {
+    final Iterable<FField> members = this.getComplexMembers(datatype, true);
+    final HashSet<FType> typeList = new HashSet<FType>();
+    boolean _hasExtendsDeclaration = this.hasExtendsDeclaration(datatype);
+    if (_hasExtendsDeclaration) {
+      typeList.add(this.getExtendedType(datatype));
+    }
+    for (final FField member : members) {
+      {
+        final Object type = this.getDatatype(member.getType());
+        if ((type instanceof FType)) {
+          typeList.add(((FType)type));
+        }
+      }
+    }
+    return typeList;
+  }
+
+  public Iterable<?> getTypeDependencies(final FMapType datatype) {
+    final HashSet<Object> typeList = new HashSet<Object>();
+    Object type = this.getDatatype(datatype.getKeyType());
+    if (((type instanceof FType) || (type instanceof FBasicTypeId))) {
+      typeList.add(type);
+    }
+    type = this.getDatatype(datatype.getValueType());
+    if (((type instanceof FType) || (type instanceof FBasicTypeId))) {
+      typeList.add(type);
+    }
+    return typeList;
+  }
+
+  public Iterable<?> getTypeDependencies(final FTypeDef datatype) {
+    final HashSet<Object> typeList = new HashSet<Object>();
+    Object type = this.getDatatype(datatype.getActualType());
+    if ((type instanceof FType)) {
+      typeList.add(type);
+    } else {
+      if ((type instanceof FBasicTypeId)) {
+        CollectionExtensions.<FBasicTypeId>addAll(typeList, ((FBasicTypeId)type));
+      }
+    }
+    return typeList;
+  }
+
+  public abstract Set<String> getIncludesFor(final Iterable<FBasicTypeId> datatypes);
+
+  public abstract String getIncludeForArray();
+
+  public abstract String getIncludeOf(final FType type, final boolean generateVersioning);
+
+  public abstract String getIncludeForString();
+
+  @Override
+  public Object getDatatype(final FType type) {
+    boolean _isTypeDef = this.isTypeDef(type);
+    if (_isTypeDef) {
+      return type;
+    }
+    return super.getDatatype(type);
+  }
+
+  public Set<String> getDataTypeIncludesFor(final FInterface serviceInterface, final boolean generateVersioning) {
+    final HashSet<String> includeSet = new HashSet<String>();
+    final InterfaceUtil.TypeSelector selector = InterfaceUtil.TypeSelector.defaultTypeSelector();
+    selector.errorTypes(true);
+    selector.typeDefs(true);
+    Iterable<FType> _allComplexTypes = this._interfaceUtil.getAllComplexTypes(serviceInterface, selector);
+    for (final FType datatype : _allComplexTypes) {
+      includeSet.add(this.getIncludeOf(datatype, generateVersioning));
+    }
+    includeSet.addAll(this.getIncludesFor(this._interfaceUtil.getAllPrimitiveTypes(serviceInterface)));
+    if ((this._interfaceUtil.hasArray(serviceInterface) && (this.getIncludeForArray() != null))) {
+      includeSet.add(this.getIncludeForArray());
+    }
+    final Function1<FBroadcast, Boolean> _function = new Function1<FBroadcast, Boolean>() {
+      @Override
+      public Boolean apply(final FBroadcast it) {
+        boolean _isSelective = it.isSelective();
+        return Boolean.valueOf((!_isSelective));
+      }
+    };
+    boolean _isEmpty = IterableExtensions.isEmpty(IterableExtensions.<FBroadcast>filter(serviceInterface.getBroadcasts(), _function));
+    boolean _not = (!_isEmpty);
+    if (_not) {
+      includeSet.add(this.getIncludeForArray());
+      includeSet.add(this.getIncludeForString());
+    }
+    return includeSet;
+  }
+
+  public Set<String> getBroadcastFilterParametersClassNames(final FInterface serviceInterface) {
+    final HashSet<String> classNameSet = new HashSet<String>();
+    EList<FBroadcast> _broadcasts = serviceInterface.getBroadcasts();
+    for (final FBroadcast broadcast : _broadcasts) {
+      boolean _isSelective = broadcast.isSelective();
+      if (_isSelective) {
+        String _firstUpper = StringExtensions.toFirstUpper(serviceInterface.getName());
+        String _firstUpper_1 = StringExtensions.toFirstUpper(this._namingUtil.joynrName(broadcast));
+        String _plus = (_firstUpper + _firstUpper_1);
+        String _plus_1 = (_plus + 
+          "BroadcastFilterParameters");
+        classNameSet.add(_plus_1);
+      }
+    }
+    return classNameSet;
+  }
+
+  public Set<String> getBroadcastFilterParametersIncludes(final FInterface serviceInterface, final boolean generateVersion) {
+    final HashSet<String> includeSet = new HashSet<String>();
+    EList<FBroadcast> _broadcasts = serviceInterface.getBroadcasts();
+    for (final FBroadcast broadcast : _broadcasts) {
+      boolean _isSelective = broadcast.isSelective();
+      if (_isSelective) {
+        includeSet.add(this._joynrCppGeneratorExtensions.getIncludeOfFilterParametersContainer(serviceInterface, broadcast, generateVersion));
+      }
+    }
+    return includeSet;
+  }
+
+  public abstract String getGenerationTypeName(final FType datatype);
+
+  public String getTypeNameOfContainingClass(final FType datatype, final boolean generateVersion) {
+    final String packagepath = this._joynrCppGeneratorExtensions.buildPackagePath(datatype, "::", true, generateVersion);
+    String _generationTypeName = this.getGenerationTypeName(datatype);
+    return ((packagepath + "::") + _generationTypeName);
+  }
+}
@@ -0,0 +1,217 @@
+package io.joynr.generator.cpp.util;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Iterators;
+import io.joynr.generator.templates.util.JoynrGeneratorExtensions;
+import java.io.File;
+import java.util.Iterator;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FAnnotation;
+import org.franca.core.franca.FAnnotationBlock;
+import org.franca.core.franca.FAnnotationType;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FModelElement;
+import org.franca.core.franca.FType;
+
+@SuppressWarnings("all")
+public class JoynrCppGeneratorExtensions extends JoynrGeneratorExtensions {
+  public String getNamespaceStarter(final FInterface interfaceType, final boolean generateVersion) {
+    return this.getNamespaceStarter(this.getPackageNames(interfaceType, generateVersion));
+  }
+
+  public String getNamespaceStarter(final FType datatype, final boolean generateVersion) {
+    return this.getNamespaceStarter(datatype, true, generateVersion);
+  }
+
+  public String[] getNamespaces(final FType datatype, final boolean includeTypeCollection, final boolean generateVersion) {
+    String packagePath = this.getPackagePathWithoutJoynrPrefix(datatype, ".", generateVersion);
+    if ((includeTypeCollection && this._typeUtil.isPartOfNamedTypeCollection(datatype))) {
+      String _packagePath = packagePath;
+      String _typeCollectionName = this._typeUtil.getTypeCollectionName(datatype);
+      String _plus = ("." + _typeCollectionName);
+      packagePath = (_packagePath + _plus);
+    }
+    return packagePath.split("\\.");
+  }
+
+  public String getNamespaceStarter(final FType datatype, final boolean includeTypeCollection, final boolean generateVersion) {
+    return this.getNamespaceStarter(Iterators.<String>forArray(this.getNamespaces(datatype, includeTypeCollection, generateVersion)));
+  }
+
+  public String getNamespaceEnder(final FInterface interfaceType, final boolean generateVersion) {
+    return this.getNameSpaceEnderFromPackageList(this.getPackageNames(interfaceType, generateVersion));
+  }
+
+  public String getNamespaceEnder(final FType datatype, final boolean includeTypeCollection, final boolean generateVersion) {
+    return this.getNameSpaceEnderFromPackageList(Iterators.<String>forArray(this.getNamespaces(datatype, includeTypeCollection, generateVersion)));
+  }
+
+  public String getNamespaceEnder(final FType datatype, final boolean generateVersion) {
+    return this.getNamespaceEnder(datatype, true, generateVersion);
+  }
+
+  private String getNamespaceStarter(final Iterator<String> packageList) {
+    return this.getNamespaceStarterFromPackageList(packageList);
+  }
+
+  public String getNamespaceStarterFromPackageList(final Iterator<String> packageList) {
+    StringBuilder sb = new StringBuilder();
+    String _joynrGenerationPrefix = this.getJoynrGenerationPrefix();
+    String _plus = ("namespace " + _joynrGenerationPrefix);
+    String _plus_1 = (_plus + " { ");
+    sb.append(_plus_1);
+    while (packageList.hasNext()) {
+      String _next = packageList.next();
+      String _plus_2 = ("namespace " + _next);
+      String _plus_3 = (_plus_2 + " { ");
+      sb.append(_plus_3);
+    }
+    return sb.toString();
+  }
+
+  public String getNameSpaceEnderFromPackageList(final Iterator<String> packageList) {
+    StringBuilder sb = new StringBuilder();
+    String _joynrGenerationPrefix = this.getJoynrGenerationPrefix();
+    String _plus = ("\n} // namespace " + _joynrGenerationPrefix);
+    sb.append(_plus);
+    while (packageList.hasNext()) {
+      String _next = packageList.next();
+      String _plus_1 = ("\n} // namespace " + _next);
+      sb.insert(0, _plus_1);
+    }
+    return sb.toString();
+  }
+
+  public CharSequence appendDoxygenSummaryAndWriteSeeAndDescription(final FModelElement element, final String prefix) {
+    StringConcatenation _builder = new StringConcatenation();
+    {
+      FAnnotationBlock _comment = element.getComment();
+      boolean _tripleNotEquals = (_comment != null);
+      if (_tripleNotEquals) {
+        {
+          EList<FAnnotation> _elements = element.getComment().getElements();
+          for(final FAnnotation comment : _elements) {
+            {
+              FAnnotationType _type = comment.getType();
+              boolean _equals = Objects.equal(_type, FAnnotationType.DESCRIPTION);
+              if (_equals) {
+                _builder.append(prefix);
+                _builder.append(" @brief ");
+                String _replaceAll = comment.getComment().replaceAll("\\s+", " ").replaceAll("\n", ("\n" + prefix));
+                _builder.append(_replaceAll);
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+        {
+          EList<FAnnotation> _elements_1 = element.getComment().getElements();
+          for(final FAnnotation comment_1 : _elements_1) {
+            {
+              FAnnotationType _type_1 = comment_1.getType();
+              boolean _equals_1 = Objects.equal(_type_1, FAnnotationType.SEE);
+              if (_equals_1) {
+                _builder.append(prefix);
+                _builder.append(" @see ");
+                String _replaceAll_1 = comment_1.getComment().replaceAll("\\s+", " ").replaceAll("\n", ("\n" + prefix));
+                _builder.append(_replaceAll_1);
+                _builder.newLineIfNotEmpty();
+              }
+            }
+            {
+              FAnnotationType _type_2 = comment_1.getType();
+              boolean _equals_2 = Objects.equal(_type_2, FAnnotationType.DETAILS);
+              if (_equals_2) {
+                _builder.append(prefix);
+                _builder.newLineIfNotEmpty();
+                _builder.append(prefix);
+                _builder.append(" ");
+                String _replaceAll_2 = comment_1.getComment().replaceAll("\\s+", " ").replaceAll("\n", ("\n" + prefix));
+                _builder.append(_replaceAll_2);
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+      }
+    }
+    return _builder;
+  }
+
+  public CharSequence appendDoxygenComment(final FModelElement element, final String prefix) {
+    StringConcatenation _builder = new StringConcatenation();
+    {
+      FAnnotationBlock _comment = element.getComment();
+      boolean _tripleNotEquals = (_comment != null);
+      if (_tripleNotEquals) {
+        {
+          EList<FAnnotation> _elements = element.getComment().getElements();
+          for(final FAnnotation comment : _elements) {
+            {
+              FAnnotationType _type = comment.getType();
+              boolean _equals = Objects.equal(_type, FAnnotationType.DESCRIPTION);
+              if (_equals) {
+                String _replaceAll = comment.getComment().replaceAll("\\s+", " ").replaceAll("\n", ("\n" + prefix));
+                _builder.append(_replaceAll);
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+      }
+    }
+    return _builder;
+  }
+
+  public CharSequence appendDoxygenParameter(final FModelElement element, final String prefix) {
+    StringConcatenation _builder = new StringConcatenation();
+    {
+      FAnnotationBlock _comment = element.getComment();
+      boolean _tripleNotEquals = (_comment != null);
+      if (_tripleNotEquals) {
+        {
+          EList<FAnnotation> _elements = element.getComment().getElements();
+          for(final FAnnotation comment : _elements) {
+            {
+              FAnnotationType _type = comment.getType();
+              boolean _equals = Objects.equal(_type, FAnnotationType.DESCRIPTION);
+              if (_equals) {
+                _builder.append(prefix);
+                _builder.append(" @param ");
+                String _joynrName = this._namingUtil.joynrName(element);
+                _builder.append(_joynrName);
+                _builder.append(" ");
+                String _replaceAll = comment.getComment().replaceAll("\\s+", " ").replaceAll("\n", ("\n" + prefix));
+                _builder.append(_replaceAll);
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+      }
+    }
+    return _builder;
+  }
+
+  public String getNestedEnumName() {
+    return "Enum";
+  }
+
+  public String getIncludeOfFilterParametersContainer(final FInterface serviceInterface, final FBroadcast broadcast, final boolean generateVersion) {
+    String _packagePathWithJoynrPrefix = this.getPackagePathWithJoynrPrefix(serviceInterface, "/", generateVersion);
+    String _plus = ("\"" + _packagePathWithJoynrPrefix);
+    String _plus_1 = (_plus + "/");
+    String _firstUpper = StringExtensions.toFirstUpper(serviceInterface.getName());
+    String _plus_2 = (_plus_1 + _firstUpper);
+    String _firstUpper_1 = StringExtensions.toFirstUpper(this._namingUtil.joynrName(broadcast));
+    String _plus_3 = (_plus_2 + _firstUpper_1);
+    return (_plus_3 + "BroadcastFilterParameters.h\"");
+  }
+
+  public String getPackageSourceDirectory(final FModelElement fModelElement, final boolean generateVersion) {
+    return super.getPackageName(fModelElement, generateVersion).replace(".", File.separator);
+  }
+}
@@ -0,0 +1,92 @@
+package io.joynr.generator.cpp.util;
+
+import org.eclipse.xtend2.lib.StringConcatenation;
+
+/**
+ * !!!
+ * 
+ * Copyright (C) 2011 - 2018 BMW Car IT GmbH
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+@SuppressWarnings("all")
+public class TemplateBase {
+  public CharSequence warning() {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append("/*");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("*");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* Copyright (C) 2011 - 2018 BMW Car IT GmbH");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("*");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* Licensed under the Apache License, Version 2.0 (the \"License\");");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* you may not use this file except in compliance with the License.");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* You may obtain a copy of the License at");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("*");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("*      http://www.apache.org/licenses/LICENSE-2.0");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("*");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* Unless required by applicable law or agreed to in writing, software");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* distributed under the License is distributed on an \"AS IS\" BASIS,");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* See the License for the specific language governing permissions and");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* limitations under the License.");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("// #####################################################");
+    _builder.newLine();
+    _builder.append("//#######################################################");
+    _builder.newLine();
+    _builder.append("//###                                                 ###");
+    _builder.newLine();
+    _builder.append("//##    WARNING: This file is generated. DO NOT EDIT   ##");
+    _builder.newLine();
+    _builder.append("//##             All changes will be lost!             ##");
+    _builder.newLine();
+    _builder.append("//###                                                 ###");
+    _builder.newLine();
+    _builder.append("//#######################################################");
+    _builder.newLine();
+    _builder.append("// #####################################################");
+    _builder.newLine();
+    return _builder;
+  }
+}
@@ -0,0 +1,16 @@
+package io.joynr.generator.templates;
+
+import org.franca.core.franca.FCompoundType;
+
+/**
+ * This class shall be used by all generation templates which process a Franca compound type
+ */
+@SuppressWarnings("all")
+public abstract class CompoundTypeTemplate extends TypeTemplate {
+  protected FCompoundType type;
+
+  public CompoundTypeTemplate(final FCompoundType type) {
+    super(type);
+    this.type = type;
+  }
+}
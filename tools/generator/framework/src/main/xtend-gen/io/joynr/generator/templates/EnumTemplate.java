@@ -0,0 +1,16 @@
+package io.joynr.generator.templates;
+
+import org.franca.core.franca.FEnumerationType;
+
+/**
+ * This class shall be used by all generation templates which process a Franca enumeration type
+ */
+@SuppressWarnings("all")
+public abstract class EnumTemplate extends TypeTemplate {
+  protected FEnumerationType type;
+
+  public EnumTemplate(final FEnumerationType type) {
+    super(type);
+    this.type = type;
+  }
+}
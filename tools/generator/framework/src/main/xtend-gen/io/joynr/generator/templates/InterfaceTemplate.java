@@ -0,0 +1,84 @@
+package io.joynr.generator.templates;
+
+import com.google.inject.Inject;
+import com.google.inject.assistedinject.Assisted;
+import io.joynr.generator.templates.util.BroadcastUtil;
+import io.joynr.generator.templates.util.JoynrGeneratorExtensions;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FVersion;
+
+/**
+ * This is the base class used by all generation templates which process a Franca interface type
+ */
+@SuppressWarnings("all")
+public abstract class InterfaceTemplate {
+  @Inject
+  @Extension
+  protected JoynrGeneratorExtensions _joynrGeneratorExtensions;
+
+  @Inject
+  @Extension
+  protected BroadcastUtil _broadcastUtil;
+
+  protected FInterface francaIntf;
+
+  protected int majorVersion = 0;
+
+  protected int minorVersion = 0;
+
+  public int init() {
+    int _xifexpression = (int) 0;
+    FVersion _version = this.francaIntf.getVersion();
+    boolean _tripleNotEquals = (_version != null);
+    if (_tripleNotEquals) {
+      int _xblockexpression = (int) 0;
+      {
+        this.majorVersion = (this.francaIntf.getVersion().getMajor()).intValue();
+        _xblockexpression = this.minorVersion = (this.francaIntf.getVersion().getMinor()).intValue();
+      }
+      _xifexpression = _xblockexpression;
+    }
+    return _xifexpression;
+  }
+
+  @Inject
+  public int setFrancaInterface(@Assisted final FInterface francaIntf) {
+    int _xblockexpression = (int) 0;
+    {
+      this.francaIntf = francaIntf;
+      _xblockexpression = this.init();
+    }
+    return _xblockexpression;
+  }
+
+  public abstract CharSequence generate(final boolean generateVersion);
+
+  public boolean hasSelectiveBroadcast() {
+    final Function1<FBroadcast, Boolean> _function = new Function1<FBroadcast, Boolean>() {
+      @Override
+      public Boolean apply(final FBroadcast it) {
+        return Boolean.valueOf(it.isSelective());
+      }
+    };
+    return IterableExtensions.<FBroadcast>exists(this.francaIntf.getBroadcasts(), _function);
+  }
+
+  public boolean hasNonSelectiveBroadcast() {
+    final Function1<FBroadcast, Boolean> _function = new Function1<FBroadcast, Boolean>() {
+      @Override
+      public Boolean apply(final FBroadcast it) {
+        boolean _isSelective = it.isSelective();
+        return Boolean.valueOf((!_isSelective));
+      }
+    };
+    return IterableExtensions.<FBroadcast>exists(this.francaIntf.getBroadcasts(), _function);
+  }
+
+  public String getBroadcastFilterClassName(final FBroadcast broadcast) {
+    return this._broadcastUtil.getBroadcastFilterClassName(this.francaIntf, broadcast);
+  }
+}
@@ -0,0 +1,16 @@
+package io.joynr.generator.templates;
+
+import org.franca.core.franca.FMapType;
+
+/**
+ * This class shall be used by all generation templates which process a Franca map type
+ */
+@SuppressWarnings("all")
+public abstract class MapTemplate extends TypeTemplate {
+  protected FMapType type;
+
+  public MapTemplate(final FMapType type) {
+    super(type);
+    this.type = type;
+  }
+}
@@ -0,0 +1,32 @@
+package io.joynr.generator.templates;
+
+import org.eclipse.emf.ecore.EObject;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeCollection;
+import org.franca.core.franca.FVersion;
+
+/**
+ * This is the base class for all generation templates which process a Franca type
+ */
+@SuppressWarnings("all")
+public abstract class TypeTemplate {
+  protected int majorVersion = 0;
+
+  protected int minorVersion = 0;
+
+  public TypeTemplate(final FType type) {
+    EObject _eContainer = type.eContainer();
+    if ((_eContainer instanceof FTypeCollection)) {
+      EObject _eContainer_1 = type.eContainer();
+      final FTypeCollection interface_ = ((FTypeCollection) _eContainer_1);
+      FVersion _version = interface_.getVersion();
+      boolean _tripleNotEquals = (_version != null);
+      if (_tripleNotEquals) {
+        this.majorVersion = (interface_.getVersion().getMajor()).intValue();
+        this.minorVersion = (interface_.getVersion().getMinor()).intValue();
+      }
+    }
+  }
+
+  public abstract CharSequence generate(final boolean generateVersion);
+}
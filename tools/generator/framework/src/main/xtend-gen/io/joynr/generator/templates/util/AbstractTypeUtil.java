@@ -0,0 +1,151 @@
+package io.joynr.generator.templates.util;
+
+import java.util.ArrayList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeRef;
+import org.franca.core.franca.FTypedElement;
+
+@SuppressWarnings("all")
+public abstract class AbstractTypeUtil extends TypeUtil {
+  public abstract String getTypeName(final FBasicTypeId datatype);
+
+  public abstract String getTypeName(final FType datatype, final boolean generateVersion);
+
+  public abstract String getTypeName(final FType datatype);
+
+  public abstract String getTypeNameForList(final FBasicTypeId datatype);
+
+  public abstract String getTypeNameForList(final FType datatype);
+
+  public abstract String getTypeNameForList(final FType datatype, final boolean generateVersion);
+
+  public String getTypeName(final FTypeRef type, final boolean generateVersion) {
+    String _xifexpression = null;
+    FType _derived = type.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      _xifexpression = this.getTypeName(type.getDerived(), generateVersion);
+    } else {
+      _xifexpression = this.getTypeName(type.getPredefined());
+    }
+    return _xifexpression;
+  }
+
+  public String getTypeName(final FTypeRef type) {
+    String _xifexpression = null;
+    FType _derived = type.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      _xifexpression = this.getTypeName(type.getDerived());
+    } else {
+      _xifexpression = this.getTypeName(type.getPredefined());
+    }
+    return _xifexpression;
+  }
+
+  public String getTypeNameForList(final FTypeRef type) {
+    String _xifexpression = null;
+    FType _derived = type.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      _xifexpression = this.getTypeNameForList(type.getDerived());
+    } else {
+      _xifexpression = this.getTypeNameForList(type.getPredefined());
+    }
+    return _xifexpression;
+  }
+
+  public String getTypeNameForList(final FTypeRef type, final boolean generateVersion) {
+    String _xifexpression = null;
+    FType _derived = type.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      _xifexpression = this.getTypeNameForList(type.getDerived(), generateVersion);
+    } else {
+      _xifexpression = this.getTypeNameForList(type.getPredefined());
+    }
+    return _xifexpression;
+  }
+
+  public String getTypeName(final FTypedElement typedElement, final boolean generateVersion) {
+    String _xifexpression = null;
+    boolean _isArray = this.isArray(typedElement);
+    if (_isArray) {
+      _xifexpression = this.getTypeNameForList(typedElement.getType(), generateVersion);
+    } else {
+      _xifexpression = this.getTypeName(typedElement.getType(), generateVersion);
+    }
+    String result = _xifexpression;
+    if ((result == null)) {
+      String _name = typedElement.getName();
+      String _plus = ("Datatype for element " + _name);
+      String _plus_1 = (_plus + " could not be found");
+      throw new IllegalStateException(_plus_1);
+    }
+    return result;
+  }
+
+  public String getTypeName(final FTypedElement typedElement) {
+    String _xifexpression = null;
+    boolean _isArray = this.isArray(typedElement);
+    if (_isArray) {
+      _xifexpression = this.getTypeNameForList(typedElement.getType());
+    } else {
+      _xifexpression = this.getTypeName(typedElement.getType());
+    }
+    String result = _xifexpression;
+    if ((result == null)) {
+      String _name = typedElement.getName();
+      String _plus = ("Datatype for element " + _name);
+      String _plus_1 = (_plus + " could not be found");
+      throw new IllegalStateException(_plus_1);
+    }
+    return result;
+  }
+
+  public Iterable<String> mapParametersToTypeName(final FMethod method, final boolean generateVersion) {
+    return this.mapParametersToTypeName(method.getOutArgs(), generateVersion);
+  }
+
+  public Iterable<String> mapParametersToTypeName(final Iterable<FArgument> parameters, final boolean generateVersion) {
+    final ArrayList<String> result = new ArrayList<String>();
+    boolean _isEmpty = IterableExtensions.isEmpty(parameters);
+    if (_isEmpty) {
+      result.add("void");
+    } else {
+      for (final FArgument parameter : parameters) {
+        result.add(this.getTypeName(parameter, generateVersion));
+      }
+    }
+    return result;
+  }
+
+  public ArrayList<String> getTypeNamesForOutputParameter(final FMethod method, final boolean generateVersion) {
+    final ArrayList<String> result = new ArrayList<String>();
+    final EList<FArgument> types = method.getOutArgs();
+    if (((types == null) || types.isEmpty())) {
+      result.add("void");
+    }
+    for (final FArgument argument : types) {
+      result.add(this.getTypeName(argument, generateVersion));
+    }
+    return result;
+  }
+
+  public ArrayList<String> getTypeNamesForOutputParameter(final FMethod method) {
+    final ArrayList<String> result = new ArrayList<String>();
+    final EList<FArgument> types = method.getOutArgs();
+    if (((types == null) || types.isEmpty())) {
+      result.add("void");
+    }
+    for (final FArgument argument : types) {
+      result.add(this.getTypeName(argument));
+    }
+    return result;
+  }
+}
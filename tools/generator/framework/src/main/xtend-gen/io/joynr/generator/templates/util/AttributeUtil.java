@@ -0,0 +1,30 @@
+package io.joynr.generator.templates.util;
+
+import com.google.inject.Singleton;
+import org.franca.core.franca.FAttribute;
+
+@Singleton
+@SuppressWarnings("all")
+public class AttributeUtil {
+  public boolean isReadable(final FAttribute field) {
+    return true;
+  }
+
+  public boolean isWritable(final FAttribute field) {
+    boolean _isReadonly = field.isReadonly();
+    return (!_isReadonly);
+  }
+
+  public boolean isNotifiable(final FAttribute field) {
+    return this.isObservable(field);
+  }
+
+  public boolean isReadonly(final FAttribute fAttribute) {
+    return fAttribute.isReadonly();
+  }
+
+  public boolean isObservable(final FAttribute fAttribute) {
+    boolean _isNoSubscriptions = fAttribute.isNoSubscriptions();
+    return (!_isNoSubscriptions);
+  }
+}
@@ -0,0 +1,79 @@
+package io.joynr.generator.templates.util;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Iterables;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.HashSet;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FAnnotation;
+import org.franca.core.franca.FAnnotationBlock;
+import org.franca.core.franca.FAnnotationType;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FType;
+
+@Singleton
+@SuppressWarnings("all")
+public class BroadcastUtil {
+  @Inject
+  @Extension
+  private TypeUtil _typeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  public Iterable<FArgument> getOutputParameters(final FBroadcast event) {
+    if (((event == null) || (event.getOutArgs().size() == 0))) {
+      return new HashSet<FArgument>();
+    } else {
+      return IterableExtensions.<FArgument>filterNull(event.getOutArgs());
+    }
+  }
+
+  public HashSet<Object> getAllRequiredTypes(final FBroadcast broadcast) {
+    HashSet<Object> typeList = new HashSet<Object>();
+    Iterable<FArgument> _filterNull = IterableExtensions.<FArgument>filterNull(this.getOutputParameters(broadcast));
+    for (final FArgument outParameter : _filterNull) {
+      Iterables.<Object>addAll(typeList, this._typeUtil.getRequiredTypes(outParameter.getType()));
+    }
+    return typeList;
+  }
+
+  public Iterable<FType> getAllComplexTypes(final FBroadcast broadcast) {
+    return this._typeUtil.filterComplex(this.getAllRequiredTypes(broadcast));
+  }
+
+  public ArrayList<String> getFilterParameters(final FBroadcast broadcast) {
+    final ArrayList<String> paramList = new ArrayList<String>();
+    FAnnotationBlock _comment = broadcast.getComment();
+    boolean _tripleNotEquals = (_comment != null);
+    if (_tripleNotEquals) {
+      EList<FAnnotation> _elements = broadcast.getComment().getElements();
+      for (final FAnnotation annotation : _elements) {
+        FAnnotationType _type = annotation.getType();
+        boolean _equals = Objects.equal(_type, FAnnotationType.PARAM);
+        if (_equals) {
+          final String comment = annotation.getComment();
+          paramList.add(comment.split("\\s+")[0]);
+        }
+      }
+    }
+    return paramList;
+  }
+
+  public String getBroadcastFilterClassName(final FInterface francaIntf, final FBroadcast broadcast) {
+    final String broadcastName = this._namingUtil.joynrName(broadcast);
+    String _firstUpper = StringExtensions.toFirstUpper(this._namingUtil.joynrName(francaIntf));
+    String _firstUpper_1 = StringExtensions.toFirstUpper(broadcastName);
+    String _plus = (_firstUpper + _firstUpper_1);
+    final String broadCastFilterClassName = (_plus + "BroadcastFilter");
+    return broadCastFilterClassName;
+  }
+}
@@ -0,0 +1,26 @@
+package io.joynr.generator.templates.util;
+
+import java.util.Comparator;
+import org.franca.core.franca.FMapType;
+
+@SuppressWarnings("all")
+public class FMapTypeAsLastComparator implements Comparator<Object> {
+  @Override
+  public int compare(final Object object1, final Object object2) {
+    int _xifexpression = (int) 0;
+    if ((object1 instanceof FMapType)) {
+      _xifexpression = 1;
+    } else {
+      _xifexpression = 0;
+    }
+    final int object1Type = _xifexpression;
+    int _xifexpression_1 = (int) 0;
+    if ((object2 instanceof FMapType)) {
+      _xifexpression_1 = 1;
+    } else {
+      _xifexpression_1 = 0;
+    }
+    final int object2Type = _xifexpression_1;
+    return (object1Type - object2Type);
+  }
+}
@@ -0,0 +1,571 @@
+package io.joynr.generator.templates.util;
+
+import com.google.common.collect.Iterables;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.xbase.lib.CollectionLiterals;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.ListExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FField;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FMapType;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FStructType;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeRef;
+
+@Singleton
+@SuppressWarnings("all")
+public class InterfaceUtil {
+  public static class TypeSelector {
+    private boolean methods = true;
+
+    private boolean fireAndForget = true;
+
+    private boolean readAttributes = true;
+
+    private boolean writeAttributes = true;
+
+    private boolean notifyAttributes = true;
+
+    private boolean broadcasts = true;
+
+    private boolean errorTypes = false;
+
+    private boolean transitiveTypes = false;
+
+    private boolean typeDefs = false;
+
+    public static InterfaceUtil.TypeSelector defaultTypeSelector() {
+      return new InterfaceUtil.TypeSelector();
+    }
+
+    public boolean methods(final boolean methods) {
+      return this.methods = methods;
+    }
+
+    public boolean fireAndForget(final boolean fireAndForget) {
+      return this.fireAndForget = fireAndForget;
+    }
+
+    public boolean readAttributes(final boolean readAttributes) {
+      return this.readAttributes = readAttributes;
+    }
+
+    public boolean writeAttributes(final boolean writeAttributes) {
+      return this.writeAttributes = writeAttributes;
+    }
+
+    public boolean notifyAttributes(final boolean notifyAttributes) {
+      return this.notifyAttributes = notifyAttributes;
+    }
+
+    public boolean broadcasts(final boolean broadcasts) {
+      return this.broadcasts = broadcasts;
+    }
+
+    public boolean errorTypes(final boolean errorTypes) {
+      return this.errorTypes = errorTypes;
+    }
+
+    public boolean transitiveTypes(final boolean transitiveTypes) {
+      return this.transitiveTypes = transitiveTypes;
+    }
+
+    public boolean typeDefs(final boolean typeDefs) {
+      return this.typeDefs = typeDefs;
+    }
+  }
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private TypeUtil _typeUtil;
+
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  @Inject
+  @Extension
+  private BroadcastUtil _broadcastUtil;
+
+  @Inject
+  @Extension
+  private AttributeUtil _attributeUtil;
+
+  public HashSet<String> getMethodNames(final FInterface fInterface) {
+    HashSet<String> names = new HashSet<String>();
+    EList<FMethod> _methods = fInterface.getMethods();
+    for (final FMethod method : _methods) {
+      boolean _contains = names.contains(this._namingUtil.joynrName(method));
+      boolean _not = (!_contains);
+      if (_not) {
+        names.add(this._namingUtil.joynrName(method));
+      }
+    }
+    return names;
+  }
+
+  public ArrayList<FMethod> getMethods(final FInterface fInterface, final String methodName) {
+    ArrayList<FMethod> result = new ArrayList<FMethod>();
+    EList<FMethod> _methods = fInterface.getMethods();
+    for (final FMethod method : _methods) {
+      if (((this._namingUtil.joynrName(method) != null) && this._namingUtil.joynrName(method).equals(methodName))) {
+        result.add(method);
+      }
+    }
+    return result;
+  }
+
+  public EList<FMethod> getMethods(final FInterface fInterface) {
+    return fInterface.getMethods();
+  }
+
+  public EList<FBroadcast> getEvents(final FInterface fInterface) {
+    return fInterface.getBroadcasts();
+  }
+
+  public HashSet<String> getUniqueMethodNames(final FInterface fInterface) {
+    return this.getUniqueMethodNames(this.getMethods(fInterface));
+  }
+
+  public HashSet<String> getUniqueMethodNames(final Iterable<FMethod> methods) {
+    final HashSet<String> set = new HashSet<String>();
+    for (final FMethod method : methods) {
+      set.add(this._namingUtil.joynrName(method));
+    }
+    return set;
+  }
+
+  public EList<FAttribute> getAttributes(final FInterface fInterface) {
+    return fInterface.getAttributes();
+  }
+
+  public boolean hasArray(final FInterface fInterface) {
+    EList<FMethod> _methods = fInterface.getMethods();
+    for (final FMethod method : _methods) {
+      Iterable<FArgument> _concat = Iterables.<FArgument>concat(this._methodUtil.getInputParameters(method), this._methodUtil.getOutputParameters(method));
+      for (final FArgument args : _concat) {
+        boolean _isArray = this._typeUtil.isArray(args);
+        if (_isArray) {
+          return true;
+        }
+      }
+    }
+    EList<FBroadcast> _broadcasts = fInterface.getBroadcasts();
+    for (final FBroadcast broadcast : _broadcasts) {
+      Iterable<FArgument> _outputParameters = this._broadcastUtil.getOutputParameters(broadcast);
+      for (final FArgument args_1 : _outputParameters) {
+        boolean _isArray_1 = this._typeUtil.isArray(args_1);
+        if (_isArray_1) {
+          return true;
+        }
+      }
+    }
+    EList<FAttribute> _attributes = this.getAttributes(fInterface);
+    for (final FAttribute attribute : _attributes) {
+      boolean _isArray_2 = this._typeUtil.isArray(attribute);
+      if (_isArray_2) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean hasWritableAttributeOfTypeArrayOrByteBuffer(final FInterface fInterface) {
+    EList<FAttribute> _attributes = this.getAttributes(fInterface);
+    for (final FAttribute attribute : _attributes) {
+      if (((this._typeUtil.isArray(attribute) || this._typeUtil.isByteBuffer(attribute.getType())) && this._attributeUtil.isWritable(attribute))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public Collection<Object> getAllTypes(final FInterface fInterface) {
+    final HashMap<String, Object> typeList = new HashMap<String, Object>();
+    EList<FMethod> _methods = this.getMethods(fInterface);
+    for (final FMethod method : _methods) {
+      {
+        Iterable<FArgument> _outputParameters = this._methodUtil.getOutputParameters(method);
+        for (final FArgument returnParameter : _outputParameters) {
+          if ((returnParameter != null)) {
+            final Object datatype = this._typeUtil.getDatatype(returnParameter.getType());
+            final String typename = this._namingUtil.joynrName(datatype);
+            if ((typename != null)) {
+              boolean _containsKey = typeList.containsKey(typename);
+              boolean _not = (!_containsKey);
+              if (_not) {
+                typeList.put(this._namingUtil.joynrName(datatype), datatype);
+              }
+            } else {
+              String _joynrName = this._namingUtil.joynrName(returnParameter);
+              String _plus = ("Typename for output parameter " + _joynrName);
+              String _plus_1 = (_plus + " of method ");
+              String _joynrName_1 = this._namingUtil.joynrName(fInterface);
+              String _plus_2 = (_plus_1 + _joynrName_1);
+              String _plus_3 = (_plus_2 + ".");
+              String _joynrName_2 = this._namingUtil.joynrName(method);
+              String _plus_4 = (_plus_3 + _joynrName_2);
+              String _plus_5 = (_plus_4 + " could not be resolved");
+              throw new IllegalStateException(_plus_5);
+            }
+          }
+        }
+        Iterable<FArgument> _inputParameters = this._methodUtil.getInputParameters(method);
+        for (final FArgument inputParameter : _inputParameters) {
+          if ((inputParameter != null)) {
+            final Object datatype_1 = this._typeUtil.getDatatype(inputParameter.getType());
+            final String typename_1 = this._namingUtil.joynrName(datatype_1);
+            if ((typename_1 != null)) {
+              boolean _containsKey_1 = typeList.containsKey(typename_1);
+              boolean _not_1 = (!_containsKey_1);
+              if (_not_1) {
+                typeList.put(this._namingUtil.joynrName(datatype_1), datatype_1);
+              }
+            } else {
+              String _joynrName_3 = this._namingUtil.joynrName(inputParameter);
+              String _plus_6 = ("Typename for input parameter " + _joynrName_3);
+              String _plus_7 = (_plus_6 + " of method ");
+              String _joynrName_4 = this._namingUtil.joynrName(fInterface);
+              String _plus_8 = (_plus_7 + _joynrName_4);
+              String _plus_9 = (_plus_8 + ".");
+              String _joynrName_5 = this._namingUtil.joynrName(method);
+              String _plus_10 = (_plus_9 + _joynrName_5);
+              String _plus_11 = (_plus_10 + " could not be resolved");
+              throw new IllegalStateException(_plus_11);
+            }
+          }
+        }
+      }
+    }
+    EList<FAttribute> _attributes = this.getAttributes(fInterface);
+    for (final FAttribute attribute : _attributes) {
+      {
+        final Object datatype = this._typeUtil.getDatatype(attribute.getType());
+        boolean _containsKey = typeList.containsKey(this._namingUtil.joynrName(datatype));
+        boolean _not = (!_containsKey);
+        if (_not) {
+          typeList.put(this._namingUtil.joynrName(datatype), datatype);
+        }
+      }
+    }
+    return typeList.values();
+  }
+
+  public HashSet<Object> getAllRequiredTypes(final FInterface fInterface) {
+    return this.getAllRequiredTypes(fInterface, InterfaceUtil.TypeSelector.defaultTypeSelector());
+  }
+
+  public void addTypesFromMethod(final FInterface fInterface, final boolean fireAndForget, final boolean errorTypes, final boolean includeInput, final boolean includeOutput, final Set<Object> typeList) {
+    final HashMap<FMethod, String> methodToErrorEnumName = this.methodToErrorEnumName(fInterface);
+    final Function1<FMethod, Boolean> _function = new Function1<FMethod, Boolean>() {
+      @Override
+      public Boolean apply(final FMethod method) {
+        boolean _isFireAndForget = method.isFireAndForget();
+        return Boolean.valueOf((_isFireAndForget == fireAndForget));
+      }
+    };
+    Iterable<FMethod> _filter = IterableExtensions.<FMethod>filter(fInterface.getMethods(), _function);
+    for (final FMethod method : _filter) {
+      typeList.addAll(this._methodUtil.getAllRequiredTypes(method, methodToErrorEnumName.get(method), includeInput, includeOutput, errorTypes));
+    }
+  }
+
+  public void addTypesFromAttributes(final FInterface fInterface, final boolean readAttributes, final boolean writeAttributes, final boolean notifyAttributes, final Set<Object> typeList) {
+    EList<FAttribute> _attributes = this.getAttributes(fInterface);
+    for (final FAttribute attribute : _attributes) {
+      if ((((readAttributes && this._attributeUtil.isReadable(attribute)) || (writeAttributes && this._attributeUtil.isWritable(attribute))) || (notifyAttributes && this._attributeUtil.isNotifiable(attribute)))) {
+        Iterables.<Object>addAll(typeList, this._typeUtil.getRequiredTypes(attribute.getType()));
+      }
+    }
+  }
+
+  public HashSet<Object> getAllRequiredTypes(final FInterface fInterface, final InterfaceUtil.TypeSelector selector) {
+    final HashSet<Object> typeList = new HashSet<Object>();
+    if (selector.methods) {
+      this.addTypesFromMethod(fInterface, false, selector.errorTypes, true, true, typeList);
+    }
+    if (selector.fireAndForget) {
+      this.addTypesFromMethod(fInterface, true, selector.errorTypes, true, true, typeList);
+    }
+    this.addTypesFromAttributes(fInterface, selector.readAttributes, selector.writeAttributes, selector.notifyAttributes, typeList);
+    if (selector.broadcasts) {
+      EList<FBroadcast> _broadcasts = fInterface.getBroadcasts();
+      for (final FBroadcast broadcast : _broadcasts) {
+        typeList.addAll(this._broadcastUtil.getAllRequiredTypes(broadcast));
+      }
+    }
+    if (selector.transitiveTypes) {
+      HashSet<Object> returnValue = new HashSet<Object>();
+      this.getAllRecursiveDatatypes(typeList, returnValue);
+      return returnValue;
+    } else {
+      return typeList;
+    }
+  }
+
+  public Iterable<FType> getAllComplexTypes(final FInterface fInterface) {
+    return this.getAllComplexTypes(fInterface, InterfaceUtil.TypeSelector.defaultTypeSelector());
+  }
+
+  public Iterable<FType> getAllComplexTypes(final FInterface fInterface, final InterfaceUtil.TypeSelector selector) {
+    return this._typeUtil.filterComplex(this.getAllRequiredTypes(fInterface, selector), selector.typeDefs);
+  }
+
+  public Iterable<FType> getAllComplexStatelessAsyncTypes(final FInterface fInterface, final boolean includeMethodInput, final boolean includeMethodOutput) {
+    Iterable<FType> _xblockexpression = null;
+    {
+      final HashSet<Object> typeList = new HashSet<Object>();
+      this.addTypesFromAttributes(fInterface, true, true, false, typeList);
+      final boolean includeErrorTypes = includeMethodOutput;
+      this.addTypesFromMethod(fInterface, false, includeErrorTypes, includeMethodInput, includeMethodOutput, typeList);
+      _xblockexpression = this._typeUtil.filterComplex(typeList, false);
+    }
+    return _xblockexpression;
+  }
+
+  private void getAllReferredDatatypes(final Iterable<Object> list, final HashSet<Object> cache) {
+    for (final Object element : list) {
+      boolean _contains = cache.contains(element);
+      boolean _not = (!_contains);
+      if (_not) {
+        cache.add(element);
+        if ((element instanceof FCompoundType)) {
+          final Function1<FField, Object> _function = new Function1<FField, Object>() {
+            @Override
+            public Object apply(final FField e) {
+              return InterfaceUtil.this._typeUtil.getDatatype(e.getType());
+            }
+          };
+          this.getAllReferredDatatypes(ListExtensions.<FField, Object>map(this._typeUtil.getMembers(((FCompoundType)element)), _function), cache);
+        }
+        if ((element instanceof FMapType)) {
+          this.getAllReferredDatatypes(CollectionLiterals.<Object>newArrayList(((FMapType)element).getKeyType(), ((FMapType)element).getValueType()), cache);
+        }
+      }
+    }
+  }
+
+  private void getAllRecursiveDatatypes(final Iterable<Object> list, final HashSet<Object> cache) {
+    for (final Object element : list) {
+      boolean _contains = cache.contains(element);
+      boolean _not = (!_contains);
+      if (_not) {
+        cache.add(element);
+        if (((element instanceof FStructType) && (((FStructType) element).getBase() != null))) {
+          this.getAllReferredDatatypes(CollectionLiterals.<Object>newArrayList(((FStructType) element).getBase()), cache);
+        }
+        if ((element instanceof FCompoundType)) {
+          final Function1<FField, Object> _function = new Function1<FField, Object>() {
+            @Override
+            public Object apply(final FField e) {
+              return InterfaceUtil.this._typeUtil.getDatatype(e.getType());
+            }
+          };
+          this.getAllReferredDatatypes(ListExtensions.<FField, Object>map(this._typeUtil.getMembers(((FCompoundType)element)), _function), cache);
+        }
+        if ((element instanceof FMapType)) {
+          this.getAllReferredDatatypes(CollectionLiterals.<Object>newArrayList(((FMapType)element).getKeyType(), ((FMapType)element).getValueType()), cache);
+        }
+        if ((element instanceof FTypeRef)) {
+          this.getAllReferredDatatypes(CollectionLiterals.<Object>newArrayList(((FTypeRef)element).getDerived()), cache);
+        }
+      }
+    }
+  }
+
+  public boolean hasReadAttribute(final FInterface interfaceType) {
+    final Function1<FAttribute, Boolean> _function = new Function1<FAttribute, Boolean>() {
+      @Override
+      public Boolean apply(final FAttribute it) {
+        return Boolean.valueOf(InterfaceUtil.this._attributeUtil.isReadable(it));
+      }
+    };
+    return IterableExtensions.<FAttribute>exists(interfaceType.getAttributes(), _function);
+  }
+
+  public boolean hasWriteAttribute(final FInterface interfaceType) {
+    final Function1<FAttribute, Boolean> _function = new Function1<FAttribute, Boolean>() {
+      @Override
+      public Boolean apply(final FAttribute it) {
+        return Boolean.valueOf(InterfaceUtil.this._attributeUtil.isWritable(it));
+      }
+    };
+    return IterableExtensions.<FAttribute>exists(interfaceType.getAttributes(), _function);
+  }
+
+  public boolean hasNotifiableAttribute(final FInterface interfaceType) {
+    final Function1<FAttribute, Boolean> _function = new Function1<FAttribute, Boolean>() {
+      @Override
+      public Boolean apply(final FAttribute it) {
+        return Boolean.valueOf(InterfaceUtil.this._attributeUtil.isNotifiable(it));
+      }
+    };
+    return IterableExtensions.<FAttribute>exists(interfaceType.getAttributes(), _function);
+  }
+
+  public boolean hasMethodWithReturnValue(final FInterface interfaceType) {
+    EList<FMethod> _methods = interfaceType.getMethods();
+    for (final FMethod method : _methods) {
+      boolean _isEmpty = IterableExtensions.isEmpty(this._methodUtil.getOutputParameters(method));
+      boolean _not = (!_isEmpty);
+      if (_not) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean hasMethodWithoutReturnValue(final FInterface interfaceType) {
+    EList<FMethod> _methods = interfaceType.getMethods();
+    for (final FMethod method : _methods) {
+      boolean _isEmpty = IterableExtensions.isEmpty(this._methodUtil.getOutputParameters(method));
+      if (_isEmpty) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean hasMethodWithImplicitErrorEnum(final FInterface interfaceType) {
+    EList<FMethod> _methods = interfaceType.getMethods();
+    for (final FMethod method : _methods) {
+      FEnumerationType _errors = method.getErrors();
+      boolean _tripleNotEquals = (_errors != null);
+      if (_tripleNotEquals) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean hasMethodWithErrorEnum(final FInterface interfaceType) {
+    EList<FMethod> _methods = interfaceType.getMethods();
+    for (final FMethod method : _methods) {
+      FEnumerationType _errorEnum = method.getErrorEnum();
+      boolean _tripleNotEquals = (_errorEnum != null);
+      if (_tripleNotEquals) {
+        return true;
+      }
+    }
+    return this.hasMethodWithImplicitErrorEnum(interfaceType);
+  }
+
+  public boolean hasMethodWithEnumInputParameter(final FInterface interfaceType) {
+    EList<FMethod> _methods = interfaceType.getMethods();
+    for (final FMethod method : _methods) {
+      boolean _hasEnumInputParameter = this._methodUtil.hasEnumInputParameter(method);
+      if (_hasEnumInputParameter) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean hasMethodWithArguments(final FInterface interfaceType) {
+    EList<FMethod> _methods = interfaceType.getMethods();
+    for (final FMethod method : _methods) {
+      int _size = IterableExtensions.size(this._methodUtil.getInputParameters(method));
+      boolean _greaterThan = (_size > 0);
+      if (_greaterThan) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public Iterable<FBasicTypeId> getAllPrimitiveTypes(final FInterface serviceInterface) {
+    final Function1<Object, Boolean> _function = new Function1<Object, Boolean>() {
+      @Override
+      public Boolean apply(final Object type) {
+        return Boolean.valueOf((type instanceof FBasicTypeId));
+      }
+    };
+    final Function1<Object, FBasicTypeId> _function_1 = new Function1<Object, FBasicTypeId>() {
+      @Override
+      public FBasicTypeId apply(final Object type) {
+        return ((FBasicTypeId) type);
+      }
+    };
+    return IterableExtensions.<Object, FBasicTypeId>map(IterableExtensions.<Object>filter(this.getAllRequiredTypes(serviceInterface), _function), _function_1);
+  }
+
+  public HashMap<FMethod, String> methodToErrorEnumName(final FInterface serviceInterface) {
+    HashMap<FMethod, String> methodToErrorEnumName = new HashMap<FMethod, String>();
+    HashMap<String, String> uniqueMethodSignatureToErrorEnumName = new HashMap<String, String>();
+    HashMap<String, Integer> methodNameToCount = this._methodUtil.overloadedMethodCounts(this.getMethods(serviceInterface));
+    HashMap<String, Integer> methodNameToIndex = new HashMap<String, Integer>();
+    EList<FMethod> _methods = this.getMethods(serviceInterface);
+    for (final FMethod method : _methods) {
+      Integer _get = methodNameToCount.get(method.getName());
+      boolean _equals = ((_get).intValue() == 1);
+      if (_equals) {
+        String _firstUpper = StringExtensions.toFirstUpper(method.getName());
+        String _plus = (_firstUpper + "ErrorEnum");
+        methodToErrorEnumName.put(method, _plus);
+      } else {
+        boolean _containsKey = methodNameToIndex.containsKey(method.getName());
+        boolean _not = (!_containsKey);
+        if (_not) {
+          methodNameToIndex.put(method.getName(), Integer.valueOf(0));
+        }
+        final String methodSignature = this._methodUtil.createMethodSignatureFromInParameters(method);
+        boolean _containsKey_1 = uniqueMethodSignatureToErrorEnumName.containsKey(methodSignature);
+        boolean _not_1 = (!_containsKey_1);
+        if (_not_1) {
+          Integer index = methodNameToIndex.get(method.getName());
+          index++;
+          methodNameToIndex.put(method.getName(), index);
+          String _firstUpper_1 = StringExtensions.toFirstUpper(method.getName());
+          String _plus_1 = (_firstUpper_1 + index);
+          uniqueMethodSignatureToErrorEnumName.put(methodSignature, _plus_1);
+        }
+        String _get_1 = uniqueMethodSignatureToErrorEnumName.get(methodSignature);
+        String _plus_2 = (_get_1 + "ErrorEnum");
+        methodToErrorEnumName.put(method, _plus_2);
+      }
+    }
+    return methodToErrorEnumName;
+  }
+
+  public boolean hasNonFireAndForgetMethods(final FInterface francaInterface) {
+    final Function1<FMethod, Boolean> _function = new Function1<FMethod, Boolean>() {
+      @Override
+      public Boolean apply(final FMethod it) {
+        boolean _isFireAndForget = it.isFireAndForget();
+        return Boolean.valueOf((!_isFireAndForget));
+      }
+    };
+    return IterableExtensions.<FMethod>exists(francaInterface.getMethods(), _function);
+  }
+
+  public boolean hasFireAndForgetMethods(final FInterface francaInterface) {
+    final Function1<FMethod, Boolean> _function = new Function1<FMethod, Boolean>() {
+      @Override
+      public Boolean apply(final FMethod it) {
+        return Boolean.valueOf(it.isFireAndForget());
+      }
+    };
+    return IterableExtensions.<FMethod>exists(francaInterface.getMethods(), _function);
+  }
+}
@@ -0,0 +1,520 @@
+package io.joynr.generator.templates.util;
+
+import com.google.common.base.Objects;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.joynr.generator.templates.BroadcastTemplate;
+import io.joynr.generator.templates.CompoundTypeTemplate;
+import io.joynr.generator.templates.EnumTemplate;
+import io.joynr.generator.templates.InterfaceTemplate;
+import io.joynr.generator.templates.MapTemplate;
+import io.joynr.generator.templates.TypeDefTemplate;
+import io.joynr.generator.util.FileSystemAccessUtil;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.impl.BasicEObjectImpl;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Conversions;
+import org.eclipse.xtext.xbase.lib.Exceptions;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.InputOutput;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.franca.core.franca.FAnnotation;
+import org.franca.core.franca.FAnnotationBlock;
+import org.franca.core.franca.FAnnotationType;
+import org.franca.core.franca.FArrayType;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FMapType;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FModel;
+import org.franca.core.franca.FModelElement;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeCollection;
+import org.franca.core.franca.FTypeDef;
+import org.franca.core.franca.FTypeRef;
+import org.franca.core.franca.FTypedElement;
+
+@SuppressWarnings("all")
+public class JoynrGeneratorExtensions {
+  public static final String JOYNR_GENERATOR_GENERATE = "JOYNR_GENERATOR_GENERATE";
+
+  public static final String JOYNR_GENERATOR_CLEAN = "JOYNR_GENERATOR_CLEAN";
+
+  @Inject
+  @Extension
+  protected NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  protected TypeUtil _typeUtil;
+
+  @Inject
+  @Named(JoynrGeneratorExtensions.JOYNR_GENERATOR_GENERATE)
+  public boolean generate;
+
+  @Inject
+  @Named(JoynrGeneratorExtensions.JOYNR_GENERATOR_CLEAN)
+  public boolean clean;
+
+  public Iterable<FInterface> getInterfaces(final FModel model) {
+    return model.getInterfaces();
+  }
+
+  public String getPackageNameInternal(final FModelElement fModelElement, final boolean useOwnName, final boolean generateVersion) {
+    if ((fModelElement == null)) {
+      throw new IllegalStateException(
+        "Generator could not proceed with code generation, since JoynGeneratorExtensions.getPackageNameInternal has been invoked with an empty model element");
+    } else {
+      EObject _eContainer = fModelElement.eContainer();
+      boolean _tripleEquals = (_eContainer == null);
+      if (_tripleEquals) {
+        String _xifexpression = null;
+        String _joynrName = this._namingUtil.joynrName(fModelElement);
+        boolean _tripleNotEquals = (_joynrName != null);
+        if (_tripleNotEquals) {
+          String _joynrName_1 = this._namingUtil.joynrName(fModelElement);
+          String _plus = ("the container of model element " + _joynrName_1);
+          _xifexpression = (_plus + " is not known");
+        } else {
+          Object _xifexpression_1 = null;
+          if ((fModelElement instanceof BasicEObjectImpl)) {
+            _xifexpression_1 = ((BasicEObjectImpl) fModelElement).eProxyURI();
+          } else {
+            _xifexpression_1 = fModelElement.eResource().toString();
+          }
+          String _plus_1 = ("the resource " + _xifexpression_1);
+          _xifexpression = (_plus_1 + " cannot be parsed correctly");
+        }
+        final String errorMsg = ("Generator could not proceed with code generation, since " + _xifexpression);
+        throw new IllegalStateException(errorMsg);
+      } else {
+        EObject _eContainer_1 = fModelElement.eContainer();
+        if ((_eContainer_1 instanceof FModel)) {
+          EObject _eContainer_2 = fModelElement.eContainer();
+          String _joynrName_2 = this._namingUtil.joynrName(((FModel) _eContainer_2));
+          String _versionSuffix = this._namingUtil.getVersionSuffix(fModelElement, generateVersion);
+          return (_joynrName_2 + _versionSuffix);
+        } else {
+          if ((fModelElement instanceof FMethod)) {
+            EObject _eContainer_3 = ((FMethod)fModelElement).eContainer();
+            final FModelElement finterface = ((FModelElement) _eContainer_3);
+            if (((finterface == null) || (!(finterface instanceof FInterface)))) {
+              final String errorMsg_1 = (("Generator could not proceed with code generation, since " + 
+                "JoynGeneratorExtensions.getPackageNameInternal has been invoked ") + 
+                "with a FMethod element which is not defined inside an interface");
+              throw new IllegalStateException(errorMsg_1);
+            }
+            String _packageNameInternal = this.getPackageNameInternal(finterface, false, generateVersion);
+            String _plus_2 = (_packageNameInternal + ".");
+            String _joynrName_3 = this._namingUtil.joynrName(finterface);
+            return (_plus_2 + _joynrName_3);
+          }
+        }
+      }
+    }
+    EObject _eContainer_4 = fModelElement.eContainer();
+    String _packageNameInternal_1 = this.getPackageNameInternal(((FModelElement) _eContainer_4), true, generateVersion);
+    String _xifexpression_2 = null;
+    if (useOwnName) {
+      String _joynrName_4 = this._namingUtil.joynrName(fModelElement);
+      _xifexpression_2 = ("." + _joynrName_4);
+    } else {
+      _xifexpression_2 = "";
+    }
+    return (_packageNameInternal_1 + _xifexpression_2);
+  }
+
+  public String getPackageName(final FModelElement fModelElement, final boolean generateVersion) {
+    return this.getPackageNameInternal(fModelElement, false, generateVersion);
+  }
+
+  public Iterator<String> getPackageNames(final FModelElement fModelElement, final boolean generateVersion) {
+    return this.getPackageNames(fModelElement, "\\.", generateVersion);
+  }
+
+  public Iterator<String> getPackageNames(final FModelElement fModelElement, final String separator, final boolean generateVersion) {
+    return Arrays.<String>stream(this.getPackageName(fModelElement, generateVersion).split(separator)).iterator();
+  }
+
+  public String getPackagePathWithJoynrPrefix(final FType datatype, final String separator, final boolean includeTypeCollection, final boolean generateVersion) {
+    String packagePath = this.getPackagePathWithJoynrPrefix(datatype, separator, generateVersion);
+    if ((includeTypeCollection && this._typeUtil.isPartOfNamedTypeCollection(datatype))) {
+      String _packagePath = packagePath;
+      String _typeCollectionName = this._typeUtil.getTypeCollectionName(datatype);
+      String _plus = (separator + _typeCollectionName);
+      packagePath = (_packagePath + _plus);
+    }
+    return packagePath;
+  }
+
+  public String getPackagePathWithJoynrPrefix(final FModelElement fModelElement, final String separator, final boolean generateVersion) {
+    String _joynrGenerationPrefix = this.getJoynrGenerationPrefix();
+    String _plus = (_joynrGenerationPrefix + separator);
+    String _packagePathWithoutJoynrPrefix = this.getPackagePathWithoutJoynrPrefix(fModelElement, separator, generateVersion);
+    return (_plus + _packagePathWithoutJoynrPrefix);
+  }
+
+  public String getPackagePathWithoutJoynrPrefix(final FModelElement fModelElement, final String separator, final boolean generateVersion) {
+    return this.getPackageName(fModelElement, generateVersion).replace(".", separator);
+  }
+
+  public String getFullyQualifiedName(final FInterface fInterface) {
+    EObject _eContainer = fInterface.eContainer();
+    String _replace = this._namingUtil.joynrName(((FModel) _eContainer)).replace(".", "/");
+    String _plus = (_replace + "/");
+    String _name = fInterface.getName();
+    return (_plus + _name);
+  }
+
+  public HashSet<FType> getDataTypes(final FModel fModel) {
+    final HashSet<FType> referencedFTypes = new HashSet<FType>();
+    final Consumer<FTypeCollection> _function = new Consumer<FTypeCollection>() {
+      @Override
+      public void accept(final FTypeCollection typeCollection) {
+        referencedFTypes.addAll(typeCollection.getTypes());
+      }
+    };
+    fModel.getTypeCollections().forEach(_function);
+    final Consumer<FInterface> _function_1 = new Consumer<FInterface>() {
+      @Override
+      public void accept(final FInterface anInterface) {
+        referencedFTypes.addAll(anInterface.getTypes());
+      }
+    };
+    fModel.getInterfaces().forEach(_function_1);
+    return referencedFTypes;
+  }
+
+  public Iterable<FCompoundType> getCompoundDataTypes(final FModel fModel) {
+    final Function1<FType, Boolean> _function = new Function1<FType, Boolean>() {
+      @Override
+      public Boolean apply(final FType type) {
+        return Boolean.valueOf(JoynrGeneratorExtensions.this._typeUtil.isCompound(type));
+      }
+    };
+    final Function1<FType, FCompoundType> _function_1 = new Function1<FType, FCompoundType>() {
+      @Override
+      public FCompoundType apply(final FType type) {
+        return JoynrGeneratorExtensions.this._typeUtil.getCompoundType(type);
+      }
+    };
+    return IterableExtensions.<FCompoundType>filterNull(IterableExtensions.<FType, FCompoundType>map(IterableExtensions.<FType>filter(this.getDataTypes(fModel), _function), _function_1));
+  }
+
+  public Iterable<FBasicTypeId> getPrimitiveDataTypes() {
+    final Function1<FBasicTypeId, Boolean> _function = new Function1<FBasicTypeId, Boolean>() {
+      @Override
+      public Boolean apply(final FBasicTypeId it) {
+        return Boolean.valueOf(((it.getValue() != FBasicTypeId.UNDEFINED_VALUE) && (it.getValue() != FBasicTypeId.BYTE_BUFFER_VALUE)));
+      }
+    };
+    return IterableExtensions.<FBasicTypeId>filter(((Iterable<FBasicTypeId>)Conversions.doWrapArray(FBasicTypeId.values())), _function);
+  }
+
+  public Iterable<FEnumerationType> getEnumDataTypes(final FModel fModel) {
+    final Function1<FType, Boolean> _function = new Function1<FType, Boolean>() {
+      @Override
+      public Boolean apply(final FType type) {
+        return Boolean.valueOf(JoynrGeneratorExtensions.this._typeUtil.isEnum(type));
+      }
+    };
+    final Function1<FType, FEnumerationType> _function_1 = new Function1<FType, FEnumerationType>() {
+      @Override
+      public FEnumerationType apply(final FType type) {
+        return JoynrGeneratorExtensions.this._typeUtil.getEnumType(type);
+      }
+    };
+    return IterableExtensions.<FEnumerationType>filterNull(IterableExtensions.<FType, FEnumerationType>map(IterableExtensions.<FType>filter(this.getDataTypes(fModel), _function), _function_1));
+  }
+
+  public Iterable<FTypeDef> getTypeDefDataTypes(final FModel fModel) {
+    final Function1<FType, Boolean> _function = new Function1<FType, Boolean>() {
+      @Override
+      public Boolean apply(final FType type) {
+        return Boolean.valueOf(JoynrGeneratorExtensions.this._typeUtil.isTypeDef(type));
+      }
+    };
+    final Function1<FType, FTypeDef> _function_1 = new Function1<FType, FTypeDef>() {
+      @Override
+      public FTypeDef apply(final FType type) {
+        return JoynrGeneratorExtensions.this._typeUtil.getTypeDefType(type);
+      }
+    };
+    return IterableExtensions.<FTypeDef>filterNull(IterableExtensions.<FType, FTypeDef>map(IterableExtensions.<FType>filter(this.getDataTypes(fModel), _function), _function_1));
+  }
+
+  public Iterable<FMapType> getMapDataTypes(final FModel fModel) {
+    final Function1<FType, Boolean> _function = new Function1<FType, Boolean>() {
+      @Override
+      public Boolean apply(final FType type) {
+        return Boolean.valueOf(JoynrGeneratorExtensions.this._typeUtil.isMap(type));
+      }
+    };
+    final Function1<FType, FMapType> _function_1 = new Function1<FType, FMapType>() {
+      @Override
+      public FMapType apply(final FType type) {
+        return JoynrGeneratorExtensions.this._typeUtil.getMapType(type);
+      }
+    };
+    return IterableExtensions.<FMapType>filterNull(IterableExtensions.<FType, FMapType>map(IterableExtensions.<FType>filter(this.getDataTypes(fModel), _function), _function_1));
+  }
+
+  public String prependCommaIfNotEmpty(final String input) {
+    boolean _equals = input.equals("");
+    if (_equals) {
+      return input;
+    }
+    return (", " + input);
+  }
+
+  public String escapeQuotes(final String string) {
+    return string.replace("\"", "\\\"");
+  }
+
+  public String getJoynrGenerationPrefix() {
+    return "joynr";
+  }
+
+  public void generateFile(final IFileSystemAccess fsa, final String path, final InterfaceTemplate generator, final boolean generateVersion) {
+    if (this.clean) {
+      fsa.deleteFile(path);
+    }
+    if (this.generate) {
+      fsa.generateFile(path, generator.generate(generateVersion).toString());
+    } else {
+      System.out.println(FileSystemAccessUtil.getFilePath(fsa, path));
+    }
+  }
+
+  public void generateFile(final IFileSystemAccess fsa, final String path, final BroadcastTemplate generator, final FInterface serviceInterface, final FBroadcast broadcast, final boolean generateVersion) {
+    if (this.clean) {
+      fsa.deleteFile(path);
+    }
+    if (this.generate) {
+      fsa.generateFile(path, generator.generate(serviceInterface, broadcast, generateVersion).toString());
+    }
+  }
+
+  public void generateFile(final IFileSystemAccess fsa, final String path, final EnumTemplate generator, final boolean generateVersion) {
+    if (this.clean) {
+      fsa.deleteFile(path);
+    }
+    if (this.generate) {
+      fsa.generateFile(path, generator.generate(generateVersion).toString());
+    } else {
+      System.out.println(FileSystemAccessUtil.getFilePath(fsa, path));
+    }
+  }
+
+  public void generateFile(final IFileSystemAccess fsa, final String path, final MapTemplate generator, final boolean generateVersion) {
+    if (this.clean) {
+      fsa.deleteFile(path);
+    }
+    if (this.generate) {
+      fsa.generateFile(path, generator.generate(generateVersion).toString());
+    }
+  }
+
+  public void generateFile(final IFileSystemAccess fsa, final String path, final CompoundTypeTemplate generator, final boolean generateVersion) {
+    if (this.clean) {
+      fsa.deleteFile(path);
+    }
+    if (this.generate) {
+      fsa.generateFile(path, generator.generate(generateVersion).toString());
+    }
+  }
+
+  public void generateFile(final IFileSystemAccess fsa, final String path, final TypeDefTemplate generator, final FTypeDef typeDefType, final boolean generateVersion) {
+    if (this.clean) {
+      fsa.deleteFile(path);
+    }
+    if (this.generate) {
+      fsa.generateFile(path, generator.generate(typeDefType, generateVersion).toString());
+    }
+  }
+
+  public String getJoynrTypeName(final FTypedElement element, final boolean generateVersion) {
+    String typeName = this.getJoynrTypeName(element.getType(), generateVersion);
+    boolean _isArray = this._typeUtil.isArray(element);
+    if (_isArray) {
+      String _typeName = typeName;
+      typeName = (_typeName + "[]");
+    }
+    return typeName;
+  }
+
+  public String getJoynrTypeName(final FType type, final boolean generateVersion) {
+    String _buildPackagePath = this.buildPackagePath(type, ".", true, generateVersion);
+    String _plus = (_buildPackagePath + ".");
+    String _joynrName = this._namingUtil.joynrName(type);
+    return (_plus + _joynrName);
+  }
+
+  public String getJoynrTypeName(final FBasicTypeId predefined) {
+    String _switchResult = null;
+    boolean _matched = false;
+    boolean _isString = this._typeUtil.isString(predefined);
+    if (_isString) {
+      _matched=true;
+      _switchResult = "String";
+    }
+    if (!_matched) {
+      boolean _isShort = this._typeUtil.isShort(predefined);
+      if (_isShort) {
+        _matched=true;
+        _switchResult = "Short";
+      }
+    }
+    if (!_matched) {
+      boolean _isInteger = this._typeUtil.isInteger(predefined);
+      if (_isInteger) {
+        _matched=true;
+        _switchResult = "Integer";
+      }
+    }
+    if (!_matched) {
+      boolean _isLong = this._typeUtil.isLong(predefined);
+      if (_isLong) {
+        _matched=true;
+        _switchResult = "Long";
+      }
+    }
+    if (!_matched) {
+      boolean _isDouble = this._typeUtil.isDouble(predefined);
+      if (_isDouble) {
+        _matched=true;
+        _switchResult = "Double";
+      }
+    }
+    if (!_matched) {
+      boolean _isFloat = this._typeUtil.isFloat(predefined);
+      if (_isFloat) {
+        _matched=true;
+        _switchResult = "Float";
+      }
+    }
+    if (!_matched) {
+      boolean _isBool = this._typeUtil.isBool(predefined);
+      if (_isBool) {
+        _matched=true;
+        _switchResult = "Boolean";
+      }
+    }
+    if (!_matched) {
+      boolean _isByte = this._typeUtil.isByte(predefined);
+      if (_isByte) {
+        _matched=true;
+        _switchResult = "Byte";
+      }
+    }
+    if (!_matched) {
+      boolean _isByteBuffer = this._typeUtil.isByteBuffer(predefined);
+      if (_isByteBuffer) {
+        _matched=true;
+        _switchResult = "Byte[]";
+      }
+    }
+    if (!_matched) {
+      String _name = predefined.getName();
+      String _plus = ("Unhandled primitive type: " + _name);
+      throw new RuntimeException(_plus);
+    }
+    return _switchResult;
+  }
+
+  public String getJoynrTypeName(final FTypeRef datatypeRef, final boolean generateVersion) {
+    String _xifexpression = null;
+    boolean _isTypeDef = this._typeUtil.isTypeDef(datatypeRef);
+    if (_isTypeDef) {
+      FType _derived = datatypeRef.getDerived();
+      _xifexpression = this.getJoynrTypeName(((FTypeDef) _derived).getActualType(), generateVersion);
+    } else {
+      String _xifexpression_1 = null;
+      boolean _isComplex = this._typeUtil.isComplex(datatypeRef);
+      if (_isComplex) {
+        _xifexpression_1 = this.getJoynrTypeName(datatypeRef.getDerived(), generateVersion);
+      } else {
+        _xifexpression_1 = this.getJoynrTypeName(this._typeUtil.getPrimitive(datatypeRef));
+      }
+      _xifexpression = _xifexpression_1;
+    }
+    return _xifexpression;
+  }
+
+  public String buildPackagePath(final FType datatype, final String separator, final boolean generateVersion) {
+    return this.buildPackagePath(datatype, separator, false, generateVersion);
+  }
+
+  public String buildPackagePath(final FType datatype, final String separator, final boolean includeTypeCollection, final boolean generateVersion) {
+    if ((datatype == null)) {
+      return "";
+    }
+    String packagepath = "";
+    try {
+      packagepath = this.getPackagePathWithJoynrPrefix(datatype, separator, generateVersion);
+    } catch (final Throwable _t) {
+      if (_t instanceof IllegalStateException) {
+      } else {
+        throw Exceptions.sneakyThrow(_t);
+      }
+    }
+    if ((includeTypeCollection && this._typeUtil.isPartOfNamedTypeCollection(datatype))) {
+      String _packagepath = packagepath;
+      String _typeCollectionName = this._typeUtil.getTypeCollectionName(datatype);
+      String _plus = (separator + _typeCollectionName);
+      packagepath = (_packagepath + _plus);
+    }
+    return packagepath;
+  }
+
+  public void checkForNamedArrays(final FModel fModel, final String path) {
+    final HashSet<FType> allTypes = this.getDataTypes(fModel);
+    for (final FType fType : allTypes) {
+      if ((fType instanceof FArrayType)) {
+        String _name = ((FArrayType)fType).getName();
+        String _plus = ("Explicitly named arrays (\"array NAME of TYPE\") are not supported by the generator: found array \"" + _name);
+        String _plus_1 = (_plus + "\" in ");
+        String _plus_2 = (_plus_1 + path);
+        throw new IllegalArgumentException(_plus_2);
+      }
+    }
+  }
+
+  public boolean commentContainsNoVersionGeneration(final FInterface fInterface) {
+    FAnnotationBlock _comment = fInterface.getComment();
+    boolean _tripleEquals = (_comment == null);
+    if (_tripleEquals) {
+      return false;
+    }
+    EList<FAnnotation> _elements = fInterface.getComment().getElements();
+    for (final FAnnotation comment : _elements) {
+      if ((Objects.equal(comment.getType(), FAnnotationType.DESCRIPTION) && comment.getRawText().contains("#noVersionGeneration"))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public String checkVersioningOption(final FInterface fInterface, final boolean packageWithVersion) {
+    String _xifexpression = null;
+    if ((this.commentContainsNoVersionGeneration(fInterface) && packageWithVersion)) {
+      String _name = fInterface.getName();
+      String _plus = (("ERROR: --addVersionTo option is set" + 
+        " despite #noVersionGeneration being set for interface ") + _name);
+      String _plus_1 = (_plus + ". Please decide whether you want to generate versioning and");
+      String _plus_2 = (_plus_1 + 
+        " adjust your settings accordingly (Only package versioning is supported).");
+      _xifexpression = InputOutput.<String>println(_plus_2);
+    }
+    return _xifexpression;
+  }
+}
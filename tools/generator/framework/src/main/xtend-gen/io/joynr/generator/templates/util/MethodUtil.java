@@ -0,0 +1,185 @@
+package io.joynr.generator.templates.util;
+
+import com.google.common.collect.Iterables;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.HashMap;
+import java.util.HashSet;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FMethod;
+
+@Singleton
+@SuppressWarnings("all")
+public class MethodUtil {
+  @Inject
+  @Extension
+  private TypeUtil _typeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  public Iterable<FArgument> getOutputParameters(final FMethod method) {
+    if (((method == null) || (method.getOutArgs().size() == 0))) {
+      return new HashSet<FArgument>();
+    } else {
+      return IterableExtensions.<FArgument>filterNull(method.getOutArgs());
+    }
+  }
+
+  public Iterable<FArgument> getInputParameters(final FMethod method) {
+    if (((method == null) || (method.getInArgs().size() == 0))) {
+      return new HashSet<FArgument>();
+    } else {
+      return IterableExtensions.<FArgument>filterNull(method.getInArgs());
+    }
+  }
+
+  public HashSet<Object> getAllRequiredTypes(final FMethod method, final String methodErrorEnumName, final boolean includeInput, final boolean includeOutput, final boolean errorTypes) {
+    Object datatype = null;
+    HashSet<Object> typeList = new HashSet<Object>();
+    if (includeOutput) {
+      Iterable<FArgument> _filterNull = IterableExtensions.<FArgument>filterNull(this.getOutputParameters(method));
+      for (final FArgument returnParameter : _filterNull) {
+        Iterables.<Object>addAll(typeList, this._typeUtil.getRequiredTypes(returnParameter.getType()));
+      }
+    }
+    if (includeInput) {
+      Iterable<FArgument> _filterNull_1 = IterableExtensions.<FArgument>filterNull(this.getInputParameters(method));
+      for (final FArgument inputParameter : _filterNull_1) {
+        Iterables.<Object>addAll(typeList, this._typeUtil.getRequiredTypes(inputParameter.getType()));
+      }
+    }
+    if (errorTypes) {
+      FEnumerationType _errors = method.getErrors();
+      boolean _tripleNotEquals = (_errors != null);
+      if (_tripleNotEquals) {
+        datatype = this._typeUtil.getDatatype(method.getErrors());
+        FEnumerationType _errors_1 = method.getErrors();
+        _errors_1.setName(methodErrorEnumName);
+        if ((datatype != null)) {
+          typeList.add(datatype);
+        }
+      }
+      FEnumerationType _errorEnum = method.getErrorEnum();
+      boolean _tripleNotEquals_1 = (_errorEnum != null);
+      if (_tripleNotEquals_1) {
+        datatype = this._typeUtil.getDatatype(method.getErrorEnum());
+        if ((datatype != null)) {
+          typeList.add(datatype);
+        }
+      }
+    }
+    return typeList;
+  }
+
+  /**
+   * @return a mapping from method names to the number of their overloads.
+   */
+  public HashMap<String, Integer> overloadedMethodCounts(final Iterable<FMethod> methods) {
+    HashMap<String, Integer> methodNameToCount = new HashMap<String, Integer>();
+    for (final FMethod method : methods) {
+      {
+        Integer count = Integer.valueOf(1);
+        boolean _containsKey = methodNameToCount.containsKey(method.getName());
+        if (_containsKey) {
+          count = methodNameToCount.get(method.getName());
+          count++;
+        }
+        methodNameToCount.put(method.getName(), count);
+      }
+    }
+    return methodNameToCount;
+  }
+
+  public boolean hasErrorEnum(final FMethod method) {
+    return ((method.getErrors() != null) || (method.getErrorEnum() != null));
+  }
+
+  public boolean hasEnumInputParameter(final FMethod method) {
+    Iterable<FArgument> _filterNull = IterableExtensions.<FArgument>filterNull(this.getInputParameters(method));
+    for (final FArgument inputParameter : _filterNull) {
+      Object _datatype = this._typeUtil.getDatatype(inputParameter.getType());
+      if ((_datatype instanceof FEnumerationType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param method the method for which the signature shall be created
+   * @return a method signature that is unique in terms of method name, in
+   *      parameter names and in parameter types.
+   */
+  public String createMethodSignatureFromInParameters(final FMethod method) {
+    return this.createParameterSignatureForMethod(method.getName(), IterableExtensions.<FArgument>filterNull(method.getInArgs()));
+  }
+
+  /**
+   * @param method the method for which the signature shall be created
+   * @return a method signature that is unique in terms of method name, out
+   *      parameter names and out parameter types.
+   */
+  public String createMethodSignatureFromOutParameters(final FMethod method) {
+    return this.createParameterSignatureForMethod(method.getName(), IterableExtensions.<FArgument>filterNull(method.getOutArgs()));
+  }
+
+  /**
+   * @param method the method for which the signature shall be created
+   * @return a method signature that is unique in terms of method name, out
+   *      parameter names, out parameter types and error types.
+   */
+  public String createMethodSignatureFromOutAndErrorParameters(final FMethod method) {
+    String _xifexpression = null;
+    boolean _hasErrorEnum = this.hasErrorEnum(method);
+    if (_hasErrorEnum) {
+      String _createParameterSignatureForMethod = this.createParameterSignatureForMethod(method.getName(), IterableExtensions.<FArgument>filterNull(method.getOutArgs()));
+      String _createMethodSignatureFromErrors = this.createMethodSignatureFromErrors(method);
+      _xifexpression = (_createParameterSignatureForMethod + _createMethodSignatureFromErrors);
+    } else {
+      _xifexpression = this.createParameterSignatureForMethod(method.getName(), IterableExtensions.<FArgument>filterNull(method.getOutArgs()));
+    }
+    return _xifexpression;
+  }
+
+  /**
+   * @param method the method for which the signature shall be created
+   * @return a method signature that is unique in terms of method name and error types
+   */
+  public String createMethodSignatureFromErrors(final FMethod method) {
+    String _name = method.getName();
+    StringBuilder nameStringBuilder = new StringBuilder(_name);
+    FEnumerationType _errors = method.getErrors();
+    boolean _tripleNotEquals = (_errors != null);
+    if (_tripleNotEquals) {
+      nameStringBuilder.append(this._typeUtil.getDatatype(method.getErrors()));
+    }
+    FEnumerationType _errorEnum = method.getErrorEnum();
+    boolean _tripleNotEquals_1 = (_errorEnum != null);
+    if (_tripleNotEquals_1) {
+      nameStringBuilder.append(this._typeUtil.getDatatype(method.getErrorEnum()));
+    }
+    return nameStringBuilder.toString();
+  }
+
+  private String createParameterSignatureForMethod(final String methodName, final Iterable<FArgument> arguments) {
+    final StringBuilder nameStringBuilder = new StringBuilder(methodName);
+    for (final FArgument argument : arguments) {
+      {
+        nameStringBuilder.append(StringExtensions.toFirstUpper(argument.getName()));
+        String typeName = this._namingUtil.joynrName(argument.getType());
+        boolean _isArray = this._typeUtil.isArray(argument);
+        if (_isArray) {
+          typeName = ("List" + typeName);
+        }
+        nameStringBuilder.append(this._typeUtil.getObjectDataTypeForPlainType(typeName));
+      }
+    }
+    return nameStringBuilder.toString();
+  }
+}
@@ -0,0 +1,129 @@
+package io.joynr.generator.templates.util;
+
+import com.google.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FEnumerator;
+import org.franca.core.franca.FField;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FModel;
+import org.franca.core.franca.FModelElement;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeCollection;
+import org.franca.core.franca.FTypeRef;
+import org.franca.core.franca.FTypedElement;
+
+@Singleton
+@SuppressWarnings("all")
+public class NamingUtil {
+  public static final String JOYNR_GENERATOR_PACKAGEWITHVERSION = "JOYNR_GENERATOR_PACKAGEWITHVERSION";
+
+  public static final String JOYNR_GENERATOR_NOVERSIONGENERATION_COMMENT = "JOYNR_GENERATOR_NOVERSIONGENERATION_COMMENT";
+
+  @Inject
+  @Extension
+  private TypeUtil _typeUtil;
+
+  public String getVersionSuffix(final FModelElement modelElement, final boolean generateVersion) {
+    if (((modelElement instanceof FTypeCollection) && (((FTypeCollection) modelElement).getVersion() != null))) {
+      if (generateVersion) {
+        Integer _major = ((FTypeCollection) modelElement).getVersion().getMajor();
+        return (".v" + _major);
+      }
+    } else {
+      if ((modelElement instanceof FType)) {
+        boolean _isPartOfTypeCollection = this._typeUtil.isPartOfTypeCollection(((FType)modelElement));
+        if (_isPartOfTypeCollection) {
+          return this.getVersionSuffix(this._typeUtil.getTypeCollection(((FType)modelElement)), generateVersion);
+        } else {
+          boolean _isPartOfInterface = this._typeUtil.isPartOfInterface(((FType)modelElement));
+          if (_isPartOfInterface) {
+            return this.getVersionSuffix(this._typeUtil.getInterface(((FType)modelElement)), generateVersion);
+          }
+        }
+      }
+    }
+    return "";
+  }
+
+  public String joynrName(final FTypedElement element) {
+    return element.getName();
+  }
+
+  public String joynrName(final FBasicTypeId type) {
+    return type.getName();
+  }
+
+  public String joynrName(final FModel model) {
+    return model.getName();
+  }
+
+  public String joynrName(final FModelElement element) {
+    return element.getName();
+  }
+
+  public String joynrName(final FEnumerator enumElement) {
+    return enumElement.getName().toUpperCase();
+  }
+
+  public String joynrName(final FType type) {
+    return type.getName();
+  }
+
+  public String joynrName(final FField member) {
+    return member.getName();
+  }
+
+  public String joynrName(final FInterface iFace) {
+    return iFace.getName();
+  }
+
+  public String joynrName(final FMethod method) {
+    return method.getName();
+  }
+
+  public String joynrName(final FAttribute attribute) {
+    return attribute.getName();
+  }
+
+  public String joynrName(final FBroadcast event) {
+    return event.getName();
+  }
+
+  public String joynrName(final FArgument argument) {
+    return argument.getName();
+  }
+
+  public String joynrName(final FTypeRef typeRef) {
+    String _xifexpression = null;
+    FType _derived = typeRef.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      _xifexpression = this.joynrName(typeRef.getDerived());
+    } else {
+      _xifexpression = this.joynrName(typeRef.getPredefined());
+    }
+    return _xifexpression;
+  }
+
+  public String joynrName(final Object type) {
+    String _xifexpression = null;
+    if ((type instanceof FType)) {
+      _xifexpression = this.joynrName(((FType)type));
+    } else {
+      String _xifexpression_1 = null;
+      if ((type instanceof FBasicTypeId)) {
+        _xifexpression_1 = this.joynrName(((FBasicTypeId)type));
+      } else {
+        return null;
+      }
+      _xifexpression = _xifexpression_1;
+    }
+    return _xifexpression;
+  }
+}
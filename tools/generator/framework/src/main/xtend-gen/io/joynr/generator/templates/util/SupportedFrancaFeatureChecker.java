@@ -0,0 +1,36 @@
+package io.joynr.generator.templates.util;
+
+import java.util.List;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.xbase.lib.Exceptions;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.franca.core.franca.FIntegerInterval;
+import org.franca.core.franca.FModel;
+import org.franca.core.franca.FTypeRef;
+
+@SuppressWarnings("all")
+public class SupportedFrancaFeatureChecker {
+  public static void checkModel(final FModel model) {
+    SupportedFrancaFeatureChecker.checkIntegerDatatypeIsNotUsed(model);
+  }
+
+  private static void checkIntegerDatatypeIsNotUsed(final FModel model) {
+    try {
+      final List<FTypeRef> allTypeRefs = EcoreUtil2.<FTypeRef>getAllContentsOfType(model, FTypeRef.class);
+      final Function1<FTypeRef, Boolean> _function = new Function1<FTypeRef, Boolean>() {
+        @Override
+        public Boolean apply(final FTypeRef it) {
+          FIntegerInterval _interval = it.getInterval();
+          return Boolean.valueOf((_interval != null));
+        }
+      };
+      boolean _exists = IterableExtensions.<FTypeRef>exists(allTypeRefs, _function);
+      if (_exists) {
+        throw new Exception("Franca\'s datatype \'Integer\' is not supported. Use Int8, Int16, Int32 or Int64 instead");
+      }
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+}
@@ -0,0 +1,779 @@
+package io.joynr.generator.templates.util;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Iterables;
+import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.Set;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.xbase.lib.CollectionLiterals;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.franca.core.franca.FArrayType;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FConstantDef;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FEnumerator;
+import org.franca.core.franca.FExpression;
+import org.franca.core.franca.FField;
+import org.franca.core.franca.FInitializerExpression;
+import org.franca.core.franca.FIntegerConstant;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FMapType;
+import org.franca.core.franca.FModelElement;
+import org.franca.core.franca.FQualifiedElementRef;
+import org.franca.core.franca.FStringConstant;
+import org.franca.core.franca.FStructType;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeCollection;
+import org.franca.core.franca.FTypeDef;
+import org.franca.core.franca.FTypeRef;
+import org.franca.core.franca.FTypedElement;
+import org.franca.core.franca.FUnionType;
+
+@SuppressWarnings("all")
+public class TypeUtil {
+  @Inject
+  @Extension
+  protected NamingUtil _namingUtil;
+
+  public <T extends Object> Set<T> addElements(final Set<T> originalSet, final T... elements) {
+    for (final T element : elements) {
+      originalSet.add(element);
+    }
+    return originalSet;
+  }
+
+  public String getEnumeratorValue(final FExpression expression) {
+    String _switchResult = null;
+    boolean _matched = false;
+    if (expression instanceof FIntegerConstant) {
+      _matched=true;
+      _switchResult = ((FIntegerConstant)expression).getVal().toString();
+    }
+    if (!_matched) {
+      if (expression instanceof FStringConstant) {
+        _matched=true;
+        _switchResult = ((FStringConstant)expression).getVal();
+      }
+    }
+    if (!_matched) {
+      if (expression instanceof FQualifiedElementRef) {
+        _matched=true;
+        _switchResult = this.getConstantValue(((FQualifiedElementRef)expression).getElement());
+      }
+    }
+    if (!_matched) {
+      _switchResult = null;
+    }
+    return _switchResult;
+  }
+
+  public String getConstantValue(final FModelElement expression) {
+    String _switchResult = null;
+    boolean _matched = false;
+    if (expression instanceof FConstantDef) {
+      _matched=true;
+      _switchResult = this.getConstantType(((FConstantDef)expression).getRhs());
+    }
+    if (!_matched) {
+      _switchResult = null;
+    }
+    return _switchResult;
+  }
+
+  public String getConstantType(final FInitializerExpression expression) {
+    String _switchResult = null;
+    boolean _matched = false;
+    if (expression instanceof FIntegerConstant) {
+      _matched=true;
+      _switchResult = ((FIntegerConstant)expression).getVal().toString();
+    }
+    if (!_matched) {
+      _switchResult = null;
+    }
+    return _switchResult;
+  }
+
+  public Object getDatatype(final FType type) {
+    if ((type instanceof FArrayType)) {
+      return this.getDatatype(((FArrayType)type).getElementType());
+    }
+    if ((type instanceof FCompoundType)) {
+      return type;
+    }
+    if ((type instanceof FTypeDef)) {
+      return this.getDatatype(((FTypeDef)type).getActualType());
+    }
+    if ((type instanceof FEnumerationType)) {
+      return type;
+    }
+    if ((type instanceof FMapType)) {
+      return type;
+    }
+    return null;
+  }
+
+  public Object getDatatype(final FTypeRef typeRef) {
+    if ((typeRef == null)) {
+      return null;
+    }
+    FType _derived = typeRef.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      return this.getDatatype(typeRef.getDerived());
+    }
+    return typeRef.getPredefined();
+  }
+
+  public boolean isLong(final FBasicTypeId type) {
+    return (Objects.equal(type, FBasicTypeId.INT64) || Objects.equal(type, FBasicTypeId.UINT64));
+  }
+
+  public boolean isDouble(final FBasicTypeId type) {
+    return Objects.equal(type, FBasicTypeId.DOUBLE);
+  }
+
+  public boolean isDouble(final FTypeRef typeRef) {
+    return (this.isPrimitive(typeRef) && Objects.equal(this.getPrimitive(typeRef), FBasicTypeId.DOUBLE));
+  }
+
+  public boolean isFloat(final FTypeRef typeRef) {
+    return (this.isPrimitive(typeRef) && Objects.equal(this.getPrimitive(typeRef), FBasicTypeId.FLOAT));
+  }
+
+  public boolean isFloat(final FBasicTypeId type) {
+    return Objects.equal(type, FBasicTypeId.FLOAT);
+  }
+
+  public boolean isBool(final FBasicTypeId type) {
+    return Objects.equal(type, FBasicTypeId.BOOLEAN);
+  }
+
+  public boolean isShort(final FBasicTypeId type) {
+    return (Objects.equal(type, FBasicTypeId.INT16) || Objects.equal(type, FBasicTypeId.UINT16));
+  }
+
+  public boolean isInteger(final FBasicTypeId type) {
+    return (Objects.equal(type, FBasicTypeId.INT32) || Objects.equal(type, FBasicTypeId.UINT32));
+  }
+
+  public boolean isString(final FBasicTypeId type) {
+    return Objects.equal(type, FBasicTypeId.STRING);
+  }
+
+  public boolean isString(final FTypeRef typeRef) {
+    return (this.isPrimitive(typeRef) && Objects.equal(this.getPrimitive(typeRef), FBasicTypeId.STRING));
+  }
+
+  public boolean isByte(final FBasicTypeId type) {
+    return (Objects.equal(type, FBasicTypeId.UINT8) || Objects.equal(type, FBasicTypeId.INT8));
+  }
+
+  public boolean isByteBuffer(final FBasicTypeId type) {
+    return Objects.equal(type, FBasicTypeId.BYTE_BUFFER);
+  }
+
+  public boolean isByteBuffer(final FTypeRef typeRef) {
+    return (this.isPrimitive(typeRef) && this.isByteBuffer(this.getPrimitive(typeRef)));
+  }
+
+  public boolean isPrimitive(final FType type) {
+    if ((type instanceof FArrayType)) {
+      return this.isPrimitive(((FArrayType)type).getElementType());
+    }
+    return false;
+  }
+
+  public FBasicTypeId getPrimitive(final FType type) {
+    if ((type == null)) {
+      return null;
+    }
+    if ((type instanceof FArrayType)) {
+      return this.getPrimitive(((FArrayType)type).getElementType());
+    }
+    String _joynrName = this._namingUtil.joynrName(type);
+    String _plus = ("TypeUtil.getPrimitive(" + _joynrName);
+    String _plus_1 = (_plus + ") can not determ the primitive type");
+    throw new IllegalStateException(_plus_1);
+  }
+
+  public FBasicTypeId getPrimitive(final FTypeRef type) {
+    if (((type.getPredefined() != null) && (!Objects.equal(type.getPredefined(), FBasicTypeId.UNDEFINED)))) {
+      return type.getPredefined();
+    } else {
+      return this.getPrimitive(type.getDerived());
+    }
+  }
+
+  public boolean isEnum(final FTypeRef typeRef) {
+    if ((typeRef == null)) {
+      return false;
+    }
+    FType _derived = typeRef.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      return this.isEnum(typeRef.getDerived());
+    }
+    return false;
+  }
+
+  public boolean isMap(final FTypeRef typeRef) {
+    if ((typeRef == null)) {
+      return false;
+    }
+    FType _derived = typeRef.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      return this.isMap(typeRef.getDerived());
+    }
+    return false;
+  }
+
+  public boolean isPrimitive(final FTypeRef typeRef) {
+    if ((typeRef == null)) {
+      return false;
+    }
+    if (((typeRef.getPredefined() != null) && (!Objects.equal(typeRef.getPredefined(), FBasicTypeId.UNDEFINED)))) {
+      return true;
+    } else {
+      return this.isPrimitive(typeRef.getDerived());
+    }
+  }
+
+  public FCompoundType getCompoundType(final FType type) {
+    if ((type == null)) {
+      return null;
+    }
+    if ((type instanceof FArrayType)) {
+      return this.getCompoundType(((FArrayType)type).getElementType());
+    } else {
+      if ((type instanceof FCompoundType)) {
+        return ((FCompoundType)type);
+      }
+    }
+    return null;
+  }
+
+  public FCompoundType getCompoundType(final FTypeRef type) {
+    if ((type == null)) {
+      return null;
+    } else {
+      return this.getCompoundType(type.getDerived());
+    }
+  }
+
+  public FEnumerationType getEnumType(final FTypeRef type) {
+    if ((type == null)) {
+      return null;
+    } else {
+      return this.getEnumType(type.getDerived());
+    }
+  }
+
+  public FTypeDef getTypeDefType(final FTypeRef type) {
+    if ((type == null)) {
+      return null;
+    } else {
+      return this.getTypeDefType(type.getDerived());
+    }
+  }
+
+  public FMapType getMapType(final FType type) {
+    if ((type == null)) {
+      return null;
+    }
+    if ((type instanceof FArrayType)) {
+      return this.getMapType(((FArrayType)type).getElementType());
+    } else {
+      if ((type instanceof FMapType)) {
+        return ((FMapType)type);
+      } else {
+        if ((type instanceof FTypeDef)) {
+          return this.getMapType(((FTypeDef)type).getActualType());
+        }
+      }
+    }
+    return null;
+  }
+
+  public FMapType getMapType(final FTypeRef type) {
+    if ((type == null)) {
+      return null;
+    } else {
+      return this.getMapType(type.getDerived());
+    }
+  }
+
+  public FEnumerationType getEnumType(final FType type) {
+    if ((type == null)) {
+      return null;
+    }
+    if ((type instanceof FArrayType)) {
+      return this.getEnumType(((FArrayType)type).getElementType());
+    } else {
+      if ((type instanceof FEnumerationType)) {
+        return ((FEnumerationType)type);
+      } else {
+        if ((type instanceof FTypeDef)) {
+          return this.getEnumType(((FTypeDef)type).getActualType());
+        }
+      }
+    }
+    return null;
+  }
+
+  public FTypeDef getTypeDefType(final FType type) {
+    if ((type == null)) {
+      return null;
+    }
+    if ((type instanceof FArrayType)) {
+      return this.getTypeDefType(((FArrayType)type).getElementType());
+    } else {
+      if ((type instanceof FTypeDef)) {
+        return ((FTypeDef)type);
+      }
+    }
+    return null;
+  }
+
+  public boolean isCompound(final FType type) {
+    if ((type == null)) {
+      return false;
+    }
+    if ((type instanceof FArrayType)) {
+      return this.isCompound(((FArrayType)type).getElementType());
+    }
+    if ((type instanceof FCompoundType)) {
+      return true;
+    }
+    if ((type instanceof FEnumerationType)) {
+      return false;
+    }
+    if ((type instanceof FMapType)) {
+      return false;
+    }
+    return false;
+  }
+
+  public boolean isCompound(final FTypeRef typeRef) {
+    if ((typeRef == null)) {
+      return false;
+    }
+    FType _derived = typeRef.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      return this.isCompound(typeRef.getDerived());
+    }
+    return false;
+  }
+
+  public boolean isTypeDef(final FType type) {
+    if ((type instanceof FTypeDef)) {
+      return true;
+    }
+    return false;
+  }
+
+  public boolean isTypeDef(final FTypeRef typeRef) {
+    if ((typeRef == null)) {
+      return false;
+    }
+    FType _derived = typeRef.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      return this.isTypeDef(typeRef.getDerived());
+    }
+    return false;
+  }
+
+  public boolean isMap(final FType type) {
+    if ((type == null)) {
+      return false;
+    }
+    if ((type instanceof FArrayType)) {
+      this.isMap(((FArrayType)type).getElementType());
+    }
+    if ((type instanceof FMapType)) {
+      return true;
+    }
+    if ((type instanceof FTypeDef)) {
+      return this.isMap(((FTypeDef)type).getActualType());
+    }
+    return false;
+  }
+
+  public boolean isEnum(final FType type) {
+    if ((type == null)) {
+      return false;
+    }
+    if ((type instanceof FArrayType)) {
+      this.isEnum(((FArrayType)type).getElementType());
+    }
+    if (((type instanceof FStructType) || (type instanceof FUnionType))) {
+      return false;
+    }
+    if ((type instanceof FEnumerationType)) {
+      return true;
+    }
+    if ((type instanceof FTypeDef)) {
+      return this.isEnum(((FTypeDef)type).getActualType());
+    }
+    return false;
+  }
+
+  public EList<FEnumerator> getEnumElements(final FEnumerationType enumType) {
+    return enumType.getEnumerators();
+  }
+
+  public EList<FEnumerator> getEnumElementsAndBaseEnumElements(final FEnumerationType enumType) {
+    boolean _hasExtendsDeclaration = this.hasExtendsDeclaration(enumType);
+    if (_hasExtendsDeclaration) {
+      final FEnumerationType baseEnumType = this.getExtendedType(enumType);
+      BasicEList<FEnumerator> enumAndBaseEnumElements = new BasicEList<FEnumerator>();
+      final EList<FEnumerator> baseEnumElements = this.getEnumElementsAndBaseEnumElements(baseEnumType);
+      enumAndBaseEnumElements.addAll(EcoreUtil.<FEnumerator>copyAll(baseEnumElements));
+      final EList<FEnumerator> enumElements = this.getEnumElements(enumType);
+      enumAndBaseEnumElements.addAll(EcoreUtil.<FEnumerator>copyAll(enumElements));
+      return enumAndBaseEnumElements;
+    } else {
+      return this.getEnumElements(enumType);
+    }
+  }
+
+  public Iterable<FField> getMembersRecursive(final FType datatype) {
+    final Object datatypeInternal = this.getDatatype(datatype);
+    final ArrayList<FField> result = new ArrayList<FField>();
+    if ((datatypeInternal instanceof FCompoundType)) {
+      final FCompoundType compoundType = ((FCompoundType) datatype);
+      result.addAll(compoundType.getElements());
+    }
+    if (((datatypeInternal instanceof FStructType) && (((FStructType) datatypeInternal).getBase() != null))) {
+      return Iterables.<FField>concat(this.getMembersRecursive(((FStructType) datatypeInternal).getBase()), result);
+    } else {
+      if (((datatypeInternal instanceof FUnionType) && (((FUnionType) datatypeInternal).getBase() != null))) {
+        return Iterables.<FField>concat(this.getMembersRecursive(((FUnionType) datatypeInternal).getBase()), result);
+      } else {
+        return result;
+      }
+    }
+  }
+
+  public EList<FField> getMembers(final FCompoundType compoundType) {
+    return compoundType.getElements();
+  }
+
+  public Iterable<FField> getEnumMembers(final FCompoundType datatype) {
+    final Function1<FField, Boolean> _function = new Function1<FField, Boolean>() {
+      @Override
+      public Boolean apply(final FField element) {
+        return Boolean.valueOf(TypeUtil.this.isEnum(element.getType()));
+      }
+    };
+    return IterableExtensions.<FField>filter(datatype.getElements(), _function);
+  }
+
+  public Iterable<FField> getCompoundMembers(final FCompoundType datatype) {
+    final Function1<FField, Boolean> _function = new Function1<FField, Boolean>() {
+      @Override
+      public Boolean apply(final FField element) {
+        return Boolean.valueOf(TypeUtil.this.isCompound(element.getType()));
+      }
+    };
+    return IterableExtensions.<FField>filter(datatype.getElements(), _function);
+  }
+
+  public boolean isComplex(final FTypeRef typeRef) {
+    return ((this.isMap(typeRef) || this.isCompound(typeRef)) || this.isEnum(typeRef));
+  }
+
+  public boolean isComplex(final FType type) {
+    return ((this.isMap(type) || this.isCompound(type)) || this.isEnum(type));
+  }
+
+  public Iterable<FField> getComplexMembers(final FCompoundType datatype, final boolean includeTypeDefs) {
+    final Function1<FField, Boolean> _function = new Function1<FField, Boolean>() {
+      @Override
+      public Boolean apply(final FField element) {
+        return Boolean.valueOf((((((TypeUtil.this.isTypeDef(element.getType()) && includeTypeDefs) || TypeUtil.this.isMap(element.getType())) || TypeUtil.this.isCompound(element.getType())) || TypeUtil.this.isEnum(element.getType())) || TypeUtil.this.isArray(element)));
+      }
+    };
+    return IterableExtensions.<FField>filter(datatype.getElements(), _function);
+  }
+
+  public Iterable<FField> getComplexMembers(final FCompoundType datatype) {
+    return this.getComplexMembers(datatype, false);
+  }
+
+  public Iterable<FType> filterComplex(final Iterable<?> iterable) {
+    return this.filterComplex(iterable, false);
+  }
+
+  public Iterable<FType> filterComplex(final Iterable<?> iterable, final boolean includeTypeDefs) {
+    final Function1<FType, Boolean> _function = new Function1<FType, Boolean>() {
+      @Override
+      public Boolean apply(final FType type) {
+        return Boolean.valueOf(((TypeUtil.this.isTypeDef(type) && includeTypeDefs) || ((!TypeUtil.this.isTypeDef(type)) && ((TypeUtil.this.isCompound(type) || TypeUtil.this.isEnum(type)) || TypeUtil.this.isMap(type)))));
+      }
+    };
+    return IterableExtensions.<FType>filter(Iterables.<FType>filter(iterable, FType.class), _function);
+  }
+
+  public boolean isPartOfTypeCollection(final FType datatype) {
+    return ((datatype.eContainer() instanceof FTypeCollection) && 
+      (!(datatype.eContainer() instanceof FInterface)));
+  }
+
+  public boolean isPartOfNamedTypeCollection(final FType datatype) {
+    return ((this.isPartOfTypeCollection(datatype) && 
+      (!Objects.equal(((FTypeCollection) datatype.eContainer()).getName(), ""))) && 
+      (((FTypeCollection) datatype.eContainer()).getName() != null));
+  }
+
+  public FTypeCollection getTypeCollection(final FType datatype) {
+    boolean _isPartOfTypeCollection = this.isPartOfTypeCollection(datatype);
+    boolean _not = (!_isPartOfTypeCollection);
+    if (_not) {
+      String _name = datatype.getName();
+      String _plus = ("Datatype " + _name);
+      String _plus_1 = (_plus + " is not part of a type collection.");
+      String _plus_2 = (_plus_1 + " Please call isPartOfTypeCollection before calling this method.");
+      throw new IllegalStateException(_plus_2);
+    }
+    EObject _eContainer = datatype.eContainer();
+    return ((FTypeCollection) _eContainer);
+  }
+
+  public boolean isPartOfInterface(final FType datatype) {
+    EObject _eContainer = datatype.eContainer();
+    return (_eContainer instanceof FInterface);
+  }
+
+  public FTypeCollection getInterface(final FType datatype) {
+    boolean _isPartOfInterface = this.isPartOfInterface(datatype);
+    boolean _not = (!_isPartOfInterface);
+    if (_not) {
+      String _name = datatype.getName();
+      String _plus = ("Datatype " + _name);
+      String _plus_1 = (_plus + " is not part of a interface.");
+      String _plus_2 = (_plus_1 + " Please call isPartOfInterface before calling this method.");
+      throw new IllegalStateException(_plus_2);
+    }
+    EObject _eContainer = datatype.eContainer();
+    return ((FInterface) _eContainer);
+  }
+
+  public String getTypeCollectionName(final FType datatype) {
+    return this._namingUtil.joynrName(this.getTypeCollection(datatype));
+  }
+
+  /**
+   * Returns true if the type is polymorphic
+   */
+  public boolean isPolymorphic(final FCompoundType datatype) {
+    if ((datatype instanceof FStructType)) {
+      boolean _hasExtendsDeclaration = this.hasExtendsDeclaration(datatype);
+      if (_hasExtendsDeclaration) {
+        return this.isPolymorphic(this.getExtendedType(((FStructType)datatype)));
+      }
+      return ((FStructType)datatype).isPolymorphic();
+    }
+    return false;
+  }
+
+  /**
+   * Returns true if the member is a 1 Dimensional list, returns false if not. (2D Lists are not supported)
+   */
+  public boolean isArray(final FTypedElement typedElement) {
+    return typedElement.isArray();
+  }
+
+  public boolean hasExtendsDeclaration(final FCompoundType datatype) {
+    if (((datatype instanceof FStructType) && (((FStructType) datatype).getBase() != null))) {
+      return true;
+    } else {
+      if (((datatype instanceof FUnionType) && (((FUnionType) datatype).getBase() != null))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean hasExtendsDeclaration(final FEnumerationType datatype) {
+    FEnumerationType _base = datatype.getBase();
+    boolean _tripleNotEquals = (_base != null);
+    if (_tripleNotEquals) {
+      return true;
+    }
+    return false;
+  }
+
+  public FEnumerationType getExtendedType(final FEnumerationType datatype) {
+    FEnumerationType _base = datatype.getBase();
+    boolean _tripleNotEquals = (_base != null);
+    if (_tripleNotEquals) {
+      return datatype.getBase();
+    }
+    return null;
+  }
+
+  public FStructType getExtendedType(final FStructType datatype) {
+    return datatype.getBase();
+  }
+
+  public FUnionType getExtendedType(final FUnionType datatype) {
+    return datatype.getBase();
+  }
+
+  public FCompoundType getExtendedType(final FCompoundType datatype) {
+    if ((datatype instanceof FStructType)) {
+      return this.getExtendedType(((FStructType)datatype));
+    } else {
+      if ((datatype instanceof FUnionType)) {
+        return this.getExtendedType(((FUnionType)datatype));
+      }
+    }
+    String _simpleName = datatype.getClass().getSimpleName();
+    String _plus = ("TypeUtil.getExtendedType: unknown type " + _simpleName);
+    throw new IllegalStateException(_plus);
+  }
+
+  public String getObjectDataTypeForPlainType(final String plainType) {
+    String type = plainType.toLowerCase();
+    boolean _matched = false;
+    String _name = FBasicTypeId.BOOLEAN.getName();
+    if (Objects.equal(plainType, _name)) {
+      _matched=true;
+      type = "Boolean";
+    }
+    if (!_matched) {
+      String _name_1 = FBasicTypeId.INT8.getName();
+      if (Objects.equal(plainType, _name_1)) {
+        _matched=true;
+        type = "Byte";
+      }
+    }
+    if (!_matched) {
+      String _name_2 = FBasicTypeId.UINT8.getName();
+      if (Objects.equal(plainType, _name_2)) {
+        _matched=true;
+        type = "Byte";
+      }
+    }
+    if (!_matched) {
+      String _name_3 = FBasicTypeId.INT16.getName();
+      if (Objects.equal(plainType, _name_3)) {
+        _matched=true;
+        type = "Short";
+      }
+    }
+    if (!_matched) {
+      String _name_4 = FBasicTypeId.UINT16.getName();
+      if (Objects.equal(plainType, _name_4)) {
+        _matched=true;
+        type = "Short";
+      }
+    }
+    if (!_matched) {
+      String _name_5 = FBasicTypeId.INT32.getName();
+      if (Objects.equal(plainType, _name_5)) {
+        _matched=true;
+        type = "Integer";
+      }
+    }
+    if (!_matched) {
+      String _name_6 = FBasicTypeId.UINT32.getName();
+      if (Objects.equal(plainType, _name_6)) {
+        _matched=true;
+        type = "Integer";
+      }
+    }
+    if (!_matched) {
+      String _name_7 = FBasicTypeId.INT64.getName();
+      if (Objects.equal(plainType, _name_7)) {
+        _matched=true;
+        type = "Long";
+      }
+    }
+    if (!_matched) {
+      String _name_8 = FBasicTypeId.UINT64.getName();
+      if (Objects.equal(plainType, _name_8)) {
+        _matched=true;
+        type = "Long";
+      }
+    }
+    if (!_matched) {
+      String _name_9 = FBasicTypeId.FLOAT.getName();
+      if (Objects.equal(plainType, _name_9)) {
+        _matched=true;
+        type = "Float";
+      }
+    }
+    if (!_matched) {
+      String _name_10 = FBasicTypeId.DOUBLE.getName();
+      if (Objects.equal(plainType, _name_10)) {
+        _matched=true;
+        type = "Double";
+      }
+    }
+    if (!_matched) {
+      String _name_11 = FBasicTypeId.STRING.getName();
+      if (Objects.equal(plainType, _name_11)) {
+        _matched=true;
+        type = "String";
+      }
+    }
+    if (!_matched) {
+      String _name_12 = FBasicTypeId.BYTE_BUFFER.getName();
+      if (Objects.equal(plainType, _name_12)) {
+        _matched=true;
+        type = "Byte[]";
+      }
+    }
+    if (!_matched) {
+      if (Objects.equal(plainType, "void")) {
+        _matched=true;
+        type = "Void";
+      }
+    }
+    if (!_matched) {
+      type = plainType;
+    }
+    return type;
+  }
+
+  public Iterable<Object> getRequiredTypes(final FTypeRef typeRef) {
+    final Object type = this.getDatatype(typeRef);
+    final ArrayList<Object> result = CollectionLiterals.<Object>newArrayList(type);
+    if ((type instanceof FMapType)) {
+      Iterables.<Object>addAll(result, this.getRequiredTypes(((FMapType)type).getKeyType()));
+      Iterables.<Object>addAll(result, this.getRequiredTypes(((FMapType)type).getValueType()));
+    }
+    return result;
+  }
+
+  public boolean hasMapMember(final FCompoundType type) {
+    Iterable<FField> _membersRecursive = this.getMembersRecursive(type);
+    for (final FField member : _membersRecursive) {
+      boolean _isMap = this.isMap(member.getType());
+      if (_isMap) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public FTypeRef resolveTypeDef(final FTypeRef typeRef) {
+    boolean _isTypeDef = this.isTypeDef(typeRef);
+    if (_isTypeDef) {
+      return this.resolveTypeDef(this.getTypeDefType(typeRef).getActualType());
+    } else {
+      return typeRef;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package io.joynr.generator.filter;
+
+import com.google.inject.Inject;
+import io.joynr.generator.templates.util.NamingUtil;
+import io.joynr.generator.util.JoynrJavaGeneratorExtensions;
+import java.io.File;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FInterface;
+
+@SuppressWarnings("all")
+public class FilterGenerator {
+  @Inject
+  @Extension
+  private JoynrJavaGeneratorExtensions _joynrJavaGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  private FilterTemplate filterTemplate;
+
+  public void doGenerate(final FInterface fInterface, final IFileSystemAccess fsa, final boolean generateVersion) {
+    String _packagePathWithJoynrPrefix = this._joynrJavaGeneratorExtensions.getPackagePathWithJoynrPrefix(fInterface, File.separator, generateVersion);
+    final String path = (_packagePathWithJoynrPrefix + File.separator);
+    EList<FBroadcast> _broadcasts = fInterface.getBroadcasts();
+    for (final FBroadcast broadcast : _broadcasts) {
+      boolean _isSelective = broadcast.isSelective();
+      if (_isSelective) {
+        String _joynrName = this._namingUtil.joynrName(fInterface);
+        String _plus = (path + _joynrName);
+        String _firstUpper = StringExtensions.toFirstUpper(this._namingUtil.joynrName(broadcast));
+        String _plus_1 = (_plus + _firstUpper);
+        final String fileName = (_plus_1 + "BroadcastFilter.java");
+        this._joynrJavaGeneratorExtensions.generateFile(fsa, fileName, 
+          this.filterTemplate, fInterface, broadcast, generateVersion);
+      }
+    }
+  }
+}
@@ -0,0 +1,276 @@
+package io.joynr.generator.provider;
+
+import com.google.inject.Inject;
+import io.joynr.generator.templates.InterfaceTemplate;
+import io.joynr.generator.templates.util.AttributeUtil;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import io.joynr.generator.util.JavaTypeUtil;
+import io.joynr.generator.util.JoynrJavaGeneratorExtensions;
+import io.joynr.generator.util.TemplateBase;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Conversions;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FBroadcast;
+
+@SuppressWarnings("all")
+public class InterfaceSubscriptionPublisherImplTemplate extends InterfaceTemplate {
+  @Inject
+  @Extension
+  private JoynrJavaGeneratorExtensions _joynrJavaGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private JavaTypeUtil _javaTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private InterfaceUtil _interfaceUtil;
+
+  @Inject
+  @Extension
+  private AttributeUtil _attributeUtil;
+
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    CharSequence _xblockexpression = null;
+    {
+      final String interfaceName = this._namingUtil.joynrName(this.francaIntf);
+      final String className = (interfaceName + "SubscriptionPublisher");
+      final String packagePath = this._joynrJavaGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, ".", generateVersion);
+      StringConcatenation _builder = new StringConcatenation();
+      CharSequence _warning = this._templateBase.warning();
+      _builder.append(_warning);
+      _builder.newLineIfNotEmpty();
+      _builder.append("package ");
+      _builder.append(packagePath);
+      _builder.append(";");
+      _builder.newLineIfNotEmpty();
+      _builder.newLine();
+      _builder.append("import io.joynr.provider.AbstractSubscriptionPublisher;");
+      _builder.newLine();
+      _builder.newLine();
+      {
+        Iterable<String> _requiredIncludesFor = this._joynrJavaGeneratorExtensions.getRequiredIncludesFor(this.francaIntf, false, false, false, true, true, false, generateVersion);
+        for(final String datatype : _requiredIncludesFor) {
+          _builder.append("import ");
+          _builder.append(datatype);
+          _builder.append(";");
+          _builder.newLineIfNotEmpty();
+        }
+      }
+      _builder.newLine();
+      _builder.append("public class ");
+      _builder.append(className);
+      _builder.append("Impl extends AbstractSubscriptionPublisher implements ");
+      _builder.append(className);
+      _builder.append(" {");
+      _builder.newLineIfNotEmpty();
+      _builder.newLine();
+      {
+        EList<FAttribute> _attributes = this._interfaceUtil.getAttributes(this.francaIntf);
+        for(final FAttribute attribute : _attributes) {
+          _builder.append("\t");
+          final String attributeName = this._namingUtil.joynrName(attribute);
+          _builder.newLineIfNotEmpty();
+          _builder.append("\t");
+          final String attributeType = this._javaTypeUtil.getTypeName(attribute);
+          _builder.newLineIfNotEmpty();
+          {
+            boolean _isNotifiable = this._attributeUtil.isNotifiable(attribute);
+            if (_isNotifiable) {
+              _builder.append("\t");
+              _builder.append("public final void ");
+              _builder.append(attributeName, "\t");
+              _builder.append("Changed(");
+              _builder.append(attributeType, "\t");
+              _builder.append(" ");
+              _builder.append(attributeName, "\t");
+              _builder.append(") {");
+              _builder.newLineIfNotEmpty();
+              _builder.append("\t");
+              _builder.append("\t");
+              _builder.append("onAttributeValueChanged(\"");
+              _builder.append(attributeName, "\t\t");
+              _builder.append("\", ");
+              _builder.append(attributeName, "\t\t");
+              _builder.append(");");
+              _builder.newLineIfNotEmpty();
+              _builder.append("\t");
+              _builder.append("}");
+              _builder.newLine();
+            }
+          }
+        }
+      }
+      _builder.newLine();
+      {
+        final Function1<FBroadcast, Boolean> _function = new Function1<FBroadcast, Boolean>() {
+          @Override
+          public Boolean apply(final FBroadcast it) {
+            return Boolean.valueOf(it.isSelective());
+          }
+        };
+        Iterable<FBroadcast> _filter = IterableExtensions.<FBroadcast>filter(this.francaIntf.getBroadcasts(), _function);
+        for(final FBroadcast broadcast : _filter) {
+          _builder.append("\t");
+          String broadcastName = this._namingUtil.joynrName(broadcast);
+          _builder.newLineIfNotEmpty();
+          _builder.append("\t");
+          _builder.append("public void fire");
+          String _firstUpper = StringExtensions.toFirstUpper(broadcastName);
+          _builder.append(_firstUpper, "\t");
+          _builder.append("(");
+          String _commaSeperatedTypedOutputParameterList = this._javaTypeUtil.getCommaSeperatedTypedOutputParameterList(broadcast);
+          _builder.append(_commaSeperatedTypedOutputParameterList, "\t");
+          _builder.append(") {");
+          _builder.newLineIfNotEmpty();
+          {
+            if (((((Object[])Conversions.unwrapArray(broadcast.getOutArgs(), Object.class)).length == 1) && (this._javaTypeUtil.isArray(broadcast.getOutArgs().get(0)) || this._javaTypeUtil.isByteBuffer(broadcast.getOutArgs().get(0).getType())))) {
+              _builder.append("\t");
+              _builder.append("\t");
+              _builder.append("// passing array to varargs will cause array elements to be understood as multiple parameters.");
+              _builder.newLine();
+              _builder.append("\t");
+              _builder.append("\t");
+              _builder.append("// Cast to Object prevents this.");
+              _builder.newLine();
+              _builder.append("\t");
+              _builder.append("\t");
+              _builder.append("fireBroadcast(\"");
+              _builder.append(broadcastName, "\t\t");
+              _builder.append("\", broadcastFilters.get(\"");
+              _builder.append(broadcastName, "\t\t");
+              _builder.append("\"), (Object) ");
+              String _commaSeperatedUntypedOutputParameterList = this._javaTypeUtil.getCommaSeperatedUntypedOutputParameterList(broadcast);
+              _builder.append(_commaSeperatedUntypedOutputParameterList, "\t\t");
+              _builder.append(");");
+              _builder.newLineIfNotEmpty();
+            } else {
+              boolean _isEmpty = broadcast.getOutArgs().isEmpty();
+              if (_isEmpty) {
+                _builder.append("\t");
+                _builder.append("\t");
+                _builder.append("fireBroadcast(\"");
+                _builder.append(broadcastName, "\t\t");
+                _builder.append("\", broadcastFilters.get(\"");
+                _builder.append(broadcastName, "\t\t");
+                _builder.append("\"));");
+                _builder.newLineIfNotEmpty();
+              } else {
+                _builder.append("\t");
+                _builder.append("\t");
+                _builder.append("fireBroadcast(\"");
+                _builder.append(broadcastName, "\t\t");
+                _builder.append("\", broadcastFilters.get(\"");
+                _builder.append(broadcastName, "\t\t");
+                _builder.append("\"), ");
+                String _commaSeperatedUntypedOutputParameterList_1 = this._javaTypeUtil.getCommaSeperatedUntypedOutputParameterList(broadcast);
+                _builder.append(_commaSeperatedUntypedOutputParameterList_1, "\t\t");
+                _builder.append(");");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+          _builder.append("\t");
+          _builder.append("}");
+          _builder.newLine();
+          _builder.newLine();
+        }
+      }
+      {
+        final Function1<FBroadcast, Boolean> _function_1 = new Function1<FBroadcast, Boolean>() {
+          @Override
+          public Boolean apply(final FBroadcast it) {
+            boolean _isSelective = it.isSelective();
+            return Boolean.valueOf((!_isSelective));
+          }
+        };
+        Iterable<FBroadcast> _filter_1 = IterableExtensions.<FBroadcast>filter(this.francaIntf.getBroadcasts(), _function_1);
+        for(final FBroadcast broadcast_1 : _filter_1) {
+          _builder.append("\t");
+          String broadcastName_1 = this._namingUtil.joynrName(broadcast_1);
+          _builder.newLineIfNotEmpty();
+          _builder.append("\t");
+          _builder.append("public void fire");
+          String _firstUpper_1 = StringExtensions.toFirstUpper(broadcastName_1);
+          _builder.append(_firstUpper_1, "\t");
+          _builder.append("(");
+          String _commaSeperatedTypedOutputParameterList_1 = this._javaTypeUtil.getCommaSeperatedTypedOutputParameterList(broadcast_1);
+          _builder.append(_commaSeperatedTypedOutputParameterList_1, "\t");
+          {
+            int _length = ((Object[])Conversions.unwrapArray(this._broadcastUtil.getOutputParameters(broadcast_1), Object.class)).length;
+            boolean _greaterThan = (_length > 0);
+            if (_greaterThan) {
+              _builder.append(", ");
+            }
+          }
+          _builder.append("String... partitions) {");
+          _builder.newLineIfNotEmpty();
+          {
+            if (((((Object[])Conversions.unwrapArray(broadcast_1.getOutArgs(), Object.class)).length == 1) && (this._javaTypeUtil.isArray(broadcast_1.getOutArgs().get(0)) || this._javaTypeUtil.isByteBuffer(broadcast_1.getOutArgs().get(0).getType())))) {
+              _builder.append("\t");
+              _builder.append("\t");
+              _builder.append("// passing array to varargs will cause array elements to be understood as multiple parameters.");
+              _builder.newLine();
+              _builder.append("\t");
+              _builder.append("\t");
+              _builder.append("// Cast to Object prevents this.");
+              _builder.newLine();
+              _builder.append("\t");
+              _builder.append("\t");
+              _builder.append("fireMulticast(\"");
+              _builder.append(broadcastName_1, "\t\t");
+              _builder.append("\", partitions, (Object) ");
+              String _commaSeperatedUntypedOutputParameterList_2 = this._javaTypeUtil.getCommaSeperatedUntypedOutputParameterList(broadcast_1);
+              _builder.append(_commaSeperatedUntypedOutputParameterList_2, "\t\t");
+              _builder.append(");");
+              _builder.newLineIfNotEmpty();
+            } else {
+              boolean _isEmpty_1 = broadcast_1.getOutArgs().isEmpty();
+              if (_isEmpty_1) {
+                _builder.append("\t");
+                _builder.append("\t");
+                _builder.append("fireMulticast(\"");
+                _builder.append(broadcastName_1, "\t\t");
+                _builder.append("\", partitions);");
+                _builder.newLineIfNotEmpty();
+              } else {
+                _builder.append("\t");
+                _builder.append("\t");
+                _builder.append("fireMulticast(\"");
+                _builder.append(broadcastName_1, "\t\t");
+                _builder.append("\", partitions, ");
+                String _commaSeperatedUntypedOutputParameterList_3 = this._javaTypeUtil.getCommaSeperatedUntypedOutputParameterList(broadcast_1);
+                _builder.append(_commaSeperatedUntypedOutputParameterList_3, "\t\t");
+                _builder.append(");");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+          _builder.append("\t");
+          _builder.append("}");
+          _builder.newLine();
+          _builder.newLine();
+        }
+      }
+      _builder.append("}");
+      _builder.newLine();
+      _xblockexpression = _builder;
+    }
+    return _xblockexpression;
+  }
+}
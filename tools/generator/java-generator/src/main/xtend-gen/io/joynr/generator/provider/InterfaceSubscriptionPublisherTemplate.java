@@ -0,0 +1,162 @@
+package io.joynr.generator.provider;
+
+import com.google.inject.Inject;
+import io.joynr.generator.templates.InterfaceTemplate;
+import io.joynr.generator.templates.util.AttributeUtil;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import io.joynr.generator.util.JavaTypeUtil;
+import io.joynr.generator.util.JoynrJavaGeneratorExtensions;
+import io.joynr.generator.util.TemplateBase;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Conversions;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FBroadcast;
+
+@SuppressWarnings("all")
+public class InterfaceSubscriptionPublisherTemplate extends InterfaceTemplate {
+  @Inject
+  @Extension
+  private JoynrJavaGeneratorExtensions _joynrJavaGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private JavaTypeUtil _javaTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private InterfaceUtil _interfaceUtil;
+
+  @Inject
+  @Extension
+  private AttributeUtil _attributeUtil;
+
+  @Inject
+  @Extension
+  private TemplateBase _templateBase;
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    CharSequence _xblockexpression = null;
+    {
+      final String interfaceName = this._namingUtil.joynrName(this.francaIntf);
+      final String className = (interfaceName + "SubscriptionPublisher");
+      final String packagePath = this._joynrJavaGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, ".", generateVersion);
+      StringConcatenation _builder = new StringConcatenation();
+      CharSequence _warning = this._templateBase.warning();
+      _builder.append(_warning);
+      _builder.newLineIfNotEmpty();
+      _builder.append("package ");
+      _builder.append(packagePath);
+      _builder.append(";");
+      _builder.newLineIfNotEmpty();
+      _builder.newLine();
+      {
+        boolean _hasNonSelectiveBroadcast = this.hasNonSelectiveBroadcast();
+        if (_hasNonSelectiveBroadcast) {
+          _builder.append("import io.joynr.dispatcher.rpc.annotation.JoynrMulticast;");
+          _builder.newLine();
+        }
+      }
+      _builder.append("import io.joynr.provider.SubscriptionPublisher;");
+      _builder.newLine();
+      _builder.newLine();
+      {
+        Iterable<String> _requiredIncludesFor = this._joynrJavaGeneratorExtensions.getRequiredIncludesFor(this.francaIntf, false, false, false, true, true, false, generateVersion);
+        for(final String datatype : _requiredIncludesFor) {
+          _builder.append("import ");
+          _builder.append(datatype);
+          _builder.append(";");
+          _builder.newLineIfNotEmpty();
+        }
+      }
+      _builder.newLine();
+      _builder.append("public interface ");
+      _builder.append(className);
+      _builder.append(" extends SubscriptionPublisher {");
+      _builder.newLineIfNotEmpty();
+      _builder.newLine();
+      {
+        EList<FAttribute> _attributes = this._interfaceUtil.getAttributes(this.francaIntf);
+        for(final FAttribute attribute : _attributes) {
+          _builder.append("\t");
+          final String attributeName = this._namingUtil.joynrName(attribute);
+          _builder.newLineIfNotEmpty();
+          _builder.append("\t");
+          final String attributeType = this._javaTypeUtil.getTypeName(attribute);
+          _builder.newLineIfNotEmpty();
+          {
+            boolean _isNotifiable = this._attributeUtil.isNotifiable(attribute);
+            if (_isNotifiable) {
+              _builder.append("\t");
+              _builder.append("public void ");
+              _builder.append(attributeName, "\t");
+              _builder.append("Changed(");
+              _builder.append(attributeType, "\t");
+              _builder.append(" ");
+              _builder.append(attributeName, "\t");
+              _builder.append(");");
+              _builder.newLineIfNotEmpty();
+            }
+          }
+        }
+      }
+      _builder.newLine();
+      {
+        EList<FBroadcast> _broadcasts = this.francaIntf.getBroadcasts();
+        for(final FBroadcast broadcast : _broadcasts) {
+          _builder.append("\t");
+          String broadcastName = this._namingUtil.joynrName(broadcast);
+          _builder.newLineIfNotEmpty();
+          {
+            boolean _isSelective = broadcast.isSelective();
+            if (_isSelective) {
+              _builder.append("\t");
+              _builder.append("public void fire");
+              String _firstUpper = StringExtensions.toFirstUpper(broadcastName);
+              _builder.append(_firstUpper, "\t");
+              _builder.append("(");
+              String _commaSeperatedTypedOutputParameterList = this._javaTypeUtil.getCommaSeperatedTypedOutputParameterList(broadcast);
+              _builder.append(_commaSeperatedTypedOutputParameterList, "\t");
+              _builder.append(");");
+              _builder.newLineIfNotEmpty();
+            } else {
+              _builder.append("\t");
+              _builder.append("@JoynrMulticast(name = \"");
+              _builder.append(broadcastName, "\t");
+              _builder.append("\")");
+              _builder.newLineIfNotEmpty();
+              _builder.append("\t");
+              _builder.append("public void fire");
+              String _firstUpper_1 = StringExtensions.toFirstUpper(broadcastName);
+              _builder.append(_firstUpper_1, "\t");
+              _builder.append("(");
+              String _commaSeperatedTypedOutputParameterList_1 = this._javaTypeUtil.getCommaSeperatedTypedOutputParameterList(broadcast);
+              _builder.append(_commaSeperatedTypedOutputParameterList_1, "\t");
+              {
+                int _length = ((Object[])Conversions.unwrapArray(this._broadcastUtil.getOutputParameters(broadcast), Object.class)).length;
+                boolean _greaterThan = (_length > 0);
+                if (_greaterThan) {
+                  _builder.append(", ");
+                }
+              }
+              _builder.append("String... partitions);");
+              _builder.newLineIfNotEmpty();
+            }
+          }
+        }
+      }
+      _builder.append("}");
+      _builder.newLine();
+      _xblockexpression = _builder;
+    }
+    return _xblockexpression;
+  }
+}
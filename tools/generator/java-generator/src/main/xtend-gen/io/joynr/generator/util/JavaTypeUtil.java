@@ -0,0 +1,393 @@
+package io.joynr.generator.util;
+
+import com.google.inject.Inject;
+import io.joynr.generator.templates.util.AbstractTypeUtil;
+import io.joynr.generator.templates.util.BroadcastUtil;
+import io.joynr.generator.templates.util.MethodUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.xtext.xbase.lib.Conversions;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeDef;
+import org.franca.core.franca.FTypeRef;
+import org.franca.core.franca.FTypedElement;
+
+@SuppressWarnings("all")
+public class JavaTypeUtil extends AbstractTypeUtil {
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  @Inject
+  @Extension
+  private BroadcastUtil _broadcastUtil;
+
+  private Map<FBasicTypeId, String> primitiveDataTypeDefaultMap;
+
+  public JavaTypeUtil() {
+    final Map<FBasicTypeId, String> primitiveDataTypeDefaultValue = new HashMap<FBasicTypeId, String>();
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.BOOLEAN, "false");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.INT8, "0");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UINT8, "0");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.INT16, "0");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UINT16, "0");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.INT32, "0");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UINT32, "0");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.INT64, "0L");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UINT64, "0l");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.FLOAT, "0f");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.DOUBLE, "0d");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.STRING, "\"\"");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.BYTE_BUFFER, "new Byte[0]");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UNDEFINED, "");
+    this.primitiveDataTypeDefaultMap = Collections.<FBasicTypeId, String>unmodifiableMap(primitiveDataTypeDefaultValue);
+  }
+
+  public String getCommaSeperatedTypedOutputParameterList(final Iterable<FArgument> arguments, final boolean linebreak) {
+    final StringBuilder returnStringBuilder = new StringBuilder();
+    for (final FArgument argument : arguments) {
+      {
+        returnStringBuilder.append(this.getTypeName(argument));
+        returnStringBuilder.append(" ");
+        returnStringBuilder.append(this._namingUtil.joynrName(argument));
+        returnStringBuilder.append(",");
+        if (linebreak) {
+          returnStringBuilder.append("\n");
+        } else {
+          returnStringBuilder.append(" ");
+        }
+      }
+    }
+    final String returnString = returnStringBuilder.toString();
+    int _length = returnString.length();
+    boolean _equals = (_length == 0);
+    if (_equals) {
+      return "";
+    } else {
+      int _length_1 = returnString.length();
+      int _minus = (_length_1 - 2);
+      return returnString.substring(0, _minus);
+    }
+  }
+
+  public String getCommaSeperatedTypedOutputParameterList(final FMethod method) {
+    return this.getCommaSeperatedTypedOutputParameterList(this._methodUtil.getOutputParameters(method), false);
+  }
+
+  public String getCommaSeperatedTypedOutputParameterList(final FBroadcast broadcast) {
+    return this.getCommaSeperatedTypedOutputParameterList(this._broadcastUtil.getOutputParameters(broadcast), false);
+  }
+
+  public String getCommaSeperatedTypedOutputParameterListLinebreak(final FBroadcast broadcast) {
+    return this.getCommaSeperatedTypedOutputParameterList(this._broadcastUtil.getOutputParameters(broadcast), true);
+  }
+
+  public String getCommaSeperatedUntypedInputParameterList(final FMethod method) {
+    return this.getCommaSeperatedUntypedParameterList(this._methodUtil.getInputParameters(method));
+  }
+
+  public String getCommaSeperatedUntypedOutputParameterList(final FMethod method) {
+    return this.getCommaSeperatedUntypedParameterList(this._methodUtil.getOutputParameters(method));
+  }
+
+  public String getCommaSeperatedUntypedOutputParameterList(final FBroadcast broadcast) {
+    return this.getCommaSeperatedUntypedParameterList(this._broadcastUtil.getOutputParameters(broadcast));
+  }
+
+  public String getCommaSeperatedUntypedParameterList(final Iterable<FArgument> arguments) {
+    final StringBuilder returnStringBuilder = new StringBuilder();
+    for (final FArgument argument : arguments) {
+      {
+        returnStringBuilder.append(this._namingUtil.joynrName(argument));
+        returnStringBuilder.append(", ");
+      }
+    }
+    final String returnString = returnStringBuilder.toString();
+    int _length = returnString.length();
+    boolean _equals = (_length == 0);
+    if (_equals) {
+      return "";
+    }
+    int _length_1 = returnString.length();
+    int _minus = (_length_1 - 2);
+    return returnString.substring(0, _minus);
+  }
+
+  public String getCommaSeperatedTypedParameterList(final FMethod method) {
+    final StringBuilder returnStringBuilder = new StringBuilder();
+    Iterable<FArgument> _inputParameters = this._methodUtil.getInputParameters(method);
+    for (final FArgument param : _inputParameters) {
+      {
+        returnStringBuilder.append(this.getTypeName(param));
+        returnStringBuilder.append(" ");
+        returnStringBuilder.append(this._namingUtil.joynrName(param));
+        returnStringBuilder.append(", ");
+      }
+    }
+    final String returnString = returnStringBuilder.toString();
+    int _length = returnString.length();
+    boolean _equals = (_length == 0);
+    if (_equals) {
+      return "";
+    } else {
+      int _length_1 = returnString.length();
+      int _minus = (_length_1 - 2);
+      return returnString.substring(0, _minus);
+    }
+  }
+
+  public String getCommaSeperatedTypedFilterParameterList(final FBroadcast broadcast) {
+    final StringBuilder returnStringBuilder = new StringBuilder();
+    ArrayList<String> _filterParameters = this._broadcastUtil.getFilterParameters(broadcast);
+    for (final String filterParameter : _filterParameters) {
+      {
+        returnStringBuilder.append("String ");
+        returnStringBuilder.append(filterParameter);
+        returnStringBuilder.append(", ");
+      }
+    }
+    final String returnString = returnStringBuilder.toString();
+    int _length = returnString.length();
+    boolean _equals = (_length == 0);
+    if (_equals) {
+      return "";
+    } else {
+      int _length_1 = returnString.length();
+      int _minus = (_length_1 - 2);
+      return returnString.substring(0, _minus);
+    }
+  }
+
+  @Override
+  public boolean isCompound(final FType type) {
+    if ((type instanceof FTypeDef)) {
+      return this.isCompound(((FTypeDef)type).getActualType());
+    }
+    return super.isCompound(type);
+  }
+
+  @Override
+  public FCompoundType getCompoundType(final FType type) {
+    if ((type instanceof FTypeDef)) {
+      return this.getCompoundType(((FTypeDef)type).getActualType());
+    }
+    return super.getCompoundType(type);
+  }
+
+  @Override
+  public boolean isPrimitive(final FType type) {
+    if ((type instanceof FTypeDef)) {
+      return this.isPrimitive(((FTypeDef)type).getActualType());
+    }
+    return super.isPrimitive(type);
+  }
+
+  @Override
+  public FBasicTypeId getPrimitive(final FType type) {
+    if ((type instanceof FTypeDef)) {
+      return this.getPrimitive(((FTypeDef)type).getActualType());
+    }
+    return super.getPrimitive(type);
+  }
+
+  @Override
+  public String getTypeName(final FBasicTypeId datatype) {
+    String _switchResult = null;
+    if (datatype != null) {
+      switch (datatype) {
+        case BOOLEAN:
+          _switchResult = "Boolean";
+          break;
+        case INT8:
+          _switchResult = "Byte";
+          break;
+        case UINT8:
+          _switchResult = "Byte";
+          break;
+        case INT16:
+          _switchResult = "Short";
+          break;
+        case UINT16:
+          _switchResult = "Short";
+          break;
+        case INT32:
+          _switchResult = "Integer";
+          break;
+        case UINT32:
+          _switchResult = "Integer";
+          break;
+        case INT64:
+          _switchResult = "Long";
+          break;
+        case UINT64:
+          _switchResult = "Long";
+          break;
+        case FLOAT:
+          _switchResult = "Float";
+          break;
+        case DOUBLE:
+          _switchResult = "Double";
+          break;
+        case STRING:
+          _switchResult = "String";
+          break;
+        case BYTE_BUFFER:
+          _switchResult = "Byte[]";
+          break;
+        default:
+          String _name = datatype.getName();
+          String _plus = ("Unsupported basic type: " + _name);
+          throw new IllegalArgumentException(_plus);
+      }
+    } else {
+      String _name = datatype.getName();
+      String _plus = ("Unsupported basic type: " + _name);
+      throw new IllegalArgumentException(_plus);
+    }
+    return _switchResult;
+  }
+
+  @Override
+  public String getTypeName(final FType datatype) {
+    boolean _isEnum = this.isEnum(datatype);
+    if (_isEnum) {
+      return this._namingUtil.joynrName(this.getEnumType(datatype));
+    }
+    boolean _isPrimitive = this.isPrimitive(datatype);
+    if (_isPrimitive) {
+      return this.getTypeName(this.getPrimitive(datatype));
+    }
+    boolean _isCompound = this.isCompound(datatype);
+    if (_isCompound) {
+      return this._namingUtil.joynrName(this.getCompoundType(datatype));
+    }
+    boolean _isMap = this.isMap(datatype);
+    if (_isMap) {
+      return this._namingUtil.joynrName(this.getMapType(datatype));
+    }
+    String _joynrName = this._namingUtil.joynrName(datatype);
+    String _plus = ("JavaTypeUtil.getTypeName: unsupported state, datatype " + _joynrName);
+    String _plus_1 = (_plus + " could not be mapped to an implementation datatype");
+    throw new IllegalStateException(_plus_1);
+  }
+
+  @Override
+  public String getTypeName(final FType datatype, final boolean generateVersion) {
+    throw new IllegalStateException("Unsupported method called for Java!");
+  }
+
+  @Override
+  public String getTypeNameForList(final FType datatype, final boolean generateVersion) {
+    throw new IllegalStateException("Unsupported method called for Java!");
+  }
+
+  @Override
+  public String getTypeNameForList(final FBasicTypeId datatype) {
+    String _objectDataTypeForPlainType = this.getObjectDataTypeForPlainType(this.getTypeName(datatype));
+    return (_objectDataTypeForPlainType + "[]");
+  }
+
+  @Override
+  public String getTypeNameForList(final FType datatype) {
+    String _objectDataTypeForPlainType = this.getObjectDataTypeForPlainType(this.getTypeName(datatype));
+    return (_objectDataTypeForPlainType + "[]");
+  }
+
+  public String getTypedParameterList(final Iterable<FArgument> params) {
+    StringBuilder sb = new StringBuilder();
+    int i = 0;
+    while ((i < IterableExtensions.size(params))) {
+      {
+        final FArgument param = ((FArgument[])Conversions.unwrapArray(params, FArgument.class))[i];
+        String _typeName = this.getTypeName(param);
+        String _plus = (_typeName + " ");
+        String _joynrName = this._namingUtil.joynrName(param);
+        String _plus_1 = (_plus + _joynrName);
+        sb.append(_plus_1);
+        int _size = IterableExtensions.size(params);
+        int _minus = (_size - 1);
+        boolean _notEquals = (i != _minus);
+        if (_notEquals) {
+          sb.append(",\n");
+        }
+        i = (i + 1);
+      }
+    }
+    return sb.toString();
+  }
+
+  public String getJavadocCommentsParameterListJavaRpc(final FMethod method) {
+    StringBuilder sb = new StringBuilder();
+    final Iterable<FArgument> params = this._methodUtil.getInputParameters(method);
+    int i = 0;
+    while ((i < IterableExtensions.size(params))) {
+      {
+        final FArgument param = ((FArgument[])Conversions.unwrapArray(params, FArgument.class))[i];
+        String _joynrName = this._namingUtil.joynrName(param);
+        String _plus = (" * @param " + _joynrName);
+        String _plus_1 = (_plus + " the parameter ");
+        String _joynrName_1 = this._namingUtil.joynrName(param);
+        String _plus_2 = (_plus_1 + _joynrName_1);
+        String _plus_3 = (_plus_2 + "\n");
+        sb.append(_plus_3);
+        i = (i + 1);
+      }
+    }
+    return sb.toString();
+  }
+
+  public String getDefaultValue(final FTypedElement element) {
+    boolean _isArray = this.isArray(element);
+    if (_isArray) {
+      return "{ }";
+    }
+    return this.getDefaultValue(element.getType());
+  }
+
+  public String getDefaultValue(final FTypeRef typeRef) {
+    boolean _isTypeDef = this.isTypeDef(typeRef);
+    if (_isTypeDef) {
+      return this.getDefaultValue(this.getTypeDefType(typeRef).getActualType());
+    }
+    boolean _isMap = this.isMap(typeRef);
+    if (_isMap) {
+      String _joynrName = this._namingUtil.joynrName(typeRef);
+      String _plus = ("new " + _joynrName);
+      return (_plus + "()");
+    }
+    if ((this.isCompound(typeRef) || this.isMap(typeRef))) {
+      String _joynrName_1 = this._namingUtil.joynrName(this.getCompoundType(typeRef));
+      String _plus_1 = ("new " + _joynrName_1);
+      return (_plus_1 + "()");
+    } else {
+      boolean _isEnum = this.isEnum(typeRef);
+      if (_isEnum) {
+        String _joynrName_2 = this._namingUtil.joynrName(this.getEnumType(typeRef));
+        String _plus_2 = (_joynrName_2 + ".");
+        String _joynrName_3 = this._namingUtil.joynrName(this.getEnumType(typeRef).getEnumerators().get(0));
+        return (_plus_2 + _joynrName_3);
+      } else {
+        boolean _containsKey = this.primitiveDataTypeDefaultMap.containsKey(typeRef.getPredefined());
+        boolean _not = (!_containsKey);
+        if (_not) {
+          return "NaN";
+        } else {
+          boolean _isPrimitive = this.isPrimitive(typeRef);
+          if (_isPrimitive) {
+            return this.primitiveDataTypeDefaultMap.get(typeRef.getPredefined());
+          }
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,255 @@
+package io.joynr.generator.js;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.AbstractModule;
+import com.google.inject.assistedinject.FactoryModuleBuilder;
+import com.google.inject.name.Named;
+import io.joynr.generator.IJoynrGenerator;
+import io.joynr.generator.js.communicationmodel.ErrorEnumTypesGenerator;
+import io.joynr.generator.js.communicationmodel.TypesGenerator;
+import io.joynr.generator.js.provider.ProviderGenerator;
+import io.joynr.generator.js.provider.ProviderImplCreatorGenerator;
+import io.joynr.generator.js.proxy.ProxyGenerator;
+import io.joynr.generator.js.util.GeneratorParameter;
+import io.joynr.generator.js.util.JoynrJSGeneratorExtensions;
+import io.joynr.generator.js.util.JsTemplateFactory;
+import io.joynr.generator.templates.util.NamingUtil;
+import io.joynr.generator.templates.util.SupportedFrancaFeatureChecker;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.dsl.FrancaPersistenceManager;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FModel;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeCollection;
+
+@SuppressWarnings("all")
+public class JoynrJSGenerator implements IJoynrGenerator {
+  @Inject
+  private GeneratorParameter parameters;
+
+  @Inject
+  private JsTemplateFactory templateFactory;
+
+  @Inject
+  @Extension
+  private TypesGenerator _typesGenerator;
+
+  @Inject
+  @Extension
+  private ErrorEnumTypesGenerator _errorEnumTypesGenerator;
+
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_NOVERSIONGENERATION_COMMENT)
+  public boolean versioningComment;
+
+  @Inject
+  @Named(NamingUtil.JOYNR_GENERATOR_PACKAGEWITHVERSION)
+  public boolean packageWithVersion;
+
+  @Inject
+  @Named("generateProxyCode")
+  public boolean generateProxyCode;
+
+  @Inject
+  @Named("generateProviderCode")
+  public boolean generateProviderCode;
+
+  private boolean generateVersionedCommunicationModel = false;
+
+  private boolean generateUnversionedCommunicationModel = false;
+
+  @Override
+  public String getLanguageId() {
+    return "javascript";
+  }
+
+  @Override
+  public com.google.inject.Module getGeneratorModule() {
+    return new AbstractModule() {
+      @Override
+      protected void configure() {
+        this.install(new FactoryModuleBuilder().<JsTemplateFactory>build(JsTemplateFactory.class));
+      }
+    };
+  }
+
+  @Override
+  public void updateCommunicationModelGeneration(final Resource input) {
+    EObject _get = input.getContents().get(0);
+    final FModel fModel = ((FModel) _get);
+    int _size = fModel.getInterfaces().size();
+    boolean _equals = (_size == 0);
+    if (_equals) {
+      this.generateVersionedCommunicationModel = true;
+    }
+    EList<FInterface> _interfaces = fModel.getInterfaces();
+    for (final FInterface fInterface : _interfaces) {
+      {
+        this._joynrJSGeneratorExtensions.checkVersioningOption(fInterface, this.packageWithVersion);
+        boolean _xifexpression = false;
+        if (this.versioningComment) {
+          boolean _commentContainsNoVersionGeneration = this._joynrJSGeneratorExtensions.commentContainsNoVersionGeneration(fInterface);
+          _xifexpression = (!_commentContainsNoVersionGeneration);
+        } else {
+          _xifexpression = this.packageWithVersion;
+        }
+        final boolean generateVersioning = _xifexpression;
+        if (generateVersioning) {
+          this.generateVersionedCommunicationModel = true;
+        } else {
+          this.generateUnversionedCommunicationModel = true;
+        }
+      }
+    }
+  }
+
+  @Override
+  public void doGenerate(final Resource input, final IFileSystemAccess fsa) {
+    final boolean isFrancaIDLResource = input.getURI().fileExtension().equals(FrancaPersistenceManager.FRANCA_FILE_EXTENSION);
+    Preconditions.checkArgument(isFrancaIDLResource, ("Unknown input: " + input));
+    EObject _get = input.getContents().get(0);
+    final FModel fModel = ((FModel) _get);
+    this._joynrJSGeneratorExtensions.checkForNamedArrays(fModel, input.getURI().path());
+    SupportedFrancaFeatureChecker.checkModel(fModel);
+    EList<FInterface> _interfaces = fModel.getInterfaces();
+    for (final FInterface francaIntf : _interfaces) {
+      {
+        this._joynrJSGeneratorExtensions.checkVersioningOption(francaIntf, this.packageWithVersion);
+        boolean _xifexpression = false;
+        if (this.versioningComment) {
+          boolean _commentContainsNoVersionGeneration = this._joynrJSGeneratorExtensions.commentContainsNoVersionGeneration(francaIntf);
+          _xifexpression = (!_commentContainsNoVersionGeneration);
+        } else {
+          _xifexpression = this.packageWithVersion;
+        }
+        final boolean generateVersioning = _xifexpression;
+        if ((this.generateProxyCode || this.generateProviderCode)) {
+          ProxyGenerator proxyGenerator = this.templateFactory.createProxyGenerator(francaIntf);
+          proxyGenerator.generateProxy(fsa, generateVersioning);
+        }
+        if (this.generateProviderCode) {
+          ProviderGenerator providerGenerator = this.templateFactory.createProviderGenerator(francaIntf);
+          providerGenerator.generateProvider(fsa, generateVersioning);
+          ProviderImplCreatorGenerator providerImplCreatorGenerator = this.templateFactory.createProviderImplCreatorGenerator(francaIntf);
+          providerImplCreatorGenerator.generateProvider(fsa, generateVersioning);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void generateCommunicationModel(final Resource input, final IFileSystemAccess fsa) {
+    EObject _get = input.getContents().get(0);
+    final FModel fModel = ((FModel) _get);
+    final Iterable<FType> types = this.findAllFTypes(input);
+    if (this.generateVersionedCommunicationModel) {
+      final Consumer<FInterface> _function = new Consumer<FInterface>() {
+        @Override
+        public void accept(final FInterface it) {
+          JoynrJSGenerator.this._typesGenerator.generateTypes(types, fsa, true);
+          JoynrJSGenerator.this._errorEnumTypesGenerator.generateErrorEnumTypes(it, types, fsa, true);
+        }
+      };
+      fModel.getInterfaces().forEach(_function);
+    }
+    if (this.generateUnversionedCommunicationModel) {
+      final Consumer<FInterface> _function_1 = new Consumer<FInterface>() {
+        @Override
+        public void accept(final FInterface it) {
+          JoynrJSGenerator.this._typesGenerator.generateTypes(types, fsa, false);
+          JoynrJSGenerator.this._errorEnumTypesGenerator.generateErrorEnumTypes(it, types, fsa, false);
+        }
+      };
+      fModel.getInterfaces().forEach(_function_1);
+    }
+    boolean _isEmpty = fModel.getTypeCollections().isEmpty();
+    boolean _not = (!_isEmpty);
+    if (_not) {
+      if (this.generateVersionedCommunicationModel) {
+        final Consumer<FTypeCollection> _function_2 = new Consumer<FTypeCollection>() {
+          @Override
+          public void accept(final FTypeCollection it) {
+            JoynrJSGenerator.this._typesGenerator.generateTypes(it.getTypes(), fsa, true);
+          }
+        };
+        fModel.getTypeCollections().forEach(_function_2);
+      }
+      if (this.generateUnversionedCommunicationModel) {
+        final Consumer<FTypeCollection> _function_3 = new Consumer<FTypeCollection>() {
+          @Override
+          public void accept(final FTypeCollection it) {
+            JoynrJSGenerator.this._typesGenerator.generateTypes(it.getTypes(), fsa, false);
+          }
+        };
+        fModel.getTypeCollections().forEach(_function_3);
+      }
+    }
+  }
+
+  @Override
+  public void clearCommunicationModelGenerationSettings() {
+    this.generateVersionedCommunicationModel = false;
+    this.generateUnversionedCommunicationModel = false;
+  }
+
+  public Iterable<FInterface> findAllFInterfaces(final Resource resource) {
+    final HashSet<FInterface> result = new HashSet<FInterface>();
+    final ResourceSet rs = resource.getResourceSet();
+    EList<Resource> _resources = rs.getResources();
+    for (final Resource r : _resources) {
+      EList<EObject> _contents = r.getContents();
+      for (final EObject c : _contents) {
+        if ((c instanceof FModel)) {
+          result.addAll(((FModel)c).getInterfaces());
+        }
+      }
+    }
+    return result;
+  }
+
+  public Iterable<FType> findAllFTypes(final Resource resource) {
+    final HashSet<FType> result = new HashSet<FType>();
+    final ResourceSet rs = resource.getResourceSet();
+    EList<Resource> _resources = rs.getResources();
+    for (final Resource r : _resources) {
+      EList<EObject> _contents = r.getContents();
+      for (final EObject c : _contents) {
+        if ((c instanceof FModel)) {
+          EList<FInterface> _interfaces = ((FModel)c).getInterfaces();
+          for (final FInterface fi : _interfaces) {
+            result.addAll(fi.getTypes());
+          }
+          EList<FTypeCollection> _typeCollections = ((FModel)c).getTypeCollections();
+          for (final FTypeCollection tc : _typeCollections) {
+            result.addAll(tc.getTypes());
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public void setParameters(final Map<String, String> parameter) {
+    this.parameters.setParameters(parameter);
+  }
+
+  @Override
+  public Set<String> supportedParameters() {
+    return this.parameters.supportedParameters();
+  }
+}
@@ -0,0 +1,480 @@
+package io.joynr.generator.js.communicationmodel;
+
+import com.google.inject.Inject;
+import com.google.inject.assistedinject.Assisted;
+import io.joynr.generator.js.util.JSTypeUtil;
+import io.joynr.generator.js.util.JoynrJSGeneratorExtensions;
+import io.joynr.generator.templates.CompoundTypeTemplate;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Date;
+import java.util.HashSet;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Conversions;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.franca.core.franca.FAnnotation;
+import org.franca.core.franca.FAnnotationBlock;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FField;
+import org.franca.core.franca.FStructType;
+import org.franca.core.franca.FUnionType;
+
+@SuppressWarnings("all")
+public class CompoundTypeGenerator extends CompoundTypeTemplate {
+  @Inject
+  @Extension
+  private JSTypeUtil _jSTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  public CompoundTypeGenerator(@Assisted final FCompoundType type) {
+    super(type);
+  }
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    {
+      if ((this.type instanceof FStructType)) {
+        CharSequence _generateStructType = this.generateStructType(((FStructType)this.type), generateVersion);
+        _builder.append(_generateStructType);
+        _builder.newLineIfNotEmpty();
+      } else {
+        if ((this.type instanceof FUnionType)) {
+          CharSequence _generateUnionType = this.generateUnionType(((FUnionType)this.type));
+          _builder.append(_generateUnionType);
+          _builder.newLineIfNotEmpty();
+        }
+      }
+    }
+    return _builder;
+  }
+
+  public CharSequence generateUnionType(final FUnionType type) {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append("//TODO generate union type ");
+    String _joynrName = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName);
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+
+  public Iterable<FField> filterDuplicateTypeNames(final Iterable<FField> fields) {
+    Iterable<FField> _xblockexpression = null;
+    {
+      final HashSet<String> set = new HashSet<String>();
+      final Function1<FField, Boolean> _function = new Function1<FField, Boolean>() {
+        @Override
+        public Boolean apply(final FField it) {
+          return Boolean.valueOf(set.add(CompoundTypeGenerator.this._jSTypeUtil.getTsTypeName(it.getType())));
+        }
+      };
+      _xblockexpression = IterableExtensions.<FField>filter(fields, _function);
+    }
+    return _xblockexpression;
+  }
+
+  public boolean hasImport(final Iterable<FField> field, final FStructType struct) {
+    boolean _xblockexpression = false;
+    {
+      final String structTypeName = this._jSTypeUtil.getTsTypeName(struct);
+      final Function1<FField, String> _function = new Function1<FField, String>() {
+        @Override
+        public String apply(final FField it) {
+          return CompoundTypeGenerator.this._jSTypeUtil.getTsTypeName(it.getType());
+        }
+      };
+      final Iterable<String> tsTypeNames = IterableExtensions.<FField, String>map(field, _function);
+      final Function1<String, Boolean> _function_1 = new Function1<String, Boolean>() {
+        @Override
+        public Boolean apply(final String it) {
+          return Boolean.valueOf(it.equals(structTypeName));
+        }
+      };
+      int _length = ((Object[])Conversions.unwrapArray(IterableExtensions.<String>filter(tsTypeNames, _function_1), Object.class)).length;
+      _xblockexpression = (_length > 0);
+    }
+    return _xblockexpression;
+  }
+
+  public CharSequence generateStructType(final FStructType type, final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String generationDate = new Date().toString();
+    _builder.newLineIfNotEmpty();
+    final EList<FField> members = this._jSTypeUtil.getMembers(type);
+    _builder.newLineIfNotEmpty();
+    final Iterable<FField> membersRecursive = this._jSTypeUtil.getMembersRecursive(type);
+    _builder.newLineIfNotEmpty();
+    {
+      FStructType _base = type.getBase();
+      boolean _tripleEquals = (_base == null);
+      if (_tripleEquals) {
+        _builder.append("import JoynrCompound = require(\"joynr/joynr/types/JoynrCompound\");");
+        _builder.newLine();
+      } else {
+        {
+          boolean _hasImport = this.hasImport(membersRecursive, type.getBase());
+          boolean _not = (!_hasImport);
+          if (_not) {
+            _builder.append("import ");
+            String _tsTypeName = this._jSTypeUtil.getTsTypeName(type.getBase());
+            _builder.append(_tsTypeName);
+            _builder.append(" = require(\"");
+            String _relativeImportPath = this._jSTypeUtil.getRelativeImportPath(type.getBase(), type, generateVersion);
+            _builder.append(_relativeImportPath);
+            _builder.append("\");");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+      }
+    }
+    final Iterable<FField> filteredImports = this.filterDuplicateTypeNames(membersRecursive);
+    _builder.newLineIfNotEmpty();
+    {
+      for(final FField member : filteredImports) {
+        final String importPath = this._jSTypeUtil.getRelativeImportPath(member, type, generateVersion);
+        _builder.newLineIfNotEmpty();
+        {
+          if ((importPath != null)) {
+            _builder.append("import ");
+            String _tsTypeName_1 = this._jSTypeUtil.getTsTypeName(member.getType());
+            _builder.append(_tsTypeName_1);
+            _builder.append(" = require(\"");
+            _builder.append(importPath);
+            _builder.append("\");");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+      }
+    }
+    _builder.newLine();
+    _builder.append("namespace ");
+    String _joynrName = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName);
+    _builder.append(" {");
+    _builder.newLineIfNotEmpty();
+    {
+      int _length = ((Object[])Conversions.unwrapArray(membersRecursive, Object.class)).length;
+      boolean _greaterThan = (_length > 0);
+      if (_greaterThan) {
+        _builder.append("\t");
+        _builder.append("export interface ");
+        String _joynrName_1 = this._namingUtil.joynrName(type);
+        _builder.append(_joynrName_1, "\t");
+        _builder.append("Members {");
+        _builder.newLineIfNotEmpty();
+        {
+          for(final FField member_1 : membersRecursive) {
+            _builder.append("\t");
+            _builder.append("\t");
+            String _joynrName_2 = this._namingUtil.joynrName(member_1);
+            _builder.append(_joynrName_2, "\t\t");
+            _builder.append(": ");
+            String _tsTypeName_2 = this._jSTypeUtil.getTsTypeName(member_1);
+            _builder.append(_tsTypeName_2, "\t\t");
+            _builder.append(";");
+            _builder.newLineIfNotEmpty();
+          }
+        }
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+      } else {
+        _builder.append("\t");
+        _builder.append("export type ");
+        String _joynrName_3 = this._namingUtil.joynrName(type);
+        _builder.append(_joynrName_3, "\t");
+        _builder.append("Members = {} | void;");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* This is the generated struct type ");
+    String _joynrName_4 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_4, " ");
+    _builder.append(": DOCS GENERATED FROM INTERFACE DESCRIPTION");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("* <br/>Generation date: ");
+    _builder.append(generationDate, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    CharSequence _appendJSDocSummaryAndWriteSeeAndDescription = this._jSTypeUtil.appendJSDocSummaryAndWriteSeeAndDescription(type, "* ");
+    _builder.append(_appendJSDocSummaryAndWriteSeeAndDescription, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("class ");
+    String _joynrName_5 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_5);
+    _builder.append(" extends ");
+    {
+      FStructType _base_1 = type.getBase();
+      boolean _tripleEquals_1 = (_base_1 == null);
+      if (_tripleEquals_1) {
+        _builder.append("JoynrCompound");
+      } else {
+        String _joynrName_6 = this._namingUtil.joynrName(type.getBase());
+        _builder.append(_joynrName_6);
+      }
+    }
+    _builder.append(" {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("public static _typeName: string = \"");
+    String _joynrTypeName = this._joynrJSGeneratorExtensions.getJoynrTypeName(type, generateVersion);
+    _builder.append(_joynrTypeName, "\t");
+    _builder.append("\";");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("public _typeName: string = \"");
+    String _joynrTypeName_1 = this._joynrJSGeneratorExtensions.getJoynrTypeName(type, generateVersion);
+    _builder.append(_joynrTypeName_1, "\t");
+    _builder.append("\";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      for(final FField member_2 : members) {
+        {
+          FAnnotationBlock _comment = member_2.getComment();
+          boolean _tripleNotEquals = (_comment != null);
+          if (_tripleNotEquals) {
+            _builder.append("\t");
+            _builder.append("/**");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* ");
+            {
+              EList<FAnnotation> _elements = member_2.getComment().getElements();
+              for(final FAnnotation comment : _elements) {
+                String _replaceAll = comment.getComment().replaceAll("\n", ("\n" + "* "));
+                _builder.append(_replaceAll, "\t ");
+              }
+            }
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("*/");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t");
+        _builder.append("public ");
+        String _joynrName_7 = this._namingUtil.joynrName(member_2);
+        _builder.append(_joynrName_7, "\t");
+        _builder.append("!: ");
+        String _tsTypeName_3 = this._jSTypeUtil.getTsTypeName(member_2);
+        _builder.append(_tsTypeName_3, "\t");
+        _builder.append(";");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param members - an object containing the individual member elements");
+    _builder.newLine();
+    {
+      for(final FField member_3 : membersRecursive) {
+        _builder.append("\t ");
+        _builder.append("* @param members.");
+        String _joynrName_8 = this._namingUtil.joynrName(member_3);
+        _builder.append(_joynrName_8, "\t ");
+        _builder.append(" - ");
+        {
+          FAnnotationBlock _comment_1 = member_3.getComment();
+          boolean _tripleNotEquals_1 = (_comment_1 != null);
+          if (_tripleNotEquals_1) {
+            {
+              EList<FAnnotation> _elements_1 = member_3.getComment().getElements();
+              for(final FAnnotation comment_1 : _elements_1) {
+                String _replaceAll_1 = comment_1.getComment().replaceAll("\n", ("\n" + "* "));
+                _builder.append(_replaceAll_1, "\t ");
+              }
+            }
+          }
+        }
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public constructor(members: ");
+    String _joynrName_9 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_9, "\t");
+    _builder.append(".");
+    String _joynrName_10 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_10, "\t");
+    _builder.append("Members) {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("super(");
+    {
+      FStructType _base_2 = type.getBase();
+      boolean _tripleNotEquals_2 = (_base_2 != null);
+      if (_tripleNotEquals_2) {
+        _builder.append("members");
+      }
+    }
+    _builder.append(");");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("if (members) {");
+    _builder.newLine();
+    {
+      for(final FField member_4 : members) {
+        _builder.append("\t\t");
+        _builder.append("this.");
+        String _joynrName_11 = this._namingUtil.joynrName(member_4);
+        _builder.append(_joynrName_11, "\t\t");
+        _builder.append(" = members.");
+        String _joynrName_12 = this._namingUtil.joynrName(member_4);
+        _builder.append(_joynrName_12, "\t\t");
+        _builder.append(";");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static checkMembers(_instance: ");
+    String _joynrName_13 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_13, "\t");
+    _builder.append(", _check: Function): void {");
+    _builder.newLineIfNotEmpty();
+    {
+      for(final FField member_5 : membersRecursive) {
+        _builder.append("\t\t");
+        _builder.append("_check(_instance.");
+        String _joynrName_14 = this._namingUtil.joynrName(member_5);
+        _builder.append(_joynrName_14, "\t\t");
+        _builder.append(", ");
+        String _checkPropertyTypeName = this._jSTypeUtil.checkPropertyTypeName(member_5);
+        _builder.append(_checkPropertyTypeName, "\t\t");
+        _builder.append(", \"members.");
+        String _joynrName_15 = this._namingUtil.joynrName(member_5);
+        _builder.append(_joynrName_15, "\t\t");
+        _builder.append("\");");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* The MAJOR_VERSION of the struct type ");
+    String _joynrName_16 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_16, "\t ");
+    _builder.append(" is GENERATED FROM THE INTERFACE DESCRIPTION");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static MAJOR_VERSION = ");
+    _builder.append(this.majorVersion, "\t");
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* The MINOR_VERSION of the struct type ");
+    String _joynrName_17 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_17, "\t ");
+    _builder.append(" is GENERATED FROM THE INTERFACE DESCRIPTION");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static MINOR_VERSION = ");
+    _builder.append(this.minorVersion, "\t");
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static readonly _memberTypes: Record<string, string> = {");
+    _builder.newLine();
+    {
+      boolean _hasElements = false;
+      for(final FField member_6 : membersRecursive) {
+        if (!_hasElements) {
+          _hasElements = true;
+        } else {
+          _builder.appendImmediate(",", "\t\t");
+        }
+        _builder.append("\t\t");
+        String _joynrName_18 = this._namingUtil.joynrName(member_6);
+        _builder.append(_joynrName_18, "\t\t");
+        _builder.append(": \"");
+        String _joynrTypeName_2 = this._joynrJSGeneratorExtensions.getJoynrTypeName(member_6, generateVersion);
+        _builder.append(_joynrTypeName_2, "\t\t");
+        _builder.append("\"");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t");
+    _builder.append("};");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static getMemberType(memberName: string): string | undefined {");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("if (");
+    String _joynrName_19 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_19, "\t\t");
+    _builder.append("._memberTypes[memberName] !== undefined) {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t\t");
+    _builder.append("return ");
+    String _joynrName_20 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_20, "\t\t\t");
+    _builder.append("._memberTypes[memberName];");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("export = ");
+    String _joynrName_21 = this._namingUtil.joynrName(type);
+    _builder.append(_joynrName_21);
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
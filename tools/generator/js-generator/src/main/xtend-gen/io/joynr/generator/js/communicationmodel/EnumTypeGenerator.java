@@ -0,0 +1,244 @@
+package io.joynr.generator.js.communicationmodel;
+
+import com.google.inject.Inject;
+import com.google.inject.assistedinject.Assisted;
+import io.joynr.generator.js.util.JSTypeUtil;
+import io.joynr.generator.js.util.JoynrJSGeneratorExtensions;
+import io.joynr.generator.templates.EnumTemplate;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Date;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FAnnotationBlock;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FEnumerator;
+import org.franca.core.franca.FExpression;
+
+@SuppressWarnings("all")
+public class EnumTypeGenerator extends EnumTemplate {
+  @Inject
+  @Extension
+  private JSTypeUtil _jSTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  public EnumTypeGenerator(@Assisted final FEnumerationType type) {
+    super(type);
+  }
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String generationDate = new Date().toString();
+    _builder.newLineIfNotEmpty();
+    final EList<FEnumerator> enumElements = this._jSTypeUtil.getEnumElementsAndBaseEnumElements(this.type);
+    _builder.newLineIfNotEmpty();
+    String _joynrName = this._namingUtil.joynrName(this.type);
+    final String enumNames = (_joynrName + "Names");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("import JoynrEnum = require(\"joynr/joynr/types/JoynrEnum\");");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("namespace ");
+    String _joynrName_1 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_1);
+    _builder.append(" {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("export type ");
+    _builder.append(enumNames, "\t");
+    _builder.append(" =");
+    {
+      boolean _hasElements = false;
+      for(final FEnumerator enumElement : enumElements) {
+        if (!_hasElements) {
+          _hasElements = true;
+        } else {
+          _builder.appendImmediate("|", "\t");
+        }
+        _builder.append(" \"");
+        String _joynrName_2 = this._namingUtil.joynrName(enumElement);
+        _builder.append(_joynrName_2, "\t");
+        _builder.append("\"");
+      }
+    }
+    _builder.newLineIfNotEmpty();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* This is the generated enum type ");
+    String _joynrName_3 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_3, " ");
+    _builder.append(": DOCS GENERATED FROM INTERFACE DESCRIPTION");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("* Generation date: ");
+    _builder.append(generationDate, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("* \t");
+    CharSequence _appendJSDocSummaryAndWriteSeeAndDescription = this._jSTypeUtil.appendJSDocSummaryAndWriteSeeAndDescription(this.type, "* ");
+    _builder.append(_appendJSDocSummaryAndWriteSeeAndDescription, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("class ");
+    String _joynrName_4 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_4);
+    _builder.append(" extends JoynrEnum<");
+    String _joynrName_5 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_5);
+    _builder.append(".");
+    _builder.append(enumNames);
+    _builder.append("> {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("public static _typeName: string = \"");
+    String _joynrTypeName = this._joynrJSGeneratorExtensions.getJoynrTypeName(this.type, generateVersion);
+    _builder.append(_joynrTypeName, "\t");
+    _builder.append("\";");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("public _typeName: string = \"");
+    String _joynrTypeName_1 = this._joynrJSGeneratorExtensions.getJoynrTypeName(this.type, generateVersion);
+    _builder.append(_joynrTypeName_1, "\t");
+    _builder.append("\";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public constructor({name, value}: {name: ");
+    String _joynrName_6 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_6, "\t");
+    _builder.append(".");
+    _builder.append(enumNames, "\t");
+    _builder.append(", value: ");
+    String _joynrName_7 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_7, "\t");
+    _builder.append(".");
+    _builder.append(enumNames, "\t");
+    _builder.append(" | number}){");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("super(name, value);");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* The MAJOR_VERSION of the enum type ");
+    String _joynrName_8 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_8, "\t ");
+    _builder.append(" is GENERATED FROM THE INTERFACE DESCRIPTION");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static MAJOR_VERSION = ");
+    _builder.append(this.majorVersion, "\t");
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* The MINOR_VERSION of the enum type ");
+    String _joynrName_9 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_9, "\t ");
+    _builder.append(" is GENERATED FROM THE INTERFACE DESCRIPTION");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static MINOR_VERSION = ");
+    _builder.append(this.minorVersion, "\t");
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    {
+      for(final FEnumerator enumValue : enumElements) {
+        {
+          FAnnotationBlock _comment = enumValue.getComment();
+          boolean _tripleNotEquals = (_comment != null);
+          if (_tripleNotEquals) {
+            _builder.append("\t");
+            _builder.append("/**");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            CharSequence _appendJSDocSummaryAndWriteSeeAndDescription_1 = this._jSTypeUtil.appendJSDocSummaryAndWriteSeeAndDescription(enumValue, "* ");
+            _builder.append(_appendJSDocSummaryAndWriteSeeAndDescription_1, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("*/");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t");
+        _builder.append("public static ");
+        String _joynrName_10 = this._namingUtil.joynrName(enumValue);
+        _builder.append(_joynrName_10, "\t");
+        _builder.append(" = new ");
+        String _joynrName_11 = this._namingUtil.joynrName(this.type);
+        _builder.append(_joynrName_11, "\t");
+        _builder.append("({");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("\t");
+        _builder.append("name: \"");
+        String _joynrName_12 = this._namingUtil.joynrName(enumValue);
+        _builder.append(_joynrName_12, "\t\t");
+        _builder.append("\",");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("\t");
+        _builder.append("value: ");
+        {
+          FExpression _value = enumValue.getValue();
+          boolean _tripleEquals = (_value == null);
+          if (_tripleEquals) {
+            _builder.append("\"");
+            String _joynrName_13 = this._namingUtil.joynrName(enumValue);
+            _builder.append(_joynrName_13, "\t\t");
+            _builder.append("\"");
+          } else {
+            String _enumeratorValue = this._jSTypeUtil.getEnumeratorValue(enumValue.getValue());
+            _builder.append(_enumeratorValue, "\t\t");
+          }
+        }
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("});");
+        _builder.newLine();
+      }
+    }
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("export = ");
+    String _joynrName_14 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_14);
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    return _builder;
+  }
+}
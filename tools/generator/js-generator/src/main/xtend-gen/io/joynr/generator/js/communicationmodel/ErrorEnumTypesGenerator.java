@@ -0,0 +1,58 @@
+package io.joynr.generator.js.communicationmodel;
+
+import com.google.inject.Inject;
+import io.joynr.generator.js.util.JoynrJSGeneratorExtensions;
+import io.joynr.generator.js.util.JsTemplateFactory;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.HashMap;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FInterface;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FType;
+
+@SuppressWarnings("all")
+public class ErrorEnumTypesGenerator {
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private InterfaceUtil _interfaceUtil;
+
+  @Inject
+  private JsTemplateFactory templateFactory;
+
+  public void generateErrorEnumTypes(final FInterface fInterface, final Iterable<FType> types, final IFileSystemAccess fsa, final boolean generateVersion) {
+    HashMap<FMethod, String> methodToErrorEnumName = this._interfaceUtil.methodToErrorEnumName(fInterface);
+    EList<FMethod> _methods = this._interfaceUtil.getMethods(fInterface);
+    for (final FMethod method : _methods) {
+      {
+        FEnumerationType enumType = method.getErrors();
+        if ((enumType != null)) {
+          enumType.setName(methodToErrorEnumName.get(method));
+          final String path = this._joynrJSGeneratorExtensions.getPackagePathWithJoynrPrefix(enumType, "/", generateVersion);
+          String _joynrName = this._namingUtil.joynrName(enumType);
+          String _plus = ((path + "/") + _joynrName);
+          final String fileName = (_plus + ".ts");
+          if (this._joynrJSGeneratorExtensions.clean) {
+            fsa.deleteFile(fileName);
+          }
+          if (this._joynrJSGeneratorExtensions.generate) {
+            EnumTypeGenerator enumTypeGenerator = this.templateFactory.createEnumTypeGenerator(enumType);
+            fsa.generateFile(fileName, 
+              enumTypeGenerator.generate(generateVersion));
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package io.joynr.generator.js.communicationmodel;
+
+import com.google.inject.Inject;
+import com.google.inject.assistedinject.Assisted;
+import io.joynr.generator.js.util.JSTypeUtil;
+import io.joynr.generator.js.util.JoynrJSGeneratorExtensions;
+import io.joynr.generator.templates.MapTemplate;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Date;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FMapType;
+
+@SuppressWarnings("all")
+public class MapTypeGenerator extends MapTemplate {
+  @Inject
+  @Extension
+  private JSTypeUtil _jSTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  public MapTypeGenerator(@Assisted final FMapType type) {
+    super(type);
+  }
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String generationDate = new Date().toString();
+    _builder.newLineIfNotEmpty();
+    final String mapType = this._jSTypeUtil.getTsTypeName(this.type.getValueType());
+    _builder.newLineIfNotEmpty();
+    {
+      boolean _isPrimitive = this._jSTypeUtil.isPrimitive(this.type.getValueType());
+      boolean _not = (!_isPrimitive);
+      if (_not) {
+        _builder.append("import ");
+        String _tsTypeName = this._jSTypeUtil.getTsTypeName(this.type.getValueType());
+        _builder.append(_tsTypeName);
+        _builder.append(" = require(\"");
+        String _relativeImportPath = this._jSTypeUtil.getRelativeImportPath(this.type.getValueType(), this.type, generateVersion);
+        _builder.append(_relativeImportPath);
+        _builder.append("\")");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("import JoynrMap = require(\"joynr/joynr/types/JoynrMap\");");
+    _builder.newLine();
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* This is the generated map type ");
+    String _joynrName = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName, " ");
+    _builder.append(": DOCS GENERATED FROM INTERFACE DESCRIPTION");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("* Generation date: ");
+    _builder.append(generationDate, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    CharSequence _appendJSDocSummaryAndWriteSeeAndDescription = this._jSTypeUtil.appendJSDocSummaryAndWriteSeeAndDescription(this.type, "* ");
+    _builder.append(_appendJSDocSummaryAndWriteSeeAndDescription, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("class ");
+    String _joynrName_1 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_1);
+    _builder.append(" extends JoynrMap<");
+    _builder.append(mapType);
+    _builder.append("> {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("public static _typeName: string = \"");
+    String _joynrTypeName = this._joynrJSGeneratorExtensions.getJoynrTypeName(this.type, generateVersion);
+    _builder.append(_joynrTypeName, "\t");
+    _builder.append("\";");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("public _typeName: string = \"");
+    String _joynrTypeName_1 = this._joynrJSGeneratorExtensions.getJoynrTypeName(this.type, generateVersion);
+    _builder.append(_joynrTypeName_1, "\t");
+    _builder.append("\";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public constructor(settings?: Record<string, ");
+    _builder.append(mapType, "\t");
+    _builder.append(">){");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("super(settings);");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static checkMembers(instance: any, check: Function): void {");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("for (const memberKey in instance) {");
+    _builder.newLine();
+    _builder.append("\t\t\t");
+    _builder.append("if (Object.prototype.hasOwnProperty.call(instance, memberKey)) {");
+    _builder.newLine();
+    _builder.append("\t\t\t\t");
+    _builder.append("if (memberKey !== \"_typeName\") {");
+    _builder.newLine();
+    _builder.append("\t\t\t\t\t");
+    _builder.append("check(instance[memberKey], ");
+    String _checkPropertyTypeName = this._jSTypeUtil.checkPropertyTypeName(this.type.getValueType(), false);
+    _builder.append(_checkPropertyTypeName, "\t\t\t\t\t");
+    _builder.append(", memberKey);");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t\t\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("\t\t\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* The MAJOR_VERSION of the map type ");
+    String _joynrName_2 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_2, "\t ");
+    _builder.append(" is GENERATED FROM THE INTERFACE DESCRIPTION");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static MAJOR_VERSION = ");
+    _builder.append(this.majorVersion, "\t");
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* The MINOR_VERSION of the map type ");
+    String _joynrName_3 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_3, "\t ");
+    _builder.append(" is GENERATED FROM THE INTERFACE DESCRIPTION");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static MINOR_VERSION = ");
+    _builder.append(this.minorVersion, "\t");
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("export = ");
+    String _joynrName_4 = this._namingUtil.joynrName(this.type);
+    _builder.append(_joynrName_4);
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    return _builder;
+  }
+}
@@ -0,0 +1,85 @@
+package io.joynr.generator.js.communicationmodel;
+
+import com.google.inject.Inject;
+import io.joynr.generator.js.util.JoynrJSGeneratorExtensions;
+import io.joynr.generator.js.util.JsTemplateFactory;
+import io.joynr.generator.templates.util.NamingUtil;
+import io.joynr.generator.templates.util.TypeUtil;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FMapType;
+import org.franca.core.franca.FType;
+
+@SuppressWarnings("all")
+public class TypesGenerator {
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private TypeUtil _typeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  private JsTemplateFactory templateFactory;
+
+  public void generateTypes(final Iterable<FType> types, final IFileSystemAccess fsa, final boolean generateVersion) {
+    Iterable<FType> _filterComplex = this._typeUtil.filterComplex(types);
+    for (final FType type : _filterComplex) {
+      {
+        final String path = this._joynrJSGeneratorExtensions.buildPackagePath(type, "/", true, generateVersion);
+        String _joynrName = this._namingUtil.joynrName(type);
+        String _plus = ((path + "/") + _joynrName);
+        final String fileName = (_plus + ".ts");
+        if (this._joynrJSGeneratorExtensions.clean) {
+          fsa.deleteFile(fileName);
+        }
+        if (this._joynrJSGeneratorExtensions.generate) {
+          fsa.generateFile(fileName, 
+            this.generateType(type, generateVersion));
+        }
+      }
+    }
+  }
+
+  public CharSequence generateType(final FType type, final boolean generateVersion) {
+    CharSequence _xifexpression = null;
+    if ((type instanceof FEnumerationType)) {
+      CharSequence _xblockexpression = null;
+      {
+        EnumTypeGenerator enumTypeGenerator = this.templateFactory.createEnumTypeGenerator(((FEnumerationType)type));
+        _xblockexpression = enumTypeGenerator.generate(generateVersion);
+      }
+      _xifexpression = _xblockexpression;
+    } else {
+      CharSequence _xifexpression_1 = null;
+      if ((type instanceof FCompoundType)) {
+        CharSequence _xblockexpression_1 = null;
+        {
+          CompoundTypeGenerator compoundTypeGenerator = this.templateFactory.createCompoundTypeGenerator(((FCompoundType)type));
+          _xblockexpression_1 = compoundTypeGenerator.generate(generateVersion);
+        }
+        _xifexpression_1 = _xblockexpression_1;
+      } else {
+        CharSequence _xifexpression_2 = null;
+        if ((type instanceof FMapType)) {
+          CharSequence _xblockexpression_2 = null;
+          {
+            MapTypeGenerator mapTypeGenerator = this.templateFactory.createMapTypeGenerator(((FMapType)type));
+            _xblockexpression_2 = mapTypeGenerator.generate(generateVersion);
+          }
+          _xifexpression_2 = _xblockexpression_2;
+        }
+        _xifexpression_1 = _xifexpression_2;
+      }
+      _xifexpression = _xifexpression_1;
+    }
+    return _xifexpression;
+  }
+}
@@ -0,0 +1,952 @@
+package io.joynr.generator.js.provider;
+
+import com.google.inject.Inject;
+import io.joynr.generator.js.templates.InterfaceJsTemplate;
+import io.joynr.generator.js.util.JSTypeUtil;
+import io.joynr.generator.js.util.JoynrJSGeneratorExtensions;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.MethodUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Conversions;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IntegerRange;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FBroadcast;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FType;
+
+@SuppressWarnings("all")
+public class ProviderGenerator extends InterfaceJsTemplate {
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private JSTypeUtil _jSTypeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  @Inject
+  @Extension
+  private InterfaceUtil _interfaceUtil;
+
+  public String relativePathToBase() {
+    String relativePath = "";
+    for (int i = 0; (i < this.packagePathDepth); i++) {
+      String _relativePath = relativePath;
+      relativePath = (_relativePath + "../");
+    }
+    return relativePath;
+  }
+
+  public void generateProvider(final IFileSystemAccess fsa, final boolean generateVersion) {
+    super.generate(generateVersion);
+    String _providerName = this.getProviderName();
+    String _plus = ((this.path + "") + _providerName);
+    String fileName = (_plus + ".ts");
+    if (this._joynrJSGeneratorExtensions.clean) {
+      fsa.deleteFile(fileName);
+    }
+    if (this._joynrJSGeneratorExtensions.generate) {
+      fsa.generateFile(fileName, 
+        this.generate(generateVersion).toString());
+    }
+  }
+
+  public String getProviderName() {
+    String _joynrName = this._namingUtil.joynrName(this.francaIntf);
+    return (_joynrName + "Provider");
+  }
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    StringConcatenation _builder = new StringConcatenation();
+    final String generationDate = new Date().toString();
+    _builder.newLineIfNotEmpty();
+    final EList<FAttribute> attributes = this._interfaceUtil.getAttributes(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    final HashSet<String> methodNames = this._interfaceUtil.getMethodNames(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    final HashMap<FMethod, String> methodToErrorEnumName = this._interfaceUtil.methodToErrorEnumName(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    final EList<FBroadcast> events = this._interfaceUtil.getEvents(this.francaIntf);
+    _builder.newLineIfNotEmpty();
+    {
+      Iterable<FType> _allComplexTypes = this._interfaceUtil.getAllComplexTypes(this.francaIntf, this._jSTypeUtil.getTypeSelectorIncludingErrorTypesAndTransitiveTypes());
+      for(final FType datatype : _allComplexTypes) {
+        _builder.append("import ");
+        String _joynrName = this._namingUtil.joynrName(datatype);
+        _builder.append(_joynrName);
+        _builder.append(" = require(\"");
+        String _relativePathToBase = this.relativePathToBase();
+        String _dependencyPath = this._jSTypeUtil.getDependencyPath(datatype, generateVersion);
+        String _plus = (_relativePathToBase + _dependencyPath);
+        _builder.append(_plus);
+        _builder.append("\");");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    {
+      int _length = ((Object[])Conversions.unwrapArray(attributes, Object.class)).length;
+      boolean _greaterThan = (_length > 0);
+      if (_greaterThan) {
+        _builder.append("import {");
+        {
+          List<String> _providerAttributeNames = this._joynrJSGeneratorExtensions.getProviderAttributeNames(attributes);
+          boolean _hasElements = false;
+          for(final String attributeType : _providerAttributeNames) {
+            if (!_hasElements) {
+              _hasElements = true;
+            } else {
+              _builder.appendImmediate(",", "");
+            }
+            _builder.append(attributeType);
+            _builder.append(" ");
+          }
+        }
+        _builder.append("} from \"joynr/joynr/provider/ProviderAttribute\";");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    {
+      int _length_1 = ((Object[])Conversions.unwrapArray(methodNames, Object.class)).length;
+      boolean _greaterThan_1 = (_length_1 > 0);
+      if (_greaterThan_1) {
+        _builder.append("import ProviderOperation = require(\"joynr/joynr/provider/ProviderOperation\");");
+        _builder.newLine();
+      }
+    }
+    {
+      int _length_2 = ((Object[])Conversions.unwrapArray(events, Object.class)).length;
+      boolean _greaterThan_2 = (_length_2 > 0);
+      if (_greaterThan_2) {
+        _builder.append("import ProviderEvent = require(\"joynr/joynr/provider/ProviderEvent\");");
+        _builder.newLine();
+      }
+    }
+    _builder.append("import {");
+    {
+      List<String> _joynrProviderImports = this._joynrJSGeneratorExtensions.getJoynrProviderImports(attributes);
+      boolean _hasElements_1 = false;
+      for(final String attributeType_1 : _joynrProviderImports) {
+        if (!_hasElements_1) {
+          _hasElements_1 = true;
+        } else {
+          _builder.appendImmediate(",", "");
+        }
+        _builder.append(attributeType_1);
+        _builder.append(" ");
+      }
+    }
+    _builder.append("} from \"joynr/joynr/types/JoynrProvider\";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("namespace ");
+    String _providerName = this.getProviderName();
+    _builder.append(_providerName);
+    _builder.append(" {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t");
+    _builder.append("export interface ");
+    String _providerName_1 = this.getProviderName();
+    _builder.append(_providerName_1, "\t");
+    _builder.append("Implementation {");
+    _builder.newLineIfNotEmpty();
+    {
+      for(final FAttribute attribute : attributes) {
+        _builder.append("\t\t");
+        final String attributeName = this._namingUtil.joynrName(attribute);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t");
+        _builder.append(attributeName, "\t\t");
+        _builder.append(": ");
+        CharSequence _providerAttributeImplName = this._joynrJSGeneratorExtensions.getProviderAttributeImplName(attribute);
+        _builder.append(_providerAttributeImplName, "\t\t");
+        _builder.append("<");
+        String _tsTypeName = this._jSTypeUtil.getTsTypeName(attribute);
+        _builder.append(_tsTypeName, "\t\t");
+        _builder.append(">;");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    {
+      for(final String methodName : methodNames) {
+        _builder.append("\t\t");
+        _builder.append(methodName, "\t\t");
+        _builder.append(": ");
+        String _firstUpper = StringExtensions.toFirstUpper(methodName);
+        _builder.append(_firstUpper, "\t\t");
+        _builder.append("Signature;");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    {
+      for(final FBroadcast event : events) {
+        _builder.append("\t\t");
+        _builder.append("/** Broadcast.fire methods will be added to implementation during provider registration **/");
+        _builder.newLine();
+        _builder.append("\t\t");
+        String _joynrName_1 = this._namingUtil.joynrName(event);
+        _builder.append(_joynrName_1, "\t\t");
+        _builder.append("?: ProviderEvent");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    {
+      for(final String operationName : methodNames) {
+        _builder.append("\t");
+        final ArrayList<FMethod> operations = this._interfaceUtil.getMethods(this.francaIntf, operationName);
+        _builder.newLineIfNotEmpty();
+        {
+          int _size = operations.size();
+          IntegerRange _upTo = new IntegerRange(1, _size);
+          for(final Integer i : _upTo) {
+            _builder.append("\t");
+            final FMethod operation = operations.get(((i).intValue() - 1));
+            _builder.newLineIfNotEmpty();
+            {
+              int _length_3 = ((Object[])Conversions.unwrapArray(this._methodUtil.getInputParameters(operation), Object.class)).length;
+              boolean _equals = (_length_3 == 0);
+              if (_equals) {
+                _builder.append("\t");
+                _builder.append("export type ");
+                String _firstUpper_1 = StringExtensions.toFirstUpper(operationName);
+                _builder.append(_firstUpper_1, "\t");
+                _builder.append("Args");
+                _builder.append(i, "\t");
+                _builder.append(" = void;");
+                _builder.newLineIfNotEmpty();
+              } else {
+                _builder.append("\t");
+                _builder.append("export interface ");
+                String _firstUpper_2 = StringExtensions.toFirstUpper(operationName);
+                _builder.append(_firstUpper_2, "\t");
+                _builder.append("Args");
+                _builder.append(i, "\t");
+                _builder.append(" {");
+                {
+                  Iterable<FArgument> _inputParameters = this._methodUtil.getInputParameters(operation);
+                  for(final FArgument param : _inputParameters) {
+                    String _joynrName_2 = this._namingUtil.joynrName(param);
+                    _builder.append(_joynrName_2, "\t");
+                    _builder.append(": ");
+                    String _tsTypeName_1 = this._jSTypeUtil.getTsTypeName(param);
+                    _builder.append(_tsTypeName_1, "\t");
+                    _builder.append(";");
+                  }
+                }
+                _builder.append(" }");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+            {
+              int _length_4 = ((Object[])Conversions.unwrapArray(this._methodUtil.getOutputParameters(operation), Object.class)).length;
+              boolean _equals_1 = (_length_4 == 0);
+              if (_equals_1) {
+                _builder.append("\t");
+                _builder.append("export type ");
+                String _firstUpper_3 = StringExtensions.toFirstUpper(operationName);
+                _builder.append(_firstUpper_3, "\t");
+                _builder.append("Returns");
+                _builder.append(i, "\t");
+                _builder.append(" = void;");
+                _builder.newLineIfNotEmpty();
+              } else {
+                _builder.append("\t");
+                _builder.append("export interface ");
+                String _firstUpper_4 = StringExtensions.toFirstUpper(operationName);
+                _builder.append(_firstUpper_4, "\t");
+                _builder.append("Returns");
+                _builder.append(i, "\t");
+                _builder.append(" {");
+                {
+                  Iterable<FArgument> _outputParameters = this._methodUtil.getOutputParameters(operation);
+                  for(final FArgument param_1 : _outputParameters) {
+                    String _joynrName_3 = this._namingUtil.joynrName(param_1);
+                    _builder.append(_joynrName_3, "\t");
+                    _builder.append(": ");
+                    String _tsTypeName_2 = this._jSTypeUtil.getTsTypeName(param_1);
+                    _builder.append(_tsTypeName_2, "\t");
+                    _builder.append("; ");
+                  }
+                }
+                _builder.append("}");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+        _builder.append("\t");
+        _builder.append("export type ");
+        String _firstUpper_5 = StringExtensions.toFirstUpper(operationName);
+        _builder.append(_firstUpper_5, "\t");
+        _builder.append("Signature = ");
+        {
+          int _size_1 = operations.size();
+          IntegerRange _upTo_1 = new IntegerRange(1, _size_1);
+          boolean _hasElements_2 = false;
+          for(final Integer i_1 : _upTo_1) {
+            if (!_hasElements_2) {
+              _hasElements_2 = true;
+              _builder.append("(", "\t");
+            } else {
+              _builder.appendImmediate(")&(", "\t");
+            }
+            _builder.append("(settings: ");
+            String _firstUpper_6 = StringExtensions.toFirstUpper(operationName);
+            _builder.append(_firstUpper_6, "\t");
+            _builder.append("Args");
+            _builder.append(i_1, "\t");
+            _builder.append(") => ");
+            String _firstUpper_7 = StringExtensions.toFirstUpper(operationName);
+            _builder.append(_firstUpper_7, "\t");
+            _builder.append("Returns");
+            _builder.append(i_1, "\t");
+            _builder.append(" | Promise<");
+            String _firstUpper_8 = StringExtensions.toFirstUpper(operationName);
+            _builder.append(_firstUpper_8, "\t");
+            _builder.append("Returns");
+            _builder.append(i_1, "\t");
+            _builder.append(">");
+          }
+          if (_hasElements_2) {
+            _builder.append(")", "\t");
+          }
+        }
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* PLEASE NOTE. THIS IS A GENERATED FILE!");
+    _builder.newLine();
+    _builder.append(" ");
+    _builder.append("* <br/>Generation date: ");
+    _builder.append(generationDate, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    CharSequence _appendJSDocSummaryAndWriteSeeAndDescription = this._jSTypeUtil.appendJSDocSummaryAndWriteSeeAndDescription(this.francaIntf, "* ");
+    _builder.append(_appendJSDocSummaryAndWriteSeeAndDescription, " ");
+    _builder.newLineIfNotEmpty();
+    _builder.append(" ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("class ");
+    String _providerName_2 = this.getProviderName();
+    _builder.append(_providerName_2);
+    _builder.append(" extends JoynrProvider {");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public interfaceName = \"");
+    String _fullyQualifiedName = this._joynrJSGeneratorExtensions.getFullyQualifiedName(this.francaIntf);
+    _builder.append(_fullyQualifiedName, "\t");
+    _builder.append("\";");
+    _builder.newLineIfNotEmpty();
+    {
+      for(final FAttribute attribute_1 : attributes) {
+        _builder.append("\t");
+        final String attributeName_1 = this._namingUtil.joynrName(attribute_1);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @name ");
+        String _providerName_3 = this.getProviderName();
+        _builder.append(_providerName_3, "\t ");
+        _builder.append("#");
+        _builder.append(attributeName_1, "\t ");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @summary The ");
+        _builder.append(attributeName_1, "\t ");
+        _builder.append(" attribute is GENERATED FROM THE INTERFACE DESCRIPTION");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        CharSequence _appendJSDocSummaryAndWriteSeeAndDescription_1 = this._jSTypeUtil.appendJSDocSummaryAndWriteSeeAndDescription(attribute_1, "* ");
+        _builder.append(_appendJSDocSummaryAndWriteSeeAndDescription_1, "\t ");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("public ");
+        _builder.append(attributeName_1, "\t");
+        _builder.append(": ");
+        CharSequence _providerAttributeName = this._joynrJSGeneratorExtensions.getProviderAttributeName(attribute_1);
+        _builder.append(_providerAttributeName, "\t");
+        _builder.append("<");
+        String _tsTypeName_3 = this._jSTypeUtil.getTsTypeName(attribute_1);
+        _builder.append(_tsTypeName_3, "\t");
+        _builder.append(">;");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    {
+      for(final String methodName_1 : methodNames) {
+        _builder.append("\t");
+        final ArrayList<FMethod> operations_1 = this._interfaceUtil.getMethods(this.francaIntf, methodName_1);
+        _builder.newLineIfNotEmpty();
+        {
+          for(final FMethod operation_1 : operations_1) {
+            _builder.append("\t");
+            _builder.append("/**");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @function ");
+            String _providerName_4 = this.getProviderName();
+            _builder.append(_providerName_4, "\t ");
+            _builder.append("#");
+            _builder.append(methodName_1, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("* @summary The ");
+            _builder.append(methodName_1, "\t ");
+            _builder.append(" operation is GENERATED FROM THE INTERFACE DESCRIPTION");
+            _builder.newLineIfNotEmpty();
+            {
+              int _size_2 = operations_1.size();
+              boolean _greaterThan_3 = (_size_2 > 1);
+              if (_greaterThan_3) {
+                _builder.append("\t");
+                _builder.append(" ");
+                _builder.append("* <br/>method overloading: different call semantics possible");
+                _builder.newLine();
+              }
+            }
+            _builder.append("\t");
+            _builder.append(" ");
+            CharSequence _appendJSDocSummaryAndWriteSeeAndDescription_2 = this._jSTypeUtil.appendJSDocSummaryAndWriteSeeAndDescription(operation_1, "* ");
+            _builder.append(_appendJSDocSummaryAndWriteSeeAndDescription_2, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("*");
+            _builder.newLine();
+            _builder.append("\t");
+            _builder.append(" ");
+            CharSequence _writeJSDocForSignature = this._jSTypeUtil.writeJSDocForSignature(this.getProviderName(), operation_1, "* ");
+            _builder.append(_writeJSDocForSignature, "\t ");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t");
+            _builder.append(" ");
+            _builder.append("*/");
+            _builder.newLine();
+            {
+              int _size_3 = IterableExtensions.size(this._methodUtil.getOutputParameters(operation_1));
+              boolean _greaterThan_4 = (_size_3 > 0);
+              if (_greaterThan_4) {
+                _builder.append("\t");
+                _builder.append("/**");
+                _builder.newLine();
+                _builder.append("\t");
+                _builder.append(" ");
+                CharSequence _writeJSDocTypedefForSignature = this._jSTypeUtil.writeJSDocTypedefForSignature(this.getProviderName(), operation_1, methodName_1, "* ");
+                _builder.append(_writeJSDocTypedefForSignature, "\t ");
+                _builder.newLineIfNotEmpty();
+                _builder.append("\t");
+                _builder.append(" ");
+                _builder.append("*/");
+                _builder.newLine();
+              }
+            }
+          }
+        }
+        _builder.append("\t");
+        _builder.append("public ");
+        _builder.append(methodName_1, "\t");
+        _builder.append(": ProviderOperation;");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    {
+      for(final FBroadcast event_1 : events) {
+        _builder.append("\t");
+        final String eventName = this._namingUtil.joynrName(event_1);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append("/**");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @name ");
+        String _providerName_5 = this.getProviderName();
+        _builder.append(_providerName_5, "\t ");
+        _builder.append("#");
+        _builder.append(eventName, "\t ");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("* @summary The ");
+        _builder.append(eventName, "\t ");
+        _builder.append(" event is GENERATED FROM THE INTERFACE DESCRIPTION");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        CharSequence _appendJSDocSummaryAndWriteSeeAndDescription_3 = this._jSTypeUtil.appendJSDocSummaryAndWriteSeeAndDescription(event_1, "* ");
+        _builder.append(_appendJSDocSummaryAndWriteSeeAndDescription_3, "\t ");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t");
+        _builder.append(" ");
+        _builder.append("*/");
+        _builder.newLine();
+        _builder.append("\t");
+        _builder.append("public ");
+        _builder.append(eventName, "\t");
+        _builder.append(": ProviderEvent;");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param [implementation] the implementation of the provider");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param [implementation.ATTRIBUTENAME] the definition of attribute implementation");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param [implementation.ATTRIBUTENAME.set] the getter function that stores the given attribute value");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param [implementation.ATTRIBUTENAME.get] the getter function that returns the current attribute value");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param [implementation.OPERATIONNAME] the operation function");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* @param [implementation.EVENTNAME] the definition of the event implementation");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public constructor(implementation: ");
+    String _providerName_6 = this.getProviderName();
+    _builder.append(_providerName_6, "\t");
+    _builder.append(".");
+    String _providerName_7 = this.getProviderName();
+    _builder.append(_providerName_7, "\t");
+    _builder.append("Implementation) {");
+    _builder.newLineIfNotEmpty();
+    _builder.append("\t\t");
+    _builder.append("super();");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("// defining provider members");
+    _builder.newLine();
+    {
+      for(final FAttribute attribute_2 : attributes) {
+        _builder.append("\t\t");
+        final String attributeName_2 = this._namingUtil.joynrName(attribute_2);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t");
+        _builder.append("this.");
+        _builder.append(attributeName_2, "\t\t");
+        _builder.append(" = new ");
+        CharSequence _providerAttributeName_1 = this._joynrJSGeneratorExtensions.getProviderAttributeName(attribute_2);
+        _builder.append(_providerAttributeName_1, "\t\t");
+        _builder.append("<");
+        String _tsTypeName_4 = this._jSTypeUtil.getTsTypeName(attribute_2);
+        _builder.append(_tsTypeName_4, "\t\t");
+        _builder.append(">(this, implementation.");
+        _builder.append(attributeName_2, "\t\t");
+        _builder.append(", \"");
+        _builder.append(attributeName_2, "\t\t");
+        _builder.append("\", \"");
+        String _joynrTypeName = this._joynrJSGeneratorExtensions.getJoynrTypeName(attribute_2, generateVersion);
+        _builder.append(_joynrTypeName, "\t\t");
+        _builder.append("\");");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.newLine();
+    {
+      for(final String methodName_2 : methodNames) {
+        _builder.append("\t\t");
+        _builder.append("this.");
+        _builder.append(methodName_2, "\t\t");
+        _builder.append(" = new ProviderOperation(implementation.");
+        _builder.append(methodName_2, "\t\t");
+        _builder.append(", \"");
+        _builder.append(methodName_2, "\t\t");
+        _builder.append("\", [");
+        _builder.newLineIfNotEmpty();
+        {
+          ArrayList<FMethod> _methods = this._interfaceUtil.getMethods(this.francaIntf, methodName_2);
+          boolean _hasElements_3 = false;
+          for(final FMethod operation_2 : _methods) {
+            if (!_hasElements_3) {
+              _hasElements_3 = true;
+            } else {
+              _builder.appendImmediate(",", "\t\t\t");
+            }
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("inputParameter: [");
+            _builder.newLine();
+            {
+              Iterable<FArgument> _inputParameters_1 = this._methodUtil.getInputParameters(operation_2);
+              boolean _hasElements_4 = false;
+              for(final FArgument param_2 : _inputParameters_1) {
+                if (!_hasElements_4) {
+                  _hasElements_4 = true;
+                } else {
+                  _builder.appendImmediate(",", "\t\t\t\t\t");
+                }
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("{");
+                _builder.newLine();
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("name : \"");
+                String _joynrName_4 = this._namingUtil.joynrName(param_2);
+                _builder.append(_joynrName_4, "\t\t\t\t\t\t");
+                _builder.append("\",");
+                _builder.newLineIfNotEmpty();
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("type : \"");
+                String _joynrTypeName_1 = this._joynrJSGeneratorExtensions.getJoynrTypeName(param_2, generateVersion);
+                _builder.append(_joynrTypeName_1, "\t\t\t\t\t\t");
+                _builder.append("\"");
+                _builder.newLineIfNotEmpty();
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("}");
+                _builder.newLine();
+              }
+            }
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("],");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("error: {");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("\t\t");
+            _builder.append("type: \"");
+            String _determErrorTypeName = this.determErrorTypeName(operation_2, methodToErrorEnumName.get(operation_2), generateVersion);
+            _builder.append(_determErrorTypeName, "\t\t\t\t\t");
+            _builder.append("\"");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("},");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("outputParameter: [");
+            _builder.newLine();
+            {
+              Iterable<FArgument> _outputParameters_1 = this._methodUtil.getOutputParameters(operation_2);
+              boolean _hasElements_5 = false;
+              for(final FArgument param_3 : _outputParameters_1) {
+                if (!_hasElements_5) {
+                  _hasElements_5 = true;
+                } else {
+                  _builder.appendImmediate(",", "\t\t\t\t\t");
+                }
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("{");
+                _builder.newLine();
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("name : \"");
+                String _joynrName_5 = this._namingUtil.joynrName(param_3);
+                _builder.append(_joynrName_5, "\t\t\t\t\t\t");
+                _builder.append("\",");
+                _builder.newLineIfNotEmpty();
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("type : \"");
+                String _joynrTypeName_2 = this._joynrJSGeneratorExtensions.getJoynrTypeName(param_3, generateVersion);
+                _builder.append(_joynrTypeName_2, "\t\t\t\t\t\t");
+                _builder.append("\"");
+                _builder.newLineIfNotEmpty();
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("\t\t");
+                _builder.append("}");
+                _builder.newLine();
+              }
+            }
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("\t");
+            _builder.append("]");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("}");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t\t");
+        _builder.append("]);");
+        _builder.newLine();
+      }
+    }
+    _builder.newLine();
+    {
+      for(final FBroadcast event_2 : events) {
+        _builder.append("\t\t");
+        final ArrayList<String> filterParameters = this._broadcastUtil.getFilterParameters(event_2);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t");
+        final String eventName_1 = this._namingUtil.joynrName(event_2);
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t");
+        _builder.append("this.");
+        _builder.append(eventName_1, "\t\t");
+        _builder.append(" = new ProviderEvent({");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t");
+        _builder.append("\t");
+        _builder.append("eventName : \"");
+        _builder.append(eventName_1, "\t\t\t");
+        _builder.append("\",");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t");
+        _builder.append("\t");
+        _builder.append("outputParameterProperties : [");
+        _builder.newLine();
+        {
+          Iterable<FArgument> _outputParameters_2 = this._broadcastUtil.getOutputParameters(event_2);
+          boolean _hasElements_6 = false;
+          for(final FArgument param_4 : _outputParameters_2) {
+            if (!_hasElements_6) {
+              _hasElements_6 = true;
+            } else {
+              _builder.appendImmediate(",", "\t\t\t\t");
+            }
+            _builder.append("\t\t");
+            _builder.append("\t\t");
+            _builder.append("{");
+            _builder.newLine();
+            _builder.append("\t\t");
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("name : \"");
+            String _joynrName_6 = this._namingUtil.joynrName(param_4);
+            _builder.append(_joynrName_6, "\t\t\t\t\t");
+            _builder.append("\",");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append("\t\t");
+            _builder.append("\t");
+            _builder.append("type : \"");
+            String _joynrTypeName_3 = this._joynrJSGeneratorExtensions.getJoynrTypeName(param_4, generateVersion);
+            _builder.append(_joynrTypeName_3, "\t\t\t\t\t");
+            _builder.append("\"");
+            _builder.newLineIfNotEmpty();
+            _builder.append("\t\t");
+            _builder.append("\t\t");
+            _builder.append("}");
+            _builder.newLine();
+          }
+        }
+        _builder.append("\t\t");
+        _builder.append("\t");
+        _builder.append("],");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("\t");
+        _builder.append("selective : ");
+        boolean _isSelective = event_2.isSelective();
+        _builder.append(_isSelective, "\t\t\t");
+        _builder.append(",");
+        _builder.newLineIfNotEmpty();
+        _builder.append("\t\t");
+        _builder.append("\t");
+        _builder.append("filterSettings : {");
+        _builder.newLine();
+        {
+          boolean _isSelective_1 = event_2.isSelective();
+          if (_isSelective_1) {
+            {
+              boolean _hasElements_7 = false;
+              for(final String filterParameter : filterParameters) {
+                if (!_hasElements_7) {
+                  _hasElements_7 = true;
+                } else {
+                  _builder.appendImmediate(",", "\t\t\t");
+                }
+                _builder.append("\t\t");
+                _builder.append("\t");
+                _builder.append("\"");
+                _builder.append(filterParameter, "\t\t\t");
+                _builder.append("\": \"reservedForTypeInfo\"");
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+        _builder.append("\t\t");
+        _builder.append("\t");
+        _builder.append("}");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("});");
+        _builder.newLine();
+        _builder.append("\t\t");
+        _builder.append("implementation.");
+        _builder.append(eventName_1, "\t\t");
+        _builder.append(" = this.");
+        _builder.append(eventName_1, "\t\t");
+        _builder.append(";");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* The MAJOR_VERSION of the provider is GENERATED FROM THE INTERFACE DESCRIPTION");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static MAJOR_VERSION = ");
+    _builder.append(this.majorVersion, "\t");
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("/**");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("* The MINOR_VERSION of the provider is GENERATED FROM THE INTERFACE DESCRIPTION");
+    _builder.newLine();
+    _builder.append("\t ");
+    _builder.append("*/");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static MINOR_VERSION = ");
+    _builder.append(this.minorVersion, "\t");
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("public static getUsedJoynrtypes(): any[] {");
+    _builder.newLine();
+    _builder.append("\t\t");
+    _builder.append("return [");
+    _builder.newLine();
+    {
+      Iterable<FType> _allComplexTypes_1 = this._interfaceUtil.getAllComplexTypes(this.francaIntf, this._jSTypeUtil.getTypeSelectorIncludingErrorTypesAndTransitiveTypes());
+      boolean _hasElements_8 = false;
+      for(final FType datatype_1 : _allComplexTypes_1) {
+        if (!_hasElements_8) {
+          _hasElements_8 = true;
+        } else {
+          _builder.appendImmediate(",", "\t\t\t");
+        }
+        _builder.append("\t\t\t");
+        String _joynrName_7 = this._namingUtil.joynrName(datatype_1);
+        _builder.append(_joynrName_7, "\t\t\t");
+        _builder.newLineIfNotEmpty();
+      }
+    }
+    _builder.append("\t\t");
+    _builder.append("];");
+    _builder.newLine();
+    _builder.append("\t");
+    _builder.append("}");
+    _builder.newLine();
+    _builder.append("}");
+    _builder.newLine();
+    _builder.newLine();
+    _builder.append("export = ");
+    String _providerName_8 = this.getProviderName();
+    _builder.append(_providerName_8);
+    _builder.append(";");
+    _builder.newLineIfNotEmpty();
+    _builder.newLine();
+    return _builder;
+  }
+
+  public String determErrorTypeName(final FMethod method, final String errorEnumName, final boolean generateVersion) {
+    FEnumerationType enumType = method.getErrors();
+    if ((enumType != null)) {
+      enumType.setName(errorEnumName);
+      return this._jSTypeUtil.getTypeNameForErrorEnumType(method, enumType, generateVersion);
+    } else {
+      FEnumerationType _errorEnum = method.getErrorEnum();
+      boolean _tripleNotEquals = (_errorEnum != null);
+      if (_tripleNotEquals) {
+        return this._joynrJSGeneratorExtensions.getJoynrTypeName(method.getErrorEnum(), generateVersion);
+      } else {
+        return "no error enumeration given";
+      }
+    }
+  }
+}
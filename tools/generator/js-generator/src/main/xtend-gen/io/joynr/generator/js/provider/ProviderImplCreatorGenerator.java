@@ -0,0 +1,550 @@
+package io.joynr.generator.js.provider;
+
+import com.google.common.base.Objects;
+import com.google.inject.Inject;
+import io.joynr.generator.js.templates.InterfaceJsTemplate;
+import io.joynr.generator.js.util.JSTypeUtil;
+import io.joynr.generator.js.util.JoynrJSGeneratorExtensions;
+import io.joynr.generator.templates.util.AttributeUtil;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.MethodUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.generator.IFileSystemAccess;
+import org.eclipse.xtext.xbase.lib.Conversions;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IntegerRange;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FAttribute;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FType;
+
+@SuppressWarnings("all")
+public class ProviderImplCreatorGenerator extends InterfaceJsTemplate {
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private JSTypeUtil _jSTypeUtil;
+
+  @Inject
+  @Extension
+  private AttributeUtil _attributeUtil;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  @Inject
+  @Extension
+  private InterfaceUtil _interfaceUtil;
+
+  public String relativePathToBase() {
+    String relativePath = "";
+    for (int i = 0; (i < this.packagePathDepth); i++) {
+      String _relativePath = relativePath;
+      relativePath = (_relativePath + "../");
+    }
+    return relativePath;
+  }
+
+  public void generateProvider(final IFileSystemAccess fsa, final boolean generateVersion) {
+    super.generate(generateVersion);
+    String _providerName = this.getProviderName();
+    String _plus = ((this.path + "") + _providerName);
+    String fileName = (_plus + "ImplementationCreator.ts");
+    if (this._joynrJSGeneratorExtensions.clean) {
+      fsa.deleteFile(fileName);
+    }
+    if (this._joynrJSGeneratorExtensions.generate) {
+      fsa.generateFile(fileName, 
+        this.generate(generateVersion).toString());
+    }
+  }
+
+  public String getProviderName() {
+    String _joynrName = this._namingUtil.joynrName(this.francaIntf);
+    return (_joynrName + "Provider");
+  }
+
+  public boolean attributesContainDatatype(final FType type) {
+    final EList<FAttribute> attributes = this._interfaceUtil.getAttributes(this.francaIntf);
+    for (final FAttribute attribute : attributes) {
+      {
+        String _tsTypeName = this._jSTypeUtil.getTsTypeName(attribute);
+        int _length = this._jSTypeUtil.getTsTypeName(attribute).length();
+        int _minus = (_length - 2);
+        final String attributeNameTrimmed = _tsTypeName.substring(0, _minus);
+        if ((Objects.equal(this._jSTypeUtil.getTsTypeName(attribute), this._jSTypeUtil.getTsTypeName(type)) || Objects.equal(attributeNameTrimmed, this._jSTypeUtil.getTsTypeName(type)))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    CharSequence _xblockexpression = null;
+    {
+      final String generationDate = new Date().toString();
+      final EList<FAttribute> attributes = this._interfaceUtil.getAttributes(this.francaIntf);
+      final HashSet<String> methodNames = this._interfaceUtil.getMethodNames(this.francaIntf);
+      StringConcatenation _builder = new StringConcatenation();
+      {
+        Iterable<FType> _allComplexTypes = this._interfaceUtil.getAllComplexTypes(this.francaIntf, this._jSTypeUtil.getTypeSelectorIncludingErrorTypesAndTransitiveTypes());
+        for(final FType datatype : _allComplexTypes) {
+          {
+            boolean _attributesContainDatatype = this.attributesContainDatatype(datatype);
+            if (_attributesContainDatatype) {
+              _builder.append("import ");
+              String _joynrName = this._namingUtil.joynrName(datatype);
+              _builder.append(_joynrName);
+              _builder.append(" = require(\"");
+              String _relativePathToBase = this.relativePathToBase();
+              String _dependencyPath = this._jSTypeUtil.getDependencyPath(datatype, generateVersion);
+              String _plus = (_relativePathToBase + _dependencyPath);
+              _builder.append(_plus);
+              _builder.append("\");");
+              _builder.newLineIfNotEmpty();
+            }
+          }
+        }
+      }
+      _builder.append("import * as ");
+      String _providerName = this.getProviderName();
+      _builder.append(_providerName);
+      _builder.append(" from \"./");
+      String _providerName_1 = this.getProviderName();
+      _builder.append(_providerName_1);
+      _builder.append("\"");
+      _builder.newLineIfNotEmpty();
+      _builder.newLine();
+      _builder.append("/**");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* PLEASE NOTE. THIS IS A GENERATED FILE!");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* <br/>Generation date: ");
+      _builder.append(generationDate, " ");
+      _builder.newLineIfNotEmpty();
+      _builder.append(" ");
+      _builder.append("*");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* This is a class to create a very basic provider implementation for the interface");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* ");
+      String _providerName_2 = this.getProviderName();
+      _builder.append(_providerName_2, " ");
+      _builder.append("Implementation that can be used for testing.");
+      _builder.newLineIfNotEmpty();
+      _builder.append(" ");
+      _builder.append("* It implements every function (methods as well as attribute getters and setters) to return");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* either void, or an empty object depending on the specification.");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* The return values are set as attributes <functionName>ReturnValue in the created implementation.");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* This allows overwriting the return values (if not void) to change the behavior of the provider.");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("*");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* NOTE:");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* The generated code does not fully support interfaces with overloaded methods.");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("* Different return types cannot be distinguished. All overloads of a method will return the same value.");
+      _builder.newLine();
+      _builder.append(" ");
+      _builder.append("*/");
+      _builder.newLine();
+      _builder.append("class ");
+      String _firstUpper = StringExtensions.toFirstUpper(this.getProviderName());
+      _builder.append(_firstUpper);
+      _builder.append("ImplementationCreator {");
+      _builder.newLineIfNotEmpty();
+      _builder.append("\t");
+      _builder.append("// attributes");
+      _builder.newLine();
+      {
+        for(final FAttribute attribute : attributes) {
+          _builder.append("\t");
+          final String attributeName = this._namingUtil.joynrName(attribute);
+          _builder.newLineIfNotEmpty();
+          {
+            boolean _isReadable = this._attributeUtil.isReadable(attribute);
+            if (_isReadable) {
+              _builder.append("\t");
+              _builder.append("public ");
+              _builder.append(attributeName, "\t");
+              _builder.append("ReturnValue = {} as ");
+              String _tsTypeName = this._jSTypeUtil.getTsTypeName(attribute);
+              _builder.append(_tsTypeName, "\t");
+              _builder.append(";");
+              _builder.newLineIfNotEmpty();
+              _builder.append("\t");
+              _builder.append("public ");
+              _builder.append(attributeName, "\t");
+              _builder.append(": any = {");
+              _builder.newLineIfNotEmpty();
+              _builder.append("\t");
+              _builder.append("\t");
+              _builder.append("get(): ");
+              String _tsTypeName_1 = this._jSTypeUtil.getTsTypeName(attribute);
+              _builder.append(_tsTypeName_1, "\t\t");
+              _builder.append(" {");
+              _builder.newLineIfNotEmpty();
+              _builder.append("\t");
+              _builder.append("\t\t");
+              _builder.append("console.log(`Get called for attribute ");
+              String _joynrName_1 = this._namingUtil.joynrName(this.francaIntf);
+              _builder.append(_joynrName_1, "\t\t\t");
+              _builder.append(".");
+              _builder.append(attributeName, "\t\t\t");
+              _builder.append(". Response: ${JSON.stringify(this.");
+              _builder.append(attributeName, "\t\t\t");
+              _builder.append("ReturnValue)}`);");
+              _builder.newLineIfNotEmpty();
+              _builder.append("\t");
+              _builder.append("\t\t");
+              _builder.append("return this.");
+              _builder.append(attributeName, "\t\t\t");
+              _builder.append("ReturnValue;");
+              _builder.newLineIfNotEmpty();
+              _builder.append("\t");
+              _builder.append("\t");
+              _builder.append("}");
+              {
+                boolean _isWritable = this._attributeUtil.isWritable(attribute);
+                if (_isWritable) {
+                  _builder.append(",");
+                }
+              }
+              _builder.newLineIfNotEmpty();
+              {
+                boolean _isWritable_1 = this._attributeUtil.isWritable(attribute);
+                if (_isWritable_1) {
+                  _builder.append("\t");
+                  _builder.append("\t");
+                  _builder.append("set(value: ");
+                  String _tsTypeName_2 = this._jSTypeUtil.getTsTypeName(attribute);
+                  _builder.append(_tsTypeName_2, "\t\t");
+                  _builder.append("): void {");
+                  _builder.newLineIfNotEmpty();
+                  _builder.append("\t");
+                  _builder.append("\t");
+                  _builder.append("\t");
+                  _builder.append("console.log(`Set called for attribute ");
+                  String _joynrName_2 = this._namingUtil.joynrName(this.francaIntf);
+                  _builder.append(_joynrName_2, "\t\t\t");
+                  _builder.append(".");
+                  _builder.append(attributeName, "\t\t\t");
+                  _builder.append(". Setting: ${JSON.stringify(value)}`);");
+                  _builder.newLineIfNotEmpty();
+                  _builder.append("\t");
+                  _builder.append("\t");
+                  _builder.append("\t");
+                  _builder.append("this.");
+                  _builder.append(attributeName, "\t\t\t");
+                  _builder.append("ReturnValue = value;");
+                  _builder.newLineIfNotEmpty();
+                  _builder.append("\t");
+                  _builder.append("\t");
+                  _builder.append("}");
+                  _builder.newLine();
+                }
+              }
+              _builder.append("\t");
+              _builder.append("}");
+              _builder.newLine();
+            }
+          }
+          _builder.newLine();
+        }
+      }
+      _builder.append("\t");
+      _builder.append("// methods");
+      _builder.newLine();
+      {
+        for(final String operationName : methodNames) {
+          _builder.append("\t");
+          final ArrayList<FMethod> operations = this._interfaceUtil.getMethods(this.francaIntf, operationName);
+          _builder.newLineIfNotEmpty();
+          _builder.append("\t");
+          final FMethod operation = operations.get(0);
+          _builder.newLineIfNotEmpty();
+          {
+            int _length = ((Object[])Conversions.unwrapArray(this._methodUtil.getOutputParameters(operation), Object.class)).length;
+            boolean _greaterThan = (_length > 0);
+            if (_greaterThan) {
+              _builder.append("\t");
+              _builder.append("public ");
+              _builder.append(operationName, "\t");
+              _builder.append("ReturnValue = {} as ");
+              {
+                int _size = operations.size();
+                IntegerRange _upTo = new IntegerRange(1, _size);
+                boolean _hasElements = false;
+                for(final Integer i : _upTo) {
+                  if (!_hasElements) {
+                    _hasElements = true;
+                  } else {
+                    _builder.appendImmediate("&", "\t");
+                  }
+                  String _providerName_3 = this.getProviderName();
+                  _builder.append(_providerName_3, "\t");
+                  _builder.append(".");
+                  String _firstUpper_1 = StringExtensions.toFirstUpper(operationName);
+                  _builder.append(_firstUpper_1, "\t");
+                  _builder.append("Returns");
+                  _builder.append(i, "\t");
+                }
+              }
+              _builder.append(";");
+              _builder.newLineIfNotEmpty();
+            } else {
+              _builder.append("\t");
+              _builder.append("public ");
+              _builder.append(operationName, "\t");
+              _builder.append("ReturnValue = undefined as ");
+              {
+                int _size_1 = operations.size();
+                IntegerRange _upTo_1 = new IntegerRange(1, _size_1);
+                boolean _hasElements_1 = false;
+                for(final Integer i_1 : _upTo_1) {
+                  if (!_hasElements_1) {
+                    _hasElements_1 = true;
+                  } else {
+                    _builder.appendImmediate("&", "\t");
+                  }
+                  String _providerName_4 = this.getProviderName();
+                  _builder.append(_providerName_4, "\t");
+                  _builder.append(".");
+                  String _firstUpper_2 = StringExtensions.toFirstUpper(operationName);
+                  _builder.append(_firstUpper_2, "\t");
+                  _builder.append("Returns");
+                  _builder.append(i_1, "\t");
+                }
+              }
+              _builder.append(";");
+              _builder.newLineIfNotEmpty();
+            }
+          }
+          _builder.append("\t");
+          _builder.append("public _");
+          _builder.append(operationName, "\t");
+          _builder.append("(_: ");
+          {
+            int _size_2 = operations.size();
+            IntegerRange _upTo_2 = new IntegerRange(1, _size_2);
+            boolean _hasElements_2 = false;
+            for(final Integer i_2 : _upTo_2) {
+              if (!_hasElements_2) {
+                _hasElements_2 = true;
+              } else {
+                _builder.appendImmediate("|", "\t");
+              }
+              String _providerName_5 = this.getProviderName();
+              _builder.append(_providerName_5, "\t");
+              _builder.append(".");
+              String _firstUpper_3 = StringExtensions.toFirstUpper(operationName);
+              _builder.append(_firstUpper_3, "\t");
+              _builder.append("Args");
+              _builder.append(i_2, "\t");
+            }
+          }
+          _builder.append("): ");
+          {
+            int _size_3 = operations.size();
+            IntegerRange _upTo_3 = new IntegerRange(1, _size_3);
+            boolean _hasElements_3 = false;
+            for(final Integer i_3 : _upTo_3) {
+              if (!_hasElements_3) {
+                _hasElements_3 = true;
+              } else {
+                _builder.appendImmediate("&", "\t");
+              }
+              String _providerName_6 = this.getProviderName();
+              _builder.append(_providerName_6, "\t");
+              _builder.append(".");
+              String _firstUpper_4 = StringExtensions.toFirstUpper(operationName);
+              _builder.append(_firstUpper_4, "\t");
+              _builder.append("Returns");
+              _builder.append(i_3, "\t");
+            }
+          }
+          _builder.append(" {");
+          _builder.newLineIfNotEmpty();
+          _builder.append("\t");
+          _builder.append("\t");
+          _builder.append("console.log(`Method ");
+          String _joynrName_3 = this._namingUtil.joynrName(this.francaIntf);
+          _builder.append(_joynrName_3, "\t\t");
+          _builder.append(".");
+          _builder.append(operationName, "\t\t");
+          _builder.append(" called. Response: ${JSON.stringify(this.");
+          _builder.append(operationName, "\t\t");
+          _builder.append("ReturnValue)}`)");
+          _builder.newLineIfNotEmpty();
+          _builder.append("\t");
+          _builder.append("\t");
+          _builder.append("return this.");
+          _builder.append(operationName, "\t\t");
+          _builder.append("ReturnValue;");
+          _builder.newLineIfNotEmpty();
+          _builder.append("\t");
+          _builder.append("}");
+          _builder.newLine();
+          _builder.newLine();
+        }
+      }
+      _builder.append("\t");
+      _builder.append("public getProviderImplementation(): ");
+      String _providerName_7 = this.getProviderName();
+      _builder.append(_providerName_7, "\t");
+      _builder.append(".");
+      String _providerName_8 = this.getProviderName();
+      _builder.append(_providerName_8, "\t");
+      _builder.append("Implementation {");
+      _builder.newLineIfNotEmpty();
+      {
+        for(final FAttribute attribute_1 : attributes) {
+          _builder.append("\t\t");
+          final String attributeName_1 = this._namingUtil.joynrName(attribute_1);
+          _builder.newLineIfNotEmpty();
+          {
+            boolean _isReadable_1 = this._attributeUtil.isReadable(attribute_1);
+            if (_isReadable_1) {
+              _builder.append("\t\t");
+              _builder.append("this.");
+              _builder.append(attributeName_1, "\t\t");
+              _builder.append(".get = this.");
+              _builder.append(attributeName_1, "\t\t");
+              _builder.append(".get.bind(this);");
+              _builder.newLineIfNotEmpty();
+            }
+          }
+          {
+            boolean _isWritable_2 = this._attributeUtil.isWritable(attribute_1);
+            if (_isWritable_2) {
+              _builder.append("\t\t");
+              _builder.append("this.");
+              _builder.append(attributeName_1, "\t\t");
+              _builder.append(".set = this.");
+              _builder.append(attributeName_1, "\t\t");
+              _builder.append(".set.bind(this);");
+              _builder.newLineIfNotEmpty();
+            }
+          }
+        }
+      }
+      _builder.newLine();
+      _builder.append("\t\t");
+      _builder.append("return {");
+      _builder.newLine();
+      {
+        int _length_1 = ((Object[])Conversions.unwrapArray(attributes, Object.class)).length;
+        boolean _greaterThan_1 = (_length_1 > 0);
+        if (_greaterThan_1) {
+          {
+            for(final String operationName_1 : methodNames) {
+              _builder.append("\t\t\t");
+              _builder.append(operationName_1, "\t\t\t");
+              _builder.append(": this._");
+              _builder.append(operationName_1, "\t\t\t");
+              _builder.append(".bind(this),");
+              _builder.newLineIfNotEmpty();
+            }
+          }
+        } else {
+          {
+            boolean _hasElements_4 = false;
+            for(final String operationName_2 : methodNames) {
+              if (!_hasElements_4) {
+                _hasElements_4 = true;
+              } else {
+                _builder.appendImmediate(",", "\t\t\t");
+              }
+              _builder.append("\t\t\t");
+              _builder.append(operationName_2, "\t\t\t");
+              _builder.append(": this._");
+              _builder.append(operationName_2, "\t\t\t");
+              _builder.append(".bind(this)");
+              _builder.newLineIfNotEmpty();
+            }
+          }
+        }
+      }
+      {
+        boolean _hasElements_5 = false;
+        for(final FAttribute attribute_2 : attributes) {
+          if (!_hasElements_5) {
+            _hasElements_5 = true;
+          } else {
+            _builder.appendImmediate(",", "\t\t\t");
+          }
+          _builder.append("\t\t\t");
+          final String attributeName_2 = this._namingUtil.joynrName(attribute_2);
+          _builder.newLineIfNotEmpty();
+          {
+            boolean _isReadable_2 = this._attributeUtil.isReadable(attribute_2);
+            if (_isReadable_2) {
+              _builder.append("\t\t\t");
+              _builder.append(attributeName_2, "\t\t\t");
+              _builder.append(": this.");
+              _builder.append(attributeName_2, "\t\t\t");
+              _builder.newLineIfNotEmpty();
+            } else {
+              _builder.append("\t\t\t");
+              _builder.append(attributeName_2, "\t\t\t");
+              _builder.append(": {} as ");
+              CharSequence _providerAttributeImplName = this._joynrJSGeneratorExtensions.getProviderAttributeImplName(attribute_2);
+              _builder.append(_providerAttributeImplName, "\t\t\t");
+              _builder.append("<");
+              String _tsTypeName_3 = this._jSTypeUtil.getTsTypeName(attribute_2);
+              _builder.append(_tsTypeName_3, "\t\t\t");
+              _builder.append(">");
+              _builder.newLineIfNotEmpty();
+            }
+          }
+        }
+      }
+      _builder.append("\t\t");
+      _builder.append("}");
+      _builder.newLine();
+      _builder.append("\t");
+      _builder.append("}");
+      _builder.newLine();
+      _builder.append("}");
+      _builder.newLine();
+      _builder.newLine();
+      _builder.append("export = ");
+      String _firstUpper_5 = StringExtensions.toFirstUpper(this.getProviderName());
+      _builder.append(_firstUpper_5);
+      _builder.append("ImplementationCreator;");
+      _builder.newLineIfNotEmpty();
+      _xblockexpression = _builder;
+    }
+    return _xblockexpression;
+  }
+}
@@ -0,0 +1,37 @@
+package io.joynr.generator.js.templates;
+
+import io.joynr.generator.templates.InterfaceTemplate;
+import java.util.regex.Pattern;
+import org.eclipse.xtend2.lib.StringConcatenation;
+
+/**
+ * This is the base class used by all generation templates which process a
+ * Franca interface type
+ */
+@SuppressWarnings("all")
+public abstract class InterfaceJsTemplate extends InterfaceTemplate {
+  /**
+   * the folder path of the interface being generated, starting from
+   * the defined output path when invoking the generator
+   */
+  protected String path;
+
+  /**
+   * the folder path depth of the interface being generated, starting from
+   * the defined output path when invoking the generator
+   */
+  protected int packagePathDepth;
+
+  @Override
+  public CharSequence generate(final boolean generateVersion) {
+    CharSequence _xblockexpression = null;
+    {
+      final String packagePathWithJoynrPrefix = this._joynrGeneratorExtensions.getPackagePathWithJoynrPrefix(this.francaIntf, "/", generateVersion);
+      this.path = (("/" + packagePathWithJoynrPrefix) + "/");
+      this.packagePathDepth = packagePathWithJoynrPrefix.split(Pattern.quote("/")).length;
+      StringConcatenation _builder = new StringConcatenation();
+      _xblockexpression = _builder;
+    }
+    return _xblockexpression;
+  }
+}
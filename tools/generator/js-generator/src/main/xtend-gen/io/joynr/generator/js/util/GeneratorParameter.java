@@ -0,0 +1,115 @@
+package io.joynr.generator.js.util;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.franca.core.franca.FModelElement;
+import org.franca.core.franca.FType;
+
+@Singleton
+@SuppressWarnings("all")
+public class GeneratorParameter {
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  private Map<String, String> parameters;
+
+  private static final String requireJSSupportKey = "requireJSSupport";
+
+  private static final String requiredModuleKey = "requiredModule";
+
+  private static final String anonymuousDefineKey = "anonymuousDefine";
+
+  private static final String definePrefixKey = "definePrefix";
+
+  private static final String CONST_REQUIRED_MODULE_DEFAULT = "libjoynr";
+
+  private static final String CONST_DEFINE_PREFIX_DEFAULT = "";
+
+  public boolean requireJSSupport = false;
+
+  public String requiredModule;
+
+  public boolean anonymuousDefine = true;
+
+  public String definePrefix;
+
+  public String setParameters(final Map<String, String> parameters) {
+    String _xblockexpression = null;
+    {
+      this.parameters = parameters;
+      this.requireJSSupport = this.determRequireJsSupport();
+      this.requiredModule = this.determRequiredModule();
+      this.anonymuousDefine = this.determAnonymuousDefine();
+      _xblockexpression = this.definePrefix = this.determDefinePrefix();
+    }
+    return _xblockexpression;
+  }
+
+  public HashSet<String> supportedParameters() {
+    List<String> _asList = Arrays.<String>asList(GeneratorParameter.requireJSSupportKey, GeneratorParameter.requiredModuleKey, GeneratorParameter.anonymuousDefineKey, GeneratorParameter.definePrefixKey);
+    return new HashSet<String>(_asList);
+  }
+
+  private boolean determRequireJsSupport() {
+    return (((this.parameters != null) && (this.parameters.get(GeneratorParameter.requireJSSupportKey) != null)) && this.parameters.get(GeneratorParameter.requireJSSupportKey).equalsIgnoreCase("true"));
+  }
+
+  private String determRequiredModule() {
+    if (((this.parameters == null) || (this.parameters.get(GeneratorParameter.requiredModuleKey) == null))) {
+      return GeneratorParameter.CONST_REQUIRED_MODULE_DEFAULT;
+    } else {
+      return this.parameters.get(GeneratorParameter.requiredModuleKey);
+    }
+  }
+
+  private String determDefinePrefix() {
+    if (((this.parameters == null) || (this.parameters.get(GeneratorParameter.definePrefixKey) == null))) {
+      return GeneratorParameter.CONST_DEFINE_PREFIX_DEFAULT;
+    } else {
+      return this.parameters.get(GeneratorParameter.definePrefixKey);
+    }
+  }
+
+  private boolean determAnonymuousDefine() {
+    return (((this.parameters == null) || (this.parameters.get(GeneratorParameter.anonymuousDefineKey) == null)) || (!this.parameters.get(GeneratorParameter.anonymuousDefineKey).equalsIgnoreCase("false")));
+  }
+
+  public String defineName(final FModelElement element, final boolean generateVersion) {
+    return this.defineName(element, this._namingUtil.joynrName(element), generateVersion);
+  }
+
+  public String defineName(final FModelElement element, final String moduleName, final boolean generateVersion) {
+    String _xifexpression = null;
+    if (this.anonymuousDefine) {
+      _xifexpression = "";
+    } else {
+      String _xifexpression_1 = null;
+      if ((element instanceof FType)) {
+        String _buildPackagePath = this._joynrJSGeneratorExtensions.buildPackagePath(((FType)element), "/", true, generateVersion);
+        String _plus = (("\"" + this.definePrefix) + _buildPackagePath);
+        String _plus_1 = (_plus + "/");
+        String _plus_2 = (_plus_1 + moduleName);
+        _xifexpression_1 = (_plus_2 + "\", ");
+      } else {
+        String _packagePathWithJoynrPrefix = this._joynrJSGeneratorExtensions.getPackagePathWithJoynrPrefix(element, "/", generateVersion);
+        String _plus_3 = (("\"" + this.definePrefix) + _packagePathWithJoynrPrefix);
+        String _plus_4 = (_plus_3 + "/");
+        String _plus_5 = (_plus_4 + moduleName);
+        _xifexpression_1 = (_plus_5 + "\", ");
+      }
+      _xifexpression = _xifexpression_1;
+    }
+    return _xifexpression;
+  }
+}
@@ -0,0 +1,764 @@
+package io.joynr.generator.js.util;
+
+import com.google.common.base.Objects;
+import com.google.inject.Inject;
+import io.joynr.generator.templates.util.AbstractTypeUtil;
+import io.joynr.generator.templates.util.InterfaceUtil;
+import io.joynr.generator.templates.util.MethodUtil;
+import io.joynr.generator.templates.util.NamingUtil;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.logging.Logger;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.eclipse.xtext.xbase.lib.StringExtensions;
+import org.franca.core.franca.FAnnotation;
+import org.franca.core.franca.FAnnotationBlock;
+import org.franca.core.franca.FAnnotationType;
+import org.franca.core.franca.FArgument;
+import org.franca.core.franca.FArrayType;
+import org.franca.core.franca.FBasicTypeId;
+import org.franca.core.franca.FCompoundType;
+import org.franca.core.franca.FEnumerationType;
+import org.franca.core.franca.FEnumerator;
+import org.franca.core.franca.FMethod;
+import org.franca.core.franca.FModelElement;
+import org.franca.core.franca.FType;
+import org.franca.core.franca.FTypeDef;
+import org.franca.core.franca.FTypeRef;
+import org.franca.core.franca.FTypedElement;
+import org.franca.core.franca.impl.FTypeDefImpl;
+
+@SuppressWarnings("all")
+public class JSTypeUtil extends AbstractTypeUtil {
+  @Inject
+  @Extension
+  private JoynrJSGeneratorExtensions _joynrJSGeneratorExtensions;
+
+  @Inject
+  @Extension
+  private NamingUtil _namingUtil;
+
+  @Inject
+  @Extension
+  private MethodUtil _methodUtil;
+
+  private Logger logger = Logger.getLogger("JSTypeUtil");
+
+  private Map<FBasicTypeId, String> primitiveDataTypeDefaultMap;
+
+  public JSTypeUtil() {
+    final Map<FBasicTypeId, String> primitiveDataTypeDefaultValue = new HashMap<FBasicTypeId, String>();
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.BOOLEAN, "false");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.INT8, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UINT8, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.INT16, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UINT16, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.INT32, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UINT32, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.INT64, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UINT64, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.FLOAT, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.DOUBLE, "-1");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.STRING, "\"\"");
+    primitiveDataTypeDefaultValue.put(FBasicTypeId.UNDEFINED, "");
+    this.primitiveDataTypeDefaultMap = Collections.<FBasicTypeId, String>unmodifiableMap(primitiveDataTypeDefaultValue);
+  }
+
+  @Override
+  public boolean isCompound(final FType type) {
+    if ((type instanceof FTypeDef)) {
+      return this.isCompound(((FTypeDef)type).getActualType());
+    }
+    return super.isCompound(type);
+  }
+
+  @Override
+  public FCompoundType getCompoundType(final FType type) {
+    if ((type instanceof FTypeDef)) {
+      return this.getCompoundType(((FTypeDef)type).getActualType());
+    }
+    return super.getCompoundType(type);
+  }
+
+  @Override
+  public boolean isPrimitive(final FType type) {
+    if ((type instanceof FTypeDef)) {
+      return this.isPrimitive(((FTypeDef)type).getActualType());
+    }
+    return super.isPrimitive(type);
+  }
+
+  @Override
+  public FBasicTypeId getPrimitive(final FType type) {
+    if ((type instanceof FTypeDef)) {
+      return this.getPrimitive(((FTypeDef)type).getActualType());
+    }
+    return super.getPrimitive(type);
+  }
+
+  @Override
+  public String getTypeName(final FBasicTypeId datatype) {
+    if (datatype != null) {
+      switch (datatype) {
+        case STRING:
+          return "String";
+        case INT8:
+          return "Number";
+        case UINT8:
+          return "Number";
+        case INT16:
+          return "Number";
+        case UINT16:
+          return "Number";
+        case INT32:
+          return "Number";
+        case UINT32:
+          return "Number";
+        case INT64:
+          return "Number";
+        case UINT64:
+          return "Number";
+        case BOOLEAN:
+          return "Boolean";
+        case FLOAT:
+          return "Number";
+        case DOUBLE:
+          return "Number";
+        case BYTE_BUFFER:
+          return "Array.<Number>";
+        default:
+          String _joynrName = this._namingUtil.joynrName(datatype);
+          String _plus = ("Unsupported basic type: " + _joynrName);
+          throw new UnsupportedOperationException(_plus);
+      }
+    } else {
+      String _joynrName = this._namingUtil.joynrName(datatype);
+      String _plus = ("Unsupported basic type: " + _joynrName);
+      throw new UnsupportedOperationException(_plus);
+    }
+  }
+
+  public String getTsTypeName(final FBasicTypeId datatype) {
+    if (datatype != null) {
+      switch (datatype) {
+        case STRING:
+          return "string";
+        case INT8:
+          return "number";
+        case UINT8:
+          return "number";
+        case INT16:
+          return "number";
+        case UINT16:
+          return "number";
+        case INT32:
+          return "number";
+        case UINT32:
+          return "number";
+        case INT64:
+          return "number";
+        case UINT64:
+          return "number";
+        case BOOLEAN:
+          return "boolean";
+        case FLOAT:
+          return "number";
+        case DOUBLE:
+          return "number";
+        case BYTE_BUFFER:
+          return "number[]";
+        default:
+          String _joynrName = this._namingUtil.joynrName(datatype);
+          String _plus = ("Unsupported basic type: " + _joynrName);
+          throw new UnsupportedOperationException(_plus);
+      }
+    } else {
+      String _joynrName = this._namingUtil.joynrName(datatype);
+      String _plus = ("Unsupported basic type: " + _joynrName);
+      throw new UnsupportedOperationException(_plus);
+    }
+  }
+
+  @Override
+  public String getTypeName(final FType datatype) {
+    boolean _isEnum = this.isEnum(datatype);
+    if (_isEnum) {
+      return this._namingUtil.joynrName(this.getEnumType(datatype));
+    }
+    boolean _isPrimitive = this.isPrimitive(datatype);
+    if (_isPrimitive) {
+      return this.getTypeName(this.getPrimitive(datatype));
+    }
+    boolean _isCompound = this.isCompound(datatype);
+    if (_isCompound) {
+      return this._namingUtil.joynrName(this.getCompoundType(datatype));
+    }
+    boolean _isMap = this.isMap(datatype);
+    if (_isMap) {
+      return this._namingUtil.joynrName(this.getMapType(datatype));
+    }
+    String _joynrName = this._namingUtil.joynrName(datatype);
+    String _plus = ("JSTypeUtil.getTypeName: unsupported state, datatype " + _joynrName);
+    String _plus_1 = (_plus + " could not be mapped to an implementation datatype");
+    throw new IllegalStateException(_plus_1);
+  }
+
+  @Override
+  public String getTypeName(final FType datatype, final boolean generateVersion) {
+    throw new IllegalStateException("Unsupported method called for JS!");
+  }
+
+  @Override
+  public String getTypeNameForList(final FType datatype, final boolean generateVersion) {
+    throw new IllegalStateException("Unsupported method called for JS!");
+  }
+
+  @Override
+  public String getTypeNameForList(final FBasicTypeId datatype) {
+    String _typeName = this.getTypeName(datatype);
+    return ("Array." + _typeName);
+  }
+
+  @Override
+  public String getTypeNameForList(final FType datatype) {
+    String _typeName = this.getTypeName(datatype);
+    return ("Array." + _typeName);
+  }
+
+  public String checkPropertyTypeName(final FTypedElement element) {
+    return this.checkPropertyTypeName(element.getType(), this.isArray(element));
+  }
+
+  public String checkPropertyTypeName(final FTypeRef type, final boolean isArray) {
+    if ((isArray || this.isByteBuffer(type))) {
+      return "\"Array\"";
+    }
+    boolean _isTypeDef = this.isTypeDef(type);
+    if (_isTypeDef) {
+      FTypeRef _actualType = this.getTypeDefType(type.getDerived()).getActualType();
+      return this.checkPropertyTypeName(this.getTypeDefType(type.getDerived()).getActualType(), (_actualType instanceof FArrayType));
+    }
+    boolean _isPrimitive = this.isPrimitive(type);
+    if (_isPrimitive) {
+      boolean _isBool = this.isBool(this.getPrimitive(type));
+      if (_isBool) {
+        return "\"Boolean\"";
+      }
+      boolean _isString = this.isString(this.getPrimitive(type));
+      if (_isString) {
+        return "\"String\"";
+      }
+      return "\"Number\"";
+    }
+    String _joynrName = this._namingUtil.joynrName(type.getDerived());
+    String _plus = ("\"" + _joynrName);
+    return (_plus + "\"");
+  }
+
+  public String getJsdocTypeName(final FTypedElement typedElement) {
+    String _xifexpression = null;
+    boolean _isArray = this.isArray(typedElement);
+    if (_isArray) {
+      _xifexpression = this.getJsdocTypeNameForList(typedElement.getType());
+    } else {
+      _xifexpression = this.getJsdocTypeName(typedElement.getType());
+    }
+    String result = _xifexpression;
+    if ((result == null)) {
+      String _name = typedElement.getName();
+      String _plus = ("Datatype for element " + _name);
+      String _plus_1 = (_plus + " could not be found");
+      throw new IllegalStateException(_plus_1);
+    }
+    return result;
+  }
+
+  public String getTsTypeName(final FTypedElement typedElement) {
+    String _xifexpression = null;
+    boolean _isArray = this.isArray(typedElement);
+    if (_isArray) {
+      _xifexpression = this.getTsTypeNameForList(typedElement.getType());
+    } else {
+      _xifexpression = this.getTsTypeName(typedElement.getType());
+    }
+    String result = _xifexpression;
+    if ((result == null)) {
+      String _name = typedElement.getName();
+      String _plus = ("Datatype for element " + _name);
+      String _plus_1 = (_plus + " could not be found");
+      throw new IllegalStateException(_plus_1);
+    }
+    return result;
+  }
+
+  public String getRelativeImportPath(final FTypedElement typedElement, final FType parentElement, final boolean generateVersion) {
+    FTypeRef type = typedElement.getType();
+    return this.getRelativeImportPath(type, parentElement, generateVersion);
+  }
+
+  public String getRelativeImportPath(final FTypeRef type, final FType parentElement, final boolean generateVersion) {
+    FType _derived = type.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      Path childPath = null;
+      Path parentPath = Paths.get(this.getDependencyPath(parentElement, generateVersion));
+      FType _derived_1 = type.getDerived();
+      if ((_derived_1 instanceof FTypeDefImpl)) {
+        FType _derived_2 = type.getDerived();
+        FTypeDefImpl typeRef = ((FTypeDefImpl) _derived_2);
+        FType _derived_3 = typeRef.getActualType().getDerived();
+        boolean _tripleNotEquals_1 = (_derived_3 != null);
+        if (_tripleNotEquals_1) {
+          childPath = Paths.get(this.getDependencyPath(typeRef.getActualType().getDerived(), generateVersion));
+        } else {
+          return null;
+        }
+      } else {
+        childPath = Paths.get(this.getDependencyPath(type.getDerived(), generateVersion));
+      }
+      String _string = parentPath.getParent().relativize(childPath).toString();
+      return ("./" + _string);
+    }
+    return null;
+  }
+
+  public String getRelativeImportPath(final FType type, final FType parentElement, final boolean generateVersion) {
+    Path parentPath = Paths.get(this.getDependencyPath(parentElement, generateVersion));
+    Path childPath = Paths.get(this.getDependencyPath(type, generateVersion));
+    String _string = parentPath.getParent().relativize(childPath).toString();
+    return ("./" + _string);
+  }
+
+  public String getJsdocTypeName(final FType datatype) {
+    boolean _isEnum = this.isEnum(datatype);
+    if (_isEnum) {
+      return datatype.getName();
+    }
+    boolean _isPrimitive = this.isPrimitive(datatype);
+    if (_isPrimitive) {
+      return this.getTypeName(this.getPrimitive(datatype));
+    }
+    boolean _isCompound = this.isCompound(datatype);
+    if (_isCompound) {
+      return this._namingUtil.joynrName(this.getCompoundType(datatype));
+    }
+    boolean _isMap = this.isMap(datatype);
+    if (_isMap) {
+      return this._namingUtil.joynrName(this.getMapType(datatype));
+    }
+    boolean _isTypeDef = this.isTypeDef(datatype);
+    if (_isTypeDef) {
+      return this.getJsdocTypeName(this.getTypeDefType(datatype).getActualType());
+    }
+    String _joynrName = this._namingUtil.joynrName(datatype);
+    String _plus = ("getJsdocTypeName: unsupported state, datatype " + _joynrName);
+    String _plus_1 = (_plus + " could not be mapped to an implementation datatype");
+    throw new IllegalStateException(_plus_1);
+  }
+
+  public String getTsTypeName(final FType datatype) {
+    boolean _isTypeDef = this.isTypeDef(datatype);
+    if (_isTypeDef) {
+      return this.getTsTypeName(this.getTypeDefType(datatype).getActualType());
+    }
+    boolean _isEnum = this.isEnum(datatype);
+    if (_isEnum) {
+      return datatype.getName();
+    }
+    boolean _isPrimitive = this.isPrimitive(datatype);
+    if (_isPrimitive) {
+      return this.getTsTypeName(this.getPrimitive(datatype));
+    }
+    boolean _isCompound = this.isCompound(datatype);
+    if (_isCompound) {
+      return this._namingUtil.joynrName(this.getCompoundType(datatype));
+    }
+    boolean _isMap = this.isMap(datatype);
+    if (_isMap) {
+      return this._namingUtil.joynrName(this.getMapType(datatype));
+    }
+    String _joynrName = this._namingUtil.joynrName(datatype);
+    String _plus = ("getJsdocTypeName: unsupported state, datatype " + _joynrName);
+    String _plus_1 = (_plus + " could not be mapped to an implementation datatype");
+    throw new IllegalStateException(_plus_1);
+  }
+
+  public String getJsdocTypeName(final FTypeRef type) {
+    String _xifexpression = null;
+    FType _derived = type.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      _xifexpression = this.getJsdocTypeName(type.getDerived());
+    } else {
+      _xifexpression = this.getTypeName(type.getPredefined());
+    }
+    return _xifexpression;
+  }
+
+  public String getTsTypeName(final FTypeRef type) {
+    String _xifexpression = null;
+    FType _derived = type.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      _xifexpression = this.getTsTypeName(type.getDerived());
+    } else {
+      _xifexpression = this.getTsTypeName(type.getPredefined());
+    }
+    return _xifexpression;
+  }
+
+  public String getTsTypeNameForList(final FTypeRef type) {
+    String _xifexpression = null;
+    FType _derived = type.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      _xifexpression = this.getTsTypeNameForList(type.getDerived());
+    } else {
+      _xifexpression = this.getTsTypeNameForList(type.getPredefined());
+    }
+    return _xifexpression;
+  }
+
+  public String getJsdocTypeNameForList(final FTypeRef type) {
+    String _xifexpression = null;
+    FType _derived = type.getDerived();
+    boolean _tripleNotEquals = (_derived != null);
+    if (_tripleNotEquals) {
+      _xifexpression = this.getJsdocTypeNameForList(type.getDerived());
+    } else {
+      _xifexpression = this.getJsdocTypeNameForList(type.getPredefined());
+    }
+    return _xifexpression;
+  }
+
+  public String getJsdocTypeNameForList(final FBasicTypeId datatype) {
+    String _typeName = this.getTypeName(datatype);
+    String _plus = ("Array.<" + _typeName);
+    return (_plus + ">");
+  }
+
+  public String getTsTypeNameForList(final FBasicTypeId datatype) {
+    String _tsTypeName = this.getTsTypeName(datatype);
+    return (_tsTypeName + "[]");
+  }
+
+  public String getJsdocTypeNameForList(final FType datatype) {
+    String _jsdocTypeName = this.getJsdocTypeName(datatype);
+    String _plus = ("Array.<" + _jsdocTypeName);
+    return (_plus + ">");
+  }
+
+  public String getTsTypeNameForList(final FType datatype) {
+    String _tsTypeName = this.getTsTypeName(datatype);
+    return (_tsTypeName + "[]");
+  }
+
+  public CharSequence appendJSDocSummaryAndWriteSeeAndDescription(final FModelElement element, final String prefix) {
+    StringConcatenation _builder = new StringConcatenation();
+    {
+      FAnnotationBlock _comment = element.getComment();
+      boolean _tripleNotEquals = (_comment != null);
+      if (_tripleNotEquals) {
+        {
+          EList<FAnnotation> _elements = element.getComment().getElements();
+          for(final FAnnotation comment : _elements) {
+            {
+              FAnnotationType _type = comment.getType();
+              boolean _equals = Objects.equal(_type, FAnnotationType.DESCRIPTION);
+              if (_equals) {
+                _builder.append(prefix);
+                _builder.append("<br/><br/>");
+                String _replaceAll = comment.getComment().replaceAll("\n\\s*", ("\n" + prefix));
+                _builder.append(_replaceAll);
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+        {
+          EList<FAnnotation> _elements_1 = element.getComment().getElements();
+          for(final FAnnotation comment_1 : _elements_1) {
+            {
+              FAnnotationType _type_1 = comment_1.getType();
+              boolean _equals_1 = Objects.equal(_type_1, FAnnotationType.SEE);
+              if (_equals_1) {
+                _builder.append(prefix);
+                _builder.append("@see ");
+                String _replaceAll_1 = comment_1.getComment().replaceAll("\n\\s*", ("\n" + prefix));
+                _builder.append(_replaceAll_1);
+                _builder.newLineIfNotEmpty();
+              }
+            }
+            {
+              FAnnotationType _type_2 = comment_1.getType();
+              boolean _equals_2 = Objects.equal(_type_2, FAnnotationType.DETAILS);
+              if (_equals_2) {
+                _builder.append(prefix);
+                _builder.append("@desc ");
+                String _replaceAll_2 = comment_1.getComment().replaceAll("\n\\s*", ("\n" + prefix));
+                _builder.append(_replaceAll_2);
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+      }
+    }
+    return _builder;
+  }
+
+  public CharSequence writeJSDocForSignature(final String interfaceName, final FMethod operation, final String prefix) {
+    StringConcatenation _builder = new StringConcatenation();
+    {
+      int _size = IterableExtensions.size(this._methodUtil.getInputParameters(operation));
+      boolean _greaterThan = (_size > 0);
+      if (_greaterThan) {
+        _builder.append(prefix);
+        _builder.append("@param {Object} settings the arguments object for this function call");
+        _builder.newLineIfNotEmpty();
+        {
+          Iterable<FArgument> _inputParameters = this._methodUtil.getInputParameters(operation);
+          for(final FArgument param : _inputParameters) {
+            _builder.append(prefix);
+            _builder.append("@param {");
+            String _jsdocTypeName = this.getJsdocTypeName(param);
+            _builder.append(_jsdocTypeName);
+            _builder.append("} settings.");
+            String _joynrName = this._namingUtil.joynrName(param);
+            _builder.append(_joynrName);
+            _builder.append(" -");
+            _builder.newLineIfNotEmpty();
+            {
+              FAnnotationBlock _comment = param.getComment();
+              boolean _tripleNotEquals = (_comment != null);
+              if (_tripleNotEquals) {
+                _builder.append(prefix);
+                {
+                  EList<FAnnotation> _elements = param.getComment().getElements();
+                  boolean _hasElements = false;
+                  for(final FAnnotation comment : _elements) {
+                    if (!_hasElements) {
+                      _hasElements = true;
+                    } else {
+                      _builder.appendImmediate("<br/>", "");
+                    }
+                    String _replaceAll = comment.getComment().replaceAll("\n\\s*", ("\n" + prefix));
+                    _builder.append(_replaceAll);
+                  }
+                }
+                _builder.newLineIfNotEmpty();
+              }
+            }
+          }
+        }
+      }
+    }
+    {
+      int _size_1 = IterableExtensions.size(this._methodUtil.getOutputParameters(operation));
+      boolean _greaterThan_1 = (_size_1 > 0);
+      if (_greaterThan_1) {
+        _builder.append(prefix);
+        _builder.append("@returns {");
+        _builder.append(interfaceName);
+        _builder.append("#");
+        String _firstUpper = StringExtensions.toFirstUpper(this._namingUtil.joynrName(operation));
+        _builder.append(_firstUpper);
+        _builder.append("Returned}");
+        _builder.newLineIfNotEmpty();
+        {
+          Iterable<FArgument> _outputParameters = this._methodUtil.getOutputParameters(operation);
+          boolean _hasElements_1 = false;
+          for(final FArgument param_1 : _outputParameters) {
+            if (!_hasElements_1) {
+              _hasElements_1 = true;
+            } else {
+              _builder.appendImmediate("<br/>", "");
+            }
+            _builder.append(prefix);
+            _builder.append("\t{");
+            String _jsdocTypeName_1 = this.getJsdocTypeName(param_1);
+            _builder.append(_jsdocTypeName_1);
+            _builder.append("} ");
+            String _joynrName_1 = this._namingUtil.joynrName(param_1);
+            _builder.append(_joynrName_1);
+            _builder.newLineIfNotEmpty();
+          }
+        }
+      }
+    }
+    return _builder;
+  }
+
+  public CharSequence writeJSDocTypedefForSignature(final String interfaceName, final FMethod operation, final String operationName, final String prefix) {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append(prefix);
+    _builder.append("@typedef {Object} ");
+    _builder.append(interfaceName);
+    _builder.append("#");
+    String _firstUpper = StringExtensions.toFirstUpper(operationName);
+    _builder.append(_firstUpper);
+    _builder.append("Returned");
+    _builder.newLineIfNotEmpty();
+    {
+      Iterable<FArgument> _outputParameters = this._methodUtil.getOutputParameters(operation);
+      for(final FArgument param : _outputParameters) {
+        _builder.append(prefix);
+        _builder.append("@property {");
+        String _jsdocTypeName = this.getJsdocTypeName(param);
+        _builder.append(_jsdocTypeName);
+        _builder.append("} ");
+        String _joynrName = this._namingUtil.joynrName(param);
+        _builder.append(_joynrName);
+        _builder.newLineIfNotEmpty();
+        {
+          FAnnotationBlock _comment = param.getComment();
+          boolean _tripleNotEquals = (_comment != null);
+          if (_tripleNotEquals) {
+            _builder.append(prefix);
+            {
+              EList<FAnnotation> _elements = param.getComment().getElements();
+              boolean _hasElements = false;
+              for(final FAnnotation comment : _elements) {
+                if (!_hasElements) {
+                  _hasElements = true;
+                } else {
+                  _builder.appendImmediate("<br/>", "");
+                }
+                String _replaceAll = comment.getComment().replaceAll("\n\\s*", ("\n" + prefix));
+                _builder.append(_replaceAll);
+              }
+            }
+            _builder.newLineIfNotEmpty();
+          }
+        }
+      }
+    }
+    return _builder;
+  }
+
+  public String getDefaultValue(final FTypedElement element) {
+    StringBuffer buffer = new StringBuffer();
+    boolean _isArray = this.isArray(element);
+    if (_isArray) {
+      buffer.append("[");
+    } else {
+      boolean _isCompound = this.isCompound(element.getType());
+      if (_isCompound) {
+        buffer.append("new ");
+        buffer.append(this._namingUtil.joynrName(this.getCompoundType(element.getType())));
+        buffer.append("()");
+      } else {
+        boolean _isMap = this.isMap(element.getType());
+        if (_isMap) {
+          buffer.append("new ");
+          buffer.append(this._namingUtil.joynrName(this.getMapType(element.getType())));
+          buffer.append("()");
+        } else {
+          boolean _isEnum = this.isEnum(element.getType());
+          if (_isEnum) {
+            final FEnumerationType enumType = this.getEnumType(element.getType());
+            final Iterator<FEnumerator> enumElements = enumType.getEnumerators().iterator();
+            boolean _hasNext = enumElements.hasNext();
+            boolean _not = (!_hasNext);
+            if (_not) {
+              buffer.append("enum type does not contain elements");
+            } else {
+              buffer.append(this._namingUtil.joynrName(enumType));
+              buffer.append(".");
+              buffer.append(this._namingUtil.joynrName(enumElements.next()));
+            }
+          } else {
+            boolean _isPrimitive = this.isPrimitive(element.getType());
+            if (_isPrimitive) {
+              final FBasicTypeId primitive = this.getPrimitive(element.getType());
+              boolean _containsKey = this.primitiveDataTypeDefaultMap.containsKey(primitive);
+              if (_containsKey) {
+                buffer.append(this.primitiveDataTypeDefaultMap.get(primitive));
+              } else {
+                buffer.append("");
+              }
+            } else {
+              String _joynrName = this._namingUtil.joynrName(element);
+              String _plus = ("Type for element " + _joynrName);
+              String _plus_1 = (_plus + " could not be mapped to a default value");
+              this.logger.warning(_plus_1);
+            }
+          }
+        }
+      }
+    }
+    boolean _isArray_1 = this.isArray(element);
+    if (_isArray_1) {
+      buffer.append("]");
+    }
+    return buffer.toString();
+  }
+
+  public CharSequence getExemplaryInstantiationOfInputParameter(final FMethod method) {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append("{");
+    {
+      Iterable<FArgument> _inputParameters = this._methodUtil.getInputParameters(method);
+      boolean _hasElements = false;
+      for(final FArgument param : _inputParameters) {
+        if (!_hasElements) {
+          _hasElements = true;
+        } else {
+          _builder.appendImmediate(", ", "");
+        }
+        CharSequence _exemplaryInstantiationForArgument = this.getExemplaryInstantiationForArgument(param);
+        _builder.append(_exemplaryInstantiationForArgument);
+      }
+    }
+    _builder.append("}");
+    return _builder;
+  }
+
+  public CharSequence getExemplaryInstantiationForArgument(final FArgument argument) {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append("\"");
+    String _escapeQuotes = this._joynrJSGeneratorExtensions.escapeQuotes(this._namingUtil.joynrName(argument));
+    _builder.append(_escapeQuotes);
+    _builder.append("\": ");
+    String _defaultValue = this.getDefaultValue(argument);
+    _builder.append(_defaultValue);
+    {
+      boolean _isArray = this.isArray(argument);
+      if (_isArray) {
+        _builder.append("]");
+      }
+    }
+    return _builder;
+  }
+
+  public String getTypeNameForErrorEnumType(final FMethod method, final FEnumerationType errorEnumType, final boolean generateVersion) {
+    String _joynrGenerationPrefix = this._joynrJSGeneratorExtensions.getJoynrGenerationPrefix();
+    String _plus = (_joynrGenerationPrefix + ".");
+    String _packageName = this._joynrJSGeneratorExtensions.getPackageName(method, generateVersion);
+    String _plus_1 = (_plus + _packageName);
+    String _plus_2 = (_plus_1 + ".");
+    String _joynrName = this._namingUtil.joynrName(errorEnumType);
+    return (_plus_2 + _joynrName);
+  }
+
+  public String getDependencyPath(final FType datatype, final boolean generateVersion) {
+    String _buildPackagePath = this._joynrJSGeneratorExtensions.buildPackagePath(datatype, "/", true, generateVersion);
+    String _plus = (_buildPackagePath + "/");
+    String _joynrName = this._namingUtil.joynrName(datatype);
+    return (_plus + _joynrName);
+  }
+
+  public InterfaceUtil.TypeSelector getTypeSelectorIncludingErrorTypesAndTransitiveTypes() {
+    final InterfaceUtil.TypeSelector selector = InterfaceUtil.TypeSelector.defaultTypeSelector();
+    selector.transitiveTypes(true);
+    selector.errorTypes(true);
+    return selector;
+  }
+}
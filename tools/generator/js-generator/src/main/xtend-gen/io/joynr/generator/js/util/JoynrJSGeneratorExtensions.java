@@ -0,0 +1,131 @@
+package io.joynr.generator.js.util;
+
+import com.google.inject.Inject;
+import io.joynr.generator.templates.util.AttributeUtil;
+import io.joynr.generator.templates.util.JoynrGeneratorExtensions;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtext.xbase.lib.Extension;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.ListExtensions;
+import org.franca.core.franca.FAttribute;
+
+@SuppressWarnings("all")
+public class JoynrJSGeneratorExtensions extends JoynrGeneratorExtensions {
+  @Inject
+  @Extension
+  private AttributeUtil _attributeUtil;
+
+  public CharSequence getAttributeCaps(final FAttribute attribute) {
+    StringConcatenation _builder = new StringConcatenation();
+    {
+      boolean _isNotifiable = this._attributeUtil.isNotifiable(attribute);
+      if (_isNotifiable) {
+        _builder.append("NOTIFY");
+      }
+    }
+    {
+      boolean _isReadable = this._attributeUtil.isReadable(attribute);
+      if (_isReadable) {
+        _builder.append("READ");
+      }
+    }
+    {
+      boolean _isWritable = this._attributeUtil.isWritable(attribute);
+      if (_isWritable) {
+        _builder.append("WRITE");
+      }
+    }
+    return _builder;
+  }
+
+  public CharSequence getProviderAttributeName(final FAttribute attribute) {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append("ProviderRead");
+    {
+      boolean _isWritable = this._attributeUtil.isWritable(attribute);
+      if (_isWritable) {
+        _builder.append("Write");
+      }
+    }
+    {
+      boolean _isNotifiable = this._attributeUtil.isNotifiable(attribute);
+      if (_isNotifiable) {
+        _builder.append("Notify");
+      }
+    }
+    _builder.append("Attribute");
+    return _builder;
+  }
+
+  public List<String> getProviderAttributeNames(final List<FAttribute> attributes) {
+    final Function1<FAttribute, String> _function = new Function1<FAttribute, String>() {
+      @Override
+      public String apply(final FAttribute it) {
+        return JoynrJSGeneratorExtensions.this.getProviderAttributeName(it).toString();
+      }
+    };
+    return ListExtensions.<FAttribute, String>map(attributes, _function).stream().distinct().collect(Collectors.<String>toList());
+  }
+
+  public CharSequence getProxyAttributeName(final FAttribute attribute) {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append("ProxyRead");
+    {
+      boolean _isWritable = this._attributeUtil.isWritable(attribute);
+      if (_isWritable) {
+        _builder.append("Write");
+      }
+    }
+    {
+      boolean _isNotifiable = this._attributeUtil.isNotifiable(attribute);
+      if (_isNotifiable) {
+        _builder.append("Notify");
+      }
+    }
+    _builder.append("Attribute");
+    return _builder;
+  }
+
+  public List<String> getProxyAttributeNames(final List<FAttribute> attributes) {
+    final Function1<FAttribute, String> _function = new Function1<FAttribute, String>() {
+      @Override
+      public String apply(final FAttribute it) {
+        return JoynrJSGeneratorExtensions.this.getProxyAttributeName(it).toString();
+      }
+    };
+    return ListExtensions.<FAttribute, String>map(attributes, _function).stream().distinct().collect(Collectors.<String>toList());
+  }
+
+  public CharSequence getProviderAttributeImplName(final FAttribute attribute) {
+    StringConcatenation _builder = new StringConcatenation();
+    _builder.append("ProviderRead");
+    {
+      boolean _isWritable = this._attributeUtil.isWritable(attribute);
+      if (_isWritable) {
+        _builder.append("Write");
+      }
+    }
+    {
+      boolean _isNotifiable = this._attributeUtil.isNotifiable(attribute);
+      if (_isNotifiable) {
+        _builder.append("Notify");
+      }
+    }
+    _builder.append("AttributeImpl");
+    return _builder;
+  }
+
+  public List<String> getJoynrProviderImports(final List<FAttribute> attributes) {
+    final Function1<FAttribute, String> _function = new Function1<FAttribute, String>() {
+      @Override
+      public String apply(final FAttribute it) {
+        return JoynrJSGeneratorExtensions.this.getProviderAttributeImplName(it).toString();
+      }
+    };
+    List<String> list = ListExtensions.<FAttribute, String>map(attributes, _function).stream().distinct().collect(Collectors.<String>toList());
+    list.add("JoynrProvider");
+    return list;
+  }
+}